@@ -0,0 +1,136 @@
+[#ftl strict_vars=true]
+[#--
+/* Copyright (c) 2008-2022 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors 
+ *       may be used to endorse or promote products derived from this software 
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+[#var classname = filename[0..(filename?length -6)]]
+/* Generated by: ${generated_by}. Do not edit. 
+  * Generated Code for ${classname} AST Node type
+  * by the ASTNode.java.ftl template
+  */
+
+[#var package = ""]
+[#if explicitPackageName??]
+package ${explicitPackageName};
+[#set package = explicitPackageName]
+[#elseif grammar.nodePackage?has_content]
+[#set package = grammar.nodePackage]
+package ${package};
+[/#if]
+[#if grammar.parserPackage?has_content && package != grammar.parserPackage]
+import ${grammar.parserPackage}.*;
+  [#if grammar.baseNodeInParserPackage]
+import ${grammar.parserPackage}.${grammar.baseNodeClassName};
+  [/#if]
+[/#if]
+
+[#if isInterface]
+
+public interface ${classname} extends Node {}
+
+[#else]
+
+[#if grammar.parserPackage?has_content]
+import static ${grammar.parserPackage}.${grammar.constantsClassName}.TokenType.*;
+[/#if]
+[#var childNames = [], childListNames = []]
+[#if grammar.compactNodes]
+  [#set childNames = grammar.utils.getNamedChildNames(classname)]
+  [#set childListNames = grammar.utils.getNamedChildListNames(classname)]
+[/#if]
+[#if childListNames?has_content]
+import java.util.ArrayList;
+import java.util.List;
+[/#if]
+
+[#if isAbstract]abstract[/#if]
+public class ${classname} extends ${grammar.baseNodeClassName} {
+[#-- The named children that the parser sets on this type of node
+     are in fields, rather than in the maps in the base class. --]
+[#list childNames as name]
+    private Node namedChild_${name};
+[/#list]
+[#list childListNames as name]
+    private List<Node> namedChildList_${name};
+[/#list]
+
+    public void accept(${grammar.visitorClassName} visitor) {
+        visitor.visit(this);
+    }
+[#if childNames?has_content]
+
+    public Node getNamedChild(String name) {
+        switch (name) {
+  [#list childNames as name]
+            case "${name}" : return namedChild_${name};
+  [/#list]
+            default : return super.getNamedChild(name);
+        }
+    }
+
+    public void setNamedChild(String name, Node node) {
+        switch (name) {
+  [#list childNames as name]
+            case "${name}" :
+                if (namedChild_${name} != null) {
+                    throw new RuntimeException("Duplicate named child not allowed: " + name);
+                }
+                namedChild_${name} = node;
+                break;
+  [/#list]
+            default : super.setNamedChild(name, node);
+        }
+    }
+[/#if]
+[#if childListNames?has_content]
+
+    public List<Node> getNamedChildList(String name) {
+        switch (name) {
+  [#list childListNames as name]
+            case "${name}" : return namedChildList_${name};
+  [/#list]
+            default : return super.getNamedChildList(name);
+        }
+    }
+
+    public void addToNamedChildList(String name, Node node) {
+        switch (name) {
+  [#list childListNames as name]
+            case "${name}" :
+                if (namedChildList_${name} == null) {
+                    namedChildList_${name} = new ArrayList<>();
+                }
+                namedChildList_${name}.add(node);
+                break;
+  [/#list]
+            default : super.addToNamedChildList(name, node);
+        }
+    }
+[/#if]
+}
+[/#if]
@@ -0,0 +1,373 @@
+[#ftl strict_vars=true]
+[#--
+/* Copyright (c) 2008-2019 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors 
+ *       may be used to endorse or promote products derived from this software 
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+/* Generated by: ${generated_by}. Do not edit. ${filename} */
+[#if explicitPackageName?has_content]
+package ${explicitPackageName};
+[#elseif grammar.nodePackage?has_content]
+   [#if grammar.baseNodeInParserPackage]
+package ${grammar.parserPackage};
+   [#else]
+package ${grammar.nodePackage};
+   [/#if]
+[/#if]
+[#if !grammar.baseNodeInParserPackage && grammar.parserPackage?has_content && grammar.nodePackage != grammar.parserPackage]
+import ${grammar.parserPackage}.*;
+[/#if]
+[#if grammar.settings.FREEMARKER_NODES?? && grammar.settings.FREEMARKER_NODES]
+import freemarker.template.*;
+[/#if]
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Collections;
+
+/**
+ * The base concrete class for non-terminal Nodes
+ */
+public class ${grammar.baseNodeClassName} implements Node {
+    private ${grammar.lexerClassName} tokenSource;
+    
+    public ${grammar.lexerClassName} getTokenSource() {
+        if (tokenSource==null) {
+            for (Node child : children()) {
+                tokenSource = child.getTokenSource();
+                if (tokenSource != null) break;
+            }
+        }
+        return tokenSource;
+    }
+
+    public void setTokenSource(${grammar.lexerClassName} tokenSource) {
+        this.tokenSource = tokenSource;
+    }
+    
+[#if grammar.compactNodes]
+    /**
+     * This does nothing, since the child nodes are stored in an array.
+     * It is only here so that code that calls it still compiles.
+     */
+	static public void setListClass(Class<? extends List> listClass) {}
+[#else]
+    static private Class<? extends List> listClass;
+
+    /**
+     * Sets the List class that is used to store child nodes. By default,
+     * this is java.util.ArrayList. There is probably very little reason
+     * to ever use anything else, though you could use this method 
+     * to replace this with LinkedList or your own java.util.List implementation even.
+     * @param listClass the #java.util.List implementation to use internally 
+     * for the child nodes. By default #java.util.ArrayList is used.
+     */
+	static public void setListClass(Class<? extends List> listClass) {
+        ${grammar.baseNodeClassName}.listClass = listClass;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Node> newList() {
+        if (listClass == null) {
+            return new ArrayList<>();
+        }
+        try {
+           return (List<Node>) listClass.getDeclaredConstructor().newInstance();
+        } catch (Exception e) {
+           throw new RuntimeException(e);
+        }
+    }
+[/#if]
+    /**
+     * the parent node
+     */    
+    private Node parent;
+[#if grammar.compactNodes]
+
+    static private final Node[] NO_CHILDREN = new Node[0];
+
+    /**
+     * the child nodes, in the first childCount positions. While the 
+     * node is being built, there can be room to spare, which is 
+     * trimmed off in #close()
+     */
+    private Node[] children = NO_CHILDREN;
+    private int childCount;
+[#else]
+
+    /**
+     * the child nodes
+     */
+    private List<Node> children = newList();
+[/#if]
+    
+    private int beginOffset, endOffset;
+    private boolean unparsed;
+    
+    public boolean isUnparsed() {
+       return this.unparsed;
+    }
+    
+    public void setUnparsed(boolean unparsed) {
+        this.unparsed = unparsed;
+    }
+
+[#if grammar.faultTolerant]
+
+    private boolean dirty;
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public void setDirty(boolean dirty) {
+        this.dirty = dirty;
+    }
+
+[/#if]
+
+[#if grammar.nodeUsesParser]    
+    protected ${grammar.parserClassName} parser;
+
+    public void setParser(${grammar.parserClassName} parser) {this.parser = parser;}
+[/#if]
+
+    public void setParent(Node n) {
+        parent = n;
+    }
+
+    public Node getParent() {
+        return parent;
+    }
+
+[#if grammar.compactNodes]
+    public void addChild(Node n) {
+        addChild(childCount, n);
+    }
+    
+    public void addChild(int i, Node n) {
+        if (i < 0 || i > childCount) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", child count: " + childCount);
+        }
+        if (childCount == children.length) {
+            children = Arrays.copyOf(children, Math.max(4, childCount * 2));
+        }
+        System.arraycopy(children, i, children, i + 1, childCount - i);
+        children[i] = n;
+        ++childCount;
+        n.setParent(this);
+    }
+
+    public Node getChild(int i) {
+        checkChildIndex(i);
+        return children[i];
+    }
+
+    public void setChild(int i, Node n) {
+        checkChildIndex(i);
+        children[i] = n;
+        n.setParent(this);
+    }
+    
+    public Node removeChild(int i) {
+        checkChildIndex(i);
+        Node result = children[i];
+        System.arraycopy(children, i + 1, children, i, childCount - i - 1);
+        children[--childCount] = null;
+        return result;
+    }
+
+    private void checkChildIndex(int i) {
+        if (i < 0 || i >= childCount) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", child count: " + childCount);
+        }
+    }
+
+    public void clearChildren() {
+        children = NO_CHILDREN;
+        childCount = 0;
+    }
+
+    public int getChildCount() {
+        return childCount;
+    }
+    
+    public List<Node> children() {
+        return Collections.unmodifiableList(Arrays.asList(children).subList(0, childCount));
+    }
+
+    /**
+     * Trims the array of child nodes to size, since the 
+     * node is typically not added to after this.
+     */
+    public void close() {
+        if (children.length != childCount) {
+            children = childCount == 0 ? NO_CHILDREN : Arrays.copyOf(children, childCount);
+        }
+    }
+[#else]
+    public void addChild(Node n) {
+        children.add(n);
+        n.setParent(this);
+    }
+    
+    public void addChild(int i, Node n) {
+        children.add(i, n);
+        n.setParent(this);
+    }
+
+    public Node getChild(int i) {
+        return children.get(i);
+    }
+
+    public void setChild(int i, Node n) {
+        children.set(i, n);
+        n.setParent(this);
+    }
+    
+    public Node removeChild(int i) {
+        return children.remove(i);
+    }
+
+    public void clearChildren() {
+        children.clear();
+    }
+
+    public int getChildCount() {
+        return children.size();
+    }
+    
+    public List<Node> children() {
+        return Collections.unmodifiableList(children);
+    }
+[/#if]
+    
+    public int getBeginOffset() {
+        return beginOffset;
+    }
+
+    public void setBeginOffset(int beginOffset) {
+        this.beginOffset = beginOffset;
+    }
+
+    public int getEndOffset() {
+        return endOffset;
+    }
+
+    public void setEndOffset(int endOffset) {
+        this.endOffset = endOffset;
+    }
+
+
+     
+[#if grammar.settings.FREEMARKER_NODES?? && grammar.settings.FREEMARKER_NODES]
+    public TemplateSequenceModel getChildNodes() {
+        SimpleSequence seq = new SimpleSequence();
+        for (Node child : children()) {
+            seq.add(child);
+        }
+        return seq;
+    }
+    
+    public TemplateNodeModel getParentNode() {
+        return this.parent;
+    }
+    
+    public String getNodeName() {
+         return this.getClass().getSimpleName();
+    }
+    
+    public String getNodeType() {
+        return "";
+    }
+    
+    public String getNodeNamespace() {
+        return null;
+    }
+    
+    public String getAsString() throws TemplateModelException {
+        StringBuilder buf = new StringBuilder();
+        for (Node child : children()) {
+            buf.append(child.getAsString());
+            buf.append(" ");
+        }
+        return buf.toString();
+    }
+[/#if]    
+    
+    public String toString() {
+        StringBuilder buf=new StringBuilder();
+        for(Token t : getRealTokens()) {
+            buf.append(t);
+        }
+        return buf.toString();
+    }
+
+    private Map<String, Node> namedChildMap;
+    private Map<String, List<Node>> namedChildListMap;
+
+    public Node getNamedChild(String name) {
+        if (namedChildMap == null) {
+            return null;
+        }
+        return namedChildMap.get(name);
+    }
+
+    public void setNamedChild(String name, Node node) {
+        if (namedChildMap == null) {
+            namedChildMap = new HashMap<>();
+        }
+        if (namedChildMap.containsKey(name)) {
+            // Can't have duplicates
+            String msg = String.format("Duplicate named child not allowed: {0}", name);
+            throw new RuntimeException(msg);
+        }
+        namedChildMap.put(name, node);
+    }
+
+    public List<Node> getNamedChildList(String name) {
+        if (namedChildListMap == null) {
+            return null;
+        }
+        return namedChildListMap.get(name);
+    }
+
+    public void addToNamedChildList(String name, Node node) {
+        if (namedChildListMap == null) {
+            namedChildListMap = new HashMap<>();
+        }
+        List<Node> nodeList = namedChildListMap.get(name);
+        if (nodeList == null) {
+            nodeList = new ArrayList<>();
+            namedChildListMap.put(name, nodeList);
+        }
+        nodeList.add(node);
+    }
+}
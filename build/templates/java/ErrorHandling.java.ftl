@@ -0,0 +1,463 @@
+[#ftl strict_vars=true]
+[#--
+/* Copyright (c) 2020 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors 
+ *       may be used to endorse or promote products derived from this software 
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+
+[#var MULTIPLE_LEXICAL_STATE_HANDLING = (grammar.lexerData.numLexicalStates >1)]
+ 
+CallStack parsingStack = new CallStack();
+private CallStack lookaheadStack = new CallStack();
+
+[#if grammar.faultTolerant]
+  private EnumSet<TokenType> currentFollowSet;
+[/#if]
+
+/**
+ * Inner class that represents entering a grammar production
+ */
+class NonTerminalCall {
+    final String sourceFile;
+    final String productionName;
+    final int line, column;
+
+   [#if grammar.faultTolerant]
+    final EnumSet<TokenType> followSet;
+   [/#if]
+
+
+    NonTerminalCall(String sourceFile, String productionName, int line, int column
+                    [#if grammar.faultTolerant], EnumSet<TokenType> followSet[/#if]) {
+        this.sourceFile = sourceFile;
+        this.productionName = productionName;
+        this.line = line;
+        this.column = column;
+      [#if grammar.faultTolerant]
+        this.followSet = followSet;
+      [/#if]
+    }
+
+    final ${grammar.lexerClassName} getTokenSource() {
+        return ${grammar.parserClassName}.this.token_source;
+    }
+
+    StackTraceElement createStackTraceElement() {
+        return new StackTraceElement("${grammar.parserClassName}", productionName, sourceFile, line);
+    }
+
+    void dump(PrintStream ps) {
+         ps.println(productionName + ":" + line + ":" + column);
+    }
+}
+
+/**
+ * A stack of calls to grammar productions, kept in parallel arrays
+ * so that entering a production does not allocate anything.
+ * The NonTerminalCall objects are only created when they are needed,
+ * i.e. for a ParseException. The production names and source files 
+ * are always string literals, so we just hold onto the references.
+ */
+class CallStack {
+    private String[] productionNames = new String[16], sourceFiles = new String[16];
+    private int[] lines = new int[16], columns = new int[16];
+   [#if grammar.faultTolerant]
+    @SuppressWarnings("unchecked")
+    private EnumSet<TokenType>[] followSets = new EnumSet[16];
+   [/#if]
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    void push(String productionName, String sourceFile, int line, int column) {
+        if (size == lines.length) {
+            int newCapacity = size*2;
+            productionNames = Arrays.copyOf(productionNames, newCapacity);
+            sourceFiles = Arrays.copyOf(sourceFiles, newCapacity);
+            lines = Arrays.copyOf(lines, newCapacity);
+            columns = Arrays.copyOf(columns, newCapacity);
+           [#if grammar.faultTolerant]
+            followSets = Arrays.copyOf(followSets, newCapacity);
+           [/#if]
+        }
+        productionNames[size] = productionName;
+        sourceFiles[size] = sourceFile;
+        lines[size] = line;
+        columns[size] = column;
+       [#if grammar.faultTolerant]
+        followSets[size] = outerFollowSet;
+       [/#if]
+        ++size;
+    }
+
+    /**
+     * Removes the top entry, which can still be read
+     * until something else is pushed.
+     * @return the index of the entry removed
+     */
+    int pop() {
+        return --size;
+    }
+
+    String getProductionName(int index) {
+        return productionNames[index];
+    }
+
+   [#if grammar.faultTolerant]
+    EnumSet<TokenType> getFollowSet(int index) {
+        return followSets[index];
+    }
+   [/#if]
+
+    NonTerminalCall get(int index) {
+        return new NonTerminalCall(sourceFiles[index], productionNames[index], lines[index], columns[index]
+                                   [#if grammar.faultTolerant], followSets[index][/#if]);
+    }
+
+    java.util.List<NonTerminalCall> toList() {
+        java.util.List<NonTerminalCall> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Pops everything above the given size. The entries 
+     * below that are still there, since they are never 
+     * overwritten until they are popped.
+     */
+    void truncate(int size) {
+        this.size = size;
+    }
+
+    void dump(PrintStream ps) {
+        for (int i = size-1; i >= 0; i--) {
+            ps.println(productionNames[i] + ":" + lines[i] + ":" + columns[i]);
+        }
+    }
+}
+
+private final void pushOntoCallStack(String methodName, String fileName, int line, int column) {
+   parsingStack.push(methodName, fileName, line, column);
+}
+
+private final void popCallStack() {
+    int top = parsingStack.pop();
+    this.currentlyParsedProduction = parsingStack.getProductionName(top);
+   [#if grammar.faultTolerant]
+    this.outerFollowSet = parsingStack.getFollowSet(top);
+   [/#if]
+}
+
+private final void restoreCallStack(int prevSize) {
+    while (parsingStack.size() > prevSize) {
+       popCallStack();
+    }
+}
+
+/**
+ * Iterates over the names of the productions on the parsing stack 
+ * and then the lookahead stack, i.e. from the bottom to the top, 
+ * or the other way round if it is backward.
+ */
+private class CallStackIterator implements java.util.ListIterator<String> {
+    private final boolean backward;
+    private int index;
+
+    CallStackIterator(boolean backward) {
+        this.backward = backward;
+        if (backward) index = parsingStack.size() + lookaheadStack.size();
+    }
+
+    private String get(int i) {
+        int parsingStackSize = parsingStack.size();
+        return i < parsingStackSize ? parsingStack.getProductionName(i) : lookaheadStack.getProductionName(i - parsingStackSize);
+    }
+
+    public boolean hasNext() {
+        return backward ? index > 0 : index < parsingStack.size() + lookaheadStack.size();
+    }
+    public String next() {
+        if (!hasNext()) throw new java.util.NoSuchElementException();
+        return backward ? get(--index) : get(index++);
+    }
+    public boolean hasPrevious() {
+        return backward ? index < parsingStack.size() + lookaheadStack.size() : index > 0;
+    }
+    public String previous() {
+        if (!hasPrevious()) throw new java.util.NoSuchElementException();
+        return backward ? get(index++) : get(--index);
+    }
+    public void add(String productionName) {throw new UnsupportedOperationException();}
+    public void set(String productionName) {throw new UnsupportedOperationException();}
+    public void remove() {throw new UnsupportedOperationException();}
+    public int previousIndex() {throw new UnsupportedOperationException();}
+    public int nextIndex() {throw new UnsupportedOperationException();}
+}
+
+private ListIterator<String> stackIteratorForward() {
+    return new CallStackIterator(false);
+}
+
+private ListIterator<String> stackIteratorBackward() {
+    return new CallStackIterator(true);
+}
+
+
+private final void pushOntoLookaheadStack(String methodName, String fileName, int line, int column) {
+    lookaheadStack.push(methodName, fileName, line, column);
+}
+
+private final void popLookaheadStack() {
+    int top = lookaheadStack.pop();
+    this.currentLookaheadProduction = lookaheadStack.getProductionName(top);
+}
+
+void dumpLookaheadStack(PrintStream ps) {
+    lookaheadStack.dump(ps);
+}
+
+void dumpCallStack(PrintStream ps) {
+    parsingStack.dump(ps);
+}
+
+void dumpLookaheadCallStack(PrintStream ps) {
+    ps.println("Current Parser Production is: " + currentlyParsedProduction);
+    ps.println("Current Lookahead Production is: " + currentLookaheadProduction);
+    ps.println("---Lookahead Stack---");
+    dumpLookaheadStack(ps);
+    ps.println("---Call Stack---");
+    dumpCallStack(ps);
+}
+
+[#if grammar.faultTolerant] 
+    private boolean tolerantParsing = true;
+    // Are we pending a recovery routine to
+    // get back on the rails?
+    private boolean pendingRecovery;
+//    private boolean debugFaultTolerant = false;
+
+    private java.util.List<ParsingProblem> parsingProblems = new java.util.ArrayList<>();
+
+    public java.util.List<ParsingProblem> getParsingProblems() {
+        return parsingProblems;
+    }
+
+    public boolean hasProblems() {
+        return !parsingProblems.isEmpty();
+    }
+
+    void addParsingProblem(ParsingProblem problem) {
+        parsingProblems.add(problem);
+    }
+[/#if]    
+
+    public boolean isParserTolerant() {
+       [#if grammar.faultTolerant] 
+        return tolerantParsing;
+       [#else]
+        return false;
+       [/#if]
+    }
+    
+    public void setParserTolerant(boolean tolerantParsing) {
+        [#if grammar.faultTolerant]
+          this.tolerantParsing = tolerantParsing;
+        [#else]
+          if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+          }
+        [/#if]
+    }
+
+      private Token consumeToken(TokenType expectedType 
+        [#if grammar.faultTolerant], boolean tolerant, EnumSet<TokenType> followSet [/#if]
+      ) 
+      [#if grammar.useCheckedException] throws ParseException [/#if]
+      {
+        Token nextToken = nextToken(lastConsumedToken);
+        if (nextToken.getType() != expectedType) {
+            nextToken = handleUnexpectedTokenType(expectedType, nextToken
+            [#if grammar.faultTolerant], tolerant, followSet[/#if]
+            ) ;
+        }
+        this.lastConsumedToken = nextToken;
+        this.nextTokenType = null;
+[#if grammar.treeBuildingEnabled]
+      if (buildTree && tokensAreNodes) {
+  [#list grammar.openNodeScopeHooks as hook]
+     ${hook}(lastConsumedToken);
+  [/#list]
+          pushNode(lastConsumedToken);
+  [#list grammar.closeNodeScopeHooks as hook]
+     ${hook}(lastConsumedToken);
+  [/#list]
+      }
+[/#if]
+[#if grammar.faultTolerant]
+// Check whether the very next token is in the follow set of the last consumed token
+// and if it is not, we check one token ahead to see if skipping the next token remedies
+// the problem.
+      if (followSet != null && isParserTolerant()) {
+         nextToken = nextToken(lastConsumedToken);
+         if (!followSet.contains(nextToken.getType())) {
+            Token nextNext = nextToken(nextToken);
+            if (followSet.contains(nextNext.getType())) {
+               nextToken.setSkipped(true);
+//               if (debugFaultTolerant) LOGGER.info("Skipping token " + nextToken.getType() + " at: " + nextToken.getLocation());
+               //lastConsumedToken.setNext(nextNext);
+            }
+         }
+      }
+[/#if]      
+      return lastConsumedToken;
+  }
+ 
+  private Token handleUnexpectedTokenType(TokenType expectedType, Token nextToken
+      [#if grammar.faultTolerant], boolean tolerant, EnumSet<TokenType> followSet[/#if]
+      ) 
+      [#if grammar.useCheckedException] throws ParseException [/#if]
+      {
+      [#if !grammar.faultTolerant]
+       throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+      [#else]
+       if (!this.tolerantParsing) {
+          throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+       }
+       Token nextNext = nextToken(nextToken);
+       if (nextNext.getType() == expectedType) {
+             [#-- REVISIT. Here we skip one token (as well as any InvalidToken) but maybe (probably!) this behavior
+             should be configurable. But we need to experiment, because this is really a heuristic question, no?--]
+             nextToken.setSkipped(true);
+//             if (debugFaultTolerant) LOGGER.info("Skipping token of type: " + nextToken.getType() + " at: " + nextToken.getLocation());
+[#if grammar.treeBuildingEnabled]             
+             pushNode(nextToken);
+[/#if]             
+             //lastConsumedToken.setNext(nextNext);
+             return nextNext;
+       }
+         [#-- Since skipping the next token did not work, we will insert a virtual token --]
+       if (tolerant || followSet==null || followSet.contains(nextToken.getType())) {
+           Token virtualToken = Token.newToken(expectedType, token_source, 0,0);
+           virtualToken.setImage("VIRTUAL " + expectedType);
+           virtualToken.setVirtual(true);
+           virtualToken.copyLocationInfo(nextToken);
+           //virtualToken.setNext(nextToken);
+           //lastConsumedToken.setNext(virtualToken);
+//           if (debugFaultTolerant) LOGGER.info("Inserting virtual token of type: " + expectedType + " at " + virtualToken.getLocation());
+[#if MULTIPLE_LEXICAL_STATE_HANDLING]
+           if (token_source.doLexicalStateSwitch(expectedType)) {
+              token_source.reset(virtualToken);
+           }
+[/#if]
+           return virtualToken;
+       }
+       throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+      [/#if]
+  }
+  
+  /**
+   * pushes the last token back.
+   */
+  private void pushLastTokenBack() {
+     [#if grammar.treeBuildingEnabled]
+        if (peekNode() == lastConsumedToken) {
+            popNode();
+        }
+     [/#if]
+     lastConsumedToken = lastConsumedToken.previousCachedToken();
+  }
+ 
+  /**
+   * The state we go back to if an ATTEMPT fails. Stashing this is O(1).
+   * Everything on the parsing stack at this point is still there 
+   * when we backtrack, since the code in the ATTEMPT only pops 
+   * what it pushes, so we just need the size of the stack.
+   * Likewise, we hold onto the current node scope and the changes 
+   * to the node scopes after this point are logged so that 
+   * we can undo them.
+   */
+  private class ParseState {
+       Token lastConsumed;
+       int parsingStackSize;
+   [#if MULTIPLE_LEXICAL_STATE_HANDLING]
+       LexicalState lexicalState;
+   [/#if]
+   [#if grammar.treeBuildingEnabled]
+       NodeScope nodeScope;
+       int undoLogMark;
+ [/#if]       
+       ParseState() {
+           this.lastConsumed = ${grammar.parserClassName}.this.lastConsumedToken;
+           this.parsingStackSize = ${grammar.parserClassName}.this.parsingStack.size();
+[#if grammar.lexerData.numLexicalStates > 1]
+           this.lexicalState = token_source.lexicalState;
+[/#if]
+[#if grammar.treeBuildingEnabled]            
+           this.nodeScope = currentNodeScope;
+           this.undoLogMark = undoLogLength;
+[/#if]           
+       } 
+  }
+
+  private ArrayList<ParseState> parseStateStack = new ArrayList<>();
+ 
+  private void stashParseState() {
+      parseStateStack.add(new ParseState());
+  }
+  
+  private ParseState popParseState() {
+      ParseState state = parseStateStack.remove(parseStateStack.size() -1);
+[#if grammar.treeBuildingEnabled]
+      // If there is no outer ATTEMPT, there is nothing to undo any more.
+      if (parseStateStack.isEmpty()) clearUndoLog();
+[/#if]
+      return state;
+  }
+  
+  private void restoreStashedParseState() {
+     ParseState state = parseStateStack.get(parseStateStack.size() -1);
+[#if grammar.treeBuildingEnabled]
+     undoNodeScopeChanges(state.undoLogMark);
+     currentNodeScope = state.nodeScope;
+[/#if]
+     popParseState();
+     parsingStack.truncate(state.parsingStackSize);
+    if (state.lastConsumed != null) {
+        //REVISIT
+         lastConsumedToken = state.lastConsumed;
+    }
+[#if MULTIPLE_LEXICAL_STATE_HANDLING]
+     token_source.reset(lastConsumedToken, state.lexicalState);
+[#else]     
+     token_source.reset(lastConsumedToken);
+[/#if]          
+  } 
+  
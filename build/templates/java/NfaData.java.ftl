@@ -0,0 +1,488 @@
+[#ftl strict_vars=true]
+[#--
+/* Copyright (c) 2021 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors 
+ *       may be used to endorse or promote products derived from this software 
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+
+ [#--
+    This template handles the generation of a class that is a holder
+    for all the static data that represents an NFA state machine
+ --]
+ /* Generated by: ${generated_by}. ${filename} */
+
+[#var NFA_RANGE_THRESHOLD = 16]
+[#var ARRAY_CHUNK_SIZE = 2000]
+[#var multipleLexicalStates = grammar.lexerData.lexicalStates.size()>1]
+[#var hasDfa = grammar.lexerData.hasDfa]
+[#var hasAsciiMoveTables = grammar.lexerData.hasAsciiMoveTables]
+[#var TT = "TokenType."]
+ 
+[#if grammar.parserPackage?has_content]
+    package ${grammar.parserPackage};
+    import static ${grammar.parserPackage}.${grammar.constantsClassName}.TokenType.*;
+    [#set TT=""]
+[/#if]
+import java.util.EnumSet;
+import java.util.BitSet;
+import java.util.Arrays;
+
+/**
+ * Holder class for the data used by ${grammar.lexerClassName}
+ * to do the NFA thang
+ */
+class ${grammar.nfaDataClassName} implements ${grammar.constantsClassName} {
+
+  // The functional interface that represents 
+  // the acceptance method of an NFA state
+  static interface NfaFunction {
+    TokenType apply(int ch, BitSet bs, EnumSet<TokenType> validTypes);
+  }
+
+ // All the tables here are built once, when the class is initialized, 
+ // and never modified after that, so they can be shared by any number 
+ // of lexers running on different threads.
+ [#if multipleLexicalStates]
+  // The NFA function tables for the respective lexical states, indexed by ordinal
+  static private final NfaFunction[][] functionTables = new NfaFunction[][] {
+    [#list grammar.lexerData.lexicalStates as lexicalState]
+      ${lexicalState.name}.NFA_FUNCTIONS_init()[#if lexicalState_has_next],[/#if]
+    [/#list]
+  };
+ [#else]
+  [#-- We don't need the above lookup if there is only one lexical state.--]
+  static private final NfaFunction[] nfaFunctions = ${grammar.lexerData.lexicalStates[0].name}.NFA_FUNCTIONS_init();
+ [/#if]
+
+
+[#if hasDfa]
+ [#if multipleLexicalStates]
+  // The DFA tables of the lexical states, indexed by ordinal, 
+  // with null for the ones that don't have one
+  static private final DfaTable[] dfaTables = new DfaTable[] {
+    [#list grammar.lexerData.lexicalStates as lexicalState]
+      [#if lexicalState.dfaData??]${lexicalState.name}.DFA_TABLE_init()[#else]null[/#if][#if lexicalState_has_next],[/#if]
+    [/#list]
+  };
+ [#else]
+  static private final DfaTable dfaTable = ${grammar.lexerData.lexicalStates[0].name}.DFA_TABLE_init();
+ [/#if]
+[/#if]
+
+  // This data holder class is never instantiated
+  private ${grammar.nfaDataClassName}() {}
+
+  /**
+   * @param the lexical state
+   * @return the table of function pointers that implement the lexical state
+   */
+  static final NfaFunction[] getFunctionTableMap(LexicalState lexicalState) {
+    [#if multipleLexicalStates]
+      return functionTables[lexicalState.ordinal()];
+    [#else]
+     // We only have one lexical state in this case, so we return that!
+      return nfaFunctions;
+    [/#if]
+  }
+ 
+[#if hasDfa]
+  /**
+   * @param the lexical state
+   * @return the DFA table for the lexical state, or null 
+   * if the NFA must be used
+   */
+  static final DfaTable getDfaTable(LexicalState lexicalState) {
+    [#if multipleLexicalStates]
+      return dfaTables[lexicalState.ordinal()];
+    [#else]
+      return dfaTable;
+    [/#if]
+  }
+[/#if]
+
+  // Just use the canned binary search to check whether the char
+  // is in one of the intervals
+  private static final boolean checkIntervals(int[] ranges, int ch) {
+    int result = Arrays.binarySearch(ranges, ch);
+    return result >=0 || result%2 == 0;
+  }
+
+[#if hasDfa || hasAsciiMoveTables]
+  // The larger tables are stored as (count, value) pairs
+  private static int[] decodeRuns(int[] runs) {
+    int size = 0;
+    for (int i = 0; i < runs.length; i+=2) {
+      size += runs[i];
+    }
+    int[] result = new int[size];
+    int index = 0;
+    for (int i = 0; i < runs.length; i+=2) {
+      Arrays.fill(result, index, index + runs[i], runs[i+1]);
+      index += runs[i];
+    }
+    return result;
+  }
+[/#if]
+
+[#if hasAsciiMoveTables]
+  /**
+   * A lookup table of the moves that the NFA_XXX methods 
+   * make on ASCII characters, indexed by row*128 + ch,
+   * so that we only need to check character ranges
+   * for non-ASCII input.
+   */
+  static final class AsciiMoveTable {
+    private final int[] table;
+    private final BitSet[] moveStates;
+    private final TokenType[][] moveTypes;
+
+    AsciiMoveTable(int[] encodedTable, int[] stateOffsets, int[] states, 
+                   int[] typeOffsets, int[] typeIndexes, TokenType[] types) {
+      this.table = decodeRuns(encodedTable);
+      int numMoves = stateOffsets.length -1;
+      moveStates = new BitSet[numMoves];
+      moveTypes = new TokenType[numMoves][];
+      for (int move = 0; move < numMoves; move++) {
+        moveStates[move] = new BitSet();
+        for (int i = stateOffsets[move]; i < stateOffsets[move+1]; i++) {
+          moveStates[move].set(states[i]);
+        }
+        moveTypes[move] = new TokenType[typeOffsets[move+1] - typeOffsets[move]];
+        for (int i = typeOffsets[move]; i < typeOffsets[move+1]; i++) {
+          moveTypes[move][i-typeOffsets[move]] = types[typeIndexes[i]];
+        }
+      }
+    }
+
+    final TokenType apply(int index, BitSet nextStates, EnumSet<TokenType> validTypes) {
+      int move = table[index];
+      if (move < 0) return null;
+      nextStates.or(moveStates[move]);
+      for (TokenType type : moveTypes[move]) {
+        if (validTypes.contains(type)) return type;
+      }
+      return null;
+    }
+  }
+[/#if]
+
+[#if hasDfa]
+  /**
+   * The deterministic transition table of a lexical state,
+   * built at generation time from its NFA by subset construction.
+   * The characters are partitioned into classes that all the states
+   * treat identically, so the next state is a single lookup.
+   */
+  static final class DfaTable {
+    private final int numClasses;
+    private final int[] asciiClasses, intervalStarts, intervalClasses;
+    private final int[] transitions;
+    private final boolean[] hasMoves;
+    private final int[] acceptOffsets, acceptIndexes;
+    private final TokenType[] acceptTypes;
+
+    DfaTable(int numClasses, int[] asciiClasses, int[] intervalStarts, int[] intervalClasses, 
+             int[] encodedTransitions, int[] acceptOffsets, int[] acceptIndexes, TokenType[] acceptTypes) {
+      this.numClasses = numClasses;
+      this.asciiClasses = asciiClasses;
+      this.intervalStarts = intervalStarts;
+      this.intervalClasses = intervalClasses;
+      this.acceptOffsets = acceptOffsets;
+      this.acceptIndexes = acceptIndexes;
+      this.acceptTypes = acceptTypes;
+      int numStates = acceptOffsets.length -1;
+      transitions = decodeRuns(encodedTransitions);
+      hasMoves = new boolean[numStates];
+      for (int i = 0; i < transitions.length; i++) {
+        if (transitions[i] >= 0) hasMoves[i/numClasses] = true;
+      }
+    }
+
+    /**
+     * @return the state we move to from state on reading ch, or -1 if there is no such move
+     */
+    final int nextState(int state, int ch) {
+      int charClass;
+      if (ch < 128) {
+        charClass = asciiClasses[ch];
+      } else {
+        int index = Arrays.binarySearch(intervalStarts, ch);
+        charClass = intervalClasses[index >= 0 ? index : -index-2];
+      }
+      return transitions[state*numClasses + charClass];
+    }
+
+    /**
+     * @return whether there are any moves out of this state
+     */
+    final boolean hasMoves(int state) {
+      return hasMoves[state];
+    }
+
+    /**
+     * @return the highest priority type among validTypes that is 
+     * matched on entering this state, or null if there is none
+     */
+    final TokenType getAcceptedType(int state, EnumSet<TokenType> validTypes) {
+      for (int i = acceptOffsets[state]; i < acceptOffsets[state+1]; i++) {
+        TokenType type = acceptTypes[acceptIndexes[i]];
+        if (validTypes.contains(type)) return type;
+      }
+      return null;
+    }
+  }
+[/#if]
+
+ [#list grammar.lexerData.lexicalStates as lexicalState]
+ /**
+  * Holder class for NFA code related to ${lexicalState.name} lexical state
+  */
+  private static class ${lexicalState.name} {
+   [@GenerateStateCode lexicalState/]
+  }
+ [/#list]  
+}
+
+[#--
+  Generate all the NFA transition code
+  for the given lexical state
+--]
+[#macro GenerateStateCode lexicalState]
+  [#list lexicalState.canonicalSets as state]
+     [@GenerateNfaMethod state/]
+  [/#list]
+
+  [#list lexicalState.allNfaStates as state]
+    [#if state.moveRanges.size() >= NFA_RANGE_THRESHOLD]
+      [@GenerateMoveArray state/]
+    [/#if]
+  [/#list]
+
+  [#if lexicalState.dfaData??]
+    [@GenerateDfaTable lexicalState.dfaData/]
+  [/#if]
+  [#if lexicalState.asciiMoveTable??]
+    [@GenerateAsciiMoveTable lexicalState.asciiMoveTable/]
+  [/#if]
+
+  static private NfaFunction[] NFA_FUNCTIONS_init() {
+    return new NfaFunction[]
+    {
+    [#list lexicalState.canonicalSets as state]
+      ${lexicalState.name}::${state.methodName}
+      [#if state_has_next],[/#if]
+    [/#list]
+    };
+  }
+[/#macro]
+
+[#--
+   Generate the data for the DFA table of 
+   a lexical state. This corresponds to 
+   com.javacc.core.nfa.DfaData
+--]
+[#macro GenerateDfaTable dfaData]
+   [@GenerateIntArray "DFA_ASCII_CLASSES" dfaData.asciiClasses/]
+   [@GenerateIntArray "DFA_INTERVAL_STARTS" dfaData.intervalStarts/]
+   [@GenerateIntArray "DFA_INTERVAL_CLASSES" dfaData.intervalClasses/]
+   [@GenerateIntArray "DFA_TRANSITIONS" dfaData.encodedTransitions/]
+   [@GenerateIntArray "DFA_ACCEPT_OFFSETS" dfaData.acceptOffsets/]
+   [@GenerateIntArray "DFA_ACCEPT_INDEXES" dfaData.acceptIndexes/]
+
+    static private DfaTable DFA_TABLE_init() {
+        TokenType[] acceptTypes = new TokenType[] {
+        [#list dfaData.acceptTypes as type]
+           ${TT}${type.label}[#if type_has_next],[/#if]
+        [/#list]
+        };
+        return new DfaTable(${dfaData.numClasses}, DFA_ASCII_CLASSES_init(), DFA_INTERVAL_STARTS_init(), 
+                            DFA_INTERVAL_CLASSES_init(), DFA_TRANSITIONS_init(), DFA_ACCEPT_OFFSETS_init(),
+                            DFA_ACCEPT_INDEXES_init(), acceptTypes);
+    }
+[/#macro]
+
+[#--
+   Generate the data for the lookup table of moves on 
+   ASCII characters in a lexical state. This corresponds to
+   com.javacc.core.nfa.AsciiMoveTable
+--]
+[#macro GenerateAsciiMoveTable moveTable]
+   [@GenerateIntArray "ASCII_MOVE_TABLE" moveTable.encodedTable/]
+   [@GenerateIntArray "ASCII_MOVE_STATE_OFFSETS" moveTable.stateOffsets/]
+   [@GenerateIntArray "ASCII_MOVE_STATES" moveTable.states/]
+   [@GenerateIntArray "ASCII_MOVE_TYPE_OFFSETS" moveTable.typeOffsets/]
+   [@GenerateIntArray "ASCII_MOVE_TYPE_INDEXES" moveTable.typeIndexes/]
+
+    static private final AsciiMoveTable ASCII_MOVES = ASCII_MOVES_init();
+
+    static private AsciiMoveTable ASCII_MOVES_init() {
+        TokenType[] types = new TokenType[] {
+        [#list moveTable.types as type]
+           ${TT}${type.label}[#if type_has_next],[/#if]
+        [/#list]
+        };
+        return new AsciiMoveTable(ASCII_MOVE_TABLE_init(), ASCII_MOVE_STATE_OFFSETS_init(), ASCII_MOVE_STATES_init(),
+                                  ASCII_MOVE_TYPE_OFFSETS_init(), ASCII_MOVE_TYPE_INDEXES_init(), types);
+    }
+[/#macro]
+
+[#--
+   Generate a method that returns a (possibly large) int array. 
+   The elements are filled in from separate methods in chunks 
+   of ARRAY_CHUNK_SIZE, so that we don't run into the 
+   "code too large" problem.
+--]
+[#macro GenerateIntArray name values]
+    [#var chunks = grammar.utils.chunk(values, ARRAY_CHUNK_SIZE)]
+    static private int[] ${name}_init() {
+        int[] result = new int[${values?size}];
+    [#list chunks as chunk]
+        ${name}_init${chunk_index}(result);
+    [/#list]
+        return result;
+    }
+    [#list chunks as chunk]
+
+    static private void ${name}_init${chunk_index}(int[] result) {
+        int[] chunk = new int[] {
+        [#list chunk as value]${value}[#if value_has_next], [/#if][/#list]
+        };
+        System.arraycopy(chunk, 0, result, ${chunk_index*ARRAY_CHUNK_SIZE}, chunk.length);
+    }
+    [/#list]
+[/#macro]
+
+[#--
+   Generate the array representing the characters
+   that this NfaState "accepts".
+   This corresponds to the moveRanges field in 
+   com.javacc.core.NfaState
+--]
+[#macro GenerateMoveArray nfaState]
+  [#var moveRanges = nfaState.moveRanges]
+  [#var arrayName = nfaState.movesArrayName]
+    static private final int[] ${arrayName} = ${arrayName}_init();
+
+    static private int[] ${arrayName}_init() {
+        return new int[]
+        {
+        [#list nfaState.moveRanges as char]
+          ${grammar.utils.displayChar(char)}
+          [#if char_has_next],[/#if]
+        [/#list]
+        };
+    }
+[/#macro] 
+
+[#--
+   Generate the method that represents the transitions
+   that correspond to an instanceof com.javacc.core.CompositeStateSet
+--]
+[#macro GenerateNfaMethod nfaState]  
+    static private TokenType ${nfaState.methodName}(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+    [#var states = nfaState.orderedStates, lastBlockStartIndex=0]
+    [#if nfaState.asciiTableRow >= 0]
+      if (ch < 128) {
+          return ASCII_MOVES.apply(${nfaState.asciiTableRow*128} + ch, nextStates, validTypes);
+      }
+      [#-- Only the states with non-ASCII moves need to be checked now. --]
+      [#set states = nfaState.nonAsciiOrderedStates]
+    [/#if]
+      TokenType type = null;
+    [#list states as state]
+      [#if state_index ==0 || !state.moveRanges.equals(states[state_index-1].moveRanges)]
+          [#-- In this case we need a new if or possibly else if --]
+         [#if state_index == 0 || state.overlaps(states.subList(lastBlockStartIndex, state_index))]
+           [#-- If there is overlap between this state and any of the states
+                 handled since the last lone if, we start a new if-else 
+                 If not, we continue in the same if-else block as before. --]
+           [#set lastBlockStartIndex = state_index]
+               if
+         [#else]
+               else if
+         [/#if]    
+           ([@NfaStateCondition state /]) {
+      [/#if]
+      [#if state.nextStateIndex >= 0]
+         nextStates.set(${state.nextStateIndex});
+      [/#if]
+      [#if !state_has_next || !state.moveRanges.equals(states[state_index+1].moveRanges)]
+        [#-- We've reached the end of the block. --]
+          [#var type = state.nextStateType]
+          [#if type??]
+            if (validTypes.contains(${TT}${type.label}))
+              type = ${TT}${type.label};
+          [/#if]
+        }
+      [/#if]
+    [/#list]
+      return type;
+    }
+[/#macro]
+
+[#--
+Generate the condition part of the NFA state transition
+If the size of the moveRanges vector is greater than NFA_RANGE_THRESHOLD
+it uses the canned binary search routine. For the smaller moveRanges
+it just generates the inline conditional expression
+--]
+[#macro NfaStateCondition nfaState]
+    [#if nfaState.moveRanges?size < NFA_RANGE_THRESHOLD]
+      [@RangesCondition nfaState.moveRanges /]
+    [#elseif nfaState.hasAsciiMoves && nfaState.hasNonAsciiMoves]
+      ([@RangesCondition nfaState.asciiMoveRanges/])
+      || (ch >=128 && checkIntervals(${nfaState.movesArrayName}, ch))
+    [#else]
+      checkIntervals(${nfaState.movesArrayName}, ch)
+    [/#if]
+[/#macro]
+
+[#-- 
+This is a recursive macro that generates the code corresponding
+to the accepting condition for an NFA state. It is used
+if NFA state's moveRanges array is smaller than NFA_RANGE_THRESHOLD
+(which is set to 16 for now)
+--]
+[#macro RangesCondition moveRanges]
+    [#var left = moveRanges[0], right = moveRanges[1]]
+    [#var displayLeft = grammar.utils.displayChar(left), displayRight = grammar.utils.displayChar(right)]
+    [#var singleChar = left == right]
+    [#if moveRanges?size==2]
+       [#if singleChar]
+          ch == ${displayLeft}
+       [#elseif left +1 == right]
+          ch == ${displayLeft} || ch == ${displayRight}
+       [#else]
+          ch >= ${displayLeft} 
+          [#if right < 1114111]
+             && ch <= ${displayRight}
+          [/#if]
+       [/#if]
+    [#else]
+       ([@RangesCondition moveRanges[0..1]/])||([@RangesCondition moveRanges[2..moveRanges?size-1]/])
+    [/#if]
+[/#macro]
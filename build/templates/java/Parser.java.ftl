@@ -0,0 +1,615 @@
+[#ftl strict_vars=true]
+[#--
+/* Copyright (c) 2008-2020 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provide that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary format must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors 
+ *       may be used to endorse or promote products derived from this software 
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+/* Generated by: ${generated_by}. ${filename} */
+
+
+[#var tokenCount=grammar.lexerData.tokenCount]
+
+[#if grammar.parserPackage?has_content]
+package ${grammar.parserPackage};
+[/#if]
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+[#if grammar.nodePackage?has_content && grammar.parserPackage! != grammar.nodePackage]
+  [#list grammar.nodeNames as node]
+    [#if node?index_of('.')>0]
+      import ${node};
+    [#else]
+      import ${grammar.nodePackage}.${grammar.nodePrefix}${node};
+    [/#if]
+  [/#list]
+[/#if]
+
+[#if grammar.parserPackage?has_content]
+import static ${grammar.parserPackage}.${grammar.constantsClassName}.TokenType.*;
+[/#if]
+
+public class ${grammar.parserClassName} implements ${grammar.constantsClassName} {
+static final int UNLIMITED = Integer.MAX_VALUE;    
+// The last token successfully "consumed"
+Token lastConsumedToken;
+private TokenType nextTokenType;
+private Token currentLookaheadToken;
+private int remainingLookahead;
+private boolean hitFailure, passedPredicate;
+private String currentlyParsedProduction, currentLookaheadProduction;
+private int lookaheadRoutineNesting, passedPredicateThreshold = -1;
+private EnumSet<TokenType> outerFollowSet;
+
+[#if grammar.legacyGlitchyLookahead]
+   private boolean legacyGlitchyLookahead = true;
+[#else]
+   private boolean legacyGlitchyLookahead = false;
+[/#if]
+
+private boolean cancelled;
+public void cancel() {cancelled = true;}
+public boolean isCancelled() {return cancelled;}
+  /** Generated Lexer. */
+  public ${grammar.lexerClassName} token_source;
+  
+  public void setInputSource(String inputSource) {
+      token_source.setInputSource(inputSource);
+  }
+  
+  String getInputSource() {
+      return token_source.getInputSource();
+  }
+  
+ //=================================
+ // Generated constructors
+ //=================================
+
+   public ${grammar.parserClassName}(String inputSource, CharSequence content) {
+       this(new ${grammar.lexerClassName}(inputSource, content));
+      [#if grammar.lexerUsesParser]
+      token_source.parser = this;
+      [/#if]
+  }
+
+  public ${grammar.parserClassName}(CharSequence content) {
+    this("input", content);
+  }
+
+  /**
+   * @param inputSource just the name of the input source (typically the filename) that 
+   * will be used in error messages and so on.
+   * @param path The location (typically the filename) from which to get the input to parse
+   */
+  public ${grammar.parserClassName}(String inputSource, Path path) throws IOException {
+  [#if grammar.memoryMappedInput]
+    this(inputSource, ${grammar.lexerClassName}.contentFromPath(path, null));
+  [#else]
+    this(inputSource, ${grammar.lexerClassName}.stringFromBytes(Files.readAllBytes(path)));
+  [/#if]
+  }
+
+  public ${grammar.parserClassName}(String inputSource, Path path, Charset charset) throws IOException {
+  [#if grammar.memoryMappedInput]
+    this(inputSource, ${grammar.lexerClassName}.contentFromPath(path, charset));
+  [#else]
+    this(inputSource, ${grammar.lexerClassName}.stringFromBytes(Files.readAllBytes(path), charset));
+  [/#if]
+  }
+
+  /**
+   * @param path The location (typically the filename) from which to get the input to parse
+   */
+  public ${grammar.parserClassName}(Path path) throws IOException {
+    this(path.toString(), path);
+  }
+
+  /**
+   * @Deprecated Use the constructor that takes a #java.nio.files.Path or just 
+   * a String (i.e. CharSequence) directly.
+   */
+  public ${grammar.parserClassName}(java.io.InputStream stream) {
+      this(new InputStreamReader(stream));
+  }
+
+  /**
+   * @Deprecated Use the constructor that takes a #java.nio.files.Path or just 
+   * a String (i.e. CharSequence) directly.
+   */
+  public ${grammar.parserClassName}(Reader reader) {
+    this(new ${grammar.lexerClassName}("input", reader));
+      [#if grammar.lexerUsesParser]
+      token_source.parser = this;
+      [/#if]
+  }
+
+[#if grammar.streamingLexer]
+  /**
+   * @param inputSource just the name of the input source (typically the filename) that
+   * will be used in error messages and so on.
+   * @param channel The channel that the input is streamed from
+   * @param charset The encoding of the input
+   */
+  public ${grammar.parserClassName}(String inputSource, java.nio.channels.ReadableByteChannel channel, Charset charset) {
+    this(new ${grammar.lexerClassName}(inputSource, channel, charset));
+      [#if grammar.lexerUsesParser]
+      token_source.parser = this;
+      [/#if]
+  }
+[/#if]
+
+
+  /** Constructor with user supplied Lexer. */
+  public ${grammar.parserClassName}(${grammar.lexerClassName} lexer) {
+    token_source = lexer;
+      [#if grammar.lexerUsesParser]
+      token_source.parser = this;
+      [/#if]
+      lastConsumedToken = lexer.DUMMY_START_TOKEN;
+      lastConsumedToken.setTokenSource(lexer);
+  }
+
+  /**
+   * Makes this parser ready to parse new input, as if it had just been 
+   * constructed with it, but reusing the stacks that it (and its lexer) 
+   * already has. See ${grammar.lexerClassName}#reset(CharSequence). 
+   * The tree built from the previous input must not be used after this.
+   * Note that any fields that code injected into this class adds are 
+   * left alone.
+   * @param input the new input
+   */
+  public void reset(CharSequence input) {
+      reset("input", input);
+  }
+
+  /**
+   * @see #reset(CharSequence)
+   * @param inputSource just the name of the input source (typically the filename) that 
+   * will be used in error messages and so on.
+   * @param input the new input
+   */
+  public void reset(String inputSource, CharSequence input) {
+      token_source.reset(inputSource, input);
+      lastConsumedToken = token_source.DUMMY_START_TOKEN;
+      lastConsumedToken.setTokenSource(token_source);
+      nextTokenType = null;
+      currentLookaheadToken = null;
+      remainingLookahead = 0;
+      hitFailure = passedPredicate = false;
+      currentlyParsedProduction = currentLookaheadProduction = null;
+      lookaheadRoutineNesting = 0;
+      passedPredicateThreshold = -1;
+      outerFollowSet = null;
+      cancelled = false;
+      parsingStack.truncate(0);
+      lookaheadStack.truncate(0);
+      parseStateStack.clear();
+  [#if grammar.treeBuildingEnabled]
+      clearUndoLog();
+      while (currentNodeScope.parentScope != null) {
+          currentNodeScope = currentNodeScope.parentScope;
+      }
+      currentNodeScope.clear();
+  [/#if]
+  [#if grammar.faultTolerant]
+      // The caller could still be holding onto the old list.
+      if (!parsingProblems.isEmpty()) parsingProblems = new ArrayList<>();
+      pendingRecovery = false;
+      currentFollowSet = null;
+  [/#if]
+  }
+[#if grammar.parserPool]
+
+  // The most parsers that a thread's pool holds onto
+  static private final int MAX_POOLED_PARSERS = 4;
+
+  // The parsers that each thread has handed back and that are not in use.
+  static private final ThreadLocal<ArrayList<${grammar.parserClassName}>> pool = ThreadLocal.withInitial(ArrayList::new);
+
+  /**
+   * @param input the input
+   * @return a parser for the input, taken from the current thread's 
+   * pool if there is one there, and otherwise a new one. 
+   * @see #release()
+   */
+  public static ${grammar.parserClassName} acquire(CharSequence input) {
+      return acquire("input", input);
+  }
+
+  /**
+   * @param inputSource just the name of the input source (typically the filename) that 
+   * will be used in error messages and so on.
+   * @param input the input
+   * @return a parser for the input, taken from the current thread's 
+   * pool if there is one there, and otherwise a new one. 
+   * @see #release()
+   */
+  public static ${grammar.parserClassName} acquire(String inputSource, CharSequence input) {
+      ArrayList<${grammar.parserClassName}> parsers = pool.get();
+      if (parsers.isEmpty()) {
+          return new ${grammar.parserClassName}(inputSource, input);
+      }
+      ${grammar.parserClassName} parser = parsers.remove(parsers.size() -1);
+      parser.reset(inputSource, input);
+      return parser;
+  }
+
+  /**
+   * Hands this parser back to the current thread's pool, so that 
+   * #acquire can reuse it. Neither the parser nor the tree that it 
+   * built may be used after this. The parser lets go of its input 
+   * and tree right away, so that they can be garbage collected.
+   */
+  public void release() {
+      reset("");
+      ArrayList<${grammar.parserClassName}> parsers = pool.get();
+      if (parsers.size() < MAX_POOLED_PARSERS && !parsers.contains(this)) {
+          parsers.add(this);
+      }
+  }
+[/#if]
+
+  // If the next token is cached, it returns that
+  // Otherwise, it goes to the token_source, i.e. the Lexer.
+  final private Token nextToken(final Token tok) {
+    Token result = token_source.getNextToken(tok);
+    while (result.isUnparsed()) {
+     [#list grammar.parserTokenHooks as methodName] 
+      result = ${methodName}(result);
+     [/#list]
+      result = token_source.getNextToken(result);
+    }
+[#list grammar.parserTokenHooks as methodName] 
+    result = ${methodName}(result);
+[/#list]
+    nextTokenType=null;
+    return result;
+  }
+
+  /**
+   * @return the next Token off the stream. This is the same as #getToken(1)
+   */
+  final public Token getNextToken() {
+    return getToken(1);
+  }
+
+/**
+ * @param index how many tokens to look ahead
+ * @return the specific regular (i.e. parsed) Token index ahead/behind in the stream. 
+ * If we are in a lookahead, it looks ahead from the currentLookaheadToken
+ * Otherwise, it is the lastConsumedToken. If you pass in a negative
+ * number it goes backward.
+ */
+  final public Token getToken(final int index) {
+    Token t = currentLookaheadToken == null ? lastConsumedToken : currentLookaheadToken;
+    for (int i = 0; i < index; i++) {
+      t = nextToken(t);
+    }
+    for (int i = 0; i > index; i--) {
+      t = t.getPrevious();
+      if (t == null) break;
+    }
+    return t;
+  }
+
+  private String tokenImage(int n) {
+     return getToken(n).getImage();
+  }
+
+  private boolean checkNextTokenImage(String img) {
+    return img.contentEquals(getToken(1).getImageView());
+  }
+
+  private boolean checkNextTokenType(TokenType type) {
+    return getToken(1).getType() == type;
+  }
+
+  private final TokenType nextTokenType() {
+    if (nextTokenType == null) {
+       nextTokenType = nextToken(lastConsumedToken).getType();
+    }
+    return nextTokenType;
+  }
+
+  boolean activateTokenTypes(TokenType... types) {
+    boolean result = false;
+    for (TokenType tt : types) {
+      result |= token_source.activeTokenTypes.add(tt);
+    }
+    if (result) {
+      token_source.reset(getToken(0));
+      nextTokenType = null;
+    }
+    return result;
+  }
+
+
+  private void uncacheTokens() {
+      token_source.reset(getToken(0));
+  }
+
+  private void resetTo(LexicalState state) {
+    token_source.reset(getToken(0), state);
+  }
+
+  private void resetTo(Token tok, LexicalState state) {
+    token_source.reset(tok, state);
+  } 
+
+  boolean deactivateTokenTypes(TokenType... types) {
+    boolean result = false;
+    for (TokenType tt : types) {
+      result |= token_source.activeTokenTypes.remove(tt);
+    }
+    if (result) {
+        token_source.reset(getToken(0));
+        nextTokenType = null;
+    }
+    return result;
+  }
+
+  private void fail(String message) [#if grammar.useCheckedException] throws ParseException [/#if] 
+  {
+    if (currentLookaheadToken == null) {
+      throw new ParseException(this, message);
+    }
+    this.hitFailure = true;
+  }
+
+  /**
+   *Are we in the production of the given name, either scanning ahead or parsing?
+   */
+  private boolean isInProduction(String productionName, String... prods) {
+    if (currentlyParsedProduction != null) {
+      if (currentlyParsedProduction.equals(productionName)) return true;
+      for (String name : prods) {
+        if (currentlyParsedProduction.equals(name)) return true;
+      }
+    }
+    if (currentLookaheadProduction != null ) {
+      if (currentLookaheadProduction.equals(productionName)) return true;
+      for (String name : prods) {
+        if (currentLookaheadProduction.equals(name)) return true;
+      }
+    }
+    Iterator<String> it = stackIteratorBackward();
+    while (it.hasNext()) {
+      String name = it.next();
+      if (name.equals(productionName)) {
+        return true;
+      }
+      for (String prod : prods) {
+        if (name.equals(prod)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+[#if grammar.incrementalParsing]
+
+  /**
+   * Applies an edit to the input (see ${grammar.lexerClassName}#applyEdit) and brings
+   * the tree that was built by the last parse up to date. The smallest node 
+   * that encloses the tokens that changed, and whose production can be re-entered 
+   * on its own, is parsed anew and put in place of the old one. If the new node 
+   * does not cover exactly the same tokens, we try again with the node that 
+   * encloses that one. Note that this only works if what the productions do 
+   * does not depend on where they are called from.
+   * @return the root node, which is a new node if the whole input had to be 
+   * parsed again, or null if none of the nodes enclosing the edit can be 
+   * reparsed on its own, in which case the edited input needs a fresh parse.
+   */
+  public Node reparse(int offset, int removedLength, CharSequence insertedText) [#if grammar.useCheckedException] throws ParseException [/#if] {
+    Node root = rootNode();
+    if (root == null) {
+        throw new IllegalStateException("There is no tree to bring up to date.");
+    }
+    insertedText = token_source.mungeInsertedText(offset, removedLength, insertedText);
+    // This has to happen before the lexer applies the edit, since the tokens
+    // it still has cached are the ones it shifts itself.
+    // (Fully qualified, since a grammar could have a node class called Set.)
+    java.util.Set<Node> nodesCoveringEdit = Collections.newSetFromMap(new java.util.IdentityHashMap<>());
+    shiftNodeOffsets(root, offset, offset + removedLength, insertedText.length() - removedLength, nodesCoveringEdit);
+    if (root.getEndOffset() == offset) {
+        // Something was put after the end of the root, which has to
+        // cover it all the same, since the EOF token is in there.
+        root.setEndOffset(offset + insertedText.length());
+    }
+    token_source.applyMungedEdit(offset, removedLength, insertedText);
+    int damageStart = token_source.damageStart, damageEnd = token_source.damageEnd;
+    // The nodes enclosing the damaged range, from the root down
+    ArrayList<Node> enclosingNodes = new ArrayList<>();
+    for (Node node = root; node != null;) {
+        enclosingNodes.add(node);
+        Node enclosingChild = null;
+        for (Node child : node.children()) {
+            if (child.getBeginOffset() > damageStart) break;
+            if (nodesCoveringEdit.contains(child) && child.getEndOffset() >= damageEnd) {
+                enclosingChild = child;
+                break;
+            }
+        }
+        node = enclosingChild;
+    }
+    // Reparsing a node can reset the lexer, which throws away the cached 
+    // tokens after that point, so we put those back afterwards, and 
+    // before every new attempt.
+    token_source.saveTokenCache();
+    try {
+        for (int i = enclosingNodes.size() - 1; i >= 0; i--) {
+            Node node = enclosingNodes.get(i);
+            Node newNode = reparseNode(node, i == 0);
+            if (newNode == null) {
+                token_source.restoreTokenCache(0);
+                continue;
+            }
+            token_source.restoreTokenCache(newNode.getEndOffset());
+            if (i == 0) {
+                NodeScope rootScope = currentNodeScope;
+                while (rootScope.parentScope != null) rootScope = rootScope.parentScope;
+                rootScope.set(rootScope.indexOf(node), newNode);
+                return newNode;
+            }
+            node.getParent().replaceChild(node, newNode);
+            return root;
+        }
+        return null;
+    }
+    catch (ParseException e) {
+        token_source.restoreTokenCache(0);
+        throw e;
+    }
+    finally {
+        token_source.discardSavedTokenCache();
+    }
+  }
+
+  // Shift the offsets of the nodes by delta, where the edit replaced 
+  // [editStart, editEnd) in the old input. The lexer takes care of the tokens 
+  // it has cached after the edit, but the tree can have tokens that are not 
+  // cached any more, since they were scanned again after being put in the tree.
+  // The offsets of the nodes that begin or end inside the edit are only 
+  // approximate, but those get reparsed anyway. The nodes that 
+  // contained the whole edit are added to coveringNodes, since after the 
+  // shift, a node that ended at the start of a deletion cannot be told 
+  // apart from one that ended at the end of it.
+  private void shiftNodeOffsets(Node node, int editStart, int editEnd, int delta, java.util.Set<Node> coveringNodes) {
+    int begin = node.getBeginOffset(), end = node.getEndOffset();
+    if (begin >= editEnd) {
+        if (node instanceof Token && token_source.isCached((Token) node)) return;
+        node.setBeginOffset(begin + delta);
+        node.setEndOffset(end + delta);
+    } 
+    else if (end > editStart) {
+        if (begin <= editStart && end >= editEnd && !(node instanceof Token)) {
+            coveringNodes.add(node);
+        }
+        if (begin > editStart) node.setBeginOffset(editStart);
+        node.setEndOffset(Math.max(end, editEnd) + delta);
+    }
+    else return;
+    for (Node child : node.children()) {
+        shiftNodeOffsets(child, editStart, editEnd, delta, coveringNodes);
+    }
+  }
+
+  // Parse the input that the node covers again, using the production 
+  // that built it. Returns the new node, or null if the node can't be reparsed 
+  // that way or if the new node would not cover the same tokens.
+  // If the node is the root, any ParseException is just thrown.
+  private Node reparseNode(Node node, boolean isRoot) [#if grammar.useCheckedException] throws ParseException [/#if] {
+    Class<?> nodeClass = node.getClass();
+    // If code in the grammar added children to the node after it was
+    // built, the production would not build the same thing.
+    Node lastChild = node.getLastChild();
+    if (lastChild != null && lastChild.getEndOffset() > node.getEndOffset()) return null;
+    // The root is parsed from the very start, since the damage 
+    // could be before where it begins.
+    Token previous = isRoot ? null : token_source.previousCachedToken(node.getBeginOffset());
+    while (previous != null && previous.isUnparsed()) {
+        previous = previous.previousCachedToken();
+    }
+    Token prevLastConsumedToken = lastConsumedToken;
+    NodeScope prevNodeScope = currentNodeScope;
+    lastConsumedToken = previous != null ? previous : token_source.DUMMY_START_TOKEN;
+    nextTokenType = null;
+    currentNodeScope = null;
+    new NodeScope();
+    boolean succeeded = false;
+    try {
+        if (!reenterProduction(nodeClass)) return null;
+        if (currentNodeScope.size() != 1 || lastConsumedToken.getEndOffset() != node.getEndOffset()) return null;
+        Node result = currentNodeScope.get(0);
+        if (result.getClass() != nodeClass) return null;
+  [#if grammar.faultTolerant]
+        if (!isRoot && result.isDirty()) return null;
+  [/#if]
+        succeeded = true;
+        return result;
+    }
+    catch (ParseException e) {
+        if (isRoot) throw e;
+        return null;
+    }
+    finally {
+        currentNodeScope = prevNodeScope;
+        if (!succeeded || !isRoot) lastConsumedToken = prevLastConsumedToken;
+        nextTokenType = null;
+    }
+  }
+
+  // Call the production that builds nodes of this class, if there is
+  // one that can be re-entered. See Grammar#getReparseableProductions
+  private boolean reenterProduction(Class<?> nodeClass) [#if grammar.useCheckedException] throws ParseException [/#if] {
+  [#list grammar.reparseableProductions as production]
+    if (nodeClass == ${grammar.nodePrefix}${production.nodeName}.class) {
+        ${production.name}();
+        return true;
+    }
+  [/#list]
+    return false;
+  }
+[/#if]
+
+
+[#import "ParserProductions.java.ftl" as ParserCode]
+[@ParserCode.Productions /]
+[#import "LookaheadRoutines.java.ftl" as LookaheadCode]
+[@LookaheadCode.Generate/]
+ 
+[#embed "ErrorHandling.java.ftl"]
+
+[#if grammar.treeBuildingEnabled]
+   [#embed "TreeBuildingCode.java.ftl"]
+[#else]
+  public boolean isTreeBuildingEnabled() {
+    return false;
+  } 
+[/#if]
+}
+  
+}
+[#list grammar.otherParserCodeDeclarations as decl]
+//Generated from code at ${decl.location}
+   ${decl}
+[/#list]
+
@@ -0,0 +1,325 @@
+[#ftl strict_vars=true]
+[#--
+/* Copyright (c) 2008-2019 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors 
+ *       may be used to endorse or promote products derived from this software i
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+
+[#if grammar.treeBuildingDefault]
+    private boolean buildTree = true;
+[#else]
+    private boolean buildTree = false;
+[/#if]    
+[#if grammar.tokensAreNodes]
+    private boolean tokensAreNodes = true;
+[#else]
+    private boolean tokensAreNodes = false;
+[/#if]
+[#if grammar.unparsedTokensAreNodes]
+    private boolean unparsedTokensAreNodes = true;
+[#else]
+    private boolean unparsedTokensAreNodes = false;
+[/#if]
+
+    public boolean isTreeBuildingEnabled() {
+        return buildTree;
+    }
+
+    public void setUnparsedTokensAreNodes(boolean unparsedTokensAreNodes) {
+        this.unparsedTokensAreNodes = unparsedTokensAreNodes;
+    }
+    
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes = tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope = new NodeScope();
+    
+
+	/** 
+	 * @return the root node of the AST. It only makes sense to call
+	 * this after a successful parse. 
+	 */ 
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+    
+    /**
+     * push a node onto the top of the node stack
+     * @param n the node to push
+     */
+    public void pushNode(Node n) {
+        logNodeScopeChange(currentNodeScope, currentNodeScope.size(), null);
+        currentNodeScope.add(n);
+    }
+
+    /** 
+     * @return the node on the top of the stack, and remove it from the
+     * stack.  
+     */ 
+    public Node popNode() {
+       return currentNodeScope.pop();
+    }
+
+    /** 
+     * @return the node currently on the top of the tree-building stack. 
+     */ 
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+     * Puts the node on the top of the stack. However, unlike pushNode()
+     * it replaces the node that is currently on the top of the stack.
+     * This is effectively equivalent to popNode() followed by pushNode(n)
+     * @param n the node to poke
+     */
+    public void pokeNode(Node n) {
+      	currentNodeScope.poke(n);
+    }
+
+
+	/** 
+     * @return the number of Nodes on the tree-building stack in the current node
+	 * scope. 
+	 */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+
+    private void clearNodeScope() {
+        for (int i = currentNodeScope.size() -1; i >= 0; i--) {
+            logNodeScopeChange(currentNodeScope, i+1, currentNodeScope.get(i));
+        }
+        currentNodeScope.clear();
+    }
+
+    // A log of the changes made to the node scopes while there is 
+    // a stashed ParseState, so that we can undo them if we 
+    // backtrack. Each entry is the scope, its size before the change,
+    // and the node that was removed or replaced, if any.
+    private NodeScope[] undoScopes = new NodeScope[16];
+    private int[] undoSizes = new int[16];
+    private Node[] undoNodes = new Node[16];
+    private int undoLogLength;
+
+    private void logNodeScopeChange(NodeScope scope, int previousSize, Node removedNode) {
+        if (parseStateStack.isEmpty()) return;
+        if (undoLogLength == undoSizes.length) {
+            int newCapacity = undoLogLength*2;
+            undoScopes = Arrays.copyOf(undoScopes, newCapacity);
+            undoSizes = Arrays.copyOf(undoSizes, newCapacity);
+            undoNodes = Arrays.copyOf(undoNodes, newCapacity);
+        }
+        undoScopes[undoLogLength] = scope;
+        undoSizes[undoLogLength] = previousSize;
+        undoNodes[undoLogLength++] = removedNode;
+    }
+
+    private void undoNodeScopeChanges(int mark) {
+        while (undoLogLength > mark) {
+            --undoLogLength;
+            NodeScope scope = undoScopes[undoLogLength];
+            int previousSize = undoSizes[undoLogLength];
+            Node node = undoNodes[undoLogLength];
+            if (node == null) {
+                // Nodes were added
+                scope.subList(previousSize, scope.size()).clear();
+            } else if (scope.size() < previousSize) {
+                // A node was popped
+                scope.add(node);
+            } else {
+                // A node was poked
+                scope.set(previousSize -1, node);
+            }
+            undoScopes[undoLogLength] = null;
+            undoNodes[undoLogLength] = null;
+        }
+    }
+
+    private void clearUndoLog() {
+        Arrays.fill(undoScopes, 0, undoLogLength, null);
+        Arrays.fill(undoNodes, 0, undoLogLength, null);
+        undoLogLength = 0;
+    }
+    
+    private void openNodeScope(Node n) {
+        new NodeScope();
+        if (n!=null) {
+            Token next = nextToken(lastConsumedToken);
+            n.setTokenSource(lastConsumedToken.getTokenSource());
+            n.setBeginOffset(next.getBeginOffset());
+            n.open();
+  [#list grammar.openNodeScopeHooks as hook]
+            ${hook}(n);
+  [/#list]
+        }
+    }
+
+	/* A definite node is constructed from a specified number of
+	 * children.  That number of nodes are popped from the stack and
+	 * made the children of the definite node.  Then the definite node
+	 * is pushed on to the stack.
+	 */
+    private void closeNodeScope(Node n, int num) {
+        n.setEndOffset(lastConsumedToken.getEndOffset());
+        currentNodeScope.close();
+        ArrayList<Node> nodes = new ArrayList<Node>();
+        for (int i=0;i<num;i++) {
+           nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+            // FIXME deal with the UNPARSED_TOKENS_ARE_NODES case
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+ [#list grammar.closeNodeScopeHooks as hook]
+       ${hook}(n);
+[/#list]
+    }
+
+	/**
+	 * A conditional node is constructed if the condition is true.  All
+	 * the nodes that have been pushed since the node was opened are
+	 * made children of the conditional node, which is then pushed
+	 * on to the stack.  If the condition is false the node is not
+	 * constructed and they are left on the stack. 
+	 */
+    private void closeNodeScope(Node n, boolean condition) {
+        if (n!= null && condition) {
+            n.setEndOffset(lastConsumedToken.getEndOffset());
+            int a = nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node> nodes = new ArrayList<Node>();
+            while (a-- > 0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+                if (unparsedTokensAreNodes && child instanceof Token) {
+                    Token tok = (Token) child;
+                    while (tok.previousCachedToken() != null && tok.previousCachedToken().isUnparsed()) {
+                        tok = tok.previousCachedToken();
+                    }
+                    while (tok.isUnparsed()) {
+                        n.addChild(tok);
+                        tok = tok.nextCachedToken();
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            pushNode(n);
+[#list grammar.closeNodeScopeHooks as hook]
+           ${hook}(n);
+[/#list]
+        } else {
+            currentNodeScope.close();
+        }
+    }
+    
+    
+    public boolean getBuildTree() {
+    	return buildTree;
+    }
+    
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree = buildTree;
+    }
+
+    /**
+     * Just a kludge so that existing jjtree-based code that uses
+     * parser.jjtree.foo can work without change.
+     */
+    
+    ${grammar.parserClassName} jjtree = this; 
+    
+    
+    
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node> {
+        NodeScope parentScope;
+        NodeScope() {
+            this.parentScope = ${grammar.parserClassName}.this.currentNodeScope;
+            ${grammar.parserClassName}.this.currentNodeScope = this;
+        }
+
+        boolean isRootScope() {
+            return parentScope == null;
+        }
+
+        Node rootNode() {
+            NodeScope ns = this;
+            while (ns.parentScope != null) {
+                ns = ns. parentScope;
+            }
+            return ns.isEmpty() ? null : ns.get(0);
+        }
+
+        Node peek() {
+            if (isEmpty()) {
+                return parentScope == null ? null : parentScope.peek();
+
+            }
+            return get(size()-1);
+        }
+
+        Node pop() {
+            if (isEmpty()) return parentScope.pop();
+            Node result = remove(size()-1);
+            logNodeScopeChange(this, size()+1, result);
+            return result;
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            } else {
+                logNodeScopeChange(this, size(), set(size()-1, n));
+            }
+        }
+
+        void close() {
+            logNodeScopeChange(parentScope, parentScope.size(), null);
+            parentScope.addAll(this);
+            ${grammar.parserClassName}.this.currentNodeScope = parentScope;
+        }
+        
+        int nestingLevel() {
+            int result = 0;
+            NodeScope parent = this;
+            while (parent.parentScope != null) {
+               result++;
+               parent = parent.parentScope;
+            }
+            return result;            
+        }
+    }
+
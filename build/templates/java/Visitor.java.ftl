@@ -0,0 +1,106 @@
+[#ftl strict_vars=true]
+[#--
+/* Copyright (c) 2022 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name of Jonathan Revusky nor the names of any contributors 
+ *       may be used to endorse or promote products derived from this 
+ *       software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+/* Generated by: ${generated_by}. ${filename} */
+[#if grammar.parserPackage?has_content]
+package ${grammar.parserPackage};
+[/#if]
+
+[#var visitorInfo = grammar.utils.visitorClassInfo]
+[#if grammar.nodePackage?has_content && grammar.parserPackage! != grammar.nodePackage]
+  [#list visitorInfo?keys as className]
+    [#if className != "Token"]
+import ${grammar.nodePackage}.${className};
+    [/#if]
+  [/#list]
+[/#if]
+
+/**
+ * A visitor that is dispatched without reflection. Each Node gets 
+ * passed to the visit method for its own class via Node#accept(${grammar.visitorClassName}).
+ * If that is not overridden, it passes the node on to the visit methods
+ * for the Node interfaces the class implements, until it gets to one that 
+ * is overridden, and failing that, to the one for its superclass, which 
+ * goes on in the same way. That is the order that Node.Visitor looks in,
+ * so the same visit methods get called. If none of them is overridden, it
+ * just goes into the children.
+ * Unlike with Node.Visitor, the visit methods have to be public, but 
+ * they are otherwise written the same way.
+ */
+public abstract class ${grammar.visitorClassName} {
+
+    protected boolean visitUnparsedTokens;
+
+    // The node that a visit method for a class is passing on to the 
+    // one for an interface, and the node that the latter passed back,
+    // since it was not overridden.
+    private Node passingOn, passedBack;
+
+    public final void visit(Node node) {
+        node.accept(this);
+    }
+
+    /**
+     * Just recurses over (i.e. visits) node's children
+     * @param node the node we are traversing
+     */
+    public void recurse(Node node) {
+        for (Node child : node.children(visitUnparsedTokens)) {
+            visit(child);
+        }
+    }
+
+[#list visitorInfo?keys as className]
+  [#var info = visitorInfo[className]]
+    public void visit(${className} node) {
+  [#if info.interface]
+        if (node == passingOn) {
+            passingOn = null;
+            passedBack = node;
+        } else {
+            recurse(node);
+        }
+  [#else]
+    [#list info.interfaces as interfaceName]
+        passingOn = node;
+        visit((${interfaceName}) node);
+        if (passedBack != node) return;
+        passedBack = null;
+    [/#list]
+    [#if info.superclass?has_content]
+        visit((${info.superclass}) node);
+    [#else]
+        recurse(node);
+    [/#if]
+  [/#if]
+    }
+
+[/#list]
+}
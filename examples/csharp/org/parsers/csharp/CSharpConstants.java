@@ -0,0 +1,45 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. CSharpConstants.java */
+package org.parsers.csharp;
+
+
+public interface CSharpConstants {
+
+    /**
+    * The various token types. The first type EOF
+    * and the last type INVALID are auto-generated.
+    * They represent the end of input and invalid input
+    * respectively.
+    */
+    public enum TokenType {
+        EOF, WHITESPACE, MULTI_LINE_COMMENT, SINGLE_LINE_COMMENT, INTEGER_LITERAL, REAL_LITERAL, 
+        FALSE, TRUE, NULL, LPAREN, RPAREN, RBRACE, LBRACKET, RBRACKET, SEMICOLON, COMMA, GT, 
+        LT, BANG, TILDE, HOOK, DOUBLE_HOOK, DOUBLE_HOOK_EQUALS, COLON, EQ, LE, GE, NE, SC_OR, 
+        SC_AND, INCR, DECR, PLUS, MINUS, STAR, SLASH, BIT_AND, BIT_OR, HAT, REM, LEFT_SHIFT, 
+        PLUSASSIGN, MINUSASSIGN, STARASSIGN, SLASHASSIGN, ANDASSIGN, ORASSIGN, XORASSIGN, REMASSIGN, 
+        LEFT_SHIFT_ASSIGN, RIGHT_SHIFT, RIGHT_SHIFT_ASSIGN, ARROW, POINTER_ACCESS, ASSIGN, 
+        DOUBLE_COLON, DOT, RANGE, VAR_ARGS, AT, ABSTRACT, AS, BASE, BOOL, BREAK, BYTE, CASE, 
+        CATCH, CHAR, CHECKED, CLASS, CONST, CONTINUE, DECIMAL, DEFAULT, DELEGATE, DO, DOUBLE, 
+        DYNAMIC, ELSE, ENUM, EVENT, EXPLICIT, EXTERN, FINALLY, FIXED, FLOAT, FOR, FOREACH, 
+        GOTO, IF, IMPLICIT, IN, INT, INTERFACE, INTERNAL, IS, LOCK, LONG, NAMESPACE, NEW, OBJECT, 
+        OPERATOR, OUT, OVERRIDE, PARAMS, PRIVATE, PROTECTED, PUBLIC, READONLY, REF, RETURN, 
+        SBYTE, SEALED, SHORT, SIZEOF, STACKALLOC, STATIC, STRING, STRUCT, SWITCH, THIS, THROW, 
+        TRY, TYPEOF, UINT, ULONG, UNCHECKED, UNSAFE, USHORT, USING, VIRTUAL, VOID, VOLATILE, 
+        WHILE, ARGLIST, ADD, ASSEMBLY, ASYNC, AWAIT, GET, INIT, MODULE, NAMEOF, PARTIAL, RECORD, 
+        REMOVE, SET, VAR, WHEN, YIELD, AND, OR, NOT, WITH, ASCENDING, BY, DESCENDING, EQUALS, 
+        FROM, GROUP, INTO, JOIN, LET, ON, ORDERBY, SELECT, WHERE, IDENTIFIER, CHARACTER_LITERAL, 
+        REGULAR_STRING_LITERAL, VERBATIM_STRING_LITERAL, REGULAR_INTERPOLATION_START, MULTI_INTERPOLATION_START, 
+        NON_INTERPOLATED_TEXT, NON_INTERPOLATED_TEXT2, LBRACE, ENDING_QUOTE, HASH_IF, HASH_ELIF, 
+        HASH_ELSE, HASH_ENDIF, _TOKEN_182, HASH, INVALID
+    }
+
+
+    /**
+    * Lexical States
+    */
+    public enum LexicalState {
+        CSHARP, IN_REGULAR_INTERPOLATION, IN_MULTI_INTERPOLATION, IN_IGNORED_SECTION
+    }
+
+}
+
+
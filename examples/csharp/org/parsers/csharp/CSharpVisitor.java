@@ -0,0 +1,1406 @@
+/* Generated by: JavaCC 21 Parser Generator. CSharpVisitor.java */
+package org.parsers.csharp;
+
+import org.parsers.csharp.tree.AccessorBody;
+import org.parsers.csharp.tree.AccessorDeclaration;
+import org.parsers.csharp.tree.AddAccessorDeclaration;
+import org.parsers.csharp.tree.AdditiveExpression;
+import org.parsers.csharp.tree.AndExpression;
+import org.parsers.csharp.tree.AndPattern;
+import org.parsers.csharp.tree.AnonymousMethodExpression;
+import org.parsers.csharp.tree.AnonymousObjectCreationExpression;
+import org.parsers.csharp.tree.ArgListParameter;
+import org.parsers.csharp.tree.Argument;
+import org.parsers.csharp.tree.ArgumentList;
+import org.parsers.csharp.tree.ArrayCreationExpression;
+import org.parsers.csharp.tree.ArrayInitializer;
+import org.parsers.csharp.tree.AssignmentExpression;
+import org.parsers.csharp.tree.Attribute;
+import org.parsers.csharp.tree.AttributeArguments;
+import org.parsers.csharp.tree.AttributeList;
+import org.parsers.csharp.tree.AttributeSection;
+import org.parsers.csharp.tree.AwaitExpression;
+import org.parsers.csharp.tree.BaseAccess;
+import org.parsers.csharp.tree.Block;
+import org.parsers.csharp.tree.BooleanLiteral;
+import org.parsers.csharp.tree.BreakStatement;
+import org.parsers.csharp.tree.CastExpression;
+import org.parsers.csharp.tree.CatchClause;
+import org.parsers.csharp.tree.CharacterLiteral;
+import org.parsers.csharp.tree.CheckedExpression;
+import org.parsers.csharp.tree.CheckedStatement;
+import org.parsers.csharp.tree.ClassDeclaration;
+import org.parsers.csharp.tree.ClassMemberDeclaration;
+import org.parsers.csharp.tree.CollectionInitializer;
+import org.parsers.csharp.tree.Comment;
+import org.parsers.csharp.tree.CompilationUnit;
+import org.parsers.csharp.tree.ConditionalAndExpression;
+import org.parsers.csharp.tree.ConditionalExpression;
+import org.parsers.csharp.tree.ConditionalOrExpression;
+import org.parsers.csharp.tree.ConstantDeclaration;
+import org.parsers.csharp.tree.ConstantDeclarator;
+import org.parsers.csharp.tree.ConstructorDeclaration;
+import org.parsers.csharp.tree.ContinueStatement;
+import org.parsers.csharp.tree.DeclarationPattern;
+import org.parsers.csharp.tree.DefaultValueExpression;
+import org.parsers.csharp.tree.DelegateDeclaration;
+import org.parsers.csharp.tree.Delimiter;
+import org.parsers.csharp.tree.DestructorDeclaration;
+import org.parsers.csharp.tree.DoStatement;
+import org.parsers.csharp.tree.ENDING_QUOTE;
+import org.parsers.csharp.tree.ElementAccess;
+import org.parsers.csharp.tree.ElementInitializer;
+import org.parsers.csharp.tree.EmbeddedStatement;
+import org.parsers.csharp.tree.EmptyStatement;
+import org.parsers.csharp.tree.EnumDeclaration;
+import org.parsers.csharp.tree.EnumMemberDeclaration;
+import org.parsers.csharp.tree.EqualityExpression;
+import org.parsers.csharp.tree.EventDeclaration;
+import org.parsers.csharp.tree.ExclusiveOrExpression;
+import org.parsers.csharp.tree.ExplicitAnonymousFunctionParameter;
+import org.parsers.csharp.tree.ExplicitAnonymousFunctionSignature;
+import org.parsers.csharp.tree.ExplicitLambdaSignature;
+import org.parsers.csharp.tree.Expression;
+import org.parsers.csharp.tree.ExpressionStatement;
+import org.parsers.csharp.tree.ExternAliasDirective;
+import org.parsers.csharp.tree.FieldDeclaration;
+import org.parsers.csharp.tree.FileScopedNamespaceDeclaration;
+import org.parsers.csharp.tree.FinallyClause;
+import org.parsers.csharp.tree.FixedParameter;
+import org.parsers.csharp.tree.FixedPointerDeclarator;
+import org.parsers.csharp.tree.FixedStatement;
+import org.parsers.csharp.tree.ForStatement;
+import org.parsers.csharp.tree.ForeachStatement;
+import org.parsers.csharp.tree.FormalParameters;
+import org.parsers.csharp.tree.FromClause;
+import org.parsers.csharp.tree.FromEndIndex;
+import org.parsers.csharp.tree.GlobalAttributeSection;
+import org.parsers.csharp.tree.GotoStatement;
+import org.parsers.csharp.tree.GroupClause;
+import org.parsers.csharp.tree.HASH;
+import org.parsers.csharp.tree.HASH_ELIF;
+import org.parsers.csharp.tree.HASH_ELSE;
+import org.parsers.csharp.tree.HASH_ENDIF;
+import org.parsers.csharp.tree.HASH_IF;
+import org.parsers.csharp.tree.IDENTIFIER;
+import org.parsers.csharp.tree.IfStatement;
+import org.parsers.csharp.tree.ImplicitAnonymousFunctionSignature;
+import org.parsers.csharp.tree.InclusiveOrExpression;
+import org.parsers.csharp.tree.IndexerDeclaration;
+import org.parsers.csharp.tree.IntegerLiteral;
+import org.parsers.csharp.tree.InterfaceAccessor;
+import org.parsers.csharp.tree.InterfaceDeclaration;
+import org.parsers.csharp.tree.InterfaceEventDeclaration;
+import org.parsers.csharp.tree.InterfaceIndexerDeclaration;
+import org.parsers.csharp.tree.InterfaceMemberDeclaration;
+import org.parsers.csharp.tree.InterfaceMethodDeclaration;
+import org.parsers.csharp.tree.InterfacePropertyDeclaration;
+import org.parsers.csharp.tree.InterpolatedString;
+import org.parsers.csharp.tree.InvocationExpression;
+import org.parsers.csharp.tree.JoinClause;
+import org.parsers.csharp.tree.KeyWord;
+import org.parsers.csharp.tree.Label;
+import org.parsers.csharp.tree.LambdaExpression;
+import org.parsers.csharp.tree.LambdaLHS;
+import org.parsers.csharp.tree.LetClause;
+import org.parsers.csharp.tree.Literal;
+import org.parsers.csharp.tree.LiteralExpression;
+import org.parsers.csharp.tree.LocalConstantDeclaration;
+import org.parsers.csharp.tree.LocalVariableDeclaration;
+import org.parsers.csharp.tree.LocalVariableDeclarator;
+import org.parsers.csharp.tree.LocalVariableInitializer;
+import org.parsers.csharp.tree.LockStatement;
+import org.parsers.csharp.tree.MemberAccess;
+import org.parsers.csharp.tree.MemberDeclarator;
+import org.parsers.csharp.tree.MemberInitializer;
+import org.parsers.csharp.tree.MethodBody;
+import org.parsers.csharp.tree.MethodDeclaration;
+import org.parsers.csharp.tree.MultiNonInterpolatedText;
+import org.parsers.csharp.tree.MultiStringInterpolation;
+import org.parsers.csharp.tree.MultiplicativeExpression;
+import org.parsers.csharp.tree.NON_INTERPOLATED_TEXT;
+import org.parsers.csharp.tree.NON_INTERPOLATED_TEXT2;
+import org.parsers.csharp.tree.Name;
+import org.parsers.csharp.tree.NamedArgument;
+import org.parsers.csharp.tree.NamedEntity;
+import org.parsers.csharp.tree.NameofExpression;
+import org.parsers.csharp.tree.NamespaceBody;
+import org.parsers.csharp.tree.NamespaceDeclaration;
+import org.parsers.csharp.tree.NoVarDeclaration;
+import org.parsers.csharp.tree.NonNullableType;
+import org.parsers.csharp.tree.NonTupleType;
+import org.parsers.csharp.tree.NotPattern;
+import org.parsers.csharp.tree.NullCoalescingExpression;
+import org.parsers.csharp.tree.NullConditionalExpression;
+import org.parsers.csharp.tree.NullConditionalOperations;
+import org.parsers.csharp.tree.NullForgivingExpression;
+import org.parsers.csharp.tree.NullLiteral;
+import org.parsers.csharp.tree.ObjectCreationExpression;
+import org.parsers.csharp.tree.ObjectInitializer;
+import org.parsers.csharp.tree.Operator;
+import org.parsers.csharp.tree.OperatorDeclaration;
+import org.parsers.csharp.tree.OrPattern;
+import org.parsers.csharp.tree.OrderbyClause;
+import org.parsers.csharp.tree.ParameterArray;
+import org.parsers.csharp.tree.ParenthesizedExpression;
+import org.parsers.csharp.tree.ParenthesizedPattern;
+import org.parsers.csharp.tree.Pattern;
+import org.parsers.csharp.tree.PlaceHolder;
+import org.parsers.csharp.tree.PointerMemberAccess;
+import org.parsers.csharp.tree.PositionalPattern;
+import org.parsers.csharp.tree.PostDecrementExpression;
+import org.parsers.csharp.tree.PostIncrementExpression;
+import org.parsers.csharp.tree.PreDecrementExpression;
+import org.parsers.csharp.tree.PreIncrementExpression;
+import org.parsers.csharp.tree.PrimaryPattern;
+import org.parsers.csharp.tree.PrimitiveType;
+import org.parsers.csharp.tree.PrimitiveTypeAccess;
+import org.parsers.csharp.tree.PropertyBody;
+import org.parsers.csharp.tree.PropertyDeclaration;
+import org.parsers.csharp.tree.PropertyPattern;
+import org.parsers.csharp.tree.PropertySubPattern;
+import org.parsers.csharp.tree.QualifiedAliasMember;
+import org.parsers.csharp.tree.QualifiedAliasMemberAccess;
+import org.parsers.csharp.tree.QualifiedIdentifier;
+import org.parsers.csharp.tree.QueryBody;
+import org.parsers.csharp.tree.QueryBodyClause;
+import org.parsers.csharp.tree.QueryExpression;
+import org.parsers.csharp.tree.RangeExpression;
+import org.parsers.csharp.tree.RankSpecifier;
+import org.parsers.csharp.tree.RealLiteral;
+import org.parsers.csharp.tree.RecordDeclaration;
+import org.parsers.csharp.tree.RegularNonInterpolatedText;
+import org.parsers.csharp.tree.RegularStringInterpolation;
+import org.parsers.csharp.tree.RelationalExpression;
+import org.parsers.csharp.tree.RelationalPattern;
+import org.parsers.csharp.tree.RemoveAccessorDeclaration;
+import org.parsers.csharp.tree.ReturnStatement;
+import org.parsers.csharp.tree.ReturnType;
+import org.parsers.csharp.tree.SelectClause;
+import org.parsers.csharp.tree.ShiftExpression;
+import org.parsers.csharp.tree.SimpleName;
+import org.parsers.csharp.tree.SizeofExpression;
+import org.parsers.csharp.tree.StackAllocInitializer;
+import org.parsers.csharp.tree.Statement;
+import org.parsers.csharp.tree.StatementExpression;
+import org.parsers.csharp.tree.StaticConstructorDeclaration;
+import org.parsers.csharp.tree.StringLiteral;
+import org.parsers.csharp.tree.StructDeclaration;
+import org.parsers.csharp.tree.StructMemberDeclarationUnsafe;
+import org.parsers.csharp.tree.SubPatterns;
+import org.parsers.csharp.tree.SwitchBlock;
+import org.parsers.csharp.tree.SwitchExpression;
+import org.parsers.csharp.tree.SwitchExpressionCase;
+import org.parsers.csharp.tree.SwitchLabel;
+import org.parsers.csharp.tree.SwitchSection;
+import org.parsers.csharp.tree.SwitchStatement;
+import org.parsers.csharp.tree.This;
+import org.parsers.csharp.tree.ThrowExpression;
+import org.parsers.csharp.tree.ThrowStatement;
+import org.parsers.csharp.tree.TryStatement;
+import org.parsers.csharp.tree.Tuple;
+import org.parsers.csharp.tree.TupleElement;
+import org.parsers.csharp.tree.TupleType;
+import org.parsers.csharp.tree.Type;
+import org.parsers.csharp.tree.TypeArgumentList;
+import org.parsers.csharp.tree.TypeDeclaration;
+import org.parsers.csharp.tree.TypeParameterConstraint;
+import org.parsers.csharp.tree.TypeParameterConstraints;
+import org.parsers.csharp.tree.TypeParameterList;
+import org.parsers.csharp.tree.TypePattern;
+import org.parsers.csharp.tree.TypeofExpression;
+import org.parsers.csharp.tree.UnaryExpression;
+import org.parsers.csharp.tree.UnaryExpressionNotPlusMinus;
+import org.parsers.csharp.tree.UnaryExpressionPlusOrMinus;
+import org.parsers.csharp.tree.UnaryExpressionUnsafe;
+import org.parsers.csharp.tree.UnboundTypeName;
+import org.parsers.csharp.tree.UncheckedExpression;
+import org.parsers.csharp.tree.UncheckedStatement;
+import org.parsers.csharp.tree.UnsafeStatement;
+import org.parsers.csharp.tree.UsingAliasDirective;
+import org.parsers.csharp.tree.UsingDirective;
+import org.parsers.csharp.tree.UsingNamespaceDirective;
+import org.parsers.csharp.tree.UsingStatement;
+import org.parsers.csharp.tree.UsingStaticDirective;
+import org.parsers.csharp.tree.VarDeclaration;
+import org.parsers.csharp.tree.VarPattern;
+import org.parsers.csharp.tree.VariableDeclarator;
+import org.parsers.csharp.tree.VariableInitializer;
+import org.parsers.csharp.tree.WhenClause;
+import org.parsers.csharp.tree.WhereClause;
+import org.parsers.csharp.tree.WhileStatement;
+import org.parsers.csharp.tree.Whitespace;
+import org.parsers.csharp.tree.WithExpression;
+import org.parsers.csharp.tree.YieldStatement;
+
+
+/**
+* A visitor that is dispatched without reflection. Each Node gets
+* passed to the visit method for its own class via Node#accept(CSharpVisitor).
+* If that is not overridden, it passes the node on to the visit methods
+* for the Node interfaces the class implements, until it gets to one that
+* is overridden, and failing that, to the one for its superclass, which
+* goes on in the same way. That is the order that Node.Visitor looks in,
+* so the same visit methods get called. If none of them is overridden, it
+* just goes into the children.
+* Unlike with Node.Visitor, the visit methods have to be public, but
+* they are otherwise written the same way.
+*/
+public abstract class CSharpVisitor {
+    protected boolean visitUnparsedTokens;
+    // The node that a visit method for a class is passing on to the
+    // one for an interface, and the node that the latter passed back,
+    // since it was not overridden.
+    private Node passingOn, passedBack;
+
+    public final void visit(Node node) {
+        node.accept(this);
+    }
+
+    /**
+    * Just recurses over (i.e. visits) node's children
+    * @param node the node we are traversing
+    */
+    public void recurse(Node node) {
+        for (Node child : node.children(visitUnparsedTokens)) {
+            visit(child);
+        }
+    }
+
+    public void visit(AccessorBody node) {
+        recurse(node);
+    }
+
+    public void visit(AccessorDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(AddAccessorDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(AdditiveExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(AndExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(AndPattern node) {
+        recurse(node);
+    }
+
+    public void visit(AnonymousMethodExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(AnonymousObjectCreationExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ArgListParameter node) {
+        recurse(node);
+    }
+
+    public void visit(Argument node) {
+        recurse(node);
+    }
+
+    public void visit(ArgumentList node) {
+        recurse(node);
+    }
+
+    public void visit(ArrayCreationExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ArrayInitializer node) {
+        recurse(node);
+    }
+
+    public void visit(AssignmentExpression node) {
+        passingOn = node;
+        visit((StatementExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(Attribute node) {
+        recurse(node);
+    }
+
+    public void visit(AttributeArguments node) {
+        recurse(node);
+    }
+
+    public void visit(AttributeList node) {
+        recurse(node);
+    }
+
+    public void visit(AttributeSection node) {
+        recurse(node);
+    }
+
+    public void visit(AwaitExpression node) {
+        passingOn = node;
+        visit((StatementExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        visit((UnaryExpression) node);
+    }
+
+    public void visit(BaseAccess node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(Block node) {
+        recurse(node);
+    }
+
+    public void visit(BooleanLiteral node) {
+        visit((Literal) node);
+    }
+
+    public void visit(BreakStatement node) {
+        recurse(node);
+    }
+
+    public void visit(CastExpression node) {
+        visit((UnaryExpression) node);
+    }
+
+    public void visit(CatchClause node) {
+        recurse(node);
+    }
+
+    public void visit(CharacterLiteral node) {
+        visit((Literal) node);
+    }
+
+    public void visit(CheckedExpression node) {
+        passingOn = node;
+        visit((StatementExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(CheckedStatement node) {
+        recurse(node);
+    }
+
+    public void visit(ClassDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(ClassMemberDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(CollectionInitializer node) {
+        recurse(node);
+    }
+
+    public void visit(Comment node) {
+        visit((Token) node);
+    }
+
+    public void visit(CompilationUnit node) {
+        recurse(node);
+    }
+
+    public void visit(ConditionalAndExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ConditionalExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ConditionalOrExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ConstantDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(ConstantDeclarator node) {
+        recurse(node);
+    }
+
+    public void visit(ConstructorDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(ContinueStatement node) {
+        recurse(node);
+    }
+
+    public void visit(DeclarationPattern node) {
+        recurse(node);
+    }
+
+    public void visit(DefaultValueExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(DelegateDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(Delimiter node) {
+        visit((Token) node);
+    }
+
+    public void visit(DestructorDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(DoStatement node) {
+        recurse(node);
+    }
+
+    public void visit(ENDING_QUOTE node) {
+        visit((Token) node);
+    }
+
+    public void visit(ElementAccess node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ElementInitializer node) {
+        recurse(node);
+    }
+
+    public void visit(EmbeddedStatement node) {
+        recurse(node);
+    }
+
+    public void visit(EmptyStatement node) {
+        recurse(node);
+    }
+
+    public void visit(EnumDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(EnumMemberDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(EqualityExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(EventDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(ExclusiveOrExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ExplicitAnonymousFunctionParameter node) {
+        recurse(node);
+    }
+
+    public void visit(ExplicitAnonymousFunctionSignature node) {
+        recurse(node);
+    }
+
+    public void visit(ExplicitLambdaSignature node) {
+        recurse(node);
+    }
+
+    public void visit(Expression node) {
+        if (node == passingOn) {
+            passingOn = null;
+            passedBack = node;
+        } else {
+            recurse(node);
+        }
+    }
+
+    public void visit(ExpressionStatement node) {
+        recurse(node);
+    }
+
+    public void visit(ExternAliasDirective node) {
+        recurse(node);
+    }
+
+    public void visit(FieldDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(FileScopedNamespaceDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(FinallyClause node) {
+        recurse(node);
+    }
+
+    public void visit(FixedParameter node) {
+        recurse(node);
+    }
+
+    public void visit(FixedPointerDeclarator node) {
+        recurse(node);
+    }
+
+    public void visit(FixedStatement node) {
+        recurse(node);
+    }
+
+    public void visit(ForStatement node) {
+        recurse(node);
+    }
+
+    public void visit(ForeachStatement node) {
+        recurse(node);
+    }
+
+    public void visit(FormalParameters node) {
+        recurse(node);
+    }
+
+    public void visit(FromClause node) {
+        recurse(node);
+    }
+
+    public void visit(FromEndIndex node) {
+        visit((UnaryExpression) node);
+    }
+
+    public void visit(GlobalAttributeSection node) {
+        recurse(node);
+    }
+
+    public void visit(GotoStatement node) {
+        recurse(node);
+    }
+
+    public void visit(GroupClause node) {
+        recurse(node);
+    }
+
+    public void visit(HASH node) {
+        visit((Token) node);
+    }
+
+    public void visit(HASH_ELIF node) {
+        visit((Token) node);
+    }
+
+    public void visit(HASH_ELSE node) {
+        visit((Token) node);
+    }
+
+    public void visit(HASH_ENDIF node) {
+        visit((Token) node);
+    }
+
+    public void visit(HASH_IF node) {
+        visit((Token) node);
+    }
+
+    public void visit(IDENTIFIER node) {
+        visit((Token) node);
+    }
+
+    public void visit(IfStatement node) {
+        recurse(node);
+    }
+
+    public void visit(ImplicitAnonymousFunctionSignature node) {
+        recurse(node);
+    }
+
+    public void visit(InclusiveOrExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(IndexerDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(IntegerLiteral node) {
+        visit((Literal) node);
+    }
+
+    public void visit(InterfaceAccessor node) {
+        recurse(node);
+    }
+
+    public void visit(InterfaceDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(InterfaceEventDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(InterfaceIndexerDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(InterfaceMemberDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(InterfaceMethodDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(InterfacePropertyDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(InterpolatedString node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(InvocationExpression node) {
+        passingOn = node;
+        visit((StatementExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(JoinClause node) {
+        recurse(node);
+    }
+
+    public void visit(KeyWord node) {
+        visit((Token) node);
+    }
+
+    public void visit(Label node) {
+        recurse(node);
+    }
+
+    public void visit(LambdaExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(LambdaLHS node) {
+        recurse(node);
+    }
+
+    public void visit(LetClause node) {
+        recurse(node);
+    }
+
+    public void visit(Literal node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        visit((Token) node);
+    }
+
+    public void visit(LiteralExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(LocalConstantDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(LocalVariableDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(LocalVariableDeclarator node) {
+        recurse(node);
+    }
+
+    public void visit(LocalVariableInitializer node) {
+        recurse(node);
+    }
+
+    public void visit(LockStatement node) {
+        recurse(node);
+    }
+
+    public void visit(MemberAccess node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(MemberDeclarator node) {
+        recurse(node);
+    }
+
+    public void visit(MemberInitializer node) {
+        recurse(node);
+    }
+
+    public void visit(MethodBody node) {
+        recurse(node);
+    }
+
+    public void visit(MethodDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(MultiNonInterpolatedText node) {
+        recurse(node);
+    }
+
+    public void visit(MultiStringInterpolation node) {
+        visit((InterpolatedString) node);
+    }
+
+    public void visit(MultiplicativeExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(NON_INTERPOLATED_TEXT node) {
+        visit((Token) node);
+    }
+
+    public void visit(NON_INTERPOLATED_TEXT2 node) {
+        visit((Token) node);
+    }
+
+    public void visit(Name node) {
+        recurse(node);
+    }
+
+    public void visit(NamedArgument node) {
+        recurse(node);
+    }
+
+    public void visit(NamedEntity node) {
+        recurse(node);
+    }
+
+    public void visit(NameofExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(NamespaceBody node) {
+        recurse(node);
+    }
+
+    public void visit(NamespaceDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(NoVarDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(NonNullableType node) {
+        recurse(node);
+    }
+
+    public void visit(NonTupleType node) {
+        recurse(node);
+    }
+
+    public void visit(NotPattern node) {
+        recurse(node);
+    }
+
+    public void visit(NullCoalescingExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(NullConditionalExpression node) {
+        visit((UnaryExpression) node);
+    }
+
+    public void visit(NullConditionalOperations node) {
+        recurse(node);
+    }
+
+    public void visit(NullForgivingExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(NullLiteral node) {
+        visit((Literal) node);
+    }
+
+    public void visit(ObjectCreationExpression node) {
+        passingOn = node;
+        visit((StatementExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ObjectInitializer node) {
+        recurse(node);
+    }
+
+    public void visit(Operator node) {
+        visit((Token) node);
+    }
+
+    public void visit(OperatorDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(OrPattern node) {
+        recurse(node);
+    }
+
+    public void visit(OrderbyClause node) {
+        recurse(node);
+    }
+
+    public void visit(ParameterArray node) {
+        recurse(node);
+    }
+
+    public void visit(ParenthesizedExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ParenthesizedPattern node) {
+        recurse(node);
+    }
+
+    public void visit(Pattern node) {
+        recurse(node);
+    }
+
+    public void visit(PlaceHolder node) {
+        recurse(node);
+    }
+
+    public void visit(PointerMemberAccess node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(PositionalPattern node) {
+        recurse(node);
+    }
+
+    public void visit(PostDecrementExpression node) {
+        passingOn = node;
+        visit((StatementExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        visit((UnaryExpression) node);
+    }
+
+    public void visit(PostIncrementExpression node) {
+        passingOn = node;
+        visit((StatementExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        visit((UnaryExpression) node);
+    }
+
+    public void visit(PreDecrementExpression node) {
+        passingOn = node;
+        visit((StatementExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        visit((UnaryExpression) node);
+    }
+
+    public void visit(PreIncrementExpression node) {
+        passingOn = node;
+        visit((StatementExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        visit((UnaryExpression) node);
+    }
+
+    public void visit(PrimaryPattern node) {
+        recurse(node);
+    }
+
+    public void visit(PrimitiveType node) {
+        visit((KeyWord) node);
+    }
+
+    public void visit(PrimitiveTypeAccess node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(PropertyBody node) {
+        recurse(node);
+    }
+
+    public void visit(PropertyDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(PropertyPattern node) {
+        recurse(node);
+    }
+
+    public void visit(PropertySubPattern node) {
+        recurse(node);
+    }
+
+    public void visit(QualifiedAliasMember node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(QualifiedAliasMemberAccess node) {
+        recurse(node);
+    }
+
+    public void visit(QualifiedIdentifier node) {
+        recurse(node);
+    }
+
+    public void visit(QueryBody node) {
+        recurse(node);
+    }
+
+    public void visit(QueryBodyClause node) {
+        recurse(node);
+    }
+
+    public void visit(QueryExpression node) {
+        recurse(node);
+    }
+
+    public void visit(RangeExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(RankSpecifier node) {
+        recurse(node);
+    }
+
+    public void visit(RealLiteral node) {
+        visit((Literal) node);
+    }
+
+    public void visit(RecordDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(RegularNonInterpolatedText node) {
+        recurse(node);
+    }
+
+    public void visit(RegularStringInterpolation node) {
+        visit((InterpolatedString) node);
+    }
+
+    public void visit(RelationalExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(RelationalPattern node) {
+        recurse(node);
+    }
+
+    public void visit(RemoveAccessorDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(ReturnStatement node) {
+        recurse(node);
+    }
+
+    public void visit(ReturnType node) {
+        recurse(node);
+    }
+
+    public void visit(SelectClause node) {
+        recurse(node);
+    }
+
+    public void visit(ShiftExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(SimpleName node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(SizeofExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(StackAllocInitializer node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(Statement node) {
+        recurse(node);
+    }
+
+    public void visit(StatementExpression node) {
+        if (node == passingOn) {
+            passingOn = null;
+            passedBack = node;
+        } else {
+            recurse(node);
+        }
+    }
+
+    public void visit(StaticConstructorDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(StringLiteral node) {
+        visit((Literal) node);
+    }
+
+    public void visit(StructDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(StructMemberDeclarationUnsafe node) {
+        recurse(node);
+    }
+
+    public void visit(SubPatterns node) {
+        recurse(node);
+    }
+
+    public void visit(SwitchBlock node) {
+        recurse(node);
+    }
+
+    public void visit(SwitchExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(SwitchExpressionCase node) {
+        recurse(node);
+    }
+
+    public void visit(SwitchLabel node) {
+        recurse(node);
+    }
+
+    public void visit(SwitchSection node) {
+        recurse(node);
+    }
+
+    public void visit(SwitchStatement node) {
+        recurse(node);
+    }
+
+    public void visit(This node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ThrowExpression node) {
+        visit((UnaryExpression) node);
+    }
+
+    public void visit(ThrowStatement node) {
+        recurse(node);
+    }
+
+    public void visit(Token node) {
+        recurse(node);
+    }
+
+    public void visit(TryStatement node) {
+        recurse(node);
+    }
+
+    public void visit(Tuple node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(TupleElement node) {
+        recurse(node);
+    }
+
+    public void visit(TupleType node) {
+        recurse(node);
+    }
+
+    public void visit(Type node) {
+        recurse(node);
+    }
+
+    public void visit(TypeArgumentList node) {
+        recurse(node);
+    }
+
+    public void visit(TypeDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(TypeParameterConstraint node) {
+        recurse(node);
+    }
+
+    public void visit(TypeParameterConstraints node) {
+        recurse(node);
+    }
+
+    public void visit(TypeParameterList node) {
+        recurse(node);
+    }
+
+    public void visit(TypePattern node) {
+        recurse(node);
+    }
+
+    public void visit(TypeofExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(UnaryExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(UnaryExpressionNotPlusMinus node) {
+        visit((UnaryExpression) node);
+    }
+
+    public void visit(UnaryExpressionPlusOrMinus node) {
+        visit((UnaryExpression) node);
+    }
+
+    public void visit(UnaryExpressionUnsafe node) {
+        visit((UnaryExpression) node);
+    }
+
+    public void visit(UnboundTypeName node) {
+        recurse(node);
+    }
+
+    public void visit(UncheckedExpression node) {
+        passingOn = node;
+        visit((StatementExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(UncheckedStatement node) {
+        recurse(node);
+    }
+
+    public void visit(UnsafeStatement node) {
+        recurse(node);
+    }
+
+    public void visit(UsingAliasDirective node) {
+        recurse(node);
+    }
+
+    public void visit(UsingDirective node) {
+        recurse(node);
+    }
+
+    public void visit(UsingNamespaceDirective node) {
+        recurse(node);
+    }
+
+    public void visit(UsingStatement node) {
+        recurse(node);
+    }
+
+    public void visit(UsingStaticDirective node) {
+        recurse(node);
+    }
+
+    public void visit(VarDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(VarPattern node) {
+        recurse(node);
+    }
+
+    public void visit(VariableDeclarator node) {
+        recurse(node);
+    }
+
+    public void visit(VariableInitializer node) {
+        recurse(node);
+    }
+
+    public void visit(WhenClause node) {
+        recurse(node);
+    }
+
+    public void visit(WhereClause node) {
+        recurse(node);
+    }
+
+    public void visit(WhileStatement node) {
+        recurse(node);
+    }
+
+    public void visit(Whitespace node) {
+        visit((Token) node);
+    }
+
+    public void visit(WithExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(YieldStatement node) {
+        recurse(node);
+    }
+
+}
+
+
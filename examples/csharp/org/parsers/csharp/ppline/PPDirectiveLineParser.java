@@ -0,0 +1,824 @@
+/* Generated by: JavaCC 21 Parser Generator. PPDirectiveLineParser.java */
+package org.parsers.csharp.ppline;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.concurrent.CancellationException;
+import static org.parsers.csharp.ppline.PPDirectiveLineConstants.TokenType.*;
+import java.util.HashSet;
+import java.util.Set;
+
+
+public class PPDirectiveLineParser implements PPDirectiveLineConstants {
+    private Set<String> symbols = new HashSet<String>();
+
+    static public Info evaluate(String input, Set<String> symbols) {
+        PPDirectiveLineParser parser = new PPDirectiveLineParser(input);
+        parser.symbols = symbols;
+        try {
+            return parser.DirectiveLine();
+        } catch (ParseException e) {
+        }
+        return new Info(DirectiveType.UNKNOWN, false);
+    }
+
+
+    public enum DirectiveType {
+        IF, ELIF, ELSE, ENDIF, DEFINE, UNDEF, IGNORED, UNKNOWN;
+    }
+
+
+    static public class Info {
+        public final DirectiveType directiveType;
+        public final boolean evaluationResult;
+
+        Info(DirectiveType directiveType, boolean evaluationResult) {
+            this.directiveType = directiveType;
+            this.evaluationResult = evaluationResult;
+        }
+
+    }
+
+    static final int UNLIMITED = Integer.MAX_VALUE;
+    // The last token successfully "consumed"
+    Token lastConsumedToken;
+    private TokenType nextTokenType;
+    private Token currentLookaheadToken;
+    private int remainingLookahead;
+    private boolean hitFailure, passedPredicate;
+    private String currentlyParsedProduction, currentLookaheadProduction;
+    private int lookaheadRoutineNesting, passedPredicateThreshold = -1;
+    private EnumSet<TokenType> outerFollowSet;
+    private boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public PPDirectiveLineLexer token_source;
+
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public PPDirectiveLineParser(String inputSource, CharSequence content) {
+        this(new PPDirectiveLineLexer(inputSource, content));
+    }
+
+    public PPDirectiveLineParser(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public PPDirectiveLineParser(String inputSource, Path path) throws IOException {
+        this(inputSource, PPDirectiveLineLexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    public PPDirectiveLineParser(String inputSource, Path path, Charset charset) throws IOException {
+        this(inputSource, PPDirectiveLineLexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public PPDirectiveLineParser(Path path) throws IOException {
+        this(path.toString(), path);
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public PPDirectiveLineParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public PPDirectiveLineParser(Reader reader) {
+        this(new PPDirectiveLineLexer("input", reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public PPDirectiveLineParser(PPDirectiveLineLexer lexer) {
+        token_source = lexer;
+        lastConsumedToken = lexer.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(lexer);
+    }
+
+    /**
+    * Makes this parser ready to parse new input, as if it had just been
+    * constructed with it, but reusing the stacks that it (and its lexer)
+    * already has. See PPDirectiveLineLexer#reset(CharSequence).
+    * The tree built from the previous input must not be used after this.
+    * Note that any fields that code injected into this class adds are
+    * left alone.
+    * @param input the new input
+    */
+    public void reset(CharSequence input) {
+        reset("input", input);
+    }
+
+    /**
+    * @see #reset(CharSequence)
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param input the new input
+    */
+    public void reset(String inputSource, CharSequence input) {
+        token_source.reset(inputSource, input);
+        lastConsumedToken = token_source.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(token_source);
+        nextTokenType = null;
+        currentLookaheadToken = null;
+        remainingLookahead = 0;
+        hitFailure = passedPredicate = false;
+        currentlyParsedProduction = currentLookaheadProduction = null;
+        lookaheadRoutineNesting = 0;
+        passedPredicateThreshold = -1;
+        outerFollowSet = null;
+        cancelled = false;
+        parsingStack.truncate(0);
+        lookaheadStack.truncate(0);
+        parseStateStack.clear();
+    }
+
+    // If the next token is cached, it returns that
+    // Otherwise, it goes to the token_source, i.e. the Lexer.
+    final private Token nextToken(final Token tok) {
+        Token result = token_source.getNextToken(tok);
+        while (result.isUnparsed()) {
+            result = token_source.getNextToken(result);
+        }
+        nextTokenType = null;
+        return result;
+    }
+
+    /**
+    * @return the next Token off the stream. This is the same as #getToken(1)
+    */
+    final public Token getNextToken() {
+        return getToken(1);
+    }
+
+    /**
+    * @param index how many tokens to look ahead
+    * @return the specific regular (i.e. parsed) Token index ahead/behind in the stream.
+    * If we are in a lookahead, it looks ahead from the currentLookaheadToken
+    * Otherwise, it is the lastConsumedToken. If you pass in a negative
+    * number it goes backward.
+    */
+    final public Token getToken(final int index) {
+        Token t = currentLookaheadToken == null ? lastConsumedToken : currentLookaheadToken;
+        for (int i = 0; i < index; i++) {
+            t = nextToken(t);
+        }
+        for (int i = 0; i > index; i--) {
+            t = t.getPrevious();
+            if (t == null) break;
+        }
+        return t;
+    }
+
+    private final TokenType nextTokenType() {
+        if (nextTokenType == null) {
+            nextTokenType = nextToken(lastConsumedToken).getType();
+        }
+        return nextTokenType;
+    }
+
+    boolean activateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result |= token_source.activeTokenTypes.add(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    boolean deactivateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result |= token_source.activeTokenTypes.remove(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    //=================================
+    // Start of methods for BNF Productions
+    //This code is generated by the ParserProductions.java.ftl template.
+    //=================================
+    static private final EnumSet<TokenType> DirectiveLine_FIRST_SET = EnumSet.of(IF, ELIF, 
+    DEFINE, ELSE, ENDIF, IGNORED_DIRECTIVE, UNKNOWN_DIRECTIVE);
+
+    // PPDirectiveLine.javacc:90:1
+    final public Info DirectiveLine() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "DirectiveLine";
+        boolean result = false;
+        DirectiveType directiveType = DirectiveType.UNKNOWN;
+        switch(nextTokenType()) {
+            case IF : 
+                // Code for NonTerminal specified at PPDirectiveLine.javacc:96:8
+                pushOntoCallStack("DirectiveLine", "PPDirectiveLine.javacc", 96, 8);
+                try {
+                    result = IfDirective();
+                } finally {
+                    popCallStack();
+                }
+                // Code for CodeBlock specified at PPDirectiveLine.javacc:96:29
+                directiveType = DirectiveType.IF;
+                break;
+            case ELIF : 
+                // Code for NonTerminal specified at PPDirectiveLine.javacc:98:8
+                pushOntoCallStack("DirectiveLine", "PPDirectiveLine.javacc", 98, 8);
+                try {
+                    result = ElifDirective();
+                } finally {
+                    popCallStack();
+                }
+                // Code for CodeBlock specified at PPDirectiveLine.javacc:98:31
+                directiveType = DirectiveType.ELIF;
+                break;
+            case ELSE : 
+                // Code for RegexpRef specified at PPDirectiveLine.javacc:100:8
+                consumeToken(ELSE);
+                // Code for CodeBlock specified at PPDirectiveLine.javacc:100:15
+                directiveType = DirectiveType.ELSE;
+                break;
+            case ENDIF : 
+                // Code for RegexpRef specified at PPDirectiveLine.javacc:102:8
+                consumeToken(ENDIF);
+                // Code for CodeBlock specified at PPDirectiveLine.javacc:102:16
+                directiveType = DirectiveType.ENDIF;
+                break;
+            case DEFINE : 
+                // Code for NonTerminal specified at PPDirectiveLine.javacc:104:8
+                pushOntoCallStack("DirectiveLine", "PPDirectiveLine.javacc", 104, 8);
+                try {
+                    DefineDirective();
+                } finally {
+                    popCallStack();
+                }
+                // Code for CodeBlock specified at PPDirectiveLine.javacc:104:24
+                directiveType = DirectiveType.DEFINE;
+                break;
+            case IGNORED_DIRECTIVE : 
+                // Code for RegexpRef specified at PPDirectiveLine.javacc:108:8
+                consumeToken(IGNORED_DIRECTIVE);
+                // Code for CodeBlock specified at PPDirectiveLine.javacc:108:28
+                directiveType = DirectiveType.IGNORED;
+                break;
+            case UNKNOWN_DIRECTIVE : 
+                // Code for RegexpRef specified at PPDirectiveLine.javacc:110:8
+                consumeToken(UNKNOWN_DIRECTIVE);
+                // Code for CodeBlock specified at PPDirectiveLine.javacc:110:28
+                directiveType = DirectiveType.UNKNOWN;
+                break;
+            default : 
+                if (nextTokenType() == DEFINE) {
+                    // Code for NonTerminal specified at PPDirectiveLine.javacc:106:8
+                    pushOntoCallStack("DirectiveLine", "PPDirectiveLine.javacc", 106, 8);
+                    try {
+                        UndefDirective();
+                    } finally {
+                        popCallStack();
+                    }
+                    // Code for CodeBlock specified at PPDirectiveLine.javacc:106:23
+                    directiveType = DirectiveType.UNDEF;
+                } else {
+                    pushOntoCallStack("DirectiveLine", "PPDirectiveLine.javacc", 96, 8);
+                    throw new ParseException(this, first_set$PPDirectiveLine_javacc$96$8, parsingStack.toList());
+                }
+        }
+        // Code for CodeBlock specified at PPDirectiveLine.javacc:112:4
+        return new Info(directiveType, result);
+    }
+
+    // PPDirectiveLine.javacc:117:1
+    final public boolean IfDirective() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "IfDirective";
+        boolean result;
+        // Code for RegexpRef specified at PPDirectiveLine.javacc:119:5
+        consumeToken(IF);
+        // Code for NonTerminal specified at PPDirectiveLine.javacc:120:5
+        pushOntoCallStack("IfDirective", "PPDirectiveLine.javacc", 120, 5);
+        try {
+            result = Expression();
+        } finally {
+            popCallStack();
+        }
+        // Code for RegexpRef specified at PPDirectiveLine.javacc:121:5
+        consumeToken(EOL);
+        // Code for CodeBlock specified at PPDirectiveLine.javacc:122:5
+        return result;
+    }
+
+    // PPDirectiveLine.javacc:127:1
+    final public void DefineDirective() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "DefineDirective";
+        // Code for RegexpRef specified at PPDirectiveLine.javacc:128:5
+        consumeToken(DEFINE);
+        // Code for RegexpRef specified at PPDirectiveLine.javacc:129:5
+        consumeToken(IDENTIFIER);
+        // Code for CodeBlock specified at PPDirectiveLine.javacc:130:5
+        symbols.add(lastConsumedToken.getImage());
+    }
+
+    // PPDirectiveLine.javacc:133:1
+    final public void UndefDirective() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "UndefDirective";
+        // Code for RegexpRef specified at PPDirectiveLine.javacc:134:5
+        consumeToken(DEFINE);
+        // Code for RegexpRef specified at PPDirectiveLine.javacc:135:5
+        consumeToken(IDENTIFIER);
+        // Code for CodeBlock specified at PPDirectiveLine.javacc:136:5
+        symbols.remove(lastConsumedToken.getImage());
+    }
+
+    // PPDirectiveLine.javacc:139:1
+    final public boolean ElifDirective() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "ElifDirective";
+        boolean result;
+        // Code for RegexpRef specified at PPDirectiveLine.javacc:141:5
+        consumeToken(ELIF);
+        // Code for NonTerminal specified at PPDirectiveLine.javacc:142:5
+        pushOntoCallStack("ElifDirective", "PPDirectiveLine.javacc", 142, 5);
+        try {
+            result = Expression();
+        } finally {
+            popCallStack();
+        }
+        // Code for RegexpRef specified at PPDirectiveLine.javacc:143:5
+        consumeToken(EOL);
+        // Code for CodeBlock specified at PPDirectiveLine.javacc:144:5
+        return result;
+    }
+
+    // PPDirectiveLine.javacc:150:1
+    final public boolean Expression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Expression";
+        boolean inequality = false, result, result2;
+        // Code for NonTerminal specified at PPDirectiveLine.javacc:152:5
+        pushOntoCallStack("Expression", "PPDirectiveLine.javacc", 152, 5);
+        try {
+            result = OrExpression();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrOne specified at PPDirectiveLine.javacc:153:5
+        if (nextTokenType() == EQUALS || nextTokenType == NOT_EQUALS) {
+            if (nextTokenType() == EQUALS) {
+                // Code for RegexpStringLiteral specified at PPDirectiveLine.javacc:154:10
+                consumeToken(EQUALS);
+            } else if (nextTokenType() == NOT_EQUALS) {
+                // Code for RegexpStringLiteral specified at PPDirectiveLine.javacc:154:17
+                consumeToken(NOT_EQUALS);
+                // Code for CodeBlock specified at PPDirectiveLine.javacc:154:22
+                inequality = true;
+            } else {
+                pushOntoCallStack("Expression", "PPDirectiveLine.javacc", 154, 10);
+                throw new ParseException(this, first_set$PPDirectiveLine_javacc$154$10, parsingStack.toList());
+            }
+            // Code for NonTerminal specified at PPDirectiveLine.javacc:155:9
+            pushOntoCallStack("Expression", "PPDirectiveLine.javacc", 155, 9);
+            try {
+                result2 = OrExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for CodeBlock specified at PPDirectiveLine.javacc:156:9
+            result = inequality ? result != result2 : result == result2;
+        }
+        // Code for CodeBlock specified at PPDirectiveLine.javacc:158:5
+        return result;
+    }
+
+    // PPDirectiveLine.javacc:161:1
+    final public boolean OrExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "OrExpression";
+        boolean result, result2;
+        // Code for NonTerminal specified at PPDirectiveLine.javacc:163:5
+        pushOntoCallStack("OrExpression", "PPDirectiveLine.javacc", 163, 5);
+        try {
+            result = AndExpression();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at PPDirectiveLine.javacc:164:5
+        while (true) {
+            if (!(nextTokenType() == OR)) break;
+            // Code for RegexpStringLiteral specified at PPDirectiveLine.javacc:165:9
+            consumeToken(OR);
+            // Code for NonTerminal specified at PPDirectiveLine.javacc:166:9
+            pushOntoCallStack("OrExpression", "PPDirectiveLine.javacc", 166, 9);
+            try {
+                result2 = AndExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for CodeBlock specified at PPDirectiveLine.javacc:167:9
+            result = result && result2;
+        }
+        // Code for CodeBlock specified at PPDirectiveLine.javacc:169:5
+        return result;
+    }
+
+    // PPDirectiveLine.javacc:172:1
+    final public boolean AndExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "AndExpression";
+        boolean result, result2;
+        // Code for NonTerminal specified at PPDirectiveLine.javacc:174:5
+        pushOntoCallStack("AndExpression", "PPDirectiveLine.javacc", 174, 5);
+        try {
+            result = NotExpression();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at PPDirectiveLine.javacc:175:5
+        while (true) {
+            if (!(nextTokenType() == AND)) break;
+            // Code for RegexpStringLiteral specified at PPDirectiveLine.javacc:176:9
+            consumeToken(AND);
+            // Code for NonTerminal specified at PPDirectiveLine.javacc:177:9
+            pushOntoCallStack("AndExpression", "PPDirectiveLine.javacc", 177, 9);
+            try {
+                result2 = NotExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for CodeBlock specified at PPDirectiveLine.javacc:178:9
+            result = result && result2;
+        }
+        // Code for CodeBlock specified at PPDirectiveLine.javacc:180:5
+        return result;
+    }
+
+    // PPDirectiveLine.javacc:183:1
+    final public boolean NotExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "NotExpression";
+        boolean notFlag = false, result;
+        // Code for ZeroOrMore specified at PPDirectiveLine.javacc:185:5
+        while (true) {
+            if (!(nextTokenType() == NOT)) break;
+            // Code for RegexpStringLiteral specified at PPDirectiveLine.javacc:185:6
+            consumeToken(NOT);
+            // Code for CodeBlock specified at PPDirectiveLine.javacc:185:10
+            notFlag = !notFlag;
+        }
+        // Code for NonTerminal specified at PPDirectiveLine.javacc:186:5
+        pushOntoCallStack("NotExpression", "PPDirectiveLine.javacc", 186, 5);
+        try {
+            result = PrimaryExpression();
+        } finally {
+            popCallStack();
+        }
+        // Code for CodeBlock specified at PPDirectiveLine.javacc:187:5
+        return notFlag ? !result : result;
+    }
+
+    static private final EnumSet<TokenType> PrimaryExpression_FIRST_SET = EnumSet.of(TRUE, 
+    FALSE, IDENTIFIER, LPAREN);
+
+    // PPDirectiveLine.javacc:190:1
+    final public boolean PrimaryExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "PrimaryExpression";
+        boolean result = false;
+        if (nextTokenType() == IDENTIFIER) {
+            // Code for RegexpRef specified at PPDirectiveLine.javacc:193:7
+            consumeToken(IDENTIFIER);
+            // Code for CodeBlock specified at PPDirectiveLine.javacc:193:20
+            result = symbols.contains(lastConsumedToken.getImage());
+        } else if (nextTokenType() == TRUE) {
+            // Code for RegexpRef specified at PPDirectiveLine.javacc:195:7
+            consumeToken(TRUE);
+            // Code for CodeBlock specified at PPDirectiveLine.javacc:195:14
+            result = true;
+        } else if (nextTokenType() == FALSE) {
+            // Code for RegexpRef specified at PPDirectiveLine.javacc:197:7
+            consumeToken(FALSE);
+            // Code for CodeBlock specified at PPDirectiveLine.javacc:197:15
+            result = false;
+        } else if (nextTokenType() == LPAREN) {
+            // Code for RegexpStringLiteral specified at PPDirectiveLine.javacc:199:7
+            consumeToken(LPAREN);
+            // Code for NonTerminal specified at PPDirectiveLine.javacc:199:11
+            pushOntoCallStack("PrimaryExpression", "PPDirectiveLine.javacc", 199, 11);
+            try {
+                result = Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at PPDirectiveLine.javacc:199:29
+            consumeToken(RPAREN);
+        } else {
+            pushOntoCallStack("PrimaryExpression", "PPDirectiveLine.javacc", 193, 7);
+            throw new ParseException(this, first_set$PPDirectiveLine_javacc$193$7, parsingStack.toList());
+        }
+        // Code for CodeBlock specified at PPDirectiveLine.javacc:201:5
+        return result;
+    }
+
+    static private final EnumSet<TokenType> first_set$PPDirectiveLine_javacc$96$8 = DirectiveLine_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$PPDirectiveLine_javacc$153$5 = EnumSet.of(EQUALS, 
+    NOT_EQUALS);
+    static private final EnumSet<TokenType> first_set$PPDirectiveLine_javacc$154$10 = first_set$PPDirectiveLine_javacc$153$5;
+    static private final EnumSet<TokenType> first_set$PPDirectiveLine_javacc$193$7 = PrimaryExpression_FIRST_SET;
+    CallStack parsingStack = new CallStack();
+    private CallStack lookaheadStack = new CallStack();
+
+    /**
+    * Inner class that represents entering a grammar production
+    */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile = sourceFile;
+            this.productionName = productionName;
+            this.line = line;
+            this.column = column;
+        }
+
+        final PPDirectiveLineLexer getTokenSource() {
+            return PPDirectiveLineParser.this.token_source;
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("PPDirectiveLineParser", productionName, sourceFile, 
+            line);
+        }
+
+        void dump(PrintStream ps) {
+            ps.println(productionName + ":" + line + ":" + column);
+        }
+
+    }
+
+
+    /**
+    * A stack of calls to grammar productions, kept in parallel arrays
+    * so that entering a production does not allocate anything.
+    * The NonTerminalCall objects are only created when they are needed,
+    * i.e. for a ParseException. The production names and source files
+    * are always string literals, so we just hold onto the references.
+    */
+    class CallStack {
+        private String[] productionNames = new String[16], sourceFiles = new String[16];
+        private int[] lines = new int[16], columns = new int[16];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void push(String productionName, String sourceFile, int line, int column) {
+            if (size == lines.length) {
+                int newCapacity = size * 2;
+                productionNames = Arrays.copyOf(productionNames, newCapacity);
+                sourceFiles = Arrays.copyOf(sourceFiles, newCapacity);
+                lines = Arrays.copyOf(lines, newCapacity);
+                columns = Arrays.copyOf(columns, newCapacity);
+            }
+            productionNames[size] = productionName;
+            sourceFiles[size] = sourceFile;
+            lines[size] = line;
+            columns[size] = column;
+            ++size;
+        }
+
+        /**
+        * Removes the top entry, which can still be read
+        * until something else is pushed.
+        * @return the index of the entry removed
+        */
+        int pop() {
+            return --size;
+        }
+
+        String getProductionName(int index) {
+            return productionNames[index];
+        }
+
+        NonTerminalCall get(int index) {
+            return new NonTerminalCall(sourceFiles[index], productionNames[index], lines[index], 
+            columns[index]);
+        }
+
+        java.util.List<NonTerminalCall> toList() {
+            java.util.List<NonTerminalCall> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(get(i));
+            }
+            return result;
+        }
+
+        /**
+        * Pops everything above the given size. The entries
+        * below that are still there, since they are never
+        * overwritten until they are popped.
+        */
+        void truncate(int size) {
+            this.size = size;
+        }
+
+        void dump(PrintStream ps) {
+            for (int i = size - 1; i >= 0; i--) {
+                ps.println(productionNames[i] + ":" + lines[i] + ":" + columns[i]);
+            }
+        }
+
+    }
+
+
+    private final void pushOntoCallStack(String methodName, String fileName, int line, int column) {
+        parsingStack.push(methodName, fileName, line, column);
+    }
+
+    private final void popCallStack() {
+        int top = parsingStack.pop();
+        this.currentlyParsedProduction = parsingStack.getProductionName(top);
+    }
+
+
+    /**
+    * Iterates over the names of the productions on the parsing stack
+    * and then the lookahead stack, i.e. from the bottom to the top,
+    * or the other way round if it is backward.
+    */
+    private class CallStackIterator implements java.util.ListIterator<String> {
+        private final boolean backward;
+        private int index;
+
+        CallStackIterator(boolean backward) {
+            this.backward = backward;
+            if (backward) index = parsingStack.size() + lookaheadStack.size();
+        }
+
+        private String get(int i) {
+            int parsingStackSize = parsingStack.size();
+            return i < parsingStackSize ? parsingStack.getProductionName(i) : lookaheadStack.getProductionName(i - parsingStackSize);
+        }
+
+        public boolean hasNext() {
+            return backward ? index > 0 : index < parsingStack.size() + lookaheadStack.size();
+        }
+
+        public String next() {
+            if (!hasNext()) throw new java.util.NoSuchElementException();
+            return backward ? get(--index) : get(index++);
+        }
+
+        public boolean hasPrevious() {
+            return backward ? index < parsingStack.size() + lookaheadStack.size() : index > 0;
+        }
+
+        public String previous() {
+            if (!hasPrevious()) throw new java.util.NoSuchElementException();
+            return backward ? get(index++) : get(--index);
+        }
+
+        public void add(String productionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void set(String productionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        public int previousIndex() {
+            throw new UnsupportedOperationException();
+        }
+
+        public int nextIndex() {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+
+    void dumpLookaheadStack(PrintStream ps) {
+        lookaheadStack.dump(ps);
+    }
+
+    void dumpCallStack(PrintStream ps) {
+        parsingStack.dump(ps);
+    }
+
+    void dumpLookaheadCallStack(PrintStream ps) {
+        ps.println("Current Parser Production is: " + currentlyParsedProduction);
+        ps.println("Current Lookahead Production is: " + currentLookaheadProduction);
+        ps.println("---Lookahead Stack---");
+        dumpLookaheadStack(ps);
+        ps.println("---Call Stack---");
+        dumpCallStack(ps);
+    }
+
+    public boolean isParserTolerant() {
+        return false;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    private Token consumeToken(TokenType expectedType) {
+        Token nextToken = nextToken(lastConsumedToken);
+        if (nextToken.getType() != expectedType) {
+            nextToken = handleUnexpectedTokenType(expectedType, nextToken);
+        }
+        this.lastConsumedToken = nextToken;
+        this.nextTokenType = null;
+        return lastConsumedToken;
+    }
+
+    private Token handleUnexpectedTokenType(TokenType expectedType, Token nextToken) {
+        throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+    }
+
+
+    /**
+    * The state we go back to if an ATTEMPT fails. Stashing this is O(1).
+    * Everything on the parsing stack at this point is still there
+    * when we backtrack, since the code in the ATTEMPT only pops
+    * what it pushes, so we just need the size of the stack.
+    * Likewise, we hold onto the current node scope and the changes
+    * to the node scopes after this point are logged so that
+    * we can undo them.
+    */
+    private class ParseState {
+        Token lastConsumed;
+        int parsingStackSize;
+
+        ParseState() {
+            this.lastConsumed = PPDirectiveLineParser.this.lastConsumedToken;
+            this.parsingStackSize = PPDirectiveLineParser.this.parsingStack.size();
+        }
+
+    }
+
+    private ArrayList<ParseState> parseStateStack = new ArrayList<>();
+
+    public boolean isTreeBuildingEnabled() {
+        return false;
+    }
+
+}
+
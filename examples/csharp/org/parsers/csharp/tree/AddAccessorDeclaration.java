@@ -0,0 +1,19 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for AddAccessorDeclaration AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.csharp.tree;
+
+import org.parsers.csharp.*;
+import static org.parsers.csharp.CSharpConstants.TokenType.*;
+
+
+public class AddAccessorDeclaration extends BaseNode {
+
+    public void accept(CSharpVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,24 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for Delimiter Token subclass
+* by the ASTToken.java.ftl template
+*/
+package org.parsers.csharp.tree;
+
+import org.parsers.csharp.*;
+import org.parsers.csharp.CSharpConstants.TokenType;
+import static org.parsers.csharp.CSharpConstants.TokenType.*;
+
+
+public class Delimiter extends Token {
+
+    public Delimiter(TokenType type, CSharpLexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+    public void accept(CSharpVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
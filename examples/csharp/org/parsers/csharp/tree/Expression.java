@@ -0,0 +1,38 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for Expression AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.csharp.tree;
+
+import org.parsers.csharp.*;
+
+
+public interface Expression extends Node {
+
+    /**
+    * Can this expression be on the left-hand-side of
+    * an assignment?
+    */
+    default boolean isAssignableTo() {
+        return false;
+    }
+
+    /**
+    * Can this expression be evaluated at compile-time?
+    */
+    default boolean isConstant() {
+        for (Node child : children()) {
+            if (!(child instanceof Expression)) {
+                continue;
+            }
+            if (!((Expression) child).isConstant()) {
+                return false;
+            }
+        }
+        return true;
+        // return childrenOfType(Expression.class).stream().allMatch(Expression::isConstant);
+    }
+
+}
+
+
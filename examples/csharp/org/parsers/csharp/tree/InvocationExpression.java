@@ -0,0 +1,23 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for InvocationExpression AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.csharp.tree;
+
+import org.parsers.csharp.*;
+import static org.parsers.csharp.CSharpConstants.TokenType.*;
+
+
+public class InvocationExpression extends BaseNode implements StatementExpression {
+
+    public boolean isAssignableTo() {
+        return true;
+    }
+
+    public void accept(CSharpVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,27 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for SimpleName AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.csharp.tree;
+
+import org.parsers.csharp.*;
+import static org.parsers.csharp.CSharpConstants.TokenType.*;
+
+
+public class SimpleName extends BaseNode implements Expression {
+
+    public boolean isAssignableTo() {
+        return true;
+    }
+
+    public boolean isConstant() {
+        return false;
+    }
+
+    public void accept(CSharpVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,22 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for ALT_GTE Token subclass
+* by the ASTToken.java.ftl template
+*/
+package fel;
+
+import static fel.FELConstants.TokenType.*;
+
+
+public class ALT_GTE extends Token {
+
+    public ALT_GTE(TokenType type, FELLexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+    public void accept(FELVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
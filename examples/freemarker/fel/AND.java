@@ -0,0 +1,22 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for AND Token subclass
+* by the ASTToken.java.ftl template
+*/
+package fel;
+
+import static fel.FELConstants.TokenType.*;
+
+
+public class AND extends Token {
+
+    public AND(TokenType type, FELLexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+    public void accept(FELVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,18 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for AndExpression AST Node type
+* by the ASTNode.java.ftl template
+*/
+package fel;
+
+import static fel.FELConstants.TokenType.*;
+
+
+public class AndExpression extends BaseNode {
+
+    public void accept(FELVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,32 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. FELConstants.java */
+package fel;
+
+
+public interface FELConstants {
+
+    /**
+    * The various token types. The first type EOF
+    * and the last type INVALID are auto-generated.
+    * They represent the end of input and invalid input
+    * respectively.
+    */
+    public enum TokenType {
+        EOF, EXP_WHITE_SPACE, _TOKEN_2, _TOKEN_3, _TOKEN_4, _TOKEN_5, _TOKEN_6, _TOKEN_7, OPEN_PAREN, 
+        CLOSE_PAREN, OPEN_BRACKET, CLOSE_BRACKET, OPEN_BRACE, CLOSE_BRACE, EQUALS, DOT, PLUS, 
+        MINUS, TIMES, DIVIDE, PERCENT, OR, AND, LT, GT, COMMA, COLON, SEMICOLON, EXCLAM, BUILT_IN, 
+        DOUBLE_EQUALS, NOT_EQUALS, EXISTS_OPERATOR, LTE, GTE, OR2, AND2, DOT_DOT, ALT_GT, ALT_LT, 
+        AS, IN, ALT_GTE, ALT_LTE, ELLIPSIS, NULL, TRUE, FALSE, USING, INTEGER, DECIMAL, IDENTIFIER, 
+        STRING_LITERAL, RAW_STRING, INVALID
+    }
+
+
+    /**
+    * Lexical States
+    */
+    public enum LexicalState {
+        FTL_EXPRESSION, EXPRESSION_COMMENT
+    }
+
+}
+
+
@@ -0,0 +1,6229 @@
+/* Generated by: JavaCC 21 Parser Generator. FELParser.java */
+package fel;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.concurrent.CancellationException;
+import static fel.FELConstants.TokenType.*;
+
+
+public class FELParser implements FELConstants {
+
+    static public void main(String[] args) throws ParseException, IOException {
+        String input = FELLexer.readFully(new java.io.InputStreamReader(System.in));
+        FELParser parser = new FELParser(input);
+        Node n = parser.Input();
+        n.dump("  ");
+    }
+
+    static final int UNLIMITED = Integer.MAX_VALUE;
+    // The last token successfully "consumed"
+    Token lastConsumedToken;
+    private TokenType nextTokenType;
+    private Token currentLookaheadToken;
+    private int remainingLookahead;
+    private boolean hitFailure, passedPredicate;
+    private String currentlyParsedProduction, currentLookaheadProduction;
+    private int lookaheadRoutineNesting, passedPredicateThreshold = -1;
+    private EnumSet<TokenType> outerFollowSet;
+    private boolean legacyGlitchyLookahead = true;
+    private boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public FELLexer token_source;
+
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public FELParser(String inputSource, CharSequence content) {
+        this(new FELLexer(inputSource, content));
+    }
+
+    public FELParser(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public FELParser(String inputSource, Path path) throws IOException {
+        this(inputSource, FELLexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    public FELParser(String inputSource, Path path, Charset charset) throws IOException {
+        this(inputSource, FELLexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public FELParser(Path path) throws IOException {
+        this(path.toString(), path);
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public FELParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public FELParser(Reader reader) {
+        this(new FELLexer("input", reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public FELParser(FELLexer lexer) {
+        token_source = lexer;
+        lastConsumedToken = lexer.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(lexer);
+    }
+
+    /**
+    * Makes this parser ready to parse new input, as if it had just been
+    * constructed with it, but reusing the stacks that it (and its lexer)
+    * already has. See FELLexer#reset(CharSequence).
+    * The tree built from the previous input must not be used after this.
+    * Note that any fields that code injected into this class adds are
+    * left alone.
+    * @param input the new input
+    */
+    public void reset(CharSequence input) {
+        reset("input", input);
+    }
+
+    /**
+    * @see #reset(CharSequence)
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param input the new input
+    */
+    public void reset(String inputSource, CharSequence input) {
+        token_source.reset(inputSource, input);
+        lastConsumedToken = token_source.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(token_source);
+        nextTokenType = null;
+        currentLookaheadToken = null;
+        remainingLookahead = 0;
+        hitFailure = passedPredicate = false;
+        currentlyParsedProduction = currentLookaheadProduction = null;
+        lookaheadRoutineNesting = 0;
+        passedPredicateThreshold = -1;
+        outerFollowSet = null;
+        cancelled = false;
+        parsingStack.truncate(0);
+        lookaheadStack.truncate(0);
+        parseStateStack.clear();
+        clearUndoLog();
+        while (currentNodeScope.parentScope != null) {
+            currentNodeScope = currentNodeScope.parentScope;
+        }
+        currentNodeScope.clear();
+        // The caller could still be holding onto the old list.
+        if (!parsingProblems.isEmpty()) parsingProblems = new ArrayList<>();
+        pendingRecovery = false;
+        currentFollowSet = null;
+    }
+
+    // If the next token is cached, it returns that
+    // Otherwise, it goes to the token_source, i.e. the Lexer.
+    final private Token nextToken(final Token tok) {
+        Token result = token_source.getNextToken(tok);
+        while (result.isUnparsed()) {
+            result = token_source.getNextToken(result);
+        }
+        nextTokenType = null;
+        return result;
+    }
+
+    /**
+    * @return the next Token off the stream. This is the same as #getToken(1)
+    */
+    final public Token getNextToken() {
+        return getToken(1);
+    }
+
+    /**
+    * @param index how many tokens to look ahead
+    * @return the specific regular (i.e. parsed) Token index ahead/behind in the stream.
+    * If we are in a lookahead, it looks ahead from the currentLookaheadToken
+    * Otherwise, it is the lastConsumedToken. If you pass in a negative
+    * number it goes backward.
+    */
+    final public Token getToken(final int index) {
+        Token t = currentLookaheadToken == null ? lastConsumedToken : currentLookaheadToken;
+        for (int i = 0; i < index; i++) {
+            t = nextToken(t);
+        }
+        for (int i = 0; i > index; i--) {
+            t = t.getPrevious();
+            if (t == null) break;
+        }
+        return t;
+    }
+
+    private final TokenType nextTokenType() {
+        if (nextTokenType == null) {
+            nextTokenType = nextToken(lastConsumedToken).getType();
+        }
+        return nextTokenType;
+    }
+
+    boolean activateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result |= token_source.activeTokenTypes.add(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    boolean deactivateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result |= token_source.activeTokenTypes.remove(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    //=================================
+    // Start of methods for BNF Productions
+    //This code is generated by the ParserProductions.java.ftl template.
+    //=================================
+    static private final EnumSet<TokenType> Input_FIRST_SET = Input_FIRST_SET_init();
+
+    static private EnumSet<TokenType> Input_FIRST_SET_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, 
+        TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:167:1
+    final public Node Input() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Input";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:168:4");
+            recover$Input();
+        }
+        // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:168:4
+        pushOntoCallStack("Input", "/root/project/examples/freemarker/FEL.javacc", 168, 4);
+        outerFollowSet = follow_set$FEL_javacc$168$4;
+        try {
+            Expression();
+        } finally {
+            popCallStack();
+        }
+        // Code for EndOfFile specified at /root/project/examples/freemarker/FEL.javacc:169:4
+        EnumSet<TokenType> followSet13 = null;
+        if (outerFollowSet != null) {
+            followSet13 = follow_set$FEL_javacc$169$4.clone();
+            followSet13.addAll(outerFollowSet);
+        }
+        consumeToken(EOF, false, followSet13);
+        // Code for CodeBlock specified at /root/project/examples/freemarker/FEL.javacc:170:4
+        return rootNode();
+    }
+
+    static private final EnumSet<TokenType> Expression_FIRST_SET = Input_FIRST_SET;
+
+    // /root/project/examples/freemarker/FEL.javacc:175:1
+    final public void Expression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Expression";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:176:5");
+            recover$Expression();
+        }
+        Expression Expression1 = null;
+        if (buildTree) {
+            Expression1 = new Expression();
+            openNodeScope(Expression1);
+        }
+        ParseException parseException19 = null;
+        int callStackSize20 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:176:5
+            pushOntoCallStack("Expression", "/root/project/examples/freemarker/FEL.javacc", 
+            176, 5);
+            try {
+                OrExpression();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException19 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize20);
+            if (Expression1 != null) {
+                if (parseException19 == null) {
+                    closeNodeScope(Expression1, nodeArity() > 1);
+                } else {
+                    closeNodeScope(Expression1, true);
+                    Expression1.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> OrExpression_FIRST_SET = Input_FIRST_SET;
+
+    // /root/project/examples/freemarker/FEL.javacc:179:1
+    final public void OrExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "OrExpression";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:180:5");
+            recover$OrExpression();
+        }
+        OrExpression OrExpression2 = null;
+        if (buildTree) {
+            OrExpression2 = new OrExpression();
+            openNodeScope(OrExpression2);
+        }
+        ParseException parseException27 = null;
+        int callStackSize28 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:180:5
+            pushOntoCallStack("OrExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            180, 5);
+            if (outerFollowSet != null) {
+                EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$180$5.clone();
+                newFollowSet.addAll(outerFollowSet);
+                outerFollowSet = newFollowSet;
+            }
+            try {
+                AndExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:181:5
+            while (true) {
+                if (!(nextTokenType() == OR || nextTokenType == OR2)) break;
+                if (nextTokenType() == OR) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:182:10
+                    consumeToken(OR, false, follow_set$FEL_javacc$182$10);
+                } else if (nextTokenType() == OR2) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:182:15
+                    consumeToken(OR2, false, follow_set$FEL_javacc$182$15);
+                } else {
+                    pushOntoCallStack("OrExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                    182, 10);
+                    throw new ParseException(this, first_set$FEL_javacc$182$10$, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:182:22
+                pushOntoCallStack("OrExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                182, 22);
+                if (outerFollowSet != null) {
+                    EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$182$22.clone();
+                    newFollowSet.addAll(outerFollowSet);
+                    outerFollowSet = newFollowSet;
+                }
+                try {
+                    AndExpression();
+                } finally {
+                    popCallStack();
+                }
+            }
+        } catch (ParseException e) {
+            parseException27 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize28);
+            if (OrExpression2 != null) {
+                if (parseException27 == null) {
+                    closeNodeScope(OrExpression2, nodeArity() > 1);
+                } else {
+                    closeNodeScope(OrExpression2, true);
+                    OrExpression2.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> AndExpression_FIRST_SET = Input_FIRST_SET;
+
+    // /root/project/examples/freemarker/FEL.javacc:186:1
+    final public void AndExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "AndExpression";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:187:5");
+            recover$AndExpression();
+        }
+        AndExpression AndExpression3 = null;
+        if (buildTree) {
+            AndExpression3 = new AndExpression();
+            openNodeScope(AndExpression3);
+        }
+        ParseException parseException68 = null;
+        int callStackSize69 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:187:5
+            pushOntoCallStack("AndExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            187, 5);
+            if (outerFollowSet != null) {
+                EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$187$5.clone();
+                newFollowSet.addAll(outerFollowSet);
+                outerFollowSet = newFollowSet;
+            }
+            try {
+                EqualityExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:188:5
+            while (true) {
+                if (!(nextTokenType() == AND || nextTokenType == AND2)) break;
+                if (nextTokenType() == AND) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:189:10
+                    consumeToken(AND, false, follow_set$FEL_javacc$189$10);
+                } else if (nextTokenType() == AND2) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:189:16
+                    consumeToken(AND2, false, follow_set$FEL_javacc$189$16);
+                } else {
+                    pushOntoCallStack("AndExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                    189, 10);
+                    throw new ParseException(this, first_set$FEL_javacc$189$10$, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:189:24
+                pushOntoCallStack("AndExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                189, 24);
+                if (outerFollowSet != null) {
+                    EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$189$24.clone();
+                    newFollowSet.addAll(outerFollowSet);
+                    outerFollowSet = newFollowSet;
+                }
+                try {
+                    EqualityExpression();
+                } finally {
+                    popCallStack();
+                }
+            }
+        } catch (ParseException e) {
+            parseException68 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize69);
+            if (AndExpression3 != null) {
+                if (parseException68 == null) {
+                    closeNodeScope(AndExpression3, nodeArity() > 1);
+                } else {
+                    closeNodeScope(AndExpression3, true);
+                    AndExpression3.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> EqualityExpression_FIRST_SET = Input_FIRST_SET;
+
+    // /root/project/examples/freemarker/FEL.javacc:193:1
+    final public void EqualityExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "EqualityExpression";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:194:5");
+            recover$EqualityExpression();
+        }
+        EqualityExpression EqualityExpression4 = null;
+        if (buildTree) {
+            EqualityExpression4 = new EqualityExpression();
+            openNodeScope(EqualityExpression4);
+        }
+        ParseException parseException109 = null;
+        int callStackSize110 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:194:5
+            pushOntoCallStack("EqualityExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            194, 5);
+            if (outerFollowSet != null) {
+                EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$194$5.clone();
+                newFollowSet.addAll(outerFollowSet);
+                outerFollowSet = newFollowSet;
+            }
+            try {
+                RelationalExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:195:5
+            if (nextTokenType() == EQUALS || nextTokenType == DOUBLE_EQUALS || nextTokenType == NOT_EQUALS) {
+                if (nextTokenType() == EQUALS) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:196:10
+                    consumeToken(EQUALS, false, follow_set$FEL_javacc$196$10);
+                } else if (nextTokenType() == DOUBLE_EQUALS) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:196:19
+                    consumeToken(DOUBLE_EQUALS, false, follow_set$FEL_javacc$196$19);
+                } else if (nextTokenType() == NOT_EQUALS) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:196:35
+                    consumeToken(NOT_EQUALS, false, follow_set$FEL_javacc$196$35);
+                } else {
+                    pushOntoCallStack("EqualityExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                    196, 10);
+                    throw new ParseException(this, first_set$FEL_javacc$196$10$, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:197:9
+                pushOntoCallStack("EqualityExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                197, 9);
+                try {
+                    RelationalExpression();
+                } finally {
+                    popCallStack();
+                }
+            }
+        } catch (ParseException e) {
+            parseException109 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize110);
+            if (EqualityExpression4 != null) {
+                if (parseException109 == null) {
+                    closeNodeScope(EqualityExpression4, nodeArity() > 1);
+                } else {
+                    closeNodeScope(EqualityExpression4, true);
+                    EqualityExpression4.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> RelationalExpression_FIRST_SET = Input_FIRST_SET;
+
+    // /root/project/examples/freemarker/FEL.javacc:201:1
+    final public void RelationalExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "RelationalExpression";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:202:5");
+            recover$RelationalExpression();
+        }
+        RelationalExpression RelationalExpression5 = null;
+        if (buildTree) {
+            RelationalExpression5 = new RelationalExpression();
+            openNodeScope(RelationalExpression5);
+        }
+        ParseException parseException158 = null;
+        int callStackSize159 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:202:5
+            pushOntoCallStack("RelationalExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            202, 5);
+            if (outerFollowSet != null) {
+                EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$202$5.clone();
+                newFollowSet.addAll(outerFollowSet);
+                outerFollowSet = newFollowSet;
+            }
+            try {
+                RangeExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:203:5
+            if (first_set$FEL_javacc$204$9.contains(nextTokenType())) {
+                switch(nextTokenType()) {
+                    case GT : 
+                        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:204:10
+                        consumeToken(GT, false, follow_set$FEL_javacc$204$10);
+                        break;
+                    case GTE : 
+                        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:204:15
+                        consumeToken(GTE, false, follow_set$FEL_javacc$204$15);
+                        break;
+                    case LT : 
+                        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:204:21
+                        consumeToken(LT, false, follow_set$FEL_javacc$204$21);
+                        break;
+                    case LTE : 
+                        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:204:26
+                        consumeToken(LTE, false, follow_set$FEL_javacc$204$26);
+                        break;
+                    case ALT_GT : 
+                        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:204:32
+                        consumeToken(ALT_GT, false, follow_set$FEL_javacc$204$32);
+                        break;
+                    case ALT_GTE : 
+                        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:204:41
+                        consumeToken(ALT_GTE, false, follow_set$FEL_javacc$204$41);
+                        break;
+                    case ALT_LTE : 
+                        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:204:51
+                        consumeToken(ALT_LTE, false, follow_set$FEL_javacc$204$51);
+                        break;
+                    case ALT_LT : 
+                        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:204:61
+                        consumeToken(ALT_LT, false, follow_set$FEL_javacc$204$61);
+                        break;
+                    default : 
+                        {
+                            pushOntoCallStack("RelationalExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                            204, 10);
+                            throw new ParseException(this, first_set$FEL_javacc$204$10$, parsingStack.toList());
+                        }
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:205:9
+                pushOntoCallStack("RelationalExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                205, 9);
+                try {
+                    RangeExpression();
+                } finally {
+                    popCallStack();
+                }
+            }
+        } catch (ParseException e) {
+            parseException158 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize159);
+            if (RelationalExpression5 != null) {
+                if (parseException158 == null) {
+                    closeNodeScope(RelationalExpression5, nodeArity() > 1);
+                } else {
+                    closeNodeScope(RelationalExpression5, true);
+                    RelationalExpression5.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> RangeExpression_FIRST_SET = Input_FIRST_SET;
+
+    // /root/project/examples/freemarker/FEL.javacc:209:1
+    final public void RangeExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "RangeExpression";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:210:5");
+            recover$RangeExpression();
+        }
+        RangeExpression RangeExpression6 = null;
+        if (buildTree) {
+            RangeExpression6 = new RangeExpression();
+            openNodeScope(RangeExpression6);
+        }
+        ParseException parseException247 = null;
+        int callStackSize248 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:210:5
+            pushOntoCallStack("RangeExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            210, 5);
+            if (outerFollowSet != null) {
+                EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$210$5.clone();
+                newFollowSet.addAll(outerFollowSet);
+                outerFollowSet = newFollowSet;
+            }
+            try {
+                AdditiveExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:211:5
+            if (nextTokenType() == DOT_DOT) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:212:8
+                EnumSet<TokenType> followSet266 = null;
+                if (outerFollowSet != null) {
+                    followSet266 = follow_set$FEL_javacc$212$8.clone();
+                    followSet266.addAll(outerFollowSet);
+                }
+                consumeToken(DOT_DOT, false, followSet266);
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:213:8
+                if (scan$FEL_javacc$214$11()) {
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:214:11
+                    pushOntoCallStack("RangeExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                    214, 11);
+                    try {
+                        AdditiveExpression();
+                    } finally {
+                        popCallStack();
+                    }
+                }
+            }
+        } catch (ParseException e) {
+            parseException247 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize248);
+            if (RangeExpression6 != null) {
+                if (parseException247 == null) {
+                    closeNodeScope(RangeExpression6, nodeArity() > 1);
+                } else {
+                    closeNodeScope(RangeExpression6, true);
+                    RangeExpression6.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> AdditiveExpression_FIRST_SET = Input_FIRST_SET;
+
+    // /root/project/examples/freemarker/FEL.javacc:219:1
+    final public void AdditiveExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "AdditiveExpression";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:220:5");
+            recover$AdditiveExpression();
+        }
+        AdditiveExpression AdditiveExpression7 = null;
+        if (buildTree) {
+            AdditiveExpression7 = new AdditiveExpression();
+            openNodeScope(AdditiveExpression7);
+        }
+        ParseException parseException280 = null;
+        int callStackSize281 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:220:5
+            pushOntoCallStack("AdditiveExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            220, 5);
+            if (outerFollowSet != null) {
+                EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$220$5.clone();
+                newFollowSet.addAll(outerFollowSet);
+                outerFollowSet = newFollowSet;
+            }
+            try {
+                MultiplicativeExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:221:5
+            while (true) {
+                if (!(nextTokenType() == PLUS || nextTokenType == MINUS)) break;
+                if (nextTokenType() == PLUS) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:222:13
+                    consumeToken(PLUS, false, follow_set$FEL_javacc$222$13);
+                } else if (nextTokenType() == MINUS) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:222:20
+                    consumeToken(MINUS, false, follow_set$FEL_javacc$222$20);
+                } else {
+                    pushOntoCallStack("AdditiveExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                    222, 13);
+                    throw new ParseException(this, first_set$FEL_javacc$222$13$, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:223:12
+                pushOntoCallStack("AdditiveExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                223, 12);
+                if (outerFollowSet != null) {
+                    EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$223$12.clone();
+                    newFollowSet.addAll(outerFollowSet);
+                    outerFollowSet = newFollowSet;
+                }
+                try {
+                    MultiplicativeExpression();
+                } finally {
+                    popCallStack();
+                }
+            }
+        } catch (ParseException e) {
+            parseException280 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize281);
+            if (AdditiveExpression7 != null) {
+                if (parseException280 == null) {
+                    closeNodeScope(AdditiveExpression7, nodeArity() > 1);
+                } else {
+                    closeNodeScope(AdditiveExpression7, true);
+                    AdditiveExpression7.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> MultiplicativeExpression_FIRST_SET = Input_FIRST_SET;
+
+    // /root/project/examples/freemarker/FEL.javacc:227:1
+    final public void MultiplicativeExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "MultiplicativeExpression";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:228:5");
+            recover$MultiplicativeExpression();
+        }
+        MultiplicativeExpression MultiplicativeExpression8 = null;
+        if (buildTree) {
+            MultiplicativeExpression8 = new MultiplicativeExpression();
+            openNodeScope(MultiplicativeExpression8);
+        }
+        ParseException parseException321 = null;
+        int callStackSize322 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:228:5
+            pushOntoCallStack("MultiplicativeExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            228, 5);
+            if (outerFollowSet != null) {
+                EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$228$5.clone();
+                newFollowSet.addAll(outerFollowSet);
+                outerFollowSet = newFollowSet;
+            }
+            try {
+                UnaryExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:229:5
+            while (true) {
+                if (!(nextTokenType() == TIMES || nextTokenType == DIVIDE || nextTokenType == PERCENT)) break;
+                if (nextTokenType() == TIMES) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:230:12
+                    consumeToken(TIMES, false, follow_set$FEL_javacc$230$12);
+                } else if (nextTokenType() == DIVIDE) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:230:20
+                    consumeToken(DIVIDE, false, follow_set$FEL_javacc$230$20);
+                } else if (nextTokenType() == PERCENT) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:230:29
+                    consumeToken(PERCENT, false, follow_set$FEL_javacc$230$29);
+                } else {
+                    pushOntoCallStack("MultiplicativeExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                    230, 12);
+                    throw new ParseException(this, first_set$FEL_javacc$230$12$, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:231:11
+                pushOntoCallStack("MultiplicativeExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                231, 11);
+                if (outerFollowSet != null) {
+                    EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$231$11.clone();
+                    newFollowSet.addAll(outerFollowSet);
+                    outerFollowSet = newFollowSet;
+                }
+                try {
+                    UnaryExpression();
+                } finally {
+                    popCallStack();
+                }
+            }
+        } catch (ParseException e) {
+            parseException321 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize322);
+            if (MultiplicativeExpression8 != null) {
+                if (parseException321 == null) {
+                    closeNodeScope(MultiplicativeExpression8, nodeArity() > 1);
+                } else {
+                    closeNodeScope(MultiplicativeExpression8, true);
+                    MultiplicativeExpression8.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> UnaryExpression_FIRST_SET = Input_FIRST_SET;
+
+    // /root/project/examples/freemarker/FEL.javacc:236:1
+    final public void UnaryExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "UnaryExpression";
+        // Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:237:5
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:237:5");
+            recover$UnaryExpression();
+        }
+        switch(nextTokenType()) {
+            case PLUS : case MINUS : 
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:237:5
+                pushOntoCallStack("UnaryExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                237, 5);
+                try {
+                    UnaryPlusMinusExpression();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case EXCLAM : 
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:239:5
+                pushOntoCallStack("UnaryExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                239, 5);
+                try {
+                    NotExpression();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case OPEN_PAREN : case OPEN_BRACKET : case OPEN_BRACE : case DOT : case NULL : case TRUE : case FALSE : case INTEGER : case DECIMAL : case IDENTIFIER : case STRING_LITERAL : case RAW_STRING : 
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:241:5
+                pushOntoCallStack("UnaryExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                241, 5);
+                try {
+                    DefaultToExpression();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            default : 
+                {
+                    pushOntoCallStack("UnaryExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                    237, 5);
+                    throw new ParseException(this, UnaryExpression_FIRST_SET, parsingStack.toList());
+                }
+        }
+    }
+
+    static private final EnumSet<TokenType> UnaryPlusMinusExpression_FIRST_SET = EnumSet.of(PLUS, 
+    MINUS);
+
+    // /root/project/examples/freemarker/FEL.javacc:244:1
+    final public void UnaryPlusMinusExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "UnaryPlusMinusExpression";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:245:5");
+            recover$UnaryPlusMinusExpression();
+        }
+        UnaryPlusMinusExpression UnaryPlusMinusExpression9 = null;
+        if (buildTree) {
+            UnaryPlusMinusExpression9 = new UnaryPlusMinusExpression();
+            openNodeScope(UnaryPlusMinusExpression9);
+        }
+        ParseException parseException398 = null;
+        int callStackSize399 = parsingStack.size();
+        try {
+            if (nextTokenType() == PLUS) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:245:6
+                consumeToken(PLUS, false, follow_set$FEL_javacc$245$6);
+            } else if (nextTokenType() == MINUS) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:245:13
+                consumeToken(MINUS, false, follow_set$FEL_javacc$245$13);
+            } else {
+                pushOntoCallStack("UnaryPlusMinusExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                245, 6);
+                throw new ParseException(this, first_set$FEL_javacc$245$6$, parsingStack.toList());
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:245:22
+            pushOntoCallStack("UnaryPlusMinusExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            245, 22);
+            try {
+                DefaultToExpression();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException398 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize399);
+            if (UnaryPlusMinusExpression9 != null) {
+                if (parseException398 == null) {
+                    closeNodeScope(UnaryPlusMinusExpression9, nodeArity() > 1);
+                } else {
+                    closeNodeScope(UnaryPlusMinusExpression9, true);
+                    UnaryPlusMinusExpression9.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> NotExpression_FIRST_SET = EnumSet.of(EXCLAM);
+
+    // /root/project/examples/freemarker/FEL.javacc:248:1
+    final public void NotExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "NotExpression";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:249:5");
+            recover$NotExpression();
+        }
+        NotExpression NotExpression10 = null;
+        if (buildTree) {
+            NotExpression10 = new NotExpression();
+            openNodeScope(NotExpression10);
+        }
+        ParseException parseException427 = null;
+        int callStackSize428 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:249:5
+            consumeToken(EXCLAM, false, follow_set$FEL_javacc$249$5);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:250:5
+            pushOntoCallStack("NotExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            250, 5);
+            try {
+                DefaultToExpression();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException427 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize428);
+            if (NotExpression10 != null) {
+                if (parseException427 == null) {
+                    closeNodeScope(NotExpression10, nodeArity() > 1);
+                } else {
+                    closeNodeScope(NotExpression10, true);
+                    NotExpression10.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:253:1
+    final public void BuiltinVariable() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "BuiltinVariable";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:254:5");
+            recover$BuiltinVariable();
+        }
+        BuiltinVariable BuiltinVariable11 = null;
+        if (buildTree) {
+            BuiltinVariable11 = new BuiltinVariable();
+            openNodeScope(BuiltinVariable11);
+        }
+        ParseException parseException439 = null;
+        int callStackSize440 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:254:5
+            consumeToken(DOT, false, follow_set$FEL_javacc$254$5);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:254:10
+            EnumSet<TokenType> followSet450 = null;
+            if (outerFollowSet != null) {
+                followSet450 = follow_set$FEL_javacc$254$10.clone();
+                followSet450.addAll(outerFollowSet);
+            }
+            consumeToken(IDENTIFIER, false, followSet450);
+        } catch (ParseException e) {
+            parseException439 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize440);
+            if (BuiltinVariable11 != null) {
+                if (parseException439 == null) {
+                    closeNodeScope(BuiltinVariable11, nodeArity() > 1);
+                } else {
+                    closeNodeScope(BuiltinVariable11, true);
+                    BuiltinVariable11.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> DefaultToExpression_FIRST_SET = DefaultToExpression_FIRST_SET_init();
+
+    static private EnumSet<TokenType> DefaultToExpression_FIRST_SET_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, NULL, TRUE, FALSE, INTEGER, 
+        DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:257:1
+    final public void DefaultToExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "DefaultToExpression";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:258:5");
+            recover$DefaultToExpression();
+        }
+        DefaultToExpression DefaultToExpression12 = null;
+        if (buildTree) {
+            DefaultToExpression12 = new DefaultToExpression();
+            openNodeScope(DefaultToExpression12);
+        }
+        ParseException parseException452 = null;
+        int callStackSize453 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:258:5
+            pushOntoCallStack("DefaultToExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            258, 5);
+            if (outerFollowSet != null) {
+                EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$258$5.clone();
+                newFollowSet.addAll(outerFollowSet);
+                outerFollowSet = newFollowSet;
+            }
+            try {
+                PrimaryExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:259:5
+            while (true) {
+                if (!((getToken(2).getType() != IDENTIFIER || getToken(3).getType() != EQUALS) && scan$FEL_javacc$261$9())) break;
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:262:12
+                consumeToken(EXCLAM, false, follow_set$FEL_javacc$262$12);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:262:20
+                pushOntoCallStack("DefaultToExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                262, 20);
+                if (outerFollowSet != null) {
+                    EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$262$20.clone();
+                    newFollowSet.addAll(outerFollowSet);
+                    outerFollowSet = newFollowSet;
+                }
+                try {
+                    PrimaryExpression();
+                } finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:264:5
+            if (nextTokenType() == EXCLAM) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:265:8
+                EnumSet<TokenType> followSet487 = null;
+                if (outerFollowSet != null) {
+                    followSet487 = follow_set$FEL_javacc$265$8.clone();
+                    followSet487.addAll(outerFollowSet);
+                }
+                consumeToken(EXCLAM, false, followSet487);
+            }
+        } catch (ParseException e) {
+            parseException452 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize453);
+            if (DefaultToExpression12 != null) {
+                if (parseException452 == null) {
+                    closeNodeScope(DefaultToExpression12, nodeArity() > 1);
+                } else {
+                    closeNodeScope(DefaultToExpression12, true);
+                    DefaultToExpression12.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> PrimaryExpression_FIRST_SET = DefaultToExpression_FIRST_SET;
+
+    // /root/project/examples/freemarker/FEL.javacc:269:1
+    final public void PrimaryExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "PrimaryExpression";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:270:3");
+            recover$PrimaryExpression();
+        }
+        PrimaryExpression PrimaryExpression13 = null;
+        if (buildTree) {
+            PrimaryExpression13 = new PrimaryExpression();
+            openNodeScope(PrimaryExpression13);
+        }
+        ParseException parseException489 = null;
+        int callStackSize490 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:270:3
+            pushOntoCallStack("PrimaryExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            270, 3);
+            if (outerFollowSet != null) {
+                EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$270$3.clone();
+                newFollowSet.addAll(outerFollowSet);
+                outerFollowSet = newFollowSet;
+            }
+            try {
+                BaseExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:271:3
+            loop500 : while (true) {
+                // Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:272:7
+                switch(nextTokenType()) {
+                    case DOT : 
+                        // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:272:7
+                        pushOntoCallStack("PrimaryExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                        272, 7);
+                        if (outerFollowSet != null) {
+                            EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$272$7.clone();
+                            newFollowSet.addAll(outerFollowSet);
+                            outerFollowSet = newFollowSet;
+                        }
+                        try {
+                            DotKey();
+                        } finally {
+                            popCallStack();
+                        }
+                        break;
+                    case OPEN_BRACKET : 
+                        // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:274:7
+                        pushOntoCallStack("PrimaryExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                        274, 7);
+                        if (outerFollowSet != null) {
+                            EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$274$7.clone();
+                            newFollowSet.addAll(outerFollowSet);
+                            outerFollowSet = newFollowSet;
+                        }
+                        try {
+                            DynamicKey();
+                        } finally {
+                            popCallStack();
+                        }
+                        break;
+                    case OPEN_PAREN : 
+                        // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:276:7
+                        pushOntoCallStack("PrimaryExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                        276, 7);
+                        if (outerFollowSet != null) {
+                            EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$276$7.clone();
+                            newFollowSet.addAll(outerFollowSet);
+                            outerFollowSet = newFollowSet;
+                        }
+                        try {
+                            MethodInvoke();
+                        } finally {
+                            popCallStack();
+                        }
+                        break;
+                    case BUILT_IN : 
+                        // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:278:7
+                        pushOntoCallStack("PrimaryExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                        278, 7);
+                        if (outerFollowSet != null) {
+                            EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$278$7.clone();
+                            newFollowSet.addAll(outerFollowSet);
+                            outerFollowSet = newFollowSet;
+                        }
+                        try {
+                            BuiltIn();
+                        } finally {
+                            popCallStack();
+                        }
+                        break;
+                    case EXISTS_OPERATOR : 
+                        // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:280:7
+                        pushOntoCallStack("PrimaryExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                        280, 7);
+                        if (outerFollowSet != null) {
+                            EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$280$7.clone();
+                            newFollowSet.addAll(outerFollowSet);
+                            outerFollowSet = newFollowSet;
+                        }
+                        try {
+                            Exists();
+                        } finally {
+                            popCallStack();
+                        }
+                        break;
+                    default : 
+                        {
+                            break loop500;
+                        }
+                }
+            }
+        } catch (ParseException e) {
+            parseException489 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize490);
+            if (PrimaryExpression13 != null) {
+                if (parseException489 == null) {
+                    closeNodeScope(PrimaryExpression13, nodeArity() > 1);
+                } else {
+                    closeNodeScope(PrimaryExpression13, true);
+                    PrimaryExpression13.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> BaseExpression_FIRST_SET = DefaultToExpression_FIRST_SET;
+
+    // /root/project/examples/freemarker/FEL.javacc:284:1
+    final public void BaseExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "BaseExpression";
+        // Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:285:5
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:285:5");
+            recover$BaseExpression();
+        }
+        BaseExpression BaseExpression14 = null;
+        if (buildTree) {
+            BaseExpression14 = new BaseExpression();
+            openNodeScope(BaseExpression14);
+        }
+        ParseException parseException546 = null;
+        int callStackSize547 = parsingStack.size();
+        try {
+            switch(nextTokenType()) {
+                case IDENTIFIER : 
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:285:5
+                    EnumSet<TokenType> followSet557 = null;
+                    if (outerFollowSet != null) {
+                        followSet557 = follow_set$FEL_javacc$285$5.clone();
+                        followSet557.addAll(outerFollowSet);
+                    }
+                    consumeToken(IDENTIFIER, false, followSet557);
+                    break;
+                case INTEGER : case DECIMAL : 
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:287:5
+                    pushOntoCallStack("BaseExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                    287, 5);
+                    try {
+                        NumberLiteral();
+                    } finally {
+                        popCallStack();
+                    }
+                    break;
+                case OPEN_BRACE : 
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:289:5
+                    pushOntoCallStack("BaseExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                    289, 5);
+                    try {
+                        HashLiteral();
+                    } finally {
+                        popCallStack();
+                    }
+                    break;
+                case STRING_LITERAL : case RAW_STRING : 
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:291:5
+                    pushOntoCallStack("BaseExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                    291, 5);
+                    try {
+                        StringLiteral();
+                    } finally {
+                        popCallStack();
+                    }
+                    break;
+                case TRUE : case FALSE : 
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:293:5
+                    pushOntoCallStack("BaseExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                    293, 5);
+                    try {
+                        BooleanLiteral();
+                    } finally {
+                        popCallStack();
+                    }
+                    break;
+                case NULL : 
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:295:5
+                    pushOntoCallStack("BaseExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                    295, 5);
+                    try {
+                        NullLiteral();
+                    } finally {
+                        popCallStack();
+                    }
+                    break;
+                case OPEN_BRACKET : 
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:297:5
+                    pushOntoCallStack("BaseExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                    297, 5);
+                    try {
+                        ListLiteral();
+                    } finally {
+                        popCallStack();
+                    }
+                    break;
+                case OPEN_PAREN : 
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:299:5
+                    pushOntoCallStack("BaseExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                    299, 5);
+                    try {
+                        Parenthesis();
+                    } finally {
+                        popCallStack();
+                    }
+                    break;
+                case DOT : 
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:301:5
+                    pushOntoCallStack("BaseExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                    301, 5);
+                    try {
+                        BuiltinVariable();
+                    } finally {
+                        popCallStack();
+                    }
+                    break;
+                default : 
+                    {
+                        pushOntoCallStack("BaseExpression", "/root/project/examples/freemarker/FEL.javacc", 
+                        285, 5);
+                        throw new ParseException(this, BaseExpression_FIRST_SET, parsingStack.toList());
+                    }
+            }
+        } catch (ParseException e) {
+            parseException546 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize547);
+            if (BaseExpression14 != null) {
+                if (parseException546 == null) {
+                    closeNodeScope(BaseExpression14, nodeArity() > 1);
+                } else {
+                    closeNodeScope(BaseExpression14, true);
+                    BaseExpression14.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:305:1
+    final public void DotKey() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "DotKey";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:306:5");
+            recover$DotKey();
+        }
+        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:306:5
+        consumeToken(DOT, false, follow_set$FEL_javacc$306$5);
+        if (nextTokenType() == IDENTIFIER) {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:307:6
+            EnumSet<TokenType> followSet643 = null;
+            if (outerFollowSet != null) {
+                followSet643 = follow_set$FEL_javacc$307$6.clone();
+                followSet643.addAll(outerFollowSet);
+            }
+            consumeToken(IDENTIFIER, false, followSet643);
+        } else if (nextTokenType() == TIMES) {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:307:19
+            EnumSet<TokenType> followSet652 = null;
+            if (outerFollowSet != null) {
+                followSet652 = follow_set$FEL_javacc$307$19.clone();
+                followSet652.addAll(outerFollowSet);
+            }
+            consumeToken(TIMES, false, followSet652);
+        } else {
+            pushOntoCallStack("DotKey", "/root/project/examples/freemarker/FEL.javacc", 307, 
+            6);
+            throw new ParseException(this, first_set$FEL_javacc$307$6$, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:310:1
+    final public void DynamicKey() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "DynamicKey";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:311:5");
+            recover$DynamicKey();
+        }
+        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:311:5
+        consumeToken(OPEN_BRACKET, false, follow_set$FEL_javacc$311$5);
+        // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:311:19
+        pushOntoCallStack("DynamicKey", "/root/project/examples/freemarker/FEL.javacc", 311, 
+        19);
+        outerFollowSet = follow_set$FEL_javacc$311$19;
+        try {
+            Expression();
+        } finally {
+            popCallStack();
+        }
+        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:311:29
+        EnumSet<TokenType> followSet669 = null;
+        if (outerFollowSet != null) {
+            followSet669 = follow_set$FEL_javacc$311$29.clone();
+            followSet669.addAll(outerFollowSet);
+        }
+        consumeToken(CLOSE_BRACKET, false, followSet669);
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:314:1
+    final public void MethodInvoke() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "MethodInvoke";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:315:3");
+            recover$MethodInvoke();
+        }
+        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:315:3
+        consumeToken(OPEN_PAREN, false, follow_set$FEL_javacc$315$3);
+        // Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:315:15
+        if (first_set$FEL_javacc$315$16.contains(nextTokenType())) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:315:16
+            pushOntoCallStack("MethodInvoke", "/root/project/examples/freemarker/FEL.javacc", 
+            315, 16);
+            outerFollowSet = follow_set$FEL_javacc$315$16$;
+            try {
+                ArgsList();
+            } finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:315:25
+        EnumSet<TokenType> followSet694 = null;
+        if (outerFollowSet != null) {
+            followSet694 = follow_set$FEL_javacc$315$25.clone();
+            followSet694.addAll(outerFollowSet);
+        }
+        consumeToken(CLOSE_PAREN, false, followSet694);
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:318:1
+    final public void BuiltIn() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "BuiltIn";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:319:5");
+            recover$BuiltIn();
+        }
+        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:319:5
+        consumeToken(BUILT_IN, false, follow_set$FEL_javacc$319$5);
+        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:319:15
+        EnumSet<TokenType> followSet707 = null;
+        if (outerFollowSet != null) {
+            followSet707 = follow_set$FEL_javacc$319$15.clone();
+            followSet707.addAll(outerFollowSet);
+        }
+        consumeToken(IDENTIFIER, false, followSet707);
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:322:1
+    final public void Exists() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Exists";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:323:5");
+            recover$Exists();
+        }
+        Exists Exists15 = null;
+        if (buildTree) {
+            Exists15 = new Exists();
+            openNodeScope(Exists15);
+        }
+        ParseException parseException709 = null;
+        int callStackSize710 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:323:5
+            EnumSet<TokenType> followSet716 = null;
+            if (outerFollowSet != null) {
+                followSet716 = follow_set$FEL_javacc$323$5.clone();
+                followSet716.addAll(outerFollowSet);
+            }
+            consumeToken(EXISTS_OPERATOR, false, followSet716);
+        } catch (ParseException e) {
+            parseException709 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize710);
+            if (Exists15 != null) {
+                if (parseException709 == null) {
+                    closeNodeScope(Exists15, nodeArity() > 1);
+                } else {
+                    closeNodeScope(Exists15, true);
+                    Exists15.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:326:1
+    final public void ListLiteral() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "ListLiteral";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:327:5");
+            recover$ListLiteral();
+        }
+        ListLiteral ListLiteral16 = null;
+        if (buildTree) {
+            ListLiteral16 = new ListLiteral();
+            openNodeScope(ListLiteral16);
+        }
+        ParseException parseException718 = null;
+        int callStackSize719 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:327:5
+            consumeToken(OPEN_BRACKET, false, follow_set$FEL_javacc$327$5);
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:328:5
+            if (first_set$FEL_javacc$328$6.contains(nextTokenType())) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:328:6
+                pushOntoCallStack("ListLiteral", "/root/project/examples/freemarker/FEL.javacc", 
+                328, 6);
+                outerFollowSet = follow_set$FEL_javacc$328$6$;
+                try {
+                    Expression();
+                } finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:328:17
+                while (true) {
+                    if (!(first_set$FEL_javacc$328$18.contains(nextTokenType()))) break;
+                    // Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:328:18
+                    if (nextTokenType() == COMMA) {
+                        // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:328:19
+                        consumeToken(COMMA, false, follow_set$FEL_javacc$328$19);
+                    }
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:328:27
+                    pushOntoCallStack("ListLiteral", "/root/project/examples/freemarker/FEL.javacc", 
+                    328, 27);
+                    outerFollowSet = follow_set$FEL_javacc$328$27;
+                    try {
+                        Expression();
+                    } finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:329:5
+            EnumSet<TokenType> followSet765 = null;
+            if (outerFollowSet != null) {
+                followSet765 = follow_set$FEL_javacc$329$5.clone();
+                followSet765.addAll(outerFollowSet);
+            }
+            consumeToken(CLOSE_BRACKET, false, followSet765);
+        } catch (ParseException e) {
+            parseException718 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize719);
+            if (ListLiteral16 != null) {
+                if (parseException718 == null) {
+                    closeNodeScope(ListLiteral16, nodeArity() > 1);
+                } else {
+                    closeNodeScope(ListLiteral16, true);
+                    ListLiteral16.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> StringLiteral_FIRST_SET = EnumSet.of(STRING_LITERAL, 
+    RAW_STRING);
+
+    // /root/project/examples/freemarker/FEL.javacc:332:1
+    final public void StringLiteral() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "StringLiteral";
+        // Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:333:5
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:333:5");
+            recover$StringLiteral();
+        }
+        StringLiteral StringLiteral17 = null;
+        if (buildTree) {
+            StringLiteral17 = new StringLiteral();
+            openNodeScope(StringLiteral17);
+        }
+        ParseException parseException767 = null;
+        int callStackSize768 = parsingStack.size();
+        try {
+            if (nextTokenType() == STRING_LITERAL) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:333:5
+                EnumSet<TokenType> followSet778 = null;
+                if (outerFollowSet != null) {
+                    followSet778 = follow_set$FEL_javacc$333$5.clone();
+                    followSet778.addAll(outerFollowSet);
+                }
+                consumeToken(STRING_LITERAL, false, followSet778);
+            } else if (nextTokenType() == RAW_STRING) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:333:22
+                EnumSet<TokenType> followSet787 = null;
+                if (outerFollowSet != null) {
+                    followSet787 = follow_set$FEL_javacc$333$22.clone();
+                    followSet787.addAll(outerFollowSet);
+                }
+                consumeToken(RAW_STRING, false, followSet787);
+            } else {
+                pushOntoCallStack("StringLiteral", "/root/project/examples/freemarker/FEL.javacc", 
+                333, 5);
+                throw new ParseException(this, StringLiteral_FIRST_SET, parsingStack.toList());
+            }
+        } catch (ParseException e) {
+            parseException767 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize768);
+            if (StringLiteral17 != null) {
+                if (parseException767 == null) {
+                    closeNodeScope(StringLiteral17, nodeArity() > 1);
+                } else {
+                    closeNodeScope(StringLiteral17, true);
+                    StringLiteral17.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:337:1
+    final public void HashLiteral() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "HashLiteral";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:338:5");
+            recover$HashLiteral();
+        }
+        HashLiteral HashLiteral18 = null;
+        if (buildTree) {
+            HashLiteral18 = new HashLiteral();
+            openNodeScope(HashLiteral18);
+        }
+        ParseException parseException789 = null;
+        int callStackSize790 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:338:5
+            consumeToken(OPEN_BRACE, false, follow_set$FEL_javacc$338$5);
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:339:5
+            if (first_set$FEL_javacc$340$8.contains(nextTokenType())) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:340:8
+                pushOntoCallStack("HashLiteral", "/root/project/examples/freemarker/FEL.javacc", 
+                340, 8);
+                outerFollowSet = follow_set$FEL_javacc$340$8$;
+                try {
+                    Expression();
+                } finally {
+                    popCallStack();
+                }
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:340:19
+                consumeToken(COLON, false, follow_set$FEL_javacc$340$19);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:340:27
+                pushOntoCallStack("HashLiteral", "/root/project/examples/freemarker/FEL.javacc", 
+                340, 27);
+                outerFollowSet = follow_set$FEL_javacc$340$27;
+                try {
+                    Expression();
+                } finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:341:8
+                while (true) {
+                    if (!(nextTokenType() == COMMA)) break;
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:341:9
+                    consumeToken(COMMA, false, follow_set$FEL_javacc$341$9);
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:341:17
+                    pushOntoCallStack("HashLiteral", "/root/project/examples/freemarker/FEL.javacc", 
+                    341, 17);
+                    outerFollowSet = follow_set$FEL_javacc$341$17;
+                    try {
+                        Expression();
+                    } finally {
+                        popCallStack();
+                    }
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:341:28
+                    consumeToken(COLON, false, follow_set$FEL_javacc$341$28);
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:341:36
+                    pushOntoCallStack("HashLiteral", "/root/project/examples/freemarker/FEL.javacc", 
+                    341, 36);
+                    outerFollowSet = follow_set$FEL_javacc$341$36;
+                    try {
+                        Expression();
+                    } finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:343:5
+            EnumSet<TokenType> followSet844 = null;
+            if (outerFollowSet != null) {
+                followSet844 = follow_set$FEL_javacc$343$5.clone();
+                followSet844.addAll(outerFollowSet);
+            }
+            consumeToken(CLOSE_BRACE, false, followSet844);
+        } catch (ParseException e) {
+            parseException789 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize790);
+            if (HashLiteral18 != null) {
+                if (parseException789 == null) {
+                    closeNodeScope(HashLiteral18, nodeArity() > 1);
+                } else {
+                    closeNodeScope(HashLiteral18, true);
+                    HashLiteral18.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> NumberLiteral_FIRST_SET = EnumSet.of(INTEGER, DECIMAL);
+
+    // /root/project/examples/freemarker/FEL.javacc:346:1
+    final public void NumberLiteral() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "NumberLiteral";
+        // Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:347:5
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:347:5");
+            recover$NumberLiteral();
+        }
+        NumberLiteral NumberLiteral19 = null;
+        if (buildTree) {
+            NumberLiteral19 = new NumberLiteral();
+            openNodeScope(NumberLiteral19);
+        }
+        ParseException parseException846 = null;
+        int callStackSize847 = parsingStack.size();
+        try {
+            if (nextTokenType() == INTEGER) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:347:5
+                EnumSet<TokenType> followSet857 = null;
+                if (outerFollowSet != null) {
+                    followSet857 = follow_set$FEL_javacc$347$5.clone();
+                    followSet857.addAll(outerFollowSet);
+                }
+                consumeToken(INTEGER, false, followSet857);
+            } else if (nextTokenType() == DECIMAL) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:347:15
+                EnumSet<TokenType> followSet866 = null;
+                if (outerFollowSet != null) {
+                    followSet866 = follow_set$FEL_javacc$347$15.clone();
+                    followSet866.addAll(outerFollowSet);
+                }
+                consumeToken(DECIMAL, false, followSet866);
+            } else {
+                pushOntoCallStack("NumberLiteral", "/root/project/examples/freemarker/FEL.javacc", 
+                347, 5);
+                throw new ParseException(this, NumberLiteral_FIRST_SET, parsingStack.toList());
+            }
+        } catch (ParseException e) {
+            parseException846 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize847);
+            if (NumberLiteral19 != null) {
+                if (parseException846 == null) {
+                    closeNodeScope(NumberLiteral19, nodeArity() > 1);
+                } else {
+                    closeNodeScope(NumberLiteral19, true);
+                    NumberLiteral19.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> BooleanLiteral_FIRST_SET = EnumSet.of(TRUE, FALSE);
+
+    // /root/project/examples/freemarker/FEL.javacc:350:1
+    final public void BooleanLiteral() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "BooleanLiteral";
+        // Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:351:5
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:351:5");
+            recover$BooleanLiteral();
+        }
+        BooleanLiteral BooleanLiteral20 = null;
+        if (buildTree) {
+            BooleanLiteral20 = new BooleanLiteral();
+            openNodeScope(BooleanLiteral20);
+        }
+        ParseException parseException868 = null;
+        int callStackSize869 = parsingStack.size();
+        try {
+            if (nextTokenType() == TRUE) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:351:5
+                EnumSet<TokenType> followSet879 = null;
+                if (outerFollowSet != null) {
+                    followSet879 = follow_set$FEL_javacc$351$5.clone();
+                    followSet879.addAll(outerFollowSet);
+                }
+                consumeToken(TRUE, false, followSet879);
+            } else if (nextTokenType() == FALSE) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:351:12
+                EnumSet<TokenType> followSet888 = null;
+                if (outerFollowSet != null) {
+                    followSet888 = follow_set$FEL_javacc$351$12.clone();
+                    followSet888.addAll(outerFollowSet);
+                }
+                consumeToken(FALSE, false, followSet888);
+            } else {
+                pushOntoCallStack("BooleanLiteral", "/root/project/examples/freemarker/FEL.javacc", 
+                351, 5);
+                throw new ParseException(this, BooleanLiteral_FIRST_SET, parsingStack.toList());
+            }
+        } catch (ParseException e) {
+            parseException868 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize869);
+            if (BooleanLiteral20 != null) {
+                if (parseException868 == null) {
+                    closeNodeScope(BooleanLiteral20, nodeArity() > 1);
+                } else {
+                    closeNodeScope(BooleanLiteral20, true);
+                    BooleanLiteral20.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:354:1
+    final public void NullLiteral() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "NullLiteral";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:354:15");
+            recover$NullLiteral();
+        }
+        NullLiteral NullLiteral21 = null;
+        if (buildTree) {
+            NullLiteral21 = new NullLiteral();
+            openNodeScope(NullLiteral21);
+        }
+        ParseException parseException890 = null;
+        int callStackSize891 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:354:15
+            EnumSet<TokenType> followSet897 = null;
+            if (outerFollowSet != null) {
+                followSet897 = follow_set$FEL_javacc$354$15.clone();
+                followSet897.addAll(outerFollowSet);
+            }
+            consumeToken(NULL, false, followSet897);
+        } catch (ParseException e) {
+            parseException890 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize891);
+            if (NullLiteral21 != null) {
+                if (parseException890 == null) {
+                    closeNodeScope(NullLiteral21, nodeArity() > 1);
+                } else {
+                    closeNodeScope(NullLiteral21, true);
+                    NullLiteral21.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FEL.javacc:356:1
+    final public void Parenthesis() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Parenthesis";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:357:5");
+            recover$Parenthesis();
+        }
+        Parenthesis Parenthesis22 = null;
+        if (buildTree) {
+            Parenthesis22 = new Parenthesis();
+            openNodeScope(Parenthesis22);
+        }
+        ParseException parseException899 = null;
+        int callStackSize900 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:357:5
+            consumeToken(OPEN_PAREN, false, follow_set$FEL_javacc$357$5);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:357:18
+            pushOntoCallStack("Parenthesis", "/root/project/examples/freemarker/FEL.javacc", 
+            357, 18);
+            outerFollowSet = follow_set$FEL_javacc$357$18;
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:357:29
+            EnumSet<TokenType> followSet914 = null;
+            if (outerFollowSet != null) {
+                followSet914 = follow_set$FEL_javacc$357$29.clone();
+                followSet914.addAll(outerFollowSet);
+            }
+            consumeToken(CLOSE_PAREN, false, followSet914);
+        } catch (ParseException e) {
+            parseException899 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize900);
+            if (Parenthesis22 != null) {
+                if (parseException899 == null) {
+                    closeNodeScope(Parenthesis22, nodeArity() > 1);
+                } else {
+                    closeNodeScope(Parenthesis22, true);
+                    Parenthesis22.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> ArgsList_FIRST_SET = Input_FIRST_SET;
+
+    // /root/project/examples/freemarker/FEL.javacc:360:1
+    final public void ArgsList() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "ArgsList";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:361:5");
+            recover$ArgsList();
+        }
+        if (scan$FEL_javacc$362$9()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:363:9
+            pushOntoCallStack("ArgsList", "/root/project/examples/freemarker/FEL.javacc", 363, 
+            9);
+            try {
+                NamedArgsList();
+            } finally {
+                popCallStack();
+            }
+        } else if (first_set$FEL_javacc$365$9.contains(nextTokenType())) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:365:9
+            pushOntoCallStack("ArgsList", "/root/project/examples/freemarker/FEL.javacc", 365, 
+            9);
+            try {
+                PositionalArgsList();
+            } finally {
+                popCallStack();
+            }
+        } else {
+            pushOntoCallStack("ArgsList", "/root/project/examples/freemarker/FEL.javacc", 362, 
+            9);
+            throw new ParseException(this, first_set$FEL_javacc$362$9, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> NamedArgsList_FIRST_SET = EnumSet.of(IDENTIFIER);
+
+    // /root/project/examples/freemarker/FEL.javacc:369:1
+    final public void NamedArgsList() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "NamedArgsList";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:370:5");
+            recover$NamedArgsList();
+        }
+        NamedArgsList NamedArgsList23 = null;
+        if (buildTree) {
+            NamedArgsList23 = new NamedArgsList();
+            openNodeScope(NamedArgsList23);
+        }
+        ParseException parseException941 = null;
+        int callStackSize942 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:370:5
+            consumeToken(IDENTIFIER, false, follow_set$FEL_javacc$370$5);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:371:5
+            consumeToken(EQUALS, false, follow_set$FEL_javacc$371$5);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:372:5
+            pushOntoCallStack("NamedArgsList", "/root/project/examples/freemarker/FEL.javacc", 
+            372, 5);
+            if (outerFollowSet != null) {
+                EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$372$5.clone();
+                newFollowSet.addAll(outerFollowSet);
+                outerFollowSet = newFollowSet;
+            }
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:373:5
+            while (true) {
+                if (!(nextTokenType() == COMMA || nextTokenType == IDENTIFIER)) break;
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:374:8
+                if (nextTokenType() == COMMA) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:374:9
+                    consumeToken(COMMA, false, follow_set$FEL_javacc$374$9);
+                }
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:375:8
+                consumeToken(IDENTIFIER, false, follow_set$FEL_javacc$375$8);
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:376:8
+                consumeToken(EQUALS, false, follow_set$FEL_javacc$376$8);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:377:8
+                pushOntoCallStack("NamedArgsList", "/root/project/examples/freemarker/FEL.javacc", 
+                377, 8);
+                if (outerFollowSet != null) {
+                    EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$377$8.clone();
+                    newFollowSet.addAll(outerFollowSet);
+                    outerFollowSet = newFollowSet;
+                }
+                try {
+                    Expression();
+                } finally {
+                    popCallStack();
+                }
+            }
+        } catch (ParseException e) {
+            parseException941 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize942);
+            if (NamedArgsList23 != null) {
+                if (parseException941 == null) {
+                    closeNodeScope(NamedArgsList23, nodeArity() > 1);
+                } else {
+                    closeNodeScope(NamedArgsList23, true);
+                    NamedArgsList23.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> PositionalArgsList_FIRST_SET = Input_FIRST_SET;
+
+    // /root/project/examples/freemarker/FEL.javacc:381:1
+    final public void PositionalArgsList() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "PositionalArgsList";
+        if (pendingRecovery) {
+            //            if (debugFaultTolerant) LOGGER.info("Re-synching to expansion at: /root/project/examples/freemarker/FEL.javacc:382:5");
+            recover$PositionalArgsList();
+        }
+        PositionalArgsList PositionalArgsList24 = null;
+        if (buildTree) {
+            PositionalArgsList24 = new PositionalArgsList();
+            openNodeScope(PositionalArgsList24);
+        }
+        ParseException parseException989 = null;
+        int callStackSize990 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:382:5
+            pushOntoCallStack("PositionalArgsList", "/root/project/examples/freemarker/FEL.javacc", 
+            382, 5);
+            if (outerFollowSet != null) {
+                EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$382$5.clone();
+                newFollowSet.addAll(outerFollowSet);
+                outerFollowSet = newFollowSet;
+            }
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:383:5
+            while (true) {
+                if (!(first_set$FEL_javacc$384$8.contains(nextTokenType()))) break;
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:384:8
+                if (nextTokenType() == COMMA) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:384:9
+                    consumeToken(COMMA, false, follow_set$FEL_javacc$384$9);
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:385:8
+                pushOntoCallStack("PositionalArgsList", "/root/project/examples/freemarker/FEL.javacc", 
+                385, 8);
+                if (outerFollowSet != null) {
+                    EnumSet<TokenType> newFollowSet = follow_set$FEL_javacc$385$8.clone();
+                    newFollowSet.addAll(outerFollowSet);
+                    outerFollowSet = newFollowSet;
+                }
+                try {
+                    Expression();
+                } finally {
+                    popCallStack();
+                }
+            }
+        } catch (ParseException e) {
+            parseException989 = e;
+            if (isParserTolerant()) this.pendingRecovery = true;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize990);
+            if (PositionalArgsList24 != null) {
+                if (parseException989 == null) {
+                    closeNodeScope(PositionalArgsList24, nodeArity() > 1);
+                } else {
+                    closeNodeScope(PositionalArgsList24, true);
+                    PositionalArgsList24.setDirty(true);
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    private void recover$Input() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (Input_FIRST_SET.contains(nextTokenType())) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$Expression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (Expression_FIRST_SET.contains(nextTokenType())) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$OrExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (OrExpression_FIRST_SET.contains(nextTokenType())) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$AndExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (AndExpression_FIRST_SET.contains(nextTokenType())) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$EqualityExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (EqualityExpression_FIRST_SET.contains(nextTokenType())) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$RelationalExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (RelationalExpression_FIRST_SET.contains(nextTokenType())) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$RangeExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (RangeExpression_FIRST_SET.contains(nextTokenType())) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$AdditiveExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (AdditiveExpression_FIRST_SET.contains(nextTokenType())) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$MultiplicativeExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (MultiplicativeExpression_FIRST_SET.contains(nextTokenType())) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$UnaryExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (UnaryExpression_FIRST_SET.contains(nextTokenType())) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$UnaryPlusMinusExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (nextTokenType() == PLUS || nextTokenType == MINUS) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$NotExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (nextTokenType() == EXCLAM) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$BuiltinVariable() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (nextTokenType() == DOT) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$DefaultToExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (DefaultToExpression_FIRST_SET.contains(nextTokenType())) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$PrimaryExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (PrimaryExpression_FIRST_SET.contains(nextTokenType())) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$BaseExpression() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (BaseExpression_FIRST_SET.contains(nextTokenType())) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$DotKey() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (nextTokenType() == DOT) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$DynamicKey() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (nextTokenType() == OPEN_BRACKET) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$MethodInvoke() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (nextTokenType() == OPEN_PAREN) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$BuiltIn() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (nextTokenType() == BUILT_IN) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$Exists() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (nextTokenType() == EXISTS_OPERATOR) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$ListLiteral() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (nextTokenType() == OPEN_BRACKET) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$StringLiteral() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (nextTokenType() == STRING_LITERAL || nextTokenType == RAW_STRING) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$HashLiteral() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (nextTokenType() == OPEN_BRACE) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$NumberLiteral() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (nextTokenType() == INTEGER || nextTokenType == DECIMAL) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$BooleanLiteral() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (nextTokenType() == TRUE || nextTokenType == FALSE) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$NullLiteral() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (nextTokenType() == NULL) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$Parenthesis() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (nextTokenType() == OPEN_PAREN) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$ArgsList() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (ArgsList_FIRST_SET.contains(nextTokenType())) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$NamedArgsList() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (nextTokenType() == IDENTIFIER) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    private void recover$PositionalArgsList() {
+        Token initialToken = lastConsumedToken;
+        java.util.List<Token> skippedTokens = new java.util.ArrayList<>();
+        boolean success = false;
+        while (lastConsumedToken.getType() != EOF) {
+            if (PositionalArgsList_FIRST_SET.contains(nextTokenType())) {
+                success = true;
+                break;
+            }
+            lastConsumedToken = nextToken(lastConsumedToken);
+            skippedTokens.add(lastConsumedToken);
+        }
+        if (!success && !skippedTokens.isEmpty()) {
+            lastConsumedToken = initialToken;
+        }
+        if (success && !skippedTokens.isEmpty()) {
+            InvalidNode iv = new InvalidNode();
+            iv.copyLocationInfo(skippedTokens.get(0));
+            for (Token tok : skippedTokens) {
+                iv.addChild(tok);
+                iv.setEndOffset(tok.getEndOffset());
+            }
+            //             if (debugFaultTolerant) {
+            //                LOGGER.info("Skipping " + skippedTokens.size() + " tokens starting at: " + skippedTokens.get(0).getLocation());
+            //             }
+            pushNode(iv);
+        }
+        pendingRecovery = !success;
+    }
+
+    static private final EnumSet<TokenType> first_set$FEL_javacc$169$4 = EnumSet.of(EOF);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$181$5 = EnumSet.of(OR, OR2);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$182$10$ = first_set$FEL_javacc$181$5;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$188$5 = EnumSet.of(AND, AND2);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$189$10$ = first_set$FEL_javacc$188$5;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$195$5 = EnumSet.of(EQUALS, 
+    DOUBLE_EQUALS, NOT_EQUALS);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$196$10$ = first_set$FEL_javacc$195$5;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$196$10$$ = EnumSet.of(EQUALS);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$203$5 = first_set$FEL_javacc$203$5_init();
+
+    static private EnumSet<TokenType> first_set$FEL_javacc$203$5_init() {
+        return EnumSet.of(LT, GT, LTE, GTE, ALT_GT, ALT_LT, ALT_GTE, ALT_LTE);
+    }
+
+    static private final EnumSet<TokenType> first_set$FEL_javacc$204$9 = first_set$FEL_javacc$203$5;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$204$10$ = first_set$FEL_javacc$203$5;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$211$5 = EnumSet.of(DOT_DOT);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$222$13$ = UnaryPlusMinusExpression_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$229$5 = EnumSet.of(TIMES, 
+    DIVIDE, PERCENT);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$230$12$ = first_set$FEL_javacc$229$5;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$245$6$ = UnaryPlusMinusExpression_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$271$3 = EnumSet.of(OPEN_PAREN, 
+    OPEN_BRACKET, DOT, BUILT_IN, EXISTS_OPERATOR);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$307$5 = EnumSet.of(TIMES, 
+    IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$307$6$ = first_set$FEL_javacc$307$5;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$315$16 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$328$6 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$328$17 = first_set$FEL_javacc$328$17_init();
+
+    static private EnumSet<TokenType> first_set$FEL_javacc$328$17_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, COMMA, EXCLAM, 
+        NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> first_set$FEL_javacc$328$18 = first_set$FEL_javacc$328$17;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$340$8 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$362$9 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$365$9 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$373$5 = EnumSet.of(COMMA, 
+    IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$384$8 = first_set$FEL_javacc$328$17;
+    //=================================
+    // EnumSets that represent the various expansions' follow set (i.e. the set of tokens that can immediately follow this)
+    //=================================
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$46$25 = EnumSet.noneOf(TokenType.class);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$168$4 = first_set$FEL_javacc$169$4;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$169$4 = follow_set$FEL_javacc$46$25;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$180$5 = first_set$FEL_javacc$181$5;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$182$10 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$182$15 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$182$22 = first_set$FEL_javacc$181$5;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$187$5 = first_set$FEL_javacc$188$5;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$189$10 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$189$16 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$189$24 = first_set$FEL_javacc$188$5;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$194$5 = first_set$FEL_javacc$195$5;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$196$10 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$196$19 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$196$35 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$202$5 = first_set$FEL_javacc$203$5;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$204$10 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$204$15 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$204$21 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$204$26 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$204$32 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$204$41 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$204$51 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$204$61 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$210$5 = first_set$FEL_javacc$211$5;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$212$8 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$220$5 = UnaryPlusMinusExpression_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$222$13 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$222$20 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$223$12 = UnaryPlusMinusExpression_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$228$5 = first_set$FEL_javacc$229$5;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$230$12 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$230$20 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$230$29 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$231$11 = first_set$FEL_javacc$229$5;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$245$6 = DefaultToExpression_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$245$13 = DefaultToExpression_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$249$5 = DefaultToExpression_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$254$5 = NamedArgsList_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$254$10 = follow_set$FEL_javacc$46$25;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$258$5 = NotExpression_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$262$12 = DefaultToExpression_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$262$20 = NotExpression_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$265$8 = follow_set$FEL_javacc$46$25;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$270$3 = first_set$FEL_javacc$271$3;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$272$7 = first_set$FEL_javacc$271$3;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$274$7 = first_set$FEL_javacc$271$3;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$276$7 = first_set$FEL_javacc$271$3;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$278$7 = first_set$FEL_javacc$271$3;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$280$7 = first_set$FEL_javacc$271$3;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$285$5 = follow_set$FEL_javacc$46$25;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$306$5 = first_set$FEL_javacc$307$5;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$307$6 = follow_set$FEL_javacc$46$25;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$307$19 = follow_set$FEL_javacc$46$25;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$311$5 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$311$19 = EnumSet.of(CLOSE_BRACKET);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$311$29 = follow_set$FEL_javacc$46$25;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$315$3 = follow_set$FEL_javacc$315$3_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$315$3_init() {
+        return EnumSet.of(OPEN_PAREN, CLOSE_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, 
+        EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$315$15 = EnumSet.of(CLOSE_PAREN);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$315$16$ = follow_set$FEL_javacc$315$15;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$315$25 = follow_set$FEL_javacc$46$25;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$319$5 = NamedArgsList_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$319$15 = follow_set$FEL_javacc$46$25;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$323$5 = follow_set$FEL_javacc$46$25;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$327$5 = follow_set$FEL_javacc$327$5_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$327$5_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, CLOSE_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, 
+        EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$328$6$ = follow_set$FEL_javacc$328$6$_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$328$6$_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, CLOSE_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, 
+        COMMA, EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$328$19 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$328$27 = follow_set$FEL_javacc$328$6$;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$329$5 = follow_set$FEL_javacc$46$25;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$333$5 = follow_set$FEL_javacc$46$25;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$333$22 = follow_set$FEL_javacc$46$25;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$338$5 = follow_set$FEL_javacc$338$5_init();
+
+    static private EnumSet<TokenType> follow_set$FEL_javacc$338$5_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, CLOSE_BRACE, DOT, PLUS, MINUS, 
+        EXCLAM, NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$340$8$ = EnumSet.of(COLON);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$340$19 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$340$27 = EnumSet.of(CLOSE_BRACE, 
+    COMMA);
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$341$9 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$341$17 = follow_set$FEL_javacc$340$8$;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$341$28 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$341$36 = follow_set$FEL_javacc$340$27;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$343$5 = follow_set$FEL_javacc$46$25;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$347$5 = follow_set$FEL_javacc$46$25;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$347$15 = follow_set$FEL_javacc$46$25;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$351$5 = follow_set$FEL_javacc$46$25;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$351$12 = follow_set$FEL_javacc$46$25;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$354$15 = follow_set$FEL_javacc$46$25;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$357$5 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$357$18 = follow_set$FEL_javacc$315$15;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$357$29 = follow_set$FEL_javacc$46$25;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$370$5 = first_set$FEL_javacc$196$10$$;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$371$5 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$372$5 = first_set$FEL_javacc$373$5;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$374$9 = NamedArgsList_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$375$8 = first_set$FEL_javacc$196$10$$;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$376$8 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$377$8 = first_set$FEL_javacc$373$5;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$382$5 = first_set$FEL_javacc$328$17;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$384$9 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> follow_set$FEL_javacc$385$8 = first_set$FEL_javacc$328$17;
+
+    private final boolean scanToken(TokenType expectedType, TokenType...additionalTypes) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type != expectedType) {
+            boolean matched = false;
+            for (TokenType tt : additionalTypes) {
+                if (type == tt) {
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) return false;
+        }
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(EnumSet<TokenType> types) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (!types.contains(type)) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    //====================================
+    // Lookahead Routines
+    //====================================
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:182:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$182$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:182:10
+            if (!scanToken(OR, OR2)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:182:22
+            // NonTerminal AndExpression at /root/project/examples/freemarker/FEL.javacc:182:22
+            pushOntoLookaheadStack("OrExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            182, 22);
+            currentLookaheadProduction = "AndExpression";
+            try {
+                if (!check$AndExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:189:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$189$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:189:10
+            if (!scanToken(AND, AND2)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:189:24
+            // NonTerminal EqualityExpression at /root/project/examples/freemarker/FEL.javacc:189:24
+            pushOntoLookaheadStack("AndExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            189, 24);
+            currentLookaheadProduction = "EqualityExpression";
+            try {
+                if (!check$EqualityExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:196:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$196$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:196:10
+            if (!scanToken(EQUALS, DOUBLE_EQUALS, NOT_EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:197:9
+            // NonTerminal RelationalExpression at /root/project/examples/freemarker/FEL.javacc:197:9
+            pushOntoLookaheadStack("EqualityExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            197, 9);
+            currentLookaheadProduction = "RelationalExpression";
+            try {
+                if (!check$RelationalExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:204:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$204$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:204:10
+            if (!scanToken(first_set$FEL_javacc$204$10$)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:205:9
+            // NonTerminal RangeExpression at /root/project/examples/freemarker/FEL.javacc:205:9
+            pushOntoLookaheadStack("RelationalExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            205, 9);
+            currentLookaheadProduction = "RangeExpression";
+            try {
+                if (!check$RangeExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:212:8
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$212$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:212:8
+            if (!scanToken(DOT_DOT)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:213:8
+            Token token1039 = currentLookaheadToken;
+            boolean passedPredicate1039 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!check$FEL_javacc$214$11(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1039;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate1039;
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:214:11
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$214$11(boolean scanToEnd) {
+        int prevPassedPredicateThreshold = this.passedPredicateThreshold;
+        this.passedPredicateThreshold = -1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:214:11
+            // NonTerminal AdditiveExpression at /root/project/examples/freemarker/FEL.javacc:214:11
+            pushOntoLookaheadStack("RangeExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            214, 11);
+            currentLookaheadProduction = "AdditiveExpression";
+            try {
+                if (!check$AdditiveExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (!scanToEnd && lookaheadStack.size() <= 1) {
+                if (lookaheadRoutineNesting == 0) {
+                    remainingLookahead = 0;
+                } else if (lookaheadStack.size() == 1) {
+                    passedPredicateThreshold = remainingLookahead;
+                }
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if (remainingLookahead <= this.passedPredicateThreshold) {
+                passedPredicate = true;
+                this.passedPredicateThreshold = prevPassedPredicateThreshold;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:222:12
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$222$12(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:222:13
+            if (!scanToken(PLUS, MINUS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:223:12
+            // NonTerminal MultiplicativeExpression at /root/project/examples/freemarker/FEL.javacc:223:12
+            pushOntoLookaheadStack("AdditiveExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            223, 12);
+            currentLookaheadProduction = "MultiplicativeExpression";
+            try {
+                if (!check$MultiplicativeExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:230:11
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$230$11(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:230:12
+            if (!scanToken(TIMES, DIVIDE, PERCENT)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:231:11
+            // NonTerminal UnaryExpression at /root/project/examples/freemarker/FEL.javacc:231:11
+            pushOntoLookaheadStack("MultiplicativeExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            231, 11);
+            currentLookaheadProduction = "UnaryExpression";
+            try {
+                if (!check$UnaryExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:237:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$237$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:237:5
+            // NonTerminal UnaryPlusMinusExpression at /root/project/examples/freemarker/FEL.javacc:237:5
+            pushOntoLookaheadStack("UnaryExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            237, 5);
+            currentLookaheadProduction = "UnaryPlusMinusExpression";
+            try {
+                if (!check$UnaryPlusMinusExpression(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:239:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$239$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:239:5
+            // NonTerminal NotExpression at /root/project/examples/freemarker/FEL.javacc:239:5
+            pushOntoLookaheadStack("UnaryExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            239, 5);
+            currentLookaheadProduction = "NotExpression";
+            try {
+                if (!check$NotExpression(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:241:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$241$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:241:5
+            // NonTerminal DefaultToExpression at /root/project/examples/freemarker/FEL.javacc:241:5
+            pushOntoLookaheadStack("UnaryExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            241, 5);
+            currentLookaheadProduction = "DefaultToExpression";
+            try {
+                if (!check$DefaultToExpression(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:261:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$261$9(boolean scanToEnd) {
+        int prevPassedPredicateThreshold = this.passedPredicateThreshold;
+        this.passedPredicateThreshold = -1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:262:12
+            if (!scanToken(EXCLAM)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:262:20
+            // NonTerminal PrimaryExpression at /root/project/examples/freemarker/FEL.javacc:262:20
+            pushOntoLookaheadStack("DefaultToExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            262, 20);
+            currentLookaheadProduction = "PrimaryExpression";
+            try {
+                if (!check$PrimaryExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (!scanToEnd && lookaheadStack.size() <= 1) {
+                if (lookaheadRoutineNesting == 0) {
+                    remainingLookahead = 0;
+                } else if (lookaheadStack.size() == 1) {
+                    passedPredicateThreshold = remainingLookahead;
+                }
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if (remainingLookahead <= this.passedPredicateThreshold) {
+                passedPredicate = true;
+                this.passedPredicateThreshold = prevPassedPredicateThreshold;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:272:7
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$272$7(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:272:7
+            Token token1060 = currentLookaheadToken;
+            int remainingLookahead1060 = remainingLookahead;
+            boolean hitFailure1060 = hitFailure, passedPredicate1060 = passedPredicate;
+            try {
+                passedPredicate = false;
+                if (!check$FEL_javacc$272$7$(false)) {
+                    currentLookaheadToken = token1060;
+                    remainingLookahead = remainingLookahead1060;
+                    hitFailure = hitFailure1060;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$FEL_javacc$274$7(false)) {
+                        currentLookaheadToken = token1060;
+                        remainingLookahead = remainingLookahead1060;
+                        hitFailure = hitFailure1060;
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!check$FEL_javacc$276$7(false)) {
+                            currentLookaheadToken = token1060;
+                            remainingLookahead = remainingLookahead1060;
+                            hitFailure = hitFailure1060;
+                            if (passedPredicate && !legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!check$FEL_javacc$278$7(false)) {
+                                currentLookaheadToken = token1060;
+                                remainingLookahead = remainingLookahead1060;
+                                hitFailure = hitFailure1060;
+                                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                passedPredicate = false;
+                                if (!scanToken(EXISTS_OPERATOR)) {
+                                    currentLookaheadToken = token1060;
+                                    remainingLookahead = remainingLookahead1060;
+                                    hitFailure = hitFailure1060;
+                                    return false;
+                                }
+                            }
+                        }
+                    }
+                }
+            } finally {
+                passedPredicate = passedPredicate1060;
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:272:7
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$272$7$(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:272:7
+            // NonTerminal DotKey at /root/project/examples/freemarker/FEL.javacc:272:7
+            pushOntoLookaheadStack("PrimaryExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            272, 7);
+            currentLookaheadProduction = "DotKey";
+            try {
+                if (!check$DotKey(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:274:7
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$274$7(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:274:7
+            // NonTerminal DynamicKey at /root/project/examples/freemarker/FEL.javacc:274:7
+            pushOntoLookaheadStack("PrimaryExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            274, 7);
+            currentLookaheadProduction = "DynamicKey";
+            try {
+                if (!check$DynamicKey(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:276:7
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$276$7(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:276:7
+            // NonTerminal MethodInvoke at /root/project/examples/freemarker/FEL.javacc:276:7
+            pushOntoLookaheadStack("PrimaryExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            276, 7);
+            currentLookaheadProduction = "MethodInvoke";
+            try {
+                if (!check$MethodInvoke(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:278:7
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$278$7(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:278:7
+            // NonTerminal BuiltIn at /root/project/examples/freemarker/FEL.javacc:278:7
+            pushOntoLookaheadStack("PrimaryExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            278, 7);
+            currentLookaheadProduction = "BuiltIn";
+            try {
+                if (!check$BuiltIn(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:289:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$289$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:289:5
+            // NonTerminal HashLiteral at /root/project/examples/freemarker/FEL.javacc:289:5
+            pushOntoLookaheadStack("BaseExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            289, 5);
+            currentLookaheadProduction = "HashLiteral";
+            try {
+                if (!check$HashLiteral(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:297:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$297$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:297:5
+            // NonTerminal ListLiteral at /root/project/examples/freemarker/FEL.javacc:297:5
+            pushOntoLookaheadStack("BaseExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            297, 5);
+            currentLookaheadProduction = "ListLiteral";
+            try {
+                if (!check$ListLiteral(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:299:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$299$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:299:5
+            // NonTerminal Parenthesis at /root/project/examples/freemarker/FEL.javacc:299:5
+            pushOntoLookaheadStack("BaseExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            299, 5);
+            currentLookaheadProduction = "Parenthesis";
+            try {
+                if (!check$Parenthesis(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:301:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$301$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:301:5
+            // NonTerminal BuiltinVariable at /root/project/examples/freemarker/FEL.javacc:301:5
+            pushOntoLookaheadStack("BaseExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            301, 5);
+            currentLookaheadProduction = "BuiltinVariable";
+            try {
+                if (!check$BuiltinVariable(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:315:16
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$315$16(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:315:16
+            // NonTerminal ArgsList at /root/project/examples/freemarker/FEL.javacc:315:16
+            pushOntoLookaheadStack("MethodInvoke", "/root/project/examples/freemarker/FEL.javacc", 
+            315, 16);
+            currentLookaheadProduction = "ArgsList";
+            try {
+                if (!check$ArgsList(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:328:6
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$328$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:328:6
+            // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:328:6
+            pushOntoLookaheadStack("ListLiteral", "/root/project/examples/freemarker/FEL.javacc", 
+            328, 6);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:328:17
+            boolean passedPredicate1082 = passedPredicate;
+            try {
+                while (remainingLookahead > 0 && !hitFailure) {
+                    Token token1083 = currentLookaheadToken;
+                    passedPredicate = false;
+                    if (!check$FEL_javacc$328$18(false)) {
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        currentLookaheadToken = token1083;
+                        break;
+                    }
+                }
+            } finally {
+                passedPredicate = passedPredicate1082;
+            }
+            hitFailure = false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:328:18
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$328$18(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:328:18
+            Token token1086 = currentLookaheadToken;
+            boolean passedPredicate1086 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1086;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate1086;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:328:27
+            // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:328:27
+            pushOntoLookaheadStack("ListLiteral", "/root/project/examples/freemarker/FEL.javacc", 
+            328, 27);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:340:8
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$340$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:340:8
+            // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:340:8
+            pushOntoLookaheadStack("HashLiteral", "/root/project/examples/freemarker/FEL.javacc", 
+            340, 8);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:340:19
+            if (!scanToken(COLON)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:340:27
+            // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:340:27
+            pushOntoLookaheadStack("HashLiteral", "/root/project/examples/freemarker/FEL.javacc", 
+            340, 27);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:341:8
+            boolean passedPredicate1093 = passedPredicate;
+            try {
+                while (remainingLookahead > 0 && !hitFailure) {
+                    Token token1094 = currentLookaheadToken;
+                    passedPredicate = false;
+                    if (!check$FEL_javacc$341$9(false)) {
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        currentLookaheadToken = token1094;
+                        break;
+                    }
+                }
+            } finally {
+                passedPredicate = passedPredicate1093;
+            }
+            hitFailure = false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:341:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$341$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:341:9
+            if (!scanToken(COMMA)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:341:17
+            // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:341:17
+            pushOntoLookaheadStack("HashLiteral", "/root/project/examples/freemarker/FEL.javacc", 
+            341, 17);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:341:28
+            if (!scanToken(COLON)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:341:36
+            // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:341:36
+            pushOntoLookaheadStack("HashLiteral", "/root/project/examples/freemarker/FEL.javacc", 
+            341, 36);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:362:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$362$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2147483647;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            if (remainingLookahead <= 0) {
+                passedPredicate = true;
+                return !hitFailure;
+            }
+            if (!check$FEL_javacc$362$14(true)) return false;
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:363:9
+            // NonTerminal NamedArgsList at /root/project/examples/freemarker/FEL.javacc:363:9
+            pushOntoLookaheadStack("ArgsList", "/root/project/examples/freemarker/FEL.javacc", 
+            363, 9);
+            currentLookaheadProduction = "NamedArgsList";
+            try {
+                if (!check$NamedArgsList(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:365:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$365$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:365:9
+            // NonTerminal PositionalArgsList at /root/project/examples/freemarker/FEL.javacc:365:9
+            pushOntoLookaheadStack("ArgsList", "/root/project/examples/freemarker/FEL.javacc", 
+            365, 9);
+            currentLookaheadProduction = "PositionalArgsList";
+            try {
+                if (!check$PositionalArgsList(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:374:8
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$374$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:374:8
+            Token token1108 = currentLookaheadToken;
+            boolean passedPredicate1108 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1108;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate1108;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:375:8
+            if (!scanToken(IDENTIFIER)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:376:8
+            if (!scanToken(EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:377:8
+            // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:377:8
+            pushOntoLookaheadStack("NamedArgsList", "/root/project/examples/freemarker/FEL.javacc", 
+            377, 8);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FEL.javacc:384:8
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$384$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:384:8
+            Token token1114 = currentLookaheadToken;
+            boolean passedPredicate1114 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1114;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate1114;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:385:8
+            // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:385:8
+            pushOntoLookaheadStack("PositionalArgsList", "/root/project/examples/freemarker/FEL.javacc", 
+            385, 8);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FEL.javacc:214:11
+    private final boolean scan$FEL_javacc$214$11() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:214:11
+            // NonTerminal AdditiveExpression at /root/project/examples/freemarker/FEL.javacc:214:11
+            pushOntoLookaheadStack("RangeExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            214, 11);
+            currentLookaheadProduction = "AdditiveExpression";
+            try {
+                if (!check$AdditiveExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (!scanToEnd && lookaheadStack.size() <= 1) {
+                if (lookaheadRoutineNesting == 0) {
+                    remainingLookahead = 0;
+                } else if (lookaheadStack.size() == 1) {
+                    passedPredicateThreshold = remainingLookahead;
+                }
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FEL.javacc:261:9
+    private final boolean scan$FEL_javacc$261$9() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:262:12
+            if (!scanToken(EXCLAM)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:262:20
+            // NonTerminal PrimaryExpression at /root/project/examples/freemarker/FEL.javacc:262:20
+            pushOntoLookaheadStack("DefaultToExpression", "/root/project/examples/freemarker/FEL.javacc", 
+            262, 20);
+            currentLookaheadProduction = "PrimaryExpression";
+            try {
+                if (!check$PrimaryExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (!scanToEnd && lookaheadStack.size() <= 1) {
+                if (lookaheadRoutineNesting == 0) {
+                    remainingLookahead = 0;
+                } else if (lookaheadStack.size() == 1) {
+                    passedPredicateThreshold = remainingLookahead;
+                }
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FEL.javacc:362:9
+    private final boolean scan$FEL_javacc$362$9() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            if (remainingLookahead <= 0) {
+                passedPredicate = true;
+                return !hitFailure;
+            }
+            if (!check$FEL_javacc$362$14(true)) return false;
+            // End BuildPredicateCode macro
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // lookahead routine for lookahead at:
+    // /root/project/examples/freemarker/FEL.javacc:362:9
+    private final boolean check$FEL_javacc$362$14(boolean scanToEnd) {
+        int prevRemainingLookahead = remainingLookahead;
+        boolean prevHitFailure = hitFailure;
+        Token prevScanAheadToken = currentLookaheadToken;
+        try {
+            lookaheadRoutineNesting++;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:362:14
+            if (!scanToken(IDENTIFIER)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:362:26
+            if (!scanToken(EQUALS)) return false;
+            return !hitFailure;
+        } finally {
+            lookaheadRoutineNesting--;
+            currentLookaheadToken = prevScanAheadToken;
+            remainingLookahead = prevRemainingLookahead;
+            hitFailure = prevHitFailure;
+        }
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Expression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:176:5
+        // NonTerminal OrExpression at /root/project/examples/freemarker/FEL.javacc:176:5
+        pushOntoLookaheadStack("Expression", "/root/project/examples/freemarker/FEL.javacc", 
+        176, 5);
+        currentLookaheadProduction = "OrExpression";
+        try {
+            if (!check$OrExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$OrExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:180:5
+        // NonTerminal AndExpression at /root/project/examples/freemarker/FEL.javacc:180:5
+        pushOntoLookaheadStack("OrExpression", "/root/project/examples/freemarker/FEL.javacc", 
+        180, 5);
+        currentLookaheadProduction = "AndExpression";
+        try {
+            if (!check$AndExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:181:5
+        boolean passedPredicate1133 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token1134 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$182$9(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1134;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate1133;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$AndExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:187:5
+        // NonTerminal EqualityExpression at /root/project/examples/freemarker/FEL.javacc:187:5
+        pushOntoLookaheadStack("AndExpression", "/root/project/examples/freemarker/FEL.javacc", 
+        187, 5);
+        currentLookaheadProduction = "EqualityExpression";
+        try {
+            if (!check$EqualityExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:188:5
+        boolean passedPredicate1138 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token1139 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$189$9(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1139;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate1138;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$EqualityExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:194:5
+        // NonTerminal RelationalExpression at /root/project/examples/freemarker/FEL.javacc:194:5
+        pushOntoLookaheadStack("EqualityExpression", "/root/project/examples/freemarker/FEL.javacc", 
+        194, 5);
+        currentLookaheadProduction = "RelationalExpression";
+        try {
+            if (!check$RelationalExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:195:5
+        Token token1143 = currentLookaheadToken;
+        boolean passedPredicate1143 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$196$9(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token1143;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate1143;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$RelationalExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:202:5
+        // NonTerminal RangeExpression at /root/project/examples/freemarker/FEL.javacc:202:5
+        pushOntoLookaheadStack("RelationalExpression", "/root/project/examples/freemarker/FEL.javacc", 
+        202, 5);
+        currentLookaheadProduction = "RangeExpression";
+        try {
+            if (!check$RangeExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:203:5
+        Token token1147 = currentLookaheadToken;
+        boolean passedPredicate1147 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$204$9(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token1147;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate1147;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$RangeExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:210:5
+        // NonTerminal AdditiveExpression at /root/project/examples/freemarker/FEL.javacc:210:5
+        pushOntoLookaheadStack("RangeExpression", "/root/project/examples/freemarker/FEL.javacc", 
+        210, 5);
+        currentLookaheadProduction = "AdditiveExpression";
+        try {
+            if (!check$AdditiveExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:211:5
+        Token token1151 = currentLookaheadToken;
+        boolean passedPredicate1151 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$212$8(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token1151;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate1151;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$AdditiveExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:220:5
+        // NonTerminal MultiplicativeExpression at /root/project/examples/freemarker/FEL.javacc:220:5
+        pushOntoLookaheadStack("AdditiveExpression", "/root/project/examples/freemarker/FEL.javacc", 
+        220, 5);
+        currentLookaheadProduction = "MultiplicativeExpression";
+        try {
+            if (!check$MultiplicativeExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:221:5
+        boolean passedPredicate1155 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token1156 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$222$12(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1156;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate1155;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$MultiplicativeExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:228:5
+        // NonTerminal UnaryExpression at /root/project/examples/freemarker/FEL.javacc:228:5
+        pushOntoLookaheadStack("MultiplicativeExpression", "/root/project/examples/freemarker/FEL.javacc", 
+        228, 5);
+        currentLookaheadProduction = "UnaryExpression";
+        try {
+            if (!check$UnaryExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:229:5
+        boolean passedPredicate1160 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token1161 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$230$11(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1161;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate1160;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$UnaryExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:237:5
+        Token token1163 = currentLookaheadToken;
+        int remainingLookahead1163 = remainingLookahead;
+        boolean hitFailure1163 = hitFailure, passedPredicate1163 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$FEL_javacc$237$5(false)) {
+                currentLookaheadToken = token1163;
+                remainingLookahead = remainingLookahead1163;
+                hitFailure = hitFailure1163;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$FEL_javacc$239$5(false)) {
+                    currentLookaheadToken = token1163;
+                    remainingLookahead = remainingLookahead1163;
+                    hitFailure = hitFailure1163;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$FEL_javacc$241$5(false)) {
+                        currentLookaheadToken = token1163;
+                        remainingLookahead = remainingLookahead1163;
+                        hitFailure = hitFailure1163;
+                        return false;
+                    }
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate1163;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$UnaryPlusMinusExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:245:6
+        if (!scanToken(PLUS, MINUS)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:245:22
+        // NonTerminal DefaultToExpression at /root/project/examples/freemarker/FEL.javacc:245:22
+        pushOntoLookaheadStack("UnaryPlusMinusExpression", "/root/project/examples/freemarker/FEL.javacc", 
+        245, 22);
+        currentLookaheadProduction = "DefaultToExpression";
+        try {
+            if (!check$DefaultToExpression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$NotExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:249:5
+        if (!scanToken(EXCLAM)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:250:5
+        // NonTerminal DefaultToExpression at /root/project/examples/freemarker/FEL.javacc:250:5
+        pushOntoLookaheadStack("NotExpression", "/root/project/examples/freemarker/FEL.javacc", 
+        250, 5);
+        currentLookaheadProduction = "DefaultToExpression";
+        try {
+            if (!check$DefaultToExpression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$BuiltinVariable(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:254:5
+        if (!scanToken(DOT)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:254:10
+        if (!scanToken(IDENTIFIER)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$DefaultToExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:258:5
+        // NonTerminal PrimaryExpression at /root/project/examples/freemarker/FEL.javacc:258:5
+        pushOntoLookaheadStack("DefaultToExpression", "/root/project/examples/freemarker/FEL.javacc", 
+        258, 5);
+        currentLookaheadProduction = "PrimaryExpression";
+        try {
+            if (!check$PrimaryExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:259:5
+        boolean passedPredicate1177 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token1178 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$261$9(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1178;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate1177;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:264:5
+        Token token1180 = currentLookaheadToken;
+        boolean passedPredicate1180 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!scanToken(EXCLAM)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token1180;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate1180;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$PrimaryExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:270:3
+        // NonTerminal BaseExpression at /root/project/examples/freemarker/FEL.javacc:270:3
+        pushOntoLookaheadStack("PrimaryExpression", "/root/project/examples/freemarker/FEL.javacc", 
+        270, 3);
+        currentLookaheadProduction = "BaseExpression";
+        try {
+            if (!check$BaseExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:271:3
+        boolean passedPredicate1184 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token1185 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$272$7(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1185;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate1184;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$BaseExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:285:5
+        Token token1187 = currentLookaheadToken;
+        int remainingLookahead1187 = remainingLookahead;
+        boolean hitFailure1187 = hitFailure, passedPredicate1187 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!scanToken(IDENTIFIER)) {
+                currentLookaheadToken = token1187;
+                remainingLookahead = remainingLookahead1187;
+                hitFailure = hitFailure1187;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!scanToken(INTEGER, DECIMAL)) {
+                    currentLookaheadToken = token1187;
+                    remainingLookahead = remainingLookahead1187;
+                    hitFailure = hitFailure1187;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$FEL_javacc$289$5(false)) {
+                        currentLookaheadToken = token1187;
+                        remainingLookahead = remainingLookahead1187;
+                        hitFailure = hitFailure1187;
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!scanToken(STRING_LITERAL, RAW_STRING)) {
+                            currentLookaheadToken = token1187;
+                            remainingLookahead = remainingLookahead1187;
+                            hitFailure = hitFailure1187;
+                            if (passedPredicate && !legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!scanToken(TRUE, FALSE)) {
+                                currentLookaheadToken = token1187;
+                                remainingLookahead = remainingLookahead1187;
+                                hitFailure = hitFailure1187;
+                                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                passedPredicate = false;
+                                if (!scanToken(NULL)) {
+                                    currentLookaheadToken = token1187;
+                                    remainingLookahead = remainingLookahead1187;
+                                    hitFailure = hitFailure1187;
+                                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                    passedPredicate = false;
+                                    if (!check$FEL_javacc$297$5(false)) {
+                                        currentLookaheadToken = token1187;
+                                        remainingLookahead = remainingLookahead1187;
+                                        hitFailure = hitFailure1187;
+                                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                        passedPredicate = false;
+                                        if (!check$FEL_javacc$299$5(false)) {
+                                            currentLookaheadToken = token1187;
+                                            remainingLookahead = remainingLookahead1187;
+                                            hitFailure = hitFailure1187;
+                                            if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                            passedPredicate = false;
+                                            if (!check$FEL_javacc$301$5(false)) {
+                                                currentLookaheadToken = token1187;
+                                                remainingLookahead = remainingLookahead1187;
+                                                hitFailure = hitFailure1187;
+                                                return false;
+                                            }
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate1187;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$DotKey(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:306:5
+        if (!scanToken(DOT)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:307:6
+        if (!scanToken(TIMES, IDENTIFIER)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$DynamicKey(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:311:5
+        if (!scanToken(OPEN_BRACKET)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:311:19
+        // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:311:19
+        pushOntoLookaheadStack("DynamicKey", "/root/project/examples/freemarker/FEL.javacc", 
+        311, 19);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:311:29
+        if (!scanToken(CLOSE_BRACKET)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$MethodInvoke(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:315:3
+        if (!scanToken(OPEN_PAREN)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:315:15
+        Token token1199 = currentLookaheadToken;
+        boolean passedPredicate1199 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$315$16(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token1199;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate1199;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:315:25
+        if (!scanToken(CLOSE_PAREN)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$BuiltIn(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:319:5
+        if (!scanToken(BUILT_IN)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:319:15
+        if (!scanToken(IDENTIFIER)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ListLiteral(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:327:5
+        if (!scanToken(OPEN_BRACKET)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:328:5
+        Token token1208 = currentLookaheadToken;
+        boolean passedPredicate1208 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$328$6(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token1208;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate1208;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:329:5
+        if (!scanToken(CLOSE_BRACKET)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$HashLiteral(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:338:5
+        if (!scanToken(OPEN_BRACE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FEL.javacc:339:5
+        Token token1214 = currentLookaheadToken;
+        boolean passedPredicate1214 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$340$8(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token1214;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate1214;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:343:5
+        if (!scanToken(CLOSE_BRACE)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Parenthesis(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:357:5
+        if (!scanToken(OPEN_PAREN)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:357:18
+        // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:357:18
+        pushOntoLookaheadStack("Parenthesis", "/root/project/examples/freemarker/FEL.javacc", 
+        357, 18);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:357:29
+        if (!scanToken(CLOSE_PAREN)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ArgsList(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FEL.javacc:362:9
+        Token token1226 = currentLookaheadToken;
+        int remainingLookahead1226 = remainingLookahead;
+        boolean hitFailure1226 = hitFailure, passedPredicate1226 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$FEL_javacc$362$9(false)) {
+                currentLookaheadToken = token1226;
+                remainingLookahead = remainingLookahead1226;
+                hitFailure = hitFailure1226;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$FEL_javacc$365$9(false)) {
+                    currentLookaheadToken = token1226;
+                    remainingLookahead = remainingLookahead1226;
+                    hitFailure = hitFailure1226;
+                    return false;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate1226;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$NamedArgsList(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:370:5
+        if (!scanToken(IDENTIFIER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FEL.javacc:371:5
+        if (!scanToken(EQUALS)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:372:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:372:5
+        pushOntoLookaheadStack("NamedArgsList", "/root/project/examples/freemarker/FEL.javacc", 
+        372, 5);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:373:5
+        boolean passedPredicate1232 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token1233 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$374$8(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1233;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate1232;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$PositionalArgsList(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FEL.javacc:382:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FEL.javacc:382:5
+        pushOntoLookaheadStack("PositionalArgsList", "/root/project/examples/freemarker/FEL.javacc", 
+        382, 5);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FEL.javacc:383:5
+        boolean passedPredicate1237 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token1238 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$384$8(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token1238;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate1237;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    CallStack parsingStack = new CallStack();
+    private CallStack lookaheadStack = new CallStack();
+    private EnumSet<TokenType> currentFollowSet;
+
+    /**
+    * Inner class that represents entering a grammar production
+    */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+        final EnumSet<TokenType> followSet;
+
+        NonTerminalCall(String sourceFile, String productionName, int line, int column, EnumSet<TokenType> followSet) {
+            this.sourceFile = sourceFile;
+            this.productionName = productionName;
+            this.line = line;
+            this.column = column;
+            this.followSet = followSet;
+        }
+
+        final FELLexer getTokenSource() {
+            return FELParser.this.token_source;
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("FELParser", productionName, sourceFile, line);
+        }
+
+        void dump(PrintStream ps) {
+            ps.println(productionName + ":" + line + ":" + column);
+        }
+
+    }
+
+
+    /**
+    * A stack of calls to grammar productions, kept in parallel arrays
+    * so that entering a production does not allocate anything.
+    * The NonTerminalCall objects are only created when they are needed,
+    * i.e. for a ParseException. The production names and source files
+    * are always string literals, so we just hold onto the references.
+    */
+    class CallStack {
+        private String[] productionNames = new String[16], sourceFiles = new String[16];
+        private int[] lines = new int[16], columns = new int[16];
+        @SuppressWarnings("unchecked")
+        private EnumSet<TokenType> [] followSets = new EnumSet[16];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void push(String productionName, String sourceFile, int line, int column) {
+            if (size == lines.length) {
+                int newCapacity = size * 2;
+                productionNames = Arrays.copyOf(productionNames, newCapacity);
+                sourceFiles = Arrays.copyOf(sourceFiles, newCapacity);
+                lines = Arrays.copyOf(lines, newCapacity);
+                columns = Arrays.copyOf(columns, newCapacity);
+                followSets = Arrays.copyOf(followSets, newCapacity);
+            }
+            productionNames[size] = productionName;
+            sourceFiles[size] = sourceFile;
+            lines[size] = line;
+            columns[size] = column;
+            followSets[size] = outerFollowSet;
+            ++size;
+        }
+
+        /**
+        * Removes the top entry, which can still be read
+        * until something else is pushed.
+        * @return the index of the entry removed
+        */
+        int pop() {
+            return --size;
+        }
+
+        String getProductionName(int index) {
+            return productionNames[index];
+        }
+
+        EnumSet<TokenType> getFollowSet(int index) {
+            return followSets[index];
+        }
+
+        NonTerminalCall get(int index) {
+            return new NonTerminalCall(sourceFiles[index], productionNames[index], lines[index], 
+            columns[index], followSets[index]);
+        }
+
+        java.util.List<NonTerminalCall> toList() {
+            java.util.List<NonTerminalCall> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(get(i));
+            }
+            return result;
+        }
+
+        /**
+        * Pops everything above the given size. The entries
+        * below that are still there, since they are never
+        * overwritten until they are popped.
+        */
+        void truncate(int size) {
+            this.size = size;
+        }
+
+        void dump(PrintStream ps) {
+            for (int i = size - 1; i >= 0; i--) {
+                ps.println(productionNames[i] + ":" + lines[i] + ":" + columns[i]);
+            }
+        }
+
+    }
+
+
+    private final void pushOntoCallStack(String methodName, String fileName, int line, int column) {
+        parsingStack.push(methodName, fileName, line, column);
+    }
+
+    private final void popCallStack() {
+        int top = parsingStack.pop();
+        this.currentlyParsedProduction = parsingStack.getProductionName(top);
+        this.outerFollowSet = parsingStack.getFollowSet(top);
+    }
+
+    private final void restoreCallStack(int prevSize) {
+        while (parsingStack.size() > prevSize) {
+            popCallStack();
+        }
+    }
+
+
+    /**
+    * Iterates over the names of the productions on the parsing stack
+    * and then the lookahead stack, i.e. from the bottom to the top,
+    * or the other way round if it is backward.
+    */
+    private class CallStackIterator implements java.util.ListIterator<String> {
+        private final boolean backward;
+        private int index;
+
+        CallStackIterator(boolean backward) {
+            this.backward = backward;
+            if (backward) index = parsingStack.size() + lookaheadStack.size();
+        }
+
+        private String get(int i) {
+            int parsingStackSize = parsingStack.size();
+            return i < parsingStackSize ? parsingStack.getProductionName(i) : lookaheadStack.getProductionName(i - parsingStackSize);
+        }
+
+        public boolean hasNext() {
+            return backward ? index > 0 : index < parsingStack.size() + lookaheadStack.size();
+        }
+
+        public String next() {
+            if (!hasNext()) throw new java.util.NoSuchElementException();
+            return backward ? get(--index) : get(index++);
+        }
+
+        public boolean hasPrevious() {
+            return backward ? index < parsingStack.size() + lookaheadStack.size() : index > 0;
+        }
+
+        public String previous() {
+            if (!hasPrevious()) throw new java.util.NoSuchElementException();
+            return backward ? get(index++) : get(--index);
+        }
+
+        public void add(String productionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void set(String productionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        public int previousIndex() {
+            throw new UnsupportedOperationException();
+        }
+
+        public int nextIndex() {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+
+    private final void pushOntoLookaheadStack(String methodName, String fileName, int line, 
+    int column) {
+        lookaheadStack.push(methodName, fileName, line, column);
+    }
+
+    private final void popLookaheadStack() {
+        int top = lookaheadStack.pop();
+        this.currentLookaheadProduction = lookaheadStack.getProductionName(top);
+    }
+
+    void dumpLookaheadStack(PrintStream ps) {
+        lookaheadStack.dump(ps);
+    }
+
+    void dumpCallStack(PrintStream ps) {
+        parsingStack.dump(ps);
+    }
+
+    void dumpLookaheadCallStack(PrintStream ps) {
+        ps.println("Current Parser Production is: " + currentlyParsedProduction);
+        ps.println("Current Lookahead Production is: " + currentLookaheadProduction);
+        ps.println("---Lookahead Stack---");
+        dumpLookaheadStack(ps);
+        ps.println("---Call Stack---");
+        dumpCallStack(ps);
+    }
+
+    private boolean tolerantParsing = true;
+    // Are we pending a recovery routine to
+    // get back on the rails?
+    private boolean pendingRecovery;
+    //    private boolean debugFaultTolerant = false;
+    private java.util.List<ParsingProblem> parsingProblems = new java.util.ArrayList<>();
+
+    public java.util.List<ParsingProblem> getParsingProblems() {
+        return parsingProblems;
+    }
+
+    public boolean hasProblems() {
+        return !parsingProblems.isEmpty();
+    }
+
+    void addParsingProblem(ParsingProblem problem) {
+        parsingProblems.add(problem);
+    }
+
+    public boolean isParserTolerant() {
+        return tolerantParsing;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        this.tolerantParsing = tolerantParsing;
+    }
+
+    private Token consumeToken(TokenType expectedType, boolean tolerant, EnumSet<TokenType> followSet) {
+        Token nextToken = nextToken(lastConsumedToken);
+        if (nextToken.getType() != expectedType) {
+            nextToken = handleUnexpectedTokenType(expectedType, nextToken, tolerant, followSet);
+        }
+        this.lastConsumedToken = nextToken;
+        this.nextTokenType = null;
+        if (buildTree && tokensAreNodes) {
+            pushNode(lastConsumedToken);
+        }
+        // Check whether the very next token is in the follow set of the last consumed token
+        // and if it is not, we check one token ahead to see if skipping the next token remedies
+        // the problem.
+        if (followSet != null && isParserTolerant()) {
+            nextToken = nextToken(lastConsumedToken);
+            if (!followSet.contains(nextToken.getType())) {
+                Token nextNext = nextToken(nextToken);
+                if (followSet.contains(nextNext.getType())) {
+                    nextToken.setSkipped(true);
+                    //               if (debugFaultTolerant) LOGGER.info("Skipping token " + nextToken.getType() + " at: " + nextToken.getLocation());
+                    //lastConsumedToken.setNext(nextNext);
+                }
+            }
+        }
+        return lastConsumedToken;
+    }
+
+    private Token handleUnexpectedTokenType(TokenType expectedType, Token nextToken, boolean tolerant, 
+    EnumSet<TokenType> followSet) {
+        if (!this.tolerantParsing) {
+            throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+        }
+        Token nextNext = nextToken(nextToken);
+        if (nextNext.getType() == expectedType) {
+            nextToken.setSkipped(true);
+            //             if (debugFaultTolerant) LOGGER.info("Skipping token of type: " + nextToken.getType() + " at: " + nextToken.getLocation());
+            pushNode(nextToken);
+            //lastConsumedToken.setNext(nextNext);
+            return nextNext;
+        }
+        if (tolerant || followSet == null || followSet.contains(nextToken.getType())) {
+            Token virtualToken = Token.newToken(expectedType, token_source, 0, 0);
+            virtualToken.setImage("VIRTUAL " + expectedType);
+            virtualToken.setVirtual(true);
+            virtualToken.copyLocationInfo(nextToken);
+            //virtualToken.setNext(nextToken);
+            //lastConsumedToken.setNext(virtualToken);
+            //           if (debugFaultTolerant) LOGGER.info("Inserting virtual token of type: " + expectedType + " at " + virtualToken.getLocation());
+            if (token_source.doLexicalStateSwitch(expectedType)) {
+                token_source.reset(virtualToken);
+            }
+            return virtualToken;
+        }
+        throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+    }
+
+
+    /**
+    * The state we go back to if an ATTEMPT fails. Stashing this is O(1).
+    * Everything on the parsing stack at this point is still there
+    * when we backtrack, since the code in the ATTEMPT only pops
+    * what it pushes, so we just need the size of the stack.
+    * Likewise, we hold onto the current node scope and the changes
+    * to the node scopes after this point are logged so that
+    * we can undo them.
+    */
+    private class ParseState {
+        Token lastConsumed;
+        int parsingStackSize;
+        LexicalState lexicalState;
+        NodeScope nodeScope;
+        int undoLogMark;
+
+        ParseState() {
+            this.lastConsumed = FELParser.this.lastConsumedToken;
+            this.parsingStackSize = FELParser.this.parsingStack.size();
+            this.lexicalState = token_source.lexicalState;
+            this.nodeScope = currentNodeScope;
+            this.undoLogMark = undoLogLength;
+        }
+
+    }
+
+    private ArrayList<ParseState> parseStateStack = new ArrayList<>();
+    private boolean buildTree = true;
+    private boolean tokensAreNodes = true;
+    private boolean unparsedTokensAreNodes = true;
+
+    public boolean isTreeBuildingEnabled() {
+        return buildTree;
+    }
+
+    public void setUnparsedTokensAreNodes(boolean unparsedTokensAreNodes) {
+        this.unparsedTokensAreNodes = unparsedTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes = tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope = new NodeScope();
+
+    /**
+    * @return the root node of the AST. It only makes sense to call
+    * this after a successful parse.
+    */
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+
+    /**
+    * push a node onto the top of the node stack
+    * @param n the node to push
+    */
+    public void pushNode(Node n) {
+        logNodeScopeChange(currentNodeScope, currentNodeScope.size(), null);
+        currentNodeScope.add(n);
+    }
+
+    /**
+    * @return the node on the top of the stack, and remove it from the
+    * stack.
+    */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /**
+    * @return the node currently on the top of the tree-building stack.
+    */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+    * Puts the node on the top of the stack. However, unlike pushNode()
+    * it replaces the node that is currently on the top of the stack.
+    * This is effectively equivalent to popNode() followed by pushNode(n)
+    * @param n the node to poke
+    */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /**
+    * @return the number of Nodes on the tree-building stack in the current node
+    * scope.
+    */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    // A log of the changes made to the node scopes while there is
+    // a stashed ParseState, so that we can undo them if we
+    // backtrack. Each entry is the scope, its size before the change,
+    // and the node that was removed or replaced, if any.
+    private NodeScope[] undoScopes = new NodeScope[16];
+    private int[] undoSizes = new int[16];
+    private Node[] undoNodes = new Node[16];
+    private int undoLogLength;
+
+    private void logNodeScopeChange(NodeScope scope, int previousSize, Node removedNode) {
+        if (parseStateStack.isEmpty()) return;
+        if (undoLogLength == undoSizes.length) {
+            int newCapacity = undoLogLength * 2;
+            undoScopes = Arrays.copyOf(undoScopes, newCapacity);
+            undoSizes = Arrays.copyOf(undoSizes, newCapacity);
+            undoNodes = Arrays.copyOf(undoNodes, newCapacity);
+        }
+        undoScopes[undoLogLength] = scope;
+        undoSizes[undoLogLength] = previousSize;
+        undoNodes[undoLogLength++] = removedNode;
+    }
+
+    private void clearUndoLog() {
+        Arrays.fill(undoScopes, 0, undoLogLength, null);
+        Arrays.fill(undoNodes, 0, undoLogLength, null);
+        undoLogLength = 0;
+    }
+
+    private void openNodeScope(Node n) {
+        new NodeScope();
+        if (n != null) {
+            Token next = nextToken(lastConsumedToken);
+            n.setTokenSource(lastConsumedToken.getTokenSource());
+            n.setBeginOffset(next.getBeginOffset());
+            n.open();
+        }
+    }
+
+    /* A definite node is constructed from a specified number of
+    * children.  That number of nodes are popped from the stack and
+    * made the children of the definite node.  Then the definite node
+    * is pushed on to the stack.
+    */
+    private void closeNodeScope(Node n, int num) {
+        n.setEndOffset(lastConsumedToken.getEndOffset());
+        currentNodeScope.close();
+        ArrayList<Node> nodes = new ArrayList<Node>();
+        for (int i = 0; i < num; i++) {
+            nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+            // FIXME deal with the UNPARSED_TOKENS_ARE_NODES case
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+    * A conditional node is constructed if the condition is true.  All
+    * the nodes that have been pushed since the node was opened are
+    * made children of the conditional node, which is then pushed
+    * on to the stack.  If the condition is false the node is not
+    * constructed and they are left on the stack.
+    */
+    private void closeNodeScope(Node n, boolean condition) {
+        if (n != null && condition) {
+            n.setEndOffset(lastConsumedToken.getEndOffset());
+            int a = nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node> nodes = new ArrayList<Node>();
+            while (a-- > 0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+                if (unparsedTokensAreNodes && child instanceof Token) {
+                    Token tok = (Token) child;
+                    while (tok.previousCachedToken() != null && tok.previousCachedToken().isUnparsed()) {
+                        tok = tok.previousCachedToken();
+                    }
+                    while (tok.isUnparsed()) {
+                        n.addChild(tok);
+                        tok = tok.nextCachedToken();
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            pushNode(n);
+        } else {
+            currentNodeScope.close();
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree = buildTree;
+    }
+
+    /**
+    * Just a kludge so that existing jjtree-based code that uses
+    * parser.jjtree.foo can work without change.
+    */
+    FELParser jjtree = this;
+
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node> {
+        NodeScope parentScope;
+
+        NodeScope() {
+            this.parentScope = FELParser.this.currentNodeScope;
+            FELParser.this.currentNodeScope = this;
+        }
+
+        boolean isRootScope() {
+            return parentScope == null;
+        }
+
+        Node rootNode() {
+            NodeScope ns = this;
+            while (ns.parentScope != null) {
+                ns = ns.parentScope;
+            }
+            return ns.isEmpty() ? null : ns.get(0);
+        }
+
+        Node peek() {
+            if (isEmpty()) {
+                return parentScope == null ? null : parentScope.peek();
+            }
+            return get(size() - 1);
+        }
+
+        Node pop() {
+            if (isEmpty()) return parentScope.pop();
+            Node result = remove(size() - 1);
+            logNodeScopeChange(this, size() + 1, result);
+            return result;
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            } else {
+                logNodeScopeChange(this, size(), set(size() - 1, n));
+            }
+        }
+
+        void close() {
+            logNodeScopeChange(parentScope, parentScope.size(), null);
+            parentScope.addAll(this);
+            FELParser.this.currentNodeScope = parentScope;
+        }
+
+        int nestingLevel() {
+            int result = 0;
+            NodeScope parent = this;
+            while (parent.parentScope != null) {
+                result++;
+                parent = parent.parentScope;
+            }
+            return result;
+        }
+
+    }
+
+}
+
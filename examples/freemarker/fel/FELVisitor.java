@@ -0,0 +1,324 @@
+/* Generated by: JavaCC 21 Parser Generator. FELVisitor.java */
+package fel;
+
+
+/**
+* A visitor that is dispatched without reflection. Each Node gets
+* passed to the visit method for its own class via Node#accept(FELVisitor).
+* If that is not overridden, it passes the node on to the visit methods
+* for the Node interfaces the class implements, until it gets to one that
+* is overridden, and failing that, to the one for its superclass, which
+* goes on in the same way. That is the order that Node.Visitor looks in,
+* so the same visit methods get called. If none of them is overridden, it
+* just goes into the children.
+* Unlike with Node.Visitor, the visit methods have to be public, but
+* they are otherwise written the same way.
+*/
+public abstract class FELVisitor {
+    protected boolean visitUnparsedTokens;
+
+    public final void visit(Node node) {
+        node.accept(this);
+    }
+
+    /**
+    * Just recurses over (i.e. visits) node's children
+    * @param node the node we are traversing
+    */
+    public void recurse(Node node) {
+        for (Node child : node.children(visitUnparsedTokens)) {
+            visit(child);
+        }
+    }
+
+    public void visit(ALT_GT node) {
+        visit((Token) node);
+    }
+
+    public void visit(ALT_GTE node) {
+        visit((Token) node);
+    }
+
+    public void visit(ALT_LT node) {
+        visit((Token) node);
+    }
+
+    public void visit(ALT_LTE node) {
+        visit((Token) node);
+    }
+
+    public void visit(AND node) {
+        visit((Token) node);
+    }
+
+    public void visit(AND2 node) {
+        visit((Token) node);
+    }
+
+    public void visit(AS node) {
+        visit((Token) node);
+    }
+
+    public void visit(AdditiveExpression node) {
+        recurse(node);
+    }
+
+    public void visit(AndExpression node) {
+        recurse(node);
+    }
+
+    public void visit(BUILT_IN node) {
+        visit((Token) node);
+    }
+
+    public void visit(BaseExpression node) {
+        recurse(node);
+    }
+
+    public void visit(BooleanLiteral node) {
+        recurse(node);
+    }
+
+    public void visit(BuiltinVariable node) {
+        recurse(node);
+    }
+
+    public void visit(CLOSE_BRACE node) {
+        visit((Token) node);
+    }
+
+    public void visit(CLOSE_BRACKET node) {
+        visit((Token) node);
+    }
+
+    public void visit(CLOSE_PAREN node) {
+        visit((Token) node);
+    }
+
+    public void visit(COLON node) {
+        visit((Token) node);
+    }
+
+    public void visit(COMMA node) {
+        visit((Token) node);
+    }
+
+    public void visit(DECIMAL node) {
+        visit((Token) node);
+    }
+
+    public void visit(DIVIDE node) {
+        visit((Token) node);
+    }
+
+    public void visit(DOT node) {
+        visit((Token) node);
+    }
+
+    public void visit(DOT_DOT node) {
+        visit((Token) node);
+    }
+
+    public void visit(DOUBLE_EQUALS node) {
+        visit((Token) node);
+    }
+
+    public void visit(DefaultToExpression node) {
+        recurse(node);
+    }
+
+    public void visit(ELLIPSIS node) {
+        visit((Token) node);
+    }
+
+    public void visit(EQUALS node) {
+        visit((Token) node);
+    }
+
+    public void visit(EXCLAM node) {
+        visit((Token) node);
+    }
+
+    public void visit(EXISTS_OPERATOR node) {
+        visit((Token) node);
+    }
+
+    public void visit(EXP_WHITE_SPACE node) {
+        visit((Token) node);
+    }
+
+    public void visit(EqualityExpression node) {
+        recurse(node);
+    }
+
+    public void visit(Exists node) {
+        recurse(node);
+    }
+
+    public void visit(Expression node) {
+        recurse(node);
+    }
+
+    public void visit(FALSE node) {
+        visit((Token) node);
+    }
+
+    public void visit(GT node) {
+        visit((Token) node);
+    }
+
+    public void visit(GTE node) {
+        visit((Token) node);
+    }
+
+    public void visit(HashLiteral node) {
+        recurse(node);
+    }
+
+    public void visit(IDENTIFIER node) {
+        visit((Token) node);
+    }
+
+    public void visit(IN node) {
+        visit((Token) node);
+    }
+
+    public void visit(INTEGER node) {
+        visit((Token) node);
+    }
+
+    public void visit(LT node) {
+        visit((Token) node);
+    }
+
+    public void visit(LTE node) {
+        visit((Token) node);
+    }
+
+    public void visit(ListLiteral node) {
+        recurse(node);
+    }
+
+    public void visit(MINUS node) {
+        visit((Token) node);
+    }
+
+    public void visit(MultiplicativeExpression node) {
+        recurse(node);
+    }
+
+    public void visit(NOT_EQUALS node) {
+        visit((Token) node);
+    }
+
+    public void visit(NULL node) {
+        visit((Token) node);
+    }
+
+    public void visit(NamedArgsList node) {
+        recurse(node);
+    }
+
+    public void visit(NotExpression node) {
+        recurse(node);
+    }
+
+    public void visit(NullLiteral node) {
+        recurse(node);
+    }
+
+    public void visit(NumberLiteral node) {
+        recurse(node);
+    }
+
+    public void visit(OPEN_BRACE node) {
+        visit((Token) node);
+    }
+
+    public void visit(OPEN_BRACKET node) {
+        visit((Token) node);
+    }
+
+    public void visit(OPEN_PAREN node) {
+        visit((Token) node);
+    }
+
+    public void visit(OR node) {
+        visit((Token) node);
+    }
+
+    public void visit(OR2 node) {
+        visit((Token) node);
+    }
+
+    public void visit(OrExpression node) {
+        recurse(node);
+    }
+
+    public void visit(PERCENT node) {
+        visit((Token) node);
+    }
+
+    public void visit(PLUS node) {
+        visit((Token) node);
+    }
+
+    public void visit(Parenthesis node) {
+        recurse(node);
+    }
+
+    public void visit(PositionalArgsList node) {
+        recurse(node);
+    }
+
+    public void visit(PrimaryExpression node) {
+        recurse(node);
+    }
+
+    public void visit(RAW_STRING node) {
+        visit((Token) node);
+    }
+
+    public void visit(RangeExpression node) {
+        recurse(node);
+    }
+
+    public void visit(RelationalExpression node) {
+        recurse(node);
+    }
+
+    public void visit(SEMICOLON node) {
+        visit((Token) node);
+    }
+
+    public void visit(STRING_LITERAL node) {
+        visit((Token) node);
+    }
+
+    public void visit(StringLiteral node) {
+        recurse(node);
+    }
+
+    public void visit(TIMES node) {
+        visit((Token) node);
+    }
+
+    public void visit(TRUE node) {
+        visit((Token) node);
+    }
+
+    public void visit(Token node) {
+        recurse(node);
+    }
+
+    public void visit(USING node) {
+        visit((Token) node);
+    }
+
+    public void visit(UnaryPlusMinusExpression node) {
+        recurse(node);
+    }
+
+}
+
+
@@ -0,0 +1,39 @@
+/* Generated by: JavaCC 21 Parser Generator. InvalidToken.java */
+package fel;
+
+
+/**
+* Token subclass to represent lexically invalid input
+*/
+public class InvalidToken extends Token implements ParsingProblem {
+
+    public InvalidToken(FELLexer tokenSource, int beginOffset, int endOffset) {
+        super(TokenType.INVALID, tokenSource, beginOffset, endOffset);
+        super.setUnparsed(true);
+        this.setDirty(true);
+    }
+
+    public String getNormalizedText() {
+        return "Lexically Invalid Input:" + getImage();
+    }
+
+    private ParseException cause;
+    private String errorMessage;
+
+    void setCause(ParseException cause) {
+        this.cause = cause;
+    }
+
+    public ParseException getCause() {
+        return cause;
+    }
+
+    public String getErrorMessage() {
+        if (errorMessage != null) return errorMessage;
+        return "lexically invalid input";
+        // REVISIT
+    }
+
+}
+
+
@@ -0,0 +1,16 @@
+/* Generated by: JavaCC 21 Parser Generator. ParsingProblem.java */
+package fel;
+
+
+/**
+* Problem while parsing.
+*/
+public interface ParsingProblem extends Node {
+
+    ParseException getCause();
+
+    String getErrorMessage();
+
+}
+
+
@@ -0,0 +1,14600 @@
+/* Generated by: JavaCC 21 Parser Generator. FTLParser.java */
+package ftl;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.concurrent.CancellationException;
+import ftl.ast.Expression;
+import ftl.ast.OrExpression;
+import ftl.ast.AndExpression;
+import ftl.ast.EqualityExpression;
+import ftl.ast.RelationalExpression;
+import ftl.ast.RangeExpression;
+import ftl.ast.AdditiveExpression;
+import ftl.ast.MultiplicativeExpression;
+import ftl.ast.UnaryPlusMinusExpression;
+import ftl.ast.NotExpression;
+import ftl.ast.BuiltinVariable;
+import ftl.ast.DefaultToExpression;
+import ftl.ast.PrimaryExpression;
+import ftl.ast.BaseExpression;
+import ftl.ast.Exists;
+import ftl.ast.ListLiteral;
+import ftl.ast.StringLiteral;
+import ftl.ast.HashLiteral;
+import ftl.ast.NumberLiteral;
+import ftl.ast.BooleanLiteral;
+import ftl.ast.NullLiteral;
+import ftl.ast.Parenthesis;
+import ftl.ast.NamedArgsList;
+import ftl.ast.PositionalArgsList;
+import ftl.ast.IdentifierOrStringLiteral;
+import ftl.ast.Interpolation;
+import ftl.ast.NumericalInterpolation;
+import ftl.ast.Assignment;
+import ftl.ast.VarInstruction;
+import ftl.ast.SettingInstruction;
+import ftl.ast.AttemptRecover;
+import ftl.ast.CommentBlock;
+import ftl.ast.NoParseBlock;
+import ftl.ast.TrimInstruction;
+import ftl.ast.BreakInstruction;
+import ftl.ast.FlushInstruction;
+import ftl.ast.ReturnInstruction;
+import ftl.ast.StopInstruction;
+import ftl.ast.CompressBlock;
+import ftl.ast.TrimBlock;
+import ftl.ast.NoEscapeBlock;
+import ftl.ast.EscapeBlock;
+import ftl.ast.IncludeInstruction;
+import ftl.ast.EmbedInstruction;
+import ftl.ast.ImportInstruction;
+import ftl.ast.VisitInstruction;
+import ftl.ast.RecurseInstruction;
+import ftl.ast.FallBackInstruction;
+import ftl.ast.IfStatement;
+import ftl.ast.ElseIfBlock;
+import ftl.ast.ElseBlock;
+import ftl.ast.SwitchInstruction;
+import ftl.ast.CaseInstruction;
+import ftl.ast.DefaultInstruction;
+import ftl.ast.ListInstruction;
+import ftl.ast.ForEachInstruction;
+import ftl.ast.NestedInstruction;
+import ftl.ast.MacroDefinition;
+import ftl.ast.ParameterList;
+import ftl.ast.LooseTagEnd;
+import ftl.ast.DirectiveEnd;
+import ftl.ast.Text;
+import ftl.ast.RecoverBlock;
+import ftl.ast.UserDirective;
+import ftl.ast.Block;
+import ftl.ast.FTLHeader;
+import ftl.ast.Root;
+import static ftl.FTLConstants.TokenType.*;
+import java.io.*;
+import java.util.*;
+
+
+public class FTLParser implements FTLConstants {
+    static final boolean DUMPTREE = false;
+
+    static public void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            usage();
+            System.exit(- 1);
+        }
+        java.util.List<File> files = new java.util.ArrayList<File>();
+        for (String arg : args) {
+            File file = new File(arg);
+            if (file.isDirectory()) {
+                for (File f : file.listFiles()) {
+                    if (f.getName().endsWith(".ftl")) {
+                        files.add(f);
+                    }
+                }
+            } else {
+                files.add(file);
+            }
+        }
+        for (File f : files) {
+            checkFTLFile(f, false);
+        }
+    }
+
+    static public void checkFTLFile(File inputFile, boolean dumpTree) {
+        FTLParser parser = null;
+        try {
+            parser = new FTLParser(inputFile.toPath());
+            parser.Root();
+        } catch (Exception e) {
+            System.err.println("Error parsing " + inputFile);
+            e.printStackTrace();
+            return;
+        }
+        System.err.println("File " + inputFile + " parsed successfully.");
+        if (dumpTree) {
+            parser.rootNode().dump("---");
+        }
+    }
+
+    static public void usage() {
+        System.err.println("Usage: java ftl.FTLParser <filenames>");
+    }
+
+    static final int UNLIMITED = Integer.MAX_VALUE;
+    // The last token successfully "consumed"
+    Token lastConsumedToken;
+    private TokenType nextTokenType;
+    private Token currentLookaheadToken;
+    private int remainingLookahead;
+    private boolean hitFailure, passedPredicate;
+    private String currentlyParsedProduction, currentLookaheadProduction;
+    private int lookaheadRoutineNesting, passedPredicateThreshold = -1;
+    private EnumSet<TokenType> outerFollowSet;
+    private boolean legacyGlitchyLookahead = false;
+    private boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public FTLLexer token_source;
+
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public FTLParser(String inputSource, CharSequence content) {
+        this(new FTLLexer(inputSource, content));
+    }
+
+    public FTLParser(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public FTLParser(String inputSource, Path path) throws IOException {
+        this(inputSource, FTLLexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    public FTLParser(String inputSource, Path path, Charset charset) throws IOException {
+        this(inputSource, FTLLexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public FTLParser(Path path) throws IOException {
+        this(path.toString(), path);
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public FTLParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public FTLParser(Reader reader) {
+        this(new FTLLexer("input", reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public FTLParser(FTLLexer lexer) {
+        token_source = lexer;
+        lastConsumedToken = lexer.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(lexer);
+    }
+
+    /**
+    * Makes this parser ready to parse new input, as if it had just been
+    * constructed with it, but reusing the stacks that it (and its lexer)
+    * already has. See FTLLexer#reset(CharSequence).
+    * The tree built from the previous input must not be used after this.
+    * Note that any fields that code injected into this class adds are
+    * left alone.
+    * @param input the new input
+    */
+    public void reset(CharSequence input) {
+        reset("input", input);
+    }
+
+    /**
+    * @see #reset(CharSequence)
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param input the new input
+    */
+    public void reset(String inputSource, CharSequence input) {
+        token_source.reset(inputSource, input);
+        lastConsumedToken = token_source.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(token_source);
+        nextTokenType = null;
+        currentLookaheadToken = null;
+        remainingLookahead = 0;
+        hitFailure = passedPredicate = false;
+        currentlyParsedProduction = currentLookaheadProduction = null;
+        lookaheadRoutineNesting = 0;
+        passedPredicateThreshold = -1;
+        outerFollowSet = null;
+        cancelled = false;
+        parsingStack.truncate(0);
+        lookaheadStack.truncate(0);
+        parseStateStack.clear();
+        clearUndoLog();
+        while (currentNodeScope.parentScope != null) {
+            currentNodeScope = currentNodeScope.parentScope;
+        }
+        currentNodeScope.clear();
+    }
+
+    // If the next token is cached, it returns that
+    // Otherwise, it goes to the token_source, i.e. the Lexer.
+    final private Token nextToken(final Token tok) {
+        Token result = token_source.getNextToken(tok);
+        while (result.isUnparsed()) {
+            result = token_source.getNextToken(result);
+        }
+        nextTokenType = null;
+        return result;
+    }
+
+    /**
+    * @return the next Token off the stream. This is the same as #getToken(1)
+    */
+    final public Token getNextToken() {
+        return getToken(1);
+    }
+
+    /**
+    * @param index how many tokens to look ahead
+    * @return the specific regular (i.e. parsed) Token index ahead/behind in the stream.
+    * If we are in a lookahead, it looks ahead from the currentLookaheadToken
+    * Otherwise, it is the lastConsumedToken. If you pass in a negative
+    * number it goes backward.
+    */
+    final public Token getToken(final int index) {
+        Token t = currentLookaheadToken == null ? lastConsumedToken : currentLookaheadToken;
+        for (int i = 0; i < index; i++) {
+            t = nextToken(t);
+        }
+        for (int i = 0; i > index; i--) {
+            t = t.getPrevious();
+            if (t == null) break;
+        }
+        return t;
+    }
+
+    private final TokenType nextTokenType() {
+        if (nextTokenType == null) {
+            nextTokenType = nextToken(lastConsumedToken).getType();
+        }
+        return nextTokenType;
+    }
+
+    boolean activateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result |= token_source.activeTokenTypes.add(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    boolean deactivateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result |= token_source.activeTokenTypes.remove(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    //=================================
+    // Start of methods for BNF Productions
+    //This code is generated by the ParserProductions.java.ftl template.
+    //=================================
+    static private final EnumSet<TokenType> Input_FIRST_SET = Input_FIRST_SET_init();
+
+    static private EnumSet<TokenType> Input_FIRST_SET_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, EXCLAM, NULL, 
+        TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    // FEL.javacc:167:1
+    final public Node Input() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Input";
+        // Code for NonTerminal specified at FEL.javacc:168:4
+        pushOntoCallStack("Input", "FEL.javacc", 168, 4);
+        try {
+            Expression();
+        } finally {
+            popCallStack();
+        }
+        // Code for EndOfFile specified at FEL.javacc:169:4
+        consumeToken(EOF);
+        // Code for CodeBlock specified at FEL.javacc:170:4
+        return rootNode();
+    }
+
+    // FEL.javacc:175:1
+    final public void Expression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Expression";
+        Expression Expression1 = null;
+        if (buildTree) {
+            Expression1 = new Expression();
+            openNodeScope(Expression1);
+        }
+        ParseException parseException18 = null;
+        int callStackSize19 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at FEL.javacc:176:5
+            pushOntoCallStack("Expression", "FEL.javacc", 176, 5);
+            try {
+                OrExpression();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException18 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize19);
+            if (Expression1 != null) {
+                if (parseException18 == null) {
+                    closeNodeScope(Expression1, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:179:1
+    final public void OrExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "OrExpression";
+        OrExpression OrExpression2 = null;
+        if (buildTree) {
+            OrExpression2 = new OrExpression();
+            openNodeScope(OrExpression2);
+        }
+        ParseException parseException26 = null;
+        int callStackSize27 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at FEL.javacc:180:5
+            pushOntoCallStack("OrExpression", "FEL.javacc", 180, 5);
+            try {
+                AndExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at FEL.javacc:181:5
+            while (true) {
+                if (!(nextTokenType() == OR || nextTokenType == OR2)) break;
+                if (nextTokenType() == OR) {
+                    // Code for RegexpRef specified at FEL.javacc:182:10
+                    consumeToken(OR);
+                } else if (nextTokenType() == OR2) {
+                    // Code for RegexpRef specified at FEL.javacc:182:15
+                    consumeToken(OR2);
+                } else {
+                    pushOntoCallStack("OrExpression", "FEL.javacc", 182, 10);
+                    throw new ParseException(this, first_set$FEL_javacc$182$10, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at FEL.javacc:182:22
+                pushOntoCallStack("OrExpression", "FEL.javacc", 182, 22);
+                try {
+                    AndExpression();
+                } finally {
+                    popCallStack();
+                }
+            }
+        } catch (ParseException e) {
+            parseException26 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize27);
+            if (OrExpression2 != null) {
+                if (parseException26 == null) {
+                    closeNodeScope(OrExpression2, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:186:1
+    final public void AndExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "AndExpression";
+        AndExpression AndExpression3 = null;
+        if (buildTree) {
+            AndExpression3 = new AndExpression();
+            openNodeScope(AndExpression3);
+        }
+        ParseException parseException67 = null;
+        int callStackSize68 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at FEL.javacc:187:5
+            pushOntoCallStack("AndExpression", "FEL.javacc", 187, 5);
+            try {
+                EqualityExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at FEL.javacc:188:5
+            while (true) {
+                if (!(nextTokenType() == AND || nextTokenType == AND2)) break;
+                if (nextTokenType() == AND) {
+                    // Code for RegexpRef specified at FEL.javacc:189:10
+                    consumeToken(AND);
+                } else if (nextTokenType() == AND2) {
+                    // Code for RegexpRef specified at FEL.javacc:189:16
+                    consumeToken(AND2);
+                } else {
+                    pushOntoCallStack("AndExpression", "FEL.javacc", 189, 10);
+                    throw new ParseException(this, first_set$FEL_javacc$189$10, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at FEL.javacc:189:24
+                pushOntoCallStack("AndExpression", "FEL.javacc", 189, 24);
+                try {
+                    EqualityExpression();
+                } finally {
+                    popCallStack();
+                }
+            }
+        } catch (ParseException e) {
+            parseException67 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize68);
+            if (AndExpression3 != null) {
+                if (parseException67 == null) {
+                    closeNodeScope(AndExpression3, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:193:1
+    final public void EqualityExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "EqualityExpression";
+        EqualityExpression EqualityExpression4 = null;
+        if (buildTree) {
+            EqualityExpression4 = new EqualityExpression();
+            openNodeScope(EqualityExpression4);
+        }
+        ParseException parseException108 = null;
+        int callStackSize109 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at FEL.javacc:194:5
+            pushOntoCallStack("EqualityExpression", "FEL.javacc", 194, 5);
+            try {
+                RelationalExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at FEL.javacc:195:5
+            if (nextTokenType() == EQUALS || nextTokenType == DOUBLE_EQUALS || nextTokenType == NOT_EQUALS) {
+                if (nextTokenType() == EQUALS) {
+                    // Code for RegexpRef specified at FEL.javacc:196:10
+                    consumeToken(EQUALS);
+                } else if (nextTokenType() == DOUBLE_EQUALS) {
+                    // Code for RegexpRef specified at FEL.javacc:196:19
+                    consumeToken(DOUBLE_EQUALS);
+                } else if (nextTokenType() == NOT_EQUALS) {
+                    // Code for RegexpRef specified at FEL.javacc:196:35
+                    consumeToken(NOT_EQUALS);
+                } else {
+                    pushOntoCallStack("EqualityExpression", "FEL.javacc", 196, 10);
+                    throw new ParseException(this, first_set$FEL_javacc$196$10, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at FEL.javacc:197:9
+                pushOntoCallStack("EqualityExpression", "FEL.javacc", 197, 9);
+                try {
+                    RelationalExpression();
+                } finally {
+                    popCallStack();
+                }
+            }
+        } catch (ParseException e) {
+            parseException108 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize109);
+            if (EqualityExpression4 != null) {
+                if (parseException108 == null) {
+                    closeNodeScope(EqualityExpression4, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:201:1
+    final public void RelationalExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "RelationalExpression";
+        RelationalExpression RelationalExpression5 = null;
+        if (buildTree) {
+            RelationalExpression5 = new RelationalExpression();
+            openNodeScope(RelationalExpression5);
+        }
+        ParseException parseException157 = null;
+        int callStackSize158 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at FEL.javacc:202:5
+            pushOntoCallStack("RelationalExpression", "FEL.javacc", 202, 5);
+            try {
+                RangeExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at FEL.javacc:203:5
+            if (first_set$FEL_javacc$204$9.contains(nextTokenType())) {
+                switch(nextTokenType()) {
+                    case GT : 
+                        // Code for RegexpRef specified at FEL.javacc:204:10
+                        consumeToken(GT);
+                        break;
+                    case GTE : 
+                        // Code for RegexpRef specified at FEL.javacc:204:15
+                        consumeToken(GTE);
+                        break;
+                    case LT : 
+                        // Code for RegexpRef specified at FEL.javacc:204:21
+                        consumeToken(LT);
+                        break;
+                    case LTE : 
+                        // Code for RegexpRef specified at FEL.javacc:204:26
+                        consumeToken(LTE);
+                        break;
+                    case ALT_GT : 
+                        // Code for RegexpRef specified at FEL.javacc:204:32
+                        consumeToken(ALT_GT);
+                        break;
+                    case ALT_GTE : 
+                        // Code for RegexpRef specified at FEL.javacc:204:41
+                        consumeToken(ALT_GTE);
+                        break;
+                    case ALT_LTE : 
+                        // Code for RegexpRef specified at FEL.javacc:204:51
+                        consumeToken(ALT_LTE);
+                        break;
+                    case ALT_LT : 
+                        // Code for RegexpRef specified at FEL.javacc:204:61
+                        consumeToken(ALT_LT);
+                        break;
+                    default : 
+                        {
+                            pushOntoCallStack("RelationalExpression", "FEL.javacc", 204, 10);
+                            throw new ParseException(this, first_set$FEL_javacc$204$10, parsingStack.toList());
+                        }
+                }
+                // Code for NonTerminal specified at FEL.javacc:205:9
+                pushOntoCallStack("RelationalExpression", "FEL.javacc", 205, 9);
+                try {
+                    RangeExpression();
+                } finally {
+                    popCallStack();
+                }
+            }
+        } catch (ParseException e) {
+            parseException157 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize158);
+            if (RelationalExpression5 != null) {
+                if (parseException157 == null) {
+                    closeNodeScope(RelationalExpression5, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:209:1
+    final public void RangeExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "RangeExpression";
+        RangeExpression RangeExpression6 = null;
+        if (buildTree) {
+            RangeExpression6 = new RangeExpression();
+            openNodeScope(RangeExpression6);
+        }
+        ParseException parseException246 = null;
+        int callStackSize247 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at FEL.javacc:210:5
+            pushOntoCallStack("RangeExpression", "FEL.javacc", 210, 5);
+            try {
+                AdditiveExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at FEL.javacc:211:5
+            if (nextTokenType() == DOT_DOT) {
+                // Code for RegexpRef specified at FEL.javacc:212:8
+                consumeToken(DOT_DOT);
+                // Code for ZeroOrOne specified at FEL.javacc:213:8
+                if (scan$FEL_javacc$214$11()) {
+                    // Code for NonTerminal specified at FEL.javacc:214:11
+                    pushOntoCallStack("RangeExpression", "FEL.javacc", 214, 11);
+                    try {
+                        AdditiveExpression();
+                    } finally {
+                        popCallStack();
+                    }
+                }
+            }
+        } catch (ParseException e) {
+            parseException246 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize247);
+            if (RangeExpression6 != null) {
+                if (parseException246 == null) {
+                    closeNodeScope(RangeExpression6, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:219:1
+    final public void AdditiveExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "AdditiveExpression";
+        AdditiveExpression AdditiveExpression7 = null;
+        if (buildTree) {
+            AdditiveExpression7 = new AdditiveExpression();
+            openNodeScope(AdditiveExpression7);
+        }
+        ParseException parseException278 = null;
+        int callStackSize279 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at FEL.javacc:220:5
+            pushOntoCallStack("AdditiveExpression", "FEL.javacc", 220, 5);
+            try {
+                MultiplicativeExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at FEL.javacc:221:5
+            while (true) {
+                if (!(nextTokenType() == PLUS || nextTokenType == MINUS)) break;
+                if (nextTokenType() == PLUS) {
+                    // Code for RegexpRef specified at FEL.javacc:222:13
+                    consumeToken(PLUS);
+                } else if (nextTokenType() == MINUS) {
+                    // Code for RegexpRef specified at FEL.javacc:222:20
+                    consumeToken(MINUS);
+                } else {
+                    pushOntoCallStack("AdditiveExpression", "FEL.javacc", 222, 13);
+                    throw new ParseException(this, first_set$FEL_javacc$222$13, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at FEL.javacc:223:12
+                pushOntoCallStack("AdditiveExpression", "FEL.javacc", 223, 12);
+                try {
+                    MultiplicativeExpression();
+                } finally {
+                    popCallStack();
+                }
+            }
+        } catch (ParseException e) {
+            parseException278 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize279);
+            if (AdditiveExpression7 != null) {
+                if (parseException278 == null) {
+                    closeNodeScope(AdditiveExpression7, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:227:1
+    final public void MultiplicativeExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "MultiplicativeExpression";
+        MultiplicativeExpression MultiplicativeExpression8 = null;
+        if (buildTree) {
+            MultiplicativeExpression8 = new MultiplicativeExpression();
+            openNodeScope(MultiplicativeExpression8);
+        }
+        ParseException parseException319 = null;
+        int callStackSize320 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at FEL.javacc:228:5
+            pushOntoCallStack("MultiplicativeExpression", "FEL.javacc", 228, 5);
+            try {
+                UnaryExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at FEL.javacc:229:5
+            while (true) {
+                if (!(nextTokenType() == TIMES || nextTokenType == DIVIDE || nextTokenType == PERCENT)) break;
+                if (nextTokenType() == TIMES) {
+                    // Code for RegexpRef specified at FEL.javacc:230:12
+                    consumeToken(TIMES);
+                } else if (nextTokenType() == DIVIDE) {
+                    // Code for RegexpRef specified at FEL.javacc:230:20
+                    consumeToken(DIVIDE);
+                } else if (nextTokenType() == PERCENT) {
+                    // Code for RegexpRef specified at FEL.javacc:230:29
+                    consumeToken(PERCENT);
+                } else {
+                    pushOntoCallStack("MultiplicativeExpression", "FEL.javacc", 230, 12);
+                    throw new ParseException(this, first_set$FEL_javacc$230$12, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at FEL.javacc:231:11
+                pushOntoCallStack("MultiplicativeExpression", "FEL.javacc", 231, 11);
+                try {
+                    UnaryExpression();
+                } finally {
+                    popCallStack();
+                }
+            }
+        } catch (ParseException e) {
+            parseException319 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize320);
+            if (MultiplicativeExpression8 != null) {
+                if (parseException319 == null) {
+                    closeNodeScope(MultiplicativeExpression8, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> UnaryExpression_FIRST_SET = Input_FIRST_SET;
+
+    // FEL.javacc:236:1
+    final public void UnaryExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "UnaryExpression";
+        // Code for ExpansionChoice specified at FEL.javacc:237:5
+        switch(nextTokenType()) {
+            case PLUS : case MINUS : 
+                // Code for NonTerminal specified at FEL.javacc:237:5
+                pushOntoCallStack("UnaryExpression", "FEL.javacc", 237, 5);
+                try {
+                    UnaryPlusMinusExpression();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case EXCLAM : 
+                // Code for NonTerminal specified at FEL.javacc:239:5
+                pushOntoCallStack("UnaryExpression", "FEL.javacc", 239, 5);
+                try {
+                    NotExpression();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case OPEN_PAREN : case OPEN_BRACKET : case OPEN_BRACE : case DOT : case NULL : case TRUE : case FALSE : case INTEGER : case DECIMAL : case IDENTIFIER : case STRING_LITERAL : case RAW_STRING : 
+                // Code for NonTerminal specified at FEL.javacc:241:5
+                pushOntoCallStack("UnaryExpression", "FEL.javacc", 241, 5);
+                try {
+                    DefaultToExpression();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            default : 
+                {
+                    pushOntoCallStack("UnaryExpression", "FEL.javacc", 237, 5);
+                    throw new ParseException(this, UnaryExpression_FIRST_SET, parsingStack.toList());
+                }
+        }
+    }
+
+    static private final EnumSet<TokenType> UnaryPlusMinusExpression_FIRST_SET = EnumSet.of(PLUS, 
+    MINUS);
+
+    // FEL.javacc:244:1
+    final public void UnaryPlusMinusExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "UnaryPlusMinusExpression";
+        UnaryPlusMinusExpression UnaryPlusMinusExpression9 = null;
+        if (buildTree) {
+            UnaryPlusMinusExpression9 = new UnaryPlusMinusExpression();
+            openNodeScope(UnaryPlusMinusExpression9);
+        }
+        ParseException parseException396 = null;
+        int callStackSize397 = parsingStack.size();
+        try {
+            if (nextTokenType() == PLUS) {
+                // Code for RegexpRef specified at FEL.javacc:245:6
+                consumeToken(PLUS);
+            } else if (nextTokenType() == MINUS) {
+                // Code for RegexpRef specified at FEL.javacc:245:13
+                consumeToken(MINUS);
+            } else {
+                pushOntoCallStack("UnaryPlusMinusExpression", "FEL.javacc", 245, 6);
+                throw new ParseException(this, first_set$FEL_javacc$245$6, parsingStack.toList());
+            }
+            // Code for NonTerminal specified at FEL.javacc:245:22
+            pushOntoCallStack("UnaryPlusMinusExpression", "FEL.javacc", 245, 22);
+            try {
+                DefaultToExpression();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException396 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize397);
+            if (UnaryPlusMinusExpression9 != null) {
+                if (parseException396 == null) {
+                    closeNodeScope(UnaryPlusMinusExpression9, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:248:1
+    final public void NotExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "NotExpression";
+        NotExpression NotExpression10 = null;
+        if (buildTree) {
+            NotExpression10 = new NotExpression();
+            openNodeScope(NotExpression10);
+        }
+        ParseException parseException425 = null;
+        int callStackSize426 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at FEL.javacc:249:5
+            consumeToken(EXCLAM);
+            // Code for NonTerminal specified at FEL.javacc:250:5
+            pushOntoCallStack("NotExpression", "FEL.javacc", 250, 5);
+            try {
+                DefaultToExpression();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException425 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize426);
+            if (NotExpression10 != null) {
+                if (parseException425 == null) {
+                    closeNodeScope(NotExpression10, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:253:1
+    final public void BuiltinVariable() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "BuiltinVariable";
+        BuiltinVariable BuiltinVariable11 = null;
+        if (buildTree) {
+            BuiltinVariable11 = new BuiltinVariable();
+            openNodeScope(BuiltinVariable11);
+        }
+        ParseException parseException437 = null;
+        int callStackSize438 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at FEL.javacc:254:5
+            consumeToken(DOT);
+            // Code for RegexpRef specified at FEL.javacc:254:10
+            consumeToken(IDENTIFIER);
+        } catch (ParseException e) {
+            parseException437 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize438);
+            if (BuiltinVariable11 != null) {
+                if (parseException437 == null) {
+                    closeNodeScope(BuiltinVariable11, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> DefaultToExpression_FIRST_SET = DefaultToExpression_FIRST_SET_init();
+
+    static private EnumSet<TokenType> DefaultToExpression_FIRST_SET_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, NULL, TRUE, FALSE, INTEGER, 
+        DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    // FEL.javacc:257:1
+    final public void DefaultToExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "DefaultToExpression";
+        DefaultToExpression DefaultToExpression12 = null;
+        if (buildTree) {
+            DefaultToExpression12 = new DefaultToExpression();
+            openNodeScope(DefaultToExpression12);
+        }
+        ParseException parseException449 = null;
+        int callStackSize450 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at FEL.javacc:258:5
+            pushOntoCallStack("DefaultToExpression", "FEL.javacc", 258, 5);
+            try {
+                PrimaryExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at FEL.javacc:259:5
+            while (true) {
+                if (!((getToken(2).getType() != IDENTIFIER || getToken(3).getType() != EQUALS) && scan$FEL_javacc$261$9())) break;
+                // Code for RegexpRef specified at FEL.javacc:262:12
+                consumeToken(EXCLAM);
+                // Code for NonTerminal specified at FEL.javacc:262:20
+                pushOntoCallStack("DefaultToExpression", "FEL.javacc", 262, 20);
+                try {
+                    PrimaryExpression();
+                } finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrOne specified at FEL.javacc:264:5
+            if (nextTokenType() == EXCLAM) {
+                // Code for RegexpRef specified at FEL.javacc:265:8
+                consumeToken(EXCLAM);
+            }
+        } catch (ParseException e) {
+            parseException449 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize450);
+            if (DefaultToExpression12 != null) {
+                if (parseException449 == null) {
+                    closeNodeScope(DefaultToExpression12, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:269:1
+    final public void PrimaryExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "PrimaryExpression";
+        PrimaryExpression PrimaryExpression13 = null;
+        if (buildTree) {
+            PrimaryExpression13 = new PrimaryExpression();
+            openNodeScope(PrimaryExpression13);
+        }
+        ParseException parseException485 = null;
+        int callStackSize486 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at FEL.javacc:270:3
+            pushOntoCallStack("PrimaryExpression", "FEL.javacc", 270, 3);
+            try {
+                BaseExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at FEL.javacc:271:3
+            loop496 : while (true) {
+                // Code for ExpansionChoice specified at FEL.javacc:272:7
+                switch(nextTokenType()) {
+                    case DOT : 
+                        // Code for NonTerminal specified at FEL.javacc:272:7
+                        pushOntoCallStack("PrimaryExpression", "FEL.javacc", 272, 7);
+                        try {
+                            DotKey();
+                        } finally {
+                            popCallStack();
+                        }
+                        break;
+                    case OPEN_BRACKET : 
+                        // Code for NonTerminal specified at FEL.javacc:274:7
+                        pushOntoCallStack("PrimaryExpression", "FEL.javacc", 274, 7);
+                        try {
+                            DynamicKey();
+                        } finally {
+                            popCallStack();
+                        }
+                        break;
+                    case OPEN_PAREN : 
+                        // Code for NonTerminal specified at FEL.javacc:276:7
+                        pushOntoCallStack("PrimaryExpression", "FEL.javacc", 276, 7);
+                        try {
+                            MethodInvoke();
+                        } finally {
+                            popCallStack();
+                        }
+                        break;
+                    case BUILT_IN : 
+                        // Code for NonTerminal specified at FEL.javacc:278:7
+                        pushOntoCallStack("PrimaryExpression", "FEL.javacc", 278, 7);
+                        try {
+                            BuiltIn();
+                        } finally {
+                            popCallStack();
+                        }
+                        break;
+                    case EXISTS_OPERATOR : 
+                        // Code for NonTerminal specified at FEL.javacc:280:7
+                        pushOntoCallStack("PrimaryExpression", "FEL.javacc", 280, 7);
+                        try {
+                            Exists();
+                        } finally {
+                            popCallStack();
+                        }
+                        break;
+                    default : 
+                        {
+                            break loop496;
+                        }
+                }
+            }
+        } catch (ParseException e) {
+            parseException485 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize486);
+            if (PrimaryExpression13 != null) {
+                if (parseException485 == null) {
+                    closeNodeScope(PrimaryExpression13, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> BaseExpression_FIRST_SET = DefaultToExpression_FIRST_SET;
+
+    // FEL.javacc:284:1
+    final public void BaseExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "BaseExpression";
+        // Code for ExpansionChoice specified at FEL.javacc:285:5
+        BaseExpression BaseExpression14 = null;
+        if (buildTree) {
+            BaseExpression14 = new BaseExpression();
+            openNodeScope(BaseExpression14);
+        }
+        ParseException parseException542 = null;
+        int callStackSize543 = parsingStack.size();
+        try {
+            switch(nextTokenType()) {
+                case IDENTIFIER : 
+                    // Code for RegexpRef specified at FEL.javacc:285:5
+                    consumeToken(IDENTIFIER);
+                    break;
+                case INTEGER : case DECIMAL : 
+                    // Code for NonTerminal specified at FEL.javacc:287:5
+                    pushOntoCallStack("BaseExpression", "FEL.javacc", 287, 5);
+                    try {
+                        NumberLiteral();
+                    } finally {
+                        popCallStack();
+                    }
+                    break;
+                case OPEN_BRACE : 
+                    // Code for NonTerminal specified at FEL.javacc:289:5
+                    pushOntoCallStack("BaseExpression", "FEL.javacc", 289, 5);
+                    try {
+                        HashLiteral();
+                    } finally {
+                        popCallStack();
+                    }
+                    break;
+                case STRING_LITERAL : case RAW_STRING : 
+                    // Code for NonTerminal specified at FEL.javacc:291:5
+                    pushOntoCallStack("BaseExpression", "FEL.javacc", 291, 5);
+                    try {
+                        StringLiteral();
+                    } finally {
+                        popCallStack();
+                    }
+                    break;
+                case TRUE : case FALSE : 
+                    // Code for NonTerminal specified at FEL.javacc:293:5
+                    pushOntoCallStack("BaseExpression", "FEL.javacc", 293, 5);
+                    try {
+                        BooleanLiteral();
+                    } finally {
+                        popCallStack();
+                    }
+                    break;
+                case NULL : 
+                    // Code for NonTerminal specified at FEL.javacc:295:5
+                    pushOntoCallStack("BaseExpression", "FEL.javacc", 295, 5);
+                    try {
+                        NullLiteral();
+                    } finally {
+                        popCallStack();
+                    }
+                    break;
+                case OPEN_BRACKET : 
+                    // Code for NonTerminal specified at FEL.javacc:297:5
+                    pushOntoCallStack("BaseExpression", "FEL.javacc", 297, 5);
+                    try {
+                        ListLiteral();
+                    } finally {
+                        popCallStack();
+                    }
+                    break;
+                case OPEN_PAREN : 
+                    // Code for NonTerminal specified at FEL.javacc:299:5
+                    pushOntoCallStack("BaseExpression", "FEL.javacc", 299, 5);
+                    try {
+                        Parenthesis();
+                    } finally {
+                        popCallStack();
+                    }
+                    break;
+                case DOT : 
+                    // Code for NonTerminal specified at FEL.javacc:301:5
+                    pushOntoCallStack("BaseExpression", "FEL.javacc", 301, 5);
+                    try {
+                        BuiltinVariable();
+                    } finally {
+                        popCallStack();
+                    }
+                    break;
+                default : 
+                    {
+                        pushOntoCallStack("BaseExpression", "FEL.javacc", 285, 5);
+                        throw new ParseException(this, BaseExpression_FIRST_SET, parsingStack.toList());
+                    }
+            }
+        } catch (ParseException e) {
+            parseException542 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize543);
+            if (BaseExpression14 != null) {
+                if (parseException542 == null) {
+                    closeNodeScope(BaseExpression14, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:305:1
+    final public void DotKey() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "DotKey";
+        // Code for RegexpRef specified at FEL.javacc:306:5
+        consumeToken(DOT);
+        if (nextTokenType() == IDENTIFIER) {
+            // Code for RegexpRef specified at FEL.javacc:307:6
+            consumeToken(IDENTIFIER);
+        } else if (nextTokenType() == TIMES) {
+            // Code for RegexpRef specified at FEL.javacc:307:19
+            consumeToken(TIMES);
+        } else {
+            pushOntoCallStack("DotKey", "FEL.javacc", 307, 6);
+            throw new ParseException(this, first_set$FEL_javacc$307$6, parsingStack.toList());
+        }
+    }
+
+    // FEL.javacc:310:1
+    final public void DynamicKey() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "DynamicKey";
+        // Code for RegexpRef specified at FEL.javacc:311:5
+        consumeToken(OPEN_BRACKET);
+        // Code for NonTerminal specified at FEL.javacc:311:19
+        pushOntoCallStack("DynamicKey", "FEL.javacc", 311, 19);
+        try {
+            Expression();
+        } finally {
+            popCallStack();
+        }
+        // Code for RegexpRef specified at FEL.javacc:311:29
+        consumeToken(CLOSE_BRACKET);
+    }
+
+    // FEL.javacc:314:1
+    final public void MethodInvoke() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "MethodInvoke";
+        // Code for RegexpRef specified at FEL.javacc:315:3
+        consumeToken(OPEN_PAREN);
+        // Code for ZeroOrOne specified at FEL.javacc:315:15
+        if (first_set$FEL_javacc$315$16.contains(nextTokenType())) {
+            // Code for NonTerminal specified at FEL.javacc:315:16
+            pushOntoCallStack("MethodInvoke", "FEL.javacc", 315, 16);
+            try {
+                ArgsList();
+            } finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpRef specified at FEL.javacc:315:25
+        consumeToken(CLOSE_PAREN);
+    }
+
+    // FEL.javacc:318:1
+    final public void BuiltIn() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "BuiltIn";
+        // Code for RegexpRef specified at FEL.javacc:319:5
+        consumeToken(BUILT_IN);
+        // Code for RegexpRef specified at FEL.javacc:319:15
+        consumeToken(IDENTIFIER);
+    }
+
+    // FEL.javacc:322:1
+    final public void Exists() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Exists";
+        Exists Exists15 = null;
+        if (buildTree) {
+            Exists15 = new Exists();
+            openNodeScope(Exists15);
+        }
+        ParseException parseException699 = null;
+        int callStackSize700 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at FEL.javacc:323:5
+            consumeToken(EXISTS_OPERATOR);
+        } catch (ParseException e) {
+            parseException699 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize700);
+            if (Exists15 != null) {
+                if (parseException699 == null) {
+                    closeNodeScope(Exists15, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:326:1
+    final public void ListLiteral() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "ListLiteral";
+        ListLiteral ListLiteral16 = null;
+        if (buildTree) {
+            ListLiteral16 = new ListLiteral();
+            openNodeScope(ListLiteral16);
+        }
+        ParseException parseException707 = null;
+        int callStackSize708 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at FEL.javacc:327:5
+            consumeToken(OPEN_BRACKET);
+            // Code for ZeroOrOne specified at FEL.javacc:328:5
+            if (first_set$FEL_javacc$328$6.contains(nextTokenType())) {
+                // Code for NonTerminal specified at FEL.javacc:328:6
+                pushOntoCallStack("ListLiteral", "FEL.javacc", 328, 6);
+                try {
+                    Expression();
+                } finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified at FEL.javacc:328:17
+                while (true) {
+                    if (!(first_set$FEL_javacc$328$18.contains(nextTokenType()))) break;
+                    // Code for ZeroOrOne specified at FEL.javacc:328:18
+                    if (nextTokenType() == COMMA) {
+                        // Code for RegexpRef specified at FEL.javacc:328:19
+                        consumeToken(COMMA);
+                    }
+                    // Code for NonTerminal specified at FEL.javacc:328:27
+                    pushOntoCallStack("ListLiteral", "FEL.javacc", 328, 27);
+                    try {
+                        Expression();
+                    } finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for RegexpRef specified at FEL.javacc:329:5
+            consumeToken(CLOSE_BRACKET);
+        } catch (ParseException e) {
+            parseException707 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize708);
+            if (ListLiteral16 != null) {
+                if (parseException707 == null) {
+                    closeNodeScope(ListLiteral16, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> StringLiteral_FIRST_SET = EnumSet.of(STRING_LITERAL, 
+    RAW_STRING);
+
+    // FEL.javacc:332:1
+    final public void StringLiteral() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "StringLiteral";
+        // Code for ExpansionChoice specified at FEL.javacc:333:5
+        StringLiteral StringLiteral17 = null;
+        if (buildTree) {
+            StringLiteral17 = new StringLiteral();
+            openNodeScope(StringLiteral17);
+        }
+        ParseException parseException755 = null;
+        int callStackSize756 = parsingStack.size();
+        try {
+            if (nextTokenType() == STRING_LITERAL) {
+                // Code for RegexpRef specified at FEL.javacc:333:5
+                consumeToken(STRING_LITERAL);
+            } else if (nextTokenType() == RAW_STRING) {
+                // Code for RegexpRef specified at FEL.javacc:333:22
+                consumeToken(RAW_STRING);
+            } else {
+                pushOntoCallStack("StringLiteral", "FEL.javacc", 333, 5);
+                throw new ParseException(this, StringLiteral_FIRST_SET, parsingStack.toList());
+            }
+        } catch (ParseException e) {
+            parseException755 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize756);
+            if (StringLiteral17 != null) {
+                if (parseException755 == null) {
+                    closeNodeScope(StringLiteral17, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:337:1
+    final public void HashLiteral() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "HashLiteral";
+        HashLiteral HashLiteral18 = null;
+        if (buildTree) {
+            HashLiteral18 = new HashLiteral();
+            openNodeScope(HashLiteral18);
+        }
+        ParseException parseException775 = null;
+        int callStackSize776 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at FEL.javacc:338:5
+            consumeToken(OPEN_BRACE);
+            // Code for ZeroOrOne specified at FEL.javacc:339:5
+            if (first_set$FEL_javacc$340$8.contains(nextTokenType())) {
+                // Code for NonTerminal specified at FEL.javacc:340:8
+                pushOntoCallStack("HashLiteral", "FEL.javacc", 340, 8);
+                try {
+                    Expression();
+                } finally {
+                    popCallStack();
+                }
+                // Code for RegexpRef specified at FEL.javacc:340:19
+                consumeToken(COLON);
+                // Code for NonTerminal specified at FEL.javacc:340:27
+                pushOntoCallStack("HashLiteral", "FEL.javacc", 340, 27);
+                try {
+                    Expression();
+                } finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified at FEL.javacc:341:8
+                while (true) {
+                    if (!(nextTokenType() == COMMA)) break;
+                    // Code for RegexpRef specified at FEL.javacc:341:9
+                    consumeToken(COMMA);
+                    // Code for NonTerminal specified at FEL.javacc:341:17
+                    pushOntoCallStack("HashLiteral", "FEL.javacc", 341, 17);
+                    try {
+                        Expression();
+                    } finally {
+                        popCallStack();
+                    }
+                    // Code for RegexpRef specified at FEL.javacc:341:28
+                    consumeToken(COLON);
+                    // Code for NonTerminal specified at FEL.javacc:341:36
+                    pushOntoCallStack("HashLiteral", "FEL.javacc", 341, 36);
+                    try {
+                        Expression();
+                    } finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for RegexpRef specified at FEL.javacc:343:5
+            consumeToken(CLOSE_BRACE);
+        } catch (ParseException e) {
+            parseException775 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize776);
+            if (HashLiteral18 != null) {
+                if (parseException775 == null) {
+                    closeNodeScope(HashLiteral18, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> NumberLiteral_FIRST_SET = EnumSet.of(INTEGER, DECIMAL);
+
+    // FEL.javacc:346:1
+    final public void NumberLiteral() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "NumberLiteral";
+        // Code for ExpansionChoice specified at FEL.javacc:347:5
+        NumberLiteral NumberLiteral19 = null;
+        if (buildTree) {
+            NumberLiteral19 = new NumberLiteral();
+            openNodeScope(NumberLiteral19);
+        }
+        ParseException parseException831 = null;
+        int callStackSize832 = parsingStack.size();
+        try {
+            if (nextTokenType() == INTEGER) {
+                // Code for RegexpRef specified at FEL.javacc:347:5
+                consumeToken(INTEGER);
+            } else if (nextTokenType() == DECIMAL) {
+                // Code for RegexpRef specified at FEL.javacc:347:15
+                consumeToken(DECIMAL);
+            } else {
+                pushOntoCallStack("NumberLiteral", "FEL.javacc", 347, 5);
+                throw new ParseException(this, NumberLiteral_FIRST_SET, parsingStack.toList());
+            }
+        } catch (ParseException e) {
+            parseException831 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize832);
+            if (NumberLiteral19 != null) {
+                if (parseException831 == null) {
+                    closeNodeScope(NumberLiteral19, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> BooleanLiteral_FIRST_SET = EnumSet.of(TRUE, FALSE);
+
+    // FEL.javacc:350:1
+    final public void BooleanLiteral() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "BooleanLiteral";
+        // Code for ExpansionChoice specified at FEL.javacc:351:5
+        BooleanLiteral BooleanLiteral20 = null;
+        if (buildTree) {
+            BooleanLiteral20 = new BooleanLiteral();
+            openNodeScope(BooleanLiteral20);
+        }
+        ParseException parseException851 = null;
+        int callStackSize852 = parsingStack.size();
+        try {
+            if (nextTokenType() == TRUE) {
+                // Code for RegexpRef specified at FEL.javacc:351:5
+                consumeToken(TRUE);
+            } else if (nextTokenType() == FALSE) {
+                // Code for RegexpRef specified at FEL.javacc:351:12
+                consumeToken(FALSE);
+            } else {
+                pushOntoCallStack("BooleanLiteral", "FEL.javacc", 351, 5);
+                throw new ParseException(this, BooleanLiteral_FIRST_SET, parsingStack.toList());
+            }
+        } catch (ParseException e) {
+            parseException851 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize852);
+            if (BooleanLiteral20 != null) {
+                if (parseException851 == null) {
+                    closeNodeScope(BooleanLiteral20, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:354:1
+    final public void NullLiteral() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "NullLiteral";
+        NullLiteral NullLiteral21 = null;
+        if (buildTree) {
+            NullLiteral21 = new NullLiteral();
+            openNodeScope(NullLiteral21);
+        }
+        ParseException parseException871 = null;
+        int callStackSize872 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at FEL.javacc:354:15
+            consumeToken(NULL);
+        } catch (ParseException e) {
+            parseException871 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize872);
+            if (NullLiteral21 != null) {
+                if (parseException871 == null) {
+                    closeNodeScope(NullLiteral21, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:356:1
+    final public void Parenthesis() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Parenthesis";
+        Parenthesis Parenthesis22 = null;
+        if (buildTree) {
+            Parenthesis22 = new Parenthesis();
+            openNodeScope(Parenthesis22);
+        }
+        ParseException parseException879 = null;
+        int callStackSize880 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at FEL.javacc:357:5
+            consumeToken(OPEN_PAREN);
+            // Code for NonTerminal specified at FEL.javacc:357:18
+            pushOntoCallStack("Parenthesis", "FEL.javacc", 357, 18);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified at FEL.javacc:357:29
+            consumeToken(CLOSE_PAREN);
+        } catch (ParseException e) {
+            parseException879 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize880);
+            if (Parenthesis22 != null) {
+                if (parseException879 == null) {
+                    closeNodeScope(Parenthesis22, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:360:1
+    final public void ArgsList() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "ArgsList";
+        if (scan$FEL_javacc$362$9()) {
+            // Code for NonTerminal specified at FEL.javacc:363:9
+            pushOntoCallStack("ArgsList", "FEL.javacc", 363, 9);
+            try {
+                NamedArgsList();
+            } finally {
+                popCallStack();
+            }
+        } else if (first_set$FEL_javacc$365$9.contains(nextTokenType())) {
+            // Code for NonTerminal specified at FEL.javacc:365:9
+            pushOntoCallStack("ArgsList", "FEL.javacc", 365, 9);
+            try {
+                PositionalArgsList();
+            } finally {
+                popCallStack();
+            }
+        } else {
+            pushOntoCallStack("ArgsList", "FEL.javacc", 362, 9);
+            throw new ParseException(this, first_set$FEL_javacc$362$9, parsingStack.toList());
+        }
+    }
+
+    // FEL.javacc:369:1
+    final public void NamedArgsList() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "NamedArgsList";
+        NamedArgsList NamedArgsList23 = null;
+        if (buildTree) {
+            NamedArgsList23 = new NamedArgsList();
+            openNodeScope(NamedArgsList23);
+        }
+        ParseException parseException920 = null;
+        int callStackSize921 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at FEL.javacc:370:5
+            consumeToken(IDENTIFIER);
+            // Code for RegexpRef specified at FEL.javacc:371:5
+            consumeToken(EQUALS);
+            // Code for NonTerminal specified at FEL.javacc:372:5
+            pushOntoCallStack("NamedArgsList", "FEL.javacc", 372, 5);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at FEL.javacc:373:5
+            while (true) {
+                if (!(nextTokenType() == COMMA || nextTokenType == IDENTIFIER)) break;
+                // Code for ZeroOrOne specified at FEL.javacc:374:8
+                if (nextTokenType() == COMMA) {
+                    // Code for RegexpRef specified at FEL.javacc:374:9
+                    consumeToken(COMMA);
+                }
+                // Code for RegexpRef specified at FEL.javacc:375:8
+                consumeToken(IDENTIFIER);
+                // Code for RegexpRef specified at FEL.javacc:376:8
+                consumeToken(EQUALS);
+                // Code for NonTerminal specified at FEL.javacc:377:8
+                pushOntoCallStack("NamedArgsList", "FEL.javacc", 377, 8);
+                try {
+                    Expression();
+                } finally {
+                    popCallStack();
+                }
+            }
+        } catch (ParseException e) {
+            parseException920 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize921);
+            if (NamedArgsList23 != null) {
+                if (parseException920 == null) {
+                    closeNodeScope(NamedArgsList23, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // FEL.javacc:381:1
+    final public void PositionalArgsList() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "PositionalArgsList";
+        PositionalArgsList PositionalArgsList24 = null;
+        if (buildTree) {
+            PositionalArgsList24 = new PositionalArgsList();
+            openNodeScope(PositionalArgsList24);
+        }
+        ParseException parseException968 = null;
+        int callStackSize969 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at FEL.javacc:382:5
+            pushOntoCallStack("PositionalArgsList", "FEL.javacc", 382, 5);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at FEL.javacc:383:5
+            while (true) {
+                if (!(first_set$FEL_javacc$384$8.contains(nextTokenType()))) break;
+                // Code for ZeroOrOne specified at FEL.javacc:384:8
+                if (nextTokenType() == COMMA) {
+                    // Code for RegexpRef specified at FEL.javacc:384:9
+                    consumeToken(COMMA);
+                }
+                // Code for NonTerminal specified at FEL.javacc:385:8
+                pushOntoCallStack("PositionalArgsList", "FEL.javacc", 385, 8);
+                try {
+                    Expression();
+                } finally {
+                    popCallStack();
+                }
+            }
+        } catch (ParseException e) {
+            parseException968 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize969);
+            if (PositionalArgsList24 != null) {
+                if (parseException968 == null) {
+                    closeNodeScope(PositionalArgsList24, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> IdentifierOrStringLiteral_FIRST_SET = EnumSet.of(IDENTIFIER, 
+    STRING_LITERAL, RAW_STRING);
+
+    // /root/project/examples/freemarker/FTL.javacc:359:1
+    final public void IdentifierOrStringLiteral() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "IdentifierOrStringLiteral";
+        // Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:360:5
+        IdentifierOrStringLiteral IdentifierOrStringLiteral25 = null;
+        if (buildTree) {
+            IdentifierOrStringLiteral25 = new IdentifierOrStringLiteral();
+            openNodeScope(IdentifierOrStringLiteral25);
+        }
+        ParseException parseException1000 = null;
+        int callStackSize1001 = parsingStack.size();
+        try {
+            if (nextTokenType() == IDENTIFIER) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:360:5
+                consumeToken(IDENTIFIER);
+            } else if (nextTokenType() == STRING_LITERAL || nextTokenType == RAW_STRING) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:362:5
+                pushOntoCallStack("IdentifierOrStringLiteral", "/root/project/examples/freemarker/FTL.javacc", 
+                362, 5);
+                try {
+                    StringLiteral();
+                } finally {
+                    popCallStack();
+                }
+            } else {
+                pushOntoCallStack("IdentifierOrStringLiteral", "/root/project/examples/freemarker/FTL.javacc", 
+                360, 5);
+                throw new ParseException(this, IdentifierOrStringLiteral_FIRST_SET, parsingStack.toList());
+            }
+        } catch (ParseException e) {
+            parseException1000 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize1001);
+            if (IdentifierOrStringLiteral25 != null) {
+                if (parseException1000 == null) {
+                    closeNodeScope(IdentifierOrStringLiteral25, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:366:1
+    final public void Interpolation() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Interpolation";
+        Interpolation Interpolation26 = null;
+        if (buildTree) {
+            Interpolation26 = new Interpolation();
+            openNodeScope(Interpolation26);
+        }
+        ParseException parseException1020 = null;
+        int callStackSize1021 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:367:5
+            consumeToken(INTERPOLATE);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:367:18
+            pushOntoCallStack("Interpolation", "/root/project/examples/freemarker/FTL.javacc", 
+            367, 18);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:367:28
+            consumeToken(CLOSE_BRACE);
+        } catch (ParseException e) {
+            parseException1020 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize1021);
+            if (Interpolation26 != null) {
+                if (parseException1020 == null) {
+                    closeNodeScope(Interpolation26, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:370:1
+    final public void NumericalInterpolation() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "NumericalInterpolation";
+        NumericalInterpolation NumericalInterpolation27 = null;
+        if (buildTree) {
+            NumericalInterpolation27 = new NumericalInterpolation();
+            openNodeScope(NumericalInterpolation27);
+        }
+        ParseException parseException1036 = null;
+        int callStackSize1037 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:371:5
+            consumeToken(NUMERICAL_INTERPOLATE);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:371:28
+            pushOntoCallStack("NumericalInterpolation", "/root/project/examples/freemarker/FTL.javacc", 
+            371, 28);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:371:39
+            if (nextTokenType() == SEMICOLON) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:371:40
+                consumeToken(SEMICOLON);
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:371:51
+                consumeToken(IDENTIFIER);
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:371:64
+            consumeToken(CLOSE_BRACE);
+        } catch (ParseException e) {
+            parseException1036 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize1037);
+            if (NumericalInterpolation27 != null) {
+                if (parseException1036 == null) {
+                    closeNodeScope(NumericalInterpolation27, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> Assignment_FIRST_SET = EnumSet.of(FTL_DIRECTIVE_OPEN1, 
+    FTL_DIRECTIVE_OPEN2);
+
+    // /root/project/examples/freemarker/FTL.javacc:375:1
+    final public void Assignment() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Assignment";
+        Assignment Assignment28 = null;
+        if (buildTree) {
+            Assignment28 = new Assignment();
+            openNodeScope(Assignment28);
+        }
+        Token t;
+        ParseException parseException1068 = null;
+        int callStackSize1069 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:379:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:379:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("Assignment", "/root/project/examples/freemarker/FTL.javacc", 
+                379, 6);
+                throw new ParseException(this, first_set$FTL_javacc$379$6, parsingStack.toList());
+            }
+            if (nextTokenType() == SET) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:381:10
+                t = consumeToken(SET);
+            } else if (nextTokenType() == ASSIGN) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:382:10
+                t = consumeToken(ASSIGN);
+            } else if (nextTokenType() == LOCAL) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:383:10
+                t = consumeToken(LOCAL);
+            } else if (nextTokenType() == GLOBAL) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:384:10
+                t = consumeToken(GLOBAL);
+            } else {
+                pushOntoCallStack("Assignment", "/root/project/examples/freemarker/FTL.javacc", 
+                381, 8);
+                throw new ParseException(this, first_set$FTL_javacc$381$8, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:386:5
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:387:5
+            pushOntoCallStack("Assignment", "/root/project/examples/freemarker/FTL.javacc", 
+            387, 5);
+            try {
+                IdentifierOrStringLiteral();
+            } finally {
+                popCallStack();
+            }
+            if (nextTokenType() == EQUALS) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:390:8
+                consumeToken(EQUALS);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:390:16
+                pushOntoCallStack("Assignment", "/root/project/examples/freemarker/FTL.javacc", 
+                390, 16);
+                try {
+                    Expression();
+                } finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:391:8
+                while (true) {
+                    if (!(nextTokenType() == COMMA || nextTokenType == IDENTIFIER || nextTokenType == STRING_LITERAL || nextTokenType == RAW_STRING)) break;
+                    // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:391:9
+                    if (nextTokenType() == COMMA) {
+                        // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:391:10
+                        consumeToken(COMMA);
+                    }
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:391:19
+                    pushOntoCallStack("Assignment", "/root/project/examples/freemarker/FTL.javacc", 
+                    391, 19);
+                    try {
+                        IdentifierOrStringLiteral();
+                    } finally {
+                        popCallStack();
+                    }
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:391:45
+                    consumeToken(EQUALS);
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:391:54
+                    pushOntoCallStack("Assignment", "/root/project/examples/freemarker/FTL.javacc", 
+                    391, 54);
+                    try {
+                        Expression();
+                    } finally {
+                        popCallStack();
+                    }
+                }
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:392:8
+                if (nextTokenType() == IN) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:392:9
+                    consumeToken(IN);
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:392:14
+                    pushOntoCallStack("Assignment", "/root/project/examples/freemarker/FTL.javacc", 
+                    392, 14);
+                    try {
+                        Expression();
+                    } finally {
+                        popCallStack();
+                    }
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:393:8
+                pushOntoCallStack("Assignment", "/root/project/examples/freemarker/FTL.javacc", 
+                393, 8);
+                try {
+                    LooseTagEnd();
+                } finally {
+                    popCallStack();
+                }
+            } else if (nextTokenType() == IN || nextTokenType == CLOSE_TAG) {
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:397:11
+                if (nextTokenType() == IN) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:397:12
+                    consumeToken(IN);
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:397:17
+                    pushOntoCallStack("Assignment", "/root/project/examples/freemarker/FTL.javacc", 
+                    397, 17);
+                    try {
+                        Expression();
+                    } finally {
+                        popCallStack();
+                    }
+                }
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:398:10
+                consumeToken(CLOSE_TAG);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:399:10
+                pushOntoCallStack("Assignment", "/root/project/examples/freemarker/FTL.javacc", 
+                399, 10);
+                try {
+                    Block();
+                } finally {
+                    popCallStack();
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:400:10
+                pushOntoCallStack("Assignment", "/root/project/examples/freemarker/FTL.javacc", 
+                400, 10);
+                try {
+                    DirectiveEnd(t.getImage());
+                } finally {
+                    popCallStack();
+                }
+            } else {
+                pushOntoCallStack("Assignment", "/root/project/examples/freemarker/FTL.javacc", 
+                389, 7);
+                throw new ParseException(this, first_set$FTL_javacc$389$7, parsingStack.toList());
+            }
+        } catch (ParseException e) {
+            parseException1068 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize1069);
+            if (Assignment28 != null) {
+                if (parseException1068 == null) {
+                    closeNodeScope(Assignment28, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:405:1
+    final public void Var() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Var";
+        VarInstruction Var29 = null;
+        if (buildTree) {
+            Var29 = new VarInstruction();
+            openNodeScope(Var29);
+        }
+        ParseException parseException1249 = null;
+        int callStackSize1250 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:406:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:406:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("Var", "/root/project/examples/freemarker/FTL.javacc", 406, 
+                6);
+                throw new ParseException(this, first_set$FTL_javacc$406$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:407:5
+            consumeToken(VAR);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:407:10
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:408:5
+            pushOntoCallStack("Var", "/root/project/examples/freemarker/FTL.javacc", 408, 5);
+            try {
+                IdentifierOrStringLiteral();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:408:31
+            if (nextTokenType() == EQUALS) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:408:32
+                consumeToken(EQUALS);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:408:41
+                pushOntoCallStack("Var", "/root/project/examples/freemarker/FTL.javacc", 408, 
+                41);
+                try {
+                    Expression();
+                } finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:409:5
+            while (true) {
+                if (!(nextTokenType() == COMMA || nextTokenType == IDENTIFIER || nextTokenType == STRING_LITERAL || nextTokenType == RAW_STRING)) break;
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:409:6
+                if (nextTokenType() == COMMA) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:409:7
+                    consumeToken(COMMA);
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:409:15
+                pushOntoCallStack("Var", "/root/project/examples/freemarker/FTL.javacc", 409, 
+                15);
+                try {
+                    IdentifierOrStringLiteral();
+                } finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:409:41
+                if (nextTokenType() == EQUALS) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:409:42
+                    consumeToken(EQUALS);
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:409:51
+                    pushOntoCallStack("Var", "/root/project/examples/freemarker/FTL.javacc", 
+                    409, 51);
+                    try {
+                        Expression();
+                    } finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:410:5
+            pushOntoCallStack("Var", "/root/project/examples/freemarker/FTL.javacc", 410, 5);
+            try {
+                LooseTagEnd();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException1249 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize1250);
+            if (Var29 != null) {
+                if (parseException1249 == null) {
+                    closeNodeScope(Var29, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:413:1
+    final public void Setting() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Setting";
+        SettingInstruction Setting30 = null;
+        if (buildTree) {
+            Setting30 = new SettingInstruction();
+            openNodeScope(Setting30);
+        }
+        ParseException parseException1346 = null;
+        int callStackSize1347 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:414:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:414:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("Setting", "/root/project/examples/freemarker/FTL.javacc", 
+                414, 6);
+                throw new ParseException(this, first_set$FTL_javacc$414$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:415:5
+            consumeToken(SETTING);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:415:14
+            consumeToken(BLANK);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:416:5
+            consumeToken(IDENTIFIER);
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:416:18
+            if (nextTokenType() == EQUALS) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:416:19
+                consumeToken(EQUALS);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:416:28
+                pushOntoCallStack("Setting", "/root/project/examples/freemarker/FTL.javacc", 
+                416, 28);
+                try {
+                    Expression();
+                } finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:417:5
+            while (true) {
+                if (!(nextTokenType() == COMMA || nextTokenType == IDENTIFIER || nextTokenType == STRING_LITERAL || nextTokenType == RAW_STRING)) break;
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:417:6
+                if (nextTokenType() == COMMA) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:417:7
+                    consumeToken(COMMA);
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:417:15
+                pushOntoCallStack("Setting", "/root/project/examples/freemarker/FTL.javacc", 
+                417, 15);
+                try {
+                    IdentifierOrStringLiteral();
+                } finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:417:41
+                if (nextTokenType() == EQUALS) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:417:42
+                    consumeToken(EQUALS);
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:417:51
+                    pushOntoCallStack("Setting", "/root/project/examples/freemarker/FTL.javacc", 
+                    417, 51);
+                    try {
+                        Expression();
+                    } finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:418:5
+            pushOntoCallStack("Setting", "/root/project/examples/freemarker/FTL.javacc", 418, 
+            5);
+            try {
+                LooseTagEnd();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException1346 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize1347);
+            if (Setting30 != null) {
+                if (parseException1346 == null) {
+                    closeNodeScope(Setting30, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:421:1
+    final public void Attempt() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Attempt";
+        AttemptRecover Attempt31 = null;
+        if (buildTree) {
+            Attempt31 = new AttemptRecover();
+            openNodeScope(Attempt31);
+        }
+        ParseException parseException1443 = null;
+        int callStackSize1444 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:422:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:422:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("Attempt", "/root/project/examples/freemarker/FTL.javacc", 
+                422, 6);
+                throw new ParseException(this, first_set$FTL_javacc$422$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:423:5
+            consumeToken(_ATTEMPT);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:423:15
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:424:5
+            pushOntoCallStack("Attempt", "/root/project/examples/freemarker/FTL.javacc", 424, 
+            5);
+            try {
+                Block();
+            } finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:425:5
+            pushOntoCallStack("Attempt", "/root/project/examples/freemarker/FTL.javacc", 425, 
+            5);
+            try {
+                Recover();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException1443 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize1444);
+            if (Attempt31 != null) {
+                if (parseException1443 == null) {
+                    closeNodeScope(Attempt31, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:428:1
+    final public void Comment() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Comment";
+        CommentBlock Comment32 = null;
+        if (buildTree) {
+            Comment32 = new CommentBlock();
+            openNodeScope(Comment32);
+        }
+        ParseException parseException1484 = null;
+        int callStackSize1485 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:429:5
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:429:27
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("Comment", "/root/project/examples/freemarker/FTL.javacc", 
+                429, 5);
+                throw new ParseException(this, first_set$FTL_javacc$429$5, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:430:4
+            consumeToken(COMMENT);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:431:4
+            consumeToken(END_COMMENT);
+        } catch (ParseException e) {
+            parseException1484 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize1485);
+            if (Comment32 != null) {
+                if (parseException1484 == null) {
+                    closeNodeScope(Comment32, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:434:1
+    final public void NoParse() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "NoParse";
+        NoParseBlock NoParse33 = null;
+        if (buildTree) {
+            NoParse33 = new NoParseBlock();
+            openNodeScope(NoParse33);
+        }
+        ParseException parseException1517 = null;
+        int callStackSize1518 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:435:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:435:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("NoParse", "/root/project/examples/freemarker/FTL.javacc", 
+                435, 6);
+                throw new ParseException(this, first_set$FTL_javacc$435$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:436:5
+            consumeToken(NOPARSE);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:437:5
+            consumeToken(CLOSE_TAG);
+            // Code for CodeBlock specified at /root/project/examples/freemarker/FTL.javacc:437:16
+            token_source.switchTo(LexicalState.NO_PARSE);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:438:5
+            consumeToken(NOPARSE_END);
+        } catch (ParseException e) {
+            parseException1517 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize1518);
+            if (NoParse33 != null) {
+                if (parseException1517 == null) {
+                    closeNodeScope(NoParse33, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:441:1
+    final public void Trim() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Trim";
+        TrimInstruction Trim34 = null;
+        if (buildTree) {
+            Trim34 = new TrimInstruction();
+            openNodeScope(Trim34);
+        }
+        ParseException parseException1558 = null;
+        int callStackSize1559 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:442:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:442:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("Trim", "/root/project/examples/freemarker/FTL.javacc", 442, 
+                6);
+                throw new ParseException(this, first_set$FTL_javacc$442$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:443:5
+            consumeToken(TRIM);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:444:5
+            pushOntoCallStack("Trim", "/root/project/examples/freemarker/FTL.javacc", 444, 
+            5);
+            try {
+                LooseTagEnd();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException1558 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize1559);
+            if (Trim34 != null) {
+                if (parseException1558 == null) {
+                    closeNodeScope(Trim34, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:447:1
+    final public void NoTrim() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "NoTrim";
+        TrimInstruction NoTrim35 = null;
+        if (buildTree) {
+            NoTrim35 = new TrimInstruction();
+            openNodeScope(NoTrim35);
+        }
+        ParseException parseException1591 = null;
+        int callStackSize1592 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:448:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:448:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("NoTrim", "/root/project/examples/freemarker/FTL.javacc", 
+                448, 6);
+                throw new ParseException(this, first_set$FTL_javacc$448$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:449:5
+            consumeToken(NOTRIM);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:450:5
+            pushOntoCallStack("NoTrim", "/root/project/examples/freemarker/FTL.javacc", 450, 
+            5);
+            try {
+                LooseTagEnd();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException1591 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize1592);
+            if (NoTrim35 != null) {
+                if (parseException1591 == null) {
+                    closeNodeScope(NoTrim35, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:454:1
+    final public void RightTrim() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "RightTrim";
+        TrimInstruction RightTrim36 = null;
+        if (buildTree) {
+            RightTrim36 = new TrimInstruction();
+            openNodeScope(RightTrim36);
+        }
+        ParseException parseException1624 = null;
+        int callStackSize1625 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:455:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:455:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("RightTrim", "/root/project/examples/freemarker/FTL.javacc", 
+                455, 6);
+                throw new ParseException(this, first_set$FTL_javacc$455$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:456:5
+            consumeToken(RTRIM);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:457:5
+            pushOntoCallStack("RightTrim", "/root/project/examples/freemarker/FTL.javacc", 
+            457, 5);
+            try {
+                LooseTagEnd();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException1624 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize1625);
+            if (RightTrim36 != null) {
+                if (parseException1624 == null) {
+                    closeNodeScope(RightTrim36, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:461:1
+    final public void LeftTrim() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "LeftTrim";
+        TrimInstruction LeftTrim37 = null;
+        if (buildTree) {
+            LeftTrim37 = new TrimInstruction();
+            openNodeScope(LeftTrim37);
+        }
+        ParseException parseException1657 = null;
+        int callStackSize1658 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:462:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:462:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("LeftTrim", "/root/project/examples/freemarker/FTL.javacc", 
+                462, 6);
+                throw new ParseException(this, first_set$FTL_javacc$462$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:463:5
+            consumeToken(LTRIM);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:464:5
+            pushOntoCallStack("LeftTrim", "/root/project/examples/freemarker/FTL.javacc", 464, 
+            5);
+            try {
+                LooseTagEnd();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException1657 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize1658);
+            if (LeftTrim37 != null) {
+                if (parseException1657 == null) {
+                    closeNodeScope(LeftTrim37, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:467:1
+    final public void Break() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Break";
+        BreakInstruction Break38 = null;
+        if (buildTree) {
+            Break38 = new BreakInstruction();
+            openNodeScope(Break38);
+        }
+        ParseException parseException1690 = null;
+        int callStackSize1691 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:468:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:468:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("Break", "/root/project/examples/freemarker/FTL.javacc", 
+                468, 6);
+                throw new ParseException(this, first_set$FTL_javacc$468$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:469:5
+            consumeToken(BREAK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:470:5
+            pushOntoCallStack("Break", "/root/project/examples/freemarker/FTL.javacc", 470, 
+            5);
+            try {
+                LooseTagEnd();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException1690 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize1691);
+            if (Break38 != null) {
+                if (parseException1690 == null) {
+                    closeNodeScope(Break38, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:473:1
+    final public void Flush() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Flush";
+        FlushInstruction Flush39 = null;
+        if (buildTree) {
+            Flush39 = new FlushInstruction();
+            openNodeScope(Flush39);
+        }
+        ParseException parseException1723 = null;
+        int callStackSize1724 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:474:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:474:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("Flush", "/root/project/examples/freemarker/FTL.javacc", 
+                474, 6);
+                throw new ParseException(this, first_set$FTL_javacc$474$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:475:5
+            consumeToken(FLUSH);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:475:12
+            pushOntoCallStack("Flush", "/root/project/examples/freemarker/FTL.javacc", 475, 
+            12);
+            try {
+                LooseTagEnd();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException1723 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize1724);
+            if (Flush39 != null) {
+                if (parseException1723 == null) {
+                    closeNodeScope(Flush39, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:478:1
+    final public void Return() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Return";
+        ReturnInstruction Return40 = null;
+        if (buildTree) {
+            Return40 = new ReturnInstruction();
+            openNodeScope(Return40);
+        }
+        ParseException parseException1756 = null;
+        int callStackSize1757 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:479:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:479:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("Return", "/root/project/examples/freemarker/FTL.javacc", 
+                479, 6);
+                throw new ParseException(this, first_set$FTL_javacc$479$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:480:5
+            consumeToken(RETURN);
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:481:5
+            if (nextTokenType() == BLANK) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:481:6
+                consumeToken(BLANK);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:481:13
+                pushOntoCallStack("Return", "/root/project/examples/freemarker/FTL.javacc", 
+                481, 13);
+                try {
+                    Expression();
+                } finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:482:5
+            pushOntoCallStack("Return", "/root/project/examples/freemarker/FTL.javacc", 482, 
+            5);
+            try {
+                LooseTagEnd();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException1756 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize1757);
+            if (Return40 != null) {
+                if (parseException1756 == null) {
+                    closeNodeScope(Return40, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:485:1
+    final public void Stop() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Stop";
+        StopInstruction Stop41 = null;
+        if (buildTree) {
+            Stop41 = new StopInstruction();
+            openNodeScope(Stop41);
+        }
+        ParseException parseException1805 = null;
+        int callStackSize1806 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:486:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:486:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("Stop", "/root/project/examples/freemarker/FTL.javacc", 486, 
+                6);
+                throw new ParseException(this, first_set$FTL_javacc$486$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:487:5
+            consumeToken(STOP);
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:488:5
+            if (nextTokenType() == BLANK) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:488:6
+                consumeToken(BLANK);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:488:13
+                pushOntoCallStack("Stop", "/root/project/examples/freemarker/FTL.javacc", 488, 
+                13);
+                try {
+                    Expression();
+                } finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:489:5
+            pushOntoCallStack("Stop", "/root/project/examples/freemarker/FTL.javacc", 489, 
+            5);
+            try {
+                LooseTagEnd();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException1805 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize1806);
+            if (Stop41 != null) {
+                if (parseException1805 == null) {
+                    closeNodeScope(Stop41, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:493:1
+    final public void Compress() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Compress";
+        CompressBlock Compress42 = null;
+        if (buildTree) {
+            Compress42 = new CompressBlock();
+            openNodeScope(Compress42);
+        }
+        ParseException parseException1854 = null;
+        int callStackSize1855 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:494:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:494:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("Compress", "/root/project/examples/freemarker/FTL.javacc", 
+                494, 6);
+                throw new ParseException(this, first_set$FTL_javacc$494$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:495:5
+            consumeToken(COMPRESS);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:495:15
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:496:5
+            pushOntoCallStack("Compress", "/root/project/examples/freemarker/FTL.javacc", 496, 
+            5);
+            try {
+                Block();
+            } finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:497:5
+            pushOntoCallStack("Compress", "/root/project/examples/freemarker/FTL.javacc", 497, 
+            5);
+            try {
+                DirectiveEnd("compress");
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException1854 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize1855);
+            if (Compress42 != null) {
+                if (parseException1854 == null) {
+                    closeNodeScope(Compress42, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:500:1
+    final public void TrimBlock() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "TrimBlock";
+        TrimBlock TrimBlock43 = null;
+        if (buildTree) {
+            TrimBlock43 = new TrimBlock();
+            openNodeScope(TrimBlock43);
+        }
+        String closeTag;
+        ParseException parseException1895 = null;
+        int callStackSize1896 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:504:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:504:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("TrimBlock", "/root/project/examples/freemarker/FTL.javacc", 
+                504, 6);
+                throw new ParseException(this, first_set$FTL_javacc$504$6, parsingStack.toList());
+            }
+            if (nextTokenType() == BLOCKTRIM) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:506:9
+                consumeToken(BLOCKTRIM);
+                // Code for CodeBlock specified at /root/project/examples/freemarker/FTL.javacc:506:21
+                closeTag = "t_lines";
+            } else if (nextTokenType() == BLOCKTRIML) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:508:9
+                consumeToken(BLOCKTRIML);
+                // Code for CodeBlock specified at /root/project/examples/freemarker/FTL.javacc:508:22
+                closeTag = "lt_lines";
+            } else if (nextTokenType() == BLOCKTRIMR) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:510:9
+                consumeToken(BLOCKTRIMR);
+                // Code for CodeBlock specified at /root/project/examples/freemarker/FTL.javacc:510:22
+                closeTag = "rt_lines";
+            } else if (nextTokenType() == BLOCKNOTRIM) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:512:9
+                consumeToken(BLOCKNOTRIM);
+                // Code for CodeBlock specified at /root/project/examples/freemarker/FTL.javacc:512:23
+                closeTag = "nt_lines";
+            } else {
+                pushOntoCallStack("TrimBlock", "/root/project/examples/freemarker/FTL.javacc", 
+                506, 9);
+                throw new ParseException(this, first_set$FTL_javacc$506$9, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:514:5
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:515:5
+            pushOntoCallStack("TrimBlock", "/root/project/examples/freemarker/FTL.javacc", 
+            515, 5);
+            try {
+                Block();
+            } finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:516:5
+            pushOntoCallStack("TrimBlock", "/root/project/examples/freemarker/FTL.javacc", 
+            516, 5);
+            try {
+                DirectiveEnd(closeTag);
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException1895 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize1896);
+            if (TrimBlock43 != null) {
+                if (parseException1895 == null) {
+                    closeNodeScope(TrimBlock43, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:519:1
+    final public void NoEscapeBlock() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "NoEscapeBlock";
+        NoEscapeBlock NoEscapeBlock44 = null;
+        if (buildTree) {
+            NoEscapeBlock44 = new NoEscapeBlock();
+            openNodeScope(NoEscapeBlock44);
+        }
+        ParseException parseException1985 = null;
+        int callStackSize1986 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:520:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:520:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("NoEscapeBlock", "/root/project/examples/freemarker/FTL.javacc", 
+                520, 6);
+                throw new ParseException(this, first_set$FTL_javacc$520$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:521:5
+            consumeToken(NOESCAPE);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:521:15
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:522:5
+            pushOntoCallStack("NoEscapeBlock", "/root/project/examples/freemarker/FTL.javacc", 
+            522, 5);
+            try {
+                Block();
+            } finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:523:5
+            pushOntoCallStack("NoEscapeBlock", "/root/project/examples/freemarker/FTL.javacc", 
+            523, 5);
+            try {
+                DirectiveEnd("noescape");
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException1985 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize1986);
+            if (NoEscapeBlock44 != null) {
+                if (parseException1985 == null) {
+                    closeNodeScope(NoEscapeBlock44, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:526:1
+    final public void EscapeBlock() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "EscapeBlock";
+        EscapeBlock EscapeBlock45 = null;
+        if (buildTree) {
+            EscapeBlock45 = new EscapeBlock();
+            openNodeScope(EscapeBlock45);
+        }
+        ParseException parseException2026 = null;
+        int callStackSize2027 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:527:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:527:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("EscapeBlock", "/root/project/examples/freemarker/FTL.javacc", 
+                527, 6);
+                throw new ParseException(this, first_set$FTL_javacc$527$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:528:5
+            consumeToken(ESCAPE);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:529:5
+            consumeToken(BLANK);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:530:5
+            consumeToken(IDENTIFIER);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:531:5
+            consumeToken(AS);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:532:5
+            pushOntoCallStack("EscapeBlock", "/root/project/examples/freemarker/FTL.javacc", 
+            532, 5);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:533:5
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:534:5
+            pushOntoCallStack("EscapeBlock", "/root/project/examples/freemarker/FTL.javacc", 
+            534, 5);
+            try {
+                Block();
+            } finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:535:5
+            pushOntoCallStack("EscapeBlock", "/root/project/examples/freemarker/FTL.javacc", 
+            535, 5);
+            try {
+                DirectiveEnd("escape");
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException2026 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize2027);
+            if (EscapeBlock45 != null) {
+                if (parseException2026 == null) {
+                    closeNodeScope(EscapeBlock45, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:538:1
+    final public void Include() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Include";
+        IncludeInstruction Include46 = null;
+        if (buildTree) {
+            Include46 = new IncludeInstruction();
+            openNodeScope(Include46);
+        }
+        ParseException parseException2083 = null;
+        int callStackSize2084 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:539:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:539:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("Include", "/root/project/examples/freemarker/FTL.javacc", 
+                539, 6);
+                throw new ParseException(this, first_set$FTL_javacc$539$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:540:5
+            consumeToken(_INCLUDE);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:540:15
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:541:5
+            pushOntoCallStack("Include", "/root/project/examples/freemarker/FTL.javacc", 541, 
+            5);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:542:5
+            if (nextTokenType() == SEMICOLON) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:542:6
+                consumeToken(SEMICOLON);
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:543:5
+            while (true) {
+                if (!(nextTokenType() == IDENTIFIER)) break;
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:543:6
+                consumeToken(IDENTIFIER);
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:543:18
+                consumeToken(EQUALS);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:543:26
+                pushOntoCallStack("Include", "/root/project/examples/freemarker/FTL.javacc", 
+                543, 26);
+                try {
+                    Expression();
+                } finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:544:5
+            pushOntoCallStack("Include", "/root/project/examples/freemarker/FTL.javacc", 544, 
+            5);
+            try {
+                LooseTagEnd();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException2083 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize2084);
+            if (Include46 != null) {
+                if (parseException2083 == null) {
+                    closeNodeScope(Include46, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:547:1
+    final public void Embed() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Embed";
+        EmbedInstruction Embed47 = null;
+        if (buildTree) {
+            Embed47 = new EmbedInstruction();
+            openNodeScope(Embed47);
+        }
+        ParseException parseException2156 = null;
+        int callStackSize2157 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:548:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:548:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("Embed", "/root/project/examples/freemarker/FTL.javacc", 
+                548, 6);
+                throw new ParseException(this, first_set$FTL_javacc$548$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:549:5
+            consumeToken(EMBED);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:549:12
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:550:5
+            pushOntoCallStack("Embed", "/root/project/examples/freemarker/FTL.javacc", 550, 
+            5);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:551:5
+            pushOntoCallStack("Embed", "/root/project/examples/freemarker/FTL.javacc", 551, 
+            5);
+            try {
+                LooseTagEnd();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException2156 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize2157);
+            if (Embed47 != null) {
+                if (parseException2156 == null) {
+                    closeNodeScope(Embed47, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:554:1
+    final public void Import() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Import";
+        ImportInstruction Import48 = null;
+        if (buildTree) {
+            Import48 = new ImportInstruction();
+            openNodeScope(Import48);
+        }
+        ParseException parseException2197 = null;
+        int callStackSize2198 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:555:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:555:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("Import", "/root/project/examples/freemarker/FTL.javacc", 
+                555, 6);
+                throw new ParseException(this, first_set$FTL_javacc$555$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:556:5
+            consumeToken(IMPORT);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:556:13
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:557:5
+            pushOntoCallStack("Import", "/root/project/examples/freemarker/FTL.javacc", 557, 
+            5);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:558:5
+            consumeToken(AS);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:559:5
+            consumeToken(IDENTIFIER);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:560:5
+            pushOntoCallStack("Import", "/root/project/examples/freemarker/FTL.javacc", 560, 
+            5);
+            try {
+                LooseTagEnd();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException2197 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize2198);
+            if (Import48 != null) {
+                if (parseException2197 == null) {
+                    closeNodeScope(Import48, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:563:1
+    final public void Visit() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Visit";
+        VisitInstruction Visit49 = null;
+        if (buildTree) {
+            Visit49 = new VisitInstruction();
+            openNodeScope(Visit49);
+        }
+        ParseException parseException2246 = null;
+        int callStackSize2247 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:564:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:564:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("Visit", "/root/project/examples/freemarker/FTL.javacc", 
+                564, 6);
+                throw new ParseException(this, first_set$FTL_javacc$564$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:565:5
+            consumeToken(VISIT);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:566:5
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:567:5
+            pushOntoCallStack("Visit", "/root/project/examples/freemarker/FTL.javacc", 567, 
+            5);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:568:5
+            if (nextTokenType() == USING) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:569:8
+                consumeToken(USING);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:570:8
+                pushOntoCallStack("Visit", "/root/project/examples/freemarker/FTL.javacc", 
+                570, 8);
+                try {
+                    Expression();
+                } finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:571:8
+                while (true) {
+                    if (!(first_set$FTL_javacc$572$12.contains(nextTokenType()))) break;
+                    // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:572:12
+                    if (nextTokenType() == COMMA) {
+                        // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:572:13
+                        consumeToken(COMMA);
+                    }
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:573:12
+                    pushOntoCallStack("Visit", "/root/project/examples/freemarker/FTL.javacc", 
+                    573, 12);
+                    try {
+                        Expression();
+                    } finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:576:5
+            pushOntoCallStack("Visit", "/root/project/examples/freemarker/FTL.javacc", 576, 
+            5);
+            try {
+                LooseTagEnd();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException2246 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize2247);
+            if (Visit49 != null) {
+                if (parseException2246 == null) {
+                    closeNodeScope(Visit49, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:579:1
+    final public void Recurse() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Recurse";
+        RecurseInstruction Recurse50 = null;
+        if (buildTree) {
+            Recurse50 = new RecurseInstruction();
+            openNodeScope(Recurse50);
+        }
+        ParseException parseException2327 = null;
+        int callStackSize2328 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:580:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:580:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("Recurse", "/root/project/examples/freemarker/FTL.javacc", 
+                580, 6);
+                throw new ParseException(this, first_set$FTL_javacc$580$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:581:5
+            consumeToken(RECURSE);
+            if (nextTokenType() == CLOSE_TAG || nextTokenType == CLOSE_EMPTY_TAG) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:583:8
+                pushOntoCallStack("Recurse", "/root/project/examples/freemarker/FTL.javacc", 
+                583, 8);
+                try {
+                    LooseTagEnd();
+                } finally {
+                    popCallStack();
+                }
+            } else if (nextTokenType() == BLANK) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:586:11
+                consumeToken(BLANK);
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:587:11
+                if (first_set$FTL_javacc$587$12.contains(nextTokenType())) {
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:587:12
+                    pushOntoCallStack("Recurse", "/root/project/examples/freemarker/FTL.javacc", 
+                    587, 12);
+                    try {
+                        Expression();
+                    } finally {
+                        popCallStack();
+                    }
+                }
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:588:11
+                if (nextTokenType() == USING) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:588:12
+                    consumeToken(USING);
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:589:13
+                    pushOntoCallStack("Recurse", "/root/project/examples/freemarker/FTL.javacc", 
+                    589, 13);
+                    try {
+                        Expression();
+                    } finally {
+                        popCallStack();
+                    }
+                    // Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:590:13
+                    while (true) {
+                        if (!(first_set$FTL_javacc$590$14.contains(nextTokenType()))) break;
+                        // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:590:14
+                        if (nextTokenType() == COMMA) {
+                            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:590:15
+                            consumeToken(COMMA);
+                        }
+                        // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:590:24
+                        pushOntoCallStack("Recurse", "/root/project/examples/freemarker/FTL.javacc", 
+                        590, 24);
+                        try {
+                            Expression();
+                        } finally {
+                            popCallStack();
+                        }
+                    }
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:592:11
+                pushOntoCallStack("Recurse", "/root/project/examples/freemarker/FTL.javacc", 
+                592, 11);
+                try {
+                    LooseTagEnd();
+                } finally {
+                    popCallStack();
+                }
+            } else {
+                pushOntoCallStack("Recurse", "/root/project/examples/freemarker/FTL.javacc", 
+                583, 8);
+                throw new ParseException(this, first_set$FTL_javacc$583$8, parsingStack.toList());
+            }
+        } catch (ParseException e) {
+            parseException2327 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize2328);
+            if (Recurse50 != null) {
+                if (parseException2327 == null) {
+                    closeNodeScope(Recurse50, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:597:1
+    final public void FallBack() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "FallBack";
+        FallBackInstruction FallBack51 = null;
+        if (buildTree) {
+            FallBack51 = new FallBackInstruction();
+            openNodeScope(FallBack51);
+        }
+        ParseException parseException2438 = null;
+        int callStackSize2439 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:598:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:598:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("FallBack", "/root/project/examples/freemarker/FTL.javacc", 
+                598, 6);
+                throw new ParseException(this, first_set$FTL_javacc$598$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:599:5
+            consumeToken(FALLBACK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:600:5
+            pushOntoCallStack("FallBack", "/root/project/examples/freemarker/FTL.javacc", 600, 
+            5);
+            try {
+                LooseTagEnd();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException2438 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize2439);
+            if (FallBack51 != null) {
+                if (parseException2438 == null) {
+                    closeNodeScope(FallBack51, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:603:1
+    final public void If() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "If";
+        IfStatement If52 = null;
+        if (buildTree) {
+            If52 = new IfStatement();
+            openNodeScope(If52);
+        }
+        ParseException parseException2471 = null;
+        int callStackSize2472 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:604:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:604:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("If", "/root/project/examples/freemarker/FTL.javacc", 604, 
+                6);
+                throw new ParseException(this, first_set$FTL_javacc$604$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:605:5
+            consumeToken(IF);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:605:9
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:606:5
+            pushOntoCallStack("If", "/root/project/examples/freemarker/FTL.javacc", 606, 5);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:607:5
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:608:5
+            pushOntoCallStack("If", "/root/project/examples/freemarker/FTL.javacc", 608, 5);
+            try {
+                Block();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:609:5
+            while (true) {
+                if (!(scan$FTL_javacc$609$7())) break;
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:609:7
+                pushOntoCallStack("If", "/root/project/examples/freemarker/FTL.javacc", 609, 
+                7);
+                try {
+                    ElseIf();
+                } finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:610:5
+            if (scan$FTL_javacc$611$8()) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:611:8
+                pushOntoCallStack("If", "/root/project/examples/freemarker/FTL.javacc", 611, 
+                8);
+                try {
+                    Else();
+                } finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:613:5
+            pushOntoCallStack("If", "/root/project/examples/freemarker/FTL.javacc", 613, 5);
+            try {
+                DirectiveEnd("if");
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException2471 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize2472);
+            if (If52 != null) {
+                if (parseException2471 == null) {
+                    closeNodeScope(If52, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:616:1
+    final public void ElseIf() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "ElseIf";
+        ElseIfBlock ElseIf53 = null;
+        if (buildTree) {
+            ElseIf53 = new ElseIfBlock();
+            openNodeScope(ElseIf53);
+        }
+        ParseException parseException2544 = null;
+        int callStackSize2545 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:617:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:617:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("ElseIf", "/root/project/examples/freemarker/FTL.javacc", 
+                617, 6);
+                throw new ParseException(this, first_set$FTL_javacc$617$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:618:5
+            consumeToken(ELSEIF);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:620:5
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:621:5
+            pushOntoCallStack("ElseIf", "/root/project/examples/freemarker/FTL.javacc", 621, 
+            5);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:622:5
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:623:5
+            pushOntoCallStack("ElseIf", "/root/project/examples/freemarker/FTL.javacc", 623, 
+            5);
+            try {
+                Block();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException2544 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize2545);
+            if (ElseIf53 != null) {
+                if (parseException2544 == null) {
+                    closeNodeScope(ElseIf53, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:626:1
+    final public void Else() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Else";
+        ElseBlock Else54 = null;
+        if (buildTree) {
+            Else54 = new ElseBlock();
+            openNodeScope(Else54);
+        }
+        ParseException parseException2589 = null;
+        int callStackSize2590 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:627:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:627:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("Else", "/root/project/examples/freemarker/FTL.javacc", 627, 
+                6);
+                throw new ParseException(this, first_set$FTL_javacc$627$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:628:5
+            consumeToken(ELSE);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:630:5
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:631:5
+            pushOntoCallStack("Else", "/root/project/examples/freemarker/FTL.javacc", 631, 
+            5);
+            try {
+                Block();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException2589 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize2590);
+            if (Else54 != null) {
+                if (parseException2589 == null) {
+                    closeNodeScope(Else54, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:634:1
+    final public void Switch() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Switch";
+        SwitchInstruction Switch55 = null;
+        if (buildTree) {
+            Switch55 = new SwitchInstruction();
+            openNodeScope(Switch55);
+        }
+        ParseException parseException2626 = null;
+        int callStackSize2627 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:635:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:635:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("Switch", "/root/project/examples/freemarker/FTL.javacc", 
+                635, 6);
+                throw new ParseException(this, first_set$FTL_javacc$635$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:636:5
+            consumeToken(SWITCH);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:637:5
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:638:5
+            pushOntoCallStack("Switch", "/root/project/examples/freemarker/FTL.javacc", 638, 
+            5);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:639:5
+            consumeToken(CLOSE_TAG);
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:640:5
+            if (nextTokenType() == WHITESPACE) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:640:6
+                consumeToken(WHITESPACE);
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:641:5
+            while (true) {
+                if (!(scan$FTL_javacc$641$6())) break;
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:641:6
+                pushOntoCallStack("Switch", "/root/project/examples/freemarker/FTL.javacc", 
+                641, 6);
+                try {
+                    Case();
+                } finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:642:5
+            if (scan$FTL_javacc$643$6()) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:643:13
+                pushOntoCallStack("Switch", "/root/project/examples/freemarker/FTL.javacc", 
+                643, 13);
+                try {
+                    Default();
+                } finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:645:5
+            pushOntoCallStack("Switch", "/root/project/examples/freemarker/FTL.javacc", 645, 
+            5);
+            try {
+                DirectiveEnd("switch");
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException2626 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize2627);
+            if (Switch55 != null) {
+                if (parseException2626 == null) {
+                    closeNodeScope(Switch55, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:648:1
+    final public void Case() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Case";
+        CaseInstruction Case56 = null;
+        if (buildTree) {
+            Case56 = new CaseInstruction();
+            openNodeScope(Case56);
+        }
+        ParseException parseException2707 = null;
+        int callStackSize2708 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:649:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:649:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("Case", "/root/project/examples/freemarker/FTL.javacc", 649, 
+                6);
+                throw new ParseException(this, first_set$FTL_javacc$649$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:650:5
+            consumeToken(CASE);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:652:5
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:653:5
+            pushOntoCallStack("Case", "/root/project/examples/freemarker/FTL.javacc", 653, 
+            5);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:653:16
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:653:28
+            pushOntoCallStack("Case", "/root/project/examples/freemarker/FTL.javacc", 653, 
+            28);
+            try {
+                Block();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException2707 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize2708);
+            if (Case56 != null) {
+                if (parseException2707 == null) {
+                    closeNodeScope(Case56, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:656:1
+    final public void Default() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Default";
+        DefaultInstruction Default57 = null;
+        if (buildTree) {
+            Default57 = new DefaultInstruction();
+            openNodeScope(Default57);
+        }
+        ParseException parseException2752 = null;
+        int callStackSize2753 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:657:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:657:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("Default", "/root/project/examples/freemarker/FTL.javacc", 
+                657, 6);
+                throw new ParseException(this, first_set$FTL_javacc$657$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:658:5
+            consumeToken(DEFAUL);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:658:13
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:659:5
+            pushOntoCallStack("Default", "/root/project/examples/freemarker/FTL.javacc", 659, 
+            5);
+            try {
+                Block();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException2752 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize2753);
+            if (Default57 != null) {
+                if (parseException2752 == null) {
+                    closeNodeScope(Default57, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:662:1
+    final public void List() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "List";
+        ListInstruction List58 = null;
+        if (buildTree) {
+            List58 = new ListInstruction();
+            openNodeScope(List58);
+        }
+        ParseException parseException2789 = null;
+        int callStackSize2790 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:663:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:663:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("List", "/root/project/examples/freemarker/FTL.javacc", 663, 
+                6);
+                throw new ParseException(this, first_set$FTL_javacc$663$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:664:5
+            consumeToken(LIST);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:664:11
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:665:5
+            pushOntoCallStack("List", "/root/project/examples/freemarker/FTL.javacc", 665, 
+            5);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:666:5
+            consumeToken(AS);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:667:5
+            consumeToken(IDENTIFIER);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:668:5
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:669:5
+            pushOntoCallStack("List", "/root/project/examples/freemarker/FTL.javacc", 669, 
+            5);
+            try {
+                Block();
+            } finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:670:5
+            pushOntoCallStack("List", "/root/project/examples/freemarker/FTL.javacc", 670, 
+            5);
+            try {
+                DirectiveEnd("list");
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException2789 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize2790);
+            if (List58 != null) {
+                if (parseException2789 == null) {
+                    closeNodeScope(List58, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:673:1
+    final public void ForEach() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "ForEach";
+        ForEachInstruction ForEach59 = null;
+        if (buildTree) {
+            ForEach59 = new ForEachInstruction();
+            openNodeScope(ForEach59);
+        }
+        ParseException parseException2846 = null;
+        int callStackSize2847 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:674:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:674:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("ForEach", "/root/project/examples/freemarker/FTL.javacc", 
+                674, 6);
+                throw new ParseException(this, first_set$FTL_javacc$674$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:675:5
+            consumeToken(FOREACH);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:675:14
+            consumeToken(BLANK);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:676:5
+            consumeToken(IDENTIFIER);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:677:5
+            consumeToken(IN);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:678:5
+            pushOntoCallStack("ForEach", "/root/project/examples/freemarker/FTL.javacc", 678, 
+            5);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:679:5
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:680:5
+            pushOntoCallStack("ForEach", "/root/project/examples/freemarker/FTL.javacc", 680, 
+            5);
+            try {
+                Block();
+            } finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:681:5
+            pushOntoCallStack("ForEach", "/root/project/examples/freemarker/FTL.javacc", 681, 
+            5);
+            try {
+                DirectiveEnd("foreach");
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException2846 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize2847);
+            if (ForEach59 != null) {
+                if (parseException2846 == null) {
+                    closeNodeScope(ForEach59, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:684:1
+    final public void Nested() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Nested";
+        NestedInstruction Nested60 = null;
+        if (buildTree) {
+            Nested60 = new NestedInstruction();
+            openNodeScope(Nested60);
+        }
+        ParseException parseException2903 = null;
+        int callStackSize2904 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:685:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:685:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("Nested", "/root/project/examples/freemarker/FTL.javacc", 
+                685, 6);
+                throw new ParseException(this, first_set$FTL_javacc$685$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:686:5
+            consumeToken(NESTED);
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:687:5
+            if (nextTokenType() == BLANK) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:687:6
+                consumeToken(BLANK);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:687:13
+                pushOntoCallStack("Nested", "/root/project/examples/freemarker/FTL.javacc", 
+                687, 13);
+                try {
+                    PositionalArgsList();
+                } finally {
+                    popCallStack();
+                }
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:688:5
+            pushOntoCallStack("Nested", "/root/project/examples/freemarker/FTL.javacc", 688, 
+            5);
+            try {
+                LooseTagEnd();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException2903 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize2904);
+            if (Nested60 != null) {
+                if (parseException2903 == null) {
+                    closeNodeScope(Nested60, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:691:1
+    final public void MacroDefinition() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "MacroDefinition";
+        MacroDefinition MacroDefinition61 = null;
+        if (buildTree) {
+            MacroDefinition61 = new MacroDefinition();
+            openNodeScope(MacroDefinition61);
+        }
+        Token t;
+        ParseException parseException2952 = null;
+        int callStackSize2953 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:695:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:695:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("MacroDefinition", "/root/project/examples/freemarker/FTL.javacc", 
+                695, 6);
+                throw new ParseException(this, first_set$FTL_javacc$695$6, parsingStack.toList());
+            }
+            if (nextTokenType() == MACRO) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:697:9
+                t = consumeToken(MACRO);
+            } else if (nextTokenType() == FUNCTION) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:699:9
+                t = consumeToken(FUNCTION);
+            } else {
+                pushOntoCallStack("MacroDefinition", "/root/project/examples/freemarker/FTL.javacc", 
+                697, 7);
+                throw new ParseException(this, first_set$FTL_javacc$697$7, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:701:5
+            consumeToken(BLANK);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:702:5
+            pushOntoCallStack("MacroDefinition", "/root/project/examples/freemarker/FTL.javacc", 
+            702, 5);
+            try {
+                IdentifierOrStringLiteral();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:703:5
+            if (nextTokenType() == OPEN_PAREN) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:703:6
+                consumeToken(OPEN_PAREN);
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:704:5
+            if (nextTokenType() == IDENTIFIER) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:704:6
+                pushOntoCallStack("MacroDefinition", "/root/project/examples/freemarker/FTL.javacc", 
+                704, 6);
+                try {
+                    ParameterList();
+                } finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:705:5
+            if (nextTokenType() == CLOSE_PAREN) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:705:6
+                consumeToken(CLOSE_PAREN);
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:706:5
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:707:5
+            pushOntoCallStack("MacroDefinition", "/root/project/examples/freemarker/FTL.javacc", 
+            707, 5);
+            try {
+                Block();
+            } finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:708:5
+            pushOntoCallStack("MacroDefinition", "/root/project/examples/freemarker/FTL.javacc", 
+            708, 5);
+            try {
+                DirectiveEnd(t.getImage());
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException2952 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize2953);
+            if (MacroDefinition61 != null) {
+                if (parseException2952 == null) {
+                    closeNodeScope(MacroDefinition61, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:711:1
+    final public void ParameterList() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "ParameterList";
+        ParameterList ParameterList62 = null;
+        if (buildTree) {
+            ParameterList62 = new ParameterList();
+            openNodeScope(ParameterList62);
+        }
+        ParseException parseException3054 = null;
+        int callStackSize3055 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:715:5
+            consumeToken(IDENTIFIER);
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:716:5
+            // Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:716:6
+            if (nextTokenType() == EQUALS) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:716:7
+                consumeToken(EQUALS);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:716:15
+                pushOntoCallStack("ParameterList", "/root/project/examples/freemarker/FTL.javacc", 
+                716, 15);
+                try {
+                    Expression();
+                } finally {
+                    popCallStack();
+                }
+            } else if (nextTokenType() == ELLIPSIS) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:716:29
+                consumeToken(ELLIPSIS);
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:717:5
+            while (true) {
+                if (!(nextTokenType() == COMMA || nextTokenType == IDENTIFIER)) break;
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:718:8
+                if (nextTokenType() == COMMA) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:718:9
+                    consumeToken(COMMA);
+                }
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:719:8
+                consumeToken(IDENTIFIER);
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:720:8
+                // Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:721:11
+                if (nextTokenType() == EQUALS) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:721:12
+                    consumeToken(EQUALS);
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:721:20
+                    pushOntoCallStack("ParameterList", "/root/project/examples/freemarker/FTL.javacc", 
+                    721, 20);
+                    try {
+                        Expression();
+                    } finally {
+                        popCallStack();
+                    }
+                } else if (nextTokenType() == ELLIPSIS) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:723:11
+                    consumeToken(ELLIPSIS);
+                }
+            }
+        } catch (ParseException e) {
+            parseException3054 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize3055);
+            if (ParameterList62 != null) {
+                if (parseException3054 == null) {
+                    closeNodeScope(ParameterList62, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> LooseTagEnd_FIRST_SET = EnumSet.of(CLOSE_TAG, CLOSE_EMPTY_TAG);
+
+    // /root/project/examples/freemarker/FTL.javacc:729:1
+    final public void LooseTagEnd() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "LooseTagEnd";
+        // Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:730:5
+        LooseTagEnd LooseTagEnd63 = null;
+        if (buildTree) {
+            LooseTagEnd63 = new LooseTagEnd();
+            openNodeScope(LooseTagEnd63);
+        }
+        ParseException parseException3152 = null;
+        int callStackSize3153 = parsingStack.size();
+        try {
+            if (nextTokenType() == CLOSE_TAG) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:730:5
+                consumeToken(CLOSE_TAG);
+            } else if (nextTokenType() == CLOSE_EMPTY_TAG) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:732:5
+                consumeToken(CLOSE_EMPTY_TAG);
+            } else {
+                pushOntoCallStack("LooseTagEnd", "/root/project/examples/freemarker/FTL.javacc", 
+                730, 5);
+                throw new ParseException(this, LooseTagEnd_FIRST_SET, parsingStack.toList());
+            }
+        } catch (ParseException e) {
+            parseException3152 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize3153);
+            if (LooseTagEnd63 != null) {
+                if (parseException3152 == null) {
+                    closeNodeScope(LooseTagEnd63, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> DirectiveEnd_FIRST_SET = EnumSet.of(END_DIRECTIVE1, 
+    END_DIRECTIVE2);
+
+    // /root/project/examples/freemarker/FTL.javacc:735:1
+    final public void DirectiveEnd(String name) {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "DirectiveEnd";
+        // Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:736:5
+        DirectiveEnd DirectiveEnd64 = null;
+        if (buildTree) {
+            DirectiveEnd64 = new DirectiveEnd();
+            openNodeScope(DirectiveEnd64);
+        }
+        ParseException parseException3172 = null;
+        int callStackSize3173 = parsingStack.size();
+        try {
+            if (nextTokenType() == END_DIRECTIVE1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:736:5
+                consumeToken(END_DIRECTIVE1);
+            } else if (nextTokenType() == END_DIRECTIVE2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:736:22
+                consumeToken(END_DIRECTIVE2);
+                // Code for CodeBlock specified at /root/project/examples/freemarker/FTL.javacc:737:5
+                String tag = lastConsumedToken.getImage();
+                tag = tag.substring(3);
+                tag = tag.substring(0, tag.length() - 1).trim();
+                if (tag.length() != 0 && !name.equals(tag)) {
+                    throw new ParseException("Expecting closing tag for " + name);
+                }
+            } else {
+                pushOntoCallStack("DirectiveEnd", "/root/project/examples/freemarker/FTL.javacc", 
+                736, 5);
+                throw new ParseException(this, DirectiveEnd_FIRST_SET, parsingStack.toList());
+            }
+        } catch (ParseException e) {
+            parseException3172 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize3173);
+            if (DirectiveEnd64 != null) {
+                if (parseException3172 == null) {
+                    closeNodeScope(DirectiveEnd64, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> Text_FIRST_SET = EnumSet.of(WHITESPACE, SPECIAL_CHAR, 
+    PRINTABLE_CHARS);
+
+    // /root/project/examples/freemarker/FTL.javacc:747:1
+    final public void Text() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Text";
+        Text Text65 = null;
+        if (buildTree) {
+            Text65 = new Text();
+            openNodeScope(Text65);
+        }
+        Token t;
+        ParseException parseException3196 = null;
+        int callStackSize3197 = parsingStack.size();
+        try {
+            // Code for OneOrMore specified at /root/project/examples/freemarker/FTL.javacc:751:5
+            while (true) {
+                if (nextTokenType() == PRINTABLE_CHARS) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:752:10
+                    t = consumeToken(PRINTABLE_CHARS);
+                } else if (nextTokenType() == WHITESPACE) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:753:10
+                    t = consumeToken(WHITESPACE);
+                } else if (nextTokenType() == SPECIAL_CHAR) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:754:10
+                    t = consumeToken(SPECIAL_CHAR);
+                } else {
+                    pushOntoCallStack("Text", "/root/project/examples/freemarker/FTL.javacc", 
+                    752, 8);
+                    throw new ParseException(this, first_set$FTL_javacc$752$8, parsingStack.toList());
+                }
+                if (!(nextTokenType() == WHITESPACE || nextTokenType == SPECIAL_CHAR || nextTokenType == PRINTABLE_CHARS)) break;
+            }
+        } catch (ParseException e) {
+            parseException3196 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize3197);
+            if (Text65 != null) {
+                if (parseException3196 == null) {
+                    closeNodeScope(Text65, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:758:1
+    final public void Recover() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Recover";
+        RecoverBlock Recover66 = null;
+        if (buildTree) {
+            Recover66 = new RecoverBlock();
+            openNodeScope(Recover66);
+        }
+        ParseException parseException3237 = null;
+        int callStackSize3238 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:759:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:759:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("Recover", "/root/project/examples/freemarker/FTL.javacc", 
+                759, 6);
+                throw new ParseException(this, first_set$FTL_javacc$759$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:760:5
+            consumeToken(_RECOVER);
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:760:15
+            consumeToken(CLOSE_TAG);
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:761:5
+            pushOntoCallStack("Recover", "/root/project/examples/freemarker/FTL.javacc", 761, 
+            5);
+            try {
+                Block();
+            } finally {
+                popCallStack();
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:762:5
+            pushOntoCallStack("Recover", "/root/project/examples/freemarker/FTL.javacc", 762, 
+            5);
+            try {
+                DirectiveEnd("attempt");
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException3237 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize3238);
+            if (Recover66 != null) {
+                if (parseException3237 == null) {
+                    closeNodeScope(Recover66, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:765:1
+    final public void TopLevelDirective() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "TopLevelDirective";
+        if (scan$FTL_javacc$767$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:767:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            767, 13);
+            try {
+                Assignment();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$768$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:768:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            768, 13);
+            try {
+                Attempt();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$769$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:769:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            769, 13);
+            try {
+                Comment();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$770$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:770:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            770, 13);
+            try {
+                Compress();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$771$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:771:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            771, 13);
+            try {
+                Embed();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$772$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:772:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            772, 13);
+            try {
+                ForEach();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$773$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:773:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            773, 13);
+            try {
+                If();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$774$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:774:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            774, 13);
+            try {
+                List();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$775$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:775:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            775, 13);
+            try {
+                Include();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$776$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:776:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            776, 13);
+            try {
+                Import();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$777$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:777:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            777, 13);
+            try {
+                MacroDefinition();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$778$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:778:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            778, 13);
+            try {
+                NoParse();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$779$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:779:6
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            779, 6);
+            try {
+                Switch();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$780$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:780:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            780, 13);
+            try {
+                Setting();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$781$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:781:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            781, 13);
+            try {
+                Var();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$782$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:782:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            782, 13);
+            try {
+                Break();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$783$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:783:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            783, 13);
+            try {
+                Return();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$784$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:784:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            784, 13);
+            try {
+                Stop();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$785$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:785:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            785, 13);
+            try {
+                Flush();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$786$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:786:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            786, 13);
+            try {
+                Trim();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$787$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:787:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            787, 13);
+            try {
+                NoTrim();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$788$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:788:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            788, 13);
+            try {
+                LeftTrim();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$789$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:789:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            789, 13);
+            try {
+                RightTrim();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$790$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:790:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            790, 13);
+            try {
+                TrimBlock();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$791$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:791:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            791, 13);
+            try {
+                Nested();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$792$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:792:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            792, 13);
+            try {
+                EscapeBlock();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$793$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:793:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            793, 13);
+            try {
+                NoEscapeBlock();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$794$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:794:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            794, 13);
+            try {
+                Visit();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$795$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:795:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            795, 13);
+            try {
+                Recurse();
+            } finally {
+                popCallStack();
+            }
+        } else if (scan$FTL_javacc$796$6()) {
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:796:13
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            796, 13);
+            try {
+                FallBack();
+            } finally {
+                popCallStack();
+            }
+        } else {
+            pushOntoCallStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            767, 6);
+            throw new ParseException(this, first_set$FTL_javacc$767$6, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> UserDirective_FIRST_SET = EnumSet.of(USER_DIRECTIVE_OPEN1, 
+    USER_DIRECTIVE_OPEN2);
+
+    // /root/project/examples/freemarker/FTL.javacc:800:1
+    final public void UserDirective() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "UserDirective";
+        UserDirective UserDirective67 = null;
+        if (buildTree) {
+            UserDirective67 = new UserDirective();
+            openNodeScope(UserDirective67);
+        }
+        Token startToken;
+        token_source.noWhitespaceInExpression = true;
+        ParseException parseException3527 = null;
+        int callStackSize3528 = parsingStack.size();
+        try {
+            if (nextTokenType() == USER_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:806:20
+                startToken = consumeToken(USER_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == USER_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:808:20
+                startToken = consumeToken(USER_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("UserDirective", "/root/project/examples/freemarker/FTL.javacc", 
+                806, 9);
+                throw new ParseException(this, first_set$FTL_javacc$806$9, parsingStack.toList());
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:810:5
+            pushOntoCallStack("UserDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            810, 5);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for CodeBlock specified at /root/project/examples/freemarker/FTL.javacc:811:5
+            token_source.noWhitespaceInExpression = false;
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:812:5
+            if (nextTokenType() == BLANK) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:812:6
+                consumeToken(BLANK);
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:813:5
+            if (first_set$FTL_javacc$813$6.contains(nextTokenType())) {
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:813:6
+                pushOntoCallStack("UserDirective", "/root/project/examples/freemarker/FTL.javacc", 
+                813, 6);
+                try {
+                    ArgsList();
+                } finally {
+                    popCallStack();
+                }
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:814:5
+            if (nextTokenType() == SEMICOLON) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:814:6
+                consumeToken(SEMICOLON);
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:814:17
+                if (nextTokenType() == IDENTIFIER) {
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:814:18
+                    pushOntoCallStack("UserDirective", "/root/project/examples/freemarker/FTL.javacc", 
+                    814, 18);
+                    try {
+                        ParameterList();
+                    } finally {
+                        popCallStack();
+                    }
+                }
+            }
+            if (nextTokenType() == CLOSE_EMPTY_TAG) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:816:8
+                consumeToken(CLOSE_EMPTY_TAG);
+            } else if (nextTokenType() == CLOSE_TAG) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:819:11
+                consumeToken(CLOSE_TAG);
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:820:11
+                pushOntoCallStack("UserDirective", "/root/project/examples/freemarker/FTL.javacc", 
+                820, 11);
+                try {
+                    Block();
+                } finally {
+                    popCallStack();
+                }
+                if (nextTokenType() == END_USER_DIRECTIVE1) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:821:12
+                    consumeToken(END_USER_DIRECTIVE1);
+                } else if (nextTokenType() == END_USER_DIRECTIVE2) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:821:34
+                    consumeToken(END_USER_DIRECTIVE2);
+                } else {
+                    pushOntoCallStack("UserDirective", "/root/project/examples/freemarker/FTL.javacc", 
+                    821, 12);
+                    throw new ParseException(this, first_set$FTL_javacc$821$12, parsingStack.toList());
+                }
+            } else {
+                pushOntoCallStack("UserDirective", "/root/project/examples/freemarker/FTL.javacc", 
+                816, 8);
+                throw new ParseException(this, first_set$FTL_javacc$816$8, parsingStack.toList());
+            }
+        } catch (ParseException e) {
+            parseException3527 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize3528);
+            if (UserDirective67 != null) {
+                if (parseException3527 == null) {
+                    closeNodeScope(UserDirective67, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> Block_FIRST_SET = Block_FIRST_SET_init();
+
+    static private EnumSet<TokenType> Block_FIRST_SET_init() {
+        return EnumSet.of(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2, USER_DIRECTIVE_OPEN1, USER_DIRECTIVE_OPEN2, 
+        INTERPOLATE, NUMERICAL_INTERPOLATE, WHITESPACE, SPECIAL_CHAR, PRINTABLE_CHARS);
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:826:1
+    final public void Block() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Block";
+        Block Block68 = null;
+        if (buildTree) {
+            Block68 = new Block();
+            openNodeScope(Block68);
+        }
+        ParseException parseException3659 = null;
+        int callStackSize3660 = parsingStack.size();
+        try {
+            // Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:827:3
+            while (true) {
+                if (!(scan$FTL_javacc$828$5())) break;
+                switch(nextTokenType()) {
+                    case WHITESPACE : case SPECIAL_CHAR : case PRINTABLE_CHARS : 
+                        // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:830:6
+                        pushOntoCallStack("Block", "/root/project/examples/freemarker/FTL.javacc", 
+                        830, 6);
+                        try {
+                            Text();
+                        } finally {
+                            popCallStack();
+                        }
+                        break;
+                    case INTERPOLATE : 
+                        // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:832:6
+                        pushOntoCallStack("Block", "/root/project/examples/freemarker/FTL.javacc", 
+                        832, 6);
+                        try {
+                            Interpolation();
+                        } finally {
+                            popCallStack();
+                        }
+                        break;
+                    case NUMERICAL_INTERPOLATE : 
+                        // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:834:6
+                        pushOntoCallStack("Block", "/root/project/examples/freemarker/FTL.javacc", 
+                        834, 6);
+                        try {
+                            NumericalInterpolation();
+                        } finally {
+                            popCallStack();
+                        }
+                        break;
+                    case USER_DIRECTIVE_OPEN1 : case USER_DIRECTIVE_OPEN2 : 
+                        // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:836:6
+                        pushOntoCallStack("Block", "/root/project/examples/freemarker/FTL.javacc", 
+                        836, 6);
+                        try {
+                            UserDirective();
+                        } finally {
+                            popCallStack();
+                        }
+                        break;
+                    case FTL_DIRECTIVE_OPEN1 : case FTL_DIRECTIVE_OPEN2 : 
+                        // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:838:6
+                        pushOntoCallStack("Block", "/root/project/examples/freemarker/FTL.javacc", 
+                        838, 6);
+                        try {
+                            TopLevelDirective();
+                        } finally {
+                            popCallStack();
+                        }
+                        break;
+                    default : 
+                        {
+                            pushOntoCallStack("Block", "/root/project/examples/freemarker/FTL.javacc", 
+                            830, 6);
+                            throw new ParseException(this, first_set$FTL_javacc$830$6, parsingStack.toList());
+                        }
+                }
+            }
+        } catch (ParseException e) {
+            parseException3659 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize3660);
+            if (Block68 != null) {
+                if (parseException3659 == null) {
+                    closeNodeScope(Block68, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:843:1
+    final public void FTLHeader() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "FTLHeader";
+        FTLHeader FTLHeader69 = null;
+        if (buildTree) {
+            FTLHeader69 = new FTLHeader();
+            openNodeScope(FTLHeader69);
+        }
+        ParseException parseException3716 = null;
+        int callStackSize3717 = parsingStack.size();
+        try {
+            if (nextTokenType() == FTL_DIRECTIVE_OPEN1) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:844:6
+                consumeToken(FTL_DIRECTIVE_OPEN1);
+            } else if (nextTokenType() == FTL_DIRECTIVE_OPEN2) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:844:28
+                consumeToken(FTL_DIRECTIVE_OPEN2);
+            } else {
+                pushOntoCallStack("FTLHeader", "/root/project/examples/freemarker/FTL.javacc", 
+                844, 6);
+                throw new ParseException(this, first_set$FTL_javacc$844$6, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:845:5
+            consumeToken(FTL);
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:846:5
+            if (nextTokenType() == BLANK) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:847:8
+                consumeToken(BLANK);
+                // Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:848:8
+                while (true) {
+                    if (!(nextTokenType() == IDENTIFIER)) break;
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:849:11
+                    consumeToken(IDENTIFIER);
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:850:11
+                    consumeToken(EQUALS);
+                    // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:851:11
+                    pushOntoCallStack("FTLHeader", "/root/project/examples/freemarker/FTL.javacc", 
+                    851, 11);
+                    try {
+                        Expression();
+                    } finally {
+                        popCallStack();
+                    }
+                }
+            }
+            if (nextTokenType() == CLOSE_TAG) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:854:6
+                consumeToken(CLOSE_TAG);
+            } else if (nextTokenType() == CLOSE_EMPTY_TAG) {
+                // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:854:19
+                consumeToken(CLOSE_EMPTY_TAG);
+            } else {
+                pushOntoCallStack("FTLHeader", "/root/project/examples/freemarker/FTL.javacc", 
+                854, 6);
+                throw new ParseException(this, first_set$FTL_javacc$854$6, parsingStack.toList());
+            }
+        } catch (ParseException e) {
+            parseException3716 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize3717);
+            if (FTLHeader69 != null) {
+                if (parseException3716 == null) {
+                    closeNodeScope(FTLHeader69, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/freemarker/FTL.javacc:859:1
+    final public void Root() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Root";
+        Root Root70 = null;
+        if (buildTree) {
+            Root70 = new Root();
+            openNodeScope(Root70);
+        }
+        ParseException parseException3798 = null;
+        int callStackSize3799 = parsingStack.size();
+        try {
+            // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:860:5
+            if (scan$FTL_javacc$861$9()) {
+                // Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:864:9
+                if (nextTokenType() == WHITESPACE) {
+                    // Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:864:10
+                    consumeToken(WHITESPACE);
+                }
+                // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:865:9
+                pushOntoCallStack("Root", "/root/project/examples/freemarker/FTL.javacc", 865, 
+                9);
+                try {
+                    FTLHeader();
+                } finally {
+                    popCallStack();
+                }
+                // Code for CodeBlock specified at /root/project/examples/freemarker/FTL.javacc:865:19
+                token_source.rightAfterHeader = true;
+            }
+            // Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:867:5
+            pushOntoCallStack("Root", "/root/project/examples/freemarker/FTL.javacc", 867, 
+            5);
+            try {
+                Block();
+            } finally {
+                popCallStack();
+            }
+            // Code for EndOfFile specified at /root/project/examples/freemarker/FTL.javacc:868:5
+            consumeToken(EOF);
+        } catch (ParseException e) {
+            parseException3798 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize3799);
+            if (Root70 != null) {
+                if (parseException3798 == null) {
+                    closeNodeScope(Root70, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> first_set$FEL_javacc$181$5 = EnumSet.of(OR, OR2);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$182$10 = first_set$FEL_javacc$181$5;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$188$5 = EnumSet.of(AND, AND2);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$189$10 = first_set$FEL_javacc$188$5;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$195$5 = EnumSet.of(EQUALS, 
+    DOUBLE_EQUALS, NOT_EQUALS);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$196$10 = first_set$FEL_javacc$195$5;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$203$5 = first_set$FEL_javacc$203$5_init();
+
+    static private EnumSet<TokenType> first_set$FEL_javacc$203$5_init() {
+        return EnumSet.of(LT, GT, LTE, GTE, ALT_GT, ALT_LT, ALT_GTE, ALT_LTE);
+    }
+
+    static private final EnumSet<TokenType> first_set$FEL_javacc$204$9 = first_set$FEL_javacc$203$5;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$204$10 = first_set$FEL_javacc$203$5;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$222$13 = UnaryPlusMinusExpression_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$229$5 = EnumSet.of(TIMES, 
+    DIVIDE, PERCENT);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$230$12 = first_set$FEL_javacc$229$5;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$245$6 = UnaryPlusMinusExpression_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$307$5 = EnumSet.of(TIMES, 
+    IDENTIFIER);
+    static private final EnumSet<TokenType> first_set$FEL_javacc$307$6 = first_set$FEL_javacc$307$5;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$315$16 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$328$6 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$328$17 = first_set$FEL_javacc$328$17_init();
+
+    static private EnumSet<TokenType> first_set$FEL_javacc$328$17_init() {
+        return EnumSet.of(OPEN_PAREN, OPEN_BRACKET, OPEN_BRACE, DOT, PLUS, MINUS, COMMA, EXCLAM, 
+        NULL, TRUE, FALSE, INTEGER, DECIMAL, IDENTIFIER, STRING_LITERAL, RAW_STRING);
+    }
+
+    static private final EnumSet<TokenType> first_set$FEL_javacc$328$18 = first_set$FEL_javacc$328$17;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$340$8 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$362$9 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$365$9 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FEL_javacc$384$8 = first_set$FEL_javacc$328$17;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$379$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$380$5 = EnumSet.of(SET, LOCAL, 
+    GLOBAL, ASSIGN);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$381$8 = first_set$FTL_javacc$380$5;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$388$5 = EnumSet.of(EQUALS, 
+    IN, CLOSE_TAG);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$389$7 = first_set$FTL_javacc$388$5;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$406$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$414$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$422$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$429$5 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$435$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$442$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$448$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$455$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$462$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$468$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$474$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$479$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$486$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$494$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$504$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$505$5 = EnumSet.of(BLOCKTRIM, 
+    BLOCKTRIML, BLOCKTRIMR, BLOCKNOTRIM);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$506$9 = first_set$FTL_javacc$505$5;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$520$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$527$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$539$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$548$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$555$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$564$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$572$12 = first_set$FEL_javacc$328$17;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$580$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$582$5 = EnumSet.of(BLANK, 
+    CLOSE_TAG, CLOSE_EMPTY_TAG);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$583$8 = first_set$FTL_javacc$582$5;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$587$12 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$590$14 = first_set$FEL_javacc$328$17;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$598$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$604$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$617$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$627$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$635$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$649$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$657$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$663$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$674$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$685$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$695$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$696$5 = EnumSet.of(MACRO, 
+    FUNCTION);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$697$7 = first_set$FTL_javacc$696$5;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$752$8 = Text_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$759$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$767$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$806$9 = UserDirective_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$813$6 = Input_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$816$8 = LooseTagEnd_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$821$11 = EnumSet.of(END_USER_DIRECTIVE1, 
+    END_USER_DIRECTIVE2);
+    static private final EnumSet<TokenType> first_set$FTL_javacc$821$12 = first_set$FTL_javacc$821$11;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$830$6 = Block_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$844$6 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$FTL_javacc$854$6 = LooseTagEnd_FIRST_SET;
+
+    private final boolean scanToken(TokenType expectedType, TokenType...additionalTypes) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type != expectedType) {
+            boolean matched = false;
+            for (TokenType tt : additionalTypes) {
+                if (type == tt) {
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) return false;
+        }
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(EnumSet<TokenType> types) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (!types.contains(type)) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    //====================================
+    // Lookahead Routines
+    //====================================
+    // scanahead routine for expansion at:
+    // FEL.javacc:182:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$182$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at FEL.javacc:182:10
+            if (!scanToken(OR, OR2)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:182:22
+            // NonTerminal AndExpression at FEL.javacc:182:22
+            pushOntoLookaheadStack("OrExpression", "FEL.javacc", 182, 22);
+            currentLookaheadProduction = "AndExpression";
+            try {
+                if (!check$AndExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:189:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$189$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at FEL.javacc:189:10
+            if (!scanToken(AND, AND2)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:189:24
+            // NonTerminal EqualityExpression at FEL.javacc:189:24
+            pushOntoLookaheadStack("AndExpression", "FEL.javacc", 189, 24);
+            currentLookaheadProduction = "EqualityExpression";
+            try {
+                if (!check$EqualityExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:196:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$196$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at FEL.javacc:196:10
+            if (!scanToken(EQUALS, DOUBLE_EQUALS, NOT_EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:197:9
+            // NonTerminal RelationalExpression at FEL.javacc:197:9
+            pushOntoLookaheadStack("EqualityExpression", "FEL.javacc", 197, 9);
+            currentLookaheadProduction = "RelationalExpression";
+            try {
+                if (!check$RelationalExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:204:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$204$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at FEL.javacc:204:10
+            if (!scanToken(first_set$FEL_javacc$204$10)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:205:9
+            // NonTerminal RangeExpression at FEL.javacc:205:9
+            pushOntoLookaheadStack("RelationalExpression", "FEL.javacc", 205, 9);
+            currentLookaheadProduction = "RangeExpression";
+            try {
+                if (!check$RangeExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:212:8
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$212$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at FEL.javacc:212:8
+            if (!scanToken(DOT_DOT)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at FEL.javacc:213:8
+            Token token3856 = currentLookaheadToken;
+            boolean passedPredicate3856 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!check$FEL_javacc$214$11(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token3856;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate3856;
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:214:11
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$214$11(boolean scanToEnd) {
+        int prevPassedPredicateThreshold = this.passedPredicateThreshold;
+        this.passedPredicateThreshold = -1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:214:11
+            // NonTerminal AdditiveExpression at FEL.javacc:214:11
+            pushOntoLookaheadStack("RangeExpression", "FEL.javacc", 214, 11);
+            currentLookaheadProduction = "AdditiveExpression";
+            try {
+                if (!check$AdditiveExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (!scanToEnd && lookaheadStack.size() <= 1) {
+                if (lookaheadRoutineNesting == 0) {
+                    remainingLookahead = 0;
+                } else if (lookaheadStack.size() == 1) {
+                    passedPredicateThreshold = remainingLookahead;
+                }
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if (remainingLookahead <= this.passedPredicateThreshold) {
+                passedPredicate = true;
+                this.passedPredicateThreshold = prevPassedPredicateThreshold;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:222:12
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$222$12(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at FEL.javacc:222:13
+            if (!scanToken(PLUS, MINUS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:223:12
+            // NonTerminal MultiplicativeExpression at FEL.javacc:223:12
+            pushOntoLookaheadStack("AdditiveExpression", "FEL.javacc", 223, 12);
+            currentLookaheadProduction = "MultiplicativeExpression";
+            try {
+                if (!check$MultiplicativeExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:230:11
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$230$11(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at FEL.javacc:230:12
+            if (!scanToken(TIMES, DIVIDE, PERCENT)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:231:11
+            // NonTerminal UnaryExpression at FEL.javacc:231:11
+            pushOntoLookaheadStack("MultiplicativeExpression", "FEL.javacc", 231, 11);
+            currentLookaheadProduction = "UnaryExpression";
+            try {
+                if (!check$UnaryExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:237:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$237$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:237:5
+            // NonTerminal UnaryPlusMinusExpression at FEL.javacc:237:5
+            pushOntoLookaheadStack("UnaryExpression", "FEL.javacc", 237, 5);
+            currentLookaheadProduction = "UnaryPlusMinusExpression";
+            try {
+                if (!check$UnaryPlusMinusExpression(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:239:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$239$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:239:5
+            // NonTerminal NotExpression at FEL.javacc:239:5
+            pushOntoLookaheadStack("UnaryExpression", "FEL.javacc", 239, 5);
+            currentLookaheadProduction = "NotExpression";
+            try {
+                if (!check$NotExpression(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:241:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$241$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:241:5
+            // NonTerminal DefaultToExpression at FEL.javacc:241:5
+            pushOntoLookaheadStack("UnaryExpression", "FEL.javacc", 241, 5);
+            currentLookaheadProduction = "DefaultToExpression";
+            try {
+                if (!check$DefaultToExpression(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:261:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$261$9(boolean scanToEnd) {
+        int prevPassedPredicateThreshold = this.passedPredicateThreshold;
+        this.passedPredicateThreshold = -1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at FEL.javacc:262:12
+            if (!scanToken(EXCLAM)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:262:20
+            // NonTerminal PrimaryExpression at FEL.javacc:262:20
+            pushOntoLookaheadStack("DefaultToExpression", "FEL.javacc", 262, 20);
+            currentLookaheadProduction = "PrimaryExpression";
+            try {
+                if (!check$PrimaryExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (!scanToEnd && lookaheadStack.size() <= 1) {
+                if (lookaheadRoutineNesting == 0) {
+                    remainingLookahead = 0;
+                } else if (lookaheadStack.size() == 1) {
+                    passedPredicateThreshold = remainingLookahead;
+                }
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if (remainingLookahead <= this.passedPredicateThreshold) {
+                passedPredicate = true;
+                this.passedPredicateThreshold = prevPassedPredicateThreshold;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:272:7
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$272$7(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at FEL.javacc:272:7
+            Token token3877 = currentLookaheadToken;
+            int remainingLookahead3877 = remainingLookahead;
+            boolean hitFailure3877 = hitFailure, passedPredicate3877 = passedPredicate;
+            try {
+                passedPredicate = false;
+                if (!check$FEL_javacc$272$7$(false)) {
+                    currentLookaheadToken = token3877;
+                    remainingLookahead = remainingLookahead3877;
+                    hitFailure = hitFailure3877;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$FEL_javacc$274$7(false)) {
+                        currentLookaheadToken = token3877;
+                        remainingLookahead = remainingLookahead3877;
+                        hitFailure = hitFailure3877;
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!check$FEL_javacc$276$7(false)) {
+                            currentLookaheadToken = token3877;
+                            remainingLookahead = remainingLookahead3877;
+                            hitFailure = hitFailure3877;
+                            if (passedPredicate && !legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!check$FEL_javacc$278$7(false)) {
+                                currentLookaheadToken = token3877;
+                                remainingLookahead = remainingLookahead3877;
+                                hitFailure = hitFailure3877;
+                                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                passedPredicate = false;
+                                if (!scanToken(EXISTS_OPERATOR)) {
+                                    currentLookaheadToken = token3877;
+                                    remainingLookahead = remainingLookahead3877;
+                                    hitFailure = hitFailure3877;
+                                    return false;
+                                }
+                            }
+                        }
+                    }
+                }
+            } finally {
+                passedPredicate = passedPredicate3877;
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:272:7
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$272$7$(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:272:7
+            // NonTerminal DotKey at FEL.javacc:272:7
+            pushOntoLookaheadStack("PrimaryExpression", "FEL.javacc", 272, 7);
+            currentLookaheadProduction = "DotKey";
+            try {
+                if (!check$DotKey(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:274:7
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$274$7(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:274:7
+            // NonTerminal DynamicKey at FEL.javacc:274:7
+            pushOntoLookaheadStack("PrimaryExpression", "FEL.javacc", 274, 7);
+            currentLookaheadProduction = "DynamicKey";
+            try {
+                if (!check$DynamicKey(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:276:7
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$276$7(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:276:7
+            // NonTerminal MethodInvoke at FEL.javacc:276:7
+            pushOntoLookaheadStack("PrimaryExpression", "FEL.javacc", 276, 7);
+            currentLookaheadProduction = "MethodInvoke";
+            try {
+                if (!check$MethodInvoke(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:278:7
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$278$7(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:278:7
+            // NonTerminal BuiltIn at FEL.javacc:278:7
+            pushOntoLookaheadStack("PrimaryExpression", "FEL.javacc", 278, 7);
+            currentLookaheadProduction = "BuiltIn";
+            try {
+                if (!check$BuiltIn(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:289:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$289$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:289:5
+            // NonTerminal HashLiteral at FEL.javacc:289:5
+            pushOntoLookaheadStack("BaseExpression", "FEL.javacc", 289, 5);
+            currentLookaheadProduction = "HashLiteral";
+            try {
+                if (!check$HashLiteral(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:297:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$297$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:297:5
+            // NonTerminal ListLiteral at FEL.javacc:297:5
+            pushOntoLookaheadStack("BaseExpression", "FEL.javacc", 297, 5);
+            currentLookaheadProduction = "ListLiteral";
+            try {
+                if (!check$ListLiteral(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:299:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$299$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:299:5
+            // NonTerminal Parenthesis at FEL.javacc:299:5
+            pushOntoLookaheadStack("BaseExpression", "FEL.javacc", 299, 5);
+            currentLookaheadProduction = "Parenthesis";
+            try {
+                if (!check$Parenthesis(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:301:5
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$301$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:301:5
+            // NonTerminal BuiltinVariable at FEL.javacc:301:5
+            pushOntoLookaheadStack("BaseExpression", "FEL.javacc", 301, 5);
+            currentLookaheadProduction = "BuiltinVariable";
+            try {
+                if (!check$BuiltinVariable(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:315:16
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$315$16(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:315:16
+            // NonTerminal ArgsList at FEL.javacc:315:16
+            pushOntoLookaheadStack("MethodInvoke", "FEL.javacc", 315, 16);
+            currentLookaheadProduction = "ArgsList";
+            try {
+                if (!check$ArgsList(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:328:6
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$328$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:328:6
+            // NonTerminal Expression at FEL.javacc:328:6
+            pushOntoLookaheadStack("ListLiteral", "FEL.javacc", 328, 6);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrMore specified at FEL.javacc:328:17
+            boolean passedPredicate3899 = passedPredicate;
+            try {
+                while (remainingLookahead > 0 && !hitFailure) {
+                    Token token3900 = currentLookaheadToken;
+                    passedPredicate = false;
+                    if (!check$FEL_javacc$328$18(false)) {
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        currentLookaheadToken = token3900;
+                        break;
+                    }
+                }
+            } finally {
+                passedPredicate = passedPredicate3899;
+            }
+            hitFailure = false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:328:18
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$328$18(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at FEL.javacc:328:18
+            Token token3903 = currentLookaheadToken;
+            boolean passedPredicate3903 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token3903;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate3903;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:328:27
+            // NonTerminal Expression at FEL.javacc:328:27
+            pushOntoLookaheadStack("ListLiteral", "FEL.javacc", 328, 27);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:340:8
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$340$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:340:8
+            // NonTerminal Expression at FEL.javacc:340:8
+            pushOntoLookaheadStack("HashLiteral", "FEL.javacc", 340, 8);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at FEL.javacc:340:19
+            if (!scanToken(COLON)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:340:27
+            // NonTerminal Expression at FEL.javacc:340:27
+            pushOntoLookaheadStack("HashLiteral", "FEL.javacc", 340, 27);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrMore specified at FEL.javacc:341:8
+            boolean passedPredicate3910 = passedPredicate;
+            try {
+                while (remainingLookahead > 0 && !hitFailure) {
+                    Token token3911 = currentLookaheadToken;
+                    passedPredicate = false;
+                    if (!check$FEL_javacc$341$9(false)) {
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        currentLookaheadToken = token3911;
+                        break;
+                    }
+                }
+            } finally {
+                passedPredicate = passedPredicate3910;
+            }
+            hitFailure = false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:341:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$341$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at FEL.javacc:341:9
+            if (!scanToken(COMMA)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:341:17
+            // NonTerminal Expression at FEL.javacc:341:17
+            pushOntoLookaheadStack("HashLiteral", "FEL.javacc", 341, 17);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at FEL.javacc:341:28
+            if (!scanToken(COLON)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:341:36
+            // NonTerminal Expression at FEL.javacc:341:36
+            pushOntoLookaheadStack("HashLiteral", "FEL.javacc", 341, 36);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:362:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$362$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2147483647;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            if (remainingLookahead <= 0) {
+                passedPredicate = true;
+                return !hitFailure;
+            }
+            if (!check$FEL_javacc$362$14(true)) return false;
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:363:9
+            // NonTerminal NamedArgsList at FEL.javacc:363:9
+            pushOntoLookaheadStack("ArgsList", "FEL.javacc", 363, 9);
+            currentLookaheadProduction = "NamedArgsList";
+            try {
+                if (!check$NamedArgsList(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:365:9
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$365$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:365:9
+            // NonTerminal PositionalArgsList at FEL.javacc:365:9
+            pushOntoLookaheadStack("ArgsList", "FEL.javacc", 365, 9);
+            currentLookaheadProduction = "PositionalArgsList";
+            try {
+                if (!check$PositionalArgsList(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:374:8
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$374$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at FEL.javacc:374:8
+            Token token3925 = currentLookaheadToken;
+            boolean passedPredicate3925 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token3925;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate3925;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at FEL.javacc:375:8
+            if (!scanToken(IDENTIFIER)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at FEL.javacc:376:8
+            if (!scanToken(EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:377:8
+            // NonTerminal Expression at FEL.javacc:377:8
+            pushOntoLookaheadStack("NamedArgsList", "FEL.javacc", 377, 8);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // FEL.javacc:384:8
+    // BuildScanRoutine macro
+    private final boolean check$FEL_javacc$384$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at FEL.javacc:384:8
+            Token token3931 = currentLookaheadToken;
+            boolean passedPredicate3931 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token3931;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate3931;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:385:8
+            // NonTerminal Expression at FEL.javacc:385:8
+            pushOntoLookaheadStack("PositionalArgsList", "FEL.javacc", 385, 8);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:371:40
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$371$40(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:371:40
+            if (!scanToken(SEMICOLON)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:371:51
+            if (!scanToken(IDENTIFIER)) return false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:389:7
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$389$7(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:390:8
+            if (!scanToken(EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:390:16
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:390:16
+            pushOntoLookaheadStack("Assignment", "/root/project/examples/freemarker/FTL.javacc", 
+            390, 16);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:391:8
+            boolean passedPredicate3942 = passedPredicate;
+            try {
+                while (remainingLookahead > 0 && !hitFailure) {
+                    Token token3943 = currentLookaheadToken;
+                    passedPredicate = false;
+                    if (!check$FTL_javacc$391$9(false)) {
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        currentLookaheadToken = token3943;
+                        break;
+                    }
+                }
+            } finally {
+                passedPredicate = passedPredicate3942;
+            }
+            hitFailure = false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:392:8
+            Token token3945 = currentLookaheadToken;
+            boolean passedPredicate3945 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!check$FTL_javacc$392$9(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token3945;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate3945;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:393:8
+            if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:391:9
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$391$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:391:9
+            Token token3958 = currentLookaheadToken;
+            boolean passedPredicate3958 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token3958;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate3958;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:391:19
+            if (!scanToken(IDENTIFIER, STRING_LITERAL, RAW_STRING)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:391:45
+            if (!scanToken(EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:391:54
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:391:54
+            pushOntoLookaheadStack("Assignment", "/root/project/examples/freemarker/FTL.javacc", 
+            391, 54);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:392:9
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$392$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:392:9
+            if (!scanToken(IN)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:392:14
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:392:14
+            pushOntoLookaheadStack("Assignment", "/root/project/examples/freemarker/FTL.javacc", 
+            392, 14);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:396:7
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$396$7(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:397:11
+            Token token3969 = currentLookaheadToken;
+            boolean passedPredicate3969 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!check$FTL_javacc$397$12(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token3969;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate3969;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:398:10
+            if (!scanToken(CLOSE_TAG)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:399:10
+            // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:399:10
+            pushOntoLookaheadStack("Assignment", "/root/project/examples/freemarker/FTL.javacc", 
+            399, 10);
+            currentLookaheadProduction = "Block";
+            try {
+                if (!check$Block(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:400:10
+            if (!scanToken(END_DIRECTIVE1, END_DIRECTIVE2)) return false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:397:12
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$397$12(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:397:12
+            if (!scanToken(IN)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:397:17
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:397:17
+            pushOntoLookaheadStack("Assignment", "/root/project/examples/freemarker/FTL.javacc", 
+            397, 17);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:408:32
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$408$32(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:408:32
+            if (!scanToken(EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:408:41
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:408:41
+            pushOntoLookaheadStack("Var", "/root/project/examples/freemarker/FTL.javacc", 408, 
+            41);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:409:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$409$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:409:6
+            Token token3987 = currentLookaheadToken;
+            boolean passedPredicate3987 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token3987;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate3987;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:409:15
+            if (!scanToken(IDENTIFIER, STRING_LITERAL, RAW_STRING)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:409:41
+            Token token3990 = currentLookaheadToken;
+            boolean passedPredicate3990 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!check$FTL_javacc$409$42(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token3990;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate3990;
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:409:42
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$409$42(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:409:42
+            if (!scanToken(EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:409:51
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:409:51
+            pushOntoLookaheadStack("Var", "/root/project/examples/freemarker/FTL.javacc", 409, 
+            51);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:416:19
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$416$19(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:416:19
+            if (!scanToken(EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:416:28
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:416:28
+            pushOntoLookaheadStack("Setting", "/root/project/examples/freemarker/FTL.javacc", 
+            416, 28);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:417:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$417$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:417:6
+            Token token3999 = currentLookaheadToken;
+            boolean passedPredicate3999 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token3999;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate3999;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:417:15
+            if (!scanToken(IDENTIFIER, STRING_LITERAL, RAW_STRING)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:417:41
+            Token token4002 = currentLookaheadToken;
+            boolean passedPredicate4002 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!check$FTL_javacc$417$42(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4002;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate4002;
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:417:42
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$417$42(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:417:42
+            if (!scanToken(EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:417:51
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:417:51
+            pushOntoLookaheadStack("Setting", "/root/project/examples/freemarker/FTL.javacc", 
+            417, 51);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:481:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$481$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:481:6
+            if (!scanToken(BLANK)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:481:13
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:481:13
+            pushOntoLookaheadStack("Return", "/root/project/examples/freemarker/FTL.javacc", 
+            481, 13);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:488:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$488$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:488:6
+            if (!scanToken(BLANK)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:488:13
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:488:13
+            pushOntoLookaheadStack("Stop", "/root/project/examples/freemarker/FTL.javacc", 
+            488, 13);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:543:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$543$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:543:6
+            if (!scanToken(IDENTIFIER)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:543:18
+            if (!scanToken(EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:543:26
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:543:26
+            pushOntoLookaheadStack("Include", "/root/project/examples/freemarker/FTL.javacc", 
+            543, 26);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:569:8
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$569$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:569:8
+            if (!scanToken(USING)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:570:8
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:570:8
+            pushOntoLookaheadStack("Visit", "/root/project/examples/freemarker/FTL.javacc", 
+            570, 8);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:571:8
+            boolean passedPredicate4020 = passedPredicate;
+            try {
+                while (remainingLookahead > 0 && !hitFailure) {
+                    Token token4021 = currentLookaheadToken;
+                    passedPredicate = false;
+                    if (!check$FTL_javacc$572$12(false)) {
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        currentLookaheadToken = token4021;
+                        break;
+                    }
+                }
+            } finally {
+                passedPredicate = passedPredicate4020;
+            }
+            hitFailure = false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:572:12
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$572$12(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:572:12
+            Token token4024 = currentLookaheadToken;
+            boolean passedPredicate4024 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4024;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate4024;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:573:12
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:573:12
+            pushOntoLookaheadStack("Visit", "/root/project/examples/freemarker/FTL.javacc", 
+            573, 12);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:585:8
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$585$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:586:11
+            if (!scanToken(BLANK)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:587:11
+            Token token4031 = currentLookaheadToken;
+            boolean passedPredicate4031 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!check$FTL_javacc$587$12(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4031;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate4031;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:588:11
+            Token token4033 = currentLookaheadToken;
+            boolean passedPredicate4033 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!check$FTL_javacc$588$12(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4033;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate4033;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:592:11
+            if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:587:12
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$587$12(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:587:12
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:587:12
+            pushOntoLookaheadStack("Recurse", "/root/project/examples/freemarker/FTL.javacc", 
+            587, 12);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:588:12
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$588$12(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:588:12
+            if (!scanToken(USING)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:589:13
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:589:13
+            pushOntoLookaheadStack("Recurse", "/root/project/examples/freemarker/FTL.javacc", 
+            589, 13);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:590:13
+            boolean passedPredicate4048 = passedPredicate;
+            try {
+                while (remainingLookahead > 0 && !hitFailure) {
+                    Token token4049 = currentLookaheadToken;
+                    passedPredicate = false;
+                    if (!check$FTL_javacc$590$14(false)) {
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        currentLookaheadToken = token4049;
+                        break;
+                    }
+                }
+            } finally {
+                passedPredicate = passedPredicate4048;
+            }
+            hitFailure = false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:590:14
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$590$14(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:590:14
+            Token token4052 = currentLookaheadToken;
+            boolean passedPredicate4052 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4052;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate4052;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:590:24
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:590:24
+            pushOntoLookaheadStack("Recurse", "/root/project/examples/freemarker/FTL.javacc", 
+            590, 24);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:609:7
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$609$7(boolean scanToEnd) {
+        int prevPassedPredicateThreshold = this.passedPredicateThreshold;
+        this.passedPredicateThreshold = -1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:609:7
+            // NonTerminal ElseIf at /root/project/examples/freemarker/FTL.javacc:609:7
+            pushOntoLookaheadStack("If", "/root/project/examples/freemarker/FTL.javacc", 609, 
+            7);
+            currentLookaheadProduction = "ElseIf";
+            try {
+                if (!check$ElseIf(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if (remainingLookahead <= this.passedPredicateThreshold) {
+                passedPredicate = true;
+                this.passedPredicateThreshold = prevPassedPredicateThreshold;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:611:8
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$611$8(boolean scanToEnd) {
+        int prevPassedPredicateThreshold = this.passedPredicateThreshold;
+        this.passedPredicateThreshold = -1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:611:8
+            // NonTerminal Else at /root/project/examples/freemarker/FTL.javacc:611:8
+            pushOntoLookaheadStack("If", "/root/project/examples/freemarker/FTL.javacc", 611, 
+            8);
+            currentLookaheadProduction = "Else";
+            try {
+                if (!check$Else(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if (remainingLookahead <= this.passedPredicateThreshold) {
+                passedPredicate = true;
+                this.passedPredicateThreshold = prevPassedPredicateThreshold;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:641:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$641$6(boolean scanToEnd) {
+        int prevPassedPredicateThreshold = this.passedPredicateThreshold;
+        this.passedPredicateThreshold = -1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:641:6
+            // NonTerminal Case at /root/project/examples/freemarker/FTL.javacc:641:6
+            pushOntoLookaheadStack("Switch", "/root/project/examples/freemarker/FTL.javacc", 
+            641, 6);
+            currentLookaheadProduction = "Case";
+            try {
+                if (!check$Case(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if (remainingLookahead <= this.passedPredicateThreshold) {
+                passedPredicate = true;
+                this.passedPredicateThreshold = prevPassedPredicateThreshold;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:643:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$643$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:643:13
+            // NonTerminal Default at /root/project/examples/freemarker/FTL.javacc:643:13
+            pushOntoLookaheadStack("Switch", "/root/project/examples/freemarker/FTL.javacc", 
+            643, 13);
+            currentLookaheadProduction = "Default";
+            try {
+                if (!check$Default(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:687:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$687$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:687:6
+            if (!scanToken(BLANK)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:687:13
+            // NonTerminal PositionalArgsList at /root/project/examples/freemarker/FTL.javacc:687:13
+            pushOntoLookaheadStack("Nested", "/root/project/examples/freemarker/FTL.javacc", 
+            687, 13);
+            currentLookaheadProduction = "PositionalArgsList";
+            try {
+                if (!check$PositionalArgsList(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:704:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$704$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:704:6
+            // NonTerminal ParameterList at /root/project/examples/freemarker/FTL.javacc:704:6
+            pushOntoLookaheadStack("MacroDefinition", "/root/project/examples/freemarker/FTL.javacc", 
+            704, 6);
+            currentLookaheadProduction = "ParameterList";
+            try {
+                if (!check$ParameterList(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:716:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$716$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:716:6
+            Token token4068 = currentLookaheadToken;
+            int remainingLookahead4068 = remainingLookahead;
+            boolean hitFailure4068 = hitFailure, passedPredicate4068 = passedPredicate;
+            try {
+                passedPredicate = false;
+                if (!check$FTL_javacc$716$6$(false)) {
+                    currentLookaheadToken = token4068;
+                    remainingLookahead = remainingLookahead4068;
+                    hitFailure = hitFailure4068;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!scanToken(ELLIPSIS)) {
+                        currentLookaheadToken = token4068;
+                        remainingLookahead = remainingLookahead4068;
+                        hitFailure = hitFailure4068;
+                        return false;
+                    }
+                }
+            } finally {
+                passedPredicate = passedPredicate4068;
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:716:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$716$6$(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:716:7
+            if (!scanToken(EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:716:15
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:716:15
+            pushOntoLookaheadStack("ParameterList", "/root/project/examples/freemarker/FTL.javacc", 
+            716, 15);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:718:8
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$718$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:718:8
+            Token token4079 = currentLookaheadToken;
+            boolean passedPredicate4079 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(COMMA)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4079;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate4079;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:719:8
+            if (!scanToken(IDENTIFIER)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:720:8
+            Token token4082 = currentLookaheadToken;
+            boolean passedPredicate4082 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!check$FTL_javacc$721$11(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4082;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate4082;
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:721:11
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$721$11(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:721:11
+            Token token4084 = currentLookaheadToken;
+            int remainingLookahead4084 = remainingLookahead;
+            boolean hitFailure4084 = hitFailure, passedPredicate4084 = passedPredicate;
+            try {
+                passedPredicate = false;
+                if (!check$FTL_javacc$721$11$(false)) {
+                    currentLookaheadToken = token4084;
+                    remainingLookahead = remainingLookahead4084;
+                    hitFailure = hitFailure4084;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!scanToken(ELLIPSIS)) {
+                        currentLookaheadToken = token4084;
+                        remainingLookahead = remainingLookahead4084;
+                        hitFailure = hitFailure4084;
+                        return false;
+                    }
+                }
+            } finally {
+                passedPredicate = passedPredicate4084;
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:721:11
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$721$11$(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:721:12
+            if (!scanToken(EQUALS)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:721:20
+            // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:721:20
+            pushOntoLookaheadStack("ParameterList", "/root/project/examples/freemarker/FTL.javacc", 
+            721, 20);
+            currentLookaheadProduction = "Expression";
+            try {
+                if (!check$Expression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:767:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$767$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:767:13
+            // NonTerminal Assignment at /root/project/examples/freemarker/FTL.javacc:767:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            767, 13);
+            currentLookaheadProduction = "Assignment";
+            try {
+                if (!check$Assignment(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:768:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$768$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:768:13
+            // NonTerminal Attempt at /root/project/examples/freemarker/FTL.javacc:768:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            768, 13);
+            currentLookaheadProduction = "Attempt";
+            try {
+                if (!check$Attempt(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:769:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$769$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:769:13
+            // NonTerminal Comment at /root/project/examples/freemarker/FTL.javacc:769:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            769, 13);
+            currentLookaheadProduction = "Comment";
+            try {
+                if (!check$Comment(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:770:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$770$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:770:13
+            // NonTerminal Compress at /root/project/examples/freemarker/FTL.javacc:770:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            770, 13);
+            currentLookaheadProduction = "Compress";
+            try {
+                if (!check$Compress(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:771:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$771$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:771:13
+            // NonTerminal Embed at /root/project/examples/freemarker/FTL.javacc:771:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            771, 13);
+            currentLookaheadProduction = "Embed";
+            try {
+                if (!check$Embed(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:772:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$772$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:772:13
+            // NonTerminal ForEach at /root/project/examples/freemarker/FTL.javacc:772:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            772, 13);
+            currentLookaheadProduction = "ForEach";
+            try {
+                if (!check$ForEach(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:773:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$773$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:773:13
+            // NonTerminal If at /root/project/examples/freemarker/FTL.javacc:773:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            773, 13);
+            currentLookaheadProduction = "If";
+            try {
+                if (!check$If(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:774:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$774$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:774:13
+            // NonTerminal List at /root/project/examples/freemarker/FTL.javacc:774:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            774, 13);
+            currentLookaheadProduction = "List";
+            try {
+                if (!check$List(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:775:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$775$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:775:13
+            // NonTerminal Include at /root/project/examples/freemarker/FTL.javacc:775:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            775, 13);
+            currentLookaheadProduction = "Include";
+            try {
+                if (!check$Include(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:776:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$776$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:776:13
+            // NonTerminal Import at /root/project/examples/freemarker/FTL.javacc:776:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            776, 13);
+            currentLookaheadProduction = "Import";
+            try {
+                if (!check$Import(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:777:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$777$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:777:13
+            // NonTerminal MacroDefinition at /root/project/examples/freemarker/FTL.javacc:777:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            777, 13);
+            currentLookaheadProduction = "MacroDefinition";
+            try {
+                if (!check$MacroDefinition(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:778:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$778$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:778:13
+            // NonTerminal NoParse at /root/project/examples/freemarker/FTL.javacc:778:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            778, 13);
+            currentLookaheadProduction = "NoParse";
+            try {
+                if (!check$NoParse(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:779:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$779$6(boolean scanToEnd) {
+        int prevPassedPredicateThreshold = this.passedPredicateThreshold;
+        this.passedPredicateThreshold = -1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:779:6
+            // NonTerminal Switch at /root/project/examples/freemarker/FTL.javacc:779:6
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            779, 6);
+            currentLookaheadProduction = "Switch";
+            try {
+                if (!check$Switch(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if (remainingLookahead <= this.passedPredicateThreshold) {
+                passedPredicate = true;
+                this.passedPredicateThreshold = prevPassedPredicateThreshold;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:780:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$780$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:780:13
+            // NonTerminal Setting at /root/project/examples/freemarker/FTL.javacc:780:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            780, 13);
+            currentLookaheadProduction = "Setting";
+            try {
+                if (!check$Setting(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:781:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$781$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:781:13
+            // NonTerminal Var at /root/project/examples/freemarker/FTL.javacc:781:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            781, 13);
+            currentLookaheadProduction = "Var";
+            try {
+                if (!check$Var(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:782:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$782$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:782:13
+            // NonTerminal Break at /root/project/examples/freemarker/FTL.javacc:782:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            782, 13);
+            currentLookaheadProduction = "Break";
+            try {
+                if (!check$Break(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:783:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$783$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:783:13
+            // NonTerminal Return at /root/project/examples/freemarker/FTL.javacc:783:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            783, 13);
+            currentLookaheadProduction = "Return";
+            try {
+                if (!check$Return(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:784:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$784$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:784:13
+            // NonTerminal Stop at /root/project/examples/freemarker/FTL.javacc:784:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            784, 13);
+            currentLookaheadProduction = "Stop";
+            try {
+                if (!check$Stop(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:785:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$785$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:785:13
+            // NonTerminal Flush at /root/project/examples/freemarker/FTL.javacc:785:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            785, 13);
+            currentLookaheadProduction = "Flush";
+            try {
+                if (!check$Flush(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:786:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$786$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:786:13
+            // NonTerminal Trim at /root/project/examples/freemarker/FTL.javacc:786:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            786, 13);
+            currentLookaheadProduction = "Trim";
+            try {
+                if (!check$Trim(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:787:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$787$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:787:13
+            // NonTerminal NoTrim at /root/project/examples/freemarker/FTL.javacc:787:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            787, 13);
+            currentLookaheadProduction = "NoTrim";
+            try {
+                if (!check$NoTrim(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:788:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$788$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:788:13
+            // NonTerminal LeftTrim at /root/project/examples/freemarker/FTL.javacc:788:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            788, 13);
+            currentLookaheadProduction = "LeftTrim";
+            try {
+                if (!check$LeftTrim(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:789:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$789$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:789:13
+            // NonTerminal RightTrim at /root/project/examples/freemarker/FTL.javacc:789:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            789, 13);
+            currentLookaheadProduction = "RightTrim";
+            try {
+                if (!check$RightTrim(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:790:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$790$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:790:13
+            // NonTerminal TrimBlock at /root/project/examples/freemarker/FTL.javacc:790:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            790, 13);
+            currentLookaheadProduction = "TrimBlock";
+            try {
+                if (!check$TrimBlock(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:791:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$791$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:791:13
+            // NonTerminal Nested at /root/project/examples/freemarker/FTL.javacc:791:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            791, 13);
+            currentLookaheadProduction = "Nested";
+            try {
+                if (!check$Nested(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:792:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$792$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:792:13
+            // NonTerminal EscapeBlock at /root/project/examples/freemarker/FTL.javacc:792:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            792, 13);
+            currentLookaheadProduction = "EscapeBlock";
+            try {
+                if (!check$EscapeBlock(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:793:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$793$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:793:13
+            // NonTerminal NoEscapeBlock at /root/project/examples/freemarker/FTL.javacc:793:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            793, 13);
+            currentLookaheadProduction = "NoEscapeBlock";
+            try {
+                if (!check$NoEscapeBlock(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:794:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$794$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:794:13
+            // NonTerminal Visit at /root/project/examples/freemarker/FTL.javacc:794:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            794, 13);
+            currentLookaheadProduction = "Visit";
+            try {
+                if (!check$Visit(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:795:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$795$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:795:13
+            // NonTerminal Recurse at /root/project/examples/freemarker/FTL.javacc:795:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            795, 13);
+            currentLookaheadProduction = "Recurse";
+            try {
+                if (!check$Recurse(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:796:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$796$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:796:13
+            // NonTerminal FallBack at /root/project/examples/freemarker/FTL.javacc:796:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            796, 13);
+            currentLookaheadProduction = "FallBack";
+            try {
+                if (!check$FallBack(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:813:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$813$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:813:6
+            // NonTerminal ArgsList at /root/project/examples/freemarker/FTL.javacc:813:6
+            pushOntoLookaheadStack("UserDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            813, 6);
+            currentLookaheadProduction = "ArgsList";
+            try {
+                if (!check$ArgsList(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:814:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$814$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:814:6
+            if (!scanToken(SEMICOLON)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:814:17
+            Token token4160 = currentLookaheadToken;
+            boolean passedPredicate4160 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!check$FTL_javacc$814$18(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4160;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate4160;
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:814:18
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$814$18(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:814:18
+            // NonTerminal ParameterList at /root/project/examples/freemarker/FTL.javacc:814:18
+            pushOntoLookaheadStack("UserDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            814, 18);
+            currentLookaheadProduction = "ParameterList";
+            try {
+                if (!check$ParameterList(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:818:8
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$818$8(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:819:11
+            if (!scanToken(CLOSE_TAG)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:820:11
+            // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:820:11
+            pushOntoLookaheadStack("UserDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            820, 11);
+            currentLookaheadProduction = "Block";
+            try {
+                if (!check$Block(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:821:12
+            if (!scanToken(END_USER_DIRECTIVE1, END_USER_DIRECTIVE2)) return false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:828:5
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$828$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:830:6
+            Token token4178 = currentLookaheadToken;
+            int remainingLookahead4178 = remainingLookahead;
+            boolean hitFailure4178 = hitFailure, passedPredicate4178 = passedPredicate;
+            try {
+                passedPredicate = false;
+                if (!check$FTL_javacc$830$6(false)) {
+                    currentLookaheadToken = token4178;
+                    remainingLookahead = remainingLookahead4178;
+                    hitFailure = hitFailure4178;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$FTL_javacc$832$6(false)) {
+                        currentLookaheadToken = token4178;
+                        remainingLookahead = remainingLookahead4178;
+                        hitFailure = hitFailure4178;
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!check$FTL_javacc$834$6(false)) {
+                            currentLookaheadToken = token4178;
+                            remainingLookahead = remainingLookahead4178;
+                            hitFailure = hitFailure4178;
+                            if (passedPredicate && !legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!check$FTL_javacc$836$6(false)) {
+                                currentLookaheadToken = token4178;
+                                remainingLookahead = remainingLookahead4178;
+                                hitFailure = hitFailure4178;
+                                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                passedPredicate = false;
+                                if (!check$FTL_javacc$838$6(false)) {
+                                    currentLookaheadToken = token4178;
+                                    remainingLookahead = remainingLookahead4178;
+                                    hitFailure = hitFailure4178;
+                                    return false;
+                                }
+                            }
+                        }
+                    }
+                }
+            } finally {
+                passedPredicate = passedPredicate4178;
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:830:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$830$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:830:6
+            // NonTerminal Text at /root/project/examples/freemarker/FTL.javacc:830:6
+            pushOntoLookaheadStack("Block", "/root/project/examples/freemarker/FTL.javacc", 
+            830, 6);
+            currentLookaheadProduction = "Text";
+            try {
+                if (!check$Text(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:832:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$832$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:832:6
+            // NonTerminal Interpolation at /root/project/examples/freemarker/FTL.javacc:832:6
+            pushOntoLookaheadStack("Block", "/root/project/examples/freemarker/FTL.javacc", 
+            832, 6);
+            currentLookaheadProduction = "Interpolation";
+            try {
+                if (!check$Interpolation(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:834:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$834$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:834:6
+            // NonTerminal NumericalInterpolation at /root/project/examples/freemarker/FTL.javacc:834:6
+            pushOntoLookaheadStack("Block", "/root/project/examples/freemarker/FTL.javacc", 
+            834, 6);
+            currentLookaheadProduction = "NumericalInterpolation";
+            try {
+                if (!check$NumericalInterpolation(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:836:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$836$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:836:6
+            // NonTerminal UserDirective at /root/project/examples/freemarker/FTL.javacc:836:6
+            pushOntoLookaheadStack("Block", "/root/project/examples/freemarker/FTL.javacc", 
+            836, 6);
+            currentLookaheadProduction = "UserDirective";
+            try {
+                if (!check$UserDirective(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/freemarker/FTL.javacc:838:6
+    // BuildScanRoutine macro
+    private final boolean check$FTL_javacc$838$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:838:6
+            // NonTerminal TopLevelDirective at /root/project/examples/freemarker/FTL.javacc:838:6
+            pushOntoLookaheadStack("Block", "/root/project/examples/freemarker/FTL.javacc", 
+            838, 6);
+            currentLookaheadProduction = "TopLevelDirective";
+            try {
+                if (!check$TopLevelDirective(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // BuildPredicateRoutine: expansion at FEL.javacc:214:11
+    private final boolean scan$FEL_javacc$214$11() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:214:11
+            // NonTerminal AdditiveExpression at FEL.javacc:214:11
+            pushOntoLookaheadStack("RangeExpression", "FEL.javacc", 214, 11);
+            currentLookaheadProduction = "AdditiveExpression";
+            try {
+                if (!check$AdditiveExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (!scanToEnd && lookaheadStack.size() <= 1) {
+                if (lookaheadRoutineNesting == 0) {
+                    remainingLookahead = 0;
+                } else if (lookaheadStack.size() == 1) {
+                    passedPredicateThreshold = remainingLookahead;
+                }
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at FEL.javacc:261:9
+    private final boolean scan$FEL_javacc$261$9() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at FEL.javacc:262:12
+            if (!scanToken(EXCLAM)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at FEL.javacc:262:20
+            // NonTerminal PrimaryExpression at FEL.javacc:262:20
+            pushOntoLookaheadStack("DefaultToExpression", "FEL.javacc", 262, 20);
+            currentLookaheadProduction = "PrimaryExpression";
+            try {
+                if (!check$PrimaryExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (!scanToEnd && lookaheadStack.size() <= 1) {
+                if (lookaheadRoutineNesting == 0) {
+                    remainingLookahead = 0;
+                } else if (lookaheadStack.size() == 1) {
+                    passedPredicateThreshold = remainingLookahead;
+                }
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at FEL.javacc:362:9
+    private final boolean scan$FEL_javacc$362$9() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            if (remainingLookahead <= 0) {
+                passedPredicate = true;
+                return !hitFailure;
+            }
+            if (!check$FEL_javacc$362$14(true)) return false;
+            // End BuildPredicateCode macro
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:609:7
+    private final boolean scan$FTL_javacc$609$7() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:609:7
+            // NonTerminal ElseIf at /root/project/examples/freemarker/FTL.javacc:609:7
+            pushOntoLookaheadStack("If", "/root/project/examples/freemarker/FTL.javacc", 609, 
+            7);
+            currentLookaheadProduction = "ElseIf";
+            try {
+                if (!check$ElseIf(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:611:8
+    private final boolean scan$FTL_javacc$611$8() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:611:8
+            // NonTerminal Else at /root/project/examples/freemarker/FTL.javacc:611:8
+            pushOntoLookaheadStack("If", "/root/project/examples/freemarker/FTL.javacc", 611, 
+            8);
+            currentLookaheadProduction = "Else";
+            try {
+                if (!check$Else(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:641:6
+    private final boolean scan$FTL_javacc$641$6() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:641:6
+            // NonTerminal Case at /root/project/examples/freemarker/FTL.javacc:641:6
+            pushOntoLookaheadStack("Switch", "/root/project/examples/freemarker/FTL.javacc", 
+            641, 6);
+            currentLookaheadProduction = "Case";
+            try {
+                if (!check$Case(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:643:6
+    private final boolean scan$FTL_javacc$643$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:643:13
+            // NonTerminal Default at /root/project/examples/freemarker/FTL.javacc:643:13
+            pushOntoLookaheadStack("Switch", "/root/project/examples/freemarker/FTL.javacc", 
+            643, 13);
+            currentLookaheadProduction = "Default";
+            try {
+                if (!check$Default(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:767:6
+    private final boolean scan$FTL_javacc$767$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:767:13
+            // NonTerminal Assignment at /root/project/examples/freemarker/FTL.javacc:767:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            767, 13);
+            currentLookaheadProduction = "Assignment";
+            try {
+                if (!check$Assignment(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:768:6
+    private final boolean scan$FTL_javacc$768$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:768:13
+            // NonTerminal Attempt at /root/project/examples/freemarker/FTL.javacc:768:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            768, 13);
+            currentLookaheadProduction = "Attempt";
+            try {
+                if (!check$Attempt(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:769:6
+    private final boolean scan$FTL_javacc$769$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:769:13
+            // NonTerminal Comment at /root/project/examples/freemarker/FTL.javacc:769:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            769, 13);
+            currentLookaheadProduction = "Comment";
+            try {
+                if (!check$Comment(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:770:6
+    private final boolean scan$FTL_javacc$770$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:770:13
+            // NonTerminal Compress at /root/project/examples/freemarker/FTL.javacc:770:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            770, 13);
+            currentLookaheadProduction = "Compress";
+            try {
+                if (!check$Compress(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:771:6
+    private final boolean scan$FTL_javacc$771$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:771:13
+            // NonTerminal Embed at /root/project/examples/freemarker/FTL.javacc:771:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            771, 13);
+            currentLookaheadProduction = "Embed";
+            try {
+                if (!check$Embed(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:772:6
+    private final boolean scan$FTL_javacc$772$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:772:13
+            // NonTerminal ForEach at /root/project/examples/freemarker/FTL.javacc:772:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            772, 13);
+            currentLookaheadProduction = "ForEach";
+            try {
+                if (!check$ForEach(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:773:6
+    private final boolean scan$FTL_javacc$773$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:773:13
+            // NonTerminal If at /root/project/examples/freemarker/FTL.javacc:773:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            773, 13);
+            currentLookaheadProduction = "If";
+            try {
+                if (!check$If(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:774:6
+    private final boolean scan$FTL_javacc$774$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:774:13
+            // NonTerminal List at /root/project/examples/freemarker/FTL.javacc:774:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            774, 13);
+            currentLookaheadProduction = "List";
+            try {
+                if (!check$List(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:775:6
+    private final boolean scan$FTL_javacc$775$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:775:13
+            // NonTerminal Include at /root/project/examples/freemarker/FTL.javacc:775:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            775, 13);
+            currentLookaheadProduction = "Include";
+            try {
+                if (!check$Include(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:776:6
+    private final boolean scan$FTL_javacc$776$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:776:13
+            // NonTerminal Import at /root/project/examples/freemarker/FTL.javacc:776:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            776, 13);
+            currentLookaheadProduction = "Import";
+            try {
+                if (!check$Import(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:777:6
+    private final boolean scan$FTL_javacc$777$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:777:13
+            // NonTerminal MacroDefinition at /root/project/examples/freemarker/FTL.javacc:777:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            777, 13);
+            currentLookaheadProduction = "MacroDefinition";
+            try {
+                if (!check$MacroDefinition(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:778:6
+    private final boolean scan$FTL_javacc$778$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:778:13
+            // NonTerminal NoParse at /root/project/examples/freemarker/FTL.javacc:778:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            778, 13);
+            currentLookaheadProduction = "NoParse";
+            try {
+                if (!check$NoParse(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:779:6
+    private final boolean scan$FTL_javacc$779$6() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:779:6
+            // NonTerminal Switch at /root/project/examples/freemarker/FTL.javacc:779:6
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            779, 6);
+            currentLookaheadProduction = "Switch";
+            try {
+                if (!check$Switch(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:780:6
+    private final boolean scan$FTL_javacc$780$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:780:13
+            // NonTerminal Setting at /root/project/examples/freemarker/FTL.javacc:780:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            780, 13);
+            currentLookaheadProduction = "Setting";
+            try {
+                if (!check$Setting(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:781:6
+    private final boolean scan$FTL_javacc$781$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:781:13
+            // NonTerminal Var at /root/project/examples/freemarker/FTL.javacc:781:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            781, 13);
+            currentLookaheadProduction = "Var";
+            try {
+                if (!check$Var(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:782:6
+    private final boolean scan$FTL_javacc$782$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:782:13
+            // NonTerminal Break at /root/project/examples/freemarker/FTL.javacc:782:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            782, 13);
+            currentLookaheadProduction = "Break";
+            try {
+                if (!check$Break(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:783:6
+    private final boolean scan$FTL_javacc$783$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:783:13
+            // NonTerminal Return at /root/project/examples/freemarker/FTL.javacc:783:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            783, 13);
+            currentLookaheadProduction = "Return";
+            try {
+                if (!check$Return(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:784:6
+    private final boolean scan$FTL_javacc$784$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:784:13
+            // NonTerminal Stop at /root/project/examples/freemarker/FTL.javacc:784:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            784, 13);
+            currentLookaheadProduction = "Stop";
+            try {
+                if (!check$Stop(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:785:6
+    private final boolean scan$FTL_javacc$785$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:785:13
+            // NonTerminal Flush at /root/project/examples/freemarker/FTL.javacc:785:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            785, 13);
+            currentLookaheadProduction = "Flush";
+            try {
+                if (!check$Flush(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:786:6
+    private final boolean scan$FTL_javacc$786$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:786:13
+            // NonTerminal Trim at /root/project/examples/freemarker/FTL.javacc:786:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            786, 13);
+            currentLookaheadProduction = "Trim";
+            try {
+                if (!check$Trim(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:787:6
+    private final boolean scan$FTL_javacc$787$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:787:13
+            // NonTerminal NoTrim at /root/project/examples/freemarker/FTL.javacc:787:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            787, 13);
+            currentLookaheadProduction = "NoTrim";
+            try {
+                if (!check$NoTrim(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:788:6
+    private final boolean scan$FTL_javacc$788$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:788:13
+            // NonTerminal LeftTrim at /root/project/examples/freemarker/FTL.javacc:788:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            788, 13);
+            currentLookaheadProduction = "LeftTrim";
+            try {
+                if (!check$LeftTrim(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:789:6
+    private final boolean scan$FTL_javacc$789$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:789:13
+            // NonTerminal RightTrim at /root/project/examples/freemarker/FTL.javacc:789:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            789, 13);
+            currentLookaheadProduction = "RightTrim";
+            try {
+                if (!check$RightTrim(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:790:6
+    private final boolean scan$FTL_javacc$790$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:790:13
+            // NonTerminal TrimBlock at /root/project/examples/freemarker/FTL.javacc:790:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            790, 13);
+            currentLookaheadProduction = "TrimBlock";
+            try {
+                if (!check$TrimBlock(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:791:6
+    private final boolean scan$FTL_javacc$791$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:791:13
+            // NonTerminal Nested at /root/project/examples/freemarker/FTL.javacc:791:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            791, 13);
+            currentLookaheadProduction = "Nested";
+            try {
+                if (!check$Nested(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:792:6
+    private final boolean scan$FTL_javacc$792$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:792:13
+            // NonTerminal EscapeBlock at /root/project/examples/freemarker/FTL.javacc:792:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            792, 13);
+            currentLookaheadProduction = "EscapeBlock";
+            try {
+                if (!check$EscapeBlock(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:793:6
+    private final boolean scan$FTL_javacc$793$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:793:13
+            // NonTerminal NoEscapeBlock at /root/project/examples/freemarker/FTL.javacc:793:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            793, 13);
+            currentLookaheadProduction = "NoEscapeBlock";
+            try {
+                if (!check$NoEscapeBlock(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:794:6
+    private final boolean scan$FTL_javacc$794$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:794:13
+            // NonTerminal Visit at /root/project/examples/freemarker/FTL.javacc:794:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            794, 13);
+            currentLookaheadProduction = "Visit";
+            try {
+                if (!check$Visit(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:795:6
+    private final boolean scan$FTL_javacc$795$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:795:13
+            // NonTerminal Recurse at /root/project/examples/freemarker/FTL.javacc:795:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            795, 13);
+            currentLookaheadProduction = "Recurse";
+            try {
+                if (!check$Recurse(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:796:6
+    private final boolean scan$FTL_javacc$796$6() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:796:13
+            // NonTerminal FallBack at /root/project/examples/freemarker/FTL.javacc:796:13
+            pushOntoLookaheadStack("TopLevelDirective", "/root/project/examples/freemarker/FTL.javacc", 
+            796, 13);
+            currentLookaheadProduction = "FallBack";
+            try {
+                if (!check$FallBack(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:828:5
+    private final boolean scan$FTL_javacc$828$5() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:830:6
+            Token token4318 = currentLookaheadToken;
+            int remainingLookahead4318 = remainingLookahead;
+            boolean hitFailure4318 = hitFailure, passedPredicate4318 = passedPredicate;
+            try {
+                passedPredicate = false;
+                if (!check$FTL_javacc$830$6(false)) {
+                    currentLookaheadToken = token4318;
+                    remainingLookahead = remainingLookahead4318;
+                    hitFailure = hitFailure4318;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$FTL_javacc$832$6(false)) {
+                        currentLookaheadToken = token4318;
+                        remainingLookahead = remainingLookahead4318;
+                        hitFailure = hitFailure4318;
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!check$FTL_javacc$834$6(false)) {
+                            currentLookaheadToken = token4318;
+                            remainingLookahead = remainingLookahead4318;
+                            hitFailure = hitFailure4318;
+                            if (passedPredicate && !legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!check$FTL_javacc$836$6(false)) {
+                                currentLookaheadToken = token4318;
+                                remainingLookahead = remainingLookahead4318;
+                                hitFailure = hitFailure4318;
+                                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                passedPredicate = false;
+                                if (!check$FTL_javacc$838$6(false)) {
+                                    currentLookaheadToken = token4318;
+                                    remainingLookahead = remainingLookahead4318;
+                                    hitFailure = hitFailure4318;
+                                    return false;
+                                }
+                            }
+                        }
+                    }
+                }
+            } finally {
+                passedPredicate = passedPredicate4318;
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/freemarker/FTL.javacc:861:9
+    private final boolean scan$FTL_javacc$861$9() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            if (remainingLookahead <= 0) {
+                passedPredicate = true;
+                return !hitFailure;
+            }
+            if (!check$FTL_javacc$861$14(true)) return false;
+            // End BuildPredicateCode macro
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // lookahead routine for lookahead at:
+    // FEL.javacc:362:9
+    private final boolean check$FEL_javacc$362$14(boolean scanToEnd) {
+        int prevRemainingLookahead = remainingLookahead;
+        boolean prevHitFailure = hitFailure;
+        Token prevScanAheadToken = currentLookaheadToken;
+        try {
+            lookaheadRoutineNesting++;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at FEL.javacc:362:14
+            if (!scanToken(IDENTIFIER)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at FEL.javacc:362:26
+            if (!scanToken(EQUALS)) return false;
+            return !hitFailure;
+        } finally {
+            lookaheadRoutineNesting--;
+            currentLookaheadToken = prevScanAheadToken;
+            remainingLookahead = prevRemainingLookahead;
+            hitFailure = prevHitFailure;
+        }
+    }
+
+    // lookahead routine for lookahead at:
+    // /root/project/examples/freemarker/FTL.javacc:861:9
+    private final boolean check$FTL_javacc$861$14(boolean scanToEnd) {
+        int prevRemainingLookahead = remainingLookahead;
+        boolean prevHitFailure = hitFailure;
+        Token prevScanAheadToken = currentLookaheadToken;
+        try {
+            lookaheadRoutineNesting++;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:861:14
+            Token token4324 = currentLookaheadToken;
+            boolean passedPredicate4324 = passedPredicate;
+            passedPredicate = false;
+            try {
+                if (!scanToken(WHITESPACE)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4324;
+                    hitFailure = false;
+                }
+            } finally {
+                passedPredicate = passedPredicate4324;
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:862:10
+            if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:863:9
+            if (!scanToken(FTL)) return false;
+            return !hitFailure;
+        } finally {
+            lookaheadRoutineNesting--;
+            currentLookaheadToken = prevScanAheadToken;
+            remainingLookahead = prevRemainingLookahead;
+            hitFailure = prevHitFailure;
+        }
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Expression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:176:5
+        // NonTerminal OrExpression at FEL.javacc:176:5
+        pushOntoLookaheadStack("Expression", "FEL.javacc", 176, 5);
+        currentLookaheadProduction = "OrExpression";
+        try {
+            if (!check$OrExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$OrExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:180:5
+        // NonTerminal AndExpression at FEL.javacc:180:5
+        pushOntoLookaheadStack("OrExpression", "FEL.javacc", 180, 5);
+        currentLookaheadProduction = "AndExpression";
+        try {
+            if (!check$AndExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at FEL.javacc:181:5
+        boolean passedPredicate4337 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token4338 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$182$9(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4338;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4337;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$AndExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:187:5
+        // NonTerminal EqualityExpression at FEL.javacc:187:5
+        pushOntoLookaheadStack("AndExpression", "FEL.javacc", 187, 5);
+        currentLookaheadProduction = "EqualityExpression";
+        try {
+            if (!check$EqualityExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at FEL.javacc:188:5
+        boolean passedPredicate4342 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token4343 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$189$9(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4343;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4342;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$EqualityExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:194:5
+        // NonTerminal RelationalExpression at FEL.javacc:194:5
+        pushOntoLookaheadStack("EqualityExpression", "FEL.javacc", 194, 5);
+        currentLookaheadProduction = "RelationalExpression";
+        try {
+            if (!check$RelationalExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at FEL.javacc:195:5
+        Token token4347 = currentLookaheadToken;
+        boolean passedPredicate4347 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$196$9(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4347;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4347;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$RelationalExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:202:5
+        // NonTerminal RangeExpression at FEL.javacc:202:5
+        pushOntoLookaheadStack("RelationalExpression", "FEL.javacc", 202, 5);
+        currentLookaheadProduction = "RangeExpression";
+        try {
+            if (!check$RangeExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at FEL.javacc:203:5
+        Token token4351 = currentLookaheadToken;
+        boolean passedPredicate4351 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$204$9(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4351;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4351;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$RangeExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:210:5
+        // NonTerminal AdditiveExpression at FEL.javacc:210:5
+        pushOntoLookaheadStack("RangeExpression", "FEL.javacc", 210, 5);
+        currentLookaheadProduction = "AdditiveExpression";
+        try {
+            if (!check$AdditiveExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at FEL.javacc:211:5
+        Token token4355 = currentLookaheadToken;
+        boolean passedPredicate4355 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$212$8(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4355;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4355;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$AdditiveExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:220:5
+        // NonTerminal MultiplicativeExpression at FEL.javacc:220:5
+        pushOntoLookaheadStack("AdditiveExpression", "FEL.javacc", 220, 5);
+        currentLookaheadProduction = "MultiplicativeExpression";
+        try {
+            if (!check$MultiplicativeExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at FEL.javacc:221:5
+        boolean passedPredicate4359 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token4360 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$222$12(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4360;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4359;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$MultiplicativeExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:228:5
+        // NonTerminal UnaryExpression at FEL.javacc:228:5
+        pushOntoLookaheadStack("MultiplicativeExpression", "FEL.javacc", 228, 5);
+        currentLookaheadProduction = "UnaryExpression";
+        try {
+            if (!check$UnaryExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at FEL.javacc:229:5
+        boolean passedPredicate4364 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token4365 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$230$11(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4365;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4364;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$UnaryExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at FEL.javacc:237:5
+        Token token4367 = currentLookaheadToken;
+        int remainingLookahead4367 = remainingLookahead;
+        boolean hitFailure4367 = hitFailure, passedPredicate4367 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$FEL_javacc$237$5(false)) {
+                currentLookaheadToken = token4367;
+                remainingLookahead = remainingLookahead4367;
+                hitFailure = hitFailure4367;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$FEL_javacc$239$5(false)) {
+                    currentLookaheadToken = token4367;
+                    remainingLookahead = remainingLookahead4367;
+                    hitFailure = hitFailure4367;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$FEL_javacc$241$5(false)) {
+                        currentLookaheadToken = token4367;
+                        remainingLookahead = remainingLookahead4367;
+                        hitFailure = hitFailure4367;
+                        return false;
+                    }
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4367;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$UnaryPlusMinusExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at FEL.javacc:245:6
+        if (!scanToken(PLUS, MINUS)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:245:22
+        // NonTerminal DefaultToExpression at FEL.javacc:245:22
+        pushOntoLookaheadStack("UnaryPlusMinusExpression", "FEL.javacc", 245, 22);
+        currentLookaheadProduction = "DefaultToExpression";
+        try {
+            if (!check$DefaultToExpression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$NotExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:249:5
+        if (!scanToken(EXCLAM)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:250:5
+        // NonTerminal DefaultToExpression at FEL.javacc:250:5
+        pushOntoLookaheadStack("NotExpression", "FEL.javacc", 250, 5);
+        currentLookaheadProduction = "DefaultToExpression";
+        try {
+            if (!check$DefaultToExpression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$BuiltinVariable(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:254:5
+        if (!scanToken(DOT)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:254:10
+        if (!scanToken(IDENTIFIER)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$DefaultToExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:258:5
+        // NonTerminal PrimaryExpression at FEL.javacc:258:5
+        pushOntoLookaheadStack("DefaultToExpression", "FEL.javacc", 258, 5);
+        currentLookaheadProduction = "PrimaryExpression";
+        try {
+            if (!check$PrimaryExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at FEL.javacc:259:5
+        boolean passedPredicate4381 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token4382 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$261$9(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4382;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4381;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at FEL.javacc:264:5
+        Token token4384 = currentLookaheadToken;
+        boolean passedPredicate4384 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!scanToken(EXCLAM)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4384;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4384;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$PrimaryExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:270:3
+        // NonTerminal BaseExpression at FEL.javacc:270:3
+        pushOntoLookaheadStack("PrimaryExpression", "FEL.javacc", 270, 3);
+        currentLookaheadProduction = "BaseExpression";
+        try {
+            if (!check$BaseExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at FEL.javacc:271:3
+        boolean passedPredicate4388 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token4389 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$272$7(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4389;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4388;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$BaseExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at FEL.javacc:285:5
+        Token token4391 = currentLookaheadToken;
+        int remainingLookahead4391 = remainingLookahead;
+        boolean hitFailure4391 = hitFailure, passedPredicate4391 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!scanToken(IDENTIFIER)) {
+                currentLookaheadToken = token4391;
+                remainingLookahead = remainingLookahead4391;
+                hitFailure = hitFailure4391;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!scanToken(INTEGER, DECIMAL)) {
+                    currentLookaheadToken = token4391;
+                    remainingLookahead = remainingLookahead4391;
+                    hitFailure = hitFailure4391;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$FEL_javacc$289$5(false)) {
+                        currentLookaheadToken = token4391;
+                        remainingLookahead = remainingLookahead4391;
+                        hitFailure = hitFailure4391;
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!scanToken(STRING_LITERAL, RAW_STRING)) {
+                            currentLookaheadToken = token4391;
+                            remainingLookahead = remainingLookahead4391;
+                            hitFailure = hitFailure4391;
+                            if (passedPredicate && !legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!scanToken(TRUE, FALSE)) {
+                                currentLookaheadToken = token4391;
+                                remainingLookahead = remainingLookahead4391;
+                                hitFailure = hitFailure4391;
+                                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                passedPredicate = false;
+                                if (!scanToken(NULL)) {
+                                    currentLookaheadToken = token4391;
+                                    remainingLookahead = remainingLookahead4391;
+                                    hitFailure = hitFailure4391;
+                                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                    passedPredicate = false;
+                                    if (!check$FEL_javacc$297$5(false)) {
+                                        currentLookaheadToken = token4391;
+                                        remainingLookahead = remainingLookahead4391;
+                                        hitFailure = hitFailure4391;
+                                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                        passedPredicate = false;
+                                        if (!check$FEL_javacc$299$5(false)) {
+                                            currentLookaheadToken = token4391;
+                                            remainingLookahead = remainingLookahead4391;
+                                            hitFailure = hitFailure4391;
+                                            if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                            passedPredicate = false;
+                                            if (!check$FEL_javacc$301$5(false)) {
+                                                currentLookaheadToken = token4391;
+                                                remainingLookahead = remainingLookahead4391;
+                                                hitFailure = hitFailure4391;
+                                                return false;
+                                            }
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4391;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$DotKey(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:306:5
+        if (!scanToken(DOT)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at FEL.javacc:307:6
+        if (!scanToken(TIMES, IDENTIFIER)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$DynamicKey(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:311:5
+        if (!scanToken(OPEN_BRACKET)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:311:19
+        // NonTerminal Expression at FEL.javacc:311:19
+        pushOntoLookaheadStack("DynamicKey", "FEL.javacc", 311, 19);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:311:29
+        if (!scanToken(CLOSE_BRACKET)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$MethodInvoke(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:315:3
+        if (!scanToken(OPEN_PAREN)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at FEL.javacc:315:15
+        Token token4403 = currentLookaheadToken;
+        boolean passedPredicate4403 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$315$16(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4403;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4403;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:315:25
+        if (!scanToken(CLOSE_PAREN)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$BuiltIn(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:319:5
+        if (!scanToken(BUILT_IN)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:319:15
+        if (!scanToken(IDENTIFIER)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ListLiteral(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:327:5
+        if (!scanToken(OPEN_BRACKET)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at FEL.javacc:328:5
+        Token token4412 = currentLookaheadToken;
+        boolean passedPredicate4412 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$328$6(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4412;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4412;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:329:5
+        if (!scanToken(CLOSE_BRACKET)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$HashLiteral(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:338:5
+        if (!scanToken(OPEN_BRACE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at FEL.javacc:339:5
+        Token token4418 = currentLookaheadToken;
+        boolean passedPredicate4418 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FEL_javacc$340$8(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4418;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4418;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:343:5
+        if (!scanToken(CLOSE_BRACE)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Parenthesis(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:357:5
+        if (!scanToken(OPEN_PAREN)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:357:18
+        // NonTerminal Expression at FEL.javacc:357:18
+        pushOntoLookaheadStack("Parenthesis", "FEL.javacc", 357, 18);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:357:29
+        if (!scanToken(CLOSE_PAREN)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ArgsList(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at FEL.javacc:362:9
+        Token token4430 = currentLookaheadToken;
+        int remainingLookahead4430 = remainingLookahead;
+        boolean hitFailure4430 = hitFailure, passedPredicate4430 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$FEL_javacc$362$9(false)) {
+                currentLookaheadToken = token4430;
+                remainingLookahead = remainingLookahead4430;
+                hitFailure = hitFailure4430;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$FEL_javacc$365$9(false)) {
+                    currentLookaheadToken = token4430;
+                    remainingLookahead = remainingLookahead4430;
+                    hitFailure = hitFailure4430;
+                    return false;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4430;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$NamedArgsList(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:370:5
+        if (!scanToken(IDENTIFIER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at FEL.javacc:371:5
+        if (!scanToken(EQUALS)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:372:5
+        // NonTerminal Expression at FEL.javacc:372:5
+        pushOntoLookaheadStack("NamedArgsList", "FEL.javacc", 372, 5);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at FEL.javacc:373:5
+        boolean passedPredicate4436 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token4437 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$374$8(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4437;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4436;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$PositionalArgsList(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at FEL.javacc:382:5
+        // NonTerminal Expression at FEL.javacc:382:5
+        pushOntoLookaheadStack("PositionalArgsList", "FEL.javacc", 382, 5);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at FEL.javacc:383:5
+        boolean passedPredicate4441 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token4442 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FEL_javacc$384$8(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4442;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4441;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Interpolation(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:367:5
+        if (!scanToken(INTERPOLATE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:367:18
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:367:18
+        pushOntoLookaheadStack("Interpolation", "/root/project/examples/freemarker/FTL.javacc", 
+        367, 18);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:367:28
+        if (!scanToken(CLOSE_BRACE)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$NumericalInterpolation(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:371:5
+        if (!scanToken(NUMERICAL_INTERPOLATE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:371:28
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:371:28
+        pushOntoLookaheadStack("NumericalInterpolation", "/root/project/examples/freemarker/FTL.javacc", 
+        371, 28);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:371:39
+        Token token4452 = currentLookaheadToken;
+        boolean passedPredicate4452 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$371$40(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4452;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4452;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:371:64
+        if (!scanToken(CLOSE_BRACE)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Assignment(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:379:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:381:8
+        if (!scanToken(SET, LOCAL, GLOBAL, ASSIGN)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:386:5
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:387:5
+        if (!scanToken(IDENTIFIER, STRING_LITERAL, RAW_STRING)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:389:7
+        Token token4463 = currentLookaheadToken;
+        int remainingLookahead4463 = remainingLookahead;
+        boolean hitFailure4463 = hitFailure, passedPredicate4463 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$FTL_javacc$389$7(false)) {
+                currentLookaheadToken = token4463;
+                remainingLookahead = remainingLookahead4463;
+                hitFailure = hitFailure4463;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$FTL_javacc$396$7(false)) {
+                    currentLookaheadToken = token4463;
+                    remainingLookahead = remainingLookahead4463;
+                    hitFailure = hitFailure4463;
+                    return false;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4463;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Var(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:406:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:407:5
+        if (!scanToken(VAR)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:407:10
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:408:5
+        if (!scanToken(IDENTIFIER, STRING_LITERAL, RAW_STRING)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:408:31
+        Token token4471 = currentLookaheadToken;
+        boolean passedPredicate4471 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$408$32(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4471;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4471;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:409:5
+        boolean passedPredicate4473 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token4474 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FTL_javacc$409$6(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4474;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4473;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:410:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Setting(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:414:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:415:5
+        if (!scanToken(SETTING)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:415:14
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:416:5
+        if (!scanToken(IDENTIFIER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:416:18
+        Token token4483 = currentLookaheadToken;
+        boolean passedPredicate4483 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$416$19(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4483;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4483;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:417:5
+        boolean passedPredicate4485 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token4486 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FTL_javacc$417$6(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4486;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4485;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:418:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Attempt(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:422:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:423:5
+        if (!scanToken(_ATTEMPT)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:423:15
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:424:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:424:5
+        pushOntoLookaheadStack("Attempt", "/root/project/examples/freemarker/FTL.javacc", 424, 
+        5);
+        currentLookaheadProduction = "Block";
+        try {
+            if (!check$Block(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:425:5
+        // NonTerminal Recover at /root/project/examples/freemarker/FTL.javacc:425:5
+        pushOntoLookaheadStack("Attempt", "/root/project/examples/freemarker/FTL.javacc", 425, 
+        5);
+        currentLookaheadProduction = "Recover";
+        try {
+            if (!check$Recover(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Comment(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:429:5
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:430:4
+        if (!scanToken(COMMENT)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:431:4
+        if (!scanToken(END_COMMENT)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$NoParse(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:435:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:436:5
+        if (!scanToken(NOPARSE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:437:5
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for CodeBlock specified at /root/project/examples/freemarker/FTL.javacc:437:16
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:438:5
+        if (!scanToken(NOPARSE_END)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Trim(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:442:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:443:5
+        if (!scanToken(TRIM)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:444:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$NoTrim(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:448:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:449:5
+        if (!scanToken(NOTRIM)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:450:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$RightTrim(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:455:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:456:5
+        if (!scanToken(RTRIM)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:457:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$LeftTrim(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:462:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:463:5
+        if (!scanToken(LTRIM)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:464:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Break(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:468:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:469:5
+        if (!scanToken(BREAK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:470:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Flush(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:474:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:475:5
+        if (!scanToken(FLUSH)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:475:12
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Return(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:479:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:480:5
+        if (!scanToken(RETURN)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:481:5
+        Token token4542 = currentLookaheadToken;
+        boolean passedPredicate4542 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$481$6(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4542;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4542;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:482:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Stop(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:486:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:487:5
+        if (!scanToken(STOP)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:488:5
+        Token token4549 = currentLookaheadToken;
+        boolean passedPredicate4549 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$488$6(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4549;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4549;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:489:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Compress(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:494:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:495:5
+        if (!scanToken(COMPRESS)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:495:15
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:496:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:496:5
+        pushOntoLookaheadStack("Compress", "/root/project/examples/freemarker/FTL.javacc", 
+        496, 5);
+        currentLookaheadProduction = "Block";
+        try {
+            if (!check$Block(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:497:5
+        if (!scanToken(END_DIRECTIVE1, END_DIRECTIVE2)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$TrimBlock(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:504:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:506:9
+        if (!scanToken(BLOCKTRIM, BLOCKTRIML, BLOCKTRIMR, BLOCKNOTRIM)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:514:5
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:515:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:515:5
+        pushOntoLookaheadStack("TrimBlock", "/root/project/examples/freemarker/FTL.javacc", 
+        515, 5);
+        currentLookaheadProduction = "Block";
+        try {
+            if (!check$Block(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:516:5
+        if (!scanToken(END_DIRECTIVE1, END_DIRECTIVE2)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$NoEscapeBlock(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:520:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:521:5
+        if (!scanToken(NOESCAPE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:521:15
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:522:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:522:5
+        pushOntoLookaheadStack("NoEscapeBlock", "/root/project/examples/freemarker/FTL.javacc", 
+        522, 5);
+        currentLookaheadProduction = "Block";
+        try {
+            if (!check$Block(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:523:5
+        if (!scanToken(END_DIRECTIVE1, END_DIRECTIVE2)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$EscapeBlock(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:527:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:528:5
+        if (!scanToken(ESCAPE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:529:5
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:530:5
+        if (!scanToken(IDENTIFIER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:531:5
+        if (!scanToken(AS)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:532:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:532:5
+        pushOntoLookaheadStack("EscapeBlock", "/root/project/examples/freemarker/FTL.javacc", 
+        532, 5);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:533:5
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:534:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:534:5
+        pushOntoLookaheadStack("EscapeBlock", "/root/project/examples/freemarker/FTL.javacc", 
+        534, 5);
+        currentLookaheadProduction = "Block";
+        try {
+            if (!check$Block(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:535:5
+        if (!scanToken(END_DIRECTIVE1, END_DIRECTIVE2)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Include(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:539:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:540:5
+        if (!scanToken(_INCLUDE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:540:15
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:541:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:541:5
+        pushOntoLookaheadStack("Include", "/root/project/examples/freemarker/FTL.javacc", 541, 
+        5);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:542:5
+        Token token4591 = currentLookaheadToken;
+        boolean passedPredicate4591 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!scanToken(SEMICOLON)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4591;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4591;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:543:5
+        boolean passedPredicate4593 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token4594 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FTL_javacc$543$6(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4594;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4593;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:544:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Embed(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:548:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:549:5
+        if (!scanToken(EMBED)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:549:12
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:550:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:550:5
+        pushOntoLookaheadStack("Embed", "/root/project/examples/freemarker/FTL.javacc", 550, 
+        5);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:551:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Import(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:555:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:556:5
+        if (!scanToken(IMPORT)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:556:13
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:557:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:557:5
+        pushOntoLookaheadStack("Import", "/root/project/examples/freemarker/FTL.javacc", 557, 
+        5);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:558:5
+        if (!scanToken(AS)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:559:5
+        if (!scanToken(IDENTIFIER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:560:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Visit(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:564:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:565:5
+        if (!scanToken(VISIT)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:566:5
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:567:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:567:5
+        pushOntoLookaheadStack("Visit", "/root/project/examples/freemarker/FTL.javacc", 567, 
+        5);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:568:5
+        Token token4619 = currentLookaheadToken;
+        boolean passedPredicate4619 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$569$8(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4619;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4619;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:576:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Recurse(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:580:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:581:5
+        if (!scanToken(RECURSE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:583:8
+        Token token4627 = currentLookaheadToken;
+        int remainingLookahead4627 = remainingLookahead;
+        boolean hitFailure4627 = hitFailure, passedPredicate4627 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) {
+                currentLookaheadToken = token4627;
+                remainingLookahead = remainingLookahead4627;
+                hitFailure = hitFailure4627;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$FTL_javacc$585$8(false)) {
+                    currentLookaheadToken = token4627;
+                    remainingLookahead = remainingLookahead4627;
+                    hitFailure = hitFailure4627;
+                    return false;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4627;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$FallBack(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:598:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:599:5
+        if (!scanToken(FALLBACK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:600:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$If(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:604:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:605:5
+        if (!scanToken(IF)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:605:9
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:606:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:606:5
+        pushOntoLookaheadStack("If", "/root/project/examples/freemarker/FTL.javacc", 606, 5);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:607:5
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:608:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:608:5
+        pushOntoLookaheadStack("If", "/root/project/examples/freemarker/FTL.javacc", 608, 5);
+        currentLookaheadProduction = "Block";
+        try {
+            if (!check$Block(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:609:5
+        boolean passedPredicate4642 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token4643 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FTL_javacc$609$7(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4643;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4642;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:610:5
+        Token token4645 = currentLookaheadToken;
+        boolean passedPredicate4645 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$611$8(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4645;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4645;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:613:5
+        if (!scanToken(END_DIRECTIVE1, END_DIRECTIVE2)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ElseIf(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:617:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:618:5
+        if (!scanToken(ELSEIF)) return false;
+        if (!scanToEnd && lookaheadStack.size() <= 1) {
+            if (lookaheadRoutineNesting == 0) {
+                remainingLookahead = 0;
+            } else if (lookaheadStack.size() == 1) {
+                passedPredicateThreshold = remainingLookahead;
+            }
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:620:5
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:621:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:621:5
+        pushOntoLookaheadStack("ElseIf", "/root/project/examples/freemarker/FTL.javacc", 621, 
+        5);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:622:5
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:623:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:623:5
+        pushOntoLookaheadStack("ElseIf", "/root/project/examples/freemarker/FTL.javacc", 623, 
+        5);
+        currentLookaheadProduction = "Block";
+        try {
+            if (!check$Block(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Else(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:627:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:628:5
+        if (!scanToken(ELSE)) return false;
+        if (!scanToEnd && lookaheadStack.size() <= 1) {
+            if (lookaheadRoutineNesting == 0) {
+                remainingLookahead = 0;
+            } else if (lookaheadStack.size() == 1) {
+                passedPredicateThreshold = remainingLookahead;
+            }
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:630:5
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:631:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:631:5
+        pushOntoLookaheadStack("Else", "/root/project/examples/freemarker/FTL.javacc", 631, 
+        5);
+        currentLookaheadProduction = "Block";
+        try {
+            if (!check$Block(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Switch(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:635:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:636:5
+        if (!scanToken(SWITCH)) return false;
+        if (!scanToEnd && lookaheadStack.size() <= 1) {
+            if (lookaheadRoutineNesting == 0) {
+                remainingLookahead = 0;
+            } else if (lookaheadStack.size() == 1) {
+                passedPredicateThreshold = remainingLookahead;
+            }
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:637:5
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:638:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:638:5
+        pushOntoLookaheadStack("Switch", "/root/project/examples/freemarker/FTL.javacc", 638, 
+        5);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:639:5
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:640:5
+        Token token4669 = currentLookaheadToken;
+        boolean passedPredicate4669 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!scanToken(WHITESPACE)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4669;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4669;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:641:5
+        boolean passedPredicate4671 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token4672 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FTL_javacc$641$6(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4672;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4671;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:642:5
+        Token token4674 = currentLookaheadToken;
+        boolean passedPredicate4674 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$643$6(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4674;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4674;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:645:5
+        if (!scanToken(END_DIRECTIVE1, END_DIRECTIVE2)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Case(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:649:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:650:5
+        if (!scanToken(CASE)) return false;
+        if (!scanToEnd && lookaheadStack.size() <= 1) {
+            if (lookaheadRoutineNesting == 0) {
+                remainingLookahead = 0;
+            } else if (lookaheadStack.size() == 1) {
+                passedPredicateThreshold = remainingLookahead;
+            }
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:652:5
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:653:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:653:5
+        pushOntoLookaheadStack("Case", "/root/project/examples/freemarker/FTL.javacc", 653, 
+        5);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:653:16
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:653:28
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:653:28
+        pushOntoLookaheadStack("Case", "/root/project/examples/freemarker/FTL.javacc", 653, 
+        28);
+        currentLookaheadProduction = "Block";
+        try {
+            if (!check$Block(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Default(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:657:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:658:5
+        if (!scanToken(DEFAUL)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:658:13
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:659:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:659:5
+        pushOntoLookaheadStack("Default", "/root/project/examples/freemarker/FTL.javacc", 659, 
+        5);
+        currentLookaheadProduction = "Block";
+        try {
+            if (!check$Block(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$List(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:663:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:664:5
+        if (!scanToken(LIST)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:664:11
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:665:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:665:5
+        pushOntoLookaheadStack("List", "/root/project/examples/freemarker/FTL.javacc", 665, 
+        5);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:666:5
+        if (!scanToken(AS)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:667:5
+        if (!scanToken(IDENTIFIER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:668:5
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:669:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:669:5
+        pushOntoLookaheadStack("List", "/root/project/examples/freemarker/FTL.javacc", 669, 
+        5);
+        currentLookaheadProduction = "Block";
+        try {
+            if (!check$Block(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:670:5
+        if (!scanToken(END_DIRECTIVE1, END_DIRECTIVE2)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ForEach(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:674:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:675:5
+        if (!scanToken(FOREACH)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:675:14
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:676:5
+        if (!scanToken(IDENTIFIER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:677:5
+        if (!scanToken(IN)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:678:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:678:5
+        pushOntoLookaheadStack("ForEach", "/root/project/examples/freemarker/FTL.javacc", 678, 
+        5);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:679:5
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:680:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:680:5
+        pushOntoLookaheadStack("ForEach", "/root/project/examples/freemarker/FTL.javacc", 680, 
+        5);
+        currentLookaheadProduction = "Block";
+        try {
+            if (!check$Block(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:681:5
+        if (!scanToken(END_DIRECTIVE1, END_DIRECTIVE2)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Nested(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:685:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:686:5
+        if (!scanToken(NESTED)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:687:5
+        Token token4717 = currentLookaheadToken;
+        boolean passedPredicate4717 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$687$6(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4717;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4717;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:688:5
+        if (!scanToken(CLOSE_TAG, CLOSE_EMPTY_TAG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$MacroDefinition(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:695:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:697:7
+        if (!scanToken(MACRO, FUNCTION)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:701:5
+        if (!scanToken(BLANK)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:702:5
+        if (!scanToken(IDENTIFIER, STRING_LITERAL, RAW_STRING)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:703:5
+        Token token4727 = currentLookaheadToken;
+        boolean passedPredicate4727 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!scanToken(OPEN_PAREN)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4727;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4727;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:704:5
+        Token token4729 = currentLookaheadToken;
+        boolean passedPredicate4729 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$704$6(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4729;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4729;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:705:5
+        Token token4731 = currentLookaheadToken;
+        boolean passedPredicate4731 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!scanToken(CLOSE_PAREN)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4731;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4731;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:706:5
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:707:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:707:5
+        pushOntoLookaheadStack("MacroDefinition", "/root/project/examples/freemarker/FTL.javacc", 
+        707, 5);
+        currentLookaheadProduction = "Block";
+        try {
+            if (!check$Block(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:708:5
+        if (!scanToken(END_DIRECTIVE1, END_DIRECTIVE2)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ParameterList(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:715:5
+        if (!scanToken(IDENTIFIER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:716:5
+        Token token4738 = currentLookaheadToken;
+        boolean passedPredicate4738 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$716$6(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4738;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4738;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:717:5
+        boolean passedPredicate4740 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token4741 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FTL_javacc$718$8(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4741;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4740;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Text(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for OneOrMore specified at /root/project/examples/freemarker/FTL.javacc:751:5
+        if (!scanToken(WHITESPACE, SPECIAL_CHAR, PRINTABLE_CHARS)) return false;
+        boolean passedPredicate4747 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token4748 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!scanToken(WHITESPACE, SPECIAL_CHAR, PRINTABLE_CHARS)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4748;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4747;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Recover(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:759:6
+        if (!scanToken(FTL_DIRECTIVE_OPEN1, FTL_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:760:5
+        if (!scanToken(_RECOVER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/freemarker/FTL.javacc:760:15
+        if (!scanToken(CLOSE_TAG)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:761:5
+        // NonTerminal Block at /root/project/examples/freemarker/FTL.javacc:761:5
+        pushOntoLookaheadStack("Recover", "/root/project/examples/freemarker/FTL.javacc", 761, 
+        5);
+        currentLookaheadProduction = "Block";
+        try {
+            if (!check$Block(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:762:5
+        if (!scanToken(END_DIRECTIVE1, END_DIRECTIVE2)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$TopLevelDirective(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:767:6
+        Token token4759 = currentLookaheadToken;
+        int remainingLookahead4759 = remainingLookahead;
+        boolean hitFailure4759 = hitFailure, passedPredicate4759 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$FTL_javacc$767$6(false)) {
+                currentLookaheadToken = token4759;
+                remainingLookahead = remainingLookahead4759;
+                hitFailure = hitFailure4759;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$FTL_javacc$768$6(false)) {
+                    currentLookaheadToken = token4759;
+                    remainingLookahead = remainingLookahead4759;
+                    hitFailure = hitFailure4759;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$FTL_javacc$769$6(false)) {
+                        currentLookaheadToken = token4759;
+                        remainingLookahead = remainingLookahead4759;
+                        hitFailure = hitFailure4759;
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!check$FTL_javacc$770$6(false)) {
+                            currentLookaheadToken = token4759;
+                            remainingLookahead = remainingLookahead4759;
+                            hitFailure = hitFailure4759;
+                            if (passedPredicate && !legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!check$FTL_javacc$771$6(false)) {
+                                currentLookaheadToken = token4759;
+                                remainingLookahead = remainingLookahead4759;
+                                hitFailure = hitFailure4759;
+                                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                passedPredicate = false;
+                                if (!check$FTL_javacc$772$6(false)) {
+                                    currentLookaheadToken = token4759;
+                                    remainingLookahead = remainingLookahead4759;
+                                    hitFailure = hitFailure4759;
+                                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                    passedPredicate = false;
+                                    if (!check$FTL_javacc$773$6(false)) {
+                                        currentLookaheadToken = token4759;
+                                        remainingLookahead = remainingLookahead4759;
+                                        hitFailure = hitFailure4759;
+                                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                        passedPredicate = false;
+                                        if (!check$FTL_javacc$774$6(false)) {
+                                            currentLookaheadToken = token4759;
+                                            remainingLookahead = remainingLookahead4759;
+                                            hitFailure = hitFailure4759;
+                                            if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                            passedPredicate = false;
+                                            if (!check$FTL_javacc$775$6(false)) {
+                                                currentLookaheadToken = token4759;
+                                                remainingLookahead = remainingLookahead4759;
+                                                hitFailure = hitFailure4759;
+                                                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                                passedPredicate = false;
+                                                if (!check$FTL_javacc$776$6(false)) {
+                                                    currentLookaheadToken = token4759;
+                                                    remainingLookahead = remainingLookahead4759;
+                                                    hitFailure = hitFailure4759;
+                                                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                                    passedPredicate = false;
+                                                    if (!check$FTL_javacc$777$6(false)) {
+                                                        currentLookaheadToken = token4759;
+                                                        remainingLookahead = remainingLookahead4759;
+                                                        hitFailure = hitFailure4759;
+                                                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                                        passedPredicate = false;
+                                                        if (!check$FTL_javacc$778$6(false)) {
+                                                            currentLookaheadToken = token4759;
+                                                            remainingLookahead = remainingLookahead4759;
+                                                            hitFailure = hitFailure4759;
+                                                            if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                                            passedPredicate = false;
+                                                            if (!check$FTL_javacc$779$6(false)) {
+                                                                currentLookaheadToken = token4759;
+                                                                remainingLookahead = remainingLookahead4759;
+                                                                hitFailure = hitFailure4759;
+                                                                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                                                passedPredicate = false;
+                                                                if (!check$FTL_javacc$780$6(false)) {
+                                                                    currentLookaheadToken = token4759;
+                                                                    remainingLookahead = remainingLookahead4759;
+                                                                    hitFailure = hitFailure4759;
+                                                                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                                                    passedPredicate = false;
+                                                                    if (!check$FTL_javacc$781$6(false)) {
+                                                                        currentLookaheadToken = token4759;
+                                                                        remainingLookahead = remainingLookahead4759;
+                                                                        hitFailure = hitFailure4759;
+                                                                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                                                        passedPredicate = false;
+                                                                        if (!check$FTL_javacc$782$6(false)) {
+                                                                            currentLookaheadToken = token4759;
+                                                                            remainingLookahead = remainingLookahead4759;
+                                                                            hitFailure = hitFailure4759;
+                                                                            if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                                                            passedPredicate = false;
+                                                                            if (!check$FTL_javacc$783$6(false)) {
+                                                                                currentLookaheadToken = token4759;
+                                                                                remainingLookahead = remainingLookahead4759;
+                                                                                hitFailure = hitFailure4759;
+                                                                                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                                                                passedPredicate = false;
+                                                                                if (!check$FTL_javacc$784$6(false)) {
+                                                                                    currentLookaheadToken = token4759;
+                                                                                    remainingLookahead = remainingLookahead4759;
+                                                                                    hitFailure = hitFailure4759;
+                                                                                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                                                                    passedPredicate = false;
+                                                                                    if (!check$FTL_javacc$785$6(false)) {
+                                                                                        currentLookaheadToken = token4759;
+                                                                                        remainingLookahead = remainingLookahead4759;
+                                                                                        hitFailure = hitFailure4759;
+                                                                                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                                                                        passedPredicate = false;
+                                                                                        if (!check$FTL_javacc$786$6(false)) {
+                                                                                            currentLookaheadToken = token4759;
+                                                                                            remainingLookahead = remainingLookahead4759;
+                                                                                            hitFailure = hitFailure4759;
+                                                                                            if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                                                                            passedPredicate = false;
+                                                                                            if (!check$FTL_javacc$787$6(false)) {
+                                                                                                currentLookaheadToken = token4759;
+                                                                                                remainingLookahead = remainingLookahead4759;
+                                                                                                hitFailure = hitFailure4759;
+                                                                                                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                                                                                passedPredicate = false;
+                                                                                                if (!check$FTL_javacc$788$6(false)) {
+                                                                                                    currentLookaheadToken = token4759;
+                                                                                                    remainingLookahead = remainingLookahead4759;
+                                                                                                    hitFailure = hitFailure4759;
+                                                                                                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                                                                                    passedPredicate = false;
+                                                                                                    if (!check$FTL_javacc$789$6(false)) {
+                                                                                                        currentLookaheadToken = token4759;
+                                                                                                        remainingLookahead = remainingLookahead4759;
+                                                                                                        hitFailure = hitFailure4759;
+                                                                                                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                                                                                        passedPredicate = false;
+                                                                                                        if (!check$FTL_javacc$790$6(false)) {
+                                                                                                            currentLookaheadToken = token4759;
+                                                                                                            remainingLookahead = remainingLookahead4759;
+                                                                                                            hitFailure = hitFailure4759;
+                                                                                                            if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                                                                                            passedPredicate = false;
+                                                                                                            if (!check$FTL_javacc$791$6(false)) {
+                                                                                                                currentLookaheadToken = token4759;
+                                                                                                                remainingLookahead = remainingLookahead4759;
+                                                                                                                hitFailure = hitFailure4759;
+                                                                                                                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                                                                                                passedPredicate = false;
+                                                                                                                if (!check$FTL_javacc$792$6(false)) {
+                                                                                                                    currentLookaheadToken = token4759;
+                                                                                                                    remainingLookahead = remainingLookahead4759;
+                                                                                                                    hitFailure = hitFailure4759;
+                                                                                                                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                                                                                                    passedPredicate = false;
+                                                                                                                    if (!check$FTL_javacc$793$6(false)) {
+                                                                                                                        currentLookaheadToken = token4759;
+                                                                                                                        remainingLookahead = remainingLookahead4759;
+                                                                                                                        hitFailure = hitFailure4759;
+                                                                                                                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                                                                                                        passedPredicate = false;
+                                                                                                                        if (!check$FTL_javacc$794$6(false)) {
+                                                                                                                            currentLookaheadToken = token4759;
+                                                                                                                            remainingLookahead = remainingLookahead4759;
+                                                                                                                            hitFailure = hitFailure4759;
+                                                                                                                            if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                                                                                                            passedPredicate = false;
+                                                                                                                            if (!check$FTL_javacc$795$6(false)) {
+                                                                                                                                currentLookaheadToken = token4759;
+                                                                                                                                remainingLookahead = remainingLookahead4759;
+                                                                                                                                hitFailure = hitFailure4759;
+                                                                                                                                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                                                                                                                passedPredicate = false;
+                                                                                                                                if (!check$FTL_javacc$796$6(false)) {
+                                                                                                                                    currentLookaheadToken = token4759;
+                                                                                                                                    remainingLookahead = remainingLookahead4759;
+                                                                                                                                    hitFailure = hitFailure4759;
+                                                                                                                                    return false;
+                                                                                                                                }
+                                                                                                                            }
+                                                                                                                        }
+                                                                                                                    }
+                                                                                                                }
+                                                                                                            }
+                                                                                                        }
+                                                                                                    }
+                                                                                                }
+                                                                                            }
+                                                                                        }
+                                                                                    }
+                                                                                }
+                                                                            }
+                                                                        }
+                                                                    }
+                                                                }
+                                                            }
+                                                        }
+                                                    }
+                                                }
+                                            }
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4759;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$UserDirective(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:806:9
+        if (!scanToken(USER_DIRECTIVE_OPEN1, USER_DIRECTIVE_OPEN2)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/freemarker/FTL.javacc:810:5
+        // NonTerminal Expression at /root/project/examples/freemarker/FTL.javacc:810:5
+        pushOntoLookaheadStack("UserDirective", "/root/project/examples/freemarker/FTL.javacc", 
+        810, 5);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for CodeBlock specified at /root/project/examples/freemarker/FTL.javacc:811:5
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:812:5
+        Token token4766 = currentLookaheadToken;
+        boolean passedPredicate4766 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!scanToken(BLANK)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4766;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4766;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:813:5
+        Token token4768 = currentLookaheadToken;
+        boolean passedPredicate4768 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$813$6(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4768;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4768;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/freemarker/FTL.javacc:814:5
+        Token token4770 = currentLookaheadToken;
+        boolean passedPredicate4770 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$FTL_javacc$814$6(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token4770;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate4770;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/freemarker/FTL.javacc:816:8
+        Token token4773 = currentLookaheadToken;
+        int remainingLookahead4773 = remainingLookahead;
+        boolean hitFailure4773 = hitFailure, passedPredicate4773 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!scanToken(CLOSE_EMPTY_TAG)) {
+                currentLookaheadToken = token4773;
+                remainingLookahead = remainingLookahead4773;
+                hitFailure = hitFailure4773;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$FTL_javacc$818$8(false)) {
+                    currentLookaheadToken = token4773;
+                    remainingLookahead = remainingLookahead4773;
+                    hitFailure = hitFailure4773;
+                    return false;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4773;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Block(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/freemarker/FTL.javacc:827:3
+        boolean passedPredicate4776 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token4777 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$FTL_javacc$828$5(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token4777;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate4776;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    CallStack parsingStack = new CallStack();
+    private CallStack lookaheadStack = new CallStack();
+
+    /**
+    * Inner class that represents entering a grammar production
+    */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile = sourceFile;
+            this.productionName = productionName;
+            this.line = line;
+            this.column = column;
+        }
+
+        final FTLLexer getTokenSource() {
+            return FTLParser.this.token_source;
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("FTLParser", productionName, sourceFile, line);
+        }
+
+        void dump(PrintStream ps) {
+            ps.println(productionName + ":" + line + ":" + column);
+        }
+
+    }
+
+
+    /**
+    * A stack of calls to grammar productions, kept in parallel arrays
+    * so that entering a production does not allocate anything.
+    * The NonTerminalCall objects are only created when they are needed,
+    * i.e. for a ParseException. The production names and source files
+    * are always string literals, so we just hold onto the references.
+    */
+    class CallStack {
+        private String[] productionNames = new String[16], sourceFiles = new String[16];
+        private int[] lines = new int[16], columns = new int[16];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void push(String productionName, String sourceFile, int line, int column) {
+            if (size == lines.length) {
+                int newCapacity = size * 2;
+                productionNames = Arrays.copyOf(productionNames, newCapacity);
+                sourceFiles = Arrays.copyOf(sourceFiles, newCapacity);
+                lines = Arrays.copyOf(lines, newCapacity);
+                columns = Arrays.copyOf(columns, newCapacity);
+            }
+            productionNames[size] = productionName;
+            sourceFiles[size] = sourceFile;
+            lines[size] = line;
+            columns[size] = column;
+            ++size;
+        }
+
+        /**
+        * Removes the top entry, which can still be read
+        * until something else is pushed.
+        * @return the index of the entry removed
+        */
+        int pop() {
+            return --size;
+        }
+
+        String getProductionName(int index) {
+            return productionNames[index];
+        }
+
+        NonTerminalCall get(int index) {
+            return new NonTerminalCall(sourceFiles[index], productionNames[index], lines[index], 
+            columns[index]);
+        }
+
+        java.util.List<NonTerminalCall> toList() {
+            java.util.List<NonTerminalCall> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(get(i));
+            }
+            return result;
+        }
+
+        /**
+        * Pops everything above the given size. The entries
+        * below that are still there, since they are never
+        * overwritten until they are popped.
+        */
+        void truncate(int size) {
+            this.size = size;
+        }
+
+        void dump(PrintStream ps) {
+            for (int i = size - 1; i >= 0; i--) {
+                ps.println(productionNames[i] + ":" + lines[i] + ":" + columns[i]);
+            }
+        }
+
+    }
+
+
+    private final void pushOntoCallStack(String methodName, String fileName, int line, int column) {
+        parsingStack.push(methodName, fileName, line, column);
+    }
+
+    private final void popCallStack() {
+        int top = parsingStack.pop();
+        this.currentlyParsedProduction = parsingStack.getProductionName(top);
+    }
+
+    private final void restoreCallStack(int prevSize) {
+        while (parsingStack.size() > prevSize) {
+            popCallStack();
+        }
+    }
+
+
+    /**
+    * Iterates over the names of the productions on the parsing stack
+    * and then the lookahead stack, i.e. from the bottom to the top,
+    * or the other way round if it is backward.
+    */
+    private class CallStackIterator implements java.util.ListIterator<String> {
+        private final boolean backward;
+        private int index;
+
+        CallStackIterator(boolean backward) {
+            this.backward = backward;
+            if (backward) index = parsingStack.size() + lookaheadStack.size();
+        }
+
+        private String get(int i) {
+            int parsingStackSize = parsingStack.size();
+            return i < parsingStackSize ? parsingStack.getProductionName(i) : lookaheadStack.getProductionName(i - parsingStackSize);
+        }
+
+        public boolean hasNext() {
+            return backward ? index > 0 : index < parsingStack.size() + lookaheadStack.size();
+        }
+
+        public String next() {
+            if (!hasNext()) throw new java.util.NoSuchElementException();
+            return backward ? get(--index) : get(index++);
+        }
+
+        public boolean hasPrevious() {
+            return backward ? index < parsingStack.size() + lookaheadStack.size() : index > 0;
+        }
+
+        public String previous() {
+            if (!hasPrevious()) throw new java.util.NoSuchElementException();
+            return backward ? get(index++) : get(--index);
+        }
+
+        public void add(String productionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void set(String productionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        public int previousIndex() {
+            throw new UnsupportedOperationException();
+        }
+
+        public int nextIndex() {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+
+    private final void pushOntoLookaheadStack(String methodName, String fileName, int line, 
+    int column) {
+        lookaheadStack.push(methodName, fileName, line, column);
+    }
+
+    private final void popLookaheadStack() {
+        int top = lookaheadStack.pop();
+        this.currentLookaheadProduction = lookaheadStack.getProductionName(top);
+    }
+
+    void dumpLookaheadStack(PrintStream ps) {
+        lookaheadStack.dump(ps);
+    }
+
+    void dumpCallStack(PrintStream ps) {
+        parsingStack.dump(ps);
+    }
+
+    void dumpLookaheadCallStack(PrintStream ps) {
+        ps.println("Current Parser Production is: " + currentlyParsedProduction);
+        ps.println("Current Lookahead Production is: " + currentLookaheadProduction);
+        ps.println("---Lookahead Stack---");
+        dumpLookaheadStack(ps);
+        ps.println("---Call Stack---");
+        dumpCallStack(ps);
+    }
+
+    public boolean isParserTolerant() {
+        return false;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    private Token consumeToken(TokenType expectedType) {
+        Token nextToken = nextToken(lastConsumedToken);
+        if (nextToken.getType() != expectedType) {
+            nextToken = handleUnexpectedTokenType(expectedType, nextToken);
+        }
+        this.lastConsumedToken = nextToken;
+        this.nextTokenType = null;
+        if (buildTree && tokensAreNodes) {
+            pushNode(lastConsumedToken);
+        }
+        return lastConsumedToken;
+    }
+
+    private Token handleUnexpectedTokenType(TokenType expectedType, Token nextToken) {
+        throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+    }
+
+
+    /**
+    * The state we go back to if an ATTEMPT fails. Stashing this is O(1).
+    * Everything on the parsing stack at this point is still there
+    * when we backtrack, since the code in the ATTEMPT only pops
+    * what it pushes, so we just need the size of the stack.
+    * Likewise, we hold onto the current node scope and the changes
+    * to the node scopes after this point are logged so that
+    * we can undo them.
+    */
+    private class ParseState {
+        Token lastConsumed;
+        int parsingStackSize;
+        LexicalState lexicalState;
+        NodeScope nodeScope;
+        int undoLogMark;
+
+        ParseState() {
+            this.lastConsumed = FTLParser.this.lastConsumedToken;
+            this.parsingStackSize = FTLParser.this.parsingStack.size();
+            this.lexicalState = token_source.lexicalState;
+            this.nodeScope = currentNodeScope;
+            this.undoLogMark = undoLogLength;
+        }
+
+    }
+
+    private ArrayList<ParseState> parseStateStack = new ArrayList<>();
+    private boolean buildTree = true;
+    private boolean tokensAreNodes = true;
+    private boolean unparsedTokensAreNodes = false;
+
+    public boolean isTreeBuildingEnabled() {
+        return buildTree;
+    }
+
+    public void setUnparsedTokensAreNodes(boolean unparsedTokensAreNodes) {
+        this.unparsedTokensAreNodes = unparsedTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes = tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope = new NodeScope();
+
+    /**
+    * @return the root node of the AST. It only makes sense to call
+    * this after a successful parse.
+    */
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+
+    /**
+    * push a node onto the top of the node stack
+    * @param n the node to push
+    */
+    public void pushNode(Node n) {
+        logNodeScopeChange(currentNodeScope, currentNodeScope.size(), null);
+        currentNodeScope.add(n);
+    }
+
+    /**
+    * @return the node on the top of the stack, and remove it from the
+    * stack.
+    */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /**
+    * @return the node currently on the top of the tree-building stack.
+    */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+    * Puts the node on the top of the stack. However, unlike pushNode()
+    * it replaces the node that is currently on the top of the stack.
+    * This is effectively equivalent to popNode() followed by pushNode(n)
+    * @param n the node to poke
+    */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /**
+    * @return the number of Nodes on the tree-building stack in the current node
+    * scope.
+    */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    private void clearNodeScope() {
+        for (int i = currentNodeScope.size() - 1; i >= 0; i--) {
+            logNodeScopeChange(currentNodeScope, i + 1, currentNodeScope.get(i));
+        }
+        currentNodeScope.clear();
+    }
+
+    // A log of the changes made to the node scopes while there is
+    // a stashed ParseState, so that we can undo them if we
+    // backtrack. Each entry is the scope, its size before the change,
+    // and the node that was removed or replaced, if any.
+    private NodeScope[] undoScopes = new NodeScope[16];
+    private int[] undoSizes = new int[16];
+    private Node[] undoNodes = new Node[16];
+    private int undoLogLength;
+
+    private void logNodeScopeChange(NodeScope scope, int previousSize, Node removedNode) {
+        if (parseStateStack.isEmpty()) return;
+        if (undoLogLength == undoSizes.length) {
+            int newCapacity = undoLogLength * 2;
+            undoScopes = Arrays.copyOf(undoScopes, newCapacity);
+            undoSizes = Arrays.copyOf(undoSizes, newCapacity);
+            undoNodes = Arrays.copyOf(undoNodes, newCapacity);
+        }
+        undoScopes[undoLogLength] = scope;
+        undoSizes[undoLogLength] = previousSize;
+        undoNodes[undoLogLength++] = removedNode;
+    }
+
+    private void clearUndoLog() {
+        Arrays.fill(undoScopes, 0, undoLogLength, null);
+        Arrays.fill(undoNodes, 0, undoLogLength, null);
+        undoLogLength = 0;
+    }
+
+    private void openNodeScope(Node n) {
+        new NodeScope();
+        if (n != null) {
+            Token next = nextToken(lastConsumedToken);
+            n.setTokenSource(lastConsumedToken.getTokenSource());
+            n.setBeginOffset(next.getBeginOffset());
+            n.open();
+        }
+    }
+
+    /* A definite node is constructed from a specified number of
+    * children.  That number of nodes are popped from the stack and
+    * made the children of the definite node.  Then the definite node
+    * is pushed on to the stack.
+    */
+    private void closeNodeScope(Node n, int num) {
+        n.setEndOffset(lastConsumedToken.getEndOffset());
+        currentNodeScope.close();
+        ArrayList<Node> nodes = new ArrayList<Node>();
+        for (int i = 0; i < num; i++) {
+            nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+            // FIXME deal with the UNPARSED_TOKENS_ARE_NODES case
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+    * A conditional node is constructed if the condition is true.  All
+    * the nodes that have been pushed since the node was opened are
+    * made children of the conditional node, which is then pushed
+    * on to the stack.  If the condition is false the node is not
+    * constructed and they are left on the stack.
+    */
+    private void closeNodeScope(Node n, boolean condition) {
+        if (n != null && condition) {
+            n.setEndOffset(lastConsumedToken.getEndOffset());
+            int a = nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node> nodes = new ArrayList<Node>();
+            while (a-- > 0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+                if (unparsedTokensAreNodes && child instanceof Token) {
+                    Token tok = (Token) child;
+                    while (tok.previousCachedToken() != null && tok.previousCachedToken().isUnparsed()) {
+                        tok = tok.previousCachedToken();
+                    }
+                    while (tok.isUnparsed()) {
+                        n.addChild(tok);
+                        tok = tok.nextCachedToken();
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            pushNode(n);
+        } else {
+            currentNodeScope.close();
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree = buildTree;
+    }
+
+    /**
+    * Just a kludge so that existing jjtree-based code that uses
+    * parser.jjtree.foo can work without change.
+    */
+    FTLParser jjtree = this;
+
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node> {
+        NodeScope parentScope;
+
+        NodeScope() {
+            this.parentScope = FTLParser.this.currentNodeScope;
+            FTLParser.this.currentNodeScope = this;
+        }
+
+        boolean isRootScope() {
+            return parentScope == null;
+        }
+
+        Node rootNode() {
+            NodeScope ns = this;
+            while (ns.parentScope != null) {
+                ns = ns.parentScope;
+            }
+            return ns.isEmpty() ? null : ns.get(0);
+        }
+
+        Node peek() {
+            if (isEmpty()) {
+                return parentScope == null ? null : parentScope.peek();
+            }
+            return get(size() - 1);
+        }
+
+        Node pop() {
+            if (isEmpty()) return parentScope.pop();
+            Node result = remove(size() - 1);
+            logNodeScopeChange(this, size() + 1, result);
+            return result;
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            } else {
+                logNodeScopeChange(this, size(), set(size() - 1, n));
+            }
+        }
+
+        void close() {
+            logNodeScopeChange(parentScope, parentScope.size(), null);
+            parentScope.addAll(this);
+            FTLParser.this.currentNodeScope = parentScope;
+        }
+
+        int nestingLevel() {
+            int result = 0;
+            NodeScope parent = this;
+            while (parent.parentScope != null) {
+                result++;
+                parent = parent.parentScope;
+            }
+            return result;
+        }
+
+    }
+
+}
+
@@ -0,0 +1,916 @@
+/* Generated by: JavaCC 21 Parser Generator. FTLVisitor.java */
+package ftl;
+
+import ftl.ast.ALT_GT;
+import ftl.ast.ALT_GTE;
+import ftl.ast.ALT_LT;
+import ftl.ast.ALT_LTE;
+import ftl.ast.AND;
+import ftl.ast.AND2;
+import ftl.ast.AS;
+import ftl.ast.ASSIGN;
+import ftl.ast.AdditiveExpression;
+import ftl.ast.AndExpression;
+import ftl.ast.Assignment;
+import ftl.ast.AttemptRecover;
+import ftl.ast.BLANK;
+import ftl.ast.BLOCKNOTRIM;
+import ftl.ast.BLOCKTRIM;
+import ftl.ast.BLOCKTRIML;
+import ftl.ast.BLOCKTRIMR;
+import ftl.ast.BREAK;
+import ftl.ast.BUILT_IN;
+import ftl.ast.BaseExpression;
+import ftl.ast.Block;
+import ftl.ast.BooleanLiteral;
+import ftl.ast.BreakInstruction;
+import ftl.ast.BuiltinVariable;
+import ftl.ast.CASE;
+import ftl.ast.CLOSE_BRACE;
+import ftl.ast.CLOSE_BRACKET;
+import ftl.ast.CLOSE_EMPTY_TAG;
+import ftl.ast.CLOSE_PAREN;
+import ftl.ast.CLOSE_TAG;
+import ftl.ast.COLON;
+import ftl.ast.COMMA;
+import ftl.ast.COMMENT;
+import ftl.ast.COMPRESS;
+import ftl.ast.CaseInstruction;
+import ftl.ast.CommentBlock;
+import ftl.ast.CompressBlock;
+import ftl.ast.DECIMAL;
+import ftl.ast.DEFAUL;
+import ftl.ast.DIVIDE;
+import ftl.ast.DOT;
+import ftl.ast.DOT_DOT;
+import ftl.ast.DOUBLE_EQUALS;
+import ftl.ast.DefaultInstruction;
+import ftl.ast.DefaultToExpression;
+import ftl.ast.DirectiveEnd;
+import ftl.ast.ELLIPSIS;
+import ftl.ast.ELSE;
+import ftl.ast.ELSEIF;
+import ftl.ast.EMBED;
+import ftl.ast.END_COMMENT;
+import ftl.ast.END_DIRECTIVE1;
+import ftl.ast.END_DIRECTIVE2;
+import ftl.ast.END_USER_DIRECTIVE1;
+import ftl.ast.END_USER_DIRECTIVE2;
+import ftl.ast.EQUALS;
+import ftl.ast.ESCAPE;
+import ftl.ast.EXCLAM;
+import ftl.ast.EXISTS_OPERATOR;
+import ftl.ast.EXP_WHITE_SPACE;
+import ftl.ast.ElseBlock;
+import ftl.ast.ElseIfBlock;
+import ftl.ast.EmbedInstruction;
+import ftl.ast.EqualityExpression;
+import ftl.ast.EscapeBlock;
+import ftl.ast.Exists;
+import ftl.ast.Expression;
+import ftl.ast.FALLBACK;
+import ftl.ast.FALSE;
+import ftl.ast.FLUSH;
+import ftl.ast.FOREACH;
+import ftl.ast.FTL;
+import ftl.ast.FTLHeader;
+import ftl.ast.FTL_DIRECTIVE_OPEN1;
+import ftl.ast.FTL_DIRECTIVE_OPEN2;
+import ftl.ast.FUNCTION;
+import ftl.ast.FallBackInstruction;
+import ftl.ast.FlushInstruction;
+import ftl.ast.ForEachInstruction;
+import ftl.ast.GLOBAL;
+import ftl.ast.GT;
+import ftl.ast.GTE;
+import ftl.ast.HashLiteral;
+import ftl.ast.IDENTIFIER;
+import ftl.ast.IF;
+import ftl.ast.IMPORT;
+import ftl.ast.IN;
+import ftl.ast.INTEGER;
+import ftl.ast.INTERPOLATE;
+import ftl.ast.IdentifierOrStringLiteral;
+import ftl.ast.IfStatement;
+import ftl.ast.ImportInstruction;
+import ftl.ast.IncludeInstruction;
+import ftl.ast.Interpolation;
+import ftl.ast.LIST;
+import ftl.ast.LOCAL;
+import ftl.ast.LT;
+import ftl.ast.LTE;
+import ftl.ast.LTRIM;
+import ftl.ast.ListInstruction;
+import ftl.ast.ListLiteral;
+import ftl.ast.LooseTagEnd;
+import ftl.ast.MACRO;
+import ftl.ast.MINUS;
+import ftl.ast.MacroDefinition;
+import ftl.ast.MultiplicativeExpression;
+import ftl.ast.NESTED;
+import ftl.ast.NOESCAPE;
+import ftl.ast.NOPARSE;
+import ftl.ast.NOPARSE_END;
+import ftl.ast.NOTRIM;
+import ftl.ast.NOT_EQUALS;
+import ftl.ast.NULL;
+import ftl.ast.NUMERICAL_INTERPOLATE;
+import ftl.ast.NamedArgsList;
+import ftl.ast.NestedInstruction;
+import ftl.ast.NoEscapeBlock;
+import ftl.ast.NoParseBlock;
+import ftl.ast.NotExpression;
+import ftl.ast.NullLiteral;
+import ftl.ast.NumberLiteral;
+import ftl.ast.NumericalInterpolation;
+import ftl.ast.OPEN_BRACE;
+import ftl.ast.OPEN_BRACKET;
+import ftl.ast.OPEN_PAREN;
+import ftl.ast.OR;
+import ftl.ast.OR2;
+import ftl.ast.OrExpression;
+import ftl.ast.PERCENT;
+import ftl.ast.PLUS;
+import ftl.ast.PRINTABLE_CHARS;
+import ftl.ast.ParameterList;
+import ftl.ast.Parenthesis;
+import ftl.ast.PositionalArgsList;
+import ftl.ast.PrimaryExpression;
+import ftl.ast.RAW_STRING;
+import ftl.ast.RECURSE;
+import ftl.ast.RETURN;
+import ftl.ast.RTRIM;
+import ftl.ast.RangeExpression;
+import ftl.ast.RecoverBlock;
+import ftl.ast.RecurseInstruction;
+import ftl.ast.RelationalExpression;
+import ftl.ast.ReturnInstruction;
+import ftl.ast.Root;
+import ftl.ast.SEMICOLON;
+import ftl.ast.SET;
+import ftl.ast.SETTING;
+import ftl.ast.SPECIAL_CHAR;
+import ftl.ast.STOP;
+import ftl.ast.STRING_LITERAL;
+import ftl.ast.SWITCH;
+import ftl.ast.SettingInstruction;
+import ftl.ast.StopInstruction;
+import ftl.ast.StringLiteral;
+import ftl.ast.SwitchInstruction;
+import ftl.ast.TIMES;
+import ftl.ast.TRIM;
+import ftl.ast.TRUE;
+import ftl.ast.Text;
+import ftl.ast.TrimBlock;
+import ftl.ast.TrimInstruction;
+import ftl.ast.USER_DIRECTIVE_OPEN1;
+import ftl.ast.USER_DIRECTIVE_OPEN2;
+import ftl.ast.USING;
+import ftl.ast.UnaryPlusMinusExpression;
+import ftl.ast.UserDirective;
+import ftl.ast.VAR;
+import ftl.ast.VISIT;
+import ftl.ast.VarInstruction;
+import ftl.ast.VisitInstruction;
+import ftl.ast.WHITESPACE;
+import ftl.ast._ATTEMPT;
+import ftl.ast._INCLUDE;
+import ftl.ast._RECOVER;
+
+
+/**
+* A visitor that is dispatched without reflection. Each Node gets
+* passed to the visit method for its own class via Node#accept(FTLVisitor).
+* If that is not overridden, it passes the node on to the visit methods
+* for the Node interfaces the class implements, until it gets to one that
+* is overridden, and failing that, to the one for its superclass, which
+* goes on in the same way. That is the order that Node.Visitor looks in,
+* so the same visit methods get called. If none of them is overridden, it
+* just goes into the children.
+* Unlike with Node.Visitor, the visit methods have to be public, but
+* they are otherwise written the same way.
+*/
+public abstract class FTLVisitor {
+    protected boolean visitUnparsedTokens;
+
+    public final void visit(Node node) {
+        node.accept(this);
+    }
+
+    /**
+    * Just recurses over (i.e. visits) node's children
+    * @param node the node we are traversing
+    */
+    public void recurse(Node node) {
+        for (Node child : node.children(visitUnparsedTokens)) {
+            visit(child);
+        }
+    }
+
+    public void visit(ALT_GT node) {
+        visit((Token) node);
+    }
+
+    public void visit(ALT_GTE node) {
+        visit((Token) node);
+    }
+
+    public void visit(ALT_LT node) {
+        visit((Token) node);
+    }
+
+    public void visit(ALT_LTE node) {
+        visit((Token) node);
+    }
+
+    public void visit(AND node) {
+        visit((Token) node);
+    }
+
+    public void visit(AND2 node) {
+        visit((Token) node);
+    }
+
+    public void visit(AS node) {
+        visit((Token) node);
+    }
+
+    public void visit(ASSIGN node) {
+        visit((Token) node);
+    }
+
+    public void visit(AdditiveExpression node) {
+        recurse(node);
+    }
+
+    public void visit(AndExpression node) {
+        recurse(node);
+    }
+
+    public void visit(Assignment node) {
+        recurse(node);
+    }
+
+    public void visit(AttemptRecover node) {
+        recurse(node);
+    }
+
+    public void visit(BLANK node) {
+        visit((Token) node);
+    }
+
+    public void visit(BLOCKNOTRIM node) {
+        visit((Token) node);
+    }
+
+    public void visit(BLOCKTRIM node) {
+        visit((Token) node);
+    }
+
+    public void visit(BLOCKTRIML node) {
+        visit((Token) node);
+    }
+
+    public void visit(BLOCKTRIMR node) {
+        visit((Token) node);
+    }
+
+    public void visit(BREAK node) {
+        visit((Token) node);
+    }
+
+    public void visit(BUILT_IN node) {
+        visit((Token) node);
+    }
+
+    public void visit(BaseExpression node) {
+        recurse(node);
+    }
+
+    public void visit(Block node) {
+        recurse(node);
+    }
+
+    public void visit(BooleanLiteral node) {
+        recurse(node);
+    }
+
+    public void visit(BreakInstruction node) {
+        recurse(node);
+    }
+
+    public void visit(BuiltinVariable node) {
+        recurse(node);
+    }
+
+    public void visit(CASE node) {
+        visit((Token) node);
+    }
+
+    public void visit(CLOSE_BRACE node) {
+        visit((Token) node);
+    }
+
+    public void visit(CLOSE_BRACKET node) {
+        visit((Token) node);
+    }
+
+    public void visit(CLOSE_EMPTY_TAG node) {
+        visit((Token) node);
+    }
+
+    public void visit(CLOSE_PAREN node) {
+        visit((Token) node);
+    }
+
+    public void visit(CLOSE_TAG node) {
+        visit((Token) node);
+    }
+
+    public void visit(COLON node) {
+        visit((Token) node);
+    }
+
+    public void visit(COMMA node) {
+        visit((Token) node);
+    }
+
+    public void visit(COMMENT node) {
+        visit((Token) node);
+    }
+
+    public void visit(COMPRESS node) {
+        visit((Token) node);
+    }
+
+    public void visit(CaseInstruction node) {
+        recurse(node);
+    }
+
+    public void visit(CommentBlock node) {
+        recurse(node);
+    }
+
+    public void visit(CompressBlock node) {
+        recurse(node);
+    }
+
+    public void visit(DECIMAL node) {
+        visit((Token) node);
+    }
+
+    public void visit(DEFAUL node) {
+        visit((Token) node);
+    }
+
+    public void visit(DIVIDE node) {
+        visit((Token) node);
+    }
+
+    public void visit(DOT node) {
+        visit((Token) node);
+    }
+
+    public void visit(DOT_DOT node) {
+        visit((Token) node);
+    }
+
+    public void visit(DOUBLE_EQUALS node) {
+        visit((Token) node);
+    }
+
+    public void visit(DefaultInstruction node) {
+        recurse(node);
+    }
+
+    public void visit(DefaultToExpression node) {
+        recurse(node);
+    }
+
+    public void visit(DirectiveEnd node) {
+        recurse(node);
+    }
+
+    public void visit(ELLIPSIS node) {
+        visit((Token) node);
+    }
+
+    public void visit(ELSE node) {
+        visit((Token) node);
+    }
+
+    public void visit(ELSEIF node) {
+        visit((Token) node);
+    }
+
+    public void visit(EMBED node) {
+        visit((Token) node);
+    }
+
+    public void visit(END_COMMENT node) {
+        visit((Token) node);
+    }
+
+    public void visit(END_DIRECTIVE1 node) {
+        visit((Token) node);
+    }
+
+    public void visit(END_DIRECTIVE2 node) {
+        visit((Token) node);
+    }
+
+    public void visit(END_USER_DIRECTIVE1 node) {
+        visit((Token) node);
+    }
+
+    public void visit(END_USER_DIRECTIVE2 node) {
+        visit((Token) node);
+    }
+
+    public void visit(EQUALS node) {
+        visit((Token) node);
+    }
+
+    public void visit(ESCAPE node) {
+        visit((Token) node);
+    }
+
+    public void visit(EXCLAM node) {
+        visit((Token) node);
+    }
+
+    public void visit(EXISTS_OPERATOR node) {
+        visit((Token) node);
+    }
+
+    public void visit(EXP_WHITE_SPACE node) {
+        visit((Token) node);
+    }
+
+    public void visit(ElseBlock node) {
+        recurse(node);
+    }
+
+    public void visit(ElseIfBlock node) {
+        recurse(node);
+    }
+
+    public void visit(EmbedInstruction node) {
+        recurse(node);
+    }
+
+    public void visit(EqualityExpression node) {
+        recurse(node);
+    }
+
+    public void visit(EscapeBlock node) {
+        recurse(node);
+    }
+
+    public void visit(Exists node) {
+        recurse(node);
+    }
+
+    public void visit(Expression node) {
+        recurse(node);
+    }
+
+    public void visit(FALLBACK node) {
+        visit((Token) node);
+    }
+
+    public void visit(FALSE node) {
+        visit((Token) node);
+    }
+
+    public void visit(FLUSH node) {
+        visit((Token) node);
+    }
+
+    public void visit(FOREACH node) {
+        visit((Token) node);
+    }
+
+    public void visit(FTL node) {
+        visit((Token) node);
+    }
+
+    public void visit(FTLHeader node) {
+        recurse(node);
+    }
+
+    public void visit(FTL_DIRECTIVE_OPEN1 node) {
+        visit((Token) node);
+    }
+
+    public void visit(FTL_DIRECTIVE_OPEN2 node) {
+        visit((Token) node);
+    }
+
+    public void visit(FUNCTION node) {
+        visit((Token) node);
+    }
+
+    public void visit(FallBackInstruction node) {
+        recurse(node);
+    }
+
+    public void visit(FlushInstruction node) {
+        recurse(node);
+    }
+
+    public void visit(ForEachInstruction node) {
+        recurse(node);
+    }
+
+    public void visit(GLOBAL node) {
+        visit((Token) node);
+    }
+
+    public void visit(GT node) {
+        visit((Token) node);
+    }
+
+    public void visit(GTE node) {
+        visit((Token) node);
+    }
+
+    public void visit(HashLiteral node) {
+        recurse(node);
+    }
+
+    public void visit(IDENTIFIER node) {
+        visit((Token) node);
+    }
+
+    public void visit(IF node) {
+        visit((Token) node);
+    }
+
+    public void visit(IMPORT node) {
+        visit((Token) node);
+    }
+
+    public void visit(IN node) {
+        visit((Token) node);
+    }
+
+    public void visit(INTEGER node) {
+        visit((Token) node);
+    }
+
+    public void visit(INTERPOLATE node) {
+        visit((Token) node);
+    }
+
+    public void visit(IdentifierOrStringLiteral node) {
+        recurse(node);
+    }
+
+    public void visit(IfStatement node) {
+        recurse(node);
+    }
+
+    public void visit(ImportInstruction node) {
+        recurse(node);
+    }
+
+    public void visit(IncludeInstruction node) {
+        recurse(node);
+    }
+
+    public void visit(Interpolation node) {
+        recurse(node);
+    }
+
+    public void visit(LIST node) {
+        visit((Token) node);
+    }
+
+    public void visit(LOCAL node) {
+        visit((Token) node);
+    }
+
+    public void visit(LT node) {
+        visit((Token) node);
+    }
+
+    public void visit(LTE node) {
+        visit((Token) node);
+    }
+
+    public void visit(LTRIM node) {
+        visit((Token) node);
+    }
+
+    public void visit(ListInstruction node) {
+        recurse(node);
+    }
+
+    public void visit(ListLiteral node) {
+        recurse(node);
+    }
+
+    public void visit(LooseTagEnd node) {
+        recurse(node);
+    }
+
+    public void visit(MACRO node) {
+        visit((Token) node);
+    }
+
+    public void visit(MINUS node) {
+        visit((Token) node);
+    }
+
+    public void visit(MacroDefinition node) {
+        recurse(node);
+    }
+
+    public void visit(MultiplicativeExpression node) {
+        recurse(node);
+    }
+
+    public void visit(NESTED node) {
+        visit((Token) node);
+    }
+
+    public void visit(NOESCAPE node) {
+        visit((Token) node);
+    }
+
+    public void visit(NOPARSE node) {
+        visit((Token) node);
+    }
+
+    public void visit(NOPARSE_END node) {
+        visit((Token) node);
+    }
+
+    public void visit(NOTRIM node) {
+        visit((Token) node);
+    }
+
+    public void visit(NOT_EQUALS node) {
+        visit((Token) node);
+    }
+
+    public void visit(NULL node) {
+        visit((Token) node);
+    }
+
+    public void visit(NUMERICAL_INTERPOLATE node) {
+        visit((Token) node);
+    }
+
+    public void visit(NamedArgsList node) {
+        recurse(node);
+    }
+
+    public void visit(NestedInstruction node) {
+        recurse(node);
+    }
+
+    public void visit(NoEscapeBlock node) {
+        recurse(node);
+    }
+
+    public void visit(NoParseBlock node) {
+        recurse(node);
+    }
+
+    public void visit(NotExpression node) {
+        recurse(node);
+    }
+
+    public void visit(NullLiteral node) {
+        recurse(node);
+    }
+
+    public void visit(NumberLiteral node) {
+        recurse(node);
+    }
+
+    public void visit(NumericalInterpolation node) {
+        recurse(node);
+    }
+
+    public void visit(OPEN_BRACE node) {
+        visit((Token) node);
+    }
+
+    public void visit(OPEN_BRACKET node) {
+        visit((Token) node);
+    }
+
+    public void visit(OPEN_PAREN node) {
+        visit((Token) node);
+    }
+
+    public void visit(OR node) {
+        visit((Token) node);
+    }
+
+    public void visit(OR2 node) {
+        visit((Token) node);
+    }
+
+    public void visit(OrExpression node) {
+        recurse(node);
+    }
+
+    public void visit(PERCENT node) {
+        visit((Token) node);
+    }
+
+    public void visit(PLUS node) {
+        visit((Token) node);
+    }
+
+    public void visit(PRINTABLE_CHARS node) {
+        visit((Token) node);
+    }
+
+    public void visit(ParameterList node) {
+        recurse(node);
+    }
+
+    public void visit(Parenthesis node) {
+        recurse(node);
+    }
+
+    public void visit(PositionalArgsList node) {
+        recurse(node);
+    }
+
+    public void visit(PrimaryExpression node) {
+        recurse(node);
+    }
+
+    public void visit(RAW_STRING node) {
+        visit((Token) node);
+    }
+
+    public void visit(RECURSE node) {
+        visit((Token) node);
+    }
+
+    public void visit(RETURN node) {
+        visit((Token) node);
+    }
+
+    public void visit(RTRIM node) {
+        visit((Token) node);
+    }
+
+    public void visit(RangeExpression node) {
+        recurse(node);
+    }
+
+    public void visit(RecoverBlock node) {
+        recurse(node);
+    }
+
+    public void visit(RecurseInstruction node) {
+        recurse(node);
+    }
+
+    public void visit(RelationalExpression node) {
+        recurse(node);
+    }
+
+    public void visit(ReturnInstruction node) {
+        recurse(node);
+    }
+
+    public void visit(Root node) {
+        recurse(node);
+    }
+
+    public void visit(SEMICOLON node) {
+        visit((Token) node);
+    }
+
+    public void visit(SET node) {
+        visit((Token) node);
+    }
+
+    public void visit(SETTING node) {
+        visit((Token) node);
+    }
+
+    public void visit(SPECIAL_CHAR node) {
+        visit((Token) node);
+    }
+
+    public void visit(STOP node) {
+        visit((Token) node);
+    }
+
+    public void visit(STRING_LITERAL node) {
+        visit((Token) node);
+    }
+
+    public void visit(SWITCH node) {
+        visit((Token) node);
+    }
+
+    public void visit(SettingInstruction node) {
+        recurse(node);
+    }
+
+    public void visit(StopInstruction node) {
+        recurse(node);
+    }
+
+    public void visit(StringLiteral node) {
+        recurse(node);
+    }
+
+    public void visit(SwitchInstruction node) {
+        recurse(node);
+    }
+
+    public void visit(TIMES node) {
+        visit((Token) node);
+    }
+
+    public void visit(TRIM node) {
+        visit((Token) node);
+    }
+
+    public void visit(TRUE node) {
+        visit((Token) node);
+    }
+
+    public void visit(Text node) {
+        recurse(node);
+    }
+
+    public void visit(Token node) {
+        recurse(node);
+    }
+
+    public void visit(TrimBlock node) {
+        recurse(node);
+    }
+
+    public void visit(TrimInstruction node) {
+        recurse(node);
+    }
+
+    public void visit(USER_DIRECTIVE_OPEN1 node) {
+        visit((Token) node);
+    }
+
+    public void visit(USER_DIRECTIVE_OPEN2 node) {
+        visit((Token) node);
+    }
+
+    public void visit(USING node) {
+        visit((Token) node);
+    }
+
+    public void visit(UnaryPlusMinusExpression node) {
+        recurse(node);
+    }
+
+    public void visit(UserDirective node) {
+        recurse(node);
+    }
+
+    public void visit(VAR node) {
+        visit((Token) node);
+    }
+
+    public void visit(VISIT node) {
+        visit((Token) node);
+    }
+
+    public void visit(VarInstruction node) {
+        recurse(node);
+    }
+
+    public void visit(VisitInstruction node) {
+        recurse(node);
+    }
+
+    public void visit(WHITESPACE node) {
+        visit((Token) node);
+    }
+
+    public void visit(_ATTEMPT node) {
+        visit((Token) node);
+    }
+
+    public void visit(_INCLUDE node) {
+        visit((Token) node);
+    }
+
+    public void visit(_RECOVER node) {
+        visit((Token) node);
+    }
+
+}
+
+
@@ -0,0 +1,24 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for ALT_LT Token subclass
+* by the ASTToken.java.ftl template
+*/
+package ftl.ast;
+
+import ftl.*;
+import ftl.FTLConstants.TokenType;
+import static ftl.FTLConstants.TokenType.*;
+
+
+public class ALT_LT extends Token {
+
+    public ALT_LT(TokenType type, FTLLexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+    public void accept(FTLVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,19 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for BaseExpression AST Node type
+* by the ASTNode.java.ftl template
+*/
+package ftl.ast;
+
+import ftl.*;
+import static ftl.FTLConstants.TokenType.*;
+
+
+public class BaseExpression extends BaseNode {
+
+    public void accept(FTLVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -5,8 +5,8 @@ import java.nio.file.FileSystems;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Stream;
 import java.nio.file.Path;
+import org.parsers.java.JavaBatchParser;
 import org.parsers.java.JavaParser;
 import org.parsers.java.Node;
 
@@ -51,10 +51,11 @@ public class JParse {
         }
         if (paths.isEmpty()) usage();
         long startTime = System.currentTimeMillis();
-        Stream<Path> stream = parallelParsing
-                               ? paths.parallelStream() 
-                               :  paths.stream();
-        stream.forEach(path -> parseFile(path));
+        if (parallelParsing) {
+            parseInBatch();
+        } else {
+            paths.stream().forEach(path -> parseFile(path));
+        }
         for (Path path : failures) {
             System.out.println("Parse failed on: " + path);
         }
@@ -88,6 +89,29 @@ public class JParse {
         }
     }
 
+    static void parseInBatch() {
+        JavaBatchParser batchParser = new JavaBatchParser(new JavaBatchParser.Listener() {
+            public void parsed(String inputSource, Node root) {
+                if (retainInMemory) roots.add(root);
+                System.out.println(inputSource + " parsed successfully.");
+                successes.add(fileSystem.getPath(inputSource));
+            }
+            public void failed(String inputSource, Throwable e) {
+                System.err.println("Error processing file: " + inputSource);
+                failures.add(fileSystem.getPath(inputSource));
+                e.printStackTrace();
+            }
+        });
+        batchParser.setParserTolerant(tolerantParsing);
+        // If we hold onto the trees, the parsers can't be reused.
+        batchParser.setReuseParsers(!retainInMemory);
+        try {
+            System.out.println(batchParser.parse(paths));
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     static public void usage() {
         System.out.println("Usage: java JParse <sourcefiles or directories>");
         System.out.println("If you just pass it one java source file, it dumps the AST");
@@ -0,0 +1,96 @@
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Stream;
+import org.parsers.java.JavaParser;
+import org.parsers.javatuned.JavaTunedParser;
+
+/**
+ * Parses some Java files with both JavaParser and JavaTunedParser,
+ * which is generated from the same grammar with LEXER_DFA,
+ * COMPACT_TOKEN_INDEX, PACKRAT_LOOKAHEAD, INTERN_TOKEN_IMAGES,
+ * COMPACT_NODES and PARSER_POOL set, and checks that the trees are the
+ * same. The tokens have to be of the same types, at the same locations
+ * and with the same images, and have the same tokens before and after
+ * them, including the unparsed ones. Tokens of the same type with the same
+ * image have to share one String. The tuned parsers come from the pool,
+ * so all but the first one have been reset and used again.
+ * Usage: java JavaTunedTest <sourcefiles or directories>
+ */
+public class JavaTunedTest {
+
+    static public void main(String[] args) throws IOException {
+        List<Path> paths = new ArrayList<>();
+        for (String arg : args) {
+            try (Stream<Path> files = Files.walk(Paths.get(arg))) {
+                files.filter(path -> path.toString().endsWith(".java")).forEach(paths::add);
+            }
+        }
+        int nodes = 0;
+        for (Path path : paths) {
+            String content = new String(Files.readAllBytes(path), "UTF-8");
+            JavaParser parser = new JavaParser(path.toString(), content);
+            org.parsers.java.Node expected = parser.CompilationUnit();
+            JavaTunedParser tunedParser = JavaTunedParser.acquire(path.toString(), content);
+            org.parsers.javatuned.Node actual = tunedParser.CompilationUnit();
+            List<String> expectedNodes = new ArrayList<>(), actualNodes = new ArrayList<>();
+            describe(expected, expectedNodes);
+            describe(actual, actualNodes, new HashMap<>());
+            for (int i = 0; i < Math.max(expectedNodes.size(), actualNodes.size()); i++) {
+                String expectedNode = i < expectedNodes.size() ? expectedNodes.get(i) : "nothing";
+                String actualNode = i < actualNodes.size() ? actualNodes.get(i) : "nothing";
+                if (!expectedNode.equals(actualNode)) {
+                    throw new AssertionError("In " + path + ", node " + i + " is " + actualNode
+                                             + " but JavaParser has " + expectedNode);
+                }
+            }
+            nodes += actualNodes.size();
+            tunedParser.release();
+        }
+        System.out.println("The two parsers built the same " + nodes + " nodes from " + paths.size() + " files.");
+    }
+
+    static void describe(org.parsers.java.Node node, List<String> result) {
+        String description = node.getClass().getSimpleName() + " " + node.getLocation() + " [" + node.getBeginOffset() + "," + node.getEndOffset() + ")";
+        if (node instanceof org.parsers.java.Token) {
+            org.parsers.java.Token tok = (org.parsers.java.Token) node;
+            description += " " + tok.getType() + " " + tok.getImage() + " after " + describe(tok.getPrevious())
+                           + " before " + describe(tok.getNext());
+            for (org.parsers.java.Token unparsed : tok.precedingUnparsedTokens()) {
+                description += " " + unparsed.getType() + " " + unparsed.getImage();
+            }
+        }
+        result.add(description);
+        for (org.parsers.java.Node child : node.children()) {
+            describe(child, result);
+        }
+    }
+
+    static void describe(org.parsers.javatuned.Node node, List<String> result, Map<String, String> images) {
+        String description = node.getClass().getSimpleName() + " " + node.getLocation() + " [" + node.getBeginOffset() + "," + node.getEndOffset() + ")";
+        if (node instanceof org.parsers.javatuned.Token) {
+            org.parsers.javatuned.Token tok = (org.parsers.javatuned.Token) node;
+            description += " " + tok.getType() + " " + tok.getImage() + " after " + describe(tok.getPrevious())
+                           + " before " + describe(tok.getNext());
+            for (org.parsers.javatuned.Token unparsed : tok.precedingUnparsedTokens()) {
+                description += " " + unparsed.getType() + " " + unparsed.getImage();
+            }
+            String image = images.putIfAbsent(tok.getType() + " " + tok.getImage(), tok.getImage());
+            if (image != null && image != tok.getImage()) {
+                throw new AssertionError("The image of " + description + " is not interned");
+            }
+        }
+        result.add(description);
+        for (org.parsers.javatuned.Node child : node.children()) {
+            describe(child, result, images);
+        }
+    }
+
+    static String describe(org.parsers.java.Token tok) {
+        return tok == null ? "nothing" : tok.getType() + " at " + tok.getBeginOffset();
+    }
+
+    static String describe(org.parsers.javatuned.Token tok) {
+        return tok == null ? "nothing" : tok.getType() + " at " + tok.getBeginOffset();
+    }
+}
@@ -0,0 +1,108 @@
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.parsers.java.*;
+import org.parsers.java.ast.*;
+
+/**
+ * Checks the ways of walking a tree that do without recursion against
+ * a plain recursive walk. The Node.TreeCursor has to come to the same
+ * nodes, on the way in and on the way out, at the same depths, also when
+ * it skips the children of some of them. descendantStream(), both
+ * sequential and parallel, has to give the same nodes in the same order
+ * as descendants(), as do the pieces of its spliterator, split up as far
+ * as they go.
+ * Usage: java TreeWalkTest <sourcefiles or directories>
+ */
+public class TreeWalkTest {
+
+    static public void main(String[] args) throws IOException {
+        List<Path> paths = new ArrayList<>();
+        for (String arg : args) {
+            try (Stream<Path> files = Files.walk(Paths.get(arg))) {
+                files.filter(path -> path.toString().endsWith(".java")).forEach(paths::add);
+            }
+        }
+        int nodes = 0;
+        for (Path path : paths) {
+            Node root = new JavaParser(path).CompilationUnit();
+            String where = "In " + path;
+            compare(walk(root, false), walkWithCursor(root, false), where + ", the cursor");
+            compare(walk(root, true), walkWithCursor(root, true), where + ", the cursor skipping code blocks");
+            List<Node> descendants = root.descendants();
+            compare(descendants, root.descendantStream().collect(Collectors.toList()), where + ", descendantStream()");
+            compare(descendants, root.descendantStream().parallel().collect(Collectors.toList()),
+                    where + ", descendantStream().parallel()");
+            List<Node> split = new ArrayList<>();
+            splitAll(root.descendantStream().spliterator(), split);
+            compare(descendants, split, where + ", descendantStream() split up");
+            compare(root.descendants(Identifier.class), root.descendantStream(Identifier.class).parallel().collect(Collectors.toList()),
+                    where + ", descendantStream(Identifier.class).parallel()");
+            for (Node node : root.descendants(ClassOrInterfaceBody.class)) {
+                compare(node.descendants(), node.descendantStream().parallel().collect(Collectors.toList()),
+                        where + ", descendantStream().parallel() from a class body");
+            }
+            nodes += descendants.size() + 1;
+        }
+        System.out.println("The walks came to the same " + nodes + " nodes in " + paths.size() + " files.");
+    }
+
+    // The nodes that a cursor comes to, each described by whether it is on the
+    // way in or out and the depth, as found by recursion.
+    static List<String> walk(Node root, boolean skipCodeBlocks) {
+        List<String> result = new ArrayList<>();
+        walk(root, 0, skipCodeBlocks, result);
+        return result;
+    }
+
+    static void walk(Node node, int depth, boolean skipCodeBlocks, List<String> result) {
+        result.add(describe(node, true, depth));
+        if (!(skipCodeBlocks && node instanceof CodeBlock)) {
+            for (Node child : node.children()) {
+                walk(child, depth + 1, skipCodeBlocks, result);
+            }
+        }
+        result.add(describe(node, false, depth));
+    }
+
+    static List<String> walkWithCursor(Node root, boolean skipCodeBlocks) {
+        List<String> result = new ArrayList<>();
+        Node.TreeCursor cursor = root.cursor();
+        while (cursor.next()) {
+            result.add(describe(cursor.getNode(), cursor.isEntering(), cursor.getDepth()));
+            if (skipCodeBlocks && cursor.getNode() instanceof CodeBlock) {
+                cursor.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    // Splits the spliterator and then the pieces, depth first, and
+    // adds what each piece comes to, in order.
+    static void splitAll(Spliterator<Node> spliterator, List<Node> result) {
+        Spliterator<Node> prefix = spliterator.trySplit();
+        if (prefix == null) {
+            spliterator.forEachRemaining(result::add);
+        } else {
+            splitAll(prefix, result);
+            splitAll(spliterator, result);
+        }
+    }
+
+    static String describe(Node node, boolean entering, int depth) {
+        return (entering ? "into " : "out of ") + node.getClass().getSimpleName() + "@"
+               + System.identityHashCode(node) + " at depth " + depth;
+    }
+
+    static void compare(List<?> expected, List<?> actual, String where) {
+        for (int i = 0; i < Math.max(expected.size(), actual.size()); i++) {
+            Object expectedItem = i < expected.size() ? expected.get(i) : "nothing";
+            Object actualItem = i < actual.size() ? actual.get(i) : "nothing";
+            if (expectedItem != actualItem && !(expectedItem instanceof String && expectedItem.equals(actualItem))) {
+                throw new AssertionError(where + " has " + actualItem + " at " + i + " rather than " + expectedItem);
+            }
+        }
+    }
+}
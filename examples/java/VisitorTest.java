@@ -0,0 +1,122 @@
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Stream;
+import org.parsers.java.*;
+import org.parsers.java.ast.*;
+
+/**
+ * Checks that the generated JavaVisitor calls the same visit methods,
+ * on the same nodes and in the same order, as a Node.Visitor that has
+ * the same visit methods. Some of those are for classes, some for
+ * interfaces and some for tokens. Since there is none for
+ * ClassOrInterfaceBodyDeclaration, an Initializer goes to the one
+ * for its superclass, CodeBlock.
+ * Usage: java VisitorTest <sourcefiles or directories>
+ */
+public class VisitorTest {
+
+    static public void main(String[] args) throws IOException {
+        List<Path> paths = new ArrayList<>();
+        for (String arg : args) {
+            try (Stream<Path> files = Files.walk(Paths.get(arg))) {
+                files.filter(path -> path.toString().endsWith(".java")).forEach(paths::add);
+            }
+        }
+        int calls = 0;
+        for (Path path : paths) {
+            Node root = new JavaParser(path).CompilationUnit();
+            ReflectiveVisitor reflective = new ReflectiveVisitor();
+            reflective.visit(root);
+            TypedVisitor typed = new TypedVisitor();
+            typed.visit(root);
+            for (int i = 0; i < Math.max(reflective.calls.size(), typed.calls.size()); i++) {
+                String expected = i < reflective.calls.size() ? reflective.calls.get(i) : "nothing";
+                String actual = i < typed.calls.size() ? typed.calls.get(i) : "nothing";
+                if (!expected.equals(actual)) {
+                    throw new AssertionError("In " + path + ", call " + i + " is " + actual + " but Node.Visitor has " + expected);
+                }
+            }
+            calls += typed.calls.size();
+        }
+        System.out.println("The two visitors made the same " + calls + " calls on " + paths.size() + " files.");
+    }
+
+    static String call(String method, Node node) {
+        return method + "(" + node.getClass().getSimpleName() + " at " + node.getBeginOffset() + ")";
+    }
+
+    static class ReflectiveVisitor extends Node.Visitor {
+        List<String> calls = new ArrayList<>();
+
+        void visit(CodeBlock node) {
+            calls.add(call("CodeBlock", node));
+            recurse(node);
+        }
+
+        void visit(Statement node) {
+            calls.add(call("Statement", node));
+            recurse(node);
+        }
+
+        void visit(Expression node) {
+            calls.add(call("Expression", node));
+            recurse(node);
+        }
+
+        void visit(TypeDeclaration node) {
+            calls.add(call("TypeDeclaration", node));
+            recurse(node);
+        }
+
+        void visit(MethodDeclaration node) {
+            calls.add(call("MethodDeclaration", node));
+            recurse(node);
+        }
+
+        void visit(Identifier node) {
+            calls.add(call("Identifier", node));
+        }
+
+        void visit(Token node) {
+            calls.add(call("Token", node));
+        }
+    }
+
+    static class TypedVisitor extends JavaVisitor {
+        List<String> calls = new ArrayList<>();
+
+        public void visit(CodeBlock node) {
+            calls.add(call("CodeBlock", node));
+            recurse(node);
+        }
+
+        public void visit(Statement node) {
+            calls.add(call("Statement", node));
+            recurse(node);
+        }
+
+        public void visit(Expression node) {
+            calls.add(call("Expression", node));
+            recurse(node);
+        }
+
+        public void visit(TypeDeclaration node) {
+            calls.add(call("TypeDeclaration", node));
+            recurse(node);
+        }
+
+        public void visit(MethodDeclaration node) {
+            calls.add(call("MethodDeclaration", node));
+            recurse(node);
+        }
+
+        public void visit(Identifier node) {
+            calls.add(call("Identifier", node));
+        }
+
+        public void visit(Token node) {
+            calls.add(call("Token", node));
+        }
+    }
+}
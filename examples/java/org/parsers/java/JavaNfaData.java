@@ -0,0 +1,4338 @@
+/* Generated by: JavaCC 21 Parser Generator. JavaNfaData.java */
+package org.parsers.java;
+
+import static org.parsers.java.JavaConstants.TokenType.*;
+import java.util.EnumSet;
+import java.util.BitSet;
+import java.util.Arrays;
+
+
+/**
+* Holder class for the data used by JavaLexer
+* to do the NFA thang
+*/
+class JavaNfaData implements JavaConstants {
+
+    // The functional interface that represents
+    // the acceptance method of an NFA state
+    static interface NfaFunction {
+
+        TokenType apply(int ch, BitSet bs, EnumSet<TokenType> validTypes);
+
+    }
+
+    // All the tables here are built once, when the class is initialized,
+    // and never modified after that, so they can be shared by any number
+    // of lexers running on different threads.
+    // The NFA function tables for the respective lexical states, indexed by ordinal
+    static private final NfaFunction[][] functionTables = new NfaFunction[][] {JAVA.NFA_FUNCTIONS_init(), 
+    IN_MULTI_LINE_COMMENT.NFA_FUNCTIONS_init(), IN_SINGLE_LINE_COMMENT.NFA_FUNCTIONS_init()};
+
+    // This data holder class is never instantiated
+    private JavaNfaData() {
+    }
+
+    /**
+    * @param the lexical state
+    * @return the table of function pointers that implement the lexical state
+    */
+    static final NfaFunction[] getFunctionTableMap(LexicalState lexicalState) {
+        return functionTables[lexicalState.ordinal()];
+    }
+
+    // Just use the canned binary search to check whether the char
+    // is in one of the intervals
+    private static final boolean checkIntervals(int[] ranges, int ch) {
+        int result = Arrays.binarySearch(ranges, ch);
+        return result >= 0 || result % 2 == 0;
+    }
+
+    // The larger tables are stored as (count, value) pairs
+    private static int[] decodeRuns(int[] runs) {
+        int size = 0;
+        for (int i = 0; i < runs.length; i += 2) {
+            size += runs[i];
+        }
+        int[] result = new int[size];
+        int index = 0;
+        for (int i = 0; i < runs.length; i += 2) {
+            Arrays.fill(result, index, index + runs[i], runs[i + 1]);
+            index += runs[i];
+        }
+        return result;
+    }
+
+
+    /**
+    * A lookup table of the moves that the NFA_XXX methods
+    * make on ASCII characters, indexed by row*128 + ch,
+    * so that we only need to check character ranges
+    * for non-ASCII input.
+    */
+    static final class AsciiMoveTable {
+        private final int[] table;
+        private final BitSet[] moveStates;
+        private final TokenType[][] moveTypes;
+
+        AsciiMoveTable(int[] encodedTable, int[] stateOffsets, int[] states, int[] typeOffsets, 
+        int[] typeIndexes, TokenType[] types) {
+            this.table = decodeRuns(encodedTable);
+            int numMoves = stateOffsets.length - 1;
+            moveStates = new BitSet[numMoves];
+            moveTypes = new TokenType[numMoves][];
+            for (int move = 0; move < numMoves; move++) {
+                moveStates[move] = new BitSet();
+                for (int i = stateOffsets[move]; i < stateOffsets[move + 1]; i++) {
+                    moveStates[move] .set(states[i]);
+                }
+                moveTypes[move] = new TokenType[typeOffsets[move + 1] - typeOffsets[move] ];
+                for (int i = typeOffsets[move]; i < typeOffsets[move + 1]; i++) {
+                    moveTypes[move][i - typeOffsets[move] ] = types[typeIndexes[i] ];
+                }
+            }
+        }
+
+        final TokenType apply(int index, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            int move = table[index];
+            if (move < 0) return null;
+            nextStates.or(moveStates[move]);
+            for (TokenType type : moveTypes[move]) {
+                if (validTypes.contains(type)) return type;
+            }
+            return null;
+        }
+
+    }
+
+
+    /**
+    * Holder class for NFA code related to JAVA lexical state
+    */
+    private static class JAVA {
+
+        static private TokenType NFA_JAVA_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(0 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            if (((ch == '$') || ((ch >= 'A' && ch <= 'Z') || ((ch == '_') || (ch >= 'a' && ch <= 'z')))) || (ch >= 128 && checkIntervals(NFA_MOVES_JAVA_579, 
+            ch))) {
+                nextStates.set(131);
+                if (validTypes.contains(IDENTIFIER)) type = IDENTIFIER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(128 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_2(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(256 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_3(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '/') {
+                if (validTypes.contains(SINGLE_LINE_COMMENT_START)) type = SINGLE_LINE_COMMENT_START;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_4(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(384 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_5(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '*') {
+                if (validTypes.contains(MULTI_LINE_COMMENT_START)) type = MULTI_LINE_COMMENT_START;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_6(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(512 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_7(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'b') {
+                nextStates.set(8);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_8(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(9);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_9(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(10);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_10(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(11);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_11(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(12);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_12(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(13);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_13(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(ABSTRACT)) type = ABSTRACT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_14(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == ':') {
+                if (validTypes.contains(DOUBLE_COLON)) type = DOUBLE_COLON;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_15(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(17);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_16(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                nextStates.set(18);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_17(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(19);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_18(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                if (validTypes.contains(VAR_ARGS)) type = VAR_ARGS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_19(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(20);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_20(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(21);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_21(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(_ASSERT)) type = _ASSERT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_22(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(23);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_23(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(24);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_24(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(25);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_25(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(27);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_26(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(640 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_27(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(29);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_28(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(768 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_29(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                if (validTypes.contains(BOOLEAN)) type = BOOLEAN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_30(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(31);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_31(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(32);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_32(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(33);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_33(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'k') {
+                if (validTypes.contains(BREAK)) type = BREAK;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_34(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(EQ)) type = EQ;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_35(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'y') {
+                nextStates.set(36);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_36(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(37);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_37(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(BYTE)) type = BYTE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_38(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(LE)) type = LE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_39(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(41);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_40(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(GE)) type = GE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_41(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(42);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_42(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(CASE)) type = CASE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_43(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(NE)) type = NE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_44(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(45);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_45(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(47);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_46(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '|') {
+                if (validTypes.contains(SC_OR)) type = SC_OR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_47(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(48);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_48(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                if (validTypes.contains(CATCH)) type = CATCH;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_49(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '&') {
+                if (validTypes.contains(SC_AND)) type = SC_AND;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_50(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(51);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_51(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(53);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_52(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '+') {
+                if (validTypes.contains(INCR)) type = INCR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_53(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                if (validTypes.contains(CHAR)) type = CHAR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_54(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '-') {
+                if (validTypes.contains(DECR)) type = DECR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_55(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(56);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_56(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(57);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_57(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(58);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_58(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                if (validTypes.contains(CLASS)) type = CLASS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_59(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(896 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_60(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(61);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_61(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(62);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_62(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(63);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_63(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(CONST)) type = CONST;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_64(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(1024 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))) {
+                nextStates.set(124);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_65(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(66);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_66(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(67);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_67(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(68);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_68(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(69);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_69(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(70);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_70(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(71);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_71(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(CONTINUE)) type = CONTINUE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_72(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '<') {
+                if (validTypes.contains(LSHIFT)) type = LSHIFT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_73(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(75);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_74(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(PLUSASSIGN)) type = PLUSASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_75(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'f') {
+                nextStates.set(76);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_76(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(77);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_77(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(79);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_78(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(MINUSASSIGN)) type = MINUSASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_79(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(80);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_80(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(_DEFAULT)) type = _DEFAULT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_81(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(STARASSIGN)) type = STARASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_82(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                if (validTypes.contains(DO)) type = DO;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_83(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(SLASHASSIGN)) type = SLASHASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_84(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(85);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_85(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(87);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_86(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(ANDASSIGN)) type = ANDASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_87(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'b') {
+                nextStates.set(88);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_88(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(89);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_89(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(DOUBLE)) type = DOUBLE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_90(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(ORASSIGN)) type = ORASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_91(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(93);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_92(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(XORASSIGN)) type = XORASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_93(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(94);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_94(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(ELSE)) type = ELSE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_95(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(REMASSIGN)) type = REMASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_96(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(97);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_97(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(99);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_98(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '<') {
+                nextStates.set(100);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_99(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'm') {
+                if (validTypes.contains(ENUM)) type = ENUM;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_100(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(LSHIFTASSIGN)) type = LSHIFTASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_101(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'x') {
+                nextStates.set(103);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_102(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                if (validTypes.contains(RSIGNEDSHIFT)) type = RSIGNEDSHIFT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_103(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(104);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_104(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(105);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_105(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(107);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_106(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                nextStates.set(108);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_107(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                nextStates.set(109);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_108(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                if (validTypes.contains(RUNSIGNEDSHIFT)) type = RUNSIGNEDSHIFT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_109(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                if (validTypes.contains(EXTENDS)) type = EXTENDS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_110(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                nextStates.set(111);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_111(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(RSIGNEDSHIFTASSIGN)) type = RSIGNEDSHIFTASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_112(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(113);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_113(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(114);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_114(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(115);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_115(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(FALSE)) type = FALSE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_116(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                nextStates.set(117);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_117(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                nextStates.set(118);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_118(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(RUNSIGNEDSHIFTASSIGN)) type = RUNSIGNEDSHIFTASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_119(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(120);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_120(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(121);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_121(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(123);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_122(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                if (validTypes.contains(LAMBDA)) type = LAMBDA;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_123(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                if (validTypes.contains(FINAL)) type = FINAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_124(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(1152 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))) {
+                nextStates.set(124);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_125(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(126);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_126(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(128);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_127(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(1280 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_128(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(129);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_129(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(130);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_130(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(132);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_131(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(1408 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            if (((ch >= 0x0 && ch <= 0x8) || ((ch >= 0xe && ch <= 0x1b) || ((ch == '$') || ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'Z') || ((ch == '_') || ((ch >= 'a' && ch <= 'z') || (ch >= 0x7f && ch <= 0x9f)))))))) || (ch >= 128 && checkIntervals(NFA_MOVES_JAVA_580, 
+            ch))) {
+                nextStates.set(131);
+                if (validTypes.contains(IDENTIFIER)) type = IDENTIFIER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_132(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'y') {
+                if (validTypes.contains(FINALLY)) type = FINALLY;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_133(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(1536 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_134(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(1664 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_135(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(136);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_136(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(137);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_137(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(138);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_138(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(FLOAT)) type = FLOAT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_139(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(140);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_140(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                if (validTypes.contains(FOR)) type = FOR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_141(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(142);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_142(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(143);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_143(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                if (validTypes.contains(GOTO)) type = GOTO;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_144(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'f') {
+                if (validTypes.contains(IF)) type = IF;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_145(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'm') {
+                nextStates.set(146);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_146(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'p') {
+                nextStates.set(147);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_147(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(148);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_148(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(149);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_149(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'm') {
+                nextStates.set(150);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_150(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(151);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_151(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(152);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_152(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(153);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_153(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                if (validTypes.contains(IMPLEMENTS)) type = IMPLEMENTS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_154(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'm') {
+                nextStates.set(155);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_155(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'p') {
+                nextStates.set(156);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_156(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(158);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_157(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '7') || (ch == '_')) {
+                nextStates.set(157);
+            }
+            if (ch >= '0' && ch <= '7') {
+                if (validTypes.contains(INTEGER_LITERAL)) type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_158(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(159);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_159(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(_IMPORT)) type = _IMPORT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_160(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(161);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_161(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(162);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_162(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(163);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_163(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(164);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_164(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(165);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_165(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(166);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_166(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(167);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_167(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(168);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_168(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'f') {
+                if (validTypes.contains(INSTANCEOF)) type = INSTANCEOF;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_169(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(170);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_170(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(INT)) type = INT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_171(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(172);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_172(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(173);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_173(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(174);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_174(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(175);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_175(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'f') {
+                nextStates.set(176);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_176(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(177);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_177(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(178);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_178(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(INTERFACE)) type = INTERFACE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_179(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(1792 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_180(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(180);
+            }
+            if (ch >= '0' && ch <= '9') {
+                if (validTypes.contains(INTEGER_LITERAL)) type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_181(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(181);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(1);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_182(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(183);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_183(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(184);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_184(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'g') {
+                if (validTypes.contains(LONG)) type = LONG;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_185(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(186);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_186(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(187);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_187(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(188);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_188(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'v') {
+                nextStates.set(189);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_189(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(NATIVE)) type = NATIVE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_190(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(1920 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_191(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(192);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_192(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'w') {
+                if (validTypes.contains(NEW)) type = NEW;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_193(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(194);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_194(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(195);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_195(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                if (validTypes.contains(NULL)) type = NULL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_196(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(197);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_197(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(198);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_198(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'k') {
+                nextStates.set(199);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_199(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(200);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_200(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'g') {
+                nextStates.set(201);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_201(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(PACKAGE)) type = PACKAGE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_202(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(203);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_203(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(204);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_204(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'v') {
+                nextStates.set(205);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_205(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(206);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_206(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(207);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_207(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(PRIVATE)) type = PRIVATE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_208(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '0' || ch == '1') || (ch == '_')) {
+                nextStates.set(208);
+            }
+            if (ch == '0' || ch == '1') {
+                if (validTypes.contains(INTEGER_LITERAL)) type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_209(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(210);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_210(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(211);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_211(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(212);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_212(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(213);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_213(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(214);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_214(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(215);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_215(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(216);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_216(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(PROTECTED)) type = PROTECTED;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_217(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(218);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_218(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'b') {
+                nextStates.set(219);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_219(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(220);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_220(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(221);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_221(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                if (validTypes.contains(PUBLIC)) type = PUBLIC;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_222(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(223);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_223(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(224);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_224(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(225);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_225(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(226);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_226(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                if (validTypes.contains(RETURN)) type = RETURN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_227(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(228);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_228(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(229);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_229(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(230);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_230(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(231);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_231(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(RECORD)) type = RECORD;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_232(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(233);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_233(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(234);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_234(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(235);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_235(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(SHORT)) type = SHORT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_236(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(237);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_237(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(238);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_238(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(239);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_239(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(240);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_240(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                if (validTypes.contains(STATIC)) type = STATIC;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_241(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(242);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_242(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(243);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_243(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(245);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_244(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(2048 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_245(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(247);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_246(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(2176 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_247(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(248);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_248(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'f') {
+                nextStates.set(249);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_249(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'p') {
+                if (validTypes.contains(STRICTFP)) type = STRICTFP;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_250(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(251);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_251(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'p') {
+                nextStates.set(252);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_252(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(253);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_253(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                if (validTypes.contains(SUPER)) type = SUPER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_254(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'w') {
+                nextStates.set(255);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_255(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(256);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_256(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(257);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_257(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(258);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_258(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                if (validTypes.contains(SWITCH)) type = SWITCH;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_259(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'y') {
+                nextStates.set(260);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_260(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(261);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_261(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(262);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_262(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(263);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_263(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(264);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_264(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(265);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_265(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(266);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_266(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(267);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_267(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'z') {
+                nextStates.set(268);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_268(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(269);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_269(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(SYNCHRONIZED)) type = SYNCHRONIZED;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_270(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '7') || (ch == '_')) {
+                nextStates.set(270);
+            }
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(387);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_271(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(272);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_272(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(273);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_273(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                if (validTypes.contains(THIS)) type = THIS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_274(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(275);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_275(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(276);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_276(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(277);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_277(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'w') {
+                if (validTypes.contains(THROW)) type = THROW;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_278(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(279);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_279(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(280);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_280(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(281);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_281(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'w') {
+                nextStates.set(282);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_282(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                if (validTypes.contains(THROWS)) type = THROWS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_283(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(284);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_284(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(285);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_285(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(286);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_286(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(287);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_287(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(288);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_288(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(289);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_289(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(290);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_290(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(TRANSIENT)) type = TRANSIENT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_291(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(291);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(387);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_292(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(293);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_293(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(294);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_294(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(TRUE)) type = TRUE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_295(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(296);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_296(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'y') {
+                if (validTypes.contains(TRY)) type = TRY;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_297(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(298);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_298(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                if (validTypes.contains(VAR)) type = VAR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_299(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(300);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_300(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(301);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_301(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(VOID)) type = VOID;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_302(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(303);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_303(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(304);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_304(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(305);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_305(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(306);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_306(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(307);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_307(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(308);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_308(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(VOLATILE)) type = VOLATILE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_309(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(310);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_310(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(311);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_311(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(312);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_312(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(WHILE)) type = WHILE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_313(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(2304 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_314(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(315);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_315(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(316);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_316(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(318);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_317(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '0' || ch == '1') || (ch == '_')) {
+                nextStates.set(317);
+            }
+            if (ch == '0' || ch == '1') {
+                nextStates.set(387);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_318(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(YIELD)) type = YIELD;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_319(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(2432 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '\t') || ((ch == 0xb || ch == '\f') || ((ch >= 0xe && ch <= '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))))) {
+                nextStates.set(319);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_320(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(321);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_321(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(322);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_322(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(323);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_323(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(324);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_324(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(SEALED)) type = SEALED;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_325(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(326);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_326(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(327);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_327(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '-') {
+                nextStates.set(329);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_328(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(2560 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_329(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(330);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_330(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(331);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_331(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(332);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_332(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(333);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_333(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(334);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_334(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(NON_SEALED)) type = NON_SEALED;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_335(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(336);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_336(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(337);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_337(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'm') {
+                nextStates.set(338);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_338(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(339);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_339(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(340);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_340(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                if (validTypes.contains(PERMITS)) type = PERMITS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_341(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(341);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(388);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_342(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(343);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_343(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(344);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_344(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '\'') {
+                if (validTypes.contains(CHARACTER_LITERAL)) type = CHARACTER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_345(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(345);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(354);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_346(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(2688 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_347(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(348);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_348(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(319);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_349(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '"') {
+                nextStates.set(350);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_350(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '"') {
+                nextStates.set(420);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_351(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '+') || (ch == '-')) {
+                nextStates.set(390);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(6);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_352(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(2816 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_353(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '\n') {
+                nextStates.set(124);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_354(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(2944 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_355(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(3072 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_356(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(356);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(355);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_357(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(358);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_358(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(124);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_359(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '\n') {
+                nextStates.set(124);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_360(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '"') {
+                nextStates.set(361);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_361(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '"') {
+                if (validTypes.contains(TEXT_BLOCK_LITERAL)) type = TEXT_BLOCK_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_362(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(362);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(370);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_363(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(3200 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_364(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'X') || (ch == 'x')) {
+                nextStates.set(365);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_365(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(134);
+                if (validTypes.contains(INTEGER_LITERAL)) type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_366(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(3328 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))) {
+                nextStates.set(124);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_367(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(3456 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_368(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(157);
+                if (validTypes.contains(INTEGER_LITERAL)) type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_369(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '+') || (ch == '-')) {
+                nextStates.set(396);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(179);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_370(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(3584 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_371(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(3712 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_372(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(372);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(371);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_373(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'B') || (ch == 'b')) {
+                nextStates.set(374);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_374(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '0' || ch == '1') {
+                nextStates.set(208);
+                if (validTypes.contains(INTEGER_LITERAL)) type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_375(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'X') || (ch == 'x')) {
+                nextStates.set(376);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_376(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(423);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_377(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '\n') {
+                nextStates.set(124);
+            } else if (ch == '\r') {
+                nextStates.set(124);
+                nextStates.set(359);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_378(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(378);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(397);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_379(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(2);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_380(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '+') || (ch == '-')) {
+                nextStates.set(400);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(313);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_381(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(3840 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))) {
+                nextStates.set(124);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_382(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(3968 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_383(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'B') || (ch == 'b')) {
+                nextStates.set(384);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_384(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '0' || ch == '1') {
+                nextStates.set(59);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_385(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(4096 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_386(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(386);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(385);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_387(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'L') || (ch == 'l')) {
+                if (validTypes.contains(LONG_LITERAL)) type = LONG_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_388(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                nextStates.set(190);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_389(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(389);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(392);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_390(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(6);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_391(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '+') || (ch == '-')) {
+                nextStates.set(406);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(363);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_392(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(4224 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_393(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(133);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_394(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(4352 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_395(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(394);
+            }
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(395);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_396(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(179);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_397(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'E') || (ch == 'e')) {
+                nextStates.set(380);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_398(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(4480 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_399(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(4608 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_400(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(313);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_401(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(4736 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '\t') || ((ch == 0xb || ch == '\f') || ((ch >= 0xe && ch <= '&') || ((ch >= '(' && ch <= '[') || (ch >= ']'))))) {
+                nextStates.set(344);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_402(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                nextStates.set(411);
+            } else if ((ch == 'P') || (ch == 'p')) {
+                nextStates.set(404);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_403(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(4864 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '\t') || ((ch == 0xb || ch == '\f') || ((ch >= 0xe && ch <= '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))))) {
+                nextStates.set(319);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_404(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '+') || (ch == '-')) {
+                nextStates.set(413);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(398);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_405(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(344);
+            } else if (ch == '\'') {
+                if (validTypes.contains(CHARACTER_LITERAL)) type = CHARACTER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_406(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(363);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_407(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(407);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(415);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_408(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'X') || (ch == 'x')) {
+                nextStates.set(410);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_409(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(4992 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_410(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(382);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_411(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'P') || (ch == 'p')) {
+                nextStates.set(404);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_412(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(5120 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_413(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(398);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_414(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(5248 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_415(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(5376 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_416(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'X') || (ch == 'x')) {
+                nextStates.set(412);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_417(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(5504 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_418(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(5632 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_419(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(5760 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_420(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(5888 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_421(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                nextStates.set(422);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_422(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(417);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_423(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(6016 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_424(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '+') || (ch == '-')) {
+                nextStates.set(426);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(4);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_425(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'P') || (ch == 'p')) {
+                nextStates.set(424);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_426(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(4);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private final int[] NFA_MOVES_JAVA_579 = NFA_MOVES_JAVA_579_init();
+
+        static private int[] NFA_MOVES_JAVA_579_init() {
+            return new int[] {'$', '$', 'A', 'Z', '_', '_', 'a', 'z', 0xa2, 0xa5, 0xaa, 0xaa, 
+            0xb5, 0xb5, 0xba, 0xba, 0xc0, 0xd6, 0xd8, 0xf6, 0xf8, 0x2c1, 0x2c6, 0x2d1, 0x2e0, 
+            0x2e4, 0x2ec, 0x2ec, 0x2ee, 0x2ee, 0x370, 0x374, 0x376, 0x377, 0x37a, 0x37d, 0x37f, 
+            0x37f, 0x386, 0x386, 0x388, 0x38a, 0x38c, 0x38c, 0x38e, 0x3a1, 0x3a3, 0x3f5, 0x3f7, 
+            0x481, 0x48a, 0x52f, 0x531, 0x556, 0x559, 0x559, 0x560, 0x588, 0x58f, 0x58f, 0x5d0, 
+            0x5ea, 0x5ef, 0x5f2, 0x60b, 0x60b, 0x620, 0x64a, 0x66e, 0x66f, 0x671, 0x6d3, 0x6d5, 
+            0x6d5, 0x6e5, 0x6e6, 0x6ee, 0x6ef, 0x6fa, 0x6fc, 0x6ff, 0x6ff, 0x710, 0x710, 0x712, 
+            0x72f, 0x74d, 0x7a5, 0x7b1, 0x7b1, 0x7ca, 0x7ea, 0x7f4, 0x7f5, 0x7fa, 0x7fa, 0x7fe, 
+            0x815, 0x81a, 0x81a, 0x824, 0x824, 0x828, 0x828, 0x840, 0x858, 0x860, 0x86a, 0x870, 
+            0x887, 0x889, 0x88e, 0x8a0, 0x8c9, 0x904, 0x939, 0x93d, 0x93d, 0x950, 0x950, 0x958, 
+            0x961, 0x971, 0x980, 0x985, 0x98c, 0x98f, 0x990, 0x993, 0x9a8, 0x9aa, 0x9b0, 0x9b2, 
+            0x9b2, 0x9b6, 0x9b9, 0x9bd, 0x9bd, 0x9ce, 0x9ce, 0x9dc, 0x9dd, 0x9df, 0x9e1, 0x9f0, 
+            0x9f3, 0x9fb, 0x9fc, 0xa05, 0xa0a, 0xa0f, 0xa10, 0xa13, 0xa28, 0xa2a, 0xa30, 0xa32, 
+            0xa33, 0xa35, 0xa36, 0xa38, 0xa39, 0xa59, 0xa5c, 0xa5e, 0xa5e, 0xa72, 0xa74, 0xa85, 
+            0xa8d, 0xa8f, 0xa91, 0xa93, 0xaa8, 0xaaa, 0xab0, 0xab2, 0xab3, 0xab5, 0xab9, 0xabd, 
+            0xabd, 0xad0, 0xad0, 0xae0, 0xae1, 0xaf1, 0xaf1, 0xaf9, 0xaf9, 0xb05, 0xb0c, 0xb0f, 
+            0xb10, 0xb13, 0xb28, 0xb2a, 0xb30, 0xb32, 0xb33, 0xb35, 0xb39, 0xb3d, 0xb3d, 0xb5c, 
+            0xb5d, 0xb5f, 0xb61, 0xb71, 0xb71, 0xb83, 0xb83, 0xb85, 0xb8a, 0xb8e, 0xb90, 0xb92, 
+            0xb95, 0xb99, 0xb9a, 0xb9c, 0xb9c, 0xb9e, 0xb9f, 0xba3, 0xba4, 0xba8, 0xbaa, 0xbae, 
+            0xbb9, 0xbd0, 0xbd0, 0xbf9, 0xbf9, 0xc05, 0xc0c, 0xc0e, 0xc10, 0xc12, 0xc28, 0xc2a, 
+            0xc39, 0xc3d, 0xc3d, 0xc58, 0xc5a, 0xc5d, 0xc5d, 0xc60, 0xc61, 0xc80, 0xc80, 0xc85, 
+            0xc8c, 0xc8e, 0xc90, 0xc92, 0xca8, 0xcaa, 0xcb3, 0xcb5, 0xcb9, 0xcbd, 0xcbd, 0xcdd, 
+            0xcde, 0xce0, 0xce1, 0xcf1, 0xcf2, 0xd04, 0xd0c, 0xd0e, 0xd10, 0xd12, 0xd3a, 0xd3d, 
+            0xd3d, 0xd4e, 0xd4e, 0xd54, 0xd56, 0xd5f, 0xd61, 0xd7a, 0xd7f, 0xd85, 0xd96, 0xd9a, 
+            0xdb1, 0xdb3, 0xdbb, 0xdbd, 0xdbd, 0xdc0, 0xdc6, 0xe01, 0xe30, 0xe32, 0xe33, 0xe3f, 
+            0xe46, 0xe81, 0xe82, 0xe84, 0xe84, 0xe86, 0xe8a, 0xe8c, 0xea3, 0xea5, 0xea5, 0xea7, 
+            0xeb0, 0xeb2, 0xeb3, 0xebd, 0xebd, 0xec0, 0xec4, 0xec6, 0xec6, 0xedc, 0xedf, 0xf00, 
+            0xf00, 0xf40, 0xf47, 0xf49, 0xf6c, 0xf88, 0xf8c, 0x1000, 0x102a, 0x103f, 0x103f, 
+            0x1050, 0x1055, 0x105a, 0x105d, 0x1061, 0x1061, 0x1065, 0x1066, 0x106e, 0x1070, 
+            0x1075, 0x1081, 0x108e, 0x108e, 0x10a0, 0x10c5, 0x10c7, 0x10c7, 0x10cd, 0x10cd, 
+            0x10d0, 0x10fa, 0x10fc, 0x1248, 0x124a, 0x124d, 0x1250, 0x1256, 0x1258, 0x1258, 
+            0x125a, 0x125d, 0x1260, 0x1288, 0x128a, 0x128d, 0x1290, 0x12b0, 0x12b2, 0x12b5, 
+            0x12b8, 0x12be, 0x12c0, 0x12c0, 0x12c2, 0x12c5, 0x12c8, 0x12d6, 0x12d8, 0x1310, 
+            0x1312, 0x1315, 0x1318, 0x135a, 0x1380, 0x138f, 0x13a0, 0x13f5, 0x13f8, 0x13fd, 
+            0x1401, 0x166c, 0x166f, 0x167f, 0x1681, 0x169a, 0x16a0, 0x16ea, 0x16ee, 0x16f8, 
+            0x1700, 0x1711, 0x171f, 0x1731, 0x1740, 0x1751, 0x1760, 0x176c, 0x176e, 0x1770, 
+            0x1780, 0x17b3, 0x17d7, 0x17d7, 0x17db, 0x17dc, 0x1820, 0x1878, 0x1880, 0x1884, 
+            0x1887, 0x18a8, 0x18aa, 0x18aa, 0x18b0, 0x18f5, 0x1900, 0x191e, 0x1950, 0x196d, 
+            0x1970, 0x1974, 0x1980, 0x19ab, 0x19b0, 0x19c9, 0x1a00, 0x1a16, 0x1a20, 0x1a54, 
+            0x1aa7, 0x1aa7, 0x1b05, 0x1b33, 0x1b45, 0x1b4c, 0x1b83, 0x1ba0, 0x1bae, 0x1baf, 
+            0x1bba, 0x1be5, 0x1c00, 0x1c23, 0x1c4d, 0x1c4f, 0x1c5a, 0x1c7d, 0x1c80, 0x1c88, 
+            0x1c90, 0x1cba, 0x1cbd, 0x1cbf, 0x1ce9, 0x1cec, 0x1cee, 0x1cf3, 0x1cf5, 0x1cf6, 
+            0x1cfa, 0x1cfa, 0x1d00, 0x1dbf, 0x1e00, 0x1f15, 0x1f18, 0x1f1d, 0x1f20, 0x1f45, 
+            0x1f48, 0x1f4d, 0x1f50, 0x1f57, 0x1f59, 0x1f59, 0x1f5b, 0x1f5b, 0x1f5d, 0x1f5d, 
+            0x1f5f, 0x1f7d, 0x1f80, 0x1fb4, 0x1fb6, 0x1fbc, 0x1fbe, 0x1fbe, 0x1fc2, 0x1fc4, 
+            0x1fc6, 0x1fcc, 0x1fd0, 0x1fd3, 0x1fd6, 0x1fdb, 0x1fe0, 0x1fec, 0x1ff2, 0x1ff4, 
+            0x1ff6, 0x1ffc, 0x203f, 0x2040, 0x2054, 0x2054, 0x2071, 0x2071, 0x207f, 0x207f, 
+            0x2090, 0x209c, 0x20a0, 0x20c0, 0x2102, 0x2102, 0x2107, 0x2107, 0x210a, 0x2113, 
+            0x2115, 0x2115, 0x2119, 0x211d, 0x2124, 0x2124, 0x2126, 0x2126, 0x2128, 0x2128, 
+            0x212a, 0x212d, 0x212f, 0x2139, 0x213c, 0x213f, 0x2145, 0x2149, 0x214e, 0x214e, 
+            0x2160, 0x2188, 0x2c00, 0x2ce4, 0x2ceb, 0x2cee, 0x2cf2, 0x2cf3, 0x2d00, 0x2d25, 
+            0x2d27, 0x2d27, 0x2d2d, 0x2d2d, 0x2d30, 0x2d67, 0x2d6f, 0x2d6f, 0x2d80, 0x2d96, 
+            0x2da0, 0x2da6, 0x2da8, 0x2dae, 0x2db0, 0x2db6, 0x2db8, 0x2dbe, 0x2dc0, 0x2dc6, 
+            0x2dc8, 0x2dce, 0x2dd0, 0x2dd6, 0x2dd8, 0x2dde, 0x2e2f, 0x2e2f, 0x3005, 0x3007, 
+            0x3021, 0x3029, 0x3031, 0x3035, 0x3038, 0x303c, 0x3041, 0x3096, 0x309d, 0x309f, 
+            0x30a1, 0x30fa, 0x30fc, 0x30ff, 0x3105, 0x312f, 0x3131, 0x318e, 0x31a0, 0x31bf, 
+            0x31f0, 0x31ff, 0x3400, 0x4dbf, 0x4e00, 0xa48c, 0xa4d0, 0xa4fd, 0xa500, 0xa60c, 
+            0xa610, 0xa61f, 0xa62a, 0xa62b, 0xa640, 0xa66e, 0xa67f, 0xa69d, 0xa6a0, 0xa6ef, 
+            0xa717, 0xa71f, 0xa722, 0xa788, 0xa78b, 0xa7ca, 0xa7d0, 0xa7d1, 0xa7d3, 0xa7d3, 
+            0xa7d5, 0xa7d9, 0xa7f2, 0xa801, 0xa803, 0xa805, 0xa807, 0xa80a, 0xa80c, 0xa822, 
+            0xa838, 0xa838, 0xa840, 0xa873, 0xa882, 0xa8b3, 0xa8f2, 0xa8f7, 0xa8fb, 0xa8fb, 
+            0xa8fd, 0xa8fe, 0xa90a, 0xa925, 0xa930, 0xa946, 0xa960, 0xa97c, 0xa984, 0xa9b2, 
+            0xa9cf, 0xa9cf, 0xa9e0, 0xa9e4, 0xa9e6, 0xa9ef, 0xa9fa, 0xa9fe, 0xaa00, 0xaa28, 
+            0xaa40, 0xaa42, 0xaa44, 0xaa4b, 0xaa60, 0xaa76, 0xaa7a, 0xaa7a, 0xaa7e, 0xaaaf, 
+            0xaab1, 0xaab1, 0xaab5, 0xaab6, 0xaab9, 0xaabd, 0xaac0, 0xaac0, 0xaac2, 0xaac2, 
+            0xaadb, 0xaadd, 0xaae0, 0xaaea, 0xaaf2, 0xaaf4, 0xab01, 0xab06, 0xab09, 0xab0e, 
+            0xab11, 0xab16, 0xab20, 0xab26, 0xab28, 0xab2e, 0xab30, 0xab5a, 0xab5c, 0xab69, 
+            0xab70, 0xabe2, 0xac00, 0xd7a3, 0xd7b0, 0xd7c6, 0xd7cb, 0xd7fb, 0xf900, 0xfa6d, 
+            0xfa70, 0xfad9, 0xfb00, 0xfb06, 0xfb13, 0xfb17, 0xfb1d, 0xfb1d, 0xfb1f, 0xfb28, 
+            0xfb2a, 0xfb36, 0xfb38, 0xfb3c, 0xfb3e, 0xfb3e, 0xfb40, 0xfb41, 0xfb43, 0xfb44, 
+            0xfb46, 0xfbb1, 0xfbd3, 0xfd3d, 0xfd50, 0xfd8f, 0xfd92, 0xfdc7, 0xfdf0, 0xfdfc, 
+            0xfe33, 0xfe34, 0xfe4d, 0xfe4f, 0xfe69, 0xfe69, 0xfe70, 0xfe74, 0xfe76, 0xfefc, 
+            0xff04, 0xff04, 0xff21, 0xff3a, 0xff3f, 0xff3f, 0xff41, 0xff5a, 0xff66, 0xffbe, 
+            0xffc2, 0xffc7, 0xffca, 0xffcf, 0xffd2, 0xffd7, 0xffda, 0xffdc, 0xffe0, 0xffe1, 
+            0xffe5, 0xffe6, 0x10000, 0x1000b, 0x1000d, 0x10026, 0x10028, 0x1003a, 0x1003c, 
+            0x1003d, 0x1003f, 0x1004d, 0x10050, 0x1005d, 0x10080, 0x100fa, 0x10140, 0x10174, 
+            0x10280, 0x1029c, 0x102a0, 0x102d0, 0x10300, 0x1031f, 0x1032d, 0x1034a, 0x10350, 
+            0x10375, 0x10380, 0x1039d, 0x103a0, 0x103c3, 0x103c8, 0x103cf, 0x103d1, 0x103d5, 
+            0x10400, 0x1049d, 0x104b0, 0x104d3, 0x104d8, 0x104fb, 0x10500, 0x10527, 0x10530, 
+            0x10563, 0x10570, 0x1057a, 0x1057c, 0x1058a, 0x1058c, 0x10592, 0x10594, 0x10595, 
+            0x10597, 0x105a1, 0x105a3, 0x105b1, 0x105b3, 0x105b9, 0x105bb, 0x105bc, 0x10600, 
+            0x10736, 0x10740, 0x10755, 0x10760, 0x10767, 0x10780, 0x10785, 0x10787, 0x107b0, 
+            0x107b2, 0x107ba, 0x10800, 0x10805, 0x10808, 0x10808, 0x1080a, 0x10835, 0x10837, 
+            0x10838, 0x1083c, 0x1083c, 0x1083f, 0x10855, 0x10860, 0x10876, 0x10880, 0x1089e, 
+            0x108e0, 0x108f2, 0x108f4, 0x108f5, 0x10900, 0x10915, 0x10920, 0x10939, 0x10980, 
+            0x109b7, 0x109be, 0x109bf, 0x10a00, 0x10a00, 0x10a10, 0x10a13, 0x10a15, 0x10a17, 
+            0x10a19, 0x10a35, 0x10a60, 0x10a7c, 0x10a80, 0x10a9c, 0x10ac0, 0x10ac7, 0x10ac9, 
+            0x10ae4, 0x10b00, 0x10b35, 0x10b40, 0x10b55, 0x10b60, 0x10b72, 0x10b80, 0x10b91, 
+            0x10c00, 0x10c48, 0x10c80, 0x10cb2, 0x10cc0, 0x10cf2, 0x10d00, 0x10d23, 0x10e80, 
+            0x10ea9, 0x10eb0, 0x10eb1, 0x10f00, 0x10f1c, 0x10f27, 0x10f27, 0x10f30, 0x10f45, 
+            0x10f70, 0x10f81, 0x10fb0, 0x10fc4, 0x10fe0, 0x10ff6, 0x11003, 0x11037, 0x11071, 
+            0x11072, 0x11075, 0x11075, 0x11083, 0x110af, 0x110d0, 0x110e8, 0x11103, 0x11126, 
+            0x11144, 0x11144, 0x11147, 0x11147, 0x11150, 0x11172, 0x11176, 0x11176, 0x11183, 
+            0x111b2, 0x111c1, 0x111c4, 0x111da, 0x111da, 0x111dc, 0x111dc, 0x11200, 0x11211, 
+            0x11213, 0x1122b, 0x11280, 0x11286, 0x11288, 0x11288, 0x1128a, 0x1128d, 0x1128f, 
+            0x1129d, 0x1129f, 0x112a8, 0x112b0, 0x112de, 0x11305, 0x1130c, 0x1130f, 0x11310, 
+            0x11313, 0x11328, 0x1132a, 0x11330, 0x11332, 0x11333, 0x11335, 0x11339, 0x1133d, 
+            0x1133d, 0x11350, 0x11350, 0x1135d, 0x11361, 0x11400, 0x11434, 0x11447, 0x1144a, 
+            0x1145f, 0x11461, 0x11480, 0x114af, 0x114c4, 0x114c5, 0x114c7, 0x114c7, 0x11580, 
+            0x115ae, 0x115d8, 0x115db, 0x11600, 0x1162f, 0x11644, 0x11644, 0x11680, 0x116aa, 
+            0x116b8, 0x116b8, 0x11700, 0x1171a, 0x11740, 0x11746, 0x11800, 0x1182b, 0x118a0, 
+            0x118df, 0x118ff, 0x11906, 0x11909, 0x11909, 0x1190c, 0x11913, 0x11915, 0x11916, 
+            0x11918, 0x1192f, 0x1193f, 0x1193f, 0x11941, 0x11941, 0x119a0, 0x119a7, 0x119aa, 
+            0x119d0, 0x119e1, 0x119e1, 0x119e3, 0x119e3, 0x11a00, 0x11a00, 0x11a0b, 0x11a32, 
+            0x11a3a, 0x11a3a, 0x11a50, 0x11a50, 0x11a5c, 0x11a89, 0x11a9d, 0x11a9d, 0x11ab0, 
+            0x11af8, 0x11c00, 0x11c08, 0x11c0a, 0x11c2e, 0x11c40, 0x11c40, 0x11c72, 0x11c8f, 
+            0x11d00, 0x11d06, 0x11d08, 0x11d09, 0x11d0b, 0x11d30, 0x11d46, 0x11d46, 0x11d60, 
+            0x11d65, 0x11d67, 0x11d68, 0x11d6a, 0x11d89, 0x11d98, 0x11d98, 0x11ee0, 0x11ef2, 
+            0x11fb0, 0x11fb0, 0x11fdd, 0x11fe0, 0x12000, 0x12399, 0x12400, 0x1246e, 0x12480, 
+            0x12543, 0x12f90, 0x12ff0, 0x13000, 0x1342e, 0x14400, 0x14646, 0x16800, 0x16a38, 
+            0x16a40, 0x16a5e, 0x16a70, 0x16abe, 0x16ad0, 0x16aed, 0x16b00, 0x16b2f, 0x16b40, 
+            0x16b43, 0x16b63, 0x16b77, 0x16b7d, 0x16b8f, 0x16e40, 0x16e7f, 0x16f00, 0x16f4a, 
+            0x16f50, 0x16f50, 0x16f93, 0x16f9f, 0x16fe0, 0x16fe1, 0x16fe3, 0x16fe3, 0x17000, 
+            0x187f7, 0x18800, 0x18cd5, 0x18d00, 0x18d08, 0x1aff0, 0x1aff3, 0x1aff5, 0x1affb, 
+            0x1affd, 0x1affe, 0x1b000, 0x1b122, 0x1b150, 0x1b152, 0x1b164, 0x1b167, 0x1b170, 
+            0x1b2fb, 0x1bc00, 0x1bc6a, 0x1bc70, 0x1bc7c, 0x1bc80, 0x1bc88, 0x1bc90, 0x1bc99, 
+            0x1d400, 0x1d454, 0x1d456, 0x1d49c, 0x1d49e, 0x1d49f, 0x1d4a2, 0x1d4a2, 0x1d4a5, 
+            0x1d4a6, 0x1d4a9, 0x1d4ac, 0x1d4ae, 0x1d4b9, 0x1d4bb, 0x1d4bb, 0x1d4bd, 0x1d4c3, 
+            0x1d4c5, 0x1d505, 0x1d507, 0x1d50a, 0x1d50d, 0x1d514, 0x1d516, 0x1d51c, 0x1d51e, 
+            0x1d539, 0x1d53b, 0x1d53e, 0x1d540, 0x1d544, 0x1d546, 0x1d546, 0x1d54a, 0x1d550, 
+            0x1d552, 0x1d6a5, 0x1d6a8, 0x1d6c0, 0x1d6c2, 0x1d6da, 0x1d6dc, 0x1d6fa, 0x1d6fc, 
+            0x1d714, 0x1d716, 0x1d734, 0x1d736, 0x1d74e, 0x1d750, 0x1d76e, 0x1d770, 0x1d788, 
+            0x1d78a, 0x1d7a8, 0x1d7aa, 0x1d7c2, 0x1d7c4, 0x1d7cb, 0x1df00, 0x1df1e, 0x1e100, 
+            0x1e12c, 0x1e137, 0x1e13d, 0x1e14e, 0x1e14e, 0x1e290, 0x1e2ad, 0x1e2c0, 0x1e2eb, 
+            0x1e2ff, 0x1e2ff, 0x1e7e0, 0x1e7e6, 0x1e7e8, 0x1e7eb, 0x1e7ed, 0x1e7ee, 0x1e7f0, 
+            0x1e7fe, 0x1e800, 0x1e8c4, 0x1e900, 0x1e943, 0x1e94b, 0x1e94b, 0x1ecb0, 0x1ecb0, 
+            0x1ee00, 0x1ee03, 0x1ee05, 0x1ee1f, 0x1ee21, 0x1ee22, 0x1ee24, 0x1ee24, 0x1ee27, 
+            0x1ee27, 0x1ee29, 0x1ee32, 0x1ee34, 0x1ee37, 0x1ee39, 0x1ee39, 0x1ee3b, 0x1ee3b, 
+            0x1ee42, 0x1ee42, 0x1ee47, 0x1ee47, 0x1ee49, 0x1ee49, 0x1ee4b, 0x1ee4b, 0x1ee4d, 
+            0x1ee4f, 0x1ee51, 0x1ee52, 0x1ee54, 0x1ee54, 0x1ee57, 0x1ee57, 0x1ee59, 0x1ee59, 
+            0x1ee5b, 0x1ee5b, 0x1ee5d, 0x1ee5d, 0x1ee5f, 0x1ee5f, 0x1ee61, 0x1ee62, 0x1ee64, 
+            0x1ee64, 0x1ee67, 0x1ee6a, 0x1ee6c, 0x1ee72, 0x1ee74, 0x1ee77, 0x1ee79, 0x1ee7c, 
+            0x1ee7e, 0x1ee7e, 0x1ee80, 0x1ee89, 0x1ee8b, 0x1ee9b, 0x1eea1, 0x1eea3, 0x1eea5, 
+            0x1eea9, 0x1eeab, 0x1eebb, 0x20000, 0x2a6df, 0x2a700, 0x2b738, 0x2b740, 0x2b81d, 
+            0x2b820, 0x2cea1, 0x2ceb0, 0x2ebe0, 0x2f800, 0x2fa1d, 0x30000, 0x3134a};
+        }
+
+        static private final int[] NFA_MOVES_JAVA_580 = NFA_MOVES_JAVA_580_init();
+
+        static private int[] NFA_MOVES_JAVA_580_init() {
+            return new int[] {0x0, 0x8, 0xe, 0x1b, '$', '$', '0', '9', 'A', 'Z', '_', '_', 
+            'a', 'z', 0x7f, 0x9f, 0xa2, 0xa5, 0xaa, 0xaa, 0xad, 0xad, 0xb5, 0xb5, 0xba, 0xba, 
+            0xc0, 0xd6, 0xd8, 0xf6, 0xf8, 0x2c1, 0x2c6, 0x2d1, 0x2e0, 0x2e4, 0x2ec, 0x2ec, 
+            0x2ee, 0x2ee, 0x300, 0x374, 0x376, 0x377, 0x37a, 0x37d, 0x37f, 0x37f, 0x386, 0x386, 
+            0x388, 0x38a, 0x38c, 0x38c, 0x38e, 0x3a1, 0x3a3, 0x3f5, 0x3f7, 0x481, 0x483, 0x487, 
+            0x48a, 0x52f, 0x531, 0x556, 0x559, 0x559, 0x560, 0x588, 0x58f, 0x58f, 0x591, 0x5bd, 
+            0x5bf, 0x5bf, 0x5c1, 0x5c2, 0x5c4, 0x5c5, 0x5c7, 0x5c7, 0x5d0, 0x5ea, 0x5ef, 0x5f2, 
+            0x600, 0x605, 0x60b, 0x60b, 0x610, 0x61a, 0x61c, 0x61c, 0x620, 0x669, 0x66e, 0x6d3, 
+            0x6d5, 0x6dd, 0x6df, 0x6e8, 0x6ea, 0x6fc, 0x6ff, 0x6ff, 0x70f, 0x74a, 0x74d, 0x7b1, 
+            0x7c0, 0x7f5, 0x7fa, 0x7fa, 0x7fd, 0x82d, 0x840, 0x85b, 0x860, 0x86a, 0x870, 0x887, 
+            0x889, 0x88e, 0x890, 0x891, 0x898, 0x963, 0x966, 0x96f, 0x971, 0x983, 0x985, 0x98c, 
+            0x98f, 0x990, 0x993, 0x9a8, 0x9aa, 0x9b0, 0x9b2, 0x9b2, 0x9b6, 0x9b9, 0x9bc, 0x9c4, 
+            0x9c7, 0x9c8, 0x9cb, 0x9ce, 0x9d7, 0x9d7, 0x9dc, 0x9dd, 0x9df, 0x9e3, 0x9e6, 0x9f3, 
+            0x9fb, 0x9fc, 0x9fe, 0x9fe, 0xa01, 0xa03, 0xa05, 0xa0a, 0xa0f, 0xa10, 0xa13, 0xa28, 
+            0xa2a, 0xa30, 0xa32, 0xa33, 0xa35, 0xa36, 0xa38, 0xa39, 0xa3c, 0xa3c, 0xa3e, 0xa42, 
+            0xa47, 0xa48, 0xa4b, 0xa4d, 0xa51, 0xa51, 0xa59, 0xa5c, 0xa5e, 0xa5e, 0xa66, 0xa75, 
+            0xa81, 0xa83, 0xa85, 0xa8d, 0xa8f, 0xa91, 0xa93, 0xaa8, 0xaaa, 0xab0, 0xab2, 0xab3, 
+            0xab5, 0xab9, 0xabc, 0xac5, 0xac7, 0xac9, 0xacb, 0xacd, 0xad0, 0xad0, 0xae0, 0xae3, 
+            0xae6, 0xaef, 0xaf1, 0xaf1, 0xaf9, 0xaff, 0xb01, 0xb03, 0xb05, 0xb0c, 0xb0f, 0xb10, 
+            0xb13, 0xb28, 0xb2a, 0xb30, 0xb32, 0xb33, 0xb35, 0xb39, 0xb3c, 0xb44, 0xb47, 0xb48, 
+            0xb4b, 0xb4d, 0xb55, 0xb57, 0xb5c, 0xb5d, 0xb5f, 0xb63, 0xb66, 0xb6f, 0xb71, 0xb71, 
+            0xb82, 0xb83, 0xb85, 0xb8a, 0xb8e, 0xb90, 0xb92, 0xb95, 0xb99, 0xb9a, 0xb9c, 0xb9c, 
+            0xb9e, 0xb9f, 0xba3, 0xba4, 0xba8, 0xbaa, 0xbae, 0xbb9, 0xbbe, 0xbc2, 0xbc6, 0xbc8, 
+            0xbca, 0xbcd, 0xbd0, 0xbd0, 0xbd7, 0xbd7, 0xbe6, 0xbef, 0xbf9, 0xbf9, 0xc00, 0xc0c, 
+            0xc0e, 0xc10, 0xc12, 0xc28, 0xc2a, 0xc39, 0xc3c, 0xc44, 0xc46, 0xc48, 0xc4a, 0xc4d, 
+            0xc55, 0xc56, 0xc58, 0xc5a, 0xc5d, 0xc5d, 0xc60, 0xc63, 0xc66, 0xc6f, 0xc80, 0xc83, 
+            0xc85, 0xc8c, 0xc8e, 0xc90, 0xc92, 0xca8, 0xcaa, 0xcb3, 0xcb5, 0xcb9, 0xcbc, 0xcc4, 
+            0xcc6, 0xcc8, 0xcca, 0xccd, 0xcd5, 0xcd6, 0xcdd, 0xcde, 0xce0, 0xce3, 0xce6, 0xcef, 
+            0xcf1, 0xcf2, 0xd00, 0xd0c, 0xd0e, 0xd10, 0xd12, 0xd44, 0xd46, 0xd48, 0xd4a, 0xd4e, 
+            0xd54, 0xd57, 0xd5f, 0xd63, 0xd66, 0xd6f, 0xd7a, 0xd7f, 0xd81, 0xd83, 0xd85, 0xd96, 
+            0xd9a, 0xdb1, 0xdb3, 0xdbb, 0xdbd, 0xdbd, 0xdc0, 0xdc6, 0xdca, 0xdca, 0xdcf, 0xdd4, 
+            0xdd6, 0xdd6, 0xdd8, 0xddf, 0xde6, 0xdef, 0xdf2, 0xdf3, 0xe01, 0xe3a, 0xe3f, 0xe4e, 
+            0xe50, 0xe59, 0xe81, 0xe82, 0xe84, 0xe84, 0xe86, 0xe8a, 0xe8c, 0xea3, 0xea5, 0xea5, 
+            0xea7, 0xebd, 0xec0, 0xec4, 0xec6, 0xec6, 0xec8, 0xecd, 0xed0, 0xed9, 0xedc, 0xedf, 
+            0xf00, 0xf00, 0xf18, 0xf19, 0xf20, 0xf29, 0xf35, 0xf35, 0xf37, 0xf37, 0xf39, 0xf39, 
+            0xf3e, 0xf47, 0xf49, 0xf6c, 0xf71, 0xf84, 0xf86, 0xf97, 0xf99, 0xfbc, 0xfc6, 0xfc6, 
+            0x1000, 0x1049, 0x1050, 0x109d, 0x10a0, 0x10c5, 0x10c7, 0x10c7, 0x10cd, 0x10cd, 
+            0x10d0, 0x10fa, 0x10fc, 0x1248, 0x124a, 0x124d, 0x1250, 0x1256, 0x1258, 0x1258, 
+            0x125a, 0x125d, 0x1260, 0x1288, 0x128a, 0x128d, 0x1290, 0x12b0, 0x12b2, 0x12b5, 
+            0x12b8, 0x12be, 0x12c0, 0x12c0, 0x12c2, 0x12c5, 0x12c8, 0x12d6, 0x12d8, 0x1310, 
+            0x1312, 0x1315, 0x1318, 0x135a, 0x135d, 0x135f, 0x1380, 0x138f, 0x13a0, 0x13f5, 
+            0x13f8, 0x13fd, 0x1401, 0x166c, 0x166f, 0x167f, 0x1681, 0x169a, 0x16a0, 0x16ea, 
+            0x16ee, 0x16f8, 0x1700, 0x1715, 0x171f, 0x1734, 0x1740, 0x1753, 0x1760, 0x176c, 
+            0x176e, 0x1770, 0x1772, 0x1773, 0x1780, 0x17d3, 0x17d7, 0x17d7, 0x17db, 0x17dd, 
+            0x17e0, 0x17e9, 0x180b, 0x1819, 0x1820, 0x1878, 0x1880, 0x18aa, 0x18b0, 0x18f5, 
+            0x1900, 0x191e, 0x1920, 0x192b, 0x1930, 0x193b, 0x1946, 0x196d, 0x1970, 0x1974, 
+            0x1980, 0x19ab, 0x19b0, 0x19c9, 0x19d0, 0x19d9, 0x1a00, 0x1a1b, 0x1a20, 0x1a5e, 
+            0x1a60, 0x1a7c, 0x1a7f, 0x1a89, 0x1a90, 0x1a99, 0x1aa7, 0x1aa7, 0x1ab0, 0x1abd, 
+            0x1abf, 0x1ace, 0x1b00, 0x1b4c, 0x1b50, 0x1b59, 0x1b6b, 0x1b73, 0x1b80, 0x1bf3, 
+            0x1c00, 0x1c37, 0x1c40, 0x1c49, 0x1c4d, 0x1c7d, 0x1c80, 0x1c88, 0x1c90, 0x1cba, 
+            0x1cbd, 0x1cbf, 0x1cd0, 0x1cd2, 0x1cd4, 0x1cfa, 0x1d00, 0x1f15, 0x1f18, 0x1f1d, 
+            0x1f20, 0x1f45, 0x1f48, 0x1f4d, 0x1f50, 0x1f57, 0x1f59, 0x1f59, 0x1f5b, 0x1f5b, 
+            0x1f5d, 0x1f5d, 0x1f5f, 0x1f7d, 0x1f80, 0x1fb4, 0x1fb6, 0x1fbc, 0x1fbe, 0x1fbe, 
+            0x1fc2, 0x1fc4, 0x1fc6, 0x1fcc, 0x1fd0, 0x1fd3, 0x1fd6, 0x1fdb, 0x1fe0, 0x1fec, 
+            0x1ff2, 0x1ff4, 0x1ff6, 0x1ffc, 0x200b, 0x200f, 0x202a, 0x202e, 0x203f, 0x2040, 
+            0x2054, 0x2054, 0x2060, 0x2064, 0x2066, 0x206f, 0x2071, 0x2071, 0x207f, 0x207f, 
+            0x2090, 0x209c, 0x20a0, 0x20c0, 0x20d0, 0x20dc, 0x20e1, 0x20e1, 0x20e5, 0x20f0, 
+            0x2102, 0x2102, 0x2107, 0x2107, 0x210a, 0x2113, 0x2115, 0x2115, 0x2119, 0x211d, 
+            0x2124, 0x2124, 0x2126, 0x2126, 0x2128, 0x2128, 0x212a, 0x212d, 0x212f, 0x2139, 
+            0x213c, 0x213f, 0x2145, 0x2149, 0x214e, 0x214e, 0x2160, 0x2188, 0x2c00, 0x2ce4, 
+            0x2ceb, 0x2cf3, 0x2d00, 0x2d25, 0x2d27, 0x2d27, 0x2d2d, 0x2d2d, 0x2d30, 0x2d67, 
+            0x2d6f, 0x2d6f, 0x2d7f, 0x2d96, 0x2da0, 0x2da6, 0x2da8, 0x2dae, 0x2db0, 0x2db6, 
+            0x2db8, 0x2dbe, 0x2dc0, 0x2dc6, 0x2dc8, 0x2dce, 0x2dd0, 0x2dd6, 0x2dd8, 0x2dde, 
+            0x2de0, 0x2dff, 0x2e2f, 0x2e2f, 0x3005, 0x3007, 0x3021, 0x302f, 0x3031, 0x3035, 
+            0x3038, 0x303c, 0x3041, 0x3096, 0x3099, 0x309a, 0x309d, 0x309f, 0x30a1, 0x30fa, 
+            0x30fc, 0x30ff, 0x3105, 0x312f, 0x3131, 0x318e, 0x31a0, 0x31bf, 0x31f0, 0x31ff, 
+            0x3400, 0x4dbf, 0x4e00, 0xa48c, 0xa4d0, 0xa4fd, 0xa500, 0xa60c, 0xa610, 0xa62b, 
+            0xa640, 0xa66f, 0xa674, 0xa67d, 0xa67f, 0xa6f1, 0xa717, 0xa71f, 0xa722, 0xa788, 
+            0xa78b, 0xa7ca, 0xa7d0, 0xa7d1, 0xa7d3, 0xa7d3, 0xa7d5, 0xa7d9, 0xa7f2, 0xa827, 
+            0xa82c, 0xa82c, 0xa838, 0xa838, 0xa840, 0xa873, 0xa880, 0xa8c5, 0xa8d0, 0xa8d9, 
+            0xa8e0, 0xa8f7, 0xa8fb, 0xa8fb, 0xa8fd, 0xa92d, 0xa930, 0xa953, 0xa960, 0xa97c, 
+            0xa980, 0xa9c0, 0xa9cf, 0xa9d9, 0xa9e0, 0xa9fe, 0xaa00, 0xaa36, 0xaa40, 0xaa4d, 
+            0xaa50, 0xaa59, 0xaa60, 0xaa76, 0xaa7a, 0xaac2, 0xaadb, 0xaadd, 0xaae0, 0xaaef, 
+            0xaaf2, 0xaaf6, 0xab01, 0xab06, 0xab09, 0xab0e, 0xab11, 0xab16, 0xab20, 0xab26, 
+            0xab28, 0xab2e, 0xab30, 0xab5a, 0xab5c, 0xab69, 0xab70, 0xabea, 0xabec, 0xabed, 
+            0xabf0, 0xabf9, 0xac00, 0xd7a3, 0xd7b0, 0xd7c6, 0xd7cb, 0xd7fb, 0xf900, 0xfa6d, 
+            0xfa70, 0xfad9, 0xfb00, 0xfb06, 0xfb13, 0xfb17, 0xfb1d, 0xfb28, 0xfb2a, 0xfb36, 
+            0xfb38, 0xfb3c, 0xfb3e, 0xfb3e, 0xfb40, 0xfb41, 0xfb43, 0xfb44, 0xfb46, 0xfbb1, 
+            0xfbd3, 0xfd3d, 0xfd50, 0xfd8f, 0xfd92, 0xfdc7, 0xfdf0, 0xfdfc, 0xfe00, 0xfe0f, 
+            0xfe20, 0xfe2f, 0xfe33, 0xfe34, 0xfe4d, 0xfe4f, 0xfe69, 0xfe69, 0xfe70, 0xfe74, 
+            0xfe76, 0xfefc, 0xfeff, 0xfeff, 0xff04, 0xff04, 0xff10, 0xff19, 0xff21, 0xff3a, 
+            0xff3f, 0xff3f, 0xff41, 0xff5a, 0xff66, 0xffbe, 0xffc2, 0xffc7, 0xffca, 0xffcf, 
+            0xffd2, 0xffd7, 0xffda, 0xffdc, 0xffe0, 0xffe1, 0xffe5, 0xffe6, 0xfff9, 0xfffb, 
+            0x10000, 0x1000b, 0x1000d, 0x10026, 0x10028, 0x1003a, 0x1003c, 0x1003d, 0x1003f, 
+            0x1004d, 0x10050, 0x1005d, 0x10080, 0x100fa, 0x10140, 0x10174, 0x101fd, 0x101fd, 
+            0x10280, 0x1029c, 0x102a0, 0x102d0, 0x102e0, 0x102e0, 0x10300, 0x1031f, 0x1032d, 
+            0x1034a, 0x10350, 0x1037a, 0x10380, 0x1039d, 0x103a0, 0x103c3, 0x103c8, 0x103cf, 
+            0x103d1, 0x103d5, 0x10400, 0x1049d, 0x104a0, 0x104a9, 0x104b0, 0x104d3, 0x104d8, 
+            0x104fb, 0x10500, 0x10527, 0x10530, 0x10563, 0x10570, 0x1057a, 0x1057c, 0x1058a, 
+            0x1058c, 0x10592, 0x10594, 0x10595, 0x10597, 0x105a1, 0x105a3, 0x105b1, 0x105b3, 
+            0x105b9, 0x105bb, 0x105bc, 0x10600, 0x10736, 0x10740, 0x10755, 0x10760, 0x10767, 
+            0x10780, 0x10785, 0x10787, 0x107b0, 0x107b2, 0x107ba, 0x10800, 0x10805, 0x10808, 
+            0x10808, 0x1080a, 0x10835, 0x10837, 0x10838, 0x1083c, 0x1083c, 0x1083f, 0x10855, 
+            0x10860, 0x10876, 0x10880, 0x1089e, 0x108e0, 0x108f2, 0x108f4, 0x108f5, 0x10900, 
+            0x10915, 0x10920, 0x10939, 0x10980, 0x109b7, 0x109be, 0x109bf, 0x10a00, 0x10a03, 
+            0x10a05, 0x10a06, 0x10a0c, 0x10a13, 0x10a15, 0x10a17, 0x10a19, 0x10a35, 0x10a38, 
+            0x10a3a, 0x10a3f, 0x10a3f, 0x10a60, 0x10a7c, 0x10a80, 0x10a9c, 0x10ac0, 0x10ac7, 
+            0x10ac9, 0x10ae6, 0x10b00, 0x10b35, 0x10b40, 0x10b55, 0x10b60, 0x10b72, 0x10b80, 
+            0x10b91, 0x10c00, 0x10c48, 0x10c80, 0x10cb2, 0x10cc0, 0x10cf2, 0x10d00, 0x10d27, 
+            0x10d30, 0x10d39, 0x10e80, 0x10ea9, 0x10eab, 0x10eac, 0x10eb0, 0x10eb1, 0x10f00, 
+            0x10f1c, 0x10f27, 0x10f27, 0x10f30, 0x10f50, 0x10f70, 0x10f85, 0x10fb0, 0x10fc4, 
+            0x10fe0, 0x10ff6, 0x11000, 0x11046, 0x11066, 0x11075, 0x1107f, 0x110ba, 0x110bd, 
+            0x110bd, 0x110c2, 0x110c2, 0x110cd, 0x110cd, 0x110d0, 0x110e8, 0x110f0, 0x110f9, 
+            0x11100, 0x11134, 0x11136, 0x1113f, 0x11144, 0x11147, 0x11150, 0x11173, 0x11176, 
+            0x11176, 0x11180, 0x111c4, 0x111c9, 0x111cc, 0x111ce, 0x111da, 0x111dc, 0x111dc, 
+            0x11200, 0x11211, 0x11213, 0x11237, 0x1123e, 0x1123e, 0x11280, 0x11286, 0x11288, 
+            0x11288, 0x1128a, 0x1128d, 0x1128f, 0x1129d, 0x1129f, 0x112a8, 0x112b0, 0x112ea, 
+            0x112f0, 0x112f9, 0x11300, 0x11303, 0x11305, 0x1130c, 0x1130f, 0x11310, 0x11313, 
+            0x11328, 0x1132a, 0x11330, 0x11332, 0x11333, 0x11335, 0x11339, 0x1133b, 0x11344, 
+            0x11347, 0x11348, 0x1134b, 0x1134d, 0x11350, 0x11350, 0x11357, 0x11357, 0x1135d, 
+            0x11363, 0x11366, 0x1136c, 0x11370, 0x11374, 0x11400, 0x1144a, 0x11450, 0x11459, 
+            0x1145e, 0x11461, 0x11480, 0x114c5, 0x114c7, 0x114c7, 0x114d0, 0x114d9, 0x11580, 
+            0x115b5, 0x115b8, 0x115c0, 0x115d8, 0x115dd, 0x11600, 0x11640, 0x11644, 0x11644, 
+            0x11650, 0x11659, 0x11680, 0x116b8, 0x116c0, 0x116c9, 0x11700, 0x1171a, 0x1171d, 
+            0x1172b, 0x11730, 0x11739, 0x11740, 0x11746, 0x11800, 0x1183a, 0x118a0, 0x118e9, 
+            0x118ff, 0x11906, 0x11909, 0x11909, 0x1190c, 0x11913, 0x11915, 0x11916, 0x11918, 
+            0x11935, 0x11937, 0x11938, 0x1193b, 0x11943, 0x11950, 0x11959, 0x119a0, 0x119a7, 
+            0x119aa, 0x119d7, 0x119da, 0x119e1, 0x119e3, 0x119e4, 0x11a00, 0x11a3e, 0x11a47, 
+            0x11a47, 0x11a50, 0x11a99, 0x11a9d, 0x11a9d, 0x11ab0, 0x11af8, 0x11c00, 0x11c08, 
+            0x11c0a, 0x11c36, 0x11c38, 0x11c40, 0x11c50, 0x11c59, 0x11c72, 0x11c8f, 0x11c92, 
+            0x11ca7, 0x11ca9, 0x11cb6, 0x11d00, 0x11d06, 0x11d08, 0x11d09, 0x11d0b, 0x11d36, 
+            0x11d3a, 0x11d3a, 0x11d3c, 0x11d3d, 0x11d3f, 0x11d47, 0x11d50, 0x11d59, 0x11d60, 
+            0x11d65, 0x11d67, 0x11d68, 0x11d6a, 0x11d8e, 0x11d90, 0x11d91, 0x11d93, 0x11d98, 
+            0x11da0, 0x11da9, 0x11ee0, 0x11ef6, 0x11fb0, 0x11fb0, 0x11fdd, 0x11fe0, 0x12000, 
+            0x12399, 0x12400, 0x1246e, 0x12480, 0x12543, 0x12f90, 0x12ff0, 0x13000, 0x1342e, 
+            0x13430, 0x13438, 0x14400, 0x14646, 0x16800, 0x16a38, 0x16a40, 0x16a5e, 0x16a60, 
+            0x16a69, 0x16a70, 0x16abe, 0x16ac0, 0x16ac9, 0x16ad0, 0x16aed, 0x16af0, 0x16af4, 
+            0x16b00, 0x16b36, 0x16b40, 0x16b43, 0x16b50, 0x16b59, 0x16b63, 0x16b77, 0x16b7d, 
+            0x16b8f, 0x16e40, 0x16e7f, 0x16f00, 0x16f4a, 0x16f4f, 0x16f87, 0x16f8f, 0x16f9f, 
+            0x16fe0, 0x16fe1, 0x16fe3, 0x16fe4, 0x16ff0, 0x16ff1, 0x17000, 0x187f7, 0x18800, 
+            0x18cd5, 0x18d00, 0x18d08, 0x1aff0, 0x1aff3, 0x1aff5, 0x1affb, 0x1affd, 0x1affe, 
+            0x1b000, 0x1b122, 0x1b150, 0x1b152, 0x1b164, 0x1b167, 0x1b170, 0x1b2fb, 0x1bc00, 
+            0x1bc6a, 0x1bc70, 0x1bc7c, 0x1bc80, 0x1bc88, 0x1bc90, 0x1bc99, 0x1bc9d, 0x1bc9e, 
+            0x1bca0, 0x1bca3, 0x1cf00, 0x1cf2d, 0x1cf30, 0x1cf46, 0x1d165, 0x1d169, 0x1d16d, 
+            0x1d182, 0x1d185, 0x1d18b, 0x1d1aa, 0x1d1ad, 0x1d242, 0x1d244, 0x1d400, 0x1d454, 
+            0x1d456, 0x1d49c, 0x1d49e, 0x1d49f, 0x1d4a2, 0x1d4a2, 0x1d4a5, 0x1d4a6, 0x1d4a9, 
+            0x1d4ac, 0x1d4ae, 0x1d4b9, 0x1d4bb, 0x1d4bb, 0x1d4bd, 0x1d4c3, 0x1d4c5, 0x1d505, 
+            0x1d507, 0x1d50a, 0x1d50d, 0x1d514, 0x1d516, 0x1d51c, 0x1d51e, 0x1d539, 0x1d53b, 
+            0x1d53e, 0x1d540, 0x1d544, 0x1d546, 0x1d546, 0x1d54a, 0x1d550, 0x1d552, 0x1d6a5, 
+            0x1d6a8, 0x1d6c0, 0x1d6c2, 0x1d6da, 0x1d6dc, 0x1d6fa, 0x1d6fc, 0x1d714, 0x1d716, 
+            0x1d734, 0x1d736, 0x1d74e, 0x1d750, 0x1d76e, 0x1d770, 0x1d788, 0x1d78a, 0x1d7a8, 
+            0x1d7aa, 0x1d7c2, 0x1d7c4, 0x1d7cb, 0x1d7ce, 0x1d7ff, 0x1da00, 0x1da36, 0x1da3b, 
+            0x1da6c, 0x1da75, 0x1da75, 0x1da84, 0x1da84, 0x1da9b, 0x1da9f, 0x1daa1, 0x1daaf, 
+            0x1df00, 0x1df1e, 0x1e000, 0x1e006, 0x1e008, 0x1e018, 0x1e01b, 0x1e021, 0x1e023, 
+            0x1e024, 0x1e026, 0x1e02a, 0x1e100, 0x1e12c, 0x1e130, 0x1e13d, 0x1e140, 0x1e149, 
+            0x1e14e, 0x1e14e, 0x1e290, 0x1e2ae, 0x1e2c0, 0x1e2f9, 0x1e2ff, 0x1e2ff, 0x1e7e0, 
+            0x1e7e6, 0x1e7e8, 0x1e7eb, 0x1e7ed, 0x1e7ee, 0x1e7f0, 0x1e7fe, 0x1e800, 0x1e8c4, 
+            0x1e8d0, 0x1e8d6, 0x1e900, 0x1e94b, 0x1e950, 0x1e959, 0x1ecb0, 0x1ecb0, 0x1ee00, 
+            0x1ee03, 0x1ee05, 0x1ee1f, 0x1ee21, 0x1ee22, 0x1ee24, 0x1ee24, 0x1ee27, 0x1ee27, 
+            0x1ee29, 0x1ee32, 0x1ee34, 0x1ee37, 0x1ee39, 0x1ee39, 0x1ee3b, 0x1ee3b, 0x1ee42, 
+            0x1ee42, 0x1ee47, 0x1ee47, 0x1ee49, 0x1ee49, 0x1ee4b, 0x1ee4b, 0x1ee4d, 0x1ee4f, 
+            0x1ee51, 0x1ee52, 0x1ee54, 0x1ee54, 0x1ee57, 0x1ee57, 0x1ee59, 0x1ee59, 0x1ee5b, 
+            0x1ee5b, 0x1ee5d, 0x1ee5d, 0x1ee5f, 0x1ee5f, 0x1ee61, 0x1ee62, 0x1ee64, 0x1ee64, 
+            0x1ee67, 0x1ee6a, 0x1ee6c, 0x1ee72, 0x1ee74, 0x1ee77, 0x1ee79, 0x1ee7c, 0x1ee7e, 
+            0x1ee7e, 0x1ee80, 0x1ee89, 0x1ee8b, 0x1ee9b, 0x1eea1, 0x1eea3, 0x1eea5, 0x1eea9, 
+            0x1eeab, 0x1eebb, 0x1fbf0, 0x1fbf9, 0x20000, 0x2a6df, 0x2a700, 0x2b738, 0x2b740, 
+            0x2b81d, 0x2b820, 0x2cea1, 0x2ceb0, 0x2ebe0, 0x2f800, 0x2fa1d, 0x30000, 0x3134a, 
+            0xe0001, 0xe0001, 0xe0020, 0xe007f, 0xe0100, 0xe01ef};
+        }
+
+        static private int[] ASCII_MOVE_TABLE_init() {
+            int[] result = new int[1062];
+            ASCII_MOVE_TABLE_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_TABLE_init0(int[] result) {
+            int[] chunk = new int[] {9, - 1, 2, 0, 1, - 1, 2, 0, 18, - 1, 1, 0, 1, 1, 1, 2, 
+            1, - 1, 1, 3, 1, 4, 1, 5, 1, 6, 1, 7, 1, 8, 1, 9, 1, 10, 1, 11, 1, 12, 1, 13, 1, 
+            14, 1, 15, 9, 16, 1, 17, 1, 18, 1, 19, 1, 20, 1, 21, 1, 22, 1, 23, 26, 3, 1, 24, 
+            1, - 1, 1, 25, 1, 26, 1, 27, 1, - 1, 1, 28, 1, 29, 1, 30, 1, 31, 1, 32, 1, 33, 
+            1, 34, 1, 3, 1, 35, 2, 3, 1, 36, 1, 3, 1, 37, 1, 3, 1, 38, 1, 3, 1, 39, 1, 40, 
+            1, 41, 1, 3, 1, 42, 1, 43, 1, 3, 1, 44, 1, 3, 1, 45, 1, 46, 1, 47, 1, 48, 69, - 1, 
+            1, 49, 1, - 1, 1, 49, 29, - 1, 1, 49, 1, - 1, 1, 49, 73, - 1, 8, 50, 20, - 1, 1, 
+            51, 18, - 1, 1, 52, 12, - 1, 1, 51, 67, - 1, 10, 53, 10, - 1, 1, 49, 1, - 1, 1, 
+            49, 24, - 1, 1, 54, 4, - 1, 1, 49, 1, - 1, 1, 49, 73, - 1, 10, 55, 10, - 1, 1, 
+            49, 1, - 1, 1, 49, 24, - 1, 1, 56, 4, - 1, 1, 49, 1, - 1, 1, 49, 73, - 1, 10, 57, 
+            18, - 1, 1, 51, 18, - 1, 1, 58, 12, - 1, 1, 51, 28, - 1, 2, 0, 1, - 1, 2, 0, 18, 
+            - 1, 1, 0, 143, - 1, 2, 59, 26, - 1, 1, 51, 18, - 1, 1, 60, 12, - 1, 1, 51, 19, 
+            - 1, 34, 61, 1, 62, 57, 61, 1, 63, 69, 61, 1, 64, 57, 61, 1, 63, 35, 61, 46, - 1, 
+            1, 65, 1, - 1, 10, 66, 37, - 1, 1, 67, 32, - 1, 9, 3, 5, - 1, 14, 3, 8, - 1, 1, 
+            3, 11, - 1, 10, 3, 7, - 1, 26, 3, 4, - 1, 1, 3, 1, - 1, 26, 3, 4, - 1, 1, 3, 48, 
+            - 1, 10, 68, 10, - 1, 1, 49, 1, 69, 1, 49, 24, - 1, 1, 70, 4, - 1, 1, 49, 1, 69, 
+            1, 49, 73, - 1, 10, 71, 7, - 1, 6, 71, 24, - 1, 1, 72, 1, - 1, 6, 71, 73, - 1, 
+            10, 73, 10, - 1, 1, 49, 1, - 1, 1, 49, 24, - 1, 1, 74, 4, - 1, 1, 49, 1, - 1, 1, 
+            49, 73, - 1, 10, 75, 10, - 1, 1, 49, 1, 76, 1, 49, 29, - 1, 1, 49, 1, 76, 1, 49, 
+            73, - 1, 10, 77, 7, - 1, 6, 77, 24, - 1, 1, 78, 1, - 1, 6, 77, 59, - 1, 1, 79, 
+            4, - 1, 1, 79, 8, - 1, 4, 80, 4, 81, 36, - 1, 1, 79, 5, - 1, 1, 79, 3, - 1, 1, 
+            79, 7, - 1, 1, 79, 3, - 1, 3, 79, 59, - 1, 10, 82, 10, - 1, 1, 49, 1, - 1, 1, 49, 
+            24, - 1, 1, 83, 4, - 1, 1, 49, 1, - 1, 1, 49, 25, - 1, 10, 84, 1, - 1, 2, 84, 1, 
+            - 1, 20, 84, 1, 85, 57, 84, 1, 86, 35, 84, 34, - 1, 1, 84, 4, - 1, 1, 84, 8, - 1, 
+            4, 87, 4, 88, 36, - 1, 1, 84, 5, - 1, 1, 84, 3, - 1, 1, 84, 7, - 1, 1, 84, 3, - 1, 
+            3, 84, 59, - 1, 10, 89, 11, - 1, 1, 90, 25, - 1, 1, 91, 5, - 1, 1, 90, 74, - 1, 
+            10, 92, 10, - 1, 1, 49, 1, 93, 1, 49, 24, - 1, 1, 94, 4, - 1, 1, 49, 1, 93, 1, 
+            49, 93, - 1, 1, 49, 1, 76, 1, 49, 29, - 1, 1, 49, 1, 76, 1, 49, 73, - 1, 10, 95, 
+            10, - 1, 1, 49, 1, - 1, 1, 49, 29, - 1, 1, 49, 1, - 1, 1, 49, 73, - 1, 10, 96, 
+            10, - 1, 1, 49, 1, - 1, 1, 49, 24, - 1, 1, 97, 4, - 1, 1, 49, 1, - 1, 1, 49, 25, 
+            - 1, 34, 61, 1, - 1, 57, 61, 1, 63, 35, 61, 34, - 1, 1, 61, 4, - 1, 1, 61, 8, - 1, 
+            4, 98, 4, 99, 36, - 1, 1, 61, 5, - 1, 1, 61, 3, - 1, 1, 61, 7, - 1, 1, 61, 3, - 1, 
+            3, 61, 79, - 1, 1, 49, 1, 69, 1, 49, 29, - 1, 1, 49, 1, 69, 1, 49, 73, - 1, 10, 
+            100, 10, - 1, 1, 49, 1, - 1, 1, 49, 29, - 1, 1, 49, 1, - 1, 1, 49, 25, - 1, 34, 
+            61, 1, 64, 57, 61, 1, 63, 35, 61, 46, - 1, 1, 101, 1, - 1, 10, 102, 7, - 1, 6, 
+            102, 9, - 1, 1, 103, 14, - 1, 1, 104, 1, - 1, 6, 102, 9, - 1, 1, 103, 63, - 1, 
+            10, 105, 10, - 1, 1, 49, 1, - 1, 1, 49, 29, - 1, 1, 49, 1, - 1, 1, 49, 93, - 1, 
+            1, 49, 1, 93, 1, 49, 29, - 1, 1, 49, 1, 93, 1, 49, 73, - 1, 10, 106, 10, - 1, 1, 
+            49, 1, - 1, 1, 49, 29, - 1, 1, 49, 1, - 1, 1, 49, 73, - 1, 10, 107, 10, - 1, 1, 
+            49, 1, - 1, 1, 49, 24, - 1, 1, 108, 4, - 1, 1, 49, 1, - 1, 1, 49, 73, - 1, 10, 
+            102, 7, - 1, 6, 102, 24, - 1, 1, 104, 1, - 1, 6, 102, 25, - 1, 10, 79, 1, - 1, 
+            2, 79, 1, - 1, 25, 79, 1, - 1, 52, 79, 1, 109, 35, 79, 10, 84, 1, - 1, 2, 84, 1, 
+            - 1, 20, 84, 1, 85, 57, 84, 1, 86, 35, 84, 46, - 1, 1, 110, 1, - 1, 10, 111, 7, 
+            - 1, 6, 111, 24, - 1, 1, 112, 1, - 1, 6, 111, 71, - 1, 1, 110, 1, - 1, 10, 113, 
+            7, - 1, 6, 113, 26, - 1, 6, 113, 73, - 1, 10, 111, 7, - 1, 6, 111, 24, - 1, 1, 
+            112, 1, - 1, 6, 111, 93, - 1, 1, 49, 1, - 1, 1, 49, 29, - 1, 1, 49, 1, - 1, 1, 
+            49, 73, - 1, 10, 114, 7, - 1, 6, 114, 9, - 1, 1, 115, 14, - 1, 1, 116, 1, - 1, 
+            6, 114, 9, - 1, 1, 115, 63, - 1, 10, 117, 10, - 1, 1, 49, 1, 76, 1, 49, 24, - 1, 
+            1, 118, 4, - 1, 1, 49, 1, 76, 1, 49, 73, - 1, 10, 114, 7, - 1, 6, 114, 24, - 1, 
+            1, 116, 1, - 1, 6, 114, 34, - 1, 1, 119, 1, 61, 1, - 1, 1, 119, 1, 120, 18, - 1, 
+            1, 119, 143, - 1, 10, 77, 7, - 1, 6, 77, 5, - 1, 1, 51, 18, - 1, 1, 78, 1, - 1, 
+            6, 77, 5, - 1, 1, 51, 19, - 1};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] ASCII_MOVE_STATE_OFFSETS_init() {
+            int[] result = new int[122];
+            ASCII_MOVE_STATE_OFFSETS_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_STATE_OFFSETS_init0(int[] result) {
+            int[] chunk = new int[] {0, 1, 2, 4, 5, 6, 8, 9, 9, 9, 10, 12, 12, 15, 17, 20, 
+            33, 38, 39, 39, 42, 43, 48, 48, 48, 48, 48, 49, 50, 53, 57, 64, 68, 72, 78, 80, 
+            87, 89, 94, 100, 103, 111, 118, 122, 124, 126, 126, 128, 128, 128, 128, 130, 130, 
+            131, 133, 134, 137, 138, 140, 141, 143, 144, 145, 146, 148, 151, 152, 154, 155, 
+            157, 158, 159, 160, 161, 164, 165, 166, 167, 169, 170, 171, 173, 174, 177, 178, 
+            179, 179, 180, 182, 183, 185, 186, 187, 189, 190, 191, 192, 195, 196, 198, 199, 
+            200, 201, 203, 204, 205, 206, 207, 209, 210, 211, 212, 214, 215, 216, 218, 219, 
+            220, 222, 223, 224, 226};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] ASCII_MOVE_STATES_init() {
+            int[] result = new int[226];
+            ASCII_MOVE_STATES_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_STATES_init0(int[] result) {
+            int[] chunk = new int[] {28, 43, 319, 349, 131, 95, 49, 86, 401, 81, 52, 74, 54, 
+            78, 122, 16, 393, 3, 5, 83, 26, 127, 180, 346, 352, 364, 368, 373, 375, 379, 383, 
+            408, 416, 26, 127, 180, 346, 352, 14, 38, 72, 98, 34, 40, 102, 106, 110, 116, 92, 
+            131, 7, 15, 131, 22, 30, 35, 131, 39, 44, 50, 55, 60, 65, 131, 73, 82, 84, 131, 
+            91, 96, 101, 131, 112, 119, 125, 131, 135, 139, 131, 141, 131, 144, 145, 154, 160, 
+            169, 171, 131, 182, 131, 185, 191, 193, 325, 131, 196, 202, 209, 217, 335, 131, 
+            222, 227, 131, 232, 236, 241, 250, 254, 259, 320, 131, 271, 274, 278, 283, 292, 
+            295, 131, 297, 299, 302, 131, 309, 131, 314, 46, 90, 270, 387, 270, 1, 181, 181, 
+            6, 355, 356, 356, 291, 387, 291, 317, 387, 317, 124, 366, 367, 377, 64, 360, 366, 
+            190, 341, 388, 341, 362, 370, 369, 362, 134, 134, 179, 371, 372, 372, 418, 351, 
+            244, 387, 244, 344, 342, 405, 405, 313, 385, 386, 386, 319, 328, 347, 403, 403, 
+            378, 397, 380, 378, 389, 392, 391, 389, 6, 363, 394, 395, 395, 357, 381, 381, 179, 
+            411, 399, 402, 404, 399, 313, 363, 407, 415, 407, 246, 422, 414, 421, 414, 409, 
+            419, 425, 424, 419, 345, 354, 345, 420, 124, 353};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] ASCII_MOVE_TYPE_OFFSETS_init() {
+            int[] result = new int[122];
+            ASCII_MOVE_TYPE_OFFSETS_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_TYPE_OFFSETS_init0(int[] result) {
+            int[] chunk = new int[] {0, 1, 2, 2, 3, 4, 5, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 
+            15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 27, 28, 29, 30, 31, 32, 33, 34, 35, 
+            36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 49, 50, 50, 51, 51, 52, 
+            52, 52, 52, 52, 52, 52, 52, 52, 52, 53, 53, 53, 54, 54, 54, 55, 55, 56, 56, 57, 
+            57, 57, 57, 57, 57, 57, 58, 58, 58, 59, 59, 59, 59, 59, 59, 59, 59, 59, 59, 60, 
+            60, 60, 60, 60, 61, 61, 61, 61, 61, 62, 62, 63, 63, 63, 63, 63, 63, 63, 63, 63, 
+            63, 64, 64, 64, 64};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] ASCII_MOVE_TYPE_INDEXES_init() {
+            int[] result = new int[64];
+            ASCII_MOVE_TYPE_INDEXES_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_TYPE_INDEXES_init0(int[] result) {
+            int[] chunk = new int[] {0, 19, 31, 30, 27, 6, 7, 25, 23, 13, 24, 14, 26, 3, 3, 
+            22, 12, 18, 16, 17, 21, 15, 10, 11, 29, 1, 31, 31, 31, 31, 31, 31, 31, 31, 31, 
+            31, 31, 31, 31, 31, 31, 31, 31, 31, 8, 28, 9, 20, 5, 4, 5, 5, 5, 5, 3, 5, 5, 5, 
+            2, 5, 5, 5, 5, 5};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private final AsciiMoveTable ASCII_MOVES = ASCII_MOVES_init();
+
+        static private AsciiMoveTable ASCII_MOVES_init() {
+            TokenType[] types = new TokenType[] {WHITESPACE, UNDERSCORE, STRING_LITERAL, INTEGER_LITERAL, 
+            LONG_LITERAL, FLOATING_POINT_LITERAL, LPAREN, RPAREN, LBRACE, RBRACE, LBRACKET, 
+            RBRACKET, SEMICOLON, COMMA, DOT, AT, ASSIGN, GT, LT, BANG, TILDE, HOOK, COLON, 
+            PLUS, MINUS, STAR, SLASH, BIT_AND, BIT_OR, XOR, REM, IDENTIFIER};
+            return new AsciiMoveTable(ASCII_MOVE_TABLE_init(), ASCII_MOVE_STATE_OFFSETS_init(), 
+            ASCII_MOVE_STATES_init(), ASCII_MOVE_TYPE_OFFSETS_init(), ASCII_MOVE_TYPE_INDEXES_init(), 
+            types);
+        }
+
+        static private NfaFunction[] NFA_FUNCTIONS_init() {
+            return new NfaFunction[] {JAVA::NFA_JAVA_0, JAVA::NFA_JAVA_1, JAVA::NFA_JAVA_2, 
+            JAVA::NFA_JAVA_3, JAVA::NFA_JAVA_4, JAVA::NFA_JAVA_5, JAVA::NFA_JAVA_6, JAVA::NFA_JAVA_7, 
+            JAVA::NFA_JAVA_8, JAVA::NFA_JAVA_9, JAVA::NFA_JAVA_10, JAVA::NFA_JAVA_11, JAVA::NFA_JAVA_12, 
+            JAVA::NFA_JAVA_13, JAVA::NFA_JAVA_14, JAVA::NFA_JAVA_15, JAVA::NFA_JAVA_16, JAVA::NFA_JAVA_17, 
+            JAVA::NFA_JAVA_18, JAVA::NFA_JAVA_19, JAVA::NFA_JAVA_20, JAVA::NFA_JAVA_21, JAVA::NFA_JAVA_22, 
+            JAVA::NFA_JAVA_23, JAVA::NFA_JAVA_24, JAVA::NFA_JAVA_25, JAVA::NFA_JAVA_26, JAVA::NFA_JAVA_27, 
+            JAVA::NFA_JAVA_28, JAVA::NFA_JAVA_29, JAVA::NFA_JAVA_30, JAVA::NFA_JAVA_31, JAVA::NFA_JAVA_32, 
+            JAVA::NFA_JAVA_33, JAVA::NFA_JAVA_34, JAVA::NFA_JAVA_35, JAVA::NFA_JAVA_36, JAVA::NFA_JAVA_37, 
+            JAVA::NFA_JAVA_38, JAVA::NFA_JAVA_39, JAVA::NFA_JAVA_40, JAVA::NFA_JAVA_41, JAVA::NFA_JAVA_42, 
+            JAVA::NFA_JAVA_43, JAVA::NFA_JAVA_44, JAVA::NFA_JAVA_45, JAVA::NFA_JAVA_46, JAVA::NFA_JAVA_47, 
+            JAVA::NFA_JAVA_48, JAVA::NFA_JAVA_49, JAVA::NFA_JAVA_50, JAVA::NFA_JAVA_51, JAVA::NFA_JAVA_52, 
+            JAVA::NFA_JAVA_53, JAVA::NFA_JAVA_54, JAVA::NFA_JAVA_55, JAVA::NFA_JAVA_56, JAVA::NFA_JAVA_57, 
+            JAVA::NFA_JAVA_58, JAVA::NFA_JAVA_59, JAVA::NFA_JAVA_60, JAVA::NFA_JAVA_61, JAVA::NFA_JAVA_62, 
+            JAVA::NFA_JAVA_63, JAVA::NFA_JAVA_64, JAVA::NFA_JAVA_65, JAVA::NFA_JAVA_66, JAVA::NFA_JAVA_67, 
+            JAVA::NFA_JAVA_68, JAVA::NFA_JAVA_69, JAVA::NFA_JAVA_70, JAVA::NFA_JAVA_71, JAVA::NFA_JAVA_72, 
+            JAVA::NFA_JAVA_73, JAVA::NFA_JAVA_74, JAVA::NFA_JAVA_75, JAVA::NFA_JAVA_76, JAVA::NFA_JAVA_77, 
+            JAVA::NFA_JAVA_78, JAVA::NFA_JAVA_79, JAVA::NFA_JAVA_80, JAVA::NFA_JAVA_81, JAVA::NFA_JAVA_82, 
+            JAVA::NFA_JAVA_83, JAVA::NFA_JAVA_84, JAVA::NFA_JAVA_85, JAVA::NFA_JAVA_86, JAVA::NFA_JAVA_87, 
+            JAVA::NFA_JAVA_88, JAVA::NFA_JAVA_89, JAVA::NFA_JAVA_90, JAVA::NFA_JAVA_91, JAVA::NFA_JAVA_92, 
+            JAVA::NFA_JAVA_93, JAVA::NFA_JAVA_94, JAVA::NFA_JAVA_95, JAVA::NFA_JAVA_96, JAVA::NFA_JAVA_97, 
+            JAVA::NFA_JAVA_98, JAVA::NFA_JAVA_99, JAVA::NFA_JAVA_100, JAVA::NFA_JAVA_101, JAVA::NFA_JAVA_102, 
+            JAVA::NFA_JAVA_103, JAVA::NFA_JAVA_104, JAVA::NFA_JAVA_105, JAVA::NFA_JAVA_106, 
+            JAVA::NFA_JAVA_107, JAVA::NFA_JAVA_108, JAVA::NFA_JAVA_109, JAVA::NFA_JAVA_110, 
+            JAVA::NFA_JAVA_111, JAVA::NFA_JAVA_112, JAVA::NFA_JAVA_113, JAVA::NFA_JAVA_114, 
+            JAVA::NFA_JAVA_115, JAVA::NFA_JAVA_116, JAVA::NFA_JAVA_117, JAVA::NFA_JAVA_118, 
+            JAVA::NFA_JAVA_119, JAVA::NFA_JAVA_120, JAVA::NFA_JAVA_121, JAVA::NFA_JAVA_122, 
+            JAVA::NFA_JAVA_123, JAVA::NFA_JAVA_124, JAVA::NFA_JAVA_125, JAVA::NFA_JAVA_126, 
+            JAVA::NFA_JAVA_127, JAVA::NFA_JAVA_128, JAVA::NFA_JAVA_129, JAVA::NFA_JAVA_130, 
+            JAVA::NFA_JAVA_131, JAVA::NFA_JAVA_132, JAVA::NFA_JAVA_133, JAVA::NFA_JAVA_134, 
+            JAVA::NFA_JAVA_135, JAVA::NFA_JAVA_136, JAVA::NFA_JAVA_137, JAVA::NFA_JAVA_138, 
+            JAVA::NFA_JAVA_139, JAVA::NFA_JAVA_140, JAVA::NFA_JAVA_141, JAVA::NFA_JAVA_142, 
+            JAVA::NFA_JAVA_143, JAVA::NFA_JAVA_144, JAVA::NFA_JAVA_145, JAVA::NFA_JAVA_146, 
+            JAVA::NFA_JAVA_147, JAVA::NFA_JAVA_148, JAVA::NFA_JAVA_149, JAVA::NFA_JAVA_150, 
+            JAVA::NFA_JAVA_151, JAVA::NFA_JAVA_152, JAVA::NFA_JAVA_153, JAVA::NFA_JAVA_154, 
+            JAVA::NFA_JAVA_155, JAVA::NFA_JAVA_156, JAVA::NFA_JAVA_157, JAVA::NFA_JAVA_158, 
+            JAVA::NFA_JAVA_159, JAVA::NFA_JAVA_160, JAVA::NFA_JAVA_161, JAVA::NFA_JAVA_162, 
+            JAVA::NFA_JAVA_163, JAVA::NFA_JAVA_164, JAVA::NFA_JAVA_165, JAVA::NFA_JAVA_166, 
+            JAVA::NFA_JAVA_167, JAVA::NFA_JAVA_168, JAVA::NFA_JAVA_169, JAVA::NFA_JAVA_170, 
+            JAVA::NFA_JAVA_171, JAVA::NFA_JAVA_172, JAVA::NFA_JAVA_173, JAVA::NFA_JAVA_174, 
+            JAVA::NFA_JAVA_175, JAVA::NFA_JAVA_176, JAVA::NFA_JAVA_177, JAVA::NFA_JAVA_178, 
+            JAVA::NFA_JAVA_179, JAVA::NFA_JAVA_180, JAVA::NFA_JAVA_181, JAVA::NFA_JAVA_182, 
+            JAVA::NFA_JAVA_183, JAVA::NFA_JAVA_184, JAVA::NFA_JAVA_185, JAVA::NFA_JAVA_186, 
+            JAVA::NFA_JAVA_187, JAVA::NFA_JAVA_188, JAVA::NFA_JAVA_189, JAVA::NFA_JAVA_190, 
+            JAVA::NFA_JAVA_191, JAVA::NFA_JAVA_192, JAVA::NFA_JAVA_193, JAVA::NFA_JAVA_194, 
+            JAVA::NFA_JAVA_195, JAVA::NFA_JAVA_196, JAVA::NFA_JAVA_197, JAVA::NFA_JAVA_198, 
+            JAVA::NFA_JAVA_199, JAVA::NFA_JAVA_200, JAVA::NFA_JAVA_201, JAVA::NFA_JAVA_202, 
+            JAVA::NFA_JAVA_203, JAVA::NFA_JAVA_204, JAVA::NFA_JAVA_205, JAVA::NFA_JAVA_206, 
+            JAVA::NFA_JAVA_207, JAVA::NFA_JAVA_208, JAVA::NFA_JAVA_209, JAVA::NFA_JAVA_210, 
+            JAVA::NFA_JAVA_211, JAVA::NFA_JAVA_212, JAVA::NFA_JAVA_213, JAVA::NFA_JAVA_214, 
+            JAVA::NFA_JAVA_215, JAVA::NFA_JAVA_216, JAVA::NFA_JAVA_217, JAVA::NFA_JAVA_218, 
+            JAVA::NFA_JAVA_219, JAVA::NFA_JAVA_220, JAVA::NFA_JAVA_221, JAVA::NFA_JAVA_222, 
+            JAVA::NFA_JAVA_223, JAVA::NFA_JAVA_224, JAVA::NFA_JAVA_225, JAVA::NFA_JAVA_226, 
+            JAVA::NFA_JAVA_227, JAVA::NFA_JAVA_228, JAVA::NFA_JAVA_229, JAVA::NFA_JAVA_230, 
+            JAVA::NFA_JAVA_231, JAVA::NFA_JAVA_232, JAVA::NFA_JAVA_233, JAVA::NFA_JAVA_234, 
+            JAVA::NFA_JAVA_235, JAVA::NFA_JAVA_236, JAVA::NFA_JAVA_237, JAVA::NFA_JAVA_238, 
+            JAVA::NFA_JAVA_239, JAVA::NFA_JAVA_240, JAVA::NFA_JAVA_241, JAVA::NFA_JAVA_242, 
+            JAVA::NFA_JAVA_243, JAVA::NFA_JAVA_244, JAVA::NFA_JAVA_245, JAVA::NFA_JAVA_246, 
+            JAVA::NFA_JAVA_247, JAVA::NFA_JAVA_248, JAVA::NFA_JAVA_249, JAVA::NFA_JAVA_250, 
+            JAVA::NFA_JAVA_251, JAVA::NFA_JAVA_252, JAVA::NFA_JAVA_253, JAVA::NFA_JAVA_254, 
+            JAVA::NFA_JAVA_255, JAVA::NFA_JAVA_256, JAVA::NFA_JAVA_257, JAVA::NFA_JAVA_258, 
+            JAVA::NFA_JAVA_259, JAVA::NFA_JAVA_260, JAVA::NFA_JAVA_261, JAVA::NFA_JAVA_262, 
+            JAVA::NFA_JAVA_263, JAVA::NFA_JAVA_264, JAVA::NFA_JAVA_265, JAVA::NFA_JAVA_266, 
+            JAVA::NFA_JAVA_267, JAVA::NFA_JAVA_268, JAVA::NFA_JAVA_269, JAVA::NFA_JAVA_270, 
+            JAVA::NFA_JAVA_271, JAVA::NFA_JAVA_272, JAVA::NFA_JAVA_273, JAVA::NFA_JAVA_274, 
+            JAVA::NFA_JAVA_275, JAVA::NFA_JAVA_276, JAVA::NFA_JAVA_277, JAVA::NFA_JAVA_278, 
+            JAVA::NFA_JAVA_279, JAVA::NFA_JAVA_280, JAVA::NFA_JAVA_281, JAVA::NFA_JAVA_282, 
+            JAVA::NFA_JAVA_283, JAVA::NFA_JAVA_284, JAVA::NFA_JAVA_285, JAVA::NFA_JAVA_286, 
+            JAVA::NFA_JAVA_287, JAVA::NFA_JAVA_288, JAVA::NFA_JAVA_289, JAVA::NFA_JAVA_290, 
+            JAVA::NFA_JAVA_291, JAVA::NFA_JAVA_292, JAVA::NFA_JAVA_293, JAVA::NFA_JAVA_294, 
+            JAVA::NFA_JAVA_295, JAVA::NFA_JAVA_296, JAVA::NFA_JAVA_297, JAVA::NFA_JAVA_298, 
+            JAVA::NFA_JAVA_299, JAVA::NFA_JAVA_300, JAVA::NFA_JAVA_301, JAVA::NFA_JAVA_302, 
+            JAVA::NFA_JAVA_303, JAVA::NFA_JAVA_304, JAVA::NFA_JAVA_305, JAVA::NFA_JAVA_306, 
+            JAVA::NFA_JAVA_307, JAVA::NFA_JAVA_308, JAVA::NFA_JAVA_309, JAVA::NFA_JAVA_310, 
+            JAVA::NFA_JAVA_311, JAVA::NFA_JAVA_312, JAVA::NFA_JAVA_313, JAVA::NFA_JAVA_314, 
+            JAVA::NFA_JAVA_315, JAVA::NFA_JAVA_316, JAVA::NFA_JAVA_317, JAVA::NFA_JAVA_318, 
+            JAVA::NFA_JAVA_319, JAVA::NFA_JAVA_320, JAVA::NFA_JAVA_321, JAVA::NFA_JAVA_322, 
+            JAVA::NFA_JAVA_323, JAVA::NFA_JAVA_324, JAVA::NFA_JAVA_325, JAVA::NFA_JAVA_326, 
+            JAVA::NFA_JAVA_327, JAVA::NFA_JAVA_328, JAVA::NFA_JAVA_329, JAVA::NFA_JAVA_330, 
+            JAVA::NFA_JAVA_331, JAVA::NFA_JAVA_332, JAVA::NFA_JAVA_333, JAVA::NFA_JAVA_334, 
+            JAVA::NFA_JAVA_335, JAVA::NFA_JAVA_336, JAVA::NFA_JAVA_337, JAVA::NFA_JAVA_338, 
+            JAVA::NFA_JAVA_339, JAVA::NFA_JAVA_340, JAVA::NFA_JAVA_341, JAVA::NFA_JAVA_342, 
+            JAVA::NFA_JAVA_343, JAVA::NFA_JAVA_344, JAVA::NFA_JAVA_345, JAVA::NFA_JAVA_346, 
+            JAVA::NFA_JAVA_347, JAVA::NFA_JAVA_348, JAVA::NFA_JAVA_349, JAVA::NFA_JAVA_350, 
+            JAVA::NFA_JAVA_351, JAVA::NFA_JAVA_352, JAVA::NFA_JAVA_353, JAVA::NFA_JAVA_354, 
+            JAVA::NFA_JAVA_355, JAVA::NFA_JAVA_356, JAVA::NFA_JAVA_357, JAVA::NFA_JAVA_358, 
+            JAVA::NFA_JAVA_359, JAVA::NFA_JAVA_360, JAVA::NFA_JAVA_361, JAVA::NFA_JAVA_362, 
+            JAVA::NFA_JAVA_363, JAVA::NFA_JAVA_364, JAVA::NFA_JAVA_365, JAVA::NFA_JAVA_366, 
+            JAVA::NFA_JAVA_367, JAVA::NFA_JAVA_368, JAVA::NFA_JAVA_369, JAVA::NFA_JAVA_370, 
+            JAVA::NFA_JAVA_371, JAVA::NFA_JAVA_372, JAVA::NFA_JAVA_373, JAVA::NFA_JAVA_374, 
+            JAVA::NFA_JAVA_375, JAVA::NFA_JAVA_376, JAVA::NFA_JAVA_377, JAVA::NFA_JAVA_378, 
+            JAVA::NFA_JAVA_379, JAVA::NFA_JAVA_380, JAVA::NFA_JAVA_381, JAVA::NFA_JAVA_382, 
+            JAVA::NFA_JAVA_383, JAVA::NFA_JAVA_384, JAVA::NFA_JAVA_385, JAVA::NFA_JAVA_386, 
+            JAVA::NFA_JAVA_387, JAVA::NFA_JAVA_388, JAVA::NFA_JAVA_389, JAVA::NFA_JAVA_390, 
+            JAVA::NFA_JAVA_391, JAVA::NFA_JAVA_392, JAVA::NFA_JAVA_393, JAVA::NFA_JAVA_394, 
+            JAVA::NFA_JAVA_395, JAVA::NFA_JAVA_396, JAVA::NFA_JAVA_397, JAVA::NFA_JAVA_398, 
+            JAVA::NFA_JAVA_399, JAVA::NFA_JAVA_400, JAVA::NFA_JAVA_401, JAVA::NFA_JAVA_402, 
+            JAVA::NFA_JAVA_403, JAVA::NFA_JAVA_404, JAVA::NFA_JAVA_405, JAVA::NFA_JAVA_406, 
+            JAVA::NFA_JAVA_407, JAVA::NFA_JAVA_408, JAVA::NFA_JAVA_409, JAVA::NFA_JAVA_410, 
+            JAVA::NFA_JAVA_411, JAVA::NFA_JAVA_412, JAVA::NFA_JAVA_413, JAVA::NFA_JAVA_414, 
+            JAVA::NFA_JAVA_415, JAVA::NFA_JAVA_416, JAVA::NFA_JAVA_417, JAVA::NFA_JAVA_418, 
+            JAVA::NFA_JAVA_419, JAVA::NFA_JAVA_420, JAVA::NFA_JAVA_421, JAVA::NFA_JAVA_422, 
+            JAVA::NFA_JAVA_423, JAVA::NFA_JAVA_424, JAVA::NFA_JAVA_425, JAVA::NFA_JAVA_426};
+        }
+
+    }
+
+
+    /**
+    * Holder class for NFA code related to IN_MULTI_LINE_COMMENT lexical state
+    */
+    private static class IN_MULTI_LINE_COMMENT {
+
+        static private TokenType NFA_IN_MULTI_LINE_COMMENT_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '*') {
+                nextStates.set(1);
+            }
+            if (ch >= 0x0) {
+                if (validTypes.contains(ANY_CHAR)) type = ANY_CHAR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_MULTI_LINE_COMMENT_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '/') {
+                if (validTypes.contains(MULTI_LINE_COMMENT)) type = MULTI_LINE_COMMENT;
+            }
+            return type;
+        }
+
+        static private NfaFunction[] NFA_FUNCTIONS_init() {
+            return new NfaFunction[] {IN_MULTI_LINE_COMMENT::NFA_IN_MULTI_LINE_COMMENT_0, IN_MULTI_LINE_COMMENT::NFA_IN_MULTI_LINE_COMMENT_1};
+        }
+
+    }
+
+
+    /**
+    * Holder class for NFA code related to IN_SINGLE_LINE_COMMENT lexical state
+    */
+    private static class IN_SINGLE_LINE_COMMENT {
+
+        static private TokenType NFA_IN_SINGLE_LINE_COMMENT_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(0 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            if (ch >= 0x0) {
+                if (validTypes.contains(ANY_CHAR)) type = ANY_CHAR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_SINGLE_LINE_COMMENT_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '\n') {
+                if (validTypes.contains(SINGLE_LINE_COMMENT)) type = SINGLE_LINE_COMMENT;
+            }
+            return type;
+        }
+
+        static private int[] ASCII_MOVE_TABLE_init() {
+            int[] result = new int[10];
+            ASCII_MOVE_TABLE_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_TABLE_init0(int[] result) {
+            int[] chunk = new int[] {10, 0, 1, 1, 2, 0, 1, 2, 114, 0};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] ASCII_MOVE_STATE_OFFSETS_init() {
+            int[] result = new int[4];
+            ASCII_MOVE_STATE_OFFSETS_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_STATE_OFFSETS_init0(int[] result) {
+            int[] chunk = new int[] {0, 0, 0, 1};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] ASCII_MOVE_STATES_init() {
+            int[] result = new int[1];
+            ASCII_MOVE_STATES_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_STATES_init0(int[] result) {
+            int[] chunk = new int[] {1};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] ASCII_MOVE_TYPE_OFFSETS_init() {
+            int[] result = new int[4];
+            ASCII_MOVE_TYPE_OFFSETS_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_TYPE_OFFSETS_init0(int[] result) {
+            int[] chunk = new int[] {0, 1, 3, 5};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] ASCII_MOVE_TYPE_INDEXES_init() {
+            int[] result = new int[5];
+            ASCII_MOVE_TYPE_INDEXES_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_TYPE_INDEXES_init0(int[] result) {
+            int[] chunk = new int[] {1, 0, 1, 0, 1};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private final AsciiMoveTable ASCII_MOVES = ASCII_MOVES_init();
+
+        static private AsciiMoveTable ASCII_MOVES_init() {
+            TokenType[] types = new TokenType[] {SINGLE_LINE_COMMENT, ANY_CHAR};
+            return new AsciiMoveTable(ASCII_MOVE_TABLE_init(), ASCII_MOVE_STATE_OFFSETS_init(), 
+            ASCII_MOVE_STATES_init(), ASCII_MOVE_TYPE_OFFSETS_init(), ASCII_MOVE_TYPE_INDEXES_init(), 
+            types);
+        }
+
+        static private NfaFunction[] NFA_FUNCTIONS_init() {
+            return new NfaFunction[] {IN_SINGLE_LINE_COMMENT::NFA_IN_SINGLE_LINE_COMMENT_0, 
+            IN_SINGLE_LINE_COMMENT::NFA_IN_SINGLE_LINE_COMMENT_1};
+        }
+
+    }
+
+}
+
+
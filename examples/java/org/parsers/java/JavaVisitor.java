@@ -0,0 +1,1142 @@
+/* Generated by: JavaCC 21 Parser Generator. JavaVisitor.java */
+package org.parsers.java;
+
+import org.parsers.java.ast.ANY_CHAR;
+import org.parsers.java.ast.AdditiveExpression;
+import org.parsers.java.ast.AllocationExpression;
+import org.parsers.java.ast.AndExpression;
+import org.parsers.java.ast.Annotation;
+import org.parsers.java.ast.AnnotationMethodDeclaration;
+import org.parsers.java.ast.AnnotationTypeBody;
+import org.parsers.java.ast.AnnotationTypeDeclaration;
+import org.parsers.java.ast.AnnotationTypeMemberDeclaration;
+import org.parsers.java.ast.ArrayAccess;
+import org.parsers.java.ast.ArrayDimsAndInits;
+import org.parsers.java.ast.ArrayInitializer;
+import org.parsers.java.ast.AssertStatement;
+import org.parsers.java.ast.AssignmentExpression;
+import org.parsers.java.ast.BasicForStatement;
+import org.parsers.java.ast.BooleanLiteral;
+import org.parsers.java.ast.BreakStatement;
+import org.parsers.java.ast.CastExpression;
+import org.parsers.java.ast.CatchBlock;
+import org.parsers.java.ast.CharacterLiteral;
+import org.parsers.java.ast.ClassDeclaration;
+import org.parsers.java.ast.ClassLiteral;
+import org.parsers.java.ast.ClassOrInterfaceBody;
+import org.parsers.java.ast.ClassOrInterfaceBodyDeclaration;
+import org.parsers.java.ast.ClassicCaseStatement;
+import org.parsers.java.ast.ClassicSwitchLabel;
+import org.parsers.java.ast.ClassicSwitchStatement;
+import org.parsers.java.ast.ClassicTryStatement;
+import org.parsers.java.ast.CodeBlock;
+import org.parsers.java.ast.Comment;
+import org.parsers.java.ast.CompactConstructorDeclaration;
+import org.parsers.java.ast.CompilationUnit;
+import org.parsers.java.ast.ConditionalAndExpression;
+import org.parsers.java.ast.ConditionalOrExpression;
+import org.parsers.java.ast.ConstructorDeclaration;
+import org.parsers.java.ast.ContinueStatement;
+import org.parsers.java.ast.DefaultValue;
+import org.parsers.java.ast.Delimiter;
+import org.parsers.java.ast.DiamondOperator;
+import org.parsers.java.ast.DoStatement;
+import org.parsers.java.ast.DotName;
+import org.parsers.java.ast.DotNew;
+import org.parsers.java.ast.DotSuper;
+import org.parsers.java.ast.DotThis;
+import org.parsers.java.ast.EmptyDeclaration;
+import org.parsers.java.ast.EmptyStatement;
+import org.parsers.java.ast.EnhancedForStatement;
+import org.parsers.java.ast.EnumBody;
+import org.parsers.java.ast.EnumConstant;
+import org.parsers.java.ast.EnumDeclaration;
+import org.parsers.java.ast.EqualityExpression;
+import org.parsers.java.ast.ExceptionType;
+import org.parsers.java.ast.ExclusiveOrExpression;
+import org.parsers.java.ast.ExplicitConstructorInvocation;
+import org.parsers.java.ast.Expression;
+import org.parsers.java.ast.ExpressionStatement;
+import org.parsers.java.ast.ExtendsList;
+import org.parsers.java.ast.FieldDeclaration;
+import org.parsers.java.ast.FinallyBlock;
+import org.parsers.java.ast.FloatingPointLiteral;
+import org.parsers.java.ast.ForStatement;
+import org.parsers.java.ast.FormalParameter;
+import org.parsers.java.ast.FormalParameters;
+import org.parsers.java.ast.Identifier;
+import org.parsers.java.ast.IfStatement;
+import org.parsers.java.ast.ImplementsList;
+import org.parsers.java.ast.ImportDeclaration;
+import org.parsers.java.ast.InclusiveOrExpression;
+import org.parsers.java.ast.Initializer;
+import org.parsers.java.ast.InstanceOfExpression;
+import org.parsers.java.ast.IntegerLiteral;
+import org.parsers.java.ast.InterfaceDeclaration;
+import org.parsers.java.ast.InvocationArguments;
+import org.parsers.java.ast.KeyWord;
+import org.parsers.java.ast.Label;
+import org.parsers.java.ast.LabeledStatement;
+import org.parsers.java.ast.LambdaExpression;
+import org.parsers.java.ast.LambdaLHS;
+import org.parsers.java.ast.LambdaParameter;
+import org.parsers.java.ast.LambdaParameters;
+import org.parsers.java.ast.Literal;
+import org.parsers.java.ast.LiteralExpression;
+import org.parsers.java.ast.LocalVariableDeclaration;
+import org.parsers.java.ast.LongLiteral;
+import org.parsers.java.ast.MULTI_LINE_COMMENT_START;
+import org.parsers.java.ast.MarkerAnnotation;
+import org.parsers.java.ast.MemberValue;
+import org.parsers.java.ast.MemberValueArrayInitializer;
+import org.parsers.java.ast.MemberValuePair;
+import org.parsers.java.ast.MemberValuePairs;
+import org.parsers.java.ast.MethodCall;
+import org.parsers.java.ast.MethodDeclaration;
+import org.parsers.java.ast.MethodReference;
+import org.parsers.java.ast.Modifiers;
+import org.parsers.java.ast.MultiLineComment;
+import org.parsers.java.ast.MultiplicativeExpression;
+import org.parsers.java.ast.Name;
+import org.parsers.java.ast.NewCaseStatement;
+import org.parsers.java.ast.NewSwitchLabel;
+import org.parsers.java.ast.NewSwitchStatement;
+import org.parsers.java.ast.NoVarDeclaration;
+import org.parsers.java.ast.NormalAnnotation;
+import org.parsers.java.ast.NullLiteral;
+import org.parsers.java.ast.NumericalLiteral;
+import org.parsers.java.ast.ObjectCastExpression;
+import org.parsers.java.ast.ObjectType;
+import org.parsers.java.ast.Operator;
+import org.parsers.java.ast.PackageDeclaration;
+import org.parsers.java.ast.Parentheses;
+import org.parsers.java.ast.PermitsList;
+import org.parsers.java.ast.PostfixExpression;
+import org.parsers.java.ast.PreDecrementExpression;
+import org.parsers.java.ast.PreIncrementExpression;
+import org.parsers.java.ast.PrimaryExpression;
+import org.parsers.java.ast.Primitive;
+import org.parsers.java.ast.PrimitiveArrayType;
+import org.parsers.java.ast.PrimitiveType;
+import org.parsers.java.ast.RecordBody;
+import org.parsers.java.ast.RecordComponent;
+import org.parsers.java.ast.RecordDeclaration;
+import org.parsers.java.ast.RecordHeader;
+import org.parsers.java.ast.ReferenceType;
+import org.parsers.java.ast.RelationalExpression;
+import org.parsers.java.ast.ReturnStatement;
+import org.parsers.java.ast.ReturnType;
+import org.parsers.java.ast.SINGLE_LINE_COMMENT_START;
+import org.parsers.java.ast.ShiftExpression;
+import org.parsers.java.ast.SingleLineComment;
+import org.parsers.java.ast.SingleMemberAnnotation;
+import org.parsers.java.ast.Statement;
+import org.parsers.java.ast.StatementExpression;
+import org.parsers.java.ast.StringLiteral;
+import org.parsers.java.ast.SwitchExpression;
+import org.parsers.java.ast.SwitchStatement;
+import org.parsers.java.ast.SynchronizedStatement;
+import org.parsers.java.ast.TernaryExpression;
+import org.parsers.java.ast.ThisLiteral;
+import org.parsers.java.ast.ThrowStatement;
+import org.parsers.java.ast.ThrowsList;
+import org.parsers.java.ast.TryStatement;
+import org.parsers.java.ast.TryWithResources;
+import org.parsers.java.ast.Type;
+import org.parsers.java.ast.TypeArgument;
+import org.parsers.java.ast.TypeArguments;
+import org.parsers.java.ast.TypeBound;
+import org.parsers.java.ast.TypeDeclaration;
+import org.parsers.java.ast.TypeParameter;
+import org.parsers.java.ast.TypeParameters;
+import org.parsers.java.ast.UnaryExpression;
+import org.parsers.java.ast.UnaryExpressionNotPlusMinus;
+import org.parsers.java.ast.VarDeclaration;
+import org.parsers.java.ast.VariableDeclarator;
+import org.parsers.java.ast.VariableDeclaratorId;
+import org.parsers.java.ast.VariableInitializer;
+import org.parsers.java.ast.WhileStatement;
+import org.parsers.java.ast.Whitespace;
+import org.parsers.java.ast.WildcardBounds;
+import org.parsers.java.ast.YieldStatement;
+
+
+/**
+* A visitor that is dispatched without reflection. Each Node gets
+* passed to the visit method for its own class via Node#accept(JavaVisitor).
+* If that is not overridden, it passes the node on to the visit methods
+* for the Node interfaces the class implements, until it gets to one that
+* is overridden, and failing that, to the one for its superclass, which
+* goes on in the same way. That is the order that Node.Visitor looks in,
+* so the same visit methods get called. If none of them is overridden, it
+* just goes into the children.
+* Unlike with Node.Visitor, the visit methods have to be public, but
+* they are otherwise written the same way.
+*/
+public abstract class JavaVisitor {
+    protected boolean visitUnparsedTokens;
+    // The node that a visit method for a class is passing on to the
+    // one for an interface, and the node that the latter passed back,
+    // since it was not overridden.
+    private Node passingOn, passedBack;
+
+    public final void visit(Node node) {
+        node.accept(this);
+    }
+
+    /**
+    * Just recurses over (i.e. visits) node's children
+    * @param node the node we are traversing
+    */
+    public void recurse(Node node) {
+        for (Node child : node.children(visitUnparsedTokens)) {
+            visit(child);
+        }
+    }
+
+    public void visit(ANY_CHAR node) {
+        visit((Token) node);
+    }
+
+    public void visit(AdditiveExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(AllocationExpression node) {
+        passingOn = node;
+        visit((PrimaryExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(AndExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(Annotation node) {
+        if (node == passingOn) {
+            passingOn = null;
+            passedBack = node;
+        } else {
+            recurse(node);
+        }
+    }
+
+    public void visit(AnnotationMethodDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(AnnotationTypeBody node) {
+        recurse(node);
+    }
+
+    public void visit(AnnotationTypeDeclaration node) {
+        passingOn = node;
+        visit((TypeDeclaration) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(AnnotationTypeMemberDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(ArrayAccess node) {
+        passingOn = node;
+        visit((PrimaryExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ArrayDimsAndInits node) {
+        recurse(node);
+    }
+
+    public void visit(ArrayInitializer node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(AssertStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(AssignmentExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(BasicForStatement node) {
+        visit((ForStatement) node);
+    }
+
+    public void visit(BooleanLiteral node) {
+        visit((KeyWord) node);
+    }
+
+    public void visit(BreakStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(CastExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(CatchBlock node) {
+        recurse(node);
+    }
+
+    public void visit(CharacterLiteral node) {
+        visit((Literal) node);
+    }
+
+    public void visit(ClassDeclaration node) {
+        passingOn = node;
+        visit((TypeDeclaration) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ClassLiteral node) {
+        passingOn = node;
+        visit((PrimaryExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ClassOrInterfaceBody node) {
+        recurse(node);
+    }
+
+    public void visit(ClassOrInterfaceBodyDeclaration node) {
+        if (node == passingOn) {
+            passingOn = null;
+            passedBack = node;
+        } else {
+            recurse(node);
+        }
+    }
+
+    public void visit(ClassicCaseStatement node) {
+        recurse(node);
+    }
+
+    public void visit(ClassicSwitchLabel node) {
+        recurse(node);
+    }
+
+    public void visit(ClassicSwitchStatement node) {
+        visit((SwitchStatement) node);
+    }
+
+    public void visit(ClassicTryStatement node) {
+        visit((TryStatement) node);
+    }
+
+    public void visit(CodeBlock node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(Comment node) {
+        visit((Token) node);
+    }
+
+    public void visit(CompactConstructorDeclaration node) {
+        visit((ConstructorDeclaration) node);
+    }
+
+    public void visit(CompilationUnit node) {
+        recurse(node);
+    }
+
+    public void visit(ConditionalAndExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ConditionalOrExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ConstructorDeclaration node) {
+        passingOn = node;
+        visit((ClassOrInterfaceBodyDeclaration) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ContinueStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(DefaultValue node) {
+        recurse(node);
+    }
+
+    public void visit(Delimiter node) {
+        visit((Token) node);
+    }
+
+    public void visit(DiamondOperator node) {
+        recurse(node);
+    }
+
+    public void visit(DoStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(DotName node) {
+        passingOn = node;
+        visit((PrimaryExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(DotNew node) {
+        visit((AllocationExpression) node);
+    }
+
+    public void visit(DotSuper node) {
+        recurse(node);
+    }
+
+    public void visit(DotThis node) {
+        passingOn = node;
+        visit((PrimaryExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(EmptyDeclaration node) {
+        passingOn = node;
+        visit((TypeDeclaration) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(EmptyStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(EnhancedForStatement node) {
+        visit((ForStatement) node);
+    }
+
+    public void visit(EnumBody node) {
+        recurse(node);
+    }
+
+    public void visit(EnumConstant node) {
+        recurse(node);
+    }
+
+    public void visit(EnumDeclaration node) {
+        passingOn = node;
+        visit((TypeDeclaration) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(EqualityExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ExceptionType node) {
+        recurse(node);
+    }
+
+    public void visit(ExclusiveOrExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ExplicitConstructorInvocation node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(Expression node) {
+        if (node == passingOn) {
+            passingOn = null;
+            passedBack = node;
+        } else {
+            recurse(node);
+        }
+    }
+
+    public void visit(ExpressionStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ExtendsList node) {
+        recurse(node);
+    }
+
+    public void visit(FieldDeclaration node) {
+        passingOn = node;
+        visit((ClassOrInterfaceBodyDeclaration) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(FinallyBlock node) {
+        recurse(node);
+    }
+
+    public void visit(FloatingPointLiteral node) {
+        visit((NumericalLiteral) node);
+    }
+
+    public void visit(ForStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(FormalParameter node) {
+        recurse(node);
+    }
+
+    public void visit(FormalParameters node) {
+        recurse(node);
+    }
+
+    public void visit(Identifier node) {
+        visit((Token) node);
+    }
+
+    public void visit(IfStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ImplementsList node) {
+        recurse(node);
+    }
+
+    public void visit(ImportDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(InclusiveOrExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(Initializer node) {
+        passingOn = node;
+        visit((ClassOrInterfaceBodyDeclaration) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        visit((CodeBlock) node);
+    }
+
+    public void visit(InstanceOfExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(IntegerLiteral node) {
+        visit((NumericalLiteral) node);
+    }
+
+    public void visit(InterfaceDeclaration node) {
+        passingOn = node;
+        visit((TypeDeclaration) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(InvocationArguments node) {
+        recurse(node);
+    }
+
+    public void visit(KeyWord node) {
+        visit((Token) node);
+    }
+
+    public void visit(Label node) {
+        recurse(node);
+    }
+
+    public void visit(LabeledStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(LambdaExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(LambdaLHS node) {
+        recurse(node);
+    }
+
+    public void visit(LambdaParameter node) {
+        recurse(node);
+    }
+
+    public void visit(LambdaParameters node) {
+        recurse(node);
+    }
+
+    public void visit(Literal node) {
+        visit((Token) node);
+    }
+
+    public void visit(LiteralExpression node) {
+        passingOn = node;
+        visit((PrimaryExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(LocalVariableDeclaration node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(LongLiteral node) {
+        visit((NumericalLiteral) node);
+    }
+
+    public void visit(MULTI_LINE_COMMENT_START node) {
+        visit((Token) node);
+    }
+
+    public void visit(MarkerAnnotation node) {
+        passingOn = node;
+        visit((Annotation) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(MemberValue node) {
+        recurse(node);
+    }
+
+    public void visit(MemberValueArrayInitializer node) {
+        recurse(node);
+    }
+
+    public void visit(MemberValuePair node) {
+        recurse(node);
+    }
+
+    public void visit(MemberValuePairs node) {
+        recurse(node);
+    }
+
+    public void visit(MethodCall node) {
+        passingOn = node;
+        visit((PrimaryExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(MethodDeclaration node) {
+        passingOn = node;
+        visit((ClassOrInterfaceBodyDeclaration) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(MethodReference node) {
+        passingOn = node;
+        visit((PrimaryExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(Modifiers node) {
+        recurse(node);
+    }
+
+    public void visit(MultiLineComment node) {
+        visit((Comment) node);
+    }
+
+    public void visit(MultiplicativeExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(Name node) {
+        passingOn = node;
+        visit((PrimaryExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(NewCaseStatement node) {
+        recurse(node);
+    }
+
+    public void visit(NewSwitchLabel node) {
+        recurse(node);
+    }
+
+    public void visit(NewSwitchStatement node) {
+        visit((SwitchStatement) node);
+    }
+
+    public void visit(NoVarDeclaration node) {
+        visit((LocalVariableDeclaration) node);
+    }
+
+    public void visit(NormalAnnotation node) {
+        passingOn = node;
+        visit((Annotation) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(NullLiteral node) {
+        visit((KeyWord) node);
+    }
+
+    public void visit(NumericalLiteral node) {
+        visit((Literal) node);
+    }
+
+    public void visit(ObjectCastExpression node) {
+        visit((CastExpression) node);
+    }
+
+    public void visit(ObjectType node) {
+        passingOn = node;
+        visit((Type) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(Operator node) {
+        visit((Token) node);
+    }
+
+    public void visit(PackageDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(Parentheses node) {
+        passingOn = node;
+        visit((PrimaryExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(PermitsList node) {
+        recurse(node);
+    }
+
+    public void visit(PostfixExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(PreDecrementExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(PreIncrementExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(PrimaryExpression node) {
+        if (node == passingOn) {
+            passingOn = null;
+            passedBack = node;
+        } else {
+            recurse(node);
+        }
+    }
+
+    public void visit(Primitive node) {
+        visit((KeyWord) node);
+    }
+
+    public void visit(PrimitiveArrayType node) {
+        passingOn = node;
+        visit((Type) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(PrimitiveType node) {
+        passingOn = node;
+        visit((Type) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(RecordBody node) {
+        recurse(node);
+    }
+
+    public void visit(RecordComponent node) {
+        recurse(node);
+    }
+
+    public void visit(RecordDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(RecordHeader node) {
+        recurse(node);
+    }
+
+    public void visit(ReferenceType node) {
+        passingOn = node;
+        visit((Type) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(RelationalExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ReturnStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ReturnType node) {
+        recurse(node);
+    }
+
+    public void visit(SINGLE_LINE_COMMENT_START node) {
+        visit((Token) node);
+    }
+
+    public void visit(ShiftExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(SingleLineComment node) {
+        visit((Comment) node);
+    }
+
+    public void visit(SingleMemberAnnotation node) {
+        passingOn = node;
+        visit((Annotation) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(Statement node) {
+        if (node == passingOn) {
+            passingOn = null;
+            passedBack = node;
+        } else {
+            recurse(node);
+        }
+    }
+
+    public void visit(StatementExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(StringLiteral node) {
+        visit((Literal) node);
+    }
+
+    public void visit(SwitchExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(SwitchStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(SynchronizedStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(TernaryExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ThisLiteral node) {
+        visit((KeyWord) node);
+    }
+
+    public void visit(ThrowStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ThrowsList node) {
+        recurse(node);
+    }
+
+    public void visit(Token node) {
+        recurse(node);
+    }
+
+    public void visit(TryStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(TryWithResources node) {
+        visit((TryStatement) node);
+    }
+
+    public void visit(Type node) {
+        if (node == passingOn) {
+            passingOn = null;
+            passedBack = node;
+        } else {
+            recurse(node);
+        }
+    }
+
+    public void visit(TypeArgument node) {
+        recurse(node);
+    }
+
+    public void visit(TypeArguments node) {
+        recurse(node);
+    }
+
+    public void visit(TypeBound node) {
+        recurse(node);
+    }
+
+    public void visit(TypeDeclaration node) {
+        if (node == passingOn) {
+            passingOn = null;
+            passedBack = node;
+        } else {
+            recurse(node);
+        }
+    }
+
+    public void visit(TypeParameter node) {
+        recurse(node);
+    }
+
+    public void visit(TypeParameters node) {
+        recurse(node);
+    }
+
+    public void visit(UnaryExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(UnaryExpressionNotPlusMinus node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(VarDeclaration node) {
+        visit((LocalVariableDeclaration) node);
+    }
+
+    public void visit(VariableDeclarator node) {
+        recurse(node);
+    }
+
+    public void visit(VariableDeclaratorId node) {
+        recurse(node);
+    }
+
+    public void visit(VariableInitializer node) {
+        recurse(node);
+    }
+
+    public void visit(WhileStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(Whitespace node) {
+        visit((Token) node);
+    }
+
+    public void visit(WildcardBounds node) {
+        recurse(node);
+    }
+
+    public void visit(YieldStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+}
+
+
@@ -0,0 +1,19 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for AdditiveExpression AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.java.ast;
+
+import org.parsers.java.*;
+import static org.parsers.java.JavaConstants.TokenType.*;
+
+
+public class AdditiveExpression extends BaseNode implements Expression {
+
+    public void accept(JavaVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
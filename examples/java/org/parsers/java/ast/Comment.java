@@ -0,0 +1,24 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for Comment Token subclass
+* by the ASTToken.java.ftl template
+*/
+package org.parsers.java.ast;
+
+import org.parsers.java.*;
+import org.parsers.java.JavaConstants.TokenType;
+import static org.parsers.java.JavaConstants.TokenType.*;
+
+
+public class Comment extends Token {
+
+    public Comment(TokenType type, JavaLexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+    public void accept(JavaVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
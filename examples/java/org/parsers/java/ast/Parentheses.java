@@ -0,0 +1,34 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for Parentheses AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.java.ast;
+
+import org.parsers.java.*;
+import static org.parsers.java.JavaConstants.TokenType.*;
+
+
+public class Parentheses extends BaseNode implements PrimaryExpression {
+    private Expression nestedExpression;
+
+    //Inserted getter for nestedExpression
+    public Expression getNestedExpression() {
+        return nestedExpression;
+    }
+
+    //Inserted setter for nestedExpression
+    public void setNestedExpression(Expression nestedExpression) {
+        this.nestedExpression = nestedExpression;
+    }
+
+    public boolean isAssignableTo() {
+        return nestedExpression.isAssignableTo();
+    }
+
+    public void accept(JavaVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
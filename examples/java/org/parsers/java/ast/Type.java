@@ -0,0 +1,13 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for Type AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.java.ast;
+
+import org.parsers.java.*;
+
+
+public interface Type extends Node {
+}
+
+
@@ -0,0 +1,202 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. BaseNode.java */
+package org.parsers.javatuned;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Collections;
+
+
+/**
+* The base concrete class for non-terminal Nodes
+*/
+public class BaseNode implements Node {
+    private JavaTunedLexer tokenSource;
+
+    public JavaTunedLexer getTokenSource() {
+        if (tokenSource == null) {
+            for (Node child : children()) {
+                tokenSource = child.getTokenSource();
+                if (tokenSource != null) break;
+            }
+        }
+        return tokenSource;
+    }
+
+    public void setTokenSource(JavaTunedLexer tokenSource) {
+        this.tokenSource = tokenSource;
+    }
+
+    /**
+    * This does nothing, since the child nodes are stored in an array.
+    * It is only here so that code that calls it still compiles.
+    */
+    static public void setListClass(Class<? extends List> listClass) {
+    }
+
+    /**
+    * the parent node
+    */
+    private Node parent;
+    static private final Node[] NO_CHILDREN = new Node[0];
+    /**
+    * the child nodes, in the first childCount positions. While the
+    * node is being built, there can be room to spare, which is
+    * trimmed off in #close()
+    */
+    private Node[] children = NO_CHILDREN;
+    private int childCount;
+    private int beginOffset, endOffset;
+    private boolean unparsed;
+
+    public boolean isUnparsed() {
+        return this.unparsed;
+    }
+
+    public void setUnparsed(boolean unparsed) {
+        this.unparsed = unparsed;
+    }
+
+    public void setParent(Node n) {
+        parent = n;
+    }
+
+    public Node getParent() {
+        return parent;
+    }
+
+    public void addChild(Node n) {
+        addChild(childCount, n);
+    }
+
+    public void addChild(int i, Node n) {
+        if (i < 0 || i > childCount) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", child count: " + childCount);
+        }
+        if (childCount == children.length) {
+            children = Arrays.copyOf(children, Math.max(4, childCount * 2));
+        }
+        System.arraycopy(children, i, children, i + 1, childCount - i);
+        children[i] = n;
+        ++childCount;
+        n.setParent(this);
+    }
+
+    public Node getChild(int i) {
+        checkChildIndex(i);
+        return children[i];
+    }
+
+    public void setChild(int i, Node n) {
+        checkChildIndex(i);
+        children[i] = n;
+        n.setParent(this);
+    }
+
+    public Node removeChild(int i) {
+        checkChildIndex(i);
+        Node result = children[i];
+        System.arraycopy(children, i + 1, children, i, childCount - i - 1);
+        children[--childCount] = null;
+        return result;
+    }
+
+    private void checkChildIndex(int i) {
+        if (i < 0 || i >= childCount) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", child count: " + childCount);
+        }
+    }
+
+    public void clearChildren() {
+        children = NO_CHILDREN;
+        childCount = 0;
+    }
+
+    public int getChildCount() {
+        return childCount;
+    }
+
+    public List<Node> children() {
+        return Collections.unmodifiableList(Arrays.asList(children).subList(0, childCount));
+    }
+
+    /**
+    * Trims the array of child nodes to size, since the
+    * node is typically not added to after this.
+    */
+    public void close() {
+        if (children.length != childCount) {
+            children = childCount == 0 ? NO_CHILDREN : Arrays.copyOf(children, childCount);
+        }
+    }
+
+    public int getBeginOffset() {
+        return beginOffset;
+    }
+
+    public void setBeginOffset(int beginOffset) {
+        this.beginOffset = beginOffset;
+    }
+
+    public int getEndOffset() {
+        return endOffset;
+    }
+
+    public void setEndOffset(int endOffset) {
+        this.endOffset = endOffset;
+    }
+
+    public String toString() {
+        StringBuilder buf = new StringBuilder();
+        for (Token t : getRealTokens()) {
+            buf.append(t);
+        }
+        return buf.toString();
+    }
+
+    private Map<String, Node> namedChildMap;
+    private Map<String, List<Node>> namedChildListMap;
+
+    public Node getNamedChild(String name) {
+        if (namedChildMap == null) {
+            return null;
+        }
+        return namedChildMap.get(name);
+    }
+
+    public void setNamedChild(String name, Node node) {
+        if (namedChildMap == null) {
+            namedChildMap = new HashMap<>();
+        }
+        if (namedChildMap.containsKey(name)) {
+            // Can't have duplicates
+            String msg = String.format("Duplicate named child not allowed: {0}", name);
+            throw new RuntimeException(msg);
+        }
+        namedChildMap.put(name, node);
+    }
+
+    public List<Node> getNamedChildList(String name) {
+        if (namedChildListMap == null) {
+            return null;
+        }
+        return namedChildListMap.get(name);
+    }
+
+    public void addToNamedChildList(String name, Node node) {
+        if (namedChildListMap == null) {
+            namedChildListMap = new HashMap<>();
+        }
+        List<Node> nodeList = namedChildListMap.get(name);
+        if (nodeList == null) {
+            nodeList = new ArrayList<>();
+            namedChildListMap.put(name, nodeList);
+        }
+        nodeList.add(node);
+    }
+
+}
+
+
@@ -0,0 +1,5452 @@
+/* Generated by: JavaCC 21 Parser Generator. JavaTunedNfaData.java */
+package org.parsers.javatuned;
+
+import static org.parsers.javatuned.JavaTunedConstants.TokenType.*;
+import java.util.EnumSet;
+import java.util.BitSet;
+import java.util.Arrays;
+
+
+/**
+* Holder class for the data used by JavaTunedLexer
+* to do the NFA thang
+*/
+class JavaTunedNfaData implements JavaTunedConstants {
+
+    // The functional interface that represents
+    // the acceptance method of an NFA state
+    static interface NfaFunction {
+
+        TokenType apply(int ch, BitSet bs, EnumSet<TokenType> validTypes);
+
+    }
+
+    // All the tables here are built once, when the class is initialized,
+    // and never modified after that, so they can be shared by any number
+    // of lexers running on different threads.
+    // The NFA function tables for the respective lexical states, indexed by ordinal
+    static private final NfaFunction[][] functionTables = new NfaFunction[][] {JAVA.NFA_FUNCTIONS_init(), 
+    IN_MULTI_LINE_COMMENT.NFA_FUNCTIONS_init(), IN_SINGLE_LINE_COMMENT.NFA_FUNCTIONS_init()};
+    // The DFA tables of the lexical states, indexed by ordinal,
+    // with null for the ones that don't have one
+    static private final DfaTable[] dfaTables = new DfaTable[] {JAVA.DFA_TABLE_init(), IN_MULTI_LINE_COMMENT.DFA_TABLE_init(), 
+    IN_SINGLE_LINE_COMMENT.DFA_TABLE_init()};
+
+    // This data holder class is never instantiated
+    private JavaTunedNfaData() {
+    }
+
+    /**
+    * @param the lexical state
+    * @return the table of function pointers that implement the lexical state
+    */
+    static final NfaFunction[] getFunctionTableMap(LexicalState lexicalState) {
+        return functionTables[lexicalState.ordinal()];
+    }
+
+    /**
+    * @param the lexical state
+    * @return the DFA table for the lexical state, or null
+    * if the NFA must be used
+    */
+    static final DfaTable getDfaTable(LexicalState lexicalState) {
+        return dfaTables[lexicalState.ordinal()];
+    }
+
+    // Just use the canned binary search to check whether the char
+    // is in one of the intervals
+    private static final boolean checkIntervals(int[] ranges, int ch) {
+        int result = Arrays.binarySearch(ranges, ch);
+        return result >= 0 || result % 2 == 0;
+    }
+
+    // The larger tables are stored as (count, value) pairs
+    private static int[] decodeRuns(int[] runs) {
+        int size = 0;
+        for (int i = 0; i < runs.length; i += 2) {
+            size += runs[i];
+        }
+        int[] result = new int[size];
+        int index = 0;
+        for (int i = 0; i < runs.length; i += 2) {
+            Arrays.fill(result, index, index + runs[i], runs[i + 1]);
+            index += runs[i];
+        }
+        return result;
+    }
+
+
+    /**
+    * The deterministic transition table of a lexical state,
+    * built at generation time from its NFA by subset construction.
+    * The characters are partitioned into classes that all the states
+    * treat identically, so the next state is a single lookup.
+    */
+    static final class DfaTable {
+        private final int numClasses;
+        private final int[] asciiClasses, intervalStarts, intervalClasses;
+        private final int[] transitions;
+        private final boolean[] hasMoves;
+        private final int[] acceptOffsets, acceptIndexes;
+        private final TokenType[] acceptTypes;
+
+        DfaTable(int numClasses, int[] asciiClasses, int[] intervalStarts, int[] intervalClasses, 
+        int[] encodedTransitions, int[] acceptOffsets, int[] acceptIndexes, TokenType[] acceptTypes) {
+            this.numClasses = numClasses;
+            this.asciiClasses = asciiClasses;
+            this.intervalStarts = intervalStarts;
+            this.intervalClasses = intervalClasses;
+            this.acceptOffsets = acceptOffsets;
+            this.acceptIndexes = acceptIndexes;
+            this.acceptTypes = acceptTypes;
+            int numStates = acceptOffsets.length - 1;
+            transitions = decodeRuns(encodedTransitions);
+            hasMoves = new boolean[numStates];
+            for (int i = 0; i < transitions.length; i++) {
+                if (transitions[i] >= 0) hasMoves[i / numClasses] = true;
+            }
+        }
+
+        /**
+        * @return the state we move to from state on reading ch, or -1 if there is no such move
+        */
+        final int nextState(int state, int ch) {
+            int charClass;
+            if (ch < 128) {
+                charClass = asciiClasses[ch];
+            } else {
+                int index = Arrays.binarySearch(intervalStarts, ch);
+                charClass = intervalClasses[index >= 0 ? index : - index - 2];
+            }
+            return transitions[state * numClasses + charClass];
+        }
+
+        /**
+        * @return whether there are any moves out of this state
+        */
+        final boolean hasMoves(int state) {
+            return hasMoves[state];
+        }
+
+        /**
+        * @return the highest priority type among validTypes that is
+        * matched on entering this state, or null if there is none
+        */
+        final TokenType getAcceptedType(int state, EnumSet<TokenType> validTypes) {
+            for (int i = acceptOffsets[state]; i < acceptOffsets[state + 1]; i++) {
+                TokenType type = acceptTypes[acceptIndexes[i] ];
+                if (validTypes.contains(type)) return type;
+            }
+            return null;
+        }
+
+    }
+
+
+    /**
+    * Holder class for NFA code related to JAVA lexical state
+    */
+    private static class JAVA {
+
+        static private TokenType NFA_JAVA_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '!') {
+                nextStates.set(43);
+            } else if (ch == '"') {
+                nextStates.set(319);
+                nextStates.set(349);
+            } else if (ch == '%') {
+                nextStates.set(95);
+            } else if (ch == '&') {
+                nextStates.set(49);
+                nextStates.set(86);
+            } else if (ch == '\'') {
+                nextStates.set(401);
+            } else if (ch == '*') {
+                nextStates.set(81);
+            } else if (ch == '+') {
+                nextStates.set(52);
+                nextStates.set(74);
+            } else if (ch == '-') {
+                nextStates.set(54);
+                nextStates.set(78);
+                nextStates.set(122);
+            } else if (ch == '.') {
+                nextStates.set(393);
+                nextStates.set(16);
+            } else if (ch == '/') {
+                nextStates.set(3);
+                nextStates.set(5);
+                nextStates.set(83);
+            } else if (ch == '0') {
+                nextStates.set(364);
+                nextStates.set(368);
+                nextStates.set(373);
+                nextStates.set(375);
+                nextStates.set(379);
+                nextStates.set(408);
+                nextStates.set(383);
+                nextStates.set(416);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(346);
+                nextStates.set(352);
+                nextStates.set(26);
+                nextStates.set(127);
+            } else if (ch == ':') {
+                nextStates.set(14);
+            } else if (ch == '<') {
+                nextStates.set(38);
+                nextStates.set(72);
+                nextStates.set(98);
+            } else if (ch == '=') {
+                nextStates.set(34);
+            } else if (ch == '>') {
+                nextStates.set(40);
+                nextStates.set(102);
+                nextStates.set(106);
+                nextStates.set(110);
+                nextStates.set(116);
+            } else if (ch == '^') {
+                nextStates.set(92);
+            } else if (ch == 'a') {
+                nextStates.set(7);
+                nextStates.set(15);
+            } else if (ch == 'b') {
+                nextStates.set(22);
+                nextStates.set(30);
+                nextStates.set(35);
+            } else if (ch == 'c') {
+                nextStates.set(39);
+                nextStates.set(44);
+                nextStates.set(50);
+                nextStates.set(55);
+                nextStates.set(60);
+                nextStates.set(65);
+            } else if (ch == 'd') {
+                nextStates.set(73);
+                nextStates.set(82);
+                nextStates.set(84);
+            } else if (ch == 'e') {
+                nextStates.set(91);
+                nextStates.set(96);
+                nextStates.set(101);
+            } else if (ch == 'f') {
+                nextStates.set(112);
+                nextStates.set(119);
+                nextStates.set(125);
+                nextStates.set(135);
+                nextStates.set(139);
+            } else if (ch == 'g') {
+                nextStates.set(141);
+            } else if (ch == 'i') {
+                nextStates.set(144);
+                nextStates.set(145);
+                nextStates.set(154);
+                nextStates.set(160);
+                nextStates.set(169);
+                nextStates.set(171);
+            } else if (ch == 'l') {
+                nextStates.set(182);
+            } else if (ch == 'n') {
+                nextStates.set(325);
+                nextStates.set(185);
+                nextStates.set(191);
+                nextStates.set(193);
+            } else if (ch == 'p') {
+                nextStates.set(217);
+                nextStates.set(335);
+                nextStates.set(196);
+                nextStates.set(202);
+                nextStates.set(209);
+            } else if (ch == 'r') {
+                nextStates.set(222);
+                nextStates.set(227);
+            } else if (ch == 's') {
+                nextStates.set(232);
+                nextStates.set(236);
+                nextStates.set(241);
+                nextStates.set(250);
+                nextStates.set(254);
+                nextStates.set(259);
+                nextStates.set(320);
+            } else if (ch == 't') {
+                nextStates.set(271);
+                nextStates.set(274);
+                nextStates.set(278);
+                nextStates.set(283);
+                nextStates.set(292);
+                nextStates.set(295);
+            } else if (ch == 'v') {
+                nextStates.set(297);
+                nextStates.set(299);
+                nextStates.set(302);
+            } else if (ch == 'w') {
+                nextStates.set(309);
+            } else if (ch == 'y') {
+                nextStates.set(314);
+            } else if (ch == '|') {
+                nextStates.set(46);
+                nextStates.set(90);
+            }
+            if (((ch == '$') || ((ch >= 'A' && ch <= 'Z') || ((ch == '_') || (ch >= 'a' && ch <= 'z')))) || (ch >= 128 && checkIntervals(NFA_MOVES_JAVA_579, 
+            ch))) {
+                nextStates.set(131);
+                if (validTypes.contains(IDENTIFIER)) type = IDENTIFIER;
+            } else if (ch == '%') {
+                if (validTypes.contains(REM)) type = REM;
+            } else if (ch == '^') {
+                if (validTypes.contains(XOR)) type = XOR;
+            } else if (ch == '|') {
+                if (validTypes.contains(BIT_OR)) type = BIT_OR;
+            } else if (ch == '&') {
+                if (validTypes.contains(BIT_AND)) type = BIT_AND;
+            } else if (ch == '/') {
+                if (validTypes.contains(SLASH)) type = SLASH;
+            } else if (ch == '*') {
+                if (validTypes.contains(STAR)) type = STAR;
+            } else if (ch == '-') {
+                if (validTypes.contains(MINUS)) type = MINUS;
+            } else if (ch == '+') {
+                if (validTypes.contains(PLUS)) type = PLUS;
+            } else if (ch == ':') {
+                if (validTypes.contains(COLON)) type = COLON;
+            } else if (ch == '?') {
+                if (validTypes.contains(HOOK)) type = HOOK;
+            } else if (ch == '~') {
+                if (validTypes.contains(TILDE)) type = TILDE;
+            } else if (ch == '!') {
+                if (validTypes.contains(BANG)) type = BANG;
+            } else if (ch == '<') {
+                if (validTypes.contains(LT)) type = LT;
+            } else if (ch == '>') {
+                if (validTypes.contains(GT)) type = GT;
+            } else if (ch == '=') {
+                if (validTypes.contains(ASSIGN)) type = ASSIGN;
+            } else if (ch == '@') {
+                if (validTypes.contains(AT)) type = AT;
+            } else if (ch == '.') {
+                if (validTypes.contains(DOT)) type = DOT;
+            } else if (ch == ',') {
+                if (validTypes.contains(COMMA)) type = COMMA;
+            } else if (ch == ';') {
+                if (validTypes.contains(SEMICOLON)) type = SEMICOLON;
+            } else if (ch == ']') {
+                if (validTypes.contains(RBRACKET)) type = RBRACKET;
+            } else if (ch == '[') {
+                if (validTypes.contains(LBRACKET)) type = LBRACKET;
+            } else if (ch == '}') {
+                if (validTypes.contains(RBRACE)) type = RBRACE;
+            } else if (ch == '{') {
+                if (validTypes.contains(LBRACE)) type = LBRACE;
+            } else if (ch == ')') {
+                if (validTypes.contains(RPAREN)) type = RPAREN;
+            } else if (ch == '(') {
+                if (validTypes.contains(LPAREN)) type = LPAREN;
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(180);
+                if (validTypes.contains(INTEGER_LITERAL)) type = INTEGER_LITERAL;
+            }
+            if (ch == '_') {
+                if (validTypes.contains(UNDERSCORE)) type = UNDERSCORE;
+            } else if (ch == '\t') {
+                nextStates.set(28);
+                if (validTypes.contains(WHITESPACE)) type = WHITESPACE;
+            } else if (ch == '\n') {
+                nextStates.set(28);
+                if (validTypes.contains(WHITESPACE)) type = WHITESPACE;
+            } else if (ch == '\f') {
+                nextStates.set(28);
+                if (validTypes.contains(WHITESPACE)) type = WHITESPACE;
+            } else if (ch == '\r') {
+                nextStates.set(28);
+                if (validTypes.contains(WHITESPACE)) type = WHITESPACE;
+            } else if (ch == ' ') {
+                nextStates.set(28);
+                if (validTypes.contains(WHITESPACE)) type = WHITESPACE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_2(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '7') || (ch == '_')) {
+                nextStates.set(270);
+            }
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(387);
+            } else if ((ch == 'L') || (ch == 'l')) {
+                if (validTypes.contains(LONG_LITERAL)) type = LONG_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_3(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '/') {
+                if (validTypes.contains(SINGLE_LINE_COMMENT_START)) type = SINGLE_LINE_COMMENT_START;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_4(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(181);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(1);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_5(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '*') {
+                if (validTypes.contains(MULTI_LINE_COMMENT_START)) type = MULTI_LINE_COMMENT_START;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_6(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(356);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(355);
+                nextStates.set(6);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_7(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'b') {
+                nextStates.set(8);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_8(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(9);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_9(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(10);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_10(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(11);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_11(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(12);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_12(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(13);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_13(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(ABSTRACT)) type = ABSTRACT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_14(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == ':') {
+                if (validTypes.contains(DOUBLE_COLON)) type = DOUBLE_COLON;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_15(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(17);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_16(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                nextStates.set(18);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_17(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(19);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_18(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                if (validTypes.contains(VAR_ARGS)) type = VAR_ARGS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_19(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(20);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_20(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(21);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_21(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(_ASSERT)) type = _ASSERT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_22(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(23);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_23(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(24);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_24(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(25);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_25(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(27);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_26(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(291);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(387);
+            } else if ((ch == 'L') || (ch == 'l')) {
+                if (validTypes.contains(LONG_LITERAL)) type = LONG_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_27(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(29);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_28(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '\t') {
+                nextStates.set(28);
+                if (validTypes.contains(WHITESPACE)) type = WHITESPACE;
+            } else if (ch == '\n') {
+                nextStates.set(28);
+                if (validTypes.contains(WHITESPACE)) type = WHITESPACE;
+            } else if (ch == '\f') {
+                nextStates.set(28);
+                if (validTypes.contains(WHITESPACE)) type = WHITESPACE;
+            } else if (ch == '\r') {
+                nextStates.set(28);
+                if (validTypes.contains(WHITESPACE)) type = WHITESPACE;
+            } else if (ch == ' ') {
+                nextStates.set(28);
+                if (validTypes.contains(WHITESPACE)) type = WHITESPACE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_29(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                if (validTypes.contains(BOOLEAN)) type = BOOLEAN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_30(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(31);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_31(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(32);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_32(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(33);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_33(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'k') {
+                if (validTypes.contains(BREAK)) type = BREAK;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_34(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(EQ)) type = EQ;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_35(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'y') {
+                nextStates.set(36);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_36(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(37);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_37(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(BYTE)) type = BYTE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_38(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(LE)) type = LE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_39(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(41);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_40(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(GE)) type = GE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_41(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(42);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_42(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(CASE)) type = CASE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_43(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(NE)) type = NE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_44(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(45);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_45(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(47);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_46(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '|') {
+                if (validTypes.contains(SC_OR)) type = SC_OR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_47(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(48);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_48(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                if (validTypes.contains(CATCH)) type = CATCH;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_49(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '&') {
+                if (validTypes.contains(SC_AND)) type = SC_AND;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_50(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(51);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_51(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(53);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_52(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '+') {
+                if (validTypes.contains(INCR)) type = INCR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_53(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                if (validTypes.contains(CHAR)) type = CHAR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_54(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '-') {
+                if (validTypes.contains(DECR)) type = DECR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_55(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(56);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_56(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(57);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_57(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(58);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_58(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                if (validTypes.contains(CLASS)) type = CLASS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_59(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '0' || ch == '1') || (ch == '_')) {
+                nextStates.set(317);
+            }
+            if (ch == '0' || ch == '1') {
+                nextStates.set(387);
+            } else if ((ch == 'L') || (ch == 'l')) {
+                if (validTypes.contains(LONG_LITERAL)) type = LONG_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_60(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(61);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_61(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(62);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_62(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(63);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_63(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(CONST)) type = CONST;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_64(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))) {
+                nextStates.set(124);
+            } else if (ch == '"') {
+                nextStates.set(366);
+            } else if (ch == '\\') {
+                nextStates.set(367);
+                nextStates.set(377);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_65(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(66);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_66(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(67);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_67(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(68);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_68(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(69);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_69(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(70);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_70(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(71);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_71(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(CONTINUE)) type = CONTINUE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_72(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '<') {
+                if (validTypes.contains(LSHIFT)) type = LSHIFT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_73(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(75);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_74(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(PLUSASSIGN)) type = PLUSASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_75(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'f') {
+                nextStates.set(76);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_76(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(77);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_77(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(79);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_78(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(MINUSASSIGN)) type = MINUSASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_79(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(80);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_80(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(_DEFAULT)) type = _DEFAULT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_81(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(STARASSIGN)) type = STARASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_82(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                if (validTypes.contains(DO)) type = DO;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_83(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(SLASHASSIGN)) type = SLASHASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_84(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(85);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_85(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(87);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_86(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(ANDASSIGN)) type = ANDASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_87(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'b') {
+                nextStates.set(88);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_88(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(89);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_89(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(DOUBLE)) type = DOUBLE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_90(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(ORASSIGN)) type = ORASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_91(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(93);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_92(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(XORASSIGN)) type = XORASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_93(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(94);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_94(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(ELSE)) type = ELSE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_95(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(REMASSIGN)) type = REMASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_96(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(97);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_97(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(99);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_98(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '<') {
+                nextStates.set(100);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_99(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'm') {
+                if (validTypes.contains(ENUM)) type = ENUM;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_100(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(LSHIFTASSIGN)) type = LSHIFTASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_101(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'x') {
+                nextStates.set(103);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_102(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                if (validTypes.contains(RSIGNEDSHIFT)) type = RSIGNEDSHIFT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_103(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(104);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_104(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(105);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_105(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(107);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_106(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                nextStates.set(108);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_107(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                nextStates.set(109);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_108(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                if (validTypes.contains(RUNSIGNEDSHIFT)) type = RUNSIGNEDSHIFT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_109(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                if (validTypes.contains(EXTENDS)) type = EXTENDS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_110(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                nextStates.set(111);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_111(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(RSIGNEDSHIFTASSIGN)) type = RSIGNEDSHIFTASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_112(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(113);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_113(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(114);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_114(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(115);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_115(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(FALSE)) type = FALSE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_116(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                nextStates.set(117);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_117(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                nextStates.set(118);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_118(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(RUNSIGNEDSHIFTASSIGN)) type = RUNSIGNEDSHIFTASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_119(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(120);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_120(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(121);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_121(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(123);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_122(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                if (validTypes.contains(LAMBDA)) type = LAMBDA;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_123(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                if (validTypes.contains(FINAL)) type = FINAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_124(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))) {
+                nextStates.set(124);
+            } else if (ch == '"') {
+                nextStates.set(360);
+                nextStates.set(64);
+                nextStates.set(366);
+            } else if (ch == '\\') {
+                nextStates.set(367);
+                nextStates.set(377);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_125(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(126);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_126(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(128);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_127(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(341);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(388);
+            } else if (ch == '.') {
+                nextStates.set(190);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_128(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(129);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_129(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(130);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_130(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(132);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_131(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (((ch >= 0x0 && ch <= 0x8) || ((ch >= 0xe && ch <= 0x1b) || ((ch == '$') || ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'Z') || ((ch == '_') || ((ch >= 'a' && ch <= 'z') || (ch >= 0x7f && ch <= 0x9f)))))))) || (ch >= 128 && checkIntervals(NFA_MOVES_JAVA_580, 
+            ch))) {
+                nextStates.set(131);
+                if (validTypes.contains(IDENTIFIER)) type = IDENTIFIER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_132(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'y') {
+                if (validTypes.contains(FINALLY)) type = FINALLY;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_133(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(362);
+            } else if ((ch == 'E') || (ch == 'e')) {
+                nextStates.set(369);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(370);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_134(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || ((ch == '_') || (ch >= 'a' && ch <= 'f')))) {
+                nextStates.set(134);
+            }
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                if (validTypes.contains(INTEGER_LITERAL)) type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_135(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(136);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_136(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(137);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_137(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(138);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_138(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(FLOAT)) type = FLOAT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_139(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(140);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_140(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                if (validTypes.contains(FOR)) type = FOR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_141(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(142);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_142(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(143);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_143(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                if (validTypes.contains(GOTO)) type = GOTO;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_144(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'f') {
+                if (validTypes.contains(IF)) type = IF;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_145(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'm') {
+                nextStates.set(146);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_146(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'p') {
+                nextStates.set(147);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_147(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(148);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_148(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(149);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_149(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'm') {
+                nextStates.set(150);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_150(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(151);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_151(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(152);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_152(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(153);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_153(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                if (validTypes.contains(IMPLEMENTS)) type = IMPLEMENTS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_154(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'm') {
+                nextStates.set(155);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_155(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'p') {
+                nextStates.set(156);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_156(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(158);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_157(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '7') || (ch == '_')) {
+                nextStates.set(157);
+            }
+            if (ch >= '0' && ch <= '7') {
+                if (validTypes.contains(INTEGER_LITERAL)) type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_158(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(159);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_159(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(_IMPORT)) type = _IMPORT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_160(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(161);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_161(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(162);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_162(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(163);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_163(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(164);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_164(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(165);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_165(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(166);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_166(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(167);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_167(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(168);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_168(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'f') {
+                if (validTypes.contains(INSTANCEOF)) type = INSTANCEOF;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_169(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(170);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_170(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(INT)) type = INT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_171(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(172);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_172(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(173);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_173(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(174);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_174(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(175);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_175(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'f') {
+                nextStates.set(176);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_176(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(177);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_177(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(178);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_178(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(INTERFACE)) type = INTERFACE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_179(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(372);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(371);
+                nextStates.set(179);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_180(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(180);
+            }
+            if (ch >= '0' && ch <= '9') {
+                if (validTypes.contains(INTEGER_LITERAL)) type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_181(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(181);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(1);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_182(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(183);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_183(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(184);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_184(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'g') {
+                if (validTypes.contains(LONG)) type = LONG;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_185(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(186);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_186(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(187);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_187(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(188);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_188(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'v') {
+                nextStates.set(189);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_189(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(NATIVE)) type = NATIVE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_190(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'E') || (ch == 'e')) {
+                nextStates.set(351);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(418);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_191(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(192);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_192(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'w') {
+                if (validTypes.contains(NEW)) type = NEW;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_193(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(194);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_194(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(195);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_195(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                if (validTypes.contains(NULL)) type = NULL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_196(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(197);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_197(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(198);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_198(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'k') {
+                nextStates.set(199);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_199(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(200);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_200(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'g') {
+                nextStates.set(201);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_201(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(PACKAGE)) type = PACKAGE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_202(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(203);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_203(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(204);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_204(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'v') {
+                nextStates.set(205);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_205(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(206);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_206(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(207);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_207(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(PRIVATE)) type = PRIVATE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_208(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '0' || ch == '1') || (ch == '_')) {
+                nextStates.set(208);
+            }
+            if (ch == '0' || ch == '1') {
+                if (validTypes.contains(INTEGER_LITERAL)) type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_209(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(210);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_210(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(211);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_211(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(212);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_212(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(213);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_213(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(214);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_214(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(215);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_215(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(216);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_216(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(PROTECTED)) type = PROTECTED;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_217(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(218);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_218(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'b') {
+                nextStates.set(219);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_219(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(220);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_220(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(221);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_221(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                if (validTypes.contains(PUBLIC)) type = PUBLIC;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_222(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(223);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_223(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(224);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_224(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(225);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_225(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(226);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_226(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                if (validTypes.contains(RETURN)) type = RETURN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_227(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(228);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_228(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(229);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_229(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(230);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_230(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(231);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_231(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(RECORD)) type = RECORD;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_232(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(233);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_233(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(234);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_234(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(235);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_235(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(SHORT)) type = SHORT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_236(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(237);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_237(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(238);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_238(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(239);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_239(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(240);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_240(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                if (validTypes.contains(STATIC)) type = STATIC;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_241(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(242);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_242(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(243);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_243(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(245);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_244(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || ((ch == '_') || (ch >= 'a' && ch <= 'f')))) {
+                nextStates.set(244);
+            }
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(387);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_245(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(247);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_246(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '"') || ((ch == '\'') || ((ch == '\\') || ((ch == 'b') || ((ch == 'f') || ((ch == 'n') || (ch >= 'r' && ch <= 't'))))))) {
+                nextStates.set(344);
+            } else if (ch >= '0' && ch <= '3') {
+                nextStates.set(342);
+            }
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(405);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_247(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(248);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_248(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'f') {
+                nextStates.set(249);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_249(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'p') {
+                if (validTypes.contains(STRICTFP)) type = STRICTFP;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_250(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(251);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_251(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'p') {
+                nextStates.set(252);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_252(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(253);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_253(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                if (validTypes.contains(SUPER)) type = SUPER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_254(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'w') {
+                nextStates.set(255);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_255(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(256);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_256(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(257);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_257(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(258);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_258(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                if (validTypes.contains(SWITCH)) type = SWITCH;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_259(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'y') {
+                nextStates.set(260);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_260(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(261);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_261(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(262);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_262(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(263);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_263(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(264);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_264(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(265);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_265(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(266);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_266(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(267);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_267(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'z') {
+                nextStates.set(268);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_268(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(269);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_269(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(SYNCHRONIZED)) type = SYNCHRONIZED;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_270(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '7') || (ch == '_')) {
+                nextStates.set(270);
+            }
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(387);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_271(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(272);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_272(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(273);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_273(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                if (validTypes.contains(THIS)) type = THIS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_274(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(275);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_275(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(276);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_276(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(277);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_277(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'w') {
+                if (validTypes.contains(THROW)) type = THROW;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_278(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(279);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_279(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(280);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_280(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(281);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_281(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'w') {
+                nextStates.set(282);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_282(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                if (validTypes.contains(THROWS)) type = THROWS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_283(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(284);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_284(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(285);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_285(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(286);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_286(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(287);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_287(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(288);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_288(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(289);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_289(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(290);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_290(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(TRANSIENT)) type = TRANSIENT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_291(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(291);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(387);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_292(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(293);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_293(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(294);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_294(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(TRUE)) type = TRUE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_295(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(296);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_296(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'y') {
+                if (validTypes.contains(TRY)) type = TRY;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_297(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(298);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_298(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                if (validTypes.contains(VAR)) type = VAR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_299(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(300);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_300(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(301);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_301(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(VOID)) type = VOID;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_302(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(303);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_303(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(304);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_304(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(305);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_305(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(306);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_306(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(307);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_307(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(308);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_308(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(VOLATILE)) type = VOLATILE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_309(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(310);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_310(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(311);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_311(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(312);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_312(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(WHILE)) type = WHILE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_313(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(386);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(385);
+                nextStates.set(313);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_314(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(315);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_315(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(316);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_316(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(318);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_317(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '0' || ch == '1') || (ch == '_')) {
+                nextStates.set(317);
+            }
+            if (ch == '0' || ch == '1') {
+                nextStates.set(387);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_318(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(YIELD)) type = YIELD;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_319(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '\t') || ((ch == 0xb || ch == '\f') || ((ch >= 0xe && ch <= '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))))) {
+                nextStates.set(319);
+            } else if (ch == '\\') {
+                nextStates.set(328);
+            } else if (ch == '"') {
+                if (validTypes.contains(STRING_LITERAL)) type = STRING_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_320(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(321);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_321(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(322);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_322(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(323);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_323(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(324);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_324(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(SEALED)) type = SEALED;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_325(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(326);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_326(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(327);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_327(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '-') {
+                nextStates.set(329);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_328(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '"') || ((ch == '\'') || ((ch == '\\') || ((ch == 'b') || ((ch == 'f') || ((ch == 'n') || (ch >= 'r' && ch <= 't'))))))) {
+                nextStates.set(319);
+            } else if (ch >= '0' && ch <= '3') {
+                nextStates.set(347);
+            }
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(403);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_329(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(330);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_330(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(331);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_331(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(332);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_332(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(333);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_333(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(334);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_334(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(NON_SEALED)) type = NON_SEALED;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_335(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(336);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_336(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(337);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_337(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'm') {
+                nextStates.set(338);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_338(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(339);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_339(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(340);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_340(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                if (validTypes.contains(PERMITS)) type = PERMITS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_341(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(341);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(388);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_342(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(343);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_343(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(344);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_344(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '\'') {
+                if (validTypes.contains(CHARACTER_LITERAL)) type = CHARACTER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_345(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(345);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(354);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_346(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(378);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(397);
+            } else if ((ch == 'E') || (ch == 'e')) {
+                nextStates.set(380);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_347(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(348);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_348(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(319);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_349(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '"') {
+                nextStates.set(350);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_350(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '"') {
+                nextStates.set(420);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_351(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '+') || (ch == '-')) {
+                nextStates.set(390);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(6);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_352(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(389);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(392);
+            } else if ((ch == 'E') || (ch == 'e')) {
+                nextStates.set(391);
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_353(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '\n') {
+                nextStates.set(124);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_354(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'E') || (ch == 'e')) {
+                nextStates.set(351);
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_355(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(6);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_356(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(356);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(355);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_357(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(358);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_358(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(124);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_359(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '\n') {
+                nextStates.set(124);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_360(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '"') {
+                nextStates.set(361);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_361(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '"') {
+                if (validTypes.contains(TEXT_BLOCK_LITERAL)) type = TEXT_BLOCK_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_362(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(362);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(370);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_363(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(394);
+                nextStates.set(363);
+            }
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(395);
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_364(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'X') || (ch == 'x')) {
+                nextStates.set(365);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_365(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(134);
+                if (validTypes.contains(INTEGER_LITERAL)) type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_366(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))) {
+                nextStates.set(124);
+            } else if (ch == '\\') {
+                nextStates.set(367);
+                nextStates.set(377);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_367(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '"') || ((ch == '\'') || ((ch == '\\') || ((ch == 'b') || ((ch == 'f') || ((ch == 'n') || (ch >= 'r' && ch <= 't'))))))) {
+                nextStates.set(124);
+            } else if (ch >= '0' && ch <= '3') {
+                nextStates.set(357);
+            }
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(381);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_368(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(157);
+                if (validTypes.contains(INTEGER_LITERAL)) type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_369(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '+') || (ch == '-')) {
+                nextStates.set(396);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(179);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_370(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'E') || (ch == 'e')) {
+                nextStates.set(369);
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_371(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(179);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_372(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(372);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(371);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_373(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'B') || (ch == 'b')) {
+                nextStates.set(374);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_374(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '0' || ch == '1') {
+                nextStates.set(208);
+                if (validTypes.contains(INTEGER_LITERAL)) type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_375(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'X') || (ch == 'x')) {
+                nextStates.set(376);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_376(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(423);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_377(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '\n') {
+                nextStates.set(124);
+            } else if (ch == '\r') {
+                nextStates.set(124);
+                nextStates.set(359);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_378(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(378);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(397);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_379(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(2);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_380(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '+') || (ch == '-')) {
+                nextStates.set(400);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(313);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_381(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))) {
+                nextStates.set(124);
+            } else if (ch == '"') {
+                nextStates.set(360);
+                nextStates.set(64);
+                nextStates.set(366);
+            }
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(124);
+            } else if (ch == '\\') {
+                nextStates.set(367);
+                nextStates.set(377);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_382(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                nextStates.set(411);
+            } else if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || ((ch == '_') || (ch >= 'a' && ch <= 'f')))) {
+                nextStates.set(399);
+            }
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(402);
+            } else if ((ch == 'P') || (ch == 'p')) {
+                nextStates.set(404);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_383(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'B') || (ch == 'b')) {
+                nextStates.set(384);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_384(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '0' || ch == '1') {
+                nextStates.set(59);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_385(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(313);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_386(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(386);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(385);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_387(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'L') || (ch == 'l')) {
+                if (validTypes.contains(LONG_LITERAL)) type = LONG_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_388(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                nextStates.set(190);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_389(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(389);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(392);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_390(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(6);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_391(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '+') || (ch == '-')) {
+                nextStates.set(406);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(363);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_392(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'E') || (ch == 'e')) {
+                nextStates.set(391);
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_393(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(133);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_394(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(363);
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_395(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(394);
+            }
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(395);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_396(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(179);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_397(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'E') || (ch == 'e')) {
+                nextStates.set(380);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_398(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(407);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(415);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_399(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || ((ch == '_') || (ch >= 'a' && ch <= 'f')))) {
+                nextStates.set(399);
+            }
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(402);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_400(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(313);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_401(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '\t') || ((ch == 0xb || ch == '\f') || ((ch >= 0xe && ch <= '&') || ((ch >= '(' && ch <= '[') || (ch >= ']'))))) {
+                nextStates.set(344);
+            } else if (ch == '\\') {
+                nextStates.set(246);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_402(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                nextStates.set(411);
+            } else if ((ch == 'P') || (ch == 'p')) {
+                nextStates.set(404);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_403(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '\t') || ((ch == 0xb || ch == '\f') || ((ch >= 0xe && ch <= '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))))) {
+                nextStates.set(319);
+            }
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(319);
+            } else if (ch == '\\') {
+                nextStates.set(328);
+            } else if (ch == '"') {
+                if (validTypes.contains(STRING_LITERAL)) type = STRING_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_404(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '+') || (ch == '-')) {
+                nextStates.set(413);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(398);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_405(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(344);
+            } else if (ch == '\'') {
+                if (validTypes.contains(CHARACTER_LITERAL)) type = CHARACTER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_406(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(363);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_407(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(407);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(415);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_408(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'X') || (ch == 'x')) {
+                nextStates.set(410);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_409(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                nextStates.set(422);
+            } else if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || ((ch == '_') || (ch >= 'a' && ch <= 'f')))) {
+                nextStates.set(414);
+            }
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(421);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_410(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(382);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_411(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'P') || (ch == 'p')) {
+                nextStates.set(404);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_412(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                nextStates.set(422);
+            } else if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(409);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_413(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(398);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_414(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || ((ch == '_') || (ch >= 'a' && ch <= 'f')))) {
+                nextStates.set(414);
+            }
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(421);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_415(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_416(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'X') || (ch == 'x')) {
+                nextStates.set(412);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_417(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || ((ch == '_') || (ch >= 'a' && ch <= 'f')))) {
+                nextStates.set(419);
+            }
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(425);
+            } else if ((ch == 'P') || (ch == 'p')) {
+                nextStates.set(424);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_418(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(345);
+            } else if ((ch == 'E') || (ch == 'e')) {
+                nextStates.set(351);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(354);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_419(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || ((ch == '_') || (ch >= 'a' && ch <= 'f')))) {
+                nextStates.set(419);
+            }
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(425);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_420(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '\t') || ((ch == '\f') || (ch == ' '))) {
+                nextStates.set(420);
+            } else if (ch == '\n') {
+                nextStates.set(124);
+            } else if (ch == '\r') {
+                nextStates.set(124);
+                nextStates.set(353);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_421(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                nextStates.set(422);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_422(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(417);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_423(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || ((ch == '_') || (ch >= 'a' && ch <= 'f')))) {
+                nextStates.set(244);
+            }
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(387);
+            } else if ((ch == 'L') || (ch == 'l')) {
+                if (validTypes.contains(LONG_LITERAL)) type = LONG_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_424(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '+') || (ch == '-')) {
+                nextStates.set(426);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(4);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_425(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'P') || (ch == 'p')) {
+                nextStates.set(424);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_426(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(4);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private final int[] NFA_MOVES_JAVA_579 = NFA_MOVES_JAVA_579_init();
+
+        static private int[] NFA_MOVES_JAVA_579_init() {
+            return new int[] {'$', '$', 'A', 'Z', '_', '_', 'a', 'z', 0xa2, 0xa5, 0xaa, 0xaa, 
+            0xb5, 0xb5, 0xba, 0xba, 0xc0, 0xd6, 0xd8, 0xf6, 0xf8, 0x2c1, 0x2c6, 0x2d1, 0x2e0, 
+            0x2e4, 0x2ec, 0x2ec, 0x2ee, 0x2ee, 0x370, 0x374, 0x376, 0x377, 0x37a, 0x37d, 0x37f, 
+            0x37f, 0x386, 0x386, 0x388, 0x38a, 0x38c, 0x38c, 0x38e, 0x3a1, 0x3a3, 0x3f5, 0x3f7, 
+            0x481, 0x48a, 0x52f, 0x531, 0x556, 0x559, 0x559, 0x560, 0x588, 0x58f, 0x58f, 0x5d0, 
+            0x5ea, 0x5ef, 0x5f2, 0x60b, 0x60b, 0x620, 0x64a, 0x66e, 0x66f, 0x671, 0x6d3, 0x6d5, 
+            0x6d5, 0x6e5, 0x6e6, 0x6ee, 0x6ef, 0x6fa, 0x6fc, 0x6ff, 0x6ff, 0x710, 0x710, 0x712, 
+            0x72f, 0x74d, 0x7a5, 0x7b1, 0x7b1, 0x7ca, 0x7ea, 0x7f4, 0x7f5, 0x7fa, 0x7fa, 0x7fe, 
+            0x815, 0x81a, 0x81a, 0x824, 0x824, 0x828, 0x828, 0x840, 0x858, 0x860, 0x86a, 0x870, 
+            0x887, 0x889, 0x88e, 0x8a0, 0x8c9, 0x904, 0x939, 0x93d, 0x93d, 0x950, 0x950, 0x958, 
+            0x961, 0x971, 0x980, 0x985, 0x98c, 0x98f, 0x990, 0x993, 0x9a8, 0x9aa, 0x9b0, 0x9b2, 
+            0x9b2, 0x9b6, 0x9b9, 0x9bd, 0x9bd, 0x9ce, 0x9ce, 0x9dc, 0x9dd, 0x9df, 0x9e1, 0x9f0, 
+            0x9f3, 0x9fb, 0x9fc, 0xa05, 0xa0a, 0xa0f, 0xa10, 0xa13, 0xa28, 0xa2a, 0xa30, 0xa32, 
+            0xa33, 0xa35, 0xa36, 0xa38, 0xa39, 0xa59, 0xa5c, 0xa5e, 0xa5e, 0xa72, 0xa74, 0xa85, 
+            0xa8d, 0xa8f, 0xa91, 0xa93, 0xaa8, 0xaaa, 0xab0, 0xab2, 0xab3, 0xab5, 0xab9, 0xabd, 
+            0xabd, 0xad0, 0xad0, 0xae0, 0xae1, 0xaf1, 0xaf1, 0xaf9, 0xaf9, 0xb05, 0xb0c, 0xb0f, 
+            0xb10, 0xb13, 0xb28, 0xb2a, 0xb30, 0xb32, 0xb33, 0xb35, 0xb39, 0xb3d, 0xb3d, 0xb5c, 
+            0xb5d, 0xb5f, 0xb61, 0xb71, 0xb71, 0xb83, 0xb83, 0xb85, 0xb8a, 0xb8e, 0xb90, 0xb92, 
+            0xb95, 0xb99, 0xb9a, 0xb9c, 0xb9c, 0xb9e, 0xb9f, 0xba3, 0xba4, 0xba8, 0xbaa, 0xbae, 
+            0xbb9, 0xbd0, 0xbd0, 0xbf9, 0xbf9, 0xc05, 0xc0c, 0xc0e, 0xc10, 0xc12, 0xc28, 0xc2a, 
+            0xc39, 0xc3d, 0xc3d, 0xc58, 0xc5a, 0xc5d, 0xc5d, 0xc60, 0xc61, 0xc80, 0xc80, 0xc85, 
+            0xc8c, 0xc8e, 0xc90, 0xc92, 0xca8, 0xcaa, 0xcb3, 0xcb5, 0xcb9, 0xcbd, 0xcbd, 0xcdd, 
+            0xcde, 0xce0, 0xce1, 0xcf1, 0xcf2, 0xd04, 0xd0c, 0xd0e, 0xd10, 0xd12, 0xd3a, 0xd3d, 
+            0xd3d, 0xd4e, 0xd4e, 0xd54, 0xd56, 0xd5f, 0xd61, 0xd7a, 0xd7f, 0xd85, 0xd96, 0xd9a, 
+            0xdb1, 0xdb3, 0xdbb, 0xdbd, 0xdbd, 0xdc0, 0xdc6, 0xe01, 0xe30, 0xe32, 0xe33, 0xe3f, 
+            0xe46, 0xe81, 0xe82, 0xe84, 0xe84, 0xe86, 0xe8a, 0xe8c, 0xea3, 0xea5, 0xea5, 0xea7, 
+            0xeb0, 0xeb2, 0xeb3, 0xebd, 0xebd, 0xec0, 0xec4, 0xec6, 0xec6, 0xedc, 0xedf, 0xf00, 
+            0xf00, 0xf40, 0xf47, 0xf49, 0xf6c, 0xf88, 0xf8c, 0x1000, 0x102a, 0x103f, 0x103f, 
+            0x1050, 0x1055, 0x105a, 0x105d, 0x1061, 0x1061, 0x1065, 0x1066, 0x106e, 0x1070, 
+            0x1075, 0x1081, 0x108e, 0x108e, 0x10a0, 0x10c5, 0x10c7, 0x10c7, 0x10cd, 0x10cd, 
+            0x10d0, 0x10fa, 0x10fc, 0x1248, 0x124a, 0x124d, 0x1250, 0x1256, 0x1258, 0x1258, 
+            0x125a, 0x125d, 0x1260, 0x1288, 0x128a, 0x128d, 0x1290, 0x12b0, 0x12b2, 0x12b5, 
+            0x12b8, 0x12be, 0x12c0, 0x12c0, 0x12c2, 0x12c5, 0x12c8, 0x12d6, 0x12d8, 0x1310, 
+            0x1312, 0x1315, 0x1318, 0x135a, 0x1380, 0x138f, 0x13a0, 0x13f5, 0x13f8, 0x13fd, 
+            0x1401, 0x166c, 0x166f, 0x167f, 0x1681, 0x169a, 0x16a0, 0x16ea, 0x16ee, 0x16f8, 
+            0x1700, 0x1711, 0x171f, 0x1731, 0x1740, 0x1751, 0x1760, 0x176c, 0x176e, 0x1770, 
+            0x1780, 0x17b3, 0x17d7, 0x17d7, 0x17db, 0x17dc, 0x1820, 0x1878, 0x1880, 0x1884, 
+            0x1887, 0x18a8, 0x18aa, 0x18aa, 0x18b0, 0x18f5, 0x1900, 0x191e, 0x1950, 0x196d, 
+            0x1970, 0x1974, 0x1980, 0x19ab, 0x19b0, 0x19c9, 0x1a00, 0x1a16, 0x1a20, 0x1a54, 
+            0x1aa7, 0x1aa7, 0x1b05, 0x1b33, 0x1b45, 0x1b4c, 0x1b83, 0x1ba0, 0x1bae, 0x1baf, 
+            0x1bba, 0x1be5, 0x1c00, 0x1c23, 0x1c4d, 0x1c4f, 0x1c5a, 0x1c7d, 0x1c80, 0x1c88, 
+            0x1c90, 0x1cba, 0x1cbd, 0x1cbf, 0x1ce9, 0x1cec, 0x1cee, 0x1cf3, 0x1cf5, 0x1cf6, 
+            0x1cfa, 0x1cfa, 0x1d00, 0x1dbf, 0x1e00, 0x1f15, 0x1f18, 0x1f1d, 0x1f20, 0x1f45, 
+            0x1f48, 0x1f4d, 0x1f50, 0x1f57, 0x1f59, 0x1f59, 0x1f5b, 0x1f5b, 0x1f5d, 0x1f5d, 
+            0x1f5f, 0x1f7d, 0x1f80, 0x1fb4, 0x1fb6, 0x1fbc, 0x1fbe, 0x1fbe, 0x1fc2, 0x1fc4, 
+            0x1fc6, 0x1fcc, 0x1fd0, 0x1fd3, 0x1fd6, 0x1fdb, 0x1fe0, 0x1fec, 0x1ff2, 0x1ff4, 
+            0x1ff6, 0x1ffc, 0x203f, 0x2040, 0x2054, 0x2054, 0x2071, 0x2071, 0x207f, 0x207f, 
+            0x2090, 0x209c, 0x20a0, 0x20c0, 0x2102, 0x2102, 0x2107, 0x2107, 0x210a, 0x2113, 
+            0x2115, 0x2115, 0x2119, 0x211d, 0x2124, 0x2124, 0x2126, 0x2126, 0x2128, 0x2128, 
+            0x212a, 0x212d, 0x212f, 0x2139, 0x213c, 0x213f, 0x2145, 0x2149, 0x214e, 0x214e, 
+            0x2160, 0x2188, 0x2c00, 0x2ce4, 0x2ceb, 0x2cee, 0x2cf2, 0x2cf3, 0x2d00, 0x2d25, 
+            0x2d27, 0x2d27, 0x2d2d, 0x2d2d, 0x2d30, 0x2d67, 0x2d6f, 0x2d6f, 0x2d80, 0x2d96, 
+            0x2da0, 0x2da6, 0x2da8, 0x2dae, 0x2db0, 0x2db6, 0x2db8, 0x2dbe, 0x2dc0, 0x2dc6, 
+            0x2dc8, 0x2dce, 0x2dd0, 0x2dd6, 0x2dd8, 0x2dde, 0x2e2f, 0x2e2f, 0x3005, 0x3007, 
+            0x3021, 0x3029, 0x3031, 0x3035, 0x3038, 0x303c, 0x3041, 0x3096, 0x309d, 0x309f, 
+            0x30a1, 0x30fa, 0x30fc, 0x30ff, 0x3105, 0x312f, 0x3131, 0x318e, 0x31a0, 0x31bf, 
+            0x31f0, 0x31ff, 0x3400, 0x4dbf, 0x4e00, 0xa48c, 0xa4d0, 0xa4fd, 0xa500, 0xa60c, 
+            0xa610, 0xa61f, 0xa62a, 0xa62b, 0xa640, 0xa66e, 0xa67f, 0xa69d, 0xa6a0, 0xa6ef, 
+            0xa717, 0xa71f, 0xa722, 0xa788, 0xa78b, 0xa7ca, 0xa7d0, 0xa7d1, 0xa7d3, 0xa7d3, 
+            0xa7d5, 0xa7d9, 0xa7f2, 0xa801, 0xa803, 0xa805, 0xa807, 0xa80a, 0xa80c, 0xa822, 
+            0xa838, 0xa838, 0xa840, 0xa873, 0xa882, 0xa8b3, 0xa8f2, 0xa8f7, 0xa8fb, 0xa8fb, 
+            0xa8fd, 0xa8fe, 0xa90a, 0xa925, 0xa930, 0xa946, 0xa960, 0xa97c, 0xa984, 0xa9b2, 
+            0xa9cf, 0xa9cf, 0xa9e0, 0xa9e4, 0xa9e6, 0xa9ef, 0xa9fa, 0xa9fe, 0xaa00, 0xaa28, 
+            0xaa40, 0xaa42, 0xaa44, 0xaa4b, 0xaa60, 0xaa76, 0xaa7a, 0xaa7a, 0xaa7e, 0xaaaf, 
+            0xaab1, 0xaab1, 0xaab5, 0xaab6, 0xaab9, 0xaabd, 0xaac0, 0xaac0, 0xaac2, 0xaac2, 
+            0xaadb, 0xaadd, 0xaae0, 0xaaea, 0xaaf2, 0xaaf4, 0xab01, 0xab06, 0xab09, 0xab0e, 
+            0xab11, 0xab16, 0xab20, 0xab26, 0xab28, 0xab2e, 0xab30, 0xab5a, 0xab5c, 0xab69, 
+            0xab70, 0xabe2, 0xac00, 0xd7a3, 0xd7b0, 0xd7c6, 0xd7cb, 0xd7fb, 0xf900, 0xfa6d, 
+            0xfa70, 0xfad9, 0xfb00, 0xfb06, 0xfb13, 0xfb17, 0xfb1d, 0xfb1d, 0xfb1f, 0xfb28, 
+            0xfb2a, 0xfb36, 0xfb38, 0xfb3c, 0xfb3e, 0xfb3e, 0xfb40, 0xfb41, 0xfb43, 0xfb44, 
+            0xfb46, 0xfbb1, 0xfbd3, 0xfd3d, 0xfd50, 0xfd8f, 0xfd92, 0xfdc7, 0xfdf0, 0xfdfc, 
+            0xfe33, 0xfe34, 0xfe4d, 0xfe4f, 0xfe69, 0xfe69, 0xfe70, 0xfe74, 0xfe76, 0xfefc, 
+            0xff04, 0xff04, 0xff21, 0xff3a, 0xff3f, 0xff3f, 0xff41, 0xff5a, 0xff66, 0xffbe, 
+            0xffc2, 0xffc7, 0xffca, 0xffcf, 0xffd2, 0xffd7, 0xffda, 0xffdc, 0xffe0, 0xffe1, 
+            0xffe5, 0xffe6, 0x10000, 0x1000b, 0x1000d, 0x10026, 0x10028, 0x1003a, 0x1003c, 
+            0x1003d, 0x1003f, 0x1004d, 0x10050, 0x1005d, 0x10080, 0x100fa, 0x10140, 0x10174, 
+            0x10280, 0x1029c, 0x102a0, 0x102d0, 0x10300, 0x1031f, 0x1032d, 0x1034a, 0x10350, 
+            0x10375, 0x10380, 0x1039d, 0x103a0, 0x103c3, 0x103c8, 0x103cf, 0x103d1, 0x103d5, 
+            0x10400, 0x1049d, 0x104b0, 0x104d3, 0x104d8, 0x104fb, 0x10500, 0x10527, 0x10530, 
+            0x10563, 0x10570, 0x1057a, 0x1057c, 0x1058a, 0x1058c, 0x10592, 0x10594, 0x10595, 
+            0x10597, 0x105a1, 0x105a3, 0x105b1, 0x105b3, 0x105b9, 0x105bb, 0x105bc, 0x10600, 
+            0x10736, 0x10740, 0x10755, 0x10760, 0x10767, 0x10780, 0x10785, 0x10787, 0x107b0, 
+            0x107b2, 0x107ba, 0x10800, 0x10805, 0x10808, 0x10808, 0x1080a, 0x10835, 0x10837, 
+            0x10838, 0x1083c, 0x1083c, 0x1083f, 0x10855, 0x10860, 0x10876, 0x10880, 0x1089e, 
+            0x108e0, 0x108f2, 0x108f4, 0x108f5, 0x10900, 0x10915, 0x10920, 0x10939, 0x10980, 
+            0x109b7, 0x109be, 0x109bf, 0x10a00, 0x10a00, 0x10a10, 0x10a13, 0x10a15, 0x10a17, 
+            0x10a19, 0x10a35, 0x10a60, 0x10a7c, 0x10a80, 0x10a9c, 0x10ac0, 0x10ac7, 0x10ac9, 
+            0x10ae4, 0x10b00, 0x10b35, 0x10b40, 0x10b55, 0x10b60, 0x10b72, 0x10b80, 0x10b91, 
+            0x10c00, 0x10c48, 0x10c80, 0x10cb2, 0x10cc0, 0x10cf2, 0x10d00, 0x10d23, 0x10e80, 
+            0x10ea9, 0x10eb0, 0x10eb1, 0x10f00, 0x10f1c, 0x10f27, 0x10f27, 0x10f30, 0x10f45, 
+            0x10f70, 0x10f81, 0x10fb0, 0x10fc4, 0x10fe0, 0x10ff6, 0x11003, 0x11037, 0x11071, 
+            0x11072, 0x11075, 0x11075, 0x11083, 0x110af, 0x110d0, 0x110e8, 0x11103, 0x11126, 
+            0x11144, 0x11144, 0x11147, 0x11147, 0x11150, 0x11172, 0x11176, 0x11176, 0x11183, 
+            0x111b2, 0x111c1, 0x111c4, 0x111da, 0x111da, 0x111dc, 0x111dc, 0x11200, 0x11211, 
+            0x11213, 0x1122b, 0x11280, 0x11286, 0x11288, 0x11288, 0x1128a, 0x1128d, 0x1128f, 
+            0x1129d, 0x1129f, 0x112a8, 0x112b0, 0x112de, 0x11305, 0x1130c, 0x1130f, 0x11310, 
+            0x11313, 0x11328, 0x1132a, 0x11330, 0x11332, 0x11333, 0x11335, 0x11339, 0x1133d, 
+            0x1133d, 0x11350, 0x11350, 0x1135d, 0x11361, 0x11400, 0x11434, 0x11447, 0x1144a, 
+            0x1145f, 0x11461, 0x11480, 0x114af, 0x114c4, 0x114c5, 0x114c7, 0x114c7, 0x11580, 
+            0x115ae, 0x115d8, 0x115db, 0x11600, 0x1162f, 0x11644, 0x11644, 0x11680, 0x116aa, 
+            0x116b8, 0x116b8, 0x11700, 0x1171a, 0x11740, 0x11746, 0x11800, 0x1182b, 0x118a0, 
+            0x118df, 0x118ff, 0x11906, 0x11909, 0x11909, 0x1190c, 0x11913, 0x11915, 0x11916, 
+            0x11918, 0x1192f, 0x1193f, 0x1193f, 0x11941, 0x11941, 0x119a0, 0x119a7, 0x119aa, 
+            0x119d0, 0x119e1, 0x119e1, 0x119e3, 0x119e3, 0x11a00, 0x11a00, 0x11a0b, 0x11a32, 
+            0x11a3a, 0x11a3a, 0x11a50, 0x11a50, 0x11a5c, 0x11a89, 0x11a9d, 0x11a9d, 0x11ab0, 
+            0x11af8, 0x11c00, 0x11c08, 0x11c0a, 0x11c2e, 0x11c40, 0x11c40, 0x11c72, 0x11c8f, 
+            0x11d00, 0x11d06, 0x11d08, 0x11d09, 0x11d0b, 0x11d30, 0x11d46, 0x11d46, 0x11d60, 
+            0x11d65, 0x11d67, 0x11d68, 0x11d6a, 0x11d89, 0x11d98, 0x11d98, 0x11ee0, 0x11ef2, 
+            0x11fb0, 0x11fb0, 0x11fdd, 0x11fe0, 0x12000, 0x12399, 0x12400, 0x1246e, 0x12480, 
+            0x12543, 0x12f90, 0x12ff0, 0x13000, 0x1342e, 0x14400, 0x14646, 0x16800, 0x16a38, 
+            0x16a40, 0x16a5e, 0x16a70, 0x16abe, 0x16ad0, 0x16aed, 0x16b00, 0x16b2f, 0x16b40, 
+            0x16b43, 0x16b63, 0x16b77, 0x16b7d, 0x16b8f, 0x16e40, 0x16e7f, 0x16f00, 0x16f4a, 
+            0x16f50, 0x16f50, 0x16f93, 0x16f9f, 0x16fe0, 0x16fe1, 0x16fe3, 0x16fe3, 0x17000, 
+            0x187f7, 0x18800, 0x18cd5, 0x18d00, 0x18d08, 0x1aff0, 0x1aff3, 0x1aff5, 0x1affb, 
+            0x1affd, 0x1affe, 0x1b000, 0x1b122, 0x1b150, 0x1b152, 0x1b164, 0x1b167, 0x1b170, 
+            0x1b2fb, 0x1bc00, 0x1bc6a, 0x1bc70, 0x1bc7c, 0x1bc80, 0x1bc88, 0x1bc90, 0x1bc99, 
+            0x1d400, 0x1d454, 0x1d456, 0x1d49c, 0x1d49e, 0x1d49f, 0x1d4a2, 0x1d4a2, 0x1d4a5, 
+            0x1d4a6, 0x1d4a9, 0x1d4ac, 0x1d4ae, 0x1d4b9, 0x1d4bb, 0x1d4bb, 0x1d4bd, 0x1d4c3, 
+            0x1d4c5, 0x1d505, 0x1d507, 0x1d50a, 0x1d50d, 0x1d514, 0x1d516, 0x1d51c, 0x1d51e, 
+            0x1d539, 0x1d53b, 0x1d53e, 0x1d540, 0x1d544, 0x1d546, 0x1d546, 0x1d54a, 0x1d550, 
+            0x1d552, 0x1d6a5, 0x1d6a8, 0x1d6c0, 0x1d6c2, 0x1d6da, 0x1d6dc, 0x1d6fa, 0x1d6fc, 
+            0x1d714, 0x1d716, 0x1d734, 0x1d736, 0x1d74e, 0x1d750, 0x1d76e, 0x1d770, 0x1d788, 
+            0x1d78a, 0x1d7a8, 0x1d7aa, 0x1d7c2, 0x1d7c4, 0x1d7cb, 0x1df00, 0x1df1e, 0x1e100, 
+            0x1e12c, 0x1e137, 0x1e13d, 0x1e14e, 0x1e14e, 0x1e290, 0x1e2ad, 0x1e2c0, 0x1e2eb, 
+            0x1e2ff, 0x1e2ff, 0x1e7e0, 0x1e7e6, 0x1e7e8, 0x1e7eb, 0x1e7ed, 0x1e7ee, 0x1e7f0, 
+            0x1e7fe, 0x1e800, 0x1e8c4, 0x1e900, 0x1e943, 0x1e94b, 0x1e94b, 0x1ecb0, 0x1ecb0, 
+            0x1ee00, 0x1ee03, 0x1ee05, 0x1ee1f, 0x1ee21, 0x1ee22, 0x1ee24, 0x1ee24, 0x1ee27, 
+            0x1ee27, 0x1ee29, 0x1ee32, 0x1ee34, 0x1ee37, 0x1ee39, 0x1ee39, 0x1ee3b, 0x1ee3b, 
+            0x1ee42, 0x1ee42, 0x1ee47, 0x1ee47, 0x1ee49, 0x1ee49, 0x1ee4b, 0x1ee4b, 0x1ee4d, 
+            0x1ee4f, 0x1ee51, 0x1ee52, 0x1ee54, 0x1ee54, 0x1ee57, 0x1ee57, 0x1ee59, 0x1ee59, 
+            0x1ee5b, 0x1ee5b, 0x1ee5d, 0x1ee5d, 0x1ee5f, 0x1ee5f, 0x1ee61, 0x1ee62, 0x1ee64, 
+            0x1ee64, 0x1ee67, 0x1ee6a, 0x1ee6c, 0x1ee72, 0x1ee74, 0x1ee77, 0x1ee79, 0x1ee7c, 
+            0x1ee7e, 0x1ee7e, 0x1ee80, 0x1ee89, 0x1ee8b, 0x1ee9b, 0x1eea1, 0x1eea3, 0x1eea5, 
+            0x1eea9, 0x1eeab, 0x1eebb, 0x20000, 0x2a6df, 0x2a700, 0x2b738, 0x2b740, 0x2b81d, 
+            0x2b820, 0x2cea1, 0x2ceb0, 0x2ebe0, 0x2f800, 0x2fa1d, 0x30000, 0x3134a};
+        }
+
+        static private final int[] NFA_MOVES_JAVA_580 = NFA_MOVES_JAVA_580_init();
+
+        static private int[] NFA_MOVES_JAVA_580_init() {
+            return new int[] {0x0, 0x8, 0xe, 0x1b, '$', '$', '0', '9', 'A', 'Z', '_', '_', 
+            'a', 'z', 0x7f, 0x9f, 0xa2, 0xa5, 0xaa, 0xaa, 0xad, 0xad, 0xb5, 0xb5, 0xba, 0xba, 
+            0xc0, 0xd6, 0xd8, 0xf6, 0xf8, 0x2c1, 0x2c6, 0x2d1, 0x2e0, 0x2e4, 0x2ec, 0x2ec, 
+            0x2ee, 0x2ee, 0x300, 0x374, 0x376, 0x377, 0x37a, 0x37d, 0x37f, 0x37f, 0x386, 0x386, 
+            0x388, 0x38a, 0x38c, 0x38c, 0x38e, 0x3a1, 0x3a3, 0x3f5, 0x3f7, 0x481, 0x483, 0x487, 
+            0x48a, 0x52f, 0x531, 0x556, 0x559, 0x559, 0x560, 0x588, 0x58f, 0x58f, 0x591, 0x5bd, 
+            0x5bf, 0x5bf, 0x5c1, 0x5c2, 0x5c4, 0x5c5, 0x5c7, 0x5c7, 0x5d0, 0x5ea, 0x5ef, 0x5f2, 
+            0x600, 0x605, 0x60b, 0x60b, 0x610, 0x61a, 0x61c, 0x61c, 0x620, 0x669, 0x66e, 0x6d3, 
+            0x6d5, 0x6dd, 0x6df, 0x6e8, 0x6ea, 0x6fc, 0x6ff, 0x6ff, 0x70f, 0x74a, 0x74d, 0x7b1, 
+            0x7c0, 0x7f5, 0x7fa, 0x7fa, 0x7fd, 0x82d, 0x840, 0x85b, 0x860, 0x86a, 0x870, 0x887, 
+            0x889, 0x88e, 0x890, 0x891, 0x898, 0x963, 0x966, 0x96f, 0x971, 0x983, 0x985, 0x98c, 
+            0x98f, 0x990, 0x993, 0x9a8, 0x9aa, 0x9b0, 0x9b2, 0x9b2, 0x9b6, 0x9b9, 0x9bc, 0x9c4, 
+            0x9c7, 0x9c8, 0x9cb, 0x9ce, 0x9d7, 0x9d7, 0x9dc, 0x9dd, 0x9df, 0x9e3, 0x9e6, 0x9f3, 
+            0x9fb, 0x9fc, 0x9fe, 0x9fe, 0xa01, 0xa03, 0xa05, 0xa0a, 0xa0f, 0xa10, 0xa13, 0xa28, 
+            0xa2a, 0xa30, 0xa32, 0xa33, 0xa35, 0xa36, 0xa38, 0xa39, 0xa3c, 0xa3c, 0xa3e, 0xa42, 
+            0xa47, 0xa48, 0xa4b, 0xa4d, 0xa51, 0xa51, 0xa59, 0xa5c, 0xa5e, 0xa5e, 0xa66, 0xa75, 
+            0xa81, 0xa83, 0xa85, 0xa8d, 0xa8f, 0xa91, 0xa93, 0xaa8, 0xaaa, 0xab0, 0xab2, 0xab3, 
+            0xab5, 0xab9, 0xabc, 0xac5, 0xac7, 0xac9, 0xacb, 0xacd, 0xad0, 0xad0, 0xae0, 0xae3, 
+            0xae6, 0xaef, 0xaf1, 0xaf1, 0xaf9, 0xaff, 0xb01, 0xb03, 0xb05, 0xb0c, 0xb0f, 0xb10, 
+            0xb13, 0xb28, 0xb2a, 0xb30, 0xb32, 0xb33, 0xb35, 0xb39, 0xb3c, 0xb44, 0xb47, 0xb48, 
+            0xb4b, 0xb4d, 0xb55, 0xb57, 0xb5c, 0xb5d, 0xb5f, 0xb63, 0xb66, 0xb6f, 0xb71, 0xb71, 
+            0xb82, 0xb83, 0xb85, 0xb8a, 0xb8e, 0xb90, 0xb92, 0xb95, 0xb99, 0xb9a, 0xb9c, 0xb9c, 
+            0xb9e, 0xb9f, 0xba3, 0xba4, 0xba8, 0xbaa, 0xbae, 0xbb9, 0xbbe, 0xbc2, 0xbc6, 0xbc8, 
+            0xbca, 0xbcd, 0xbd0, 0xbd0, 0xbd7, 0xbd7, 0xbe6, 0xbef, 0xbf9, 0xbf9, 0xc00, 0xc0c, 
+            0xc0e, 0xc10, 0xc12, 0xc28, 0xc2a, 0xc39, 0xc3c, 0xc44, 0xc46, 0xc48, 0xc4a, 0xc4d, 
+            0xc55, 0xc56, 0xc58, 0xc5a, 0xc5d, 0xc5d, 0xc60, 0xc63, 0xc66, 0xc6f, 0xc80, 0xc83, 
+            0xc85, 0xc8c, 0xc8e, 0xc90, 0xc92, 0xca8, 0xcaa, 0xcb3, 0xcb5, 0xcb9, 0xcbc, 0xcc4, 
+            0xcc6, 0xcc8, 0xcca, 0xccd, 0xcd5, 0xcd6, 0xcdd, 0xcde, 0xce0, 0xce3, 0xce6, 0xcef, 
+            0xcf1, 0xcf2, 0xd00, 0xd0c, 0xd0e, 0xd10, 0xd12, 0xd44, 0xd46, 0xd48, 0xd4a, 0xd4e, 
+            0xd54, 0xd57, 0xd5f, 0xd63, 0xd66, 0xd6f, 0xd7a, 0xd7f, 0xd81, 0xd83, 0xd85, 0xd96, 
+            0xd9a, 0xdb1, 0xdb3, 0xdbb, 0xdbd, 0xdbd, 0xdc0, 0xdc6, 0xdca, 0xdca, 0xdcf, 0xdd4, 
+            0xdd6, 0xdd6, 0xdd8, 0xddf, 0xde6, 0xdef, 0xdf2, 0xdf3, 0xe01, 0xe3a, 0xe3f, 0xe4e, 
+            0xe50, 0xe59, 0xe81, 0xe82, 0xe84, 0xe84, 0xe86, 0xe8a, 0xe8c, 0xea3, 0xea5, 0xea5, 
+            0xea7, 0xebd, 0xec0, 0xec4, 0xec6, 0xec6, 0xec8, 0xecd, 0xed0, 0xed9, 0xedc, 0xedf, 
+            0xf00, 0xf00, 0xf18, 0xf19, 0xf20, 0xf29, 0xf35, 0xf35, 0xf37, 0xf37, 0xf39, 0xf39, 
+            0xf3e, 0xf47, 0xf49, 0xf6c, 0xf71, 0xf84, 0xf86, 0xf97, 0xf99, 0xfbc, 0xfc6, 0xfc6, 
+            0x1000, 0x1049, 0x1050, 0x109d, 0x10a0, 0x10c5, 0x10c7, 0x10c7, 0x10cd, 0x10cd, 
+            0x10d0, 0x10fa, 0x10fc, 0x1248, 0x124a, 0x124d, 0x1250, 0x1256, 0x1258, 0x1258, 
+            0x125a, 0x125d, 0x1260, 0x1288, 0x128a, 0x128d, 0x1290, 0x12b0, 0x12b2, 0x12b5, 
+            0x12b8, 0x12be, 0x12c0, 0x12c0, 0x12c2, 0x12c5, 0x12c8, 0x12d6, 0x12d8, 0x1310, 
+            0x1312, 0x1315, 0x1318, 0x135a, 0x135d, 0x135f, 0x1380, 0x138f, 0x13a0, 0x13f5, 
+            0x13f8, 0x13fd, 0x1401, 0x166c, 0x166f, 0x167f, 0x1681, 0x169a, 0x16a0, 0x16ea, 
+            0x16ee, 0x16f8, 0x1700, 0x1715, 0x171f, 0x1734, 0x1740, 0x1753, 0x1760, 0x176c, 
+            0x176e, 0x1770, 0x1772, 0x1773, 0x1780, 0x17d3, 0x17d7, 0x17d7, 0x17db, 0x17dd, 
+            0x17e0, 0x17e9, 0x180b, 0x1819, 0x1820, 0x1878, 0x1880, 0x18aa, 0x18b0, 0x18f5, 
+            0x1900, 0x191e, 0x1920, 0x192b, 0x1930, 0x193b, 0x1946, 0x196d, 0x1970, 0x1974, 
+            0x1980, 0x19ab, 0x19b0, 0x19c9, 0x19d0, 0x19d9, 0x1a00, 0x1a1b, 0x1a20, 0x1a5e, 
+            0x1a60, 0x1a7c, 0x1a7f, 0x1a89, 0x1a90, 0x1a99, 0x1aa7, 0x1aa7, 0x1ab0, 0x1abd, 
+            0x1abf, 0x1ace, 0x1b00, 0x1b4c, 0x1b50, 0x1b59, 0x1b6b, 0x1b73, 0x1b80, 0x1bf3, 
+            0x1c00, 0x1c37, 0x1c40, 0x1c49, 0x1c4d, 0x1c7d, 0x1c80, 0x1c88, 0x1c90, 0x1cba, 
+            0x1cbd, 0x1cbf, 0x1cd0, 0x1cd2, 0x1cd4, 0x1cfa, 0x1d00, 0x1f15, 0x1f18, 0x1f1d, 
+            0x1f20, 0x1f45, 0x1f48, 0x1f4d, 0x1f50, 0x1f57, 0x1f59, 0x1f59, 0x1f5b, 0x1f5b, 
+            0x1f5d, 0x1f5d, 0x1f5f, 0x1f7d, 0x1f80, 0x1fb4, 0x1fb6, 0x1fbc, 0x1fbe, 0x1fbe, 
+            0x1fc2, 0x1fc4, 0x1fc6, 0x1fcc, 0x1fd0, 0x1fd3, 0x1fd6, 0x1fdb, 0x1fe0, 0x1fec, 
+            0x1ff2, 0x1ff4, 0x1ff6, 0x1ffc, 0x200b, 0x200f, 0x202a, 0x202e, 0x203f, 0x2040, 
+            0x2054, 0x2054, 0x2060, 0x2064, 0x2066, 0x206f, 0x2071, 0x2071, 0x207f, 0x207f, 
+            0x2090, 0x209c, 0x20a0, 0x20c0, 0x20d0, 0x20dc, 0x20e1, 0x20e1, 0x20e5, 0x20f0, 
+            0x2102, 0x2102, 0x2107, 0x2107, 0x210a, 0x2113, 0x2115, 0x2115, 0x2119, 0x211d, 
+            0x2124, 0x2124, 0x2126, 0x2126, 0x2128, 0x2128, 0x212a, 0x212d, 0x212f, 0x2139, 
+            0x213c, 0x213f, 0x2145, 0x2149, 0x214e, 0x214e, 0x2160, 0x2188, 0x2c00, 0x2ce4, 
+            0x2ceb, 0x2cf3, 0x2d00, 0x2d25, 0x2d27, 0x2d27, 0x2d2d, 0x2d2d, 0x2d30, 0x2d67, 
+            0x2d6f, 0x2d6f, 0x2d7f, 0x2d96, 0x2da0, 0x2da6, 0x2da8, 0x2dae, 0x2db0, 0x2db6, 
+            0x2db8, 0x2dbe, 0x2dc0, 0x2dc6, 0x2dc8, 0x2dce, 0x2dd0, 0x2dd6, 0x2dd8, 0x2dde, 
+            0x2de0, 0x2dff, 0x2e2f, 0x2e2f, 0x3005, 0x3007, 0x3021, 0x302f, 0x3031, 0x3035, 
+            0x3038, 0x303c, 0x3041, 0x3096, 0x3099, 0x309a, 0x309d, 0x309f, 0x30a1, 0x30fa, 
+            0x30fc, 0x30ff, 0x3105, 0x312f, 0x3131, 0x318e, 0x31a0, 0x31bf, 0x31f0, 0x31ff, 
+            0x3400, 0x4dbf, 0x4e00, 0xa48c, 0xa4d0, 0xa4fd, 0xa500, 0xa60c, 0xa610, 0xa62b, 
+            0xa640, 0xa66f, 0xa674, 0xa67d, 0xa67f, 0xa6f1, 0xa717, 0xa71f, 0xa722, 0xa788, 
+            0xa78b, 0xa7ca, 0xa7d0, 0xa7d1, 0xa7d3, 0xa7d3, 0xa7d5, 0xa7d9, 0xa7f2, 0xa827, 
+            0xa82c, 0xa82c, 0xa838, 0xa838, 0xa840, 0xa873, 0xa880, 0xa8c5, 0xa8d0, 0xa8d9, 
+            0xa8e0, 0xa8f7, 0xa8fb, 0xa8fb, 0xa8fd, 0xa92d, 0xa930, 0xa953, 0xa960, 0xa97c, 
+            0xa980, 0xa9c0, 0xa9cf, 0xa9d9, 0xa9e0, 0xa9fe, 0xaa00, 0xaa36, 0xaa40, 0xaa4d, 
+            0xaa50, 0xaa59, 0xaa60, 0xaa76, 0xaa7a, 0xaac2, 0xaadb, 0xaadd, 0xaae0, 0xaaef, 
+            0xaaf2, 0xaaf6, 0xab01, 0xab06, 0xab09, 0xab0e, 0xab11, 0xab16, 0xab20, 0xab26, 
+            0xab28, 0xab2e, 0xab30, 0xab5a, 0xab5c, 0xab69, 0xab70, 0xabea, 0xabec, 0xabed, 
+            0xabf0, 0xabf9, 0xac00, 0xd7a3, 0xd7b0, 0xd7c6, 0xd7cb, 0xd7fb, 0xf900, 0xfa6d, 
+            0xfa70, 0xfad9, 0xfb00, 0xfb06, 0xfb13, 0xfb17, 0xfb1d, 0xfb28, 0xfb2a, 0xfb36, 
+            0xfb38, 0xfb3c, 0xfb3e, 0xfb3e, 0xfb40, 0xfb41, 0xfb43, 0xfb44, 0xfb46, 0xfbb1, 
+            0xfbd3, 0xfd3d, 0xfd50, 0xfd8f, 0xfd92, 0xfdc7, 0xfdf0, 0xfdfc, 0xfe00, 0xfe0f, 
+            0xfe20, 0xfe2f, 0xfe33, 0xfe34, 0xfe4d, 0xfe4f, 0xfe69, 0xfe69, 0xfe70, 0xfe74, 
+            0xfe76, 0xfefc, 0xfeff, 0xfeff, 0xff04, 0xff04, 0xff10, 0xff19, 0xff21, 0xff3a, 
+            0xff3f, 0xff3f, 0xff41, 0xff5a, 0xff66, 0xffbe, 0xffc2, 0xffc7, 0xffca, 0xffcf, 
+            0xffd2, 0xffd7, 0xffda, 0xffdc, 0xffe0, 0xffe1, 0xffe5, 0xffe6, 0xfff9, 0xfffb, 
+            0x10000, 0x1000b, 0x1000d, 0x10026, 0x10028, 0x1003a, 0x1003c, 0x1003d, 0x1003f, 
+            0x1004d, 0x10050, 0x1005d, 0x10080, 0x100fa, 0x10140, 0x10174, 0x101fd, 0x101fd, 
+            0x10280, 0x1029c, 0x102a0, 0x102d0, 0x102e0, 0x102e0, 0x10300, 0x1031f, 0x1032d, 
+            0x1034a, 0x10350, 0x1037a, 0x10380, 0x1039d, 0x103a0, 0x103c3, 0x103c8, 0x103cf, 
+            0x103d1, 0x103d5, 0x10400, 0x1049d, 0x104a0, 0x104a9, 0x104b0, 0x104d3, 0x104d8, 
+            0x104fb, 0x10500, 0x10527, 0x10530, 0x10563, 0x10570, 0x1057a, 0x1057c, 0x1058a, 
+            0x1058c, 0x10592, 0x10594, 0x10595, 0x10597, 0x105a1, 0x105a3, 0x105b1, 0x105b3, 
+            0x105b9, 0x105bb, 0x105bc, 0x10600, 0x10736, 0x10740, 0x10755, 0x10760, 0x10767, 
+            0x10780, 0x10785, 0x10787, 0x107b0, 0x107b2, 0x107ba, 0x10800, 0x10805, 0x10808, 
+            0x10808, 0x1080a, 0x10835, 0x10837, 0x10838, 0x1083c, 0x1083c, 0x1083f, 0x10855, 
+            0x10860, 0x10876, 0x10880, 0x1089e, 0x108e0, 0x108f2, 0x108f4, 0x108f5, 0x10900, 
+            0x10915, 0x10920, 0x10939, 0x10980, 0x109b7, 0x109be, 0x109bf, 0x10a00, 0x10a03, 
+            0x10a05, 0x10a06, 0x10a0c, 0x10a13, 0x10a15, 0x10a17, 0x10a19, 0x10a35, 0x10a38, 
+            0x10a3a, 0x10a3f, 0x10a3f, 0x10a60, 0x10a7c, 0x10a80, 0x10a9c, 0x10ac0, 0x10ac7, 
+            0x10ac9, 0x10ae6, 0x10b00, 0x10b35, 0x10b40, 0x10b55, 0x10b60, 0x10b72, 0x10b80, 
+            0x10b91, 0x10c00, 0x10c48, 0x10c80, 0x10cb2, 0x10cc0, 0x10cf2, 0x10d00, 0x10d27, 
+            0x10d30, 0x10d39, 0x10e80, 0x10ea9, 0x10eab, 0x10eac, 0x10eb0, 0x10eb1, 0x10f00, 
+            0x10f1c, 0x10f27, 0x10f27, 0x10f30, 0x10f50, 0x10f70, 0x10f85, 0x10fb0, 0x10fc4, 
+            0x10fe0, 0x10ff6, 0x11000, 0x11046, 0x11066, 0x11075, 0x1107f, 0x110ba, 0x110bd, 
+            0x110bd, 0x110c2, 0x110c2, 0x110cd, 0x110cd, 0x110d0, 0x110e8, 0x110f0, 0x110f9, 
+            0x11100, 0x11134, 0x11136, 0x1113f, 0x11144, 0x11147, 0x11150, 0x11173, 0x11176, 
+            0x11176, 0x11180, 0x111c4, 0x111c9, 0x111cc, 0x111ce, 0x111da, 0x111dc, 0x111dc, 
+            0x11200, 0x11211, 0x11213, 0x11237, 0x1123e, 0x1123e, 0x11280, 0x11286, 0x11288, 
+            0x11288, 0x1128a, 0x1128d, 0x1128f, 0x1129d, 0x1129f, 0x112a8, 0x112b0, 0x112ea, 
+            0x112f0, 0x112f9, 0x11300, 0x11303, 0x11305, 0x1130c, 0x1130f, 0x11310, 0x11313, 
+            0x11328, 0x1132a, 0x11330, 0x11332, 0x11333, 0x11335, 0x11339, 0x1133b, 0x11344, 
+            0x11347, 0x11348, 0x1134b, 0x1134d, 0x11350, 0x11350, 0x11357, 0x11357, 0x1135d, 
+            0x11363, 0x11366, 0x1136c, 0x11370, 0x11374, 0x11400, 0x1144a, 0x11450, 0x11459, 
+            0x1145e, 0x11461, 0x11480, 0x114c5, 0x114c7, 0x114c7, 0x114d0, 0x114d9, 0x11580, 
+            0x115b5, 0x115b8, 0x115c0, 0x115d8, 0x115dd, 0x11600, 0x11640, 0x11644, 0x11644, 
+            0x11650, 0x11659, 0x11680, 0x116b8, 0x116c0, 0x116c9, 0x11700, 0x1171a, 0x1171d, 
+            0x1172b, 0x11730, 0x11739, 0x11740, 0x11746, 0x11800, 0x1183a, 0x118a0, 0x118e9, 
+            0x118ff, 0x11906, 0x11909, 0x11909, 0x1190c, 0x11913, 0x11915, 0x11916, 0x11918, 
+            0x11935, 0x11937, 0x11938, 0x1193b, 0x11943, 0x11950, 0x11959, 0x119a0, 0x119a7, 
+            0x119aa, 0x119d7, 0x119da, 0x119e1, 0x119e3, 0x119e4, 0x11a00, 0x11a3e, 0x11a47, 
+            0x11a47, 0x11a50, 0x11a99, 0x11a9d, 0x11a9d, 0x11ab0, 0x11af8, 0x11c00, 0x11c08, 
+            0x11c0a, 0x11c36, 0x11c38, 0x11c40, 0x11c50, 0x11c59, 0x11c72, 0x11c8f, 0x11c92, 
+            0x11ca7, 0x11ca9, 0x11cb6, 0x11d00, 0x11d06, 0x11d08, 0x11d09, 0x11d0b, 0x11d36, 
+            0x11d3a, 0x11d3a, 0x11d3c, 0x11d3d, 0x11d3f, 0x11d47, 0x11d50, 0x11d59, 0x11d60, 
+            0x11d65, 0x11d67, 0x11d68, 0x11d6a, 0x11d8e, 0x11d90, 0x11d91, 0x11d93, 0x11d98, 
+            0x11da0, 0x11da9, 0x11ee0, 0x11ef6, 0x11fb0, 0x11fb0, 0x11fdd, 0x11fe0, 0x12000, 
+            0x12399, 0x12400, 0x1246e, 0x12480, 0x12543, 0x12f90, 0x12ff0, 0x13000, 0x1342e, 
+            0x13430, 0x13438, 0x14400, 0x14646, 0x16800, 0x16a38, 0x16a40, 0x16a5e, 0x16a60, 
+            0x16a69, 0x16a70, 0x16abe, 0x16ac0, 0x16ac9, 0x16ad0, 0x16aed, 0x16af0, 0x16af4, 
+            0x16b00, 0x16b36, 0x16b40, 0x16b43, 0x16b50, 0x16b59, 0x16b63, 0x16b77, 0x16b7d, 
+            0x16b8f, 0x16e40, 0x16e7f, 0x16f00, 0x16f4a, 0x16f4f, 0x16f87, 0x16f8f, 0x16f9f, 
+            0x16fe0, 0x16fe1, 0x16fe3, 0x16fe4, 0x16ff0, 0x16ff1, 0x17000, 0x187f7, 0x18800, 
+            0x18cd5, 0x18d00, 0x18d08, 0x1aff0, 0x1aff3, 0x1aff5, 0x1affb, 0x1affd, 0x1affe, 
+            0x1b000, 0x1b122, 0x1b150, 0x1b152, 0x1b164, 0x1b167, 0x1b170, 0x1b2fb, 0x1bc00, 
+            0x1bc6a, 0x1bc70, 0x1bc7c, 0x1bc80, 0x1bc88, 0x1bc90, 0x1bc99, 0x1bc9d, 0x1bc9e, 
+            0x1bca0, 0x1bca3, 0x1cf00, 0x1cf2d, 0x1cf30, 0x1cf46, 0x1d165, 0x1d169, 0x1d16d, 
+            0x1d182, 0x1d185, 0x1d18b, 0x1d1aa, 0x1d1ad, 0x1d242, 0x1d244, 0x1d400, 0x1d454, 
+            0x1d456, 0x1d49c, 0x1d49e, 0x1d49f, 0x1d4a2, 0x1d4a2, 0x1d4a5, 0x1d4a6, 0x1d4a9, 
+            0x1d4ac, 0x1d4ae, 0x1d4b9, 0x1d4bb, 0x1d4bb, 0x1d4bd, 0x1d4c3, 0x1d4c5, 0x1d505, 
+            0x1d507, 0x1d50a, 0x1d50d, 0x1d514, 0x1d516, 0x1d51c, 0x1d51e, 0x1d539, 0x1d53b, 
+            0x1d53e, 0x1d540, 0x1d544, 0x1d546, 0x1d546, 0x1d54a, 0x1d550, 0x1d552, 0x1d6a5, 
+            0x1d6a8, 0x1d6c0, 0x1d6c2, 0x1d6da, 0x1d6dc, 0x1d6fa, 0x1d6fc, 0x1d714, 0x1d716, 
+            0x1d734, 0x1d736, 0x1d74e, 0x1d750, 0x1d76e, 0x1d770, 0x1d788, 0x1d78a, 0x1d7a8, 
+            0x1d7aa, 0x1d7c2, 0x1d7c4, 0x1d7cb, 0x1d7ce, 0x1d7ff, 0x1da00, 0x1da36, 0x1da3b, 
+            0x1da6c, 0x1da75, 0x1da75, 0x1da84, 0x1da84, 0x1da9b, 0x1da9f, 0x1daa1, 0x1daaf, 
+            0x1df00, 0x1df1e, 0x1e000, 0x1e006, 0x1e008, 0x1e018, 0x1e01b, 0x1e021, 0x1e023, 
+            0x1e024, 0x1e026, 0x1e02a, 0x1e100, 0x1e12c, 0x1e130, 0x1e13d, 0x1e140, 0x1e149, 
+            0x1e14e, 0x1e14e, 0x1e290, 0x1e2ae, 0x1e2c0, 0x1e2f9, 0x1e2ff, 0x1e2ff, 0x1e7e0, 
+            0x1e7e6, 0x1e7e8, 0x1e7eb, 0x1e7ed, 0x1e7ee, 0x1e7f0, 0x1e7fe, 0x1e800, 0x1e8c4, 
+            0x1e8d0, 0x1e8d6, 0x1e900, 0x1e94b, 0x1e950, 0x1e959, 0x1ecb0, 0x1ecb0, 0x1ee00, 
+            0x1ee03, 0x1ee05, 0x1ee1f, 0x1ee21, 0x1ee22, 0x1ee24, 0x1ee24, 0x1ee27, 0x1ee27, 
+            0x1ee29, 0x1ee32, 0x1ee34, 0x1ee37, 0x1ee39, 0x1ee39, 0x1ee3b, 0x1ee3b, 0x1ee42, 
+            0x1ee42, 0x1ee47, 0x1ee47, 0x1ee49, 0x1ee49, 0x1ee4b, 0x1ee4b, 0x1ee4d, 0x1ee4f, 
+            0x1ee51, 0x1ee52, 0x1ee54, 0x1ee54, 0x1ee57, 0x1ee57, 0x1ee59, 0x1ee59, 0x1ee5b, 
+            0x1ee5b, 0x1ee5d, 0x1ee5d, 0x1ee5f, 0x1ee5f, 0x1ee61, 0x1ee62, 0x1ee64, 0x1ee64, 
+            0x1ee67, 0x1ee6a, 0x1ee6c, 0x1ee72, 0x1ee74, 0x1ee77, 0x1ee79, 0x1ee7c, 0x1ee7e, 
+            0x1ee7e, 0x1ee80, 0x1ee89, 0x1ee8b, 0x1ee9b, 0x1eea1, 0x1eea3, 0x1eea5, 0x1eea9, 
+            0x1eeab, 0x1eebb, 0x1fbf0, 0x1fbf9, 0x20000, 0x2a6df, 0x2a700, 0x2b738, 0x2b740, 
+            0x2b81d, 0x2b820, 0x2cea1, 0x2ceb0, 0x2ebe0, 0x2f800, 0x2fa1d, 0x30000, 0x3134a, 
+            0xe0001, 0xe0001, 0xe0020, 0xe007f, 0xe0100, 0xe01ef};
+        }
+
+        static private int[] DFA_ASCII_CLASSES_init() {
+            int[] result = new int[128];
+            DFA_ASCII_CLASSES_init0(result);
+            return result;
+        }
+
+        static private void DFA_ASCII_CLASSES_init0(int[] result) {
+            int[] chunk = new int[] {0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 2, 3, 4, 5, 0, 0, 0, 0, 
+            0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 3, 3, 3, 3, 6, 7, 8, 3, 9, 10, 11, 12, 13, 14, 15, 
+            16, 17, 18, 19, 20, 21, 22, 23, 23, 24, 24, 24, 24, 25, 25, 26, 27, 28, 29, 30, 
+            31, 32, 33, 34, 33, 35, 36, 35, 9, 9, 9, 9, 9, 37, 9, 9, 9, 38, 9, 9, 9, 9, 9, 
+            9, 9, 39, 9, 9, 40, 41, 42, 43, 44, 3, 45, 46, 47, 48, 49, 50, 51, 52, 53, 9, 54, 
+            55, 56, 57, 58, 59, 9, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71, 72, 0};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] DFA_INTERVAL_STARTS_init() {
+            int[] result = new int[1817];
+            DFA_INTERVAL_STARTS_init0(result);
+            return result;
+        }
+
+        static private void DFA_INTERVAL_STARTS_init0(int[] result) {
+            int[] chunk = new int[] {128, 160, 162, 166, 170, 171, 173, 174, 181, 182, 186, 
+            187, 192, 215, 216, 247, 248, 706, 710, 722, 736, 741, 748, 749, 750, 751, 768, 
+            880, 885, 886, 888, 890, 894, 895, 896, 902, 903, 904, 907, 908, 909, 910, 930, 
+            931, 1014, 1015, 1154, 1155, 1160, 1162, 1328, 1329, 1367, 1369, 1370, 1376, 1417, 
+            1423, 1424, 1425, 1470, 1471, 1472, 1473, 1475, 1476, 1478, 1479, 1480, 1488, 1515, 
+            1519, 1523, 1536, 1542, 1547, 1548, 1552, 1563, 1564, 1565, 1568, 1611, 1642, 1646, 
+            1648, 1649, 1748, 1749, 1750, 1758, 1759, 1765, 1767, 1769, 1770, 1774, 1776, 1786, 
+            1789, 1791, 1792, 1807, 1808, 1809, 1810, 1840, 1867, 1869, 1958, 1969, 1970, 1984, 
+            1994, 2027, 2036, 2038, 2042, 2043, 2045, 2046, 2070, 2074, 2075, 2084, 2085, 2088, 
+            2089, 2094, 2112, 2137, 2140, 2144, 2155, 2160, 2184, 2185, 2191, 2192, 2194, 2200, 
+            2208, 2250, 2308, 2362, 2365, 2366, 2384, 2385, 2392, 2402, 2404, 2406, 2416, 2417, 
+            2433, 2436, 2437, 2445, 2447, 2449, 2451, 2473, 2474, 2481, 2482, 2483, 2486, 2490, 
+            2492, 2493, 2494, 2501, 2503, 2505, 2507, 2510, 2511, 2519, 2520, 2524, 2526, 2527, 
+            2530, 2532, 2534, 2544, 2548, 2555, 2557, 2558, 2559, 2561, 2564, 2565, 2571, 2575, 
+            2577, 2579, 2601, 2602, 2609, 2610, 2612, 2613, 2615, 2616, 2618, 2620, 2621, 2622, 
+            2627, 2631, 2633, 2635, 2638, 2641, 2642, 2649, 2653, 2654, 2655, 2662, 2674, 2677, 
+            2678, 2689, 2692, 2693, 2702, 2703, 2706, 2707, 2729, 2730, 2737, 2738, 2740, 2741, 
+            2746, 2748, 2749, 2750, 2758, 2759, 2762, 2763, 2766, 2768, 2769, 2784, 2786, 2788, 
+            2790, 2800, 2801, 2802, 2809, 2810, 2816, 2817, 2820, 2821, 2829, 2831, 2833, 2835, 
+            2857, 2858, 2865, 2866, 2868, 2869, 2874, 2876, 2877, 2878, 2885, 2887, 2889, 2891, 
+            2894, 2901, 2904, 2908, 2910, 2911, 2914, 2916, 2918, 2928, 2929, 2930, 2946, 2947, 
+            2948, 2949, 2955, 2958, 2961, 2962, 2966, 2969, 2971, 2972, 2973, 2974, 2976, 2979, 
+            2981, 2984, 2987, 2990, 3002, 3006, 3011, 3014, 3017, 3018, 3022, 3024, 3025, 3031, 
+            3032, 3046, 3056, 3065, 3066, 3072, 3077, 3085, 3086, 3089, 3090, 3113, 3114, 3130, 
+            3132, 3133, 3134, 3141, 3142, 3145, 3146, 3150, 3157, 3159, 3160, 3163, 3165, 3166, 
+            3168, 3170, 3172, 3174, 3184, 3200, 3201, 3204, 3205, 3213, 3214, 3217, 3218, 3241, 
+            3242, 3252, 3253, 3258, 3260, 3261, 3262, 3269, 3270, 3273, 3274, 3278, 3285, 3287, 
+            3293, 3295, 3296, 3298, 3300, 3302, 3312, 3313, 3315, 3328, 3332, 3341, 3342, 3345, 
+            3346, 3387, 3389, 3390, 3397, 3398, 3401, 3402, 3406, 3407, 3412, 3415, 3416, 3423, 
+            3426, 3428, 3430, 3440, 3450, 3456, 3457, 3460, 3461, 3479, 3482, 3506, 3507, 3516, 
+            3517, 3518, 3520, 3527, 3530, 3531, 3535, 3541, 3542, 3543, 3544, 3552, 3558, 3568, 
+            3570, 3572, 3585, 3633, 3634, 3636, 3643, 3647, 3655, 3663, 3664, 3674, 3713, 3715, 
+            3716, 3717, 3718, 3723, 3724, 3748, 3749, 3750, 3751, 3761, 3762, 3764, 3773, 3774, 
+            3776, 3781, 3782, 3783, 3784, 3790, 3792, 3802, 3804, 3808, 3840, 3841, 3864, 3866, 
+            3872, 3882, 3893, 3894, 3895, 3896, 3897, 3898, 3902, 3904, 3912, 3913, 3949, 3953, 
+            3973, 3974, 3976, 3981, 3992, 3993, 4029, 4038, 4039, 4096, 4139, 4159, 4160, 4170, 
+            4176, 4182, 4186, 4190, 4193, 4194, 4197, 4199, 4206, 4209, 4213, 4226, 4238, 4239, 
+            4254, 4256, 4294, 4295, 4296, 4301, 4302, 4304, 4347, 4348, 4681, 4682, 4686, 4688, 
+            4695, 4696, 4697, 4698, 4702, 4704, 4745, 4746, 4750, 4752, 4785, 4786, 4790, 4792, 
+            4799, 4800, 4801, 4802, 4806, 4808, 4823, 4824, 4881, 4882, 4886, 4888, 4955, 4957, 
+            4960, 4992, 5008, 5024, 5110, 5112, 5118, 5121, 5741, 5743, 5760, 5761, 5787, 5792, 
+            5867, 5870, 5881, 5888, 5906, 5910, 5919, 5938, 5941, 5952, 5970, 5972, 5984, 5997, 
+            5998, 6001, 6002, 6004, 6016, 6068, 6100, 6103, 6104, 6107, 6109, 6110, 6112, 6122, 
+            6155, 6170, 6176, 6265, 6272, 6277, 6279, 6313, 6314, 6315, 6320, 6390, 6400, 6431, 
+            6432, 6444, 6448, 6460, 6470, 6480, 6510, 6512, 6517, 6528, 6572, 6576, 6602, 6608, 
+            6618, 6656, 6679, 6684, 6688, 6741, 6751, 6752, 6781, 6783, 6794, 6800, 6810, 6823, 
+            6824, 6832, 6846, 6847, 6863, 6912, 6917, 6964, 6981, 6989, 6992, 7002, 7019, 7028, 
+            7040, 7043, 7073, 7086, 7088, 7098, 7142, 7156, 7168, 7204, 7224, 7232, 7242, 7245, 
+            7248, 7258, 7294, 7296, 7305, 7312, 7355, 7357, 7360, 7376, 7379, 7380, 7401, 7405, 
+            7406, 7412, 7413, 7415, 7418, 7419, 7424, 7616, 7680, 7958, 7960, 7966, 7968, 8006, 
+            8008, 8014, 8016, 8024, 8025, 8026, 8027, 8028, 8029, 8030, 8031, 8062, 8064, 8117, 
+            8118, 8125, 8126, 8127, 8130, 8133, 8134, 8141, 8144, 8148, 8150, 8156, 8160, 8173, 
+            8178, 8181, 8182, 8189, 8203, 8208, 8234, 8239, 8255, 8257, 8276, 8277, 8288, 8293, 
+            8294, 8304, 8305, 8306, 8319, 8320, 8336, 8349, 8352, 8385, 8400, 8413, 8417, 8418, 
+            8421, 8433, 8450, 8451, 8455, 8456, 8458, 8468, 8469, 8470, 8473, 8478, 8484, 8485, 
+            8486, 8487, 8488, 8489, 8490, 8494, 8495, 8506, 8508, 8512, 8517, 8522, 8526, 8527, 
+            8544, 8585, 11264, 11493, 11499, 11503, 11506, 11508, 11520, 11558, 11559, 11560, 
+            11565, 11566, 11568, 11624, 11631, 11632, 11647, 11648, 11671, 11680, 11687, 11688, 
+            11695, 11696, 11703, 11704, 11711, 11712, 11719, 11720, 11727, 11728, 11735, 11736, 
+            11743, 11744, 11776, 11823, 11824, 12293, 12296, 12321, 12330, 12336, 12337, 12342, 
+            12344, 12349, 12353, 12439, 12441, 12443, 12445, 12448, 12449, 12539, 12540, 12544, 
+            12549, 12592, 12593, 12687, 12704, 12736, 12784, 12800, 13312, 19904, 19968, 42125, 
+            42192, 42238, 42240, 42509, 42512, 42528, 42538, 42540, 42560, 42607, 42608, 42612, 
+            42622, 42623, 42654, 42656, 42736, 42738, 42775, 42784, 42786, 42889, 42891, 42955, 
+            42960, 42962, 42963, 42964, 42965, 42970, 42994, 43010, 43011, 43014, 43015, 43019, 
+            43020, 43043, 43048, 43052, 43053, 43064, 43065, 43072, 43124, 43136, 43138, 43188, 
+            43206, 43216, 43226, 43232, 43250, 43256, 43259, 43260, 43261, 43263, 43274, 43302, 
+            43310, 43312, 43335, 43348, 43360, 43389, 43392, 43396, 43443, 43457, 43471, 43472, 
+            43482, 43488, 43493, 43494, 43504, 43514, 43519, 43520, 43561, 43575, 43584, 43587, 
+            43588, 43596, 43598, 43600, 43610, 43616, 43639, 43642, 43643, 43646, 43696, 43697, 
+            43698, 43701, 43703, 43705, 43710, 43712, 43713, 43714, 43715, 43739, 43742, 43744, 
+            43755, 43760, 43762, 43765, 43767, 43777, 43783, 43785, 43791, 43793, 43799, 43808, 
+            43815, 43816, 43823, 43824, 43867, 43868, 43882, 43888, 44003, 44011, 44012, 44014, 
+            44016, 44026, 44032, 55204, 55216, 55239, 55243, 55292, 63744, 64110, 64112, 64218, 
+            64256, 64263, 64275, 64280, 64285, 64286, 64287, 64297, 64298, 64311, 64312, 64317, 
+            64318, 64319, 64320, 64322, 64323, 64325, 64326, 64434, 64467, 64830, 64848, 64912, 
+            64914, 64968, 65008, 65021, 65024, 65040, 65056, 65072, 65075, 65077, 65101, 65104, 
+            65129, 65130, 65136, 65141, 65142, 65277, 65279, 65280, 65284, 65285, 65296, 65306, 
+            65313, 65339, 65343, 65344, 65345, 65371, 65382, 65471, 65474, 65480, 65482, 65488, 
+            65490, 65496, 65498, 65501, 65504, 65506, 65509, 65511, 65529, 65532, 65536, 65548, 
+            65549, 65575, 65576, 65595, 65596, 65598, 65599, 65614, 65616, 65630, 65664, 65787, 
+            65856, 65909, 66045, 66046, 66176, 66205, 66208, 66257, 66272, 66273, 66304, 66336, 
+            66349, 66379, 66384, 66422, 66427, 66432, 66462, 66464, 66500, 66504, 66512, 66513, 
+            66518, 66560, 66718, 66720, 66730, 66736, 66772, 66776, 66812, 66816, 66856, 66864, 
+            66916, 66928, 66939, 66940, 66955, 66956, 66963, 66964, 66966, 66967, 66978, 66979, 
+            66994, 66995, 67002, 67003, 67005, 67072, 67383, 67392, 67414, 67424, 67432, 67456, 
+            67462, 67463, 67505, 67506, 67515, 67584, 67590, 67592, 67593, 67594, 67638, 67639, 
+            67641, 67644, 67645, 67647, 67670, 67680, 67703, 67712, 67743, 67808, 67827, 67828, 
+            67830, 67840, 67862, 67872, 67898, 67968, 68024, 68030, 68032, 68096, 68097, 68100, 
+            68101, 68103, 68108, 68112, 68116, 68117, 68120, 68121, 68150, 68152, 68155, 68159, 
+            68160, 68192, 68221, 68224, 68253, 68288, 68296, 68297, 68325, 68327, 68352, 68406, 
+            68416, 68438, 68448, 68467, 68480, 68498, 68608, 68681, 68736, 68787, 68800, 68851, 
+            68864, 68900, 68904, 68912, 68922, 69248, 69290, 69291, 69293, 69296, 69298, 69376, 
+            69405, 69415, 69416, 69424, 69446, 69457, 69488, 69506, 69510, 69552, 69573, 69600, 
+            69623, 69632, 69635, 69688, 69703, 69734, 69745, 69747, 69749, 69750, 69759, 69763, 
+            69808, 69819, 69821, 69822, 69826, 69827, 69837, 69838, 69840, 69865, 69872, 69882, 
+            69888, 69891, 69927, 69941, 69942, 69952, 69956, 69957, 69959, 69960, 69968, 70003, 
+            70004, 70006, 70007, 70016, 70019, 70067, 70081, 70085, 70089, 70093, 70094, 70106, 
+            70107, 70108, 70109, 70144, 70162, 70163, 70188, 70200, 70206, 70207, 70272, 70279, 
+            70280, 70281, 70282, 70286, 70287, 70302, 70303, 70313, 70320, 70367, 70379, 70384, 
+            70394, 70400, 70404, 70405, 70413, 70415, 70417, 70419, 70441, 70442, 70449, 70450, 
+            70452, 70453, 70458, 70459, 70461, 70462, 70469, 70471, 70473, 70475, 70478, 70480, 
+            70481, 70487, 70488, 70493, 70498, 70500, 70502, 70509, 70512, 70517, 70656, 70709, 
+            70727, 70731, 70736, 70746, 70750, 70751, 70754, 70784, 70832, 70852, 70854, 70855, 
+            70856, 70864, 70874, 71040, 71087, 71094, 71096, 71105, 71128, 71132, 71134, 71168, 
+            71216, 71233, 71236, 71237, 71248, 71258, 71296, 71339, 71352, 71353, 71360, 71370, 
+            71424, 71451, 71453, 71468, 71472, 71482, 71488, 71495, 71680, 71724, 71739, 71840, 
+            71904, 71914, 71935, 71943, 71945, 71946, 71948, 71956, 71957, 71959, 71960, 71984, 
+            71990, 71991, 71993, 71995, 71999, 72000, 72001, 72002, 72004, 72016, 72026, 72096, 
+            72104, 72106, 72145, 72152, 72154, 72161, 72162, 72163, 72164, 72165, 72192, 72193, 
+            72203, 72243, 72250, 72251, 72255, 72263, 72264, 72272, 72273, 72284, 72330, 72346, 
+            72349, 72350, 72368, 72441, 72704, 72713, 72714, 72751, 72759, 72760, 72768, 72769, 
+            72784, 72794, 72818, 72848, 72850, 72872, 72873, 72887, 72960, 72967, 72968, 72970, 
+            72971, 73009, 73015, 73018, 73019, 73020, 73022, 73023, 73030, 73031, 73032, 73040, 
+            73050, 73056, 73062, 73063, 73065, 73066, 73098, 73103, 73104, 73106, 73107, 73112, 
+            73113, 73120, 73130, 73440, 73459, 73463, 73648, 73649, 73693, 73697, 73728, 74650, 
+            74752, 74863, 74880, 75076, 77712, 77809, 77824, 78895, 78896, 78905, 82944, 83527, 
+            92160, 92729, 92736, 92767, 92768, 92778, 92784, 92863, 92864, 92874, 92880, 92910, 
+            92912, 92917, 92928, 92976, 92983, 92992, 92996, 93008, 93018, 93027, 93048, 93053, 
+            93072, 93760, 93824, 93952, 94027, 94031, 94032, 94033, 94088, 94095, 94099, 94112, 
+            94176, 94178, 94179, 94180, 94181, 94192, 94194, 94208, 100344, 100352, 101590, 
+            101632, 101641, 110576, 110580, 110581, 110588, 110589, 110591, 110592, 110883, 
+            110928, 110931, 110948, 110952, 110960, 111356, 113664, 113771, 113776, 113789, 
+            113792, 113801, 113808, 113818, 113821, 113823, 113824, 113828, 118528, 118574, 
+            118576, 118599, 119141, 119146, 119149, 119171, 119173, 119180, 119210, 119214, 
+            119362, 119365, 119808, 119893, 119894, 119965, 119966, 119968, 119970, 119971, 
+            119973, 119975, 119977, 119981, 119982, 119994, 119995, 119996, 119997, 120004, 
+            120005, 120070, 120071, 120075, 120077, 120085, 120086, 120093, 120094, 120122, 
+            120123, 120127, 120128, 120133, 120134, 120135, 120138, 120145, 120146, 120486, 
+            120488, 120513, 120514, 120539, 120540, 120571, 120572, 120597, 120598, 120629, 
+            120630, 120655, 120656, 120687, 120688, 120713, 120714, 120745, 120746, 120771, 
+            120772, 120780, 120782, 120832, 121344, 121399, 121403, 121453, 121461, 121462, 
+            121476, 121477, 121499, 121504, 121505, 121520, 122624, 122655, 122880, 122887, 
+            122888, 122905, 122907, 122914, 122915, 122917, 122918, 122923, 123136, 123181, 
+            123184, 123191, 123198, 123200, 123210, 123214, 123215, 123536, 123566, 123567, 
+            123584, 123628, 123642, 123647, 123648, 124896, 124903, 124904, 124908, 124909, 
+            124911, 124912, 124927, 124928, 125125, 125136, 125143, 125184, 125252, 125259, 
+            125260, 125264, 125274, 126128, 126129, 126464, 126468, 126469, 126496, 126497, 
+            126499, 126500, 126501, 126503, 126504, 126505, 126515, 126516, 126520, 126521, 
+            126522, 126523, 126524, 126530, 126531, 126535, 126536, 126537, 126538, 126539, 
+            126540, 126541, 126544, 126545, 126547, 126548, 126549, 126551, 126552, 126553, 
+            126554, 126555, 126556, 126557, 126558, 126559, 126560, 126561, 126563, 126564, 
+            126565, 126567, 126571, 126572, 126579, 126580, 126584, 126585, 126589, 126590, 
+            126591, 126592, 126602, 126603, 126620, 126625, 126628, 126629, 126634, 126635, 
+            126652, 130032, 130042, 131072, 173792, 173824, 177977, 177984, 178206, 178208, 
+            183970, 183984, 191457, 194560, 195102, 196608, 201547, 917505, 917506, 917536, 
+            917632, 917760, 918000};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] DFA_INTERVAL_CLASSES_init() {
+            int[] result = new int[1817];
+            DFA_INTERVAL_CLASSES_init0(result);
+            return result;
+        }
+
+        static private void DFA_INTERVAL_CLASSES_init0(int[] result) {
+            int[] chunk = new int[] {0, 3, 9, 3, 9, 3, 0, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 
+            9, 3, 9, 3, 9, 3, 9, 3, 0, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 
+            9, 3, 0, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 0, 3, 0, 3, 0, 3, 0, 3, 0, 3, 9, 3, 9, 
+            3, 0, 3, 9, 3, 0, 3, 0, 3, 9, 0, 3, 9, 0, 9, 3, 9, 0, 3, 0, 9, 0, 3, 0, 9, 0, 9, 
+            3, 9, 3, 0, 9, 0, 9, 0, 3, 9, 0, 9, 3, 0, 9, 0, 9, 3, 9, 3, 0, 9, 0, 9, 0, 9, 0, 
+            9, 0, 3, 9, 0, 3, 9, 3, 9, 3, 9, 3, 0, 3, 0, 9, 0, 9, 0, 9, 0, 9, 0, 9, 0, 3, 0, 
+            3, 9, 0, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 0, 9, 0, 3, 0, 3, 0, 9, 3, 0, 3, 
+            9, 3, 9, 0, 3, 0, 9, 3, 9, 3, 0, 3, 0, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 
+            3, 0, 3, 0, 3, 0, 3, 0, 3, 0, 3, 9, 3, 9, 3, 0, 9, 0, 3, 0, 3, 9, 3, 9, 3, 9, 3, 
+            9, 3, 9, 3, 9, 3, 0, 9, 0, 3, 0, 3, 0, 3, 9, 3, 9, 0, 3, 0, 3, 9, 3, 9, 0, 3, 0, 
+            3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 0, 9, 0, 3, 0, 3, 0, 3, 0, 3, 9, 3, 9, 0, 
+            3, 0, 3, 9, 3, 0, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 0, 
+            3, 0, 3, 0, 3, 9, 3, 0, 3, 0, 3, 9, 3, 0, 9, 3, 9, 3, 9, 3, 9, 3, 0, 9, 0, 3, 0, 
+            3, 0, 3, 0, 3, 9, 3, 9, 3, 9, 0, 3, 0, 3, 9, 0, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 
+            0, 9, 0, 3, 0, 3, 0, 3, 0, 3, 9, 3, 9, 0, 3, 0, 3, 9, 3, 0, 9, 3, 9, 3, 9, 0, 9, 
+            0, 3, 0, 3, 0, 9, 3, 9, 0, 3, 9, 0, 3, 0, 3, 9, 3, 0, 3, 9, 3, 9, 3, 9, 3, 9, 3, 
+            9, 3, 0, 3, 0, 3, 0, 3, 0, 3, 0, 3, 0, 3, 9, 0, 9, 0, 3, 9, 0, 3, 0, 3, 9, 3, 9, 
+            3, 9, 3, 9, 3, 9, 3, 9, 0, 9, 0, 9, 3, 9, 3, 9, 3, 0, 3, 0, 3, 9, 3, 9, 3, 0, 3, 
+            0, 3, 0, 3, 0, 3, 0, 3, 0, 9, 3, 9, 3, 0, 3, 0, 9, 0, 3, 0, 3, 0, 3, 9, 0, 9, 0, 
+            3, 9, 0, 9, 0, 9, 0, 9, 0, 9, 0, 9, 0, 9, 0, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 
+            3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 
+            9, 3, 0, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 0, 3, 9, 0, 3, 9, 
+            0, 3, 9, 3, 9, 3, 0, 3, 9, 0, 3, 9, 3, 9, 0, 3, 0, 3, 0, 3, 9, 3, 9, 0, 9, 0, 9, 
+            3, 9, 3, 9, 3, 0, 3, 0, 3, 0, 9, 3, 9, 3, 9, 3, 9, 3, 0, 3, 9, 0, 3, 9, 0, 3, 0, 
+            3, 0, 3, 0, 3, 9, 3, 0, 3, 0, 3, 0, 9, 0, 9, 3, 0, 3, 0, 3, 0, 9, 0, 9, 0, 9, 0, 
+            3, 9, 0, 3, 0, 3, 9, 0, 9, 3, 9, 3, 9, 3, 9, 3, 0, 3, 0, 9, 0, 9, 0, 9, 0, 9, 3, 
+            9, 0, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 
+            3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 0, 3, 0, 3, 9, 3, 9, 3, 0, 3, 0, 3, 9, 3, 
+            9, 3, 9, 3, 9, 3, 0, 3, 0, 3, 0, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 
+            3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 0, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 
+            9, 3, 0, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 0, 3, 9, 3, 9, 3, 
+            9, 0, 3, 9, 3, 9, 3, 9, 3, 0, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 
+            9, 3, 9, 3, 9, 3, 9, 0, 9, 3, 9, 0, 3, 0, 3, 9, 0, 9, 0, 3, 9, 3, 9, 3, 9, 3, 9, 
+            3, 9, 3, 9, 3, 9, 0, 9, 0, 9, 0, 9, 0, 3, 0, 3, 9, 3, 9, 3, 0, 9, 0, 3, 0, 3, 0, 
+            9, 3, 9, 3, 9, 0, 9, 0, 3, 9, 0, 3, 9, 3, 0, 9, 0, 3, 9, 0, 3, 9, 0, 9, 0, 9, 3, 
+            9, 0, 3, 9, 0, 9, 0, 3, 0, 3, 9, 3, 9, 0, 9, 0, 9, 0, 9, 0, 9, 0, 9, 0, 9, 3, 9, 
+            3, 9, 0, 3, 9, 0, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 0, 3, 0, 3, 0, 
+            3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 0, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 
+            9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 0, 3, 0, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 0, 
+            3, 9, 3, 0, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 0, 3, 
+            9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 0, 3, 9, 3, 9, 3, 0, 3, 9, 3, 9, 
+            3, 9, 0, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 0, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 
+            3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 
+            9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 
+            0, 3, 0, 3, 0, 9, 3, 9, 3, 9, 3, 0, 3, 0, 3, 9, 3, 9, 3, 9, 3, 9, 0, 3, 9, 3, 9, 
+            3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 0, 3, 0, 3, 9, 3, 0, 3, 9, 3, 9, 3, 9, 3, 9, 
+            0, 3, 9, 0, 3, 9, 3, 9, 3, 0, 9, 0, 3, 0, 9, 0, 9, 3, 0, 9, 0, 3, 0, 3, 0, 3, 0, 
+            3, 9, 3, 0, 3, 0, 9, 0, 3, 0, 3, 9, 0, 9, 3, 9, 0, 3, 9, 3, 0, 9, 0, 9, 3, 0, 3, 
+            0, 9, 3, 9, 3, 9, 3, 9, 0, 3, 0, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 0, 3, 0, 3, 
+            0, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 0, 9, 0, 3, 0, 3, 0, 3, 9, 3, 0, 3, 9, 
+            0, 3, 0, 3, 0, 3, 9, 0, 9, 3, 0, 3, 0, 9, 3, 9, 0, 9, 3, 9, 3, 0, 3, 9, 0, 3, 0, 
+            3, 9, 0, 3, 9, 0, 3, 9, 3, 0, 3, 9, 0, 9, 3, 0, 3, 9, 3, 0, 3, 0, 3, 9, 3, 9, 0, 
+            3, 9, 0, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 0, 3, 0, 3, 0, 9, 0, 9, 0, 3, 0, 3, 9, 3, 
+            9, 0, 3, 0, 9, 3, 9, 0, 3, 9, 0, 9, 0, 9, 0, 3, 0, 3, 9, 0, 9, 0, 3, 9, 3, 9, 3, 
+            9, 3, 9, 0, 3, 0, 9, 3, 0, 3, 9, 3, 0, 3, 0, 3, 9, 3, 9, 3, 9, 0, 3, 0, 3, 0, 3, 
+            0, 9, 0, 3, 0, 3, 9, 3, 9, 3, 9, 0, 3, 0, 3, 0, 9, 3, 0, 3, 9, 0, 3, 9, 3, 9, 3, 
+            9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 0, 3, 9, 3, 9, 3, 9, 3, 0, 3, 9, 3, 0, 3, 9, 3, 0, 
+            3, 9, 0, 3, 9, 3, 0, 3, 9, 3, 9, 3, 9, 3, 9, 3, 0, 9, 0, 3, 0, 9, 3, 9, 3, 9, 0, 
+            3, 0, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 
+            9, 3, 9, 3, 0, 3, 0, 3, 0, 3, 0, 3, 0, 3, 0, 3, 0, 3, 0, 3, 0, 3, 9, 3, 9, 3, 9, 
+            3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 
+            9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 
+            3, 0, 3, 0, 3, 0, 3, 0, 3, 0, 3, 0, 3, 0, 3, 9, 3, 0, 3, 0, 3, 0, 3, 0, 3, 0, 3, 
+            9, 3, 0, 9, 3, 0, 3, 9, 3, 9, 0, 3, 9, 0, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 
+            0, 3, 9, 0, 9, 3, 0, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 
+            3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 
+            9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 0, 3, 9, 3, 9, 
+            3, 9, 3, 9, 3, 9, 3, 9, 3, 9, 3, 0, 3, 0, 3, 0, 3};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] DFA_TRANSITIONS_init() {
+            int[] result = new int[7892];
+            DFA_TRANSITIONS_init0(result);
+            DFA_TRANSITIONS_init1(result);
+            DFA_TRANSITIONS_init2(result);
+            DFA_TRANSITIONS_init3(result);
+            return result;
+        }
+
+        static private void DFA_TRANSITIONS_init0(int[] result) {
+            int[] chunk = new int[] {1, - 1, 2, 1, 1, - 1, 3, 1, 1, 2, 1, 3, 1, 4, 1, 5, 1, 
+            6, 1, 7, 1, 8, 1, 9, 1, 10, 1, 11, 1, 12, 1, 13, 1, 14, 1, 15, 1, 16, 4, 17, 1, 
+            18, 1, 19, 1, 20, 1, 21, 1, 22, 1, 23, 1, 24, 7, 4, 1, 25, 1, - 1, 1, 26, 1, 27, 
+            1, 28, 1, 29, 1, 30, 1, 31, 1, 32, 1, 33, 1, 34, 1, 35, 1, 4, 1, 36, 1, 4, 1, 37, 
+            1, 4, 1, 38, 1, 4, 1, 39, 1, 40, 1, 41, 1, 42, 1, 4, 1, 43, 1, 44, 1, 4, 1, 45, 
+            1, 4, 1, 46, 1, 47, 1, 48, 1, 49, 1, - 1, 2, 1, 1, - 1, 3, 1, 95, - 1, 1, 50, 43, 
+            - 1, 2, 51, 1, - 1, 2, 51, 1, - 1, 2, 51, 1, 52, 32, 51, 1, 53, 31, 51, 1, 4, 8, 
+            - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 33, - 1, 1, 54, 54, - 1, 
+            1, 55, 17, - 1, 1, 56, 43, - 1, 2, 57, 1, - 1, 2, 57, 1, - 1, 6, 57, 1, - 1, 28, 
+            57, 1, 58, 31, 57, 175, - 1, 1, 59, 59, - 1, 1, 60, 12, - 1, 1, 61, 134, - 1, 1, 
+            62, 10, - 1, 1, 63, 1, 64, 61, - 1, 1, 65, 1, - 1, 5, 66, 62, - 1, 1, 67, 4, - 1, 
+            1, 68, 8, - 1, 1, 69, 62, - 1, 1, 70, 1, - 1, 4, 71, 1, 72, 8, - 1, 1, 73, 1, 74, 
+            1, 75, 1, 76, 1, - 1, 1, 77, 4, - 1, 1, 78, 1, - 1, 1, 73, 1, - 1, 1, 74, 1, 75, 
+            1, 74, 4, - 1, 1, 76, 10, - 1, 1, 77, 25, - 1, 1, 70, 1, - 1, 5, 72, 9, - 1, 1, 
+            74, 1, 75, 1, 76, 6, - 1, 1, 78, 3, - 1, 1, 74, 1, 75, 1, 74, 4, - 1, 1, 76, 43, 
+            - 1, 1, 79, 147, - 1, 1, 80, 1, 81, 72, - 1, 1, 82, 72, - 1, 1, 83, 1, 84, 363, 
+            - 1, 1, 85, 43, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 
+            4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 2, 4, 1, 86, 
+            14, 4, 1, 87, 7, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, 
+            - 1, 14, 4, 1, 88, 1, 4, 1, 89, 6, 4, 1, 90, 1, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 
+            11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 1, 4, 1, 91, 6, 4, 1, 92, 2, 4, 1, 93, 2, 
+            4, 1, 94, 10, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 
+            5, 4, 1, 95, 8, 4, 1, 96, 10, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, 
+            - 1, 7, 4, 4, - 1, 11, 4, 1, 97, 1, 4, 1, 98, 8, 4, 1, 99, 2, 4, 4, - 1, 1, 4, 
+            8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 1, 4, 1, 100, 7, 4, 1, 101, 
+            1, 4, 1, 102, 2, 4, 1, 103, 10, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, 
+            - 1, 7, 4, 4, - 1, 14, 4, 1, 104, 10, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 
+            4, 7, - 1, 7, 4, 4, - 1, 6, 4, 1, 105, 5, 4, 1, 106, 1, 107, 11, 4, 4, - 1, 1, 
+            4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 14, 4, 1, 108, 10, 4, 4, 
+            - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 1, 4, 1, 109, 3, 
+            4, 1, 110, 8, 4, 1, 111, 4, 4, 1, 112, 5, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 
+            5, 4, 7, - 1, 7, 4, 4, - 1, 1, 4, 1, 113, 3, 4, 1, 114, 10, 4, 1, 115, 2, 4, 1, 
+            116, 5, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 5, 
+            4, 1, 117, 19, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 
+            5, 4, 1, 118, 2, 4, 1, 119, 9, 4, 1, 120, 1, 121, 1, 4, 1, 122, 1, 4, 1, 123, 1, 
+            4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 8, 4, 1, 124, 
+            7, 4, 1, 125, 8, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, 
+            - 1, 1, 4, 1, 126, 12, 4, 1, 127, 10, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 
+            4, 7, - 1, 7, 4, 4, - 1, 8, 4, 1, 128, 16, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 
+            5, 4, 7, - 1, 7, 4, 4, - 1, 9, 4, 1, 129, 15, 4, 106, - 1, 1, 130, 40, - 1, 1, 
+            131, 221, - 1, 2, 51, 1, - 1, 2, 51, 1, - 1, 2, 51, 1, 132, 32, 51, 1, 53, 31, 
+            51, 8, - 1, 1, 133, 72, - 1, 1, 51, 3, - 1, 1, 51, 8, - 1, 3, 134, 1, 135, 16, 
+            - 1, 1, 51, 4, - 1, 1, 51, 3, - 1, 1, 51, 6, - 1, 1, 51, 2, - 1, 3, 51, 241, - 1, 
+            1, 136, 68, - 1, 1, 57, 3, - 1, 1, 57, 8, - 1, 3, 137, 1, 138, 16, - 1, 1, 57, 
+            4, - 1, 1, 57, 3, - 1, 1, 57, 6, - 1, 1, 57, 2, - 1, 3, 57, 467, - 1, 1, 139, 74, 
+            - 1, 5, 140, 9, - 1, 1, 74, 1, 141, 7, - 1, 1, 142, 3, - 1, 1, 74, 1, 141, 1, 74, 
+            262, - 1, 5, 143, 9, - 1, 1, 74, 1, 144, 11, - 1, 1, 74, 1, 144, 1, 74, 41, - 1, 
+            1, 70, 1, - 1, 4, 145, 1, 72, 9, - 1, 1, 74, 1, 75, 1, 76, 6, - 1, 1, 146, 3, - 1, 
+            1, 74, 1, 75, 1, 74, 4, - 1, 1, 76, 36, - 1, 1, 70, 1, - 1, 5, 72, 9, - 1, 1, 74, 
+            1, 75, 1, 76, 6, - 1, 1, 78, 3, - 1, 1, 74, 1, 75, 1, 74, 4, - 1, 1, 76, 38, - 1, 
+            2, 147, 139, - 1, 1, 148, 1, - 1, 1, 148, 2, - 1, 5, 149, 139, - 1, 1, 150, 1, 
+            - 1, 5, 151, 7, - 1, 4, 151, 8, - 1, 6, 151, 43, - 1, 5, 72, 18, - 1, 1, 78, 130, 
+            - 1, 1, 152, 291, - 1, 1, 153, 1, 154, 115, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 
+            4, 7, - 1, 7, 4, 4, - 1, 17, 4, 1, 155, 7, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 
+            5, 4, 7, - 1, 7, 4, 4, - 1, 17, 4, 1, 156, 7, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, 
+            - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 14, 4, 1, 157, 10, 4, 4, - 1, 1, 4, 8, - 1, 1, 
+            4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 5, 4, 1, 158, 19, 4, 4, - 1, 1, 4, 8, - 1, 
+            1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 18, 4, 1, 159, 6, 4, 4, - 1, 1, 4, 8, 
+            - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 17, 4, 1, 160, 1, 161, 6, 4, 4, 
+            - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 1, 4, 1, 162, 23, 
+            4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 1, 4, 1, 163, 
+            23, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 13, 4, 
+            1, 164, 11, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 
+            6, 4, 1, 165, 18, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, 
+            - 1, 19, 4, 1, 166, 5, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 
+            4, 4, - 1, 17, 4, 1, 167, 7, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 
+            7, 4, 4, - 1, 19, 4, 1, 168, 5, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, 
+            - 1, 7, 4, 4, - 1, 18, 4, 1, 169, 6, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 
+            4, 7, - 1, 7, 4, 4, - 1, 11, 4, 1, 170, 13, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, 
+            - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 13, 4, 1, 171, 11, 4, 4, - 1, 1, 4, 8, - 1, 1, 
+            4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 14, 4, 1, 172, 10, 4, 4, - 1, 1, 4, 8, 
+            - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 16, 4, 1, 173, 8, 4, 4, - 1, 1, 
+            4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 18, 4, 1, 174, 6, 4, 4, - 1, 
+            1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, 
+            - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 15, 4, 1, 175, 9, 4, 4, - 1, 1, 
+            4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 17, 4, 1, 176, 1, 177, 6, 
+            4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 13, 4, 1, 178, 
+            11, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 18, 4, 
+            1, 179, 6, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 
+            21, 4, 1, 180, 3, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, 
+            - 1, 13, 4, 1, 181, 11, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 
+            4, 4, - 1, 11, 4, 1, 182, 13, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, 
+            - 1, 7, 4, 4, - 1, 3, 4, 1, 183, 21, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 
+            4, 7, - 1, 7, 4, 4, - 1, 16, 4, 1, 184, 8, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 
+            5, 4, 7, - 1, 7, 4, 4, - 1, 9, 4, 1, 185, 4, 4, 1, 186, 10, 4, 4, - 1, 1, 4, 8, 
+            - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 2, 4, 1, 187, 22, 4, 4, - 1, 1, 
+            4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 3, 4, 1, 188, 14, 4, 1, 189, 
+            6, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 1, 4, 1, 
+            190, 23, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 14, 
+            4, 1, 191, 10, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 
+            1, 4, 1, 192, 14, 4, 1, 193, 8, 4, 4, - 1};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private void DFA_TRANSITIONS_init1(int[] result) {
+            int[] chunk = new int[] {1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 
+            15, 4, 1, 194, 9, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, 
+            - 1, 9, 4, 1, 195, 15, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 
+            4, 4, - 1, 13, 4, 1, 196, 11, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, 
+            - 1, 7, 4, 4, - 1, 9, 4, 1, 197, 6, 4, 1, 198, 8, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 
+            11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 1, 4, 1, 199, 17, 4, 1, 200, 3, 4, 1, 201, 
+            1, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 16, 4, 1, 
+            202, 8, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 9, 
+            4, 1, 203, 1, 4, 1, 204, 13, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 
+            7, 4, 4, - 1, 9, 4, 1, 205, 15, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, 
+            - 1, 7, 4, 4, - 1, 5, 4, 1, 206, 19, 4, 224, - 1, 1, 133, 1, 207, 1, - 1, 1, 133, 
+            1, 208, 1, 133, 66, - 1, 2, 51, 1, - 1, 2, 51, 1, - 1, 2, 51, 1, 132, 12, 51, 4, 
+            209, 16, 51, 1, 53, 33, 51, 1, - 1, 2, 51, 1, - 1, 2, 51, 1, 132, 32, 51, 1, 53, 
+            31, 51, 85, - 1, 1, 136, 8, - 1, 4, 210, 60, - 1, 1, 136, 8, - 1, 4, 57, 142, - 1, 
+            5, 140, 9, - 1, 1, 74, 1, 141, 7, - 1, 1, 142, 3, - 1, 1, 74, 1, 141, 1, 74, 38, 
+            - 1, 1, 211, 1, - 1, 1, 211, 2, - 1, 5, 212, 68, - 1, 5, 140, 18, - 1, 1, 142, 
+            49, - 1, 5, 213, 9, - 1, 1, 74, 1, 144, 7, - 1, 1, 214, 3, - 1, 1, 74, 1, 144, 
+            1, 74, 38, - 1, 1, 215, 1, - 1, 1, 215, 2, - 1, 5, 216, 66, - 1, 1, 70, 1, - 1, 
+            4, 145, 1, 72, 9, - 1, 1, 74, 1, 75, 1, 76, 6, - 1, 1, 146, 3, - 1, 1, 74, 1, 75, 
+            1, 74, 4, - 1, 1, 76, 38, - 1, 4, 145, 1, 72, 18, - 1, 1, 146, 49, - 1, 2, 217, 
+            14, - 1, 1, 76, 6, - 1, 1, 218, 10, - 1, 1, 76, 38, - 1, 5, 149, 68, - 1, 5, 219, 
+            9, - 1, 1, 74, 8, - 1, 1, 220, 3, - 1, 1, 74, 1, - 1, 1, 74, 43, - 1, 5, 221, 7, 
+            - 1, 4, 221, 8, - 1, 6, 221, 41, - 1, 1, 222, 1, - 1, 5, 223, 7, - 1, 4, 223, 1, 
+            76, 1, 224, 5, - 1, 1, 225, 6, 223, 4, - 1, 1, 76, 3, - 1, 1, 224, 188, - 1, 1, 
+            226, 43, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 18, 4, 1, 
+            227, 6, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 5, 
+            4, 1, 228, 19, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 
+            11, 4, 1, 229, 13, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 
+            4, - 1, 1, 4, 1, 230, 23, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 
+            7, 4, 4, - 1, 5, 4, 1, 231, 19, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, 
+            - 1, 7, 4, 4, - 1, 5, 4, 1, 232, 19, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 
+            4, 7, - 1, 7, 4, 4, - 1, 3, 4, 1, 233, 21, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 
+            5, 4, 7, - 1, 7, 4, 4, - 1, 16, 4, 1, 234, 8, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, 
+            - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 17, 4, 1, 235, 7, 4, 4, - 1, 1, 4, 8, - 1, 1, 
+            4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 17, 4, 1, 236, 1, 237, 6, 4, 4, - 1, 1, 
+            4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 1, 4, 1, 238, 23, 4, 4, - 1, 
+            1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 2, 4, 1, 239, 22, 4, 4, 
+            - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 5, 4, 1, 240, 19, 
+            4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 12, 4, 1, 241, 
+            12, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 5, 4, 1, 
+            242, 19, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 17, 
+            4, 1, 243, 7, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 
+            1, 4, 1, 244, 23, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, 
+            - 1, 1, 4, 1, 245, 23, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 
+            4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 
+            14, 4, 1, 246, 10, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 
+            4, - 1, 11, 4, 1, 247, 2, 4, 1, 248, 10, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 
+            5, 4, 7, - 1, 7, 4, 4, - 1, 18, 4, 1, 249, 6, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, 
+            - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 5, 4, 1, 250, 19, 4, 4, - 1, 1, 4, 8, - 1, 1, 
+            4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 7, 4, 1, 251, 17, 4, 4, - 1, 1, 4, 8, - 1, 
+            1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 9, 4, 1, 252, 15, 4, 4, - 1, 1, 4, 8, 
+            - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 
+            4, 8, - 1, 1, 253, 2, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, 
+            - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 11, 4, 1, 254, 13, 4, 4, - 1, 1, 
+            4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 10, 4, 1, 255, 14, 4, 4, 
+            - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 12, 4, 1, 256, 12, 
+            4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 20, 4, 1, 257, 
+            4, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 18, 4, 1, 
+            258, 6, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 11, 
+            4, 1, 259, 13, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 
+            14, 4, 1, 260, 10, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 
+            4, - 1, 19, 4, 1, 261, 5, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 
+            7, 4, 4, - 1, 11, 4, 1, 262, 13, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 
+            7, - 1, 7, 4, 4, - 1, 16, 4, 1, 263, 8, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 
+            5, 4, 7, - 1, 7, 4, 4, - 1, 18, 4, 1, 264, 6, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, 
+            - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 9, 4, 1, 265, 15, 4, 4, - 1, 1, 4, 8, - 1, 1, 
+            4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 5, 4, 1, 266, 19, 4, 4, - 1, 1, 4, 8, - 1, 
+            1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 18, 4, 1, 267, 6, 4, 4, - 1, 1, 4, 8, 
+            - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 3, 4, 1, 268, 21, 4, 4, - 1, 1, 
+            4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 17, 4, 1, 269, 7, 4, 4, - 1, 
+            1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 14, 4, 1, 270, 10, 4, 
+            4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 13, 4, 1, 271, 
+            11, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 5, 4, 1, 
+            272, 19, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 
+            4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 
+            1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 4, 4, 1, 273, 20, 4, 4, 
+            - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 1, 4, 1, 274, 23, 
+            4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 11, 4, 1, 275, 
+            13, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 11, 4, 
+            1, 276, 13, 4, 4, - 1, 8, 207, 1, 277, 32, 207, 1, 278, 39, 207, 1, 277, 32, 207, 
+            1, 278, 31, 207, 2, 51, 1, - 1, 2, 51, 1, - 1, 2, 51, 1, 132, 32, 51, 1, 53, 31, 
+            51, 12, - 1, 1, 136, 8, - 1, 4, 57, 69, - 1, 5, 212, 68, - 1, 5, 279, 9, - 1, 1, 
+            74, 8, - 1, 1, 280, 3, - 1, 1, 74, 1, - 1, 1, 74, 43, - 1, 5, 213, 9, - 1, 1, 74, 
+            1, 144, 7, - 1, 1, 214, 3, - 1, 1, 74, 1, 144, 1, 74, 43, - 1, 5, 213, 18, - 1, 
+            1, 214, 49, - 1, 5, 216, 68, - 1, 5, 281, 9, - 1, 1, 74, 8, - 1, 1, 282, 3, - 1, 
+            1, 74, 1, - 1, 1, 74, 43, - 1, 2, 217, 14, - 1, 1, 76, 6, - 1, 1, 218, 10, - 1, 
+            1, 76, 38, - 1, 2, 217, 21, - 1, 1, 218, 49, - 1, 5, 219, 9, - 1, 1, 74, 8, - 1, 
+            1, 220, 3, - 1, 1, 74, 1, - 1, 1, 74, 43, - 1, 5, 283, 18, - 1, 1, 220, 49, - 1, 
+            5, 284, 7, - 1, 4, 284, 1, - 1, 1, 285, 5, - 1, 1, 286, 6, 284, 8, - 1, 1, 285, 
+            34, - 1, 5, 221, 7, - 1, 4, 221, 1, - 1, 1, 224, 6, - 1, 6, 221, 8, - 1, 1, 224, 
+            32, - 1, 1, 222, 1, - 1, 5, 223, 7, - 1, 4, 223, 1, 76, 1, 224, 5, - 1, 1, 225, 
+            6, 223, 4, - 1, 1, 76, 3, - 1, 1, 224, 29, - 1, 1, 287, 1, - 1, 1, 287};
+            System.arraycopy(chunk, 0, result, 2000, chunk.length);
+        }
+
+        static private void DFA_TRANSITIONS_init2(int[] result) {
+            int[] chunk = new int[] {2, - 1, 5, 288, 68, - 1, 5, 223, 7, - 1, 4, 223, 7, - 1, 
+            1, 225, 6, 223, 95, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 
+            16, 4, 1, 289, 8, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, 
+            - 1, 16, 4, 1, 290, 8, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 
+            4, 4, - 1, 5, 4, 1, 291, 19, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 
+            7, 4, 4, - 1, 10, 4, 1, 292, 14, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 
+            7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 
+            7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, 
+            - 1, 8, 4, 1, 293, 16, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 
+            4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 
+            17, 4, 1, 294, 7, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, 
+            - 1, 18, 4, 1, 295, 6, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 
+            4, 4, - 1, 9, 4, 1, 296, 15, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 
+            7, 4, 4, - 1, 19, 4, 1, 297, 5, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, 
+            - 1, 7, 4, 4, - 1, 11, 4, 1, 298, 13, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 
+            4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 
+            7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, 
+            - 1, 13, 4, 1, 299, 11, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 
+            4, 4, - 1, 5, 4, 1, 300, 19, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 
+            7, 4, 4, - 1, 11, 4, 1, 301, 13, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 
+            7, - 1, 7, 4, 4, - 1, 18, 4, 1, 302, 6, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 
+            5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, 
+            - 1, 7, 4, 4, - 1, 5, 4, 1, 303, 19, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 
+            4, 7, - 1, 7, 4, 4, - 1, 16, 4, 1, 304, 8, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 
+            5, 4, 7, - 1, 7, 4, 4, - 1, 1, 4, 1, 305, 23, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, 
+            - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 16, 4, 1, 306, 8, 4, 4, - 1, 1, 4, 8, - 1, 1, 
+            4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, 
+            - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 20, 4, 1, 307, 4, 4, 65, - 1, 1, 308, 11, - 1, 
+            1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, 
+            - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 1, 4, 1, 309, 23, 4, 4, - 1, 1, 
+            4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 9, 4, 1, 310, 15, 4, 4, - 1, 
+            1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 1, 4, 1, 311, 23, 4, 4, 
+            - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 5, 4, 1, 312, 19, 
+            4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 9, 4, 1, 313, 
+            15, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 16, 4, 
+            1, 314, 8, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 
+            16, 4, 1, 315, 8, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, 
+            - 1, 5, 4, 1, 316, 19, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 
+            4, 4, - 1, 18, 4, 1, 317, 6, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 
+            7, 4, 4, - 1, 9, 4, 1, 318, 15, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, 
+            - 1, 7, 4, 4, - 1, 3, 4, 1, 319, 21, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 
+            4, 7, - 1, 7, 4, 4, - 1, 16, 4, 1, 320, 8, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 
+            5, 4, 7, - 1, 7, 4, 4, - 1, 3, 4, 1, 321, 21, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, 
+            - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 8, 4, 1, 322, 16, 4, 4, - 1, 1, 4, 8, - 1, 1, 
+            4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, 
+            - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 21, 4, 1, 323, 3, 4, 4, - 1, 1, 4, 8, - 1, 1, 
+            4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 17, 4, 1, 324, 7, 4, 4, - 1, 1, 4, 8, - 1, 
+            1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, 
+            - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 
+            4, 7, - 1, 7, 4, 4, - 1, 18, 4, 1, 325, 6, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 
+            5, 4, 7, - 1, 7, 4, 4, - 1, 5, 4, 1, 326, 19, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, 
+            - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 4, 4, 1, 327, 20, 4, 4, - 1, 8, 207, 1, 328, 32, 
+            207, 1, 278, 31, 207, 2, - 1, 1, 207, 2, - 1, 1, 329, 2, - 1, 1, 207, 3, - 1, 1, 
+            207, 8, - 1, 3, 330, 1, 331, 16, - 1, 1, 207, 4, - 1, 1, 207, 3, - 1, 1, 207, 6, 
+            - 1, 1, 207, 2, - 1, 3, 207, 31, - 1, 5, 279, 9, - 1, 1, 74, 8, - 1, 1, 280, 3, 
+            - 1, 1, 74, 1, - 1, 1, 74, 43, - 1, 5, 332, 18, - 1, 1, 280, 49, - 1, 5, 281, 9, 
+            - 1, 1, 74, 8, - 1, 1, 282, 3, - 1, 1, 74, 1, - 1, 1, 74, 43, - 1, 5, 333, 18, 
+            - 1, 1, 282, 49, - 1, 5, 219, 9, - 1, 1, 74, 8, - 1, 1, 220, 3, - 1, 1, 74, 1, 
+            - 1, 1, 74, 43, - 1, 5, 284, 7, - 1, 4, 284, 1, - 1, 1, 285, 5, - 1, 1, 286, 6, 
+            284, 8, - 1, 1, 285, 29, - 1, 1, 334, 1, - 1, 1, 334, 2, - 1, 5, 335, 68, - 1, 
+            5, 284, 7, - 1, 4, 284, 7, - 1, 1, 286, 6, 284, 43, - 1, 5, 288, 68, - 1, 5, 336, 
+            9, - 1, 1, 74, 8, - 1, 1, 337, 3, - 1, 1, 74, 1, - 1, 1, 74, 22, - 1, 1, 4, 8, 
+            - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 1, 4, 1, 338, 23, 4, 4, - 1, 1, 
+            4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 18, 4, 1, 339, 6, 4, 4, - 1, 
+            1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 1, 4, 1, 340, 23, 4, 4, 
+            - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 
+            4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 
+            1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, 
+            - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 
+            4, 7, - 1, 7, 4, 4, - 1, 13, 4, 1, 341, 11, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, 
+            - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 11, 4, 1, 342, 13, 4, 4, - 1, 1, 4, 8, - 1, 1, 
+            4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 5, 4, 1, 343, 19, 4, 4, - 1, 1, 4, 8, - 1, 
+            1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 4, 4, 1, 344, 20, 4, 4, - 1, 1, 4, 8, 
+            - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 
+            4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 11, 4, 1, 345, 13, 4, 4, - 1, 1, 4, 8, 
+            - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 
+            4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 12, 4, 1, 346, 12, 4, 4, - 1, 1, 4, 8, 
+            - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 18, 4, 1, 347, 6, 4, 4, - 1, 1, 
+            4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 13, 4, 1, 348, 11, 4, 4, 
+            - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 6, 4, 1, 349, 18, 
+            4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 5, 4, 1, 350, 
+            19, 4, 53, - 1, 1, 351, 23, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 
+            4, 4, - 1, 7, 4, 1, 352, 17, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 
+            7, 4, 4, - 1, 18, 4, 1, 353, 6, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, 
+            - 1, 7, 4, 4, - 1, 18, 4, 1, 354, 6, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 
+            4, 7, - 1, 7, 4, 4, - 1, 3, 4, 1, 355, 21, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 
+            5, 4, 7, - 1, 7, 4, 4, - 1, 3, 4, 1, 356, 21, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, 
+            - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 4, 4, 1, 357, 20, 4, 4, - 1, 1, 4, 8, - 1, 1, 
+            4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 13, 4, 1, 358, 11, 4, 4, - 1, 1, 4, 8, 
+            - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 4, 4, 1, 359, 20, 4, 4, - 1, 1, 
+            4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4};
+            System.arraycopy(chunk, 0, result, 4000, chunk.length);
+        }
+
+        static private void DFA_TRANSITIONS_init3(int[] result) {
+            int[] chunk = new int[] {4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 
+            4, 7, - 1, 7, 4, 4, - 1, 3, 4, 1, 360, 21, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 
+            5, 4, 7, - 1, 7, 4, 4, - 1, 18, 4, 1, 361, 6, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, 
+            - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 
+            4, 7, - 1, 7, 4, 4, - 1, 8, 4, 1, 362, 16, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 
+            5, 4, 7, - 1, 7, 4, 4, - 1, 16, 4, 1, 363, 8, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, 
+            - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 17, 4, 1, 364, 7, 4, 4, - 1, 1, 4, 8, - 1, 1, 
+            4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 9, 4, 1, 365, 15, 4, 4, - 1, 1, 4, 8, - 1, 
+            1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 9, 4, 1, 366, 15, 4, 4, - 1, 1, 4, 8, 
+            - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 
+            4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 8, 207, 1, 367, 32, 207, 
+            1, 278, 39, 207, 1, 277, 32, 207, 1, 278, 39, 207, 1, 277, 12, 207, 4, 368, 16, 
+            207, 1, 278, 39, 207, 1, 277, 32, 207, 1, 278, 31, 207, 21, - 1, 5, 279, 9, - 1, 
+            1, 74, 8, - 1, 1, 280, 3, - 1, 1, 74, 1, - 1, 1, 74, 43, - 1, 5, 281, 9, - 1, 1, 
+            74, 8, - 1, 1, 282, 3, - 1, 1, 74, 1, - 1, 1, 74, 43, - 1, 5, 335, 68, - 1, 5, 
+            369, 9, - 1, 1, 74, 8, - 1, 1, 370, 3, - 1, 1, 74, 1, - 1, 1, 74, 43, - 1, 5, 336, 
+            9, - 1, 1, 74, 8, - 1, 1, 337, 3, - 1, 1, 74, 1, - 1, 1, 74, 43, - 1, 5, 336, 18, 
+            - 1, 1, 337, 28, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 
+            3, 4, 1, 371, 21, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, 
+            - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 13, 
+            4, 1, 372, 11, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 
+            19, 4, 1, 373, 5, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, 
+            - 1, 18, 4, 1, 374, 6, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 
+            4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 
+            17, 4, 1, 375, 7, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, 
+            - 1, 23, 4, 1, 376, 1, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 
+            4, 4, - 1, 5, 4, 1, 377, 19, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 
+            7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, 
+            - 1, 3, 4, 1, 378, 21, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 
+            4, 4, - 1, 1, 4, 1, 379, 23, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 
+            7, 4, 4, - 1, 25, 4, 49, - 1, 1, 380, 27, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 
+            4, 7, - 1, 7, 4, 4, - 1, 5, 4, 1, 381, 19, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 
+            5, 4, 7, - 1, 7, 4, 4, - 1, 17, 4, 1, 382, 7, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, 
+            - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 5, 4, 1, 383, 19, 4, 4, - 1, 1, 4, 8, - 1, 1, 
+            4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 18, 4, 1, 384, 6, 4, 4, - 1, 1, 4, 8, - 1, 
+            1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, 
+            - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 
+            4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 
+            7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, 
+            - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 6, 
+            4, 1, 385, 18, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 
+            25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 14, 4, 
+            1, 386, 10, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 
+            25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 5, 4, 1, 
+            387, 19, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 11, 
+            4, 1, 388, 13, 4, 77, - 1, 8, 207, 1, 277, 32, 207, 1, 278, 31, 207, 21, - 1, 5, 
+            369, 9, - 1, 1, 74, 8, - 1, 1, 370, 3, - 1, 1, 74, 1, - 1, 1, 74, 43, - 1, 5, 369, 
+            18, - 1, 1, 370, 28, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 
+            18, 4, 1, 389, 6, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, 
+            - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 5, 
+            4, 1, 390, 19, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 
+            25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 
+            4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 
+            1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 13, 4, 1, 391, 11, 4, 
+            4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 5, 4, 1, 392, 
+            19, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 3, 4, 1, 
+            393, 21, 4, 59, - 1, 1, 394, 17, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 
+            7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, 
+            - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 
+            4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 5, 4, 1, 395, 
+            19, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 15, 4, 
+            1, 396, 9, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 
+            13, 4, 1, 397, 11, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 
+            4, - 1, 13, 4, 1, 398, 11, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 
+            7, 4, 4, - 1, 5, 4, 1, 399, 19, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, 
+            - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 
+            4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 
+            18, 4, 1, 400, 6, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, 
+            - 1, 14, 4, 1, 401, 10, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 
+            4, 4, - 1, 5, 4, 1, 402, 19, 4, 53, - 1, 1, 403, 23, - 1, 1, 4, 8, - 1, 1, 4, 11, 
+            - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 4, 4, 1, 404, 20, 4, 4, - 1, 1, 4, 8, - 1, 1, 
+            4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, 
+            - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 9, 4, 1, 405, 15, 4, 4, - 1, 1, 4, 8, - 1, 1, 
+            4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 18, 4, 1, 406, 6, 4, 4, - 1, 1, 4, 8, - 1, 
+            1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, 
+            - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 17, 4, 1, 407, 7, 4, 4, - 1, 1, 4, 8, - 1, 1, 
+            4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 6, 4, 1, 408, 18, 4, 4, - 1, 1, 4, 8, - 1, 
+            1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 52, - 1, 1, 409, 24, - 1, 1, 
+            4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 
+            1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 24, 4, 1, 410, 4, - 1, 1, 4, 8, - 1, 
+            1, 4, 11, - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, 
+            - 1, 5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 
+            4, 7, - 1, 7, 4, 4, - 1, 25, 4, 77, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 4, 7, 
+            - 1, 7, 4, 4, - 1, 5, 4, 1, 411, 19, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 5, 
+            4, 7, - 1, 7, 4, 4, - 1, 4, 4, 1, 412, 20, 4, 4, - 1, 1, 4, 8, - 1, 1, 4, 11, - 1, 
+            5, 4, 7, - 1, 7, 4, 4, - 1, 25, 4, 4, - 1};
+            System.arraycopy(chunk, 0, result, 6000, chunk.length);
+        }
+
+        static private int[] DFA_ACCEPT_OFFSETS_init() {
+            int[] result = new int[414];
+            DFA_ACCEPT_OFFSETS_init0(result);
+            return result;
+        }
+
+        static private void DFA_ACCEPT_OFFSETS_init0(int[] result) {
+            int[] chunk = new int[] {0, 0, 1, 2, 2, 3, 4, 5, 5, 6, 7, 8, 9, 10, 11, 12, 13, 
+            14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 27, 28, 29, 30, 31, 32, 33, 34, 
+            35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 49, 50, 50, 51, 52, 
+            53, 53, 53, 54, 55, 56, 57, 58, 59, 59, 60, 61, 62, 63, 64, 65, 66, 66, 67, 67, 
+            68, 68, 68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79, 80, 81, 82, 83, 84, 85, 
+            87, 88, 89, 90, 91, 92, 93, 94, 95, 97, 98, 99, 100, 101, 102, 103, 104, 105, 106, 
+            107, 108, 109, 110, 111, 112, 113, 114, 115, 116, 117, 118, 119, 120, 121, 122, 
+            123, 124, 124, 124, 124, 125, 125, 125, 126, 127, 127, 127, 128, 128, 129, 129, 
+            130, 130, 131, 131, 132, 133, 134, 135, 136, 137, 138, 139, 140, 141, 142, 143, 
+            144, 145, 146, 147, 148, 149, 150, 151, 152, 153, 155, 156, 157, 158, 160, 161, 
+            162, 164, 165, 166, 167, 168, 169, 170, 171, 172, 173, 174, 175, 176, 177, 178, 
+            179, 180, 181, 182, 183, 184, 186, 188, 189, 190, 191, 192, 192, 192, 192, 192, 
+            192, 193, 194, 194, 194, 195, 196, 196, 197, 197, 197, 197, 198, 198, 198, 199, 
+            200, 201, 202, 203, 205, 207, 208, 210, 211, 212, 213, 214, 215, 217, 219, 220, 
+            221, 222, 223, 225, 226, 227, 228, 229, 231, 232, 232, 234, 235, 236, 237, 238, 
+            239, 240, 241, 242, 243, 244, 245, 246, 247, 248, 250, 251, 252, 254, 256, 257, 
+            258, 259, 259, 259, 260, 260, 261, 261, 262, 262, 262, 262, 262, 263, 264, 265, 
+            266, 268, 270, 272, 274, 275, 276, 277, 278, 280, 282, 284, 285, 286, 287, 288, 
+            289, 289, 290, 291, 292, 293, 294, 295, 296, 297, 299, 300, 301, 303, 304, 305, 
+            307, 308, 309, 311, 313, 313, 313, 313, 313, 314, 315, 315, 316, 317, 317, 318, 
+            320, 321, 322, 323, 325, 326, 327, 328, 330, 331, 332, 334, 334, 335, 336, 337, 
+            338, 340, 342, 344, 346, 348, 349, 351, 352, 354, 355, 356, 357, 357, 358, 358, 
+            359, 361, 362, 364, 366, 368, 369, 370, 371, 371, 373, 375, 377, 378, 379, 380, 
+            381, 382, 384, 386, 387, 388, 389, 389, 390, 392, 393, 394, 396, 397, 398, 400, 
+            400, 402, 403, 405, 407, 409, 410, 411, 412, 414};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] DFA_ACCEPT_INDEXES_init() {
+            int[] result = new int[414];
+            DFA_ACCEPT_INDEXES_init0(result);
+            return result;
+        }
+
+        static private void DFA_ACCEPT_INDEXES_init0(int[] result) {
+            int[] chunk = new int[] {0, 84, 119, 103, 100, 69, 70, 98, 96, 76, 97, 77, 99, 
+            66, 66, 87, 75, 83, 81, 82, 86, 80, 73, 74, 102, 3, 119, 119, 119, 119, 119, 119, 
+            119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 71, 101, 72, 85, 91, 
+            64, 112, 93, 109, 107, 94, 105, 95, 106, 118, 68, 2, 1, 108, 68, 66, 66, 68, 67, 
+            78, 104, 89, 88, 90, 114, 111, 119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 
+            16, 119, 119, 119, 119, 119, 119, 119, 119, 119, 27, 119, 119, 119, 119, 119, 119, 
+            119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 
+            119, 119, 119, 110, 92, 64, 63, 79, 68, 68, 66, 66, 68, 66, 113, 116, 115, 119, 
+            119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 
+            119, 25, 119, 119, 119, 119, 31, 119, 119, 119, 35, 119, 119, 119, 119, 119, 119, 
+            119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 54, 
+            119, 55, 119, 119, 119, 119, 119, 68, 68, 68, 66, 68, 66, 117, 119, 119, 119, 119, 
+            8, 119, 9, 119, 119, 11, 119, 119, 119, 119, 119, 119, 18, 119, 19, 119, 119, 119, 
+            119, 119, 26, 119, 119, 119, 119, 119, 33, 119, 119, 36, 119, 119, 119, 119, 119, 
+            119, 119, 119, 119, 119, 119, 119, 119, 119, 119, 49, 119, 119, 119, 53, 119, 56, 
+            119, 119, 119, 119, 68, 68, 68, 68, 119, 119, 119, 7, 119, 10, 119, 12, 119, 13, 
+            119, 119, 119, 119, 119, 21, 119, 22, 119, 24, 119, 119, 119, 119, 119, 119, 119, 
+            119, 119, 119, 119, 119, 119, 119, 43, 119, 119, 119, 46, 119, 119, 119, 50, 119, 
+            119, 119, 58, 119, 59, 119, 68, 68, 68, 68, 119, 5, 119, 119, 119, 119, 17, 119, 
+            119, 119, 119, 29, 119, 119, 119, 34, 119, 119, 119, 119, 119, 40, 119, 42, 119, 
+            41, 119, 60, 119, 44, 119, 119, 47, 119, 119, 51, 119, 119, 119, 65, 68, 119, 6, 
+            119, 119, 15, 119, 20, 119, 23, 119, 119, 119, 119, 37, 119, 62, 119, 38, 119, 
+            119, 119, 119, 119, 119, 4, 119, 14, 119, 119, 119, 119, 119, 45, 119, 119, 119, 
+            57, 119, 119, 119, 32, 119, 39, 119, 119, 52, 119, 28, 119, 30, 119, 61, 119, 119, 
+            48, 119};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private DfaTable DFA_TABLE_init() {
+            TokenType[] acceptTypes = new TokenType[] {WHITESPACE, SINGLE_LINE_COMMENT_START, 
+            MULTI_LINE_COMMENT_START, UNDERSCORE, ABSTRACT, _ASSERT, BOOLEAN, BREAK, BYTE, 
+            CASE, CATCH, CHAR, CLASS, CONST, CONTINUE, _DEFAULT, DO, DOUBLE, ELSE, ENUM, EXTENDS, 
+            FALSE, FINAL, FINALLY, FLOAT, FOR, GOTO, IF, IMPLEMENTS, _IMPORT, INSTANCEOF, INT, 
+            INTERFACE, LONG, NATIVE, NEW, NULL, PACKAGE, PRIVATE, PROTECTED, PUBLIC, RETURN, 
+            RECORD, SHORT, STATIC, STRICTFP, SUPER, SWITCH, SYNCHRONIZED, THIS, THROW, THROWS, 
+            TRANSIENT, TRUE, TRY, VAR, VOID, VOLATILE, WHILE, YIELD, SEALED, NON_SEALED, PERMITS, 
+            CHARACTER_LITERAL, STRING_LITERAL, TEXT_BLOCK_LITERAL, INTEGER_LITERAL, LONG_LITERAL, 
+            FLOATING_POINT_LITERAL, LPAREN, RPAREN, LBRACE, RBRACE, LBRACKET, RBRACKET, SEMICOLON, 
+            COMMA, DOT, DOUBLE_COLON, VAR_ARGS, AT, ASSIGN, GT, LT, BANG, TILDE, HOOK, COLON, 
+            EQ, LE, GE, NE, SC_OR, SC_AND, INCR, DECR, PLUS, MINUS, STAR, SLASH, BIT_AND, BIT_OR, 
+            XOR, REM, LSHIFT, PLUSASSIGN, MINUSASSIGN, STARASSIGN, SLASHASSIGN, ANDASSIGN, 
+            ORASSIGN, XORASSIGN, REMASSIGN, LSHIFTASSIGN, RSIGNEDSHIFT, RUNSIGNEDSHIFT, RSIGNEDSHIFTASSIGN, 
+            RUNSIGNEDSHIFTASSIGN, LAMBDA, IDENTIFIER};
+            return new DfaTable(73, DFA_ASCII_CLASSES_init(), DFA_INTERVAL_STARTS_init(), DFA_INTERVAL_CLASSES_init(), 
+            DFA_TRANSITIONS_init(), DFA_ACCEPT_OFFSETS_init(), DFA_ACCEPT_INDEXES_init(), acceptTypes);
+        }
+
+        static private NfaFunction[] NFA_FUNCTIONS_init() {
+            return new NfaFunction[] {JAVA::NFA_JAVA_0, JAVA::NFA_JAVA_1, JAVA::NFA_JAVA_2, 
+            JAVA::NFA_JAVA_3, JAVA::NFA_JAVA_4, JAVA::NFA_JAVA_5, JAVA::NFA_JAVA_6, JAVA::NFA_JAVA_7, 
+            JAVA::NFA_JAVA_8, JAVA::NFA_JAVA_9, JAVA::NFA_JAVA_10, JAVA::NFA_JAVA_11, JAVA::NFA_JAVA_12, 
+            JAVA::NFA_JAVA_13, JAVA::NFA_JAVA_14, JAVA::NFA_JAVA_15, JAVA::NFA_JAVA_16, JAVA::NFA_JAVA_17, 
+            JAVA::NFA_JAVA_18, JAVA::NFA_JAVA_19, JAVA::NFA_JAVA_20, JAVA::NFA_JAVA_21, JAVA::NFA_JAVA_22, 
+            JAVA::NFA_JAVA_23, JAVA::NFA_JAVA_24, JAVA::NFA_JAVA_25, JAVA::NFA_JAVA_26, JAVA::NFA_JAVA_27, 
+            JAVA::NFA_JAVA_28, JAVA::NFA_JAVA_29, JAVA::NFA_JAVA_30, JAVA::NFA_JAVA_31, JAVA::NFA_JAVA_32, 
+            JAVA::NFA_JAVA_33, JAVA::NFA_JAVA_34, JAVA::NFA_JAVA_35, JAVA::NFA_JAVA_36, JAVA::NFA_JAVA_37, 
+            JAVA::NFA_JAVA_38, JAVA::NFA_JAVA_39, JAVA::NFA_JAVA_40, JAVA::NFA_JAVA_41, JAVA::NFA_JAVA_42, 
+            JAVA::NFA_JAVA_43, JAVA::NFA_JAVA_44, JAVA::NFA_JAVA_45, JAVA::NFA_JAVA_46, JAVA::NFA_JAVA_47, 
+            JAVA::NFA_JAVA_48, JAVA::NFA_JAVA_49, JAVA::NFA_JAVA_50, JAVA::NFA_JAVA_51, JAVA::NFA_JAVA_52, 
+            JAVA::NFA_JAVA_53, JAVA::NFA_JAVA_54, JAVA::NFA_JAVA_55, JAVA::NFA_JAVA_56, JAVA::NFA_JAVA_57, 
+            JAVA::NFA_JAVA_58, JAVA::NFA_JAVA_59, JAVA::NFA_JAVA_60, JAVA::NFA_JAVA_61, JAVA::NFA_JAVA_62, 
+            JAVA::NFA_JAVA_63, JAVA::NFA_JAVA_64, JAVA::NFA_JAVA_65, JAVA::NFA_JAVA_66, JAVA::NFA_JAVA_67, 
+            JAVA::NFA_JAVA_68, JAVA::NFA_JAVA_69, JAVA::NFA_JAVA_70, JAVA::NFA_JAVA_71, JAVA::NFA_JAVA_72, 
+            JAVA::NFA_JAVA_73, JAVA::NFA_JAVA_74, JAVA::NFA_JAVA_75, JAVA::NFA_JAVA_76, JAVA::NFA_JAVA_77, 
+            JAVA::NFA_JAVA_78, JAVA::NFA_JAVA_79, JAVA::NFA_JAVA_80, JAVA::NFA_JAVA_81, JAVA::NFA_JAVA_82, 
+            JAVA::NFA_JAVA_83, JAVA::NFA_JAVA_84, JAVA::NFA_JAVA_85, JAVA::NFA_JAVA_86, JAVA::NFA_JAVA_87, 
+            JAVA::NFA_JAVA_88, JAVA::NFA_JAVA_89, JAVA::NFA_JAVA_90, JAVA::NFA_JAVA_91, JAVA::NFA_JAVA_92, 
+            JAVA::NFA_JAVA_93, JAVA::NFA_JAVA_94, JAVA::NFA_JAVA_95, JAVA::NFA_JAVA_96, JAVA::NFA_JAVA_97, 
+            JAVA::NFA_JAVA_98, JAVA::NFA_JAVA_99, JAVA::NFA_JAVA_100, JAVA::NFA_JAVA_101, JAVA::NFA_JAVA_102, 
+            JAVA::NFA_JAVA_103, JAVA::NFA_JAVA_104, JAVA::NFA_JAVA_105, JAVA::NFA_JAVA_106, 
+            JAVA::NFA_JAVA_107, JAVA::NFA_JAVA_108, JAVA::NFA_JAVA_109, JAVA::NFA_JAVA_110, 
+            JAVA::NFA_JAVA_111, JAVA::NFA_JAVA_112, JAVA::NFA_JAVA_113, JAVA::NFA_JAVA_114, 
+            JAVA::NFA_JAVA_115, JAVA::NFA_JAVA_116, JAVA::NFA_JAVA_117, JAVA::NFA_JAVA_118, 
+            JAVA::NFA_JAVA_119, JAVA::NFA_JAVA_120, JAVA::NFA_JAVA_121, JAVA::NFA_JAVA_122, 
+            JAVA::NFA_JAVA_123, JAVA::NFA_JAVA_124, JAVA::NFA_JAVA_125, JAVA::NFA_JAVA_126, 
+            JAVA::NFA_JAVA_127, JAVA::NFA_JAVA_128, JAVA::NFA_JAVA_129, JAVA::NFA_JAVA_130, 
+            JAVA::NFA_JAVA_131, JAVA::NFA_JAVA_132, JAVA::NFA_JAVA_133, JAVA::NFA_JAVA_134, 
+            JAVA::NFA_JAVA_135, JAVA::NFA_JAVA_136, JAVA::NFA_JAVA_137, JAVA::NFA_JAVA_138, 
+            JAVA::NFA_JAVA_139, JAVA::NFA_JAVA_140, JAVA::NFA_JAVA_141, JAVA::NFA_JAVA_142, 
+            JAVA::NFA_JAVA_143, JAVA::NFA_JAVA_144, JAVA::NFA_JAVA_145, JAVA::NFA_JAVA_146, 
+            JAVA::NFA_JAVA_147, JAVA::NFA_JAVA_148, JAVA::NFA_JAVA_149, JAVA::NFA_JAVA_150, 
+            JAVA::NFA_JAVA_151, JAVA::NFA_JAVA_152, JAVA::NFA_JAVA_153, JAVA::NFA_JAVA_154, 
+            JAVA::NFA_JAVA_155, JAVA::NFA_JAVA_156, JAVA::NFA_JAVA_157, JAVA::NFA_JAVA_158, 
+            JAVA::NFA_JAVA_159, JAVA::NFA_JAVA_160, JAVA::NFA_JAVA_161, JAVA::NFA_JAVA_162, 
+            JAVA::NFA_JAVA_163, JAVA::NFA_JAVA_164, JAVA::NFA_JAVA_165, JAVA::NFA_JAVA_166, 
+            JAVA::NFA_JAVA_167, JAVA::NFA_JAVA_168, JAVA::NFA_JAVA_169, JAVA::NFA_JAVA_170, 
+            JAVA::NFA_JAVA_171, JAVA::NFA_JAVA_172, JAVA::NFA_JAVA_173, JAVA::NFA_JAVA_174, 
+            JAVA::NFA_JAVA_175, JAVA::NFA_JAVA_176, JAVA::NFA_JAVA_177, JAVA::NFA_JAVA_178, 
+            JAVA::NFA_JAVA_179, JAVA::NFA_JAVA_180, JAVA::NFA_JAVA_181, JAVA::NFA_JAVA_182, 
+            JAVA::NFA_JAVA_183, JAVA::NFA_JAVA_184, JAVA::NFA_JAVA_185, JAVA::NFA_JAVA_186, 
+            JAVA::NFA_JAVA_187, JAVA::NFA_JAVA_188, JAVA::NFA_JAVA_189, JAVA::NFA_JAVA_190, 
+            JAVA::NFA_JAVA_191, JAVA::NFA_JAVA_192, JAVA::NFA_JAVA_193, JAVA::NFA_JAVA_194, 
+            JAVA::NFA_JAVA_195, JAVA::NFA_JAVA_196, JAVA::NFA_JAVA_197, JAVA::NFA_JAVA_198, 
+            JAVA::NFA_JAVA_199, JAVA::NFA_JAVA_200, JAVA::NFA_JAVA_201, JAVA::NFA_JAVA_202, 
+            JAVA::NFA_JAVA_203, JAVA::NFA_JAVA_204, JAVA::NFA_JAVA_205, JAVA::NFA_JAVA_206, 
+            JAVA::NFA_JAVA_207, JAVA::NFA_JAVA_208, JAVA::NFA_JAVA_209, JAVA::NFA_JAVA_210, 
+            JAVA::NFA_JAVA_211, JAVA::NFA_JAVA_212, JAVA::NFA_JAVA_213, JAVA::NFA_JAVA_214, 
+            JAVA::NFA_JAVA_215, JAVA::NFA_JAVA_216, JAVA::NFA_JAVA_217, JAVA::NFA_JAVA_218, 
+            JAVA::NFA_JAVA_219, JAVA::NFA_JAVA_220, JAVA::NFA_JAVA_221, JAVA::NFA_JAVA_222, 
+            JAVA::NFA_JAVA_223, JAVA::NFA_JAVA_224, JAVA::NFA_JAVA_225, JAVA::NFA_JAVA_226, 
+            JAVA::NFA_JAVA_227, JAVA::NFA_JAVA_228, JAVA::NFA_JAVA_229, JAVA::NFA_JAVA_230, 
+            JAVA::NFA_JAVA_231, JAVA::NFA_JAVA_232, JAVA::NFA_JAVA_233, JAVA::NFA_JAVA_234, 
+            JAVA::NFA_JAVA_235, JAVA::NFA_JAVA_236, JAVA::NFA_JAVA_237, JAVA::NFA_JAVA_238, 
+            JAVA::NFA_JAVA_239, JAVA::NFA_JAVA_240, JAVA::NFA_JAVA_241, JAVA::NFA_JAVA_242, 
+            JAVA::NFA_JAVA_243, JAVA::NFA_JAVA_244, JAVA::NFA_JAVA_245, JAVA::NFA_JAVA_246, 
+            JAVA::NFA_JAVA_247, JAVA::NFA_JAVA_248, JAVA::NFA_JAVA_249, JAVA::NFA_JAVA_250, 
+            JAVA::NFA_JAVA_251, JAVA::NFA_JAVA_252, JAVA::NFA_JAVA_253, JAVA::NFA_JAVA_254, 
+            JAVA::NFA_JAVA_255, JAVA::NFA_JAVA_256, JAVA::NFA_JAVA_257, JAVA::NFA_JAVA_258, 
+            JAVA::NFA_JAVA_259, JAVA::NFA_JAVA_260, JAVA::NFA_JAVA_261, JAVA::NFA_JAVA_262, 
+            JAVA::NFA_JAVA_263, JAVA::NFA_JAVA_264, JAVA::NFA_JAVA_265, JAVA::NFA_JAVA_266, 
+            JAVA::NFA_JAVA_267, JAVA::NFA_JAVA_268, JAVA::NFA_JAVA_269, JAVA::NFA_JAVA_270, 
+            JAVA::NFA_JAVA_271, JAVA::NFA_JAVA_272, JAVA::NFA_JAVA_273, JAVA::NFA_JAVA_274, 
+            JAVA::NFA_JAVA_275, JAVA::NFA_JAVA_276, JAVA::NFA_JAVA_277, JAVA::NFA_JAVA_278, 
+            JAVA::NFA_JAVA_279, JAVA::NFA_JAVA_280, JAVA::NFA_JAVA_281, JAVA::NFA_JAVA_282, 
+            JAVA::NFA_JAVA_283, JAVA::NFA_JAVA_284, JAVA::NFA_JAVA_285, JAVA::NFA_JAVA_286, 
+            JAVA::NFA_JAVA_287, JAVA::NFA_JAVA_288, JAVA::NFA_JAVA_289, JAVA::NFA_JAVA_290, 
+            JAVA::NFA_JAVA_291, JAVA::NFA_JAVA_292, JAVA::NFA_JAVA_293, JAVA::NFA_JAVA_294, 
+            JAVA::NFA_JAVA_295, JAVA::NFA_JAVA_296, JAVA::NFA_JAVA_297, JAVA::NFA_JAVA_298, 
+            JAVA::NFA_JAVA_299, JAVA::NFA_JAVA_300, JAVA::NFA_JAVA_301, JAVA::NFA_JAVA_302, 
+            JAVA::NFA_JAVA_303, JAVA::NFA_JAVA_304, JAVA::NFA_JAVA_305, JAVA::NFA_JAVA_306, 
+            JAVA::NFA_JAVA_307, JAVA::NFA_JAVA_308, JAVA::NFA_JAVA_309, JAVA::NFA_JAVA_310, 
+            JAVA::NFA_JAVA_311, JAVA::NFA_JAVA_312, JAVA::NFA_JAVA_313, JAVA::NFA_JAVA_314, 
+            JAVA::NFA_JAVA_315, JAVA::NFA_JAVA_316, JAVA::NFA_JAVA_317, JAVA::NFA_JAVA_318, 
+            JAVA::NFA_JAVA_319, JAVA::NFA_JAVA_320, JAVA::NFA_JAVA_321, JAVA::NFA_JAVA_322, 
+            JAVA::NFA_JAVA_323, JAVA::NFA_JAVA_324, JAVA::NFA_JAVA_325, JAVA::NFA_JAVA_326, 
+            JAVA::NFA_JAVA_327, JAVA::NFA_JAVA_328, JAVA::NFA_JAVA_329, JAVA::NFA_JAVA_330, 
+            JAVA::NFA_JAVA_331, JAVA::NFA_JAVA_332, JAVA::NFA_JAVA_333, JAVA::NFA_JAVA_334, 
+            JAVA::NFA_JAVA_335, JAVA::NFA_JAVA_336, JAVA::NFA_JAVA_337, JAVA::NFA_JAVA_338, 
+            JAVA::NFA_JAVA_339, JAVA::NFA_JAVA_340, JAVA::NFA_JAVA_341, JAVA::NFA_JAVA_342, 
+            JAVA::NFA_JAVA_343, JAVA::NFA_JAVA_344, JAVA::NFA_JAVA_345, JAVA::NFA_JAVA_346, 
+            JAVA::NFA_JAVA_347, JAVA::NFA_JAVA_348, JAVA::NFA_JAVA_349, JAVA::NFA_JAVA_350, 
+            JAVA::NFA_JAVA_351, JAVA::NFA_JAVA_352, JAVA::NFA_JAVA_353, JAVA::NFA_JAVA_354, 
+            JAVA::NFA_JAVA_355, JAVA::NFA_JAVA_356, JAVA::NFA_JAVA_357, JAVA::NFA_JAVA_358, 
+            JAVA::NFA_JAVA_359, JAVA::NFA_JAVA_360, JAVA::NFA_JAVA_361, JAVA::NFA_JAVA_362, 
+            JAVA::NFA_JAVA_363, JAVA::NFA_JAVA_364, JAVA::NFA_JAVA_365, JAVA::NFA_JAVA_366, 
+            JAVA::NFA_JAVA_367, JAVA::NFA_JAVA_368, JAVA::NFA_JAVA_369, JAVA::NFA_JAVA_370, 
+            JAVA::NFA_JAVA_371, JAVA::NFA_JAVA_372, JAVA::NFA_JAVA_373, JAVA::NFA_JAVA_374, 
+            JAVA::NFA_JAVA_375, JAVA::NFA_JAVA_376, JAVA::NFA_JAVA_377, JAVA::NFA_JAVA_378, 
+            JAVA::NFA_JAVA_379, JAVA::NFA_JAVA_380, JAVA::NFA_JAVA_381, JAVA::NFA_JAVA_382, 
+            JAVA::NFA_JAVA_383, JAVA::NFA_JAVA_384, JAVA::NFA_JAVA_385, JAVA::NFA_JAVA_386, 
+            JAVA::NFA_JAVA_387, JAVA::NFA_JAVA_388, JAVA::NFA_JAVA_389, JAVA::NFA_JAVA_390, 
+            JAVA::NFA_JAVA_391, JAVA::NFA_JAVA_392, JAVA::NFA_JAVA_393, JAVA::NFA_JAVA_394, 
+            JAVA::NFA_JAVA_395, JAVA::NFA_JAVA_396, JAVA::NFA_JAVA_397, JAVA::NFA_JAVA_398, 
+            JAVA::NFA_JAVA_399, JAVA::NFA_JAVA_400, JAVA::NFA_JAVA_401, JAVA::NFA_JAVA_402, 
+            JAVA::NFA_JAVA_403, JAVA::NFA_JAVA_404, JAVA::NFA_JAVA_405, JAVA::NFA_JAVA_406, 
+            JAVA::NFA_JAVA_407, JAVA::NFA_JAVA_408, JAVA::NFA_JAVA_409, JAVA::NFA_JAVA_410, 
+            JAVA::NFA_JAVA_411, JAVA::NFA_JAVA_412, JAVA::NFA_JAVA_413, JAVA::NFA_JAVA_414, 
+            JAVA::NFA_JAVA_415, JAVA::NFA_JAVA_416, JAVA::NFA_JAVA_417, JAVA::NFA_JAVA_418, 
+            JAVA::NFA_JAVA_419, JAVA::NFA_JAVA_420, JAVA::NFA_JAVA_421, JAVA::NFA_JAVA_422, 
+            JAVA::NFA_JAVA_423, JAVA::NFA_JAVA_424, JAVA::NFA_JAVA_425, JAVA::NFA_JAVA_426};
+        }
+
+    }
+
+
+    /**
+    * Holder class for NFA code related to IN_MULTI_LINE_COMMENT lexical state
+    */
+    private static class IN_MULTI_LINE_COMMENT {
+
+        static private TokenType NFA_IN_MULTI_LINE_COMMENT_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '*') {
+                nextStates.set(1);
+            }
+            if (ch >= 0x0) {
+                if (validTypes.contains(ANY_CHAR)) type = ANY_CHAR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_MULTI_LINE_COMMENT_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '/') {
+                if (validTypes.contains(MULTI_LINE_COMMENT)) type = MULTI_LINE_COMMENT;
+            }
+            return type;
+        }
+
+        static private int[] DFA_ASCII_CLASSES_init() {
+            int[] result = new int[128];
+            DFA_ASCII_CLASSES_init0(result);
+            return result;
+        }
+
+        static private void DFA_ASCII_CLASSES_init0(int[] result) {
+            int[] chunk = new int[] {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 
+            0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 
+            0, 0, 2, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 
+            0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 
+            0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 
+            0, 0};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] DFA_INTERVAL_STARTS_init() {
+            int[] result = new int[1];
+            DFA_INTERVAL_STARTS_init0(result);
+            return result;
+        }
+
+        static private void DFA_INTERVAL_STARTS_init0(int[] result) {
+            int[] chunk = new int[] {128};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] DFA_INTERVAL_CLASSES_init() {
+            int[] result = new int[1];
+            DFA_INTERVAL_CLASSES_init0(result);
+            return result;
+        }
+
+        static private void DFA_INTERVAL_CLASSES_init0(int[] result) {
+            int[] chunk = new int[] {0};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] DFA_TRANSITIONS_init() {
+            int[] result = new int[12];
+            DFA_TRANSITIONS_init0(result);
+            return result;
+        }
+
+        static private void DFA_TRANSITIONS_init0(int[] result) {
+            int[] chunk = new int[] {1, 1, 1, 2, 1, 1, 5, - 1, 1, 3, 3, - 1};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] DFA_ACCEPT_OFFSETS_init() {
+            int[] result = new int[5];
+            DFA_ACCEPT_OFFSETS_init0(result);
+            return result;
+        }
+
+        static private void DFA_ACCEPT_OFFSETS_init0(int[] result) {
+            int[] chunk = new int[] {0, 0, 1, 2, 3};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] DFA_ACCEPT_INDEXES_init() {
+            int[] result = new int[3];
+            DFA_ACCEPT_INDEXES_init0(result);
+            return result;
+        }
+
+        static private void DFA_ACCEPT_INDEXES_init0(int[] result) {
+            int[] chunk = new int[] {1, 1, 0};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private DfaTable DFA_TABLE_init() {
+            TokenType[] acceptTypes = new TokenType[] {MULTI_LINE_COMMENT, ANY_CHAR};
+            return new DfaTable(3, DFA_ASCII_CLASSES_init(), DFA_INTERVAL_STARTS_init(), DFA_INTERVAL_CLASSES_init(), 
+            DFA_TRANSITIONS_init(), DFA_ACCEPT_OFFSETS_init(), DFA_ACCEPT_INDEXES_init(), acceptTypes);
+        }
+
+        static private NfaFunction[] NFA_FUNCTIONS_init() {
+            return new NfaFunction[] {IN_MULTI_LINE_COMMENT::NFA_IN_MULTI_LINE_COMMENT_0, IN_MULTI_LINE_COMMENT::NFA_IN_MULTI_LINE_COMMENT_1};
+        }
+
+    }
+
+
+    /**
+    * Holder class for NFA code related to IN_SINGLE_LINE_COMMENT lexical state
+    */
+    private static class IN_SINGLE_LINE_COMMENT {
+
+        static private TokenType NFA_IN_SINGLE_LINE_COMMENT_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '\r') {
+                nextStates.set(1);
+            }
+            if (ch >= 0x0) {
+                if (validTypes.contains(ANY_CHAR)) type = ANY_CHAR;
+            }
+            if (ch == '\n') {
+                if (validTypes.contains(SINGLE_LINE_COMMENT)) type = SINGLE_LINE_COMMENT;
+            } else if (ch == '\r') {
+                if (validTypes.contains(SINGLE_LINE_COMMENT)) type = SINGLE_LINE_COMMENT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_SINGLE_LINE_COMMENT_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '\n') {
+                if (validTypes.contains(SINGLE_LINE_COMMENT)) type = SINGLE_LINE_COMMENT;
+            }
+            return type;
+        }
+
+        static private int[] DFA_ASCII_CLASSES_init() {
+            int[] result = new int[128];
+            DFA_ASCII_CLASSES_init0(result);
+            return result;
+        }
+
+        static private void DFA_ASCII_CLASSES_init0(int[] result) {
+            int[] chunk = new int[] {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 2, 0, 0, 0, 0, 
+            0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 
+            0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 
+            0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 
+            0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 
+            0, 0};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] DFA_INTERVAL_STARTS_init() {
+            int[] result = new int[1];
+            DFA_INTERVAL_STARTS_init0(result);
+            return result;
+        }
+
+        static private void DFA_INTERVAL_STARTS_init0(int[] result) {
+            int[] chunk = new int[] {128};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] DFA_INTERVAL_CLASSES_init() {
+            int[] result = new int[1];
+            DFA_INTERVAL_CLASSES_init0(result);
+            return result;
+        }
+
+        static private void DFA_INTERVAL_CLASSES_init0(int[] result) {
+            int[] chunk = new int[] {0};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] DFA_TRANSITIONS_init() {
+            int[] result = new int[12];
+            DFA_TRANSITIONS_init0(result);
+            return result;
+        }
+
+        static private void DFA_TRANSITIONS_init0(int[] result) {
+            int[] chunk = new int[] {1, 1, 1, 2, 1, 3, 7, - 1, 1, 4, 4, - 1};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] DFA_ACCEPT_OFFSETS_init() {
+            int[] result = new int[6];
+            DFA_ACCEPT_OFFSETS_init0(result);
+            return result;
+        }
+
+        static private void DFA_ACCEPT_OFFSETS_init0(int[] result) {
+            int[] chunk = new int[] {0, 0, 1, 3, 5, 6};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] DFA_ACCEPT_INDEXES_init() {
+            int[] result = new int[6];
+            DFA_ACCEPT_INDEXES_init0(result);
+            return result;
+        }
+
+        static private void DFA_ACCEPT_INDEXES_init0(int[] result) {
+            int[] chunk = new int[] {1, 0, 1, 0, 1, 0};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private DfaTable DFA_TABLE_init() {
+            TokenType[] acceptTypes = new TokenType[] {SINGLE_LINE_COMMENT, ANY_CHAR};
+            return new DfaTable(3, DFA_ASCII_CLASSES_init(), DFA_INTERVAL_STARTS_init(), DFA_INTERVAL_CLASSES_init(), 
+            DFA_TRANSITIONS_init(), DFA_ACCEPT_OFFSETS_init(), DFA_ACCEPT_INDEXES_init(), acceptTypes);
+        }
+
+        static private NfaFunction[] NFA_FUNCTIONS_init() {
+            return new NfaFunction[] {IN_SINGLE_LINE_COMMENT::NFA_IN_SINGLE_LINE_COMMENT_0, 
+            IN_SINGLE_LINE_COMMENT::NFA_IN_SINGLE_LINE_COMMENT_1};
+        }
+
+    }
+
+}
+
+
@@ -0,0 +1,1142 @@
+/* Generated by: JavaCC 21 Parser Generator. JavaTunedVisitor.java */
+package org.parsers.javatuned;
+
+import org.parsers.javatuned.ast.ANY_CHAR;
+import org.parsers.javatuned.ast.AdditiveExpression;
+import org.parsers.javatuned.ast.AllocationExpression;
+import org.parsers.javatuned.ast.AndExpression;
+import org.parsers.javatuned.ast.Annotation;
+import org.parsers.javatuned.ast.AnnotationMethodDeclaration;
+import org.parsers.javatuned.ast.AnnotationTypeBody;
+import org.parsers.javatuned.ast.AnnotationTypeDeclaration;
+import org.parsers.javatuned.ast.AnnotationTypeMemberDeclaration;
+import org.parsers.javatuned.ast.ArrayAccess;
+import org.parsers.javatuned.ast.ArrayDimsAndInits;
+import org.parsers.javatuned.ast.ArrayInitializer;
+import org.parsers.javatuned.ast.AssertStatement;
+import org.parsers.javatuned.ast.AssignmentExpression;
+import org.parsers.javatuned.ast.BasicForStatement;
+import org.parsers.javatuned.ast.BooleanLiteral;
+import org.parsers.javatuned.ast.BreakStatement;
+import org.parsers.javatuned.ast.CastExpression;
+import org.parsers.javatuned.ast.CatchBlock;
+import org.parsers.javatuned.ast.CharacterLiteral;
+import org.parsers.javatuned.ast.ClassDeclaration;
+import org.parsers.javatuned.ast.ClassLiteral;
+import org.parsers.javatuned.ast.ClassOrInterfaceBody;
+import org.parsers.javatuned.ast.ClassOrInterfaceBodyDeclaration;
+import org.parsers.javatuned.ast.ClassicCaseStatement;
+import org.parsers.javatuned.ast.ClassicSwitchLabel;
+import org.parsers.javatuned.ast.ClassicSwitchStatement;
+import org.parsers.javatuned.ast.ClassicTryStatement;
+import org.parsers.javatuned.ast.CodeBlock;
+import org.parsers.javatuned.ast.Comment;
+import org.parsers.javatuned.ast.CompactConstructorDeclaration;
+import org.parsers.javatuned.ast.CompilationUnit;
+import org.parsers.javatuned.ast.ConditionalAndExpression;
+import org.parsers.javatuned.ast.ConditionalOrExpression;
+import org.parsers.javatuned.ast.ConstructorDeclaration;
+import org.parsers.javatuned.ast.ContinueStatement;
+import org.parsers.javatuned.ast.DefaultValue;
+import org.parsers.javatuned.ast.Delimiter;
+import org.parsers.javatuned.ast.DiamondOperator;
+import org.parsers.javatuned.ast.DoStatement;
+import org.parsers.javatuned.ast.DotName;
+import org.parsers.javatuned.ast.DotNew;
+import org.parsers.javatuned.ast.DotSuper;
+import org.parsers.javatuned.ast.DotThis;
+import org.parsers.javatuned.ast.EmptyDeclaration;
+import org.parsers.javatuned.ast.EmptyStatement;
+import org.parsers.javatuned.ast.EnhancedForStatement;
+import org.parsers.javatuned.ast.EnumBody;
+import org.parsers.javatuned.ast.EnumConstant;
+import org.parsers.javatuned.ast.EnumDeclaration;
+import org.parsers.javatuned.ast.EqualityExpression;
+import org.parsers.javatuned.ast.ExceptionType;
+import org.parsers.javatuned.ast.ExclusiveOrExpression;
+import org.parsers.javatuned.ast.ExplicitConstructorInvocation;
+import org.parsers.javatuned.ast.Expression;
+import org.parsers.javatuned.ast.ExpressionStatement;
+import org.parsers.javatuned.ast.ExtendsList;
+import org.parsers.javatuned.ast.FieldDeclaration;
+import org.parsers.javatuned.ast.FinallyBlock;
+import org.parsers.javatuned.ast.FloatingPointLiteral;
+import org.parsers.javatuned.ast.ForStatement;
+import org.parsers.javatuned.ast.FormalParameter;
+import org.parsers.javatuned.ast.FormalParameters;
+import org.parsers.javatuned.ast.Identifier;
+import org.parsers.javatuned.ast.IfStatement;
+import org.parsers.javatuned.ast.ImplementsList;
+import org.parsers.javatuned.ast.ImportDeclaration;
+import org.parsers.javatuned.ast.InclusiveOrExpression;
+import org.parsers.javatuned.ast.Initializer;
+import org.parsers.javatuned.ast.InstanceOfExpression;
+import org.parsers.javatuned.ast.IntegerLiteral;
+import org.parsers.javatuned.ast.InterfaceDeclaration;
+import org.parsers.javatuned.ast.InvocationArguments;
+import org.parsers.javatuned.ast.KeyWord;
+import org.parsers.javatuned.ast.Label;
+import org.parsers.javatuned.ast.LabeledStatement;
+import org.parsers.javatuned.ast.LambdaExpression;
+import org.parsers.javatuned.ast.LambdaLHS;
+import org.parsers.javatuned.ast.LambdaParameter;
+import org.parsers.javatuned.ast.LambdaParameters;
+import org.parsers.javatuned.ast.Literal;
+import org.parsers.javatuned.ast.LiteralExpression;
+import org.parsers.javatuned.ast.LocalVariableDeclaration;
+import org.parsers.javatuned.ast.LongLiteral;
+import org.parsers.javatuned.ast.MULTI_LINE_COMMENT_START;
+import org.parsers.javatuned.ast.MarkerAnnotation;
+import org.parsers.javatuned.ast.MemberValue;
+import org.parsers.javatuned.ast.MemberValueArrayInitializer;
+import org.parsers.javatuned.ast.MemberValuePair;
+import org.parsers.javatuned.ast.MemberValuePairs;
+import org.parsers.javatuned.ast.MethodCall;
+import org.parsers.javatuned.ast.MethodDeclaration;
+import org.parsers.javatuned.ast.MethodReference;
+import org.parsers.javatuned.ast.Modifiers;
+import org.parsers.javatuned.ast.MultiLineComment;
+import org.parsers.javatuned.ast.MultiplicativeExpression;
+import org.parsers.javatuned.ast.Name;
+import org.parsers.javatuned.ast.NewCaseStatement;
+import org.parsers.javatuned.ast.NewSwitchLabel;
+import org.parsers.javatuned.ast.NewSwitchStatement;
+import org.parsers.javatuned.ast.NoVarDeclaration;
+import org.parsers.javatuned.ast.NormalAnnotation;
+import org.parsers.javatuned.ast.NullLiteral;
+import org.parsers.javatuned.ast.NumericalLiteral;
+import org.parsers.javatuned.ast.ObjectCastExpression;
+import org.parsers.javatuned.ast.ObjectType;
+import org.parsers.javatuned.ast.Operator;
+import org.parsers.javatuned.ast.PackageDeclaration;
+import org.parsers.javatuned.ast.Parentheses;
+import org.parsers.javatuned.ast.PermitsList;
+import org.parsers.javatuned.ast.PostfixExpression;
+import org.parsers.javatuned.ast.PreDecrementExpression;
+import org.parsers.javatuned.ast.PreIncrementExpression;
+import org.parsers.javatuned.ast.PrimaryExpression;
+import org.parsers.javatuned.ast.Primitive;
+import org.parsers.javatuned.ast.PrimitiveArrayType;
+import org.parsers.javatuned.ast.PrimitiveType;
+import org.parsers.javatuned.ast.RecordBody;
+import org.parsers.javatuned.ast.RecordComponent;
+import org.parsers.javatuned.ast.RecordDeclaration;
+import org.parsers.javatuned.ast.RecordHeader;
+import org.parsers.javatuned.ast.ReferenceType;
+import org.parsers.javatuned.ast.RelationalExpression;
+import org.parsers.javatuned.ast.ReturnStatement;
+import org.parsers.javatuned.ast.ReturnType;
+import org.parsers.javatuned.ast.SINGLE_LINE_COMMENT_START;
+import org.parsers.javatuned.ast.ShiftExpression;
+import org.parsers.javatuned.ast.SingleLineComment;
+import org.parsers.javatuned.ast.SingleMemberAnnotation;
+import org.parsers.javatuned.ast.Statement;
+import org.parsers.javatuned.ast.StatementExpression;
+import org.parsers.javatuned.ast.StringLiteral;
+import org.parsers.javatuned.ast.SwitchExpression;
+import org.parsers.javatuned.ast.SwitchStatement;
+import org.parsers.javatuned.ast.SynchronizedStatement;
+import org.parsers.javatuned.ast.TernaryExpression;
+import org.parsers.javatuned.ast.ThisLiteral;
+import org.parsers.javatuned.ast.ThrowStatement;
+import org.parsers.javatuned.ast.ThrowsList;
+import org.parsers.javatuned.ast.TryStatement;
+import org.parsers.javatuned.ast.TryWithResources;
+import org.parsers.javatuned.ast.Type;
+import org.parsers.javatuned.ast.TypeArgument;
+import org.parsers.javatuned.ast.TypeArguments;
+import org.parsers.javatuned.ast.TypeBound;
+import org.parsers.javatuned.ast.TypeDeclaration;
+import org.parsers.javatuned.ast.TypeParameter;
+import org.parsers.javatuned.ast.TypeParameters;
+import org.parsers.javatuned.ast.UnaryExpression;
+import org.parsers.javatuned.ast.UnaryExpressionNotPlusMinus;
+import org.parsers.javatuned.ast.VarDeclaration;
+import org.parsers.javatuned.ast.VariableDeclarator;
+import org.parsers.javatuned.ast.VariableDeclaratorId;
+import org.parsers.javatuned.ast.VariableInitializer;
+import org.parsers.javatuned.ast.WhileStatement;
+import org.parsers.javatuned.ast.Whitespace;
+import org.parsers.javatuned.ast.WildcardBounds;
+import org.parsers.javatuned.ast.YieldStatement;
+
+
+/**
+* A visitor that is dispatched without reflection. Each Node gets
+* passed to the visit method for its own class via Node#accept(JavaTunedVisitor).
+* If that is not overridden, it passes the node on to the visit methods
+* for the Node interfaces the class implements, until it gets to one that
+* is overridden, and failing that, to the one for its superclass, which
+* goes on in the same way. That is the order that Node.Visitor looks in,
+* so the same visit methods get called. If none of them is overridden, it
+* just goes into the children.
+* Unlike with Node.Visitor, the visit methods have to be public, but
+* they are otherwise written the same way.
+*/
+public abstract class JavaTunedVisitor {
+    protected boolean visitUnparsedTokens;
+    // The node that a visit method for a class is passing on to the
+    // one for an interface, and the node that the latter passed back,
+    // since it was not overridden.
+    private Node passingOn, passedBack;
+
+    public final void visit(Node node) {
+        node.accept(this);
+    }
+
+    /**
+    * Just recurses over (i.e. visits) node's children
+    * @param node the node we are traversing
+    */
+    public void recurse(Node node) {
+        for (Node child : node.children(visitUnparsedTokens)) {
+            visit(child);
+        }
+    }
+
+    public void visit(ANY_CHAR node) {
+        visit((Token) node);
+    }
+
+    public void visit(AdditiveExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(AllocationExpression node) {
+        passingOn = node;
+        visit((PrimaryExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(AndExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(Annotation node) {
+        if (node == passingOn) {
+            passingOn = null;
+            passedBack = node;
+        } else {
+            recurse(node);
+        }
+    }
+
+    public void visit(AnnotationMethodDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(AnnotationTypeBody node) {
+        recurse(node);
+    }
+
+    public void visit(AnnotationTypeDeclaration node) {
+        passingOn = node;
+        visit((TypeDeclaration) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(AnnotationTypeMemberDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(ArrayAccess node) {
+        passingOn = node;
+        visit((PrimaryExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ArrayDimsAndInits node) {
+        recurse(node);
+    }
+
+    public void visit(ArrayInitializer node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(AssertStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(AssignmentExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(BasicForStatement node) {
+        visit((ForStatement) node);
+    }
+
+    public void visit(BooleanLiteral node) {
+        visit((KeyWord) node);
+    }
+
+    public void visit(BreakStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(CastExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(CatchBlock node) {
+        recurse(node);
+    }
+
+    public void visit(CharacterLiteral node) {
+        visit((Literal) node);
+    }
+
+    public void visit(ClassDeclaration node) {
+        passingOn = node;
+        visit((TypeDeclaration) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ClassLiteral node) {
+        passingOn = node;
+        visit((PrimaryExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ClassOrInterfaceBody node) {
+        recurse(node);
+    }
+
+    public void visit(ClassOrInterfaceBodyDeclaration node) {
+        if (node == passingOn) {
+            passingOn = null;
+            passedBack = node;
+        } else {
+            recurse(node);
+        }
+    }
+
+    public void visit(ClassicCaseStatement node) {
+        recurse(node);
+    }
+
+    public void visit(ClassicSwitchLabel node) {
+        recurse(node);
+    }
+
+    public void visit(ClassicSwitchStatement node) {
+        visit((SwitchStatement) node);
+    }
+
+    public void visit(ClassicTryStatement node) {
+        visit((TryStatement) node);
+    }
+
+    public void visit(CodeBlock node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(Comment node) {
+        visit((Token) node);
+    }
+
+    public void visit(CompactConstructorDeclaration node) {
+        visit((ConstructorDeclaration) node);
+    }
+
+    public void visit(CompilationUnit node) {
+        recurse(node);
+    }
+
+    public void visit(ConditionalAndExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ConditionalOrExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ConstructorDeclaration node) {
+        passingOn = node;
+        visit((ClassOrInterfaceBodyDeclaration) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ContinueStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(DefaultValue node) {
+        recurse(node);
+    }
+
+    public void visit(Delimiter node) {
+        visit((Token) node);
+    }
+
+    public void visit(DiamondOperator node) {
+        recurse(node);
+    }
+
+    public void visit(DoStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(DotName node) {
+        passingOn = node;
+        visit((PrimaryExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(DotNew node) {
+        visit((AllocationExpression) node);
+    }
+
+    public void visit(DotSuper node) {
+        recurse(node);
+    }
+
+    public void visit(DotThis node) {
+        passingOn = node;
+        visit((PrimaryExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(EmptyDeclaration node) {
+        passingOn = node;
+        visit((TypeDeclaration) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(EmptyStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(EnhancedForStatement node) {
+        visit((ForStatement) node);
+    }
+
+    public void visit(EnumBody node) {
+        recurse(node);
+    }
+
+    public void visit(EnumConstant node) {
+        recurse(node);
+    }
+
+    public void visit(EnumDeclaration node) {
+        passingOn = node;
+        visit((TypeDeclaration) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(EqualityExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ExceptionType node) {
+        recurse(node);
+    }
+
+    public void visit(ExclusiveOrExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ExplicitConstructorInvocation node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(Expression node) {
+        if (node == passingOn) {
+            passingOn = null;
+            passedBack = node;
+        } else {
+            recurse(node);
+        }
+    }
+
+    public void visit(ExpressionStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ExtendsList node) {
+        recurse(node);
+    }
+
+    public void visit(FieldDeclaration node) {
+        passingOn = node;
+        visit((ClassOrInterfaceBodyDeclaration) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(FinallyBlock node) {
+        recurse(node);
+    }
+
+    public void visit(FloatingPointLiteral node) {
+        visit((NumericalLiteral) node);
+    }
+
+    public void visit(ForStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(FormalParameter node) {
+        recurse(node);
+    }
+
+    public void visit(FormalParameters node) {
+        recurse(node);
+    }
+
+    public void visit(Identifier node) {
+        visit((Token) node);
+    }
+
+    public void visit(IfStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ImplementsList node) {
+        recurse(node);
+    }
+
+    public void visit(ImportDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(InclusiveOrExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(Initializer node) {
+        passingOn = node;
+        visit((ClassOrInterfaceBodyDeclaration) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        visit((CodeBlock) node);
+    }
+
+    public void visit(InstanceOfExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(IntegerLiteral node) {
+        visit((NumericalLiteral) node);
+    }
+
+    public void visit(InterfaceDeclaration node) {
+        passingOn = node;
+        visit((TypeDeclaration) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(InvocationArguments node) {
+        recurse(node);
+    }
+
+    public void visit(KeyWord node) {
+        visit((Token) node);
+    }
+
+    public void visit(Label node) {
+        recurse(node);
+    }
+
+    public void visit(LabeledStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(LambdaExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(LambdaLHS node) {
+        recurse(node);
+    }
+
+    public void visit(LambdaParameter node) {
+        recurse(node);
+    }
+
+    public void visit(LambdaParameters node) {
+        recurse(node);
+    }
+
+    public void visit(Literal node) {
+        visit((Token) node);
+    }
+
+    public void visit(LiteralExpression node) {
+        passingOn = node;
+        visit((PrimaryExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(LocalVariableDeclaration node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(LongLiteral node) {
+        visit((NumericalLiteral) node);
+    }
+
+    public void visit(MULTI_LINE_COMMENT_START node) {
+        visit((Token) node);
+    }
+
+    public void visit(MarkerAnnotation node) {
+        passingOn = node;
+        visit((Annotation) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(MemberValue node) {
+        recurse(node);
+    }
+
+    public void visit(MemberValueArrayInitializer node) {
+        recurse(node);
+    }
+
+    public void visit(MemberValuePair node) {
+        recurse(node);
+    }
+
+    public void visit(MemberValuePairs node) {
+        recurse(node);
+    }
+
+    public void visit(MethodCall node) {
+        passingOn = node;
+        visit((PrimaryExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(MethodDeclaration node) {
+        passingOn = node;
+        visit((ClassOrInterfaceBodyDeclaration) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(MethodReference node) {
+        passingOn = node;
+        visit((PrimaryExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(Modifiers node) {
+        recurse(node);
+    }
+
+    public void visit(MultiLineComment node) {
+        visit((Comment) node);
+    }
+
+    public void visit(MultiplicativeExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(Name node) {
+        passingOn = node;
+        visit((PrimaryExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(NewCaseStatement node) {
+        recurse(node);
+    }
+
+    public void visit(NewSwitchLabel node) {
+        recurse(node);
+    }
+
+    public void visit(NewSwitchStatement node) {
+        visit((SwitchStatement) node);
+    }
+
+    public void visit(NoVarDeclaration node) {
+        visit((LocalVariableDeclaration) node);
+    }
+
+    public void visit(NormalAnnotation node) {
+        passingOn = node;
+        visit((Annotation) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(NullLiteral node) {
+        visit((KeyWord) node);
+    }
+
+    public void visit(NumericalLiteral node) {
+        visit((Literal) node);
+    }
+
+    public void visit(ObjectCastExpression node) {
+        visit((CastExpression) node);
+    }
+
+    public void visit(ObjectType node) {
+        passingOn = node;
+        visit((Type) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(Operator node) {
+        visit((Token) node);
+    }
+
+    public void visit(PackageDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(Parentheses node) {
+        passingOn = node;
+        visit((PrimaryExpression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(PermitsList node) {
+        recurse(node);
+    }
+
+    public void visit(PostfixExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(PreDecrementExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(PreIncrementExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(PrimaryExpression node) {
+        if (node == passingOn) {
+            passingOn = null;
+            passedBack = node;
+        } else {
+            recurse(node);
+        }
+    }
+
+    public void visit(Primitive node) {
+        visit((KeyWord) node);
+    }
+
+    public void visit(PrimitiveArrayType node) {
+        passingOn = node;
+        visit((Type) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(PrimitiveType node) {
+        passingOn = node;
+        visit((Type) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(RecordBody node) {
+        recurse(node);
+    }
+
+    public void visit(RecordComponent node) {
+        recurse(node);
+    }
+
+    public void visit(RecordDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(RecordHeader node) {
+        recurse(node);
+    }
+
+    public void visit(ReferenceType node) {
+        passingOn = node;
+        visit((Type) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(RelationalExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ReturnStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ReturnType node) {
+        recurse(node);
+    }
+
+    public void visit(SINGLE_LINE_COMMENT_START node) {
+        visit((Token) node);
+    }
+
+    public void visit(ShiftExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(SingleLineComment node) {
+        visit((Comment) node);
+    }
+
+    public void visit(SingleMemberAnnotation node) {
+        passingOn = node;
+        visit((Annotation) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(Statement node) {
+        if (node == passingOn) {
+            passingOn = null;
+            passedBack = node;
+        } else {
+            recurse(node);
+        }
+    }
+
+    public void visit(StatementExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(StringLiteral node) {
+        visit((Literal) node);
+    }
+
+    public void visit(SwitchExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(SwitchStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(SynchronizedStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(TernaryExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ThisLiteral node) {
+        visit((KeyWord) node);
+    }
+
+    public void visit(ThrowStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(ThrowsList node) {
+        recurse(node);
+    }
+
+    public void visit(Token node) {
+        recurse(node);
+    }
+
+    public void visit(TryStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(TryWithResources node) {
+        visit((TryStatement) node);
+    }
+
+    public void visit(Type node) {
+        if (node == passingOn) {
+            passingOn = null;
+            passedBack = node;
+        } else {
+            recurse(node);
+        }
+    }
+
+    public void visit(TypeArgument node) {
+        recurse(node);
+    }
+
+    public void visit(TypeArguments node) {
+        recurse(node);
+    }
+
+    public void visit(TypeBound node) {
+        recurse(node);
+    }
+
+    public void visit(TypeDeclaration node) {
+        if (node == passingOn) {
+            passingOn = null;
+            passedBack = node;
+        } else {
+            recurse(node);
+        }
+    }
+
+    public void visit(TypeParameter node) {
+        recurse(node);
+    }
+
+    public void visit(TypeParameters node) {
+        recurse(node);
+    }
+
+    public void visit(UnaryExpression node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(UnaryExpressionNotPlusMinus node) {
+        passingOn = node;
+        visit((Expression) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(VarDeclaration node) {
+        visit((LocalVariableDeclaration) node);
+    }
+
+    public void visit(VariableDeclarator node) {
+        recurse(node);
+    }
+
+    public void visit(VariableDeclaratorId node) {
+        recurse(node);
+    }
+
+    public void visit(VariableInitializer node) {
+        recurse(node);
+    }
+
+    public void visit(WhileStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+    public void visit(Whitespace node) {
+        visit((Token) node);
+    }
+
+    public void visit(WildcardBounds node) {
+        recurse(node);
+    }
+
+    public void visit(YieldStatement node) {
+        passingOn = node;
+        visit((Statement) node);
+        if (passedBack != node) return;
+        passedBack = null;
+        recurse(node);
+    }
+
+}
+
+
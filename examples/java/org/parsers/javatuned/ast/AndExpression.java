@@ -0,0 +1,19 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for AndExpression AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.javatuned.ast;
+
+import org.parsers.javatuned.*;
+import static org.parsers.javatuned.JavaTunedConstants.TokenType.*;
+
+
+public class AndExpression extends BaseNode implements Expression {
+
+    public void accept(JavaTunedVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,18 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for Annotation AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.javatuned.ast;
+
+import org.parsers.javatuned.*;
+
+
+public interface Annotation extends Node {
+
+    default String getName() {
+        return firstChildOfType(Name.class).toString();
+    }
+
+}
+
+
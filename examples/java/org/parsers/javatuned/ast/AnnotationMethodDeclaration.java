@@ -0,0 +1,42 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for AnnotationMethodDeclaration AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.javatuned.ast;
+
+import org.parsers.javatuned.*;
+import static org.parsers.javatuned.JavaTunedConstants.TokenType.*;
+
+
+public class AnnotationMethodDeclaration extends BaseNode {
+    private Node namedChild_modifiers;
+
+    public void accept(JavaTunedVisitor visitor) {
+        visitor.visit(this);
+    }
+
+    public Node getNamedChild(String name) {
+        switch(name) {
+            case"modifiers" : 
+                return namedChild_modifiers;
+            default : 
+                return super.getNamedChild(name);
+        }
+    }
+
+    public void setNamedChild(String name, Node node) {
+        switch(name) {
+            case"modifiers" : 
+                if (namedChild_modifiers != null) {
+                    throw new RuntimeException("Duplicate named child not allowed: " + name);
+                }
+                namedChild_modifiers = node;
+                break;
+            default : 
+                super.setNamedChild(name, node);
+        }
+    }
+
+}
+
+
@@ -0,0 +1,24 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for BooleanLiteral Token subclass
+* by the ASTToken.java.ftl template
+*/
+package org.parsers.javatuned.ast;
+
+import org.parsers.javatuned.*;
+import org.parsers.javatuned.JavaTunedConstants.TokenType;
+import static org.parsers.javatuned.JavaTunedConstants.TokenType.*;
+
+
+public class BooleanLiteral extends KeyWord {
+
+    public BooleanLiteral(TokenType type, JavaTunedLexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+    public void accept(JavaTunedVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
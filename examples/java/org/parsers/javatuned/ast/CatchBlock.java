@@ -0,0 +1,72 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for CatchBlock AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.javatuned.ast;
+
+import org.parsers.javatuned.*;
+import static org.parsers.javatuned.JavaTunedConstants.TokenType.*;
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class CatchBlock extends BaseNode {
+
+    public CodeBlock getBlock() {
+        return firstChildOfType(CodeBlock.class);
+    }
+
+    private Node namedChild_varDecl;
+    private List<Node> namedChildList_exceptionTypes;
+
+    public void accept(JavaTunedVisitor visitor) {
+        visitor.visit(this);
+    }
+
+    public Node getNamedChild(String name) {
+        switch(name) {
+            case"varDecl" : 
+                return namedChild_varDecl;
+            default : 
+                return super.getNamedChild(name);
+        }
+    }
+
+    public void setNamedChild(String name, Node node) {
+        switch(name) {
+            case"varDecl" : 
+                if (namedChild_varDecl != null) {
+                    throw new RuntimeException("Duplicate named child not allowed: " + name);
+                }
+                namedChild_varDecl = node;
+                break;
+            default : 
+                super.setNamedChild(name, node);
+        }
+    }
+
+    public List<Node> getNamedChildList(String name) {
+        switch(name) {
+            case"exceptionTypes" : 
+                return namedChildList_exceptionTypes;
+            default : 
+                return super.getNamedChildList(name);
+        }
+    }
+
+    public void addToNamedChildList(String name, Node node) {
+        switch(name) {
+            case"exceptionTypes" : 
+                if (namedChildList_exceptionTypes == null) {
+                    namedChildList_exceptionTypes = new ArrayList<>();
+                }
+                namedChildList_exceptionTypes.add(node);
+                break;
+            default : 
+                super.addToNamedChildList(name, node);
+        }
+    }
+
+}
+
+
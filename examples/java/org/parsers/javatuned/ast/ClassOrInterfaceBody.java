@@ -0,0 +1,44 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for ClassOrInterfaceBody AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.javatuned.ast;
+
+import org.parsers.javatuned.*;
+import static org.parsers.javatuned.JavaTunedConstants.TokenType.*;
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class ClassOrInterfaceBody extends BaseNode {
+    private List<Node> namedChildList_decls;
+
+    public void accept(JavaTunedVisitor visitor) {
+        visitor.visit(this);
+    }
+
+    public List<Node> getNamedChildList(String name) {
+        switch(name) {
+            case"decls" : 
+                return namedChildList_decls;
+            default : 
+                return super.getNamedChildList(name);
+        }
+    }
+
+    public void addToNamedChildList(String name, Node node) {
+        switch(name) {
+            case"decls" : 
+                if (namedChildList_decls == null) {
+                    namedChildList_decls = new ArrayList<>();
+                }
+                namedChildList_decls.add(node);
+                break;
+            default : 
+                super.addToNamedChildList(name, node);
+        }
+    }
+
+}
+
+
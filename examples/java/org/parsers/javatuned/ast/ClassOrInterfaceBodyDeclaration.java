@@ -0,0 +1,13 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for ClassOrInterfaceBodyDeclaration AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.javatuned.ast;
+
+import org.parsers.javatuned.*;
+
+
+public interface ClassOrInterfaceBodyDeclaration extends Node {
+}
+
+
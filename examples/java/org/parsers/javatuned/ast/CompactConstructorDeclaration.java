@@ -0,0 +1,67 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for CompactConstructorDeclaration AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.javatuned.ast;
+
+import org.parsers.javatuned.*;
+import static org.parsers.javatuned.JavaTunedConstants.TokenType.*;
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class CompactConstructorDeclaration extends ConstructorDeclaration {
+    private Node namedChild_modifiers;
+    private List<Node> namedChildList_statements;
+
+    public void accept(JavaTunedVisitor visitor) {
+        visitor.visit(this);
+    }
+
+    public Node getNamedChild(String name) {
+        switch(name) {
+            case"modifiers" : 
+                return namedChild_modifiers;
+            default : 
+                return super.getNamedChild(name);
+        }
+    }
+
+    public void setNamedChild(String name, Node node) {
+        switch(name) {
+            case"modifiers" : 
+                if (namedChild_modifiers != null) {
+                    throw new RuntimeException("Duplicate named child not allowed: " + name);
+                }
+                namedChild_modifiers = node;
+                break;
+            default : 
+                super.setNamedChild(name, node);
+        }
+    }
+
+    public List<Node> getNamedChildList(String name) {
+        switch(name) {
+            case"statements" : 
+                return namedChildList_statements;
+            default : 
+                return super.getNamedChildList(name);
+        }
+    }
+
+    public void addToNamedChildList(String name, Node node) {
+        switch(name) {
+            case"statements" : 
+                if (namedChildList_statements == null) {
+                    namedChildList_statements = new ArrayList<>();
+                }
+                namedChildList_statements.add(node);
+                break;
+            default : 
+                super.addToNamedChildList(name, node);
+        }
+    }
+
+}
+
+
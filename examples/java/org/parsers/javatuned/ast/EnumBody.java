@@ -0,0 +1,44 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for EnumBody AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.javatuned.ast;
+
+import org.parsers.javatuned.*;
+import static org.parsers.javatuned.JavaTunedConstants.TokenType.*;
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class EnumBody extends BaseNode {
+    private List<Node> namedChildList_values;
+
+    public void accept(JavaTunedVisitor visitor) {
+        visitor.visit(this);
+    }
+
+    public List<Node> getNamedChildList(String name) {
+        switch(name) {
+            case"values" : 
+                return namedChildList_values;
+            default : 
+                return super.getNamedChildList(name);
+        }
+    }
+
+    public void addToNamedChildList(String name, Node node) {
+        switch(name) {
+            case"values" : 
+                if (namedChildList_values == null) {
+                    namedChildList_values = new ArrayList<>();
+                }
+                namedChildList_values.add(node);
+                break;
+            default : 
+                super.addToNamedChildList(name, node);
+        }
+    }
+
+}
+
+
@@ -0,0 +1,60 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for IfStatement AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.javatuned.ast;
+
+import org.parsers.javatuned.*;
+import static org.parsers.javatuned.JavaTunedConstants.TokenType.*;
+
+
+public class IfStatement extends BaseNode implements Statement {
+    private Node namedChild_condition;
+    private Node namedChild_elseBlock;
+    private Node namedChild_thenBlock;
+
+    public void accept(JavaTunedVisitor visitor) {
+        visitor.visit(this);
+    }
+
+    public Node getNamedChild(String name) {
+        switch(name) {
+            case"condition" : 
+                return namedChild_condition;
+            case"elseBlock" : 
+                return namedChild_elseBlock;
+            case"thenBlock" : 
+                return namedChild_thenBlock;
+            default : 
+                return super.getNamedChild(name);
+        }
+    }
+
+    public void setNamedChild(String name, Node node) {
+        switch(name) {
+            case"condition" : 
+                if (namedChild_condition != null) {
+                    throw new RuntimeException("Duplicate named child not allowed: " + name);
+                }
+                namedChild_condition = node;
+                break;
+            case"elseBlock" : 
+                if (namedChild_elseBlock != null) {
+                    throw new RuntimeException("Duplicate named child not allowed: " + name);
+                }
+                namedChild_elseBlock = node;
+                break;
+            case"thenBlock" : 
+                if (namedChild_thenBlock != null) {
+                    throw new RuntimeException("Duplicate named child not allowed: " + name);
+                }
+                namedChild_thenBlock = node;
+                break;
+            default : 
+                super.setNamedChild(name, node);
+        }
+    }
+
+}
+
+
@@ -0,0 +1,69 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for MethodDeclaration AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.javatuned.ast;
+
+import org.parsers.javatuned.*;
+import static org.parsers.javatuned.JavaTunedConstants.TokenType.*;
+
+
+public class MethodDeclaration extends BaseNode implements ClassOrInterfaceBodyDeclaration {
+    private Node namedChild_formals;
+    private Node namedChild_methodName;
+    private Node namedChild_modifiers;
+    private Node namedChild_statements;
+
+    public void accept(JavaTunedVisitor visitor) {
+        visitor.visit(this);
+    }
+
+    public Node getNamedChild(String name) {
+        switch(name) {
+            case"formals" : 
+                return namedChild_formals;
+            case"methodName" : 
+                return namedChild_methodName;
+            case"modifiers" : 
+                return namedChild_modifiers;
+            case"statements" : 
+                return namedChild_statements;
+            default : 
+                return super.getNamedChild(name);
+        }
+    }
+
+    public void setNamedChild(String name, Node node) {
+        switch(name) {
+            case"formals" : 
+                if (namedChild_formals != null) {
+                    throw new RuntimeException("Duplicate named child not allowed: " + name);
+                }
+                namedChild_formals = node;
+                break;
+            case"methodName" : 
+                if (namedChild_methodName != null) {
+                    throw new RuntimeException("Duplicate named child not allowed: " + name);
+                }
+                namedChild_methodName = node;
+                break;
+            case"modifiers" : 
+                if (namedChild_modifiers != null) {
+                    throw new RuntimeException("Duplicate named child not allowed: " + name);
+                }
+                namedChild_modifiers = node;
+                break;
+            case"statements" : 
+                if (namedChild_statements != null) {
+                    throw new RuntimeException("Duplicate named child not allowed: " + name);
+                }
+                namedChild_statements = node;
+                break;
+            default : 
+                super.setNamedChild(name, node);
+        }
+    }
+
+}
+
+
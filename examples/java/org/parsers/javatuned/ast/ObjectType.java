@@ -0,0 +1,26 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for ObjectType AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.javatuned.ast;
+
+import org.parsers.javatuned.*;
+import static org.parsers.javatuned.JavaTunedConstants.TokenType.*;
+
+
+public class ObjectType extends BaseNode implements Type {
+
+    public boolean equals(Object obj) {
+        if (obj instanceof ObjectType) {
+            return ((ObjectType) obj).toString().equals(this.toString());
+        }
+        return false;
+    }
+
+    public void accept(JavaTunedVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
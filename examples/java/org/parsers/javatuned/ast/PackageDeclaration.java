@@ -0,0 +1,30 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for PackageDeclaration AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.javatuned.ast;
+
+import org.parsers.javatuned.*;
+import static org.parsers.javatuned.JavaTunedConstants.TokenType.*;
+
+
+public class PackageDeclaration extends BaseNode {
+    private Name packageName;
+
+    //Inserted getter for packageName
+    public Name getPackageName() {
+        return packageName;
+    }
+
+    //Inserted setter for packageName
+    public void setPackageName(Name packageName) {
+        this.packageName = packageName;
+    }
+
+    public void accept(JavaTunedVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,76 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for TryWithResources AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.javatuned.ast;
+
+import org.parsers.javatuned.*;
+import static org.parsers.javatuned.JavaTunedConstants.TokenType.*;
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class TryWithResources extends TryStatement {
+    private Node namedChild_block;
+    private Node namedChild_finallyBlock;
+    private List<Node> namedChildList_catchBlocks;
+
+    public void accept(JavaTunedVisitor visitor) {
+        visitor.visit(this);
+    }
+
+    public Node getNamedChild(String name) {
+        switch(name) {
+            case"block" : 
+                return namedChild_block;
+            case"finallyBlock" : 
+                return namedChild_finallyBlock;
+            default : 
+                return super.getNamedChild(name);
+        }
+    }
+
+    public void setNamedChild(String name, Node node) {
+        switch(name) {
+            case"block" : 
+                if (namedChild_block != null) {
+                    throw new RuntimeException("Duplicate named child not allowed: " + name);
+                }
+                namedChild_block = node;
+                break;
+            case"finallyBlock" : 
+                if (namedChild_finallyBlock != null) {
+                    throw new RuntimeException("Duplicate named child not allowed: " + name);
+                }
+                namedChild_finallyBlock = node;
+                break;
+            default : 
+                super.setNamedChild(name, node);
+        }
+    }
+
+    public List<Node> getNamedChildList(String name) {
+        switch(name) {
+            case"catchBlocks" : 
+                return namedChildList_catchBlocks;
+            default : 
+                return super.getNamedChildList(name);
+        }
+    }
+
+    public void addToNamedChildList(String name, Node node) {
+        switch(name) {
+            case"catchBlocks" : 
+                if (namedChildList_catchBlocks == null) {
+                    namedChildList_catchBlocks = new ArrayList<>();
+                }
+                namedChildList_catchBlocks.add(node);
+                break;
+            default : 
+                super.addToNamedChildList(name, node);
+        }
+    }
+
+}
+
+
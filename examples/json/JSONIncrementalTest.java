@@ -0,0 +1,183 @@
+import java.util.*;
+import org.parsers.jsonincremental.*;
+import static org.parsers.jsonincremental.JSONIncrementalConstants.TokenType.*;
+
+/**
+ * Makes a number of random edits to some JSON, bringing the tree up to date
+ * after each one with reparse(), and checks that the tree comes out the same
+ * as the one a fresh parse of the edited input gives. Most of the edits keep
+ * the input valid, but some of them do not, in which case reparse() has to
+ * fail too. The grammar expands tabs and makes sure that the input
+ * ends with an end-of-line, so the edits are made to the text as the
+ * lexer holds it, and the inserted text has to be converted the same way.
+ * Usage: java JSONIncrementalTest [number of edits] [random seed]
+ */
+public class JSONIncrementalTest {
+
+    static final String[] SCALARS = {"0", "-12.5e+3", "7", "true", "false", "null", "\"\"", "\"x y\"", "\"\\u00e9\\n\""};
+    static final String[] VALUES = {"[]", "{}", "[1, \"a\", null]", "{\"k\" : [true, {\"m\" : 2}]}", "[[[]], {}]"};
+
+    static Random random;
+
+    static public void main(String[] args) throws Exception {
+        int edits = Integer.parseInt(args.length > 0 ? args[0] : "3000");
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 21L;
+        random = new Random(seed);
+        StringBuilder text = new StringBuilder(makeInput());
+        JSONIncrementalParser parser = parse(text);
+        Node root = parser.rootNode();
+        text = heldText(root);
+        int reparsed = 0, reparsedRoot = 0, failed = 0;
+        for (int i = 0; i < edits; i++) {
+            int[] edit = new int[2];
+            String inserted = chooseEdit(root, text, edit);
+            int offset = edit[0], removedLength = edit[1];
+            text.replace(offset, offset + removedLength, inserted);
+            String where = "edit " + i + " (seed " + seed + ") replacing " + removedLength
+                           + " characters at " + offset + " with \"" + inserted + "\"";
+            Node expected = null;
+            try {
+                expected = parse(text).rootNode();
+            } catch (ParseException e) {
+                // The edit made the input invalid.
+            }
+            Node newRoot;
+            try {
+                newRoot = parser.reparse(offset, removedLength, inserted);
+            } catch (ParseException e) {
+                if (expected != null) {
+                    throw new AssertionError("After " + where + ", reparse() failed but a fresh parse did not: " + e.getMessage());
+                }
+                ++failed;
+                // The tree is no good now, so go back to some valid JSON.
+                text = new StringBuilder(makeInput());
+                parser = parse(text);
+                root = parser.rootNode();
+                text = heldText(root);
+                continue;
+            }
+            if (expected == null) {
+                throw new AssertionError("After " + where + ", a fresh parse failed but reparse() did not.");
+            }
+            if (newRoot == null) {
+                // The Root production can always be re-entered.
+                throw new AssertionError("After " + where + ", reparse() gave up.");
+            }
+            if (newRoot == root) ++reparsed; else ++reparsedRoot;
+            compare(expected, newRoot, where);
+            root = newRoot;
+            text = heldText(root);
+        }
+        System.out.println("Applied " + edits + " edits: " + reparsed + " reparsed below the root, "
+                           + reparsedRoot + " reparsed from the root, " + failed + " made the input invalid.");
+    }
+
+    static JSONIncrementalParser parse(CharSequence text) throws ParseException {
+        JSONIncrementalParser parser = new JSONIncrementalParser("input", text.toString());
+        parser.Root();
+        return parser;
+    }
+
+    // The text that the edits are made to from now on
+    static StringBuilder heldText(Node root) {
+        return new StringBuilder(root.getTokenSource().getText(0, root.getEndOffset()));
+    }
+
+    static String makeInput() {
+        StringBuilder buf = new StringBuilder("{\n");
+        for (int i = 0; i < 20; i++) {
+            if (i > 0) buf.append(",\n");
+            buf.append("\t\"key").append(i).append("\" : {\n");
+            buf.append("\t\t\"text\" : \"some text\",\t\"n\" : ").append(i).append(",\n");
+            buf.append("\t\t\"list\" : [1, \"two\", [true, false], {\"null\" : null}]\n");
+            buf.append("\t}");
+        }
+        return buf.append("\n}\n").toString();
+    }
+
+    // Picks a node in the tree and an edit to make there. The offset and length of
+    // what is removed go in edit, and the text to put in its place is returned.
+    static String chooseEdit(Node root, CharSequence text, int[] edit) {
+        List<Node> nodes = new ArrayList<>();
+        collect(root, nodes);
+        Node node = nodes.get(random.nextInt(nodes.size()));
+        edit[0] = node.getBeginOffset();
+        edit[1] = node.getEndOffset() - node.getBeginOffset();
+        int choice = random.nextInt(10);
+        if (choice == 0) {
+            // Anything at all, which usually leaves the input invalid.
+            edit[0] = random.nextInt(text.length() + 1);
+            edit[1] = Math.min(random.nextInt(3), text.length() - edit[0]);
+            return random.nextBoolean() ? "" : String.valueOf("{}[],:\"1 tx\t".charAt(random.nextInt(12)));
+        }
+        if (choice == 1) {
+            // Whitespace before the node
+            edit[1] = 0;
+            return random.nextBoolean() ? " " : "\n\t";
+        }
+        Node parent = node.getParent();
+        if (node instanceof Token) {
+            Token tok = (Token) node;
+            if (tok.getType() == STRING_LITERAL && parent instanceof KeyValuePair && parent.getChild(0) == tok) {
+                return "\"k" + random.nextInt(100) + "\"";
+            }
+            if (tok.getType() == COMMA && parent != null) {
+                // Remove the comma and the element that follows it.
+                Node next = parent.getChild(parent.indexOf(tok) + 1);
+                edit[1] = next.getEndOffset() - edit[0];
+                return "";
+            }
+            if (tok.getType() == CLOSE_BRACKET && parent.getChildCount() > 2) {
+                // Add an element at the end of the array
+                edit[1] = 0;
+                return ", " + SCALARS[random.nextInt(SCALARS.length)];
+            }
+            if (tok.getType() == CLOSE_BRACE && parent.getChildCount() > 2) {
+                edit[1] = 0;
+                return ", \"added\" : " + VALUES[random.nextInt(VALUES.length)];
+            }
+            if (tok instanceof Literal) {
+                return SCALARS[random.nextInt(SCALARS.length)];
+            }
+            edit[1] = 0;
+            return " ";
+        }
+        if (node instanceof KeyValuePair) {
+            // Replace the value
+            Node value = node.getChild(2);
+            edit[0] = value.getBeginOffset();
+            edit[1] = value.getEndOffset() - edit[0];
+        }
+        return random.nextBoolean() ? VALUES[random.nextInt(VALUES.length)] : SCALARS[random.nextInt(SCALARS.length)];
+    }
+
+    static void compare(Node expected, Node actual, String where) {
+        List<Node> expectedNodes = new ArrayList<>(), actualNodes = new ArrayList<>();
+        collect(expected, expectedNodes);
+        collect(actual, actualNodes);
+        for (int i = 0; i < Math.max(expectedNodes.size(), actualNodes.size()); i++) {
+            String expectedLocation = i < expectedNodes.size() ? location(expectedNodes.get(i)) : "nothing";
+            String actualLocation = i < actualNodes.size() ? location(actualNodes.get(i)) : "nothing";
+            if (!expectedLocation.equals(actualLocation)) {
+                throw new AssertionError("After " + where + ", node " + i + " is " + actualLocation
+                                         + " but a fresh parse has " + expectedLocation);
+            }
+        }
+    }
+
+    static void collect(Node node, List<Node> nodes) {
+        nodes.add(node);
+        for (Node child : node.children()) {
+            collect(child, nodes);
+        }
+    }
+
+    static String location(Node node) {
+        String result = node.getClass().getSimpleName() + " [" + node.getBeginOffset() + "," + node.getEndOffset() + ") "
+                        + node.getBeginLine() + ":" + node.getBeginColumn() + "-" + node.getEndLine() + ":" + node.getEndColumn();
+        if (node instanceof Token) {
+            result += " " + ((Token) node).getImage();
+        }
+        return result;
+    }
+}
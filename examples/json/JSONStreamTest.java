@@ -0,0 +1,65 @@
+import java.io.*;
+import java.util.*;
+import org.parsers.jsonstream.*;
+
+/**
+ * Parses some JSON that is indented with tabs and has characters
+ * outside the BMP in it, both from memory and streamed from a Reader,
+ * and checks that the tokens and nodes are at the same places.
+ * The input is a good deal bigger than the streaming horizon,
+ * so most of it has been let go of by the time we check.
+ */
+public class JSONStreamTest {
+
+    static public void main(String[] args) throws Exception {
+        String input = makeInput(Integer.parseInt(args.length > 0 ? args[0] : "400000"));
+        JSONStreamParser parser = new JSONStreamParser("input", input);
+        parser.Root();
+        Node inMemory = parser.rootNode();
+        parser = new JSONStreamParser(new StringReader(input));
+        parser.Root();
+        Node streamed = parser.rootNode();
+        List<Node> expected = new ArrayList<>(), actual = new ArrayList<>();
+        collect(inMemory, expected);
+        collect(streamed, actual);
+        if (expected.size() != actual.size()) {
+            throw new AssertionError("Got " + actual.size() + " nodes streaming, " + expected.size() + " from memory");
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            String where = location(expected.get(i)), streamedWhere = location(actual.get(i));
+            if (!where.equals(streamedWhere)) {
+                throw new AssertionError("Node " + i + " is at " + streamedWhere + " streaming, " + where + " from memory");
+            }
+        }
+        System.out.println("Streamed " + input.length() + " characters, " + actual.size() + " nodes at the same locations.");
+    }
+
+    static String makeInput(int size) {
+        StringBuilder buf = new StringBuilder("{\n");
+        for (int i = 0; buf.length() < size; i++) {
+            if (i > 0) buf.append(",\n");
+            buf.append("\t\"key").append(i).append("\" :\t{\n");
+            buf.append("\t\t\"text\" : \"\uD83D\uDE00\uD83D\uDE01 x y\",\t\"n\" : ").append(i).append(",\n");
+            buf.append("\t\t\"list\" : [\t1,\t\"\uD834\uDD1E\",\ttrue\t]\n");
+            buf.append("\t}");
+        }
+        return buf.append("\n}\n").toString();
+    }
+
+    static void collect(Node node, List<Node> nodes) {
+        nodes.add(node);
+        for (Node child : node.children()) {
+            collect(child, nodes);
+        }
+    }
+
+    static String location(Node node) {
+        String result = node.getClass().getSimpleName() + " " + node.getBeginLine() + ":" + node.getBeginColumn()
+                        + "-" + node.getEndLine() + ":" + node.getEndColumn();
+        if (node instanceof Token) {
+            Token tok = (Token) node;
+            result += " " + tok.getImage();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,413 @@
+/* Generated by: JavaCC 21 Parser Generator. JSONNfaData.java */
+package org.parsers.json;
+
+import static org.parsers.json.JSONConstants.TokenType.*;
+import java.util.EnumSet;
+import java.util.BitSet;
+import java.util.Arrays;
+
+
+/**
+* Holder class for the data used by JSONLexer
+* to do the NFA thang
+*/
+class JSONNfaData implements JSONConstants {
+
+    // The functional interface that represents
+    // the acceptance method of an NFA state
+    static interface NfaFunction {
+
+        TokenType apply(int ch, BitSet bs, EnumSet<TokenType> validTypes);
+
+    }
+
+    // All the tables here are built once, when the class is initialized,
+    // and never modified after that, so they can be shared by any number
+    // of lexers running on different threads.
+    static private final NfaFunction[] nfaFunctions = JSON.NFA_FUNCTIONS_init();
+
+    // This data holder class is never instantiated
+    private JSONNfaData() {
+    }
+
+    /**
+    * @param the lexical state
+    * @return the table of function pointers that implement the lexical state
+    */
+    static final NfaFunction[] getFunctionTableMap(LexicalState lexicalState) {
+        // We only have one lexical state in this case, so we return that!
+        return nfaFunctions;
+    }
+
+    // The larger tables are stored as (count, value) pairs
+    private static int[] decodeRuns(int[] runs) {
+        int size = 0;
+        for (int i = 0; i < runs.length; i += 2) {
+            size += runs[i];
+        }
+        int[] result = new int[size];
+        int index = 0;
+        for (int i = 0; i < runs.length; i += 2) {
+            Arrays.fill(result, index, index + runs[i], runs[i + 1]);
+            index += runs[i];
+        }
+        return result;
+    }
+
+
+    /**
+    * A lookup table of the moves that the NFA_XXX methods
+    * make on ASCII characters, indexed by row*128 + ch,
+    * so that we only need to check character ranges
+    * for non-ASCII input.
+    */
+    static final class AsciiMoveTable {
+        private final int[] table;
+        private final BitSet[] moveStates;
+        private final TokenType[][] moveTypes;
+
+        AsciiMoveTable(int[] encodedTable, int[] stateOffsets, int[] states, int[] typeOffsets, 
+        int[] typeIndexes, TokenType[] types) {
+            this.table = decodeRuns(encodedTable);
+            int numMoves = stateOffsets.length - 1;
+            moveStates = new BitSet[numMoves];
+            moveTypes = new TokenType[numMoves][];
+            for (int move = 0; move < numMoves; move++) {
+                moveStates[move] = new BitSet();
+                for (int i = stateOffsets[move]; i < stateOffsets[move + 1]; i++) {
+                    moveStates[move] .set(states[i]);
+                }
+                moveTypes[move] = new TokenType[typeOffsets[move + 1] - typeOffsets[move] ];
+                for (int i = typeOffsets[move]; i < typeOffsets[move + 1]; i++) {
+                    moveTypes[move][i - typeOffsets[move] ] = types[typeIndexes[i] ];
+                }
+            }
+        }
+
+        final TokenType apply(int index, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            int move = table[index];
+            if (move < 0) return null;
+            nextStates.or(moveStates[move]);
+            for (TokenType type : moveTypes[move]) {
+                if (validTypes.contains(type)) return type;
+            }
+            return null;
+        }
+
+    }
+
+
+    /**
+    * Holder class for NFA code related to JSON lexical state
+    */
+    private static class JSON {
+
+        static private TokenType NFA_JSON_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(0 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JSON_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(128 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JSON_2(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(21);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_3(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                nextStates.set(13);
+            } else if ((ch == 'E') || (ch == 'e')) {
+                nextStates.set(19);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_4(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'E') || (ch == 'e')) {
+                nextStates.set(19);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(4);
+                if (validTypes.contains(NUMBER)) type = NUMBER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_5(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(6);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_6(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(7);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_7(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(TRUE)) type = TRUE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_8(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(10);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_9(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(256 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JSON_10(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(11);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_11(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(12);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_12(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(FALSE)) type = FALSE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_13(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(4);
+                if (validTypes.contains(NUMBER)) type = NUMBER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_14(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(384 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_JSON_15(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(16);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_16(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(17);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_17(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                if (validTypes.contains(NULL)) type = NULL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_18(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '0') {
+                nextStates.set(3);
+                if (validTypes.contains(NUMBER)) type = NUMBER;
+            } else if (ch >= '1' && ch <= '9') {
+                nextStates.set(14);
+                if (validTypes.contains(NUMBER)) type = NUMBER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_19(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '+') || (ch == '-')) {
+                nextStates.set(20);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_20(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '1' && ch <= '9') {
+                nextStates.set(20);
+                if (validTypes.contains(NUMBER)) type = NUMBER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_21(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(512 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            if ((ch == ' ' || ch == '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))) {
+                nextStates.set(21);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_22(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(23);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_23(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(24);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_24(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(25);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JSON_25(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(2);
+            }
+            return type;
+        }
+
+        static private int[] ASCII_MOVE_TABLE_init() {
+            int[] result = new int[130];
+            ASCII_MOVE_TABLE_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_TABLE_init0(int[] result) {
+            int[] chunk = new int[] {9, - 1, 2, 0, 2, - 1, 1, 0, 18, - 1, 1, 0, 1, - 1, 1, 
+            1, 9, - 1, 1, 2, 1, 3, 2, - 1, 1, 4, 9, 5, 1, 6, 32, - 1, 1, 7, 1, - 1, 1, 8, 8, 
+            - 1, 1, 9, 7, - 1, 1, 10, 5, - 1, 1, 11, 6, - 1, 1, 12, 1, - 1, 1, 13, 36, - 1, 
+            1, 1, 12, - 1, 1, 1, 44, - 1, 1, 1, 5, - 1, 1, 1, 3, - 1, 1, 1, 7, - 1, 1, 1, 3, 
+            - 1, 1, 1, 1, - 1, 1, 1, 20, - 1, 2, 0, 2, - 1, 1, 0, 18, - 1, 1, 0, 141, - 1, 
+            1, 14, 1, - 1, 10, 5, 11, - 1, 1, 15, 31, - 1, 1, 15, 58, - 1, 2, 1, 1, 16, 57, 
+            1, 1, 17, 35, 1};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] ASCII_MOVE_STATE_OFFSETS_init() {
+            int[] result = new int[19];
+            ASCII_MOVE_STATE_OFFSETS_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_STATE_OFFSETS_init0(int[] result) {
+            int[] chunk = new int[] {0, 1, 2, 2, 3, 4, 5, 5, 5, 5, 6, 7, 8, 8, 8, 9, 10, 10, 
+            12};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] ASCII_MOVE_STATES_init() {
+            int[] result = new int[12];
+            ASCII_MOVE_STATES_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_STATES_init0(int[] result) {
+            int[] chunk = new int[] {9, 21, 18, 3, 14, 8, 15, 5, 13, 19, 1, 22};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] ASCII_MOVE_TYPE_OFFSETS_init() {
+            int[] result = new int[19];
+            ASCII_MOVE_TYPE_OFFSETS_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_TYPE_OFFSETS_init0(int[] result) {
+            int[] chunk = new int[] {0, 1, 1, 2, 2, 3, 4, 5, 6, 7, 7, 7, 7, 8, 9, 9, 9, 10, 
+            10};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] ASCII_MOVE_TYPE_INDEXES_init() {
+            int[] result = new int[10];
+            ASCII_MOVE_TYPE_INDEXES_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_TYPE_INDEXES_init0(int[] result) {
+            int[] chunk = new int[] {0, 2, 8, 8, 1, 3, 4, 5, 6, 7};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private final AsciiMoveTable ASCII_MOVES = ASCII_MOVES_init();
+
+        static private AsciiMoveTable ASCII_MOVES_init() {
+            TokenType[] types = new TokenType[] {WHITESPACE, COLON, COMMA, OPEN_BRACKET, CLOSE_BRACKET, 
+            OPEN_BRACE, CLOSE_BRACE, STRING_LITERAL, NUMBER};
+            return new AsciiMoveTable(ASCII_MOVE_TABLE_init(), ASCII_MOVE_STATE_OFFSETS_init(), 
+            ASCII_MOVE_STATES_init(), ASCII_MOVE_TYPE_OFFSETS_init(), ASCII_MOVE_TYPE_INDEXES_init(), 
+            types);
+        }
+
+        static private NfaFunction[] NFA_FUNCTIONS_init() {
+            return new NfaFunction[] {JSON::NFA_JSON_0, JSON::NFA_JSON_1, JSON::NFA_JSON_2, 
+            JSON::NFA_JSON_3, JSON::NFA_JSON_4, JSON::NFA_JSON_5, JSON::NFA_JSON_6, JSON::NFA_JSON_7, 
+            JSON::NFA_JSON_8, JSON::NFA_JSON_9, JSON::NFA_JSON_10, JSON::NFA_JSON_11, JSON::NFA_JSON_12, 
+            JSON::NFA_JSON_13, JSON::NFA_JSON_14, JSON::NFA_JSON_15, JSON::NFA_JSON_16, JSON::NFA_JSON_17, 
+            JSON::NFA_JSON_18, JSON::NFA_JSON_19, JSON::NFA_JSON_20, JSON::NFA_JSON_21, JSON::NFA_JSON_22, 
+            JSON::NFA_JSON_23, JSON::NFA_JSON_24, JSON::NFA_JSON_25};
+        }
+
+    }
+
+}
+
+
@@ -0,0 +1,994 @@
+/* Generated by: JavaCC 21 Parser Generator. JSONParser.java */
+package org.parsers.json;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.concurrent.CancellationException;
+import org.parsers.json.ast.Array;
+import org.parsers.json.ast.Value;
+import org.parsers.json.ast.KeyValuePair;
+import org.parsers.json.ast.JSONObject;
+import org.parsers.json.ast.Root;
+import static org.parsers.json.JSONConstants.TokenType.*;
+
+
+public class JSONParser implements JSONConstants {
+    static final int UNLIMITED = Integer.MAX_VALUE;
+    // The last token successfully "consumed"
+    Token lastConsumedToken;
+    private TokenType nextTokenType;
+    private Token currentLookaheadToken;
+    private int remainingLookahead;
+    private boolean hitFailure, passedPredicate;
+    private String currentlyParsedProduction, currentLookaheadProduction;
+    private int lookaheadRoutineNesting, passedPredicateThreshold = -1;
+    private EnumSet<TokenType> outerFollowSet;
+    private boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public JSONLexer token_source;
+
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public JSONParser(String inputSource, CharSequence content) {
+        this(new JSONLexer(inputSource, content));
+    }
+
+    public JSONParser(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public JSONParser(String inputSource, Path path) throws IOException {
+        this(inputSource, JSONLexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    public JSONParser(String inputSource, Path path, Charset charset) throws IOException {
+        this(inputSource, JSONLexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public JSONParser(Path path) throws IOException {
+        this(path.toString(), path);
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public JSONParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public JSONParser(Reader reader) {
+        this(new JSONLexer("input", reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public JSONParser(JSONLexer lexer) {
+        token_source = lexer;
+        lastConsumedToken = lexer.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(lexer);
+    }
+
+    /**
+    * Makes this parser ready to parse new input, as if it had just been
+    * constructed with it, but reusing the stacks that it (and its lexer)
+    * already has. See JSONLexer#reset(CharSequence).
+    * The tree built from the previous input must not be used after this.
+    * Note that any fields that code injected into this class adds are
+    * left alone.
+    * @param input the new input
+    */
+    public void reset(CharSequence input) {
+        reset("input", input);
+    }
+
+    /**
+    * @see #reset(CharSequence)
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param input the new input
+    */
+    public void reset(String inputSource, CharSequence input) {
+        token_source.reset(inputSource, input);
+        lastConsumedToken = token_source.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(token_source);
+        nextTokenType = null;
+        currentLookaheadToken = null;
+        remainingLookahead = 0;
+        hitFailure = passedPredicate = false;
+        currentlyParsedProduction = currentLookaheadProduction = null;
+        lookaheadRoutineNesting = 0;
+        passedPredicateThreshold = -1;
+        outerFollowSet = null;
+        cancelled = false;
+        parsingStack.truncate(0);
+        lookaheadStack.truncate(0);
+        parseStateStack.clear();
+        clearUndoLog();
+        while (currentNodeScope.parentScope != null) {
+            currentNodeScope = currentNodeScope.parentScope;
+        }
+        currentNodeScope.clear();
+    }
+
+    // If the next token is cached, it returns that
+    // Otherwise, it goes to the token_source, i.e. the Lexer.
+    final private Token nextToken(final Token tok) {
+        Token result = token_source.getNextToken(tok);
+        while (result.isUnparsed()) {
+            result = token_source.getNextToken(result);
+        }
+        nextTokenType = null;
+        return result;
+    }
+
+    /**
+    * @return the next Token off the stream. This is the same as #getToken(1)
+    */
+    final public Token getNextToken() {
+        return getToken(1);
+    }
+
+    /**
+    * @param index how many tokens to look ahead
+    * @return the specific regular (i.e. parsed) Token index ahead/behind in the stream.
+    * If we are in a lookahead, it looks ahead from the currentLookaheadToken
+    * Otherwise, it is the lastConsumedToken. If you pass in a negative
+    * number it goes backward.
+    */
+    final public Token getToken(final int index) {
+        Token t = currentLookaheadToken == null ? lastConsumedToken : currentLookaheadToken;
+        for (int i = 0; i < index; i++) {
+            t = nextToken(t);
+        }
+        for (int i = 0; i > index; i--) {
+            t = t.getPrevious();
+            if (t == null) break;
+        }
+        return t;
+    }
+
+    private final TokenType nextTokenType() {
+        if (nextTokenType == null) {
+            nextTokenType = nextToken(lastConsumedToken).getType();
+        }
+        return nextTokenType;
+    }
+
+    boolean activateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result |= token_source.activeTokenTypes.add(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    boolean deactivateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result |= token_source.activeTokenTypes.remove(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    // /root/project/examples/json/JSON.javacc:66:1
+    final public void Array() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Array";
+        Array Array1 = null;
+        if (buildTree) {
+            Array1 = new Array();
+            openNodeScope(Array1);
+        }
+        ParseException parseException2 = null;
+        int callStackSize3 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:67:5
+            consumeToken(OPEN_BRACKET);
+            // Code for ZeroOrOne specified at /root/project/examples/json/JSON.javacc:68:5
+            if (first_set$JSON_javacc$69$7.contains(nextTokenType())) {
+                // Code for NonTerminal specified at /root/project/examples/json/JSON.javacc:69:7
+                pushOntoCallStack("Array", "/root/project/examples/json/JSON.javacc", 69, 7);
+                try {
+                    Value();
+                } finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified at /root/project/examples/json/JSON.javacc:69:14
+                while (true) {
+                    if (!(nextTokenType() == COMMA)) break;
+                    // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:69:15
+                    consumeToken(COMMA);
+                    // Code for NonTerminal specified at /root/project/examples/json/JSON.javacc:69:23
+                    pushOntoCallStack("Array", "/root/project/examples/json/JSON.javacc", 69, 
+                    23);
+                    try {
+                        Value();
+                    } finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:71:5
+            consumeToken(CLOSE_BRACKET);
+        } catch (ParseException e) {
+            parseException2 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize3);
+            if (Array1 != null) {
+                if (parseException2 == null) {
+                    closeNodeScope(Array1, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> Value_FIRST_SET = EnumSet.of(OPEN_BRACKET, OPEN_BRACE, 
+    TRUE, FALSE, NULL, STRING_LITERAL, NUMBER);
+
+    // /root/project/examples/json/JSON.javacc:74:1
+    final public void Value() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Value";
+        // Code for ExpansionChoice specified at /root/project/examples/json/JSON.javacc:75:5
+        Value Value2 = null;
+        if (buildTree) {
+            Value2 = new Value();
+            openNodeScope(Value2);
+        }
+        ParseException parseException42 = null;
+        int callStackSize43 = parsingStack.size();
+        try {
+            switch(nextTokenType()) {
+                case TRUE : 
+                    // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:75:5
+                    consumeToken(TRUE);
+                    break;
+                case FALSE : 
+                    // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:77:5
+                    consumeToken(FALSE);
+                    break;
+                case NULL : 
+                    // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:79:5
+                    consumeToken(NULL);
+                    break;
+                case STRING_LITERAL : 
+                    // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:81:5
+                    consumeToken(STRING_LITERAL);
+                    break;
+                case NUMBER : 
+                    // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:83:5
+                    consumeToken(NUMBER);
+                    break;
+                case OPEN_BRACKET : 
+                    // Code for NonTerminal specified at /root/project/examples/json/JSON.javacc:85:5
+                    pushOntoCallStack("Value", "/root/project/examples/json/JSON.javacc", 85, 
+                    5);
+                    try {
+                        Array();
+                    } finally {
+                        popCallStack();
+                    }
+                    break;
+                case OPEN_BRACE : 
+                    // Code for NonTerminal specified at /root/project/examples/json/JSON.javacc:87:5
+                    pushOntoCallStack("Value", "/root/project/examples/json/JSON.javacc", 87, 
+                    5);
+                    try {
+                        JSONObject();
+                    } finally {
+                        popCallStack();
+                    }
+                    break;
+                default : 
+                    {
+                        pushOntoCallStack("Value", "/root/project/examples/json/JSON.javacc", 
+                        75, 5);
+                        throw new ParseException(this, Value_FIRST_SET, parsingStack.toList());
+                    }
+            }
+        } catch (ParseException e) {
+            parseException42 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize43);
+            if (Value2 != null) {
+                if (parseException42 == null) {
+                    closeNodeScope(Value2, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/json/JSON.javacc:90:1
+    final public void KeyValuePair() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "KeyValuePair";
+        KeyValuePair KeyValuePair3 = null;
+        if (buildTree) {
+            KeyValuePair3 = new KeyValuePair();
+            openNodeScope(KeyValuePair3);
+        }
+        ParseException parseException102 = null;
+        int callStackSize103 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:90:16
+            consumeToken(STRING_LITERAL);
+            // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:90:33
+            consumeToken(COLON);
+            // Code for NonTerminal specified at /root/project/examples/json/JSON.javacc:90:41
+            pushOntoCallStack("KeyValuePair", "/root/project/examples/json/JSON.javacc", 90, 
+            41);
+            try {
+                Value();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException102 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize103);
+            if (KeyValuePair3 != null) {
+                if (parseException102 == null) {
+                    closeNodeScope(KeyValuePair3, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/json/JSON.javacc:92:1
+    final public void JSONObject() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "JSONObject";
+        JSONObject JSONObject4 = null;
+        if (buildTree) {
+            JSONObject4 = new JSONObject();
+            openNodeScope(JSONObject4);
+        }
+        ParseException parseException118 = null;
+        int callStackSize119 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:93:5
+            consumeToken(OPEN_BRACE);
+            // Code for ZeroOrOne specified at /root/project/examples/json/JSON.javacc:94:5
+            if (nextTokenType() == STRING_LITERAL) {
+                // Code for NonTerminal specified at /root/project/examples/json/JSON.javacc:95:9
+                pushOntoCallStack("JSONObject", "/root/project/examples/json/JSON.javacc", 
+                95, 9);
+                try {
+                    KeyValuePair();
+                } finally {
+                    popCallStack();
+                }
+                // Code for ZeroOrMore specified at /root/project/examples/json/JSON.javacc:95:22
+                while (true) {
+                    if (!(nextTokenType() == COMMA)) break;
+                    // Code for RegexpStringLiteral specified at /root/project/examples/json/JSON.javacc:95:23
+                    consumeToken(COMMA);
+                    // Code for NonTerminal specified at /root/project/examples/json/JSON.javacc:95:27
+                    pushOntoCallStack("JSONObject", "/root/project/examples/json/JSON.javacc", 
+                    95, 27);
+                    try {
+                        KeyValuePair();
+                    } finally {
+                        popCallStack();
+                    }
+                }
+            }
+            // Code for RegexpRef specified at /root/project/examples/json/JSON.javacc:97:5
+            consumeToken(CLOSE_BRACE);
+        } catch (ParseException e) {
+            parseException118 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize119);
+            if (JSONObject4 != null) {
+                if (parseException118 == null) {
+                    closeNodeScope(JSONObject4, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/json/JSON.javacc:100:1
+    final public void Root() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Root";
+        Root Root5 = null;
+        if (buildTree) {
+            Root5 = new Root();
+            openNodeScope(Root5);
+        }
+        ParseException parseException158 = null;
+        int callStackSize159 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/json/JSON.javacc:100:8
+            pushOntoCallStack("Root", "/root/project/examples/json/JSON.javacc", 100, 8);
+            try {
+                Value();
+            } finally {
+                popCallStack();
+            }
+            // Code for EndOfFile specified at /root/project/examples/json/JSON.javacc:100:15
+            consumeToken(EOF);
+        } catch (ParseException e) {
+            parseException158 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize159);
+            if (Root5 != null) {
+                if (parseException158 == null) {
+                    closeNodeScope(Root5, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> first_set$JSON_javacc$69$7 = Value_FIRST_SET;
+    CallStack parsingStack = new CallStack();
+    private CallStack lookaheadStack = new CallStack();
+
+    /**
+    * Inner class that represents entering a grammar production
+    */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile = sourceFile;
+            this.productionName = productionName;
+            this.line = line;
+            this.column = column;
+        }
+
+        final JSONLexer getTokenSource() {
+            return JSONParser.this.token_source;
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("JSONParser", productionName, sourceFile, line);
+        }
+
+        void dump(PrintStream ps) {
+            ps.println(productionName + ":" + line + ":" + column);
+        }
+
+    }
+
+
+    /**
+    * A stack of calls to grammar productions, kept in parallel arrays
+    * so that entering a production does not allocate anything.
+    * The NonTerminalCall objects are only created when they are needed,
+    * i.e. for a ParseException. The production names and source files
+    * are always string literals, so we just hold onto the references.
+    */
+    class CallStack {
+        private String[] productionNames = new String[16], sourceFiles = new String[16];
+        private int[] lines = new int[16], columns = new int[16];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void push(String productionName, String sourceFile, int line, int column) {
+            if (size == lines.length) {
+                int newCapacity = size * 2;
+                productionNames = Arrays.copyOf(productionNames, newCapacity);
+                sourceFiles = Arrays.copyOf(sourceFiles, newCapacity);
+                lines = Arrays.copyOf(lines, newCapacity);
+                columns = Arrays.copyOf(columns, newCapacity);
+            }
+            productionNames[size] = productionName;
+            sourceFiles[size] = sourceFile;
+            lines[size] = line;
+            columns[size] = column;
+            ++size;
+        }
+
+        /**
+        * Removes the top entry, which can still be read
+        * until something else is pushed.
+        * @return the index of the entry removed
+        */
+        int pop() {
+            return --size;
+        }
+
+        String getProductionName(int index) {
+            return productionNames[index];
+        }
+
+        NonTerminalCall get(int index) {
+            return new NonTerminalCall(sourceFiles[index], productionNames[index], lines[index], 
+            columns[index]);
+        }
+
+        java.util.List<NonTerminalCall> toList() {
+            java.util.List<NonTerminalCall> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(get(i));
+            }
+            return result;
+        }
+
+        /**
+        * Pops everything above the given size. The entries
+        * below that are still there, since they are never
+        * overwritten until they are popped.
+        */
+        void truncate(int size) {
+            this.size = size;
+        }
+
+        void dump(PrintStream ps) {
+            for (int i = size - 1; i >= 0; i--) {
+                ps.println(productionNames[i] + ":" + lines[i] + ":" + columns[i]);
+            }
+        }
+
+    }
+
+
+    private final void pushOntoCallStack(String methodName, String fileName, int line, int column) {
+        parsingStack.push(methodName, fileName, line, column);
+    }
+
+    private final void popCallStack() {
+        int top = parsingStack.pop();
+        this.currentlyParsedProduction = parsingStack.getProductionName(top);
+    }
+
+    private final void restoreCallStack(int prevSize) {
+        while (parsingStack.size() > prevSize) {
+            popCallStack();
+        }
+    }
+
+
+    /**
+    * Iterates over the names of the productions on the parsing stack
+    * and then the lookahead stack, i.e. from the bottom to the top,
+    * or the other way round if it is backward.
+    */
+    private class CallStackIterator implements java.util.ListIterator<String> {
+        private final boolean backward;
+        private int index;
+
+        CallStackIterator(boolean backward) {
+            this.backward = backward;
+            if (backward) index = parsingStack.size() + lookaheadStack.size();
+        }
+
+        private String get(int i) {
+            int parsingStackSize = parsingStack.size();
+            return i < parsingStackSize ? parsingStack.getProductionName(i) : lookaheadStack.getProductionName(i - parsingStackSize);
+        }
+
+        public boolean hasNext() {
+            return backward ? index > 0 : index < parsingStack.size() + lookaheadStack.size();
+        }
+
+        public String next() {
+            if (!hasNext()) throw new java.util.NoSuchElementException();
+            return backward ? get(--index) : get(index++);
+        }
+
+        public boolean hasPrevious() {
+            return backward ? index < parsingStack.size() + lookaheadStack.size() : index > 0;
+        }
+
+        public String previous() {
+            if (!hasPrevious()) throw new java.util.NoSuchElementException();
+            return backward ? get(index++) : get(--index);
+        }
+
+        public void add(String productionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void set(String productionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        public int previousIndex() {
+            throw new UnsupportedOperationException();
+        }
+
+        public int nextIndex() {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+
+    void dumpLookaheadStack(PrintStream ps) {
+        lookaheadStack.dump(ps);
+    }
+
+    void dumpCallStack(PrintStream ps) {
+        parsingStack.dump(ps);
+    }
+
+    void dumpLookaheadCallStack(PrintStream ps) {
+        ps.println("Current Parser Production is: " + currentlyParsedProduction);
+        ps.println("Current Lookahead Production is: " + currentLookaheadProduction);
+        ps.println("---Lookahead Stack---");
+        dumpLookaheadStack(ps);
+        ps.println("---Call Stack---");
+        dumpCallStack(ps);
+    }
+
+    public boolean isParserTolerant() {
+        return false;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    private Token consumeToken(TokenType expectedType) {
+        Token nextToken = nextToken(lastConsumedToken);
+        if (nextToken.getType() != expectedType) {
+            nextToken = handleUnexpectedTokenType(expectedType, nextToken);
+        }
+        this.lastConsumedToken = nextToken;
+        this.nextTokenType = null;
+        if (buildTree && tokensAreNodes) {
+            pushNode(lastConsumedToken);
+        }
+        return lastConsumedToken;
+    }
+
+    private Token handleUnexpectedTokenType(TokenType expectedType, Token nextToken) {
+        throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+    }
+
+
+    /**
+    * The state we go back to if an ATTEMPT fails. Stashing this is O(1).
+    * Everything on the parsing stack at this point is still there
+    * when we backtrack, since the code in the ATTEMPT only pops
+    * what it pushes, so we just need the size of the stack.
+    * Likewise, we hold onto the current node scope and the changes
+    * to the node scopes after this point are logged so that
+    * we can undo them.
+    */
+    private class ParseState {
+        Token lastConsumed;
+        int parsingStackSize;
+        NodeScope nodeScope;
+        int undoLogMark;
+
+        ParseState() {
+            this.lastConsumed = JSONParser.this.lastConsumedToken;
+            this.parsingStackSize = JSONParser.this.parsingStack.size();
+            this.nodeScope = currentNodeScope;
+            this.undoLogMark = undoLogLength;
+        }
+
+    }
+
+    private ArrayList<ParseState> parseStateStack = new ArrayList<>();
+    private boolean buildTree = true;
+    private boolean tokensAreNodes = true;
+    private boolean unparsedTokensAreNodes = false;
+
+    public boolean isTreeBuildingEnabled() {
+        return buildTree;
+    }
+
+    public void setUnparsedTokensAreNodes(boolean unparsedTokensAreNodes) {
+        this.unparsedTokensAreNodes = unparsedTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes = tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope = new NodeScope();
+
+    /**
+    * @return the root node of the AST. It only makes sense to call
+    * this after a successful parse.
+    */
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+
+    /**
+    * push a node onto the top of the node stack
+    * @param n the node to push
+    */
+    public void pushNode(Node n) {
+        logNodeScopeChange(currentNodeScope, currentNodeScope.size(), null);
+        currentNodeScope.add(n);
+    }
+
+    /**
+    * @return the node on the top of the stack, and remove it from the
+    * stack.
+    */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /**
+    * @return the node currently on the top of the tree-building stack.
+    */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+    * Puts the node on the top of the stack. However, unlike pushNode()
+    * it replaces the node that is currently on the top of the stack.
+    * This is effectively equivalent to popNode() followed by pushNode(n)
+    * @param n the node to poke
+    */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /**
+    * @return the number of Nodes on the tree-building stack in the current node
+    * scope.
+    */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    private void clearNodeScope() {
+        for (int i = currentNodeScope.size() - 1; i >= 0; i--) {
+            logNodeScopeChange(currentNodeScope, i + 1, currentNodeScope.get(i));
+        }
+        currentNodeScope.clear();
+    }
+
+    // A log of the changes made to the node scopes while there is
+    // a stashed ParseState, so that we can undo them if we
+    // backtrack. Each entry is the scope, its size before the change,
+    // and the node that was removed or replaced, if any.
+    private NodeScope[] undoScopes = new NodeScope[16];
+    private int[] undoSizes = new int[16];
+    private Node[] undoNodes = new Node[16];
+    private int undoLogLength;
+
+    private void logNodeScopeChange(NodeScope scope, int previousSize, Node removedNode) {
+        if (parseStateStack.isEmpty()) return;
+        if (undoLogLength == undoSizes.length) {
+            int newCapacity = undoLogLength * 2;
+            undoScopes = Arrays.copyOf(undoScopes, newCapacity);
+            undoSizes = Arrays.copyOf(undoSizes, newCapacity);
+            undoNodes = Arrays.copyOf(undoNodes, newCapacity);
+        }
+        undoScopes[undoLogLength] = scope;
+        undoSizes[undoLogLength] = previousSize;
+        undoNodes[undoLogLength++] = removedNode;
+    }
+
+    private void clearUndoLog() {
+        Arrays.fill(undoScopes, 0, undoLogLength, null);
+        Arrays.fill(undoNodes, 0, undoLogLength, null);
+        undoLogLength = 0;
+    }
+
+    private void openNodeScope(Node n) {
+        new NodeScope();
+        if (n != null) {
+            Token next = nextToken(lastConsumedToken);
+            n.setTokenSource(lastConsumedToken.getTokenSource());
+            n.setBeginOffset(next.getBeginOffset());
+            n.open();
+        }
+    }
+
+    /* A definite node is constructed from a specified number of
+    * children.  That number of nodes are popped from the stack and
+    * made the children of the definite node.  Then the definite node
+    * is pushed on to the stack.
+    */
+    private void closeNodeScope(Node n, int num) {
+        n.setEndOffset(lastConsumedToken.getEndOffset());
+        currentNodeScope.close();
+        ArrayList<Node> nodes = new ArrayList<Node>();
+        for (int i = 0; i < num; i++) {
+            nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+            // FIXME deal with the UNPARSED_TOKENS_ARE_NODES case
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+    * A conditional node is constructed if the condition is true.  All
+    * the nodes that have been pushed since the node was opened are
+    * made children of the conditional node, which is then pushed
+    * on to the stack.  If the condition is false the node is not
+    * constructed and they are left on the stack.
+    */
+    private void closeNodeScope(Node n, boolean condition) {
+        if (n != null && condition) {
+            n.setEndOffset(lastConsumedToken.getEndOffset());
+            int a = nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node> nodes = new ArrayList<Node>();
+            while (a-- > 0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+                if (unparsedTokensAreNodes && child instanceof Token) {
+                    Token tok = (Token) child;
+                    while (tok.previousCachedToken() != null && tok.previousCachedToken().isUnparsed()) {
+                        tok = tok.previousCachedToken();
+                    }
+                    while (tok.isUnparsed()) {
+                        n.addChild(tok);
+                        tok = tok.nextCachedToken();
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            pushNode(n);
+        } else {
+            currentNodeScope.close();
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree = buildTree;
+    }
+
+    /**
+    * Just a kludge so that existing jjtree-based code that uses
+    * parser.jjtree.foo can work without change.
+    */
+    JSONParser jjtree = this;
+
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node> {
+        NodeScope parentScope;
+
+        NodeScope() {
+            this.parentScope = JSONParser.this.currentNodeScope;
+            JSONParser.this.currentNodeScope = this;
+        }
+
+        boolean isRootScope() {
+            return parentScope == null;
+        }
+
+        Node rootNode() {
+            NodeScope ns = this;
+            while (ns.parentScope != null) {
+                ns = ns.parentScope;
+            }
+            return ns.isEmpty() ? null : ns.get(0);
+        }
+
+        Node peek() {
+            if (isEmpty()) {
+                return parentScope == null ? null : parentScope.peek();
+            }
+            return get(size() - 1);
+        }
+
+        Node pop() {
+            if (isEmpty()) return parentScope.pop();
+            Node result = remove(size() - 1);
+            logNodeScopeChange(this, size() + 1, result);
+            return result;
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            } else {
+                logNodeScopeChange(this, size(), set(size() - 1, n));
+            }
+        }
+
+        void close() {
+            logNodeScopeChange(parentScope, parentScope.size(), null);
+            parentScope.addAll(this);
+            JSONParser.this.currentNodeScope = parentScope;
+        }
+
+        int nestingLevel() {
+            int result = 0;
+            NodeScope parent = this;
+            while (parent.parentScope != null) {
+                result++;
+                parent = parent.parentScope;
+            }
+            return result;
+        }
+
+    }
+
+}
+
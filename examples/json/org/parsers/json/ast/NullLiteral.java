@@ -0,0 +1,24 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for NullLiteral Token subclass
+* by the ASTToken.java.ftl template
+*/
+package org.parsers.json.ast;
+
+import org.parsers.json.*;
+import org.parsers.json.JSONConstants.TokenType;
+import static org.parsers.json.JSONConstants.TokenType.*;
+
+
+public class NullLiteral extends Literal {
+
+    public NullLiteral(TokenType type, JSONLexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+    public void accept(JSONVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,19 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for Value AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.json.ast;
+
+import org.parsers.json.*;
+import static org.parsers.json.JSONConstants.TokenType.*;
+
+
+public class Value extends BaseNode {
+
+    public void accept(JSONVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
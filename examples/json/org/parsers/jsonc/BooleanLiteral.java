@@ -0,0 +1,22 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for BooleanLiteral Token subclass
+* by the ASTToken.java.ftl template
+*/
+package org.parsers.jsonc;
+
+import static org.parsers.jsonc.JSONCConstants.TokenType.*;
+
+
+public class BooleanLiteral extends Literal {
+
+    public BooleanLiteral(TokenType type, JSONCLexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+    public void accept(JSONCVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,22 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for Delimiter Token subclass
+* by the ASTToken.java.ftl template
+*/
+package org.parsers.jsonc;
+
+import static org.parsers.jsonc.JSONCConstants.TokenType.*;
+
+
+public class Delimiter extends Token {
+
+    public Delimiter(TokenType type, JSONCLexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+    public void accept(JSONCVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
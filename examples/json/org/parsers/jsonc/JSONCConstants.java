@@ -0,0 +1,29 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. JSONCConstants.java */
+package org.parsers.jsonc;
+
+
+public interface JSONCConstants {
+
+    /**
+    * The various token types. The first type EOF
+    * and the last type INVALID are auto-generated.
+    * They represent the end of input and invalid input
+    * respectively.
+    */
+    public enum TokenType {
+        EOF, SINGLE_LINE_COMMENT, MULTI_LINE_COMMENT, WHITESPACE, COLON, COMMA, OPEN_BRACKET, 
+        CLOSE_BRACKET, OPEN_BRACE, CLOSE_BRACE, TRUE, FALSE, NULL, STRING_LITERAL, NUMBER, 
+        INVALID
+    }
+
+
+    /**
+    * Lexical States
+    */
+    public enum LexicalState {
+        JSON
+    }
+
+}
+
+
@@ -0,0 +1,18 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for JSONObject AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.jsonc;
+
+import static org.parsers.jsonc.JSONCConstants.TokenType.*;
+
+
+public class JSONObject extends BaseNode {
+
+    public void accept(JSONCVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,23 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for BooleanLiteral Token subclass
+* by the ASTToken.java.ftl template
+*/
+package org.parsers.jsonincremental;
+
+import static org.parsers.jsonincremental.JSONIncrementalConstants.TokenType.*;
+
+
+public class BooleanLiteral extends Literal {
+
+    public BooleanLiteral(TokenType type, JSONIncrementalLexer tokenSource, int beginOffset, 
+    int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+    public void accept(JSONIncrementalVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
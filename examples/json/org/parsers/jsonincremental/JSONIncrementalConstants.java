@@ -0,0 +1,28 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. JSONIncrementalConstants.java */
+package org.parsers.jsonincremental;
+
+
+public interface JSONIncrementalConstants {
+
+    /**
+    * The various token types. The first type EOF
+    * and the last type INVALID are auto-generated.
+    * They represent the end of input and invalid input
+    * respectively.
+    */
+    public enum TokenType {
+        EOF, WHITESPACE, COLON, COMMA, OPEN_BRACKET, CLOSE_BRACKET, OPEN_BRACE, CLOSE_BRACE, 
+        TRUE, FALSE, NULL, STRING_LITERAL, NUMBER, INVALID
+    }
+
+
+    /**
+    * Lexical States
+    */
+    public enum LexicalState {
+        JSON
+    }
+
+}
+
+
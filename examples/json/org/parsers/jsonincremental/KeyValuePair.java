@@ -0,0 +1,18 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for KeyValuePair AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.jsonincremental;
+
+import static org.parsers.jsonincremental.JSONIncrementalConstants.TokenType.*;
+
+
+public class KeyValuePair extends BaseNode {
+
+    public void accept(JSONIncrementalVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,22 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for BooleanLiteral Token subclass
+* by the ASTToken.java.ftl template
+*/
+package org.parsers.jsonstream;
+
+import static org.parsers.jsonstream.JSONStreamConstants.TokenType.*;
+
+
+public class BooleanLiteral extends Literal {
+
+    public BooleanLiteral(TokenType type, JSONStreamLexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+    public void accept(JSONStreamVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,18 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for JSONObject AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.jsonstream;
+
+import static org.parsers.jsonstream.JSONStreamConstants.TokenType.*;
+
+
+public class JSONObject extends BaseNode {
+
+    public void accept(JSONStreamVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
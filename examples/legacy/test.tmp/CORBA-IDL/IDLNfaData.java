@@ -0,0 +1,2000 @@
+/* Generated by: JavaCC 21 Parser Generator. IDLNfaData.java */
+import java.util.EnumSet;
+import java.util.BitSet;
+import java.util.Arrays;
+
+
+/**
+* Holder class for the data used by IDLLexer
+* to do the NFA thang
+*/
+class IDLNfaData implements IDLConstants {
+
+    // The functional interface that represents
+    // the acceptance method of an NFA state
+    static interface NfaFunction {
+
+        TokenType apply(int ch, BitSet bs, EnumSet<TokenType> validTypes);
+
+    }
+
+    // All the tables here are built once, when the class is initialized,
+    // and never modified after that, so they can be shared by any number
+    // of lexers running on different threads.
+    static private final NfaFunction[] nfaFunctions = DEFAULT.NFA_FUNCTIONS_init();
+
+    // This data holder class is never instantiated
+    private IDLNfaData() {
+    }
+
+    /**
+    * @param the lexical state
+    * @return the table of function pointers that implement the lexical state
+    */
+    static final NfaFunction[] getFunctionTableMap(LexicalState lexicalState) {
+        // We only have one lexical state in this case, so we return that!
+        return nfaFunctions;
+    }
+
+    // The larger tables are stored as (count, value) pairs
+    private static int[] decodeRuns(int[] runs) {
+        int size = 0;
+        for (int i = 0; i < runs.length; i += 2) {
+            size += runs[i];
+        }
+        int[] result = new int[size];
+        int index = 0;
+        for (int i = 0; i < runs.length; i += 2) {
+            Arrays.fill(result, index, index + runs[i], runs[i + 1]);
+            index += runs[i];
+        }
+        return result;
+    }
+
+
+    /**
+    * A lookup table of the moves that the NFA_XXX methods
+    * make on ASCII characters, indexed by row*128 + ch,
+    * so that we only need to check character ranges
+    * for non-ASCII input.
+    */
+    static final class AsciiMoveTable {
+        private final int[] table;
+        private final BitSet[] moveStates;
+        private final TokenType[][] moveTypes;
+
+        AsciiMoveTable(int[] encodedTable, int[] stateOffsets, int[] states, int[] typeOffsets, 
+        int[] typeIndexes, TokenType[] types) {
+            this.table = decodeRuns(encodedTable);
+            int numMoves = stateOffsets.length - 1;
+            moveStates = new BitSet[numMoves];
+            moveTypes = new TokenType[numMoves][];
+            for (int move = 0; move < numMoves; move++) {
+                moveStates[move] = new BitSet();
+                for (int i = stateOffsets[move]; i < stateOffsets[move + 1]; i++) {
+                    moveStates[move] .set(states[i]);
+                }
+                moveTypes[move] = new TokenType[typeOffsets[move + 1] - typeOffsets[move] ];
+                for (int i = typeOffsets[move]; i < typeOffsets[move + 1]; i++) {
+                    moveTypes[move][i - typeOffsets[move] ] = types[typeIndexes[i] ];
+                }
+            }
+        }
+
+        final TokenType apply(int index, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            int move = table[index];
+            if (move < 0) return null;
+            nextStates.or(moveStates[move]);
+            for (TokenType type : moveTypes[move]) {
+                if (validTypes.contains(type)) return type;
+            }
+            return null;
+        }
+
+    }
+
+
+    /**
+    * Holder class for NFA code related to DEFAULT lexical state
+    */
+    private static class DEFAULT {
+
+        static private TokenType NFA_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(0 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(3);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_2(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'x') {
+                nextStates.set(9);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_3(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                nextStates.set(4);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_4(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(5);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_5(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(7);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_6(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'X') {
+                nextStates.set(9);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_7(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(TokenType.MODULE)) type = TokenType.MODULE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_8(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(8);
+            } else if (ch == '\'') {
+                if (validTypes.contains(TokenType.CHARACTER)) type = TokenType.CHARACTER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_9(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(19);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_10(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '\'') {
+                if (validTypes.contains(TokenType.CHARACTER)) type = TokenType.CHARACTER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_11(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(12);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_12(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(13);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_13(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(14);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_14(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(15);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_15(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'f') {
+                nextStates.set(16);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_16(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(17);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_17(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(18);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_18(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(TokenType.INTERFACE)) type = TokenType.INTERFACE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_19(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(128 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_20(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == ':') {
+                if (validTypes.contains(TokenType._TOKEN_15)) type = TokenType._TOKEN_15;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_21(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(22);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_22(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(23);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_23(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(24);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_24(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(TokenType.CONST)) type = TokenType.CONST;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_25(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                if (validTypes.contains(TokenType._TOKEN_21)) type = TokenType._TOKEN_21;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_26(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '<') {
+                if (validTypes.contains(TokenType._TOKEN_22)) type = TokenType._TOKEN_22;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_27(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(256 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_28(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'x') {
+                nextStates.set(30);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_29(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'X') {
+                nextStates.set(30);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_30(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(115);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_31(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '\t') || (ch >= 0xb)) {
+                nextStates.set(31);
+            } else if (ch == '\n') {
+                if (validTypes.contains(TokenType._TOKEN_5)) type = TokenType._TOKEN_5;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_32(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'R') {
+                nextStates.set(33);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_33(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'U') {
+                nextStates.set(34);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_34(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                if (validTypes.contains(TokenType.TRUE)) type = TokenType.TRUE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_35(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'A') {
+                nextStates.set(36);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_36(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'L') {
+                nextStates.set(37);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_37(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'S') {
+                nextStates.set(38);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_38(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                if (validTypes.contains(TokenType.FALSE)) type = TokenType.FALSE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_39(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'y') {
+                nextStates.set(40);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_40(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'p') {
+                nextStates.set(41);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_41(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(42);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_42(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                nextStates.set(43);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_43(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(44);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_44(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'f') {
+                if (validTypes.contains(TokenType.TYPEDEF)) type = TokenType.TYPEDEF;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_45(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(47);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_46(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= ')') || (ch >= '+')) {
+                nextStates.set(46);
+            } else if (ch == '*') {
+                nextStates.set(62);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_47(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(48);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_48(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(49);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_49(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(TokenType.FLOAT)) type = TokenType.FLOAT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_50(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(51);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_51(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(52);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_52(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'b') {
+                nextStates.set(53);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_53(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(54);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_54(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(TokenType.DOUBLE)) type = TokenType.DOUBLE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_55(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(56);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_56(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(57);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_57(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'g') {
+                if (validTypes.contains(TokenType.LONG)) type = TokenType.LONG;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_58(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(59);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_59(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(60);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_60(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(61);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_61(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(TokenType.SHORT)) type = TokenType.SHORT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_62(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '.') || (ch >= '0')) {
+                nextStates.set(64);
+            } else if (ch == '/') {
+                if (validTypes.contains(TokenType._TOKEN_6)) type = TokenType._TOKEN_6;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_63(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(65);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_64(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= ')') || (ch >= '+')) {
+                nextStates.set(64);
+            } else if (ch == '*') {
+                nextStates.set(62);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_65(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(67);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_66(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(384 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '\t') || ((ch == 0xb || ch == '\f') || ((ch >= 0xe && ch <= '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))))) {
+                nextStates.set(66);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_67(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(68);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_68(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'g') {
+                nextStates.set(69);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_69(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(70);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_70(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(71);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_71(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(TokenType.UNSIGNED)) type = TokenType.UNSIGNED;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_72(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(73);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_73(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(74);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_74(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                if (validTypes.contains(TokenType.CHAR)) type = TokenType.CHAR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_75(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(76);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_76(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(77);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_77(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(78);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_78(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(79);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_79(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(80);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_80(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                if (validTypes.contains(TokenType.BOOLEAN)) type = TokenType.BOOLEAN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_81(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(82);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_82(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(83);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_83(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(84);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_84(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(TokenType.OCTET)) type = TokenType.OCTET;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_85(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '\t') || (ch == ' ')) {
+                nextStates.set(85);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(191);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_86(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(87);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_87(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'y') {
+                if (validTypes.contains(TokenType.ANY)) type = TokenType.ANY;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_88(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(89);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_89(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(90);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_90(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(91);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_91(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(92);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_92(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(TokenType.STRUCT)) type = TokenType.STRUCT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_93(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(94);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_94(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(96);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_95(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(512 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '\t') || ((ch == 0xb || ch == '\f') || ((ch >= 0xe && ch <= '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))))) {
+                nextStates.set(66);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_96(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(97);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_97(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                if (validTypes.contains(TokenType.UNION)) type = TokenType.UNION;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_98(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'w') {
+                nextStates.set(99);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_99(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(100);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_100(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(101);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_101(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(103);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_102(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(640 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '\t') || ((ch == 0xb || ch == '\f') || ((ch >= 0xe && ch <= '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))))) {
+                nextStates.set(66);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_103(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                if (validTypes.contains(TokenType.SWITCH)) type = TokenType.SWITCH;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_104(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '\t') || (ch == ' ')) {
+                nextStates.set(104);
+            } else if (ch == '"') {
+                nextStates.set(192);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_105(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(106);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_106(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(107);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_107(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(TokenType.CASE)) type = TokenType.CASE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_108(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(109);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_109(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'f') {
+                nextStates.set(110);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_110(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(111);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_111(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(112);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_112(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(114);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_113(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '!') || (ch >= '#')) {
+                nextStates.set(113);
+            } else if (ch == '"') {
+                nextStates.set(159);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_114(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(TokenType.DEFAULT)) type = TokenType.DEFAULT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_115(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(768 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '\t') || ((ch == 0xb || ch == '\f') || ((ch >= 0xe && ch <= '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))))) {
+                nextStates.set(66);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_116(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(117);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_117(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(118);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_118(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'm') {
+                if (validTypes.contains(TokenType.ENUM)) type = TokenType.ENUM;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_119(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(120);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_120(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'q') {
+                nextStates.set(121);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_121(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(122);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_122(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(123);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_123(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(124);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_124(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(125);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_125(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(TokenType.SEQUENCE)) type = TokenType.SEQUENCE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_126(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(127);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_127(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(128);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_128(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(129);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_129(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(130);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_130(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'g') {
+                if (validTypes.contains(TokenType._TOKEN_52)) type = TokenType._TOKEN_52;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_131(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(132);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_132(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(133);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_133(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                nextStates.set(135);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_134(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(134);
+            } else if (ch == '\n') {
+                if (validTypes.contains(TokenType._TOKEN_7)) type = TokenType._TOKEN_7;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_135(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(136);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_136(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(137);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_137(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(138);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_138(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'y') {
+                if (validTypes.contains(TokenType.READONLY)) type = TokenType.READONLY;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_139(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(140);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_140(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(141);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_141(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(142);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_142(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(144);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_143(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(896 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_144(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'b') {
+                nextStates.set(145);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_145(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(146);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_146(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(147);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_147(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(TokenType.ATTRIBUTE)) type = TokenType.ATTRIBUTE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_148(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'x') {
+                nextStates.set(149);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_149(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(150);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_150(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(151);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_151(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'p') {
+                nextStates.set(152);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_152(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(153);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_153(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(154);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_154(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(155);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_155(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                if (validTypes.contains(TokenType.EXCEPTION)) type = TokenType.EXCEPTION;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_156(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(157);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_157(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(158);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_158(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'w') {
+                nextStates.set(160);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_159(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(1024 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_160(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(161);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_161(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'y') {
+                if (validTypes.contains(TokenType.ONEWAY)) type = TokenType.ONEWAY;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_162(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(163);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_163(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(164);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_164(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(TokenType.VOID)) type = TokenType.VOID;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_165(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                if (validTypes.contains(TokenType.IN)) type = TokenType.IN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_166(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(1152 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_167(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(168);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_168(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(TokenType.OUT)) type = TokenType.OUT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_169(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(170);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_170(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(171);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_171(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(172);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_172(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(TokenType.INOUT)) type = TokenType.INOUT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_173(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(174);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_174(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(175);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_175(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(176);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_176(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(177);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_177(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                if (validTypes.contains(TokenType.RAISES)) type = TokenType.RAISES;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_178(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(179);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_179(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(180);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_180(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(181);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_181(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(183);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_182(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(1280 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_183(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'x') {
+                nextStates.set(184);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_184(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(TokenType.CONTEXT)) type = TokenType.CONTEXT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_185(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '/') {
+                nextStates.set(31);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_186(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '*') {
+                nextStates.set(46);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_187(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(1408 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_188(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(1536 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_189(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(1664 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_190(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(190);
+            } else if (ch == '.') {
+                nextStates.set(187);
+                if (validTypes.contains(TokenType.FLOATONE)) type = TokenType.FLOATONE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_191(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(1792 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_192(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '!') || (ch >= '#')) {
+                nextStates.set(113);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_193(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                nextStates.set(204);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(193);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_194(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(1920 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_195(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '+') || (ch == '-')) {
+                nextStates.set(205);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(196);
+                if (validTypes.contains(TokenType.FLOATONE)) type = TokenType.FLOATONE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_196(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(2048 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_197(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'x') {
+                nextStates.set(200);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_198(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(2176 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_199(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'X') {
+                nextStates.set(200);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_200(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(188);
+                if (validTypes.contains(TokenType.HEXADECIMALINT)) type = TokenType.HEXADECIMALINT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_201(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(201);
+            } else if ((ch == 'E') || (ch == 'e')) {
+                nextStates.set(202);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_202(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '+') || (ch == '-')) {
+                nextStates.set(208);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(203);
+                if (validTypes.contains(TokenType.FLOATTWO)) type = TokenType.FLOATTWO;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_203(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(2304 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_204(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(189);
+                if (validTypes.contains(TokenType.FLOATONE)) type = TokenType.FLOATONE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_205(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(196);
+                if (validTypes.contains(TokenType.FLOATONE)) type = TokenType.FLOATONE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_206(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(206);
+            } else if (ch == '\'') {
+                if (validTypes.contains(TokenType.CHARACTER)) type = TokenType.CHARACTER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_207(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(2432 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '\t') || ((ch == 0xb || ch == '\f') || ((ch >= 0xe && ch <= '&') || ((ch >= '(' && ch <= '[') || (ch >= ']'))))) {
+                nextStates.set(10);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_208(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(203);
+                if (validTypes.contains(TokenType.FLOATTWO)) type = TokenType.FLOATTWO;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_209(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(2560 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private int[] ASCII_MOVE_TABLE_init() {
+            int[] result = new int[580];
+            ASCII_MOVE_TABLE_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_TABLE_init0(int[] result) {
+            int[] chunk = new int[] {9, - 1, 1, 0, 1, 1, 2, - 1, 1, 2, 18, - 1, 1, 3, 1, - 1, 
+            1, 4, 1, 5, 1, - 1, 1, 6, 1, 7, 1, 8, 1, 9, 1, 10, 1, 11, 1, 12, 1, 13, 1, 14, 
+            1, 15, 1, 16, 1, 17, 9, 18, 1, 19, 1, 20, 1, 21, 1, 22, 1, 23, 2, - 1, 5, 24, 1, 
+            25, 13, 24, 1, 26, 6, 24, 1, 27, 1, - 1, 1, 28, 1, 29, 1, 24, 1, - 1, 1, 30, 1, 
+            31, 1, 32, 1, 33, 1, 34, 1, 35, 2, 24, 1, 36, 2, 24, 1, 37, 1, 38, 1, 24, 1, 39, 
+            2, 24, 1, 40, 1, 41, 1, 42, 1, 43, 1, 44, 4, 24, 1, 45, 1, 46, 1, 47, 1, 48, 40, 
+            - 1, 1, 49, 8, - 1, 10, 50, 7, - 1, 6, 50, 26, - 1, 6, 50, 34, - 1, 1, 51, 1, 52, 
+            21, - 1, 1, 51, 15, - 1, 10, 53, 70, - 1, 10, 4, 1, - 1, 2, 4, 1, - 1, 20, 4, 1, 
+            54, 57, 4, 1, 55, 45, 4, 1, - 1, 2, 4, 1, - 1, 20, 4, 1, 54, 13, 4, 8, 56, 36, 
+            4, 1, 55, 45, 4, 1, - 1, 2, 4, 1, - 1, 20, 4, 1, 54, 13, 4, 10, 57, 34, 4, 1, 55, 
+            45, 4, 1, - 1, 2, 4, 1, - 1, 20, 4, 1, 54, 13, 4, 10, 58, 7, 4, 6, 58, 21, 4, 1, 
+            55, 4, 4, 6, 58, 25, 4, 34, - 1, 1, 4, 4, - 1, 1, 4, 8, - 1, 1, 59, 9, 60, 5, - 1, 
+            1, 4, 28, - 1, 1, 4, 4, - 1, 2, 4, 3, - 1, 1, 4, 7, - 1, 1, 4, 3, - 1, 1, 4, 1, 
+            - 1, 1, 4, 1, - 1, 1, 4, 18, - 1, 1, 61, 1, 52, 21, - 1, 1, 61, 15, - 1, 10, 62, 
+            118, - 1, 8, 63, 20, - 1, 1, 64, 8, - 1, 1, 64, 22, - 1, 1, 64, 8, - 1, 1, 64, 
+            58, - 1, 10, 65, 18, - 1, 1, 66, 8, - 1, 1, 66, 22, - 1, 1, 66, 8, - 1, 1, 66, 
+            58, - 1, 10, 67, 11, - 1, 1, 68, 1, 69, 5, - 1, 1, 69, 24, - 1, 1, 68, 1, 69, 5, 
+            - 1, 1, 69, 67, - 1, 10, 70, 7, - 1, 6, 70, 5, - 1, 1, 71, 8, - 1, 1, 71, 11, - 1, 
+            6, 70, 5, - 1, 1, 71, 8, - 1, 1, 71, 58, - 1, 10, 72, 11, - 1, 1, 68, 1, 69, 5, 
+            - 1, 1, 69, 24, - 1, 1, 68, 1, 69, 5, - 1, 1, 69, 28, - 1, 1, 73, 1, 52, 21, - 1, 
+            1, 73, 1, - 1, 1, 74, 13, - 1, 10, 75, 118, - 1, 10, 24, 7, - 1, 26, 24, 4, - 1, 
+            1, 24, 1, - 1, 26, 24, 53, - 1, 10, 76, 12, - 1, 1, 69, 5, - 1, 1, 69, 25, - 1, 
+            1, 69, 5, - 1, 1, 69, 28, - 1, 1, 51, 1, 52, 21, - 1, 1, 51, 15, - 1, 10, 62, 118, 
+            - 1, 10, 77, 12, - 1, 1, 78, 5, - 1, 1, 78, 25, - 1, 1, 78, 5, - 1, 1, 78, 19, 
+            - 1, 10, 79, 1, - 1, 2, 79, 1, - 1, 25, 79, 1, - 1, 52, 79, 1, 80, 35, 79, 34, 
+            - 1, 1, 79, 4, - 1, 1, 79, 8, - 1, 1, 81, 9, 82, 5, - 1, 1, 79, 28, - 1, 1, 79, 
+            4, - 1, 2, 79, 3, - 1, 1, 79, 7, - 1, 1, 79, 3, - 1, 1, 79, 1, - 1, 1, 79, 1, - 1, 
+            1, 79, 9, - 1};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] ASCII_MOVE_STATE_OFFSETS_init() {
+            int[] result = new int[84];
+            ASCII_MOVE_STATE_OFFSETS_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_STATE_OFFSETS_init0(int[] result) {
+            int[] chunk = new int[] {0, 0, 0, 0, 0, 1, 2, 2, 2, 3, 3, 3, 3, 3, 3, 3, 4, 6, 
+            12, 16, 17, 17, 18, 18, 19, 20, 22, 24, 24, 24, 24, 27, 29, 34, 37, 40, 42, 46, 
+            48, 50, 54, 57, 63, 65, 68, 70, 70, 70, 70, 70, 70, 71, 72, 72, 73, 73, 74, 76, 
+            78, 80, 83, 84, 86, 88, 89, 89, 90, 90, 91, 92, 92, 93, 93, 94, 95, 96, 97, 98, 
+            99, 99, 100, 101, 104, 105};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] ASCII_MOVE_STATES_init() {
+            int[] result = new int[105];
+            ASCII_MOVE_STATES_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_STATES_init0(int[] result) {
+            int[] chunk = new int[] {66, 85, 207, 204, 185, 186, 166, 190, 193, 197, 199, 201, 
+            182, 190, 193, 201, 20, 26, 25, 194, 35, 194, 32, 194, 86, 139, 194, 75, 194, 21, 
+            72, 105, 178, 194, 50, 108, 194, 116, 148, 194, 45, 194, 11, 165, 169, 194, 55, 
+            194, 1, 194, 81, 156, 167, 194, 131, 173, 194, 58, 88, 98, 119, 126, 194, 39, 194, 
+            63, 93, 194, 162, 194, 19, 27, 134, 143, 66, 95, 66, 102, 66, 115, 28, 29, 95, 
+            102, 27, 159, 134, 198, 166, 182, 187, 195, 188, 189, 104, 192, 191, 196, 203, 
+            10, 209, 2, 6, 206, 8};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] ASCII_MOVE_TYPE_OFFSETS_init() {
+            int[] result = new int[84];
+            ASCII_MOVE_TYPE_OFFSETS_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_TYPE_OFFSETS_init0(int[] result) {
+            int[] chunk = new int[] {0, 1, 2, 3, 4, 4, 4, 5, 6, 6, 7, 8, 9, 10, 11, 12, 12, 
+            13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 
+            33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 46, 46, 47, 47, 48, 48, 
+            48, 48, 48, 48, 48, 48, 48, 49, 50, 51, 52, 53, 53, 54, 55, 56, 57, 57, 57, 57, 
+            58, 59, 60, 60, 60, 60, 60};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] ASCII_MOVE_TYPE_INDEXES_init() {
+            int[] result = new int[60];
+            ASCII_MOVE_TYPE_INDEXES_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_TYPE_INDEXES_init0(int[] result) {
+            int[] chunk = new int[] {1, 2, 3, 0, 18, 13, 20, 21, 16, 14, 9, 15, 17, 27, 28, 
+            8, 5, 22, 10, 23, 26, 26, 26, 24, 25, 12, 26, 26, 26, 26, 26, 26, 26, 26, 26, 26, 
+            26, 26, 26, 26, 26, 6, 11, 7, 19, 32, 4, 33, 27, 27, 28, 28, 30, 30, 29, 29, 30, 
+            30, 31, 31};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private final AsciiMoveTable ASCII_MOVES = ASCII_MOVES_init();
+
+        static private AsciiMoveTable ASCII_MOVES_init() {
+            TokenType[] types = new TokenType[] {TokenType._TOKEN_1, TokenType._TOKEN_2, TokenType._TOKEN_3, 
+            TokenType._TOKEN_4, TokenType._TOKEN_7, TokenType._TOKEN_8, TokenType._TOKEN_10, 
+            TokenType._TOKEN_11, TokenType._TOKEN_13, TokenType._TOKEN_14, TokenType._TOKEN_17, 
+            TokenType._TOKEN_18, TokenType._TOKEN_19, TokenType._TOKEN_20, TokenType._TOKEN_23, 
+            TokenType._TOKEN_24, TokenType._TOKEN_25, TokenType._TOKEN_26, TokenType._TOKEN_27, 
+            TokenType._TOKEN_28, TokenType._TOKEN_29, TokenType._TOKEN_30, TokenType._TOKEN_50, 
+            TokenType._TOKEN_51, TokenType._TOKEN_53, TokenType._TOKEN_54, TokenType.ID, TokenType.OCTALINT, 
+            TokenType.DECIMALINT, TokenType.HEXADECIMALINT, TokenType.FLOATONE, TokenType.FLOATTWO, 
+            TokenType.CHARACTER, TokenType.STRING};
+            return new AsciiMoveTable(ASCII_MOVE_TABLE_init(), ASCII_MOVE_STATE_OFFSETS_init(), 
+            ASCII_MOVE_STATES_init(), ASCII_MOVE_TYPE_OFFSETS_init(), ASCII_MOVE_TYPE_INDEXES_init(), 
+            types);
+        }
+
+        static private NfaFunction[] NFA_FUNCTIONS_init() {
+            return new NfaFunction[] {DEFAULT::NFA_0, DEFAULT::NFA_1, DEFAULT::NFA_2, DEFAULT::NFA_3, 
+            DEFAULT::NFA_4, DEFAULT::NFA_5, DEFAULT::NFA_6, DEFAULT::NFA_7, DEFAULT::NFA_8, 
+            DEFAULT::NFA_9, DEFAULT::NFA_10, DEFAULT::NFA_11, DEFAULT::NFA_12, DEFAULT::NFA_13, 
+            DEFAULT::NFA_14, DEFAULT::NFA_15, DEFAULT::NFA_16, DEFAULT::NFA_17, DEFAULT::NFA_18, 
+            DEFAULT::NFA_19, DEFAULT::NFA_20, DEFAULT::NFA_21, DEFAULT::NFA_22, DEFAULT::NFA_23, 
+            DEFAULT::NFA_24, DEFAULT::NFA_25, DEFAULT::NFA_26, DEFAULT::NFA_27, DEFAULT::NFA_28, 
+            DEFAULT::NFA_29, DEFAULT::NFA_30, DEFAULT::NFA_31, DEFAULT::NFA_32, DEFAULT::NFA_33, 
+            DEFAULT::NFA_34, DEFAULT::NFA_35, DEFAULT::NFA_36, DEFAULT::NFA_37, DEFAULT::NFA_38, 
+            DEFAULT::NFA_39, DEFAULT::NFA_40, DEFAULT::NFA_41, DEFAULT::NFA_42, DEFAULT::NFA_43, 
+            DEFAULT::NFA_44, DEFAULT::NFA_45, DEFAULT::NFA_46, DEFAULT::NFA_47, DEFAULT::NFA_48, 
+            DEFAULT::NFA_49, DEFAULT::NFA_50, DEFAULT::NFA_51, DEFAULT::NFA_52, DEFAULT::NFA_53, 
+            DEFAULT::NFA_54, DEFAULT::NFA_55, DEFAULT::NFA_56, DEFAULT::NFA_57, DEFAULT::NFA_58, 
+            DEFAULT::NFA_59, DEFAULT::NFA_60, DEFAULT::NFA_61, DEFAULT::NFA_62, DEFAULT::NFA_63, 
+            DEFAULT::NFA_64, DEFAULT::NFA_65, DEFAULT::NFA_66, DEFAULT::NFA_67, DEFAULT::NFA_68, 
+            DEFAULT::NFA_69, DEFAULT::NFA_70, DEFAULT::NFA_71, DEFAULT::NFA_72, DEFAULT::NFA_73, 
+            DEFAULT::NFA_74, DEFAULT::NFA_75, DEFAULT::NFA_76, DEFAULT::NFA_77, DEFAULT::NFA_78, 
+            DEFAULT::NFA_79, DEFAULT::NFA_80, DEFAULT::NFA_81, DEFAULT::NFA_82, DEFAULT::NFA_83, 
+            DEFAULT::NFA_84, DEFAULT::NFA_85, DEFAULT::NFA_86, DEFAULT::NFA_87, DEFAULT::NFA_88, 
+            DEFAULT::NFA_89, DEFAULT::NFA_90, DEFAULT::NFA_91, DEFAULT::NFA_92, DEFAULT::NFA_93, 
+            DEFAULT::NFA_94, DEFAULT::NFA_95, DEFAULT::NFA_96, DEFAULT::NFA_97, DEFAULT::NFA_98, 
+            DEFAULT::NFA_99, DEFAULT::NFA_100, DEFAULT::NFA_101, DEFAULT::NFA_102, DEFAULT::NFA_103, 
+            DEFAULT::NFA_104, DEFAULT::NFA_105, DEFAULT::NFA_106, DEFAULT::NFA_107, DEFAULT::NFA_108, 
+            DEFAULT::NFA_109, DEFAULT::NFA_110, DEFAULT::NFA_111, DEFAULT::NFA_112, DEFAULT::NFA_113, 
+            DEFAULT::NFA_114, DEFAULT::NFA_115, DEFAULT::NFA_116, DEFAULT::NFA_117, DEFAULT::NFA_118, 
+            DEFAULT::NFA_119, DEFAULT::NFA_120, DEFAULT::NFA_121, DEFAULT::NFA_122, DEFAULT::NFA_123, 
+            DEFAULT::NFA_124, DEFAULT::NFA_125, DEFAULT::NFA_126, DEFAULT::NFA_127, DEFAULT::NFA_128, 
+            DEFAULT::NFA_129, DEFAULT::NFA_130, DEFAULT::NFA_131, DEFAULT::NFA_132, DEFAULT::NFA_133, 
+            DEFAULT::NFA_134, DEFAULT::NFA_135, DEFAULT::NFA_136, DEFAULT::NFA_137, DEFAULT::NFA_138, 
+            DEFAULT::NFA_139, DEFAULT::NFA_140, DEFAULT::NFA_141, DEFAULT::NFA_142, DEFAULT::NFA_143, 
+            DEFAULT::NFA_144, DEFAULT::NFA_145, DEFAULT::NFA_146, DEFAULT::NFA_147, DEFAULT::NFA_148, 
+            DEFAULT::NFA_149, DEFAULT::NFA_150, DEFAULT::NFA_151, DEFAULT::NFA_152, DEFAULT::NFA_153, 
+            DEFAULT::NFA_154, DEFAULT::NFA_155, DEFAULT::NFA_156, DEFAULT::NFA_157, DEFAULT::NFA_158, 
+            DEFAULT::NFA_159, DEFAULT::NFA_160, DEFAULT::NFA_161, DEFAULT::NFA_162, DEFAULT::NFA_163, 
+            DEFAULT::NFA_164, DEFAULT::NFA_165, DEFAULT::NFA_166, DEFAULT::NFA_167, DEFAULT::NFA_168, 
+            DEFAULT::NFA_169, DEFAULT::NFA_170, DEFAULT::NFA_171, DEFAULT::NFA_172, DEFAULT::NFA_173, 
+            DEFAULT::NFA_174, DEFAULT::NFA_175, DEFAULT::NFA_176, DEFAULT::NFA_177, DEFAULT::NFA_178, 
+            DEFAULT::NFA_179, DEFAULT::NFA_180, DEFAULT::NFA_181, DEFAULT::NFA_182, DEFAULT::NFA_183, 
+            DEFAULT::NFA_184, DEFAULT::NFA_185, DEFAULT::NFA_186, DEFAULT::NFA_187, DEFAULT::NFA_188, 
+            DEFAULT::NFA_189, DEFAULT::NFA_190, DEFAULT::NFA_191, DEFAULT::NFA_192, DEFAULT::NFA_193, 
+            DEFAULT::NFA_194, DEFAULT::NFA_195, DEFAULT::NFA_196, DEFAULT::NFA_197, DEFAULT::NFA_198, 
+            DEFAULT::NFA_199, DEFAULT::NFA_200, DEFAULT::NFA_201, DEFAULT::NFA_202, DEFAULT::NFA_203, 
+            DEFAULT::NFA_204, DEFAULT::NFA_205, DEFAULT::NFA_206, DEFAULT::NFA_207, DEFAULT::NFA_208, 
+            DEFAULT::NFA_209};
+        }
+
+    }
+
+}
+
+
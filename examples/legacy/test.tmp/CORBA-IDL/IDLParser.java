@@ -0,0 +1,7943 @@
+/* Generated by: JavaCC 21 Parser Generator. IDLParser.java */
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.concurrent.CancellationException;
+
+
+public class IDLParser implements IDLConstants {
+
+    public static void main(String args[]) {
+        IDLParser parser;
+        if (args.length == 0) {
+            System.out.println("IDL Parser Version 0.1:  Reading from standard input . . .");
+            parser = new IDLParser(new java.io.InputStreamReader(System.in));
+        } else if (args.length == 1) {
+            System.out.println("IDL Parser Version 0.1:  Reading from file " + args[0] + " . . .");
+            try {
+                parser = new IDLParser(new java.io.FileReader(args[0]));
+            } catch (java.io.FileNotFoundException e) {
+                System.out.println("IDL Parser Version 0.1:  File " + args[0] + " not found.");
+                return;
+            }
+        } else {
+            System.out.println("IDL Parser Version 0.1:  Usage is one of:");
+            System.out.println("         java IDLParser < inputfile");
+            System.out.println("OR");
+            System.out.println("         java IDLParser inputfile");
+            return;
+        }
+        try {
+            parser.specification();
+            System.out.println("IDL Parser Version 0.1:  IDL file parsed successfully.");
+        } catch (ParseException e) {
+            System.out.println("IDL Parser Version 0.1:  Encountered errors during parse.");
+        }
+    }
+
+    static final int UNLIMITED = Integer.MAX_VALUE;
+    // The last token successfully "consumed"
+    Token lastConsumedToken;
+    private TokenType nextTokenType;
+    private Token currentLookaheadToken;
+    private int remainingLookahead;
+    private boolean hitFailure, passedPredicate;
+    private String currentlyParsedProduction, currentLookaheadProduction;
+    private int lookaheadRoutineNesting, passedPredicateThreshold = -1;
+    private EnumSet<TokenType> outerFollowSet;
+    private boolean legacyGlitchyLookahead = true;
+    private boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public IDLLexer token_source;
+
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public IDLParser(String inputSource, CharSequence content) {
+        this(new IDLLexer(inputSource, content));
+    }
+
+    public IDLParser(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public IDLParser(String inputSource, Path path) throws IOException {
+        this(inputSource, IDLLexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    public IDLParser(String inputSource, Path path, Charset charset) throws IOException {
+        this(inputSource, IDLLexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public IDLParser(Path path) throws IOException {
+        this(path.toString(), path);
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public IDLParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public IDLParser(Reader reader) {
+        this(new IDLLexer("input", reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public IDLParser(IDLLexer lexer) {
+        token_source = lexer;
+        lastConsumedToken = lexer.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(lexer);
+    }
+
+    /**
+    * Makes this parser ready to parse new input, as if it had just been
+    * constructed with it, but reusing the stacks that it (and its lexer)
+    * already has. See IDLLexer#reset(CharSequence).
+    * The tree built from the previous input must not be used after this.
+    * Note that any fields that code injected into this class adds are
+    * left alone.
+    * @param input the new input
+    */
+    public void reset(CharSequence input) {
+        reset("input", input);
+    }
+
+    /**
+    * @see #reset(CharSequence)
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param input the new input
+    */
+    public void reset(String inputSource, CharSequence input) {
+        token_source.reset(inputSource, input);
+        lastConsumedToken = token_source.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(token_source);
+        nextTokenType = null;
+        currentLookaheadToken = null;
+        remainingLookahead = 0;
+        hitFailure = passedPredicate = false;
+        currentlyParsedProduction = currentLookaheadProduction = null;
+        lookaheadRoutineNesting = 0;
+        passedPredicateThreshold = -1;
+        outerFollowSet = null;
+        cancelled = false;
+        parsingStack.truncate(0);
+        lookaheadStack.truncate(0);
+        parseStateStack.clear();
+    }
+
+    // If the next token is cached, it returns that
+    // Otherwise, it goes to the token_source, i.e. the Lexer.
+    final private Token nextToken(final Token tok) {
+        Token result = token_source.getNextToken(tok);
+        while (result.isUnparsed()) {
+            result = token_source.getNextToken(result);
+        }
+        nextTokenType = null;
+        return result;
+    }
+
+    /**
+    * @return the next Token off the stream. This is the same as #getToken(1)
+    */
+    final public Token getNextToken() {
+        return getToken(1);
+    }
+
+    /**
+    * @param index how many tokens to look ahead
+    * @return the specific regular (i.e. parsed) Token index ahead/behind in the stream.
+    * If we are in a lookahead, it looks ahead from the currentLookaheadToken
+    * Otherwise, it is the lastConsumedToken. If you pass in a negative
+    * number it goes backward.
+    */
+    final public Token getToken(final int index) {
+        Token t = currentLookaheadToken == null ? lastConsumedToken : currentLookaheadToken;
+        for (int i = 0; i < index; i++) {
+            t = nextToken(t);
+        }
+        for (int i = 0; i > index; i--) {
+            t = t.getPrevious();
+            if (t == null) break;
+        }
+        return t;
+    }
+
+    private final TokenType nextTokenType() {
+        if (nextTokenType == null) {
+            nextTokenType = nextToken(lastConsumedToken).getType();
+        }
+        return nextTokenType;
+    }
+
+    boolean activateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result |= token_source.activeTokenTypes.add(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    boolean deactivateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result |= token_source.activeTokenTypes.remove(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    //=================================
+    // Start of methods for BNF Productions
+    //This code is generated by the ParserProductions.java.ftl template.
+    //=================================
+    static private final EnumSet<TokenType> specification_FIRST_SET = specification_FIRST_SET_init();
+
+    static private EnumSet<TokenType> specification_FIRST_SET_init() {
+        return EnumSet.of(TokenType.MODULE, TokenType.INTERFACE, TokenType.CONST, TokenType.TYPEDEF, 
+        TokenType.STRUCT, TokenType.UNION, TokenType.ENUM, TokenType.EXCEPTION);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:85:1
+    final public
+    /* Production 1 */
+    void specification() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "specification";
+        // Code for OneOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:88:3
+        while (true) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:88:5
+            pushOntoCallStack("specification", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            88, 5);
+            try {
+                definition();
+            } finally {
+                popCallStack();
+            }
+            if (!(first_set$IDL_javacc$88$5.contains(nextTokenType()))) break;
+        }
+    }
+
+    static private final EnumSet<TokenType> definition_FIRST_SET = specification_FIRST_SET;
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:93:1
+    final public
+    /* Production 2 */
+    void definition() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "definition";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:96:3
+        switch(nextTokenType()) {
+            case TYPEDEF : case STRUCT : case UNION : case ENUM : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:96:3
+                pushOntoCallStack("definition", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                96, 3);
+                try {
+                    type_dcl();
+                } finally {
+                    popCallStack();
+                }
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:96:14
+                consumeToken(TokenType._TOKEN_8);
+                break;
+            case CONST : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:98:3
+                pushOntoCallStack("definition", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                98, 3);
+                try {
+                    const_dcl();
+                } finally {
+                    popCallStack();
+                }
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:98:15
+                consumeToken(TokenType._TOKEN_8);
+                break;
+            case EXCEPTION : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:100:3
+                pushOntoCallStack("definition", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                100, 3);
+                try {
+                    except_dcl();
+                } finally {
+                    popCallStack();
+                }
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:100:16
+                consumeToken(TokenType._TOKEN_8);
+                break;
+            case INTERFACE : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:102:3
+                pushOntoCallStack("definition", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                102, 3);
+                try {
+                    interfacex();
+                } finally {
+                    popCallStack();
+                }
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:102:16
+                consumeToken(TokenType._TOKEN_8);
+                break;
+            case MODULE : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:104:3
+                pushOntoCallStack("definition", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                104, 3);
+                try {
+                    module();
+                } finally {
+                    popCallStack();
+                }
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:104:12
+                consumeToken(TokenType._TOKEN_8);
+                break;
+            default : 
+                {
+                    pushOntoCallStack("definition", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                    96, 3);
+                    throw new ParseException(this, definition_FIRST_SET, parsingStack.toList());
+                }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:109:1
+    final public
+    /* Production 3 */
+    void module() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "module";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:112:3
+        consumeToken(TokenType.MODULE);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:112:12
+        pushOntoCallStack("module", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 112, 
+        12);
+        try {
+            identifier();
+        } finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:112:25
+        consumeToken(TokenType._TOKEN_10);
+        // Code for OneOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:112:29
+        while (true) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:112:31
+            pushOntoCallStack("module", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            112, 31);
+            try {
+                definition();
+            } finally {
+                popCallStack();
+            }
+            if (!(first_set$IDL_javacc$112$31.contains(nextTokenType()))) break;
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:112:47
+        consumeToken(TokenType._TOKEN_11);
+    }
+
+    static private final EnumSet<TokenType> interfacex_FIRST_SET = EnumSet.of(TokenType.INTERFACE);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:117:1
+    final public
+    /* Production 4 */
+    void interfacex() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "interfacex";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:120:3
+        if (scan$IDL_javacc$120$3()) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:121:3
+            pushOntoCallStack("interfacex", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            121, 3);
+            try {
+                interface_dcl();
+            } finally {
+                popCallStack();
+            }
+        } else if (nextTokenType() == TokenType.INTERFACE) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:123:3
+            pushOntoCallStack("interfacex", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            123, 3);
+            try {
+                forward_dcl();
+            } finally {
+                popCallStack();
+            }
+        } else {
+            pushOntoCallStack("interfacex", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            120, 3);
+            throw new ParseException(this, interfacex_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:128:1
+    final public
+    /* Production 5 */
+    void interface_dcl() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "interface_dcl";
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:131:3
+        pushOntoCallStack("interface_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        131, 3);
+        try {
+            interface_header();
+        } finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:131:22
+        consumeToken(TokenType._TOKEN_10);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:131:26
+        pushOntoCallStack("interface_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        131, 26);
+        try {
+            interface_body();
+        } finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:131:43
+        consumeToken(TokenType._TOKEN_11);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:136:1
+    final public
+    /* Production 6 */
+    void forward_dcl() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "forward_dcl";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:139:3
+        consumeToken(TokenType.INTERFACE);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:139:15
+        pushOntoCallStack("forward_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        139, 15);
+        try {
+            identifier();
+        } finally {
+            popCallStack();
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:144:1
+    final public
+    /* Production 7 */
+    void interface_header() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "interface_header";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:147:3
+        consumeToken(TokenType.INTERFACE);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:147:15
+        pushOntoCallStack("interface_header", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        147, 15);
+        try {
+            identifier();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:147:28
+        if (nextTokenType() == TokenType._TOKEN_13) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:147:30
+            pushOntoCallStack("interface_header", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            147, 30);
+            try {
+                inheritance_spec();
+            } finally {
+                popCallStack();
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> interface_body_FIRST_SET = interface_body_FIRST_SET_init();
+
+    static private EnumSet<TokenType> interface_body_FIRST_SET_init() {
+        return EnumSet.of(TokenType._TOKEN_15, TokenType.CONST, TokenType.TYPEDEF, TokenType.FLOAT, 
+        TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, 
+        TokenType.BOOLEAN, TokenType.OCTET, TokenType.ANY, TokenType.STRUCT, TokenType.UNION, 
+        TokenType.ENUM, TokenType._TOKEN_52, TokenType.READONLY, TokenType.ATTRIBUTE, TokenType.EXCEPTION, 
+        TokenType.ONEWAY, TokenType.VOID, TokenType.ID);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:152:1
+    final public
+    /* Production 8 */
+    void interface_body() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "interface_body";
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:155:3
+        while (true) {
+            if (!(first_set$IDL_javacc$155$5.contains(nextTokenType()))) break;
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:155:5
+            pushOntoCallStack("interface_body", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            155, 5);
+            try {
+                export();
+            } finally {
+                popCallStack();
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> export_FIRST_SET = interface_body_FIRST_SET;
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:160:1
+    final public
+    /* Production 9 */
+    void export() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "export";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:163:3
+        switch(nextTokenType()) {
+            case TYPEDEF : case STRUCT : case UNION : case ENUM : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:163:3
+                pushOntoCallStack("export", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                163, 3);
+                try {
+                    type_dcl();
+                } finally {
+                    popCallStack();
+                }
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:163:14
+                consumeToken(TokenType._TOKEN_8);
+                break;
+            case CONST : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:165:3
+                pushOntoCallStack("export", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                165, 3);
+                try {
+                    const_dcl();
+                } finally {
+                    popCallStack();
+                }
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:165:15
+                consumeToken(TokenType._TOKEN_8);
+                break;
+            case EXCEPTION : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:167:3
+                pushOntoCallStack("export", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                167, 3);
+                try {
+                    except_dcl();
+                } finally {
+                    popCallStack();
+                }
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:167:16
+                consumeToken(TokenType._TOKEN_8);
+                break;
+            case READONLY : case ATTRIBUTE : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:169:3
+                pushOntoCallStack("export", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                169, 3);
+                try {
+                    attr_dcl();
+                } finally {
+                    popCallStack();
+                }
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:169:14
+                consumeToken(TokenType._TOKEN_8);
+                break;
+            case _TOKEN_15 : case FLOAT : case DOUBLE : case LONG : case SHORT : case UNSIGNED : case CHAR : case BOOLEAN : case OCTET : case ANY : case _TOKEN_52 : case ONEWAY : case VOID : case ID : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:171:3
+                pushOntoCallStack("export", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                171, 3);
+                try {
+                    op_dcl();
+                } finally {
+                    popCallStack();
+                }
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:171:12
+                consumeToken(TokenType._TOKEN_8);
+                break;
+            default : 
+                {
+                    pushOntoCallStack("export", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                    163, 3);
+                    throw new ParseException(this, export_FIRST_SET, parsingStack.toList());
+                }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:176:1
+    final public
+    /* Production 10 */
+    void inheritance_spec() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "inheritance_spec";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:3
+        consumeToken(TokenType._TOKEN_13);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:7
+        pushOntoCallStack("inheritance_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        179, 7);
+        try {
+            scoped_name();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:21
+        while (true) {
+            if (!(nextTokenType() == TokenType._TOKEN_14)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:23
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:27
+            pushOntoCallStack("inheritance_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            179, 27);
+            try {
+                scoped_name();
+            } finally {
+                popCallStack();
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:184:1
+    final public
+    /* Production 11 */
+    void scoped_name() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "scoped_name";
+        // Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:3
+        if (nextTokenType() == TokenType._TOKEN_15) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:5
+            consumeToken(TokenType._TOKEN_15);
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:12
+        pushOntoCallStack("scoped_name", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        187, 12);
+        try {
+            identifier();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:25
+        while (true) {
+            if (!(nextTokenType() == TokenType._TOKEN_15)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:27
+            consumeToken(TokenType._TOKEN_15);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:32
+            pushOntoCallStack("scoped_name", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            187, 32);
+            try {
+                identifier();
+            } finally {
+                popCallStack();
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:192:1
+    final public
+    /* Production 12 */
+    void const_dcl() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "const_dcl";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:3
+        consumeToken(TokenType.CONST);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:11
+        pushOntoCallStack("const_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        195, 11);
+        try {
+            const_type();
+        } finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:24
+        pushOntoCallStack("const_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        195, 24);
+        try {
+            identifier();
+        } finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:37
+        consumeToken(TokenType._TOKEN_17);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:41
+        pushOntoCallStack("const_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        195, 41);
+        try {
+            const_exp();
+        } finally {
+            popCallStack();
+        }
+    }
+
+    static private final EnumSet<TokenType> const_type_FIRST_SET = const_type_FIRST_SET_init();
+
+    static private EnumSet<TokenType> const_type_FIRST_SET_init() {
+        return EnumSet.of(TokenType._TOKEN_15, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, 
+        TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType._TOKEN_52, 
+        TokenType.ID);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:200:1
+    final public
+    /* Production 13 */
+    void const_type() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "const_type";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:203:3
+        switch(nextTokenType()) {
+            case LONG : case SHORT : case UNSIGNED : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:203:3
+                pushOntoCallStack("const_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                203, 3);
+                try {
+                    integer_type();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case CHAR : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:205:3
+                pushOntoCallStack("const_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                205, 3);
+                try {
+                    char_type();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case BOOLEAN : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:207:3
+                pushOntoCallStack("const_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                207, 3);
+                try {
+                    boolean_type();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case FLOAT : case DOUBLE : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:209:3
+                pushOntoCallStack("const_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                209, 3);
+                try {
+                    floating_pt_type();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case _TOKEN_52 : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:211:3
+                pushOntoCallStack("const_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                211, 3);
+                try {
+                    string_type();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case _TOKEN_15 : case ID : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:213:3
+                pushOntoCallStack("const_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                213, 3);
+                try {
+                    scoped_name();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            default : 
+                {
+                    pushOntoCallStack("const_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                    203, 3);
+                    throw new ParseException(this, const_type_FIRST_SET, parsingStack.toList());
+                }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:218:1
+    final public
+    /* Production 14 */
+    void const_exp() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "const_exp";
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:221:3
+        pushOntoCallStack("const_exp", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        221, 3);
+        try {
+            or_expr();
+        } finally {
+            popCallStack();
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:226:1
+    final public
+    /* Production 15 */
+    void or_expr() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "or_expr";
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:229:3
+        pushOntoCallStack("or_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        229, 3);
+        try {
+            xor_expr();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:229:14
+        while (true) {
+            if (!(nextTokenType() == TokenType._TOKEN_18)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:229:16
+            consumeToken(TokenType._TOKEN_18);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:229:20
+            pushOntoCallStack("or_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            229, 20);
+            try {
+                xor_expr();
+            } finally {
+                popCallStack();
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:234:1
+    final public
+    /* Production 16 */
+    void xor_expr() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "xor_expr";
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:237:3
+        pushOntoCallStack("xor_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        237, 3);
+        try {
+            and_expr();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:237:14
+        while (true) {
+            if (!(nextTokenType() == TokenType._TOKEN_19)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:237:16
+            consumeToken(TokenType._TOKEN_19);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:237:20
+            pushOntoCallStack("xor_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            237, 20);
+            try {
+                and_expr();
+            } finally {
+                popCallStack();
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:242:1
+    final public
+    /* Production 17 */
+    void and_expr() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "and_expr";
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:245:3
+        pushOntoCallStack("and_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        245, 3);
+        try {
+            shift_expr();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:245:16
+        while (true) {
+            if (!(nextTokenType() == TokenType._TOKEN_20)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:245:18
+            consumeToken(TokenType._TOKEN_20);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:245:22
+            pushOntoCallStack("and_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            245, 22);
+            try {
+                shift_expr();
+            } finally {
+                popCallStack();
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:250:1
+    final public
+    /* Production 18 */
+    void shift_expr() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "shift_expr";
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:3
+        pushOntoCallStack("shift_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        253, 3);
+        try {
+            add_expr();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:14
+        while (true) {
+            if (!(nextTokenType() == TokenType._TOKEN_21 || nextTokenType == TokenType._TOKEN_22)) break;
+            if (nextTokenType() == TokenType._TOKEN_21) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:18
+                consumeToken(TokenType._TOKEN_21);
+            } else if (nextTokenType() == TokenType._TOKEN_22) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:25
+                consumeToken(TokenType._TOKEN_22);
+            } else {
+                pushOntoCallStack("shift_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                253, 18);
+                throw new ParseException(this, first_set$IDL_javacc$253$18, parsingStack.toList());
+            }
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:32
+            pushOntoCallStack("shift_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            253, 32);
+            try {
+                add_expr();
+            } finally {
+                popCallStack();
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:258:1
+    final public
+    /* Production 19 */
+    void add_expr() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "add_expr";
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:3
+        pushOntoCallStack("add_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        261, 3);
+        try {
+            mult_expr();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:15
+        while (true) {
+            if (!(nextTokenType() == TokenType._TOKEN_23 || nextTokenType == TokenType._TOKEN_24)) break;
+            if (nextTokenType() == TokenType._TOKEN_23) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:19
+                consumeToken(TokenType._TOKEN_23);
+            } else if (nextTokenType() == TokenType._TOKEN_24) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:25
+                consumeToken(TokenType._TOKEN_24);
+            } else {
+                pushOntoCallStack("add_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                261, 19);
+                throw new ParseException(this, first_set$IDL_javacc$261$19, parsingStack.toList());
+            }
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:31
+            pushOntoCallStack("add_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            261, 31);
+            try {
+                mult_expr();
+            } finally {
+                popCallStack();
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:266:1
+    final public
+    /* Production 20 */
+    void mult_expr() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "mult_expr";
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:3
+        pushOntoCallStack("mult_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        269, 3);
+        try {
+            unary_expr();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:16
+        while (true) {
+            if (!(nextTokenType() == TokenType._TOKEN_25 || nextTokenType == TokenType._TOKEN_26 || nextTokenType == TokenType._TOKEN_27)) break;
+            if (nextTokenType() == TokenType._TOKEN_25) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:20
+                consumeToken(TokenType._TOKEN_25);
+            } else if (nextTokenType() == TokenType._TOKEN_26) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:26
+                consumeToken(TokenType._TOKEN_26);
+            } else if (nextTokenType() == TokenType._TOKEN_27) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:32
+                consumeToken(TokenType._TOKEN_27);
+            } else {
+                pushOntoCallStack("mult_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                269, 20);
+                throw new ParseException(this, first_set$IDL_javacc$269$20, parsingStack.toList());
+            }
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:38
+            pushOntoCallStack("mult_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            269, 38);
+            try {
+                unary_expr();
+            } finally {
+                popCallStack();
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:274:1
+    final public
+    /* Production 21 */
+    void unary_expr() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "unary_expr";
+        // Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:277:3
+        if (nextTokenType() == TokenType._TOKEN_23 || nextTokenType == TokenType._TOKEN_24 || nextTokenType == TokenType._TOKEN_28) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:277:5
+            pushOntoCallStack("unary_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            277, 5);
+            try {
+                unary_operator();
+            } finally {
+                popCallStack();
+            }
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:277:24
+        pushOntoCallStack("unary_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        277, 24);
+        try {
+            primary_expr();
+        } finally {
+            popCallStack();
+        }
+    }
+
+    static private final EnumSet<TokenType> unary_operator_FIRST_SET = EnumSet.of(TokenType._TOKEN_23, 
+    TokenType._TOKEN_24, TokenType._TOKEN_28);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:281:1
+    final public
+    /* Production 22 */
+    void unary_operator() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "unary_operator";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:284:3
+        if (nextTokenType() == TokenType._TOKEN_24) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:284:3
+            consumeToken(TokenType._TOKEN_24);
+        } else if (nextTokenType() == TokenType._TOKEN_23) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:286:3
+            consumeToken(TokenType._TOKEN_23);
+        } else if (nextTokenType() == TokenType._TOKEN_28) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:288:3
+            consumeToken(TokenType._TOKEN_28);
+        } else {
+            pushOntoCallStack("unary_operator", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            284, 3);
+            throw new ParseException(this, unary_operator_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> primary_expr_FIRST_SET = primary_expr_FIRST_SET_init();
+
+    static private EnumSet<TokenType> primary_expr_FIRST_SET_init() {
+        return EnumSet.of(TokenType._TOKEN_15, TokenType._TOKEN_29, TokenType.TRUE, TokenType.FALSE, 
+        TokenType.ID, TokenType.OCTALINT, TokenType.DECIMALINT, TokenType.HEXADECIMALINT, TokenType.FLOATONE, 
+        TokenType.FLOATTWO, TokenType.CHARACTER, TokenType.STRING);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:293:1
+    final public
+    /* Production 23 */
+    void primary_expr() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "primary_expr";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:296:3
+        switch(nextTokenType()) {
+            case _TOKEN_15 : case ID : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:296:3
+                pushOntoCallStack("primary_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                296, 3);
+                try {
+                    scoped_name();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case TRUE : case FALSE : case OCTALINT : case DECIMALINT : case HEXADECIMALINT : case FLOATONE : case FLOATTWO : case CHARACTER : case STRING : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:298:3
+                pushOntoCallStack("primary_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                298, 3);
+                try {
+                    literal();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case _TOKEN_29 : 
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:300:3
+                consumeToken(TokenType._TOKEN_29);
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:300:7
+                pushOntoCallStack("primary_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                300, 7);
+                try {
+                    const_exp();
+                } finally {
+                    popCallStack();
+                }
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:300:19
+                consumeToken(TokenType._TOKEN_30);
+                break;
+            default : 
+                {
+                    pushOntoCallStack("primary_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                    296, 3);
+                    throw new ParseException(this, primary_expr_FIRST_SET, parsingStack.toList());
+                }
+        }
+    }
+
+    static private final EnumSet<TokenType> literal_FIRST_SET = literal_FIRST_SET_init();
+
+    static private EnumSet<TokenType> literal_FIRST_SET_init() {
+        return EnumSet.of(TokenType.TRUE, TokenType.FALSE, TokenType.OCTALINT, TokenType.DECIMALINT, 
+        TokenType.HEXADECIMALINT, TokenType.FLOATONE, TokenType.FLOATTWO, TokenType.CHARACTER, 
+        TokenType.STRING);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:305:1
+    final public
+    /* Production 24 */
+    void literal() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "literal";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:308:3
+        switch(nextTokenType()) {
+            case OCTALINT : case DECIMALINT : case HEXADECIMALINT : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:308:3
+                pushOntoCallStack("literal", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                308, 3);
+                try {
+                    integer_literal();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case STRING : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:310:3
+                pushOntoCallStack("literal", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                310, 3);
+                try {
+                    string_literal();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case CHARACTER : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:312:3
+                pushOntoCallStack("literal", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                312, 3);
+                try {
+                    character_literal();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case FLOATONE : case FLOATTWO : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:314:3
+                pushOntoCallStack("literal", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                314, 3);
+                try {
+                    floating_pt_literal();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case TRUE : case FALSE : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:316:3
+                pushOntoCallStack("literal", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                316, 3);
+                try {
+                    boolean_literal();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            default : 
+                {
+                    pushOntoCallStack("literal", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                    308, 3);
+                    throw new ParseException(this, literal_FIRST_SET, parsingStack.toList());
+                }
+        }
+    }
+
+    static private final EnumSet<TokenType> boolean_literal_FIRST_SET = EnumSet.of(TokenType.TRUE, 
+    TokenType.FALSE);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:321:1
+    final public
+    /* Production 25 */
+    void boolean_literal() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "boolean_literal";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:324:3
+        if (nextTokenType() == TokenType.TRUE) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:324:3
+            consumeToken(TokenType.TRUE);
+        } else if (nextTokenType() == TokenType.FALSE) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:326:3
+            consumeToken(TokenType.FALSE);
+        } else {
+            pushOntoCallStack("boolean_literal", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            324, 3);
+            throw new ParseException(this, boolean_literal_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:331:1
+    final public
+    /* Production 26 */
+    void positive_int_const() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "positive_int_const";
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:334:3
+        pushOntoCallStack("positive_int_const", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        334, 3);
+        try {
+            const_exp();
+        } finally {
+            popCallStack();
+        }
+    }
+
+    static private final EnumSet<TokenType> type_dcl_FIRST_SET = EnumSet.of(TokenType.TYPEDEF, 
+    TokenType.STRUCT, TokenType.UNION, TokenType.ENUM);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:339:1
+    final public
+    /* Production 27 */
+    void type_dcl() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "type_dcl";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:342:3
+        if (nextTokenType() == TokenType.TYPEDEF) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:342:3
+            consumeToken(TokenType.TYPEDEF);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:342:13
+            pushOntoCallStack("type_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            342, 13);
+            try {
+                type_declarator();
+            } finally {
+                popCallStack();
+            }
+        } else if (nextTokenType() == TokenType.STRUCT) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:344:3
+            pushOntoCallStack("type_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            344, 3);
+            try {
+                struct_type();
+            } finally {
+                popCallStack();
+            }
+        } else if (nextTokenType() == TokenType.UNION) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:346:3
+            pushOntoCallStack("type_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            346, 3);
+            try {
+                union_type();
+            } finally {
+                popCallStack();
+            }
+        } else if (nextTokenType() == TokenType.ENUM) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:348:3
+            pushOntoCallStack("type_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            348, 3);
+            try {
+                enum_type();
+            } finally {
+                popCallStack();
+            }
+        } else {
+            pushOntoCallStack("type_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            342, 3);
+            throw new ParseException(this, type_dcl_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> type_declarator_FIRST_SET = type_declarator_FIRST_SET_init();
+
+    static private EnumSet<TokenType> type_declarator_FIRST_SET_init() {
+        return EnumSet.of(TokenType._TOKEN_15, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, 
+        TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, 
+        TokenType.ANY, TokenType.STRUCT, TokenType.UNION, TokenType.ENUM, TokenType.SEQUENCE, 
+        TokenType._TOKEN_52, TokenType.ID);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:353:1
+    final public
+    /* Production 28 */
+    void type_declarator() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "type_declarator";
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:356:3
+        pushOntoCallStack("type_declarator", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        356, 3);
+        try {
+            type_spec();
+        } finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:356:15
+        pushOntoCallStack("type_declarator", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        356, 15);
+        try {
+            declarators();
+        } finally {
+            popCallStack();
+        }
+    }
+
+    static private final EnumSet<TokenType> type_spec_FIRST_SET = type_declarator_FIRST_SET;
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:361:1
+    final public
+    /* Production 29 */
+    void type_spec() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "type_spec";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:364:3
+        switch(nextTokenType()) {
+            case _TOKEN_15 : case FLOAT : case DOUBLE : case LONG : case SHORT : case UNSIGNED : case CHAR : case BOOLEAN : case OCTET : case ANY : case SEQUENCE : case _TOKEN_52 : case ID : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:364:3
+                pushOntoCallStack("type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                364, 3);
+                try {
+                    simple_type_spec();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case STRUCT : case UNION : case ENUM : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:366:3
+                pushOntoCallStack("type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                366, 3);
+                try {
+                    constr_type_spec();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            default : 
+                {
+                    pushOntoCallStack("type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                    364, 3);
+                    throw new ParseException(this, type_spec_FIRST_SET, parsingStack.toList());
+                }
+        }
+    }
+
+    static private final EnumSet<TokenType> simple_type_spec_FIRST_SET = simple_type_spec_FIRST_SET_init();
+
+    static private EnumSet<TokenType> simple_type_spec_FIRST_SET_init() {
+        return EnumSet.of(TokenType._TOKEN_15, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, 
+        TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, 
+        TokenType.ANY, TokenType.SEQUENCE, TokenType._TOKEN_52, TokenType.ID);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:371:1
+    final public
+    /* Production 30 */
+    void simple_type_spec() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "simple_type_spec";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:374:3
+        switch(nextTokenType()) {
+            case FLOAT : case DOUBLE : case LONG : case SHORT : case UNSIGNED : case CHAR : case BOOLEAN : case OCTET : case ANY : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:374:3
+                pushOntoCallStack("simple_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                374, 3);
+                try {
+                    base_type_spec();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case SEQUENCE : case _TOKEN_52 : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:376:3
+                pushOntoCallStack("simple_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                376, 3);
+                try {
+                    template_type_spec();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case _TOKEN_15 : case ID : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:378:3
+                pushOntoCallStack("simple_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                378, 3);
+                try {
+                    scoped_name();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            default : 
+                {
+                    pushOntoCallStack("simple_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                    374, 3);
+                    throw new ParseException(this, simple_type_spec_FIRST_SET, parsingStack.toList());
+                }
+        }
+    }
+
+    static private final EnumSet<TokenType> base_type_spec_FIRST_SET = base_type_spec_FIRST_SET_init();
+
+    static private EnumSet<TokenType> base_type_spec_FIRST_SET_init() {
+        return EnumSet.of(TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, TokenType.SHORT, 
+        TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, TokenType.ANY);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:383:1
+    final public
+    /* Production 31 */
+    void base_type_spec() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "base_type_spec";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:386:3
+        switch(nextTokenType()) {
+            case FLOAT : case DOUBLE : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:386:3
+                pushOntoCallStack("base_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                386, 3);
+                try {
+                    floating_pt_type();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case LONG : case SHORT : case UNSIGNED : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:388:3
+                pushOntoCallStack("base_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                388, 3);
+                try {
+                    integer_type();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case CHAR : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:390:3
+                pushOntoCallStack("base_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                390, 3);
+                try {
+                    char_type();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case BOOLEAN : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:392:3
+                pushOntoCallStack("base_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                392, 3);
+                try {
+                    boolean_type();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case OCTET : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:394:3
+                pushOntoCallStack("base_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                394, 3);
+                try {
+                    octet_type();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case ANY : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:396:3
+                pushOntoCallStack("base_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                396, 3);
+                try {
+                    any_type();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            default : 
+                {
+                    pushOntoCallStack("base_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                    386, 3);
+                    throw new ParseException(this, base_type_spec_FIRST_SET, parsingStack.toList());
+                }
+        }
+    }
+
+    static private final EnumSet<TokenType> template_type_spec_FIRST_SET = EnumSet.of(TokenType.SEQUENCE, 
+    TokenType._TOKEN_52);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:401:1
+    final public
+    /* Production 32 */
+    void template_type_spec() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "template_type_spec";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:404:3
+        if (nextTokenType() == TokenType.SEQUENCE) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:404:3
+            pushOntoCallStack("template_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            404, 3);
+            try {
+                sequence_type();
+            } finally {
+                popCallStack();
+            }
+        } else if (nextTokenType() == TokenType._TOKEN_52) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:406:3
+            pushOntoCallStack("template_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            406, 3);
+            try {
+                string_type();
+            } finally {
+                popCallStack();
+            }
+        } else {
+            pushOntoCallStack("template_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            404, 3);
+            throw new ParseException(this, template_type_spec_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> constr_type_spec_FIRST_SET = EnumSet.of(TokenType.STRUCT, 
+    TokenType.UNION, TokenType.ENUM);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:411:1
+    final public
+    /* Production 33 */
+    void constr_type_spec() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "constr_type_spec";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:414:3
+        if (nextTokenType() == TokenType.STRUCT) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:414:3
+            pushOntoCallStack("constr_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            414, 3);
+            try {
+                struct_type();
+            } finally {
+                popCallStack();
+            }
+        } else if (nextTokenType() == TokenType.UNION) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:416:3
+            pushOntoCallStack("constr_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            416, 3);
+            try {
+                union_type();
+            } finally {
+                popCallStack();
+            }
+        } else if (nextTokenType() == TokenType.ENUM) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:418:3
+            pushOntoCallStack("constr_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            418, 3);
+            try {
+                enum_type();
+            } finally {
+                popCallStack();
+            }
+        } else {
+            pushOntoCallStack("constr_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            414, 3);
+            throw new ParseException(this, constr_type_spec_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> declarators_FIRST_SET = EnumSet.of(TokenType.ID);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:423:1
+    final public
+    /* Production 34 */
+    void declarators() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "declarators";
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:426:3
+        pushOntoCallStack("declarators", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        426, 3);
+        try {
+            declarator();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:426:16
+        while (true) {
+            if (!(nextTokenType() == TokenType._TOKEN_14)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:426:18
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:426:22
+            pushOntoCallStack("declarators", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            426, 22);
+            try {
+                declarator();
+            } finally {
+                popCallStack();
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> declarator_FIRST_SET = declarators_FIRST_SET;
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:431:1
+    final public
+    /* Production 35 */
+    void declarator() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "declarator";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:434:3
+        if (scan$IDL_javacc$434$3()) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:435:3
+            pushOntoCallStack("declarator", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            435, 3);
+            try {
+                complex_declarator();
+            } finally {
+                popCallStack();
+            }
+        } else if (nextTokenType() == TokenType.ID) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:437:3
+            pushOntoCallStack("declarator", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            437, 3);
+            try {
+                simple_declarator();
+            } finally {
+                popCallStack();
+            }
+        } else {
+            pushOntoCallStack("declarator", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            434, 3);
+            throw new ParseException(this, declarator_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:442:1
+    final public
+    /* Production 36 */
+    void simple_declarator() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "simple_declarator";
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:445:3
+        pushOntoCallStack("simple_declarator", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        445, 3);
+        try {
+            identifier();
+        } finally {
+            popCallStack();
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:450:1
+    final public
+    /* Production 37 */
+    void complex_declarator() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "complex_declarator";
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:453:3
+        pushOntoCallStack("complex_declarator", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        453, 3);
+        try {
+            array_declarator();
+        } finally {
+            popCallStack();
+        }
+    }
+
+    static private final EnumSet<TokenType> floating_pt_type_FIRST_SET = EnumSet.of(TokenType.FLOAT, 
+    TokenType.DOUBLE);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:458:1
+    final public
+    /* Production 38 */
+    void floating_pt_type() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "floating_pt_type";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:461:3
+        if (nextTokenType() == TokenType.FLOAT) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:461:3
+            consumeToken(TokenType.FLOAT);
+        } else if (nextTokenType() == TokenType.DOUBLE) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:463:3
+            consumeToken(TokenType.DOUBLE);
+        } else {
+            pushOntoCallStack("floating_pt_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            461, 3);
+            throw new ParseException(this, floating_pt_type_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> integer_type_FIRST_SET = EnumSet.of(TokenType.LONG, 
+    TokenType.SHORT, TokenType.UNSIGNED);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:468:1
+    final public
+    /* Production 39 */
+    void integer_type() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "integer_type";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:471:3
+        if (nextTokenType() == TokenType.LONG || nextTokenType == TokenType.SHORT) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:471:3
+            pushOntoCallStack("integer_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            471, 3);
+            try {
+                signed_int();
+            } finally {
+                popCallStack();
+            }
+        } else if (nextTokenType() == TokenType.UNSIGNED) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:473:3
+            pushOntoCallStack("integer_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            473, 3);
+            try {
+                unsigned_int();
+            } finally {
+                popCallStack();
+            }
+        } else {
+            pushOntoCallStack("integer_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            471, 3);
+            throw new ParseException(this, integer_type_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> signed_int_FIRST_SET = EnumSet.of(TokenType.LONG, 
+    TokenType.SHORT);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:478:1
+    final public
+    /* Production 40 */
+    void signed_int() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "signed_int";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:481:3
+        if (nextTokenType() == TokenType.LONG) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:481:3
+            pushOntoCallStack("signed_int", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            481, 3);
+            try {
+                signed_long_int();
+            } finally {
+                popCallStack();
+            }
+        } else if (nextTokenType() == TokenType.SHORT) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:483:3
+            pushOntoCallStack("signed_int", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            483, 3);
+            try {
+                signed_short_int();
+            } finally {
+                popCallStack();
+            }
+        } else {
+            pushOntoCallStack("signed_int", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            481, 3);
+            throw new ParseException(this, signed_int_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:488:1
+    final public
+    /* Production 41 */
+    void signed_long_int() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "signed_long_int";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:491:3
+        consumeToken(TokenType.LONG);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:496:1
+    final public
+    /* Production 42 */
+    void signed_short_int() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "signed_short_int";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:499:3
+        consumeToken(TokenType.SHORT);
+    }
+
+    static private final EnumSet<TokenType> unsigned_int_FIRST_SET = EnumSet.of(TokenType.UNSIGNED);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:504:1
+    final public
+    /* Production 43 */
+    void unsigned_int() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "unsigned_int";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:507:3
+        if (scan$IDL_javacc$507$3()) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:508:3
+            pushOntoCallStack("unsigned_int", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            508, 3);
+            try {
+                unsigned_long_int();
+            } finally {
+                popCallStack();
+            }
+        } else if (nextTokenType() == TokenType.UNSIGNED) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:510:3
+            pushOntoCallStack("unsigned_int", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            510, 3);
+            try {
+                unsigned_short_int();
+            } finally {
+                popCallStack();
+            }
+        } else {
+            pushOntoCallStack("unsigned_int", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            507, 3);
+            throw new ParseException(this, unsigned_int_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:515:1
+    final public
+    /* Production 44 */
+    void unsigned_long_int() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "unsigned_long_int";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:518:3
+        consumeToken(TokenType.UNSIGNED);
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:518:14
+        consumeToken(TokenType.LONG);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:523:1
+    final public
+    /* Production 45 */
+    void unsigned_short_int() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "unsigned_short_int";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:526:3
+        consumeToken(TokenType.UNSIGNED);
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:526:14
+        consumeToken(TokenType.SHORT);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:531:1
+    final public
+    /* Production 46 */
+    void char_type() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "char_type";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:534:3
+        consumeToken(TokenType.CHAR);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:539:1
+    final public
+    /* Production 47 */
+    void boolean_type() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "boolean_type";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:542:3
+        consumeToken(TokenType.BOOLEAN);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:547:1
+    final public
+    /* Production 48 */
+    void octet_type() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "octet_type";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:550:3
+        consumeToken(TokenType.OCTET);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:555:1
+    final public
+    /* Production 49 */
+    void any_type() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "any_type";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:558:3
+        consumeToken(TokenType.ANY);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:563:1
+    final public
+    /* Production 50 */
+    void struct_type() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "struct_type";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:566:3
+        consumeToken(TokenType.STRUCT);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:566:12
+        pushOntoCallStack("struct_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        566, 12);
+        try {
+            identifier();
+        } finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:566:25
+        consumeToken(TokenType._TOKEN_10);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:566:29
+        pushOntoCallStack("struct_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        566, 29);
+        try {
+            member_list();
+        } finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:566:43
+        consumeToken(TokenType._TOKEN_11);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:571:1
+    final public
+    /* Production 51 */
+    void member_list() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "member_list";
+        // Code for OneOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:574:3
+        while (true) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:574:5
+            pushOntoCallStack("member_list", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            574, 5);
+            try {
+                member();
+            } finally {
+                popCallStack();
+            }
+            if (!(first_set$IDL_javacc$574$5.contains(nextTokenType()))) break;
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:579:1
+    final public
+    /* Production 52 */
+    void member() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "member";
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:582:3
+        pushOntoCallStack("member", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 582, 
+        3);
+        try {
+            type_spec();
+        } finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:582:15
+        pushOntoCallStack("member", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 582, 
+        15);
+        try {
+            declarators();
+        } finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:582:29
+        consumeToken(TokenType._TOKEN_8);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:587:1
+    final public
+    /* Production 53 */
+    void union_type() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "union_type";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:3
+        consumeToken(TokenType.UNION);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:11
+        pushOntoCallStack("union_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        590, 11);
+        try {
+            identifier();
+        } finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:24
+        consumeToken(TokenType.SWITCH);
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:33
+        consumeToken(TokenType._TOKEN_29);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:37
+        pushOntoCallStack("union_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        590, 37);
+        try {
+            switch_type_spec();
+        } finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:56
+        consumeToken(TokenType._TOKEN_30);
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:60
+        consumeToken(TokenType._TOKEN_10);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:64
+        pushOntoCallStack("union_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        590, 64);
+        try {
+            switch_body();
+        } finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:78
+        consumeToken(TokenType._TOKEN_11);
+    }
+
+    static private final EnumSet<TokenType> switch_type_spec_FIRST_SET = switch_type_spec_FIRST_SET_init();
+
+    static private EnumSet<TokenType> switch_type_spec_FIRST_SET_init() {
+        return EnumSet.of(TokenType._TOKEN_15, TokenType.LONG, TokenType.SHORT, TokenType.UNSIGNED, 
+        TokenType.CHAR, TokenType.BOOLEAN, TokenType.ENUM, TokenType.ID);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:595:1
+    final public
+    /* Production 54 */
+    void switch_type_spec() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "switch_type_spec";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:598:3
+        switch(nextTokenType()) {
+            case LONG : case SHORT : case UNSIGNED : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:598:3
+                pushOntoCallStack("switch_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                598, 3);
+                try {
+                    integer_type();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case CHAR : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:600:3
+                pushOntoCallStack("switch_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                600, 3);
+                try {
+                    char_type();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case BOOLEAN : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:602:3
+                pushOntoCallStack("switch_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                602, 3);
+                try {
+                    boolean_type();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case ENUM : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:604:3
+                pushOntoCallStack("switch_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                604, 3);
+                try {
+                    enum_type();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case _TOKEN_15 : case ID : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:606:3
+                pushOntoCallStack("switch_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                606, 3);
+                try {
+                    scoped_name();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            default : 
+                {
+                    pushOntoCallStack("switch_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                    598, 3);
+                    throw new ParseException(this, switch_type_spec_FIRST_SET, parsingStack.toList());
+                }
+        }
+    }
+
+    static private final EnumSet<TokenType> switch_body_FIRST_SET = EnumSet.of(TokenType.CASE, 
+    TokenType.DEFAULT);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:611:1
+    final public
+    /* Production 55 */
+    void switch_body() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "switch_body";
+        // Code for OneOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:614:3
+        while (true) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:614:5
+            pushOntoCallStack("switch_body", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            614, 5);
+            try {
+                casex();
+            } finally {
+                popCallStack();
+            }
+            if (!(nextTokenType() == TokenType.CASE || nextTokenType == TokenType.DEFAULT)) break;
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:619:1
+    final public
+    /* Production 56 */
+    void casex() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "casex";
+        // Code for OneOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:3
+        while (true) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:5
+            pushOntoCallStack("casex", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            622, 5);
+            try {
+                case_label();
+            } finally {
+                popCallStack();
+            }
+            if (!(nextTokenType() == TokenType.CASE || nextTokenType == TokenType.DEFAULT)) break;
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:21
+        pushOntoCallStack("casex", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 622, 
+        21);
+        try {
+            element_spec();
+        } finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:36
+        consumeToken(TokenType._TOKEN_8);
+    }
+
+    static private final EnumSet<TokenType> case_label_FIRST_SET = switch_body_FIRST_SET;
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:627:1
+    final public
+    /* Production 57 */
+    void case_label() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "case_label";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:630:3
+        if (nextTokenType() == TokenType.CASE) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:630:3
+            consumeToken(TokenType.CASE);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:630:10
+            pushOntoCallStack("case_label", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            630, 10);
+            try {
+                const_exp();
+            } finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:630:22
+            consumeToken(TokenType._TOKEN_13);
+        } else if (nextTokenType() == TokenType.DEFAULT) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:632:3
+            consumeToken(TokenType.DEFAULT);
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:632:13
+            consumeToken(TokenType._TOKEN_13);
+        } else {
+            pushOntoCallStack("case_label", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            630, 3);
+            throw new ParseException(this, case_label_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:637:1
+    final public
+    /* Production 58 */
+    void element_spec() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "element_spec";
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:640:3
+        pushOntoCallStack("element_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        640, 3);
+        try {
+            type_spec();
+        } finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:640:15
+        pushOntoCallStack("element_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        640, 15);
+        try {
+            declarator();
+        } finally {
+            popCallStack();
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:645:1
+    final public
+    /* Production 59 */
+    void enum_type() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "enum_type";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:3
+        consumeToken(TokenType.ENUM);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:10
+        pushOntoCallStack("enum_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        648, 10);
+        try {
+            identifier();
+        } finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:23
+        consumeToken(TokenType._TOKEN_10);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:27
+        pushOntoCallStack("enum_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        648, 27);
+        try {
+            enumerator();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:40
+        while (true) {
+            if (!(nextTokenType() == TokenType._TOKEN_14)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:42
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:46
+            pushOntoCallStack("enum_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            648, 46);
+            try {
+                enumerator();
+            } finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:62
+        consumeToken(TokenType._TOKEN_11);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:653:1
+    final public
+    /* Production 60 */
+    void enumerator() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "enumerator";
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:656:3
+        pushOntoCallStack("enumerator", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        656, 3);
+        try {
+            identifier();
+        } finally {
+            popCallStack();
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:661:1
+    final public
+    /* Production 61 */
+    void sequence_type() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "sequence_type";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:3
+        consumeToken(TokenType.SEQUENCE);
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:14
+        consumeToken(TokenType._TOKEN_50);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:18
+        pushOntoCallStack("sequence_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        664, 18);
+        try {
+            simple_type_spec();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:37
+        if (nextTokenType() == TokenType._TOKEN_14) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:39
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:43
+            pushOntoCallStack("sequence_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            664, 43);
+            try {
+                positive_int_const();
+            } finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:66
+        consumeToken(TokenType._TOKEN_51);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:669:1
+    final public
+    /* Production 62 */
+    void string_type() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "string_type";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:3
+        consumeToken(TokenType._TOKEN_52);
+        // Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:12
+        if (nextTokenType() == TokenType._TOKEN_50) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:14
+            consumeToken(TokenType._TOKEN_50);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:18
+            pushOntoCallStack("string_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            672, 18);
+            try {
+                positive_int_const();
+            } finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:39
+            consumeToken(TokenType._TOKEN_51);
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:677:1
+    final public
+    /* Production 63 */
+    void array_declarator() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "array_declarator";
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:680:3
+        pushOntoCallStack("array_declarator", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        680, 3);
+        try {
+            identifier();
+        } finally {
+            popCallStack();
+        }
+        // Code for OneOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:680:16
+        while (true) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:680:18
+            pushOntoCallStack("array_declarator", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            680, 18);
+            try {
+                fixed_array_size();
+            } finally {
+                popCallStack();
+            }
+            if (!(nextTokenType() == TokenType._TOKEN_53)) break;
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:685:1
+    final public
+    /* Production 64 */
+    void fixed_array_size() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "fixed_array_size";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:688:3
+        consumeToken(TokenType._TOKEN_53);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:688:7
+        pushOntoCallStack("fixed_array_size", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        688, 7);
+        try {
+            positive_int_const();
+        } finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:688:28
+        consumeToken(TokenType._TOKEN_54);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:693:1
+    final public
+    /* Production 65 */
+    void attr_dcl() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "attr_dcl";
+        // Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:3
+        if (nextTokenType() == TokenType.READONLY) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:5
+            consumeToken(TokenType.READONLY);
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:18
+        consumeToken(TokenType.ATTRIBUTE);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:30
+        pushOntoCallStack("attr_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        696, 30);
+        try {
+            param_type_spec();
+        } finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:48
+        pushOntoCallStack("attr_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        696, 48);
+        try {
+            simple_declarator();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:68
+        while (true) {
+            if (!(nextTokenType() == TokenType._TOKEN_14)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:70
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:74
+            pushOntoCallStack("attr_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            696, 74);
+            try {
+                simple_declarator();
+            } finally {
+                popCallStack();
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:701:1
+    final public
+    /* Production 66 */
+    void except_dcl() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "except_dcl";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:3
+        consumeToken(TokenType.EXCEPTION);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:15
+        pushOntoCallStack("except_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        704, 15);
+        try {
+            identifier();
+        } finally {
+            popCallStack();
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:28
+        consumeToken(TokenType._TOKEN_10);
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:32
+        while (true) {
+            if (!(first_set$IDL_javacc$704$34.contains(nextTokenType()))) break;
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:34
+            pushOntoCallStack("except_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            704, 34);
+            try {
+                member();
+            } finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:46
+        consumeToken(TokenType._TOKEN_11);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:709:1
+    final public
+    /* Production 67 */
+    void op_dcl() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "op_dcl";
+        // Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:3
+        if (nextTokenType() == TokenType.ONEWAY) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:5
+            pushOntoCallStack("op_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            712, 5);
+            try {
+                op_attribute();
+            } finally {
+                popCallStack();
+            }
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:22
+        pushOntoCallStack("op_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 712, 
+        22);
+        try {
+            op_type_spec();
+        } finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:37
+        pushOntoCallStack("op_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 712, 
+        37);
+        try {
+            identifier();
+        } finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:50
+        pushOntoCallStack("op_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 712, 
+        50);
+        try {
+            parameter_dcls();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:67
+        if (nextTokenType() == TokenType.RAISES) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:69
+            pushOntoCallStack("op_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            712, 69);
+            try {
+                raises_expr();
+            } finally {
+                popCallStack();
+            }
+        }
+        // Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:85
+        if (nextTokenType() == TokenType.CONTEXT) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:87
+            pushOntoCallStack("op_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            712, 87);
+            try {
+                context_expr();
+            } finally {
+                popCallStack();
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:717:1
+    final public
+    /* Production 68 */
+    void op_attribute() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "op_attribute";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:720:3
+        consumeToken(TokenType.ONEWAY);
+    }
+
+    static private final EnumSet<TokenType> op_type_spec_FIRST_SET = op_type_spec_FIRST_SET_init();
+
+    static private EnumSet<TokenType> op_type_spec_FIRST_SET_init() {
+        return EnumSet.of(TokenType._TOKEN_15, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, 
+        TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, 
+        TokenType.ANY, TokenType._TOKEN_52, TokenType.VOID, TokenType.ID);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:725:1
+    final public
+    /* Production 69 */
+    void op_type_spec() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "op_type_spec";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:728:3
+        switch(nextTokenType()) {
+            case _TOKEN_15 : case FLOAT : case DOUBLE : case LONG : case SHORT : case UNSIGNED : case CHAR : case BOOLEAN : case OCTET : case ANY : case _TOKEN_52 : case ID : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:728:3
+                pushOntoCallStack("op_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                728, 3);
+                try {
+                    param_type_spec();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case VOID : 
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:730:3
+                consumeToken(TokenType.VOID);
+                break;
+            default : 
+                {
+                    pushOntoCallStack("op_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                    728, 3);
+                    throw new ParseException(this, op_type_spec_FIRST_SET, parsingStack.toList());
+                }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:735:1
+    final public
+    /* Production 70 */
+    void parameter_dcls() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "parameter_dcls";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:3
+        consumeToken(TokenType._TOKEN_29);
+        // Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:7
+        if (nextTokenType() == TokenType.IN || nextTokenType == TokenType.OUT || nextTokenType == TokenType.INOUT) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:9
+            pushOntoCallStack("parameter_dcls", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            738, 9);
+            try {
+                param_dcl();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:21
+            while (true) {
+                if (!(nextTokenType() == TokenType._TOKEN_14)) break;
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:23
+                consumeToken(TokenType._TOKEN_14);
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:27
+                pushOntoCallStack("parameter_dcls", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                738, 27);
+                try {
+                    param_dcl();
+                } finally {
+                    popCallStack();
+                }
+            }
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:44
+        consumeToken(TokenType._TOKEN_30);
+    }
+
+    static private final EnumSet<TokenType> param_dcl_FIRST_SET = EnumSet.of(TokenType.IN, 
+    TokenType.OUT, TokenType.INOUT);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:743:1
+    final public
+    /* Production 71 */
+    void param_dcl() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "param_dcl";
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:746:3
+        pushOntoCallStack("param_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        746, 3);
+        try {
+            param_attribute();
+        } finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:746:21
+        pushOntoCallStack("param_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        746, 21);
+        try {
+            param_type_spec();
+        } finally {
+            popCallStack();
+        }
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:746:39
+        pushOntoCallStack("param_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        746, 39);
+        try {
+            simple_declarator();
+        } finally {
+            popCallStack();
+        }
+    }
+
+    static private final EnumSet<TokenType> param_attribute_FIRST_SET = param_dcl_FIRST_SET;
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:751:1
+    final public
+    /* Production 72 */
+    void param_attribute() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "param_attribute";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:754:3
+        if (nextTokenType() == TokenType.IN) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:754:3
+            consumeToken(TokenType.IN);
+        } else if (nextTokenType() == TokenType.OUT) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:756:3
+            consumeToken(TokenType.OUT);
+        } else if (nextTokenType() == TokenType.INOUT) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:758:3
+            consumeToken(TokenType.INOUT);
+        } else {
+            pushOntoCallStack("param_attribute", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            754, 3);
+            throw new ParseException(this, param_attribute_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:763:1
+    final public
+    /* Production 73 */
+    void raises_expr() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "raises_expr";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:3
+        consumeToken(TokenType.RAISES);
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:12
+        consumeToken(TokenType._TOKEN_29);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:16
+        pushOntoCallStack("raises_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        766, 16);
+        try {
+            scoped_name();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:30
+        while (true) {
+            if (!(nextTokenType() == TokenType._TOKEN_14)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:32
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:36
+            pushOntoCallStack("raises_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            766, 36);
+            try {
+                scoped_name();
+            } finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:53
+        consumeToken(TokenType._TOKEN_30);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:771:1
+    final public
+    /* Production 74 */
+    void context_expr() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "context_expr";
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:3
+        consumeToken(TokenType.CONTEXT);
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:13
+        consumeToken(TokenType._TOKEN_29);
+        // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:17
+        pushOntoCallStack("context_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        774, 17);
+        try {
+            string_literal();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:34
+        while (true) {
+            if (!(nextTokenType() == TokenType._TOKEN_14)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:36
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:40
+            pushOntoCallStack("context_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            774, 40);
+            try {
+                string_literal();
+            } finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:60
+        consumeToken(TokenType._TOKEN_30);
+    }
+
+    static private final EnumSet<TokenType> param_type_spec_FIRST_SET = param_type_spec_FIRST_SET_init();
+
+    static private EnumSet<TokenType> param_type_spec_FIRST_SET_init() {
+        return EnumSet.of(TokenType._TOKEN_15, TokenType.FLOAT, TokenType.DOUBLE, TokenType.LONG, 
+        TokenType.SHORT, TokenType.UNSIGNED, TokenType.CHAR, TokenType.BOOLEAN, TokenType.OCTET, 
+        TokenType.ANY, TokenType._TOKEN_52, TokenType.ID);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:779:1
+    final public
+    /* Production 75 */
+    void param_type_spec() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "param_type_spec";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:782:3
+        switch(nextTokenType()) {
+            case FLOAT : case DOUBLE : case LONG : case SHORT : case UNSIGNED : case CHAR : case BOOLEAN : case OCTET : case ANY : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:782:3
+                pushOntoCallStack("param_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                782, 3);
+                try {
+                    base_type_spec();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case _TOKEN_52 : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:784:3
+                pushOntoCallStack("param_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                784, 3);
+                try {
+                    string_type();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case _TOKEN_15 : case ID : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:786:3
+                pushOntoCallStack("param_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                786, 3);
+                try {
+                    scoped_name();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            default : 
+                {
+                    pushOntoCallStack("param_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+                    782, 3);
+                    throw new ParseException(this, param_type_spec_FIRST_SET, parsingStack.toList());
+                }
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:791:1
+    final public
+    /* Definitions of complex regular expressions follow */
+    void identifier() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "identifier";
+        // Code for RegexpRef specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:794:3
+        consumeToken(TokenType.ID);
+    }
+
+    static private final EnumSet<TokenType> integer_literal_FIRST_SET = EnumSet.of(TokenType.OCTALINT, 
+    TokenType.DECIMALINT, TokenType.HEXADECIMALINT);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:797:1
+    final public void integer_literal() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "integer_literal";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:800:3
+        if (nextTokenType() == TokenType.OCTALINT) {
+            // Code for RegexpRef specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:800:3
+            consumeToken(TokenType.OCTALINT);
+        } else if (nextTokenType() == TokenType.DECIMALINT) {
+            // Code for RegexpRef specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:802:3
+            consumeToken(TokenType.DECIMALINT);
+        } else if (nextTokenType() == TokenType.HEXADECIMALINT) {
+            // Code for RegexpRef specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:804:3
+            consumeToken(TokenType.HEXADECIMALINT);
+        } else {
+            pushOntoCallStack("integer_literal", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            800, 3);
+            throw new ParseException(this, integer_literal_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:807:1
+    final public void string_literal() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "string_literal";
+        // Code for RegexpRef specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:810:3
+        consumeToken(TokenType.STRING);
+    }
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:813:1
+    final public void character_literal() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "character_literal";
+        // Code for RegexpRef specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:816:3
+        consumeToken(TokenType.CHARACTER);
+    }
+
+    static private final EnumSet<TokenType> floating_pt_literal_FIRST_SET = EnumSet.of(TokenType.FLOATONE, 
+    TokenType.FLOATTWO);
+
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:819:1
+    final public void floating_pt_literal() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "floating_pt_literal";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:822:3
+        if (nextTokenType() == TokenType.FLOATONE) {
+            // Code for RegexpRef specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:822:3
+            consumeToken(TokenType.FLOATONE);
+        } else if (nextTokenType() == TokenType.FLOATTWO) {
+            // Code for RegexpRef specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:824:3
+            consumeToken(TokenType.FLOATTWO);
+        } else {
+            pushOntoCallStack("floating_pt_literal", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            822, 3);
+            throw new ParseException(this, floating_pt_literal_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> first_set$IDL_javacc$88$5 = specification_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$IDL_javacc$112$31 = specification_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$IDL_javacc$155$5 = interface_body_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$IDL_javacc$253$14 = EnumSet.of(TokenType._TOKEN_21, 
+    TokenType._TOKEN_22);
+    static private final EnumSet<TokenType> first_set$IDL_javacc$253$18 = first_set$IDL_javacc$253$14;
+    static private final EnumSet<TokenType> first_set$IDL_javacc$261$15 = EnumSet.of(TokenType._TOKEN_23, 
+    TokenType._TOKEN_24);
+    static private final EnumSet<TokenType> first_set$IDL_javacc$261$19 = first_set$IDL_javacc$261$15;
+    static private final EnumSet<TokenType> first_set$IDL_javacc$269$16 = EnumSet.of(TokenType._TOKEN_25, 
+    TokenType._TOKEN_26, TokenType._TOKEN_27);
+    static private final EnumSet<TokenType> first_set$IDL_javacc$269$20 = first_set$IDL_javacc$269$16;
+    static private final EnumSet<TokenType> first_set$IDL_javacc$298$3 = literal_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$IDL_javacc$574$5 = type_declarator_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$IDL_javacc$704$34 = type_declarator_FIRST_SET;
+
+    private final boolean scanToken(TokenType expectedType, TokenType...additionalTypes) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type != expectedType) {
+            boolean matched = false;
+            for (TokenType tt : additionalTypes) {
+                if (type == tt) {
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) return false;
+        }
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(EnumSet<TokenType> types) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (!types.contains(type)) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:147:30
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$147$30(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:147:30
+            // NonTerminal inheritance_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:147:30
+            pushOntoLookaheadStack("interface_header", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            147, 30);
+            currentLookaheadProduction = "inheritance_spec";
+            try {
+                if (!check$inheritance_spec(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:155:5
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$155$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:155:5
+            // NonTerminal export at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:155:5
+            pushOntoLookaheadStack("interface_body", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            155, 5);
+            currentLookaheadProduction = "export";
+            try {
+                if (!check$export(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:163:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$163$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:163:3
+            // NonTerminal type_dcl at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:163:3
+            pushOntoLookaheadStack("export", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            163, 3);
+            currentLookaheadProduction = "type_dcl";
+            try {
+                if (!check$type_dcl(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:163:14
+            if (!scanToken(TokenType._TOKEN_8)) return false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:165:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$165$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:165:3
+            // NonTerminal const_dcl at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:165:3
+            pushOntoLookaheadStack("export", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            165, 3);
+            currentLookaheadProduction = "const_dcl";
+            try {
+                if (!check$const_dcl(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:165:15
+            if (!scanToken(TokenType._TOKEN_8)) return false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:167:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$167$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:167:3
+            // NonTerminal except_dcl at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:167:3
+            pushOntoLookaheadStack("export", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            167, 3);
+            currentLookaheadProduction = "except_dcl";
+            try {
+                if (!check$except_dcl(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:167:16
+            if (!scanToken(TokenType._TOKEN_8)) return false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:169:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$169$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:169:3
+            // NonTerminal attr_dcl at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:169:3
+            pushOntoLookaheadStack("export", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            169, 3);
+            currentLookaheadProduction = "attr_dcl";
+            try {
+                if (!check$attr_dcl(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:169:14
+            if (!scanToken(TokenType._TOKEN_8)) return false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:171:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$171$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:171:3
+            // NonTerminal op_dcl at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:171:3
+            pushOntoLookaheadStack("export", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            171, 3);
+            currentLookaheadProduction = "op_dcl";
+            try {
+                if (!check$op_dcl(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:171:12
+            if (!scanToken(TokenType._TOKEN_8)) return false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:23
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$179$23(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:23
+            if (!scanToken(TokenType._TOKEN_14)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:27
+            // NonTerminal scoped_name at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:27
+            pushOntoLookaheadStack("inheritance_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            179, 27);
+            currentLookaheadProduction = "scoped_name";
+            try {
+                if (!check$scoped_name(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:27
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$187$27(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:27
+            if (!scanToken(TokenType._TOKEN_15)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:32
+            if (!scanToken(TokenType.ID)) return false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:203:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$203$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:203:3
+            // NonTerminal integer_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:203:3
+            pushOntoLookaheadStack("const_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            203, 3);
+            currentLookaheadProduction = "integer_type";
+            try {
+                if (!check$integer_type(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:211:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$211$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:211:3
+            // NonTerminal string_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:211:3
+            pushOntoLookaheadStack("const_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            211, 3);
+            currentLookaheadProduction = "string_type";
+            try {
+                if (!check$string_type(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:213:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$213$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:213:3
+            // NonTerminal scoped_name at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:213:3
+            pushOntoLookaheadStack("const_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            213, 3);
+            currentLookaheadProduction = "scoped_name";
+            try {
+                if (!check$scoped_name(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:229:16
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$229$16(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:229:16
+            if (!scanToken(TokenType._TOKEN_18)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:229:20
+            // NonTerminal xor_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:229:20
+            pushOntoLookaheadStack("or_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            229, 20);
+            currentLookaheadProduction = "xor_expr";
+            try {
+                if (!check$xor_expr(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:237:16
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$237$16(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:237:16
+            if (!scanToken(TokenType._TOKEN_19)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:237:20
+            // NonTerminal and_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:237:20
+            pushOntoLookaheadStack("xor_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            237, 20);
+            currentLookaheadProduction = "and_expr";
+            try {
+                if (!check$and_expr(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:245:18
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$245$18(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:245:18
+            if (!scanToken(TokenType._TOKEN_20)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:245:22
+            // NonTerminal shift_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:245:22
+            pushOntoLookaheadStack("and_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            245, 22);
+            currentLookaheadProduction = "shift_expr";
+            try {
+                if (!check$shift_expr(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:16
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$253$16(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:18
+            if (!scanToken(TokenType._TOKEN_21, TokenType._TOKEN_22)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:32
+            // NonTerminal add_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:32
+            pushOntoLookaheadStack("shift_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            253, 32);
+            currentLookaheadProduction = "add_expr";
+            try {
+                if (!check$add_expr(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:17
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$261$17(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:19
+            if (!scanToken(TokenType._TOKEN_23, TokenType._TOKEN_24)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:31
+            // NonTerminal mult_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:31
+            pushOntoLookaheadStack("add_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            261, 31);
+            currentLookaheadProduction = "mult_expr";
+            try {
+                if (!check$mult_expr(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:18
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$269$18(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:20
+            if (!scanToken(TokenType._TOKEN_25, TokenType._TOKEN_26, TokenType._TOKEN_27)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:38
+            // NonTerminal unary_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:38
+            pushOntoLookaheadStack("mult_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            269, 38);
+            currentLookaheadProduction = "unary_expr";
+            try {
+                if (!check$unary_expr(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:296:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$296$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:296:3
+            // NonTerminal scoped_name at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:296:3
+            pushOntoLookaheadStack("primary_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            296, 3);
+            currentLookaheadProduction = "scoped_name";
+            try {
+                if (!check$scoped_name(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:300:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$300$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:300:3
+            if (!scanToken(TokenType._TOKEN_29)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:300:7
+            // NonTerminal const_exp at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:300:7
+            pushOntoLookaheadStack("primary_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            300, 7);
+            currentLookaheadProduction = "const_exp";
+            try {
+                if (!check$const_exp(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:300:19
+            if (!scanToken(TokenType._TOKEN_30)) return false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:342:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$342$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:342:3
+            if (!scanToken(TokenType.TYPEDEF)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:342:13
+            // NonTerminal type_declarator at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:342:13
+            pushOntoLookaheadStack("type_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            342, 13);
+            currentLookaheadProduction = "type_declarator";
+            try {
+                if (!check$type_declarator(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:344:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$344$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:344:3
+            // NonTerminal struct_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:344:3
+            pushOntoLookaheadStack("type_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            344, 3);
+            currentLookaheadProduction = "struct_type";
+            try {
+                if (!check$struct_type(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:346:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$346$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:346:3
+            // NonTerminal union_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:346:3
+            pushOntoLookaheadStack("type_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            346, 3);
+            currentLookaheadProduction = "union_type";
+            try {
+                if (!check$union_type(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:348:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$348$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:348:3
+            // NonTerminal enum_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:348:3
+            pushOntoLookaheadStack("type_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            348, 3);
+            currentLookaheadProduction = "enum_type";
+            try {
+                if (!check$enum_type(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:364:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$364$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:364:3
+            // NonTerminal simple_type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:364:3
+            pushOntoLookaheadStack("type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            364, 3);
+            currentLookaheadProduction = "simple_type_spec";
+            try {
+                if (!check$simple_type_spec(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:366:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$366$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:366:3
+            // NonTerminal constr_type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:366:3
+            pushOntoLookaheadStack("type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            366, 3);
+            currentLookaheadProduction = "constr_type_spec";
+            try {
+                if (!check$constr_type_spec(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:374:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$374$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:374:3
+            // NonTerminal base_type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:374:3
+            pushOntoLookaheadStack("simple_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            374, 3);
+            currentLookaheadProduction = "base_type_spec";
+            try {
+                if (!check$base_type_spec(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:376:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$376$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:376:3
+            // NonTerminal template_type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:376:3
+            pushOntoLookaheadStack("simple_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            376, 3);
+            currentLookaheadProduction = "template_type_spec";
+            try {
+                if (!check$template_type_spec(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:378:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$378$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:378:3
+            // NonTerminal scoped_name at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:378:3
+            pushOntoLookaheadStack("simple_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            378, 3);
+            currentLookaheadProduction = "scoped_name";
+            try {
+                if (!check$scoped_name(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:388:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$388$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:388:3
+            // NonTerminal integer_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:388:3
+            pushOntoLookaheadStack("base_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            388, 3);
+            currentLookaheadProduction = "integer_type";
+            try {
+                if (!check$integer_type(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:404:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$404$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:404:3
+            // NonTerminal sequence_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:404:3
+            pushOntoLookaheadStack("template_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            404, 3);
+            currentLookaheadProduction = "sequence_type";
+            try {
+                if (!check$sequence_type(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:406:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$406$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:406:3
+            // NonTerminal string_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:406:3
+            pushOntoLookaheadStack("template_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            406, 3);
+            currentLookaheadProduction = "string_type";
+            try {
+                if (!check$string_type(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:414:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$414$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:414:3
+            // NonTerminal struct_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:414:3
+            pushOntoLookaheadStack("constr_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            414, 3);
+            currentLookaheadProduction = "struct_type";
+            try {
+                if (!check$struct_type(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:416:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$416$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:416:3
+            // NonTerminal union_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:416:3
+            pushOntoLookaheadStack("constr_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            416, 3);
+            currentLookaheadProduction = "union_type";
+            try {
+                if (!check$union_type(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:418:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$418$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:418:3
+            // NonTerminal enum_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:418:3
+            pushOntoLookaheadStack("constr_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            418, 3);
+            currentLookaheadProduction = "enum_type";
+            try {
+                if (!check$enum_type(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:426:18
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$426$18(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:426:18
+            if (!scanToken(TokenType._TOKEN_14)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:426:22
+            // NonTerminal declarator at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:426:22
+            pushOntoLookaheadStack("declarators", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            426, 22);
+            currentLookaheadProduction = "declarator";
+            try {
+                if (!check$declarator(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:434:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$434$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:435:3
+            // NonTerminal complex_declarator at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:435:3
+            pushOntoLookaheadStack("declarator", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            435, 3);
+            currentLookaheadProduction = "complex_declarator";
+            try {
+                if (!check$complex_declarator(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:473:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$473$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:473:3
+            // NonTerminal unsigned_int at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:473:3
+            pushOntoLookaheadStack("integer_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            473, 3);
+            currentLookaheadProduction = "unsigned_int";
+            try {
+                if (!check$unsigned_int(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:507:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$507$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:508:3
+            // NonTerminal unsigned_long_int at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:508:3
+            pushOntoLookaheadStack("unsigned_int", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            508, 3);
+            currentLookaheadProduction = "unsigned_long_int";
+            try {
+                if (!check$unsigned_long_int(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:510:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$510$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:510:3
+            // NonTerminal unsigned_short_int at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:510:3
+            pushOntoLookaheadStack("unsigned_int", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            510, 3);
+            currentLookaheadProduction = "unsigned_short_int";
+            try {
+                if (!check$unsigned_short_int(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:574:5
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$574$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:574:5
+            // NonTerminal member at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:574:5
+            pushOntoLookaheadStack("member_list", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            574, 5);
+            currentLookaheadProduction = "member";
+            try {
+                if (!check$member(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:598:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$598$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:598:3
+            // NonTerminal integer_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:598:3
+            pushOntoLookaheadStack("switch_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            598, 3);
+            currentLookaheadProduction = "integer_type";
+            try {
+                if (!check$integer_type(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:604:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$604$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:604:3
+            // NonTerminal enum_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:604:3
+            pushOntoLookaheadStack("switch_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            604, 3);
+            currentLookaheadProduction = "enum_type";
+            try {
+                if (!check$enum_type(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:606:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$606$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:606:3
+            // NonTerminal scoped_name at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:606:3
+            pushOntoLookaheadStack("switch_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            606, 3);
+            currentLookaheadProduction = "scoped_name";
+            try {
+                if (!check$scoped_name(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:614:5
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$614$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:614:5
+            // NonTerminal casex at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:614:5
+            pushOntoLookaheadStack("switch_body", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            614, 5);
+            currentLookaheadProduction = "casex";
+            try {
+                if (!check$casex(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:5
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$622$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:5
+            // NonTerminal case_label at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:5
+            pushOntoLookaheadStack("casex", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            622, 5);
+            currentLookaheadProduction = "case_label";
+            try {
+                if (!check$case_label(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:630:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$630$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:630:3
+            if (!scanToken(TokenType.CASE)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:630:10
+            // NonTerminal const_exp at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:630:10
+            pushOntoLookaheadStack("case_label", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            630, 10);
+            currentLookaheadProduction = "const_exp";
+            try {
+                if (!check$const_exp(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:630:22
+            if (!scanToken(TokenType._TOKEN_13)) return false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:632:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$632$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:632:3
+            if (!scanToken(TokenType.DEFAULT)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:632:13
+            if (!scanToken(TokenType._TOKEN_13)) return false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:42
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$648$42(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:42
+            if (!scanToken(TokenType._TOKEN_14)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:46
+            if (!scanToken(TokenType.ID)) return false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:39
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$664$39(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:39
+            if (!scanToken(TokenType._TOKEN_14)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:43
+            // NonTerminal positive_int_const at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:43
+            pushOntoLookaheadStack("sequence_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            664, 43);
+            currentLookaheadProduction = "positive_int_const";
+            try {
+                if (!check$positive_int_const(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:14
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$672$14(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:14
+            if (!scanToken(TokenType._TOKEN_50)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:18
+            // NonTerminal positive_int_const at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:18
+            pushOntoLookaheadStack("string_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            672, 18);
+            currentLookaheadProduction = "positive_int_const";
+            try {
+                if (!check$positive_int_const(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:39
+            if (!scanToken(TokenType._TOKEN_51)) return false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:680:18
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$680$18(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:680:18
+            // NonTerminal fixed_array_size at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:680:18
+            pushOntoLookaheadStack("array_declarator", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            680, 18);
+            currentLookaheadProduction = "fixed_array_size";
+            try {
+                if (!check$fixed_array_size(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:70
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$696$70(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:70
+            if (!scanToken(TokenType._TOKEN_14)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:74
+            if (!scanToken(TokenType.ID)) return false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:34
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$704$34(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:34
+            // NonTerminal member at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:34
+            pushOntoLookaheadStack("except_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            704, 34);
+            currentLookaheadProduction = "member";
+            try {
+                if (!check$member(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:69
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$712$69(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:69
+            // NonTerminal raises_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:69
+            pushOntoLookaheadStack("op_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            712, 69);
+            currentLookaheadProduction = "raises_expr";
+            try {
+                if (!check$raises_expr(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:87
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$712$87(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:87
+            // NonTerminal context_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:87
+            pushOntoLookaheadStack("op_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            712, 87);
+            currentLookaheadProduction = "context_expr";
+            try {
+                if (!check$context_expr(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:728:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$728$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:728:3
+            // NonTerminal param_type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:728:3
+            pushOntoLookaheadStack("op_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            728, 3);
+            currentLookaheadProduction = "param_type_spec";
+            try {
+                if (!check$param_type_spec(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:9
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$738$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:9
+            // NonTerminal param_dcl at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:9
+            pushOntoLookaheadStack("parameter_dcls", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            738, 9);
+            currentLookaheadProduction = "param_dcl";
+            try {
+                if (!check$param_dcl(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:21
+            boolean passedPredicate2140 = passedPredicate;
+            try {
+                while (remainingLookahead > 0 && !hitFailure) {
+                    Token token2141 = currentLookaheadToken;
+                    passedPredicate = false;
+                    if (!check$IDL_javacc$738$23(false)) {
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        currentLookaheadToken = token2141;
+                        break;
+                    }
+                }
+            } finally {
+                passedPredicate = passedPredicate2140;
+            }
+            hitFailure = false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:23
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$738$23(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:23
+            if (!scanToken(TokenType._TOKEN_14)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:27
+            // NonTerminal param_dcl at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:27
+            pushOntoLookaheadStack("parameter_dcls", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            738, 27);
+            currentLookaheadProduction = "param_dcl";
+            try {
+                if (!check$param_dcl(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:32
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$766$32(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:32
+            if (!scanToken(TokenType._TOKEN_14)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:36
+            // NonTerminal scoped_name at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:36
+            pushOntoLookaheadStack("raises_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            766, 36);
+            currentLookaheadProduction = "scoped_name";
+            try {
+                if (!check$scoped_name(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:36
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$774$36(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:36
+            if (!scanToken(TokenType._TOKEN_14)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:40
+            if (!scanToken(TokenType.STRING)) return false;
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:782:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$782$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:782:3
+            // NonTerminal base_type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:782:3
+            pushOntoLookaheadStack("param_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            782, 3);
+            currentLookaheadProduction = "base_type_spec";
+            try {
+                if (!check$base_type_spec(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:784:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$784$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:784:3
+            // NonTerminal string_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:784:3
+            pushOntoLookaheadStack("param_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            784, 3);
+            currentLookaheadProduction = "string_type";
+            try {
+                if (!check$string_type(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/CORBA-IDL/IDL.javacc:786:3
+    // BuildScanRoutine macro
+    private final boolean check$IDL_javacc$786$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:786:3
+            // NonTerminal scoped_name at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:786:3
+            pushOntoLookaheadStack("param_type_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            786, 3);
+            currentLookaheadProduction = "scoped_name";
+            try {
+                if (!check$scoped_name(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:120:3
+    private final boolean scan$IDL_javacc$120$3() {
+        remainingLookahead = 3;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:121:3
+            // NonTerminal interface_dcl at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:121:3
+            pushOntoLookaheadStack("interfacex", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            121, 3);
+            currentLookaheadProduction = "interface_dcl";
+            try {
+                if (!check$interface_dcl(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:434:3
+    private final boolean scan$IDL_javacc$434$3() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:435:3
+            // NonTerminal complex_declarator at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:435:3
+            pushOntoLookaheadStack("declarator", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            435, 3);
+            currentLookaheadProduction = "complex_declarator";
+            try {
+                if (!check$complex_declarator(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:507:3
+    private final boolean scan$IDL_javacc$507$3() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:508:3
+            // NonTerminal unsigned_long_int at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:508:3
+            pushOntoLookaheadStack("unsigned_int", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+            508, 3);
+            currentLookaheadProduction = "unsigned_long_int";
+            try {
+                if (!check$unsigned_long_int(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$interface_dcl(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:131:3
+        // NonTerminal interface_header at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:131:3
+        pushOntoLookaheadStack("interface_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        131, 3);
+        currentLookaheadProduction = "interface_header";
+        try {
+            if (!check$interface_header(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:131:22
+        if (!scanToken(TokenType._TOKEN_10)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:131:26
+        // NonTerminal interface_body at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:131:26
+        pushOntoLookaheadStack("interface_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        131, 26);
+        currentLookaheadProduction = "interface_body";
+        try {
+            if (!check$interface_body(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:131:43
+        if (!scanToken(TokenType._TOKEN_11)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$interface_header(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:147:3
+        if (!scanToken(TokenType.INTERFACE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:147:15
+        if (!scanToken(TokenType.ID)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:147:28
+        Token token2195 = currentLookaheadToken;
+        boolean passedPredicate2195 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$IDL_javacc$147$30(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token2195;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate2195;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$interface_body(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:155:3
+        boolean passedPredicate2198 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token2199 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$155$5(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2199;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2198;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$export(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:163:3
+        Token token2201 = currentLookaheadToken;
+        int remainingLookahead2201 = remainingLookahead;
+        boolean hitFailure2201 = hitFailure, passedPredicate2201 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$163$3(false)) {
+                currentLookaheadToken = token2201;
+                remainingLookahead = remainingLookahead2201;
+                hitFailure = hitFailure2201;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$IDL_javacc$165$3(false)) {
+                    currentLookaheadToken = token2201;
+                    remainingLookahead = remainingLookahead2201;
+                    hitFailure = hitFailure2201;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$IDL_javacc$167$3(false)) {
+                        currentLookaheadToken = token2201;
+                        remainingLookahead = remainingLookahead2201;
+                        hitFailure = hitFailure2201;
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!check$IDL_javacc$169$3(false)) {
+                            currentLookaheadToken = token2201;
+                            remainingLookahead = remainingLookahead2201;
+                            hitFailure = hitFailure2201;
+                            if (passedPredicate && !legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!check$IDL_javacc$171$3(false)) {
+                                currentLookaheadToken = token2201;
+                                remainingLookahead = remainingLookahead2201;
+                                hitFailure = hitFailure2201;
+                                return false;
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2201;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$inheritance_spec(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:3
+        if (!scanToken(TokenType._TOKEN_13)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:7
+        // NonTerminal scoped_name at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:7
+        pushOntoLookaheadStack("inheritance_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        179, 7);
+        currentLookaheadProduction = "scoped_name";
+        try {
+            if (!check$scoped_name(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:179:21
+        boolean passedPredicate2206 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token2207 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$179$23(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2207;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2206;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$scoped_name(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:3
+        Token token2210 = currentLookaheadToken;
+        boolean passedPredicate2210 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!scanToken(TokenType._TOKEN_15)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token2210;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate2210;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:12
+        if (!scanToken(TokenType.ID)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:187:25
+        boolean passedPredicate2213 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token2214 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$187$27(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2214;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2213;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$const_dcl(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:3
+        if (!scanToken(TokenType.CONST)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:11
+        // NonTerminal const_type at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:11
+        pushOntoLookaheadStack("const_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        195, 11);
+        currentLookaheadProduction = "const_type";
+        try {
+            if (!check$const_type(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:24
+        if (!scanToken(TokenType.ID)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:37
+        if (!scanToken(TokenType._TOKEN_17)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:41
+        // NonTerminal const_exp at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:195:41
+        pushOntoLookaheadStack("const_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        195, 41);
+        currentLookaheadProduction = "const_exp";
+        try {
+            if (!check$const_exp(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$const_type(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:203:3
+        Token token2222 = currentLookaheadToken;
+        int remainingLookahead2222 = remainingLookahead;
+        boolean hitFailure2222 = hitFailure, passedPredicate2222 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$203$3(false)) {
+                currentLookaheadToken = token2222;
+                remainingLookahead = remainingLookahead2222;
+                hitFailure = hitFailure2222;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!scanToken(TokenType.CHAR)) {
+                    currentLookaheadToken = token2222;
+                    remainingLookahead = remainingLookahead2222;
+                    hitFailure = hitFailure2222;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!scanToken(TokenType.BOOLEAN)) {
+                        currentLookaheadToken = token2222;
+                        remainingLookahead = remainingLookahead2222;
+                        hitFailure = hitFailure2222;
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!scanToken(TokenType.FLOAT, TokenType.DOUBLE)) {
+                            currentLookaheadToken = token2222;
+                            remainingLookahead = remainingLookahead2222;
+                            hitFailure = hitFailure2222;
+                            if (passedPredicate && !legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!check$IDL_javacc$211$3(false)) {
+                                currentLookaheadToken = token2222;
+                                remainingLookahead = remainingLookahead2222;
+                                hitFailure = hitFailure2222;
+                                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                passedPredicate = false;
+                                if (!check$IDL_javacc$213$3(false)) {
+                                    currentLookaheadToken = token2222;
+                                    remainingLookahead = remainingLookahead2222;
+                                    hitFailure = hitFailure2222;
+                                    return false;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2222;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$const_exp(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:221:3
+        // NonTerminal or_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:221:3
+        pushOntoLookaheadStack("const_exp", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        221, 3);
+        currentLookaheadProduction = "or_expr";
+        try {
+            if (!check$or_expr(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$or_expr(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:229:3
+        // NonTerminal xor_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:229:3
+        pushOntoLookaheadStack("or_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        229, 3);
+        currentLookaheadProduction = "xor_expr";
+        try {
+            if (!check$xor_expr(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:229:14
+        boolean passedPredicate2228 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token2229 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$229$16(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2229;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2228;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$xor_expr(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:237:3
+        // NonTerminal and_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:237:3
+        pushOntoLookaheadStack("xor_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        237, 3);
+        currentLookaheadProduction = "and_expr";
+        try {
+            if (!check$and_expr(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:237:14
+        boolean passedPredicate2233 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token2234 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$237$16(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2234;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2233;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$and_expr(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:245:3
+        // NonTerminal shift_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:245:3
+        pushOntoLookaheadStack("and_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        245, 3);
+        currentLookaheadProduction = "shift_expr";
+        try {
+            if (!check$shift_expr(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:245:16
+        boolean passedPredicate2238 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token2239 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$245$18(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2239;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2238;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$shift_expr(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:3
+        // NonTerminal add_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:3
+        pushOntoLookaheadStack("shift_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        253, 3);
+        currentLookaheadProduction = "add_expr";
+        try {
+            if (!check$add_expr(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:253:14
+        boolean passedPredicate2243 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token2244 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$253$16(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2244;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2243;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$add_expr(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:3
+        // NonTerminal mult_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:3
+        pushOntoLookaheadStack("add_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        261, 3);
+        currentLookaheadProduction = "mult_expr";
+        try {
+            if (!check$mult_expr(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:261:15
+        boolean passedPredicate2248 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token2249 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$261$17(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2249;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2248;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$mult_expr(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:3
+        // NonTerminal unary_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:3
+        pushOntoLookaheadStack("mult_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        269, 3);
+        currentLookaheadProduction = "unary_expr";
+        try {
+            if (!check$unary_expr(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:269:16
+        boolean passedPredicate2253 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token2254 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$269$18(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2254;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2253;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$unary_expr(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:277:3
+        Token token2257 = currentLookaheadToken;
+        boolean passedPredicate2257 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!scanToken(TokenType._TOKEN_23, TokenType._TOKEN_24, TokenType._TOKEN_28)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token2257;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate2257;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:277:24
+        // NonTerminal primary_expr at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:277:24
+        pushOntoLookaheadStack("unary_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        277, 24);
+        currentLookaheadProduction = "primary_expr";
+        try {
+            if (!check$primary_expr(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$primary_expr(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:296:3
+        Token token2261 = currentLookaheadToken;
+        int remainingLookahead2261 = remainingLookahead;
+        boolean hitFailure2261 = hitFailure, passedPredicate2261 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$296$3(false)) {
+                currentLookaheadToken = token2261;
+                remainingLookahead = remainingLookahead2261;
+                hitFailure = hitFailure2261;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!scanToken(first_set$IDL_javacc$298$3)) {
+                    currentLookaheadToken = token2261;
+                    remainingLookahead = remainingLookahead2261;
+                    hitFailure = hitFailure2261;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$IDL_javacc$300$3(false)) {
+                        currentLookaheadToken = token2261;
+                        remainingLookahead = remainingLookahead2261;
+                        hitFailure = hitFailure2261;
+                        return false;
+                    }
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2261;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$positive_int_const(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:334:3
+        // NonTerminal const_exp at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:334:3
+        pushOntoLookaheadStack("positive_int_const", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        334, 3);
+        currentLookaheadProduction = "const_exp";
+        try {
+            if (!check$const_exp(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$type_dcl(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:342:3
+        Token token2267 = currentLookaheadToken;
+        int remainingLookahead2267 = remainingLookahead;
+        boolean hitFailure2267 = hitFailure, passedPredicate2267 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$342$3(false)) {
+                currentLookaheadToken = token2267;
+                remainingLookahead = remainingLookahead2267;
+                hitFailure = hitFailure2267;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$IDL_javacc$344$3(false)) {
+                    currentLookaheadToken = token2267;
+                    remainingLookahead = remainingLookahead2267;
+                    hitFailure = hitFailure2267;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$IDL_javacc$346$3(false)) {
+                        currentLookaheadToken = token2267;
+                        remainingLookahead = remainingLookahead2267;
+                        hitFailure = hitFailure2267;
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!check$IDL_javacc$348$3(false)) {
+                            currentLookaheadToken = token2267;
+                            remainingLookahead = remainingLookahead2267;
+                            hitFailure = hitFailure2267;
+                            return false;
+                        }
+                    }
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2267;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$type_declarator(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:356:3
+        // NonTerminal type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:356:3
+        pushOntoLookaheadStack("type_declarator", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        356, 3);
+        currentLookaheadProduction = "type_spec";
+        try {
+            if (!check$type_spec(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:356:15
+        // NonTerminal declarators at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:356:15
+        pushOntoLookaheadStack("type_declarator", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        356, 15);
+        currentLookaheadProduction = "declarators";
+        try {
+            if (!check$declarators(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$type_spec(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:364:3
+        Token token2272 = currentLookaheadToken;
+        int remainingLookahead2272 = remainingLookahead;
+        boolean hitFailure2272 = hitFailure, passedPredicate2272 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$364$3(false)) {
+                currentLookaheadToken = token2272;
+                remainingLookahead = remainingLookahead2272;
+                hitFailure = hitFailure2272;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$IDL_javacc$366$3(false)) {
+                    currentLookaheadToken = token2272;
+                    remainingLookahead = remainingLookahead2272;
+                    hitFailure = hitFailure2272;
+                    return false;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2272;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$simple_type_spec(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:374:3
+        Token token2274 = currentLookaheadToken;
+        int remainingLookahead2274 = remainingLookahead;
+        boolean hitFailure2274 = hitFailure, passedPredicate2274 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$374$3(false)) {
+                currentLookaheadToken = token2274;
+                remainingLookahead = remainingLookahead2274;
+                hitFailure = hitFailure2274;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$IDL_javacc$376$3(false)) {
+                    currentLookaheadToken = token2274;
+                    remainingLookahead = remainingLookahead2274;
+                    hitFailure = hitFailure2274;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$IDL_javacc$378$3(false)) {
+                        currentLookaheadToken = token2274;
+                        remainingLookahead = remainingLookahead2274;
+                        hitFailure = hitFailure2274;
+                        return false;
+                    }
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2274;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$base_type_spec(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:386:3
+        Token token2276 = currentLookaheadToken;
+        int remainingLookahead2276 = remainingLookahead;
+        boolean hitFailure2276 = hitFailure, passedPredicate2276 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!scanToken(TokenType.FLOAT, TokenType.DOUBLE)) {
+                currentLookaheadToken = token2276;
+                remainingLookahead = remainingLookahead2276;
+                hitFailure = hitFailure2276;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$IDL_javacc$388$3(false)) {
+                    currentLookaheadToken = token2276;
+                    remainingLookahead = remainingLookahead2276;
+                    hitFailure = hitFailure2276;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!scanToken(TokenType.CHAR)) {
+                        currentLookaheadToken = token2276;
+                        remainingLookahead = remainingLookahead2276;
+                        hitFailure = hitFailure2276;
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!scanToken(TokenType.BOOLEAN)) {
+                            currentLookaheadToken = token2276;
+                            remainingLookahead = remainingLookahead2276;
+                            hitFailure = hitFailure2276;
+                            if (passedPredicate && !legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!scanToken(TokenType.OCTET)) {
+                                currentLookaheadToken = token2276;
+                                remainingLookahead = remainingLookahead2276;
+                                hitFailure = hitFailure2276;
+                                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                passedPredicate = false;
+                                if (!scanToken(TokenType.ANY)) {
+                                    currentLookaheadToken = token2276;
+                                    remainingLookahead = remainingLookahead2276;
+                                    hitFailure = hitFailure2276;
+                                    return false;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2276;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$template_type_spec(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:404:3
+        Token token2278 = currentLookaheadToken;
+        int remainingLookahead2278 = remainingLookahead;
+        boolean hitFailure2278 = hitFailure, passedPredicate2278 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$404$3(false)) {
+                currentLookaheadToken = token2278;
+                remainingLookahead = remainingLookahead2278;
+                hitFailure = hitFailure2278;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$IDL_javacc$406$3(false)) {
+                    currentLookaheadToken = token2278;
+                    remainingLookahead = remainingLookahead2278;
+                    hitFailure = hitFailure2278;
+                    return false;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2278;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$constr_type_spec(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:414:3
+        Token token2280 = currentLookaheadToken;
+        int remainingLookahead2280 = remainingLookahead;
+        boolean hitFailure2280 = hitFailure, passedPredicate2280 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$414$3(false)) {
+                currentLookaheadToken = token2280;
+                remainingLookahead = remainingLookahead2280;
+                hitFailure = hitFailure2280;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$IDL_javacc$416$3(false)) {
+                    currentLookaheadToken = token2280;
+                    remainingLookahead = remainingLookahead2280;
+                    hitFailure = hitFailure2280;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$IDL_javacc$418$3(false)) {
+                        currentLookaheadToken = token2280;
+                        remainingLookahead = remainingLookahead2280;
+                        hitFailure = hitFailure2280;
+                        return false;
+                    }
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2280;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$declarators(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:426:3
+        // NonTerminal declarator at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:426:3
+        pushOntoLookaheadStack("declarators", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        426, 3);
+        currentLookaheadProduction = "declarator";
+        try {
+            if (!check$declarator(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:426:16
+        boolean passedPredicate2284 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token2285 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$426$18(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2285;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2284;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$declarator(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:434:3
+        Token token2287 = currentLookaheadToken;
+        int remainingLookahead2287 = remainingLookahead;
+        boolean hitFailure2287 = hitFailure, passedPredicate2287 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$434$3(false)) {
+                currentLookaheadToken = token2287;
+                remainingLookahead = remainingLookahead2287;
+                hitFailure = hitFailure2287;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!scanToken(TokenType.ID)) {
+                    currentLookaheadToken = token2287;
+                    remainingLookahead = remainingLookahead2287;
+                    hitFailure = hitFailure2287;
+                    return false;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2287;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$complex_declarator(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:453:3
+        // NonTerminal array_declarator at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:453:3
+        pushOntoLookaheadStack("complex_declarator", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        453, 3);
+        currentLookaheadProduction = "array_declarator";
+        try {
+            if (!check$array_declarator(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$integer_type(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:471:3
+        Token token2293 = currentLookaheadToken;
+        int remainingLookahead2293 = remainingLookahead;
+        boolean hitFailure2293 = hitFailure, passedPredicate2293 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!scanToken(TokenType.LONG, TokenType.SHORT)) {
+                currentLookaheadToken = token2293;
+                remainingLookahead = remainingLookahead2293;
+                hitFailure = hitFailure2293;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$IDL_javacc$473$3(false)) {
+                    currentLookaheadToken = token2293;
+                    remainingLookahead = remainingLookahead2293;
+                    hitFailure = hitFailure2293;
+                    return false;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2293;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$unsigned_int(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:507:3
+        Token token2298 = currentLookaheadToken;
+        int remainingLookahead2298 = remainingLookahead;
+        boolean hitFailure2298 = hitFailure, passedPredicate2298 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$507$3(false)) {
+                currentLookaheadToken = token2298;
+                remainingLookahead = remainingLookahead2298;
+                hitFailure = hitFailure2298;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$IDL_javacc$510$3(false)) {
+                    currentLookaheadToken = token2298;
+                    remainingLookahead = remainingLookahead2298;
+                    hitFailure = hitFailure2298;
+                    return false;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2298;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$unsigned_long_int(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:518:3
+        if (!scanToken(TokenType.UNSIGNED)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:518:14
+        if (!scanToken(TokenType.LONG)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$unsigned_short_int(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:526:3
+        if (!scanToken(TokenType.UNSIGNED)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:526:14
+        if (!scanToken(TokenType.SHORT)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$struct_type(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:566:3
+        if (!scanToken(TokenType.STRUCT)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:566:12
+        if (!scanToken(TokenType.ID)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:566:25
+        if (!scanToken(TokenType._TOKEN_10)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:566:29
+        // NonTerminal member_list at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:566:29
+        pushOntoLookaheadStack("struct_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        566, 29);
+        currentLookaheadProduction = "member_list";
+        try {
+            if (!check$member_list(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:566:43
+        if (!scanToken(TokenType._TOKEN_11)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$member_list(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for OneOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:574:3
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:574:5
+        // NonTerminal member at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:574:5
+        pushOntoLookaheadStack("member_list", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        574, 5);
+        currentLookaheadProduction = "member";
+        try {
+            if (!check$member(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        boolean passedPredicate2319 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token2320 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$574$5(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2320;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2319;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$member(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:582:3
+        // NonTerminal type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:582:3
+        pushOntoLookaheadStack("member", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        582, 3);
+        currentLookaheadProduction = "type_spec";
+        try {
+            if (!check$type_spec(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:582:15
+        // NonTerminal declarators at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:582:15
+        pushOntoLookaheadStack("member", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        582, 15);
+        currentLookaheadProduction = "declarators";
+        try {
+            if (!check$declarators(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:582:29
+        if (!scanToken(TokenType._TOKEN_8)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$union_type(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:3
+        if (!scanToken(TokenType.UNION)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:11
+        if (!scanToken(TokenType.ID)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:24
+        if (!scanToken(TokenType.SWITCH)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:33
+        if (!scanToken(TokenType._TOKEN_29)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:37
+        // NonTerminal switch_type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:37
+        pushOntoLookaheadStack("union_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        590, 37);
+        currentLookaheadProduction = "switch_type_spec";
+        try {
+            if (!check$switch_type_spec(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:56
+        if (!scanToken(TokenType._TOKEN_30)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:60
+        if (!scanToken(TokenType._TOKEN_10)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:64
+        // NonTerminal switch_body at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:64
+        pushOntoLookaheadStack("union_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        590, 64);
+        currentLookaheadProduction = "switch_body";
+        try {
+            if (!check$switch_body(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:590:78
+        if (!scanToken(TokenType._TOKEN_11)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$switch_type_spec(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:598:3
+        Token token2336 = currentLookaheadToken;
+        int remainingLookahead2336 = remainingLookahead;
+        boolean hitFailure2336 = hitFailure, passedPredicate2336 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$598$3(false)) {
+                currentLookaheadToken = token2336;
+                remainingLookahead = remainingLookahead2336;
+                hitFailure = hitFailure2336;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!scanToken(TokenType.CHAR)) {
+                    currentLookaheadToken = token2336;
+                    remainingLookahead = remainingLookahead2336;
+                    hitFailure = hitFailure2336;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!scanToken(TokenType.BOOLEAN)) {
+                        currentLookaheadToken = token2336;
+                        remainingLookahead = remainingLookahead2336;
+                        hitFailure = hitFailure2336;
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!check$IDL_javacc$604$3(false)) {
+                            currentLookaheadToken = token2336;
+                            remainingLookahead = remainingLookahead2336;
+                            hitFailure = hitFailure2336;
+                            if (passedPredicate && !legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!check$IDL_javacc$606$3(false)) {
+                                currentLookaheadToken = token2336;
+                                remainingLookahead = remainingLookahead2336;
+                                hitFailure = hitFailure2336;
+                                return false;
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2336;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$switch_body(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for OneOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:614:3
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:614:5
+        // NonTerminal casex at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:614:5
+        pushOntoLookaheadStack("switch_body", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        614, 5);
+        currentLookaheadProduction = "casex";
+        try {
+            if (!check$casex(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        boolean passedPredicate2341 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token2342 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$614$5(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2342;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2341;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$casex(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for OneOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:3
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:5
+        // NonTerminal case_label at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:5
+        pushOntoLookaheadStack("casex", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        622, 5);
+        currentLookaheadProduction = "case_label";
+        try {
+            if (!check$case_label(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        boolean passedPredicate2347 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token2348 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$622$5(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2348;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2347;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:21
+        // NonTerminal element_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:21
+        pushOntoLookaheadStack("casex", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        622, 21);
+        currentLookaheadProduction = "element_spec";
+        try {
+            if (!check$element_spec(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:622:36
+        if (!scanToken(TokenType._TOKEN_8)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$case_label(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:630:3
+        Token token2352 = currentLookaheadToken;
+        int remainingLookahead2352 = remainingLookahead;
+        boolean hitFailure2352 = hitFailure, passedPredicate2352 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$630$3(false)) {
+                currentLookaheadToken = token2352;
+                remainingLookahead = remainingLookahead2352;
+                hitFailure = hitFailure2352;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$IDL_javacc$632$3(false)) {
+                    currentLookaheadToken = token2352;
+                    remainingLookahead = remainingLookahead2352;
+                    hitFailure = hitFailure2352;
+                    return false;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2352;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$element_spec(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:640:3
+        // NonTerminal type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:640:3
+        pushOntoLookaheadStack("element_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        640, 3);
+        currentLookaheadProduction = "type_spec";
+        try {
+            if (!check$type_spec(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:640:15
+        // NonTerminal declarator at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:640:15
+        pushOntoLookaheadStack("element_spec", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        640, 15);
+        currentLookaheadProduction = "declarator";
+        try {
+            if (!check$declarator(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$enum_type(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:3
+        if (!scanToken(TokenType.ENUM)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:10
+        if (!scanToken(TokenType.ID)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:23
+        if (!scanToken(TokenType._TOKEN_10)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:27
+        if (!scanToken(TokenType.ID)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:40
+        boolean passedPredicate2362 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token2363 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$648$42(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2363;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2362;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:648:62
+        if (!scanToken(TokenType._TOKEN_11)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$sequence_type(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:3
+        if (!scanToken(TokenType.SEQUENCE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:14
+        if (!scanToken(TokenType._TOKEN_50)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:18
+        // NonTerminal simple_type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:18
+        pushOntoLookaheadStack("sequence_type", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        664, 18);
+        currentLookaheadProduction = "simple_type_spec";
+        try {
+            if (!check$simple_type_spec(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:37
+        Token token2371 = currentLookaheadToken;
+        boolean passedPredicate2371 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$IDL_javacc$664$39(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token2371;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate2371;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:664:66
+        if (!scanToken(TokenType._TOKEN_51)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$string_type(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:3
+        if (!scanToken(TokenType._TOKEN_52)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:672:12
+        Token token2376 = currentLookaheadToken;
+        boolean passedPredicate2376 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$IDL_javacc$672$14(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token2376;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate2376;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$array_declarator(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:680:3
+        if (!scanToken(TokenType.ID)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for OneOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:680:16
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:680:18
+        // NonTerminal fixed_array_size at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:680:18
+        pushOntoLookaheadStack("array_declarator", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        680, 18);
+        currentLookaheadProduction = "fixed_array_size";
+        try {
+            if (!check$fixed_array_size(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        boolean passedPredicate2382 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token2383 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$680$18(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2383;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2382;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$fixed_array_size(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:688:3
+        if (!scanToken(TokenType._TOKEN_53)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:688:7
+        // NonTerminal positive_int_const at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:688:7
+        pushOntoLookaheadStack("fixed_array_size", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        688, 7);
+        currentLookaheadProduction = "positive_int_const";
+        try {
+            if (!check$positive_int_const(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:688:28
+        if (!scanToken(TokenType._TOKEN_54)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$attr_dcl(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:3
+        Token token2390 = currentLookaheadToken;
+        boolean passedPredicate2390 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!scanToken(TokenType.READONLY)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token2390;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate2390;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:18
+        if (!scanToken(TokenType.ATTRIBUTE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:30
+        // NonTerminal param_type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:30
+        pushOntoLookaheadStack("attr_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        696, 30);
+        currentLookaheadProduction = "param_type_spec";
+        try {
+            if (!check$param_type_spec(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:48
+        if (!scanToken(TokenType.ID)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:696:68
+        boolean passedPredicate2395 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token2396 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$696$70(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2396;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2395;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$except_dcl(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:3
+        if (!scanToken(TokenType.EXCEPTION)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:15
+        if (!scanToken(TokenType.ID)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:28
+        if (!scanToken(TokenType._TOKEN_10)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:32
+        boolean passedPredicate2402 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token2403 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$704$34(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2403;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2402;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:704:46
+        if (!scanToken(TokenType._TOKEN_11)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$op_dcl(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:3
+        Token token2407 = currentLookaheadToken;
+        boolean passedPredicate2407 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!scanToken(TokenType.ONEWAY)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token2407;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate2407;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:22
+        // NonTerminal op_type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:22
+        pushOntoLookaheadStack("op_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        712, 22);
+        currentLookaheadProduction = "op_type_spec";
+        try {
+            if (!check$op_type_spec(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:37
+        if (!scanToken(TokenType.ID)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:50
+        // NonTerminal parameter_dcls at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:50
+        pushOntoLookaheadStack("op_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        712, 50);
+        currentLookaheadProduction = "parameter_dcls";
+        try {
+            if (!check$parameter_dcls(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:67
+        Token token2412 = currentLookaheadToken;
+        boolean passedPredicate2412 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$IDL_javacc$712$69(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token2412;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate2412;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:712:85
+        Token token2414 = currentLookaheadToken;
+        boolean passedPredicate2414 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$IDL_javacc$712$87(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token2414;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate2414;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$op_type_spec(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:728:3
+        Token token2417 = currentLookaheadToken;
+        int remainingLookahead2417 = remainingLookahead;
+        boolean hitFailure2417 = hitFailure, passedPredicate2417 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$728$3(false)) {
+                currentLookaheadToken = token2417;
+                remainingLookahead = remainingLookahead2417;
+                hitFailure = hitFailure2417;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!scanToken(TokenType.VOID)) {
+                    currentLookaheadToken = token2417;
+                    remainingLookahead = remainingLookahead2417;
+                    hitFailure = hitFailure2417;
+                    return false;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2417;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$parameter_dcls(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:3
+        if (!scanToken(TokenType._TOKEN_29)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:7
+        Token token2421 = currentLookaheadToken;
+        boolean passedPredicate2421 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$IDL_javacc$738$9(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token2421;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate2421;
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:738:44
+        if (!scanToken(TokenType._TOKEN_30)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$param_dcl(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:746:3
+        if (!scanToken(TokenType.IN, TokenType.OUT, TokenType.INOUT)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:746:21
+        // NonTerminal param_type_spec at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:746:21
+        pushOntoLookaheadStack("param_dcl", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        746, 21);
+        currentLookaheadProduction = "param_type_spec";
+        try {
+            if (!check$param_type_spec(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:746:39
+        if (!scanToken(TokenType.ID)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$raises_expr(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:3
+        if (!scanToken(TokenType.RAISES)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:12
+        if (!scanToken(TokenType._TOKEN_29)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:16
+        // NonTerminal scoped_name at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:16
+        pushOntoLookaheadStack("raises_expr", "/root/project/examples/legacy/CORBA-IDL/IDL.javacc", 
+        766, 16);
+        currentLookaheadProduction = "scoped_name";
+        try {
+            if (!check$scoped_name(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:30
+        boolean passedPredicate2433 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token2434 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$766$32(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2434;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2433;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:766:53
+        if (!scanToken(TokenType._TOKEN_30)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$context_expr(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:3
+        if (!scanToken(TokenType.CONTEXT)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:13
+        if (!scanToken(TokenType._TOKEN_29)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:17
+        if (!scanToken(TokenType.STRING)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:34
+        boolean passedPredicate2441 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token2442 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$IDL_javacc$774$36(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token2442;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2441;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:774:60
+        if (!scanToken(TokenType._TOKEN_30)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$param_type_spec(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/CORBA-IDL/IDL.javacc:782:3
+        Token token2445 = currentLookaheadToken;
+        int remainingLookahead2445 = remainingLookahead;
+        boolean hitFailure2445 = hitFailure, passedPredicate2445 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$IDL_javacc$782$3(false)) {
+                currentLookaheadToken = token2445;
+                remainingLookahead = remainingLookahead2445;
+                hitFailure = hitFailure2445;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$IDL_javacc$784$3(false)) {
+                    currentLookaheadToken = token2445;
+                    remainingLookahead = remainingLookahead2445;
+                    hitFailure = hitFailure2445;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$IDL_javacc$786$3(false)) {
+                        currentLookaheadToken = token2445;
+                        remainingLookahead = remainingLookahead2445;
+                        hitFailure = hitFailure2445;
+                        return false;
+                    }
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate2445;
+        }
+        return true;
+    }
+
+    CallStack parsingStack = new CallStack();
+    private CallStack lookaheadStack = new CallStack();
+
+    /**
+    * Inner class that represents entering a grammar production
+    */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile = sourceFile;
+            this.productionName = productionName;
+            this.line = line;
+            this.column = column;
+        }
+
+        final IDLLexer getTokenSource() {
+            return IDLParser.this.token_source;
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("IDLParser", productionName, sourceFile, line);
+        }
+
+        void dump(PrintStream ps) {
+            ps.println(productionName + ":" + line + ":" + column);
+        }
+
+    }
+
+
+    /**
+    * A stack of calls to grammar productions, kept in parallel arrays
+    * so that entering a production does not allocate anything.
+    * The NonTerminalCall objects are only created when they are needed,
+    * i.e. for a ParseException. The production names and source files
+    * are always string literals, so we just hold onto the references.
+    */
+    class CallStack {
+        private String[] productionNames = new String[16], sourceFiles = new String[16];
+        private int[] lines = new int[16], columns = new int[16];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void push(String productionName, String sourceFile, int line, int column) {
+            if (size == lines.length) {
+                int newCapacity = size * 2;
+                productionNames = Arrays.copyOf(productionNames, newCapacity);
+                sourceFiles = Arrays.copyOf(sourceFiles, newCapacity);
+                lines = Arrays.copyOf(lines, newCapacity);
+                columns = Arrays.copyOf(columns, newCapacity);
+            }
+            productionNames[size] = productionName;
+            sourceFiles[size] = sourceFile;
+            lines[size] = line;
+            columns[size] = column;
+            ++size;
+        }
+
+        /**
+        * Removes the top entry, which can still be read
+        * until something else is pushed.
+        * @return the index of the entry removed
+        */
+        int pop() {
+            return --size;
+        }
+
+        String getProductionName(int index) {
+            return productionNames[index];
+        }
+
+        NonTerminalCall get(int index) {
+            return new NonTerminalCall(sourceFiles[index], productionNames[index], lines[index], 
+            columns[index]);
+        }
+
+        java.util.List<NonTerminalCall> toList() {
+            java.util.List<NonTerminalCall> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(get(i));
+            }
+            return result;
+        }
+
+        /**
+        * Pops everything above the given size. The entries
+        * below that are still there, since they are never
+        * overwritten until they are popped.
+        */
+        void truncate(int size) {
+            this.size = size;
+        }
+
+        void dump(PrintStream ps) {
+            for (int i = size - 1; i >= 0; i--) {
+                ps.println(productionNames[i] + ":" + lines[i] + ":" + columns[i]);
+            }
+        }
+
+    }
+
+
+    private final void pushOntoCallStack(String methodName, String fileName, int line, int column) {
+        parsingStack.push(methodName, fileName, line, column);
+    }
+
+    private final void popCallStack() {
+        int top = parsingStack.pop();
+        this.currentlyParsedProduction = parsingStack.getProductionName(top);
+    }
+
+
+    /**
+    * Iterates over the names of the productions on the parsing stack
+    * and then the lookahead stack, i.e. from the bottom to the top,
+    * or the other way round if it is backward.
+    */
+    private class CallStackIterator implements java.util.ListIterator<String> {
+        private final boolean backward;
+        private int index;
+
+        CallStackIterator(boolean backward) {
+            this.backward = backward;
+            if (backward) index = parsingStack.size() + lookaheadStack.size();
+        }
+
+        private String get(int i) {
+            int parsingStackSize = parsingStack.size();
+            return i < parsingStackSize ? parsingStack.getProductionName(i) : lookaheadStack.getProductionName(i - parsingStackSize);
+        }
+
+        public boolean hasNext() {
+            return backward ? index > 0 : index < parsingStack.size() + lookaheadStack.size();
+        }
+
+        public String next() {
+            if (!hasNext()) throw new java.util.NoSuchElementException();
+            return backward ? get(--index) : get(index++);
+        }
+
+        public boolean hasPrevious() {
+            return backward ? index < parsingStack.size() + lookaheadStack.size() : index > 0;
+        }
+
+        public String previous() {
+            if (!hasPrevious()) throw new java.util.NoSuchElementException();
+            return backward ? get(index++) : get(--index);
+        }
+
+        public void add(String productionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void set(String productionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        public int previousIndex() {
+            throw new UnsupportedOperationException();
+        }
+
+        public int nextIndex() {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+
+    private final void pushOntoLookaheadStack(String methodName, String fileName, int line, 
+    int column) {
+        lookaheadStack.push(methodName, fileName, line, column);
+    }
+
+    private final void popLookaheadStack() {
+        int top = lookaheadStack.pop();
+        this.currentLookaheadProduction = lookaheadStack.getProductionName(top);
+    }
+
+    void dumpLookaheadStack(PrintStream ps) {
+        lookaheadStack.dump(ps);
+    }
+
+    void dumpCallStack(PrintStream ps) {
+        parsingStack.dump(ps);
+    }
+
+    void dumpLookaheadCallStack(PrintStream ps) {
+        ps.println("Current Parser Production is: " + currentlyParsedProduction);
+        ps.println("Current Lookahead Production is: " + currentLookaheadProduction);
+        ps.println("---Lookahead Stack---");
+        dumpLookaheadStack(ps);
+        ps.println("---Call Stack---");
+        dumpCallStack(ps);
+    }
+
+    public boolean isParserTolerant() {
+        return false;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    private Token consumeToken(TokenType expectedType) {
+        Token nextToken = nextToken(lastConsumedToken);
+        if (nextToken.getType() != expectedType) {
+            nextToken = handleUnexpectedTokenType(expectedType, nextToken);
+        }
+        this.lastConsumedToken = nextToken;
+        this.nextTokenType = null;
+        return lastConsumedToken;
+    }
+
+    private Token handleUnexpectedTokenType(TokenType expectedType, Token nextToken) {
+        throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+    }
+
+
+    /**
+    * The state we go back to if an ATTEMPT fails. Stashing this is O(1).
+    * Everything on the parsing stack at this point is still there
+    * when we backtrack, since the code in the ATTEMPT only pops
+    * what it pushes, so we just need the size of the stack.
+    * Likewise, we hold onto the current node scope and the changes
+    * to the node scopes after this point are logged so that
+    * we can undo them.
+    */
+    private class ParseState {
+        Token lastConsumed;
+        int parsingStackSize;
+
+        ParseState() {
+            this.lastConsumed = IDLParser.this.lastConsumedToken;
+            this.parsingStackSize = IDLParser.this.parsingStack.size();
+        }
+
+    }
+
+    private ArrayList<ParseState> parseStateStack = new ArrayList<>();
+
+    public boolean isTreeBuildingEnabled() {
+        return false;
+    }
+
+}
+
@@ -0,0 +1,19 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for BitwiseComplNode AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class BitwiseComplNode extends SimpleNode {
+
+    public void interpret() {
+        getChild(1).interpret();
+        stack[top] = ~(Integer) stack[top];
+    }
+
+    public void accept(SPLVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,31 @@
+import java.util.*;
+
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for CompilationUnit AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class CompilationUnit extends SimpleNode {
+
+    public void interpret() {
+        for (int i = 0; i < getChildCount(); i++) {
+            System.out.print("Executing:");
+            Node child = getChild(i);
+            for (Token t : child.descendants(Token.class)) {
+                System.out.print(" ");
+                System.out.print(t);
+            }
+            System.out.println();
+            if (!(child instanceof Token)) {
+                child.interpret();
+            }
+        }
+    }
+
+    public void accept(SPLVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
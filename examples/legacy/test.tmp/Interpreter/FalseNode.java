@@ -0,0 +1,18 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for FalseNode AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class FalseNode extends SimpleNode {
+
+    public void interpret() {
+        stack[++top] = Boolean.FALSE;
+    }
+
+    public void accept(SPLVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
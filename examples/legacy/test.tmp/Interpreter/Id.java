@@ -0,0 +1,19 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for Id AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class Id extends SimpleNode {
+    String name;
+
+    public void interpret() {
+        stack[++top] = symtab.get(name);
+    }
+
+    public void accept(SPLVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
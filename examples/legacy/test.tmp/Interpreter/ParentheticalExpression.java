@@ -0,0 +1,18 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for ParentheticalExpression AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class ParentheticalExpression extends SimpleNode {
+
+    public void interpret() {
+        getChild(1).interpret();
+    }
+
+    public void accept(SPLVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,512 @@
+/* Generated by: JavaCC 21 Parser Generator. SPLNfaData.java */
+import java.util.EnumSet;
+import java.util.BitSet;
+import java.util.Arrays;
+
+
+/**
+* Holder class for the data used by SPLLexer
+* to do the NFA thang
+*/
+class SPLNfaData implements SPLConstants {
+
+    // The functional interface that represents
+    // the acceptance method of an NFA state
+    static interface NfaFunction {
+
+        TokenType apply(int ch, BitSet bs, EnumSet<TokenType> validTypes);
+
+    }
+
+    // All the tables here are built once, when the class is initialized,
+    // and never modified after that, so they can be shared by any number
+    // of lexers running on different threads.
+    static private final NfaFunction[] nfaFunctions = DEFAULT.NFA_FUNCTIONS_init();
+
+    // This data holder class is never instantiated
+    private SPLNfaData() {
+    }
+
+    /**
+    * @param the lexical state
+    * @return the table of function pointers that implement the lexical state
+    */
+    static final NfaFunction[] getFunctionTableMap(LexicalState lexicalState) {
+        // We only have one lexical state in this case, so we return that!
+        return nfaFunctions;
+    }
+
+    // The larger tables are stored as (count, value) pairs
+    private static int[] decodeRuns(int[] runs) {
+        int size = 0;
+        for (int i = 0; i < runs.length; i += 2) {
+            size += runs[i];
+        }
+        int[] result = new int[size];
+        int index = 0;
+        for (int i = 0; i < runs.length; i += 2) {
+            Arrays.fill(result, index, index + runs[i], runs[i + 1]);
+            index += runs[i];
+        }
+        return result;
+    }
+
+
+    /**
+    * A lookup table of the moves that the NFA_XXX methods
+    * make on ASCII characters, indexed by row*128 + ch,
+    * so that we only need to check character ranges
+    * for non-ASCII input.
+    */
+    static final class AsciiMoveTable {
+        private final int[] table;
+        private final BitSet[] moveStates;
+        private final TokenType[][] moveTypes;
+
+        AsciiMoveTable(int[] encodedTable, int[] stateOffsets, int[] states, int[] typeOffsets, 
+        int[] typeIndexes, TokenType[] types) {
+            this.table = decodeRuns(encodedTable);
+            int numMoves = stateOffsets.length - 1;
+            moveStates = new BitSet[numMoves];
+            moveTypes = new TokenType[numMoves][];
+            for (int move = 0; move < numMoves; move++) {
+                moveStates[move] = new BitSet();
+                for (int i = stateOffsets[move]; i < stateOffsets[move + 1]; i++) {
+                    moveStates[move] .set(states[i]);
+                }
+                moveTypes[move] = new TokenType[typeOffsets[move + 1] - typeOffsets[move] ];
+                for (int i = typeOffsets[move]; i < typeOffsets[move + 1]; i++) {
+                    moveTypes[move][i - typeOffsets[move] ] = types[typeIndexes[i] ];
+                }
+            }
+        }
+
+        final TokenType apply(int index, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            int move = table[index];
+            if (move < 0) return null;
+            nextStates.or(moveStates[move]);
+            for (TokenType type : moveTypes[move]) {
+                if (validTypes.contains(type)) return type;
+            }
+            return null;
+        }
+
+    }
+
+
+    /**
+    * Holder class for NFA code related to DEFAULT lexical state
+    */
+    private static class DEFAULT {
+
+        static private TokenType NFA_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            if (ch < 128) {
+                return ASCII_MOVES.apply(0 + ch, nextStates, validTypes);
+            }
+            TokenType type = null;
+            return type;
+        }
+
+        static private TokenType NFA_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'f') {
+                if (validTypes.contains(TokenType.IF)) type = TokenType.IF;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_2(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '|') {
+                if (validTypes.contains(TokenType._TOKEN_11)) type = TokenType._TOKEN_11;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_3(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(3);
+                if (validTypes.contains(TokenType.IDENTIFIER)) type = TokenType.IDENTIFIER;
+            } else if ((ch >= 'A' && ch <= 'Z') || (ch >= 'a' && ch <= 'z')) {
+                nextStates.set(3);
+                if (validTypes.contains(TokenType.IDENTIFIER)) type = TokenType.IDENTIFIER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_4(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(5);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_5(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(7);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_6(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '&') {
+                if (validTypes.contains(TokenType._TOKEN_12)) type = TokenType._TOKEN_12;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_7(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(TokenType.ELSE)) type = TokenType.ELSE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_8(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(9);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_9(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(10);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_10(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(11);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_11(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(TokenType.WHILE)) type = TokenType.WHILE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_12(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(TokenType._TOKEN_16)) type = TokenType._TOKEN_16;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_13(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(14);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_14(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(15);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_15(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(TokenType.READ)) type = TokenType.READ;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_16(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(TokenType._TOKEN_17)) type = TokenType._TOKEN_17;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_17(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(18);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_18(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(19);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_19(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(20);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_20(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(TokenType.WRITE)) type = TokenType.WRITE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_21(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(TokenType._TOKEN_20)) type = TokenType._TOKEN_20;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_22(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(TokenType._TOKEN_21)) type = TokenType._TOKEN_21;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_23(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(24);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_24(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(TokenType.INT)) type = TokenType.INT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_25(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(26);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_26(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(27);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_27(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(28);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_28(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(29);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_29(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(30);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_30(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                if (validTypes.contains(TokenType.BOOL)) type = TokenType.BOOL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_31(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(32);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_32(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(34);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_33(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(33);
+                if (validTypes.contains(TokenType.INTEGER_LITERAL)) type = TokenType.INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_34(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(TokenType.TRUE)) type = TokenType.TRUE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_35(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(36);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_36(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(37);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_37(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(38);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_38(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(TokenType.FALSE)) type = TokenType.FALSE;
+            }
+            return type;
+        }
+
+        static private int[] ASCII_MOVE_TABLE_init() {
+            int[] result = new int[102];
+            ASCII_MOVE_TABLE_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_TABLE_init0(int[] result) {
+            int[] chunk = new int[] {9, - 1, 1, 0, 1, 1, 1, - 1, 1, 2, 1, 3, 18, - 1, 1, 4, 
+            1, 5, 3, - 1, 1, 6, 1, 7, 1, - 1, 1, 8, 1, 9, 1, 10, 1, 11, 1, - 1, 1, 12, 1, - 1, 
+            1, 13, 10, 14, 1, 15, 1, 16, 1, 17, 1, 18, 1, 19, 2, - 1, 26, 20, 3, - 1, 1, 21, 
+            2, - 1, 1, 20, 1, 22, 2, 20, 1, 23, 1, 24, 2, 20, 1, 25, 8, 20, 1, 26, 1, 20, 1, 
+            27, 2, 20, 1, 28, 3, 20, 1, 29, 1, 30, 1, 31, 1, 32, 1, - 1};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] ASCII_MOVE_STATE_OFFSETS_init() {
+            int[] result = new int[34];
+            ASCII_MOVE_STATE_OFFSETS_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_STATE_OFFSETS_init0(int[] result) {
+            int[] chunk = new int[] {0, 0, 0, 0, 0, 0, 1, 1, 2, 2, 2, 2, 2, 2, 2, 3, 3, 3, 
+            4, 5, 6, 7, 7, 9, 11, 13, 16, 18, 20, 23, 23, 24, 24, 24};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] ASCII_MOVE_STATES_init() {
+            int[] result = new int[24];
+            ASCII_MOVE_STATES_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_STATES_init0(int[] result) {
+            int[] chunk = new int[] {16, 6, 33, 21, 12, 22, 3, 3, 25, 3, 4, 3, 35, 1, 3, 23, 
+            3, 13, 3, 31, 3, 8, 17, 2};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] ASCII_MOVE_TYPE_OFFSETS_init() {
+            int[] result = new int[34];
+            ASCII_MOVE_TYPE_OFFSETS_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_TYPE_OFFSETS_init0(int[] result) {
+            int[] chunk = new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 
+            16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 33};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private int[] ASCII_MOVE_TYPE_INDEXES_init() {
+            int[] result = new int[33];
+            ASCII_MOVE_TYPE_INDEXES_init0(result);
+            return result;
+        }
+
+        static private void ASCII_MOVE_TYPE_INDEXES_init0(int[] result) {
+            int[] chunk = new int[] {1, 2, 4, 3, 0, 19, 17, 10, 20, 21, 15, 13, 14, 16, 5, 
+            22, 6, 11, 7, 12, 25, 9, 25, 25, 25, 25, 25, 25, 25, 23, 8, 24, 18};
+            System.arraycopy(chunk, 0, result, 0, chunk.length);
+        }
+
+        static private final AsciiMoveTable ASCII_MOVES = ASCII_MOVES_init();
+
+        static private AsciiMoveTable ASCII_MOVES_init() {
+            TokenType[] types = new TokenType[] {TokenType._TOKEN_1, TokenType._TOKEN_2, TokenType._TOKEN_3, 
+            TokenType._TOKEN_4, TokenType._TOKEN_5, TokenType.INTEGER_LITERAL, TokenType._TOKEN_9, 
+            TokenType._TOKEN_10, TokenType._TOKEN_13, TokenType._TOKEN_14, TokenType._TOKEN_15, 
+            TokenType._TOKEN_18, TokenType._TOKEN_19, TokenType._TOKEN_22, TokenType._TOKEN_23, 
+            TokenType._TOKEN_24, TokenType._TOKEN_25, TokenType._TOKEN_26, TokenType._TOKEN_27, 
+            TokenType._TOKEN_28, TokenType._TOKEN_29, TokenType._TOKEN_30, TokenType._TOKEN_33, 
+            TokenType._TOKEN_34, TokenType._TOKEN_35, TokenType.IDENTIFIER};
+            return new AsciiMoveTable(ASCII_MOVE_TABLE_init(), ASCII_MOVE_STATE_OFFSETS_init(), 
+            ASCII_MOVE_STATES_init(), ASCII_MOVE_TYPE_OFFSETS_init(), ASCII_MOVE_TYPE_INDEXES_init(), 
+            types);
+        }
+
+        static private NfaFunction[] NFA_FUNCTIONS_init() {
+            return new NfaFunction[] {DEFAULT::NFA_0, DEFAULT::NFA_1, DEFAULT::NFA_2, DEFAULT::NFA_3, 
+            DEFAULT::NFA_4, DEFAULT::NFA_5, DEFAULT::NFA_6, DEFAULT::NFA_7, DEFAULT::NFA_8, 
+            DEFAULT::NFA_9, DEFAULT::NFA_10, DEFAULT::NFA_11, DEFAULT::NFA_12, DEFAULT::NFA_13, 
+            DEFAULT::NFA_14, DEFAULT::NFA_15, DEFAULT::NFA_16, DEFAULT::NFA_17, DEFAULT::NFA_18, 
+            DEFAULT::NFA_19, DEFAULT::NFA_20, DEFAULT::NFA_21, DEFAULT::NFA_22, DEFAULT::NFA_23, 
+            DEFAULT::NFA_24, DEFAULT::NFA_25, DEFAULT::NFA_26, DEFAULT::NFA_27, DEFAULT::NFA_28, 
+            DEFAULT::NFA_29, DEFAULT::NFA_30, DEFAULT::NFA_31, DEFAULT::NFA_32, DEFAULT::NFA_33, 
+            DEFAULT::NFA_34, DEFAULT::NFA_35, DEFAULT::NFA_36, DEFAULT::NFA_37, DEFAULT::NFA_38};
+        }
+
+    }
+
+}
+
+
@@ -0,0 +1,4864 @@
+/* Generated by: JavaCC 21 Parser Generator. SPLParser.java */
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.concurrent.CancellationException;
+
+
+public class SPLParser implements SPLConstants {
+
+    /**
+    * Returns the root node of the Id.
+    * It only makes sense to call this after a successful parse.
+    * @return the root node
+    */
+    public SimpleNode root() {
+        return (SimpleNode) rootNode();
+    }
+
+    /** Main entry point. */
+    public static void main(String args[]) {
+        SPLParser parser;
+        if (args.length == 1) {
+            System.out.println("Stupid Programming Language Interpreter Version 0.1:  Reading from file " + args[0] + " . . .");
+            try {
+                parser = new SPLParser(new java.io.FileReader(args[0]));
+            } catch (java.io.FileNotFoundException e) {
+                System.out.println("Stupid Programming Language Interpreter Version 0.1:  File " + args[0] + " not found.");
+                return;
+            }
+        } else {
+            System.out.println("Stupid Programming Language Interpreter Version 0.1:  Usage :");
+            System.out.println("         java SPL inputfile");
+            return;
+        }
+        try {
+            parser.CompilationUnit();
+            parser.rootNode().interpret();
+        } catch (ParseException e) {
+            System.out.println("Stupid Programming Language Interpreter Version 0.1:  Encountered errors during parse.");
+            e.printStackTrace();
+        } catch (Exception e1) {
+            System.out.println("Stupid Programming Language Interpreter Version 0.1:  Encountered errors during interpretation/tree building.");
+            e1.printStackTrace();
+        }
+    }
+
+    static final int UNLIMITED = Integer.MAX_VALUE;
+    // The last token successfully "consumed"
+    Token lastConsumedToken;
+    private TokenType nextTokenType;
+    private Token currentLookaheadToken;
+    private int remainingLookahead;
+    private boolean hitFailure, passedPredicate;
+    private String currentlyParsedProduction, currentLookaheadProduction;
+    private int lookaheadRoutineNesting, passedPredicateThreshold = -1;
+    private EnumSet<TokenType> outerFollowSet;
+    private boolean legacyGlitchyLookahead = true;
+    private boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public SPLLexer token_source;
+
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public SPLParser(String inputSource, CharSequence content) {
+        this(new SPLLexer(inputSource, content));
+    }
+
+    public SPLParser(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public SPLParser(String inputSource, Path path) throws IOException {
+        this(inputSource, SPLLexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    public SPLParser(String inputSource, Path path, Charset charset) throws IOException {
+        this(inputSource, SPLLexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public SPLParser(Path path) throws IOException {
+        this(path.toString(), path);
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public SPLParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public SPLParser(Reader reader) {
+        this(new SPLLexer("input", reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public SPLParser(SPLLexer lexer) {
+        token_source = lexer;
+        lastConsumedToken = lexer.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(lexer);
+    }
+
+    /**
+    * Makes this parser ready to parse new input, as if it had just been
+    * constructed with it, but reusing the stacks that it (and its lexer)
+    * already has. See SPLLexer#reset(CharSequence).
+    * The tree built from the previous input must not be used after this.
+    * Note that any fields that code injected into this class adds are
+    * left alone.
+    * @param input the new input
+    */
+    public void reset(CharSequence input) {
+        reset("input", input);
+    }
+
+    /**
+    * @see #reset(CharSequence)
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param input the new input
+    */
+    public void reset(String inputSource, CharSequence input) {
+        token_source.reset(inputSource, input);
+        lastConsumedToken = token_source.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(token_source);
+        nextTokenType = null;
+        currentLookaheadToken = null;
+        remainingLookahead = 0;
+        hitFailure = passedPredicate = false;
+        currentlyParsedProduction = currentLookaheadProduction = null;
+        lookaheadRoutineNesting = 0;
+        passedPredicateThreshold = -1;
+        outerFollowSet = null;
+        cancelled = false;
+        parsingStack.truncate(0);
+        lookaheadStack.truncate(0);
+        parseStateStack.clear();
+        clearUndoLog();
+        while (currentNodeScope.parentScope != null) {
+            currentNodeScope = currentNodeScope.parentScope;
+        }
+        currentNodeScope.clear();
+    }
+
+    // If the next token is cached, it returns that
+    // Otherwise, it goes to the token_source, i.e. the Lexer.
+    final private Token nextToken(final Token tok) {
+        Token result = token_source.getNextToken(tok);
+        while (result.isUnparsed()) {
+            result = token_source.getNextToken(result);
+        }
+        nextTokenType = null;
+        return result;
+    }
+
+    /**
+    * @return the next Token off the stream. This is the same as #getToken(1)
+    */
+    final public Token getNextToken() {
+        return getToken(1);
+    }
+
+    /**
+    * @param index how many tokens to look ahead
+    * @return the specific regular (i.e. parsed) Token index ahead/behind in the stream.
+    * If we are in a lookahead, it looks ahead from the currentLookaheadToken
+    * Otherwise, it is the lastConsumedToken. If you pass in a negative
+    * number it goes backward.
+    */
+    final public Token getToken(final int index) {
+        Token t = currentLookaheadToken == null ? lastConsumedToken : currentLookaheadToken;
+        for (int i = 0; i < index; i++) {
+            t = nextToken(t);
+        }
+        for (int i = 0; i > index; i--) {
+            t = t.getPrevious();
+            if (t == null) break;
+        }
+        return t;
+    }
+
+    private final TokenType nextTokenType() {
+        if (nextTokenType == null) {
+            nextTokenType = nextToken(lastConsumedToken).getType();
+        }
+        return nextTokenType;
+    }
+
+    boolean activateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result |= token_source.activeTokenTypes.add(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    boolean deactivateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result |= token_source.activeTokenTypes.remove(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:175:1
+    final public void CompilationUnit() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "CompilationUnit";
+        CompilationUnit CompilationUnit1 = null;
+        if (buildTree) {
+            CompilationUnit1 = new CompilationUnit();
+            openNodeScope(CompilationUnit1);
+        }
+        String name;
+        ParseException parseException2 = null;
+        int callStackSize3 = parsingStack.size();
+        try {
+            // Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:179:4
+            loop9 : while (true) {
+                // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:180:8
+                switch(nextTokenType()) {
+                    case INT : case BOOL : 
+                        // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:180:8
+                        pushOntoCallStack("CompilationUnit", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                        180, 8);
+                        try {
+                            VarDeclaration();
+                        } finally {
+                            popCallStack();
+                        }
+                        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:180:23
+                        consumeToken(TokenType._TOKEN_9);
+                        break;
+                    case INTEGER_LITERAL : case _TOKEN_9 : case _TOKEN_29 : case TRUE : case FALSE : case _TOKEN_34 : case IF : case WHILE : case READ : case WRITE : case IDENTIFIER : 
+                        // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:182:8
+                        pushOntoCallStack("CompilationUnit", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                        182, 8);
+                        try {
+                            Statement();
+                        } finally {
+                            popCallStack();
+                        }
+                        break;
+                    default : 
+                        {
+                            break loop9;
+                        }
+                }
+            }
+            // Code for EndOfFile specified at /root/project/examples/legacy/Interpreter/SPL.javacc:184:4
+            consumeToken(TokenType.EOF);
+        } catch (ParseException e) {
+            parseException2 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize3);
+            if (CompilationUnit1 != null) {
+                if (parseException2 == null) {
+                    closeNodeScope(CompilationUnit1, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> VarDeclaration_FIRST_SET = EnumSet.of(TokenType.INT, 
+    TokenType.BOOL);
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:203:1
+    final public void VarDeclaration() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "VarDeclaration";
+        VarDeclaration VarDeclaration2 = null;
+        if (buildTree) {
+            VarDeclaration2 = new VarDeclaration();
+            openNodeScope(VarDeclaration2);
+        }
+        Token t;
+        ParseException parseException39 = null;
+        int callStackSize40 = parsingStack.size();
+        try {
+            if (nextTokenType() == TokenType.BOOL) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:206:5
+                consumeToken(TokenType.BOOL);
+                // Code for CodeBlock specified at /root/project/examples/legacy/Interpreter/SPL.javacc:206:15
+                VarDeclaration2.type = TokenType.BOOL;
+            } else if (nextTokenType() == TokenType.INT) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:208:5
+                consumeToken(TokenType.INT);
+                // Code for CodeBlock specified at /root/project/examples/legacy/Interpreter/SPL.javacc:208:11
+                VarDeclaration2.type = TokenType.INT;
+            } else {
+                pushOntoCallStack("VarDeclaration", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                206, 5);
+                throw new ParseException(this, first_set$SPL_javacc$206$5, parsingStack.toList());
+            }
+            // Code for RegexpRef specified at /root/project/examples/legacy/Interpreter/SPL.javacc:210:7
+            t = consumeToken(TokenType.IDENTIFIER);
+            // Code for CodeBlock specified at /root/project/examples/legacy/Interpreter/SPL.javacc:211:3
+            VarDeclaration2.name = t.getImage();
+        } catch (ParseException e) {
+            parseException39 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize40);
+            if (VarDeclaration2 != null) {
+                if (parseException39 == null) {
+                    closeNodeScope(VarDeclaration2, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> Expression_FIRST_SET = EnumSet.of(TokenType.INTEGER_LITERAL, 
+    TokenType._TOKEN_27, TokenType._TOKEN_28, TokenType._TOKEN_29, TokenType.TRUE, TokenType.FALSE, 
+    TokenType.IDENTIFIER);
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:218:1
+    final public void Expression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Expression";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:219:3
+        if (scan$SPL_javacc$219$3()) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:219:33
+            pushOntoCallStack("Expression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            219, 33);
+            try {
+                Assignment();
+            } finally {
+                popCallStack();
+            }
+        } else if (first_set$SPL_javacc$221$3.contains(nextTokenType())) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:221:3
+            pushOntoCallStack("Expression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            221, 3);
+            try {
+                ConditionalOrExpression();
+            } finally {
+                popCallStack();
+            }
+        } else {
+            pushOntoCallStack("Expression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            219, 3);
+            throw new ParseException(this, Expression_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> Assignment_FIRST_SET = EnumSet.of(TokenType.INTEGER_LITERAL, 
+    TokenType._TOKEN_29, TokenType.TRUE, TokenType.FALSE, TokenType.IDENTIFIER);
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:234:1
+    final public void Assignment() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Assignment";
+        Assignment Assignment3 = null;
+        if (buildTree) {
+            Assignment3 = new Assignment();
+            openNodeScope(Assignment3);
+        }
+        ParseException parseException100 = null;
+        int callStackSize101 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:234:29
+            pushOntoCallStack("Assignment", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            234, 29);
+            try {
+                PrimaryExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:234:47
+            consumeToken(TokenType._TOKEN_10);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:234:51
+            pushOntoCallStack("Assignment", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            234, 51);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException100 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize101);
+            if (Assignment3 != null) {
+                if (parseException100 == null) {
+                    closeNodeScope(Assignment3, 3);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:236:1
+    final public void ConditionalOrExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "ConditionalOrExpression";
+        // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:237:3
+        pushOntoCallStack("ConditionalOrExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        237, 3);
+        try {
+            ConditionalAndExpression();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:238:3
+        while (true) {
+            if (!(nextTokenType() == TokenType._TOKEN_11)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:238:5
+            consumeToken(TokenType._TOKEN_11);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:238:10
+            OrNode ConditionalOrExpression4 = null;
+            if (buildTree) {
+                ConditionalOrExpression4 = new OrNode();
+                openNodeScope(ConditionalOrExpression4);
+            }
+            ParseException parseException136 = null;
+            int callStackSize137 = parsingStack.size();
+            try {
+                pushOntoCallStack("ConditionalOrExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                238, 10);
+                try {
+                    ConditionalAndExpression();
+                } finally {
+                    popCallStack();
+                }
+            } catch (ParseException e) {
+                parseException136 = e;
+                throw e;
+            } finally {
+                restoreCallStack(callStackSize137);
+                if (ConditionalOrExpression4 != null) {
+                    if (parseException136 == null) {
+                        closeNodeScope(ConditionalOrExpression4, 3);
+                    } else {
+                        clearNodeScope();
+                    }
+                }
+                this.currentlyParsedProduction = prevProduction;
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:257:1
+    final public void ConditionalAndExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "ConditionalAndExpression";
+        // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:258:3
+        pushOntoCallStack("ConditionalAndExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        258, 3);
+        try {
+            InclusiveOrExpression();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:259:3
+        while (true) {
+            if (!(nextTokenType() == TokenType._TOKEN_12)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:259:5
+            consumeToken(TokenType._TOKEN_12);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:259:10
+            AndNode ConditionalAndExpression5 = null;
+            if (buildTree) {
+                ConditionalAndExpression5 = new AndNode();
+                openNodeScope(ConditionalAndExpression5);
+            }
+            ParseException parseException160 = null;
+            int callStackSize161 = parsingStack.size();
+            try {
+                pushOntoCallStack("ConditionalAndExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                259, 10);
+                try {
+                    InclusiveOrExpression();
+                } finally {
+                    popCallStack();
+                }
+            } catch (ParseException e) {
+                parseException160 = e;
+                throw e;
+            } finally {
+                restoreCallStack(callStackSize161);
+                if (ConditionalAndExpression5 != null) {
+                    if (parseException160 == null) {
+                        closeNodeScope(ConditionalAndExpression5, 3);
+                    } else {
+                        clearNodeScope();
+                    }
+                }
+                this.currentlyParsedProduction = prevProduction;
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:277:1
+    final public void InclusiveOrExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "InclusiveOrExpression";
+        // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:278:3
+        pushOntoCallStack("InclusiveOrExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        278, 3);
+        try {
+            ExclusiveOrExpression();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:279:3
+        while (true) {
+            if (!(nextTokenType() == TokenType._TOKEN_13)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:279:5
+            consumeToken(TokenType._TOKEN_13);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:279:9
+            BitwiseOrNode InclusiveOrExpression6 = null;
+            if (buildTree) {
+                InclusiveOrExpression6 = new BitwiseOrNode();
+                openNodeScope(InclusiveOrExpression6);
+            }
+            ParseException parseException184 = null;
+            int callStackSize185 = parsingStack.size();
+            try {
+                pushOntoCallStack("InclusiveOrExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                279, 9);
+                try {
+                    ExclusiveOrExpression();
+                } finally {
+                    popCallStack();
+                }
+            } catch (ParseException e) {
+                parseException184 = e;
+                throw e;
+            } finally {
+                restoreCallStack(callStackSize185);
+                if (InclusiveOrExpression6 != null) {
+                    if (parseException184 == null) {
+                        closeNodeScope(InclusiveOrExpression6, 2);
+                    } else {
+                        clearNodeScope();
+                    }
+                }
+                this.currentlyParsedProduction = prevProduction;
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:298:1
+    final public void ExclusiveOrExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "ExclusiveOrExpression";
+        // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:299:3
+        pushOntoCallStack("ExclusiveOrExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        299, 3);
+        try {
+            AndExpression();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:300:3
+        while (true) {
+            if (!(nextTokenType() == TokenType._TOKEN_14)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:300:5
+            consumeToken(TokenType._TOKEN_14);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:300:9
+            BitwiseXorNode ExclusiveOrExpression7 = null;
+            if (buildTree) {
+                ExclusiveOrExpression7 = new BitwiseXorNode();
+                openNodeScope(ExclusiveOrExpression7);
+            }
+            ParseException parseException208 = null;
+            int callStackSize209 = parsingStack.size();
+            try {
+                pushOntoCallStack("ExclusiveOrExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                300, 9);
+                try {
+                    AndExpression();
+                } finally {
+                    popCallStack();
+                }
+            } catch (ParseException e) {
+                parseException208 = e;
+                throw e;
+            } finally {
+                restoreCallStack(callStackSize209);
+                if (ExclusiveOrExpression7 != null) {
+                    if (parseException208 == null) {
+                        closeNodeScope(ExclusiveOrExpression7, 2);
+                    } else {
+                        clearNodeScope();
+                    }
+                }
+                this.currentlyParsedProduction = prevProduction;
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:321:1
+    final public void AndExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "AndExpression";
+        // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:322:3
+        pushOntoCallStack("AndExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        322, 3);
+        try {
+            EqualityExpression();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:323:3
+        while (true) {
+            if (!(nextTokenType() == TokenType._TOKEN_15)) break;
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:323:5
+            consumeToken(TokenType._TOKEN_15);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:323:9
+            BitwiseAndNode AndExpression8 = null;
+            if (buildTree) {
+                AndExpression8 = new BitwiseAndNode();
+                openNodeScope(AndExpression8);
+            }
+            ParseException parseException232 = null;
+            int callStackSize233 = parsingStack.size();
+            try {
+                pushOntoCallStack("AndExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                323, 9);
+                try {
+                    EqualityExpression();
+                } finally {
+                    popCallStack();
+                }
+            } catch (ParseException e) {
+                parseException232 = e;
+                throw e;
+            } finally {
+                restoreCallStack(callStackSize233);
+                if (AndExpression8 != null) {
+                    if (parseException232 == null) {
+                        closeNodeScope(AndExpression8, 2);
+                    } else {
+                        clearNodeScope();
+                    }
+                }
+                this.currentlyParsedProduction = prevProduction;
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:342:1
+    final public void EqualityExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "EqualityExpression";
+        // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:343:3
+        pushOntoCallStack("EqualityExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        343, 3);
+        try {
+            RelationalExpression();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:344:3
+        while (true) {
+            // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:345:6
+            if (nextTokenType() == TokenType._TOKEN_16) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:345:6
+                consumeToken(TokenType._TOKEN_16);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:345:11
+                EQNode EqualityExpression9 = null;
+                if (buildTree) {
+                    EqualityExpression9 = new EQNode();
+                    openNodeScope(EqualityExpression9);
+                }
+                ParseException parseException260 = null;
+                int callStackSize261 = parsingStack.size();
+                try {
+                    pushOntoCallStack("EqualityExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                    345, 11);
+                    try {
+                        RelationalExpression();
+                    } finally {
+                        popCallStack();
+                    }
+                } catch (ParseException e) {
+                    parseException260 = e;
+                    throw e;
+                } finally {
+                    restoreCallStack(callStackSize261);
+                    if (EqualityExpression9 != null) {
+                        if (parseException260 == null) {
+                            closeNodeScope(EqualityExpression9, 3);
+                        } else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+            } else if (nextTokenType() == TokenType._TOKEN_17) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:347:6
+                consumeToken(TokenType._TOKEN_17);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:347:11
+                NENode EqualityExpression10 = null;
+                if (buildTree) {
+                    EqualityExpression10 = new NENode();
+                    openNodeScope(EqualityExpression10);
+                }
+                ParseException parseException272 = null;
+                int callStackSize273 = parsingStack.size();
+                try {
+                    pushOntoCallStack("EqualityExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                    347, 11);
+                    try {
+                        RelationalExpression();
+                    } finally {
+                        popCallStack();
+                    }
+                } catch (ParseException e) {
+                    parseException272 = e;
+                    throw e;
+                } finally {
+                    restoreCallStack(callStackSize273);
+                    if (EqualityExpression10 != null) {
+                        if (parseException272 == null) {
+                            closeNodeScope(EqualityExpression10, 3);
+                        } else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+            } else {
+                break;
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:377:1
+    final public void RelationalExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "RelationalExpression";
+        // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:378:3
+        pushOntoCallStack("RelationalExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        378, 3);
+        try {
+            AdditiveExpression();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:379:3
+        while (true) {
+            // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:380:5
+            if (nextTokenType() == TokenType._TOKEN_18) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:380:5
+                consumeToken(TokenType._TOKEN_18);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:380:9
+                LTNode RelationalExpression11 = null;
+                if (buildTree) {
+                    RelationalExpression11 = new LTNode();
+                    openNodeScope(RelationalExpression11);
+                }
+                ParseException parseException300 = null;
+                int callStackSize301 = parsingStack.size();
+                try {
+                    pushOntoCallStack("RelationalExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                    380, 9);
+                    try {
+                        AdditiveExpression();
+                    } finally {
+                        popCallStack();
+                    }
+                } catch (ParseException e) {
+                    parseException300 = e;
+                    throw e;
+                } finally {
+                    restoreCallStack(callStackSize301);
+                    if (RelationalExpression11 != null) {
+                        if (parseException300 == null) {
+                            closeNodeScope(RelationalExpression11, 3);
+                        } else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+            } else if (nextTokenType() == TokenType._TOKEN_19) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:382:5
+                consumeToken(TokenType._TOKEN_19);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:382:9
+                GTNode RelationalExpression12 = null;
+                if (buildTree) {
+                    RelationalExpression12 = new GTNode();
+                    openNodeScope(RelationalExpression12);
+                }
+                ParseException parseException312 = null;
+                int callStackSize313 = parsingStack.size();
+                try {
+                    pushOntoCallStack("RelationalExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                    382, 9);
+                    try {
+                        AdditiveExpression();
+                    } finally {
+                        popCallStack();
+                    }
+                } catch (ParseException e) {
+                    parseException312 = e;
+                    throw e;
+                } finally {
+                    restoreCallStack(callStackSize313);
+                    if (RelationalExpression12 != null) {
+                        if (parseException312 == null) {
+                            closeNodeScope(RelationalExpression12, 3);
+                        } else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+            } else if (nextTokenType() == TokenType._TOKEN_20) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:384:5
+                consumeToken(TokenType._TOKEN_20);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:384:10
+                LENode RelationalExpression13 = null;
+                if (buildTree) {
+                    RelationalExpression13 = new LENode();
+                    openNodeScope(RelationalExpression13);
+                }
+                ParseException parseException324 = null;
+                int callStackSize325 = parsingStack.size();
+                try {
+                    pushOntoCallStack("RelationalExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                    384, 10);
+                    try {
+                        AdditiveExpression();
+                    } finally {
+                        popCallStack();
+                    }
+                } catch (ParseException e) {
+                    parseException324 = e;
+                    throw e;
+                } finally {
+                    restoreCallStack(callStackSize325);
+                    if (RelationalExpression13 != null) {
+                        if (parseException324 == null) {
+                            closeNodeScope(RelationalExpression13, 3);
+                        } else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+            } else if (nextTokenType() == TokenType._TOKEN_21) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:386:5
+                consumeToken(TokenType._TOKEN_21);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:386:10
+                GENode RelationalExpression14 = null;
+                if (buildTree) {
+                    RelationalExpression14 = new GENode();
+                    openNodeScope(RelationalExpression14);
+                }
+                ParseException parseException336 = null;
+                int callStackSize337 = parsingStack.size();
+                try {
+                    pushOntoCallStack("RelationalExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                    386, 10);
+                    try {
+                        AdditiveExpression();
+                    } finally {
+                        popCallStack();
+                    }
+                } catch (ParseException e) {
+                    parseException336 = e;
+                    throw e;
+                } finally {
+                    restoreCallStack(callStackSize337);
+                    if (RelationalExpression14 != null) {
+                        if (parseException336 == null) {
+                            closeNodeScope(RelationalExpression14, 3);
+                        } else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+            } else {
+                break;
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:431:1
+    final public void AdditiveExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "AdditiveExpression";
+        // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:432:3
+        pushOntoCallStack("AdditiveExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        432, 3);
+        try {
+            MultiplicativeExpression();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:433:3
+        while (true) {
+            // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:434:5
+            if (nextTokenType() == TokenType._TOKEN_22) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:434:5
+                consumeToken(TokenType._TOKEN_22);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:434:9
+                AddNode AdditiveExpression15 = null;
+                if (buildTree) {
+                    AdditiveExpression15 = new AddNode();
+                    openNodeScope(AdditiveExpression15);
+                }
+                ParseException parseException364 = null;
+                int callStackSize365 = parsingStack.size();
+                try {
+                    pushOntoCallStack("AdditiveExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                    434, 9);
+                    try {
+                        MultiplicativeExpression();
+                    } finally {
+                        popCallStack();
+                    }
+                } catch (ParseException e) {
+                    parseException364 = e;
+                    throw e;
+                } finally {
+                    restoreCallStack(callStackSize365);
+                    if (AdditiveExpression15 != null) {
+                        if (parseException364 == null) {
+                            closeNodeScope(AdditiveExpression15, 3);
+                        } else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+            } else if (nextTokenType() == TokenType._TOKEN_23) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:436:5
+                consumeToken(TokenType._TOKEN_23);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:436:9
+                SubtractNode AdditiveExpression16 = null;
+                if (buildTree) {
+                    AdditiveExpression16 = new SubtractNode();
+                    openNodeScope(AdditiveExpression16);
+                }
+                ParseException parseException376 = null;
+                int callStackSize377 = parsingStack.size();
+                try {
+                    pushOntoCallStack("AdditiveExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                    436, 9);
+                    try {
+                        MultiplicativeExpression();
+                    } finally {
+                        popCallStack();
+                    }
+                } catch (ParseException e) {
+                    parseException376 = e;
+                    throw e;
+                } finally {
+                    restoreCallStack(callStackSize377);
+                    if (AdditiveExpression16 != null) {
+                        if (parseException376 == null) {
+                            closeNodeScope(AdditiveExpression16, 3);
+                        } else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+            } else {
+                break;
+            }
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:459:1
+    final public void MultiplicativeExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "MultiplicativeExpression";
+        // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:460:3
+        pushOntoCallStack("MultiplicativeExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        460, 3);
+        try {
+            UnaryExpression();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:461:3
+        while (true) {
+            // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:462:5
+            if (nextTokenType() == TokenType._TOKEN_24) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:462:5
+                consumeToken(TokenType._TOKEN_24);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:462:9
+                MulNode MultiplicativeExpression17 = null;
+                if (buildTree) {
+                    MultiplicativeExpression17 = new MulNode();
+                    openNodeScope(MultiplicativeExpression17);
+                }
+                ParseException parseException404 = null;
+                int callStackSize405 = parsingStack.size();
+                try {
+                    pushOntoCallStack("MultiplicativeExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                    462, 9);
+                    try {
+                        UnaryExpression();
+                    } finally {
+                        popCallStack();
+                    }
+                } catch (ParseException e) {
+                    parseException404 = e;
+                    throw e;
+                } finally {
+                    restoreCallStack(callStackSize405);
+                    if (MultiplicativeExpression17 != null) {
+                        if (parseException404 == null) {
+                            closeNodeScope(MultiplicativeExpression17, 3);
+                        } else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+            } else if (nextTokenType() == TokenType._TOKEN_25) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:464:5
+                consumeToken(TokenType._TOKEN_25);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:464:9
+                DivNode MultiplicativeExpression18 = null;
+                if (buildTree) {
+                    MultiplicativeExpression18 = new DivNode();
+                    openNodeScope(MultiplicativeExpression18);
+                }
+                ParseException parseException416 = null;
+                int callStackSize417 = parsingStack.size();
+                try {
+                    pushOntoCallStack("MultiplicativeExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                    464, 9);
+                    try {
+                        UnaryExpression();
+                    } finally {
+                        popCallStack();
+                    }
+                } catch (ParseException e) {
+                    parseException416 = e;
+                    throw e;
+                } finally {
+                    restoreCallStack(callStackSize417);
+                    if (MultiplicativeExpression18 != null) {
+                        if (parseException416 == null) {
+                            closeNodeScope(MultiplicativeExpression18, 3);
+                        } else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+            } else if (nextTokenType() == TokenType._TOKEN_26) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:466:5
+                consumeToken(TokenType._TOKEN_26);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:466:9
+                ModNode MultiplicativeExpression19 = null;
+                if (buildTree) {
+                    MultiplicativeExpression19 = new ModNode();
+                    openNodeScope(MultiplicativeExpression19);
+                }
+                ParseException parseException428 = null;
+                int callStackSize429 = parsingStack.size();
+                try {
+                    pushOntoCallStack("MultiplicativeExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                    466, 9);
+                    try {
+                        UnaryExpression();
+                    } finally {
+                        popCallStack();
+                    }
+                } catch (ParseException e) {
+                    parseException428 = e;
+                    throw e;
+                } finally {
+                    restoreCallStack(callStackSize429);
+                    if (MultiplicativeExpression19 != null) {
+                        if (parseException428 == null) {
+                            closeNodeScope(MultiplicativeExpression19, 3);
+                        } else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+            } else {
+                break;
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> UnaryExpression_FIRST_SET = Expression_FIRST_SET;
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:498:1
+    final public void UnaryExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "UnaryExpression";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:499:3
+        switch(nextTokenType()) {
+            case _TOKEN_27 : 
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:499:3
+                consumeToken(TokenType._TOKEN_27);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:499:7
+                BitwiseComplNode UnaryExpression20 = null;
+                if (buildTree) {
+                    UnaryExpression20 = new BitwiseComplNode();
+                    openNodeScope(UnaryExpression20);
+                }
+                ParseException parseException444 = null;
+                int callStackSize445 = parsingStack.size();
+                try {
+                    pushOntoCallStack("UnaryExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                    499, 7);
+                    try {
+                        UnaryExpression();
+                    } finally {
+                        popCallStack();
+                    }
+                } catch (ParseException e) {
+                    parseException444 = e;
+                    throw e;
+                } finally {
+                    restoreCallStack(callStackSize445);
+                    if (UnaryExpression20 != null) {
+                        if (parseException444 == null) {
+                            closeNodeScope(UnaryExpression20, 2);
+                        } else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+                break;
+            case _TOKEN_28 : 
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:501:3
+                consumeToken(TokenType._TOKEN_28);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:501:7
+                NotNode UnaryExpression21 = null;
+                if (buildTree) {
+                    UnaryExpression21 = new NotNode();
+                    openNodeScope(UnaryExpression21);
+                }
+                ParseException parseException456 = null;
+                int callStackSize457 = parsingStack.size();
+                try {
+                    pushOntoCallStack("UnaryExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                    501, 7);
+                    try {
+                        UnaryExpression();
+                    } finally {
+                        popCallStack();
+                    }
+                } catch (ParseException e) {
+                    parseException456 = e;
+                    throw e;
+                } finally {
+                    restoreCallStack(callStackSize457);
+                    if (UnaryExpression21 != null) {
+                        if (parseException456 == null) {
+                            closeNodeScope(UnaryExpression21, 2);
+                        } else {
+                            clearNodeScope();
+                        }
+                    }
+                    this.currentlyParsedProduction = prevProduction;
+                }
+                break;
+            case INTEGER_LITERAL : case _TOKEN_29 : case TRUE : case FALSE : case IDENTIFIER : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:503:3
+                pushOntoCallStack("UnaryExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                503, 3);
+                try {
+                    PrimaryExpression();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            default : 
+                {
+                    pushOntoCallStack("UnaryExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                    499, 3);
+                    throw new ParseException(this, UnaryExpression_FIRST_SET, parsingStack.toList());
+                }
+        }
+    }
+
+    static private final EnumSet<TokenType> PrimaryExpression_FIRST_SET = Assignment_FIRST_SET;
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:524:1
+    final public void PrimaryExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "PrimaryExpression";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:528:3
+        String name;
+        switch(nextTokenType()) {
+            case INTEGER_LITERAL : case TRUE : case FALSE : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:528:3
+                pushOntoCallStack("PrimaryExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                528, 3);
+                try {
+                    Literal();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case IDENTIFIER : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:530:3
+                pushOntoCallStack("PrimaryExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                530, 3);
+                try {
+                    Id();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case _TOKEN_29 : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:532:3
+                pushOntoCallStack("PrimaryExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                532, 3);
+                try {
+                    ParentheticalExpression();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            default : 
+                {
+                    pushOntoCallStack("PrimaryExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                    528, 3);
+                    throw new ParseException(this, PrimaryExpression_FIRST_SET, parsingStack.toList());
+                }
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:535:1
+    final public void ParentheticalExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "ParentheticalExpression";
+        ParentheticalExpression ParentheticalExpression22 = null;
+        if (buildTree) {
+            ParentheticalExpression22 = new ParentheticalExpression();
+            openNodeScope(ParentheticalExpression22);
+        }
+        ParseException parseException496 = null;
+        int callStackSize497 = parsingStack.size();
+        try {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:536:4
+            consumeToken(TokenType._TOKEN_29);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:536:8
+            pushOntoCallStack("ParentheticalExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            536, 8);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:536:19
+            consumeToken(TokenType._TOKEN_30);
+        } catch (ParseException e) {
+            parseException496 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize497);
+            if (ParentheticalExpression22 != null) {
+                if (parseException496 == null) {
+                    closeNodeScope(ParentheticalExpression22, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:555:1
+    final public void Id() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Id";
+        Id Id23 = null;
+        if (buildTree) {
+            Id23 = new Id();
+            openNodeScope(Id23);
+        }
+        Token t;
+        ParseException parseException512 = null;
+        int callStackSize513 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/legacy/Interpreter/SPL.javacc:556:8
+            t = consumeToken(TokenType.IDENTIFIER);
+            // Code for CodeBlock specified at /root/project/examples/legacy/Interpreter/SPL.javacc:556:22
+            Id23.name = t.getImage();
+        } catch (ParseException e) {
+            parseException512 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize513);
+            if (Id23 != null) {
+                if (parseException512 == null) {
+                    closeNodeScope(Id23, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> Literal_FIRST_SET = EnumSet.of(TokenType.INTEGER_LITERAL, 
+    TokenType.TRUE, TokenType.FALSE);
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:559:1
+    final public void Literal() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Literal";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:563:2
+        Token t;
+        if (nextTokenType() == TokenType.INTEGER_LITERAL) {
+            IntConstNode Literal24 = null;
+            if (buildTree) {
+                Literal24 = new IntConstNode();
+                openNodeScope(Literal24);
+            }
+            ParseException parseException532 = null;
+            int callStackSize533 = parsingStack.size();
+            try {
+                // Code for RegexpRef specified at /root/project/examples/legacy/Interpreter/SPL.javacc:564:5
+                t = consumeToken(TokenType.INTEGER_LITERAL);
+                // Code for CodeBlock specified at /root/project/examples/legacy/Interpreter/SPL.javacc:565:5
+                Literal24.val = Integer.parseInt(t.getImage());
+            } catch (ParseException e) {
+                parseException532 = e;
+                throw e;
+            } finally {
+                restoreCallStack(callStackSize533);
+                if (Literal24 != null) {
+                    if (parseException532 == null) {
+                        closeNodeScope(Literal24, true);
+                    } else {
+                        clearNodeScope();
+                    }
+                }
+                this.currentlyParsedProduction = prevProduction;
+            }
+        } else if (nextTokenType() == TokenType.TRUE || nextTokenType == TokenType.FALSE) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:570:3
+            pushOntoCallStack("Literal", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            570, 3);
+            try {
+                BooleanLiteral();
+            } finally {
+                popCallStack();
+            }
+        } else {
+            pushOntoCallStack("Literal", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            563, 2);
+            throw new ParseException(this, Literal_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> BooleanLiteral_FIRST_SET = EnumSet.of(TokenType.TRUE, 
+    TokenType.FALSE);
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:582:1
+    final public void BooleanLiteral() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "BooleanLiteral";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:583:3
+        if (nextTokenType() == TokenType.TRUE) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:583:3
+            TrueNode BooleanLiteral25 = null;
+            if (buildTree) {
+                BooleanLiteral25 = new TrueNode();
+                openNodeScope(BooleanLiteral25);
+            }
+            ParseException parseException561 = null;
+            int callStackSize562 = parsingStack.size();
+            try {
+                consumeToken(TokenType.TRUE);
+            } catch (ParseException e) {
+                parseException561 = e;
+                throw e;
+            } finally {
+                restoreCallStack(callStackSize562);
+                if (BooleanLiteral25 != null) {
+                    if (parseException561 == null) {
+                        closeNodeScope(BooleanLiteral25, true);
+                    } else {
+                        clearNodeScope();
+                    }
+                }
+                this.currentlyParsedProduction = prevProduction;
+            }
+        } else if (nextTokenType() == TokenType.FALSE) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:585:3
+            FalseNode BooleanLiteral26 = null;
+            if (buildTree) {
+                BooleanLiteral26 = new FalseNode();
+                openNodeScope(BooleanLiteral26);
+            }
+            ParseException parseException569 = null;
+            int callStackSize570 = parsingStack.size();
+            try {
+                consumeToken(TokenType.FALSE);
+            } catch (ParseException e) {
+                parseException569 = e;
+                throw e;
+            } finally {
+                restoreCallStack(callStackSize570);
+                if (BooleanLiteral26 != null) {
+                    if (parseException569 == null) {
+                        closeNodeScope(BooleanLiteral26, true);
+                    } else {
+                        clearNodeScope();
+                    }
+                }
+                this.currentlyParsedProduction = prevProduction;
+            }
+        } else {
+            pushOntoCallStack("BooleanLiteral", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            583, 3);
+            throw new ParseException(this, BooleanLiteral_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    static private final EnumSet<TokenType> Statement_FIRST_SET = Statement_FIRST_SET_init();
+
+    static private EnumSet<TokenType> Statement_FIRST_SET_init() {
+        return EnumSet.of(TokenType.INTEGER_LITERAL, TokenType._TOKEN_9, TokenType._TOKEN_29, 
+        TokenType.TRUE, TokenType.FALSE, TokenType._TOKEN_34, TokenType.IF, TokenType.WHILE, 
+        TokenType.READ, TokenType.WRITE, TokenType.IDENTIFIER);
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:604:1
+    final public void Statement() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Statement";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:605:3
+        switch(nextTokenType()) {
+            case _TOKEN_9 : 
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:605:3
+                consumeToken(TokenType._TOKEN_9);
+                break;
+            case _TOKEN_34 : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:609:3
+                pushOntoCallStack("Statement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                609, 3);
+                try {
+                    Block();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case IF : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:613:3
+                pushOntoCallStack("Statement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                613, 3);
+                try {
+                    IfStatement();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case WHILE : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:615:3
+                pushOntoCallStack("Statement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                615, 3);
+                try {
+                    WhileStatement();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            case READ : case WRITE : 
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:617:3
+                pushOntoCallStack("Statement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                617, 3);
+                try {
+                    IOStatement();
+                } finally {
+                    popCallStack();
+                }
+                break;
+            default : 
+                if (scan$SPL_javacc$607$3()) {
+                    // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:607:13
+                    pushOntoCallStack("Statement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                    607, 13);
+                    try {
+                        LabeledStatement();
+                    } finally {
+                        popCallStack();
+                    }
+                } else if (first_set$SPL_javacc$611$3.contains(nextTokenType())) {
+                    // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:611:3
+                    pushOntoCallStack("Statement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                    611, 3);
+                    try {
+                        StatementExpression();
+                    } finally {
+                        popCallStack();
+                    }
+                } else {
+                    pushOntoCallStack("Statement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                    605, 3);
+                    throw new ParseException(this, Statement_FIRST_SET, parsingStack.toList());
+                }
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:620:1
+    final public void LabeledStatement() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "LabeledStatement";
+        // Code for RegexpRef specified at /root/project/examples/legacy/Interpreter/SPL.javacc:621:3
+        consumeToken(TokenType.IDENTIFIER);
+        // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:621:16
+        consumeToken(TokenType._TOKEN_33);
+        // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:621:20
+        pushOntoCallStack("LabeledStatement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        621, 20);
+        try {
+            Statement();
+        } finally {
+            popCallStack();
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:635:1
+    final public void Block() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Block";
+        Block Block27 = null;
+        if (buildTree) {
+            Block27 = new Block();
+            openNodeScope(Block27);
+        }
+        ParseException parseException649 = null;
+        int callStackSize650 = parsingStack.size();
+        try {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:636:3
+            consumeToken(TokenType._TOKEN_34);
+            // Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:636:7
+            while (true) {
+                if (!(first_set$SPL_javacc$636$9.contains(nextTokenType()))) break;
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:636:9
+                pushOntoCallStack("Block", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                636, 9);
+                try {
+                    Statement();
+                } finally {
+                    popCallStack();
+                }
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:636:22
+            consumeToken(TokenType._TOKEN_35);
+        } catch (ParseException e) {
+            parseException649 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize650);
+            if (Block27 != null) {
+                if (parseException649 == null) {
+                    closeNodeScope(Block27, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:647:1
+    final public void StatementExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "StatementExpression";
+        StatementExpression StatementExpression28 = null;
+        if (buildTree) {
+            StatementExpression28 = new StatementExpression();
+            openNodeScope(StatementExpression28);
+        }
+        ParseException parseException673 = null;
+        int callStackSize674 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:652:3
+            pushOntoCallStack("StatementExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            652, 3);
+            try {
+                Assignment();
+            } finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:652:14
+            consumeToken(TokenType._TOKEN_9);
+        } catch (ParseException e) {
+            parseException673 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize674);
+            if (StatementExpression28 != null) {
+                if (parseException673 == null) {
+                    closeNodeScope(StatementExpression28, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:671:1
+    final public void IfStatement() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "IfStatement";
+        IfStatement IfStatement29 = null;
+        if (buildTree) {
+            IfStatement29 = new IfStatement();
+            openNodeScope(IfStatement29);
+        }
+        ParseException parseException685 = null;
+        int callStackSize686 = parsingStack.size();
+        try {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:3
+            consumeToken(TokenType.IF);
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:8
+            consumeToken(TokenType._TOKEN_29);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:12
+            pushOntoCallStack("IfStatement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            677, 12);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:23
+            consumeToken(TokenType._TOKEN_30);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:27
+            pushOntoCallStack("IfStatement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            677, 27);
+            try {
+                Statement();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrOne specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:37
+            if (nextTokenType() == TokenType.ELSE) {
+                // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:39
+                consumeToken(TokenType.ELSE);
+                // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:46
+                pushOntoCallStack("IfStatement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+                677, 46);
+                try {
+                    Statement();
+                } finally {
+                    popCallStack();
+                }
+            }
+        } catch (ParseException e) {
+            parseException685 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize686);
+            if (IfStatement29 != null) {
+                if (parseException685 == null) {
+                    closeNodeScope(IfStatement29, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:699:1
+    final public void WhileStatement() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "WhileStatement";
+        WhileStatement WhileStatement30 = null;
+        if (buildTree) {
+            WhileStatement30 = new WhileStatement();
+            openNodeScope(WhileStatement30);
+        }
+        ParseException parseException725 = null;
+        int callStackSize726 = parsingStack.size();
+        try {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:700:3
+            consumeToken(TokenType.WHILE);
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:700:11
+            consumeToken(TokenType._TOKEN_29);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:700:15
+            pushOntoCallStack("WhileStatement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            700, 15);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:700:26
+            consumeToken(TokenType._TOKEN_30);
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:700:30
+            pushOntoCallStack("WhileStatement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            700, 30);
+            try {
+                Statement();
+            } finally {
+                popCallStack();
+            }
+        } catch (ParseException e) {
+            parseException725 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize726);
+            if (WhileStatement30 != null) {
+                if (parseException725 == null) {
+                    closeNodeScope(WhileStatement30, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> IOStatement_FIRST_SET = EnumSet.of(TokenType.READ, 
+    TokenType.WRITE);
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:703:1
+    final public void IOStatement() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "IOStatement";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:703:23
+        if (nextTokenType() == TokenType.READ) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:703:23
+            pushOntoCallStack("IOStatement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            703, 23);
+            try {
+                ReadStatement();
+            } finally {
+                popCallStack();
+            }
+        } else if (nextTokenType() == TokenType.WRITE) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:703:39
+            pushOntoCallStack("IOStatement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            703, 39);
+            try {
+                WriteStatement();
+            } finally {
+                popCallStack();
+            }
+        } else {
+            pushOntoCallStack("IOStatement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            703, 23);
+            throw new ParseException(this, IOStatement_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:758:1
+    final public void ReadStatement() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "ReadStatement";
+        ReadStatement ReadStatement31 = null;
+        if (buildTree) {
+            ReadStatement31 = new ReadStatement();
+            openNodeScope(ReadStatement31);
+        }
+        Token t;
+        ParseException parseException769 = null;
+        int callStackSize770 = parsingStack.size();
+        try {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:760:4
+            consumeToken(TokenType.READ);
+            // Code for RegexpRef specified at /root/project/examples/legacy/Interpreter/SPL.javacc:760:15
+            t = consumeToken(TokenType.IDENTIFIER);
+            // Code for CodeBlock specified at /root/project/examples/legacy/Interpreter/SPL.javacc:761:4
+            ReadStatement31.name = t.getImage();
+        } catch (ParseException e) {
+            parseException769 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize770);
+            if (ReadStatement31 != null) {
+                if (parseException769 == null) {
+                    closeNodeScope(ReadStatement31, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:764:1
+    final public void WriteStatement() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "WriteStatement";
+        WriteStatement WriteStatement32 = null;
+        if (buildTree) {
+            WriteStatement32 = new WriteStatement();
+            openNodeScope(WriteStatement32);
+        }
+        Token t;
+        ParseException parseException785 = null;
+        int callStackSize786 = parsingStack.size();
+        try {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:766:4
+            consumeToken(TokenType.WRITE);
+            // Code for RegexpRef specified at /root/project/examples/legacy/Interpreter/SPL.javacc:766:16
+            t = consumeToken(TokenType.IDENTIFIER);
+            // Code for CodeBlock specified at /root/project/examples/legacy/Interpreter/SPL.javacc:767:4
+            WriteStatement32.name = t.getImage();
+        } catch (ParseException e) {
+            parseException785 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize786);
+            if (WriteStatement32 != null) {
+                if (parseException785 == null) {
+                    closeNodeScope(WriteStatement32, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> first_set$SPL_javacc$206$5 = VarDeclaration_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$SPL_javacc$221$3 = Expression_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$SPL_javacc$611$3 = Assignment_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$SPL_javacc$636$9 = Statement_FIRST_SET;
+
+    private final boolean scanToken(TokenType expectedType, TokenType...additionalTypes) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (type != expectedType) {
+            boolean matched = false;
+            for (TokenType tt : additionalTypes) {
+                if (type == tt) {
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) return false;
+        }
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    private final boolean scanToken(EnumSet<TokenType> types) {
+        Token peekedToken = nextToken(currentLookaheadToken);
+        TokenType type = peekedToken.getType();
+        if (!types.contains(type)) return false;
+        --remainingLookahead;
+        currentLookaheadToken = peekedToken;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:219:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$219$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2147483647;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            if (remainingLookahead <= 0) {
+                passedPredicate = true;
+                return !hitFailure;
+            }
+            if (!check$SPL_javacc$219$8(true)) return false;
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:219:33
+            // NonTerminal Assignment at /root/project/examples/legacy/Interpreter/SPL.javacc:219:33
+            pushOntoLookaheadStack("Expression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            219, 33);
+            currentLookaheadProduction = "Assignment";
+            try {
+                if (!check$Assignment(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:221:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$221$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:221:3
+            // NonTerminal ConditionalOrExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:221:3
+            pushOntoLookaheadStack("Expression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            221, 3);
+            currentLookaheadProduction = "ConditionalOrExpression";
+            try {
+                if (!check$ConditionalOrExpression(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:238:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$238$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:238:5
+            if (!scanToken(TokenType._TOKEN_11)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:238:10
+            // NonTerminal ConditionalAndExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:238:10
+            pushOntoLookaheadStack("ConditionalOrExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            238, 10);
+            currentLookaheadProduction = "ConditionalAndExpression";
+            try {
+                if (!check$ConditionalAndExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:259:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$259$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:259:5
+            if (!scanToken(TokenType._TOKEN_12)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:259:10
+            // NonTerminal InclusiveOrExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:259:10
+            pushOntoLookaheadStack("ConditionalAndExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            259, 10);
+            currentLookaheadProduction = "InclusiveOrExpression";
+            try {
+                if (!check$InclusiveOrExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:279:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$279$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:279:5
+            if (!scanToken(TokenType._TOKEN_13)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:279:9
+            // NonTerminal ExclusiveOrExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:279:9
+            pushOntoLookaheadStack("InclusiveOrExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            279, 9);
+            currentLookaheadProduction = "ExclusiveOrExpression";
+            try {
+                if (!check$ExclusiveOrExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:300:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$300$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:300:5
+            if (!scanToken(TokenType._TOKEN_14)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:300:9
+            // NonTerminal AndExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:300:9
+            pushOntoLookaheadStack("ExclusiveOrExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            300, 9);
+            currentLookaheadProduction = "AndExpression";
+            try {
+                if (!check$AndExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:323:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$323$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:323:5
+            if (!scanToken(TokenType._TOKEN_15)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:323:9
+            // NonTerminal EqualityExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:323:9
+            pushOntoLookaheadStack("AndExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            323, 9);
+            currentLookaheadProduction = "EqualityExpression";
+            try {
+                if (!check$EqualityExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:345:6
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$345$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:345:6
+            Token token827 = currentLookaheadToken;
+            int remainingLookahead827 = remainingLookahead;
+            boolean hitFailure827 = hitFailure, passedPredicate827 = passedPredicate;
+            try {
+                passedPredicate = false;
+                if (!check$SPL_javacc$345$6$(false)) {
+                    currentLookaheadToken = token827;
+                    remainingLookahead = remainingLookahead827;
+                    hitFailure = hitFailure827;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$SPL_javacc$347$6(false)) {
+                        currentLookaheadToken = token827;
+                        remainingLookahead = remainingLookahead827;
+                        hitFailure = hitFailure827;
+                        return false;
+                    }
+                }
+            } finally {
+                passedPredicate = passedPredicate827;
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:345:6
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$345$6$(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:345:6
+            if (!scanToken(TokenType._TOKEN_16)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:345:11
+            // NonTerminal RelationalExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:345:11
+            pushOntoLookaheadStack("EqualityExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            345, 11);
+            currentLookaheadProduction = "RelationalExpression";
+            try {
+                if (!check$RelationalExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:347:6
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$347$6(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:347:6
+            if (!scanToken(TokenType._TOKEN_17)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:347:11
+            // NonTerminal RelationalExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:347:11
+            pushOntoLookaheadStack("EqualityExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            347, 11);
+            currentLookaheadProduction = "RelationalExpression";
+            try {
+                if (!check$RelationalExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:380:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$380$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:380:5
+            Token token835 = currentLookaheadToken;
+            int remainingLookahead835 = remainingLookahead;
+            boolean hitFailure835 = hitFailure, passedPredicate835 = passedPredicate;
+            try {
+                passedPredicate = false;
+                if (!check$SPL_javacc$380$5$(false)) {
+                    currentLookaheadToken = token835;
+                    remainingLookahead = remainingLookahead835;
+                    hitFailure = hitFailure835;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$SPL_javacc$382$5(false)) {
+                        currentLookaheadToken = token835;
+                        remainingLookahead = remainingLookahead835;
+                        hitFailure = hitFailure835;
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!check$SPL_javacc$384$5(false)) {
+                            currentLookaheadToken = token835;
+                            remainingLookahead = remainingLookahead835;
+                            hitFailure = hitFailure835;
+                            if (passedPredicate && !legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!check$SPL_javacc$386$5(false)) {
+                                currentLookaheadToken = token835;
+                                remainingLookahead = remainingLookahead835;
+                                hitFailure = hitFailure835;
+                                return false;
+                            }
+                        }
+                    }
+                }
+            } finally {
+                passedPredicate = passedPredicate835;
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:380:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$380$5$(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:380:5
+            if (!scanToken(TokenType._TOKEN_18)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:380:9
+            // NonTerminal AdditiveExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:380:9
+            pushOntoLookaheadStack("RelationalExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            380, 9);
+            currentLookaheadProduction = "AdditiveExpression";
+            try {
+                if (!check$AdditiveExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:382:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$382$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:382:5
+            if (!scanToken(TokenType._TOKEN_19)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:382:9
+            // NonTerminal AdditiveExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:382:9
+            pushOntoLookaheadStack("RelationalExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            382, 9);
+            currentLookaheadProduction = "AdditiveExpression";
+            try {
+                if (!check$AdditiveExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:384:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$384$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:384:5
+            if (!scanToken(TokenType._TOKEN_20)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:384:10
+            // NonTerminal AdditiveExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:384:10
+            pushOntoLookaheadStack("RelationalExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            384, 10);
+            currentLookaheadProduction = "AdditiveExpression";
+            try {
+                if (!check$AdditiveExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:386:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$386$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:386:5
+            if (!scanToken(TokenType._TOKEN_21)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:386:10
+            // NonTerminal AdditiveExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:386:10
+            pushOntoLookaheadStack("RelationalExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            386, 10);
+            currentLookaheadProduction = "AdditiveExpression";
+            try {
+                if (!check$AdditiveExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:434:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$434$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:434:5
+            Token token849 = currentLookaheadToken;
+            int remainingLookahead849 = remainingLookahead;
+            boolean hitFailure849 = hitFailure, passedPredicate849 = passedPredicate;
+            try {
+                passedPredicate = false;
+                if (!check$SPL_javacc$434$5$(false)) {
+                    currentLookaheadToken = token849;
+                    remainingLookahead = remainingLookahead849;
+                    hitFailure = hitFailure849;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$SPL_javacc$436$5(false)) {
+                        currentLookaheadToken = token849;
+                        remainingLookahead = remainingLookahead849;
+                        hitFailure = hitFailure849;
+                        return false;
+                    }
+                }
+            } finally {
+                passedPredicate = passedPredicate849;
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:434:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$434$5$(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:434:5
+            if (!scanToken(TokenType._TOKEN_22)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:434:9
+            // NonTerminal MultiplicativeExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:434:9
+            pushOntoLookaheadStack("AdditiveExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            434, 9);
+            currentLookaheadProduction = "MultiplicativeExpression";
+            try {
+                if (!check$MultiplicativeExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:436:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$436$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:436:5
+            if (!scanToken(TokenType._TOKEN_23)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:436:9
+            // NonTerminal MultiplicativeExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:436:9
+            pushOntoLookaheadStack("AdditiveExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            436, 9);
+            currentLookaheadProduction = "MultiplicativeExpression";
+            try {
+                if (!check$MultiplicativeExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:462:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$462$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:462:5
+            Token token857 = currentLookaheadToken;
+            int remainingLookahead857 = remainingLookahead;
+            boolean hitFailure857 = hitFailure, passedPredicate857 = passedPredicate;
+            try {
+                passedPredicate = false;
+                if (!check$SPL_javacc$462$5$(false)) {
+                    currentLookaheadToken = token857;
+                    remainingLookahead = remainingLookahead857;
+                    hitFailure = hitFailure857;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$SPL_javacc$464$5(false)) {
+                        currentLookaheadToken = token857;
+                        remainingLookahead = remainingLookahead857;
+                        hitFailure = hitFailure857;
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!check$SPL_javacc$466$5(false)) {
+                            currentLookaheadToken = token857;
+                            remainingLookahead = remainingLookahead857;
+                            hitFailure = hitFailure857;
+                            return false;
+                        }
+                    }
+                }
+            } finally {
+                passedPredicate = passedPredicate857;
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:462:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$462$5$(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:462:5
+            if (!scanToken(TokenType._TOKEN_24)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:462:9
+            // NonTerminal UnaryExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:462:9
+            pushOntoLookaheadStack("MultiplicativeExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            462, 9);
+            currentLookaheadProduction = "UnaryExpression";
+            try {
+                if (!check$UnaryExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:464:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$464$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:464:5
+            if (!scanToken(TokenType._TOKEN_25)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:464:9
+            // NonTerminal UnaryExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:464:9
+            pushOntoLookaheadStack("MultiplicativeExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            464, 9);
+            currentLookaheadProduction = "UnaryExpression";
+            try {
+                if (!check$UnaryExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:466:5
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$466$5(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:466:5
+            if (!scanToken(TokenType._TOKEN_26)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:466:9
+            // NonTerminal UnaryExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:466:9
+            pushOntoLookaheadStack("MultiplicativeExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            466, 9);
+            currentLookaheadProduction = "UnaryExpression";
+            try {
+                if (!check$UnaryExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:499:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$499$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:499:3
+            if (!scanToken(TokenType._TOKEN_27)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:499:7
+            // NonTerminal UnaryExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:499:7
+            pushOntoLookaheadStack("UnaryExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            499, 7);
+            currentLookaheadProduction = "UnaryExpression";
+            try {
+                if (!check$UnaryExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:501:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$501$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:501:3
+            if (!scanToken(TokenType._TOKEN_28)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:501:7
+            // NonTerminal UnaryExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:501:7
+            pushOntoLookaheadStack("UnaryExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            501, 7);
+            currentLookaheadProduction = "UnaryExpression";
+            try {
+                if (!check$UnaryExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:503:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$503$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:503:3
+            // NonTerminal PrimaryExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:503:3
+            pushOntoLookaheadStack("UnaryExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            503, 3);
+            currentLookaheadProduction = "PrimaryExpression";
+            try {
+                if (!check$PrimaryExpression(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:532:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$532$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:532:3
+            // NonTerminal ParentheticalExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:532:3
+            pushOntoLookaheadStack("PrimaryExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            532, 3);
+            currentLookaheadProduction = "ParentheticalExpression";
+            try {
+                if (!check$ParentheticalExpression(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:607:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$607$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 2;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:607:13
+            // NonTerminal LabeledStatement at /root/project/examples/legacy/Interpreter/SPL.javacc:607:13
+            pushOntoLookaheadStack("Statement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            607, 13);
+            currentLookaheadProduction = "LabeledStatement";
+            try {
+                if (!check$LabeledStatement(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:609:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$609$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:609:3
+            // NonTerminal Block at /root/project/examples/legacy/Interpreter/SPL.javacc:609:3
+            pushOntoLookaheadStack("Statement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            609, 3);
+            currentLookaheadProduction = "Block";
+            try {
+                if (!check$Block(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:611:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$611$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:611:3
+            // NonTerminal StatementExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:611:3
+            pushOntoLookaheadStack("Statement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            611, 3);
+            currentLookaheadProduction = "StatementExpression";
+            try {
+                if (!check$StatementExpression(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:613:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$613$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:613:3
+            // NonTerminal IfStatement at /root/project/examples/legacy/Interpreter/SPL.javacc:613:3
+            pushOntoLookaheadStack("Statement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            613, 3);
+            currentLookaheadProduction = "IfStatement";
+            try {
+                if (!check$IfStatement(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:615:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$615$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:615:3
+            // NonTerminal WhileStatement at /root/project/examples/legacy/Interpreter/SPL.javacc:615:3
+            pushOntoLookaheadStack("Statement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            615, 3);
+            currentLookaheadProduction = "WhileStatement";
+            try {
+                if (!check$WhileStatement(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:617:3
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$617$3(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:617:3
+            // NonTerminal IOStatement at /root/project/examples/legacy/Interpreter/SPL.javacc:617:3
+            pushOntoLookaheadStack("Statement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            617, 3);
+            currentLookaheadProduction = "IOStatement";
+            try {
+                if (!check$IOStatement(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:636:9
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$636$9(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:636:9
+            // NonTerminal Statement at /root/project/examples/legacy/Interpreter/SPL.javacc:636:9
+            pushOntoLookaheadStack("Block", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            636, 9);
+            currentLookaheadProduction = "Statement";
+            try {
+                if (!check$Statement(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:677:39
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$677$39(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:39
+            if (!scanToken(TokenType.ELSE)) return false;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:46
+            // NonTerminal Statement at /root/project/examples/legacy/Interpreter/SPL.javacc:677:46
+            pushOntoLookaheadStack("IfStatement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            677, 46);
+            currentLookaheadProduction = "Statement";
+            try {
+                if (!check$Statement(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:703:23
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$703$23(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:703:23
+            // NonTerminal ReadStatement at /root/project/examples/legacy/Interpreter/SPL.javacc:703:23
+            pushOntoLookaheadStack("IOStatement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            703, 23);
+            currentLookaheadProduction = "ReadStatement";
+            try {
+                if (!check$ReadStatement(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // scanahead routine for expansion at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:703:39
+    // BuildScanRoutine macro
+    private final boolean check$SPL_javacc$703$39(boolean scanToEnd) {
+        boolean $reachedScanCode$ = false;
+        int passedPredicateThreshold = remainingLookahead - 1;
+        try {
+            lookaheadRoutineNesting++;
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            $reachedScanCode$ = true;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:703:39
+            // NonTerminal WriteStatement at /root/project/examples/legacy/Interpreter/SPL.javacc:703:39
+            pushOntoLookaheadStack("IOStatement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            703, 39);
+            currentLookaheadProduction = "WriteStatement";
+            try {
+                if (!check$WriteStatement(false)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+        } finally {
+            lookaheadRoutineNesting--;
+            if ($reachedScanCode$ && remainingLookahead <= passedPredicateThreshold) {
+                passedPredicate = true;
+            }
+        }
+        passedPredicate = false;
+        return true;
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/legacy/Interpreter/SPL.javacc:219:3
+    private final boolean scan$SPL_javacc$219$3() {
+        remainingLookahead = UNLIMITED;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            if (remainingLookahead <= 0) {
+                passedPredicate = true;
+                return !hitFailure;
+            }
+            if (!check$SPL_javacc$219$8(true)) return false;
+            // End BuildPredicateCode macro
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // BuildPredicateRoutine: expansion at /root/project/examples/legacy/Interpreter/SPL.javacc:607:3
+    private final boolean scan$SPL_javacc$607$3() {
+        remainingLookahead = 2;
+        currentLookaheadToken = lastConsumedToken;
+        final boolean scanToEnd = false;
+        try {
+            // BuildPredicateCode macro
+            // End BuildPredicateCode macro
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:607:13
+            // NonTerminal LabeledStatement at /root/project/examples/legacy/Interpreter/SPL.javacc:607:13
+            pushOntoLookaheadStack("Statement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            607, 13);
+            currentLookaheadProduction = "LabeledStatement";
+            try {
+                if (!check$LabeledStatement(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            return true;
+        } finally {
+            lookaheadRoutineNesting = 0;
+            currentLookaheadToken = null;
+            hitFailure = false;
+        }
+    }
+
+    // lookahead routine for lookahead at:
+    // /root/project/examples/legacy/Interpreter/SPL.javacc:219:3
+    private final boolean check$SPL_javacc$219$8(boolean scanToEnd) {
+        int prevRemainingLookahead = remainingLookahead;
+        boolean prevHitFailure = hitFailure;
+        Token prevScanAheadToken = currentLookaheadToken;
+        try {
+            lookaheadRoutineNesting++;
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:219:8
+            // NonTerminal PrimaryExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:219:8
+            pushOntoLookaheadStack("Expression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+            219, 8);
+            currentLookaheadProduction = "PrimaryExpression";
+            try {
+                if (!check$PrimaryExpression(true)) return false;
+            } finally {
+                popLookaheadStack();
+            }
+            if (hitFailure) return false;
+            if (remainingLookahead <= 0) {
+                return true;
+            }
+            // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:219:26
+            if (!scanToken(TokenType._TOKEN_10)) return false;
+            return !hitFailure;
+        } finally {
+            lookaheadRoutineNesting--;
+            currentLookaheadToken = prevScanAheadToken;
+            remainingLookahead = prevRemainingLookahead;
+            hitFailure = prevHitFailure;
+        }
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Expression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:219:3
+        Token token914 = currentLookaheadToken;
+        int remainingLookahead914 = remainingLookahead;
+        boolean hitFailure914 = hitFailure, passedPredicate914 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$SPL_javacc$219$3(false)) {
+                currentLookaheadToken = token914;
+                remainingLookahead = remainingLookahead914;
+                hitFailure = hitFailure914;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$SPL_javacc$221$3(false)) {
+                    currentLookaheadToken = token914;
+                    remainingLookahead = remainingLookahead914;
+                    hitFailure = hitFailure914;
+                    return false;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate914;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Assignment(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:234:29
+        // NonTerminal PrimaryExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:234:29
+        pushOntoLookaheadStack("Assignment", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        234, 29);
+        currentLookaheadProduction = "PrimaryExpression";
+        try {
+            if (!check$PrimaryExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:234:47
+        if (!scanToken(TokenType._TOKEN_10)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:234:51
+        // NonTerminal Expression at /root/project/examples/legacy/Interpreter/SPL.javacc:234:51
+        pushOntoLookaheadStack("Assignment", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        234, 51);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ConditionalOrExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:237:3
+        // NonTerminal ConditionalAndExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:237:3
+        pushOntoLookaheadStack("ConditionalOrExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        237, 3);
+        currentLookaheadProduction = "ConditionalAndExpression";
+        try {
+            if (!check$ConditionalAndExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:238:3
+        boolean passedPredicate922 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token923 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$SPL_javacc$238$5(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token923;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate922;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ConditionalAndExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:258:3
+        // NonTerminal InclusiveOrExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:258:3
+        pushOntoLookaheadStack("ConditionalAndExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        258, 3);
+        currentLookaheadProduction = "InclusiveOrExpression";
+        try {
+            if (!check$InclusiveOrExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:259:3
+        boolean passedPredicate927 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token928 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$SPL_javacc$259$5(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token928;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate927;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$InclusiveOrExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:278:3
+        // NonTerminal ExclusiveOrExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:278:3
+        pushOntoLookaheadStack("InclusiveOrExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        278, 3);
+        currentLookaheadProduction = "ExclusiveOrExpression";
+        try {
+            if (!check$ExclusiveOrExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:279:3
+        boolean passedPredicate932 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token933 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$SPL_javacc$279$5(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token933;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate932;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ExclusiveOrExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:299:3
+        // NonTerminal AndExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:299:3
+        pushOntoLookaheadStack("ExclusiveOrExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        299, 3);
+        currentLookaheadProduction = "AndExpression";
+        try {
+            if (!check$AndExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:300:3
+        boolean passedPredicate937 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token938 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$SPL_javacc$300$5(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token938;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate937;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$AndExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:322:3
+        // NonTerminal EqualityExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:322:3
+        pushOntoLookaheadStack("AndExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        322, 3);
+        currentLookaheadProduction = "EqualityExpression";
+        try {
+            if (!check$EqualityExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:323:3
+        boolean passedPredicate942 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token943 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$SPL_javacc$323$5(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token943;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate942;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$EqualityExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:343:3
+        // NonTerminal RelationalExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:343:3
+        pushOntoLookaheadStack("EqualityExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        343, 3);
+        currentLookaheadProduction = "RelationalExpression";
+        try {
+            if (!check$RelationalExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:344:3
+        boolean passedPredicate947 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token948 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$SPL_javacc$345$6(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token948;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate947;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$RelationalExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:378:3
+        // NonTerminal AdditiveExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:378:3
+        pushOntoLookaheadStack("RelationalExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        378, 3);
+        currentLookaheadProduction = "AdditiveExpression";
+        try {
+            if (!check$AdditiveExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:379:3
+        boolean passedPredicate952 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token953 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$SPL_javacc$380$5(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token953;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate952;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$AdditiveExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:432:3
+        // NonTerminal MultiplicativeExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:432:3
+        pushOntoLookaheadStack("AdditiveExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        432, 3);
+        currentLookaheadProduction = "MultiplicativeExpression";
+        try {
+            if (!check$MultiplicativeExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:433:3
+        boolean passedPredicate957 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token958 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$SPL_javacc$434$5(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token958;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate957;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$MultiplicativeExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:460:3
+        // NonTerminal UnaryExpression at /root/project/examples/legacy/Interpreter/SPL.javacc:460:3
+        pushOntoLookaheadStack("MultiplicativeExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        460, 3);
+        currentLookaheadProduction = "UnaryExpression";
+        try {
+            if (!check$UnaryExpression(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:461:3
+        boolean passedPredicate962 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token963 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$SPL_javacc$462$5(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token963;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate962;
+        }
+        hitFailure = false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$UnaryExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:499:3
+        Token token965 = currentLookaheadToken;
+        int remainingLookahead965 = remainingLookahead;
+        boolean hitFailure965 = hitFailure, passedPredicate965 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$SPL_javacc$499$3(false)) {
+                currentLookaheadToken = token965;
+                remainingLookahead = remainingLookahead965;
+                hitFailure = hitFailure965;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$SPL_javacc$501$3(false)) {
+                    currentLookaheadToken = token965;
+                    remainingLookahead = remainingLookahead965;
+                    hitFailure = hitFailure965;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$SPL_javacc$503$3(false)) {
+                        currentLookaheadToken = token965;
+                        remainingLookahead = remainingLookahead965;
+                        hitFailure = hitFailure965;
+                        return false;
+                    }
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate965;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$PrimaryExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:528:3
+        Token token967 = currentLookaheadToken;
+        int remainingLookahead967 = remainingLookahead;
+        boolean hitFailure967 = hitFailure, passedPredicate967 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!scanToken(TokenType.INTEGER_LITERAL, TokenType.TRUE, TokenType.FALSE)) {
+                currentLookaheadToken = token967;
+                remainingLookahead = remainingLookahead967;
+                hitFailure = hitFailure967;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!scanToken(TokenType.IDENTIFIER)) {
+                    currentLookaheadToken = token967;
+                    remainingLookahead = remainingLookahead967;
+                    hitFailure = hitFailure967;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$SPL_javacc$532$3(false)) {
+                        currentLookaheadToken = token967;
+                        remainingLookahead = remainingLookahead967;
+                        hitFailure = hitFailure967;
+                        return false;
+                    }
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate967;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ParentheticalExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:536:4
+        if (!scanToken(TokenType._TOKEN_29)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:536:8
+        // NonTerminal Expression at /root/project/examples/legacy/Interpreter/SPL.javacc:536:8
+        pushOntoLookaheadStack("ParentheticalExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        536, 8);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:536:19
+        if (!scanToken(TokenType._TOKEN_30)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Statement(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:605:3
+        Token token976 = currentLookaheadToken;
+        int remainingLookahead976 = remainingLookahead;
+        boolean hitFailure976 = hitFailure, passedPredicate976 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!scanToken(TokenType._TOKEN_9)) {
+                currentLookaheadToken = token976;
+                remainingLookahead = remainingLookahead976;
+                hitFailure = hitFailure976;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$SPL_javacc$607$3(false)) {
+                    currentLookaheadToken = token976;
+                    remainingLookahead = remainingLookahead976;
+                    hitFailure = hitFailure976;
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    passedPredicate = false;
+                    if (!check$SPL_javacc$609$3(false)) {
+                        currentLookaheadToken = token976;
+                        remainingLookahead = remainingLookahead976;
+                        hitFailure = hitFailure976;
+                        if (passedPredicate && !legacyGlitchyLookahead) return false;
+                        passedPredicate = false;
+                        if (!check$SPL_javacc$611$3(false)) {
+                            currentLookaheadToken = token976;
+                            remainingLookahead = remainingLookahead976;
+                            hitFailure = hitFailure976;
+                            if (passedPredicate && !legacyGlitchyLookahead) return false;
+                            passedPredicate = false;
+                            if (!check$SPL_javacc$613$3(false)) {
+                                currentLookaheadToken = token976;
+                                remainingLookahead = remainingLookahead976;
+                                hitFailure = hitFailure976;
+                                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                passedPredicate = false;
+                                if (!check$SPL_javacc$615$3(false)) {
+                                    currentLookaheadToken = token976;
+                                    remainingLookahead = remainingLookahead976;
+                                    hitFailure = hitFailure976;
+                                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                                    passedPredicate = false;
+                                    if (!check$SPL_javacc$617$3(false)) {
+                                        currentLookaheadToken = token976;
+                                        remainingLookahead = remainingLookahead976;
+                                        hitFailure = hitFailure976;
+                                        return false;
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate976;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$LabeledStatement(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/legacy/Interpreter/SPL.javacc:621:3
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:621:16
+        if (!scanToken(TokenType._TOKEN_33)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:621:20
+        // NonTerminal Statement at /root/project/examples/legacy/Interpreter/SPL.javacc:621:20
+        pushOntoLookaheadStack("LabeledStatement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        621, 20);
+        currentLookaheadProduction = "Statement";
+        try {
+            if (!check$Statement(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$Block(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:636:3
+        if (!scanToken(TokenType._TOKEN_34)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrMore specified at /root/project/examples/legacy/Interpreter/SPL.javacc:636:7
+        boolean passedPredicate984 = passedPredicate;
+        try {
+            while (remainingLookahead > 0 && !hitFailure) {
+                Token token985 = currentLookaheadToken;
+                passedPredicate = false;
+                if (!check$SPL_javacc$636$9(false)) {
+                    if (passedPredicate && !legacyGlitchyLookahead) return false;
+                    currentLookaheadToken = token985;
+                    break;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate984;
+        }
+        hitFailure = false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:636:22
+        if (!scanToken(TokenType._TOKEN_35)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$StatementExpression(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:652:3
+        // NonTerminal Assignment at /root/project/examples/legacy/Interpreter/SPL.javacc:652:3
+        pushOntoLookaheadStack("StatementExpression", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        652, 3);
+        currentLookaheadProduction = "Assignment";
+        try {
+            if (!check$Assignment(false)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:652:14
+        if (!scanToken(TokenType._TOKEN_9)) return false;
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$IfStatement(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:3
+        if (!scanToken(TokenType.IF)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:8
+        if (!scanToken(TokenType._TOKEN_29)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:12
+        // NonTerminal Expression at /root/project/examples/legacy/Interpreter/SPL.javacc:677:12
+        pushOntoLookaheadStack("IfStatement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        677, 12);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:23
+        if (!scanToken(TokenType._TOKEN_30)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:27
+        // NonTerminal Statement at /root/project/examples/legacy/Interpreter/SPL.javacc:677:27
+        pushOntoLookaheadStack("IfStatement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        677, 27);
+        currentLookaheadProduction = "Statement";
+        try {
+            if (!check$Statement(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ZeroOrOne specified at /root/project/examples/legacy/Interpreter/SPL.javacc:677:37
+        Token token997 = currentLookaheadToken;
+        boolean passedPredicate997 = passedPredicate;
+        passedPredicate = false;
+        try {
+            if (!check$SPL_javacc$677$39(false)) {
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                currentLookaheadToken = token997;
+                hitFailure = false;
+            }
+        } finally {
+            passedPredicate = passedPredicate997;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$WhileStatement(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:700:3
+        if (!scanToken(TokenType.WHILE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:700:11
+        if (!scanToken(TokenType._TOKEN_29)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:700:15
+        // NonTerminal Expression at /root/project/examples/legacy/Interpreter/SPL.javacc:700:15
+        pushOntoLookaheadStack("WhileStatement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        700, 15);
+        currentLookaheadProduction = "Expression";
+        try {
+            if (!check$Expression(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:700:26
+        if (!scanToken(TokenType._TOKEN_30)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for NonTerminal specified at /root/project/examples/legacy/Interpreter/SPL.javacc:700:30
+        // NonTerminal Statement at /root/project/examples/legacy/Interpreter/SPL.javacc:700:30
+        pushOntoLookaheadStack("WhileStatement", "/root/project/examples/legacy/Interpreter/SPL.javacc", 
+        700, 30);
+        currentLookaheadProduction = "Statement";
+        try {
+            if (!check$Statement(true)) return false;
+        } finally {
+            popLookaheadStack();
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$IOStatement(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for ExpansionChoice specified at /root/project/examples/legacy/Interpreter/SPL.javacc:703:23
+        Token token1005 = currentLookaheadToken;
+        int remainingLookahead1005 = remainingLookahead;
+        boolean hitFailure1005 = hitFailure, passedPredicate1005 = passedPredicate;
+        try {
+            passedPredicate = false;
+            if (!check$SPL_javacc$703$23(false)) {
+                currentLookaheadToken = token1005;
+                remainingLookahead = remainingLookahead1005;
+                hitFailure = hitFailure1005;
+                if (passedPredicate && !legacyGlitchyLookahead) return false;
+                passedPredicate = false;
+                if (!check$SPL_javacc$703$39(false)) {
+                    currentLookaheadToken = token1005;
+                    remainingLookahead = remainingLookahead1005;
+                    hitFailure = hitFailure1005;
+                    return false;
+                }
+            }
+        } finally {
+            passedPredicate = passedPredicate1005;
+        }
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$ReadStatement(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:760:4
+        if (!scanToken(TokenType.READ)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/legacy/Interpreter/SPL.javacc:760:15
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for CodeBlock specified at /root/project/examples/legacy/Interpreter/SPL.javacc:761:4
+        return true;
+    }
+
+    // BuildProductionLookaheadMethod macro
+    private final boolean check$WriteStatement(boolean scanToEnd) {
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpStringLiteral specified at /root/project/examples/legacy/Interpreter/SPL.javacc:766:4
+        if (!scanToken(TokenType.WRITE)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for RegexpRef specified at /root/project/examples/legacy/Interpreter/SPL.javacc:766:16
+        if (!scanToken(TokenType.IDENTIFIER)) return false;
+        if (hitFailure) return false;
+        if (remainingLookahead <= 0) {
+            return true;
+        }
+        // Lookahead Code for CodeBlock specified at /root/project/examples/legacy/Interpreter/SPL.javacc:767:4
+        return true;
+    }
+
+    CallStack parsingStack = new CallStack();
+    private CallStack lookaheadStack = new CallStack();
+
+    /**
+    * Inner class that represents entering a grammar production
+    */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile = sourceFile;
+            this.productionName = productionName;
+            this.line = line;
+            this.column = column;
+        }
+
+        final SPLLexer getTokenSource() {
+            return SPLParser.this.token_source;
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("SPLParser", productionName, sourceFile, line);
+        }
+
+        void dump(PrintStream ps) {
+            ps.println(productionName + ":" + line + ":" + column);
+        }
+
+    }
+
+
+    /**
+    * A stack of calls to grammar productions, kept in parallel arrays
+    * so that entering a production does not allocate anything.
+    * The NonTerminalCall objects are only created when they are needed,
+    * i.e. for a ParseException. The production names and source files
+    * are always string literals, so we just hold onto the references.
+    */
+    class CallStack {
+        private String[] productionNames = new String[16], sourceFiles = new String[16];
+        private int[] lines = new int[16], columns = new int[16];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void push(String productionName, String sourceFile, int line, int column) {
+            if (size == lines.length) {
+                int newCapacity = size * 2;
+                productionNames = Arrays.copyOf(productionNames, newCapacity);
+                sourceFiles = Arrays.copyOf(sourceFiles, newCapacity);
+                lines = Arrays.copyOf(lines, newCapacity);
+                columns = Arrays.copyOf(columns, newCapacity);
+            }
+            productionNames[size] = productionName;
+            sourceFiles[size] = sourceFile;
+            lines[size] = line;
+            columns[size] = column;
+            ++size;
+        }
+
+        /**
+        * Removes the top entry, which can still be read
+        * until something else is pushed.
+        * @return the index of the entry removed
+        */
+        int pop() {
+            return --size;
+        }
+
+        String getProductionName(int index) {
+            return productionNames[index];
+        }
+
+        NonTerminalCall get(int index) {
+            return new NonTerminalCall(sourceFiles[index], productionNames[index], lines[index], 
+            columns[index]);
+        }
+
+        java.util.List<NonTerminalCall> toList() {
+            java.util.List<NonTerminalCall> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(get(i));
+            }
+            return result;
+        }
+
+        /**
+        * Pops everything above the given size. The entries
+        * below that are still there, since they are never
+        * overwritten until they are popped.
+        */
+        void truncate(int size) {
+            this.size = size;
+        }
+
+        void dump(PrintStream ps) {
+            for (int i = size - 1; i >= 0; i--) {
+                ps.println(productionNames[i] + ":" + lines[i] + ":" + columns[i]);
+            }
+        }
+
+    }
+
+
+    private final void pushOntoCallStack(String methodName, String fileName, int line, int column) {
+        parsingStack.push(methodName, fileName, line, column);
+    }
+
+    private final void popCallStack() {
+        int top = parsingStack.pop();
+        this.currentlyParsedProduction = parsingStack.getProductionName(top);
+    }
+
+    private final void restoreCallStack(int prevSize) {
+        while (parsingStack.size() > prevSize) {
+            popCallStack();
+        }
+    }
+
+
+    /**
+    * Iterates over the names of the productions on the parsing stack
+    * and then the lookahead stack, i.e. from the bottom to the top,
+    * or the other way round if it is backward.
+    */
+    private class CallStackIterator implements java.util.ListIterator<String> {
+        private final boolean backward;
+        private int index;
+
+        CallStackIterator(boolean backward) {
+            this.backward = backward;
+            if (backward) index = parsingStack.size() + lookaheadStack.size();
+        }
+
+        private String get(int i) {
+            int parsingStackSize = parsingStack.size();
+            return i < parsingStackSize ? parsingStack.getProductionName(i) : lookaheadStack.getProductionName(i - parsingStackSize);
+        }
+
+        public boolean hasNext() {
+            return backward ? index > 0 : index < parsingStack.size() + lookaheadStack.size();
+        }
+
+        public String next() {
+            if (!hasNext()) throw new java.util.NoSuchElementException();
+            return backward ? get(--index) : get(index++);
+        }
+
+        public boolean hasPrevious() {
+            return backward ? index < parsingStack.size() + lookaheadStack.size() : index > 0;
+        }
+
+        public String previous() {
+            if (!hasPrevious()) throw new java.util.NoSuchElementException();
+            return backward ? get(index++) : get(--index);
+        }
+
+        public void add(String productionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void set(String productionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        public int previousIndex() {
+            throw new UnsupportedOperationException();
+        }
+
+        public int nextIndex() {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+
+    private final void pushOntoLookaheadStack(String methodName, String fileName, int line, 
+    int column) {
+        lookaheadStack.push(methodName, fileName, line, column);
+    }
+
+    private final void popLookaheadStack() {
+        int top = lookaheadStack.pop();
+        this.currentLookaheadProduction = lookaheadStack.getProductionName(top);
+    }
+
+    void dumpLookaheadStack(PrintStream ps) {
+        lookaheadStack.dump(ps);
+    }
+
+    void dumpCallStack(PrintStream ps) {
+        parsingStack.dump(ps);
+    }
+
+    void dumpLookaheadCallStack(PrintStream ps) {
+        ps.println("Current Parser Production is: " + currentlyParsedProduction);
+        ps.println("Current Lookahead Production is: " + currentLookaheadProduction);
+        ps.println("---Lookahead Stack---");
+        dumpLookaheadStack(ps);
+        ps.println("---Call Stack---");
+        dumpCallStack(ps);
+    }
+
+    public boolean isParserTolerant() {
+        return false;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    private Token consumeToken(TokenType expectedType) {
+        Token nextToken = nextToken(lastConsumedToken);
+        if (nextToken.getType() != expectedType) {
+            nextToken = handleUnexpectedTokenType(expectedType, nextToken);
+        }
+        this.lastConsumedToken = nextToken;
+        this.nextTokenType = null;
+        if (buildTree && tokensAreNodes) {
+            pushNode(lastConsumedToken);
+        }
+        return lastConsumedToken;
+    }
+
+    private Token handleUnexpectedTokenType(TokenType expectedType, Token nextToken) {
+        throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+    }
+
+
+    /**
+    * The state we go back to if an ATTEMPT fails. Stashing this is O(1).
+    * Everything on the parsing stack at this point is still there
+    * when we backtrack, since the code in the ATTEMPT only pops
+    * what it pushes, so we just need the size of the stack.
+    * Likewise, we hold onto the current node scope and the changes
+    * to the node scopes after this point are logged so that
+    * we can undo them.
+    */
+    private class ParseState {
+        Token lastConsumed;
+        int parsingStackSize;
+        NodeScope nodeScope;
+        int undoLogMark;
+
+        ParseState() {
+            this.lastConsumed = SPLParser.this.lastConsumedToken;
+            this.parsingStackSize = SPLParser.this.parsingStack.size();
+            this.nodeScope = currentNodeScope;
+            this.undoLogMark = undoLogLength;
+        }
+
+    }
+
+    private ArrayList<ParseState> parseStateStack = new ArrayList<>();
+    private boolean buildTree = true;
+    private boolean tokensAreNodes = true;
+    private boolean unparsedTokensAreNodes = false;
+
+    public boolean isTreeBuildingEnabled() {
+        return buildTree;
+    }
+
+    public void setUnparsedTokensAreNodes(boolean unparsedTokensAreNodes) {
+        this.unparsedTokensAreNodes = unparsedTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes = tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope = new NodeScope();
+
+    /**
+    * @return the root node of the AST. It only makes sense to call
+    * this after a successful parse.
+    */
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+
+    /**
+    * push a node onto the top of the node stack
+    * @param n the node to push
+    */
+    public void pushNode(Node n) {
+        logNodeScopeChange(currentNodeScope, currentNodeScope.size(), null);
+        currentNodeScope.add(n);
+    }
+
+    /**
+    * @return the node on the top of the stack, and remove it from the
+    * stack.
+    */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /**
+    * @return the node currently on the top of the tree-building stack.
+    */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+    * Puts the node on the top of the stack. However, unlike pushNode()
+    * it replaces the node that is currently on the top of the stack.
+    * This is effectively equivalent to popNode() followed by pushNode(n)
+    * @param n the node to poke
+    */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /**
+    * @return the number of Nodes on the tree-building stack in the current node
+    * scope.
+    */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    private void clearNodeScope() {
+        for (int i = currentNodeScope.size() - 1; i >= 0; i--) {
+            logNodeScopeChange(currentNodeScope, i + 1, currentNodeScope.get(i));
+        }
+        currentNodeScope.clear();
+    }
+
+    // A log of the changes made to the node scopes while there is
+    // a stashed ParseState, so that we can undo them if we
+    // backtrack. Each entry is the scope, its size before the change,
+    // and the node that was removed or replaced, if any.
+    private NodeScope[] undoScopes = new NodeScope[16];
+    private int[] undoSizes = new int[16];
+    private Node[] undoNodes = new Node[16];
+    private int undoLogLength;
+
+    private void logNodeScopeChange(NodeScope scope, int previousSize, Node removedNode) {
+        if (parseStateStack.isEmpty()) return;
+        if (undoLogLength == undoSizes.length) {
+            int newCapacity = undoLogLength * 2;
+            undoScopes = Arrays.copyOf(undoScopes, newCapacity);
+            undoSizes = Arrays.copyOf(undoSizes, newCapacity);
+            undoNodes = Arrays.copyOf(undoNodes, newCapacity);
+        }
+        undoScopes[undoLogLength] = scope;
+        undoSizes[undoLogLength] = previousSize;
+        undoNodes[undoLogLength++] = removedNode;
+    }
+
+    private void clearUndoLog() {
+        Arrays.fill(undoScopes, 0, undoLogLength, null);
+        Arrays.fill(undoNodes, 0, undoLogLength, null);
+        undoLogLength = 0;
+    }
+
+    private void openNodeScope(Node n) {
+        new NodeScope();
+        if (n != null) {
+            Token next = nextToken(lastConsumedToken);
+            n.setTokenSource(lastConsumedToken.getTokenSource());
+            n.setBeginOffset(next.getBeginOffset());
+            n.open();
+        }
+    }
+
+    /* A definite node is constructed from a specified number of
+    * children.  That number of nodes are popped from the stack and
+    * made the children of the definite node.  Then the definite node
+    * is pushed on to the stack.
+    */
+    private void closeNodeScope(Node n, int num) {
+        n.setEndOffset(lastConsumedToken.getEndOffset());
+        currentNodeScope.close();
+        ArrayList<Node> nodes = new ArrayList<Node>();
+        for (int i = 0; i < num; i++) {
+            nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+            // FIXME deal with the UNPARSED_TOKENS_ARE_NODES case
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+    * A conditional node is constructed if the condition is true.  All
+    * the nodes that have been pushed since the node was opened are
+    * made children of the conditional node, which is then pushed
+    * on to the stack.  If the condition is false the node is not
+    * constructed and they are left on the stack.
+    */
+    private void closeNodeScope(Node n, boolean condition) {
+        if (n != null && condition) {
+            n.setEndOffset(lastConsumedToken.getEndOffset());
+            int a = nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node> nodes = new ArrayList<Node>();
+            while (a-- > 0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+                if (unparsedTokensAreNodes && child instanceof Token) {
+                    Token tok = (Token) child;
+                    while (tok.previousCachedToken() != null && tok.previousCachedToken().isUnparsed()) {
+                        tok = tok.previousCachedToken();
+                    }
+                    while (tok.isUnparsed()) {
+                        n.addChild(tok);
+                        tok = tok.nextCachedToken();
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            pushNode(n);
+        } else {
+            currentNodeScope.close();
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree = buildTree;
+    }
+
+    /**
+    * Just a kludge so that existing jjtree-based code that uses
+    * parser.jjtree.foo can work without change.
+    */
+    SPLParser jjtree = this;
+
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node> {
+        NodeScope parentScope;
+
+        NodeScope() {
+            this.parentScope = SPLParser.this.currentNodeScope;
+            SPLParser.this.currentNodeScope = this;
+        }
+
+        boolean isRootScope() {
+            return parentScope == null;
+        }
+
+        Node rootNode() {
+            NodeScope ns = this;
+            while (ns.parentScope != null) {
+                ns = ns.parentScope;
+            }
+            return ns.isEmpty() ? null : ns.get(0);
+        }
+
+        Node peek() {
+            if (isEmpty()) {
+                return parentScope == null ? null : parentScope.peek();
+            }
+            return get(size() - 1);
+        }
+
+        Node pop() {
+            if (isEmpty()) return parentScope.pop();
+            Node result = remove(size() - 1);
+            logNodeScopeChange(this, size() + 1, result);
+            return result;
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            } else {
+                logNodeScopeChange(this, size(), set(size() - 1, n));
+            }
+        }
+
+        void close() {
+            logNodeScopeChange(parentScope, parentScope.size(), null);
+            parentScope.addAll(this);
+            SPLParser.this.currentNodeScope = parentScope;
+        }
+
+        int nestingLevel() {
+            int result = 0;
+            NodeScope parent = this;
+            while (parent.parentScope != null) {
+                result++;
+                parent = parent.parentScope;
+            }
+            return result;
+        }
+
+    }
+
+}
+
@@ -0,0 +1,182 @@
+
+/* Generated by: JavaCC 21 Parser Generator. SPLVisitor.java */
+/**
+* A visitor that is dispatched without reflection. Each Node gets
+* passed to the visit method for its own class via Node#accept(SPLVisitor).
+* If that is not overridden, it passes the node on to the visit methods
+* for the Node interfaces the class implements, until it gets to one that
+* is overridden, and failing that, to the one for its superclass, which
+* goes on in the same way. That is the order that Node.Visitor looks in,
+* so the same visit methods get called. If none of them is overridden, it
+* just goes into the children.
+* Unlike with Node.Visitor, the visit methods have to be public, but
+* they are otherwise written the same way.
+*/
+public abstract class SPLVisitor {
+    protected boolean visitUnparsedTokens;
+
+    public final void visit(Node node) {
+        node.accept(this);
+    }
+
+    /**
+    * Just recurses over (i.e. visits) node's children
+    * @param node the node we are traversing
+    */
+    public void recurse(Node node) {
+        for (Node child : node.children(visitUnparsedTokens)) {
+            visit(child);
+        }
+    }
+
+    public void visit(AddNode node) {
+        recurse(node);
+    }
+
+    public void visit(AndNode node) {
+        recurse(node);
+    }
+
+    public void visit(Assignment node) {
+        recurse(node);
+    }
+
+    public void visit(BOOL node) {
+        visit((Token) node);
+    }
+
+    public void visit(BitwiseAndNode node) {
+        recurse(node);
+    }
+
+    public void visit(BitwiseComplNode node) {
+        recurse(node);
+    }
+
+    public void visit(BitwiseOrNode node) {
+        recurse(node);
+    }
+
+    public void visit(BitwiseXorNode node) {
+        recurse(node);
+    }
+
+    public void visit(Block node) {
+        recurse(node);
+    }
+
+    public void visit(CompilationUnit node) {
+        recurse(node);
+    }
+
+    public void visit(DivNode node) {
+        recurse(node);
+    }
+
+    public void visit(EQNode node) {
+        recurse(node);
+    }
+
+    public void visit(FalseNode node) {
+        recurse(node);
+    }
+
+    public void visit(GENode node) {
+        recurse(node);
+    }
+
+    public void visit(GTNode node) {
+        recurse(node);
+    }
+
+    public void visit(IDENTIFIER node) {
+        visit((Token) node);
+    }
+
+    public void visit(INT node) {
+        visit((Token) node);
+    }
+
+    public void visit(INTEGER_LITERAL node) {
+        visit((Token) node);
+    }
+
+    public void visit(Id node) {
+        recurse(node);
+    }
+
+    public void visit(IfStatement node) {
+        recurse(node);
+    }
+
+    public void visit(IntConstNode node) {
+        recurse(node);
+    }
+
+    public void visit(LENode node) {
+        recurse(node);
+    }
+
+    public void visit(LTNode node) {
+        recurse(node);
+    }
+
+    public void visit(ModNode node) {
+        recurse(node);
+    }
+
+    public void visit(MulNode node) {
+        recurse(node);
+    }
+
+    public void visit(NENode node) {
+        recurse(node);
+    }
+
+    public void visit(NotNode node) {
+        recurse(node);
+    }
+
+    public void visit(OrNode node) {
+        recurse(node);
+    }
+
+    public void visit(ParentheticalExpression node) {
+        recurse(node);
+    }
+
+    public void visit(ReadStatement node) {
+        recurse(node);
+    }
+
+    public void visit(StatementExpression node) {
+        recurse(node);
+    }
+
+    public void visit(SubtractNode node) {
+        recurse(node);
+    }
+
+    public void visit(Token node) {
+        recurse(node);
+    }
+
+    public void visit(TrueNode node) {
+        recurse(node);
+    }
+
+    public void visit(VarDeclaration node) {
+        recurse(node);
+    }
+
+    public void visit(WhileStatement node) {
+        recurse(node);
+    }
+
+    public void visit(WriteStatement node) {
+        recurse(node);
+    }
+
+}
+
+
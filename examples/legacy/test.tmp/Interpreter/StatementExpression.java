@@ -0,0 +1,20 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for StatementExpression AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class StatementExpression extends SimpleNode {
+
+    public void interpret() {
+        getChild(0).interpret();
+        top--;
+        //just throw away the value.
+    }
+
+    public void accept(SPLVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
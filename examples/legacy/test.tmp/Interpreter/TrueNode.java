@@ -0,0 +1,18 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for TrueNode AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class TrueNode extends SimpleNode {
+
+    public void interpret() {
+        stack[++top] = Boolean.TRUE;
+    }
+
+    public void accept(SPLVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
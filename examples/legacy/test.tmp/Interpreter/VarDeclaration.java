@@ -0,0 +1,21 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for VarDeclaration AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class VarDeclaration extends SimpleNode implements SPLConstants {
+    TokenType type;
+    String name;
+
+    public void interpret() {
+        if (type == TokenType.BOOL) symtab.put(name, Boolean.FALSE);
+        else symtab.put(name, 0);
+    }
+
+    public void accept(SPLVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,26 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for WhileStatement AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class WhileStatement extends SimpleNode {
+
+    public void interpret() {
+        do {
+            getChild(2).interpret();
+            if (((Boolean) stack[top--]).booleanValue()) {
+                getChild(4).interpret();
+            } else {
+                break;
+            }
+        }
+        while (true);
+    }
+
+    public void accept(SPLVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,14 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for BC AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class BC extends BaseNode {
+
+    public void accept(Example1Visitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
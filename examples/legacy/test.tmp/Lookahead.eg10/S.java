@@ -0,0 +1,14 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for S AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class S extends BaseNode {
+
+    public void accept(Example10Visitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,18 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for ID Token subclass
+* by the ASTToken.java.ftl template
+*/
+public class ID extends Token {
+
+    public ID(TokenType type, Example4Lexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+    public void accept(Example4Visitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,18 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for INT Token subclass
+* by the ASTToken.java.ftl template
+*/
+public class INT extends Token {
+
+    public INT(TokenType type, Example5Lexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+    public void accept(Example5Visitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,26 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. Example6Constants.java */
+public interface Example6Constants {
+
+    /**
+    * The various token types. The first type EOF
+    * and the last type INVALID are auto-generated.
+    * They represent the end of input and invalid input
+    * respectively.
+    */
+    public enum TokenType {
+        EOF, _TOKEN_1, _TOKEN_2, _TOKEN_3, _TOKEN_4, _TOKEN_5, _TOKEN_6, _TOKEN_7, NEW, TBD, 
+        ID, INVALID
+    }
+
+
+    /**
+    * Lexical States
+    */
+    public enum LexicalState {
+        DEFAULT
+    }
+
+}
+
+
@@ -0,0 +1,14 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for funny_list AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class funny_list extends BaseNode {
+
+    public void accept(Example9Visitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,28 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. DigestConstants.java */
+package digest;
+
+
+public interface DigestConstants {
+
+    /**
+    * The various token types. The first type EOF
+    * and the last type INVALID are auto-generated.
+    * They represent the end of input and invalid input
+    * respectively.
+    */
+    public enum TokenType {
+        EOF, _TOKEN_1, _TOKEN_2, _TWOEOLS, _TOKEN_4, _TOKEN_5, _TOKEN_6, _TOKEN_7, SUBJECT, 
+        _EOL1, FROM, _EOL2, DATE, _EOL3, BODY, END, INVALID
+    }
+
+
+    /**
+    * Lexical States
+    */
+    public enum LexicalState {
+        DEFAULT, MAILHEADER, MAILSUBJECT, MAILFROM, MAILDATE, MAILBODY
+    }
+
+}
+
+
@@ -0,0 +1,22 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for FROM Token subclass
+* by the ASTToken.java.ftl template
+*/
+package digest;
+
+import static digest.DigestConstants.TokenType.*;
+
+
+public class FROM extends Token {
+
+    public FROM(TokenType type, DigestLexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+    public void accept(DigestVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,18 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for MailFile AST Node type
+* by the ASTNode.java.ftl template
+*/
+package digest;
+
+import static digest.DigestConstants.TokenType.*;
+
+
+public class MailFile extends BaseNode {
+
+    public void accept(DigestVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
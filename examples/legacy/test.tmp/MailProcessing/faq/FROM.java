@@ -0,0 +1,22 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for FROM Token subclass
+* by the ASTToken.java.ftl template
+*/
+package faq;
+
+import static faq.FaqConstants.TokenType.*;
+
+
+public class FROM extends Token {
+
+    public FROM(TokenType type, FaqLexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+    public void accept(FaqVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
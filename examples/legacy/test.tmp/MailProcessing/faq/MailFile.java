@@ -0,0 +1,18 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for MailFile AST Node type
+* by the ASTNode.java.ftl template
+*/
+package faq;
+
+import static faq.FaqConstants.TokenType.*;
+
+
+public class MailFile extends BaseNode {
+
+    public void accept(FaqVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,18 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for INTEGER_LITERAL Token subclass
+* by the ASTToken.java.ftl template
+*/
+public class INTEGER_LITERAL extends Token {
+
+    public INTEGER_LITERAL(TokenType type, eg1Lexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+    public void accept(eg1Visitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,14 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for MultiplicativeExpression AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class MultiplicativeExpression extends BaseNode {
+
+    public void accept(eg1Visitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,66 @@
+
+/* Generated by: JavaCC 21 Parser Generator. eg1Visitor.java */
+/**
+* A visitor that is dispatched without reflection. Each Node gets
+* passed to the visit method for its own class via Node#accept(eg1Visitor).
+* If that is not overridden, it passes the node on to the visit methods
+* for the Node interfaces the class implements, until it gets to one that
+* is overridden, and failing that, to the one for its superclass, which
+* goes on in the same way. That is the order that Node.Visitor looks in,
+* so the same visit methods get called. If none of them is overridden, it
+* just goes into the children.
+* Unlike with Node.Visitor, the visit methods have to be public, but
+* they are otherwise written the same way.
+*/
+public abstract class eg1Visitor {
+    protected boolean visitUnparsedTokens;
+
+    public final void visit(Node node) {
+        node.accept(this);
+    }
+
+    /**
+    * Just recurses over (i.e. visits) node's children
+    * @param node the node we are traversing
+    */
+    public void recurse(Node node) {
+        for (Node child : node.children(visitUnparsedTokens)) {
+            visit(child);
+        }
+    }
+
+    public void visit(AdditiveExpression node) {
+        recurse(node);
+    }
+
+    public void visit(Expression node) {
+        recurse(node);
+    }
+
+    public void visit(IDENTIFIER node) {
+        visit((Token) node);
+    }
+
+    public void visit(INTEGER_LITERAL node) {
+        visit((Token) node);
+    }
+
+    public void visit(MultiplicativeExpression node) {
+        recurse(node);
+    }
+
+    public void visit(Start node) {
+        recurse(node);
+    }
+
+    public void visit(Token node) {
+        recurse(node);
+    }
+
+    public void visit(UnaryExpression node) {
+        recurse(node);
+    }
+
+}
+
+
@@ -0,0 +1,1043 @@
+/* Generated by: JavaCC 21 Parser Generator. Eg2.java */
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.concurrent.CancellationException;
+
+
+public class Eg2 implements eg2Constants {
+
+    /** Main entry point. */
+    public static void main(String args[]) {
+        System.out.println("Reading from standard input...");
+        Eg2 t = new Eg2(new java.io.InputStreamReader(System.in));
+        try {
+            Start n = t.Start();
+            n.dump("  ");
+            System.out.println("Thank you.");
+        } catch (Exception e) {
+            System.out.println("Oops.");
+            System.out.println(e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    static final int UNLIMITED = Integer.MAX_VALUE;
+    // The last token successfully "consumed"
+    Token lastConsumedToken;
+    private TokenType nextTokenType;
+    private Token currentLookaheadToken;
+    private int remainingLookahead;
+    private boolean hitFailure, passedPredicate;
+    private String currentlyParsedProduction, currentLookaheadProduction;
+    private int lookaheadRoutineNesting, passedPredicateThreshold = -1;
+    private EnumSet<TokenType> outerFollowSet;
+    private boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public eg2Lexer token_source;
+
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public Eg2(String inputSource, CharSequence content) {
+        this(new eg2Lexer(inputSource, content));
+    }
+
+    public Eg2(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public Eg2(String inputSource, Path path) throws IOException {
+        this(inputSource, eg2Lexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    public Eg2(String inputSource, Path path, Charset charset) throws IOException {
+        this(inputSource, eg2Lexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public Eg2(Path path) throws IOException {
+        this(path.toString(), path);
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public Eg2(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public Eg2(Reader reader) {
+        this(new eg2Lexer("input", reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public Eg2(eg2Lexer lexer) {
+        token_source = lexer;
+        lastConsumedToken = lexer.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(lexer);
+    }
+
+    /**
+    * Makes this parser ready to parse new input, as if it had just been
+    * constructed with it, but reusing the stacks that it (and its lexer)
+    * already has. See eg2Lexer#reset(CharSequence).
+    * The tree built from the previous input must not be used after this.
+    * Note that any fields that code injected into this class adds are
+    * left alone.
+    * @param input the new input
+    */
+    public void reset(CharSequence input) {
+        reset("input", input);
+    }
+
+    /**
+    * @see #reset(CharSequence)
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param input the new input
+    */
+    public void reset(String inputSource, CharSequence input) {
+        token_source.reset(inputSource, input);
+        lastConsumedToken = token_source.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(token_source);
+        nextTokenType = null;
+        currentLookaheadToken = null;
+        remainingLookahead = 0;
+        hitFailure = passedPredicate = false;
+        currentlyParsedProduction = currentLookaheadProduction = null;
+        lookaheadRoutineNesting = 0;
+        passedPredicateThreshold = -1;
+        outerFollowSet = null;
+        cancelled = false;
+        parsingStack.truncate(0);
+        lookaheadStack.truncate(0);
+        parseStateStack.clear();
+        clearUndoLog();
+        while (currentNodeScope.parentScope != null) {
+            currentNodeScope = currentNodeScope.parentScope;
+        }
+        currentNodeScope.clear();
+    }
+
+    // If the next token is cached, it returns that
+    // Otherwise, it goes to the token_source, i.e. the Lexer.
+    final private Token nextToken(final Token tok) {
+        Token result = token_source.getNextToken(tok);
+        while (result.isUnparsed()) {
+            result = token_source.getNextToken(result);
+        }
+        nextTokenType = null;
+        return result;
+    }
+
+    /**
+    * @return the next Token off the stream. This is the same as #getToken(1)
+    */
+    final public Token getNextToken() {
+        return getToken(1);
+    }
+
+    /**
+    * @param index how many tokens to look ahead
+    * @return the specific regular (i.e. parsed) Token index ahead/behind in the stream.
+    * If we are in a lookahead, it looks ahead from the currentLookaheadToken
+    * Otherwise, it is the lastConsumedToken. If you pass in a negative
+    * number it goes backward.
+    */
+    final public Token getToken(final int index) {
+        Token t = currentLookaheadToken == null ? lastConsumedToken : currentLookaheadToken;
+        for (int i = 0; i < index; i++) {
+            t = nextToken(t);
+        }
+        for (int i = 0; i > index; i--) {
+            t = t.getPrevious();
+            if (t == null) break;
+        }
+        return t;
+    }
+
+    private final TokenType nextTokenType() {
+        if (nextTokenType == null) {
+            nextTokenType = nextToken(lastConsumedToken).getType();
+        }
+        return nextTokenType;
+    }
+
+    boolean activateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result |= token_source.activeTokenTypes.add(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    boolean deactivateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result |= token_source.activeTokenTypes.remove(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    //=================================
+    // Start of methods for BNF Productions
+    //This code is generated by the ParserProductions.java.ftl template.
+    //=================================
+    static private final EnumSet<TokenType> Start_FIRST_SET = EnumSet.of(TokenType.INTEGER_LITERAL, 
+    TokenType.IDENTIFIER, TokenType._TOKEN_15);
+
+    // /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:111:1
+    final public
+    /** Main production. */
+    Start Start() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Start";
+        Start Start1 = null;
+        if (buildTree) {
+            Start1 = new Start();
+            openNodeScope(Start1);
+        }
+        ParseException parseException2 = null;
+        int callStackSize3 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:113:3
+            pushOntoCallStack("Start", "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 
+            113, 3);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:113:16
+            consumeToken(TokenType._TOKEN_9);
+            // Code for CodeBlock specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:114:3
+            return Start1;
+        } catch (ParseException e) {
+            parseException2 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize3);
+            if (Start1 != null) {
+                if (parseException2 == null) {
+                    closeNodeScope(Start1, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:118:1
+    final public
+    /** An Expression. */
+    void Expression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Expression";
+        // Code for NonTerminal specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:120:3
+        pushOntoCallStack("Expression", "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 
+        120, 3);
+        try {
+            AdditiveExpression();
+        } finally {
+            popCallStack();
+        }
+    }
+
+    // /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:124:1
+    final public
+    /** An Additive Expression. */
+    void AdditiveExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "AdditiveExpression";
+        Add AdditiveExpression2 = null;
+        if (buildTree) {
+            AdditiveExpression2 = new Add();
+            openNodeScope(AdditiveExpression2);
+        }
+        ParseException parseException30 = null;
+        int callStackSize31 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:127:5
+            pushOntoCallStack("AdditiveExpression", "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 
+            127, 5);
+            try {
+                MultiplicativeExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:127:32
+            while (true) {
+                if (!(nextTokenType() == TokenType._TOKEN_10 || nextTokenType == TokenType._TOKEN_11)) break;
+                if (nextTokenType() == TokenType._TOKEN_10) {
+                    // Code for RegexpStringLiteral specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:127:36
+                    consumeToken(TokenType._TOKEN_10);
+                } else if (nextTokenType() == TokenType._TOKEN_11) {
+                    // Code for RegexpStringLiteral specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:127:42
+                    consumeToken(TokenType._TOKEN_11);
+                } else {
+                    pushOntoCallStack("AdditiveExpression", "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 
+                    127, 36);
+                    throw new ParseException(this, first_set$eg2_javacc$127$36, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:127:48
+                pushOntoCallStack("AdditiveExpression", "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 
+                127, 48);
+                try {
+                    MultiplicativeExpression();
+                } finally {
+                    popCallStack();
+                }
+            }
+        } catch (ParseException e) {
+            parseException30 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize31);
+            if (AdditiveExpression2 != null) {
+                if (parseException30 == null) {
+                    closeNodeScope(AdditiveExpression2, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:132:1
+    final public
+    /** A Multiplicative Expression. */
+    void MultiplicativeExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "MultiplicativeExpression";
+        Mult MultiplicativeExpression3 = null;
+        if (buildTree) {
+            MultiplicativeExpression3 = new Mult();
+            openNodeScope(MultiplicativeExpression3);
+        }
+        ParseException parseException76 = null;
+        int callStackSize77 = parsingStack.size();
+        try {
+            // Code for NonTerminal specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:135:5
+            pushOntoCallStack("MultiplicativeExpression", "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 
+            135, 5);
+            try {
+                UnaryExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for ZeroOrMore specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:135:23
+            while (true) {
+                if (!(nextTokenType() == TokenType._TOKEN_12 || nextTokenType == TokenType._TOKEN_13 || nextTokenType == TokenType._TOKEN_14)) break;
+                if (nextTokenType() == TokenType._TOKEN_12) {
+                    // Code for RegexpStringLiteral specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:135:27
+                    consumeToken(TokenType._TOKEN_12);
+                } else if (nextTokenType() == TokenType._TOKEN_13) {
+                    // Code for RegexpStringLiteral specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:135:33
+                    consumeToken(TokenType._TOKEN_13);
+                } else if (nextTokenType() == TokenType._TOKEN_14) {
+                    // Code for RegexpStringLiteral specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:135:39
+                    consumeToken(TokenType._TOKEN_14);
+                } else {
+                    pushOntoCallStack("MultiplicativeExpression", "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 
+                    135, 27);
+                    throw new ParseException(this, first_set$eg2_javacc$135$27, parsingStack.toList());
+                }
+                // Code for NonTerminal specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:135:45
+                pushOntoCallStack("MultiplicativeExpression", "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 
+                135, 45);
+                try {
+                    UnaryExpression();
+                } finally {
+                    popCallStack();
+                }
+            }
+        } catch (ParseException e) {
+            parseException76 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize77);
+            if (MultiplicativeExpression3 != null) {
+                if (parseException76 == null) {
+                    closeNodeScope(MultiplicativeExpression3, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> UnaryExpression_FIRST_SET = Start_FIRST_SET;
+
+    // /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:140:1
+    final public
+    /** A Unary Expression. */
+    void UnaryExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "UnaryExpression";
+        // Code for ExpansionChoice specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:142:3
+        if (nextTokenType() == TokenType._TOKEN_15) {
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:142:3
+            consumeToken(TokenType._TOKEN_15);
+            // Code for NonTerminal specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:142:7
+            pushOntoCallStack("UnaryExpression", "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 
+            142, 7);
+            try {
+                Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for RegexpStringLiteral specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:142:20
+            consumeToken(TokenType._TOKEN_16);
+        } else if (nextTokenType() == TokenType.IDENTIFIER) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:142:26
+            pushOntoCallStack("UnaryExpression", "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 
+            142, 26);
+            try {
+                MyID();
+            } finally {
+                popCallStack();
+            }
+        } else if (nextTokenType() == TokenType.INTEGER_LITERAL) {
+            // Code for NonTerminal specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:142:35
+            pushOntoCallStack("UnaryExpression", "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 
+            142, 35);
+            try {
+                Integer();
+            } finally {
+                popCallStack();
+            }
+        } else {
+            pushOntoCallStack("UnaryExpression", "/root/project/examples/legacy/TreeBuildingExamples/eg2.javacc", 
+            142, 3);
+            throw new ParseException(this, UnaryExpression_FIRST_SET, parsingStack.toList());
+        }
+    }
+
+    // /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:146:1
+    final public
+    /** An Identifier. */
+    void MyID() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "MyID";
+        MyID MyID4 = null;
+        if (buildTree) {
+            MyID4 = new MyID();
+            openNodeScope(MyID4);
+        }
+        Token t;
+        ParseException parseException162 = null;
+        int callStackSize163 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:151:5
+            t = consumeToken(TokenType.IDENTIFIER);
+            // Code for CodeBlock specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:152:3
+            MyID4.setName(t.getImage());
+        } catch (ParseException e) {
+            parseException162 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize163);
+            if (MyID4 != null) {
+                if (parseException162 == null) {
+                    closeNodeScope(MyID4, nodeArity() > 1);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    // /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:158:1
+    final public
+    /** An Integer. */
+    void Integer() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "Integer";
+        Int Integer5 = null;
+        if (buildTree) {
+            Integer5 = new Int();
+            openNodeScope(Integer5);
+        }
+        ParseException parseException174 = null;
+        int callStackSize175 = parsingStack.size();
+        try {
+            // Code for RegexpRef specified at /root/project/examples/legacy/TreeBuildingExamples/eg2.javacc:160:5
+            consumeToken(TokenType.INTEGER_LITERAL);
+        } catch (ParseException e) {
+            parseException174 = e;
+            throw e;
+        } finally {
+            restoreCallStack(callStackSize175);
+            if (Integer5 != null) {
+                if (parseException174 == null) {
+                    closeNodeScope(Integer5, true);
+                } else {
+                    clearNodeScope();
+                }
+            }
+            this.currentlyParsedProduction = prevProduction;
+        }
+    }
+
+    static private final EnumSet<TokenType> first_set$eg2_javacc$127$32 = EnumSet.of(TokenType._TOKEN_10, 
+    TokenType._TOKEN_11);
+    static private final EnumSet<TokenType> first_set$eg2_javacc$127$36 = first_set$eg2_javacc$127$32;
+    static private final EnumSet<TokenType> first_set$eg2_javacc$135$23 = EnumSet.of(TokenType._TOKEN_12, 
+    TokenType._TOKEN_13, TokenType._TOKEN_14);
+    static private final EnumSet<TokenType> first_set$eg2_javacc$135$27 = first_set$eg2_javacc$135$23;
+    CallStack parsingStack = new CallStack();
+    private CallStack lookaheadStack = new CallStack();
+
+    /**
+    * Inner class that represents entering a grammar production
+    */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile = sourceFile;
+            this.productionName = productionName;
+            this.line = line;
+            this.column = column;
+        }
+
+        final eg2Lexer getTokenSource() {
+            return Eg2.this.token_source;
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("Eg2", productionName, sourceFile, line);
+        }
+
+        void dump(PrintStream ps) {
+            ps.println(productionName + ":" + line + ":" + column);
+        }
+
+    }
+
+
+    /**
+    * A stack of calls to grammar productions, kept in parallel arrays
+    * so that entering a production does not allocate anything.
+    * The NonTerminalCall objects are only created when they are needed,
+    * i.e. for a ParseException. The production names and source files
+    * are always string literals, so we just hold onto the references.
+    */
+    class CallStack {
+        private String[] productionNames = new String[16], sourceFiles = new String[16];
+        private int[] lines = new int[16], columns = new int[16];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void push(String productionName, String sourceFile, int line, int column) {
+            if (size == lines.length) {
+                int newCapacity = size * 2;
+                productionNames = Arrays.copyOf(productionNames, newCapacity);
+                sourceFiles = Arrays.copyOf(sourceFiles, newCapacity);
+                lines = Arrays.copyOf(lines, newCapacity);
+                columns = Arrays.copyOf(columns, newCapacity);
+            }
+            productionNames[size] = productionName;
+            sourceFiles[size] = sourceFile;
+            lines[size] = line;
+            columns[size] = column;
+            ++size;
+        }
+
+        /**
+        * Removes the top entry, which can still be read
+        * until something else is pushed.
+        * @return the index of the entry removed
+        */
+        int pop() {
+            return --size;
+        }
+
+        String getProductionName(int index) {
+            return productionNames[index];
+        }
+
+        NonTerminalCall get(int index) {
+            return new NonTerminalCall(sourceFiles[index], productionNames[index], lines[index], 
+            columns[index]);
+        }
+
+        java.util.List<NonTerminalCall> toList() {
+            java.util.List<NonTerminalCall> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(get(i));
+            }
+            return result;
+        }
+
+        /**
+        * Pops everything above the given size. The entries
+        * below that are still there, since they are never
+        * overwritten until they are popped.
+        */
+        void truncate(int size) {
+            this.size = size;
+        }
+
+        void dump(PrintStream ps) {
+            for (int i = size - 1; i >= 0; i--) {
+                ps.println(productionNames[i] + ":" + lines[i] + ":" + columns[i]);
+            }
+        }
+
+    }
+
+
+    private final void pushOntoCallStack(String methodName, String fileName, int line, int column) {
+        parsingStack.push(methodName, fileName, line, column);
+    }
+
+    private final void popCallStack() {
+        int top = parsingStack.pop();
+        this.currentlyParsedProduction = parsingStack.getProductionName(top);
+    }
+
+    private final void restoreCallStack(int prevSize) {
+        while (parsingStack.size() > prevSize) {
+            popCallStack();
+        }
+    }
+
+
+    /**
+    * Iterates over the names of the productions on the parsing stack
+    * and then the lookahead stack, i.e. from the bottom to the top,
+    * or the other way round if it is backward.
+    */
+    private class CallStackIterator implements java.util.ListIterator<String> {
+        private final boolean backward;
+        private int index;
+
+        CallStackIterator(boolean backward) {
+            this.backward = backward;
+            if (backward) index = parsingStack.size() + lookaheadStack.size();
+        }
+
+        private String get(int i) {
+            int parsingStackSize = parsingStack.size();
+            return i < parsingStackSize ? parsingStack.getProductionName(i) : lookaheadStack.getProductionName(i - parsingStackSize);
+        }
+
+        public boolean hasNext() {
+            return backward ? index > 0 : index < parsingStack.size() + lookaheadStack.size();
+        }
+
+        public String next() {
+            if (!hasNext()) throw new java.util.NoSuchElementException();
+            return backward ? get(--index) : get(index++);
+        }
+
+        public boolean hasPrevious() {
+            return backward ? index < parsingStack.size() + lookaheadStack.size() : index > 0;
+        }
+
+        public String previous() {
+            if (!hasPrevious()) throw new java.util.NoSuchElementException();
+            return backward ? get(index++) : get(--index);
+        }
+
+        public void add(String productionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void set(String productionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        public int previousIndex() {
+            throw new UnsupportedOperationException();
+        }
+
+        public int nextIndex() {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+
+    void dumpLookaheadStack(PrintStream ps) {
+        lookaheadStack.dump(ps);
+    }
+
+    void dumpCallStack(PrintStream ps) {
+        parsingStack.dump(ps);
+    }
+
+    void dumpLookaheadCallStack(PrintStream ps) {
+        ps.println("Current Parser Production is: " + currentlyParsedProduction);
+        ps.println("Current Lookahead Production is: " + currentLookaheadProduction);
+        ps.println("---Lookahead Stack---");
+        dumpLookaheadStack(ps);
+        ps.println("---Call Stack---");
+        dumpCallStack(ps);
+    }
+
+    public boolean isParserTolerant() {
+        return false;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    private Token consumeToken(TokenType expectedType) {
+        Token nextToken = nextToken(lastConsumedToken);
+        if (nextToken.getType() != expectedType) {
+            nextToken = handleUnexpectedTokenType(expectedType, nextToken);
+        }
+        this.lastConsumedToken = nextToken;
+        this.nextTokenType = null;
+        if (buildTree && tokensAreNodes) {
+            pushNode(lastConsumedToken);
+        }
+        return lastConsumedToken;
+    }
+
+    private Token handleUnexpectedTokenType(TokenType expectedType, Token nextToken) {
+        throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+    }
+
+
+    /**
+    * The state we go back to if an ATTEMPT fails. Stashing this is O(1).
+    * Everything on the parsing stack at this point is still there
+    * when we backtrack, since the code in the ATTEMPT only pops
+    * what it pushes, so we just need the size of the stack.
+    * Likewise, we hold onto the current node scope and the changes
+    * to the node scopes after this point are logged so that
+    * we can undo them.
+    */
+    private class ParseState {
+        Token lastConsumed;
+        int parsingStackSize;
+        NodeScope nodeScope;
+        int undoLogMark;
+
+        ParseState() {
+            this.lastConsumed = Eg2.this.lastConsumedToken;
+            this.parsingStackSize = Eg2.this.parsingStack.size();
+            this.nodeScope = currentNodeScope;
+            this.undoLogMark = undoLogLength;
+        }
+
+    }
+
+    private ArrayList<ParseState> parseStateStack = new ArrayList<>();
+    private boolean buildTree = true;
+    private boolean tokensAreNodes = true;
+    private boolean unparsedTokensAreNodes = true;
+
+    public boolean isTreeBuildingEnabled() {
+        return buildTree;
+    }
+
+    public void setUnparsedTokensAreNodes(boolean unparsedTokensAreNodes) {
+        this.unparsedTokensAreNodes = unparsedTokensAreNodes;
+    }
+
+    public void setTokensAreNodes(boolean tokensAreNodes) {
+        this.tokensAreNodes = tokensAreNodes;
+    }
+
+    NodeScope currentNodeScope = new NodeScope();
+
+    /**
+    * @return the root node of the AST. It only makes sense to call
+    * this after a successful parse.
+    */
+    public Node rootNode() {
+        return currentNodeScope.rootNode();
+    }
+
+    /**
+    * push a node onto the top of the node stack
+    * @param n the node to push
+    */
+    public void pushNode(Node n) {
+        logNodeScopeChange(currentNodeScope, currentNodeScope.size(), null);
+        currentNodeScope.add(n);
+    }
+
+    /**
+    * @return the node on the top of the stack, and remove it from the
+    * stack.
+    */
+    public Node popNode() {
+        return currentNodeScope.pop();
+    }
+
+    /**
+    * @return the node currently on the top of the tree-building stack.
+    */
+    public Node peekNode() {
+        return currentNodeScope.peek();
+    }
+
+    /**
+    * Puts the node on the top of the stack. However, unlike pushNode()
+    * it replaces the node that is currently on the top of the stack.
+    * This is effectively equivalent to popNode() followed by pushNode(n)
+    * @param n the node to poke
+    */
+    public void pokeNode(Node n) {
+        currentNodeScope.poke(n);
+    }
+
+    /**
+    * @return the number of Nodes on the tree-building stack in the current node
+    * scope.
+    */
+    public int nodeArity() {
+        return currentNodeScope.size();
+    }
+
+    private void clearNodeScope() {
+        for (int i = currentNodeScope.size() - 1; i >= 0; i--) {
+            logNodeScopeChange(currentNodeScope, i + 1, currentNodeScope.get(i));
+        }
+        currentNodeScope.clear();
+    }
+
+    // A log of the changes made to the node scopes while there is
+    // a stashed ParseState, so that we can undo them if we
+    // backtrack. Each entry is the scope, its size before the change,
+    // and the node that was removed or replaced, if any.
+    private NodeScope[] undoScopes = new NodeScope[16];
+    private int[] undoSizes = new int[16];
+    private Node[] undoNodes = new Node[16];
+    private int undoLogLength;
+
+    private void logNodeScopeChange(NodeScope scope, int previousSize, Node removedNode) {
+        if (parseStateStack.isEmpty()) return;
+        if (undoLogLength == undoSizes.length) {
+            int newCapacity = undoLogLength * 2;
+            undoScopes = Arrays.copyOf(undoScopes, newCapacity);
+            undoSizes = Arrays.copyOf(undoSizes, newCapacity);
+            undoNodes = Arrays.copyOf(undoNodes, newCapacity);
+        }
+        undoScopes[undoLogLength] = scope;
+        undoSizes[undoLogLength] = previousSize;
+        undoNodes[undoLogLength++] = removedNode;
+    }
+
+    private void clearUndoLog() {
+        Arrays.fill(undoScopes, 0, undoLogLength, null);
+        Arrays.fill(undoNodes, 0, undoLogLength, null);
+        undoLogLength = 0;
+    }
+
+    private void openNodeScope(Node n) {
+        new NodeScope();
+        if (n != null) {
+            Token next = nextToken(lastConsumedToken);
+            n.setTokenSource(lastConsumedToken.getTokenSource());
+            n.setBeginOffset(next.getBeginOffset());
+            n.open();
+        }
+    }
+
+    /* A definite node is constructed from a specified number of
+    * children.  That number of nodes are popped from the stack and
+    * made the children of the definite node.  Then the definite node
+    * is pushed on to the stack.
+    */
+    private void closeNodeScope(Node n, int num) {
+        n.setEndOffset(lastConsumedToken.getEndOffset());
+        currentNodeScope.close();
+        ArrayList<Node> nodes = new ArrayList<Node>();
+        for (int i = 0; i < num; i++) {
+            nodes.add(popNode());
+        }
+        Collections.reverse(nodes);
+        for (Node child : nodes) {
+            // FIXME deal with the UNPARSED_TOKENS_ARE_NODES case
+            n.addChild(child);
+        }
+        n.close();
+        pushNode(n);
+    }
+
+    /**
+    * A conditional node is constructed if the condition is true.  All
+    * the nodes that have been pushed since the node was opened are
+    * made children of the conditional node, which is then pushed
+    * on to the stack.  If the condition is false the node is not
+    * constructed and they are left on the stack.
+    */
+    private void closeNodeScope(Node n, boolean condition) {
+        if (n != null && condition) {
+            n.setEndOffset(lastConsumedToken.getEndOffset());
+            int a = nodeArity();
+            currentNodeScope.close();
+            ArrayList<Node> nodes = new ArrayList<Node>();
+            while (a-- > 0) {
+                nodes.add(popNode());
+            }
+            Collections.reverse(nodes);
+            for (Node child : nodes) {
+                if (unparsedTokensAreNodes && child instanceof Token) {
+                    Token tok = (Token) child;
+                    while (tok.previousCachedToken() != null && tok.previousCachedToken().isUnparsed()) {
+                        tok = tok.previousCachedToken();
+                    }
+                    while (tok.isUnparsed()) {
+                        n.addChild(tok);
+                        tok = tok.nextCachedToken();
+                    }
+                }
+                n.addChild(child);
+            }
+            n.close();
+            pushNode(n);
+        } else {
+            currentNodeScope.close();
+        }
+    }
+
+    public boolean getBuildTree() {
+        return buildTree;
+    }
+
+    public void setBuildTree(boolean buildTree) {
+        this.buildTree = buildTree;
+    }
+
+    /**
+    * Just a kludge so that existing jjtree-based code that uses
+    * parser.jjtree.foo can work without change.
+    */
+    Eg2 jjtree = this;
+
+    @SuppressWarnings("serial")
+    class NodeScope extends ArrayList<Node> {
+        NodeScope parentScope;
+
+        NodeScope() {
+            this.parentScope = Eg2.this.currentNodeScope;
+            Eg2.this.currentNodeScope = this;
+        }
+
+        boolean isRootScope() {
+            return parentScope == null;
+        }
+
+        Node rootNode() {
+            NodeScope ns = this;
+            while (ns.parentScope != null) {
+                ns = ns.parentScope;
+            }
+            return ns.isEmpty() ? null : ns.get(0);
+        }
+
+        Node peek() {
+            if (isEmpty()) {
+                return parentScope == null ? null : parentScope.peek();
+            }
+            return get(size() - 1);
+        }
+
+        Node pop() {
+            if (isEmpty()) return parentScope.pop();
+            Node result = remove(size() - 1);
+            logNodeScopeChange(this, size() + 1, result);
+            return result;
+        }
+
+        void poke(Node n) {
+            if (isEmpty()) {
+                parentScope.poke(n);
+            } else {
+                logNodeScopeChange(this, size(), set(size() - 1, n));
+            }
+        }
+
+        void close() {
+            logNodeScopeChange(parentScope, parentScope.size(), null);
+            parentScope.addAll(this);
+            Eg2.this.currentNodeScope = parentScope;
+        }
+
+        int nestingLevel() {
+            int result = 0;
+            NodeScope parent = this;
+            while (parent.parentScope != null) {
+                result++;
+                parent = parent.parentScope;
+            }
+            return result;
+        }
+
+    }
+
+}
+
@@ -0,0 +1,14 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for Mult AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class Mult extends BaseNode {
+
+    public void accept(eg2Visitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,14 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for Add AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class Add extends BaseNode {
+
+    public void accept(eg3Visitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
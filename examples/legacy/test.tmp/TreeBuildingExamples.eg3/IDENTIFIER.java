@@ -0,0 +1,18 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for IDENTIFIER Token subclass
+* by the ASTToken.java.ftl template
+*/
+public class IDENTIFIER extends Token {
+
+    public IDENTIFIER(TokenType type, eg3Lexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+    public void accept(eg3Visitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,14 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for Int AST Node type
+* by the ASTNode.java.ftl template
+*/
+public class Int extends BaseNode {
+
+    public void accept(eg3Visitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
@@ -0,0 +1,27 @@
+
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. eg3Constants.java */
+public interface eg3Constants {
+
+    /**
+    * The various token types. The first type EOF
+    * and the last type INVALID are auto-generated.
+    * They represent the end of input and invalid input
+    * respectively.
+    */
+    public enum TokenType {
+        EOF, _TOKEN_1, _TOKEN_2, _TOKEN_3, _TOKEN_4, _TOKEN_5, _TOKEN_6, INTEGER_LITERAL, IDENTIFIER, 
+        _TOKEN_9, _TOKEN_10, _TOKEN_11, _TOKEN_12, _TOKEN_13, _TOKEN_14, _TOKEN_15, _TOKEN_16, 
+        INVALID
+    }
+
+
+    /**
+    * Lexical States
+    */
+    public enum LexicalState {
+        DEFAULT
+    }
+
+}
+
+
@@ -0,0 +1,963 @@
+/* Generated by: JavaCC 21 Parser Generator. PreprocessorParser.java */
+package org.parsers.preprocessor;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import static org.parsers.preprocessor.PreprocessorConstants.TokenType.*;
+
+
+public class PreprocessorParser implements PreprocessorConstants {
+    private final BitSet lineMarkers = new BitSet();
+    private final Map<String, String> definedSymbols = new HashMap<>();
+    private boolean currentlyOn = true;
+    private boolean csharpMode = false;
+
+    public PreprocessorParser(Path path, Map<String, String> definedSymbols, boolean csharpMode) throws IOException {
+        this(path);
+        this.csharpMode = csharpMode;
+        if (definedSymbols != null) addSymbols(definedSymbols);
+        token_source.switchTo(LexicalState.PP_SCAN_LINES);
+    }
+
+    public PreprocessorParser(CharSequence content, Map<String, String> definedSymbols) throws IOException {
+        this(content);
+        if (definedSymbols != null) addSymbols(definedSymbols);
+        token_source.switchTo(LexicalState.PP_SCAN_LINES);
+        this.csharpMode = false;
+    }
+
+    public BitSet getLineMarkers() {
+        return lineMarkers;
+    }
+
+    private void setLineMarker() {
+        int lineNumber = lastConsumedToken.getBeginLine();
+        if (currentlyOn) lineMarkers.set(lineNumber);
+    }
+
+    public void setSymbol(String symbol, String value) {
+        definedSymbols.put(symbol, value);
+    }
+
+    public void unsetSymbol(String symbol) {
+        definedSymbols.put(symbol, "0");
+    }
+
+    public void addSymbols(Map<String, String> symbols) {
+        definedSymbols.putAll(symbols);
+    }
+
+
+    private static class Expression {
+        boolean booleanValue;
+        String symbol;
+    }
+
+    static final int UNLIMITED = Integer.MAX_VALUE;
+    // The last token successfully "consumed"
+    Token lastConsumedToken;
+    private TokenType nextTokenType;
+    private Token currentLookaheadToken;
+    private int remainingLookahead;
+    private boolean hitFailure, passedPredicate;
+    private String currentlyParsedProduction, currentLookaheadProduction;
+    private int lookaheadRoutineNesting, passedPredicateThreshold = -1;
+    private EnumSet<TokenType> outerFollowSet;
+    private boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** Generated Lexer. */
+    public PreprocessorLexer token_source;
+
+    public void setInputSource(String inputSource) {
+        token_source.setInputSource(inputSource);
+    }
+
+    String getInputSource() {
+        return token_source.getInputSource();
+    }
+
+    //=================================
+    // Generated constructors
+    //=================================
+    public PreprocessorParser(String inputSource, CharSequence content) {
+        this(new PreprocessorLexer(inputSource, content));
+    }
+
+    public PreprocessorParser(CharSequence content) {
+        this("input", content);
+    }
+
+    /**
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public PreprocessorParser(String inputSource, Path path) throws IOException {
+        this(inputSource, PreprocessorLexer.stringFromBytes(Files.readAllBytes(path)));
+    }
+
+    public PreprocessorParser(String inputSource, Path path, Charset charset) throws IOException {
+        this(inputSource, PreprocessorLexer.stringFromBytes(Files.readAllBytes(path), charset));
+    }
+
+    /**
+    * @param path The location (typically the filename) from which to get the input to parse
+    */
+    public PreprocessorParser(Path path) throws IOException {
+        this(path.toString(), path);
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public PreprocessorParser(java.io.InputStream stream) {
+        this(new InputStreamReader(stream));
+    }
+
+    /**
+    * @Deprecated Use the constructor that takes a #java.nio.files.Path or just
+    * a String (i.e. CharSequence) directly.
+    */
+    public PreprocessorParser(Reader reader) {
+        this(new PreprocessorLexer("input", reader));
+    }
+
+    /** Constructor with user supplied Lexer. */
+    public PreprocessorParser(PreprocessorLexer lexer) {
+        token_source = lexer;
+        lastConsumedToken = lexer.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(lexer);
+    }
+
+    /**
+    * Makes this parser ready to parse new input, as if it had just been
+    * constructed with it, but reusing the stacks that it (and its lexer)
+    * already has. See PreprocessorLexer#reset(CharSequence).
+    * The tree built from the previous input must not be used after this.
+    * Note that any fields that code injected into this class adds are
+    * left alone.
+    * @param input the new input
+    */
+    public void reset(CharSequence input) {
+        reset("input", input);
+    }
+
+    /**
+    * @see #reset(CharSequence)
+    * @param inputSource just the name of the input source (typically the filename) that
+    * will be used in error messages and so on.
+    * @param input the new input
+    */
+    public void reset(String inputSource, CharSequence input) {
+        token_source.reset(inputSource, input);
+        lastConsumedToken = token_source.DUMMY_START_TOKEN;
+        lastConsumedToken.setTokenSource(token_source);
+        nextTokenType = null;
+        currentLookaheadToken = null;
+        remainingLookahead = 0;
+        hitFailure = passedPredicate = false;
+        currentlyParsedProduction = currentLookaheadProduction = null;
+        lookaheadRoutineNesting = 0;
+        passedPredicateThreshold = -1;
+        outerFollowSet = null;
+        cancelled = false;
+        parsingStack.truncate(0);
+        lookaheadStack.truncate(0);
+        parseStateStack.clear();
+    }
+
+    // If the next token is cached, it returns that
+    // Otherwise, it goes to the token_source, i.e. the Lexer.
+    final private Token nextToken(final Token tok) {
+        Token result = token_source.getNextToken(tok);
+        while (result.isUnparsed()) {
+            result = token_source.getNextToken(result);
+        }
+        nextTokenType = null;
+        return result;
+    }
+
+    /**
+    * @return the next Token off the stream. This is the same as #getToken(1)
+    */
+    final public Token getNextToken() {
+        return getToken(1);
+    }
+
+    /**
+    * @param index how many tokens to look ahead
+    * @return the specific regular (i.e. parsed) Token index ahead/behind in the stream.
+    * If we are in a lookahead, it looks ahead from the currentLookaheadToken
+    * Otherwise, it is the lastConsumedToken. If you pass in a negative
+    * number it goes backward.
+    */
+    final public Token getToken(final int index) {
+        Token t = currentLookaheadToken == null ? lastConsumedToken : currentLookaheadToken;
+        for (int i = 0; i < index; i++) {
+            t = nextToken(t);
+        }
+        for (int i = 0; i > index; i--) {
+            t = t.getPrevious();
+            if (t == null) break;
+        }
+        return t;
+    }
+
+    private final TokenType nextTokenType() {
+        if (nextTokenType == null) {
+            nextTokenType = nextToken(lastConsumedToken).getType();
+        }
+        return nextTokenType;
+    }
+
+    boolean activateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result |= token_source.activeTokenTypes.add(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    boolean deactivateTokenTypes(TokenType...types) {
+        boolean result = false;
+        for (TokenType tt : types) {
+            result |= token_source.activeTokenTypes.remove(tt);
+        }
+        if (result) {
+            token_source.reset(getToken(0));
+            nextTokenType = null;
+        }
+        return result;
+    }
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:167:1
+    final public BitSet PP_Root() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "PP_Root";
+        // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:167:23
+        pushOntoCallStack("PP_Root", "/root/project/examples/preprocessor/Preprocessor.javacc", 
+        167, 23);
+        try {
+            PP_Block();
+        } finally {
+            popCallStack();
+        }
+        // Code for EndOfFile specified at /root/project/examples/preprocessor/Preprocessor.javacc:167:32
+        consumeToken(EOF);
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:167:38
+        return lineMarkers;
+    }
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:169:1
+    final public void PP_Block() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "PP_Block";
+        // Code for ZeroOrMore specified at /root/project/examples/preprocessor/Preprocessor.javacc:169:17
+        loop25 : while (true) {
+            // Code for ExpansionChoice specified at /root/project/examples/preprocessor/Preprocessor.javacc:169:18
+            switch(nextTokenType()) {
+                case PP_IF : 
+                    // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:169:18
+                    pushOntoCallStack("PP_Block", "/root/project/examples/preprocessor/Preprocessor.javacc", 
+                    169, 18);
+                    try {
+                        PP_IfBlock();
+                    } finally {
+                        popCallStack();
+                    }
+                    break;
+                case PP_DEFINE : 
+                    // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:169:31
+                    pushOntoCallStack("PP_Block", "/root/project/examples/preprocessor/Preprocessor.javacc", 
+                    169, 31);
+                    try {
+                        PP_DefStatement();
+                    } finally {
+                        popCallStack();
+                    }
+                    break;
+                case PP_UNDEF : 
+                    // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:169:49
+                    pushOntoCallStack("PP_Block", "/root/project/examples/preprocessor/Preprocessor.javacc", 
+                    169, 49);
+                    try {
+                        PP_UndefStatement();
+                    } finally {
+                        popCallStack();
+                    }
+                    break;
+                case PP_LINE : case PP_FALSE_ALERT : 
+                    // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:169:69
+                    pushOntoCallStack("PP_Block", "/root/project/examples/preprocessor/Preprocessor.javacc", 
+                    169, 69);
+                    try {
+                        PP_Content();
+                    } finally {
+                        popCallStack();
+                    }
+                    break;
+                default : 
+                    {
+                        break loop25;
+                    }
+            }
+        }
+    }
+
+    static private final EnumSet<TokenType> PP_Content_FIRST_SET = EnumSet.of(PP_LINE, PP_FALSE_ALERT);
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:171:1
+    final public void PP_Content() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "PP_Content";
+        // Code for OneOrMore specified at /root/project/examples/preprocessor/Preprocessor.javacc:171:19
+        while (true) {
+            if (nextTokenType() == PP_LINE) {
+                // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:171:21
+                consumeToken(PP_LINE);
+            } else if (nextTokenType() == PP_FALSE_ALERT) {
+                // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:171:31
+                consumeToken(PP_FALSE_ALERT);
+            } else {
+                pushOntoCallStack("PP_Content", "/root/project/examples/preprocessor/Preprocessor.javacc", 
+                171, 21);
+                throw new ParseException(this, first_set$Preprocessor_javacc$171$21, parsingStack.toList());
+            }
+            // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:171:49
+            setLineMarker();
+            if (!(nextTokenType() == PP_LINE || nextTokenType == PP_FALSE_ALERT)) break;
+        }
+    }
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:173:1
+    final public void PP_IfBlock() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "PP_IfBlock";
+        boolean alreadyHandled = false;
+        Expression result;
+        final boolean previouslyOn = currentlyOn;
+        // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:179:5
+        consumeToken(PP_IF);
+        // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:180:5
+        pushOntoCallStack("PP_IfBlock", "/root/project/examples/preprocessor/Preprocessor.javacc", 
+        180, 5);
+        try {
+            result = PP_Expression();
+        } finally {
+            popCallStack();
+        }
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:180:28
+        if (result.booleanValue) alreadyHandled = true;
+        currentlyOn = result.booleanValue && previouslyOn;
+        // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:184:5
+        pushOntoCallStack("PP_IfBlock", "/root/project/examples/preprocessor/Preprocessor.javacc", 
+        184, 5);
+        try {
+            PP_Block();
+        } finally {
+            popCallStack();
+        }
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:184:14
+        if (alreadyHandled) currentlyOn = false;
+        // Code for ZeroOrMore specified at /root/project/examples/preprocessor/Preprocessor.javacc:185:5
+        while (true) {
+            if (!(nextTokenType() == PP_ELIF)) break;
+            // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:186:9
+            consumeToken(PP_ELIF);
+            // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:186:19
+            pushOntoCallStack("PP_IfBlock", "/root/project/examples/preprocessor/Preprocessor.javacc", 
+            186, 19);
+            try {
+                result = PP_Expression();
+            } finally {
+                popCallStack();
+            }
+            // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:187:9
+            if (!alreadyHandled) {
+                alreadyHandled = result.booleanValue;
+                currentlyOn = previouslyOn && result.booleanValue;
+            }
+            // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:193:9
+            pushOntoCallStack("PP_IfBlock", "/root/project/examples/preprocessor/Preprocessor.javacc", 
+            193, 9);
+            try {
+                PP_Block();
+            } finally {
+                popCallStack();
+            }
+        }
+        // Code for ZeroOrOne specified at /root/project/examples/preprocessor/Preprocessor.javacc:195:5
+        if (nextTokenType() == PP_ELSE) {
+            // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:196:9
+            consumeToken(PP_ELSE);
+            // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:196:19
+            currentlyOn = !alreadyHandled && previouslyOn;
+            // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:197:9
+            pushOntoCallStack("PP_IfBlock", "/root/project/examples/preprocessor/Preprocessor.javacc", 
+            197, 9);
+            try {
+                PP_Block();
+            } finally {
+                popCallStack();
+            }
+        }
+        // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:199:5
+        consumeToken(PP_ENDIF);
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:200:5
+        this.currentlyOn = previouslyOn;
+    }
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:203:1
+    final public void PP_DefStatement() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "PP_DefStatement";
+        String value = "1";
+        // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:207:3
+        consumeToken(PP_DEFINE);
+        // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:207:15
+        consumeToken(PP_SYMBOL);
+        // Code for ZeroOrOne specified at /root/project/examples/preprocessor/Preprocessor.javacc:208:3
+        if (nextTokenType() == PP_ASSIGN) {
+            // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:209:5
+            consumeToken(PP_ASSIGN);
+            // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:210:5
+            consumeToken(PP_SYMBOL);
+            // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:210:17
+            if (csharpMode) {
+                throw new ParseException("Symbols cannot have defined values in C# mode.");
+            }
+            value = lastConsumedToken.getImage();
+        }
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:217:3
+        if (currentlyOn) {
+            definedSymbols.put(lastConsumedToken.getImage(), value);
+        }
+    }
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:224:1
+    final public void PP_UndefStatement() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "PP_UndefStatement";
+        // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:225:5
+        consumeToken(PP_UNDEF);
+        // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:225:16
+        consumeToken(PP_SYMBOL);
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:226:5
+        if (currentlyOn) definedSymbols.remove(lastConsumedToken.getImage());
+    }
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:229:1
+    final public Expression PP_Expression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "PP_Expression";
+        Expression result, result2;
+        boolean inequality = false;
+        // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:234:3
+        pushOntoCallStack("PP_Expression", "/root/project/examples/preprocessor/Preprocessor.javacc", 
+        234, 3);
+        try {
+            result = PP_OrExpression();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrOne specified at /root/project/examples/preprocessor/Preprocessor.javacc:235:3
+        if (nextTokenType() == PP_EQUALS || nextTokenType == PP_NOT_EQUALS) {
+            if (nextTokenType() == PP_EQUALS) {
+                // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:236:6
+                consumeToken(PP_EQUALS);
+            } else if (nextTokenType() == PP_NOT_EQUALS) {
+                // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:236:18
+                consumeToken(PP_NOT_EQUALS);
+                // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:236:33
+                inequality = true;
+            } else {
+                pushOntoCallStack("PP_Expression", "/root/project/examples/preprocessor/Preprocessor.javacc", 
+                236, 6);
+                throw new ParseException(this, first_set$Preprocessor_javacc$236$6, parsingStack.toList());
+            }
+            // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:237:5
+            pushOntoCallStack("PP_Expression", "/root/project/examples/preprocessor/Preprocessor.javacc", 
+            237, 5);
+            try {
+                result2 = PP_OrExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:238:5
+            if (csharpMode || result.symbol == null || result2.symbol == null) {
+                result.booleanValue = inequality == (result.booleanValue != result2.booleanValue);
+            } else {
+                // Not C# mode, and LHS and RHS are symbols
+                String key = result.symbol;
+                String value = result2.symbol;
+                result.symbol = null;
+                // don't propagate further
+                result2.symbol = null;
+                if (!definedSymbols.containsKey(key)) {
+                    if (!definedSymbols.containsKey(value)) {
+                        // neither LHS nor RHS appears to be defined, so both are
+                        // logically false, so ...
+                        result.booleanValue = !inequality;
+                    } else {
+                        // LHS isn't defined, so logically false. RHS is defined,
+                        // but its value might be "0" because it was undef'ed.
+                        result.booleanValue = inequality != definedSymbols.get(value).equals("0");
+                    }
+                } else {
+                    String keyValue = definedSymbols.get(key);
+                    result.booleanValue = inequality != value.equals(keyValue);
+                }
+            }
+        }
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:268:3
+        return result;
+    }
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:271:1
+    final public Expression PP_OrExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "PP_OrExpression";
+        Expression result, result2;
+        // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:273:4
+        pushOntoCallStack("PP_OrExpression", "/root/project/examples/preprocessor/Preprocessor.javacc", 
+        273, 4);
+        try {
+            result = PP_AndExpression();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/preprocessor/Preprocessor.javacc:274:3
+        while (true) {
+            if (!(nextTokenType() == PP_OR)) break;
+            // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:274:4
+            consumeToken(PP_OR);
+            // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:274:12
+            pushOntoCallStack("PP_OrExpression", "/root/project/examples/preprocessor/Preprocessor.javacc", 
+            274, 12);
+            try {
+                result2 = PP_AndExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:274:39
+            result.booleanValue = result.booleanValue || result2.booleanValue;
+        }
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:275:4
+        return result;
+    }
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:278:1
+    final public Expression PP_AndExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "PP_AndExpression";
+        Expression result, result2;
+        // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:280:4
+        pushOntoCallStack("PP_AndExpression", "/root/project/examples/preprocessor/Preprocessor.javacc", 
+        280, 4);
+        try {
+            result = PP_NotExpression();
+        } finally {
+            popCallStack();
+        }
+        // Code for ZeroOrMore specified at /root/project/examples/preprocessor/Preprocessor.javacc:281:3
+        while (true) {
+            if (!(nextTokenType() == PP_AND)) break;
+            // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:281:4
+            consumeToken(PP_AND);
+            // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:281:13
+            pushOntoCallStack("PP_AndExpression", "/root/project/examples/preprocessor/Preprocessor.javacc", 
+            281, 13);
+            try {
+                result2 = PP_NotExpression();
+            } finally {
+                popCallStack();
+            }
+            // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:281:40
+            result.booleanValue = result.booleanValue && result2.booleanValue;
+        }
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:282:4
+        return result;
+    }
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:285:1
+    final public Expression PP_NotExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "PP_NotExpression";
+        boolean notFlag = false;
+        Expression result;
+        // Code for ZeroOrMore specified at /root/project/examples/preprocessor/Preprocessor.javacc:290:4
+        while (true) {
+            if (!(nextTokenType() == PP_NOT)) break;
+            // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:290:5
+            consumeToken(PP_NOT);
+            // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:290:14
+            notFlag = !notFlag;
+        }
+        // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:291:4
+        pushOntoCallStack("PP_NotExpression", "/root/project/examples/preprocessor/Preprocessor.javacc", 
+        291, 4);
+        try {
+            result = PP_PrimaryExpression();
+        } finally {
+            popCallStack();
+        }
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:292:3
+        if (notFlag) {
+            result.booleanValue = !result.booleanValue;
+        }
+        return result;
+    }
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:300:1
+    final public Expression PP_Parentheses() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "PP_Parentheses";
+        Expression result;
+        // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:302:4
+        consumeToken(PP_LPAREN);
+        // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:303:4
+        pushOntoCallStack("PP_Parentheses", "/root/project/examples/preprocessor/Preprocessor.javacc", 
+        303, 4);
+        try {
+            result = PP_Expression();
+        } finally {
+            popCallStack();
+        }
+        // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:304:4
+        consumeToken(PP_RPAREN);
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:305:4
+        return result;
+    }
+
+    static private final EnumSet<TokenType> PP_PrimaryExpression_FIRST_SET = EnumSet.of(PP_TRUE, 
+    PP_FALSE, PP_SYMBOL, PP_LPAREN);
+
+    // /root/project/examples/preprocessor/Preprocessor.javacc:308:1
+    final public Expression PP_PrimaryExpression() {
+        if (cancelled) throw new CancellationException();
+        String prevProduction = currentlyParsedProduction;
+        this.currentlyParsedProduction = "PP_PrimaryExpression";
+        Expression result = new Expression();
+        if (nextTokenType() == PP_LPAREN) {
+            // Code for NonTerminal specified at /root/project/examples/preprocessor/Preprocessor.javacc:311:7
+            pushOntoCallStack("PP_PrimaryExpression", "/root/project/examples/preprocessor/Preprocessor.javacc", 
+            311, 7);
+            try {
+                result = PP_Parentheses();
+            } finally {
+                popCallStack();
+            }
+        } else if (nextTokenType() == PP_SYMBOL) {
+            // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:313:7
+            consumeToken(PP_SYMBOL);
+            // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:314:7
+            result.symbol = lastConsumedToken.getImage();
+            result.booleanValue = definedSymbols.containsKey(result.symbol);
+        } else if (nextTokenType() == PP_TRUE) {
+            // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:319:7
+            consumeToken(PP_TRUE);
+            // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:319:17
+            result.booleanValue = true;
+        } else if (nextTokenType() == PP_FALSE) {
+            // Code for RegexpRef specified at /root/project/examples/preprocessor/Preprocessor.javacc:321:7
+            consumeToken(PP_FALSE);
+            // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:321:18
+            result.booleanValue = false;
+        } else {
+            pushOntoCallStack("PP_PrimaryExpression", "/root/project/examples/preprocessor/Preprocessor.javacc", 
+            311, 7);
+            throw new ParseException(this, first_set$Preprocessor_javacc$311$7, parsingStack.toList());
+        }
+        // Code for CodeBlock specified at /root/project/examples/preprocessor/Preprocessor.javacc:323:5
+        return result;
+    }
+
+    static private final EnumSet<TokenType> first_set$Preprocessor_javacc$171$21 = PP_Content_FIRST_SET;
+    static private final EnumSet<TokenType> first_set$Preprocessor_javacc$235$3 = EnumSet.of(PP_EQUALS, 
+    PP_NOT_EQUALS);
+    static private final EnumSet<TokenType> first_set$Preprocessor_javacc$236$6 = first_set$Preprocessor_javacc$235$3;
+    static private final EnumSet<TokenType> first_set$Preprocessor_javacc$311$7 = PP_PrimaryExpression_FIRST_SET;
+    CallStack parsingStack = new CallStack();
+    private CallStack lookaheadStack = new CallStack();
+
+    /**
+    * Inner class that represents entering a grammar production
+    */
+    class NonTerminalCall {
+        final String sourceFile;
+        final String productionName;
+        final int line, column;
+
+        NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+            this.sourceFile = sourceFile;
+            this.productionName = productionName;
+            this.line = line;
+            this.column = column;
+        }
+
+        final PreprocessorLexer getTokenSource() {
+            return PreprocessorParser.this.token_source;
+        }
+
+        StackTraceElement createStackTraceElement() {
+            return new StackTraceElement("PreprocessorParser", productionName, sourceFile, 
+            line);
+        }
+
+        void dump(PrintStream ps) {
+            ps.println(productionName + ":" + line + ":" + column);
+        }
+
+    }
+
+
+    /**
+    * A stack of calls to grammar productions, kept in parallel arrays
+    * so that entering a production does not allocate anything.
+    * The NonTerminalCall objects are only created when they are needed,
+    * i.e. for a ParseException. The production names and source files
+    * are always string literals, so we just hold onto the references.
+    */
+    class CallStack {
+        private String[] productionNames = new String[16], sourceFiles = new String[16];
+        private int[] lines = new int[16], columns = new int[16];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void push(String productionName, String sourceFile, int line, int column) {
+            if (size == lines.length) {
+                int newCapacity = size * 2;
+                productionNames = Arrays.copyOf(productionNames, newCapacity);
+                sourceFiles = Arrays.copyOf(sourceFiles, newCapacity);
+                lines = Arrays.copyOf(lines, newCapacity);
+                columns = Arrays.copyOf(columns, newCapacity);
+            }
+            productionNames[size] = productionName;
+            sourceFiles[size] = sourceFile;
+            lines[size] = line;
+            columns[size] = column;
+            ++size;
+        }
+
+        /**
+        * Removes the top entry, which can still be read
+        * until something else is pushed.
+        * @return the index of the entry removed
+        */
+        int pop() {
+            return --size;
+        }
+
+        String getProductionName(int index) {
+            return productionNames[index];
+        }
+
+        NonTerminalCall get(int index) {
+            return new NonTerminalCall(sourceFiles[index], productionNames[index], lines[index], 
+            columns[index]);
+        }
+
+        java.util.List<NonTerminalCall> toList() {
+            java.util.List<NonTerminalCall> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(get(i));
+            }
+            return result;
+        }
+
+        /**
+        * Pops everything above the given size. The entries
+        * below that are still there, since they are never
+        * overwritten until they are popped.
+        */
+        void truncate(int size) {
+            this.size = size;
+        }
+
+        void dump(PrintStream ps) {
+            for (int i = size - 1; i >= 0; i--) {
+                ps.println(productionNames[i] + ":" + lines[i] + ":" + columns[i]);
+            }
+        }
+
+    }
+
+
+    private final void pushOntoCallStack(String methodName, String fileName, int line, int column) {
+        parsingStack.push(methodName, fileName, line, column);
+    }
+
+    private final void popCallStack() {
+        int top = parsingStack.pop();
+        this.currentlyParsedProduction = parsingStack.getProductionName(top);
+    }
+
+
+    /**
+    * Iterates over the names of the productions on the parsing stack
+    * and then the lookahead stack, i.e. from the bottom to the top,
+    * or the other way round if it is backward.
+    */
+    private class CallStackIterator implements java.util.ListIterator<String> {
+        private final boolean backward;
+        private int index;
+
+        CallStackIterator(boolean backward) {
+            this.backward = backward;
+            if (backward) index = parsingStack.size() + lookaheadStack.size();
+        }
+
+        private String get(int i) {
+            int parsingStackSize = parsingStack.size();
+            return i < parsingStackSize ? parsingStack.getProductionName(i) : lookaheadStack.getProductionName(i - parsingStackSize);
+        }
+
+        public boolean hasNext() {
+            return backward ? index > 0 : index < parsingStack.size() + lookaheadStack.size();
+        }
+
+        public String next() {
+            if (!hasNext()) throw new java.util.NoSuchElementException();
+            return backward ? get(--index) : get(index++);
+        }
+
+        public boolean hasPrevious() {
+            return backward ? index < parsingStack.size() + lookaheadStack.size() : index > 0;
+        }
+
+        public String previous() {
+            if (!hasPrevious()) throw new java.util.NoSuchElementException();
+            return backward ? get(index++) : get(--index);
+        }
+
+        public void add(String productionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void set(String productionName) {
+            throw new UnsupportedOperationException();
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        public int previousIndex() {
+            throw new UnsupportedOperationException();
+        }
+
+        public int nextIndex() {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+
+    void dumpLookaheadStack(PrintStream ps) {
+        lookaheadStack.dump(ps);
+    }
+
+    void dumpCallStack(PrintStream ps) {
+        parsingStack.dump(ps);
+    }
+
+    void dumpLookaheadCallStack(PrintStream ps) {
+        ps.println("Current Parser Production is: " + currentlyParsedProduction);
+        ps.println("Current Lookahead Production is: " + currentLookaheadProduction);
+        ps.println("---Lookahead Stack---");
+        dumpLookaheadStack(ps);
+        ps.println("---Call Stack---");
+        dumpCallStack(ps);
+    }
+
+    public boolean isParserTolerant() {
+        return false;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+    }
+
+    private Token consumeToken(TokenType expectedType) {
+        Token nextToken = nextToken(lastConsumedToken);
+        if (nextToken.getType() != expectedType) {
+            nextToken = handleUnexpectedTokenType(expectedType, nextToken);
+        }
+        this.lastConsumedToken = nextToken;
+        this.nextTokenType = null;
+        return lastConsumedToken;
+    }
+
+    private Token handleUnexpectedTokenType(TokenType expectedType, Token nextToken) {
+        throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
+    }
+
+
+    /**
+    * The state we go back to if an ATTEMPT fails. Stashing this is O(1).
+    * Everything on the parsing stack at this point is still there
+    * when we backtrack, since the code in the ATTEMPT only pops
+    * what it pushes, so we just need the size of the stack.
+    * Likewise, we hold onto the current node scope and the changes
+    * to the node scopes after this point are logged so that
+    * we can undo them.
+    */
+    private class ParseState {
+        Token lastConsumed;
+        int parsingStackSize;
+        LexicalState lexicalState;
+
+        ParseState() {
+            this.lastConsumed = PreprocessorParser.this.lastConsumedToken;
+            this.parsingStackSize = PreprocessorParser.this.parsingStack.size();
+            this.lexicalState = token_source.lexicalState;
+        }
+
+    }
+
+    private ArrayList<ParseState> parseStateStack = new ArrayList<>();
+
+    public boolean isTreeBuildingEnabled() {
+        return false;
+    }
+
+}
+
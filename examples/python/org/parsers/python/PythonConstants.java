@@ -0,0 +1,36 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit. PythonConstants.java */
+package org.parsers.python;
+
+
+public interface PythonConstants {
+
+    /**
+    * The various token types. The first type EOF
+    * and the last type INVALID are auto-generated.
+    * They represent the end of input and invalid input
+    * respectively.
+    */
+    public enum TokenType {
+        EOF, SPACE, CONTINUE_LINE, COMMENT, NEWLINE, ASSIGN, AT, COLON, COMMA, EQ, LBRACE, 
+        RBRACE, LBRACKET, RBRACKET, LPAREN, RPAREN, SEMICOLON, STAR, STAR_STAR, MINUSASSIGN, 
+        PLUSASSIGN, STARASSIGN, ATASSIGN, SLASHASSIGN, REMASSIGN, ANDASSIGN, ORASSIGN, XORASSIGN, 
+        LSHIFTASSIGN, RSHIFTASSIGN, STARSTARASSIGN, SLASHSLASHASSIGN, BIT_AND, BIT_OR, XOR, 
+        TILDE, COLONEQUALS, DOT, ELLIPSIS, LE, GE, NE, GT, LT, MINUS, PLUS, SLASH, SLASHSLASH, 
+        PERCENT, LSHIFT, RSHIFT, HOOK, RARROW, AND, AS, _ASSERT, ASYNC, AWAIT, BREAK, CASE, 
+        CLASS, CONTINUE, DEF, DEL, EXCEPT, FINALLY, FOR, FROM, GLOBAL, IF, IN, IS, ELIF, ELSE, 
+        FALSE, IMPORT, LAMBDA, MATCH, NONLOCAL, NONE, NOT, OR, PASS, PEG_PARSER, RAISE, RETURN, 
+        TRUE, TRY, WHILE, WITH, YIELD, DECNUMBER, BADDECNUMBER, HEXNUMBER, OCTNUMBER, BINNUMBER, 
+        FLOAT, COMPLEX, STRING_LITERAL, NAME, BADNAME, INDENT, DEDENT, INVALID
+    }
+
+
+    /**
+    * Lexical States
+    */
+    public enum LexicalState {
+        PYTHON
+    }
+
+}
+
+
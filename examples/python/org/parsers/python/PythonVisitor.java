@@ -0,0 +1,626 @@
+/* Generated by: JavaCC 21 Parser Generator. PythonVisitor.java */
+package org.parsers.python;
+
+import org.parsers.python.ast.AdditiveExpression;
+import org.parsers.python.ast.AnnotatedRhs;
+import org.parsers.python.ast.Annotation;
+import org.parsers.python.ast.Argument;
+import org.parsers.python.ast.AssertStatement;
+import org.parsers.python.ast.Assignment;
+import org.parsers.python.ast.Attribute;
+import org.parsers.python.ast.AwaitPrimary;
+import org.parsers.python.ast.BADNAME;
+import org.parsers.python.ast.BitwiseAnd;
+import org.parsers.python.ast.BitwiseOr;
+import org.parsers.python.ast.BitwiseXor;
+import org.parsers.python.ast.Block;
+import org.parsers.python.ast.CaseBlock;
+import org.parsers.python.ast.ClassDefinition;
+import org.parsers.python.ast.ClassPattern;
+import org.parsers.python.ast.ClosedPattern;
+import org.parsers.python.ast.Comment;
+import org.parsers.python.ast.Comparison;
+import org.parsers.python.ast.CompoundStatement;
+import org.parsers.python.ast.Conjunction;
+import org.parsers.python.ast.Decorators;
+import org.parsers.python.ast.DedentToken;
+import org.parsers.python.ast.DelStatement;
+import org.parsers.python.ast.Delimiter;
+import org.parsers.python.ast.Dict;
+import org.parsers.python.ast.DictComp;
+import org.parsers.python.ast.Disjunction;
+import org.parsers.python.ast.DotName;
+import org.parsers.python.ast.DottedName;
+import org.parsers.python.ast.DoubleStarPattern;
+import org.parsers.python.ast.DoubleStarredKeyValuePair;
+import org.parsers.python.ast.DoubleStarredKeyValuePairs;
+import org.parsers.python.ast.ElseBlock;
+import org.parsers.python.ast.ExceptBlock;
+import org.parsers.python.ast.Expression;
+import org.parsers.python.ast.FinallyBlock;
+import org.parsers.python.ast.ForIfClause;
+import org.parsers.python.ast.ForStatement;
+import org.parsers.python.ast.FunctionCall;
+import org.parsers.python.ast.FunctionDefinition;
+import org.parsers.python.ast.GenExp;
+import org.parsers.python.ast.GenExpression;
+import org.parsers.python.ast.GlobalStatement;
+import org.parsers.python.ast.Group;
+import org.parsers.python.ast.GroupPattern;
+import org.parsers.python.ast.IfStatement;
+import org.parsers.python.ast.ImportFromTargets;
+import org.parsers.python.ast.ImportStatement;
+import org.parsers.python.ast.IndentToken;
+import org.parsers.python.ast.Inversion;
+import org.parsers.python.ast.InvocationArguments;
+import org.parsers.python.ast.ItemsPattern;
+import org.parsers.python.ast.KeyValuePair;
+import org.parsers.python.ast.KeyValuePattern;
+import org.parsers.python.ast.KeyWords;
+import org.parsers.python.ast.Keyword;
+import org.parsers.python.ast.KeywordPattern;
+import org.parsers.python.ast.KeywordPatterns;
+import org.parsers.python.ast.LambdaDefinition;
+import org.parsers.python.ast.List;
+import org.parsers.python.ast.ListComp;
+import org.parsers.python.ast.LiteralPattern;
+import org.parsers.python.ast.MappingPattern;
+import org.parsers.python.ast.MatchStatement;
+import org.parsers.python.ast.MaybeSequencePattern;
+import org.parsers.python.ast.Module;
+import org.parsers.python.ast.MultiplicativeExpression;
+import org.parsers.python.ast.Name;
+import org.parsers.python.ast.NamedExpression;
+import org.parsers.python.ast.Newline;
+import org.parsers.python.ast.NonlocalStatement;
+import org.parsers.python.ast.NumericalLiteral;
+import org.parsers.python.ast.OpenSequencePattern;
+import org.parsers.python.ast.Operator;
+import org.parsers.python.ast.OrPattern;
+import org.parsers.python.ast.ParamMaybeDefault;
+import org.parsers.python.ast.Parameters;
+import org.parsers.python.ast.Pattern;
+import org.parsers.python.ast.Patterns;
+import org.parsers.python.ast.PositionalPatterns;
+import org.parsers.python.ast.Power;
+import org.parsers.python.ast.RaiseStatement;
+import org.parsers.python.ast.ReturnStatement;
+import org.parsers.python.ast.SPACE;
+import org.parsers.python.ast.SequencePattern;
+import org.parsers.python.ast.Set;
+import org.parsers.python.ast.SetComp;
+import org.parsers.python.ast.ShiftExpression;
+import org.parsers.python.ast.SignedNumber;
+import org.parsers.python.ast.SimpleAssignTarget;
+import org.parsers.python.ast.SimpleStatement;
+import org.parsers.python.ast.Slice;
+import org.parsers.python.ast.SliceExpression;
+import org.parsers.python.ast.Slices;
+import org.parsers.python.ast.SmallStatement;
+import org.parsers.python.ast.StarEtc;
+import org.parsers.python.ast.StarExpression;
+import org.parsers.python.ast.StarExpressions;
+import org.parsers.python.ast.StarNamedExpression;
+import org.parsers.python.ast.StarNamedExpressions;
+import org.parsers.python.ast.StarPattern;
+import org.parsers.python.ast.StarTarget;
+import org.parsers.python.ast.StarTargets;
+import org.parsers.python.ast.Statement;
+import org.parsers.python.ast.StringLiteral;
+import org.parsers.python.ast.Strings;
+import org.parsers.python.ast.SubjectExpression;
+import org.parsers.python.ast.TryStatement;
+import org.parsers.python.ast.Tuple;
+import org.parsers.python.ast.UnaryExpression;
+import org.parsers.python.ast.WhileStatement;
+import org.parsers.python.ast.Whitespace;
+import org.parsers.python.ast.WithItem;
+import org.parsers.python.ast.WithStatement;
+import org.parsers.python.ast.YieldExpression;
+import org.parsers.python.ast.YieldStatement;
+
+
+/**
+* A visitor that is dispatched without reflection. Each Node gets
+* passed to the visit method for its own class via Node#accept(PythonVisitor).
+* If that is not overridden, it passes the node on to the visit methods
+* for the Node interfaces the class implements, until it gets to one that
+* is overridden, and failing that, to the one for its superclass, which
+* goes on in the same way. That is the order that Node.Visitor looks in,
+* so the same visit methods get called. If none of them is overridden, it
+* just goes into the children.
+* Unlike with Node.Visitor, the visit methods have to be public, but
+* they are otherwise written the same way.
+*/
+public abstract class PythonVisitor {
+    protected boolean visitUnparsedTokens;
+
+    public final void visit(Node node) {
+        node.accept(this);
+    }
+
+    /**
+    * Just recurses over (i.e. visits) node's children
+    * @param node the node we are traversing
+    */
+    public void recurse(Node node) {
+        for (Node child : node.children(visitUnparsedTokens)) {
+            visit(child);
+        }
+    }
+
+    public void visit(AdditiveExpression node) {
+        recurse(node);
+    }
+
+    public void visit(AnnotatedRhs node) {
+        recurse(node);
+    }
+
+    public void visit(Annotation node) {
+        recurse(node);
+    }
+
+    public void visit(Argument node) {
+        recurse(node);
+    }
+
+    public void visit(AssertStatement node) {
+        recurse(node);
+    }
+
+    public void visit(Assignment node) {
+        recurse(node);
+    }
+
+    public void visit(Attribute node) {
+        recurse(node);
+    }
+
+    public void visit(AwaitPrimary node) {
+        recurse(node);
+    }
+
+    public void visit(BADNAME node) {
+        visit((Token) node);
+    }
+
+    public void visit(BitwiseAnd node) {
+        recurse(node);
+    }
+
+    public void visit(BitwiseOr node) {
+        recurse(node);
+    }
+
+    public void visit(BitwiseXor node) {
+        recurse(node);
+    }
+
+    public void visit(Block node) {
+        recurse(node);
+    }
+
+    public void visit(CaseBlock node) {
+        recurse(node);
+    }
+
+    public void visit(ClassDefinition node) {
+        recurse(node);
+    }
+
+    public void visit(ClassPattern node) {
+        recurse(node);
+    }
+
+    public void visit(ClosedPattern node) {
+        recurse(node);
+    }
+
+    public void visit(Comment node) {
+        visit((Token) node);
+    }
+
+    public void visit(Comparison node) {
+        recurse(node);
+    }
+
+    public void visit(CompoundStatement node) {
+        recurse(node);
+    }
+
+    public void visit(Conjunction node) {
+        recurse(node);
+    }
+
+    public void visit(Decorators node) {
+        recurse(node);
+    }
+
+    public void visit(DedentToken node) {
+        visit((Token) node);
+    }
+
+    public void visit(DelStatement node) {
+        recurse(node);
+    }
+
+    public void visit(Delimiter node) {
+        visit((Token) node);
+    }
+
+    public void visit(Dict node) {
+        recurse(node);
+    }
+
+    public void visit(DictComp node) {
+        recurse(node);
+    }
+
+    public void visit(Disjunction node) {
+        recurse(node);
+    }
+
+    public void visit(DotName node) {
+        recurse(node);
+    }
+
+    public void visit(DottedName node) {
+        recurse(node);
+    }
+
+    public void visit(DoubleStarPattern node) {
+        recurse(node);
+    }
+
+    public void visit(DoubleStarredKeyValuePair node) {
+        recurse(node);
+    }
+
+    public void visit(DoubleStarredKeyValuePairs node) {
+        recurse(node);
+    }
+
+    public void visit(ElseBlock node) {
+        recurse(node);
+    }
+
+    public void visit(ExceptBlock node) {
+        recurse(node);
+    }
+
+    public void visit(Expression node) {
+        recurse(node);
+    }
+
+    public void visit(FinallyBlock node) {
+        recurse(node);
+    }
+
+    public void visit(ForIfClause node) {
+        recurse(node);
+    }
+
+    public void visit(ForStatement node) {
+        recurse(node);
+    }
+
+    public void visit(FunctionCall node) {
+        recurse(node);
+    }
+
+    public void visit(FunctionDefinition node) {
+        recurse(node);
+    }
+
+    public void visit(GenExp node) {
+        recurse(node);
+    }
+
+    public void visit(GenExpression node) {
+        recurse(node);
+    }
+
+    public void visit(GlobalStatement node) {
+        recurse(node);
+    }
+
+    public void visit(Group node) {
+        recurse(node);
+    }
+
+    public void visit(GroupPattern node) {
+        recurse(node);
+    }
+
+    public void visit(IfStatement node) {
+        recurse(node);
+    }
+
+    public void visit(ImportFromTargets node) {
+        recurse(node);
+    }
+
+    public void visit(ImportStatement node) {
+        recurse(node);
+    }
+
+    public void visit(IndentToken node) {
+        visit((Token) node);
+    }
+
+    public void visit(Inversion node) {
+        recurse(node);
+    }
+
+    public void visit(InvocationArguments node) {
+        recurse(node);
+    }
+
+    public void visit(ItemsPattern node) {
+        recurse(node);
+    }
+
+    public void visit(KeyValuePair node) {
+        recurse(node);
+    }
+
+    public void visit(KeyValuePattern node) {
+        recurse(node);
+    }
+
+    public void visit(KeyWords node) {
+        recurse(node);
+    }
+
+    public void visit(Keyword node) {
+        visit((Token) node);
+    }
+
+    public void visit(KeywordPattern node) {
+        recurse(node);
+    }
+
+    public void visit(KeywordPatterns node) {
+        recurse(node);
+    }
+
+    public void visit(LambdaDefinition node) {
+        recurse(node);
+    }
+
+    public void visit(List node) {
+        recurse(node);
+    }
+
+    public void visit(ListComp node) {
+        recurse(node);
+    }
+
+    public void visit(LiteralPattern node) {
+        recurse(node);
+    }
+
+    public void visit(MappingPattern node) {
+        recurse(node);
+    }
+
+    public void visit(MatchStatement node) {
+        recurse(node);
+    }
+
+    public void visit(MaybeSequencePattern node) {
+        recurse(node);
+    }
+
+    public void visit(Module node) {
+        recurse(node);
+    }
+
+    public void visit(MultiplicativeExpression node) {
+        recurse(node);
+    }
+
+    public void visit(Name node) {
+        visit((Token) node);
+    }
+
+    public void visit(NamedExpression node) {
+        recurse(node);
+    }
+
+    public void visit(Newline node) {
+        visit((Token) node);
+    }
+
+    public void visit(NonlocalStatement node) {
+        recurse(node);
+    }
+
+    public void visit(NumericalLiteral node) {
+        visit((Token) node);
+    }
+
+    public void visit(OpenSequencePattern node) {
+        recurse(node);
+    }
+
+    public void visit(Operator node) {
+        visit((Token) node);
+    }
+
+    public void visit(OrPattern node) {
+        recurse(node);
+    }
+
+    public void visit(ParamMaybeDefault node) {
+        recurse(node);
+    }
+
+    public void visit(Parameters node) {
+        recurse(node);
+    }
+
+    public void visit(Pattern node) {
+        recurse(node);
+    }
+
+    public void visit(Patterns node) {
+        recurse(node);
+    }
+
+    public void visit(PositionalPatterns node) {
+        recurse(node);
+    }
+
+    public void visit(Power node) {
+        recurse(node);
+    }
+
+    public void visit(RaiseStatement node) {
+        recurse(node);
+    }
+
+    public void visit(ReturnStatement node) {
+        recurse(node);
+    }
+
+    public void visit(SPACE node) {
+        visit((Token) node);
+    }
+
+    public void visit(SequencePattern node) {
+        recurse(node);
+    }
+
+    public void visit(Set node) {
+        recurse(node);
+    }
+
+    public void visit(SetComp node) {
+        recurse(node);
+    }
+
+    public void visit(ShiftExpression node) {
+        recurse(node);
+    }
+
+    public void visit(SignedNumber node) {
+        recurse(node);
+    }
+
+    public void visit(SimpleAssignTarget node) {
+        recurse(node);
+    }
+
+    public void visit(SimpleStatement node) {
+        recurse(node);
+    }
+
+    public void visit(Slice node) {
+        recurse(node);
+    }
+
+    public void visit(SliceExpression node) {
+        recurse(node);
+    }
+
+    public void visit(Slices node) {
+        recurse(node);
+    }
+
+    public void visit(SmallStatement node) {
+        recurse(node);
+    }
+
+    public void visit(StarEtc node) {
+        recurse(node);
+    }
+
+    public void visit(StarExpression node) {
+        recurse(node);
+    }
+
+    public void visit(StarExpressions node) {
+        recurse(node);
+    }
+
+    public void visit(StarNamedExpression node) {
+        recurse(node);
+    }
+
+    public void visit(StarNamedExpressions node) {
+        recurse(node);
+    }
+
+    public void visit(StarPattern node) {
+        recurse(node);
+    }
+
+    public void visit(StarTarget node) {
+        recurse(node);
+    }
+
+    public void visit(StarTargets node) {
+        recurse(node);
+    }
+
+    public void visit(Statement node) {
+        recurse(node);
+    }
+
+    public void visit(StringLiteral node) {
+        visit((Token) node);
+    }
+
+    public void visit(Strings node) {
+        recurse(node);
+    }
+
+    public void visit(SubjectExpression node) {
+        recurse(node);
+    }
+
+    public void visit(Token node) {
+        recurse(node);
+    }
+
+    public void visit(TryStatement node) {
+        recurse(node);
+    }
+
+    public void visit(Tuple node) {
+        recurse(node);
+    }
+
+    public void visit(UnaryExpression node) {
+        recurse(node);
+    }
+
+    public void visit(WhileStatement node) {
+        recurse(node);
+    }
+
+    public void visit(Whitespace node) {
+        visit((Token) node);
+    }
+
+    public void visit(WithItem node) {
+        recurse(node);
+    }
+
+    public void visit(WithStatement node) {
+        recurse(node);
+    }
+
+    public void visit(YieldExpression node) {
+        recurse(node);
+    }
+
+    public void visit(YieldStatement node) {
+        recurse(node);
+    }
+
+}
+
+
@@ -0,0 +1,19 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for AssertStatement AST Node type
+* by the ASTNode.java.ftl template
+*/
+package org.parsers.python.ast;
+
+import org.parsers.python.*;
+import static org.parsers.python.PythonConstants.TokenType.*;
+
+
+public class AssertStatement extends BaseNode {
+
+    public void accept(PythonVisitor visitor) {
+        visitor.visit(this);
+    }
+
+}
+
+
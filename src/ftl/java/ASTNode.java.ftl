@@ -58,7 +58,79 @@ public interface ${classname} extends Node {}
 [#if grammar.parserPackage?has_content]
 import static ${grammar.parserPackage}.${grammar.constantsClassName}.TokenType.*;
 [/#if]
+[#var childNames = [], childListNames = []]
+[#if grammar.compactNodes]
+  [#set childNames = grammar.utils.getNamedChildNames(classname)]
+  [#set childListNames = grammar.utils.getNamedChildListNames(classname)]
+[/#if]
+[#if childListNames?has_content]
+import java.util.ArrayList;
+import java.util.List;
+[/#if]
 
 [#if isAbstract]abstract[/#if]
-public class ${classname} extends ${grammar.baseNodeClassName} {}
+public class ${classname} extends ${grammar.baseNodeClassName} {
+[#-- The named children that the parser sets on this type of node
+     are in fields, rather than in the maps in the base class. --]
+[#list childNames as name]
+    private Node namedChild_${name};
+[/#list]
+[#list childListNames as name]
+    private List<Node> namedChildList_${name};
+[/#list]
+
+    public void accept(${grammar.visitorClassName} visitor) {
+        visitor.visit(this);
+    }
+[#if childNames?has_content]
+
+    public Node getNamedChild(String name) {
+        switch (name) {
+  [#list childNames as name]
+            case "${name}" : return namedChild_${name};
+  [/#list]
+            default : return super.getNamedChild(name);
+        }
+    }
+
+    public void setNamedChild(String name, Node node) {
+        switch (name) {
+  [#list childNames as name]
+            case "${name}" :
+                if (namedChild_${name} != null) {
+                    throw new RuntimeException("Duplicate named child not allowed: " + name);
+                }
+                namedChild_${name} = node;
+                break;
+  [/#list]
+            default : super.setNamedChild(name, node);
+        }
+    }
+[/#if]
+[#if childListNames?has_content]
+
+    public List<Node> getNamedChildList(String name) {
+        switch (name) {
+  [#list childListNames as name]
+            case "${name}" : return namedChildList_${name};
+  [/#list]
+            default : return super.getNamedChildList(name);
+        }
+    }
+
+    public void addToNamedChildList(String name, Node node) {
+        switch (name) {
+  [#list childListNames as name]
+            case "${name}" :
+                if (namedChildList_${name} == null) {
+                    namedChildList_${name} = new ArrayList<>();
+                }
+                namedChildList_${name}.add(node);
+                break;
+  [/#list]
+            default : super.addToNamedChildList(name, node);
+        }
+    }
+[/#if]
+}
 [/#if]
@@ -54,4 +54,8 @@ public class ${classname} extends ${superclass} {
     public ${classname}(TokenType type, ${grammar.lexerClassName} tokenSource, int beginOffset, int endOffset) {
         super(type, tokenSource, beginOffset, endOffset);
     }
+
+    public void accept(${grammar.visitorClassName} visitor) {
+        visitor.visit(this);
+    }
 }
\ No newline at end of file
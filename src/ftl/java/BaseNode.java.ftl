@@ -47,6 +47,7 @@ import freemarker.template.*;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Collections;
@@ -71,6 +72,13 @@ public class ${grammar.baseNodeClassName} implements Node {
         this.tokenSource = tokenSource;
     }
     
+[#if grammar.compactNodes]
+    /**
+     * This does nothing, since the child nodes are stored in an array.
+     * It is only here so that code that calls it still compiles.
+     */
+	static public void setListClass(Class<? extends List> listClass) {}
+[#else]
     static private Class<? extends List> listClass;
 
     /**
@@ -96,15 +104,29 @@ public class ${grammar.baseNodeClassName} implements Node {
            throw new RuntimeException(e);
         }
     }
+[/#if]
     /**
      * the parent node
      */    
     private Node parent;
+[#if grammar.compactNodes]
+
+    static private final Node[] NO_CHILDREN = new Node[0];
+
+    /**
+     * the child nodes, in the first childCount positions. While the 
+     * node is being built, there can be room to spare, which is 
+     * trimmed off in #close()
+     */
+    private Node[] children = NO_CHILDREN;
+    private int childCount;
+[#else]
 
     /**
      * the child nodes
      */
     private List<Node> children = newList();
+[/#if]
     
     private int beginOffset, endOffset;
     private boolean unparsed;
@@ -145,6 +167,72 @@ public class ${grammar.baseNodeClassName} implements Node {
         return parent;
     }
 
+[#if grammar.compactNodes]
+    public void addChild(Node n) {
+        addChild(childCount, n);
+    }
+    
+    public void addChild(int i, Node n) {
+        if (i < 0 || i > childCount) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", child count: " + childCount);
+        }
+        if (childCount == children.length) {
+            children = Arrays.copyOf(children, Math.max(4, childCount * 2));
+        }
+        System.arraycopy(children, i, children, i + 1, childCount - i);
+        children[i] = n;
+        ++childCount;
+        n.setParent(this);
+    }
+
+    public Node getChild(int i) {
+        checkChildIndex(i);
+        return children[i];
+    }
+
+    public void setChild(int i, Node n) {
+        checkChildIndex(i);
+        children[i] = n;
+        n.setParent(this);
+    }
+    
+    public Node removeChild(int i) {
+        checkChildIndex(i);
+        Node result = children[i];
+        System.arraycopy(children, i + 1, children, i, childCount - i - 1);
+        children[--childCount] = null;
+        return result;
+    }
+
+    private void checkChildIndex(int i) {
+        if (i < 0 || i >= childCount) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", child count: " + childCount);
+        }
+    }
+
+    public void clearChildren() {
+        children = NO_CHILDREN;
+        childCount = 0;
+    }
+
+    public int getChildCount() {
+        return childCount;
+    }
+    
+    public List<Node> children() {
+        return Collections.unmodifiableList(Arrays.asList(children).subList(0, childCount));
+    }
+
+    /**
+     * Trims the array of child nodes to size, since the 
+     * node is typically not added to after this.
+     */
+    public void close() {
+        if (children.length != childCount) {
+            children = childCount == 0 ? NO_CHILDREN : Arrays.copyOf(children, childCount);
+        }
+    }
+[#else]
     public void addChild(Node n) {
         children.add(n);
         n.setParent(this);
@@ -179,6 +267,7 @@ public class ${grammar.baseNodeClassName} implements Node {
     public List<Node> children() {
         return Collections.unmodifiableList(children);
     }
+[/#if]
     
     public int getBeginOffset() {
         return beginOffset;
@@ -201,7 +290,7 @@ public class ${grammar.baseNodeClassName} implements Node {
 [#if grammar.settings.FREEMARKER_NODES?? && grammar.settings.FREEMARKER_NODES]
     public TemplateSequenceModel getChildNodes() {
         SimpleSequence seq = new SimpleSequence();
-        for (Node child : children) {
+        for (Node child : children()) {
             seq.add(child);
         }
         return seq;
@@ -225,12 +314,10 @@ public class ${grammar.baseNodeClassName} implements Node {
     
     public String getAsString() throws TemplateModelException {
         StringBuilder buf = new StringBuilder();
-        if (children != null) {
-	        for (Node child : children) {
-	            buf.append(child.getAsString());
-	            buf.append(" ");
-	        }
-	    }
+        for (Node child : children()) {
+            buf.append(child.getAsString());
+            buf.append(" ");
+        }
         return buf.toString();
     }
 [/#if]    
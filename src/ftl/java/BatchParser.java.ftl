@@ -0,0 +1,345 @@
+[#ftl strict_vars=true]
+[#--
+/* Copyright (c) 2020 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary formnt must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+ --]
+ /* Generated by: ${generated_by}. ${filename} */
+[#if grammar.parserPackage?has_content]
+package ${grammar.parserPackage};
+[/#if]
+
+[#var PARSER = grammar.parserClassName
+      CLASS = grammar.batchParserClassName
+      production = grammar.batchProduction]
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Parses many inputs with ${PARSER} on an ExecutorService, calling
+ * ${production.name} for each one. By default, this runs on
+ * the common ForkJoinPool, but any executor will do, for example
+ * one that starts a virtual thread per task. Files are parsed
+ * largest first, so that a big file found at the end does not hold
+ * up the whole batch. The results are handed to a #Listener as
+ * they come, rather than collected, so that memory use does not
+ * grow with the number of inputs.
+ * Unless #setReuseParsers is turned off, each parser is reset
+ * and used again for another input once the listener returns
+ * (unless the parsing failed), so the listener must not hold
+ * onto the tree.
+ */
+public class ${CLASS} {
+
+    /**
+     * Gets the outcome for each input. The methods are called
+     * from whatever threads the executor runs the parsing on,
+     * so they need to be thread-safe. If one of them throws, that
+     * does not change how the input is counted, and the exception
+     * is left to the executor.
+     */
+    public interface Listener {
+        /**
+         * Called when an input has been parsed.
+         * @param inputSource the path of the file (or the name of the input)
+    [#if grammar.treeBuildingEnabled]
+         * @param root the root node of the tree that was built
+    [/#if]
+         */
+        void parsed(String inputSource[#if grammar.treeBuildingEnabled], Node root[/#if]);
+
+    [#if grammar.faultTolerant]
+        /**
+         * Called when an input has been parsed. This is the one to override
+         * to see the problems, since the other one is not called if it is.
+         * @param inputSource the path of the file (or the name of the input)
+      [#if grammar.treeBuildingEnabled]
+         * @param root the root node of the tree that was built
+      [/#if]
+         * @param problems the problems that were recovered from if the
+         * parsing was tolerant, otherwise an empty list
+         */
+        default void parsed(String inputSource[#if grammar.treeBuildingEnabled], Node root[/#if], List<ParsingProblem> problems) {
+            parsed(inputSource[#if grammar.treeBuildingEnabled], root[/#if]);
+        }
+
+    [/#if]
+        /**
+         * Called when an input could not be read or parsed
+         * @param inputSource the path of the file (or the name of the input)
+         * @param e the exception that was thrown, or a StackOverflowError
+         * if the input was nested too deeply
+         */
+        void failed(String inputSource, Throwable e);
+    }
+
+    /**
+     * The counts and timing for a batch, from which the
+     * throughput can be had.
+     */
+    public static class Stats {
+        private final AtomicLong parsed = new AtomicLong(), failed = new AtomicLong(),
+                                 chars = new AtomicLong();
+        private final long startTime = System.nanoTime();
+        private long endTime;
+
+        public long getParsedCount() {
+            return parsed.get();
+        }
+
+        public long getFailedCount() {
+            return failed.get();
+        }
+
+        /**
+         * @return the number of characters in the inputs (as opposed to bytes,
+         * which may be more, depending on the encoding)
+         */
+        public long getCharCount() {
+            return chars.get();
+        }
+
+        public long getElapsedNanos() {
+            return (endTime == 0 ? System.nanoTime() : endTime) - startTime;
+        }
+
+        public double getInputsPerSecond() {
+            return (getParsedCount() + getFailedCount()) * 1e9 / Math.max(1, getElapsedNanos());
+        }
+
+        /**
+         * @return the millions of characters per second
+         */
+        public double getMegacharsPerSecond() {
+            return getCharCount() * 1e3 / Math.max(1, getElapsedNanos());
+        }
+
+        public String toString() {
+            return String.format("Parsed %d inputs (%d failed) in %d milliseconds: %.1f inputs/s, %.2f Mchars/s",
+                                 getParsedCount() + getFailedCount(), getFailedCount(), getElapsedNanos()/1000000,
+                                 getInputsPerSecond(), getMegacharsPerSecond());
+        }
+    }
+
+    private final Listener listener;
+    private ExecutorService executor = ForkJoinPool.commonPool();
+    private int maxPending = 4 * Runtime.getRuntime().availableProcessors();
+    private boolean reuseParsers = true;
+  [#if grammar.faultTolerant]
+    private boolean tolerantParsing;
+  [/#if]
+    private Predicate<Path> fileFilter = path -> true;
+
+    // The parsers that are not in use right now. This is not a
+    // ThreadLocal, since a virtual thread per input would never
+    // get to reuse one.
+    private final ConcurrentLinkedQueue<${PARSER}> idleParsers = new ConcurrentLinkedQueue<>();
+
+    public ${CLASS}(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * @param executor the executor to parse on. It is not shut down afterwards.
+     */
+    public void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @param maxPending how many inputs can be handed to the executor
+     * and not done yet. This bounds how much input is in memory at once.
+     */
+    public void setMaxPending(int maxPending) {
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * @param reuseParsers whether to reset the parsers and use them again,
+     * in which case the listener must not hold onto the trees
+     */
+    public void setReuseParsers(boolean reuseParsers) {
+        this.reuseParsers = reuseParsers;
+    }
+
+    public void setParserTolerant(boolean tolerantParsing) {
+      [#if grammar.faultTolerant]
+        this.tolerantParsing = tolerantParsing;
+      [#else]
+        if (tolerantParsing) {
+            throw new UnsupportedOperationException("This parser was not built with that feature!");
+        }
+      [/#if]
+    }
+
+    /**
+     * @param fileFilter which of the files found by #parse(Path) to parse,
+     * for example by their extension
+     */
+    public void setFileFilter(Predicate<Path> fileFilter) {
+        this.fileFilter = fileFilter;
+    }
+
+    /**
+     * Parses the regular files in a directory tree (or the file
+     * itself, if it is not a directory) that the file filter accepts.
+     * @param root the directory to walk
+     * @return the counts and timing, once everything is parsed
+     */
+    public Stats parse(Path root) throws IOException, InterruptedException {
+        List<Path> paths = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            files.filter(path -> Files.isRegularFile(path) && fileFilter.test(path)).forEach(paths::add);
+        }
+        return parse(paths);
+    }
+
+    /**
+     * Parses the files, the largest ones first.
+     * @param paths the files
+     * @return the counts and timing, once everything is parsed
+     */
+    public Stats parse(Collection<Path> paths) throws InterruptedException {
+        List<Map.Entry<Path, Long>> sized = new ArrayList<>(paths.size());
+        for (Path path : paths) {
+            long size;
+            try {
+                size = Files.size(path);
+            } catch (IOException e) {
+                size = 0; // We find out about this when we read it.
+            }
+            sized.add(new java.util.AbstractMap.SimpleImmutableEntry<>(path, size));
+        }
+        sized.sort(Map.Entry.<Path, Long>comparingByValue(Comparator.reverseOrder()));
+        Stats stats = new Stats();
+        Semaphore pending = new Semaphore(maxPending);
+        for (Map.Entry<Path, Long> entry : sized) {
+            Path path = entry.getKey();
+            submit(path.toString(), null, path, stats, pending);
+        }
+        return finish(stats, pending);
+    }
+
+    /**
+     * Parses inputs that are already in memory, in the order they come.
+     * @param inputs the names of the inputs (used in error messages) and the inputs themselves
+     * @return the counts and timing, once everything is parsed
+     */
+    public Stats parseInputs(Iterator<? extends Map.Entry<String, ? extends CharSequence>> inputs) throws InterruptedException {
+        Stats stats = new Stats();
+        Semaphore pending = new Semaphore(maxPending);
+        while (inputs.hasNext()) {
+            Map.Entry<String, ? extends CharSequence> input = inputs.next();
+            submit(input.getKey(), input.getValue(), null, stats, pending);
+        }
+        return finish(stats, pending);
+    }
+
+    private void submit(String inputSource, CharSequence content, Path path, Stats stats, Semaphore pending) throws InterruptedException {
+        pending.acquire();
+        try {
+            executor.execute(() -> {
+                try {
+                    parseOne(inputSource, content, path, stats);
+                } finally {
+                    pending.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            pending.release();
+            throw e;
+        }
+    }
+
+    // Waits for everything that was submitted to be done
+    private Stats finish(Stats stats, Semaphore pending) throws InterruptedException {
+        pending.acquire(maxPending);
+        pending.release(maxPending);
+        stats.endTime = System.nanoTime();
+        idleParsers.clear();
+        return stats;
+    }
+
+    private void parseOne(String inputSource, CharSequence content, Path path, Stats stats) {
+        ${PARSER} parser;
+        try {
+            if (content == null) {
+                content = read(path);
+            }
+            parser = reuseParsers ? idleParsers.poll() : null;
+            if (parser == null) {
+                parser = new ${PARSER}(inputSource, content);
+            } else {
+                parser.reset(inputSource, content);
+            }
+          [#if grammar.faultTolerant]
+            parser.setParserTolerant(tolerantParsing);
+          [/#if]
+            parser.${production.name}();
+        } catch (Exception | StackOverflowError e) {
+            // A stack overflow only means that this input is nested
+            // too deeply, which is no reason to give up on the others.
+            // The parser is not used again, since there is no knowing
+            // what state it was left in.
+            stats.failed.incrementAndGet();
+            listener.failed(inputSource, e);
+            return;
+        }
+        stats.chars.addAndGet(content.length());
+        stats.parsed.incrementAndGet();
+        try {
+            listener.parsed(inputSource[#if grammar.treeBuildingEnabled], parser.rootNode()[/#if][#if grammar.faultTolerant], parser.getParsingProblems()[/#if]);
+        } finally {
+            if (reuseParsers) {
+                idleParsers.add(parser);
+            }
+        }
+    }
+
+    private static CharSequence read(Path path) throws IOException {
+    [#if grammar.memoryMappedInput]
+        return ${grammar.lexerClassName}.contentFromPath(path, null);
+    [#else]
+        return ${grammar.lexerClassName}.stringFromBytes(Files.readAllBytes(path));
+    [/#if]
+    }
+}
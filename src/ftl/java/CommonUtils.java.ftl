@@ -42,12 +42,22 @@
 
 [#--
   Rewritten version of this macro to try to get around the Code too large problem.
+  Token sets are interned as the parser is generated. The first expansion 
+  with a given set gets an EnumSet built for it, and any later expansion 
+  with the same set just refers to that instance, so there is no lookup 
+  at runtime. These sets are shared, so the generated code never modifies them. 
+  (It clones them if it needs a modified set.)
 --]
-[#macro enumSet varName tokenNames]
-   [#if tokenNames?size = 0]
+[#var internedTokenSets = {}]
+
+[#macro enumSet varName tokenSet]
+   [#var key = tokenSet.toString(), tokenNames = tokenSet.tokenNames]
+   [#if internedTokenSets[key]??]
+    static private final EnumSet<TokenType> ${varName} = ${internedTokenSets[key]};
+   [#elseif tokenNames?size = 0]
      static private final EnumSet<TokenType> ${varName} = EnumSet.noneOf(TokenType.class);
    [#elseif tokenNames?size < 8]
-    static private final EnumSet<TokenType> ${varName} = tokenTypeSet(
+    static private final EnumSet<TokenType> ${varName} = EnumSet.of(
        [#list tokenNames as type]
          [#if type_index > 0],[/#if]
          ${TT}${type}
@@ -56,7 +66,7 @@
    [#else]
     static private final EnumSet<TokenType> ${varName} = ${varName}_init();
     static private EnumSet<TokenType> ${varName}_init() {
-       return tokenTypeSet(
+       return EnumSet.of(
          [#list tokenNames as type]
           [#if type_index > 0],[/#if]
            ${TT}${type}
@@ -64,18 +74,21 @@
        );
     }
    [/#if]
+   [#if !internedTokenSets[key]??]
+     [#set internedTokenSets = internedTokenSets + {key : varName}]
+   [/#if]
 [/#macro]
 
 [#macro firstSetVar expansion]
-    [@enumSet expansion.firstSetVarName expansion.firstSet.tokenNames /]
+    [@enumSet expansion.firstSetVarName expansion.firstSet /]
 [/#macro]
 
 [#macro finalSetVar expansion]
-    [@enumSet expansion.finalSetVarName expansion.finalSet.tokenNames /]
+    [@enumSet expansion.finalSetVarName expansion.finalSet /]
 [/#macro]
 
 [#macro followSetVar expansion]
-    [@enumSet expansion.followSetVarName expansion.followSet.tokenNames/]
+    [@enumSet expansion.followSetVarName expansion.followSet/]
 [/#macro]
 
 
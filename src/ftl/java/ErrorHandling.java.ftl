@@ -31,8 +31,8 @@
 
 [#var MULTIPLE_LEXICAL_STATE_HANDLING = (grammar.lexerData.numLexicalStates >1)]
  
-ArrayList<NonTerminalCall> parsingStack = new ArrayList<>();
-private ArrayList<NonTerminalCall> lookaheadStack = new ArrayList<>();
+CallStack parsingStack = new CallStack();
+private CallStack lookaheadStack = new CallStack();
 
 [#if grammar.faultTolerant]
   private EnumSet<TokenType> currentFollowSet;
@@ -51,13 +51,14 @@ class NonTerminalCall {
    [/#if]
 
 
-    NonTerminalCall(String sourceFile, String productionName, int line, int column) {
+    NonTerminalCall(String sourceFile, String productionName, int line, int column
+                    [#if grammar.faultTolerant], EnumSet<TokenType> followSet[/#if]) {
         this.sourceFile = sourceFile;
         this.productionName = productionName;
         this.line = line;
         this.column = column;
       [#if grammar.faultTolerant]
-        this.followSet = ${grammar.parserClassName}.this.outerFollowSet;
+        this.followSet = followSet;
       [/#if]
     }
 
@@ -74,15 +75,104 @@ class NonTerminalCall {
     }
 }
 
+/**
+ * A stack of calls to grammar productions, kept in parallel arrays
+ * so that entering a production does not allocate anything.
+ * The NonTerminalCall objects are only created when they are needed,
+ * i.e. for a ParseException. The production names and source files 
+ * are always string literals, so we just hold onto the references.
+ */
+class CallStack {
+    private String[] productionNames = new String[16], sourceFiles = new String[16];
+    private int[] lines = new int[16], columns = new int[16];
+   [#if grammar.faultTolerant]
+    @SuppressWarnings("unchecked")
+    private EnumSet<TokenType>[] followSets = new EnumSet[16];
+   [/#if]
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    void push(String productionName, String sourceFile, int line, int column) {
+        if (size == lines.length) {
+            int newCapacity = size*2;
+            productionNames = Arrays.copyOf(productionNames, newCapacity);
+            sourceFiles = Arrays.copyOf(sourceFiles, newCapacity);
+            lines = Arrays.copyOf(lines, newCapacity);
+            columns = Arrays.copyOf(columns, newCapacity);
+           [#if grammar.faultTolerant]
+            followSets = Arrays.copyOf(followSets, newCapacity);
+           [/#if]
+        }
+        productionNames[size] = productionName;
+        sourceFiles[size] = sourceFile;
+        lines[size] = line;
+        columns[size] = column;
+       [#if grammar.faultTolerant]
+        followSets[size] = outerFollowSet;
+       [/#if]
+        ++size;
+    }
+
+    /**
+     * Removes the top entry, which can still be read
+     * until something else is pushed.
+     * @return the index of the entry removed
+     */
+    int pop() {
+        return --size;
+    }
+
+    String getProductionName(int index) {
+        return productionNames[index];
+    }
+
+   [#if grammar.faultTolerant]
+    EnumSet<TokenType> getFollowSet(int index) {
+        return followSets[index];
+    }
+   [/#if]
+
+    NonTerminalCall get(int index) {
+        return new NonTerminalCall(sourceFiles[index], productionNames[index], lines[index], columns[index]
+                                   [#if grammar.faultTolerant], followSets[index][/#if]);
+    }
+
+    java.util.List<NonTerminalCall> toList() {
+        java.util.List<NonTerminalCall> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Pops everything above the given size. The entries 
+     * below that are still there, since they are never 
+     * overwritten until they are popped.
+     */
+    void truncate(int size) {
+        this.size = size;
+    }
+
+    void dump(PrintStream ps) {
+        for (int i = size-1; i >= 0; i--) {
+            ps.println(productionNames[i] + ":" + lines[i] + ":" + columns[i]);
+        }
+    }
+}
+
 private final void pushOntoCallStack(String methodName, String fileName, int line, int column) {
-   parsingStack.add(new NonTerminalCall(fileName, methodName, line, column));
+   parsingStack.push(methodName, fileName, line, column);
 }
 
 private final void popCallStack() {
-    NonTerminalCall ntc = parsingStack.remove(parsingStack.size() -1);
-    this.currentlyParsedProduction = ntc.productionName;
+    int top = parsingStack.pop();
+    this.currentlyParsedProduction = parsingStack.getProductionName(top);
    [#if grammar.faultTolerant]
-    this.outerFollowSet = ntc.followSet;
+    this.outerFollowSet = parsingStack.getFollowSet(top);
    [/#if]
 }
 
@@ -92,76 +182,70 @@ private final void restoreCallStack(int prevSize) {
     }
 }
 
-private ListIterator<NonTerminalCall> stackIteratorForward() {
-    final ListIterator<NonTerminalCall> parseStackIterator = parsingStack.listIterator();
-    final ListIterator<NonTerminalCall> lookaheadStackIterator = lookaheadStack.listIterator();
-    return new ListIterator<NonTerminalCall>() {
-        public boolean hasNext() {
-            return parseStackIterator.hasNext() || lookaheadStackIterator.hasNext();
-        }
-        public NonTerminalCall next() {
-            return parseStackIterator.hasNext() ? parseStackIterator.next() : lookaheadStackIterator.next();
-        }
-        public NonTerminalCall previous() {
-           return lookaheadStackIterator.hasPrevious() ? lookaheadStackIterator.previous() : parseStackIterator.previous(); 
-        }
-        public boolean hasPrevious() {
-            return lookaheadStackIterator.hasPrevious() || parseStackIterator.hasPrevious();
-        }
-        public void add(NonTerminalCall ntc) {throw new UnsupportedOperationException();}
-        public void set(NonTerminalCall ntc) {throw new UnsupportedOperationException();}
-        public void remove() {throw new UnsupportedOperationException();}
-        public int previousIndex() {throw new UnsupportedOperationException();}
-        public int nextIndex() {throw new UnsupportedOperationException();}
-    };
+/**
+ * Iterates over the names of the productions on the parsing stack 
+ * and then the lookahead stack, i.e. from the bottom to the top, 
+ * or the other way round if it is backward.
+ */
+private class CallStackIterator implements java.util.ListIterator<String> {
+    private final boolean backward;
+    private int index;
+
+    CallStackIterator(boolean backward) {
+        this.backward = backward;
+        if (backward) index = parsingStack.size() + lookaheadStack.size();
+    }
+
+    private String get(int i) {
+        int parsingStackSize = parsingStack.size();
+        return i < parsingStackSize ? parsingStack.getProductionName(i) : lookaheadStack.getProductionName(i - parsingStackSize);
+    }
+
+    public boolean hasNext() {
+        return backward ? index > 0 : index < parsingStack.size() + lookaheadStack.size();
+    }
+    public String next() {
+        if (!hasNext()) throw new java.util.NoSuchElementException();
+        return backward ? get(--index) : get(index++);
+    }
+    public boolean hasPrevious() {
+        return backward ? index < parsingStack.size() + lookaheadStack.size() : index > 0;
+    }
+    public String previous() {
+        if (!hasPrevious()) throw new java.util.NoSuchElementException();
+        return backward ? get(index++) : get(--index);
+    }
+    public void add(String productionName) {throw new UnsupportedOperationException();}
+    public void set(String productionName) {throw new UnsupportedOperationException();}
+    public void remove() {throw new UnsupportedOperationException();}
+    public int previousIndex() {throw new UnsupportedOperationException();}
+    public int nextIndex() {throw new UnsupportedOperationException();}
 }
 
-private ListIterator<NonTerminalCall> stackIteratorBackward() {
-    final ListIterator<NonTerminalCall> parseStackIterator = parsingStack.listIterator(parsingStack.size());
-    final ListIterator<NonTerminalCall> lookaheadStackIterator = lookaheadStack.listIterator(lookaheadStack.size());
-    return new ListIterator<NonTerminalCall>() {
-        public boolean hasNext() {
-            return lookaheadStackIterator.hasPrevious() || parseStackIterator.hasPrevious();
-        }
-        public NonTerminalCall next() {
-            return lookaheadStackIterator.hasPrevious() ? lookaheadStackIterator.previous() : parseStackIterator.previous();
-        }
-        public NonTerminalCall previous() {
-           return parseStackIterator.hasNext() ? parseStackIterator.next() : lookaheadStackIterator.next();
-        }
-        public boolean hasPrevious() {
-            return parseStackIterator.hasNext() || lookaheadStackIterator.hasNext();
-        }
-        public void add(NonTerminalCall ntc) {throw new UnsupportedOperationException();}
-        public void set(NonTerminalCall ntc) {throw new UnsupportedOperationException();}
-        public void remove() {throw new UnsupportedOperationException();}
-        public int previousIndex() {throw new UnsupportedOperationException();}
-        public int nextIndex() {throw new UnsupportedOperationException();}
-    };
+private ListIterator<String> stackIteratorForward() {
+    return new CallStackIterator(false);
+}
+
+private ListIterator<String> stackIteratorBackward() {
+    return new CallStackIterator(true);
 }
 
 
 private final void pushOntoLookaheadStack(String methodName, String fileName, int line, int column) {
-    lookaheadStack.add(new NonTerminalCall(fileName, methodName, line, column));
+    lookaheadStack.push(methodName, fileName, line, column);
 }
 
 private final void popLookaheadStack() {
-    NonTerminalCall ntc = lookaheadStack.remove(lookaheadStack.size() -1);
-    this.currentLookaheadProduction = ntc.productionName;
+    int top = lookaheadStack.pop();
+    this.currentLookaheadProduction = lookaheadStack.getProductionName(top);
 }
 
 void dumpLookaheadStack(PrintStream ps) {
-    ListIterator<NonTerminalCall> it = lookaheadStack.listIterator(lookaheadStack.size());
-    while (it.hasPrevious()) {
-        it.previous().dump(ps);
-    }
+    lookaheadStack.dump(ps);
 }
 
 void dumpCallStack(PrintStream ps) {
-    ListIterator<NonTerminalCall> it = parsingStack.listIterator(parsingStack.size());
-    while (it.hasPrevious()) {
-        it.previous().dump(ps);
-    }
+    parsingStack.dump(ps);
 }
 
 void dumpLookaheadCallStack(PrintStream ps) {
@@ -262,10 +346,10 @@ void dumpLookaheadCallStack(PrintStream ps) {
       [#if grammar.useCheckedException] throws ParseException [/#if]
       {
       [#if !grammar.faultTolerant]
-       throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack);
+       throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
       [#else]
        if (!this.tolerantParsing) {
-          throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack);
+          throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
        }
        Token nextNext = nextToken(nextToken);
        if (nextNext.getType() == expectedType) {
@@ -295,7 +379,7 @@ void dumpLookaheadCallStack(PrintStream ps) {
 [/#if]
            return virtualToken;
        }
-       throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack);
+       throw new ParseException(this, nextToken, EnumSet.of(expectedType), parsingStack.toList());
       [/#if]
   }
   
@@ -311,25 +395,34 @@ void dumpLookaheadCallStack(PrintStream ps) {
      lastConsumedToken = lastConsumedToken.previousCachedToken();
   }
  
+  /**
+   * The state we go back to if an ATTEMPT fails. Stashing this is O(1).
+   * Everything on the parsing stack at this point is still there 
+   * when we backtrack, since the code in the ATTEMPT only pops 
+   * what it pushes, so we just need the size of the stack.
+   * Likewise, we hold onto the current node scope and the changes 
+   * to the node scopes after this point are logged so that 
+   * we can undo them.
+   */
   private class ParseState {
        Token lastConsumed;
-       ArrayList<NonTerminalCall> parsingStack;
+       int parsingStackSize;
    [#if MULTIPLE_LEXICAL_STATE_HANDLING]
        LexicalState lexicalState;
    [/#if]
    [#if grammar.treeBuildingEnabled]
        NodeScope nodeScope;
+       int undoLogMark;
  [/#if]       
        ParseState() {
            this.lastConsumed = ${grammar.parserClassName}.this.lastConsumedToken;
-          @SuppressWarnings("unchecked")
-           ArrayList<NonTerminalCall> parsingStack = (ArrayList<NonTerminalCall>) ${grammar.parserClassName}.this.parsingStack.clone();
-           this.parsingStack = parsingStack;
+           this.parsingStackSize = ${grammar.parserClassName}.this.parsingStack.size();
 [#if grammar.lexerData.numLexicalStates > 1]
            this.lexicalState = token_source.lexicalState;
 [/#if]
 [#if grammar.treeBuildingEnabled]            
-           this.nodeScope = currentNodeScope.clone();
+           this.nodeScope = currentNodeScope;
+           this.undoLogMark = undoLogLength;
 [/#if]           
        } 
   }
@@ -341,15 +434,22 @@ void dumpLookaheadCallStack(PrintStream ps) {
   }
   
   private ParseState popParseState() {
-      return parseStateStack.remove(parseStateStack.size() -1);
+      ParseState state = parseStateStack.remove(parseStateStack.size() -1);
+[#if grammar.treeBuildingEnabled]
+      // If there is no outer ATTEMPT, there is nothing to undo any more.
+      if (parseStateStack.isEmpty()) clearUndoLog();
+[/#if]
+      return state;
   }
   
   private void restoreStashedParseState() {
-     ParseState state = popParseState();
+     ParseState state = parseStateStack.get(parseStateStack.size() -1);
 [#if grammar.treeBuildingEnabled]
+     undoNodeScopeChanges(state.undoLogMark);
      currentNodeScope = state.nodeScope;
 [/#if]
-     ${grammar.parserClassName}.this.parsingStack = state.parsingStack;
+     popParseState();
+     parsingStack.truncate(state.parsingStackSize);
     if (state.lastConsumed != null) {
         //REVISIT
          lastConsumedToken = state.lastConsumed;
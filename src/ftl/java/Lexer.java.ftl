@@ -94,6 +94,9 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
 
 [#if !multipleLexicalStates]
     static final private ${grammar.nfaDataClassName}.NfaFunction[] nfaFunctions= ${grammar.nfaDataClassName}.getFunctionTableMap(null);
+  [#if lexerData.hasDfa]
+    static final private ${grammar.nfaDataClassName}.DfaTable dfaTable = ${grammar.nfaDataClassName}.getDfaTable(null);
+  [/#if]
 [/#if]
 
     static final int DEFAULT_TAB_SIZE = ${grammar.tabSize};
@@ -110,6 +113,7 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
 
 
   final Token DUMMY_START_TOKEN = new Token();
+[#if !grammar.compactTokenIndex]
 // Just a dummy Token value that we put in the tokenLocationTable
 // to indicate that this location in the file is ignored.
   static final private Token IGNORED = new Token(), SKIPPED = new Token();
@@ -117,6 +121,7 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
       IGNORED.setUnparsed(true);
       SKIPPED.setUnparsed(true);
   }
+[/#if]
 
    // Munged content, possibly replace unicode escapes, tabs, or CRLF with LF.
     private CharSequence content;
@@ -124,6 +129,8 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
     private String inputSource = "input";
     // A list of offsets of the beginning of lines
     private int[] lineOffsets;
+    // The number of lines, i.e. the entries of lineOffsets that are used
+    private int lineCount;
 
 
     // The starting line and column, usually 1,1
@@ -136,21 +143,54 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
     private int bufferPosition;
 
 
+[#if grammar.streamingLexer]
+    // The input if we are streaming it from a Reader, otherwise null.
+    // This is the same object as content in that case.
+    private StreamingContent streamingContent;
+
+    // How much of the input before the current token we hold onto 
+    // when the input is streamed
+    private int streamingHorizon = ${grammar.streamingHorizon};
+
+    // The offset at which the token being scanned begins
+    private int streamingFrontier;
+
+[/#if]
+[#if grammar.compactTokenIndex]
+// The offsets of the cached tokens, in increasing order, and the 
+// tokens themselves. This takes memory proportional to the 
+// number of tokens, rather than the length of the input.
+   private int[] cachedTokenOffsets = new int[64];
+   private Token[] cachedTokens = new Token[64];
+   private int cachedTokenCount;
+
+// The regions [start, end) of the input that are ignored
+// via whatever preprocessor logic, in increasing order
+// and never overlapping or adjacent.
+   private int[] ignoredRegionStarts = new int[0], ignoredRegionEnds = new int[0];
+   private int ignoredRegionCount;
+[#else]
 // A BitSet that stores where the tokens are located.
 // This is not strictly necessary, I suppose...
    private BitSet tokenOffsets;
+[/#if]
 
 //  A Bitset that stores the line numbers that
 // contain either hard tabs or extended (beyond 0xFFFF) unicode
 // characters.
    private BitSet needToCalculateColumns=new BitSet();
 
+[#if !grammar.compactTokenIndex]
 // Just a very simple, bloody minded approach, just store the
 // Token objects in a table where the offsets are the code unit 
 // positions in the content buffer. If the Token at a given offset is
 // the dummy or marker type IGNORED, then the location is skipped via
 // whatever preprocessor logic.    
     private Token[] tokenLocationTable;
+// Whether any location has been set to IGNORED, so that 
+// getText need not check when nothing was.
+    private boolean hasIgnoredRegions;
+[/#if]
 
 
  [#if grammar.lexerUsesParser]
@@ -160,23 +200,21 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
   // the current active NFA states in the core tokenization loop
   private BitSet nextStates=new BitSet(${lexerData.maxNfaStates}), currentStates = new BitSet(${lexerData.maxNfaStates});
 
-  EnumSet<TokenType> activeTokenTypes = EnumSet.allOf(TokenType.class);
-  [#if grammar.deactivatedTokens?size>0 || grammar.extraTokens?size >0]
-     {
+  // The token types that are active when we start scanning 
+  static private final EnumSet<TokenType> initialActiveTokenTypes = EnumSet.allOf(TokenType.class);
+  [#if grammar.deactivatedTokens?size>0]
+     static {
        [#list grammar.deactivatedTokens as token]
-          activeTokenTypes.remove(${CU.TT}${token});
-       [/#list]
-       [#list grammar.extraTokenNames as token]
-          regularTokens.add(${CU.TT}${token});
+          initialActiveTokenTypes.remove(${CU.TT}${token});
        [/#list]
      }
   [/#if]
+  EnumSet<TokenType> activeTokenTypes = EnumSet.copyOf(initialActiveTokenTypes);
 
-  // A lookup for lexical state transitions triggered by a certain token type
-  private static EnumMap<TokenType, LexicalState> tokenTypeToLexicalStateMap = new EnumMap<>(TokenType.class);
   // Token types that are "regular" tokens that participate in parsing,
-  // i.e. declared as TOKEN
-  [@EnumSet "regularTokens" lexerData.regularTokens.tokenNames /]
+  // i.e. declared as TOKEN (or as EXTRA_TOKENS). Like the other sets 
+  // below, this is shared by all the lexer instances and never modified.
+  [@EnumSet "regularTokens" lexerData.regularTokens.tokenNames + grammar.extraTokenNames /]
   // Token types that do not participate in parsing, a.k.a. "special" tokens in legacy JavaCC,
   // i.e. declared as UNPARSED (or SPECIAL_TOKEN)
   [@EnumSet "unparsedTokens" lexerData.unparsedTokens.tokenNames /]
@@ -224,16 +262,90 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
         this.content = mungeContent(input, ${PRESERVE_TABS}, ${PRESERVE_LINE_ENDINGS}, ${JAVA_UNICODE_ESCAPE}, ${ENSURE_FINAL_EOL});
         this.inputSource = inputSource;
         createLineOffsetsTable();
+     [#if !grammar.compactTokenIndex]
         tokenLocationTable = new Token[content.length()+1];
         tokenOffsets = new BitSet(content.length() +1);
+     [/#if]
         this.startingLine = startingLine;
         this.startingColumn = startingColumn;
         switchTo(lexState);
+     [#if grammar.incrementalParsing]
+        this.startingLexicalState = lexState;
+     [/#if]
      [#if grammar.cppContinuationLine]
         handleCContinuationLines();
      [/#if]
      }
 
+    /**
+     * Makes this lexer ready to scan new input, as if it had just been 
+     * constructed with it, but reusing the buffers that it already has, 
+     * as long as they are big enough. The tokens from the previous 
+     * input must not be used after this, since they refer back to this lexer.
+     * @param input the new input
+     */
+    public void reset(CharSequence input) {
+        reset("input", input);
+    }
+
+    /**
+     * @see #reset(CharSequence)
+     * @param inputSource just the name of the input source (typically the filename) that 
+     * will be used in error messages and so on.
+     * @param input the new input
+     */
+    public void reset(String inputSource, CharSequence input) {
+     [#if !grammar.compactTokenIndex]
+        int oldLength = content.length();
+     [/#if]
+        this.inputSource = inputSource;
+        this.content = mungeContent(input, ${PRESERVE_TABS}, ${PRESERVE_LINE_ENDINGS}, ${JAVA_UNICODE_ESCAPE}, ${ENSURE_FINAL_EOL});
+     [#if grammar.streamingLexer]
+        this.streamingContent = null;
+        this.streamingFrontier = 0;
+     [/#if]
+        needToCalculateColumns.clear();
+        createLineOffsetsTable();
+     [#if grammar.compactTokenIndex]
+        Arrays.fill(cachedTokens, 0, cachedTokenCount, null);
+        cachedTokenCount = 0;
+        ignoredRegionCount = 0;
+     [#else]
+        // The table entries past the old input were never used.
+        if (tokenLocationTable.length > content.length()) {
+            Arrays.fill(tokenLocationTable, 0, Math.min(oldLength + 1, tokenLocationTable.length), null);
+        } else {
+            tokenLocationTable = new Token[content.length()+1];
+        }
+        tokenOffsets.clear();
+        hasIgnoredRegions = false;
+     [/#if]
+        bufferPosition = 0;
+        startingLine = startingColumn = 1;
+        activeTokenTypes.clear();
+        activeTokenTypes.addAll(initialActiveTokenTypes);
+        switchTo(LexicalState.${lexerData.lexicalStates[0].name});
+     [#if !grammar.minimalToken]
+        DUMMY_START_TOKEN.unsetAppendedToken();
+     [/#if]
+     [#if grammar.packratLookahead]
+        ++resetCount;
+     [/#if]
+     [#if grammar.incrementalParsing]
+        startingLexicalState = lexicalState;
+        damageStart = damageEnd = 0;
+     [/#if]
+     [#if grammar.internTokenImages]
+        // Otherwise a lexer that is reused would hold onto the
+        // images from everything it ever lexed.
+        Arrays.fill(internedImages, null);
+        Arrays.fill(internedImageCounts, 0);
+     [/#if]
+     [#if grammar.cppContinuationLine]
+        handleCContinuationLines();
+     [/#if]
+    }
+
     /**
      * @Deprecated Preferably use the constructor that takes a #java.nio.files.Path or simply a String,
      * depending on your use case
@@ -254,9 +366,45 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
      * depending on your use case
      */
     public ${grammar.lexerClassName}(String inputSource, Reader reader, LexicalState lexState, int line, int column) {
+[#if grammar.streamingLexer]
+        this.inputSource = inputSource;
+        this.content = this.streamingContent = new StreamingContent(reader);
+        this.startingLine = line;
+        this.startingColumn = column;
+        switchTo(lexState);
+[#else]
         this(inputSource, readToEnd(reader), lexState, line, column);
         switchTo(lexState);
+[/#if]
+    }
+[#if grammar.streamingLexer]
+
+    /**
+     * @param inputSource just the name of the input source (typically the filename) that 
+     * will be used in error messages and so on.
+     * @param channel the channel that the input is streamed from
+     * @param charset the encoding of the input. Malformed input is replaced 
+     * rather than reported, as with #stringFromBytes(byte[], Charset)
+     */
+    public ${grammar.lexerClassName}(String inputSource, java.nio.channels.ReadableByteChannel channel, Charset charset) {
+        this(inputSource, java.nio.channels.Channels.newReader(channel, 
+                charset.newDecoder()
+                       .onMalformedInput(java.nio.charset.CodingErrorAction.REPLACE)
+                       .onUnmappableCharacter(java.nio.charset.CodingErrorAction.REPLACE), 
+                -1),
+             LexicalState.${lexerData.lexicalStates[0].name}, 1, 1);
+    }
+
+    /**
+     * Set how many characters of input before the current token 
+     * are held onto when the input is streamed from a Reader. 
+     * Backtracking to before that point, or getting at the text there, 
+     * is not possible. (The images of the tokens are kept though.)
+     */
+    public void setStreamingHorizon(int streamingHorizon) {
+        this.streamingHorizon = streamingHorizon;
     }
+[/#if]
 
     private Token getNextToken() {
       InvalidToken invalidToken = null;
@@ -327,6 +475,9 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
         }
         else {
             tokenBeginOffset = this.bufferPosition;
+          [#if grammar.streamingLexer]
+            streamingFrontier = tokenBeginOffset;
+          [/#if]
             firstChar = curChar = readChar();
             if (curChar == -1) {
               matchedType = TokenType.EOF;
@@ -338,6 +489,38 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
        // There is some possibility that there was a lexical state change
        // since the last iteration of this loop!
         ${grammar.nfaDataClassName}.NfaFunction[] nfaFunctions= ${grammar.nfaDataClassName}.getFunctionTableMap(lexicalState);
+        [#if lexerData.hasDfa]
+        ${grammar.nfaDataClassName}.DfaTable dfaTable = ${grammar.nfaDataClassName}.getDfaTable(lexicalState);
+        [/#if]
+      [/#if]
+      [#if lexerData.hasDfa]
+        // If the lexical state has a DFA table, we just do 
+        // one table lookup per character. 
+        if (!reachedEnd && dfaTable != null) {
+            int state = 0;
+            while (true) {
+                if (codeUnitsRead > 0) {
+                    int retval = readChar();
+                    if (retval < 0) {
+                        reachedEnd = true;
+                        break;
+                    }
+                    curChar = retval;
+                }
+                state = dfaTable.nextState(state, curChar);
+                ++codeUnitsRead;
+                if (curChar>0xFFFF) ++codeUnitsRead;
+                if (state < 0) break;
+                TokenType newType = dfaTable.getAcceptedType(state, activeTokenTypes);
+                if (newType != null) {
+                    matchedType = newType;
+                    inMore = moreTokens.contains(matchedType);
+                    matchedPos = codeUnitsRead;
+                }
+                if (!dfaTable.hasMoves(state)) break;
+            }
+        }
+        else
       [/#if]
         // the core NFA loop
         if (!reachedEnd) do {
@@ -381,17 +564,30 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
             return new InvalidToken(this, tokenBeginOffset, bufferPosition);
         } 
         bufferPosition -= (codeUnitsRead - matchedPos);
+      [#if !grammar.compactTokenIndex]
         if (skippedTokens.contains(matchedType)) {
             for (int i=tokenBeginOffset; i< bufferPosition; i++) {
                 if (tokenLocationTable[i] != IGNORED) tokenLocationTable[i] = SKIPPED;
             }
         }
-        else if (regularTokens.contains(matchedType) || unparsedTokens.contains(matchedType)) {
+        else
+      [/#if]
+        if (regularTokens.contains(matchedType) || unparsedTokens.contains(matchedType)) {
             matchedToken = Token.newToken(matchedType, 
                                         this, 
                                         tokenBeginOffset,
                                         bufferPosition);
             matchedToken.setUnparsed(!regularTokens.contains(matchedType));
+          [#if grammar.internTokenImages]
+            // The image is interned here, on the thread doing the lexing, 
+            // so that getting it later on (from any thread) only reads it.
+            matchedToken.setImage(getInternedText(matchedType, tokenBeginOffset, bufferPosition));
+          [#elseif grammar.streamingLexer && (!grammar.minimalToken || grammar.faultTolerant)]
+            // The text could be gone by the time anybody asks for it
+            if (streamingContent != null) {
+                matchedToken.setImage(getText(tokenBeginOffset, bufferPosition));
+            }
+          [/#if]
         }
      [#if lexerData.hasLexicalStateTransitions]
         doLexicalStateSwitch(matchedType);
@@ -411,19 +607,32 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
    }
 
    LexicalState lexicalState = LexicalState.values()[0];
+[#if grammar.packratLookahead]
+
+   // Bumped on every reset, so that the parser knows when
+   // its memoized lookahead outcomes are stale.
+   int resetCount;
+[/#if]
 
 [#if lexerData.hasLexicalStateTransitions]
-  // Generate the map for lexical state transitions from the various token types
-  static {
+  // A lookup for lexical state transitions triggered by a certain token type,
+  // indexed by the ordinal of the token type
+  static private final LexicalState[] tokenTypeToLexicalState = tokenTypeToLexicalState_init();
+
+  static private LexicalState[] tokenTypeToLexicalState_init() {
+      LexicalState[] result = new LexicalState[TokenType.values().length];
     [#list grammar.lexerData.regularExpressions as regexp]
       [#if !regexp.newLexicalState?is_null]
-          tokenTypeToLexicalStateMap.put(TokenType.${regexp.label},LexicalState.${regexp.newLexicalState.name});
+      result[TokenType.${regexp.label}.ordinal()] = LexicalState.${regexp.newLexicalState.name};
       [/#if]
     [/#list]
+      return result;
   }
 
   boolean doLexicalStateSwitch(TokenType tokenType) {
-       LexicalState newState = tokenTypeToLexicalStateMap.get(tokenType);
+       // The dummy token a parser starts out with has no type.
+       if (tokenType == null) return false;
+       LexicalState newState = tokenTypeToLexicalState[tokenType.ordinal()];
        if (newState == null) return false;
        return switchTo(newState);
   }
@@ -445,6 +654,9 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
     // Reset the token source input
     // to just after the Token passed in.
     void reset(Token t, LexicalState state) {
+[#if grammar.packratLookahead]
+      ++resetCount;
+[/#if]
 [#list grammar.resetTokenHooks as resetTokenHookMethodName]
       ${resetTokenHookMethodName}(t);
 [/#list]
@@ -463,6 +675,181 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
   void reset(Token t) {
       reset(t, null);
   }
+[#if grammar.incrementalParsing]
+
+    // The lexical state that we start in, which is the one 
+    // we re-lex in after an edit near the very start of the input.
+    private LexicalState startingLexicalState = LexicalState.values()[0];
+
+    // The range [damageStart, damageEnd) of the input where the 
+    // tokens were re-lexed by the last call to #applyEdit
+    int damageStart, damageEnd;
+
+    // While the parser reparses after an edit, we keep what is needed
+    // to put the cached tokens back the way they were: the offsets 
+    // of the cached tokens, and the table entries that got overwritten.
+    private BitSet savedTokenOffsets;
+    private int[] overwrittenOffsets = new int[16];
+    private Token[] overwrittenTokens = new Token[16];
+    private int overwrittenCount;
+
+    void saveTokenCache() {
+        savedTokenOffsets = (BitSet) tokenOffsets.clone();
+        overwrittenCount = 0;
+    }
+
+    // Put the cached tokens from the offset on back the way they were
+    // when #saveTokenCache was called. The changes before the offset are kept.
+    void restoreTokenCache(int offset) {
+        for (int i = overwrittenCount - 1; i >= 0; i--) {
+            if (overwrittenOffsets[i] >= offset) {
+                tokenLocationTable[overwrittenOffsets[i]] = overwrittenTokens[i];
+            }
+            overwrittenTokens[i] = null;
+        }
+        overwrittenCount = 0;
+        BitSet saved = (BitSet) savedTokenOffsets.clone();
+        saved.clear(0, offset);
+        tokenOffsets.clear(offset, Math.max(offset, tokenOffsets.length()));
+        tokenOffsets.or(saved);
+[#if grammar.packratLookahead]
+        ++resetCount;
+[/#if]
+    }
+
+    void discardSavedTokenCache() {
+        savedTokenOffsets = null;
+        Arrays.fill(overwrittenTokens, 0, overwrittenCount, null);
+        overwrittenCount = 0;
+    }
+
+    // Whether this is the token that is cached at its offset
+    boolean isCached(Token tok) {
+        int offset = tok.getBeginOffset();
+        return offset < tokenLocationTable.length && tokenOffsets.get(offset) && tokenLocationTable[offset] == tok;
+    }
+
+    /**
+     * Replaces the removedLength characters at offset with insertedText and 
+     * brings the cached tokens up to date. Only the tokens from just before the
+     * edit up to the point where the new tokens line up with the old ones again
+     * are scanned anew. The tokens after that are kept, with their offsets shifted.
+     * The offsets are into the text as this object holds it, which is the input 
+     * that was passed in, unless tabs or line endings or unicode escapes were converted.
+     * @param offset where the edit starts
+     * @param removedLength the number of characters removed
+     * @param insertedText the text inserted in their place
+     */
+    public void applyEdit(int offset, int removedLength, CharSequence insertedText) {
+        applyMungedEdit(offset, removedLength, mungeInsertedText(offset, removedLength, insertedText));
+    }
+
+    // Converts the inserted text the way the input was converted, so that the
+    // content comes out the same as if the edited text were converted afresh.
+    // Tabs are expanded from the column where the text goes in, and if the 
+    // edit reaches the end, the final end-of-line is put back if need be.
+    CharSequence mungeInsertedText(int offset, int removedLength, CharSequence insertedText) {
+        int column = 0;
+      [#if !grammar.preserveTabs]
+        for (int i = offset - 1; i >= 0 && content.charAt(i) != '\n'; i--) {
+            if (!Character.isLowSurrogate(content.charAt(i))) column++;
+        }
+      [/#if]
+        CharSequence result = mungeContent(insertedText, ${PRESERVE_TABS}, ${PRESERVE_LINE_ENDINGS}, ${JAVA_UNICODE_ESCAPE}, false, column);
+      [#if grammar.ensureFinalEOL]
+        if (offset + removedLength == content.length()) {
+            char lastChar = result.length() > 0 ? result.charAt(result.length() - 1) 
+                            : offset > 0 ? content.charAt(offset - 1) : ' ';
+            if (lastChar != '\n' && lastChar != '\r') {
+                result = result + "\n";
+            }
+        }
+      [/#if]
+        return result;
+    }
+
+    void applyMungedEdit(int offset, int removedLength, CharSequence insertedText) {
+        int oldLength = content.length();
+        if (offset < 0 || removedLength < 0 || offset + removedLength > oldLength) {
+            throw new IndexOutOfBoundsException("Edit at " + offset + " removing " + removedLength 
+                                                + " characters, input length: " + oldLength);
+        }
+        int editEnd = offset + removedLength;
+        int newEditEnd = offset + insertedText.length();
+        int delta = newEditEnd - editEnd;
+        // The last token that starts before the edit could be lengthened (or cut short)
+        // by it, so we scan again from the end of the token before that one.
+        Token lastTokenBefore = previousCachedToken(offset);
+        Token anchor = lastTokenBefore == null ? null : previousCachedToken(lastTokenBefore.getBeginOffset());
+        int relexStart = anchor == null ? 0 : anchor.getEndOffset();
+        StringBuilder buf = new StringBuilder(oldLength + delta);
+        buf.append(content, 0, offset).append(insertedText).append(content, editEnd, oldLength);
+        this.content = buf.toString();
+        needToCalculateColumns.clear();
+        createLineOffsetsTable();
+        // Move the table entries after the edit over by delta, dropping the 
+        // tokens from relexStart up to the end of the edit.
+        Token[] table = new Token[content.length() + 1];
+        System.arraycopy(tokenLocationTable, 0, table, 0, offset);
+        System.arraycopy(tokenLocationTable, editEnd, table, newEditEnd, oldLength + 1 - editEnd);
+        BitSet offsets = tokenOffsets.get(0, relexStart);
+        for (int i = tokenOffsets.nextSetBit(editEnd); i >= 0; i = tokenOffsets.nextSetBit(i+1)) {
+            Token tok = tokenLocationTable[i];
+            tok.setBeginOffset(i + delta);
+            tok.setEndOffset(tok.getEndOffset() + delta);
+            offsets.set(i + delta);
+        }
+        tokenLocationTable = table;
+        tokenOffsets = offsets;
+[#if grammar.packratLookahead]
+        ++resetCount;
+[/#if]
+[#if !grammar.minimalToken]
+        if (anchor != null) anchor.unsetAppendedToken();
+[/#if]
+        goTo(relexStart);
+        if (anchor == null) {
+            switchTo(startingLexicalState);
+        }
+[#if lexerData.hasLexicalStateTransitions]
+        else {
+            doLexicalStateSwitch(anchor.getType());
+        }
+[/#if]
+        // The damage starts where the old tokens that we threw away started, 
+        // or else where the new ones start, whichever is earlier.
+        damageStart = lastTokenBefore == null ? offset : lastTokenBefore.getBeginOffset();
+        boolean firstToken = true;
+        while (true) {
+            int position = bufferPosition;
+            // The old token (if any) that the next one has to match 
+            // for us to stop here. It must be past the edit.
+            Token expected = nextCachedToken(Math.max(position, newEditEnd));
+            Token tok = getNextToken();
+            if (firstToken) {
+                damageStart = Math.min(damageStart, tok.getBeginOffset());
+                firstToken = false;
+            }
+            if (expected != null 
+                && tok.getBeginOffset() == expected.getBeginOffset() 
+                && tok.getEndOffset() == expected.getEndOffset() 
+                && tok.getType() == expected.getType()) 
+            {
+                cacheToken(expected);
+                goTo(expected.getEndOffset());
+                damageEnd = expected.getBeginOffset();
+                return;
+            }
+            // Any old tokens that start in what we just scanned are stale.
+            tokenOffsets.clear(position, tok.getEndOffset());
+            cacheToken(tok);
+            if (tok.getType() == TokenType.EOF) {
+                damageEnd = content.length();
+                return;
+            }
+        }
+    }
+[/#if]
     
  [#if lexerData.hasTokenActions]
   private Token tokenLexicalActions(Token matchedToken, TokenType matchedType) {
@@ -482,10 +869,7 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
 
     // But there is no goto in Java!!!
     private void goTo(int offset) {
-        while (offset<content.length() && tokenLocationTable[offset] == IGNORED) {
-            ++offset;
-        }
-        this.bufferPosition = offset;
+        this.bufferPosition = skipIgnored(offset);
     }
 
     /**
@@ -505,7 +889,10 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
         if (realLineNumber <=0) {
             return 0;
         }
-        if (realLineNumber >= lineOffsets.length) {
+      [#if grammar.streamingLexer]
+        if (streamingContent != null) streamingContent.readThroughLine(realLineNumber);
+      [/#if]
+        if (realLineNumber >= lineCount) {
             return content.length();
         }
         return lineOffsets[realLineNumber];
@@ -519,24 +906,33 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
         if (realLineNumber <0) {
             return 0;
         }
-        if (realLineNumber >= lineOffsets.length) {
+      [#if grammar.streamingLexer]
+        if (streamingContent != null) streamingContent.readThroughLine(realLineNumber);
+      [/#if]
+        if (realLineNumber >= lineCount) {
             return content.length();
         }
-        if (realLineNumber == lineOffsets.length -1) {
+        if (realLineNumber == lineCount -1) {
             return content.length() -1;
         }
         return lineOffsets[realLineNumber+1] -1;
     }
 
+    // Whether the offset is at (or past) the end of the input
+    private boolean isEndOfInput(int offset) {
+      [#if grammar.streamingLexer]
+        if (streamingContent != null) return !streamingContent.hasCharAt(offset);
+      [/#if]
+        return offset >= content.length();
+    }
+
     private int readChar() {
-        while (tokenLocationTable[bufferPosition] == IGNORED && bufferPosition < content.length()) {
-            ++bufferPosition;
-        }
-        if (bufferPosition >= content.length()) {
+        bufferPosition = skipIgnored(bufferPosition);
+        if (isEndOfInput(bufferPosition)) {
             return -1;
         }
         char ch = content.charAt(bufferPosition++);
-        if (Character.isHighSurrogate(ch) && bufferPosition < content.length()) {
+        if (Character.isHighSurrogate(ch) && !isEndOfInput(bufferPosition)) {
             char nextChar = content.charAt(bufferPosition);
             if (Character.isLowSurrogate(nextChar)) {
                 ++bufferPosition;
@@ -554,15 +950,13 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
      * are parsed (i.e. not ignored)
      */
     private void setParsedLines(BitSet parsedLines, boolean reversed) {
-        for (int i=0; i < lineOffsets.length; i++) {
+        for (int i=0; i < lineCount; i++) {
             boolean turnOffLine = !parsedLines.get(i+1);
             if (reversed) turnOffLine = !turnOffLine;
             if (turnOffLine) {
                 int lineOffset = lineOffsets[i];
-                int nextLineOffset = i < lineOffsets.length -1 ? lineOffsets[i+1] : content.length();
-                for (int offset = lineOffset; offset < nextLineOffset; offset++) {
-                    tokenLocationTable[offset] = IGNORED;
-                }
+                int nextLineOffset = i < lineCount -1 ? lineOffsets[i+1] : content.length();
+                setIgnored(lineOffset, nextLineOffset);
             }
         }
     }
@@ -582,13 +976,13 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
      * @return the line number from the absolute offset passed in as a parameter
      */
     public int getLineFromOffset(int pos) {
-        if (pos >= content.length()) {
+        if (isEndOfInput(pos)) {
             if (content.charAt(content.length()-1) == '\n') {
-                return startingLine + lineOffsets.length;
+                return startingLine + lineCount;
             }
-            return startingLine + lineOffsets.length-1;
+            return startingLine + lineCount-1;
         }
-        int bsearchResult = Arrays.binarySearch(lineOffsets, pos);
+        int bsearchResult = Arrays.binarySearch(lineOffsets, 0, lineCount, pos);
         if (bsearchResult>=0) {
         [#-- REVISIT --]
             return Math.max(1,startingLine + bsearchResult);
@@ -603,7 +997,7 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
      */
 
     public int getCodePointColumnFromOffset(int pos) {
-        if (pos >= content.length()) return 1;
+        if (isEndOfInput(pos)) return 1;
         if (pos == 0) return startingColumn;
         final int line = getLineFromOffset(pos)-startingLine;
         final int lineStart = lineOffsets[line];
@@ -612,6 +1006,10 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
         if (!needToCalculateColumns.get(line)) {
             return unadjustedColumn;
         }
+[#if grammar.streamingLexer]
+        // The text of the line may be gone by now.
+        if (streamingContent != null) return streamingContent.getColumn(lineStart, pos, startColumnAdjustment);
+[/#if]
         if (Character.isLowSurrogate(content.charAt(pos))) --pos;
         int result = startColumnAdjustment;
         for (int i = lineStart; i < pos; i++) {
@@ -639,15 +1037,91 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
      * and endOffset(exclusive)
      */
     public String getText(int startOffset, int endOffset) {
+        if (!containsIgnored(startOffset, endOffset)) {
+            return content.subSequence(startOffset, endOffset).toString();
+        }
         StringBuilder buf = new StringBuilder();
         for (int offset = startOffset; offset < endOffset; offset++) {
-            if (tokenLocationTable[offset] != IGNORED) {
+            if (!isIgnored(offset)) {
                 buf.append(content.charAt(offset));
             }
         }
         return buf.toString();
     }
 
+    /**
+     * @return a read-only view of the text between startOffset (inclusive)
+     * and endOffset (exclusive). Unless the range contains ignored 
+     * regions, this does not copy any characters.
+     */
+    public CharSequence getTextView(int startOffset, int endOffset) {
+[#if grammar.streamingLexer]
+        // The streamed input is let go of, so the view could not be relied on.
+        if (streamingContent != null) return getText(startOffset, endOffset);
+[/#if]
+        if (containsIgnored(startOffset, endOffset)) return getText(startOffset, endOffset);
+        return CharBuffer.wrap(content, startOffset, endOffset);
+    }
+
+[#if grammar.internTokenImages]
+    // For each token type, an open addressing hash table of the 
+    // token images seen so far, so that tokens of the same type
+    // and with the same text share one String object. This is only
+    // used as the tokens are created, so it needs no synchronization.
+    private final String[][] internedImages = new String[TokenType.values().length][];
+    private final int[] internedImageCounts = new int[TokenType.values().length];
+
+    /**
+     * @return the text between startOffset (inclusive) and endOffset (exclusive)
+     * as the same String object that was returned the last time for a token of
+     * this type with this text. The text is only copied the first time.
+     */
+    String getInternedText(TokenType type, int startOffset, int endOffset) {
+        if (containsIgnored(startOffset, endOffset)) return getText(startOffset, endOffset);
+        int hash = 0;
+        for (int offset = startOffset; offset < endOffset; offset++) {
+            hash = 31 * hash + content.charAt(offset);
+        }
+        int ordinal = type.ordinal();
+        String[] table = internedImages[ordinal];
+        if (table == null) {
+            table = internedImages[ordinal] = new String[16];
+        }
+        int mask = table.length - 1;
+        int index = (hash ^ (hash >>> 16)) & mask;
+        String image;
+        while ((image = table[index]) != null) {
+            if (image.hashCode() == hash && sameText(image, startOffset, endOffset)) {
+                return image;
+            }
+            index = (index + 1) & mask;
+        }
+        image = content.subSequence(startOffset, endOffset).toString();
+        table[index] = image;
+        if (++internedImageCounts[ordinal] * 2 > table.length) {
+            String[] newTable = new String[table.length * 2];
+            mask = newTable.length - 1;
+            for (String s : table) {
+                if (s == null) continue;
+                int h = s.hashCode();
+                index = (h ^ (h >>> 16)) & mask;
+                while (newTable[index] != null) index = (index + 1) & mask;
+                newTable[index] = s;
+            }
+            internedImages[ordinal] = newTable;
+        }
+        return image;
+    }
+
+    private boolean sameText(String s, int startOffset, int endOffset) {
+        if (s.length() != endOffset - startOffset) return false;
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) != content.charAt(startOffset + i)) return false;
+        }
+        return true;
+    }
+[/#if]
+
     void cacheToken(Token tok) {
 [#if !grammar.minimalToken]        
         if (tok.isInserted()) {
@@ -657,35 +1131,181 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
         }
 [/#if]        
 	    int offset = tok.getBeginOffset();
+[#if grammar.compactTokenIndex]
+        if (isIgnored(offset)) return;
+        int index = Arrays.binarySearch(cachedTokenOffsets, 0, cachedTokenCount, offset);
+        if (index >= 0) {
+            cachedTokens[index] = tok;
+            return;
+        }
+        index = -index-1;
+        if (cachedTokenCount == cachedTokenOffsets.length) {
+            cachedTokenOffsets = Arrays.copyOf(cachedTokenOffsets, cachedTokenCount*2);
+            cachedTokens = Arrays.copyOf(cachedTokens, cachedTokenCount*2);
+        }
+        // Normally, we are just appending at the end here.
+        System.arraycopy(cachedTokenOffsets, index, cachedTokenOffsets, index+1, cachedTokenCount - index);
+        System.arraycopy(cachedTokens, index, cachedTokens, index+1, cachedTokenCount - index);
+        cachedTokenOffsets[index] = offset;
+        cachedTokens[index] = tok;
+        ++cachedTokenCount;
+[#else]
         if (tokenLocationTable[offset] != IGNORED) {
+[#if grammar.incrementalParsing]
+            if (savedTokenOffsets != null && tokenLocationTable[offset] != tok) {
+                if (overwrittenCount == overwrittenOffsets.length) {
+                    overwrittenOffsets = Arrays.copyOf(overwrittenOffsets, overwrittenCount*2);
+                    overwrittenTokens = Arrays.copyOf(overwrittenTokens, overwrittenCount*2);
+                }
+                overwrittenOffsets[overwrittenCount] = offset;
+                overwrittenTokens[overwrittenCount++] = tokenLocationTable[offset];
+            }
+[/#if]
 	        tokenOffsets.set(offset);
 	        tokenLocationTable[offset] = tok;
         }
+[/#if]
     }
 
     void uncacheTokens(Token lastToken) {
+[#if grammar.compactTokenIndex]
+        uncacheTokens(lastToken.getEndOffset(), Integer.MAX_VALUE);
+[#else]
         int endOffset = lastToken.getEndOffset();
         if (endOffset < tokenOffsets.length()) {
             tokenOffsets.clear(lastToken.getEndOffset(), tokenOffsets.length());
         }
+[/#if]
       [#if !grammar.minimalToken]
         lastToken.unsetAppendedToken();
       [/#if]
     }
 
     Token nextCachedToken(int offset) {
+[#if grammar.compactTokenIndex]
+        int index = firstCachedTokenIndex(offset);
+        return index < cachedTokenCount ? cachedTokens[index] : null;
+[#else]
         int nextOffset = tokenOffsets.nextSetBit(offset);
 	    return nextOffset != -1 ? tokenLocationTable[nextOffset] : null;
+[/#if]
     } 
 
     Token previousCachedToken(int offset) {
+[#if grammar.compactTokenIndex]
+        int index = firstCachedTokenIndex(offset) -1;
+        return index >= 0 ? cachedTokens[index] : null;
+[#else]
         int prevOffset = tokenOffsets.previousSetBit(offset-1);
         return prevOffset == -1 ? null : tokenLocationTable[prevOffset];
+[/#if]
+    }
+
+[#if grammar.compactTokenIndex]
+    // The index of the first cached token that starts at or after offset
+    private int firstCachedTokenIndex(int offset) {
+        int index = Arrays.binarySearch(cachedTokenOffsets, 0, cachedTokenCount, offset);
+        return index >= 0 ? index : -index-1;
+    }
+
+    // Remove the cached tokens that start in [start, end)
+    private void uncacheTokens(int start, int end) {
+        int first = firstCachedTokenIndex(start);
+        int last = end == Integer.MAX_VALUE ? cachedTokenCount : firstCachedTokenIndex(end);
+        if (first >= last) return;
+        System.arraycopy(cachedTokenOffsets, last, cachedTokenOffsets, first, cachedTokenCount - last);
+        System.arraycopy(cachedTokens, last, cachedTokens, first, cachedTokenCount - last);
+        int newCount = cachedTokenCount - (last - first);
+        Arrays.fill(cachedTokens, newCount, cachedTokenCount, null);
+        cachedTokenCount = newCount;
+    }
+
+    // The index of the last ignored region that starts at or before offset, or -1
+    private int ignoredRegionIndex(int offset) {
+        int index = Arrays.binarySearch(ignoredRegionStarts, 0, ignoredRegionCount, offset);
+        return index >= 0 ? index : -index-2;
+    }
+[/#if]
+
+    private boolean isIgnored(int offset) {
+[#if grammar.compactTokenIndex]
+        if (ignoredRegionCount == 0) return false;
+        int index = ignoredRegionIndex(offset);
+        return index >= 0 && offset < ignoredRegionEnds[index];
+[#else]
+        return tokenLocationTable[offset] == IGNORED;
+[/#if]
+    }
+
+    // Whether any offset in [start, end) is ignored
+    private boolean containsIgnored(int start, int end) {
+[#if grammar.compactTokenIndex]
+        if (ignoredRegionCount == 0 || start >= end) return false;
+        int index = ignoredRegionIndex(end - 1);
+        return index >= 0 && ignoredRegionEnds[index] > start;
+[#else]
+        if (!hasIgnoredRegions) return false;
+        for (int offset = start; offset < end; offset++) {
+            if (tokenLocationTable[offset] == IGNORED) return true;
+        }
+        return false;
+[/#if]
+    }
+
+    // The first offset at or after the one passed in that is not ignored
+    private int skipIgnored(int offset) {
+[#if grammar.compactTokenIndex]
+        if (ignoredRegionCount == 0) return offset;
+        int index = ignoredRegionIndex(offset);
+        if (index >= 0 && offset < ignoredRegionEnds[index]) {
+            offset = ignoredRegionEnds[index];
+        }
+[#else]
+        while (offset < content.length() && tokenLocationTable[offset] == IGNORED) {
+            ++offset;
+        }
+[/#if]
+        return offset;
+    }
+
+    // Mark the region [start, end) as ignored
+    private void setIgnored(int start, int end) {
+[#if grammar.compactTokenIndex]
+        if (start >= end) return;
+        int first = ignoredRegionIndex(start);
+        if (first >= 0 && ignoredRegionEnds[first] >= start) {
+            start = ignoredRegionStarts[first];
+        } else {
+            ++first;
+        }
+        // The regions from first up to (but not including) last
+        // get merged into the new one.
+        int last = first;
+        while (last < ignoredRegionCount && ignoredRegionStarts[last] <= end) {
+            end = Math.max(end, ignoredRegionEnds[last++]);
+        }
+        int newCount = ignoredRegionCount - (last - first) + 1;
+        if (newCount > ignoredRegionStarts.length) {
+            ignoredRegionStarts = Arrays.copyOf(ignoredRegionStarts, newCount*2);
+            ignoredRegionEnds = Arrays.copyOf(ignoredRegionEnds, newCount*2);
+        }
+        System.arraycopy(ignoredRegionStarts, last, ignoredRegionStarts, first+1, ignoredRegionCount - last);
+        System.arraycopy(ignoredRegionEnds, last, ignoredRegionEnds, first+1, ignoredRegionCount - last);
+        ignoredRegionStarts[first] = start;
+        ignoredRegionEnds[first] = end;
+        ignoredRegionCount = newCount;
+[#else]
+        if (start < end) hasIgnoredRegions = true;
+        for (int offset = start; offset < end; offset++) {
+            tokenLocationTable[offset] = IGNORED;
+        }
+[/#if]
     }
 
     private void createLineOffsetsTable() {
         if (content.length() == 0) {
-            this.lineOffsets = new int[0];
+            if (this.lineOffsets == null) this.lineOffsets = new int[0];
+            this.lineCount = 0;
             return;
         }
         int lineCount = 0;
@@ -702,7 +1322,8 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
         if (content.charAt(length - 1) != '\n') {
             lineCount++;
         }
-        int[] lineOffsets = new int[lineCount];
+        // If the lexer is being reset, we reuse the old table if it is big enough.
+        int[] lineOffsets = this.lineOffsets != null && this.lineOffsets.length >= lineCount ? this.lineOffsets : new int[lineCount];
         lineOffsets[0] = 0;
         int index = 1;
         for (int i = 0; i < length; i++) {
@@ -714,13 +1335,274 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
             }
         }
         this.lineOffsets = lineOffsets;
+        this.lineCount = lineCount;
     }
  
+[#if grammar.streamingLexer]
+    /**
+     * The input when it is streamed from a Reader. The characters are 
+     * read in as they are needed and munged on the fly, the same way as
+     * #mungeContent does it. The line offsets are filled in as we go.
+     * The input from before the streaming horizon is let go of when 
+     * we need more room. Offsets are always from the start of the input.
+     */
+    private final class StreamingContent implements CharSequence {
+        private final Reader reader;
+        private final char[] rawBuffer = new char[BUF_SIZE];
+        private int rawPosition, rawLength;
+        private boolean rawEOF;
+        // The munged input. The character at offset i is at 
+        // buffer[i-bufferStart] and bufferEnd is the offset 
+        // just past the last character read in.
+        private char[] buffer = new char[BUF_SIZE];
+        private int bufferStart, bufferEnd;
+        private boolean eof;
+        private char lastChar;
+        // The column, for converting tabs to spaces, and the
+        // number of consecutive backslashes, for handling 
+        // unicode escapes. (Same as in mungeContent.)
+        private int col, numConsecutiveSlashes;
+        // Where the tabs and surrogate pairs are, since the columns on
+        // a line that has them cannot otherwise be worked out once its
+        // text has been let go of. Each entry is a run of tabs, or of
+        // surrogate pairs, one after the other: the offset where the run
+        // starts and its length, which is negated for surrogate pairs.
+        // Indentation is typically one run per line.
+        private int[] runOffsets = new int[64], runLengths = new int[64];
+        private int runCount;
+
+        StreamingContent(Reader reader) {
+            this.reader = reader;
+            lineOffsets = new int[64];
+        }
+
+        public int length() {
+            while (!eof) readMore();
+            return bufferEnd;
+        }
+
+        public char charAt(int offset) {
+            if (offset < bufferStart) {
+                throw new IllegalStateException("The input at offset " + offset + " is before the streaming horizon.");
+            }
+            if (!hasCharAt(offset)) {
+                throw new IndexOutOfBoundsException("Offset: " + offset + ", length: " + bufferEnd);
+            }
+            return buffer[offset - bufferStart];
+        }
+
+        public CharSequence subSequence(int start, int end) {
+            if (start < bufferStart) {
+                throw new IllegalStateException("The input at offset " + start + " is before the streaming horizon.");
+            }
+            if (start > end || end > 0 && !hasCharAt(end-1)) {
+                throw new IndexOutOfBoundsException("start: " + start + ", end: " + end);
+            }
+            return new String(buffer, start - bufferStart, end - start);
+        }
+
+        public String toString() {
+            if (bufferStart > 0) {
+                throw new IllegalStateException("The start of the input is before the streaming horizon.");
+            }
+            return subSequence(0, length()).toString();
+        }
+
+        boolean hasCharAt(int offset) {
+            while (offset >= bufferEnd) {
+                if (eof) return false;
+                readMore();
+            }
+            return true;
+        }
+
+        // Read in enough input that we know where the line 
+        // after the given one starts (or that there is no such line)
+        void readThroughLine(int realLineNumber) {
+            while (!eof && lineCount <= realLineNumber+1) readMore();
+        }
+
+        // Munge the next block of raw input into the buffer
+        private void readMore() {
+            try {
+                do {
+                    mungeNextChar();
+                } while (rawPosition < rawLength);
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        }
+
+        private int nextRawChar() throws IOException {
+            if (rawPosition == rawLength) {
+                if (rawEOF) return -1;
+                rawPosition = 0;
+                rawLength = reader.read(rawBuffer);
+                if (rawLength <= 0) {
+                    rawLength = 0;
+                    rawEOF = true;
+                    reader.close();
+                    return -1;
+                }
+            }
+            return rawBuffer[rawPosition++];
+        }
+
+        private int peekRawChar() throws IOException {
+            int ch = nextRawChar();
+            if (ch >= 0) --rawPosition;
+            return ch;
+        }
+
+        private void mungeNextChar() throws IOException {
+            int ch = nextRawChar();
+            if (ch < 0) {
+              [#if grammar.ensureFinalEOL]
+                if (bufferEnd == 0 || (lastChar != '\n' && lastChar != '\r')) append('\n');
+              [/#if]
+                eof = true;
+                return;
+            }
+          [#if grammar.javaUnicodeEscape]
+            if (ch != '\\') {
+                numConsecutiveSlashes = 0;
+            }
+            else if (++numConsecutiveSlashes % 2 == 1 && peekRawChar() == 'u') {
+                while (peekRawChar() == 'u') nextRawChar();
+                StringBuilder fourHexDigits = new StringBuilder();
+                for (int i = 0; i < 4; i++) {
+                    int digit = nextRawChar();
+                    if (digit >= 0) fourHexDigits.append((char) digit);
+                }
+                append((char) Integer.parseInt(fourHexDigits.toString(), 16));
+                numConsecutiveSlashes = 0;
+                ++col;
+                return;
+            }
+          [/#if]
+            if (ch == '\n') {
+                append('\n');
+                col = 0;
+            }
+          [#if !grammar.preserveLineEndings]
+            else if (ch == '\r') {
+                append('\n');
+                col = 0;
+                if (peekRawChar() == '\n') nextRawChar();
+            }
+          [/#if]
+          [#if !grammar.preserveTabs]
+            else if (ch == '\t') {
+                int spacesToAdd = DEFAULT_TAB_SIZE - col % DEFAULT_TAB_SIZE;
+                for (int i = 0; i < spacesToAdd; i++) {
+                    append(' ');
+                    col++;
+                }
+            }
+          [/#if]
+            else {
+                append((char) ch);
+                if (!Character.isLowSurrogate((char) ch)) col++;
+            }
+        }
+
+        private void append(char ch) {
+            if (bufferEnd - bufferStart == buffer.length) {
+                makeRoom();
+            }
+            if (bufferEnd == 0 || lastChar == '\n') {
+                if (lineCount == lineOffsets.length) {
+                    lineOffsets = Arrays.copyOf(lineOffsets, lineCount*2);
+                }
+                lineOffsets[lineCount++] = bufferEnd;
+            }
+            if (ch == '\t' || Character.isHighSurrogate(ch)) {
+                needToCalculateColumns.set(lineCount-1);
+                addToRun(bufferEnd, ch == '\t');
+            }
+            buffer[bufferEnd++ - bufferStart] = ch;
+            lastChar = ch;
+        }
+
+        private void addToRun(int offset, boolean tab) {
+            if (runCount > 0) {
+                int length = runLengths[runCount-1];
+                if (tab && length > 0 && runOffsets[runCount-1] + length == offset) {
+                    runLengths[runCount-1]++;
+                    return;
+                }
+                if (!tab && length < 0 && runOffsets[runCount-1] - 2*length == offset) {
+                    runLengths[runCount-1]--;
+                    return;
+                }
+            }
+            if (runCount == runOffsets.length) {
+                runOffsets = Arrays.copyOf(runOffsets, runCount*2);
+                runLengths = Arrays.copyOf(runLengths, runCount*2);
+            }
+            runOffsets[runCount] = offset;
+            runLengths[runCount++] = tab ? 1 : -1;
+        }
+
+        // The same as the loop in #getCodePointColumnFromOffset, but going by 
+        // the runs, rather than the characters, in the line up to pos.
+        int getColumn(int lineStart, int pos, int startColumn) {
+            int run = Arrays.binarySearch(runOffsets, 0, runCount, lineStart);
+            if (run < 0) run = -run-1;
+            int result = startColumn, offset = lineStart;
+            for (; run < runCount && runOffsets[run] < pos; run++) {
+                int start = runOffsets[run], length = runLengths[run];
+                result += start - offset;
+                if (length > 0) {
+                    int tabs = Math.min(length, pos - start);
+                    for (int i = 0; i < tabs; i++) {
+                     [#if grammar.preserveTabs]
+                        result += tabSize - (result - 1) % tabSize;
+                     [#else]
+                        result += DEFAULT_TAB_SIZE - (result - 1) % DEFAULT_TAB_SIZE;
+                     [/#if]
+                    }
+                    offset = start + tabs;
+                } else {
+                    // Leave out the high surrogate if pos is at the low one.
+                    int pairs = Math.min(-length, (pos - start) / 2);
+                    result += pairs;
+                    offset = start + 2*pairs;
+                    if (offset < pos && offset < start - 2*length) return result;
+                }
+            }
+            return result + pos - offset;
+        }
+
+        // Let go of the input before the streaming horizon, and the 
+        // tokens that start there. If that does not free up anything,
+        // we just make the buffer bigger.
+        private void makeRoom() {
+            int releaseOffset = Math.min(streamingFrontier - streamingHorizon, bufferEnd);
+            if (releaseOffset > bufferStart) {
+                System.arraycopy(buffer, releaseOffset - bufferStart, buffer, 0, bufferEnd - releaseOffset);
+                bufferStart = releaseOffset;
+                uncacheTokens(0, releaseOffset);
+            }
+            if (bufferEnd - bufferStart > buffer.length/2) {
+                buffer = Arrays.copyOf(buffer, buffer.length*2);
+            }
+        }
+    }
+
+[/#if]
 // Icky method to handle annoying stuff. Might make this public later if it is
 // needed elsewhere
-  private static String mungeContent(CharSequence content, boolean preserveTabs, boolean preserveLines,
+  private static CharSequence mungeContent(CharSequence content, boolean preserveTabs, boolean preserveLines,
         boolean javaUnicodeEscape, boolean ensureFinalEndline) {
-    if (preserveTabs && preserveLines && !javaUnicodeEscape) {
+    return mungeContent(content, preserveTabs, preserveLines, javaUnicodeEscape, ensureFinalEndline, 0);
+  }
+
+  // The col parameter is the column that the content starts at, which
+  // is only needed to expand tabs.
+  private static CharSequence mungeContent(CharSequence content, boolean preserveTabs, boolean preserveLines,
+        boolean javaUnicodeEscape, boolean ensureFinalEndline, int col) {
+    if (!needsMunging(content, preserveTabs, preserveLines, javaUnicodeEscape)) {
         if (ensureFinalEndline) {
             if (content.length() == 0) {
                 content = "\n";
@@ -737,12 +1619,15 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
                 }
             }
         }
+      [#if grammar.memoryMappedInput]
+        // No need to copy this. It is read-only.
+        if (content instanceof MappedContent) return content;
+      [/#if]
         return content.toString();
     }
     StringBuilder buf = new StringBuilder();
-    // This is just to handle tabs to spaces. If you don't have that setting set, it
+    // col is just to handle tabs to spaces. If you don't have that setting set, it
     // is really unused.
-    int col = 0;
     int index = 0, contentLength = content.length();
     while (index < contentLength) {
         char ch = content.charAt(index++);
@@ -799,13 +1684,26 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
     return buf.toString();
   }
 
+  // Whether mungeContent would actually change anything. If not, 
+  // we can avoid making a copy of the content.
+  private static boolean needsMunging(CharSequence content, boolean preserveTabs, boolean preserveLines, boolean javaUnicodeEscape) {
+    if (preserveTabs && preserveLines && !javaUnicodeEscape) return false;
+    for (int i = 0, length = content.length(); i < length; i++) {
+        char ch = content.charAt(i);
+        if (ch == '\t' && !preserveTabs) return true;
+        if (ch == '\r' && !preserveLines) return true;
+        if (ch == '\\' && javaUnicodeEscape && i+1 < length && content.charAt(i+1) == 'u') return true;
+    }
+    return false;
+  }
+
   private void handleCContinuationLines() {
       String input = content.toString();
       for (int offset = input.indexOf('\\'); offset >=0; offset = input.indexOf('\\', offset+1)) {
           int nlIndex = input.indexOf('\n', offset);
           if (nlIndex < 0) break;
           if (input.substring(offset+1, nlIndex).trim().isEmpty()) {
-              for (int i=offset; i<=nlIndex; i++) tokenLocationTable[i] = IGNORED;
+              setIgnored(offset, nlIndex+1);
           } 
       }
   }
@@ -814,10 +1712,12 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
   // more uniformly in other generation languages.
 
    private void setRegionIgnore(int start, int end) {
-     for (int i = start; i< end; i++) {
-       tokenLocationTable[i] = IGNORED;
-     }
+     setIgnored(start, end);
+  [#if grammar.compactTokenIndex]
+     uncacheTokens(start, end);
+  [#else]
      tokenOffsets.clear(start, end);
+  [/#if]
    }
 
    private boolean atLineStart(Token tok) {
@@ -992,4 +1892,219 @@ public class ${grammar.lexerClassName} implements ${grammar.constantsClassName}
   static public String stringFromBytes(byte[] bytes) throws CharacterCodingException {
      return stringFromBytes(bytes, null);
   }
+[#if grammar.memoryMappedInput]
+
+  /**
+    * @param path the file to read
+    * @param charset The encoding to use. If this is null, we check for a byte order mark
+    * and otherwise assume UTF-8, as in #stringFromBytes(byte[], Charset)
+    * @return the content of the file. If the encoding is ASCII, Latin-1 or (well-formed) UTF-8,
+    * this reads the characters straight from the memory-mapped file. Otherwise, 
+    * we fall back to #stringFromBytes(byte[], Charset). The file must not be changed
+    * while the content (or a tree built from it) is in use.
+    */
+  static public CharSequence contentFromPath(java.nio.file.Path path, Charset charset) throws IOException {
+    try (java.nio.channels.FileChannel channel = java.nio.channels.FileChannel.open(path)) {
+        long size = channel.size();
+        if (size > 0 && size < Integer.MAX_VALUE) {
+            ByteBuffer bytes = channel.map(java.nio.channels.FileChannel.MapMode.READ_ONLY, 0, size);
+            CharSequence result = MappedContent.create(bytes, charset);
+            if (result != null) return result;
+        }
+    }
+    return stringFromBytes(java.nio.file.Files.readAllBytes(path), charset);
+  }
+
+  /**
+   * A CharSequence that decodes a memory-mapped file lazily. If the 
+   * file is all single-byte characters, the characters are just read 
+   * straight off the bytes. Otherwise, we keep the byte offset of the start 
+   * of every block of BLOCK_SIZE characters and decode a block at a time.
+   * This can be read from any number of threads at once, for example 
+   * to get the images of the tokens in a finished tree in parallel.
+   */
+  static private final class MappedContent implements CharSequence {
+    private static final int BLOCK_SHIFT = 10, BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    private final ByteBuffer bytes;
+    private final int start, length;
+    // The byte offset of each block of characters, or null if
+    // every character is a single byte
+    private final int[] blockOffsets;
+    // The blocks that start with the second half of a surrogate pair
+    private final BitSet midPairBlocks;
+    // The last block decoded. The threads that read the content share
+    // this, so a Block is never changed once it is made, and each read
+    // goes through a local copy of the reference. So a thread can end up
+    // decoding a block that another one just did, but it only ever reads
+    // characters from the block that it asked for.
+    private Block lastBlock;
+
+    private static final class Block {
+        final int index;
+        final char[] chars;
+
+        Block(int index, char[] chars) {
+            this.index = index;
+            this.chars = chars;
+        }
+    }
+
+    private MappedContent(ByteBuffer bytes, int start, int length, int[] blockOffsets, BitSet midPairBlocks) {
+        this.bytes = bytes;
+        this.start = start;
+        this.length = length;
+        this.blockOffsets = blockOffsets;
+        this.midPairBlocks = midPairBlocks;
+    }
+
+    /**
+     * @return the content, or null if the encoding is not one we 
+     * handle or the input is malformed
+     */
+    static MappedContent create(ByteBuffer bytes, Charset charset) {
+        int size = bytes.limit(), start = 0;
+        if (charset == null) {
+            int firstByte = size>0 ? Byte.toUnsignedInt(bytes.get(0)) : 1;
+            int secondByte = size>1 ? Byte.toUnsignedInt(bytes.get(1)) : 1;
+            int thirdByte = size>2 ? Byte.toUnsignedInt(bytes.get(2)) : 1;
+            if (firstByte == 0xEF && secondByte == 0xBB && thirdByte == 0xBF) {
+                start = 3;
+            }
+            else if (firstByte == 0xFE && secondByte == 0xFF || firstByte == 0xFF && secondByte == 0xFE
+                     || firstByte == 0 && secondByte == 0 && thirdByte == 0xFE) {
+                return null;
+            }
+            charset = UTF_8;
+        }
+        if (charset.equals(ISO_8859_1)) {
+            return new MappedContent(bytes, start, size - start, null, null);
+        }
+        boolean ascii = charset.equals(US_ASCII);
+        if (!ascii && !charset.equals(UTF_8)) {
+            return null;
+        }
+        int[] blockOffsets = new int[16];
+        BitSet midPairBlocks = new BitSet();
+        boolean singleByte = true;
+        int length = 0;
+        for (int i = start; i < size;) {
+            int sequenceLength = utf8SequenceLength(bytes, i, size);
+            if (sequenceLength == 0 || (ascii && sequenceLength > 1)) {
+                return null;
+            }
+            int numChars = sequenceLength == 4 ? 2 : 1;
+            for (int j = 0; j < numChars; j++) {
+                if (((length+j) & (BLOCK_SIZE-1)) == 0) {
+                    int block = (length+j) >>> BLOCK_SHIFT;
+                    if (block == blockOffsets.length) {
+                        blockOffsets = Arrays.copyOf(blockOffsets, block*2);
+                    }
+                    blockOffsets[block] = i;
+                    if (j == 1) midPairBlocks.set(block);
+                }
+            }
+            if (sequenceLength > 1) singleByte = false;
+            length += numChars;
+            i += sequenceLength;
+        }
+        if (singleByte) {
+            return new MappedContent(bytes, start, length, null, null);
+        }
+        return new MappedContent(bytes, start, length, blockOffsets, midPairBlocks);
+    }
+
+    // The length of the well-formed UTF-8 sequence at offset i,
+    // or 0 if it is malformed.
+    private static int utf8SequenceLength(ByteBuffer bytes, int i, int limit) {
+        int b = Byte.toUnsignedInt(bytes.get(i));
+        if (b < 0x80) return 1;
+        int sequenceLength;
+        int min = 0x80, max = 0xBF; // the range of the second byte
+        if (b >= 0xC2 && b <= 0xDF) sequenceLength = 2;
+        else if (b >= 0xE0 && b <= 0xEF) {
+            sequenceLength = 3;
+            if (b == 0xE0) min = 0xA0;
+            else if (b == 0xED) max = 0x9F;
+        }
+        else if (b >= 0xF0 && b <= 0xF4) {
+            sequenceLength = 4;
+            if (b == 0xF0) min = 0x90;
+            else if (b == 0xF4) max = 0x8F;
+        }
+        else return 0;
+        if (i + sequenceLength > limit) return 0;
+        int second = Byte.toUnsignedInt(bytes.get(i+1));
+        if (second < min || second > max) return 0;
+        for (int j = 2; j < sequenceLength; j++) {
+            if ((bytes.get(i+j) & 0xC0) != 0x80) return 0;
+        }
+        return sequenceLength;
+    }
+
+    private Block decodeBlock(int block) {
+        char[] blockChars = new char[BLOCK_SIZE];
+        int offset = blockOffsets[block];
+        int numChars = Math.min(BLOCK_SIZE, length - (block << BLOCK_SHIFT));
+        boolean midPair = midPairBlocks.get(block);
+        int index = 0;
+        while (index < numChars) {
+            int b = Byte.toUnsignedInt(bytes.get(offset++));
+            int codePoint;
+            if (b < 0x80) {
+                codePoint = b;
+            } else if (b < 0xE0) {
+                codePoint = (b & 0x1F) << 6 | bytes.get(offset++) & 0x3F;
+            } else if (b < 0xF0) {
+                codePoint = (b & 0x0F) << 12 | (bytes.get(offset++) & 0x3F) << 6 | bytes.get(offset++) & 0x3F;
+            } else {
+                codePoint = (b & 0x07) << 18 | (bytes.get(offset++) & 0x3F) << 12 
+                            | (bytes.get(offset++) & 0x3F) << 6 | bytes.get(offset++) & 0x3F;
+            }
+            if (codePoint < 0x10000) {
+                blockChars[index++] = (char) codePoint;
+            } else {
+                if (!midPair) blockChars[index++] = Character.highSurrogate(codePoint);
+                if (index < numChars) blockChars[index++] = Character.lowSurrogate(codePoint);
+            }
+            midPair = false;
+        }
+        return new Block(block, blockChars);
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length);
+        }
+        if (blockOffsets == null) {
+            return (char) Byte.toUnsignedInt(bytes.get(start + index));
+        }
+        int block = index >>> BLOCK_SHIFT;
+        Block decoded = lastBlock;
+        if (decoded == null || decoded.index != block) {
+            decoded = decodeBlock(block);
+            lastBlock = decoded;
+        }
+        return decoded.chars[index & (BLOCK_SIZE-1)];
+    }
+
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException("start: " + start + ", end: " + end);
+        }
+        StringBuilder buf = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            buf.append(charAt(i));
+        }
+        return buf.toString();
+    }
+
+    public String toString() {
+        return subSequence(0, length).toString();
+    }
+  }
+[/#if]
 }
@@ -39,6 +39,9 @@
     [#if grammar.choicePointExpansions?size !=0]
        [@BuildLookaheads /]
      [/#if]
+    [#if grammar.packratLookahead]
+       [@BuildScanMemo /]
+    [/#if]
 [/#macro]
 
 
@@ -122,10 +125,102 @@
       ${BuildLookBehindRoutine(lookBehind)}
    [/#list]
    [#list grammar.parserProductions as production]
-      ${BuildProductionLookaheadMethod(production)}
+      ${BuildProductionLookaheadMethod(production, production_index)}
    [/#list]
 [/#macro]  
 
+[#--
+   The memo table used for the productions that have packrat lookahead
+   turned on. The outcome of scanning ahead for a production depends
+   on where the scan starts, how much lookahead is left, and the lexical state,
+   so that is the key. Any reset of the token_source invalidates the whole table.
+--]
+[#macro BuildScanMemo]
+  private static final class ScanMemoKey {
+     final int production, beginOffset, endOffset, remainingLookahead, flags;
+
+     ScanMemoKey(int production, int beginOffset, int endOffset, int remainingLookahead, int flags) {
+        this.production = production;
+        this.beginOffset = beginOffset;
+        this.endOffset = endOffset;
+        this.remainingLookahead = remainingLookahead;
+        this.flags = flags;
+     }
+
+     public int hashCode() {
+        int result = production;
+        result = 31 * result + beginOffset;
+        result = 31 * result + endOffset;
+        result = 31 * result + remainingLookahead;
+        return 31 * result + flags;
+     }
+
+     public boolean equals(Object obj) {
+        if (!(obj instanceof ScanMemoKey)) return false;
+        ScanMemoKey other = (ScanMemoKey) obj;
+        return production == other.production && beginOffset == other.beginOffset
+               && endOffset == other.endOffset && remainingLookahead == other.remainingLookahead
+               && flags == other.flags;
+     }
+  }
+
+  // The state of the scan after the production's lookahead method returned.
+  private final class ScanOutcome {
+     final boolean result, hitFailure, passedPredicate;
+     final Token currentLookaheadToken;
+     final int remainingLookahead, passedPredicateThreshold;
+     final String currentLookaheadProduction;
+
+     ScanOutcome(boolean result) {
+        this.result = result;
+        this.hitFailure = ${grammar.parserClassName}.this.hitFailure;
+        this.passedPredicate = ${grammar.parserClassName}.this.passedPredicate;
+        this.currentLookaheadToken = ${grammar.parserClassName}.this.currentLookaheadToken;
+        this.remainingLookahead = ${grammar.parserClassName}.this.remainingLookahead;
+        this.passedPredicateThreshold = ${grammar.parserClassName}.this.passedPredicateThreshold;
+        this.currentLookaheadProduction = ${grammar.parserClassName}.this.currentLookaheadProduction;
+     }
+
+     boolean restore() {
+        ${grammar.parserClassName}.this.hitFailure = hitFailure;
+        ${grammar.parserClassName}.this.passedPredicate = passedPredicate;
+        ${grammar.parserClassName}.this.currentLookaheadToken = currentLookaheadToken;
+        ${grammar.parserClassName}.this.remainingLookahead = remainingLookahead;
+        ${grammar.parserClassName}.this.passedPredicateThreshold = passedPredicateThreshold;
+        ${grammar.parserClassName}.this.currentLookaheadProduction = currentLookaheadProduction;
+        return result;
+     }
+  }
+
+  private final HashMap<ScanMemoKey, ScanOutcome> scanMemo = new HashMap<>();
+  private int scanMemoResetCount, scanMemoPruneThreshold = 4096;
+
+  private ScanMemoKey scanMemoKey(int production, boolean scanToEnd) {
+     if (scanMemoResetCount != token_source.resetCount) {
+        scanMemo.clear();
+        scanMemoResetCount = token_source.resetCount;
+     }
+     // Whether a scan limit in the production's expansion applies
+     // depends on how deeply nested the scan is.
+     int scanDepth = lookaheadStack.size() > 1 ? 0 : lookaheadRoutineNesting == 0 ? 1 : 2;
+     int flags = (scanToEnd ? 1 : 0) | (passedPredicate ? 2 : 0) | scanDepth << 2
+                 | token_source.lexicalState.ordinal() << 4;
+     return new ScanMemoKey(production, currentLookaheadToken.getBeginOffset(), 
+                            currentLookaheadToken.getEndOffset(), remainingLookahead, flags);
+  }
+
+  private void storeScanOutcome(ScanMemoKey key, boolean result) {
+     if (scanMemo.size() >= scanMemoPruneThreshold) {
+        // Scans never start again before the last consumed token
+        // (unless we backtrack, in which case the entries are just recomputed)
+        int offset = lastConsumedToken.getEndOffset();
+        scanMemo.keySet().removeIf(k -> k.endOffset < offset);
+        scanMemoPruneThreshold = Math.max(4096, 2 * scanMemo.size());
+     }
+     scanMemo.put(key, new ScanOutcome(result));
+  }
+[/#macro]
+
 [#macro BuildPredicateRoutine expansion] 
   [#var lookaheadAmount = expansion.lookaheadAmount]
   [#if lookaheadAmount = 2147483647][#set lookaheadAmount = "UNLIMITED"][/#if]
@@ -270,8 +365,8 @@
 
 [#macro BuildLookBehindRoutine lookBehind]
     private final boolean ${lookBehind.routineName}() {
-       ListIterator<NonTerminalCall> stackIterator = ${lookBehind.backward?string("stackIteratorBackward", "stackIteratorForward")}();
-       NonTerminalCall ntc = null;
+       ListIterator<String> stackIterator = ${lookBehind.backward?string("stackIteratorBackward", "stackIteratorForward")}();
+       String productionName = null;
        [#list lookBehind.path as element]
           [#var elementNegated = (element[0] == "~")]
           [#if elementNegated][#set element = element?substring(1)][/#if]
@@ -292,9 +387,9 @@
                  [#var nextElementNegated = (nextElement[0]=="~")]
                  [#if nextElementNegated][#set nextElement=nextElement?substring(1)][/#if]
                  while (stackIterator.hasNext()) {
-                    ntc = stackIterator.next();
+                    productionName = stackIterator.next();
                     [#var equalityOp = nextElementNegated?string("!=", "==")]
-                    if (ntc.productionName ${equalityOp} "${nextElement}") {
+                    if (productionName ${equalityOp} "${nextElement}") {
                        stackIterator.previous();
                        break;
                     }
@@ -303,9 +398,9 @@
              [/#if]
           [#else]
              if (!stackIterator.hasNext()) return false;
-             ntc = stackIterator.next();
+             productionName = stackIterator.next();
              [#var equalityOp = elementNegated?string("==", "!=")]
-               if (ntc.productionName ${equalityOp} "${element}") return false;
+               if (productionName ${equalityOp} "${element}") return false;
           [/#if]
        [/#list]
        [#if lookBehind.hasEndingSlash]
@@ -316,9 +411,26 @@
     }
 [/#macro]
 
-[#macro BuildProductionLookaheadMethod production]
+[#macro BuildProductionLookaheadMethod production productionIndex]
    // BuildProductionLookaheadMethod macro
+  [#if production.packratLookahead]
    private final boolean ${production.lookaheadMethodName}(boolean scanToEnd) {
+      if (hitFailure) return ${production.memoizedLookaheadMethodName}(scanToEnd);
+      ScanMemoKey key = scanMemoKey(${productionIndex}, scanToEnd);
+      ScanOutcome outcome = scanMemo.get(key);
+      if (outcome != null) return outcome.restore();
+      int resetCount = token_source.resetCount;
+      boolean result = ${production.memoizedLookaheadMethodName}(scanToEnd);
+      if (resetCount == token_source.resetCount) {
+         storeScanOutcome(key, result);
+      }
+      return result;
+   }
+
+   private final boolean ${production.memoizedLookaheadMethodName}(boolean scanToEnd) {
+  [#else]
+   private final boolean ${production.lookaheadMethodName}(boolean scanToEnd) {
+  [/#if]
       [#if production.javaCode?? && production.javaCode.appliesInLookahead]
           ${production.javaCode}
        [/#if]
@@ -36,7 +36,10 @@
  /* Generated by: ${generated_by}. ${filename} */
 
 [#var NFA_RANGE_THRESHOLD = 16]
+[#var ARRAY_CHUNK_SIZE = 2000]
 [#var multipleLexicalStates = grammar.lexerData.lexicalStates.size()>1]
+[#var hasDfa = grammar.lexerData.hasDfa]
+[#var hasAsciiMoveTables = grammar.lexerData.hasAsciiMoveTables]
 [#var TT = "TokenType."]
  
 [#if grammar.parserPackage?has_content]
@@ -47,7 +50,6 @@
 import java.util.EnumSet;
 import java.util.BitSet;
 import java.util.Arrays;
-import java.util.EnumMap;
 
 /**
  * Holder class for the data used by ${grammar.lexerClassName}
@@ -61,15 +63,36 @@ class ${grammar.nfaDataClassName} implements ${grammar.constantsClassName} {
     TokenType apply(int ch, BitSet bs, EnumSet<TokenType> validTypes);
   }
 
+ // All the tables here are built once, when the class is initialized, 
+ // and never modified after that, so they can be shared by any number 
+ // of lexers running on different threads.
  [#if multipleLexicalStates]
-  // A lookup of the NFA function tables for the respective lexical states.
-  private static final EnumMap<LexicalState,NfaFunction[]> functionTableMap = new EnumMap<>(LexicalState.class);
+  // The NFA function tables for the respective lexical states, indexed by ordinal
+  static private final NfaFunction[][] functionTables = new NfaFunction[][] {
+    [#list grammar.lexerData.lexicalStates as lexicalState]
+      ${lexicalState.name}.NFA_FUNCTIONS_init()[#if lexicalState_has_next],[/#if]
+    [/#list]
+  };
  [#else]
   [#-- We don't need the above lookup if there is only one lexical state.--]
-   static private NfaFunction[] nfaFunctions;
+  static private final NfaFunction[] nfaFunctions = ${grammar.lexerData.lexicalStates[0].name}.NFA_FUNCTIONS_init();
  [/#if]
 
 
+[#if hasDfa]
+ [#if multipleLexicalStates]
+  // The DFA tables of the lexical states, indexed by ordinal, 
+  // with null for the ones that don't have one
+  static private final DfaTable[] dfaTables = new DfaTable[] {
+    [#list grammar.lexerData.lexicalStates as lexicalState]
+      [#if lexicalState.dfaData??]${lexicalState.name}.DFA_TABLE_init()[#else]null[/#if][#if lexicalState_has_next],[/#if]
+    [/#list]
+  };
+ [#else]
+  static private final DfaTable dfaTable = ${grammar.lexerData.lexicalStates[0].name}.DFA_TABLE_init();
+ [/#if]
+[/#if]
+
   // This data holder class is never instantiated
   private ${grammar.nfaDataClassName}() {}
 
@@ -79,19 +102,27 @@ class ${grammar.nfaDataClassName} implements ${grammar.constantsClassName} {
    */
   static final NfaFunction[] getFunctionTableMap(LexicalState lexicalState) {
     [#if multipleLexicalStates]
-      return functionTableMap.get(lexicalState);
+      return functionTables[lexicalState.ordinal()];
     [#else]
      // We only have one lexical state in this case, so we return that!
       return nfaFunctions;
     [/#if]
   }
  
-  // Initialize the various NFA method tables
-  static {
-    [#list grammar.lexerData.lexicalStates as lexicalState]
-      ${lexicalState.name}.NFA_FUNCTIONS_init();
-    [/#list]
+[#if hasDfa]
+  /**
+   * @param the lexical state
+   * @return the DFA table for the lexical state, or null 
+   * if the NFA must be used
+   */
+  static final DfaTable getDfaTable(LexicalState lexicalState) {
+    [#if multipleLexicalStates]
+      return dfaTables[lexicalState.ordinal()];
+    [#else]
+      return dfaTable;
+    [/#if]
   }
+[/#if]
 
   // Just use the canned binary search to check whether the char
   // is in one of the intervals
@@ -100,6 +131,132 @@ class ${grammar.nfaDataClassName} implements ${grammar.constantsClassName} {
     return result >=0 || result%2 == 0;
   }
 
+[#if hasDfa || hasAsciiMoveTables]
+  // The larger tables are stored as (count, value) pairs
+  private static int[] decodeRuns(int[] runs) {
+    int size = 0;
+    for (int i = 0; i < runs.length; i+=2) {
+      size += runs[i];
+    }
+    int[] result = new int[size];
+    int index = 0;
+    for (int i = 0; i < runs.length; i+=2) {
+      Arrays.fill(result, index, index + runs[i], runs[i+1]);
+      index += runs[i];
+    }
+    return result;
+  }
+[/#if]
+
+[#if hasAsciiMoveTables]
+  /**
+   * A lookup table of the moves that the NFA_XXX methods 
+   * make on ASCII characters, indexed by row*128 + ch,
+   * so that we only need to check character ranges
+   * for non-ASCII input.
+   */
+  static final class AsciiMoveTable {
+    private final int[] table;
+    private final BitSet[] moveStates;
+    private final TokenType[][] moveTypes;
+
+    AsciiMoveTable(int[] encodedTable, int[] stateOffsets, int[] states, 
+                   int[] typeOffsets, int[] typeIndexes, TokenType[] types) {
+      this.table = decodeRuns(encodedTable);
+      int numMoves = stateOffsets.length -1;
+      moveStates = new BitSet[numMoves];
+      moveTypes = new TokenType[numMoves][];
+      for (int move = 0; move < numMoves; move++) {
+        moveStates[move] = new BitSet();
+        for (int i = stateOffsets[move]; i < stateOffsets[move+1]; i++) {
+          moveStates[move].set(states[i]);
+        }
+        moveTypes[move] = new TokenType[typeOffsets[move+1] - typeOffsets[move]];
+        for (int i = typeOffsets[move]; i < typeOffsets[move+1]; i++) {
+          moveTypes[move][i-typeOffsets[move]] = types[typeIndexes[i]];
+        }
+      }
+    }
+
+    final TokenType apply(int index, BitSet nextStates, EnumSet<TokenType> validTypes) {
+      int move = table[index];
+      if (move < 0) return null;
+      nextStates.or(moveStates[move]);
+      for (TokenType type : moveTypes[move]) {
+        if (validTypes.contains(type)) return type;
+      }
+      return null;
+    }
+  }
+[/#if]
+
+[#if hasDfa]
+  /**
+   * The deterministic transition table of a lexical state,
+   * built at generation time from its NFA by subset construction.
+   * The characters are partitioned into classes that all the states
+   * treat identically, so the next state is a single lookup.
+   */
+  static final class DfaTable {
+    private final int numClasses;
+    private final int[] asciiClasses, intervalStarts, intervalClasses;
+    private final int[] transitions;
+    private final boolean[] hasMoves;
+    private final int[] acceptOffsets, acceptIndexes;
+    private final TokenType[] acceptTypes;
+
+    DfaTable(int numClasses, int[] asciiClasses, int[] intervalStarts, int[] intervalClasses, 
+             int[] encodedTransitions, int[] acceptOffsets, int[] acceptIndexes, TokenType[] acceptTypes) {
+      this.numClasses = numClasses;
+      this.asciiClasses = asciiClasses;
+      this.intervalStarts = intervalStarts;
+      this.intervalClasses = intervalClasses;
+      this.acceptOffsets = acceptOffsets;
+      this.acceptIndexes = acceptIndexes;
+      this.acceptTypes = acceptTypes;
+      int numStates = acceptOffsets.length -1;
+      transitions = decodeRuns(encodedTransitions);
+      hasMoves = new boolean[numStates];
+      for (int i = 0; i < transitions.length; i++) {
+        if (transitions[i] >= 0) hasMoves[i/numClasses] = true;
+      }
+    }
+
+    /**
+     * @return the state we move to from state on reading ch, or -1 if there is no such move
+     */
+    final int nextState(int state, int ch) {
+      int charClass;
+      if (ch < 128) {
+        charClass = asciiClasses[ch];
+      } else {
+        int index = Arrays.binarySearch(intervalStarts, ch);
+        charClass = intervalClasses[index >= 0 ? index : -index-2];
+      }
+      return transitions[state*numClasses + charClass];
+    }
+
+    /**
+     * @return whether there are any moves out of this state
+     */
+    final boolean hasMoves(int state) {
+      return hasMoves[state];
+    }
+
+    /**
+     * @return the highest priority type among validTypes that is 
+     * matched on entering this state, or null if there is none
+     */
+    final TokenType getAcceptedType(int state, EnumSet<TokenType> validTypes) {
+      for (int i = acceptOffsets[state]; i < acceptOffsets[state+1]; i++) {
+        TokenType type = acceptTypes[acceptIndexes[i]];
+        if (validTypes.contains(type)) return type;
+      }
+      return null;
+    }
+  }
+[/#if]
+
  [#list grammar.lexerData.lexicalStates as lexicalState]
  /**
   * Holder class for NFA code related to ${lexicalState.name} lexical state
@@ -125,24 +282,100 @@ class ${grammar.nfaDataClassName} implements ${grammar.constantsClassName} {
     [/#if]
   [/#list]
 
-  static private void NFA_FUNCTIONS_init() {
-    [#if multipleLexicalStates]
-      NfaFunction[] functions = new NfaFunction[]
-    [#else]
-      nfaFunctions = new NfaFunction[]
-    [/#if] 
+  [#if lexicalState.dfaData??]
+    [@GenerateDfaTable lexicalState.dfaData/]
+  [/#if]
+  [#if lexicalState.asciiMoveTable??]
+    [@GenerateAsciiMoveTable lexicalState.asciiMoveTable/]
+  [/#if]
+
+  static private NfaFunction[] NFA_FUNCTIONS_init() {
+    return new NfaFunction[]
     {
     [#list lexicalState.canonicalSets as state]
       ${lexicalState.name}::${state.methodName}
       [#if state_has_next],[/#if]
     [/#list]
     };
-    [#if multipleLexicalStates]
-      functionTableMap.put(LexicalState.${lexicalState.name}, functions);
-    [/#if]
   }
 [/#macro]
 
+[#--
+   Generate the data for the DFA table of 
+   a lexical state. This corresponds to 
+   com.javacc.core.nfa.DfaData
+--]
+[#macro GenerateDfaTable dfaData]
+   [@GenerateIntArray "DFA_ASCII_CLASSES" dfaData.asciiClasses/]
+   [@GenerateIntArray "DFA_INTERVAL_STARTS" dfaData.intervalStarts/]
+   [@GenerateIntArray "DFA_INTERVAL_CLASSES" dfaData.intervalClasses/]
+   [@GenerateIntArray "DFA_TRANSITIONS" dfaData.encodedTransitions/]
+   [@GenerateIntArray "DFA_ACCEPT_OFFSETS" dfaData.acceptOffsets/]
+   [@GenerateIntArray "DFA_ACCEPT_INDEXES" dfaData.acceptIndexes/]
+
+    static private DfaTable DFA_TABLE_init() {
+        TokenType[] acceptTypes = new TokenType[] {
+        [#list dfaData.acceptTypes as type]
+           ${TT}${type.label}[#if type_has_next],[/#if]
+        [/#list]
+        };
+        return new DfaTable(${dfaData.numClasses}, DFA_ASCII_CLASSES_init(), DFA_INTERVAL_STARTS_init(), 
+                            DFA_INTERVAL_CLASSES_init(), DFA_TRANSITIONS_init(), DFA_ACCEPT_OFFSETS_init(),
+                            DFA_ACCEPT_INDEXES_init(), acceptTypes);
+    }
+[/#macro]
+
+[#--
+   Generate the data for the lookup table of moves on 
+   ASCII characters in a lexical state. This corresponds to
+   com.javacc.core.nfa.AsciiMoveTable
+--]
+[#macro GenerateAsciiMoveTable moveTable]
+   [@GenerateIntArray "ASCII_MOVE_TABLE" moveTable.encodedTable/]
+   [@GenerateIntArray "ASCII_MOVE_STATE_OFFSETS" moveTable.stateOffsets/]
+   [@GenerateIntArray "ASCII_MOVE_STATES" moveTable.states/]
+   [@GenerateIntArray "ASCII_MOVE_TYPE_OFFSETS" moveTable.typeOffsets/]
+   [@GenerateIntArray "ASCII_MOVE_TYPE_INDEXES" moveTable.typeIndexes/]
+
+    static private final AsciiMoveTable ASCII_MOVES = ASCII_MOVES_init();
+
+    static private AsciiMoveTable ASCII_MOVES_init() {
+        TokenType[] types = new TokenType[] {
+        [#list moveTable.types as type]
+           ${TT}${type.label}[#if type_has_next],[/#if]
+        [/#list]
+        };
+        return new AsciiMoveTable(ASCII_MOVE_TABLE_init(), ASCII_MOVE_STATE_OFFSETS_init(), ASCII_MOVE_STATES_init(),
+                                  ASCII_MOVE_TYPE_OFFSETS_init(), ASCII_MOVE_TYPE_INDEXES_init(), types);
+    }
+[/#macro]
+
+[#--
+   Generate a method that returns a (possibly large) int array. 
+   The elements are filled in from separate methods in chunks 
+   of ARRAY_CHUNK_SIZE, so that we don't run into the 
+   "code too large" problem.
+--]
+[#macro GenerateIntArray name values]
+    [#var chunks = grammar.utils.chunk(values, ARRAY_CHUNK_SIZE)]
+    static private int[] ${name}_init() {
+        int[] result = new int[${values?size}];
+    [#list chunks as chunk]
+        ${name}_init${chunk_index}(result);
+    [/#list]
+        return result;
+    }
+    [#list chunks as chunk]
+
+    static private void ${name}_init${chunk_index}(int[] result) {
+        int[] chunk = new int[] {
+        [#list chunk as value]${value}[#if value_has_next], [/#if][/#list]
+        };
+        System.arraycopy(chunk, 0, result, ${chunk_index*ARRAY_CHUNK_SIZE}, chunk.length);
+    }
+    [/#list]
+[/#macro]
+
 [#--
    Generate the array representing the characters
    that this NfaState "accepts".
@@ -152,7 +385,7 @@ class ${grammar.nfaDataClassName} implements ${grammar.constantsClassName} {
 [#macro GenerateMoveArray nfaState]
   [#var moveRanges = nfaState.moveRanges]
   [#var arrayName = nfaState.movesArrayName]
-    static private int[] ${arrayName} = ${arrayName}_init();
+    static private final int[] ${arrayName} = ${arrayName}_init();
 
     static private int[] ${arrayName}_init() {
         return new int[]
@@ -171,8 +404,15 @@ class ${grammar.nfaDataClassName} implements ${grammar.constantsClassName} {
 --]
 [#macro GenerateNfaMethod nfaState]  
     static private TokenType ${nfaState.methodName}(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
-      TokenType type = null;
     [#var states = nfaState.orderedStates, lastBlockStartIndex=0]
+    [#if nfaState.asciiTableRow >= 0]
+      if (ch < 128) {
+          return ASCII_MOVES.apply(${nfaState.asciiTableRow*128} + ch, nextStates, validTypes);
+      }
+      [#-- Only the states with non-ASCII moves need to be checked now. --]
+      [#set states = nfaState.nonAsciiOrderedStates]
+    [/#if]
+      TokenType type = null;
     [#list states as state]
       [#if state_index ==0 || !state.moveRanges.equals(states[state_index-1].moveRanges)]
           [#-- In this case we need a new if or possibly else if --]
@@ -35,7 +35,10 @@ package ${grammar.parserPackage};
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.lang.reflect.*;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 [#if grammar.settings.FREEMARKER_NODES?? && grammar.settings.FREEMARKER_NODES]
 import freemarker.template.*;
 [/#if]
@@ -268,11 +271,13 @@ public interface Node extends Comparable<Node>
      * @param includeCommentTokens Whether to include comment tokens
      */
      default List<Token> getAllTokens(boolean includeCommentTokens) {
-		List<Token> result = new ArrayList<>();
-        for (Iterator<Node> it = iterator(); it.hasNext();) {
-            Node child = it.next();
-            if (child instanceof Token) {
-                Token token = (Token) child;
+        List<Token> result = new ArrayList<>();
+        TreeCursor cursor = cursor();
+        cursor.next(); // past this node
+        while (cursor.next()) {
+            if (cursor.isEntering() && cursor.getNode() instanceof Token) {
+                Token token = (Token) cursor.getNode();
+                cursor.skipChildren();
                 if (token.isUnparsed()) {
                     continue;
                 }
@@ -280,9 +285,6 @@ public interface Node extends Comparable<Node>
                     result.addAll(token.precedingUnparsedTokens());
                 }
                 result.add(token);
-            } 
-            else if (child.getChildCount() >0) {
-               result.addAll(child.getAllTokens(includeCommentTokens));
             }
         }
         return result;
@@ -478,15 +480,7 @@ public interface Node extends Comparable<Node>
    }
    
    default <T extends Node> List<T> descendantsOfType(Class<T> clazz) {
-        List<T> result = new ArrayList<T>();
-        for (int i=0; i< getChildCount(); i++) {
-            Node child = getChild(i);
-            if (clazz.isInstance(child)) {
-                result.add(clazz.cast(child));
-            } 
-            result.addAll(child.descendantsOfType(clazz));
-        }
-        return result;
+        return descendants(clazz, null);
    }
    
    default <T extends Node> T firstAncestorOfType(Class<T> clazz) {
@@ -597,26 +591,12 @@ public interface Node extends Comparable<Node>
     }
     
      static public List<Token> getTokens(Node node) {
-        List<Token> result = new ArrayList<Token>();
-        for (Node child : node.children()) {
-            if (child instanceof Token) {
-                result.add((Token) child);
-            } else {
-                result.addAll(getTokens(child));
-            }
-        }
-        return result;
+        return node.descendants(Token.class);
     }
         
         
     static public List<Token> getRealTokens(Node n) {
-        List<Token> result = new ArrayList<Token>();
-		for (Token token : getTokens(n)) {
-		    if (!token.isUnparsed()) {
-		        result.add(token);
-		    }
-		}
-	    return result;
+        return n.getRealTokens();
     }
 
     default List<Node> descendants() {
@@ -633,18 +613,41 @@ public interface Node extends Comparable<Node>
 
     default <T extends Node> List<T> descendants(Class<T> clazz, Predicate<? super T> predicate) {
        List<T> result = new ArrayList<>();
-       for (Node child : children()) {
-          if (clazz.isInstance(child)) {
-              T t = clazz.cast(child);
+       TreeCursor cursor = cursor();
+       cursor.next(); // past this node
+       while (cursor.next()) {
+          if (cursor.isEntering() && clazz.isInstance(cursor.getNode())) {
+              T t = clazz.cast(cursor.getNode());
               if (predicate == null || predicate.test(t)) {
                   result.add(t);
               }
           }
-          result.addAll(child.descendants(clazz, predicate)); 
        }
        return result;
     }
 
+    /**
+     * @return a TreeCursor positioned before this Node, 
+     * for walking the subtree under it.
+     */
+    default TreeCursor cursor() {
+        return new TreeCursor(this);
+    }
+
+    /**
+     * @return a lazy Stream of the descendants of this Node (not 
+     * including the Node itself) in document order, i.e. pre-order.
+     * The stream can be made parallel, in which case it splits up
+     * the subtrees under the widest level it comes to.
+     */
+    default Stream<Node> descendantStream() {
+        return StreamSupport.stream(new DescendantSpliterator(this), false);
+    }
+
+    default <T extends Node> Stream<T> descendantStream(Class<T> clazz) {
+        return descendantStream().filter(clazz::isInstance).map(clazz::cast);
+    }
+
     default void dump(String prefix) {
         String output;
 
@@ -685,6 +688,192 @@ public interface Node extends Comparable<Node>
 
 [/#if]    
 
+    /**
+     * Walks the subtree under a Node without recursion and without 
+     * making any intermediate lists. Every Node is come to twice,
+     * once on the way in, before its children (pre-order) and 
+     * once on the way out, after them (post-order). The cursor starts
+     * out before the root, so #next() must be called first.
+     * As with the iterator, the tree should not be modified 
+     * meanwhile, except for the children of the current Node 
+     * on the way in.
+     */
+    static final class TreeCursor {
+        private final Node root;
+        // The nodes from the root down to the current one, and 
+        // for each of them, the index of the next child to go into.
+        private Node[] nodes = new Node[16];
+        private int[] childIndices = new int[16];
+        private int depth = -1;
+        private boolean started, entering, skipChildren;
+
+        public TreeCursor(Node root) {
+            this.root = root;
+        }
+
+        /**
+         * Moves to the next Node on the way in, or on the way out.
+         * @return false when the walk is over, true otherwise
+         */
+        public boolean next() {
+            if (depth < 0) {
+                if (started) return false;
+                started = true;
+                push(root);
+                return true;
+            }
+            if (entering && skipChildren) {
+                skipChildren = false;
+                entering = false;
+                return true;
+            }
+            if (!entering) {
+                nodes[depth--] = null;
+                if (depth < 0) return false;
+            }
+            Node parent = nodes[depth];
+            int index = childIndices[depth];
+            if (index < parent.getChildCount()) {
+                childIndices[depth] = index + 1;
+                push(parent.getChild(index));
+            } else {
+                entering = false;
+            }
+            return true;
+        }
+
+        private void push(Node node) {
+            if (++depth == nodes.length) {
+                nodes = Arrays.copyOf(nodes, depth * 2);
+                childIndices = Arrays.copyOf(childIndices, depth * 2);
+            }
+            nodes[depth] = node;
+            childIndices[depth] = 0;
+            entering = true;
+        }
+
+        /**
+         * @return the current Node
+         */
+        public Node getNode() {
+            return depth < 0 ? null : nodes[depth];
+        }
+
+        /**
+         * @return whether we are on the way into the current Node (pre-order)
+         * as opposed to on the way out of it (post-order)
+         */
+        public boolean isEntering() {
+            return entering;
+        }
+
+        /**
+         * @return how far down the current Node is from the root, which is at depth 0
+         */
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * On the way into a Node, do not go into its children, so
+         * that the next move is on the way out of the same Node.
+         */
+        public void skipChildren() {
+            if (entering) skipChildren = true;
+        }
+    }
+
+    /**
+     * The Spliterator behind #descendantStream(). It covers a run of 
+     * sibling subtrees, possibly preceded by a single Node, and splits 
+     * by handing off the first half of the run. When only one subtree 
+     * is left, it hands off the root of that and takes over its children.
+     */
+    static final class DescendantSpliterator implements Spliterator<Node> {
+        private Node first, parent;
+        private int from, to;
+        private TreeCursor cursor;
+        private long estimatedSize = Long.MAX_VALUE;
+
+        public DescendantSpliterator(Node node) {
+            this(null, node, 0, node.getChildCount());
+        }
+
+        private DescendantSpliterator(Node first, Node parent, int from, int to) {
+            this.first = first;
+            this.parent = parent;
+            this.from = from;
+            this.to = to;
+        }
+
+        public boolean tryAdvance(Consumer<? super Node> action) {
+            if (first != null) {
+                Node node = first;
+                first = null;
+                action.accept(node);
+                return true;
+            }
+            while (true) {
+                if (cursor != null) {
+                    while (cursor.next()) {
+                        if (cursor.isEntering()) {
+                            action.accept(cursor.getNode());
+                            return true;
+                        }
+                    }
+                    cursor = null;
+                }
+                if (from >= to) return false;
+                cursor = new TreeCursor(parent.getChild(from++));
+            }
+        }
+
+        public Spliterator<Node> trySplit() {
+            if (cursor != null) return null;
+            DescendantSpliterator prefix;
+            int count = to - from;
+            if (count >= 2) {
+                int middle = from + count / 2;
+                prefix = new DescendantSpliterator(first, parent, from, middle);
+                first = null;
+                from = middle;
+            } 
+            else if (first != null && count == 1) {
+                prefix = new DescendantSpliterator(first, null, 0, 0);
+                first = null;
+            }
+            else if (first == null && count == 1) {
+                Node only = parent.getChild(from);
+                prefix = new DescendantSpliterator(only, null, 0, 0);
+                parent = only;
+                from = 0;
+                to = only.getChildCount();
+            }
+            else return null;
+            estimatedSize >>>= 1;
+            prefix.estimatedSize = estimatedSize;
+            return prefix;
+        }
+
+        public long estimateSize() {
+            return estimatedSize;
+        }
+
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+
+    /**
+     * Passes this Node to the visit method for its own class. 
+     * The generated Node classes override this, so this default 
+     * is only for the others, and just visits the children.
+     * @param visitor the ${grammar.visitorClassName} to dispatch to
+     */
+    default void accept(${grammar.visitorClassName} visitor) {
+        visitor.recurse(this);
+    }
+
     // NB: This is not thread-safe
     // If the node's children could change out from under you,
     // you could have a problem.
@@ -740,32 +929,25 @@ public interface Node extends Comparable<Node>
     }
 
  	static abstract public class Visitor {
-        static private Map<Class<? extends Node.Visitor>, Map<Class<? extends Node>, Method>> mapLookup;
+        // The cache of visit methods for each Visitor subclass. A ClassValue
+        // is looked up without locking, unlike a synchronized map.
+        static private final ClassValue<Map<Class<? extends Node>, Method>> methodCaches = new ClassValue<Map<Class<? extends Node>, Method>>() {
+            protected Map<Class<? extends Node>, Method> computeValue(Class<?> visitorClass) {
+                return new ConcurrentHashMap<>();
+            }
+        };
         static private final Method DUMMY_METHOD;
         static {
             try {
                 // Use this just to represent no method found, since ConcurrentHashMap cannot contains nulls
                 DUMMY_METHOD = Object.class.getMethod("toString");
             } catch (Exception e) {throw new RuntimeException(e);} // Never happens anyway.
-            mapLookup = Collections.synchronizedMap(new HashMap<Class<? extends Node.Visitor>, Map<Class<? extends Node>, Method>>());
-        }
-        private Map<Class<? extends Node>, Method> methodCache;
-        {
-            this.methodCache = mapLookup.get(this.getClass());
-            if (methodCache == null) {
-                methodCache = new ConcurrentHashMap<Class<? extends Node>, Method>();
-                mapLookup.put(this.getClass(), methodCache);
-            }
         }
+        private final Map<Class<? extends Node>, Method> methodCache = methodCaches.get(this.getClass());
         protected boolean visitUnparsedTokens;
 		
 		private Method getVisitMethod(Node node) {
-			Class<? extends Node> nodeClass = node.getClass();
-            Method method = methodCache.get(nodeClass);
-            if (method == null) {
-                methodCache.put(nodeClass, getVisitMethodImpl(nodeClass));
-            }
-            return methodCache.get(nodeClass);
+            return methodCache.computeIfAbsent(node.getClass(), this::getVisitMethodImpl);
 		}
 
         // Find handler method for this node type. If there is none, 
@@ -41,7 +41,7 @@ public class ParseException extends ${BASE_EXCEPTION_TYPE} implements ${grammar.
 
   public ParseException(${grammar.parserClassName} parser, String message) {
      super(message);
-     setInfo(parser, parser.lastConsumedToken, null, parser.parsingStack);
+     setInfo(parser, parser.lastConsumedToken, null, parser.parsingStack.toList());
   }
 
   public ParseException(${grammar.parserClassName} parser, EnumSet<TokenType> expectedTypes, List<${grammar.parserClassName}.NonTerminalCall> callStack) {
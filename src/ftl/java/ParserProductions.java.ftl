@@ -210,6 +210,7 @@
 [#--  Boilerplate code to create the node variable --]
 [#macro createNode treeNodeBehavior nodeVarName isAbstractType]
    [#var nodeName = nodeClassName(treeNodeBehavior)]
+   ${grammar.utils.setCurrentNodeClassName(nodeName)!}
    ${nodeName} ${nodeVarName} = null;
    [#if !isAbstractType]
    if (buildTree) {
@@ -318,6 +319,7 @@
     if (buildTree) {
         Node child = peekNode();
         String name = "${regexp.childName}";
+        ${grammar.utils.addNamedChild(regexp.childName, regexp.multipleChildren)!}
     [#if regexp.multipleChildren]
         ${grammar.currentNodeVariableName}.addToNamedChildList(name, child);
     [#else]
@@ -338,12 +340,13 @@
 [/#macro]
 
 [#macro BuildCodeAttemptBlock attemptBlock]
+   [#var exceptionVar = CU.newVarName("e")]
    try {
       stashParseState();
       [@BuildCode attemptBlock.nestedExpansion /]
       popParseState();
    }
-   catch (ParseException e) {
+   catch (ParseException ${exceptionVar}) {
       restoreStashedParseState();
       [@BuildCode attemptBlock.recoveryExpansion /]
    }
@@ -384,6 +387,7 @@
         if (buildTree) {
             Node child = peekNode();
             String name = "${nonterminal.childName}";
+            ${grammar.utils.addNamedChild(nonterminal.childName, nonterminal.multipleChildren)!}
     [#if nonterminal.multipleChildren]
             ${grammar.currentNodeVariableName}.addToNamedChildList(name, child);
     [#else]
@@ -412,11 +416,12 @@
 [#var inFirstVarName = "", inFirstIndex =0]
 
 [#macro BuildCodeOneOrMore oom]
-   [#var nestedExp=oom.nestedExpansion, prevInFirstVarName = inFirstVarName/]
+   [#var nestedExp=oom.nestedExpansion, prevInFirstVarName = inFirstVarName, prevLoopLabel = loopLabel/]
    [#if nestedExp.simpleName = "ExpansionChoice"]
      [#set inFirstVarName = "inFirst" + inFirstIndex, inFirstIndex = inFirstIndex +1 /]
      boolean ${inFirstVarName} = true; 
    [/#if]
+   [@LoopLabel nestedExp/]
    while (true) {
       [@RecoveryLoop oom /]
       [#if nestedExp.simpleName = "ExpansionChoice"]
@@ -425,16 +430,35 @@
          if (!(${ExpansionCondition(oom.nestedExpansion)})) break;
       [/#if]
    }
-   [#set inFirstVarName = prevInFirstVarName /]
+   [#set inFirstVarName = prevInFirstVarName, loopLabel = prevLoopLabel /]
 [/#macro]
 
 [#macro BuildCodeZeroOrMore zom]
+    [#var prevLoopLabel = loopLabel]
+    [@LoopLabel zom.nestedExpansion/]
     while (true) {
        [#if zom.nestedExpansion.class.simpleName != "ExpansionChoice"]
          if (!(${ExpansionCondition(zom.nestedExpansion)})) break;
        [/#if]
        [@RecoveryLoop zom/]
     }
+    [#set loopLabel = prevLoopLabel]
+[/#macro]
+
+[#var loopLabel = "break"]
+
+[#--
+   A choice that dispatches on a switch cannot get out of 
+   the enclosing loop with a plain break, so the loop gets a label.
+--]
+[#macro LoopLabel nestedExp]
+   [#if nestedExp.simpleName = "ExpansionChoice" && nestedExp.switchCases?size > 0]
+      [#var label = CU.newVarName("loop")?trim]
+      ${label} :
+      [#set loopLabel = "break " + label]
+   [#else]
+      [#set loopLabel = "break"]
+   [/#if]
 [/#macro]
 
 [#macro RecoveryLoop loopExpansion]
@@ -463,33 +487,62 @@
 [/#macro]
 
 [#macro BuildCodeChoice choice]
-   [#list choice.choices as expansion]
+   [#if choice.switchCases?size = 0]
+      [@BuildChoiceChain choice "break"/]
+   [#else]
+      switch (nextTokenType()) {
+      [#list choice.switchCases as switchCase]
+         [#list switchCase.tokenNames as name]
+         case ${name} :
+         [/#list]
+            ${BuildCode(switchCase.expansion)}
+            break;
+      [/#list]
+         default :
+            [@BuildChoiceChain choice loopLabel/]
+      }
+   [/#if]
+[/#macro]
+
+[#--
+   Generates the ordered if/else if chain for the alternatives of a choice
+   that are not dispatched on a switch. That is all of them if 
+   there is no switch.
+--]
+[#macro BuildChoiceChain choice breakStatement]
+   [#var first = true]
+   [#list choice.chainedChoices as expansion]
       [#if expansion.alwaysSuccessful]
+         [#if first]
+           ${BuildCode(expansion)}
+         [#else]
          else {
            [@BuildCode expansion /]
          }
+         [/#if]
          [#return]
       [/#if]
-      ${(expansion_index=0)?string("if", "else if")}
+      ${first?string("if", "else if")}
       (${ExpansionCondition(expansion)}) { 
          ${BuildCode(expansion)}
       }
+      [#set first = false]
    [/#list]
    [#if choice.parent.simpleName == "ZeroOrMore"]
-      else {
-         break;
+      [#if !first]else[/#if] {
+         ${breakStatement};
       }
    [#elseif choice.parent.simpleName = "OneOrMore"]
-       else if (${inFirstVarName}) {
+       [#if !first]else[/#if] if (${inFirstVarName}) {
            pushOntoCallStack("${currentProduction.name}", "${choice.inputSource?j_string}", ${choice.beginLine}, ${choice.beginColumn});
-           throw new ParseException(this, ${choice.firstSetVarName}, parsingStack);
+           throw new ParseException(this, ${choice.firstSetVarName}, parsingStack.toList());
        } else {
-           break;
+           ${breakStatement};
        }
    [#elseif choice.parent.simpleName != "ZeroOrOne"]
-       else {
+       [#if !first]else[/#if] {
            pushOntoCallStack("${currentProduction.name}", "${choice.inputSource?j_string}", ${choice.beginLine}, ${choice.beginColumn});
-           throw new ParseException(this, ${choice.firstSetVarName}, parsingStack);
+           throw new ParseException(this, ${choice.firstSetVarName}, parsingStack.toList());
         }
    [/#if]
 [/#macro]
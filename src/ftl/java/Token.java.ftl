@@ -67,7 +67,7 @@ public class Token implements ${grammar.constantsClassName} ${extendsNode} {
     private Node parent;
 [/#if]
 
-[#if !grammar.minimalToken || grammar.faultTolerant]
+[#if !grammar.minimalToken || grammar.faultTolerant || grammar.internTokenImages]
     private String image;
     public void setImage(String image) {
        this.image = image;
@@ -277,13 +277,28 @@ public class Token implements ${grammar.constantsClassName} ${extendsNode} {
      * @return the string image of the token.
      */
     public String getImage() {
-      [#if grammar.minimalToken]
+      [#if grammar.minimalToken && !grammar.internTokenImages]
         return getSource();
       [#else]  
         return image != null ? image : getSource();
       [/#if]
     }
 
+    /**
+     * @return the text of the token as a read-only CharSequence.
+     * Unlike #getImage() this does not, as a rule, copy the 
+     * characters out of the input, so it is the cheaper way 
+     * to look at the text of the token in a tight loop.
+     */
+    public CharSequence getImageView() {
+      [#if !grammar.minimalToken || grammar.faultTolerant || grammar.internTokenImages]
+        if (image != null) return image;
+      [/#if]
+        if (type == TokenType.EOF) return "";
+        ${grammar.lexerClassName} flm = getTokenSource();
+        return flm == null ? null : flm.getTextView(getBeginOffset(), getEndOffset());
+    }
+
     /**
      * @return the next _cached_ regular (i.e. parsed) token
      * or null
@@ -378,6 +393,12 @@ public class Token implements ${grammar.constantsClassName} ${extendsNode} {
         this.endOffset = endOffset;
     }
 
+[#if grammar.treeBuildingEnabled]
+    public void accept(${grammar.visitorClassName} visitor) {
+        visitor.visit(this);
+    }
+
+[/#if]
     public boolean isUnparsed() {
         return unparsed;
     }
@@ -73,6 +73,7 @@
      * @param n the node to push
      */
     public void pushNode(Node n) {
+        logNodeScopeChange(currentNodeScope, currentNodeScope.size(), null);
         currentNodeScope.add(n);
     }
 
@@ -112,8 +113,60 @@
 
 
     private void clearNodeScope() {
+        for (int i = currentNodeScope.size() -1; i >= 0; i--) {
+            logNodeScopeChange(currentNodeScope, i+1, currentNodeScope.get(i));
+        }
         currentNodeScope.clear();
     }
+
+    // A log of the changes made to the node scopes while there is 
+    // a stashed ParseState, so that we can undo them if we 
+    // backtrack. Each entry is the scope, its size before the change,
+    // and the node that was removed or replaced, if any.
+    private NodeScope[] undoScopes = new NodeScope[16];
+    private int[] undoSizes = new int[16];
+    private Node[] undoNodes = new Node[16];
+    private int undoLogLength;
+
+    private void logNodeScopeChange(NodeScope scope, int previousSize, Node removedNode) {
+        if (parseStateStack.isEmpty()) return;
+        if (undoLogLength == undoSizes.length) {
+            int newCapacity = undoLogLength*2;
+            undoScopes = Arrays.copyOf(undoScopes, newCapacity);
+            undoSizes = Arrays.copyOf(undoSizes, newCapacity);
+            undoNodes = Arrays.copyOf(undoNodes, newCapacity);
+        }
+        undoScopes[undoLogLength] = scope;
+        undoSizes[undoLogLength] = previousSize;
+        undoNodes[undoLogLength++] = removedNode;
+    }
+
+    private void undoNodeScopeChanges(int mark) {
+        while (undoLogLength > mark) {
+            --undoLogLength;
+            NodeScope scope = undoScopes[undoLogLength];
+            int previousSize = undoSizes[undoLogLength];
+            Node node = undoNodes[undoLogLength];
+            if (node == null) {
+                // Nodes were added
+                scope.subList(previousSize, scope.size()).clear();
+            } else if (scope.size() < previousSize) {
+                // A node was popped
+                scope.add(node);
+            } else {
+                // A node was poked
+                scope.set(previousSize -1, node);
+            }
+            undoScopes[undoLogLength] = null;
+            undoNodes[undoLogLength] = null;
+        }
+    }
+
+    private void clearUndoLog() {
+        Arrays.fill(undoScopes, 0, undoLogLength, null);
+        Arrays.fill(undoNodes, 0, undoLogLength, null);
+        undoLogLength = 0;
+    }
     
     private void openNodeScope(Node n) {
         new NodeScope();
@@ -239,18 +292,22 @@
         }
 
         Node pop() {
-            return isEmpty() ? parentScope.pop() : remove(size()-1);
+            if (isEmpty()) return parentScope.pop();
+            Node result = remove(size()-1);
+            logNodeScopeChange(this, size()+1, result);
+            return result;
         }
 
         void poke(Node n) {
             if (isEmpty()) {
                 parentScope.poke(n);
             } else {
-                set(size()-1, n);
+                logNodeScopeChange(this, size(), set(size()-1, n));
             }
         }
 
         void close() {
+            logNodeScopeChange(parentScope, parentScope.size(), null);
             parentScope.addAll(this);
             ${grammar.parserClassName}.this.currentNodeScope = parentScope;
         }
@@ -264,13 +321,5 @@
             }
             return result;            
         }
-
-        public NodeScope clone() {
-            NodeScope clone = (NodeScope) super.clone();
-            if (parentScope != null) {
-                clone.parentScope = parentScope.clone();
-            }
-            return clone;
-        } 
     }
 
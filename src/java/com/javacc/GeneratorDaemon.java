@@ -0,0 +1,267 @@
+/* Copyright (c) 2008-2021 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.javacc;
+
+import java.io.*;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+import com.javacc.output.java.FilesGenerator;
+
+/**
+ * Keeps the parser generator running, so that a build that generates
+ * a number of grammars, or the same ones over and over, does not pay
+ * for starting up a JVM, loading the classes and parsing the templates
+ * each time, and gets the benefit of code that the JIT has already compiled.
+ * <p>
+ * A request is a line with the working directory and then the arguments,
+ * exactly as they would be passed on the command line, separated by tabs.
+ * Each line of the reply is what was printed on standard output, prefixed
+ * with "O ", or on standard error, prefixed with "E ", and the last one
+ * is "X " followed by the exit code.
+ * Relative paths in the arguments, and INCLUDE locations that are relative
+ * to the current directory, are resolved against the working directory.
+ * So if that is not the one the daemon is running in, the generated code
+ * refers to the grammar by its absolute path.
+ * The requests are handled one after the other, since the output
+ * is captured by redirecting System.out and System.err.
+ * <p>
+ * Anything on the machine can connect to a port on the loopback address,
+ * so a daemon that listens on one writes a random key to a file that only
+ * the user can read (see #keyFile) and a client has to send that key as
+ * its first line. Otherwise, another user could have files written
+ * with the daemon's permissions.
+ */
+public class GeneratorDaemon {
+
+    static final String OUT_PREFIX = "O ", ERR_PREFIX = "E ", EXIT_PREFIX = "X ";
+
+    /**
+     * With no port, reads requests from standard input and replies on standard output.
+     * Otherwise, takes requests on that port of the loopback address, from
+     * clients that send the key first.
+     */
+    public static void main(String[] args) throws IOException {
+        FilesGenerator.setCacheTemplates(true);
+        if (args.length < 2) {
+            serve(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)), System.out);
+            return;
+        }
+        int port = Integer.parseInt(args[1]);
+        try (ServerSocket server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+            byte[] key = writeKey(server.getLocalPort()).getBytes(StandardCharsets.UTF_8);
+            System.out.println(Main.PROG_NAME + " listening on port " + server.getLocalPort());
+            while (true) {
+                try (Socket socket = server.accept()) {
+                    BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                    // So that a client that never sends anything does not hold up the others
+                    socket.setSoTimeout(10000);
+                    String clientKey = in.readLine();
+                    if (clientKey == null || !MessageDigest.isEqual(key, clientKey.getBytes(StandardCharsets.UTF_8))) {
+                        System.err.println("Turned away a connection that did not send the key.");
+                        continue;
+                    }
+                    socket.setSoTimeout(0);
+                    serve(in, socket.getOutputStream());
+                } catch (IOException e) {
+                    // The client went away. Never mind, on to the next one.
+                    System.err.println(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the file that the key for a daemon listening on the port is in
+     */
+    static Path keyFile(int port) {
+        return Paths.get(System.getProperty("user.home"), ".javacc", "daemon-" + port + ".key");
+    }
+
+    // Makes up a new key and writes it to the key file, which only the
+    // user can read, where the file system has POSIX permissions. 
+    // (Elsewhere, we count on the user's home directory not being readable
+    // by others.) The file is deleted when the daemon exits.
+    private static String writeKey(int port) throws IOException {
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        StringBuilder key = new StringBuilder();
+        for (byte b : bytes) {
+            key.append(String.format("%02x", b));
+        }
+        Path file = keyFile(port), dir = file.getParent();
+        boolean posix = dir.getFileSystem().supportedFileAttributeViews().contains("posix");
+        if (!Files.isDirectory(dir)) {
+            if (posix) {
+                Files.createDirectories(dir, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+            } else {
+                Files.createDirectories(dir);
+            }
+        }
+        // One left behind by a daemon that was killed
+        Files.deleteIfExists(file);
+        if (posix) {
+            Files.createFile(file, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } else {
+            Files.createFile(file);
+        }
+        file.toFile().deleteOnExit();
+        Files.write(file, key.toString().getBytes(StandardCharsets.UTF_8));
+        return key.toString();
+    }
+
+    static void serve(BufferedReader in, OutputStream out) throws IOException {
+        PrintStream reply = new PrintStream(out, true, "UTF-8");
+        PrintStream stdout = System.out, stderr = System.err;
+        for (String request; (request = in.readLine()) != null;) {
+            if (request.trim().isEmpty()) continue;
+            String[] fields = request.split("\t");
+            Path workingDir = Paths.get(fields[0]);
+            if (workingDir.equals(Paths.get("").toAbsolutePath())) {
+                // Leave relative paths as they are, since they end up in the generated code.
+                workingDir = Paths.get("");
+            }
+            String[] args = Arrays.copyOfRange(fields, 1, fields.length);
+            LinePrefixer outLines = new LinePrefixer(reply, OUT_PREFIX), errLines = new LinePrefixer(reply, ERR_PREFIX);
+            System.setOut(new PrintStream(outLines, true, "UTF-8"));
+            System.setErr(new PrintStream(errLines, true, "UTF-8"));
+            int exitCode;
+            try {
+                exitCode = Main.run(args, workingDir, false);
+            } catch (Exception | StackOverflowError e) {
+                e.printStackTrace();
+                exitCode = 1;
+            } finally {
+                System.out.flush();
+                System.err.flush();
+                System.setOut(stdout);
+                System.setErr(stderr);
+            }
+            outLines.finish();
+            errLines.finish();
+            reply.println(EXIT_PREFIX + exitCode);
+        }
+    }
+
+    /**
+     * Sends a request to a daemon listening on the port given as the
+     * second argument, and passes on the reply. If there is no daemon
+     * listening, or none that this user started, the parser is generated
+     * in this process.
+     * @return the exit code
+     */
+    static int client(String[] args) throws Exception {
+        if (args.length < 3) {
+            Main.usage();
+            return 1;
+        }
+        int port = Integer.parseInt(args[1]);
+        String[] generatorArgs = Arrays.copyOfRange(args, 2, args.length);
+        String key;
+        Socket socket;
+        try {
+            key = new String(Files.readAllBytes(keyFile(port)), StandardCharsets.UTF_8);
+            socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        } catch (NoSuchFileException | ConnectException e) {
+            return Main.run(generatorArgs, Paths.get(""), false);
+        }
+        try {
+            StringBuilder request = new StringBuilder(key).append('\n');
+            request.append(Paths.get("").toAbsolutePath());
+            for (String arg : generatorArgs) {
+                request.append('\t').append(arg);
+            }
+            request.append('\n');
+            OutputStream out = socket.getOutputStream();
+            out.write(request.toString().getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            socket.shutdownOutput();
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            for (String line; (line = in.readLine()) != null;) {
+                if (line.startsWith(EXIT_PREFIX)) {
+                    return Integer.parseInt(line.substring(EXIT_PREFIX.length()));
+                }
+                if (line.startsWith(ERR_PREFIX)) {
+                    System.err.println(line.substring(ERR_PREFIX.length()));
+                } else if (line.startsWith(OUT_PREFIX)) {
+                    System.out.println(line.substring(OUT_PREFIX.length()));
+                }
+            }
+            System.err.println("The generator on port " + port + " did not finish.");
+            return 1;
+        } finally {
+            socket.close();
+        }
+    }
+
+    // Writes each complete line that is output to the reply, with the prefix
+    private static class LinePrefixer extends OutputStream {
+        private final PrintStream reply;
+        private final String prefix;
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+        LinePrefixer(PrintStream reply, String prefix) {
+            this.reply = reply;
+            this.prefix = prefix;
+        }
+
+        public synchronized void write(int b) {
+            if (b == '\n') {
+                writeLine();
+            } else if (b != '\r') {
+                line.write(b);
+            }
+        }
+
+        synchronized void finish() {
+            if (line.size() > 0) writeLine();
+        }
+
+        private void writeLine() {
+            synchronized (reply) {
+                reply.print(prefix);
+                reply.write(line.toByteArray(), 0, line.size());
+                reply.println();
+            }
+            line.reset();
+        }
+    }
+}
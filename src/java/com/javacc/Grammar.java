@@ -44,6 +44,7 @@ import java.util.regex.*;
 
 import com.javacc.core.BNFProduction;
 import com.javacc.core.Expansion;
+import com.javacc.core.GrammarAnalysis;
 import com.javacc.core.LexerData;
 import com.javacc.core.Lookahead;
 import com.javacc.core.RegularExpression;
@@ -73,6 +74,7 @@ public class Grammar extends BaseNode {
     private Map<String, Object> settings = new HashMap<>();
     private CompilationUnit parserCode;
     private LexerData lexerData = new LexerData(this);
+    private GrammarAnalysis analysis = new GrammarAnalysis(this);
     private int includeNesting;
     private boolean inSyntaxConverter;
 
@@ -107,6 +109,8 @@ public class Grammar extends BaseNode {
 
     private Set<String> tokensOffByDefault = new LinkedHashSet<>();
 
+    private Set<String> packratProductions = new LinkedHashSet<>();
+
     private Map<String, String> extraTokens = new LinkedHashMap<>();
 
     private Set<RegexpStringLiteral> stringLiteralsToResolve = new HashSet<>();
@@ -121,6 +125,7 @@ public class Grammar extends BaseNode {
     private boolean quiet;
     private String codeLang;
     private Translator translator;
+    private FilesGenerator filesGenerator;
 
     public Grammar(Path outputDir, String codeLang, int jdkTarget, boolean quiet, Map<String, String> preprocessorSymbols) {
         this.outputDir = outputDir;
@@ -134,6 +139,30 @@ public class Grammar extends BaseNode {
 
     public boolean isQuiet() {return quiet;}
 
+    private int generatorThreads;
+
+    /**
+     * @return the number of threads used to generate the AST node 
+     * and token subclass files. If this was not set, it is the
+     * number of available processors.
+     */
+    public int getGeneratorThreads() {
+        return generatorThreads > 0 ? generatorThreads : Runtime.getRuntime().availableProcessors();
+    }
+
+    public void setGeneratorThreads(int generatorThreads) {this.generatorThreads = generatorThreads;}
+
+    private Path workingDir = Paths.get("");
+
+    /**
+     * @param workingDir the directory that relative INCLUDE locations are 
+     * tried against first, and that a relative BASE_SRC_DIR is taken to be in. This is the current directory unless the grammar
+     * is being processed on behalf of a client, see GeneratorDaemon.
+     */
+    public void setWorkingDir(Path workingDir) {this.workingDir = workingDir;}
+
+    public Path getWorkingDir() {return workingDir;}
+
     public boolean isInSyntaxConverter() {return inSyntaxConverter;}
 
     public void setInSyntaxConverter(boolean inSyntaxConverter) {this.inSyntaxConverter = inSyntaxConverter;}
@@ -198,7 +227,8 @@ public class Grammar extends BaseNode {
         Path canonicalPath = file.normalize();
         if (alreadyIncluded.contains(canonicalPath)) return null;
         else alreadyIncluded.add(canonicalPath);
-        JavaCCParser parser = new JavaCCParser(this, canonicalPath, preprocessorSymbols);
+        InputCache.Input input = InputCache.get(canonicalPath, preprocessorSymbols);
+        JavaCCParser parser = new JavaCCParser(this, canonicalPath.toString(), input.content, input.lineMarkers, input.scanMemo);
         parser.setEnterIncludes(enterIncludes);
         Path prevIncludedFileDirectory = includedFileDirectory;
         if (!isInInclude()) {
@@ -223,7 +253,7 @@ public class Grammar extends BaseNode {
     }
 
     private Path resolveLocation(String location) {
-        Path path = Paths.get(location);
+        Path path = workingDir.resolve(location);
         if (Files.exists(path)) return path;
         if (!path.isAbsolute()) {
             path = filename.getParent();
@@ -297,6 +327,7 @@ public class Grammar extends BaseNode {
         if (location.toLowerCase().endsWith(".java") || location.toLowerCase().endsWith(".jav")) {
             Path includeFile = Paths.get(location);
             String content = new String(Files.readAllBytes(path),Charset.forName("UTF-8"));
+            alreadyIncluded.add(path.normalize());
             CompilationUnit cu = JavaCCParser.parseJavaFile(includeFile.normalize().toString(), content);
             codeInjections.add(cu);
             return cu;
@@ -315,8 +346,27 @@ public class Grammar extends BaseNode {
         }
     }
 
+    /**
+     * @return the grammar file and all the files that it INCLUDEs
+     */
+    public Set<Path> getIncludedFiles() {
+        return Collections.unmodifiableSet(alreadyIncluded);
+    }
+
+    public Map<String, String> getPreprocessorSymbols() {
+        return Collections.unmodifiableMap(preprocessorSymbols);
+    }
+
+    /**
+     * @return whether the files generated the last time are still 
+     * up to date, in which case there is no need to generate them again.
+     */
+    public boolean generatedFilesAreUpToDate() throws IOException {
+        return getFilesGenerator().isUpToDate();
+    }
+
     public void createOutputDir() {
-        Path outputDir = Paths.get(".");
+        Path outputDir = workingDir.resolve(".");
         if (!Files.isWritable(outputDir)) {
             addError(null, "Cannot write to the output directory : \"" + outputDir + "\"");
         }
@@ -355,13 +405,24 @@ public class Grammar extends BaseNode {
 
     public void generateFiles() throws IOException, TemplateException {
         translator = Translator.getTranslatorFor(this);
-        new FilesGenerator(this, codeLang, codeInjections).generateAll();
+        getFilesGenerator().generateAll();
+    }
+
+    private FilesGenerator getFilesGenerator() {
+        if (filesGenerator == null) {
+            filesGenerator = new FilesGenerator(this, codeLang, codeInjections);
+        }
+        return filesGenerator;
     }
 
     public LexerData getLexerData() {
         return lexerData;
     }
 
+    public GrammarAnalysis getAnalysis() {
+        return analysis;
+    }
+
     public String getConstantsClassName() {
         if (constantsClassName == null) {
             constantsClassName = (String) settings.get("CONSTANTS_CLASS");
@@ -430,6 +491,29 @@ public class Grammar extends BaseNode {
         return lexerClassName;
     }
 
+    public String getVisitorClassName() {
+        String visitorClassName = (String) settings.get("VISITOR_CLASS");
+        return visitorClassName != null ? visitorClassName : getBaseName() + "Visitor";
+    }
+
+    /**
+     * The production that the generated batch parser calls for each input, 
+     * as set by BATCH_PRODUCTION, or null if it is not set, in which case 
+     * the batch parser is not generated.
+     */
+    public BNFProduction getBatchProduction() {
+        String name = (String) settings.get("BATCH_PRODUCTION");
+        return name == null || !"java".equals(codeLang) ? null : getProductionByName(name);
+    }
+
+    public String getBatchParserClassName() {
+        String parserClassName = getParserClassName();
+        if (parserClassName.endsWith("Parser")) {
+            return parserClassName.substring(0, parserClassName.length() - 6) + "BatchParser";
+        }
+        return parserClassName + "Batch";
+    }
+
     public String getNfaDataClassName() {
         String lexerClassName = getLexerClassName();
         if (lexerClassName.contains("Lexer")) {
@@ -1173,6 +1257,156 @@ public class Grammar extends BaseNode {
         return b != null && b;
     }
 
+    public boolean getCompactTokenIndex() {
+        Boolean b = (Boolean) settings.get("COMPACT_TOKEN_INDEX");
+        return (b != null && b) || getStreamingLexer();
+    }
+
+    /**
+     * The streaming lexer needs to see the input in a single
+     * forward pass, so it does not combine with the preprocessor
+     * or C-style continuation lines, which work on the whole input.
+     */
+    public boolean getStreamingLexer() {
+        Boolean b = (Boolean) settings.get("STREAMING_LEXER");
+        return b != null && b && "java".equals(codeLang) 
+               && !getUsePreprocessor() && !getCppContinuationLine();
+    }
+
+    /**
+     * With COMPACT_NODES, the child nodes are kept in an array 
+     * that is trimmed to size when the node is closed, rather than
+     * in an ArrayList.
+     */
+    public boolean getCompactNodes() {
+        Boolean b = (Boolean) settings.get("COMPACT_NODES");
+        return b != null && b && "java".equals(codeLang);
+    }
+
+    /**
+     * With INCREMENTAL_PARSING, the generated lexer and parser can bring
+     * the tokens and the tree up to date after an edit to the input, 
+     * rather than lexing and parsing the whole thing again. This needs the 
+     * full token location table, so it does not combine with COMPACT_TOKEN_INDEX
+     * (or the streaming lexer) and it does not combine with the preprocessor or
+     * C-style continuation lines, since an edit can change which parts of 
+     * the input those leave out.
+     */
+    public boolean getIncrementalParsing() {
+        Boolean b = (Boolean) settings.get("INCREMENTAL_PARSING");
+        return b != null && b && "java".equals(codeLang) && getTreeBuildingEnabled()
+               && !getCompactTokenIndex() && !getUsePreprocessor() && !getCppContinuationLine();
+    }
+
+    /**
+     * The productions that the generated parser can re-enter to reparse 
+     * a node after an edit. These are the ones that take no parameters and 
+     * declare no exceptions, and that are the only place where nodes of 
+     * their type get built.
+     */
+    public List<BNFProduction> getReparseableProductions() {
+        Map<String, Integer> nodeNameCounts = new HashMap<>();
+        for (BNFProduction production : getParserProductions()) {
+            if (buildsNode(production)) {
+                nodeNameCounts.merge(production.getNodeName(), 1, Integer::sum);
+            }
+        }
+        for (TreeBuildingAnnotation tba : descendants(TreeBuildingAnnotation.class)) {
+            String nodeName = tba.getNodeName();
+            if (nodeName != null && !(tba.getParent() instanceof BNFProduction)) {
+                nodeNameCounts.merge(nodeName, 1, Integer::sum);
+            }
+        }
+        List<BNFProduction> result = new ArrayList<>();
+        for (BNFProduction production : getParserProductions()) {
+            if (!buildsNode(production) || production.getNodeName().indexOf('.') >= 0) continue;
+            FormalParameters params = production.getParameterList();
+            if (params != null && !params.getParams().isEmpty()) continue;
+            ThrowsList throwsList = production.getThrowsList();
+            if (throwsList != null && !throwsList.getTypes().isEmpty()) continue;
+            if (nodeNameCounts.get(production.getNodeName()) == 1) {
+                result.add(production);
+            }
+        }
+        return result;
+    }
+
+    private boolean buildsNode(BNFProduction production) {
+        if (production.isOnlyForLookahead()) return false;
+        TreeBuildingAnnotation tba = production.getTreeBuildingAnnotation();
+        return tba == null ? !getNodeDefaultVoid() : !tba.isNeverInstantiated();
+    }
+
+    /**
+     * With PARSER_POOL, the generated parser has static acquire methods and 
+     * a release method, so that parsers can be reused (via reset) from 
+     * a pool that each thread keeps, rather than created for every input.
+     */
+    public boolean getParserPool() {
+        Boolean b = (Boolean) settings.get("PARSER_POOL");
+        return b != null && b && "java".equals(codeLang);
+    }
+
+    /**
+     * With MEMORY_MAPPED_INPUT, a parser (or lexer) made from a Path reads
+     * the characters straight from the memory-mapped file, rather than 
+     * decoding it into a String first. As with a String, the content can be 
+     * read from several threads at once, so the tokens of a finished tree
+     * can be looked at in parallel. The file must not be changed while
+     * the parser or the tree is in use.
+     */
+    public boolean getMemoryMappedInput() {
+        Boolean b = (Boolean) settings.get("MEMORY_MAPPED_INPUT");
+        return b != null && b && "java".equals(codeLang);
+    }
+
+    /**
+     * With INTERN_TOKEN_IMAGES, the lexer keeps one String per token type 
+     * and text, so that tokens with the same text (identifiers, typically)
+     * do not each make a new String. The image is looked up as the token is 
+     * created and kept on it (even with MINIMAL_TOKEN), so getting it later 
+     * is read-only and can be done from any thread.
+     */
+    public boolean getInternTokenImages() {
+        Boolean b = (Boolean) settings.get("INTERN_TOKEN_IMAGES");
+        return b != null && b && "java".equals(codeLang);
+    }
+
+    /**
+     * Is the outcome of scanning ahead for this production memoized?
+     * PACKRAT_LOOKAHEAD turns this on for every production whose lookahead
+     * depends on the input alone. The productions listed in PACKRAT_PRODUCTIONS 
+     * are memoized regardless, so that is the way to opt in productions 
+     * with semantic lookahead that is known to only look at the input.
+     */
+    public boolean isPackratProduction(BNFProduction production) {
+        if (!"java".equals(codeLang)) return false;
+        if (packratProductions.contains(production.getName())) return true;
+        Boolean b = (Boolean) settings.get("PACKRAT_LOOKAHEAD");
+        return b != null && b && !production.isScanContextDependent();
+    }
+
+    public boolean getPackratLookahead() {
+        if (!"java".equals(codeLang)) return false;
+        Boolean b = (Boolean) settings.get("PACKRAT_LOOKAHEAD");
+        return (b != null && b) || !packratProductions.isEmpty();
+    }
+
+    public int getStreamingHorizon() {
+        Integer i = (Integer) settings.get("STREAMING_HORIZON");
+        return i == null ? 0x10000 : i;
+    }
+
+    public boolean getLexerDfa() {
+        Boolean b = (Boolean) settings.get("LEXER_DFA");
+        return b != null && b && "java".equals(codeLang);
+    }
+
+    public int getDfaSizeLimit() {
+        Integer i = (Integer) settings.get("DFA_SIZE_LIMIT");
+        return i == null ? 0x40000 : i;
+    }
+
     public int getTabSize() {
         Integer i = (Integer) settings.get("TAB_SIZE");
         if (i==null) {
@@ -1223,6 +1457,12 @@ public class Grammar extends BaseNode {
                     tokensOffByDefault.add(tokenName);
                 }
             }
+            else if (key.equals("PACKRAT_PRODUCTIONS")) {
+                String productions = (String) settings.get(key);
+                for (StringTokenizer st = new StringTokenizer(productions, ", \t\n\r"); st.hasMoreTokens();) {
+                    packratProductions.add(st.nextToken());
+                }
+            }
             else if (key.equals("EXTRA_TOKENS")) {
                 String tokens = (String) settings.get(key);
                 for (StringTokenizer st = new StringTokenizer(tokens, ",\r\n"); st.hasMoreTokens();) {
@@ -1259,9 +1499,9 @@ public class Grammar extends BaseNode {
         }
     }
     private int jdkTarget = 8;
-    private String booleanSettings = ",FAULT_TOLERANT,PRESERVE_TABS,PRESERVE_LINE_ENDINGS,JAVA_UNICODE_ESCAPE,IGNORE_CASE,LEXER_USES_PARSER,NODE_DEFAULT_VOID,SMART_NODE_CREATION,NODE_USES_PARSER,TREE_BUILDING_DEFAULT,TREE_BUILDING_ENABLED,TOKENS_ARE_NODES,SPECIAL_TOKENS_ARE_NODES,UNPARSED_TOKENS_ARE_NODES,FREEMARKER_NODES,NODE_FACTORY,TOKEN_MANAGER_USES_PARSER,ENSURE_FINAL_EOL,MINIMAL_TOKEN,C_CONTINUATION_LINE,USE_PREPROCESSOR,USE_CHECKED_EXCEPTION,LEGACY_GLITCHY_LOOKAHEAD,BASE_NODE_IN_PARSER_PACKAGE,";
-    private String stringSettings = ",BASE_NAME,PARSER_PACKAGE,PARSER_CLASS,LEXER_CLASS,CONSTANTS_CLASS,BASE_SRC_DIR,BASE_NODE_CLASS,NODE_PREFIX,NODE_CLASS,NODE_PACKAGE,DEFAULT_LEXICAL_STATE,NODE_CLASS,OUTPUT_DIRECTORY,DEACTIVATE_TOKENS,TURN_OFF_TOKENS,EXTRA_TOKENS,";
-    private String integerSettings = ",TAB_SIZE,TABS_TO_SPACES,JDK_TARGET,";
+    private String booleanSettings = ",FAULT_TOLERANT,PRESERVE_TABS,PRESERVE_LINE_ENDINGS,JAVA_UNICODE_ESCAPE,IGNORE_CASE,LEXER_USES_PARSER,NODE_DEFAULT_VOID,SMART_NODE_CREATION,NODE_USES_PARSER,TREE_BUILDING_DEFAULT,TREE_BUILDING_ENABLED,TOKENS_ARE_NODES,SPECIAL_TOKENS_ARE_NODES,UNPARSED_TOKENS_ARE_NODES,FREEMARKER_NODES,NODE_FACTORY,TOKEN_MANAGER_USES_PARSER,ENSURE_FINAL_EOL,MINIMAL_TOKEN,C_CONTINUATION_LINE,USE_PREPROCESSOR,USE_CHECKED_EXCEPTION,LEGACY_GLITCHY_LOOKAHEAD,BASE_NODE_IN_PARSER_PACKAGE,LEXER_DFA,COMPACT_TOKEN_INDEX,STREAMING_LEXER,MEMORY_MAPPED_INPUT,PACKRAT_LOOKAHEAD,INTERN_TOKEN_IMAGES,COMPACT_NODES,INCREMENTAL_PARSING,PARSER_POOL,";
+    private String stringSettings = ",BASE_NAME,PARSER_PACKAGE,PARSER_CLASS,LEXER_CLASS,CONSTANTS_CLASS,VISITOR_CLASS,BASE_SRC_DIR,BASE_NODE_CLASS,NODE_PREFIX,NODE_CLASS,NODE_PACKAGE,DEFAULT_LEXICAL_STATE,NODE_CLASS,OUTPUT_DIRECTORY,DEACTIVATE_TOKENS,TURN_OFF_TOKENS,EXTRA_TOKENS,PACKRAT_PRODUCTIONS,BATCH_PRODUCTION,";
+    private String integerSettings = ",TAB_SIZE,TABS_TO_SPACES,JDK_TARGET,DFA_SIZE_LIMIT,STREAMING_HORIZON,";
 
     public boolean isASetting(String key) {
         return booleanSettings.contains("," + key + ",")
@@ -1319,10 +1559,44 @@ public class Grammar extends BaseNode {
                 addWarning(null, msg.replace("OPTION_NAME", "NODE_USES_PARSER"));
             }
         }
+        if (Boolean.TRUE.equals(settings.get("INCREMENTAL_PARSING"))) {
+            String msg = "You have specified the INCREMENTAL_PARSING option but it cannot "
+                    + "be used together with OPTION_NAME, so it will be ignored.\n";
+            if (Boolean.TRUE.equals(settings.get("COMPACT_TOKEN_INDEX"))) {
+                addWarning(null, msg.replace("OPTION_NAME", "COMPACT_TOKEN_INDEX"));
+            }
+            if (Boolean.TRUE.equals(settings.get("STREAMING_LEXER"))) {
+                addWarning(null, msg.replace("OPTION_NAME", "STREAMING_LEXER"));
+            }
+            if (getUsePreprocessor()) {
+                addWarning(null, msg.replace("OPTION_NAME", "USE_PREPROCESSOR"));
+            }
+            if (getCppContinuationLine()) {
+                addWarning(null, msg.replace("OPTION_NAME", "C_CONTINUATION_LINE"));
+            }
+            if (!getTreeBuildingEnabled()) {
+                addWarning(null, msg.replace("OPTION_NAME", "TREE_BUILDING_ENABLED=false"));
+            }
+        }
+        if (Boolean.TRUE.equals(settings.get("STREAMING_LEXER"))) {
+            String msg = "You have specified the STREAMING_LEXER option but it cannot "
+                    + "be used together with OPTION_NAME, so it will be ignored.\n";
+            if (getUsePreprocessor()) {
+                addWarning(null, msg.replace("OPTION_NAME", "USE_PREPROCESSOR"));
+            }
+            if (getCppContinuationLine()) {
+                addWarning(null, msg.replace("OPTION_NAME", "C_CONTINUATION_LINE"));
+            }
+        }
     }
 
     private final Utils utils = new Utils();
     private List<String> nodeVariableNameStack = new ArrayList<>();
+    // The classes of the nodes on the nodeVariableNameStack
+    private List<String> nodeClassNameStack = new ArrayList<>();
+    // For each node class, the names of the named children and named 
+    // child lists that the generated parser sets on it
+    private Map<String, Set<String>> namedChildNames = new HashMap<>(), namedChildListNames = new HashMap<>();
 
     public Utils getUtils() {return utils;}
 
@@ -1330,10 +1604,37 @@ public class Grammar extends BaseNode {
 
         public void pushNodeVariableName(String jjtThis) {
             nodeVariableNameStack.add(jjtThis);
+            nodeClassNameStack.add(null);
         }
 
         public void popNodeVariableName() {
             nodeVariableNameStack.remove(nodeVariableNameStack.size() - 1);
+            nodeClassNameStack.remove(nodeClassNameStack.size() - 1);
+        }
+
+        public void setCurrentNodeClassName(String className) {
+            nodeClassNameStack.set(nodeClassNameStack.size() - 1, className);
+        }
+
+        /**
+         * Called from the parser template where it sets a named child
+         * on the current node, so that the node class can be generated
+         * with a field to hold it.
+         */
+        public void addNamedChild(String name, boolean multiple) {
+            if (nodeClassNameStack.isEmpty()) return;
+            String className = nodeClassNameStack.get(nodeClassNameStack.size() - 1);
+            if (className == null) return;
+            Map<String, Set<String>> names = multiple ? namedChildListNames : namedChildNames;
+            names.computeIfAbsent(className, k -> new TreeSet<>()).add(name);
+        }
+
+        public List<String> getNamedChildNames(String className) {
+            return new ArrayList<>(namedChildNames.getOrDefault(className, Collections.emptySet()));
+        }
+
+        public List<String> getNamedChildListNames(String className) {
+            return new ArrayList<>(namedChildListNames.getOrDefault(className, Collections.emptySet()));
         }
 
         private Map<String, String> id_map = new HashMap<String, String>();
@@ -1410,6 +1711,19 @@ public class Grammar extends BaseNode {
             return Arrays.copyOf(longs, numLongs);
         }
 
+        /**
+         * Splits a list into sublists of at most chunkSize elements.
+         * Used to spread the initialization of large arrays over 
+         * several methods and thus avoid the "code too large" problem.
+         */
+        public <T> List<List<T>> chunk(List<T> list, int chunkSize) {
+            List<List<T>> result = new ArrayList<>();
+            for (int i = 0; i < list.size(); i += chunkSize) {
+                result.add(list.subList(i, Math.min(i + chunkSize, list.size())));
+            }
+            return result;
+        }
+
         public String codePointAsString(int ch) {
             return new String(new int[]{ch}, 0, 1);
         }
@@ -1896,5 +2210,78 @@ public class Grammar extends BaseNode {
             result.remove(0); // The bnn value
             return result;
         }
+
+        /**
+         * Used in the template for the generated visitor. The Token and 
+         * Node classes that get a visit method, each mapped to what its default
+         * visit method passes the node on to: "interfaces" is the list of the
+         * Node interfaces that the class implements, and "superclass" is its
+         * superclass, or the empty string if it has none that is a Node class,
+         * in which case it ends up just going into the children. That is the 
+         * order that Node.Visitor looks for a visit method in. For an interface,
+         * "interface" is true, and the lists are empty, since Node.Visitor 
+         * does not look in the superinterfaces of an interface.
+         */
+        public Map<String, Map<String, Object>> getVisitorClassInfo() {
+            CodeInjector injector = getInjector();
+            Map<String, String> superClasses = new TreeMap<>();
+            superClasses.put("Token", "");
+            @SuppressWarnings("unchecked")
+            Map<String, String> tokenClassMap = (Map<String, String>) tokenSubClassInfo().get("tokenClassMap");
+            for (String tokenClassName : tokenClassMap.keySet()) {
+                String superClassName = tokenClassMap.get(tokenClassName);
+                superClasses.put(tokenClassName, tokenClassMap.containsKey(superClassName) ? superClassName : "Token");
+            }
+            for (String tokenClassName : getExtraTokenClassNames()) {
+                superClasses.putIfAbsent(tokenClassName, "Token");
+            }
+            Set<String> nodeClassNames = new HashSet<>(), interfaceNames = new HashSet<>();
+            for (String nodeName : getNodeNames()) {
+                if (nodeName.indexOf('.') >= 0) continue;
+                String className = getNodeClassName(nodeName);
+                nodeClassNames.add(className);
+                if (nodeIsInterface(nodeName)) interfaceNames.add(className);
+            }
+            for (String className : nodeClassNames) {
+                String superClassName = null;
+                if (!interfaceNames.contains(className)) {
+                    String qualifiedName = getNodePackage() + "." + className;
+                    superClassName = firstNodeClass(injector.getExtendsList(qualifiedName), nodeClassNames);
+                }
+                superClasses.put(className, superClassName == null ? "" : superClassName);
+            }
+            Map<String, Map<String, Object>> result = new TreeMap<>();
+            for (String className : superClasses.keySet()) {
+                List<String> interfaces = new ArrayList<>();
+                boolean isInterface = interfaceNames.contains(className);
+                if (!isInterface && !className.equals("Token")) {
+                    List<ObjectType> implementsList = injector.getImplementsList(getNodePackage() + "." + className);
+                    if (implementsList != null) {
+                        for (ObjectType type : implementsList) {
+                            String name = firstNodeClass(Collections.singletonList(type), interfaceNames);
+                            if (name != null && !interfaces.contains(name)) interfaces.add(name);
+                        }
+                    }
+                }
+                Map<String, Object> info = new HashMap<>();
+                info.put("interface", isInterface);
+                info.put("interfaces", interfaces);
+                info.put("superclass", superClasses.get(className));
+                result.put(className, info);
+            }
+            return result;
+        }
+
+        private String firstNodeClass(List<ObjectType> types, Set<String> nodeClassNames) {
+            if (types != null) {
+                for (ObjectType type : types) {
+                    String name = type.toString();
+                    if (name.indexOf('<') > 0) name = name.substring(0, name.indexOf('<'));
+                    name = lastPart(name, '.').trim();
+                    if (nodeClassNames.contains(name)) return name;
+                }
+            }
+            return null;
+        }
     }
 }
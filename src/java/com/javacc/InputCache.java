@@ -0,0 +1,132 @@
+/* Copyright (c) 2008-2021 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.javacc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.javacc.parser.JavaCCLexer;
+import com.javacc.preprocessor.PreprocessorParser;
+
+/**
+ * Keeps the grammar files that have been read, decoded, along with
+ * which of their lines the preprocessor leaves in and what lexing them
+ * found, so that a grammar that INCLUDEs the same file as the last one
+ * (the big Unicode tables in the XXXIdentifierDef files, say) does not
+ * have to do that all over again. This pays off when the generator keeps
+ * running, as it does in daemon mode. An entry is only used if the path,
+ * the hash of the bytes in the file and the preprocessor symbols are all
+ * the same.
+ * <p>
+ * The tree is not kept, only what goes into building it. Parsing a file
+ * registers its productions, lexical states and so on with the Grammar it
+ * is being read into, and the nodes get modified after that, so each
+ * Grammar has to have a tree of its own. For the same reason, the tokens
+ * themselves are not kept, only where each one is and what type it is
+ * (see JavaCCLexer.ScanMemo).
+ */
+class InputCache {
+
+    private static final int MAX_ENTRIES = 64;
+
+    // The least recently used entry is dropped when there are too many.
+    private static final Map<Path, Input> cache = new LinkedHashMap<Path, Input>(16, 0.75f, true) {
+        protected boolean removeEldestEntry(Map.Entry<Path, Input> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * A grammar file ready to be parsed
+     */
+    static class Input {
+        private final byte[] digest;
+        private final Map<String, String> preprocessorSymbols;
+        final String content;
+        final BitSet lineMarkers;
+        // What lexing the content has found so far
+        final JavaCCLexer.ScanMemo scanMemo;
+
+        private Input(byte[] digest, Map<String, String> preprocessorSymbols, String content, BitSet lineMarkers) {
+            this.digest = digest;
+            this.preprocessorSymbols = preprocessorSymbols;
+            this.content = content;
+            this.lineMarkers = lineMarkers;
+            this.scanMemo = new JavaCCLexer.ScanMemo(content.length());
+        }
+    }
+
+    /**
+     * @param file the grammar file
+     * @param preprocessorSymbols the symbols that are defined
+     * @return the content of the file and the lines that the preprocessor leaves in,
+     * from the cache if the file has not changed since it was last read
+     */
+    static Input get(Path file, Map<String, String> preprocessorSymbols) throws IOException {
+        Path key = file.toAbsolutePath().normalize();
+        byte[] bytes = Files.readAllBytes(file);
+        byte[] digest = digest(bytes);
+        synchronized (cache) {
+            Input input = cache.get(key);
+            if (input != null && MessageDigest.isEqual(input.digest, digest)
+                    && input.preprocessorSymbols.equals(preprocessorSymbols)) {
+                return input;
+            }
+        }
+        String content = JavaCCLexer.stringFromBytes(bytes);
+        BitSet lineMarkers;
+        try {
+            lineMarkers = new PreprocessorParser(content, preprocessorSymbols).PP_Root();
+        } catch (com.javacc.preprocessor.ParseException pe) {
+            throw new RuntimeException(pe);
+        }
+        Input input = new Input(digest, new HashMap<>(preprocessorSymbols), content, lineMarkers);
+        synchronized (cache) {
+            cache.put(key, input);
+        }
+        return input;
+    }
+
+    private static byte[] digest(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to have SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -179,6 +179,15 @@ public final class Main {
         System.out.println(" -p                Define one or more comma-separated (no spaces) symbols to pass to the preprocessor.");
         System.out.println("   For example:   -p debug,strict");
         System.out.println(" -q                Quieter output");
+        System.out.println(" -threads <n>      The number of threads used to generate the AST node files");
+        System.out.println("                     (the default is the number of available processors)");
+        System.out.println();
+        System.out.println("To keep a generator running, so that repeated builds don't pay for the JVM start-up each time:");
+        System.out.println("     java -jar " + jarFileName + " daemon [port]");
+        System.out.println("   Without a port, requests are read from standard input. With one, they are taken");
+        System.out.println("   on that port of the loopback address, from clients that send the key the daemon");
+        System.out.println("   writes to ~/.javacc/daemon-<port>.key, and can be sent with:");
+        System.out.println("     java -jar " + jarFileName + " client port [flags] grammarfile");
         System.out.println();
         System.out.println("There is now a syntax converter available that can be run with:");
         System.out.println("     java -jar " + jarFileName + " convert grammarfile");
@@ -206,11 +215,29 @@ public final class Main {
             checkForNewer();
             System.exit(1);
         }
+        if (args[0].equalsIgnoreCase("daemon")) {
+            GeneratorDaemon.main(args);
+            System.exit(0);
+        }
+        if (args[0].equalsIgnoreCase("client")) {
+            System.exit(GeneratorDaemon.client(args));
+        }
+        System.exit(run(args, Paths.get(""), true));
+    }
+
+    /**
+     * Runs the generator with the arguments as given on the command line.
+     * @param workingDir the directory that relative paths are resolved against
+     * @param interactive whether we can ask the user whether to download a newer version
+     * @return error code
+     */
+    static int run(String[] args, Path workingDir, boolean interactive) throws IOException, ParseException, TemplateException {
         Path grammarFile = null, outputDirectory = null;
         String codeLang = "java";
         int jdkTarget = 0;
         Map<String, String> preprocessorSymbols = new HashMap<>();
         boolean quiet = false, noNewerCheck = false;
+        int generatorThreads = 0;
         for (int i=0; i<args.length;i++) {
             String arg = args[i];
             if (arg.charAt(0) == '-') {
@@ -218,7 +245,7 @@ public final class Main {
                 if (arg.equalsIgnoreCase("-p")) {
                     if (i==args.length-1) {
                         System.err.println("-p flag with no preprocessor symbols afterwards");
-                        System.exit(-1);
+                        return -1;
                     }
                     String symbols = args[++i];
                     StringTokenizer st = new StringTokenizer(symbols, ",");
@@ -228,7 +255,7 @@ public final class Main {
 
                         if (!m.find()) {
                             System.err.println(String.format("-p flag with invalid argument '%s'", s));
-                            System.exit(-1);
+                            return -1;
                         }
                         String name = m.group(1);
                         String value = m.group(4);
@@ -241,9 +268,9 @@ public final class Main {
                 else if (arg.equalsIgnoreCase("-d")) {
                     if (i==args.length-1) {
                         System.err.println("-d flag with no output directory");
-                        System.exit(-1);
+                        return -1;
                     }
-                    outputDirectory = Paths.get(args[++i]);
+                    outputDirectory = workingDir.resolve(args[++i]);
                 }
                 else if (arg.equalsIgnoreCase("-n")) {
                     noNewerCheck = true;
@@ -251,25 +278,37 @@ public final class Main {
                 else if (arg.equalsIgnoreCase("-q") || arg.equalsIgnoreCase("-quiet")) {
                     quiet = true;
                 }
+                else if (arg.equalsIgnoreCase("-threads")) {
+                    if (i==args.length-1) {
+                        System.err.println("-threads flag with no number of threads");
+                        return -1;
+                    }
+                    try {
+                        generatorThreads = Integer.parseInt(args[++i]);
+                    } catch (NumberFormatException nfe) {
+                        System.err.println("Expecting a number after -threads");
+                        return -1;
+                    }
+                }
                 else if (arg.toLowerCase().equals("-lang")) {
                     String candidate = args[++i];
 
                     if (!candidate.equals("java")) {
                         if (!Arrays.asList(otherSupportedLanguages).contains(candidate.toLowerCase())) {
                             System.err.println(String.format("Not a supported code generation language: '%s'", candidate));
-                            System.exit(-1);
+                            return -1;
                         }
                         codeLang = candidate.toLowerCase();
                         if (jdkTarget != 0) {
                             System.err.println("The -jdk flag is only compatible with a Java target.");
-                            System.exit(-1);
+                            return -1;
                         }
                     }
                 }
                 else if (arg.toLowerCase().startsWith("-jdk")) {
                     if (!codeLang.equals("java")) {
                         System.err.println("The -jdk flag is only compatible with a Java target.");
-                        System.exit(-1);
+                        return -1;
                     }
                     String number = arg.substring(4);
                     try {
@@ -286,10 +325,10 @@ public final class Main {
                 }
             } else {
                 if (grammarFile == null) {
-                    grammarFile = Paths.get(arg);
+                    grammarFile = workingDir.resolve(arg);
                     if (!Files.exists(grammarFile)) {
                         System.err.println("File " + grammarFile + " does not exist!");
-                        System.exit(-1);
+                        return -1;
                     }
                 }
                 else {
@@ -297,32 +336,31 @@ public final class Main {
                 }
             }
         }
-        if (!noNewerCheck) {
+        if (!noNewerCheck && interactive) {
             checkForNewer();
         }
         if (grammarFile == null) {
             System.err.println("No input file specified");
-            System.exit(-1);
+            return -1;
         }
         if (!Files.exists(grammarFile)) {
             System.err.println("File " + grammarFile + " does not exist!");
-            System.exit(-1);
+            return -1;
         }
         if (outputDirectory !=null) {
             if (!Files.exists(outputDirectory)) {
                 try {Files.createDirectories(outputDirectory);}
                 catch (IOException ioe) {
                     System.err.println("Cannot create directory " + outputDirectory);
-                    System.exit(-1);
+                    return -1;
                 }
                 if (!Files.isWritable(outputDirectory)) {
                     System.err.println("Cannot write to directory " + outputDirectory);
-                    System.exit(-1);
+                    return -1;
                 }
             }
         }
-        int errorcode = mainProgram(grammarFile, outputDirectory, codeLang, jdkTarget, quiet, preprocessorSymbols);
-        System.exit(errorcode);
+        return mainProgram(grammarFile, outputDirectory, codeLang, jdkTarget, quiet, preprocessorSymbols, generatorThreads, workingDir);
     }
 
     /**
@@ -334,9 +372,25 @@ public final class Main {
      */
 
     public static int mainProgram(Path grammarFile, Path outputDir, String codeLang, int jdkTarget, boolean quiet, Map<String, String> symbols)
+      throws IOException, ParseException, TemplateException {
+        return mainProgram(grammarFile, outputDir, codeLang, jdkTarget, quiet, symbols, 0);
+    }
+
+    /**
+     * @param generatorThreads The number of threads used to generate the AST node files.
+     * If this is 0, the number of available processors is used.
+     */
+    public static int mainProgram(Path grammarFile, Path outputDir, String codeLang, int jdkTarget, boolean quiet, Map<String, String> symbols, int generatorThreads)
+      throws IOException, ParseException, TemplateException {
+        return mainProgram(grammarFile, outputDir, codeLang, jdkTarget, quiet, symbols, generatorThreads, Paths.get(""));
+    }
+
+    static int mainProgram(Path grammarFile, Path outputDir, String codeLang, int jdkTarget, boolean quiet, Map<String, String> symbols, int generatorThreads, Path workingDir)
       throws IOException, ParseException, TemplateException {
         if (!quiet) bannerLine();
         Grammar grammar = new Grammar(outputDir, codeLang, jdkTarget, quiet, symbols);
+        grammar.setGeneratorThreads(generatorThreads);
+        grammar.setWorkingDir(workingDir);
         grammar.parse(grammarFile, true);
         grammar.createOutputDir();
         grammar.doSanityChecks();
@@ -344,6 +398,11 @@ public final class Main {
             outputErrors(grammar, quiet);
             return 1;
         }
+        if (grammar.generatedFilesAreUpToDate()) {
+            if (!quiet) System.out.println("The generated files are up to date.");
+            outputErrors(grammar, quiet);
+            return 0;
+        }
         grammar.generateLexer();
         if (grammar.getErrorCount() > 0) {
             outputErrors(grammar, quiet);
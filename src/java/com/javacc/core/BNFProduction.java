@@ -28,6 +28,8 @@
 
 package com.javacc.core;
 
+import java.util.*;
+
 import com.javacc.parser.BaseNode;
 import com.javacc.parser.Token;
 import com.javacc.parser.tree.*;
@@ -37,6 +39,7 @@ public class BNFProduction extends BaseNode {
     private Expansion expansion, recoveryExpansion;
     private String lexicalState, name, leadingComments = "";
     private boolean implicitReturnType;
+    private Boolean scanContextDependent;
     
     public Expansion getExpansion() {
         return expansion;
@@ -100,7 +103,7 @@ public class BNFProduction extends BaseNode {
      * Can this production be matched by an empty string?
      */
     public boolean isPossiblyEmpty() {
-        return getExpansion().isPossiblyEmpty();
+        return getGrammar().getAnalysis().isPossiblyEmpty(this);
     }
 
     public boolean isOnlyForLookahead() {
@@ -112,6 +115,60 @@ public class BNFProduction extends BaseNode {
         return getGrammar().generateIdentifierPrefix("check") + name;
     }
 
+    public boolean isPackratLookahead() {
+        return getGrammar().isPackratProduction(this);
+    }
+
+    /**
+     * Does scanning ahead through this production, or any production 
+     * it refers to, run any code, i.e. semantic lookahead, lookbehind, 
+     * assertions, or code blocks that apply in lookahead? If so, 
+     * the outcome of the scan depends on more than just the input.
+     */
+    public boolean isScanContextDependent() {
+        if (scanContextDependent == null) {
+            scanContextDependent = false;
+            Set<BNFProduction> visited = new HashSet<>();
+            List<BNFProduction> pending = new ArrayList<>();
+            visited.add(this);
+            pending.add(this);
+            while (!pending.isEmpty()) {
+                BNFProduction production = pending.remove(pending.size() - 1);
+                if (production.runsCodeInLookahead()) {
+                    scanContextDependent = true;
+                    break;
+                }
+                for (NonTerminal nt : production.descendants(NonTerminal.class)) {
+                    BNFProduction referenced = nt.getProduction();
+                    if (referenced != null && visited.add(referenced)) {
+                        pending.add(referenced);
+                    }
+                }
+            }
+        }
+        return scanContextDependent;
+    }
+
+    private boolean runsCodeInLookahead() {
+        for (Expansion exp : descendants(Expansion.class)) {
+            if (exp.getHasSemanticLookahead() || exp.getHasLookBehind()) return true;
+            if (exp instanceof Assertion && ((Assertion) exp).getAssertionExpression() != null) return true;
+            if (exp instanceof CodeBlock) {
+                CodeBlock block = (CodeBlock) exp;
+                if (block.isAppliesInLookahead() || block.isInsideLookahead() || isOnlyForLookahead()) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The name of the method that actually scans ahead
+     * when the lookahead method itself just consults the memo.
+     */
+    public String getMemoizedLookaheadMethodName() {
+        return getGrammar().generateIdentifierPrefix("scan_memoized") + name;
+    }
+
     public String getNodeName() {
         TreeBuildingAnnotation tba = getTreeBuildingAnnotation();
         if (tba != null) {
@@ -177,20 +234,12 @@ public class BNFProduction extends BaseNode {
 */
     }
 
-    private TokenSet firstSet, finalSet;
-    
     public TokenSet getFirstSet() {
-        if (firstSet == null) {
-           firstSet = getExpansion().getFirstSet();
-        }
-        return firstSet;
+        return getGrammar().getAnalysis().getFirstSet(this);
     }
 
     public TokenSet getFinalSet() {
-          if (finalSet == null) {
-              finalSet = getExpansion().getFinalSet();
-          }
-          return finalSet;
+        return getGrammar().getAnalysis().getFinalSet(this);
     }
 
     /**
@@ -35,17 +35,17 @@ package com.javacc.core;
 
 abstract public class EmptyExpansion extends Expansion {
     
-    public boolean isPossiblyEmpty() {return true;}
+    protected boolean computePossiblyEmpty() {return true;}
 
     public boolean isAlwaysSuccessful() {return true;}
     
-    public TokenSet getFirstSet() {return new TokenSet(getGrammar());}
+    protected TokenSet computeFirstSet() {return new TokenSet(getGrammar());}
     
-    public TokenSet getFinalSet() {return new TokenSet(getGrammar());}
+    protected TokenSet computeFinalSet() {return new TokenSet(getGrammar());}
      
-    public int getMinimumSize() {return 0;}
+    protected int computeMinimumSize() {return 0;}
 
-    public int getMaximumSize() {return 0;}
+    protected int computeMaximumSize() {return 0;}
 
     public boolean getSpecifiesLexicalStateSwitch() {return false;}
 }
\ No newline at end of file
@@ -46,8 +46,6 @@ abstract public class Expansion extends BaseNode {
 
     private String label = "";
 
-    protected TokenSet firstSet;
-
     public int getIndex() {
         return getParent().indexOf(this);
     }
@@ -373,9 +371,24 @@ abstract public class Expansion extends BaseNode {
         return getFinalSet().cardinality();
     }
 
-    abstract public TokenSet getFirstSet();
+    /**
+     * @return the set of token types that this expansion can start with.
+     * This comes from the grammar's GrammarAnalysis, so it is only worked out once.
+     */
+    public final TokenSet getFirstSet() {
+        return getGrammar().getAnalysis().getFirstSet(this);
+    }
+
+    /**
+     * @return the set of token types that this expansion can end with.
+     */
+    public final TokenSet getFinalSet() {
+        return getGrammar().getAnalysis().getFinalSet(this);
+    }
+
+    abstract protected TokenSet computeFirstSet();
 
-    abstract public TokenSet getFinalSet();
+    abstract protected TokenSet computeFinalSet();
 
     public boolean getHasFullFollowSet() {
         return !getFollowSet().isIncomplete();
@@ -394,7 +407,11 @@ abstract public class Expansion extends BaseNode {
     /**
      * @return Can this expansion be matched by the empty string.
      */
-    abstract public boolean isPossiblyEmpty();
+    public final boolean isPossiblyEmpty() {
+        return getGrammar().getAnalysis().isPossiblyEmpty(this);
+    }
+
+    abstract protected boolean computePossiblyEmpty();
 
 
     /**
@@ -406,12 +423,20 @@ abstract public class Expansion extends BaseNode {
     /**
      * @return the minimum number of tokens that this expansion consumes.
      */
-    abstract public int getMinimumSize();
+    public final int getMinimumSize() {
+        return getGrammar().getAnalysis().getMinimumSize(this);
+    }
 
     /**
      * @return the maximum number of tokens that this expansion consumes.
      */
-    abstract public int getMaximumSize();
+    public final int getMaximumSize() {
+        return getGrammar().getAnalysis().getMaximumSize(this);
+    }
+
+    abstract protected int computeMinimumSize();
+
+    abstract protected int computeMaximumSize();
 
     private Expansion getPreceding() {
         Node parent = getParent();
@@ -443,7 +468,11 @@ abstract public class Expansion extends BaseNode {
         return null;
     }
 
-    public TokenSet getFollowSet() {
+    public final TokenSet getFollowSet() {
+        return getGrammar().getAnalysis().getFollowSet(this);
+    }
+
+    TokenSet computeFollowSet() {
         TokenSet result = new TokenSet(getGrammar());
         if (isAtEndOfLoop()) {
             result.or(firstLoopAncestor().getFirstSet());
@@ -28,6 +28,7 @@
 
 package com.javacc.core;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -36,17 +37,15 @@ public class ExpansionChoice extends Expansion {
         return childrenOfType(ExpansionSequence.class);
     }
     
-    public TokenSet getFirstSet() {
-         if (firstSet == null) {
-            firstSet = new TokenSet(getGrammar());
-            for (ExpansionSequence choice : childrenOfType(ExpansionSequence.class)) {
-                firstSet.or(choice.getLookaheadExpansion().getFirstSet());
-            }
-         }
-         return firstSet;
+    protected TokenSet computeFirstSet() {
+        TokenSet firstSet = new TokenSet(getGrammar());
+        for (ExpansionSequence choice : childrenOfType(ExpansionSequence.class)) {
+            firstSet.or(choice.getLookaheadExpansion().getFirstSet());
+        }
+        return firstSet;
     }
     
-    public TokenSet getFinalSet() {
+    protected TokenSet computeFinalSet() {
         TokenSet finalSet = new TokenSet(getGrammar());
         for (ExpansionSequence choice : childrenOfType(ExpansionSequence.class)) {
             finalSet.or(choice.getFinalSet());
@@ -55,7 +54,7 @@ public class ExpansionChoice extends Expansion {
     }
     
     
-    public boolean isPossiblyEmpty() {
+    protected boolean computePossiblyEmpty() {
         return childrenOfType(ExpansionSequence.class).stream().anyMatch(choice->choice.isPossiblyEmpty());
     }
  
@@ -63,7 +62,7 @@ public class ExpansionChoice extends Expansion {
         return childrenOfType(ExpansionSequence.class).stream().anyMatch(choice->choice.isAlwaysSuccessful());
     }
     
-    public int getMinimumSize() {
+    protected int computeMinimumSize() {
         int result = Integer.MAX_VALUE;
         for (ExpansionSequence choice : childrenOfType(ExpansionSequence.class)) {
            int choiceMin = choice.getMinimumSize();
@@ -73,7 +72,7 @@ public class ExpansionChoice extends Expansion {
         return result;
     }
  
-    public int getMaximumSize() {
+    protected int computeMaximumSize() {
         int result = 0;
         for (ExpansionSequence exp : childrenOfType(ExpansionSequence.class)) {
             result = Math.max(result, exp.getMaximumSize());
@@ -89,6 +88,117 @@ public class ExpansionChoice extends Expansion {
         return false;
     }
 
+    /**
+     * An alternative of this choice that is dispatched in a switch
+     * on the next token type, along with the token types that select it.
+     */
+    public static class SwitchCase {
+        private final ExpansionSequence expansion;
+        private final List<String> tokenNames;
+
+        SwitchCase(ExpansionSequence expansion, List<String> tokenNames) {
+            this.expansion = expansion;
+            this.tokenNames = tokenNames;
+        }
+
+        public ExpansionSequence getExpansion() {return expansion;}
+
+        public List<String> getTokenNames() {return tokenNames;}
+    }
+
+    private List<SwitchCase> switchCases;
+    private List<ExpansionSequence> chainedChoices;
+
+    /**
+     * @return the alternatives that can be selected with a switch on
+     * the next token type. A token type selects an alternative here only 
+     * if it is in its first set and none of the alternatives before it 
+     * could possibly be entered on that token. This is empty if 
+     * there are too few token types to make a switch worthwhile.
+     */
+    public List<SwitchCase> getSwitchCases() {
+        if (switchCases == null) buildSwitchCases();
+        return switchCases;
+    }
+
+    /**
+     * @return the alternatives that are still checked in order, 
+     * i.e. the ones that are not in #getSwitchCases()
+     */
+    public List<ExpansionSequence> getChainedChoices() {
+        if (chainedChoices == null) buildSwitchCases();
+        return chainedChoices;
+    }
+
+    private void buildSwitchCases() {
+        switchCases = new ArrayList<>();
+        chainedChoices = new ArrayList<>();
+        TokenSet switched = new TokenSet(getGrammar());
+        TokenSet chained = new TokenSet(getGrammar());
+        boolean bounded = true;
+        int tokenCount = 0;
+        for (ExpansionSequence choice : getChoices()) {
+            TokenSet startTokens = bounded ? getPossibleStartTokens(choice) : null;
+            if (startTokens == null) {
+                bounded = false;
+                chainedChoices.add(choice);
+                continue;
+            }
+            if (choice.getRequiresPredicateMethod() || startTokens.intersects(chained)) {
+                chainedChoices.add(choice);
+                chained.or(startTokens);
+                continue;
+            }
+            TokenSet caseTokens = (TokenSet) startTokens.clone();
+            caseTokens.andNot(switched);
+            if (caseTokens.isEmpty()) {
+                chainedChoices.add(choice);
+                continue;
+            }
+            switched.or(caseTokens);
+            List<String> tokenNames = caseTokens.getTokenNames();
+            tokenCount += tokenNames.size();
+            switchCases.add(new SwitchCase(choice, tokenNames));
+        }
+        if (tokenCount < USE_SWITCH_THRESHOLD) {
+            switchCases.clear();
+            chainedChoices = getChoices();
+        }
+    }
+
+    static final int USE_SWITCH_THRESHOLD = 5;
+
+    /**
+     * @return the token types that the condition for entering this 
+     * alternative could possibly be true on, or null if we can't tell 
+     * without evaluating it, because it has user code or does not 
+     * need to consume any token.
+     */
+    private static TokenSet getPossibleStartTokens(ExpansionSequence choice) {
+        if (choice.isAlwaysSuccessful() || choice.getLookaheadAmount() == 0 || choice.getHasSemanticLookahead()) {
+            return null;
+        }
+        if (!choice.getRequiresPredicateMethod()) {
+            return choice.getFirstSet().isEmpty() ? null : choice.getFirstSet();
+        }
+        Lookahead la = choice.getLookahead();
+        if (la != null && (la.getLHS() != null || la.isNegated() || la.getLookBehind() != null)) {
+            return null;
+        }
+        if (choice.startsWithLexicalChange() || choice.startsWithGlobalCodeAction()) {
+            return null;
+        }
+        Expansion scanned = choice.getLookaheadExpansion();
+        if (scanned.isPossiblyEmpty() || scanned.startsWithLexicalChange() || scanned.startsWithGlobalCodeAction()) {
+            return null;
+        }
+        for (Expansion unit : scanned.childrenOfType(Expansion.class)) {
+            if (!unit.isPossiblyEmpty()) break;
+            if (unit.isScanLimit()) return null;
+        }
+        return scanned.getFirstSet().isEmpty() ? null : scanned.getFirstSet();
+    }
+
     public boolean isSingleToken() {
         if (!super.isSingleToken()) return false;
         for (ExpansionSequence exp : childrenOfType(ExpansionSequence.class)) {
@@ -80,20 +80,18 @@ public class ExpansionSequence extends Expansion {
         return true;
     }
 
-    public TokenSet getFirstSet() {
-        if (firstSet == null) {
-            firstSet = new TokenSet(getGrammar());
-            for (Expansion child : childrenOfType(Expansion.class)) {
-                firstSet.or(child.getFirstSet());
-                if (!child.isPossiblyEmpty()) {
-                    break;
-                }
+    protected TokenSet computeFirstSet() {
+        TokenSet firstSet = new TokenSet(getGrammar());
+        for (Expansion child : childrenOfType(Expansion.class)) {
+            firstSet.or(child.getFirstSet());
+            if (!child.isPossiblyEmpty()) {
+                break;
             }
         }
         return firstSet;
     }
 
-    public TokenSet getFinalSet() {
+    protected TokenSet computeFinalSet() {
         TokenSet finalSet = new TokenSet(getGrammar());
         List<Expansion> children = childrenOfType(Expansion.class);
         Collections.reverse(children);
@@ -153,7 +151,7 @@ public class ExpansionSequence extends Expansion {
         return lookahead != null;
     }
 
-    public boolean isPossiblyEmpty() {
+    protected boolean computePossiblyEmpty() {
         for (Expansion e : childrenOfType(Expansion.class)) {
             if (!e.isPossiblyEmpty()) {
                 return false;
@@ -162,7 +160,7 @@ public class ExpansionSequence extends Expansion {
         return true;
     }
 
-    public int getMinimumSize() {
+    protected int computeMinimumSize() {
         int result = 0;
         for (Expansion unit : childrenOfType(Expansion.class)) {
             int minUnit = unit.getMinimumSize();
@@ -173,7 +171,7 @@ public class ExpansionSequence extends Expansion {
         return result;
     }
 
-    public int getMaximumSize() {
+    protected int computeMaximumSize() {
         int result = 0;
         for (Expansion exp : childrenOfType(Expansion.class)) {
             int max = exp.getMaximumSize();
@@ -0,0 +1,302 @@
+/* Copyright (c) 2008-2022 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.javacc.core;
+
+import java.util.*;
+import java.util.function.Function;
+
+import com.javacc.Grammar;
+
+/**
+ * Works out, once for the whole grammar, which expansions can match
+ * empty input, the minimum and maximum number of tokens they consume, 
+ * and the first, final and follow sets of all the expansions.
+ * The rules for each kind of expansion are still in the
+ * computeXXX() methods of the various Expansion subclasses. This class just
+ * iterates them over the productions, which can refer to one another
+ * recursively, until nothing changes any more, and then caches the results.
+ * The TokenSets that come out of here are frozen, since they are shared.
+ * Note that the first, final and follow sets are only meaningful
+ * once the SanityChecker has assigned the token ordinals, so they are only
+ * worked out the first time one of them is asked for.
+ */
+public class GrammarAnalysis {
+
+    private enum State {NOT_STARTED, COMPUTING, DONE}
+
+    private final Grammar grammar;
+
+    private volatile State nullableState = State.NOT_STARTED, 
+                           sizeState = State.NOT_STARTED, 
+                           tokenSetState = State.NOT_STARTED;
+
+    private final Map<BNFProduction, Boolean> nullableProductions = new HashMap<>();
+    private final Map<BNFProduction, TokenSet> productionFirstSets = new HashMap<>();
+    private final Map<BNFProduction, TokenSet> productionFinalSets = new HashMap<>();
+    private final Map<BNFProduction, Integer> productionMinimumSizes = new HashMap<>();
+    private final Map<BNFProduction, Integer> productionMaximumSizes = new HashMap<>();
+    private final Set<BNFProduction> maximumSizesInProgress = new HashSet<>();
+
+    private final Map<Expansion, Boolean> nullable = new HashMap<>();
+    private final Map<Expansion, TokenSet> firstSets = new HashMap<>();
+    private final Map<Expansion, TokenSet> finalSets = new HashMap<>();
+    private final Map<Expansion, TokenSet> followSets = new HashMap<>();
+    private final Map<Expansion, Integer> minimumSizes = new HashMap<>();
+    private final Map<Expansion, Integer> maximumSizes = new HashMap<>();
+
+    // For each production, the productions that contain a reference to it
+    private Map<BNFProduction, Set<BNFProduction>> referrers;
+
+    public GrammarAnalysis(Grammar grammar) {
+        this.grammar = grammar;
+    }
+
+    public boolean isPossiblyEmpty(Expansion exp) {
+        if (nullableState != State.DONE) computeNullable();
+        Boolean result = nullable.get(exp);
+        return result != null ? result : exp.computePossiblyEmpty();
+    }
+
+    public boolean isPossiblyEmpty(BNFProduction production) {
+        if (nullableState != State.DONE) computeNullable();
+        return nullableProductions.getOrDefault(production, false);
+    }
+
+    public int getMinimumSize(Expansion exp) {
+        if (sizeState != State.DONE) computeSizes();
+        Integer result = minimumSizes.get(exp);
+        return result != null ? result : exp.computeMinimumSize();
+    }
+
+    public int getMaximumSize(Expansion exp) {
+        if (sizeState != State.DONE) computeSizes();
+        Integer result = maximumSizes.get(exp);
+        return result != null ? result : exp.computeMaximumSize();
+    }
+
+    public int getMinimumSize(BNFProduction production) {
+        if (sizeState != State.DONE) computeSizes();
+        return productionMinimumSizes.getOrDefault(production, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return the maximum number of tokens that the production consumes. 
+     * If it is recursive, that is Integer.MAX_VALUE, i.e. unlimited.
+     */
+    public int getMaximumSize(BNFProduction production) {
+        if (sizeState != State.DONE) computeSizes();
+        if (production == null) return 0;
+        Integer result = productionMaximumSizes.get(production);
+        if (result == null) {
+            // We only get here while computing the sizes
+            if (!maximumSizesInProgress.add(production)) {
+                return Integer.MAX_VALUE;
+            }
+            result = production.getExpansion().computeMaximumSize();
+            maximumSizesInProgress.remove(production);
+            productionMaximumSizes.put(production, result);
+        }
+        return result;
+    }
+
+    public TokenSet getFirstSet(Expansion exp) {
+        return lookup(firstSets, exp, Expansion::computeFirstSet);
+    }
+
+    public TokenSet getFinalSet(Expansion exp) {
+        return lookup(finalSets, exp, Expansion::computeFinalSet);
+    }
+
+    public TokenSet getFollowSet(Expansion exp) {
+        return lookup(followSets, exp, Expansion::computeFollowSet);
+    }
+
+    public TokenSet getFirstSet(BNFProduction production) {
+        if (tokenSetState != State.DONE) computeTokenSets();
+        TokenSet result = productionFirstSets.get(production);
+        return result != null ? result : emptySet();
+    }
+
+    public TokenSet getFinalSet(BNFProduction production) {
+        if (tokenSetState != State.DONE) computeTokenSets();
+        TokenSet result = productionFinalSets.get(production);
+        return result != null ? result : emptySet();
+    }
+
+    // Anything that is not cached yet is just worked out from
+    // what we have so far, i.e. the sets of the productions.
+    private TokenSet lookup(Map<Expansion, TokenSet> cache, Expansion exp, Function<Expansion, TokenSet> rule) {
+        if (tokenSetState != State.DONE) computeTokenSets();
+        TokenSet result = cache.get(exp);
+        return result != null ? result : frozen(rule.apply(exp));
+    }
+
+    private TokenSet emptySet() {
+        TokenSet result = new TokenSet(grammar);
+        result.freeze();
+        return result;
+    }
+
+    private List<BNFProduction> getProductions() {
+        return grammar.descendants(BNFProduction.class);
+    }
+
+    // All the expansions in the productions, any expansion coming after
+    // the ones nested in it, so that those are already cached when we get to it.
+    private List<Expansion> getExpansions() {
+        List<Expansion> result = new ArrayList<>();
+        for (BNFProduction production : getProductions()) {
+            result.addAll(production.descendants(Expansion.class));
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private Map<BNFProduction, Set<BNFProduction>> getReferrers() {
+        if (referrers == null) {
+            referrers = new HashMap<>();
+            for (NonTerminal nt : grammar.descendants(NonTerminal.class)) {
+                BNFProduction production = nt.getProduction();
+                BNFProduction containing = nt.getContainingProduction();
+                if (production != null && containing != null) {
+                    referrers.computeIfAbsent(production, p->new LinkedHashSet<>()).add(containing);
+                }
+            }
+        }
+        return referrers;
+    }
+
+    /**
+     * Works out which productions can match empty input, starting from
+     * none of them and then revisiting the productions that refer to
+     * any production that turns out to be nullable.
+     */
+    private synchronized void computeNullable() {
+        if (nullableState != State.NOT_STARTED) return;
+        nullableState = State.COMPUTING;
+        Deque<BNFProduction> worklist = new ArrayDeque<>(getProductions());
+        Set<BNFProduction> pending = new HashSet<>(worklist);
+        while (!worklist.isEmpty()) {
+            BNFProduction production = worklist.poll();
+            pending.remove(production);
+            if (nullableProductions.getOrDefault(production, false)) continue;
+            if (production.getExpansion().computePossiblyEmpty()) {
+                nullableProductions.put(production, true);
+                for (BNFProduction referrer : getReferrers().getOrDefault(production, Collections.emptySet())) {
+                    if (pending.add(referrer)) worklist.add(referrer);
+                }
+            }
+        }
+        for (Expansion exp : getExpansions()) {
+            nullable.put(exp, exp.computePossiblyEmpty());
+        }
+        nullableState = State.DONE;
+    }
+
+    /**
+     * Works out the minimum sizes of the productions the same way as 
+     * for nullable, starting from Integer.MAX_VALUE and revisiting the productions
+     * that refer to any production whose minimum size comes down. The maximum 
+     * sizes are just worked out recursively, where a production that refers to itself, 
+     * directly or indirectly, can be of any size.
+     */
+    private synchronized void computeSizes() {
+        if (sizeState != State.NOT_STARTED) return;
+        sizeState = State.COMPUTING;
+        Deque<BNFProduction> worklist = new ArrayDeque<>(getProductions());
+        Set<BNFProduction> pending = new HashSet<>(worklist);
+        while (!worklist.isEmpty()) {
+            BNFProduction production = worklist.poll();
+            pending.remove(production);
+            int size = production.getExpansion().computeMinimumSize();
+            if (size < productionMinimumSizes.getOrDefault(production, Integer.MAX_VALUE)) {
+                productionMinimumSizes.put(production, size);
+                for (BNFProduction referrer : getReferrers().getOrDefault(production, Collections.emptySet())) {
+                    if (pending.add(referrer)) worklist.add(referrer);
+                }
+            }
+        }
+        for (BNFProduction production : getProductions()) {
+            getMaximumSize(production);
+        }
+        for (Expansion exp : getExpansions()) {
+            minimumSizes.put(exp, exp.computeMinimumSize());
+            maximumSizes.put(exp, exp.computeMaximumSize());
+        }
+        sizeState = State.DONE;
+    }
+
+    /**
+     * Works out the first and final sets of the productions, starting from
+     * empty sets and revisiting the productions that refer to any production whose
+     * sets grew, and then the first, final and follow sets of
+     * all the expansions in the productions.
+     */
+    private synchronized void computeTokenSets() {
+        if (tokenSetState != State.NOT_STARTED) return;
+        computeNullable();
+        tokenSetState = State.COMPUTING;
+        Deque<BNFProduction> worklist = new ArrayDeque<>(getProductions());
+        Set<BNFProduction> pending = new HashSet<>(worklist);
+        while (!worklist.isEmpty()) {
+            BNFProduction production = worklist.poll();
+            pending.remove(production);
+            boolean changed = update(productionFirstSets, production, production.getExpansion().computeFirstSet());
+            changed |= update(productionFinalSets, production, production.getExpansion().computeFinalSet());
+            if (changed) {
+                for (BNFProduction referrer : getReferrers().getOrDefault(production, Collections.emptySet())) {
+                    if (pending.add(referrer)) worklist.add(referrer);
+                }
+            }
+        }
+        productionFirstSets.values().forEach(TokenSet::freeze);
+        productionFinalSets.values().forEach(TokenSet::freeze);
+        List<Expansion> expansions = getExpansions();
+        for (Expansion exp : expansions) {
+            firstSets.put(exp, frozen(exp.computeFirstSet()));
+            finalSets.put(exp, frozen(exp.computeFinalSet()));
+        }
+        for (Expansion exp : expansions) {
+            followSets.put(exp, frozen(exp.computeFollowSet()));
+        }
+        tokenSetState = State.DONE;
+    }
+
+    private static boolean update(Map<BNFProduction, TokenSet> sets, BNFProduction production, TokenSet newSet) {
+        TokenSet oldSet = sets.get(production);
+        if (oldSet != null && oldSet.equals(newSet)) return false;
+        sets.put(production, newSet);
+        return true;
+    }
+
+    private static TokenSet frozen(TokenSet set) {
+        set.freeze();
+        return set;
+    }
+}
@@ -104,6 +104,14 @@ public class LexerData {
                regularExpressions.stream().anyMatch(re->re.getNewLexicalState()!=null);
     }
 
+    public boolean getHasDfa() {
+        return lexicalStates.stream().anyMatch(lsd->lsd.getDfaData()!=null);
+    }
+
+    public boolean getHasAsciiMoveTables() {
+        return lexicalStates.stream().anyMatch(lsd->lsd.getAsciiMoveTable()!=null);
+    }
+
     public boolean getHasTokenActions() {
         return regularExpressions.stream().anyMatch(re->re.getCodeSnippet()!=null);
     }
@@ -76,46 +76,30 @@ public class NonTerminal extends Expansion {
         return !getStopAtScanLimit();
     }
 
-    public TokenSet getFirstSet() {
-        if (firstSet == null) {
-            firstSet = getProduction().getExpansion().getFirstSet();
-        }
-        return firstSet;
+    // The sets for the production come from the fixpoint in GrammarAnalysis,
+    // so we don't recurse into the production here.
+    protected TokenSet computeFirstSet() {
+        return getGrammar().getAnalysis().getFirstSet(getProduction());
      }
-     private int reEntries;     
-     public TokenSet getFinalSet() {
-          ++reEntries;
-          TokenSet result = reEntries == 1 ? getProduction().getExpansion().getFinalSet() : new TokenSet(getGrammar());
-          --reEntries;
-          return result;
+
+     protected TokenSet computeFinalSet() {
+        return getGrammar().getAnalysis().getFinalSet(getProduction());
      }
      
-     public boolean isPossiblyEmpty() {
-         return getProduction().isPossiblyEmpty();
+     protected boolean computePossiblyEmpty() {
+         return getGrammar().getAnalysis().isPossiblyEmpty(getProduction());
      }
 
      public boolean isAlwaysSuccessful() {
          return getProduction().getExpansion().isAlwaysSuccessful();
      }
      
-     private boolean inMinimumSize, inMaximumSize;
-     
-     public int getMinimumSize() {
-         if (inMinimumSize) return Integer.MAX_VALUE;
-         inMinimumSize = true;
-         int result = getProduction().getExpansion().getMinimumSize();
-         inMinimumSize = false;
-         return result;
+     protected int computeMinimumSize() {
+         return getGrammar().getAnalysis().getMinimumSize(getProduction());
      }
 
-     public int getMaximumSize() {
-         if (inMaximumSize) {
-             return Integer.MAX_VALUE;
-         }
-         inMaximumSize = true;
-         int result = getProduction().getExpansion().getMaximumSize(); 
-         inMaximumSize = false;
-         return result;
+     protected int computeMaximumSize() {
+         return getGrammar().getAnalysis().getMaximumSize(getProduction());
      }
     
      
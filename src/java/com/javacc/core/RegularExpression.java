@@ -173,28 +173,26 @@ public abstract class RegularExpression extends Expansion {
     private String generatedClassName = "Token", generatedSuperClassName;
     
     
-    public TokenSet getFirstSet() {
-    	if (firstSet== null) {
-    		firstSet = new TokenSet(getGrammar());
-    		firstSet.set(getOrdinal());
-    	}
+    protected TokenSet computeFirstSet() {
+        TokenSet firstSet = new TokenSet(getGrammar());
+        firstSet.set(getOrdinal());
         return firstSet;
     }
     
-    public TokenSet getFinalSet() {
+    protected TokenSet computeFinalSet() {
         return getFirstSet();	
     }
     
     
-    final public boolean isPossiblyEmpty() {
+    final protected boolean computePossiblyEmpty() {
     	return false;
     }
     
-    final public int getMinimumSize() {
+    final protected int computeMinimumSize() {
         return 1;
     }
 
-    final public int getMaximumSize() {
+    final protected int computeMaximumSize() {
         return 1;
     }
 
@@ -94,6 +94,18 @@ public class SanityChecker {
         }
         if (!undefinedNTs.isEmpty()) return;
 
+        // Check that the production the batch parser calls exists and can be called on its own.
+        String batchProductionName = (String) grammar.getSettings().get("BATCH_PRODUCTION");
+        if (batchProductionName != null) {
+            BNFProduction batchProduction = grammar.getProductionByName(batchProductionName);
+            if (batchProduction == null) {
+                grammar.addError(null, "BATCH_PRODUCTION " + batchProductionName + " has not been defined.");
+            } 
+            else if (batchProduction.getParameterList() != null && !batchProduction.getParameterList().getParams().isEmpty()) {
+                grammar.addError(batchProduction, "BATCH_PRODUCTION " + batchProductionName + " cannot take parameters.");
+            }
+        }
+
         /*
          * Check whether we have any LOOKAHEADs at non-choice points 
          * REVISIT: Why is this not handled in the grammar spec?
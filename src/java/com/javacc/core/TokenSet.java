@@ -46,6 +46,10 @@ public class TokenSet extends BitSet {
 
 	private boolean incomplete;
 
+	// A frozen TokenSet is shared, for example by GrammarAnalysis, so it
+	// can't be changed any more.
+	private boolean frozen;
+
 	public TokenSet(Grammar grammar) {
 		this.grammar = grammar;
 	}
@@ -60,8 +64,111 @@ public class TokenSet extends BitSet {
 	}
 
 	public void setIncomplete(boolean incomplete) {
+		checkNotFrozen();
 		this.incomplete = incomplete;
 	}
+
+	public boolean isFrozen() {
+		return frozen;
+	}
+
+	void freeze() {
+		frozen = true;
+	}
+
+	private void checkNotFrozen() {
+		if (frozen) {
+			throw new UnsupportedOperationException("This TokenSet is frozen. Make a copy with clone() to change it.");
+		}
+	}
+
+	/**
+	 * @return a copy of this set, that is not frozen.
+	 */
+	@Override
+	public Object clone() {
+		TokenSet result = (TokenSet) super.clone();
+		result.frozen = false;
+		return result;
+	}
+
+	@Override
+	public void set(int bitIndex) {
+		checkNotFrozen();
+		super.set(bitIndex);
+	}
+
+	@Override
+	public void set(int bitIndex, boolean value) {
+		checkNotFrozen();
+		super.set(bitIndex, value);
+	}
+
+	@Override
+	public void set(int fromIndex, int toIndex) {
+		checkNotFrozen();
+		super.set(fromIndex, toIndex);
+	}
+
+	@Override
+	public void set(int fromIndex, int toIndex, boolean value) {
+		checkNotFrozen();
+		super.set(fromIndex, toIndex, value);
+	}
+
+	@Override
+	public void clear(int bitIndex) {
+		checkNotFrozen();
+		super.clear(bitIndex);
+	}
+
+	@Override
+	public void clear(int fromIndex, int toIndex) {
+		checkNotFrozen();
+		super.clear(fromIndex, toIndex);
+	}
+
+	@Override
+	public void clear() {
+		checkNotFrozen();
+		super.clear();
+	}
+
+	@Override
+	public void flip(int bitIndex) {
+		checkNotFrozen();
+		super.flip(bitIndex);
+	}
+
+	@Override
+	public void flip(int fromIndex, int toIndex) {
+		checkNotFrozen();
+		super.flip(fromIndex, toIndex);
+	}
+
+	@Override
+	public void and(BitSet set) {
+		checkNotFrozen();
+		super.and(set);
+	}
+
+	@Override
+	public void or(BitSet set) {
+		checkNotFrozen();
+		super.or(set);
+	}
+
+	@Override
+	public void xor(BitSet set) {
+		checkNotFrozen();
+		super.xor(set);
+	}
+
+	@Override
+	public void andNot(BitSet set) {
+		checkNotFrozen();
+		super.andNot(set);
+	}
 	
 	public long[] toLongArray() {
 	    long[] ll = super.toLongArray();
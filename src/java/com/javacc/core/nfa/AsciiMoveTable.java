@@ -0,0 +1,201 @@
+/* Copyright (c) 2022 Jonathan Revusky, revusky@congocc.org
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors 
+ *       may be used to endorse or promote products derived from this software 
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.javacc.core.nfa;
+
+import java.util.*;
+
+import com.javacc.core.RegularExpression;
+
+/**
+ * A direct-mapped table of the moves that the composite states 
+ * of a lexical state make on ASCII characters. Since most input is ASCII, 
+ * the generated NFA_XXX methods just do a lookup in this table for 
+ * characters below 128 and only fall through to the code that 
+ * checks the character ranges for non-ASCII input. 
+ * Only the composite states that have enough ASCII ranges to check 
+ * (see ASCII_RANGE_THRESHOLD) get a row in the table. For the others, 
+ * the inline conditional is just as fast.
+ */
+public class AsciiMoveTable {
+
+    static final int ASCII_RANGE_THRESHOLD = 4;
+
+    private final List<CompositeStateSet> rows = new ArrayList<>();
+    // The distinct moves, i.e. the set of composite states we move 
+    // to and the token types we match (in order of priority)
+    private final List<BitSet> moveStates = new ArrayList<>();
+    private final List<List<RegularExpression>> moveTypes = new ArrayList<>();
+    private final Map<List<Object>, Integer> moveLookup = new HashMap<>();
+    private final List<RegularExpression> types = new ArrayList<>();
+    private int[] table;
+
+    AsciiMoveTable(List<CompositeStateSet> composites) {
+        for (CompositeStateSet composite : composites) {
+            if (countAsciiRanges(composite) >= ASCII_RANGE_THRESHOLD) {
+                composite.setAsciiTableRow(rows.size());
+                rows.add(composite);
+            }
+        }
+        table = new int[rows.size() * 128];
+        for (CompositeStateSet composite : rows) {
+            List<NfaState> states = composite.getOrderedStates();
+            for (int ch = 0; ch < 128; ch++) {
+                table[composite.getAsciiTableRow() * 128 + ch] = getMove(states, ch);
+            }
+        }
+        types.sort(Comparator.comparingInt(RegularExpression::getOrdinal));
+    }
+
+    /**
+     * @return whether any composite state uses the table
+     */
+    public boolean isEmpty() {
+        return rows.isEmpty();
+    }
+
+    /**
+     * @return the index of the move for (row*128 + ch), or -1 if
+     * there is no move, run-length encoded.
+     */
+    public List<Integer> getEncodedTable() {
+        return DfaData.runLengthEncode(table);
+    }
+
+    public int getNumMoves() {
+        return moveStates.size();
+    }
+
+    /**
+     * @return the offsets of each move's states in #getStates().
+     * There is one extra offset at the end.
+     */
+    public List<Integer> getStateOffsets() {
+        List<Integer> result = new ArrayList<>();
+        int offset = 0;
+        for (BitSet bs : moveStates) {
+            result.add(offset);
+            offset += bs.cardinality();
+        }
+        result.add(offset);
+        return result;
+    }
+
+    /**
+     * @return the indexes of the composite states that each move goes to 
+     */
+    public List<Integer> getStates() {
+        List<Integer> result = new ArrayList<>();
+        for (BitSet bs : moveStates) {
+            bs.stream().forEach(result::add);
+        }
+        return result;
+    }
+
+    /**
+     * @return the offsets of each move's types in #getTypeIndexes()
+     * There is one extra offset at the end.
+     */
+    public List<Integer> getTypeOffsets() {
+        List<Integer> result = new ArrayList<>();
+        int offset = 0;
+        for (List<RegularExpression> matched : moveTypes) {
+            result.add(offset);
+            offset += matched.size();
+        }
+        result.add(offset);
+        return result;
+    }
+
+    /**
+     * @return the indexes into #getTypes() of the types each move matches
+     */
+    public List<Integer> getTypeIndexes() {
+        List<Integer> result = new ArrayList<>();
+        for (List<RegularExpression> matched : moveTypes) {
+            for (RegularExpression type : matched) {
+                result.add(types.indexOf(type));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return all the token types matched by any move, in order of priority
+     */
+    public List<RegularExpression> getTypes() {
+        return types;
+    }
+
+    private int getMove(List<NfaState> states, int ch) {
+        BitSet nextStates = new BitSet();
+        List<RegularExpression> matched = new ArrayList<>();
+        for (NfaState state : states) {
+            if (!accepts(state, ch)) continue;
+            if (state.getNextStateIndex() >= 0) {
+                nextStates.set(state.getNextStateIndex());
+            }
+            RegularExpression type = state.getNextStateType();
+            if (type != null && !matched.contains(type)) {
+                matched.add(type);
+            }
+        }
+        if (nextStates.isEmpty() && matched.isEmpty()) {
+            return -1;
+        }
+        matched.sort(Comparator.comparingInt(RegularExpression::getOrdinal));
+        List<Object> key = Arrays.asList(nextStates, matched);
+        Integer result = moveLookup.get(key);
+        if (result == null) {
+            result = moveStates.size();
+            moveStates.add(nextStates);
+            moveTypes.add(matched);
+            moveLookup.put(key, result);
+            for (RegularExpression type : matched) {
+                if (!types.contains(type)) types.add(type);
+            }
+        }
+        return result;
+    }
+
+    private static boolean accepts(NfaState state, int ch) {
+        List<Integer> moveRanges = state.getMoveRanges();
+        for (int i = 0; i < moveRanges.size(); i += 2) {
+            if (ch >= moveRanges.get(i) && ch <= moveRanges.get(i + 1)) return true;
+        }
+        return false;
+    }
+
+    private static int countAsciiRanges(CompositeStateSet composite) {
+        int result = 0;
+        for (NfaState state : composite.getOrderedStates()) {
+            result += state.getAsciiMoveRanges().size() / 2;
+        }
+        return result;
+    }
+}
@@ -41,6 +41,7 @@ public class CompositeStateSet {
     private Set<NfaState> states = new HashSet<>();
     final LexicalStateData lexicalState;
     int index=-1; 
+    private int asciiTableRow = -1;
 
     CompositeStateSet(Set<NfaState> states, LexicalStateData lsd) {
         this.states = new HashSet<>(states);
@@ -51,6 +52,14 @@ public class CompositeStateSet {
 
     void setIndex(int index) {this.index = index;}
 
+    /**
+     * @return the row of this composite in the lexical state's
+     * AsciiMoveTable, or -1 if it does not use the table
+     */
+    public int getAsciiTableRow() {return asciiTableRow;}
+
+    void setAsciiTableRow(int asciiTableRow) {this.asciiTableRow = asciiTableRow;}
+
     public String getMethodName() {
         String lexicalStateName = lexicalState.getName();
         if (lexicalStateName.equals("DEFAULT")) 
@@ -63,6 +72,10 @@ public class CompositeStateSet {
                && ((CompositeStateSet)other).states.equals(this.states);
     }
 
+    public int hashCode() {
+        return states.hashCode();
+    }
+
     /**
      * We return the NFA states in this composite 
      * in order (decreasing) of the ordinal of the nextState's 
@@ -76,6 +89,18 @@ public class CompositeStateSet {
         return result;    
     }
 
+    /**
+     * @return the states that have moves on non-ASCII characters, in 
+     * the same order as #getOrderedStates(). If this composite
+     * uses an AsciiMoveTable, these are the only ones that need 
+     * to be checked in the generated code.
+     */
+    public List<NfaState> getNonAsciiOrderedStates() {
+        List<NfaState> result = getOrderedStates();
+        result.removeIf(state->!state.getHasNonAsciiMoves());
+        return result;
+    }
+
     static private int nfaComparator(NfaState state1, NfaState state2) {
         int result = getOrdinal(state2.getNextState()) - getOrdinal(state1.getNextState());
         if (result == 0)
@@ -0,0 +1,344 @@
+/* Copyright (c) 2022 Jonathan Revusky, revusky@congocc.org
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors 
+ *       may be used to endorse or promote products derived from this software 
+ *       without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.javacc.core.nfa;
+
+import java.util.*;
+
+import com.javacc.core.RegularExpression;
+
+/**
+ * The deterministic (DFA) version of a lexical state. This is built
+ * from the CompositeStateSet objects of the lexical state by the 
+ * classic subset construction, so that the generated lexer can
+ * advance by a single table lookup per character rather than
+ * calling an NfaFunction for each currently active composite state.
+ * 
+ * Since the token types that are active can be changed at run-time,
+ * a DFA state does not have a single accepting type, but rather an 
+ * ordered list of the types that the NFA could have matched on entering 
+ * the state. The generated code picks the first one that is currently active.
+ * This also means that two transitions that land on the same set of 
+ * NFA states but accept different types must lead to different DFA states.
+ */
+public class DfaData {
+
+    private final LexicalStateData lexicalState;
+    private final List<CompositeStateSet> composites;
+    // All the NfaState objects that are used in this lexical state
+    private final List<NfaState> nfaStates = new ArrayList<>();
+    private final Map<NfaState, Integer> nfaStateIndexes = new HashMap<>();
+    // The NFA states (by index) in each composite
+    private final List<BitSet> compositeContents = new ArrayList<>();
+    // Which character classes each NFA state (by index) accepts
+    private final List<BitSet> statesToClasses = new ArrayList<>();
+    // The token types that can be matched in this lexical state, in order of priority
+    private final List<RegularExpression> acceptTypes = new ArrayList<>();
+
+    private int numClasses;
+    private final int[] asciiClasses = new int[128];
+    private final List<Integer> intervalStarts = new ArrayList<>();
+    private final List<Integer> intervalClasses = new ArrayList<>();
+
+    private final List<DfaState> states = new ArrayList<>();
+    private final Map<DfaState, DfaState> stateLookup = new HashMap<>();
+
+    private DfaData(LexicalStateData lexicalState) {
+        this.lexicalState = lexicalState;
+        this.composites = lexicalState.getCanonicalSets();
+    }
+
+    /**
+     * Build the DFA for the given lexical state 
+     * @param lexicalState the lexical state (its NFA must already be built)
+     * @param sizeLimit the maximum number of entries in the transition table
+     * @return the DFA or null if the transition table would exceed sizeLimit 
+     */
+    static DfaData build(LexicalStateData lexicalState, int sizeLimit) {
+        DfaData result = new DfaData(lexicalState);
+        result.buildCharacterClasses();
+        return result.buildStates(sizeLimit) ? result : null;
+    }
+
+    public String getLexicalStateName() {
+        return lexicalState.getName();
+    }
+
+    public int getNumClasses() {
+        return numClasses;
+    }
+
+    public int getNumStates() {
+        return states.size();
+    }
+
+    public List<Integer> getAsciiClasses() {
+        List<Integer> result = new ArrayList<>(asciiClasses.length);
+        for (int cls : asciiClasses) result.add(cls);
+        return result;
+    }
+
+    /**
+     * @return the starting points of the non-ASCII ranges of characters,
+     * the first one always being 128
+     */
+    public List<Integer> getIntervalStarts() {
+        return intervalStarts;
+    }
+
+    /**
+     * @return the character class of each range given by #getIntervalStarts()
+     */
+    public List<Integer> getIntervalClasses() {
+        return intervalClasses;
+    }
+
+    public List<RegularExpression> getAcceptTypes() {
+        return acceptTypes;
+    }
+
+    /**
+     * @return the transition table, indexed by state*numClasses + class,
+     * in run-length encoded form, i.e. pairs of (count, value) where the 
+     * value is the next state, or -1 if there is no transition
+     */
+    public List<Integer> getEncodedTransitions() {
+        int[] transitions = new int[states.size() * numClasses];
+        for (DfaState state : states) {
+            System.arraycopy(state.transitions, 0, transitions, state.index * numClasses, numClasses);
+        }
+        return runLengthEncode(transitions);
+    }
+
+    /**
+     * Encodes a table as (count, value) pairs. Our tables consist mostly of 
+     * long runs of -1, so this keeps the generated code reasonably small.
+     */
+    static List<Integer> runLengthEncode(int[] values) {
+        List<Integer> result = new ArrayList<>();
+        int i = 0;
+        while (i < values.length) {
+            int runLength = 1;
+            while (i + runLength < values.length && values[i + runLength] == values[i]) {
+                ++runLength;
+            }
+            result.add(runLength);
+            result.add(values[i]);
+            i += runLength;
+        }
+        return result;
+    }
+
+    /**
+     * @return the offsets into #getAcceptIndexes() for each state.
+     * (There is one extra offset at the end.)
+     */
+    public List<Integer> getAcceptOffsets() {
+        List<Integer> result = new ArrayList<>(states.size() + 1);
+        int offset = 0;
+        for (DfaState state : states) {
+            result.add(offset);
+            offset += state.accepts.cardinality();
+        }
+        result.add(offset);
+        return result;
+    }
+
+    /**
+     * @return the indexes into #getAcceptTypes() of the types 
+     * that each state accepts, in order of priority
+     */
+    public List<Integer> getAcceptIndexes() {
+        List<Integer> result = new ArrayList<>();
+        for (DfaState state : states) {
+            state.accepts.stream().forEach(result::add);
+        }
+        return result;
+    }
+
+    private void buildCharacterClasses() {
+        TreeSet<Integer> boundaries = new TreeSet<>();
+        boundaries.add(0);
+        boundaries.add(128);
+        for (CompositeStateSet composite : composites) {
+            BitSet contents = new BitSet();
+            for (NfaState state : composite.getOrderedStates()) {
+                Integer index = nfaStateIndexes.get(state);
+                if (index == null) {
+                    index = nfaStates.size();
+                    nfaStates.add(state);
+                    nfaStateIndexes.put(state, index);
+                    List<Integer> moveRanges = state.getMoveRanges();
+                    for (int i = 0; i < moveRanges.size(); i += 2) {
+                        boundaries.add(moveRanges.get(i));
+                        boundaries.add(moveRanges.get(i + 1) + 1);
+                    }
+                    RegularExpression type = state.getNextStateType();
+                    if (type != null && !acceptTypes.contains(type)) {
+                        acceptTypes.add(type);
+                    }
+                }
+                contents.set(index);
+            }
+            compositeContents.add(contents);
+        }
+        acceptTypes.sort(Comparator.comparingInt(RegularExpression::getOrdinal));
+        boundaries.removeIf(b -> b > 0x10FFFF);
+        int[] starts = boundaries.stream().mapToInt(Integer::intValue).toArray();
+        // Which NFA states accept each interval of characters.
+        BitSet[] signatures = new BitSet[starts.length];
+        for (int i = 0; i < starts.length; i++) {
+            signatures[i] = new BitSet();
+        }
+        for (int index = 0; index < nfaStates.size(); index++) {
+            List<Integer> moveRanges = nfaStates.get(index).getMoveRanges();
+            for (int i = 0; i < moveRanges.size(); i += 2) {
+                int first = Arrays.binarySearch(starts, moveRanges.get(i));
+                for (int j = first; j < starts.length && starts[j] <= moveRanges.get(i + 1); j++) {
+                    signatures[j].set(index);
+                }
+            }
+        }
+        // Intervals that are accepted by exactly the same NFA states 
+        // are the same character class.
+        Map<BitSet, Integer> classLookup = new HashMap<>();
+        int[] classes = new int[starts.length];
+        for (int i = 0; i < starts.length; i++) {
+            Integer cls = classLookup.get(signatures[i]);
+            if (cls == null) {
+                cls = classLookup.size();
+                classLookup.put(signatures[i], cls);
+                for (int index = signatures[i].nextSetBit(0); index >= 0; index = signatures[i].nextSetBit(index + 1)) {
+                    statesToClasses(index).set(cls);
+                }
+            }
+            classes[i] = cls;
+        }
+        numClasses = classLookup.size();
+        for (int i = 0; i < starts.length; i++) {
+            int end = i + 1 < starts.length ? starts[i + 1] : 0x110000;
+            if (starts[i] < 128) {
+                Arrays.fill(asciiClasses, starts[i], Math.min(end, 128), classes[i]);
+            } else if (intervalClasses.isEmpty() || intervalClasses.get(intervalClasses.size() - 1) != classes[i]) {
+                intervalStarts.add(starts[i]);
+                intervalClasses.add(classes[i]);
+            }
+        }
+    }
+
+    private BitSet statesToClasses(int nfaStateIndex) {
+        while (statesToClasses.size() <= nfaStateIndex) {
+            statesToClasses.add(new BitSet());
+        }
+        return statesToClasses.get(nfaStateIndex);
+    }
+
+    private boolean buildStates(int sizeLimit) {
+        BitSet initialComposites = new BitSet();
+        initialComposites.set(0);
+        getState(initialComposites, new BitSet());
+        for (int i = 0; i < states.size(); i++) {
+            if ((long) states.size() * numClasses > sizeLimit) {
+                return false;
+            }
+            buildTransitions(states.get(i));
+        }
+        return (long) states.size() * numClasses <= sizeLimit;
+    }
+
+    private void buildTransitions(DfaState state) {
+        BitSet[] nextComposites = new BitSet[numClasses];
+        BitSet[] nextAccepts = new BitSet[numClasses];
+        BitSet activeStates = new BitSet();
+        state.composites.stream().forEach(index -> activeStates.or(compositeContents.get(index)));
+        for (int index = activeStates.nextSetBit(0); index >= 0; index = activeStates.nextSetBit(index + 1)) {
+            NfaState nfaState = nfaStates.get(index);
+            int nextStateIndex = nfaState.getNextStateIndex();
+            RegularExpression type = nfaState.getNextStateType();
+            BitSet classes = statesToClasses(index);
+            for (int cls = classes.nextSetBit(0); cls >= 0; cls = classes.nextSetBit(cls + 1)) {
+                if (nextComposites[cls] == null) {
+                    nextComposites[cls] = new BitSet();
+                    nextAccepts[cls] = new BitSet();
+                }
+                if (nextStateIndex >= 0) {
+                    nextComposites[cls].set(nextStateIndex);
+                }
+                if (type != null) {
+                    nextAccepts[cls].set(acceptTypes.indexOf(type));
+                }
+            }
+        }
+        state.transitions = new int[numClasses];
+        for (int cls = 0; cls < numClasses; cls++) {
+            if (nextComposites[cls] == null || (nextComposites[cls].isEmpty() && nextAccepts[cls].isEmpty())) {
+                state.transitions[cls] = -1;
+            } else {
+                state.transitions[cls] = getState(nextComposites[cls], nextAccepts[cls]).index;
+            }
+        }
+    }
+
+    private DfaState getState(BitSet composites, BitSet accepts) {
+        DfaState key = new DfaState(composites, accepts);
+        DfaState result = stateLookup.get(key);
+        if (result == null) {
+            result = key;
+            result.index = states.size();
+            states.add(result);
+            stateLookup.put(result, result);
+        }
+        return result;
+    }
+
+    /**
+     * A single state of the DFA, i.e. the set of composite 
+     * NFA states that are active, along with the token types 
+     * matched on entering it.
+     */
+    private static class DfaState {
+        final BitSet composites, accepts;
+        int index;
+        int[] transitions;
+
+        DfaState(BitSet composites, BitSet accepts) {
+            this.composites = composites;
+            this.accepts = accepts;
+        }
+
+        public boolean equals(Object other) {
+            return other instanceof DfaState
+                   && ((DfaState) other).composites.equals(composites)
+                   && ((DfaState) other).accepts.equals(accepts);
+        }
+
+        public int hashCode() {
+            return composites.hashCode() * 31 + accepts.hashCode();
+        }
+    }
+}
@@ -55,6 +55,10 @@ public class LexicalStateData {
     private NfaState initialState;
 
     private Set<NfaState> allStates = new HashSet<>();
+
+    private DfaData dfaData;
+
+    private AsciiMoveTable asciiMoveTable;
     
     public LexicalStateData(Grammar grammar, String name) {
         this.grammar = grammar;
@@ -68,10 +72,28 @@ public class LexicalStateData {
 
     public String getName() {return name;}
 
+    /**
+     * @return the deterministic version of this lexical state, or null if the
+     * LEXER_DFA option is not set or the DFA would exceed DFA_SIZE_LIMIT
+     */
+    public DfaData getDfaData() {return dfaData;}
+
+    /**
+     * @return the lookup table for moves on ASCII characters, or null
+     * if no composite state uses one (or we have a DFA instead)
+     */
+    public AsciiMoveTable getAsciiMoveTable() {return asciiMoveTable;}
+
     public List<NfaState> getAllNfaStates() {
         return simpleStates;
     }
 
+    private int stateCount;
+
+    int nextStateSerialNumber() {
+        return stateCount++;
+    }
+
     void addState(NfaState state) {
         allStates.add(state);
     }
@@ -147,6 +169,16 @@ public class LexicalStateData {
         for (int i =0; i< compositeSets.size();i++) {
             compositeSets.get(i).setIndex(i);
         }
+        if (grammar.getLexerDfa()) {
+            dfaData = DfaData.build(this, grammar.getDfaSizeLimit());
+            if (dfaData == null) {
+                grammar.addWarning("Warning: The DFA for lexical state " + getName() + " exceeds the DFA_SIZE_LIMIT. The NFA will be used instead.");
+            }
+        }
+        if (dfaData == null && "java".equals(grammar.getCodeLang())) {
+            asciiMoveTable = new AsciiMoveTable(compositeSets);
+            if (asciiMoveTable.isEmpty()) asciiMoveTable = null;
+        }
     }
 
     private void processTokenProduction(TokenProduction tp) {
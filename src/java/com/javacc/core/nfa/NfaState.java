@@ -51,11 +51,22 @@ public class NfaState {
     // '$','$','A','Z','_','_',a','z'
     private List<Integer> moveRanges = new ArrayList<>();
 
+    // The order in which the states were created, which is used as the hash code,
+    // so that the generated code does not depend on the identity hash codes,
+    // which vary from one run of the generator in the same JVM to the next.
+    private final int serialNumber;
+
     NfaState(LexicalStateData lexicalState) {
         this.lexicalState = lexicalState;
+        this.serialNumber = lexicalState.nextStateSerialNumber();
         lexicalState.addState(this);
     }
 
+    @Override
+    public int hashCode() {
+        return serialNumber;
+    }
+
     void setMovesArrayName(int index) {
         String lexicalStateName = lexicalState.getName();
         if (lexicalStateName.equals("DEFAULT")) 
@@ -0,0 +1,245 @@
+/* Copyright (c) 2008-2021 Jonathan Revusky, revusky@javacc.com
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     * Redistributions of source code must retain the above copyright notices,
+ *       this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in the
+ *       documentation and/or other materials provided with the distribution.
+ *     * Neither the name Jonathan Revusky nor the names of any contributors
+ *       may be used to endorse or promote products derived from this software
+ *       without specific prior written permission.
+ *
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF
+ * THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.javacc.output;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import com.javacc.Grammar;
+
+import freemarker.cache.TemplateLoader;
+
+/**
+ * A record, kept in a file next to the generated parser, of what
+ * went into generating the files last time: the hashes of the grammar
+ * and everything it INCLUDEs, the settings and preprocessor symbols,
+ * the templates and the generator itself, along with the hashes
+ * of the files that were output. If none of that has changed, there
+ * is no need to generate anything, and the files are left as they are,
+ * so that their timestamps do not make the build recompile everything
+ * that depends on them. Deleting the manifest forces regeneration.
+ */
+public class GenerationManifest {
+
+    private final Grammar grammar;
+    private final Path manifestFile;
+    private final TemplateLoader templateLoader;
+    private final Set<String> templateNames = ConcurrentHashMap.newKeySet();
+    private final Map<Path, String> outputHashes = new ConcurrentHashMap<>();
+    private final Set<Path> keptFiles = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param grammar the grammar, which has been parsed by now
+     * @param templateLoader the loader the templates are loaded through
+     */
+    public GenerationManifest(Grammar grammar, TemplateLoader templateLoader) throws IOException {
+        this.grammar = grammar;
+        this.templateLoader = templateLoader;
+        this.manifestFile = grammar.getParserOutputDirectory().resolve("." + grammar.getFilename().getFileName() + ".manifest");
+    }
+
+    /**
+     * Notes the name of a template that was used.
+     */
+    public void addTemplate(String name) {
+        templateNames.add(name);
+    }
+
+    /**
+     * Notes a file that was generated.
+     * @param file the file
+     * @param content what was written to it
+     */
+    public void addOutputFile(Path file, byte[] content) {
+        outputHashes.put(file.toAbsolutePath().normalize(), hash(content));
+    }
+
+    /**
+     * Notes a file that was left alone because it already existed.
+     */
+    public void addOutputFile(Path file) {
+        keptFiles.add(file.toAbsolutePath().normalize());
+    }
+
+    /**
+     * @return whether the manifest from the last time matches the
+     * current inputs and the output files are as they were left.
+     */
+    public boolean isUpToDate() throws IOException {
+        if (!Files.exists(manifestFile)) return false;
+        List<String> lines = Files.readAllLines(manifestFile, StandardCharsets.UTF_8);
+        List<String> expected = new ArrayList<>();
+        for (String line : lines) {
+            if (line.startsWith("#")) continue;
+            int space = line.indexOf(' ');
+            int secondSpace = line.indexOf(' ', space + 1);
+            if (space < 0) return false;
+            String kind = line.substring(0, space);
+            switch (kind) {
+                case "generator" :
+                case "options" :
+                case "input" :
+                    // These are all compared at once below.
+                    expected.add(line);
+                    break;
+                case "template" :
+                    if (secondSpace < 0) return false;
+                    String name = line.substring(secondSpace + 1);
+                    if (!line.substring(space + 1, secondSpace).equals(hashTemplate(name))) return false;
+                    break;
+                case "output" :
+                    if (secondSpace < 0) return false;
+                    Path file = Paths.get(line.substring(secondSpace + 1));
+                    if (!Files.exists(file)) return false;
+                    if (!line.substring(space + 1, secondSpace).equals(hash(Files.readAllBytes(file)))) return false;
+                    break;
+                default : return false;
+            }
+        }
+        return expected.equals(inputLines());
+    }
+
+    /**
+     * Deletes the manifest, so that, if generating the files fails
+     * half-way, they are not taken to be up to date next time.
+     */
+    public void delete() throws IOException {
+        Files.deleteIfExists(manifestFile);
+    }
+
+    /**
+     * Writes out the manifest for the files that were just generated.
+     */
+    public void write() throws IOException {
+        List<String> lines = inputLines();
+        if (lines == null) return; // We can't tell which version of the generator this is.
+        lines.add(0, "# What went into generating the files from " + grammar.getFilename().getFileName() + ". Delete this to force regeneration.");
+        for (String name : new TreeSet<>(templateNames)) {
+            String hash = hashTemplate(name);
+            if (hash != null) lines.add("template " + hash + " " + name);
+        }
+        Map<Path, String> outputs = new TreeMap<>(outputHashes);
+        for (Path file : keptFiles) {
+            if (Files.exists(file)) {
+                outputs.put(file, hash(Files.readAllBytes(file)));
+            }
+        }
+        for (Map.Entry<Path, String> entry : outputs.entrySet()) {
+            lines.add("output " + entry.getValue() + " " + entry.getKey());
+        }
+        Files.write(manifestFile, lines, StandardCharsets.UTF_8);
+    }
+
+    // The lines for the things we know before generating anything,
+    // or null if the version of the generator cannot be determined.
+    private List<String> inputLines() throws IOException {
+        String generatorVersion = generatorVersion();
+        if (generatorVersion == null) return null;
+        List<String> result = new ArrayList<>();
+        result.add("generator " + hash(generatorVersion.getBytes(StandardCharsets.UTF_8)));
+        StringBuilder options = new StringBuilder();
+        options.append(grammar.getCodeLang()).append('\n');
+        options.append(grammar.getJdkTarget()).append('\n');
+        options.append(grammar.getParserOutputDirectory().toAbsolutePath().normalize()).append('\n');
+        options.append(new TreeMap<>(grammar.getSettings())).append('\n');
+        options.append(new TreeMap<>(grammar.getPreprocessorSymbols())).append('\n');
+        result.add("options " + hash(options.toString().getBytes(StandardCharsets.UTF_8)));
+        Map<String, String> inputs = new TreeMap<>();
+        for (Path file : grammar.getIncludedFiles()) {
+            inputs.put(file.toUri().toString(), hash(Files.readAllBytes(file)));
+        }
+        for (Map.Entry<String, String> entry : inputs.entrySet()) {
+            result.add("input " + entry.getValue() + " " + entry.getKey());
+        }
+        return result;
+    }
+
+    private String hashTemplate(String name) throws IOException {
+        Object source = templateLoader.findTemplateSource(name);
+        if (source == null) return null;
+        try (Reader reader = templateLoader.getReader(source, "UTF-8")) {
+            StringBuilder buf = new StringBuilder();
+            char[] chars = new char[8192];
+            for (int n; (n = reader.read(chars)) > 0;) {
+                buf.append(chars, 0, n);
+            }
+            return hash(buf.toString().getBytes(StandardCharsets.UTF_8));
+        } finally {
+            templateLoader.closeTemplateSource(source);
+        }
+    }
+
+    // The size and timestamp of the jarfile we are running from, or, if
+    // we are running from a directory of classes, the latest timestamp of
+    // anything in it.
+    private static String generatorVersion() {
+        try {
+            URI location = GenerationManifest.class.getProtectionDomain().getCodeSource().getLocation().toURI();
+            Path path = Paths.get(location);
+            if (!Files.isDirectory(path)) {
+                return Files.size(path) + ":" + Files.getLastModifiedTime(path).toMillis();
+            }
+            long latest = 0L;
+            try (Stream<Path> files = Files.walk(path)) {
+                Iterator<Path> it = files.iterator();
+                while (it.hasNext()) {
+                    latest = Math.max(latest, Files.getLastModifiedTime(it.next()).toMillis());
+                }
+            }
+            return path + ":" + latest;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder buf = new StringBuilder();
+            for (byte b : digest) {
+                buf.append(String.format("%02x", b & 0xff));
+            }
+            return buf.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to have SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -44,36 +44,57 @@ import static com.javacc.parser.JavaCCConstants.TokenType.*;
  * with different arguments.
  * Also variable names can be in a sense overloaded by being defined
  * in inner classes, but we don't bother about that either.
+ * <p>
+ * The tree is only walked once. Each declaration whose code can
+ * reference other things (a method, a variable declarator, an initializer
+ * or a constructor) is noted along with the names it references. Those that
+ * are not private, or can be used without being referenced by name, are
+ * where we start from, and the rest are used if something that is used
+ * references their name. So working out what is used comes down to
+ * following the references from the starting points.
  */
 class DeadCodeEliminator extends Node.Visitor {
     private Set<String> usedNames = new HashSet<String>();
-    private Set<Node> alreadyVisited = new HashSet<Node>();
     private CompilationUnit jcu;
 
+    // What the tree walk finds
+    private List<Declaration> roots = new ArrayList<>();
+    private Map<String, List<Declaration>> privateDeclarations = new HashMap<>();
+    private List<MethodDeclaration> methods = new ArrayList<>();
+    private List<FieldDeclaration> fields = new ArrayList<>();
+    private List<InterfaceDeclaration> interfaces = new ArrayList<>();
+    // The outermost declaration the walk is inside of, if any
+    private Declaration currentDeclaration;
+
+    // A declaration and the names that appear in it
+    private static class Declaration {
+        final Set<String> referencedNames = new HashSet<>();
+    }
+
     DeadCodeEliminator(CompilationUnit jcu) {
         this.jcu = jcu;
     }
 
     void stripUnused() {
-        int previousUsedNamesSize = -1;
-        // Visit the tree over and over until
-        // nothing is added to usedNames. Then we can stop.
-        while (usedNames.size() > previousUsedNamesSize) {
-            previousUsedNamesSize = usedNames.size();
-            visit(jcu);
-        }
+        visit(jcu);
+        markUsedNames();
         // If the name of the method is not in usedNames, we delete it.
-        for (MethodDeclaration md : jcu.descendants(MethodDeclaration.class, md->!usedNames.contains(md.getName()))) {
-            md.getParent().removeChild(md);
+        for (MethodDeclaration md : methods) {
+            if (!usedNames.contains(md.getName())) {
+                md.getParent().removeChild(md);
+            }
         }
         // We go through all the private FieldDeclarations and get rid of any variables that
         // are not in usedNames
-        for (FieldDeclaration fd : jcu.descendants(FieldDeclaration.class, fd->isPrivate(fd))) {
-            stripUnusedVars(fd);
+        for (FieldDeclaration fd : fields) {
+            if (isPrivate(fd) && isInTree(fd)) {
+                stripUnusedVars(fd);
+            }
         }
 
         // Add interface extends list to used names
-        for (InterfaceDeclaration iface : jcu.descendants(InterfaceDeclaration.class)) {
+        for (InterfaceDeclaration iface : interfaces) {
+            if (!isInTree(iface)) continue;
             ExtendsList el = iface.firstDescendantOfType(ExtendsList.class);
             if (null != el) for (Identifier id : el.descendantsOfType(Identifier.class))
                 usedNames.add(id.getImage());
@@ -81,7 +102,8 @@ class DeadCodeEliminator extends Node.Visitor {
 
         // With the remaining field declarations, we add any type names to usedNames
         // so that we don't remove imports that refer to them.
-        for (FieldDeclaration fd : jcu.descendants(FieldDeclaration.class)) {
+        for (FieldDeclaration fd : fields) {
+            if (!isInTree(fd)) continue;
             for (Identifier id : fd.descendantsOfType(Identifier.class)) {
         // In Foo.Bar.Baz it is only the Foo
         // that needs to be added to usedNames, for example.
@@ -104,46 +126,95 @@ class DeadCodeEliminator extends Node.Visitor {
         }
     }
 
+    // Follows the references from the roots, adding
+    // every name that is reached to usedNames.
+    private void markUsedNames() {
+        Deque<String> worklist = new ArrayDeque<>();
+        for (Declaration root : roots) {
+            addUsedNames(root, worklist);
+        }
+        while (!worklist.isEmpty()) {
+            List<Declaration> declarations = privateDeclarations.remove(worklist.pop());
+            if (declarations != null) {
+                for (Declaration declaration : declarations) {
+                    addUsedNames(declaration, worklist);
+                }
+            }
+        }
+    }
+
+    private void addUsedNames(Declaration declaration, Deque<String> worklist) {
+        for (String name : declaration.referencedNames) {
+            if (usedNames.add(name)) {
+                worklist.push(name);
+            }
+        }
+    }
+
+    // Whether the node has not been removed along with something that contains it
+    private boolean isInTree(Node node) {
+        while (node != null && node != jcu) {
+            node = node.getParent();
+        }
+        return node == jcu;
+    }
+
     private boolean isPrivate(Node node) {
         if (node.firstChildOfType(PRIVATE) != null) return true;
         Modifiers mods = node.firstChildOfType(Modifiers.class);
         return mods == null ? false : mods.firstChildOfType(PRIVATE) != null;
     }
 
-    void visit(MethodDeclaration md) {
-        if (alreadyVisited.contains(md)) return;
-        if (!isPrivate(md) || usedNames.contains(md.getName())) {
-            md.descendants(Identifier.class).stream().forEach(id->usedNames.add(id.getImage()));
-            alreadyVisited.add(md);
+    // Visits the declaration, which is a root or, if name is not null,
+    // is only used if that name is referenced. A declaration inside
+    // another one is taken to be part of the outer one.
+    private void visitDeclaration(Node node, String name) {
+        if (currentDeclaration != null) {
+            recurse(node);
+            return;
+        }
+        currentDeclaration = new Declaration();
+        if (name == null) {
+            roots.add(currentDeclaration);
+        } else {
+            privateDeclarations.computeIfAbsent(name, k -> new ArrayList<>()).add(currentDeclaration);
         }
+        recurse(node);
+        currentDeclaration = null;
+    }
+
+    void visit(MethodDeclaration md) {
+        methods.add(md);
+        visitDeclaration(md, isPrivate(md) ? md.getName() : null);
     }
 
     void visit(VariableDeclarator vd) {
-        if (alreadyVisited.contains(vd)) return;
-        if (!isPrivate(vd.getParent()) || usedNames.contains(vd.getName())) {
-            for (Identifier id : vd.descendants(Identifier.class)) {
-                usedNames.add(id.getImage());
-            }
-            alreadyVisited.add(vd);
-        }
+        visitDeclaration(vd, isPrivate(vd.getParent()) ? vd.getName() : null);
     }
 
     void visit(Initializer init) {
-        if (alreadyVisited.contains(init)) return;
-        for (Identifier id : init.descendants(Identifier.class)) {
-            usedNames.add(id.getImage());
-        }
-        alreadyVisited.add(init);
+        visitDeclaration(init, null);
     }
 
     void visit(ConstructorDeclaration cd) {
-        if (alreadyVisited.contains(cd)) return;
-        for (Identifier id : cd.descendants(Identifier.class)) {
-            usedNames.add(id.getImage());
-        }
-        alreadyVisited.add(cd);
+        visitDeclaration(cd, null);
+    }
+
+    void visit(FieldDeclaration fd) {
+        fields.add(fd);
+        recurse(fd);
     }
 
+    void visit(InterfaceDeclaration iface) {
+        interfaces.add(iface);
+        recurse(iface);
+    }
+
+    void visit(Identifier id) {
+        if (currentDeclaration != null) {
+            currentDeclaration.referencedNames.add(id.getImage());
+        }
+    }
     // Get rid of any variable declarations where the variable name
     // is not in usedNames. The only complicated case is if the field
     // has more than one variable declaration comma-separated
@@ -30,15 +30,18 @@
 package com.javacc.output.java;
 
 import java.io.IOException;
-import java.io.Writer;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.concurrent.*;
 
 import com.javacc.Grammar;
 import com.javacc.core.RegularExpression;
+import com.javacc.output.GenerationManifest;
 import com.javacc.parser.*;
 import com.javacc.parser.tree.CompilationUnit;
 
@@ -54,11 +57,36 @@ public class FilesGenerator {
     private final Set<String> tokenSubclassFileNames = new HashSet<>();
     private final HashMap<String, String> superClassLookup = new HashMap<>();
     private final String codeLang;
+    private GenerationManifest manifest;
+
+    // When the generator is kept running (see com.javacc.GeneratorDaemon), the
+    // FreeMarker configurations, and so the templates they have parsed, are kept
+    // from one grammar to the next, keyed by the grammar's directory and the language.
+    private static volatile boolean cacheTemplates;
+    private static final Map<String, Configuration> cachedConfigurations = new ConcurrentHashMap<>();
+
+    public static void setCacheTemplates(boolean cacheTemplates) {
+        FilesGenerator.cacheTemplates = cacheTemplates;
+    }
 
     void initializeTemplateEngine() throws IOException {
-        fmConfig = new freemarker.template.Configuration();
-        Path filename = grammar.getFilename().toAbsolutePath();
-        Path dir = filename.getParent();
+        if (fmConfig != null) return;
+        Path dir = grammar.getFilename().toAbsolutePath().getParent();
+        String key = dir + java.io.File.pathSeparator + codeLang;
+        fmConfig = cacheTemplates ? cachedConfigurations.get(key) : null;
+        if (fmConfig == null) {
+            fmConfig = createConfiguration(dir);
+            if (cacheTemplates) {
+                cachedConfigurations.put(key, fmConfig);
+            }
+        }
+        RecordingTemplateLoader loader = (RecordingTemplateLoader) fmConfig.getTemplateLoader();
+        manifest = new GenerationManifest(grammar, loader.delegate);
+        loader.manifest = manifest;
+    }
+
+    private Configuration createConfiguration(Path dir) throws IOException {
+        Configuration fmConfig = new freemarker.template.Configuration();
         //
         // The first two loaders are really for developers - templates
         // are looked for in the grammar's directory, and then in a
@@ -78,10 +106,48 @@ public class FilesGenerator {
         loaders.add(new ClassTemplateLoader(this.getClass(), templateFolder));
         templateLoader = new MultiTemplateLoader(loaders.toArray(new TemplateLoader[0]));
 
-        fmConfig.setTemplateLoader(templateLoader);
+        fmConfig.setTemplateLoader(new RecordingTemplateLoader(templateLoader));
+        // The templates do not change while we are generating, so there is
+        // no point going back to the loaders to check whether they are stale,
+        // unless the configuration is kept for the next grammar.
+        fmConfig.setTemplateUpdateDelay(cacheTemplates ? 0 : Integer.MAX_VALUE);
         fmConfig.setObjectWrapper(new BeansWrapper());
         fmConfig.setNumberFormat("computer");
         fmConfig.setArithmeticEngine(freemarker.core.ast.ArithmeticEngine.CONSERVATIVE_ENGINE);
+        return fmConfig;
+    }
+
+    /**
+     * Passes on the names of the templates that are looked up to the
+     * manifest of the grammar being generated. When the configuration 
+     * is cached, the update delay of 0 means that the templates are
+     * looked up (though not parsed) again every time they are used.
+     */
+    private static class RecordingTemplateLoader implements TemplateLoader {
+        final TemplateLoader delegate;
+        volatile GenerationManifest manifest;
+
+        RecordingTemplateLoader(TemplateLoader delegate) {
+            this.delegate = delegate;
+        }
+
+        public Object findTemplateSource(String name) throws IOException {
+            Object source = delegate.findTemplateSource(name);
+            if (source != null) manifest.addTemplate(name);
+            return source;
+        }
+
+        public long getLastModified(Object templateSource) {
+            return delegate.getLastModified(templateSource);
+        }
+
+        public java.io.Reader getReader(Object templateSource, String encoding) throws IOException {
+            return delegate.getReader(templateSource, encoding);
+        }
+
+        public void closeTemplateSource(Object templateSource) throws IOException {
+            delegate.closeTemplateSource(templateSource);
+        }
     }
 
     public FilesGenerator(Grammar grammar, String codeLang, List<Node> codeInjections) {
@@ -93,11 +159,21 @@ public class FilesGenerator {
                                              codeInjections);
     }
 
+    /**
+     * @return whether nothing that went into generating the files has 
+     * changed since the last time, according to the manifest. 
+     */
+    public boolean isUpToDate() throws IOException {
+        initializeTemplateEngine();
+        return manifest.isUpToDate();
+    }
+
     public void generateAll() throws IOException, TemplateException { 
         if (grammar.getErrorCount() != 0) {
             throw new ParseException();
         }
         initializeTemplateEngine();
+        manifest.delete();
         switch (codeLang) {
             case "java":
 //                long start = System.nanoTime();
@@ -108,6 +184,9 @@ public class FilesGenerator {
                 if (!grammar.getProductionTable().isEmpty()) {
                     generateParseException();
                     generateParser();
+                    if (grammar.getBatchProduction() != null) {
+                        generateBatchParser();
+                    }
                 }
 //                System.out.println("Spent " + (System.nanoTime() -start)/10000000 + " milliseconds generating Parser/lexer.");
                 if (grammar.getFaultTolerant()) {
@@ -161,6 +240,9 @@ public class FilesGenerator {
             default:
                 throw new UnsupportedOperationException(String.format("Code generation in '%s' is currently not supported.", codeLang));
         }
+        if (grammar.getErrorCount() == 0) {
+            manifest.write();
+        }
     }
 
     public void generate(Path outputFile) throws IOException, TemplateException {
@@ -186,6 +268,10 @@ public class FilesGenerator {
                 result = "ASTToken.java.ftl";
             } else if (outputFilename.equals(grammar.getParserClassName() + ".java")) {
                 result = "Parser.java.ftl";
+            } else if (outputFilename.equals(grammar.getBatchParserClassName() + ".java")) {
+                result = "BatchParser.java.ftl";
+            } else if (outputFilename.equals(grammar.getVisitorClassName() + ".java")) {
+                result = "Visitor.java.ftl";
             } else if (outputFilename.equals(grammar.getConstantsClassName() + ".java")) {
                 result = "Constants.java.ftl";
             } else if (outputFilename.endsWith("Lexer.java")
@@ -228,46 +314,74 @@ public class FilesGenerator {
         if (codeInjector.getExplicitlyDeclaredPackage(classname) != null) {
             dataModel.put("explicitPackageName", codeInjector.getExplicitlyDeclaredPackage(classname));
         }
-        Writer out = new StringWriter();
+        StringWriter out = renderBuffer.get();
+        out.getBuffer().setLength(0);
         Template template = fmConfig.getTemplate(templateName);
         // Sometimes needed in templates for e.g. injector.hasInjectedCode(node)
         dataModel.put("injector", grammar.getInjector());
         template.process(dataModel, out);
         String code = out.toString();
-        if (!grammar.isQuiet()) {
+        if (!grammar.isQuiet() && !inWorkerThread.get()) {
             System.out.println("Outputting: " + outputFile.normalize());
         }
         if (outputFile.getFileName().toString().endsWith(".java")) {
             outputJavaFile(code, outputFile);
-        } else try (Writer outfile = Files.newBufferedWriter(outputFile)) {
-            outfile.write(code);
+        } else {
+            writeIfChanged(outputFile, code);
         }
     }
 
+    // The buffer that templates are rendered into, kept from one file
+    // to the next, so that it does not have to grow again each time.
+    private static final ThreadLocal<StringWriter> renderBuffer = ThreadLocal.withInitial(StringWriter::new);
+
     void outputJavaFile(String code, Path outputFile) throws IOException {
-        Path dir = outputFile.getParent();
-        if (Files.exists(dir)) {
-            Files.createDirectories(dir);
-        }
         CompilationUnit jcu;
-        Writer out = Files.newBufferedWriter(outputFile);
         try {
             jcu = JavaCCParser.parseJavaFile(outputFile.getFileName().toString(), code);
         } catch (Exception e) {
-            out.write(code);
+            // Write out the code as it is, so that it can be looked at 
+            // to see what is wrong with it.
+            writeIfChanged(outputFile, code);
             return;
+        }
+        codeInjector.injectCode(jcu);
+        JavaCodeUtils.removeWrongJDKElements(jcu, grammar.getJdkTarget());
+        JavaCodeUtils.addGetterSetters(jcu);
+        JavaCodeUtils.stripUnused(jcu);
+//      OlderJavaFormatter formatter = new OlderJavaFormatter();
+        JavaFormatter formatter = new JavaFormatter();
+        writeIfChanged(outputFile, formatter.format(jcu));
+    }
+
+    /**
+     * Writes the content to the file, unless the file is already
+     * exactly that, in which case it is left alone, timestamp and all.
+     * The content is written to a temporary file that then replaces
+     * the file, so that it is never left half-written.
+     */
+    private void writeIfChanged(Path outputFile, String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        manifest.addOutputFile(outputFile, bytes);
+        if (Files.exists(outputFile) && Files.size(outputFile) == bytes.length
+             && Arrays.equals(Files.readAllBytes(outputFile), bytes)) {
+            return;
+        }
+        Path dir = outputFile.toAbsolutePath().getParent();
+        if (!Files.exists(dir)) {
+            Files.createDirectories(dir);
+        }
+        // Not Files.createTempFile, which would make the file readable only by its owner.
+        Path tempFile = dir.resolve(outputFile.getFileName() + ".tmp");
+        try {
+            Files.write(tempFile, bytes);
+            try {
+                Files.move(tempFile, outputFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, outputFile, StandardCopyOption.REPLACE_EXISTING);
+            }
         } finally {
-            out.flush();
-            out.close();
-        }
-        try (Writer output = Files.newBufferedWriter(outputFile)) {
-            codeInjector.injectCode(jcu);
-            JavaCodeUtils.removeWrongJDKElements(jcu, grammar.getJdkTarget());
-            JavaCodeUtils.addGetterSetters(jcu);
-            JavaCodeUtils.stripUnused(jcu);
-//          OlderJavaFormatter formatter = new OlderJavaFormatter();
-            JavaFormatter formatter = new JavaFormatter();
-            output.write(formatter.format(jcu));
+            Files.deleteIfExists(tempFile);
         }
     }
 
@@ -330,6 +444,12 @@ public class FilesGenerator {
         generate(outputFile);
     }
     
+    void generateBatchParser() throws IOException, TemplateException {
+        String filename = grammar.getBatchParserClassName() + ".java";
+        Path outputFile = grammar.getParserOutputDirectory().resolve(filename);
+        generate(outputFile);
+    }
+
     void generateNodeFile() throws IOException, TemplateException {
         Path outputFile = grammar.getParserOutputDirectory().resolve("Node.java");
         if (regenerate(outputFile)) {
@@ -364,11 +484,24 @@ public class FilesGenerator {
         // For now regenerate() isn't called for generating Python or C# files,
         // but I'll leave this here for the moment
         //
-        return extension.equals(".py") || extension.equals(".cs");    // for now, always regenerate
+        if (extension.equals(".py") || extension.equals(".cs")) {
+            return true;    // for now, always regenerate
+        }
+        // We leave the existing file alone, but note it in the manifest 
+        // so that we regenerate if it goes missing.
+        manifest.addOutputFile(file);
+        return false;
+    }
+
+    void generateVisitor() throws IOException, TemplateException {
+        String filename = grammar.getVisitorClassName() + ".java";
+        Path outputFile = grammar.getParserOutputDirectory().resolve(filename);
+        generate(outputFile);
     }
 
     void generateTreeBuildingFiles() throws IOException, TemplateException {
     	generateNodeFile();
+        generateVisitor();
         Map<String, Path> files = new LinkedHashMap<>();
         files.put(grammar.getBaseNodeClassName(), getOutputFile(grammar.getBaseNodeClassName()));
 
@@ -402,10 +535,69 @@ public class FilesGenerator {
             }
             files.put(nodeName, outputFile);
         }
+        Map<String, Path> filesToGenerate = new LinkedHashMap<>();
         for (Map.Entry<String, Path> entry : files.entrySet()) {
             if (regenerate(entry.getValue())) {
+                filesToGenerate.put(entry.getKey(), entry.getValue());
+            }
+        }
+        generateConcurrently(filesToGenerate);
+    }
+
+    // Set in the threads of the pool, where the generate method leaves 
+    // the "Outputting: ..." message to the calling thread, so that 
+    // the messages come out in the same order every time.
+    private static final ThreadLocal<Boolean> inWorkerThread = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * Generates the files on a pool of threads. Each file is rendered, 
+     * post-processed and written independently of the others,
+     * so the output is the same as generating them one after the other.
+     */
+    private void generateConcurrently(Map<String, Path> files) throws IOException, TemplateException {
+        int threads = Math.min(grammar.getGeneratorThreads(), files.size());
+        if (threads <= 1) {
+            for (Map.Entry<String, Path> entry : files.entrySet()) {
                 generate(entry.getKey(), entry.getValue());
             }
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for (Map.Entry<String, Path> entry : files.entrySet()) {
+                results.add(executor.submit(() -> {
+                    inWorkerThread.set(true);
+                    generate(entry.getKey(), entry.getValue());
+                    return null;
+                }));
+            }
+            Iterator<Path> paths = files.values().iterator();
+            for (Future<Void> result : results) {
+                Path outputFile = paths.next();
+                try {
+                    result.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof IOException) throw (IOException) cause;
+                    if (cause instanceof TemplateException) throw (TemplateException) cause;
+                    if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                    if (cause instanceof Error) throw (Error) cause;
+                    throw new IOException(cause);
+                }
+                if (!grammar.isQuiet()) {
+                    System.out.println("Outputting: " + outputFile.normalize());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
         }
     }
 
@@ -429,7 +621,7 @@ public class FilesGenerator {
         if (sourceBase.equals("")) {
             return grammar.getNodeOutputDirectory().resolve(className + ".java");
         }
-        Path result = Paths.get(sourceBase);
+        Path result = grammar.getWorkingDir().resolve(sourceBase);
         result = result.resolve(explicitlyDeclaredPackage.replace('.', '/'));
         return result.resolve(className + ".java");
     }
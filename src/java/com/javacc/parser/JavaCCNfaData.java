@@ -0,0 +1,6272 @@
+/* Generated by: JavaCC 21 Parser Generator. JavaCCNfaData.java */
+package com.javacc.parser;
+
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import java.util.EnumSet;
+import java.util.BitSet;
+import java.util.Arrays;
+import java.util.EnumMap;
+
+
+/**
+* Holder class for the data used by JavaCCLexer
+* to do the NFA thang
+*/
+class JavaCCNfaData implements JavaCCConstants {
+
+    // The functional interface that represents
+    // the acceptance method of an NFA state
+    static interface NfaFunction {
+
+        TokenType apply(int ch, BitSet bs, EnumSet<TokenType> validTypes);
+
+    }
+
+    // A lookup of the NFA function tables for the respective lexical states.
+    private static final EnumMap<LexicalState, NfaFunction[]> functionTableMap = new EnumMap<>(LexicalState.class);
+
+    // This data holder class is never instantiated
+    private JavaCCNfaData() {
+    }
+
+    /**
+    * @param the lexical state
+    * @return the table of function pointers that implement the lexical state
+    */
+    static final NfaFunction[] getFunctionTableMap(LexicalState lexicalState) {
+        return functionTableMap.get(lexicalState);
+    }
+
+    // Initialize the various NFA method tables
+    static {
+        JAVA.NFA_FUNCTIONS_init();
+        IN_MULTI_LINE_COMMENT.NFA_FUNCTIONS_init();
+        IN_SINGLE_LINE_COMMENT.NFA_FUNCTIONS_init();
+    }
+
+    // Just use the canned binary search to check whether the char
+    // is in one of the intervals
+    private static final boolean checkIntervals(int[] ranges, int ch) {
+        int result = Arrays.binarySearch(ranges, ch);
+        return result >= 0 || result % 2 == 0;
+    }
+
+
+    /**
+    * Holder class for NFA code related to JAVA lexical state
+    */
+    private static class JAVA {
+
+        static private TokenType NFA_JAVA_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '!') {
+                nextStates.set(428);
+            } else if (ch == '"') {
+                nextStates.set(620);
+                nextStates.set(373);
+            } else if (ch == '%') {
+                nextStates.set(250);
+            } else if (ch == '&') {
+                nextStates.set(360);
+                nextStates.set(59);
+            } else if (ch == '\'') {
+                nextStates.set(414);
+                nextStates.set(15);
+            } else if (ch == '*') {
+                nextStates.set(75);
+            } else if (ch == '+') {
+                nextStates.set(136);
+                nextStates.set(491);
+            } else if (ch == '-') {
+                nextStates.set(13);
+                nextStates.set(348);
+                nextStates.set(108);
+            } else if (ch == '.') {
+                nextStates.set(432);
+                nextStates.set(636);
+            } else if (ch == '/') {
+                nextStates.set(194);
+                nextStates.set(443);
+                nextStates.set(135);
+            } else if (ch == '0') {
+                nextStates.set(208);
+                nextStates.set(155);
+                nextStates.set(39);
+                nextStates.set(252);
+                nextStates.set(243);
+                nextStates.set(472);
+                nextStates.set(379);
+                nextStates.set(504);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(295);
+                nextStates.set(134);
+                nextStates.set(270);
+                nextStates.set(126);
+            } else if (ch == ':') {
+                nextStates.set(587);
+            } else if (ch == '<') {
+                nextStates.set(434);
+                nextStates.set(223);
+                nextStates.set(221);
+            } else if (ch == '=') {
+                nextStates.set(247);
+                nextStates.set(63);
+                nextStates.set(353);
+            } else if (ch == '>') {
+                nextStates.set(387);
+                nextStates.set(118);
+                nextStates.set(94);
+                nextStates.set(541);
+                nextStates.set(142);
+            } else if (ch == 'A') {
+                nextStates.set(366);
+                nextStates.set(448);
+                nextStates.set(301);
+                nextStates.set(184);
+            } else if (ch == 'D') {
+                nextStates.set(505);
+            } else if (ch == 'E') {
+                nextStates.set(437);
+            } else if (ch == 'F') {
+                nextStates.set(545);
+            } else if (ch == 'I') {
+                nextStates.set(197);
+                nextStates.set(487);
+                nextStates.set(304);
+                nextStates.set(121);
+                nextStates.set(106);
+            } else if (ch == 'L') {
+                nextStates.set(398);
+                nextStates.set(93);
+            } else if (ch == 'M') {
+                nextStates.set(230);
+            } else if (ch == 'O') {
+                nextStates.set(7);
+            } else if (ch == 'P') {
+                nextStates.set(627);
+                nextStates.set(355);
+            } else if (ch == 'R') {
+                nextStates.set(41);
+                nextStates.set(47);
+                nextStates.set(647);
+            } else if (ch == 'S') {
+                nextStates.set(113);
+                nextStates.set(463);
+                nextStates.set(614);
+            } else if (ch == 'T') {
+                nextStates.set(300);
+                nextStates.set(196);
+            } else if (ch == 'U') {
+                nextStates.set(535);
+                nextStates.set(220);
+            } else if (ch == '^') {
+                nextStates.set(455);
+            } else if (ch == 'a') {
+                nextStates.set(82);
+                nextStates.set(158);
+            } else if (ch == 'b') {
+                nextStates.set(668);
+                nextStates.set(307);
+                nextStates.set(417);
+            } else if (ch == 'c') {
+                nextStates.set(257);
+                nextStates.set(119);
+                nextStates.set(179);
+                nextStates.set(540);
+                nextStates.set(608);
+                nextStates.set(183);
+            } else if (ch == 'd') {
+                nextStates.set(651);
+                nextStates.set(140);
+                nextStates.set(496);
+            } else if (ch == 'e') {
+                nextStates.set(560);
+                nextStates.set(612);
+                nextStates.set(605);
+            } else if (ch == 'f') {
+                nextStates.set(34);
+                nextStates.set(182);
+                nextStates.set(369);
+                nextStates.set(287);
+                nextStates.set(235);
+            } else if (ch == 'g') {
+                nextStates.set(101);
+            } else if (ch == 'i') {
+                nextStates.set(31);
+                nextStates.set(127);
+                nextStates.set(163);
+                nextStates.set(217);
+                nextStates.set(311);
+                nextStates.set(232);
+            } else if (ch == 'l') {
+                nextStates.set(138);
+            } else if (ch == 'n') {
+                nextStates.set(408);
+                nextStates.set(271);
+                nextStates.set(166);
+                nextStates.set(396);
+            } else if (ch == 'p') {
+                nextStates.set(467);
+                nextStates.set(157);
+                nextStates.set(80);
+                nextStates.set(655);
+                nextStates.set(400);
+            } else if (ch == 'r') {
+                nextStates.set(555);
+                nextStates.set(159);
+            } else if (ch == 's') {
+                nextStates.set(446);
+                nextStates.set(656);
+                nextStates.set(92);
+                nextStates.set(116);
+                nextStates.set(319);
+                nextStates.set(338);
+                nextStates.set(27);
+            } else if (ch == 't') {
+                nextStates.set(334);
+                nextStates.set(144);
+                nextStates.set(81);
+                nextStates.set(586);
+                nextStates.set(486);
+                nextStates.set(97);
+            } else if (ch == 'v') {
+                nextStates.set(321);
+                nextStates.set(14);
+                nextStates.set(447);
+            } else if (ch == 'w') {
+                nextStates.set(676);
+            } else if (ch == 'y') {
+                nextStates.set(96);
+            } else if (ch == '|') {
+                nextStates.set(410);
+                nextStates.set(666);
+            }
+            if (((ch == '$') || ((ch >= 'A' && ch <= 'Z') || ((ch == '_') || (ch >= 'a' && ch <= 'z')))) || (ch >= 128 && checkIntervals(NFA_MOVES_JAVA_95, ch))) {
+                nextStates.set(687);
+                if (validTypes.contains(IDENTIFIER)) type = IDENTIFIER;
+            } else if (ch == '%') {
+                if (validTypes.contains(REM)) type = REM;
+            } else if (ch == '^') {
+                if (validTypes.contains(XOR)) type = XOR;
+            } else if (ch == '|') {
+                if (validTypes.contains(BIT_OR)) type = BIT_OR;
+            } else if (ch == '&') {
+                if (validTypes.contains(BIT_AND)) type = BIT_AND;
+            } else if (ch == '/') {
+                if (validTypes.contains(SLASH)) type = SLASH;
+            } else if (ch == '*') {
+                if (validTypes.contains(STAR)) type = STAR;
+            } else if (ch == '-') {
+                if (validTypes.contains(MINUS)) type = MINUS;
+            } else if (ch == '+') {
+                if (validTypes.contains(PLUS)) type = PLUS;
+            } else if (ch == ':') {
+                if (validTypes.contains(COLON)) type = COLON;
+            } else if (ch == '?') {
+                if (validTypes.contains(HOOK)) type = HOOK;
+            } else if (ch == '~') {
+                if (validTypes.contains(TILDE)) type = TILDE;
+            } else if (ch == '!') {
+                if (validTypes.contains(BANG)) type = BANG;
+            } else if (ch == '<') {
+                if (validTypes.contains(LT)) type = LT;
+            } else if (ch == '>') {
+                if (validTypes.contains(GT)) type = GT;
+            } else if (ch == '=') {
+                if (validTypes.contains(ASSIGN)) type = ASSIGN;
+            } else if (ch == '@') {
+                if (validTypes.contains(AT)) type = AT;
+            } else if (ch == '.') {
+                if (validTypes.contains(DOT)) type = DOT;
+            } else if (ch == ',') {
+                if (validTypes.contains(COMMA)) type = COMMA;
+            } else if (ch == ';') {
+                if (validTypes.contains(SEMICOLON)) type = SEMICOLON;
+            } else if (ch == ']') {
+                if (validTypes.contains(RBRACKET)) type = RBRACKET;
+            } else if (ch == '[') {
+                if (validTypes.contains(LBRACKET)) type = LBRACKET;
+            } else if (ch == '}') {
+                if (validTypes.contains(RBRACE)) type = RBRACE;
+            } else if (ch == '{') {
+                if (validTypes.contains(LBRACE)) type = LBRACE;
+            } else if (ch == ')') {
+                if (validTypes.contains(RPAREN)) type = RPAREN;
+            } else if (ch == '(') {
+                if (validTypes.contains(LPAREN)) type = LPAREN;
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(259);
+                if (validTypes.contains(INTEGER_LITERAL)) type = INTEGER_LITERAL;
+            }
+            if (ch == '_') {
+                if (validTypes.contains(UNDERSCORE)) type = UNDERSCORE;
+            } else if (ch == '\t') {
+                nextStates.set(439);
+                if (validTypes.contains(WHITESPACE)) type = WHITESPACE;
+            } else if (ch == '\n') {
+                nextStates.set(439);
+                if (validTypes.contains(WHITESPACE)) type = WHITESPACE;
+            } else if (ch == '\f') {
+                nextStates.set(439);
+                if (validTypes.contains(WHITESPACE)) type = WHITESPACE;
+            } else if (ch == '\r') {
+                nextStates.set(439);
+                if (validTypes.contains(WHITESPACE)) type = WHITESPACE;
+            } else if (ch == ' ') {
+                nextStates.set(439);
+                if (validTypes.contains(WHITESPACE)) type = WHITESPACE;
+            } else if (ch == '\\') {
+                if (validTypes.contains(BACKSLASH)) type = BACKSLASH;
+            } else if (ch == '#') {
+                if (validTypes.contains(HASH)) type = HASH;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(523);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_2(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'O') {
+                nextStates.set(314);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_3(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '_') {
+                nextStates.set(510);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_4(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '_') {
+                nextStates.set(619);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_5(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(289);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_6(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(440);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_7(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'N') {
+                nextStates.set(3);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_8(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                if (validTypes.contains(_INCLUDE)) type = _INCLUDE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_9(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(438);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_10(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'z') {
+                nextStates.set(411);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_11(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '_') {
+                nextStates.set(503);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_12(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'S') {
+                nextStates.set(571);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_13(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                if (validTypes.contains(LAMBDA)) type = LAMBDA;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_14(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(595);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_15(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '\t') || ((ch == 0xb || ch == '\f') || ((ch >= 0xe && ch <= '&') || ((ch >= '(' && ch <= '[') || (ch >= ']'))))) {
+                nextStates.set(548);
+            } else if (ch == '\\') {
+                nextStates.set(547);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_16(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'C') {
+                nextStates.set(528);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_17(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(495);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_18(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(320);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_19(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(201);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_20(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(652);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_21(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '_') {
+                nextStates.set(393);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_22(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '_') {
+                nextStates.set(56);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_23(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(CONTINUE)) type = CONTINUE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_24(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'N') {
+                nextStates.set(146);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_25(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'D') {
+                nextStates.set(582);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_26(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(52);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_27(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(401);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_28(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(664);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_29(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(613);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_30(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'N') {
+                nextStates.set(492);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_31(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'm') {
+                nextStates.set(264);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_32(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'g') {
+                if (validTypes.contains(LONG)) type = LONG;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_33(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '+') || (ch == '-')) {
+                nextStates.set(222);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(372);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_34(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(88);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_35(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'S') {
+                nextStates.set(128);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_36(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'O') {
+                nextStates.set(529);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_37(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '"') {
+                nextStates.set(470);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_38(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'G') {
+                nextStates.set(336);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_39(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'X') || (ch == 'x')) {
+                nextStates.set(234);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_40(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                if (validTypes.contains(SUPER)) type = SUPER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_41(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(665);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_42(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'M') {
+                nextStates.set(84);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_43(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(681);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_44(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'S') {
+                if (validTypes.contains(_ACTIVE_TOKENS)) type = _ACTIVE_TOKENS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_45(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(209);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_46(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                if (validTypes.contains(VAR_ARGS)) type = VAR_ARGS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_47(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(375);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_48(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '"') || ((ch == '\'') || ((ch == '\\') || ((ch == 'b') || ((ch == 'f') || ((ch == 'n') || (ch >= 'r' && ch <= 't'))))))) {
+                nextStates.set(495);
+            } else if (ch >= '0' && ch <= '3') {
+                nextStates.set(683);
+            }
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(170);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_49(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(49);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(502);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_50(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '0' || ch == '1') {
+                nextStates.set(354);
+            }
+            if ((ch == '0' || ch == '1') || (ch == '_')) {
+                nextStates.set(149);
+            } else if ((ch == 'L') || (ch == 'l')) {
+                if (validTypes.contains(LONG_LITERAL)) type = LONG_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_51(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'L') {
+                nextStates.set(394);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_52(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(263);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_53(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(86);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_54(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(107);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_55(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'p') {
+                nextStates.set(645);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_56(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'T') {
+                nextStates.set(633);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_57(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(212);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_58(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(464);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_59(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(ANDASSIGN)) type = ANDASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_60(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'T') {
+                if (validTypes.contains(_INJECT)) type = _INJECT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_61(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(293);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_62(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'S') {
+                if (validTypes.contains(_TOKEN_MGR_DECLS)) type = _TOKEN_MGR_DECLS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_63(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(EQ)) type = EQ;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_64(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'b') {
+                nextStates.set(460);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_65(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'I') {
+                nextStates.set(484);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_66(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'C') {
+                nextStates.set(596);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_67(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'I') {
+                nextStates.set(544);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_68(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(569);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_69(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(103);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_70(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(6);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_71(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || ((ch == '_') || (ch >= 'a' && ch <= 'f')))) {
+                nextStates.set(71);
+            }
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(354);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_72(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(566);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_73(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '_') {
+                nextStates.set(154);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_74(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(89);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_75(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(STARASSIGN)) type = STARASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_76(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'P') {
+                nextStates.set(405);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_77(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '_') {
+                nextStates.set(25);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_78(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'O') {
+                nextStates.set(199);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_79(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '"') || ((ch == '\'') || ((ch == '\\') || ((ch == 'b') || ((ch == 'f') || ((ch == 'n') || (ch >= 'r' && ch <= 't'))))))) {
+                nextStates.set(391);
+            } else if (ch >= '0' && ch <= '3') {
+                nextStates.set(374);
+            }
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(370);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_80(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(61);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_81(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(507);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_82(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(98);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_83(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(548);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_84(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'M') {
+                nextStates.set(95);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_85(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(501);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_86(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(458);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_87(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(CONST)) type = CONST;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_88(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(618);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_89(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(131);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_90(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(629);
+            }
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || ((ch == '_') || (ch >= 'a' && ch <= 'f')))) {
+                nextStates.set(90);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_91(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(200);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_92(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(55);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_93(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(456);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_94(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                nextStates.set(326);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_95(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'A') {
+                nextStates.set(517);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_96(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(294);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_97(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(161);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_98(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(532);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_99(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(444);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_100(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'U') {
+                nextStates.set(429);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_101(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(500);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_102(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'A') {
+                nextStates.set(42);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_103(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(_ASSERT)) type = _ASSERT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_104(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                if (validTypes.contains(FOR)) type = FOR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_105(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '0' || ch == '1') {
+                nextStates.set(673);
+                if (validTypes.contains(INTEGER_LITERAL)) type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_106(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'N') {
+                nextStates.set(153);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_107(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(573);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_108(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '-') {
+                if (validTypes.contains(DECR)) type = DECR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_109(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'C') {
+                nextStates.set(215);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_110(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'N') {
+                if (validTypes.contains(_PARSER_BEGIN)) type = _PARSER_BEGIN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_111(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'E') || (ch == 'e')) {
+                nextStates.set(497);
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_112(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(32);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_113(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'K') {
+                nextStates.set(65);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_114(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'R') {
+                nextStates.set(1);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_115(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))) {
+                nextStates.set(115);
+            } else if (ch == '"') {
+                nextStates.set(551);
+                nextStates.set(352);
+                nextStates.set(150);
+            } else if (ch == '\\') {
+                nextStates.set(430);
+                nextStates.set(481);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_116(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(649);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_117(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(117);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(168);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_118(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                nextStates.set(318);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_119(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(549);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_120(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'N') {
+                nextStates.set(44);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_121(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'N') {
+                nextStates.set(342);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_122(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(213);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_123(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'R') {
+                nextStates.set(12);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_124(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '|') {
+                nextStates.set(425);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_125(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'F') {
+                if (validTypes.contains(_EOF)) type = _EOF;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_126(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(632);
+            }
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(380);
+            } else if ((ch == 'E') || (ch == 'e')) {
+                nextStates.set(204);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_127(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(606);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_128(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(559);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_129(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'V') {
+                nextStates.set(99);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_130(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'T') {
+                nextStates.set(36);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_131(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(331);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_132(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'R') {
+                nextStates.set(2);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_133(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'R') {
+                nextStates.set(556);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_134(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(354);
+            }
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(628);
+            } else if ((ch == 'L') || (ch == 'l')) {
+                if (validTypes.contains(LONG_LITERAL)) type = LONG_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_135(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(SLASHASSIGN)) type = SLASHASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_136(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(PLUSASSIGN)) type = PLUSASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_137(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(677);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_138(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(112);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_139(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(_DEFAULT)) type = _DEFAULT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_140(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                if (validTypes.contains(DO)) type = DO;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_141(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'N') {
+                nextStates.set(640);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_142(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                nextStates.set(363);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_143(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(FLOAT)) type = FLOAT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_144(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(631);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_145(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(191);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_146(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'D') {
+                if (validTypes.contains(_PARSER_END)) type = _PARSER_END;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_147(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '"') || ((ch == '\'') || ((ch == '\\') || ((ch == 'b') || ((ch == 'f') || ((ch == 'n') || (ch >= 'r' && ch <= 't'))))))) {
+                nextStates.set(373);
+            } else if (ch >= '0' && ch <= '3') {
+                nextStates.set(85);
+            }
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(584);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_148(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(139);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_149(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '0' || ch == '1') {
+                nextStates.set(354);
+            }
+            if ((ch == '0' || ch == '1') || (ch == '_')) {
+                nextStates.set(149);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_150(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '"') {
+                nextStates.set(278);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_151(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(347);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_152(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(152);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(261);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_153(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'J') {
+                nextStates.set(242);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_154(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'T') {
+                nextStates.set(244);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_155(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'X') || (ch == 'x')) {
+                nextStates.set(590);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_156(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(526);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_157(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(420);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_158(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'b') {
+                nextStates.set(542);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_159(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(402);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_160(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'K') {
+                nextStates.set(207);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_161(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(18);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_162(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(5);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_163(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'm') {
+                nextStates.set(659);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_164(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(646);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_165(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(228);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_166(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(211);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_167(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'R') {
+                nextStates.set(132);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_168(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                nextStates.set(284);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_169(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'N') {
+                if (validTypes.contains(_SCAN)) type = _SCAN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_170(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '\t') || ((ch == 0xb || ch == '\f') || ((ch >= 0xe && ch <= '&') || ((ch >= '(' && ch <= '[') || (ch >= ']'))))) {
+                nextStates.set(495);
+            }
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(495);
+            } else if (ch == '\\') {
+                nextStates.set(48);
+            } else if (ch == '\'') {
+                if (validTypes.contains(SINGLE_QUOTE_STRING)) type = SINGLE_QUOTE_STRING;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_171(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(291);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_172(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'R') {
+                nextStates.set(11);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_173(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(533);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_174(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(599);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_175(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(660);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_176(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'b') {
+                nextStates.set(662);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_177(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(609);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_178(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'H') {
+                nextStates.set(422);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_179(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(525);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_180(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(509);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_181(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(PACKAGE)) type = PACKAGE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_182(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(74);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_183(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(454);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_184(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'C') {
+                nextStates.set(452);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_185(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                if (validTypes.contains(EXTENDS)) type = EXTENDS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_186(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '+') || (ch == '-')) {
+                nextStates.set(258);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(201);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_187(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'O') {
+                nextStates.set(275);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_188(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'H') {
+                nextStates.set(654);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_189(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '0' || ch == '1') {
+                nextStates.set(50);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_190(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'N') {
+                nextStates.set(478);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_191(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                if (validTypes.contains(NULL)) type = NULL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_192(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(120);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_193(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'C') {
+                nextStates.set(483);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_194(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '*') {
+                if (validTypes.contains(MULTI_LINE_COMMENT_START)) type = MULTI_LINE_COMMENT_START;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_195(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'f') {
+                if (validTypes.contains(INSTANCEOF)) type = INSTANCEOF;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_196(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'O') {
+                nextStates.set(685);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_197(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'N') {
+                nextStates.set(109);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_198(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(267);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_199(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'V') {
+                nextStates.set(419);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_200(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(476);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_201(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(224);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(201);
+                nextStates.set(19);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_202(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(254);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_203(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(629);
+            }
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || ((ch == '_') || (ch >= 'a' && ch <= 'f')))) {
+                nextStates.set(90);
+            } else if ((ch == 'P') || (ch == 'p')) {
+                nextStates.set(399);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_204(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '+') || (ch == '-')) {
+                nextStates.set(480);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(686);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_205(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'T') {
+                nextStates.set(273);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_206(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                if (validTypes.contains(_IGNORE_CASE)) type = _IGNORE_CASE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_207(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(344);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_208(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'B') || (ch == 'b')) {
+                nextStates.set(189);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_209(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(671);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_210(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'T') {
+                nextStates.set(335);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_211(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(308);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_212(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                if (validTypes.contains(BOOLEAN)) type = BOOLEAN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_213(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(495);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_214(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(ELSE)) type = ELSE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_215(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'L') {
+                nextStates.set(100);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_216(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'K') {
+                nextStates.set(524);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_217(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'f') {
+                if (validTypes.contains(IF)) type = IF;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_218(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(310);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_219(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(38);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_220(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'N') {
+                nextStates.set(66);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_221(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(LE)) type = LE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_222(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(372);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_223(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '<') {
+                nextStates.set(241);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_224(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(224);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(19);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_225(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(499);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_226(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(VOID)) type = VOID;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_227(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(328);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_228(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(424);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_229(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'N') {
+                if (validTypes.contains(_UNPARSED)) type = _UNPARSED;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_230(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'O') {
+                nextStates.set(350);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_231(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'A') {
+                nextStates.set(377);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_232(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(561);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_233(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'C') {
+                nextStates.set(471);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_234(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(653);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_235(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(70);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_236(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(433);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_237(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(550);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_238(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(BYTE)) type = BYTE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_239(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                nextStates.set(299);
+            } else if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(648);
+            }
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || ((ch == '_') || (ch >= 'a' && ch <= 'f')))) {
+                nextStates.set(538);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_240(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(621);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_241(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(LSHIFTASSIGN)) type = LSHIFTASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_242(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(684);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_243(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'X') || (ch == 'x')) {
+                nextStates.set(589);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_244(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'O') {
+                nextStates.set(617);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_245(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(630);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_246(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'M') {
+                nextStates.set(76);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_247(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                if (validTypes.contains(RIGHT_ARROW)) type = RIGHT_ARROW;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_248(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'S') {
+                nextStates.set(206);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_249(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(489);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_250(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(REMASSIGN)) type = REMASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_251(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))) {
+                nextStates.set(115);
+            } else if (ch == '"') {
+                nextStates.set(551);
+                nextStates.set(352);
+                nextStates.set(150);
+            }
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(115);
+            } else if (ch == '\\') {
+                nextStates.set(430);
+                nextStates.set(481);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_252(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'B') || (ch == 'b')) {
+                nextStates.set(105);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_253(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(506);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_254(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'v') {
+                nextStates.set(173);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_255(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                nextStates.set(185);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_256(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(657);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_257(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(53);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_258(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(201);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_259(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(259);
+            }
+            if (ch >= '0' && ch <= '9') {
+                if (validTypes.contains(INTEGER_LITERAL)) type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_260(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'C') {
+                nextStates.set(188);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_261(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(686);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_262(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'G') {
+                nextStates.set(580);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_263(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(577);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_264(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'p') {
+                nextStates.set(245);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_265(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(680);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_266(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                if (validTypes.contains(GOTO)) type = GOTO;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_267(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'f') {
+                nextStates.set(290);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_268(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(274);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_269(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(PRIVATE)) type = PRIVATE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_270(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(297);
+            }
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(313);
+            } else if ((ch == 'E') || (ch == 'e')) {
+                nextStates.set(674);
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_271(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(415);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_272(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'C') {
+                nextStates.set(565);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_273(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'A') {
+                nextStates.set(658);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_274(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'w') {
+                nextStates.set(312);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_275(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'K') {
+                nextStates.set(378);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_276(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'm') {
+                if (validTypes.contains(ENUM)) type = ENUM;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_277(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(SEALED)) type = SEALED;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_278(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '"') {
+                if (validTypes.contains(TEXT_BLOCK_LITERAL)) type = TEXT_BLOCK_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_279(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'T') {
+                nextStates.set(283);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_280(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || ((ch == '_') || (ch >= 'a' && ch <= 'f')))) {
+                nextStates.set(71);
+            }
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(354);
+            } else if ((ch == 'L') || (ch == 'l')) {
+                if (validTypes.contains(LONG_LITERAL)) type = LONG_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_281(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(281);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(570);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_282(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                if (validTypes.contains(_MORE)) type = _MORE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_283(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'O') {
+                nextStates.set(341);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_284(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'E') || (ch == 'e')) {
+                nextStates.set(186);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(288);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_285(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(_IMPORT)) type = _IMPORT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_286(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '\t') || ((ch == 0xb || ch == '\f') || ((ch >= 0xe && ch <= '&') || ((ch >= '(' && ch <= '[') || (ch >= ']'))))) {
+                nextStates.set(495);
+            }
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(548);
+            } else if (ch == '\\') {
+                nextStates.set(461);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_287(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(104);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_288(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(329);
+            } else if ((ch == 'E') || (ch == 'e')) {
+                nextStates.set(186);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(678);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_289(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                if (validTypes.contains(STATIC)) type = STATIC;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_290(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'p') {
+                if (validTypes.contains(STRICTFP)) type = STRICTFP;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_291(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(143);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_292(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'I') {
+                nextStates.set(371);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_293(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'k') {
+                nextStates.set(578);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_294(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(227);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_295(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(117);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(168);
+            } else if (ch == '.') {
+                nextStates.set(284);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_296(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(383);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_297(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'E') || (ch == 'e')) {
+                nextStates.set(674);
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_298(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '\n') {
+                nextStates.set(115);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_299(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(203);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_300(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'O') {
+                nextStates.set(216);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_301(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'S') {
+                nextStates.set(406);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_302(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'y') {
+                if (validTypes.contains(TRY)) type = TRY;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_303(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(SYNCHRONIZED)) type = SYNCHRONIZED;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_304(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'G') {
+                nextStates.set(431);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_305(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(10);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_306(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(9);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_307(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(54);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_308(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(600);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_309(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'R') {
+                nextStates.set(421);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_310(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'T') {
+                nextStates.set(253);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_311(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(563);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_312(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                if (validTypes.contains(THROWS)) type = THROWS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_313(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(297);
+            }
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(313);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_314(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'R') {
+                if (validTypes.contains(_ON_ERROR)) type = _ON_ERROR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_315(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(20);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_316(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'O') {
+                nextStates.set(114);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_317(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'S') {
+                if (validTypes.contains(_ACTIVATE_TOKENS)) type = _ACTIVATE_TOKENS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_318(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(RSIGNEDSHIFTASSIGN)) type = RSIGNEDSHIFTASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_319(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(164);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_320(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(165);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_321(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(675);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_322(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'f') {
+                nextStates.set(367);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_323(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'P') {
+                nextStates.set(661);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_324(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(73);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_325(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'T') {
+                nextStates.set(381);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_326(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                if (validTypes.contains(RUNSIGNEDSHIFT)) type = RUNSIGNEDSHIFT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_327(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(148);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_328(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(YIELD)) type = YIELD;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_329(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(329);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(678);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_330(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(623);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_331(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(638);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_332(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(669);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_333(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(485);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_334(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(296);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_335(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'O') {
+                nextStates.set(568);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_336(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'I') {
+                nextStates.set(110);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_337(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'U') {
+                nextStates.set(362);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_338(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'w') {
+                nextStates.set(450);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_339(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'O') {
+                nextStates.set(129);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_340(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(351);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_341(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'K') {
+                nextStates.set(192);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_342(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'C') {
+                nextStates.set(579);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_343(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'G') {
+                nextStates.set(337);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_344(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'N') {
+                if (validTypes.contains(_TOKEN)) type = _TOKEN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_345(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'C') {
+                nextStates.set(365);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_346(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                if (validTypes.contains(_LEXICAL_STATE)) type = _LEXICAL_STATE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_347(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(177);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_348(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(MINUSASSIGN)) type = MINUSASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_349(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'S') {
+                nextStates.set(205);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_350(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'R') {
+                nextStates.set(282);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_351(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(72);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_352(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))) {
+                nextStates.set(115);
+            } else if (ch == '\\') {
+                nextStates.set(430);
+                nextStates.set(481);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_353(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                nextStates.set(124);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_354(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'L') || (ch == 'l')) {
+                if (validTypes.contains(LONG_LITERAL)) type = LONG_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_355(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'A') {
+                nextStates.set(468);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_356(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'S') {
+                nextStates.set(332);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_357(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(477);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_358(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(276);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_359(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'I') {
+                nextStates.set(598);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_360(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '&') {
+                if (validTypes.contains(SC_AND)) type = SC_AND;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_361(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(364);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_362(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'L') {
+                nextStates.set(615);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_363(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                nextStates.set(642);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_364(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(23);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_365(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'L') {
+                nextStates.set(62);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_366(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'C') {
+                nextStates.set(325);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_367(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(327);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_368(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(68);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_369(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(171);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_370(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(391);
+            } else if (ch == '\'') {
+                if (validTypes.contains(CHARACTER_LITERAL)) type = CHARACTER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_371(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'A') {
+                nextStates.set(382);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_372(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(49);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(502);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_373(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '\t') || ((ch == 0xb || ch == '\f') || ((ch >= 0xe && ch <= '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))))) {
+                nextStates.set(373);
+            } else if (ch == '\\') {
+                nextStates.set(147);
+            } else if (ch == '"') {
+                if (validTypes.contains(STRING_LITERAL)) type = STRING_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_374(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(644);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_375(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'C') {
+                nextStates.set(339);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_376(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'A') {
+                nextStates.set(272);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_377(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'D') {
+                if (validTypes.contains(_LOOKAHEAD)) type = _LOOKAHEAD;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_378(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(190);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_379(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'X') || (ch == 'x')) {
+                nextStates.set(554);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_380(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(632);
+            }
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(380);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_381(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'I') {
+                nextStates.set(445);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_382(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'L') {
+                nextStates.set(416);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_383(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(TRUE)) type = TRUE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_384(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(FALSE)) type = FALSE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_385(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'g') {
+                nextStates.set(181);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_386(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'T') {
+                nextStates.set(512);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_387(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(GE)) type = GE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_388(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(RECORD)) type = RECORD;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_389(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'O') {
+                if (validTypes.contains(_RECOVER_TO)) type = _RECOVER_TO;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_390(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(572);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_391(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '\'') {
+                if (validTypes.contains(CHARACTER_LITERAL)) type = CHARACTER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_392(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(214);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_393(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'T') {
+                nextStates.set(187);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_394(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '_') {
+                nextStates.set(349);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_395(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(64);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_396(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(145);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_397(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                if (validTypes.contains(RETURN)) type = RETURN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_398(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'O') {
+                nextStates.set(682);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_399(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '+') || (ch == '-')) {
+                nextStates.set(240);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(621);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_400(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(663);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_401(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(162);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_402(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(557);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_403(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(238);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_404(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(670);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_405(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'L') {
+                nextStates.set(218);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_406(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'S') {
+                nextStates.set(423);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_407(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_408(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(413);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_409(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'P') || (ch == 'p')) {
+                nextStates.set(33);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_410(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '|') {
+                if (validTypes.contains(SC_OR)) type = SC_OR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_411(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(303);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_412(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'R') {
+                nextStates.set(35);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_413(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(519);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_414(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '\t') || ((ch == 0xb || ch == '\f') || ((ch >= 0xe && ch <= '&') || ((ch >= '(' && ch <= '[') || (ch >= ']'))))) {
+                nextStates.set(391);
+            } else if (ch == '\\') {
+                nextStates.set(79);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_415(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'w') {
+                if (validTypes.contains(NEW)) type = NEW;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_416(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '_') {
+                nextStates.set(210);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_417(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(546);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_418(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(87);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_419(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(172);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_420(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(490);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_421(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'T') {
+                if (validTypes.contains(_ENSURE)) type = _ENSURE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_422(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(231);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_423(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(309);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_424(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(603);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_425(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '+') {
+                nextStates.set(520);
+            } else if (ch == '|') {
+                if (validTypes.contains(UP_TO_HERE)) type = UP_TO_HERE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_426(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(475);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_427(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(26);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_428(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(NE)) type = NE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_429(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'D') {
+                nextStates.set(8);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_430(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '\n') {
+                nextStates.set(115);
+            } else if (ch == '\r') {
+                nextStates.set(115);
+                nextStates.set(564);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_431(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'N') {
+                nextStates.set(316);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_432(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                nextStates.set(46);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_433(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                if (validTypes.contains(SWITCH)) type = SWITCH;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_434(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '<') {
+                if (validTypes.contains(LSHIFT)) type = LSHIFT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_435(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'I') {
+                nextStates.set(488);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_436(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(522);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_437(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'O') {
+                nextStates.set(125);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_438(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                if (validTypes.contains(PERMITS)) type = PERMITS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_439(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '\t') {
+                nextStates.set(439);
+                if (validTypes.contains(WHITESPACE)) type = WHITESPACE;
+            } else if (ch == '\n') {
+                nextStates.set(439);
+                if (validTypes.contains(WHITESPACE)) type = WHITESPACE;
+            } else if (ch == '\f') {
+                nextStates.set(439);
+                if (validTypes.contains(WHITESPACE)) type = WHITESPACE;
+            } else if (ch == '\r') {
+                nextStates.set(439);
+                if (validTypes.contains(WHITESPACE)) type = WHITESPACE;
+            } else if (ch == ' ') {
+                nextStates.set(439);
+                if (validTypes.contains(WHITESPACE)) type = WHITESPACE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_440(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                if (validTypes.contains(FINAL)) type = FINAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_441(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                if (validTypes.contains(CLASS)) type = CLASS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_442(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(NATIVE)) type = NATIVE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_443(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '/') {
+                if (validTypes.contains(SINGLE_LINE_COMMENT_START)) type = SINGLE_LINE_COMMENT_START;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_444(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'R') {
+                if (validTypes.contains(_RECOVER)) type = _RECOVER;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_445(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'V') {
+                nextStates.set(330);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_446(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'y') {
+                nextStates.set(151);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_447(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(562);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_448(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'T') {
+                nextStates.set(622);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_449(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'R') {
+                nextStates.set(22);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_450(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(513);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_451(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                if (validTypes.contains(IMPLEMENTS)) type = IMPLEMENTS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_452(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'T') {
+                nextStates.set(67);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_453(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'D') {
+                nextStates.set(611);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_454(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(585);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_455(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(XORASSIGN)) type = XORASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_456(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'X') {
+                nextStates.set(591);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_457(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(457);
+            }
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(531);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(624);
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_458(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(361);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_459(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(141);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_460(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(641);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_461(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '"') || ((ch == '\'') || ((ch == '\\') || ((ch == 'b') || ((ch == 'f') || ((ch == 'n') || (ch >= 'r' && ch <= 't'))))))) {
+                nextStates.set(495);
+            } else if (ch >= '0' && ch <= '3') {
+                nextStates.set(122);
+            }
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(567);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_462(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(604);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_463(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'P') {
+                nextStates.set(256);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_464(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(574);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_465(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(SHORT)) type = SHORT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_466(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '_') {
+                nextStates.set(521);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_467(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(176);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_468(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'R') {
+                nextStates.set(356);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_469(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'M') {
+                nextStates.set(536);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_470(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '\t') || ((ch == '\f') || (ch == ' '))) {
+                nextStates.set(470);
+            } else if (ch == '\n') {
+                nextStates.set(115);
+            } else if (ch == '\r') {
+                nextStates.set(115);
+                nextStates.set(298);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_471(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'A') {
+                nextStates.set(248);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_472(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(508);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_473(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                if (validTypes.contains(CATCH)) type = CATCH;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_474(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(180);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_475(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                if (validTypes.contains(PUBLIC)) type = PUBLIC;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_476(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(474);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_477(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(198);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_478(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'S') {
+                if (validTypes.contains(_DEACTIVATE_TOKENS)) type = _DEACTIVATE_TOKENS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_479(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '7') || (ch == '_')) {
+                nextStates.set(479);
+            }
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(354);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_480(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(686);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_481(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '"') || ((ch == '\'') || ((ch == '\\') || ((ch == 'b') || ((ch == 'f') || ((ch == 'n') || (ch >= 'r' && ch <= 't'))))))) {
+                nextStates.set(115);
+            } else if (ch >= '0' && ch <= '3') {
+                nextStates.set(174);
+            }
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(251);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_482(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'T') {
+                nextStates.set(324);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_483(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'O') {
+                nextStates.set(246);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_484(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'P') {
+                if (validTypes.contains(_SKIP)) type = _SKIP;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_485(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(WHILE)) type = WHILE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_486(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(302);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_487(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'N') {
+                nextStates.set(193);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_488(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'L') {
+                if (validTypes.contains(_FAIL)) type = _FAIL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_489(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(ABSTRACT)) type = ABSTRACT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_490(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'm') {
+                nextStates.set(306);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_491(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '+') {
+                if (validTypes.contains(INCR)) type = INCR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_492(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '_') {
+                nextStates.set(469);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_493(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'R') {
+                nextStates.set(77);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_494(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'O') {
+                nextStates.set(515);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_495(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '\t') || ((ch == 0xb || ch == '\f') || ((ch >= 0xe && ch <= '&') || ((ch >= '(' && ch <= '[') || (ch >= ']'))))) {
+                nextStates.set(495);
+            } else if (ch == '\\') {
+                nextStates.set(48);
+            } else if (ch == '\'') {
+                if (validTypes.contains(SINGLE_QUOTE_STRING)) type = SINGLE_QUOTE_STRING;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_496(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(395);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_497(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '+') || (ch == '-')) {
+                nextStates.set(137);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(677);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_498(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'N') {
+                if (validTypes.contains(_MORE)) type = _MORE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_499(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'f') {
+                nextStates.set(616);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_500(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(266);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_501(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(373);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_502(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_503(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'T') {
+                nextStates.set(389);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_504(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(516);
+                if (validTypes.contains(INTEGER_LITERAL)) type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_505(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(376);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_506(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '_') {
+                nextStates.set(130);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_507(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(581);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_508(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '7') || (ch == '_')) {
+                nextStates.set(479);
+            }
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(354);
+            } else if ((ch == 'L') || (ch == 'l')) {
+                if (validTypes.contains(LONG_LITERAL)) type = LONG_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_509(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(NON_SEALED)) type = NON_SEALED;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_510(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(167);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_511(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(229);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_512(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(21);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_513(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(236);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_514(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(539);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_515(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'K') {
+                nextStates.set(459);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_516(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '7') || (ch == '_')) {
+                nextStates.set(516);
+            }
+            if (ch >= '0' && ch <= '7') {
+                if (validTypes.contains(INTEGER_LITERAL)) type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_517(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'R') {
+                if (validTypes.contains(_INCLUDE)) type = _INCLUDE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_518(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(498);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_519(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '-') {
+                nextStates.set(91);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_520(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                if (validTypes.contains(UP_TO_HERE)) type = UP_TO_HERE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_521(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'T') {
+                nextStates.set(494);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_522(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'd') {
+                if (validTypes.contains(PROTECTED)) type = PROTECTED;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_523(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '_') {
+                nextStates.set(233);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_524(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(30);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_525(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(576);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_526(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'm') {
+                nextStates.set(553);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_527(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || ((ch == '_') || (ch >= 'a' && ch <= 'f')))) {
+                nextStates.set(527);
+            }
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(594);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_528(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'A') {
+                nextStates.set(51);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_529(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'K') {
+                nextStates.set(518);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_530(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(156);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_531(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(531);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(624);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_532(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(69);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_533(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(269);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_534(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'U') {
+                nextStates.set(453);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_535(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'N') {
+                nextStates.set(637);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_536(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'G') {
+                nextStates.set(493);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_537(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(643);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_538(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(648);
+            }
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || ((ch == '_') || (ch >= 'a' && ch <= 'f')))) {
+                nextStates.set(538);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_539(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'N') {
+                nextStates.set(317);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_540(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(175);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_541(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '>') {
+                if (validTypes.contains(RSIGNEDSHIFT)) type = RSIGNEDSHIFT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_542(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(625);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_543(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(225);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_544(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'V') {
+                nextStates.set(672);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_545(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'A') {
+                nextStates.set(435);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_546(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(462);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_547(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '"') || ((ch == '\'') || ((ch == '\\') || ((ch == 'b') || ((ch == 'f') || ((ch == 'n') || (ch >= 'r' && ch <= 't'))))))) {
+                nextStates.set(548);
+            } else if (ch >= '0' && ch <= '3') {
+                nextStates.set(635);
+            }
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(286);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_548(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '\t') || ((ch == 0xb || ch == '\f') || ((ch >= 0xe && ch <= '&') || ((ch >= '(' && ch <= '[') || (ch >= ']'))))) {
+                nextStates.set(495);
+            } else if (ch == '\\') {
+                nextStates.set(461);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_549(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(418);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_550(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'N') {
+                if (validTypes.contains(_TOKEN)) type = _TOKEN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_551(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))) {
+                nextStates.set(115);
+            } else if (ch == '"') {
+                nextStates.set(352);
+            } else if (ch == '\\') {
+                nextStates.set(430);
+                nextStates.set(481);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_552(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(451);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_553(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(610);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_554(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(280);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_555(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(667);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_556(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '_') {
+                nextStates.set(602);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_557(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'u') {
+                nextStates.set(607);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_558(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'A') {
+                nextStates.set(169);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_559(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'D') {
+                if (validTypes.contains(_UNPARSED)) type = _UNPARSED;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_560(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(358);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_561(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(543);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_562(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(226);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_563(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(INT)) type = INT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_564(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '\n') {
+                nextStates.set(115);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_565(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'T') {
+                nextStates.set(359);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_566(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(436);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_567(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '\t') || ((ch == 0xb || ch == '\f') || ((ch >= 0xe && ch <= '&') || ((ch >= '(' && ch <= '[') || (ch >= ']'))))) {
+                nextStates.set(495);
+            }
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(495);
+            } else if (ch == '\\') {
+                nextStates.set(48);
+            } else if (ch == '\'') {
+                if (validTypes.contains(SINGLE_QUOTE_STRING)) type = SINGLE_QUOTE_STRING;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_568(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'K') {
+                nextStates.set(511);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_569(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(255);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_570(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(677);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_571(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(133);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_572(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(305);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_573(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'k') {
+                if (validTypes.contains(BREAK)) type = BREAK;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_574(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'w') {
+                if (validTypes.contains(THROW)) type = THROW;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_575(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'A') {
+                nextStates.set(412);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_576(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(473);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_577(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(VOLATILE)) type = VOLATILE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_578(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(385);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_579(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'L') {
+                nextStates.set(534);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_580(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'R') {
+                nextStates.set(102);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_581(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                if (validTypes.contains(THIS)) type = THIS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_582(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(345);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_583(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'i') {
+                nextStates.set(333);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_584(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= 0x0 && ch <= '\t') || ((ch == 0xb || ch == '\f') || ((ch >= 0xe && ch <= '!') || ((ch >= '#' && ch <= '[') || (ch >= ']'))))) {
+                nextStates.set(373);
+            }
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(373);
+            } else if (ch == '\\') {
+                nextStates.set(147);
+            } else if (ch == '"') {
+                if (validTypes.contains(STRING_LITERAL)) type = STRING_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_585(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(CASE)) type = CASE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_586(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(58);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_587(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == ':') {
+                if (validTypes.contains(DOUBLE_COLON)) type = DOUBLE_COLON;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_588(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(588);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(111);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_589(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                nextStates.set(299);
+            } else if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(239);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_590(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(593);
+                if (validTypes.contains(INTEGER_LITERAL)) type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_591(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'I') {
+                nextStates.set(16);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_592(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(195);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_593(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || ((ch == '_') || (ch >= 'a' && ch <= 'f')))) {
+                nextStates.set(593);
+            }
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                if (validTypes.contains(INTEGER_LITERAL)) type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_594(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                nextStates.set(409);
+            } else if ((ch == 'P') || (ch == 'p')) {
+                nextStates.set(33);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_595(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(427);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_596(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'A') {
+                nextStates.set(260);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_597(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(588);
+            } else if ((ch == 'E') || (ch == 'e')) {
+                nextStates.set(497);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(111);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_598(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'V') {
+                nextStates.set(650);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_599(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(115);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_600(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'v') {
+                nextStates.set(442);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_601(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '_') {
+                nextStates.set(262);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_602(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(24);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_603(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                if (validTypes.contains(TRANSIENT)) type = TRANSIENT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_604(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(57);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_605(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(392);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_606(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(315);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_607(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(397);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_608(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(28);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_609(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(390);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_610(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(552);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_611(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(601);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_612(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'x') {
+                nextStates.set(368);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_613(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(INTERFACE)) type = INTERFACE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_614(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'C') {
+                nextStates.set(558);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_615(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'A') {
+                nextStates.set(449);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_616(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(29);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_617(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'K') {
+                nextStates.set(514);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_618(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(384);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_619(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'B') {
+                nextStates.set(219);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_620(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '"') {
+                nextStates.set(37);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_621(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(634);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(407);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_622(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'T') {
+                nextStates.set(43);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_623(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '_') {
+                nextStates.set(279);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_624(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(457);
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_625(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 't') {
+                nextStates.set(537);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_626(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'A') {
+                nextStates.set(178);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_627(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'A') {
+                nextStates.set(123);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_628(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(354);
+            }
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(628);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_629(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'P') || (ch == 'p')) {
+                nextStates.set(399);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_630(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(285);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_631(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(268);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_632(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'E') || (ch == 'e')) {
+                nextStates.set(204);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_633(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'O') {
+                nextStates.set(160);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_634(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(634);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(407);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_635(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(83);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_636(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(597);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_637(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'P') {
+                nextStates.set(575);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_638(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'y') {
+                if (validTypes.contains(FINALLY)) type = FINALLY;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_639(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'K') {
+                nextStates.set(626);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_640(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'S') {
+                if (validTypes.contains(_UNCACHE_TOKENS)) type = _UNCACHE_TOKENS;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_641(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                if (validTypes.contains(DOUBLE)) type = DOUBLE;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_642(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(RUNSIGNEDSHIFTASSIGN)) type = RUNSIGNEDSHIFTASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_643(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'a') {
+                nextStates.set(249);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_644(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(391);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_645(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(40);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_646(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(465);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_647(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(343);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_648(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                nextStates.set(299);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_649(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(357);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_650(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'A') {
+                nextStates.set(386);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_651(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(322);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_652(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'n') {
+                nextStates.set(265);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_653(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '.') {
+                nextStates.set(409);
+            } else if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || ((ch == '_') || (ch >= 'a' && ch <= 'f')))) {
+                nextStates.set(527);
+            }
+            if ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f'))) {
+                nextStates.set(594);
+            } else if ((ch == 'P') || (ch == 'p')) {
+                nextStates.set(33);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_654(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'E') {
+                nextStates.set(466);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_655(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(202);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_656(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(45);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_657(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'C') {
+                nextStates.set(292);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_658(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'T') {
+                nextStates.set(346);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_659(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'p') {
+                nextStates.set(530);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_660(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 's') {
+                nextStates.set(441);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_661(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'T') {
+                if (validTypes.contains(_ATTEMPT)) type = _ATTEMPT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_662(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'l') {
+                nextStates.set(426);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_663(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'o') {
+                nextStates.set(340);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_664(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                if (validTypes.contains(CHAR)) type = CHAR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_665(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'C') {
+                nextStates.set(78);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_666(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '=') {
+                if (validTypes.contains(ORASSIGN)) type = ORASSIGN;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_667(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'c') {
+                nextStates.set(404);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_668(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'y') {
+                nextStates.set(403);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_669(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'R') {
+                nextStates.set(4);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_670(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                nextStates.set(388);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_671(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(277);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_672(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'A') {
+                nextStates.set(482);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_673(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '0' || ch == '1') || (ch == '_')) {
+                nextStates.set(673);
+            }
+            if (ch == '0' || ch == '1') {
+                if (validTypes.contains(INTEGER_LITERAL)) type = INTEGER_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_674(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == '+') || (ch == '-')) {
+                nextStates.set(679);
+            } else if (ch >= '0' && ch <= '9') {
+                nextStates.set(457);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_675(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'r') {
+                if (validTypes.contains(VAR)) type = VAR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_676(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'h') {
+                nextStates.set(583);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_677(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(281);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(570);
+                nextStates.set(677);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_678(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch == 'E') || (ch == 'e')) {
+                nextStates.set(186);
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_679(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(457);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_680(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'e') {
+                nextStates.set(592);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_681(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'M') {
+                nextStates.set(323);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_682(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'O') {
+                nextStates.set(639);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_683(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch >= '0' && ch <= '7') {
+                nextStates.set(17);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_684(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'C') {
+                nextStates.set(60);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_685(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == 'K') {
+                nextStates.set(237);
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_686(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if ((ch >= '0' && ch <= '9') || (ch == '_')) {
+                nextStates.set(152);
+            }
+            if (ch >= '0' && ch <= '9') {
+                nextStates.set(686);
+                nextStates.set(261);
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            } else if ((ch == 'D') || ((ch == 'F') || ((ch == 'd') || (ch == 'f')))) {
+                if (validTypes.contains(FLOATING_POINT_LITERAL)) type = FLOATING_POINT_LITERAL;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_JAVA_687(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (((ch >= 0x0 && ch <= 0x8) || ((ch >= 0xe && ch <= 0x1b) || ((ch == '$') || ((ch >= '0' && ch <= '9') || ((ch >= 'A' && ch <= 'Z') || ((ch == '_') || ((ch >= 'a' && ch <= 'z') || (ch >= 0x7f && ch <= 0x9f)))))))) || (ch >= 128 && checkIntervals(NFA_MOVES_JAVA_77, ch))) {
+                nextStates.set(687);
+                if (validTypes.contains(IDENTIFIER)) type = IDENTIFIER;
+            }
+            return type;
+        }
+
+        static private int[] NFA_MOVES_JAVA_77 = NFA_MOVES_JAVA_77_init();
+
+        static private int[] NFA_MOVES_JAVA_77_init() {
+            return new int[] {0x0, 0x8, 0xe, 0x1b, '$', '$', '0', '9', 'A', 'Z', '_', '_', 'a', 'z', 0x7f, 0x9f, 0xa2, 0xa5, 0xaa, 0xaa, 0xad, 0xad, 0xb5, 0xb5, 0xba, 0xba, 0xc0, 0xd6, 0xd8, 0xf6, 0xf8, 0x2c1, 0x2c6, 0x2d1, 0x2e0, 0x2e4, 0x2ec, 0x2ec, 0x2ee, 0x2ee, 0x300, 0x374, 0x376, 0x377, 0x37a, 0x37d, 0x37f, 0x37f, 0x386, 0x386, 0x388, 0x38a, 0x38c, 0x38c, 0x38e, 0x3a1, 0x3a3, 0x3f5, 0x3f7, 0x481, 0x483, 0x487, 0x48a, 0x52f, 0x531, 0x556, 0x559, 0x559, 0x560, 0x588, 0x58f, 0x58f, 0x591, 0x5bd, 0x5bf, 0x5bf, 0x5c1, 0x5c2, 0x5c4, 0x5c5, 0x5c7, 0x5c7, 0x5d0, 0x5ea, 0x5ef, 0x5f2, 0x600, 0x605, 0x60b, 0x60b, 0x610, 0x61a, 0x61c, 0x61c, 0x620, 0x669, 0x66e, 0x6d3, 0x6d5, 0x6dd, 0x6df, 0x6e8, 0x6ea, 0x6fc, 0x6ff, 0x6ff, 0x70f, 0x74a, 0x74d, 0x7b1, 0x7c0, 0x7f5, 0x7fa, 0x7fa, 0x7fd, 0x82d, 0x840, 0x85b, 0x860, 0x86a, 0x870, 0x887, 0x889, 0x88e, 0x890, 0x891, 0x898, 0x963, 0x966, 0x96f, 0x971, 0x983, 0x985, 0x98c, 0x98f, 0x990, 0x993, 0x9a8, 0x9aa, 0x9b0, 0x9b2, 0x9b2, 0x9b6, 0x9b9, 0x9bc, 0x9c4, 0x9c7, 0x9c8, 0x9cb, 0x9ce, 0x9d7, 0x9d7, 0x9dc, 0x9dd, 0x9df, 0x9e3, 0x9e6, 0x9f3, 0x9fb, 0x9fc, 0x9fe, 0x9fe, 0xa01, 0xa03, 0xa05, 0xa0a, 0xa0f, 0xa10, 0xa13, 0xa28, 0xa2a, 0xa30, 0xa32, 0xa33, 0xa35, 0xa36, 0xa38, 0xa39, 0xa3c, 0xa3c, 0xa3e, 0xa42, 0xa47, 0xa48, 0xa4b, 0xa4d, 0xa51, 0xa51, 0xa59, 0xa5c, 0xa5e, 0xa5e, 0xa66, 0xa75, 0xa81, 0xa83, 0xa85, 0xa8d, 0xa8f, 0xa91, 0xa93, 0xaa8, 0xaaa, 0xab0, 0xab2, 0xab3, 0xab5, 0xab9, 0xabc, 0xac5, 0xac7, 0xac9, 0xacb, 0xacd, 0xad0, 0xad0, 0xae0, 0xae3, 0xae6, 0xaef, 0xaf1, 0xaf1, 0xaf9, 0xaff, 0xb01, 0xb03, 0xb05, 0xb0c, 0xb0f, 0xb10, 0xb13, 0xb28, 0xb2a, 0xb30, 0xb32, 0xb33, 0xb35, 0xb39, 0xb3c, 0xb44, 0xb47, 0xb48, 0xb4b, 0xb4d, 0xb55, 0xb57, 0xb5c, 0xb5d, 0xb5f, 0xb63, 0xb66, 0xb6f, 0xb71, 0xb71, 0xb82, 0xb83, 0xb85, 0xb8a, 0xb8e, 0xb90, 0xb92, 0xb95, 0xb99, 0xb9a, 0xb9c, 0xb9c, 0xb9e, 0xb9f, 0xba3, 0xba4, 0xba8, 0xbaa, 0xbae, 0xbb9, 0xbbe, 0xbc2, 0xbc6, 0xbc8, 0xbca, 0xbcd, 0xbd0, 0xbd0, 0xbd7, 0xbd7, 0xbe6, 0xbef, 0xbf9, 0xbf9, 0xc00, 0xc0c, 0xc0e, 0xc10, 0xc12, 0xc28, 0xc2a, 0xc39, 0xc3c, 0xc44, 0xc46, 0xc48, 0xc4a, 0xc4d, 0xc55, 0xc56, 0xc58, 0xc5a, 0xc5d, 0xc5d, 0xc60, 0xc63, 0xc66, 0xc6f, 0xc80, 0xc83, 0xc85, 0xc8c, 0xc8e, 0xc90, 0xc92, 0xca8, 0xcaa, 0xcb3, 0xcb5, 0xcb9, 0xcbc, 0xcc4, 0xcc6, 0xcc8, 0xcca, 0xccd, 0xcd5, 0xcd6, 0xcdd, 0xcde, 0xce0, 0xce3, 0xce6, 0xcef, 0xcf1, 0xcf2, 0xd00, 0xd0c, 0xd0e, 0xd10, 0xd12, 0xd44, 0xd46, 0xd48, 0xd4a, 0xd4e, 0xd54, 0xd57, 0xd5f, 0xd63, 0xd66, 0xd6f, 0xd7a, 0xd7f, 0xd81, 0xd83, 0xd85, 0xd96, 0xd9a, 0xdb1, 0xdb3, 0xdbb, 0xdbd, 0xdbd, 0xdc0, 0xdc6, 0xdca, 0xdca, 0xdcf, 0xdd4, 0xdd6, 0xdd6, 0xdd8, 0xddf, 0xde6, 0xdef, 0xdf2, 0xdf3, 0xe01, 0xe3a, 0xe3f, 0xe4e, 0xe50, 0xe59, 0xe81, 0xe82, 0xe84, 0xe84, 0xe86, 0xe8a, 0xe8c, 0xea3, 0xea5, 0xea5, 0xea7, 0xebd, 0xec0, 0xec4, 0xec6, 0xec6, 0xec8, 0xecd, 0xed0, 0xed9, 0xedc, 0xedf, 0xf00, 0xf00, 0xf18, 0xf19, 0xf20, 0xf29, 0xf35, 0xf35, 0xf37, 0xf37, 0xf39, 0xf39, 0xf3e, 0xf47, 0xf49, 0xf6c, 0xf71, 0xf84, 0xf86, 0xf97, 0xf99, 0xfbc, 0xfc6, 0xfc6, 0x1000, 0x1049, 0x1050, 0x109d, 0x10a0, 0x10c5, 0x10c7, 0x10c7, 0x10cd, 0x10cd, 0x10d0, 0x10fa, 0x10fc, 0x1248, 0x124a, 0x124d, 0x1250, 0x1256, 0x1258, 0x1258, 0x125a, 0x125d, 0x1260, 0x1288, 0x128a, 0x128d, 0x1290, 0x12b0, 0x12b2, 0x12b5, 0x12b8, 0x12be, 0x12c0, 0x12c0, 0x12c2, 0x12c5, 0x12c8, 0x12d6, 0x12d8, 0x1310, 0x1312, 0x1315, 0x1318, 0x135a, 0x135d, 0x135f, 0x1380, 0x138f, 0x13a0, 0x13f5, 0x13f8, 0x13fd, 0x1401, 0x166c, 0x166f, 0x167f, 0x1681, 0x169a, 0x16a0, 0x16ea, 0x16ee, 0x16f8, 0x1700, 0x1715, 0x171f, 0x1734, 0x1740, 0x1753, 0x1760, 0x176c, 0x176e, 0x1770, 0x1772, 0x1773, 0x1780, 0x17d3, 0x17d7, 0x17d7, 0x17db, 0x17dd, 0x17e0, 0x17e9, 0x180b, 0x1819, 0x1820, 0x1878, 0x1880, 0x18aa, 0x18b0, 0x18f5, 0x1900, 0x191e, 0x1920, 0x192b, 0x1930, 0x193b, 0x1946, 0x196d, 0x1970, 0x1974, 0x1980, 0x19ab, 0x19b0, 0x19c9, 0x19d0, 0x19d9, 0x1a00, 0x1a1b, 0x1a20, 0x1a5e, 0x1a60, 0x1a7c, 0x1a7f, 0x1a89, 0x1a90, 0x1a99, 0x1aa7, 0x1aa7, 0x1ab0, 0x1abd, 0x1abf, 0x1ace, 0x1b00, 0x1b4c, 0x1b50, 0x1b59, 0x1b6b, 0x1b73, 0x1b80, 0x1bf3, 0x1c00, 0x1c37, 0x1c40, 0x1c49, 0x1c4d, 0x1c7d, 0x1c80, 0x1c88, 0x1c90, 0x1cba, 0x1cbd, 0x1cbf, 0x1cd0, 0x1cd2, 0x1cd4, 0x1cfa, 0x1d00, 0x1f15, 0x1f18, 0x1f1d, 0x1f20, 0x1f45, 0x1f48, 0x1f4d, 0x1f50, 0x1f57, 0x1f59, 0x1f59, 0x1f5b, 0x1f5b, 0x1f5d, 0x1f5d, 0x1f5f, 0x1f7d, 0x1f80, 0x1fb4, 0x1fb6, 0x1fbc, 0x1fbe, 0x1fbe, 0x1fc2, 0x1fc4, 0x1fc6, 0x1fcc, 0x1fd0, 0x1fd3, 0x1fd6, 0x1fdb, 0x1fe0, 0x1fec, 0x1ff2, 0x1ff4, 0x1ff6, 0x1ffc, 0x200b, 0x200f, 0x202a, 0x202e, 0x203f, 0x2040, 0x2054, 0x2054, 0x2060, 0x2064, 0x2066, 0x206f, 0x2071, 0x2071, 0x207f, 0x207f, 0x2090, 0x209c, 0x20a0, 0x20c0, 0x20d0, 0x20dc, 0x20e1, 0x20e1, 0x20e5, 0x20f0, 0x2102, 0x2102, 0x2107, 0x2107, 0x210a, 0x2113, 0x2115, 0x2115, 0x2119, 0x211d, 0x2124, 0x2124, 0x2126, 0x2126, 0x2128, 0x2128, 0x212a, 0x212d, 0x212f, 0x2139, 0x213c, 0x213f, 0x2145, 0x2149, 0x214e, 0x214e, 0x2160, 0x2188, 0x2c00, 0x2ce4, 0x2ceb, 0x2cf3, 0x2d00, 0x2d25, 0x2d27, 0x2d27, 0x2d2d, 0x2d2d, 0x2d30, 0x2d67, 0x2d6f, 0x2d6f, 0x2d7f, 0x2d96, 0x2da0, 0x2da6, 0x2da8, 0x2dae, 0x2db0, 0x2db6, 0x2db8, 0x2dbe, 0x2dc0, 0x2dc6, 0x2dc8, 0x2dce, 0x2dd0, 0x2dd6, 0x2dd8, 0x2dde, 0x2de0, 0x2dff, 0x2e2f, 0x2e2f, 0x3005, 0x3007, 0x3021, 0x302f, 0x3031, 0x3035, 0x3038, 0x303c, 0x3041, 0x3096, 0x3099, 0x309a, 0x309d, 0x309f, 0x30a1, 0x30fa, 0x30fc, 0x30ff, 0x3105, 0x312f, 0x3131, 0x318e, 0x31a0, 0x31bf, 0x31f0, 0x31ff, 0x3400, 0x4dbf, 0x4e00, 0xa48c, 0xa4d0, 0xa4fd, 0xa500, 0xa60c, 0xa610, 0xa62b, 0xa640, 0xa66f, 0xa674, 0xa67d, 0xa67f, 0xa6f1, 0xa717, 0xa71f, 0xa722, 0xa788, 0xa78b, 0xa7ca, 0xa7d0, 0xa7d1, 0xa7d3, 0xa7d3, 0xa7d5, 0xa7d9, 0xa7f2, 0xa827, 0xa82c, 0xa82c, 0xa838, 0xa838, 0xa840, 0xa873, 0xa880, 0xa8c5, 0xa8d0, 0xa8d9, 0xa8e0, 0xa8f7, 0xa8fb, 0xa8fb, 0xa8fd, 0xa92d, 0xa930, 0xa953, 0xa960, 0xa97c, 0xa980, 0xa9c0, 0xa9cf, 0xa9d9, 0xa9e0, 0xa9fe, 0xaa00, 0xaa36, 0xaa40, 0xaa4d, 0xaa50, 0xaa59, 0xaa60, 0xaa76, 0xaa7a, 0xaac2, 0xaadb, 0xaadd, 0xaae0, 0xaaef, 0xaaf2, 0xaaf6, 0xab01, 0xab06, 0xab09, 0xab0e, 0xab11, 0xab16, 0xab20, 0xab26, 0xab28, 0xab2e, 0xab30, 0xab5a, 0xab5c, 0xab69, 0xab70, 0xabea, 0xabec, 0xabed, 0xabf0, 0xabf9, 0xac00, 0xd7a3, 0xd7b0, 0xd7c6, 0xd7cb, 0xd7fb, 0xf900, 0xfa6d, 0xfa70, 0xfad9, 0xfb00, 0xfb06, 0xfb13, 0xfb17, 0xfb1d, 0xfb28, 0xfb2a, 0xfb36, 0xfb38, 0xfb3c, 0xfb3e, 0xfb3e, 0xfb40, 0xfb41, 0xfb43, 0xfb44, 0xfb46, 0xfbb1, 0xfbd3, 0xfd3d, 0xfd50, 0xfd8f, 0xfd92, 0xfdc7, 0xfdf0, 0xfdfc, 0xfe00, 0xfe0f, 0xfe20, 0xfe2f, 0xfe33, 0xfe34, 0xfe4d, 0xfe4f, 0xfe69, 0xfe69, 0xfe70, 0xfe74, 0xfe76, 0xfefc, 0xfeff, 0xfeff, 0xff04, 0xff04, 0xff10, 0xff19, 0xff21, 0xff3a, 0xff3f, 0xff3f, 0xff41, 0xff5a, 0xff66, 0xffbe, 0xffc2, 0xffc7, 0xffca, 0xffcf, 0xffd2, 0xffd7, 0xffda, 0xffdc, 0xffe0, 0xffe1, 0xffe5, 0xffe6, 0xfff9, 0xfffb, 0x10000, 0x1000b, 0x1000d, 0x10026, 0x10028, 0x1003a, 0x1003c, 0x1003d, 0x1003f, 0x1004d, 0x10050, 0x1005d, 0x10080, 0x100fa, 0x10140, 0x10174, 0x101fd, 0x101fd, 0x10280, 0x1029c, 0x102a0, 0x102d0, 0x102e0, 0x102e0, 0x10300, 0x1031f, 0x1032d, 0x1034a, 0x10350, 0x1037a, 0x10380, 0x1039d, 0x103a0, 0x103c3, 0x103c8, 0x103cf, 0x103d1, 0x103d5, 0x10400, 0x1049d, 0x104a0, 0x104a9, 0x104b0, 0x104d3, 0x104d8, 0x104fb, 0x10500, 0x10527, 0x10530, 0x10563, 0x10570, 0x1057a, 0x1057c, 0x1058a, 0x1058c, 0x10592, 0x10594, 0x10595, 0x10597, 0x105a1, 0x105a3, 0x105b1, 0x105b3, 0x105b9, 0x105bb, 0x105bc, 0x10600, 0x10736, 0x10740, 0x10755, 0x10760, 0x10767, 0x10780, 0x10785, 0x10787, 0x107b0, 0x107b2, 0x107ba, 0x10800, 0x10805, 0x10808, 0x10808, 0x1080a, 0x10835, 0x10837, 0x10838, 0x1083c, 0x1083c, 0x1083f, 0x10855, 0x10860, 0x10876, 0x10880, 0x1089e, 0x108e0, 0x108f2, 0x108f4, 0x108f5, 0x10900, 0x10915, 0x10920, 0x10939, 0x10980, 0x109b7, 0x109be, 0x109bf, 0x10a00, 0x10a03, 0x10a05, 0x10a06, 0x10a0c, 0x10a13, 0x10a15, 0x10a17, 0x10a19, 0x10a35, 0x10a38, 0x10a3a, 0x10a3f, 0x10a3f, 0x10a60, 0x10a7c, 0x10a80, 0x10a9c, 0x10ac0, 0x10ac7, 0x10ac9, 0x10ae6, 0x10b00, 0x10b35, 0x10b40, 0x10b55, 0x10b60, 0x10b72, 0x10b80, 0x10b91, 0x10c00, 0x10c48, 0x10c80, 0x10cb2, 0x10cc0, 0x10cf2, 0x10d00, 0x10d27, 0x10d30, 0x10d39, 0x10e80, 0x10ea9, 0x10eab, 0x10eac, 0x10eb0, 0x10eb1, 0x10f00, 0x10f1c, 0x10f27, 0x10f27, 0x10f30, 0x10f50, 0x10f70, 0x10f85, 0x10fb0, 0x10fc4, 0x10fe0, 0x10ff6, 0x11000, 0x11046, 0x11066, 0x11075, 0x1107f, 0x110ba, 0x110bd, 0x110bd, 0x110c2, 0x110c2, 0x110cd, 0x110cd, 0x110d0, 0x110e8, 0x110f0, 0x110f9, 0x11100, 0x11134, 0x11136, 0x1113f, 0x11144, 0x11147, 0x11150, 0x11173, 0x11176, 0x11176, 0x11180, 0x111c4, 0x111c9, 0x111cc, 0x111ce, 0x111da, 0x111dc, 0x111dc, 0x11200, 0x11211, 0x11213, 0x11237, 0x1123e, 0x1123e, 0x11280, 0x11286, 0x11288, 0x11288, 0x1128a, 0x1128d, 0x1128f, 0x1129d, 0x1129f, 0x112a8, 0x112b0, 0x112ea, 0x112f0, 0x112f9, 0x11300, 0x11303, 0x11305, 0x1130c, 0x1130f, 0x11310, 0x11313, 0x11328, 0x1132a, 0x11330, 0x11332, 0x11333, 0x11335, 0x11339, 0x1133b, 0x11344, 0x11347, 0x11348, 0x1134b, 0x1134d, 0x11350, 0x11350, 0x11357, 0x11357, 0x1135d, 0x11363, 0x11366, 0x1136c, 0x11370, 0x11374, 0x11400, 0x1144a, 0x11450, 0x11459, 0x1145e, 0x11461, 0x11480, 0x114c5, 0x114c7, 0x114c7, 0x114d0, 0x114d9, 0x11580, 0x115b5, 0x115b8, 0x115c0, 0x115d8, 0x115dd, 0x11600, 0x11640, 0x11644, 0x11644, 0x11650, 0x11659, 0x11680, 0x116b8, 0x116c0, 0x116c9, 0x11700, 0x1171a, 0x1171d, 0x1172b, 0x11730, 0x11739, 0x11740, 0x11746, 0x11800, 0x1183a, 0x118a0, 0x118e9, 0x118ff, 0x11906, 0x11909, 0x11909, 0x1190c, 0x11913, 0x11915, 0x11916, 0x11918, 0x11935, 0x11937, 0x11938, 0x1193b, 0x11943, 0x11950, 0x11959, 0x119a0, 0x119a7, 0x119aa, 0x119d7, 0x119da, 0x119e1, 0x119e3, 0x119e4, 0x11a00, 0x11a3e, 0x11a47, 0x11a47, 0x11a50, 0x11a99, 0x11a9d, 0x11a9d, 0x11ab0, 0x11af8, 0x11c00, 0x11c08, 0x11c0a, 0x11c36, 0x11c38, 0x11c40, 0x11c50, 0x11c59, 0x11c72, 0x11c8f, 0x11c92, 0x11ca7, 0x11ca9, 0x11cb6, 0x11d00, 0x11d06, 0x11d08, 0x11d09, 0x11d0b, 0x11d36, 0x11d3a, 0x11d3a, 0x11d3c, 0x11d3d, 0x11d3f, 0x11d47, 0x11d50, 0x11d59, 0x11d60, 0x11d65, 0x11d67, 0x11d68, 0x11d6a, 0x11d8e, 0x11d90, 0x11d91, 0x11d93, 0x11d98, 0x11da0, 0x11da9, 0x11ee0, 0x11ef6, 0x11fb0, 0x11fb0, 0x11fdd, 0x11fe0, 0x12000, 0x12399, 0x12400, 0x1246e, 0x12480, 0x12543, 0x12f90, 0x12ff0, 0x13000, 0x1342e, 0x13430, 0x13438, 0x14400, 0x14646, 0x16800, 0x16a38, 0x16a40, 0x16a5e, 0x16a60, 0x16a69, 0x16a70, 0x16abe, 0x16ac0, 0x16ac9, 0x16ad0, 0x16aed, 0x16af0, 0x16af4, 0x16b00, 0x16b36, 0x16b40, 0x16b43, 0x16b50, 0x16b59, 0x16b63, 0x16b77, 0x16b7d, 0x16b8f, 0x16e40, 0x16e7f, 0x16f00, 0x16f4a, 0x16f4f, 0x16f87, 0x16f8f, 0x16f9f, 0x16fe0, 0x16fe1, 0x16fe3, 0x16fe4, 0x16ff0, 0x16ff1, 0x17000, 0x187f7, 0x18800, 0x18cd5, 0x18d00, 0x18d08, 0x1aff0, 0x1aff3, 0x1aff5, 0x1affb, 0x1affd, 0x1affe, 0x1b000, 0x1b122, 0x1b150, 0x1b152, 0x1b164, 0x1b167, 0x1b170, 0x1b2fb, 0x1bc00, 0x1bc6a, 0x1bc70, 0x1bc7c, 0x1bc80, 0x1bc88, 0x1bc90, 0x1bc99, 0x1bc9d, 0x1bc9e, 0x1bca0, 0x1bca3, 0x1cf00, 0x1cf2d, 0x1cf30, 0x1cf46, 0x1d165, 0x1d169, 0x1d16d, 0x1d182, 0x1d185, 0x1d18b, 0x1d1aa, 0x1d1ad, 0x1d242, 0x1d244, 0x1d400, 0x1d454, 0x1d456, 0x1d49c, 0x1d49e, 0x1d49f, 0x1d4a2, 0x1d4a2, 0x1d4a5, 0x1d4a6, 0x1d4a9, 0x1d4ac, 0x1d4ae, 0x1d4b9, 0x1d4bb, 0x1d4bb, 0x1d4bd, 0x1d4c3, 0x1d4c5, 0x1d505, 0x1d507, 0x1d50a, 0x1d50d, 0x1d514, 0x1d516, 0x1d51c, 0x1d51e, 0x1d539, 0x1d53b, 0x1d53e, 0x1d540, 0x1d544, 0x1d546, 0x1d546, 0x1d54a, 0x1d550, 0x1d552, 0x1d6a5, 0x1d6a8, 0x1d6c0, 0x1d6c2, 0x1d6da, 0x1d6dc, 0x1d6fa, 0x1d6fc, 0x1d714, 0x1d716, 0x1d734, 0x1d736, 0x1d74e, 0x1d750, 0x1d76e, 0x1d770, 0x1d788, 0x1d78a, 0x1d7a8, 0x1d7aa, 0x1d7c2, 0x1d7c4, 0x1d7cb, 0x1d7ce, 0x1d7ff, 0x1da00, 0x1da36, 0x1da3b, 0x1da6c, 0x1da75, 0x1da75, 0x1da84, 0x1da84, 0x1da9b, 0x1da9f, 0x1daa1, 0x1daaf, 0x1df00, 0x1df1e, 0x1e000, 0x1e006, 0x1e008, 0x1e018, 0x1e01b, 0x1e021, 0x1e023, 0x1e024, 0x1e026, 0x1e02a, 0x1e100, 0x1e12c, 0x1e130, 0x1e13d, 0x1e140, 0x1e149, 0x1e14e, 0x1e14e, 0x1e290, 0x1e2ae, 0x1e2c0, 0x1e2f9, 0x1e2ff, 0x1e2ff, 0x1e7e0, 0x1e7e6, 0x1e7e8, 0x1e7eb, 0x1e7ed, 0x1e7ee, 0x1e7f0, 0x1e7fe, 0x1e800, 0x1e8c4, 0x1e8d0, 0x1e8d6, 0x1e900, 0x1e94b, 0x1e950, 0x1e959, 0x1ecb0, 0x1ecb0, 0x1ee00, 0x1ee03, 0x1ee05, 0x1ee1f, 0x1ee21, 0x1ee22, 0x1ee24, 0x1ee24, 0x1ee27, 0x1ee27, 0x1ee29, 0x1ee32, 0x1ee34, 0x1ee37, 0x1ee39, 0x1ee39, 0x1ee3b, 0x1ee3b, 0x1ee42, 0x1ee42, 0x1ee47, 0x1ee47, 0x1ee49, 0x1ee49, 0x1ee4b, 0x1ee4b, 0x1ee4d, 0x1ee4f, 0x1ee51, 0x1ee52, 0x1ee54, 0x1ee54, 0x1ee57, 0x1ee57, 0x1ee59, 0x1ee59, 0x1ee5b, 0x1ee5b, 0x1ee5d, 0x1ee5d, 0x1ee5f, 0x1ee5f, 0x1ee61, 0x1ee62, 0x1ee64, 0x1ee64, 0x1ee67, 0x1ee6a, 0x1ee6c, 0x1ee72, 0x1ee74, 0x1ee77, 0x1ee79, 0x1ee7c, 0x1ee7e, 0x1ee7e, 0x1ee80, 0x1ee89, 0x1ee8b, 0x1ee9b, 0x1eea1, 0x1eea3, 0x1eea5, 0x1eea9, 0x1eeab, 0x1eebb, 0x1fbf0, 0x1fbf9, 0x20000, 0x2a6df, 0x2a700, 0x2b738, 0x2b740, 0x2b81d, 0x2b820, 0x2cea1, 0x2ceb0, 0x2ebe0, 0x2f800, 0x2fa1d, 0x30000, 0x3134a, 0xe0001, 0xe0001, 0xe0020, 0xe007f, 0xe0100, 0xe01ef};
+        }
+
+        static private int[] NFA_MOVES_JAVA_95 = NFA_MOVES_JAVA_95_init();
+
+        static private int[] NFA_MOVES_JAVA_95_init() {
+            return new int[] {'$', '$', 'A', 'Z', '_', '_', 'a', 'z', 0xa2, 0xa5, 0xaa, 0xaa, 0xb5, 0xb5, 0xba, 0xba, 0xc0, 0xd6, 0xd8, 0xf6, 0xf8, 0x2c1, 0x2c6, 0x2d1, 0x2e0, 0x2e4, 0x2ec, 0x2ec, 0x2ee, 0x2ee, 0x370, 0x374, 0x376, 0x377, 0x37a, 0x37d, 0x37f, 0x37f, 0x386, 0x386, 0x388, 0x38a, 0x38c, 0x38c, 0x38e, 0x3a1, 0x3a3, 0x3f5, 0x3f7, 0x481, 0x48a, 0x52f, 0x531, 0x556, 0x559, 0x559, 0x560, 0x588, 0x58f, 0x58f, 0x5d0, 0x5ea, 0x5ef, 0x5f2, 0x60b, 0x60b, 0x620, 0x64a, 0x66e, 0x66f, 0x671, 0x6d3, 0x6d5, 0x6d5, 0x6e5, 0x6e6, 0x6ee, 0x6ef, 0x6fa, 0x6fc, 0x6ff, 0x6ff, 0x710, 0x710, 0x712, 0x72f, 0x74d, 0x7a5, 0x7b1, 0x7b1, 0x7ca, 0x7ea, 0x7f4, 0x7f5, 0x7fa, 0x7fa, 0x7fe, 0x815, 0x81a, 0x81a, 0x824, 0x824, 0x828, 0x828, 0x840, 0x858, 0x860, 0x86a, 0x870, 0x887, 0x889, 0x88e, 0x8a0, 0x8c9, 0x904, 0x939, 0x93d, 0x93d, 0x950, 0x950, 0x958, 0x961, 0x971, 0x980, 0x985, 0x98c, 0x98f, 0x990, 0x993, 0x9a8, 0x9aa, 0x9b0, 0x9b2, 0x9b2, 0x9b6, 0x9b9, 0x9bd, 0x9bd, 0x9ce, 0x9ce, 0x9dc, 0x9dd, 0x9df, 0x9e1, 0x9f0, 0x9f3, 0x9fb, 0x9fc, 0xa05, 0xa0a, 0xa0f, 0xa10, 0xa13, 0xa28, 0xa2a, 0xa30, 0xa32, 0xa33, 0xa35, 0xa36, 0xa38, 0xa39, 0xa59, 0xa5c, 0xa5e, 0xa5e, 0xa72, 0xa74, 0xa85, 0xa8d, 0xa8f, 0xa91, 0xa93, 0xaa8, 0xaaa, 0xab0, 0xab2, 0xab3, 0xab5, 0xab9, 0xabd, 0xabd, 0xad0, 0xad0, 0xae0, 0xae1, 0xaf1, 0xaf1, 0xaf9, 0xaf9, 0xb05, 0xb0c, 0xb0f, 0xb10, 0xb13, 0xb28, 0xb2a, 0xb30, 0xb32, 0xb33, 0xb35, 0xb39, 0xb3d, 0xb3d, 0xb5c, 0xb5d, 0xb5f, 0xb61, 0xb71, 0xb71, 0xb83, 0xb83, 0xb85, 0xb8a, 0xb8e, 0xb90, 0xb92, 0xb95, 0xb99, 0xb9a, 0xb9c, 0xb9c, 0xb9e, 0xb9f, 0xba3, 0xba4, 0xba8, 0xbaa, 0xbae, 0xbb9, 0xbd0, 0xbd0, 0xbf9, 0xbf9, 0xc05, 0xc0c, 0xc0e, 0xc10, 0xc12, 0xc28, 0xc2a, 0xc39, 0xc3d, 0xc3d, 0xc58, 0xc5a, 0xc5d, 0xc5d, 0xc60, 0xc61, 0xc80, 0xc80, 0xc85, 0xc8c, 0xc8e, 0xc90, 0xc92, 0xca8, 0xcaa, 0xcb3, 0xcb5, 0xcb9, 0xcbd, 0xcbd, 0xcdd, 0xcde, 0xce0, 0xce1, 0xcf1, 0xcf2, 0xd04, 0xd0c, 0xd0e, 0xd10, 0xd12, 0xd3a, 0xd3d, 0xd3d, 0xd4e, 0xd4e, 0xd54, 0xd56, 0xd5f, 0xd61, 0xd7a, 0xd7f, 0xd85, 0xd96, 0xd9a, 0xdb1, 0xdb3, 0xdbb, 0xdbd, 0xdbd, 0xdc0, 0xdc6, 0xe01, 0xe30, 0xe32, 0xe33, 0xe3f, 0xe46, 0xe81, 0xe82, 0xe84, 0xe84, 0xe86, 0xe8a, 0xe8c, 0xea3, 0xea5, 0xea5, 0xea7, 0xeb0, 0xeb2, 0xeb3, 0xebd, 0xebd, 0xec0, 0xec4, 0xec6, 0xec6, 0xedc, 0xedf, 0xf00, 0xf00, 0xf40, 0xf47, 0xf49, 0xf6c, 0xf88, 0xf8c, 0x1000, 0x102a, 0x103f, 0x103f, 0x1050, 0x1055, 0x105a, 0x105d, 0x1061, 0x1061, 0x1065, 0x1066, 0x106e, 0x1070, 0x1075, 0x1081, 0x108e, 0x108e, 0x10a0, 0x10c5, 0x10c7, 0x10c7, 0x10cd, 0x10cd, 0x10d0, 0x10fa, 0x10fc, 0x1248, 0x124a, 0x124d, 0x1250, 0x1256, 0x1258, 0x1258, 0x125a, 0x125d, 0x1260, 0x1288, 0x128a, 0x128d, 0x1290, 0x12b0, 0x12b2, 0x12b5, 0x12b8, 0x12be, 0x12c0, 0x12c0, 0x12c2, 0x12c5, 0x12c8, 0x12d6, 0x12d8, 0x1310, 0x1312, 0x1315, 0x1318, 0x135a, 0x1380, 0x138f, 0x13a0, 0x13f5, 0x13f8, 0x13fd, 0x1401, 0x166c, 0x166f, 0x167f, 0x1681, 0x169a, 0x16a0, 0x16ea, 0x16ee, 0x16f8, 0x1700, 0x1711, 0x171f, 0x1731, 0x1740, 0x1751, 0x1760, 0x176c, 0x176e, 0x1770, 0x1780, 0x17b3, 0x17d7, 0x17d7, 0x17db, 0x17dc, 0x1820, 0x1878, 0x1880, 0x1884, 0x1887, 0x18a8, 0x18aa, 0x18aa, 0x18b0, 0x18f5, 0x1900, 0x191e, 0x1950, 0x196d, 0x1970, 0x1974, 0x1980, 0x19ab, 0x19b0, 0x19c9, 0x1a00, 0x1a16, 0x1a20, 0x1a54, 0x1aa7, 0x1aa7, 0x1b05, 0x1b33, 0x1b45, 0x1b4c, 0x1b83, 0x1ba0, 0x1bae, 0x1baf, 0x1bba, 0x1be5, 0x1c00, 0x1c23, 0x1c4d, 0x1c4f, 0x1c5a, 0x1c7d, 0x1c80, 0x1c88, 0x1c90, 0x1cba, 0x1cbd, 0x1cbf, 0x1ce9, 0x1cec, 0x1cee, 0x1cf3, 0x1cf5, 0x1cf6, 0x1cfa, 0x1cfa, 0x1d00, 0x1dbf, 0x1e00, 0x1f15, 0x1f18, 0x1f1d, 0x1f20, 0x1f45, 0x1f48, 0x1f4d, 0x1f50, 0x1f57, 0x1f59, 0x1f59, 0x1f5b, 0x1f5b, 0x1f5d, 0x1f5d, 0x1f5f, 0x1f7d, 0x1f80, 0x1fb4, 0x1fb6, 0x1fbc, 0x1fbe, 0x1fbe, 0x1fc2, 0x1fc4, 0x1fc6, 0x1fcc, 0x1fd0, 0x1fd3, 0x1fd6, 0x1fdb, 0x1fe0, 0x1fec, 0x1ff2, 0x1ff4, 0x1ff6, 0x1ffc, 0x203f, 0x2040, 0x2054, 0x2054, 0x2071, 0x2071, 0x207f, 0x207f, 0x2090, 0x209c, 0x20a0, 0x20c0, 0x2102, 0x2102, 0x2107, 0x2107, 0x210a, 0x2113, 0x2115, 0x2115, 0x2119, 0x211d, 0x2124, 0x2124, 0x2126, 0x2126, 0x2128, 0x2128, 0x212a, 0x212d, 0x212f, 0x2139, 0x213c, 0x213f, 0x2145, 0x2149, 0x214e, 0x214e, 0x2160, 0x2188, 0x2c00, 0x2ce4, 0x2ceb, 0x2cee, 0x2cf2, 0x2cf3, 0x2d00, 0x2d25, 0x2d27, 0x2d27, 0x2d2d, 0x2d2d, 0x2d30, 0x2d67, 0x2d6f, 0x2d6f, 0x2d80, 0x2d96, 0x2da0, 0x2da6, 0x2da8, 0x2dae, 0x2db0, 0x2db6, 0x2db8, 0x2dbe, 0x2dc0, 0x2dc6, 0x2dc8, 0x2dce, 0x2dd0, 0x2dd6, 0x2dd8, 0x2dde, 0x2e2f, 0x2e2f, 0x3005, 0x3007, 0x3021, 0x3029, 0x3031, 0x3035, 0x3038, 0x303c, 0x3041, 0x3096, 0x309d, 0x309f, 0x30a1, 0x30fa, 0x30fc, 0x30ff, 0x3105, 0x312f, 0x3131, 0x318e, 0x31a0, 0x31bf, 0x31f0, 0x31ff, 0x3400, 0x4dbf, 0x4e00, 0xa48c, 0xa4d0, 0xa4fd, 0xa500, 0xa60c, 0xa610, 0xa61f, 0xa62a, 0xa62b, 0xa640, 0xa66e, 0xa67f, 0xa69d, 0xa6a0, 0xa6ef, 0xa717, 0xa71f, 0xa722, 0xa788, 0xa78b, 0xa7ca, 0xa7d0, 0xa7d1, 0xa7d3, 0xa7d3, 0xa7d5, 0xa7d9, 0xa7f2, 0xa801, 0xa803, 0xa805, 0xa807, 0xa80a, 0xa80c, 0xa822, 0xa838, 0xa838, 0xa840, 0xa873, 0xa882, 0xa8b3, 0xa8f2, 0xa8f7, 0xa8fb, 0xa8fb, 0xa8fd, 0xa8fe, 0xa90a, 0xa925, 0xa930, 0xa946, 0xa960, 0xa97c, 0xa984, 0xa9b2, 0xa9cf, 0xa9cf, 0xa9e0, 0xa9e4, 0xa9e6, 0xa9ef, 0xa9fa, 0xa9fe, 0xaa00, 0xaa28, 0xaa40, 0xaa42, 0xaa44, 0xaa4b, 0xaa60, 0xaa76, 0xaa7a, 0xaa7a, 0xaa7e, 0xaaaf, 0xaab1, 0xaab1, 0xaab5, 0xaab6, 0xaab9, 0xaabd, 0xaac0, 0xaac0, 0xaac2, 0xaac2, 0xaadb, 0xaadd, 0xaae0, 0xaaea, 0xaaf2, 0xaaf4, 0xab01, 0xab06, 0xab09, 0xab0e, 0xab11, 0xab16, 0xab20, 0xab26, 0xab28, 0xab2e, 0xab30, 0xab5a, 0xab5c, 0xab69, 0xab70, 0xabe2, 0xac00, 0xd7a3, 0xd7b0, 0xd7c6, 0xd7cb, 0xd7fb, 0xf900, 0xfa6d, 0xfa70, 0xfad9, 0xfb00, 0xfb06, 0xfb13, 0xfb17, 0xfb1d, 0xfb1d, 0xfb1f, 0xfb28, 0xfb2a, 0xfb36, 0xfb38, 0xfb3c, 0xfb3e, 0xfb3e, 0xfb40, 0xfb41, 0xfb43, 0xfb44, 0xfb46, 0xfbb1, 0xfbd3, 0xfd3d, 0xfd50, 0xfd8f, 0xfd92, 0xfdc7, 0xfdf0, 0xfdfc, 0xfe33, 0xfe34, 0xfe4d, 0xfe4f, 0xfe69, 0xfe69, 0xfe70, 0xfe74, 0xfe76, 0xfefc, 0xff04, 0xff04, 0xff21, 0xff3a, 0xff3f, 0xff3f, 0xff41, 0xff5a, 0xff66, 0xffbe, 0xffc2, 0xffc7, 0xffca, 0xffcf, 0xffd2, 0xffd7, 0xffda, 0xffdc, 0xffe0, 0xffe1, 0xffe5, 0xffe6, 0x10000, 0x1000b, 0x1000d, 0x10026, 0x10028, 0x1003a, 0x1003c, 0x1003d, 0x1003f, 0x1004d, 0x10050, 0x1005d, 0x10080, 0x100fa, 0x10140, 0x10174, 0x10280, 0x1029c, 0x102a0, 0x102d0, 0x10300, 0x1031f, 0x1032d, 0x1034a, 0x10350, 0x10375, 0x10380, 0x1039d, 0x103a0, 0x103c3, 0x103c8, 0x103cf, 0x103d1, 0x103d5, 0x10400, 0x1049d, 0x104b0, 0x104d3, 0x104d8, 0x104fb, 0x10500, 0x10527, 0x10530, 0x10563, 0x10570, 0x1057a, 0x1057c, 0x1058a, 0x1058c, 0x10592, 0x10594, 0x10595, 0x10597, 0x105a1, 0x105a3, 0x105b1, 0x105b3, 0x105b9, 0x105bb, 0x105bc, 0x10600, 0x10736, 0x10740, 0x10755, 0x10760, 0x10767, 0x10780, 0x10785, 0x10787, 0x107b0, 0x107b2, 0x107ba, 0x10800, 0x10805, 0x10808, 0x10808, 0x1080a, 0x10835, 0x10837, 0x10838, 0x1083c, 0x1083c, 0x1083f, 0x10855, 0x10860, 0x10876, 0x10880, 0x1089e, 0x108e0, 0x108f2, 0x108f4, 0x108f5, 0x10900, 0x10915, 0x10920, 0x10939, 0x10980, 0x109b7, 0x109be, 0x109bf, 0x10a00, 0x10a00, 0x10a10, 0x10a13, 0x10a15, 0x10a17, 0x10a19, 0x10a35, 0x10a60, 0x10a7c, 0x10a80, 0x10a9c, 0x10ac0, 0x10ac7, 0x10ac9, 0x10ae4, 0x10b00, 0x10b35, 0x10b40, 0x10b55, 0x10b60, 0x10b72, 0x10b80, 0x10b91, 0x10c00, 0x10c48, 0x10c80, 0x10cb2, 0x10cc0, 0x10cf2, 0x10d00, 0x10d23, 0x10e80, 0x10ea9, 0x10eb0, 0x10eb1, 0x10f00, 0x10f1c, 0x10f27, 0x10f27, 0x10f30, 0x10f45, 0x10f70, 0x10f81, 0x10fb0, 0x10fc4, 0x10fe0, 0x10ff6, 0x11003, 0x11037, 0x11071, 0x11072, 0x11075, 0x11075, 0x11083, 0x110af, 0x110d0, 0x110e8, 0x11103, 0x11126, 0x11144, 0x11144, 0x11147, 0x11147, 0x11150, 0x11172, 0x11176, 0x11176, 0x11183, 0x111b2, 0x111c1, 0x111c4, 0x111da, 0x111da, 0x111dc, 0x111dc, 0x11200, 0x11211, 0x11213, 0x1122b, 0x11280, 0x11286, 0x11288, 0x11288, 0x1128a, 0x1128d, 0x1128f, 0x1129d, 0x1129f, 0x112a8, 0x112b0, 0x112de, 0x11305, 0x1130c, 0x1130f, 0x11310, 0x11313, 0x11328, 0x1132a, 0x11330, 0x11332, 0x11333, 0x11335, 0x11339, 0x1133d, 0x1133d, 0x11350, 0x11350, 0x1135d, 0x11361, 0x11400, 0x11434, 0x11447, 0x1144a, 0x1145f, 0x11461, 0x11480, 0x114af, 0x114c4, 0x114c5, 0x114c7, 0x114c7, 0x11580, 0x115ae, 0x115d8, 0x115db, 0x11600, 0x1162f, 0x11644, 0x11644, 0x11680, 0x116aa, 0x116b8, 0x116b8, 0x11700, 0x1171a, 0x11740, 0x11746, 0x11800, 0x1182b, 0x118a0, 0x118df, 0x118ff, 0x11906, 0x11909, 0x11909, 0x1190c, 0x11913, 0x11915, 0x11916, 0x11918, 0x1192f, 0x1193f, 0x1193f, 0x11941, 0x11941, 0x119a0, 0x119a7, 0x119aa, 0x119d0, 0x119e1, 0x119e1, 0x119e3, 0x119e3, 0x11a00, 0x11a00, 0x11a0b, 0x11a32, 0x11a3a, 0x11a3a, 0x11a50, 0x11a50, 0x11a5c, 0x11a89, 0x11a9d, 0x11a9d, 0x11ab0, 0x11af8, 0x11c00, 0x11c08, 0x11c0a, 0x11c2e, 0x11c40, 0x11c40, 0x11c72, 0x11c8f, 0x11d00, 0x11d06, 0x11d08, 0x11d09, 0x11d0b, 0x11d30, 0x11d46, 0x11d46, 0x11d60, 0x11d65, 0x11d67, 0x11d68, 0x11d6a, 0x11d89, 0x11d98, 0x11d98, 0x11ee0, 0x11ef2, 0x11fb0, 0x11fb0, 0x11fdd, 0x11fe0, 0x12000, 0x12399, 0x12400, 0x1246e, 0x12480, 0x12543, 0x12f90, 0x12ff0, 0x13000, 0x1342e, 0x14400, 0x14646, 0x16800, 0x16a38, 0x16a40, 0x16a5e, 0x16a70, 0x16abe, 0x16ad0, 0x16aed, 0x16b00, 0x16b2f, 0x16b40, 0x16b43, 0x16b63, 0x16b77, 0x16b7d, 0x16b8f, 0x16e40, 0x16e7f, 0x16f00, 0x16f4a, 0x16f50, 0x16f50, 0x16f93, 0x16f9f, 0x16fe0, 0x16fe1, 0x16fe3, 0x16fe3, 0x17000, 0x187f7, 0x18800, 0x18cd5, 0x18d00, 0x18d08, 0x1aff0, 0x1aff3, 0x1aff5, 0x1affb, 0x1affd, 0x1affe, 0x1b000, 0x1b122, 0x1b150, 0x1b152, 0x1b164, 0x1b167, 0x1b170, 0x1b2fb, 0x1bc00, 0x1bc6a, 0x1bc70, 0x1bc7c, 0x1bc80, 0x1bc88, 0x1bc90, 0x1bc99, 0x1d400, 0x1d454, 0x1d456, 0x1d49c, 0x1d49e, 0x1d49f, 0x1d4a2, 0x1d4a2, 0x1d4a5, 0x1d4a6, 0x1d4a9, 0x1d4ac, 0x1d4ae, 0x1d4b9, 0x1d4bb, 0x1d4bb, 0x1d4bd, 0x1d4c3, 0x1d4c5, 0x1d505, 0x1d507, 0x1d50a, 0x1d50d, 0x1d514, 0x1d516, 0x1d51c, 0x1d51e, 0x1d539, 0x1d53b, 0x1d53e, 0x1d540, 0x1d544, 0x1d546, 0x1d546, 0x1d54a, 0x1d550, 0x1d552, 0x1d6a5, 0x1d6a8, 0x1d6c0, 0x1d6c2, 0x1d6da, 0x1d6dc, 0x1d6fa, 0x1d6fc, 0x1d714, 0x1d716, 0x1d734, 0x1d736, 0x1d74e, 0x1d750, 0x1d76e, 0x1d770, 0x1d788, 0x1d78a, 0x1d7a8, 0x1d7aa, 0x1d7c2, 0x1d7c4, 0x1d7cb, 0x1df00, 0x1df1e, 0x1e100, 0x1e12c, 0x1e137, 0x1e13d, 0x1e14e, 0x1e14e, 0x1e290, 0x1e2ad, 0x1e2c0, 0x1e2eb, 0x1e2ff, 0x1e2ff, 0x1e7e0, 0x1e7e6, 0x1e7e8, 0x1e7eb, 0x1e7ed, 0x1e7ee, 0x1e7f0, 0x1e7fe, 0x1e800, 0x1e8c4, 0x1e900, 0x1e943, 0x1e94b, 0x1e94b, 0x1ecb0, 0x1ecb0, 0x1ee00, 0x1ee03, 0x1ee05, 0x1ee1f, 0x1ee21, 0x1ee22, 0x1ee24, 0x1ee24, 0x1ee27, 0x1ee27, 0x1ee29, 0x1ee32, 0x1ee34, 0x1ee37, 0x1ee39, 0x1ee39, 0x1ee3b, 0x1ee3b, 0x1ee42, 0x1ee42, 0x1ee47, 0x1ee47, 0x1ee49, 0x1ee49, 0x1ee4b, 0x1ee4b, 0x1ee4d, 0x1ee4f, 0x1ee51, 0x1ee52, 0x1ee54, 0x1ee54, 0x1ee57, 0x1ee57, 0x1ee59, 0x1ee59, 0x1ee5b, 0x1ee5b, 0x1ee5d, 0x1ee5d, 0x1ee5f, 0x1ee5f, 0x1ee61, 0x1ee62, 0x1ee64, 0x1ee64, 0x1ee67, 0x1ee6a, 0x1ee6c, 0x1ee72, 0x1ee74, 0x1ee77, 0x1ee79, 0x1ee7c, 0x1ee7e, 0x1ee7e, 0x1ee80, 0x1ee89, 0x1ee8b, 0x1ee9b, 0x1eea1, 0x1eea3, 0x1eea5, 0x1eea9, 0x1eeab, 0x1eebb, 0x20000, 0x2a6df, 0x2a700, 0x2b738, 0x2b740, 0x2b81d, 0x2b820, 0x2cea1, 0x2ceb0, 0x2ebe0, 0x2f800, 0x2fa1d, 0x30000, 0x3134a};
+        }
+
+        static private void NFA_FUNCTIONS_init() {
+            NfaFunction[] functions = new NfaFunction[] {JAVA::NFA_JAVA_0, JAVA::NFA_JAVA_1, JAVA::NFA_JAVA_2, JAVA::NFA_JAVA_3, JAVA::NFA_JAVA_4, JAVA::NFA_JAVA_5, JAVA::NFA_JAVA_6, JAVA::NFA_JAVA_7, JAVA::NFA_JAVA_8, JAVA::NFA_JAVA_9, JAVA::NFA_JAVA_10, JAVA::NFA_JAVA_11, JAVA::NFA_JAVA_12, JAVA::NFA_JAVA_13, JAVA::NFA_JAVA_14, JAVA::NFA_JAVA_15, JAVA::NFA_JAVA_16, JAVA::NFA_JAVA_17, JAVA::NFA_JAVA_18, JAVA::NFA_JAVA_19, JAVA::NFA_JAVA_20, JAVA::NFA_JAVA_21, JAVA::NFA_JAVA_22, JAVA::NFA_JAVA_23, JAVA::NFA_JAVA_24, JAVA::NFA_JAVA_25, JAVA::NFA_JAVA_26, JAVA::NFA_JAVA_27, JAVA::NFA_JAVA_28, JAVA::NFA_JAVA_29, JAVA::NFA_JAVA_30, JAVA::NFA_JAVA_31, JAVA::NFA_JAVA_32, JAVA::NFA_JAVA_33, JAVA::NFA_JAVA_34, JAVA::NFA_JAVA_35, JAVA::NFA_JAVA_36, JAVA::NFA_JAVA_37, JAVA::NFA_JAVA_38, JAVA::NFA_JAVA_39, JAVA::NFA_JAVA_40, JAVA::NFA_JAVA_41, JAVA::NFA_JAVA_42, JAVA::NFA_JAVA_43, JAVA::NFA_JAVA_44, JAVA::NFA_JAVA_45, JAVA::NFA_JAVA_46, JAVA::NFA_JAVA_47, JAVA::NFA_JAVA_48, JAVA::NFA_JAVA_49, JAVA::NFA_JAVA_50, JAVA::NFA_JAVA_51, JAVA::NFA_JAVA_52, JAVA::NFA_JAVA_53, JAVA::NFA_JAVA_54, JAVA::NFA_JAVA_55, JAVA::NFA_JAVA_56, JAVA::NFA_JAVA_57, JAVA::NFA_JAVA_58, JAVA::NFA_JAVA_59, JAVA::NFA_JAVA_60, JAVA::NFA_JAVA_61, JAVA::NFA_JAVA_62, JAVA::NFA_JAVA_63, JAVA::NFA_JAVA_64, JAVA::NFA_JAVA_65, JAVA::NFA_JAVA_66, JAVA::NFA_JAVA_67, JAVA::NFA_JAVA_68, JAVA::NFA_JAVA_69, JAVA::NFA_JAVA_70, JAVA::NFA_JAVA_71, JAVA::NFA_JAVA_72, JAVA::NFA_JAVA_73, JAVA::NFA_JAVA_74, JAVA::NFA_JAVA_75, JAVA::NFA_JAVA_76, JAVA::NFA_JAVA_77, JAVA::NFA_JAVA_78, JAVA::NFA_JAVA_79, JAVA::NFA_JAVA_80, JAVA::NFA_JAVA_81, JAVA::NFA_JAVA_82, JAVA::NFA_JAVA_83, JAVA::NFA_JAVA_84, JAVA::NFA_JAVA_85, JAVA::NFA_JAVA_86, JAVA::NFA_JAVA_87, JAVA::NFA_JAVA_88, JAVA::NFA_JAVA_89, JAVA::NFA_JAVA_90, JAVA::NFA_JAVA_91, JAVA::NFA_JAVA_92, JAVA::NFA_JAVA_93, JAVA::NFA_JAVA_94, JAVA::NFA_JAVA_95, JAVA::NFA_JAVA_96, JAVA::NFA_JAVA_97, JAVA::NFA_JAVA_98, JAVA::NFA_JAVA_99, JAVA::NFA_JAVA_100, JAVA::NFA_JAVA_101, JAVA::NFA_JAVA_102, JAVA::NFA_JAVA_103, JAVA::NFA_JAVA_104, JAVA::NFA_JAVA_105, JAVA::NFA_JAVA_106, JAVA::NFA_JAVA_107, JAVA::NFA_JAVA_108, JAVA::NFA_JAVA_109, JAVA::NFA_JAVA_110, JAVA::NFA_JAVA_111, JAVA::NFA_JAVA_112, JAVA::NFA_JAVA_113, JAVA::NFA_JAVA_114, JAVA::NFA_JAVA_115, JAVA::NFA_JAVA_116, JAVA::NFA_JAVA_117, JAVA::NFA_JAVA_118, JAVA::NFA_JAVA_119, JAVA::NFA_JAVA_120, JAVA::NFA_JAVA_121, JAVA::NFA_JAVA_122, JAVA::NFA_JAVA_123, JAVA::NFA_JAVA_124, JAVA::NFA_JAVA_125, JAVA::NFA_JAVA_126, JAVA::NFA_JAVA_127, JAVA::NFA_JAVA_128, JAVA::NFA_JAVA_129, JAVA::NFA_JAVA_130, JAVA::NFA_JAVA_131, JAVA::NFA_JAVA_132, JAVA::NFA_JAVA_133, JAVA::NFA_JAVA_134, JAVA::NFA_JAVA_135, JAVA::NFA_JAVA_136, JAVA::NFA_JAVA_137, JAVA::NFA_JAVA_138, JAVA::NFA_JAVA_139, JAVA::NFA_JAVA_140, JAVA::NFA_JAVA_141, JAVA::NFA_JAVA_142, JAVA::NFA_JAVA_143, JAVA::NFA_JAVA_144, JAVA::NFA_JAVA_145, JAVA::NFA_JAVA_146, JAVA::NFA_JAVA_147, JAVA::NFA_JAVA_148, JAVA::NFA_JAVA_149, JAVA::NFA_JAVA_150, JAVA::NFA_JAVA_151, JAVA::NFA_JAVA_152, JAVA::NFA_JAVA_153, JAVA::NFA_JAVA_154, JAVA::NFA_JAVA_155, JAVA::NFA_JAVA_156, JAVA::NFA_JAVA_157, JAVA::NFA_JAVA_158, JAVA::NFA_JAVA_159, JAVA::NFA_JAVA_160, JAVA::NFA_JAVA_161, JAVA::NFA_JAVA_162, JAVA::NFA_JAVA_163, JAVA::NFA_JAVA_164, JAVA::NFA_JAVA_165, JAVA::NFA_JAVA_166, JAVA::NFA_JAVA_167, JAVA::NFA_JAVA_168, JAVA::NFA_JAVA_169, JAVA::NFA_JAVA_170, JAVA::NFA_JAVA_171, JAVA::NFA_JAVA_172, JAVA::NFA_JAVA_173, JAVA::NFA_JAVA_174, JAVA::NFA_JAVA_175, JAVA::NFA_JAVA_176, JAVA::NFA_JAVA_177, JAVA::NFA_JAVA_178, JAVA::NFA_JAVA_179, JAVA::NFA_JAVA_180, JAVA::NFA_JAVA_181, JAVA::NFA_JAVA_182, JAVA::NFA_JAVA_183, JAVA::NFA_JAVA_184, JAVA::NFA_JAVA_185, JAVA::NFA_JAVA_186, JAVA::NFA_JAVA_187, JAVA::NFA_JAVA_188, JAVA::NFA_JAVA_189, JAVA::NFA_JAVA_190, JAVA::NFA_JAVA_191, JAVA::NFA_JAVA_192, JAVA::NFA_JAVA_193, JAVA::NFA_JAVA_194, JAVA::NFA_JAVA_195, JAVA::NFA_JAVA_196, JAVA::NFA_JAVA_197, JAVA::NFA_JAVA_198, JAVA::NFA_JAVA_199, JAVA::NFA_JAVA_200, JAVA::NFA_JAVA_201, JAVA::NFA_JAVA_202, JAVA::NFA_JAVA_203, JAVA::NFA_JAVA_204, JAVA::NFA_JAVA_205, JAVA::NFA_JAVA_206, JAVA::NFA_JAVA_207, JAVA::NFA_JAVA_208, JAVA::NFA_JAVA_209, JAVA::NFA_JAVA_210, JAVA::NFA_JAVA_211, JAVA::NFA_JAVA_212, JAVA::NFA_JAVA_213, JAVA::NFA_JAVA_214, JAVA::NFA_JAVA_215, JAVA::NFA_JAVA_216, JAVA::NFA_JAVA_217, JAVA::NFA_JAVA_218, JAVA::NFA_JAVA_219, JAVA::NFA_JAVA_220, JAVA::NFA_JAVA_221, JAVA::NFA_JAVA_222, JAVA::NFA_JAVA_223, JAVA::NFA_JAVA_224, JAVA::NFA_JAVA_225, JAVA::NFA_JAVA_226, JAVA::NFA_JAVA_227, JAVA::NFA_JAVA_228, JAVA::NFA_JAVA_229, JAVA::NFA_JAVA_230, JAVA::NFA_JAVA_231, JAVA::NFA_JAVA_232, JAVA::NFA_JAVA_233, JAVA::NFA_JAVA_234, JAVA::NFA_JAVA_235, JAVA::NFA_JAVA_236, JAVA::NFA_JAVA_237, JAVA::NFA_JAVA_238, JAVA::NFA_JAVA_239, JAVA::NFA_JAVA_240, JAVA::NFA_JAVA_241, JAVA::NFA_JAVA_242, JAVA::NFA_JAVA_243, JAVA::NFA_JAVA_244, JAVA::NFA_JAVA_245, JAVA::NFA_JAVA_246, JAVA::NFA_JAVA_247, JAVA::NFA_JAVA_248, JAVA::NFA_JAVA_249, JAVA::NFA_JAVA_250, JAVA::NFA_JAVA_251, JAVA::NFA_JAVA_252, JAVA::NFA_JAVA_253, JAVA::NFA_JAVA_254, JAVA::NFA_JAVA_255, JAVA::NFA_JAVA_256, JAVA::NFA_JAVA_257, JAVA::NFA_JAVA_258, JAVA::NFA_JAVA_259, JAVA::NFA_JAVA_260, JAVA::NFA_JAVA_261, JAVA::NFA_JAVA_262, JAVA::NFA_JAVA_263, JAVA::NFA_JAVA_264, JAVA::NFA_JAVA_265, JAVA::NFA_JAVA_266, JAVA::NFA_JAVA_267, JAVA::NFA_JAVA_268, JAVA::NFA_JAVA_269, JAVA::NFA_JAVA_270, JAVA::NFA_JAVA_271, JAVA::NFA_JAVA_272, JAVA::NFA_JAVA_273, JAVA::NFA_JAVA_274, JAVA::NFA_JAVA_275, JAVA::NFA_JAVA_276, JAVA::NFA_JAVA_277, JAVA::NFA_JAVA_278, JAVA::NFA_JAVA_279, JAVA::NFA_JAVA_280, JAVA::NFA_JAVA_281, JAVA::NFA_JAVA_282, JAVA::NFA_JAVA_283, JAVA::NFA_JAVA_284, JAVA::NFA_JAVA_285, JAVA::NFA_JAVA_286, JAVA::NFA_JAVA_287, JAVA::NFA_JAVA_288, JAVA::NFA_JAVA_289, JAVA::NFA_JAVA_290, JAVA::NFA_JAVA_291, JAVA::NFA_JAVA_292, JAVA::NFA_JAVA_293, JAVA::NFA_JAVA_294, JAVA::NFA_JAVA_295, JAVA::NFA_JAVA_296, JAVA::NFA_JAVA_297, JAVA::NFA_JAVA_298, JAVA::NFA_JAVA_299, JAVA::NFA_JAVA_300, JAVA::NFA_JAVA_301, JAVA::NFA_JAVA_302, JAVA::NFA_JAVA_303, JAVA::NFA_JAVA_304, JAVA::NFA_JAVA_305, JAVA::NFA_JAVA_306, JAVA::NFA_JAVA_307, JAVA::NFA_JAVA_308, JAVA::NFA_JAVA_309, JAVA::NFA_JAVA_310, JAVA::NFA_JAVA_311, JAVA::NFA_JAVA_312, JAVA::NFA_JAVA_313, JAVA::NFA_JAVA_314, JAVA::NFA_JAVA_315, JAVA::NFA_JAVA_316, JAVA::NFA_JAVA_317, JAVA::NFA_JAVA_318, JAVA::NFA_JAVA_319, JAVA::NFA_JAVA_320, JAVA::NFA_JAVA_321, JAVA::NFA_JAVA_322, JAVA::NFA_JAVA_323, JAVA::NFA_JAVA_324, JAVA::NFA_JAVA_325, JAVA::NFA_JAVA_326, JAVA::NFA_JAVA_327, JAVA::NFA_JAVA_328, JAVA::NFA_JAVA_329, JAVA::NFA_JAVA_330, JAVA::NFA_JAVA_331, JAVA::NFA_JAVA_332, JAVA::NFA_JAVA_333, JAVA::NFA_JAVA_334, JAVA::NFA_JAVA_335, JAVA::NFA_JAVA_336, JAVA::NFA_JAVA_337, JAVA::NFA_JAVA_338, JAVA::NFA_JAVA_339, JAVA::NFA_JAVA_340, JAVA::NFA_JAVA_341, JAVA::NFA_JAVA_342, JAVA::NFA_JAVA_343, JAVA::NFA_JAVA_344, JAVA::NFA_JAVA_345, JAVA::NFA_JAVA_346, JAVA::NFA_JAVA_347, JAVA::NFA_JAVA_348, JAVA::NFA_JAVA_349, JAVA::NFA_JAVA_350, JAVA::NFA_JAVA_351, JAVA::NFA_JAVA_352, JAVA::NFA_JAVA_353, JAVA::NFA_JAVA_354, JAVA::NFA_JAVA_355, JAVA::NFA_JAVA_356, JAVA::NFA_JAVA_357, JAVA::NFA_JAVA_358, JAVA::NFA_JAVA_359, JAVA::NFA_JAVA_360, JAVA::NFA_JAVA_361, JAVA::NFA_JAVA_362, JAVA::NFA_JAVA_363, JAVA::NFA_JAVA_364, JAVA::NFA_JAVA_365, JAVA::NFA_JAVA_366, JAVA::NFA_JAVA_367, JAVA::NFA_JAVA_368, JAVA::NFA_JAVA_369, JAVA::NFA_JAVA_370, JAVA::NFA_JAVA_371, JAVA::NFA_JAVA_372, JAVA::NFA_JAVA_373, JAVA::NFA_JAVA_374, JAVA::NFA_JAVA_375, JAVA::NFA_JAVA_376, JAVA::NFA_JAVA_377, JAVA::NFA_JAVA_378, JAVA::NFA_JAVA_379, JAVA::NFA_JAVA_380, JAVA::NFA_JAVA_381, JAVA::NFA_JAVA_382, JAVA::NFA_JAVA_383, JAVA::NFA_JAVA_384, JAVA::NFA_JAVA_385, JAVA::NFA_JAVA_386, JAVA::NFA_JAVA_387, JAVA::NFA_JAVA_388, JAVA::NFA_JAVA_389, JAVA::NFA_JAVA_390, JAVA::NFA_JAVA_391, JAVA::NFA_JAVA_392, JAVA::NFA_JAVA_393, JAVA::NFA_JAVA_394, JAVA::NFA_JAVA_395, JAVA::NFA_JAVA_396, JAVA::NFA_JAVA_397, JAVA::NFA_JAVA_398, JAVA::NFA_JAVA_399, JAVA::NFA_JAVA_400, JAVA::NFA_JAVA_401, JAVA::NFA_JAVA_402, JAVA::NFA_JAVA_403, JAVA::NFA_JAVA_404, JAVA::NFA_JAVA_405, JAVA::NFA_JAVA_406, JAVA::NFA_JAVA_407, JAVA::NFA_JAVA_408, JAVA::NFA_JAVA_409, JAVA::NFA_JAVA_410, JAVA::NFA_JAVA_411, JAVA::NFA_JAVA_412, JAVA::NFA_JAVA_413, JAVA::NFA_JAVA_414, JAVA::NFA_JAVA_415, JAVA::NFA_JAVA_416, JAVA::NFA_JAVA_417, JAVA::NFA_JAVA_418, JAVA::NFA_JAVA_419, JAVA::NFA_JAVA_420, JAVA::NFA_JAVA_421, JAVA::NFA_JAVA_422, JAVA::NFA_JAVA_423, JAVA::NFA_JAVA_424, JAVA::NFA_JAVA_425, JAVA::NFA_JAVA_426, JAVA::NFA_JAVA_427, JAVA::NFA_JAVA_428, JAVA::NFA_JAVA_429, JAVA::NFA_JAVA_430, JAVA::NFA_JAVA_431, JAVA::NFA_JAVA_432, JAVA::NFA_JAVA_433, JAVA::NFA_JAVA_434, JAVA::NFA_JAVA_435, JAVA::NFA_JAVA_436, JAVA::NFA_JAVA_437, JAVA::NFA_JAVA_438, JAVA::NFA_JAVA_439, JAVA::NFA_JAVA_440, JAVA::NFA_JAVA_441, JAVA::NFA_JAVA_442, JAVA::NFA_JAVA_443, JAVA::NFA_JAVA_444, JAVA::NFA_JAVA_445, JAVA::NFA_JAVA_446, JAVA::NFA_JAVA_447, JAVA::NFA_JAVA_448, JAVA::NFA_JAVA_449, JAVA::NFA_JAVA_450, JAVA::NFA_JAVA_451, JAVA::NFA_JAVA_452, JAVA::NFA_JAVA_453, JAVA::NFA_JAVA_454, JAVA::NFA_JAVA_455, JAVA::NFA_JAVA_456, JAVA::NFA_JAVA_457, JAVA::NFA_JAVA_458, JAVA::NFA_JAVA_459, JAVA::NFA_JAVA_460, JAVA::NFA_JAVA_461, JAVA::NFA_JAVA_462, JAVA::NFA_JAVA_463, JAVA::NFA_JAVA_464, JAVA::NFA_JAVA_465, JAVA::NFA_JAVA_466, JAVA::NFA_JAVA_467, JAVA::NFA_JAVA_468, JAVA::NFA_JAVA_469, JAVA::NFA_JAVA_470, JAVA::NFA_JAVA_471, JAVA::NFA_JAVA_472, JAVA::NFA_JAVA_473, JAVA::NFA_JAVA_474, JAVA::NFA_JAVA_475, JAVA::NFA_JAVA_476, JAVA::NFA_JAVA_477, JAVA::NFA_JAVA_478, JAVA::NFA_JAVA_479, JAVA::NFA_JAVA_480, JAVA::NFA_JAVA_481, JAVA::NFA_JAVA_482, JAVA::NFA_JAVA_483, JAVA::NFA_JAVA_484, JAVA::NFA_JAVA_485, JAVA::NFA_JAVA_486, JAVA::NFA_JAVA_487, JAVA::NFA_JAVA_488, JAVA::NFA_JAVA_489, JAVA::NFA_JAVA_490, JAVA::NFA_JAVA_491, JAVA::NFA_JAVA_492, JAVA::NFA_JAVA_493, JAVA::NFA_JAVA_494, JAVA::NFA_JAVA_495, JAVA::NFA_JAVA_496, JAVA::NFA_JAVA_497, JAVA::NFA_JAVA_498, JAVA::NFA_JAVA_499, JAVA::NFA_JAVA_500, JAVA::NFA_JAVA_501, JAVA::NFA_JAVA_502, JAVA::NFA_JAVA_503, JAVA::NFA_JAVA_504, JAVA::NFA_JAVA_505, JAVA::NFA_JAVA_506, JAVA::NFA_JAVA_507, JAVA::NFA_JAVA_508, JAVA::NFA_JAVA_509, JAVA::NFA_JAVA_510, JAVA::NFA_JAVA_511, JAVA::NFA_JAVA_512, JAVA::NFA_JAVA_513, JAVA::NFA_JAVA_514, JAVA::NFA_JAVA_515, JAVA::NFA_JAVA_516, JAVA::NFA_JAVA_517, JAVA::NFA_JAVA_518, JAVA::NFA_JAVA_519, JAVA::NFA_JAVA_520, JAVA::NFA_JAVA_521, JAVA::NFA_JAVA_522, JAVA::NFA_JAVA_523, JAVA::NFA_JAVA_524, JAVA::NFA_JAVA_525, JAVA::NFA_JAVA_526, JAVA::NFA_JAVA_527, JAVA::NFA_JAVA_528, JAVA::NFA_JAVA_529, JAVA::NFA_JAVA_530, JAVA::NFA_JAVA_531, JAVA::NFA_JAVA_532, JAVA::NFA_JAVA_533, JAVA::NFA_JAVA_534, JAVA::NFA_JAVA_535, JAVA::NFA_JAVA_536, JAVA::NFA_JAVA_537, JAVA::NFA_JAVA_538, JAVA::NFA_JAVA_539, JAVA::NFA_JAVA_540, JAVA::NFA_JAVA_541, JAVA::NFA_JAVA_542, JAVA::NFA_JAVA_543, JAVA::NFA_JAVA_544, JAVA::NFA_JAVA_545, JAVA::NFA_JAVA_546, JAVA::NFA_JAVA_547, JAVA::NFA_JAVA_548, JAVA::NFA_JAVA_549, JAVA::NFA_JAVA_550, JAVA::NFA_JAVA_551, JAVA::NFA_JAVA_552, JAVA::NFA_JAVA_553, JAVA::NFA_JAVA_554, JAVA::NFA_JAVA_555, JAVA::NFA_JAVA_556, JAVA::NFA_JAVA_557, JAVA::NFA_JAVA_558, JAVA::NFA_JAVA_559, JAVA::NFA_JAVA_560, JAVA::NFA_JAVA_561, JAVA::NFA_JAVA_562, JAVA::NFA_JAVA_563, JAVA::NFA_JAVA_564, JAVA::NFA_JAVA_565, JAVA::NFA_JAVA_566, JAVA::NFA_JAVA_567, JAVA::NFA_JAVA_568, JAVA::NFA_JAVA_569, JAVA::NFA_JAVA_570, JAVA::NFA_JAVA_571, JAVA::NFA_JAVA_572, JAVA::NFA_JAVA_573, JAVA::NFA_JAVA_574, JAVA::NFA_JAVA_575, JAVA::NFA_JAVA_576, JAVA::NFA_JAVA_577, JAVA::NFA_JAVA_578, JAVA::NFA_JAVA_579, JAVA::NFA_JAVA_580, JAVA::NFA_JAVA_581, JAVA::NFA_JAVA_582, JAVA::NFA_JAVA_583, JAVA::NFA_JAVA_584, JAVA::NFA_JAVA_585, JAVA::NFA_JAVA_586, JAVA::NFA_JAVA_587, JAVA::NFA_JAVA_588, JAVA::NFA_JAVA_589, JAVA::NFA_JAVA_590, JAVA::NFA_JAVA_591, JAVA::NFA_JAVA_592, JAVA::NFA_JAVA_593, JAVA::NFA_JAVA_594, JAVA::NFA_JAVA_595, JAVA::NFA_JAVA_596, JAVA::NFA_JAVA_597, JAVA::NFA_JAVA_598, JAVA::NFA_JAVA_599, JAVA::NFA_JAVA_600, JAVA::NFA_JAVA_601, JAVA::NFA_JAVA_602, JAVA::NFA_JAVA_603, JAVA::NFA_JAVA_604, JAVA::NFA_JAVA_605, JAVA::NFA_JAVA_606, JAVA::NFA_JAVA_607, JAVA::NFA_JAVA_608, JAVA::NFA_JAVA_609, JAVA::NFA_JAVA_610, JAVA::NFA_JAVA_611, JAVA::NFA_JAVA_612, JAVA::NFA_JAVA_613, JAVA::NFA_JAVA_614, JAVA::NFA_JAVA_615, JAVA::NFA_JAVA_616, JAVA::NFA_JAVA_617, JAVA::NFA_JAVA_618, JAVA::NFA_JAVA_619, JAVA::NFA_JAVA_620, JAVA::NFA_JAVA_621, JAVA::NFA_JAVA_622, JAVA::NFA_JAVA_623, JAVA::NFA_JAVA_624, JAVA::NFA_JAVA_625, JAVA::NFA_JAVA_626, JAVA::NFA_JAVA_627, JAVA::NFA_JAVA_628, JAVA::NFA_JAVA_629, JAVA::NFA_JAVA_630, JAVA::NFA_JAVA_631, JAVA::NFA_JAVA_632, JAVA::NFA_JAVA_633, JAVA::NFA_JAVA_634, JAVA::NFA_JAVA_635, JAVA::NFA_JAVA_636, JAVA::NFA_JAVA_637, JAVA::NFA_JAVA_638, JAVA::NFA_JAVA_639, JAVA::NFA_JAVA_640, JAVA::NFA_JAVA_641, JAVA::NFA_JAVA_642, JAVA::NFA_JAVA_643, JAVA::NFA_JAVA_644, JAVA::NFA_JAVA_645, JAVA::NFA_JAVA_646, JAVA::NFA_JAVA_647, JAVA::NFA_JAVA_648, JAVA::NFA_JAVA_649, JAVA::NFA_JAVA_650, JAVA::NFA_JAVA_651, JAVA::NFA_JAVA_652, JAVA::NFA_JAVA_653, JAVA::NFA_JAVA_654, JAVA::NFA_JAVA_655, JAVA::NFA_JAVA_656, JAVA::NFA_JAVA_657, JAVA::NFA_JAVA_658, JAVA::NFA_JAVA_659, JAVA::NFA_JAVA_660, JAVA::NFA_JAVA_661, JAVA::NFA_JAVA_662, JAVA::NFA_JAVA_663, JAVA::NFA_JAVA_664, JAVA::NFA_JAVA_665, JAVA::NFA_JAVA_666, JAVA::NFA_JAVA_667, JAVA::NFA_JAVA_668, JAVA::NFA_JAVA_669, JAVA::NFA_JAVA_670, JAVA::NFA_JAVA_671, JAVA::NFA_JAVA_672, JAVA::NFA_JAVA_673, JAVA::NFA_JAVA_674, JAVA::NFA_JAVA_675, JAVA::NFA_JAVA_676, JAVA::NFA_JAVA_677, JAVA::NFA_JAVA_678, JAVA::NFA_JAVA_679, JAVA::NFA_JAVA_680, JAVA::NFA_JAVA_681, JAVA::NFA_JAVA_682, JAVA::NFA_JAVA_683, JAVA::NFA_JAVA_684, JAVA::NFA_JAVA_685, JAVA::NFA_JAVA_686, JAVA::NFA_JAVA_687};
+            functionTableMap.put(LexicalState.JAVA, functions);
+        }
+
+    }
+
+
+    /**
+    * Holder class for NFA code related to IN_MULTI_LINE_COMMENT lexical state
+    */
+    private static class IN_MULTI_LINE_COMMENT {
+
+        static private TokenType NFA_IN_MULTI_LINE_COMMENT_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '*') {
+                nextStates.set(1);
+            }
+            if (ch >= 0x0) {
+                if (validTypes.contains(ANY_CHAR)) type = ANY_CHAR;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_MULTI_LINE_COMMENT_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '/') {
+                if (validTypes.contains(MULTI_LINE_COMMENT)) type = MULTI_LINE_COMMENT;
+            }
+            return type;
+        }
+
+        static private void NFA_FUNCTIONS_init() {
+            NfaFunction[] functions = new NfaFunction[] {IN_MULTI_LINE_COMMENT::NFA_IN_MULTI_LINE_COMMENT_0, IN_MULTI_LINE_COMMENT::NFA_IN_MULTI_LINE_COMMENT_1};
+            functionTableMap.put(LexicalState.IN_MULTI_LINE_COMMENT, functions);
+        }
+
+    }
+
+
+    /**
+    * Holder class for NFA code related to IN_SINGLE_LINE_COMMENT lexical state
+    */
+    private static class IN_SINGLE_LINE_COMMENT {
+
+        static private TokenType NFA_IN_SINGLE_LINE_COMMENT_0(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '\r') {
+                nextStates.set(1);
+            }
+            if (ch >= 0x0) {
+                if (validTypes.contains(ANY_CHAR)) type = ANY_CHAR;
+            }
+            if (ch == '\n') {
+                if (validTypes.contains(SINGLE_LINE_COMMENT)) type = SINGLE_LINE_COMMENT;
+            } else if (ch == '\r') {
+                if (validTypes.contains(SINGLE_LINE_COMMENT)) type = SINGLE_LINE_COMMENT;
+            }
+            return type;
+        }
+
+        static private TokenType NFA_IN_SINGLE_LINE_COMMENT_1(int ch, BitSet nextStates, EnumSet<TokenType> validTypes) {
+            TokenType type = null;
+            if (ch == '\n') {
+                if (validTypes.contains(SINGLE_LINE_COMMENT)) type = SINGLE_LINE_COMMENT;
+            }
+            return type;
+        }
+
+        static private void NFA_FUNCTIONS_init() {
+            NfaFunction[] functions = new NfaFunction[] {IN_SINGLE_LINE_COMMENT::NFA_IN_SINGLE_LINE_COMMENT_0, IN_SINGLE_LINE_COMMENT::NFA_IN_SINGLE_LINE_COMMENT_1};
+            functionTableMap.put(LexicalState.IN_SINGLE_LINE_COMMENT, functions);
+        }
+
+    }
+
+}
+
+
@@ -0,0 +1,79 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for Assertion AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import com.javacc.core.Expansion;
+
+
+public class Assertion extends com.javacc.core.EmptyExpansion {
+    private Expression assertionExpression, messageExpression;
+
+    //Inserted getter for messageExpression
+    public Expression getMessageExpression() {
+        return messageExpression;
+    }
+
+    //Inserted setter for messageExpression
+    public void setMessageExpression(Expression messageExpression) {
+        this.messageExpression = messageExpression;
+    }
+
+    //Inserted getter for assertionExpression
+    public Expression getAssertionExpression() {
+        return assertionExpression;
+    }
+
+    //Inserted setter for assertionExpression
+    public void setAssertionExpression(Expression assertionExpression) {
+        this.assertionExpression = assertionExpression;
+    }
+
+    private Expansion expansion;
+
+    //Inserted getter for expansion
+    public Expansion getExpansion() {
+        return expansion;
+    }
+
+    //Inserted setter for expansion
+    public void setExpansion(Expansion expansion) {
+        this.expansion = expansion;
+    }
+
+    private boolean expansionNegated, semanticLookaheadNested;
+
+    //Inserted getter for semanticLookaheadNested
+    public boolean isSemanticLookaheadNested() {
+        return semanticLookaheadNested;
+    }
+
+    //Inserted setter for semanticLookaheadNested
+    public void setSemanticLookaheadNested(boolean semanticLookaheadNested) {
+        this.semanticLookaheadNested = semanticLookaheadNested;
+    }
+
+    //Inserted getter for expansionNegated
+    public boolean isExpansionNegated() {
+        return expansionNegated;
+    }
+
+    //Inserted setter for expansionNegated
+    public void setExpansionNegated(boolean expansionNegated) {
+        this.expansionNegated = expansionNegated;
+    }
+
+    public boolean isAlwaysSuccessful() {
+        return false;
+    }
+
+    public boolean startsWithGlobalCodeAction() {
+        return expansion != null || semanticLookaheadNested;
+    }
+
+}
+
+
@@ -0,0 +1,60 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for AttemptBlock AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import com.javacc.core.TokenSet;
+import com.javacc.core.Expansion;
+
+
+public class AttemptBlock extends Expansion {
+
+    public Expansion getNestedExpansion() {
+        return firstChildOfType(Expansion.class);
+    }
+
+    public Expansion getRecoveryExpansion() {
+        return (Expansion) getChild(3);
+    }
+
+    protected boolean computePossiblyEmpty() {
+        return getNestedExpansion().isPossiblyEmpty();
+    }
+
+    public boolean isAlwaysSuccessful() {
+        return getNestedExpansion().isAlwaysSuccessful();
+    }
+
+    //REVISIT: Should this take RECOVER into account? I don't think so,
+    // but I still have to think about it a bit more.
+    protected TokenSet computeFirstSet() {
+        return getNestedExpansion().getFirstSet();
+    }
+
+    //REVISIT: Should this take RECOVER into account?
+    protected TokenSet computeFinalSet() {
+        return getNestedExpansion().getFinalSet();
+    }
+
+    protected int computeMinimumSize() {
+        return getNestedExpansion().getMinimumSize();
+    }
+
+    protected int computeMaximumSize() {
+        return getNestedExpansion().getMaximumSize();
+    }
+
+    public boolean startsWithLexicalChange() {
+        return getNestedExpansion().startsWithLexicalChange();
+    }
+
+    public boolean startsWithGlobalCodeAction() {
+        return getNestedExpansion().startsWithGlobalCodeAction();
+    }
+
+}
+
+
@@ -0,0 +1,19 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for CatchBlock AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+
+
+public class CatchBlock extends BaseNode {
+
+    public CodeBlock getBlock() {
+        return firstChildOfType(CodeBlock.class);
+    }
+
+}
+
+
@@ -0,0 +1,97 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for CharacterRange AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import java.util.ArrayList;
+
+
+public class CharacterRange extends BaseNode {
+    private int left, right;
+
+    //Inserted getter for right
+    public int getRight() {
+        return right;
+    }
+
+    //Inserted setter for right
+    public void setRight(int right) {
+        this.right = right;
+    }
+
+    //Inserted getter for left
+    public int getLeft() {
+        return left;
+    }
+
+    //Inserted setter for left
+    public void setLeft(int left) {
+        this.left = left;
+    }
+
+    public CharacterRange() {
+    }
+
+    public CharacterRange(int left, int right) {
+        setRange(left, right);
+    }
+
+    public void setRange(int left, int right) {
+        if (left > right) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+        this.left = left;
+        this.right = right;
+    }
+
+    public boolean isSingleChar() {
+        return left == right;
+    }
+
+    static private boolean isSingleChar(String s) {
+        if (s.length() == 1) return true;
+        if (s.length() == 2) {
+            return Character.isSurrogatePair(s.charAt(0), s.charAt(1));
+        }
+        return false;
+    }
+
+    public void close() {
+        java.util.List<Token> bounds = new ArrayList<>();
+        for (Node n : children()) {
+            if (n instanceof StringLiteral) bounds.add((Token) n);
+            if (n instanceof CharacterLiteral) bounds.add((Token) n);
+            if (bounds.size() > 1) break;
+        }
+        String leftBound = StringLiteral.removeEscapesAndQuotes(bounds.get(0).getImage());
+        String rightBound = leftBound;
+        if (bounds.size() > 1) {
+            rightBound = StringLiteral.removeEscapesAndQuotes(bounds.get(1).getImage());
+        }
+        if (!isSingleChar(leftBound)) {
+            getGrammar().addError(bounds.get(0), "String in character list may contain only one character.");
+        }
+        this.left = this.right = leftBound.codePointAt(0);
+        if (!leftBound.equals(rightBound)) {
+            if (!isSingleChar(rightBound)) {
+                getGrammar().addError(bounds.get(1), "String in character list may contain only one character.");
+            }
+        }
+        if (bounds.size() > 1) {
+            String right = StringLiteral.removeEscapesAndQuotes(bounds.get(1).getImage());
+            if (!isSingleChar(right)) {
+                getGrammar().addError(bounds.get(1), "String in character list may contain only one character.");
+            }
+            this.right = right.codePointAt(0);
+        }
+        if (this.left > this.right) {
+            getGrammar().addError(this, "The left side of the character range must a lower ordinal (in Unicode) value than the right side.");
+        }
+    }
+
+}
+
+
@@ -0,0 +1,50 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for CodeBlock AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+
+
+public class CodeBlock extends com.javacc.core.EmptyExpansion implements Statement {
+
+    public String getAsString() {
+        return getInnerText();
+    }
+
+    /**
+    * The block is empty if it only consists of { and }
+    */
+    public boolean isEmpty() {
+        return getRealTokens().size() == 2;
+    }
+
+    private boolean appliesInLookahead;
+
+    //Inserted getter for appliesInLookahead
+    public boolean isAppliesInLookahead() {
+        return appliesInLookahead;
+    }
+
+    //Inserted setter for appliesInLookahead
+    public void setAppliesInLookahead(boolean appliesInLookahead) {
+        this.appliesInLookahead = appliesInLookahead;
+    }
+
+    public CodeBlock getJavaCode() {
+        return this;
+    }
+
+    protected boolean computePossiblyEmpty() {
+        return true;
+    }
+
+    public boolean startsWithGlobalCodeAction() {
+        return isAppliesInLookahead();
+    }
+
+}
+
+
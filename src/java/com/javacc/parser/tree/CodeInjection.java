@@ -0,0 +1,32 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for CodeInjection AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import java.util.List;
+import java.util.ArrayList;
+
+
+public class CodeInjection extends BaseNode {
+    public String name;
+    public List<ImportDeclaration> importDeclarations = new ArrayList<ImportDeclaration>();
+    public List<Annotation> annotations = new ArrayList<>();
+    public List<ObjectType> extendsList = new ArrayList<>();
+    public List<ObjectType> implementsList = new ArrayList<>();
+    public ClassOrInterfaceBody body;
+    public boolean isInterface;
+
+    public void addExtendsType(ObjectType type) {
+        extendsList.add(type);
+    }
+
+    public void addImplementsType(ObjectType type) {
+        implementsList.add(type);
+    }
+
+}
+
+
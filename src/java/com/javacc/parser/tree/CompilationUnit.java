@@ -0,0 +1,42 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for CompilationUnit AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import java.util.*;
+
+
+public class CompilationUnit extends BaseNode {
+
+    public String getPackageName() {
+        PackageDeclaration jpd = getPackageDeclaration();
+        return jpd == null ? null : jpd.getPackageName().toString();
+    }
+
+    public PackageDeclaration getPackageDeclaration() {
+        return firstChildOfType(PackageDeclaration.class);
+    }
+
+    public List<ImportDeclaration> getImportDeclarations() {
+        return childrenOfType(ImportDeclaration.class);
+    }
+
+    public List<TypeDeclaration> getTypeDeclarations() {
+        return childrenOfType(TypeDeclaration.class);
+    }
+
+    public void addImportDeclaration(ImportDeclaration decl) {
+        Node firstTypeDeclaration = firstChildOfType(TypeDeclaration.class);
+        if (firstTypeDeclaration == null) {
+            firstTypeDeclaration = firstChildOfType(Delimiter.class);
+            //lone semicolon, I suppose
+        }
+        addChild(indexOf(firstTypeDeclaration), decl);
+    }
+
+}
+
+
@@ -0,0 +1,19 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for EndOfFile AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+
+
+public class EndOfFile extends com.javacc.core.RegularExpression {
+
+    public boolean matchesEmptyString() {
+        return true;
+    }
+
+}
+
+
@@ -0,0 +1,66 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for ExpansionWithParentheses AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import com.javacc.core.TokenSet;
+import com.javacc.core.Expansion;
+
+
+public class ExpansionWithParentheses extends Expansion {
+
+    protected int computeMaximumSize() {
+        return getNestedExpansion().getMaximumSize();
+    }
+
+    protected int computeMinimumSize() {
+        return getNestedExpansion().getMinimumSize();
+    }
+
+    protected boolean computePossiblyEmpty() {
+        return getNestedExpansion().isPossiblyEmpty();
+    }
+
+    public boolean isAlwaysSuccessful() {
+        return getNestedExpansion().isAlwaysSuccessful();
+    }
+
+    protected TokenSet computeFirstSet() {
+        return getNestedExpansion().getFirstSet();
+    }
+
+    protected TokenSet computeFinalSet() {
+        return getNestedExpansion().getFinalSet();
+    }
+
+    public Expansion getNestedExpansion() {
+        return firstChildOfType(Expansion.class);
+    }
+
+    public String getSpecifiedLexicalState() {
+        LexicalStateSwitch lss = firstChildOfType(LexicalStateSwitch.class);
+        return lss == null ? super.getSpecifiedLexicalState() : lss.getLexicalStateName();
+    }
+
+    public boolean potentiallyStartsWith(String productionName, java.util.Set<String> alreadyVisited) {
+        return getNestedExpansion().potentiallyStartsWith(productionName, alreadyVisited);
+    }
+
+    public boolean startsWithLexicalChange() {
+        return firstChildOfType(LexicalStateSwitch.class) != null || firstChildOfType(TokenActivation.class) != null || getNestedExpansion().startsWithLexicalChange();
+    }
+
+    public boolean startsWithGlobalCodeAction() {
+        return getNestedExpansion().startsWithGlobalCodeAction();
+    }
+
+    public boolean isSingleToken() {
+        return super.isSingleToken() && getNestedExpansion().isSingleToken();
+    }
+
+}
+
+
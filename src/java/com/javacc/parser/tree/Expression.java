@@ -0,0 +1,22 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for Expression AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+
+
+public interface Expression extends Node {
+
+    default boolean isAssignableTo() {
+        return false;
+    }
+
+    default String getAsString() {
+        return toString();
+    }
+
+}
+
+
@@ -0,0 +1,38 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for Failure AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+
+
+public class Failure extends com.javacc.core.EmptyExpansion {
+    private Expression exp;
+
+    //Inserted getter for exp
+    public Expression getExp() {
+        return exp;
+    }
+
+    //Inserted setter for exp
+    public void setExp(Expression exp) {
+        this.exp = exp;
+    }
+
+    public CodeBlock getCode() {
+        return firstChildOfType(CodeBlock.class);
+    }
+
+    public boolean isAlwaysSuccessful() {
+        return false;
+    }
+
+    public boolean startsWithGlobalCodeAction() {
+        return true;
+    }
+
+}
+
+
@@ -0,0 +1,24 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for FormalParameter AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+
+
+public class FormalParameter extends BaseNode {
+
+    public String getName() {
+        String result = null;
+        Node last = getLastChild();
+        if (last instanceof Identifier) {
+            result = ((Identifier) last).getImage();
+        }
+        return result;
+    }
+
+}
+
+
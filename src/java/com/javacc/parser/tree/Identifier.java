@@ -0,0 +1,75 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for Identifier Token subclass
+* by the ASTToken.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import com.javacc.parser.JavaCCConstants.TokenType;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+
+
+public class Identifier extends Token {
+    private String tokenHookName, resetTokenHookName, openHookName, closeHookName;
+
+    public String getNormalizedText() {
+        String image = getImage();
+        if (image.equals("jjtThis") || image.equals("CURRENT_NODE")) {
+            return getGrammar().getCurrentNodeVariableName();
+        }
+        if (image.equals("PARSER_CLASS")) {
+            return getGrammar().getParserClassName();
+        }
+        if (image.equals("LEXER_CLASS")) {
+            return getGrammar().getLexerClassName();
+        }
+        if (image.equals("CONSTANTS_CLASS")) {
+            return getGrammar().getConstantsClassName();
+        }
+        if (image.equals("NODE_PACKAGE")) {
+            return getGrammar().getNodePackage();
+        }
+        if (image.equals("PARSER_PACKAGE")) {
+            return getGrammar().getParserPackage();
+        }
+        if (image.equals("current_token")) {
+            return "lastConsumedToken";
+        }
+        if (image.equals("TOKEN_HOOK") && !getGrammar().isInSyntaxConverter()) {
+            if (tokenHookName == null) {
+                String prefix = getGrammar().generateIdentifierPrefix("tokenHook");
+                tokenHookName = getGrammar().generateUniqueIdentifier(prefix, this);
+            }
+            return tokenHookName;
+        }
+        if (image.equals("RESET_TOKEN_HOOK") && !getGrammar().isInSyntaxConverter()) {
+            if (resetTokenHookName == null) {
+                String prefix = getGrammar().generateIdentifierPrefix("resetTokenHook");
+                resetTokenHookName = getGrammar().generateUniqueIdentifier(prefix, this);
+            }
+            return resetTokenHookName;
+        }
+        if (image.equals("OPEN_NODE_HOOK") && !getGrammar().isInSyntaxConverter()) {
+            if (openHookName == null) {
+                String prefix = getGrammar().generateIdentifierPrefix("openNodeHook");
+                openHookName = getGrammar().generateUniqueIdentifier(prefix, this);
+            }
+            return openHookName;
+        }
+        if (image.equals("CLOSE_NODE_HOOK") && !getGrammar().isInSyntaxConverter()) {
+            if (closeHookName == null) {
+                String prefix = getGrammar().generateIdentifierPrefix("closeNodeHook");
+                closeHookName = getGrammar().generateUniqueIdentifier(prefix, this);
+            }
+            return closeHookName;
+        }
+        return image;
+    }
+
+    public Identifier(TokenType type, JavaCCLexer tokenSource, int beginOffset, int endOffset) {
+        super(type, tokenSource, beginOffset, endOffset);
+    }
+
+}
+
+
@@ -0,0 +1,24 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for OneOrMoreRegexp AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import com.javacc.core.RegularExpression;
+
+
+public class OneOrMoreRegexp extends RegularExpression {
+
+    public RegularExpression getRegexp() {
+        return firstChildOfType(RegularExpression.class);
+    }
+
+    public boolean matchesEmptyString() {
+        return getRegexp().matchesEmptyString();
+    }
+
+}
+
+
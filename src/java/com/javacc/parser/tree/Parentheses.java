@@ -0,0 +1,30 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for Parentheses AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+
+
+public class Parentheses extends BaseNode implements PrimaryExpression {
+    private Expression nestedExpression;
+
+    //Inserted getter for nestedExpression
+    public Expression getNestedExpression() {
+        return nestedExpression;
+    }
+
+    //Inserted setter for nestedExpression
+    public void setNestedExpression(Expression nestedExpression) {
+        this.nestedExpression = nestedExpression;
+    }
+
+    public boolean isAssignableTo() {
+        return nestedExpression.isAssignableTo();
+    }
+
+}
+
+
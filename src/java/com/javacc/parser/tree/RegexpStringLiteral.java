@@ -0,0 +1,44 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for RegexpStringLiteral AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import com.javacc.core.*;
+
+
+public class RegexpStringLiteral extends RegularExpression {
+    private String image;
+
+    //Inserted getter for image
+    public String getImage() {
+        return image;
+    }
+
+    //Inserted setter for image
+    public void setImage(String image) {
+        this.image = image;
+    }
+
+    public String toString() {
+        return super.toString() + " - " + getImage();
+    }
+
+    //REVISIT What about different lexical states? As well as ignoreCase...
+    public boolean equals(Object obj) {
+        return obj instanceof RegexpStringLiteral && ((RegexpStringLiteral) obj).image == this.image;
+    }
+
+    public int hashCode() {
+        return image.hashCode();
+    }
+
+    public boolean matchesEmptyString() {
+        return getImage().length() == 0;
+    }
+
+}
+
+
@@ -0,0 +1,49 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for RepetitionRange AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import com.javacc.core.RegularExpression;
+
+
+public class RepetitionRange extends RegularExpression {
+    private int min = 0, max = -1;
+
+    //Inserted getter for max
+    public int getMax() {
+        return max;
+    }
+
+    //Inserted setter for max
+    public void setMax(int max) {
+        this.max = max;
+    }
+
+    //Inserted getter for min
+    public int getMin() {
+        return min;
+    }
+
+    //Inserted setter for min
+    public void setMin(int min) {
+        this.min = min;
+    }
+
+    public boolean hasMax() {
+        return firstChildOfType(COMMA) != null;
+    }
+
+    public RegularExpression getRegexp() {
+        return firstChildOfType(RegularExpression.class);
+    }
+
+    public boolean matchesEmptyString() {
+        return min == 0 || getRegexp().matchesEmptyString();
+    }
+
+}
+
+
@@ -0,0 +1,21 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for ReturnType AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import java.util.List;
+
+
+public class ReturnType extends BaseNode {
+
+    public boolean getAsBoolean() {
+        List<Token> lt = getRealTokens();
+        return lt.size() != 1 || lt.get(0).getType() != VOID;
+    }
+
+}
+
+
@@ -0,0 +1,27 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for ThrowsList AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class ThrowsList extends BaseNode {
+
+    public List<Node> getTypes() {
+        List<Node> result = new ArrayList<>();
+        for (Node n : children()) {
+            if ((n instanceof Name) || (n instanceof Identifier)) {
+                result.add(n);
+            }
+        }
+        return result;
+    }
+
+}
+
+
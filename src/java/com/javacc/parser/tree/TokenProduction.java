@@ -0,0 +1,116 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for TokenProduction AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import java.util.*;
+
+
+public class TokenProduction extends BaseNode {
+    private boolean explicit = true, ignoreCase;
+
+    //Inserted getter for ignoreCase
+    public boolean isIgnoreCase() {
+        return ignoreCase;
+    }
+
+    //Inserted setter for ignoreCase
+    public void setIgnoreCase(boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+    }
+
+    //Inserted getter for explicit
+    public boolean isExplicit() {
+        return explicit;
+    }
+
+    //Inserted setter for explicit
+    public void setExplicit(boolean explicit) {
+        this.explicit = explicit;
+    }
+
+    private String tokenClassName;
+
+    //Inserted getter for tokenClassName
+    public String getTokenClassName() {
+        return tokenClassName;
+    }
+
+    //Inserted setter for tokenClassName
+    public void setTokenClassName(String tokenClassName) {
+        this.tokenClassName = tokenClassName;
+    }
+
+    private String implicitLexicalState;
+
+    public void setImplicitLexicalState(String implicitLexicalState) {
+        this.implicitLexicalState = implicitLexicalState;
+    }
+
+    public List<RegexpSpec> getRegexpSpecs() {
+        return childrenOfType(RegexpSpec.class);
+    }
+
+    /**
+    * The states in which this regular expression production exists.
+    */
+    public String[] getLexicalStateNames() {
+        if (implicitLexicalState != null) {
+            return new String[] {implicitLexicalState};
+        }
+        if (isInAllLexStates()) {
+            return getGrammar().getLexicalStates();
+        }
+        Set<String> states = new LinkedHashSet<String>();
+        for (Token t : childrenOfType(Token.class)) {
+            if (t.getType() == HASH) break;
+            if (t.getType() == IDENTIFIER) {
+                states.add(t.getImage());
+            }
+        }
+        if (states.isEmpty()) {
+            return new String[] {getGrammar().getDefaultLexicalState()};
+        }
+        String[] lexStates = new String[states.size()];
+        int i = 0;
+        for (String s : states) {
+            lexStates[i++] = s;
+        }
+        return lexStates;
+    }
+
+    private boolean isInAllLexStates() {
+        for (Node n : children()) {
+            if (n instanceof Token) {
+                Token t = (Token) n;
+                if (t.getType() == STAR) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public String getKind() {
+        for (Token t : childrenOfType(Token.class)) {
+            switch(t.getType()) {
+                case _MORE : 
+                    return "MORE";
+                case _UNPARSED : 
+                    return "UNPARSED";
+                case _SKIP : 
+                    return "SKIP";
+                case _TOKEN : 
+                    return "TOKEN";
+                default : 
+            }
+        }
+        return "TOKEN";
+    }
+
+}
+
+
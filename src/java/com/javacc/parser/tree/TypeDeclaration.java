@@ -0,0 +1,111 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for TypeDeclaration AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import com.javacc.parser.JavaCCConstants.TokenType;
+import java.util.*;
+import java.util.*;
+
+
+public interface TypeDeclaration extends Node, ClassOrInterfaceBodyDeclaration {
+
+    default String getName() {
+        return firstChildOfType(Identifier.class).toString();
+    }
+
+    default TypeParameters getTypeParameters() {
+        return firstChildOfType(TypeParameters.class);
+    }
+
+    default ClassOrInterfaceBody getBody() {
+        return firstChildOfType(ClassOrInterfaceBody.class);
+    }
+
+    default ExtendsList getExtendsList() {
+        return firstChildOfType(ExtendsList.class);
+    }
+
+    default ImplementsList getImplementsList() {
+        return firstChildOfType(ImplementsList.class);
+    }
+
+    default CompilationUnit getCompilationUnit() {
+        return firstAncestorOfType(CompilationUnit.class);
+    }
+
+    default List<ImportDeclaration> getImportDeclarations() {
+        CompilationUnit jcu = getCompilationUnit();
+        return jcu == null ? new ArrayList<ImportDeclaration>() : jcu.getImportDeclarations();
+    }
+
+    default void addElements(List<ClassOrInterfaceBodyDeclaration> elements) {
+        Set<String> keys = new HashSet<String>();
+        for (ClassOrInterfaceBodyDeclaration decl : elements) {
+            if (decl instanceof MethodDeclaration) {
+                keys.add(((MethodDeclaration) decl).getFullSignature());
+            }
+        }
+        //REVISIT. fix token chaining
+        for (Iterator<Node> it = getBody().iterator(); it.hasNext();) {
+            Node n = it.next();
+            if (n instanceof MethodDeclaration) {
+                String s = ((MethodDeclaration) n).getFullSignature();
+                if (keys.contains(s)) {
+                    it.remove();
+                }
+            }
+        }
+        getBody().prepend(elements);
+    }
+
+    default void addAnnotations(Set<Annotation> annotations) {
+        Node parent = this.getParent();
+        int index = parent.indexOf(this);
+        //REVISIT. fix token chaining
+        for (Annotation annotation : annotations) {
+            parent.addChild(index, annotation);
+        }
+    }
+
+    default boolean isClass() {
+        return firstChildOfType(TokenType.CLASS) != null;
+    }
+
+    default void addImplements(ObjectType type) {
+        ImplementsList implementsList = getImplementsList();
+        if (implementsList == null) {
+            implementsList = new ImplementsList();
+            ListIterator<Node> iterator = iterator();
+            while (iterator.hasNext()) {
+                Node node = iterator.next();
+                if (node instanceof ClassOrInterfaceBody || node instanceof EnumBody) break;
+            }
+            iterator.previous();
+            iterator.add(implementsList);
+        }
+        implementsList.addType(type);
+    }
+
+    default void addExtends(ObjectType type) {
+        ExtendsList extendsList = getExtendsList();
+        if (extendsList == null) {
+            extendsList = new ExtendsList();
+            ListIterator<Node> iterator = iterator();
+            while (iterator.hasNext()) {
+                Node node = iterator.next();
+                if (node instanceof ImplementsList || node instanceof ClassOrInterfaceBody) {
+                    break;
+                }
+            }
+            iterator.previous();
+            iterator.add(extendsList);
+        }
+        extendsList.addType(type, this instanceof InterfaceDeclaration);
+    }
+
+}
+
+
@@ -0,0 +1,42 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for TypeParameters AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+import java.util.List;
+import java.util.*;
+
+
+public class TypeParameters extends BaseNode {
+
+    public List<TypeParameter> getParameters() {
+        return childrenOfType(TypeParameter.class);
+    }
+
+    // REVISIT. fix token chaining?
+    public void add(TypeParameter param) {
+        if (!getParameters().contains(param)) {
+            ListIterator<Node> iterator = iterator();
+            while (iterator.hasNext()) {
+                iterator.next();
+            }
+            iterator.previous();
+            iterator.add(Token.newToken(TokenType.COMMA, ",", this.getTokenSource()));
+            iterator.next();
+            iterator.add(param);
+        }
+    }
+
+    // REVISIT. fix token chaining
+    public void add(TypeParameters params) {
+        for (TypeParameter param : params.getParameters()) {
+            add(param);
+        }
+    }
+
+}
+
+
@@ -0,0 +1,31 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for ZeroOrMore AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+
+
+public class ZeroOrMore extends ExpansionWithParentheses {
+
+    protected boolean computePossiblyEmpty() {
+        return true;
+    }
+
+    public boolean isAlwaysSuccessful() {
+        return true;
+    }
+
+    protected int computeMinimumSize() {
+        return 0;
+    }
+
+    protected int computeMaximumSize() {
+        return Integer.MAX_VALUE;
+    }
+
+}
+
+
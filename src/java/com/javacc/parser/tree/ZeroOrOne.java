@@ -0,0 +1,27 @@
+/* Generated by: JavaCC 21 Parser Generator. Do not edit.
+* Generated Code for ZeroOrOne AST Node type
+* by the ASTNode.java.ftl template
+*/
+package com.javacc.parser.tree;
+
+import com.javacc.parser.*;
+import static com.javacc.parser.JavaCCConstants.TokenType.*;
+
+
+public class ZeroOrOne extends ExpansionWithParentheses {
+
+    public boolean isAlwaysSuccessful() {
+        return true;
+    }
+
+    protected boolean computePossiblyEmpty() {
+        return true;
+    }
+
+    protected int computeMinimumSize() {
+        return 0;
+    }
+
+}
+
+